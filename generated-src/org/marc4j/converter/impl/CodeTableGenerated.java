@@ -0,0 +1,16620 @@
+package org.marc4j.converter.impl;
+
+/** 
+ *  An implementation of CodeTableInterface that is used in converting MARC8
+ *  data to UTF8 data, that doesn't rely on any data files or resources or data structures
+ *  
+ *  Warning: This file is generated by running the main routine in the file CodeTableGenerator.java 
+ *  Warning: Do not edit this file, or all edits will be lost at the next build. 
+ */
+public class CodeTableGenerated implements CodeTableInterface {
+	public boolean isCombining(int i, int g0, int g1) {
+		switch (i <= 0x7E ? g0 : g1) {
+			case 0x31:
+				return(false);
+			case 0x32:
+				switch(i) {
+					case 0x40: case 0xc0:
+					case 0x41: case 0xc1:
+					case 0x42: case 0xc2:
+					case 0x43: case 0xc3:
+					case 0x44: case 0xc4:
+					case 0x45: case 0xc5:
+					case 0x46: case 0xc6:
+					case 0x47: case 0xc7:
+					case 0x48: case 0xc8:
+					case 0x49: case 0xc9:
+					case 0x4a: case 0xca:
+					case 0x4b: case 0xcb:
+					case 0x4c: case 0xcc:
+					case 0x4d: case 0xcd:
+					case 0x4e: case 0xce:
+						return(true);
+					default:
+						return(false);
+				}
+			case 0x33:
+				switch(i) {
+					case 0x6b: case 0xeb:
+					case 0x6c: case 0xec:
+					case 0x6d: case 0xed:
+					case 0x6e: case 0xee:
+					case 0x6f: case 0xef:
+					case 0x70: case 0xf0:
+					case 0x71: case 0xf1:
+					case 0x72: case 0xf2:
+						return(true);
+					default:
+						return(false);
+				}
+			case 0x34:
+				switch(i) {
+					case 0xfd: case 0x7d:
+					case 0xfe: case 0x7e:
+						return(true);
+					default:
+						return(false);
+				}
+			case 0x42:
+				return(false);
+			case 0x45:
+				switch(i) {
+					case 0xe0: case 0x60:
+					case 0xe1: case 0x61:
+					case 0xe2: case 0x62:
+					case 0xe3: case 0x63:
+					case 0xe4: case 0x64:
+					case 0xe5: case 0x65:
+					case 0xe6: case 0x66:
+					case 0xe7: case 0x67:
+					case 0xe8: case 0x68:
+					case 0xe9: case 0x69:
+					case 0xea: case 0x6a:
+					case 0xeb: case 0x6b:
+					case 0xec: case 0x6c:
+					case 0xed: case 0x6d:
+					case 0xee: case 0x6e:
+					case 0xef: case 0x6f:
+					case 0xf0: case 0x70:
+					case 0xf1: case 0x71:
+					case 0xf2: case 0x72:
+					case 0xf3: case 0x73:
+					case 0xf4: case 0x74:
+					case 0xf5: case 0x75:
+					case 0xf6: case 0x76:
+					case 0xf7: case 0x77:
+					case 0xf8: case 0x78:
+					case 0xf9: case 0x79:
+					case 0xfa: case 0x7a:
+					case 0xfb: case 0x7b:
+					case 0xfe: case 0x7e:
+						return(true);
+					default:
+						return(false);
+				}
+			case 0x4e:
+				return(false);
+			case 0x51:
+				return(false);
+			case 0x53:
+				switch(i) {
+					case 0x21: case 0xa1:
+					case 0x22: case 0xa2:
+					case 0x23: case 0xa3:
+					case 0x24: case 0xa4:
+					case 0x25: case 0xa5:
+					case 0x26: case 0xa6:
+					case 0x27: case 0xa7:
+						return(true);
+					default:
+						return(false);
+				}
+			case 0x62:
+				return(false);
+			case 0x67:
+				return(false);
+			case 0x70:
+				return(false);
+			default:
+				return(false);
+			}
+	}
+
+	public char getChar(int c, int mode) {
+		int code = getCharCode(c, mode);
+		if (code == -1) return((char)0);
+		if (code != 0) return((char)code);
+		code = getCharCode(c < 0x80 ? c + 0x80 : c - 0x80 , mode);
+		return((char)code);
+	}
+
+	private int getCharCode(int c, int mode) {
+		if (c == 0x20) return  c;
+		switch (mode) {
+			case 0x31:
+				return(getMultiByteChar(c));
+			case 0x32:
+				switch(c) {
+					case 0x21:  return(0x21); 
+					case 0x22:  return(0x5f4); 
+					case 0x23:  return(0x23); 
+					case 0x24:  return(0x24); 
+					case 0x25:  return(0x25); 
+					case 0x26:  return(0x26); 
+					case 0x27:  return(0x5f3); 
+					case 0x28:  return(0x28); 
+					case 0x29:  return(0x29); 
+					case 0x2a:  return(0x2a); 
+					case 0x2b:  return(0x2b); 
+					case 0x2c:  return(0x2c); 
+					case 0x2d:  return(0x5be); 
+					case 0x2e:  return(0x2e); 
+					case 0x2f:  return(0x2f); 
+					case 0x30:  return(0x30); 
+					case 0x31:  return(0x31); 
+					case 0x32:  return(0x32); 
+					case 0x33:  return(0x33); 
+					case 0x34:  return(0x34); 
+					case 0x35:  return(0x35); 
+					case 0x36:  return(0x36); 
+					case 0x37:  return(0x37); 
+					case 0x38:  return(0x38); 
+					case 0x39:  return(0x39); 
+					case 0x3a:  return(0x3a); 
+					case 0x3b:  return(0x3b); 
+					case 0x3c:  return(0x3c); 
+					case 0x3d:  return(0x3d); 
+					case 0x3e:  return(0x3e); 
+					case 0x3f:  return(0x3f); 
+					case 0x40:  return(0x5b7); 
+					case 0x41:  return(0x5b8); 
+					case 0x42:  return(0x5b6); 
+					case 0x43:  return(0x5b5); 
+					case 0x44:  return(0x5b4); 
+					case 0x45:  return(0x5b9); 
+					case 0x46:  return(0x5bb); 
+					case 0x47:  return(0x5b0); 
+					case 0x48:  return(0x5b2); 
+					case 0x49:  return(0x5b3); 
+					case 0x4a:  return(0x5b1); 
+					case 0x4b:  return(0x5bc); 
+					case 0x4c:  return(0x5bf); 
+					case 0x4d:  return(0x5c1); 
+					case 0x4e:  return(0xfb1e); 
+					case 0x5b:  return(0x5b); 
+					case 0x5d:  return(0x5d); 
+					case 0x60:  return(0x5d0); 
+					case 0x61:  return(0x5d1); 
+					case 0x62:  return(0x5d2); 
+					case 0x63:  return(0x5d3); 
+					case 0x64:  return(0x5d4); 
+					case 0x65:  return(0x5d5); 
+					case 0x66:  return(0x5d6); 
+					case 0x67:  return(0x5d7); 
+					case 0x68:  return(0x5d8); 
+					case 0x69:  return(0x5d9); 
+					case 0x6a:  return(0x5da); 
+					case 0x6b:  return(0x5db); 
+					case 0x6c:  return(0x5dc); 
+					case 0x6d:  return(0x5dd); 
+					case 0x6e:  return(0x5de); 
+					case 0x6f:  return(0x5df); 
+					case 0x70:  return(0x5e0); 
+					case 0x71:  return(0x5e1); 
+					case 0x72:  return(0x5e2); 
+					case 0x73:  return(0x5e3); 
+					case 0x74:  return(0x5e4); 
+					case 0x75:  return(0x5e5); 
+					case 0x76:  return(0x5e6); 
+					case 0x77:  return(0x5e7); 
+					case 0x78:  return(0x5e8); 
+					case 0x79:  return(0x5e9); 
+					case 0x7a:  return(0x5ea); 
+					case 0x7b:  return(0x5f0); 
+					case 0x7c:  return(0x5f1); 
+					case 0x7d:  return(0x5f2); 
+					default:  return(0);
+				}
+			case 0x33:
+				switch(c) {
+					case 0x21:  return(0x21); 
+					case 0x22:  return(0x22); 
+					case 0x23:  return(0x23); 
+					case 0x24:  return(0x24); 
+					case 0x25:  return(0x66a); 
+					case 0x26:  return(0x26); 
+					case 0x27:  return(0x27); 
+					case 0x28:  return(0x28); 
+					case 0x29:  return(0x29); 
+					case 0x2a:  return(0x66d); 
+					case 0x2b:  return(0x2b); 
+					case 0x2c:  return(0x60c); 
+					case 0x2d:  return(0x2d); 
+					case 0x2e:  return(0x2e); 
+					case 0x2f:  return(0x2f); 
+					case 0x30:  return(0x660); 
+					case 0x31:  return(0x661); 
+					case 0x32:  return(0x662); 
+					case 0x33:  return(0x663); 
+					case 0x34:  return(0x664); 
+					case 0x35:  return(0x665); 
+					case 0x36:  return(0x666); 
+					case 0x37:  return(0x667); 
+					case 0x38:  return(0x668); 
+					case 0x39:  return(0x669); 
+					case 0x3a:  return(0x3a); 
+					case 0x3b:  return(0x61b); 
+					case 0x3c:  return(0x3c); 
+					case 0x3d:  return(0x3d); 
+					case 0x3e:  return(0x3e); 
+					case 0x3f:  return(0x61f); 
+					case 0x41:  return(0x621); 
+					case 0x42:  return(0x622); 
+					case 0x43:  return(0x623); 
+					case 0x44:  return(0x624); 
+					case 0x45:  return(0x625); 
+					case 0x46:  return(0x626); 
+					case 0x47:  return(0x627); 
+					case 0x48:  return(0x628); 
+					case 0x49:  return(0x629); 
+					case 0x4a:  return(0x62a); 
+					case 0x4b:  return(0x62b); 
+					case 0x4c:  return(0x62c); 
+					case 0x4d:  return(0x62d); 
+					case 0x4e:  return(0x62e); 
+					case 0x4f:  return(0x62f); 
+					case 0x50:  return(0x630); 
+					case 0x51:  return(0x631); 
+					case 0x52:  return(0x632); 
+					case 0x53:  return(0x633); 
+					case 0x54:  return(0x634); 
+					case 0x55:  return(0x635); 
+					case 0x56:  return(0x636); 
+					case 0x57:  return(0x637); 
+					case 0x58:  return(0x638); 
+					case 0x59:  return(0x639); 
+					case 0x5a:  return(0x63a); 
+					case 0x5b:  return(0x5b); 
+					case 0x5d:  return(0x5d); 
+					case 0x60:  return(0x640); 
+					case 0x61:  return(0x641); 
+					case 0x62:  return(0x642); 
+					case 0x63:  return(0x643); 
+					case 0x64:  return(0x644); 
+					case 0x65:  return(0x645); 
+					case 0x66:  return(0x646); 
+					case 0x67:  return(0x647); 
+					case 0x68:  return(0x648); 
+					case 0x69:  return(0x649); 
+					case 0x6a:  return(0x64a); 
+					case 0x6b:  return(0x64b); 
+					case 0x6c:  return(0x64c); 
+					case 0x6d:  return(0x64d); 
+					case 0x6e:  return(0x64e); 
+					case 0x6f:  return(0x64f); 
+					case 0x70:  return(0x650); 
+					case 0x71:  return(0x651); 
+					case 0x72:  return(0x652); 
+					case 0x73:  return(0x671); 
+					case 0x74:  return(0x670); 
+					case 0x78:  return(0x66c); 
+					case 0x79:  return(0x201d); 
+					case 0x7a:  return(0x201c); 
+					default:  return(0);
+				}
+			case 0x34:
+				switch(c) {
+					case 0xa1:  return(0x6fd); 
+					case 0xa2:  return(0x672); 
+					case 0xa3:  return(0x673); 
+					case 0xa4:  return(0x679); 
+					case 0xa5:  return(0x67a); 
+					case 0xa6:  return(0x67b); 
+					case 0xa7:  return(0x67c); 
+					case 0xa8:  return(0x67d); 
+					case 0xa9:  return(0x67e); 
+					case 0xaa:  return(0x67f); 
+					case 0xab:  return(0x680); 
+					case 0xac:  return(0x681); 
+					case 0xad:  return(0x682); 
+					case 0xae:  return(0x683); 
+					case 0xaf:  return(0x684); 
+					case 0xb0:  return(0x685); 
+					case 0xb1:  return(0x686); 
+					case 0xb2:  return(0x6bf); 
+					case 0xb3:  return(0x687); 
+					case 0xb4:  return(0x688); 
+					case 0xb5:  return(0x689); 
+					case 0xb6:  return(0x68a); 
+					case 0xb7:  return(0x68b); 
+					case 0xb8:  return(0x68c); 
+					case 0xb9:  return(0x68d); 
+					case 0xba:  return(0x68e); 
+					case 0xbb:  return(0x68f); 
+					case 0xbc:  return(0x690); 
+					case 0xbd:  return(0x691); 
+					case 0xbe:  return(0x692); 
+					case 0xbf:  return(0x693); 
+					case 0xc0:  return(0x694); 
+					case 0xc1:  return(0x695); 
+					case 0xc2:  return(0x696); 
+					case 0xc3:  return(0x697); 
+					case 0xc4:  return(0x698); 
+					case 0xc5:  return(0x699); 
+					case 0xc6:  return(0x69a); 
+					case 0xc7:  return(0x69b); 
+					case 0xc8:  return(0x69c); 
+					case 0xc9:  return(0x6fa); 
+					case 0xca:  return(0x69d); 
+					case 0xcb:  return(0x69e); 
+					case 0xcc:  return(0x6fb); 
+					case 0xcd:  return(0x69f); 
+					case 0xce:  return(0x6a0); 
+					case 0xcf:  return(0x6fc); 
+					case 0xd0:  return(0x6a1); 
+					case 0xd1:  return(0x6a2); 
+					case 0xd2:  return(0x6a3); 
+					case 0xd3:  return(0x6a4); 
+					case 0xd4:  return(0x6a5); 
+					case 0xd5:  return(0x6a6); 
+					case 0xd6:  return(0x6a7); 
+					case 0xd7:  return(0x6a8); 
+					case 0xd8:  return(0x6a9); 
+					case 0xd9:  return(0x6aa); 
+					case 0xda:  return(0x6ab); 
+					case 0xdb:  return(0x6ac); 
+					case 0xdc:  return(0x6ad); 
+					case 0xdd:  return(0x6ae); 
+					case 0xde:  return(0x6af); 
+					case 0xdf:  return(0x6b0); 
+					case 0xe0:  return(0x6b1); 
+					case 0xe1:  return(0x6b2); 
+					case 0xe2:  return(0x6b3); 
+					case 0xe3:  return(0x6b4); 
+					case 0xe4:  return(0x6b5); 
+					case 0xe5:  return(0x6b6); 
+					case 0xe6:  return(0x6b7); 
+					case 0xe7:  return(0x6b8); 
+					case 0xe8:  return(0x6ba); 
+					case 0xe9:  return(0x6bb); 
+					case 0xea:  return(0x6bc); 
+					case 0xeb:  return(0x6bd); 
+					case 0xec:  return(0x6b9); 
+					case 0xed:  return(0x6be); 
+					case 0xee:  return(0x6c0); 
+					case 0xef:  return(0x6c4); 
+					case 0xf0:  return(0x6c5); 
+					case 0xf1:  return(0x6c6); 
+					case 0xf2:  return(0x6ca); 
+					case 0xf3:  return(0x6cb); 
+					case 0xf4:  return(0x6cd); 
+					case 0xf5:  return(0x6ce); 
+					case 0xf6:  return(0x6d0); 
+					case 0xf7:  return(0x6d2); 
+					case 0xf8:  return(0x6d3); 
+					case 0xfd:  return(0x306); 
+					case 0xfe:  return(0x30c); 
+					default:  return(0);
+				}
+			case 0x42:
+				switch(c) {
+					case 0x1b:  return(0x1b); 
+					case 0x1d:  return(0x1d); 
+					case 0x1e:  return(0x1e); 
+					case 0x1f:  return(0x1f); 
+					case 0x20:  return(0x20); 
+					case 0x21:  return(0x21); 
+					case 0x22:  return(0x22); 
+					case 0x23:  return(0x23); 
+					case 0x24:  return(0x24); 
+					case 0x25:  return(0x25); 
+					case 0x26:  return(0x26); 
+					case 0x27:  return(0x27); 
+					case 0x28:  return(0x28); 
+					case 0x29:  return(0x29); 
+					case 0x2a:  return(0x2a); 
+					case 0x2b:  return(0x2b); 
+					case 0x2c:  return(0x2c); 
+					case 0x2d:  return(0x2d); 
+					case 0x2e:  return(0x2e); 
+					case 0x2f:  return(0x2f); 
+					case 0x30:  return(0x30); 
+					case 0x31:  return(0x31); 
+					case 0x32:  return(0x32); 
+					case 0x33:  return(0x33); 
+					case 0x34:  return(0x34); 
+					case 0x35:  return(0x35); 
+					case 0x36:  return(0x36); 
+					case 0x37:  return(0x37); 
+					case 0x38:  return(0x38); 
+					case 0x39:  return(0x39); 
+					case 0x3a:  return(0x3a); 
+					case 0x3b:  return(0x3b); 
+					case 0x3c:  return(0x3c); 
+					case 0x3d:  return(0x3d); 
+					case 0x3e:  return(0x3e); 
+					case 0x3f:  return(0x3f); 
+					case 0x40:  return(0x40); 
+					case 0x41:  return(0x41); 
+					case 0x42:  return(0x42); 
+					case 0x43:  return(0x43); 
+					case 0x44:  return(0x44); 
+					case 0x45:  return(0x45); 
+					case 0x46:  return(0x46); 
+					case 0x47:  return(0x47); 
+					case 0x48:  return(0x48); 
+					case 0x49:  return(0x49); 
+					case 0x4a:  return(0x4a); 
+					case 0x4b:  return(0x4b); 
+					case 0x4c:  return(0x4c); 
+					case 0x4d:  return(0x4d); 
+					case 0x4e:  return(0x4e); 
+					case 0x4f:  return(0x4f); 
+					case 0x50:  return(0x50); 
+					case 0x51:  return(0x51); 
+					case 0x52:  return(0x52); 
+					case 0x53:  return(0x53); 
+					case 0x54:  return(0x54); 
+					case 0x55:  return(0x55); 
+					case 0x56:  return(0x56); 
+					case 0x57:  return(0x57); 
+					case 0x58:  return(0x58); 
+					case 0x59:  return(0x59); 
+					case 0x5a:  return(0x5a); 
+					case 0x5b:  return(0x5b); 
+					case 0x5c:  return(0x5c); 
+					case 0x5d:  return(0x5d); 
+					case 0x5e:  return(0x5e); 
+					case 0x5f:  return(0x5f); 
+					case 0x60:  return(0x60); 
+					case 0x61:  return(0x61); 
+					case 0x62:  return(0x62); 
+					case 0x63:  return(0x63); 
+					case 0x64:  return(0x64); 
+					case 0x65:  return(0x65); 
+					case 0x66:  return(0x66); 
+					case 0x67:  return(0x67); 
+					case 0x68:  return(0x68); 
+					case 0x69:  return(0x69); 
+					case 0x6a:  return(0x6a); 
+					case 0x6b:  return(0x6b); 
+					case 0x6c:  return(0x6c); 
+					case 0x6d:  return(0x6d); 
+					case 0x6e:  return(0x6e); 
+					case 0x6f:  return(0x6f); 
+					case 0x70:  return(0x70); 
+					case 0x71:  return(0x71); 
+					case 0x72:  return(0x72); 
+					case 0x73:  return(0x73); 
+					case 0x74:  return(0x74); 
+					case 0x75:  return(0x75); 
+					case 0x76:  return(0x76); 
+					case 0x77:  return(0x77); 
+					case 0x78:  return(0x78); 
+					case 0x79:  return(0x79); 
+					case 0x7a:  return(0x7a); 
+					case 0x7b:  return(0x7b); 
+					case 0x7c:  return(0x7c); 
+					case 0x7d:  return(0x7d); 
+					case 0x7e:  return(0x7e); 
+					default:  return(0);
+				}
+			case 0x45:
+				switch(c) {
+					case 0x88:  return(0x98); 
+					case 0x89:  return(0x9c); 
+					case 0x8d:  return(0x200d); 
+					case 0x8e:  return(0x200c); 
+					case 0xa1:  return(0x141); 
+					case 0xa2:  return(0xd8); 
+					case 0xa3:  return(0x110); 
+					case 0xa4:  return(0xde); 
+					case 0xa5:  return(0xc6); 
+					case 0xa6:  return(0x152); 
+					case 0xa7:  return(0x2b9); 
+					case 0xa8:  return(0xb7); 
+					case 0xa9:  return(0x266d); 
+					case 0xaa:  return(0xae); 
+					case 0xab:  return(0xb1); 
+					case 0xac:  return(0x1a0); 
+					case 0xad:  return(0x1af); 
+					case 0xae:  return(0x2bc); 
+					case 0xb0:  return(0x2bb); 
+					case 0xb1:  return(0x142); 
+					case 0xb2:  return(0xf8); 
+					case 0xb3:  return(0x111); 
+					case 0xb4:  return(0xfe); 
+					case 0xb5:  return(0xe6); 
+					case 0xb6:  return(0x153); 
+					case 0xb7:  return(0x2ba); 
+					case 0xb8:  return(0x131); 
+					case 0xb9:  return(0xa3); 
+					case 0xba:  return(0xf0); 
+					case 0xbc:  return(0x1a1); 
+					case 0xbd:  return(0x1b0); 
+					case 0xc0:  return(0xb0); 
+					case 0xc1:  return(0x2113); 
+					case 0xc2:  return(0x2117); 
+					case 0xc3:  return(0xa9); 
+					case 0xc4:  return(0x266f); 
+					case 0xc5:  return(0xbf); 
+					case 0xc6:  return(0xa1); 
+					case 0xc7:  return(0xdf); 
+					case 0xc8:  return(0x20ac); 
+					case 0xe0:  return(0x309); 
+					case 0xe1:  return(0x300); 
+					case 0xe2:  return(0x301); 
+					case 0xe3:  return(0x302); 
+					case 0xe4:  return(0x303); 
+					case 0xe5:  return(0x304); 
+					case 0xe6:  return(0x306); 
+					case 0xe7:  return(0x307); 
+					case 0xe8:  return(0x308); 
+					case 0xe9:  return(0x30c); 
+					case 0xea:  return(0x30a); 
+					case 0xeb:  return(0x361); 
+					case 0xec:  return(0); 
+					case 0xed:  return(0x315); 
+					case 0xee:  return(0x30b); 
+					case 0xef:  return(0x310); 
+					case 0xf0:  return(0x327); 
+					case 0xf1:  return(0x328); 
+					case 0xf2:  return(0x323); 
+					case 0xf3:  return(0x324); 
+					case 0xf4:  return(0x325); 
+					case 0xf5:  return(0x333); 
+					case 0xf6:  return(0x332); 
+					case 0xf7:  return(0x326); 
+					case 0xf8:  return(0x31c); 
+					case 0xf9:  return(0x32e); 
+					case 0xfa:  return(0x360); 
+					case 0xfb:  return(0); 
+					case 0xfe:  return(0x313); 
+					default:  return(0);
+				}
+			case 0x4e:
+				switch(c) {
+					case 0x21:  return(0x21); 
+					case 0x22:  return(0x22); 
+					case 0x23:  return(0x23); 
+					case 0x24:  return(0x24); 
+					case 0x25:  return(0x25); 
+					case 0x26:  return(0x26); 
+					case 0x27:  return(0x27); 
+					case 0x28:  return(0x28); 
+					case 0x29:  return(0x29); 
+					case 0x2a:  return(0x2a); 
+					case 0x2b:  return(0x2b); 
+					case 0x2c:  return(0x2c); 
+					case 0x2d:  return(0x2d); 
+					case 0x2e:  return(0x2e); 
+					case 0x2f:  return(0x2f); 
+					case 0x30:  return(0x30); 
+					case 0x31:  return(0x31); 
+					case 0x32:  return(0x32); 
+					case 0x33:  return(0x33); 
+					case 0x34:  return(0x34); 
+					case 0x35:  return(0x35); 
+					case 0x36:  return(0x36); 
+					case 0x37:  return(0x37); 
+					case 0x38:  return(0x38); 
+					case 0x39:  return(0x39); 
+					case 0x3a:  return(0x3a); 
+					case 0x3b:  return(0x3b); 
+					case 0x3c:  return(0x3c); 
+					case 0x3d:  return(0x3d); 
+					case 0x3e:  return(0x3e); 
+					case 0x3f:  return(0x3f); 
+					case 0x40:  return(0x44e); 
+					case 0x41:  return(0x430); 
+					case 0x42:  return(0x431); 
+					case 0x43:  return(0x446); 
+					case 0x44:  return(0x434); 
+					case 0x45:  return(0x435); 
+					case 0x46:  return(0x444); 
+					case 0x47:  return(0x433); 
+					case 0x48:  return(0x445); 
+					case 0x49:  return(0x438); 
+					case 0x4a:  return(0x439); 
+					case 0x4b:  return(0x43a); 
+					case 0x4c:  return(0x43b); 
+					case 0x4d:  return(0x43c); 
+					case 0x4e:  return(0x43d); 
+					case 0x4f:  return(0x43e); 
+					case 0x50:  return(0x43f); 
+					case 0x51:  return(0x44f); 
+					case 0x52:  return(0x440); 
+					case 0x53:  return(0x441); 
+					case 0x54:  return(0x442); 
+					case 0x55:  return(0x443); 
+					case 0x56:  return(0x436); 
+					case 0x57:  return(0x432); 
+					case 0x58:  return(0x44c); 
+					case 0x59:  return(0x44b); 
+					case 0x5a:  return(0x437); 
+					case 0x5b:  return(0x448); 
+					case 0x5c:  return(0x44d); 
+					case 0x5d:  return(0x449); 
+					case 0x5e:  return(0x447); 
+					case 0x5f:  return(0x44a); 
+					case 0x60:  return(0x42e); 
+					case 0x61:  return(0x410); 
+					case 0x62:  return(0x411); 
+					case 0x63:  return(0x426); 
+					case 0x64:  return(0x414); 
+					case 0x65:  return(0x415); 
+					case 0x66:  return(0x424); 
+					case 0x67:  return(0x413); 
+					case 0x68:  return(0x425); 
+					case 0x69:  return(0x418); 
+					case 0x6a:  return(0x419); 
+					case 0x6b:  return(0x41a); 
+					case 0x6c:  return(0x41b); 
+					case 0x6d:  return(0x41c); 
+					case 0x6e:  return(0x41d); 
+					case 0x6f:  return(0x41e); 
+					case 0x70:  return(0x41f); 
+					case 0x71:  return(0x42f); 
+					case 0x72:  return(0x420); 
+					case 0x73:  return(0x421); 
+					case 0x74:  return(0x422); 
+					case 0x75:  return(0x423); 
+					case 0x76:  return(0x416); 
+					case 0x77:  return(0x412); 
+					case 0x78:  return(0x42c); 
+					case 0x79:  return(0x42b); 
+					case 0x7a:  return(0x417); 
+					case 0x7b:  return(0x428); 
+					case 0x7c:  return(0x42d); 
+					case 0x7d:  return(0x429); 
+					case 0x7e:  return(0x427); 
+					default:  return(0);
+				}
+			case 0x51:
+				switch(c) {
+					case 0xc0:  return(0x491); 
+					case 0xc1:  return(0x452); 
+					case 0xc2:  return(0x453); 
+					case 0xc3:  return(0x454); 
+					case 0xc4:  return(0x451); 
+					case 0xc5:  return(0x455); 
+					case 0xc6:  return(0x456); 
+					case 0xc7:  return(0x457); 
+					case 0xc8:  return(0x458); 
+					case 0xc9:  return(0x459); 
+					case 0xca:  return(0x45a); 
+					case 0xcb:  return(0x45b); 
+					case 0xcc:  return(0x45c); 
+					case 0xcd:  return(0x45e); 
+					case 0xce:  return(0x45f); 
+					case 0xd0:  return(0x463); 
+					case 0xd1:  return(0x473); 
+					case 0xd2:  return(0x475); 
+					case 0xd3:  return(0x46b); 
+					case 0xdb:  return(0x5b); 
+					case 0xdd:  return(0x5d); 
+					case 0xdf:  return(0x5f); 
+					case 0xe0:  return(0x490); 
+					case 0xe1:  return(0x402); 
+					case 0xe2:  return(0x403); 
+					case 0xe3:  return(0x404); 
+					case 0xe4:  return(0x401); 
+					case 0xe5:  return(0x405); 
+					case 0xe6:  return(0x406); 
+					case 0xe7:  return(0x407); 
+					case 0xe8:  return(0x408); 
+					case 0xe9:  return(0x409); 
+					case 0xea:  return(0x40a); 
+					case 0xeb:  return(0x40b); 
+					case 0xec:  return(0x40c); 
+					case 0xed:  return(0x40e); 
+					case 0xee:  return(0x40f); 
+					case 0xef:  return(0x42a); 
+					case 0xf0:  return(0x462); 
+					case 0xf1:  return(0x472); 
+					case 0xf2:  return(0x474); 
+					case 0xf3:  return(0x46a); 
+					default:  return(0);
+				}
+			case 0x53:
+				switch(c) {
+					case 0x21:  return(0x300); 
+					case 0x22:  return(0x301); 
+					case 0x23:  return(0x308); 
+					case 0x24:  return(0x342); 
+					case 0x25:  return(0x313); 
+					case 0x26:  return(0x314); 
+					case 0x27:  return(0x345); 
+					case 0x30:  return(0xab); 
+					case 0x31:  return(0xbb); 
+					case 0x32:  return(0x201c); 
+					case 0x33:  return(0x201d); 
+					case 0x34:  return(0x374); 
+					case 0x35:  return(0x375); 
+					case 0x3b:  return(0x387); 
+					case 0x3f:  return(0x37e); 
+					case 0x41:  return(0x391); 
+					case 0x42:  return(0x392); 
+					case 0x44:  return(0x393); 
+					case 0x45:  return(0x394); 
+					case 0x46:  return(0x395); 
+					case 0x47:  return(0x3da); 
+					case 0x48:  return(0x3dc); 
+					case 0x49:  return(0x396); 
+					case 0x4a:  return(0x397); 
+					case 0x4b:  return(0x398); 
+					case 0x4c:  return(0x399); 
+					case 0x4d:  return(0x39a); 
+					case 0x4e:  return(0x39b); 
+					case 0x4f:  return(0x39c); 
+					case 0x50:  return(0x39d); 
+					case 0x51:  return(0x39e); 
+					case 0x52:  return(0x39f); 
+					case 0x53:  return(0x3a0); 
+					case 0x54:  return(0x3de); 
+					case 0x55:  return(0x3a1); 
+					case 0x56:  return(0x3a3); 
+					case 0x58:  return(0x3a4); 
+					case 0x59:  return(0x3a5); 
+					case 0x5a:  return(0x3a6); 
+					case 0x5b:  return(0x3a7); 
+					case 0x5c:  return(0x3a8); 
+					case 0x5d:  return(0x3a9); 
+					case 0x5e:  return(0x3e0); 
+					case 0x61:  return(0x3b1); 
+					case 0x62:  return(0x3b2); 
+					case 0x63:  return(0x3d0); 
+					case 0x64:  return(0x3b3); 
+					case 0x65:  return(0x3b4); 
+					case 0x66:  return(0x3b5); 
+					case 0x67:  return(0x3db); 
+					case 0x68:  return(0x3dd); 
+					case 0x69:  return(0x3b6); 
+					case 0x6a:  return(0x3b7); 
+					case 0x6b:  return(0x3b8); 
+					case 0x6c:  return(0x3b9); 
+					case 0x6d:  return(0x3ba); 
+					case 0x6e:  return(0x3bb); 
+					case 0x6f:  return(0x3bc); 
+					case 0x70:  return(0x3bd); 
+					case 0x71:  return(0x3be); 
+					case 0x72:  return(0x3bf); 
+					case 0x73:  return(0x3c0); 
+					case 0x74:  return(0x3df); 
+					case 0x75:  return(0x3c1); 
+					case 0x76:  return(0x3c3); 
+					case 0x77:  return(0x3c2); 
+					case 0x78:  return(0x3c4); 
+					case 0x79:  return(0x3c5); 
+					case 0x7a:  return(0x3c6); 
+					case 0x7b:  return(0x3c7); 
+					case 0x7c:  return(0x3c8); 
+					case 0x7d:  return(0x3c9); 
+					case 0x7e:  return(0x3e1); 
+					default:  return(0);
+				}
+			case 0x62:
+				switch(c) {
+					case 0x28:  return(0x208d); 
+					case 0x29:  return(0x208e); 
+					case 0x2b:  return(0x208a); 
+					case 0x2d:  return(0x208b); 
+					case 0x30:  return(0x2080); 
+					case 0x31:  return(0x2081); 
+					case 0x32:  return(0x2082); 
+					case 0x33:  return(0x2083); 
+					case 0x34:  return(0x2084); 
+					case 0x35:  return(0x2085); 
+					case 0x36:  return(0x2086); 
+					case 0x37:  return(0x2087); 
+					case 0x38:  return(0x2088); 
+					case 0x39:  return(0x2089); 
+					default:  return(0);
+				}
+			case 0x67:
+				switch(c) {
+					case 0x61:  return(0x3b1); 
+					case 0x62:  return(0x3b2); 
+					case 0x63:  return(0x3b3); 
+					default:  return(0);
+				}
+			case 0x70:
+				switch(c) {
+					case 0x28:  return(0x207d); 
+					case 0x29:  return(0x207e); 
+					case 0x2b:  return(0x207a); 
+					case 0x2d:  return(0x207b); 
+					case 0x30:  return(0x2070); 
+					case 0x31:  return(0xb9); 
+					case 0x32:  return(0xb2); 
+					case 0x33:  return(0xb3); 
+					case 0x34:  return(0x2074); 
+					case 0x35:  return(0x2075); 
+					case 0x36:  return(0x2076); 
+					case 0x37:  return(0x2077); 
+					case 0x38:  return(0x2078); 
+					case 0x39:  return(0x2079); 
+					default:  return(0);
+				}
+			default: return(-1);  // unknown charset specified 
+		}
+	}
+
+	private char getMultiByteChar_0x210000_0x214fff(int c) {
+		switch(c) {
+			case 0x212320:  return((char)0x3000); 
+			case 0x212321:  return((char)0x3000); 
+			case 0x212328:  return((char)0xff08); 
+			case 0x212329:  return((char)0xff09); 
+			case 0x21232d:  return((char)0xff0d); 
+			case 0x212a21:  return((char)0xe8d0); 
+			case 0x212a22:  return((char)0xe8d1); 
+			case 0x212a23:  return((char)0xe8d2); 
+			case 0x212a24:  return((char)0xe8d3); 
+			case 0x212a25:  return((char)0xe8d4); 
+			case 0x212a26:  return((char)0xe8d5); 
+			case 0x212a28:  return((char)0xe8d6); 
+			case 0x212a29:  return((char)0xe8d7); 
+			case 0x212a2a:  return((char)0xe8d8); 
+			case 0x212a2b:  return((char)0xe8d9); 
+			case 0x212a2c:  return((char)0xe8da); 
+			case 0x212a2d:  return((char)0xe8db); 
+			case 0x212a2e:  return((char)0xe8dc); 
+			case 0x212a2f:  return((char)0xe8dd); 
+			case 0x212a30:  return((char)0xe8de); 
+			case 0x212a32:  return((char)0xe8df); 
+			case 0x212a33:  return((char)0xe8e0); 
+			case 0x212a34:  return((char)0xe8e1); 
+			case 0x212a35:  return((char)0xe8e2); 
+			case 0x212a36:  return((char)0xe8e3); 
+			case 0x212a37:  return((char)0xe8e4); 
+			case 0x212a38:  return((char)0xe8e5); 
+			case 0x212a39:  return((char)0xe8e6); 
+			case 0x212a3a:  return((char)0xe8e7); 
+			case 0x212a3b:  return((char)0xe8e8); 
+			case 0x212a3c:  return((char)0xe8e9); 
+			case 0x212a3d:  return((char)0xe8ea); 
+			case 0x212a3e:  return((char)0xe8eb); 
+			case 0x212a3f:  return((char)0xe8ec); 
+			case 0x212a40:  return((char)0xe8ed); 
+			case 0x212a41:  return((char)0xe8ee); 
+			case 0x212a42:  return((char)0xe8ef); 
+			case 0x212a43:  return((char)0xe8f0); 
+			case 0x212a44:  return((char)0xe8f1); 
+			case 0x212a45:  return((char)0xe8f2); 
+			case 0x212a46:  return((char)0x3013); 
+			case 0x212b25:  return((char)0x300c); 
+			case 0x212b26:  return((char)0x300d); 
+			case 0x212b31:  return((char)0xff3b); 
+			case 0x212b32:  return((char)0xff3d); 
+			case 0x212b33:  return((char)0x3002); 
+			case 0x212b34:  return((char)0xff0e); 
+			case 0x212b35:  return((char)0x3001); 
+			case 0x212b38:  return((char)0xff0c); 
+			case 0x212b39:  return((char)0xff1b); 
+			case 0x212b3a:  return((char)0xff1a); 
+			case 0x212b3b:  return((char)0xff1f); 
+			case 0x212b3d:  return((char)0xff01); 
+			case 0x212b59:  return((char)0xff0f); 
+			case 0x212f30:  return((char)0x3007); 
+			case 0x213021:  return((char)0x4e00); 
+			case 0x213022:  return((char)0x4e01); 
+			case 0x213023:  return((char)0x4e03); 
+			case 0x213024:  return((char)0x4e09); 
+			case 0x213025:  return((char)0x4e0b); 
+			case 0x213026:  return((char)0x4e0a); 
+			case 0x213027:  return((char)0x4e08); 
+			case 0x213029:  return((char)0x4e10); 
+			case 0x21302a:  return((char)0x4e0d); 
+			case 0x21302b:  return((char)0x4e14); 
+			case 0x21302c:  return((char)0x4e19); 
+			case 0x21302d:  return((char)0x4e16); 
+			case 0x21302e:  return((char)0x4e15); 
+			case 0x21302f:  return((char)0x4e18); 
+			case 0x213030:  return((char)0x4e22); 
+			case 0x213031:  return((char)0x4e1e); 
+			case 0x213032:  return((char)0x4e26); 
+			case 0x213034:  return((char)0x4e2d); 
+			case 0x213035:  return((char)0x4e32); 
+			case 0x213036:  return((char)0x51e1); 
+			case 0x213037:  return((char)0x4e38); 
+			case 0x213038:  return((char)0x4e39); 
+			case 0x213039:  return((char)0x4e3b); 
+			case 0x21303a:  return((char)0x4e43); 
+			case 0x21303b:  return((char)0x4e45); 
+			case 0x21303d:  return((char)0x4e4b); 
+			case 0x21303e:  return((char)0x5c39); 
+			case 0x21303f:  return((char)0x4e4f); 
+			case 0x213040:  return((char)0x4e4e); 
+			case 0x213041:  return((char)0x4e4d); 
+			case 0x213042:  return((char)0x4e52); 
+			case 0x213043:  return((char)0x4e53); 
+			case 0x213044:  return((char)0x4e56); 
+			case 0x213045:  return((char)0x4e58); 
+			case 0x213046:  return((char)0x4e59); 
+			case 0x213047:  return((char)0x4e5d); 
+			case 0x213048:  return((char)0x4e5f); 
+			case 0x213049:  return((char)0x4e5e); 
+			case 0x21304b:  return((char)0x4e73); 
+			case 0x21304c:  return((char)0x4e7e); 
+			case 0x21304d:  return((char)0x4e82); 
+			case 0x213050:  return((char)0x4e8b); 
+			case 0x213051:  return((char)0x4e8c); 
+			case 0x213052:  return((char)0x4e8e); 
+			case 0x213053:  return((char)0x4e95); 
+			case 0x213054:  return((char)0x4e94); 
+			case 0x213055:  return((char)0x4e92); 
+			case 0x213057:  return((char)0x4e99); 
+			case 0x213058:  return((char)0x4e9e); 
+			case 0x213059:  return((char)0x4e9b); 
+			case 0x21305a:  return((char)0x4e9f); 
+			case 0x21305b:  return((char)0x4ea1); 
+			case 0x21305c:  return((char)0x4ea6); 
+			case 0x21305d:  return((char)0x4ea5); 
+			case 0x21305e:  return((char)0x4ea4); 
+			case 0x21305f:  return((char)0x4ea8); 
+			case 0x213060:  return((char)0x4eab); 
+			case 0x213061:  return((char)0x4eac); 
+			case 0x213062:  return((char)0x4ead); 
+			case 0x213063:  return((char)0x4eae); 
+			case 0x213064:  return((char)0x4eba); 
+			case 0x213065:  return((char)0x4eca); 
+			case 0x213066:  return((char)0x4ec1); 
+			case 0x213068:  return((char)0x4ec3); 
+			case 0x213069:  return((char)0x4ec4); 
+			case 0x21306b:  return((char)0x4ecd); 
+			case 0x21306c:  return((char)0x4ec7); 
+			case 0x21306d:  return((char)0x4ecb); 
+			case 0x21306e:  return((char)0x4ee4); 
+			case 0x21306f:  return((char)0x4ed8); 
+			case 0x213070:  return((char)0x4ed5); 
+			case 0x213071:  return((char)0x4ed6); 
+			case 0x213072:  return((char)0x4ede); 
+			case 0x213073:  return((char)0x4ee3); 
+			case 0x213074:  return((char)0x4ed4); 
+			case 0x213075:  return((char)0x4ed7); 
+			case 0x213076:  return((char)0x4ed9); 
+			case 0x213077:  return((char)0x4ee5); 
+			case 0x213078:  return((char)0x4eff); 
+			case 0x213079:  return((char)0x4f09); 
+			case 0x21307c:  return((char)0x4efb); 
+			case 0x21307d:  return((char)0x4f0a); 
+			case 0x21307e:  return((char)0x4f15); 
+			case 0x213121:  return((char)0x4f11); 
+			case 0x213122:  return((char)0x4f10); 
+			case 0x213123:  return((char)0x4f0f); 
+			case 0x213124:  return((char)0x4ef2); 
+			case 0x213125:  return((char)0x4f01); 
+			case 0x213126:  return((char)0x4ef3); 
+			case 0x213127:  return((char)0x4ef6); 
+			case 0x213128:  return((char)0x4ef0); 
+			case 0x21312a:  return((char)0x4f4f); 
+			case 0x21312b:  return((char)0x4f4d); 
+			case 0x21312c:  return((char)0x4f34); 
+			case 0x21312d:  return((char)0x4f47); 
+			case 0x21312e:  return((char)0x4f57); 
+			case 0x21312f:  return((char)0x4f3a); 
+			case 0x213130:  return((char)0x4f5e); 
+			case 0x213132:  return((char)0x4f5b); 
+			case 0x213133:  return((char)0x4f55); 
+			case 0x213134:  return((char)0x4f30); 
+			case 0x213135:  return((char)0x4f50); 
+			case 0x213136:  return((char)0x4f51); 
+			case 0x213137:  return((char)0x4f3d); 
+			case 0x213138:  return((char)0x4f48); 
+			case 0x213139:  return((char)0x4f46); 
+			case 0x21313a:  return((char)0x4f38); 
+			case 0x21313b:  return((char)0x4f43); 
+			case 0x21313c:  return((char)0x4f54); 
+			case 0x21313d:  return((char)0x4f3c); 
+			case 0x21313e:  return((char)0x4f63); 
+			case 0x21313f:  return((char)0x4f5c); 
+			case 0x213140:  return((char)0x4f60); 
+			case 0x213141:  return((char)0x4f2f); 
+			case 0x213142:  return((char)0x4f4e); 
+			case 0x213143:  return((char)0x4f5d); 
+			case 0x213144:  return((char)0x4f36); 
+			case 0x213145:  return((char)0x4f9d); 
+			case 0x213146:  return((char)0x4f6f); 
+			case 0x213147:  return((char)0x4f75); 
+			case 0x213148:  return((char)0x4f8d); 
+			case 0x213149:  return((char)0x4f73); 
+			case 0x21314a:  return((char)0x4f7f); 
+			case 0x21314b:  return((char)0x4f9b); 
+			case 0x21314c:  return((char)0x4f86); 
+			case 0x21314d:  return((char)0x4f6c); 
+			case 0x21314e:  return((char)0x4f8b); 
+			case 0x21314f:  return((char)0x4f96); 
+			case 0x213151:  return((char)0x4f83); 
+			case 0x213152:  return((char)0x4f7b); 
+			case 0x213153:  return((char)0x4f88); 
+			case 0x213154:  return((char)0x4f69); 
+			case 0x213155:  return((char)0x4f8f); 
+			case 0x213156:  return((char)0x4f7e); 
+			case 0x213157:  return((char)0x4fe1); 
+			case 0x213158:  return((char)0x4fd1); 
+			case 0x213159:  return((char)0x4fb5); 
+			case 0x21315a:  return((char)0x4faf); 
+			case 0x21315b:  return((char)0x4fbf); 
+			case 0x21315c:  return((char)0x4fde); 
+			case 0x21315d:  return((char)0x4fe0); 
+			case 0x21315e:  return((char)0x4fcf); 
+			case 0x21315f:  return((char)0x4fb6); 
+			case 0x213160:  return((char)0x4fda); 
+			case 0x213161:  return((char)0x4fdd); 
+			case 0x213162:  return((char)0x4fc3); 
+			case 0x213163:  return((char)0x4fd8); 
+			case 0x213164:  return((char)0x4fdf); 
+			case 0x213165:  return((char)0x4fca); 
+			case 0x213166:  return((char)0x4fae); 
+			case 0x213167:  return((char)0x4fd0); 
+			case 0x213168:  return((char)0x4fc4); 
+			case 0x213169:  return((char)0x4fc2); 
+			case 0x21316a:  return((char)0x4fce); 
+			case 0x21316b:  return((char)0x4fd7); 
+			case 0x21316c:  return((char)0x5009); 
+			case 0x21316e:  return((char)0x500d); 
+			case 0x21316f:  return((char)0x4fef); 
+			case 0x213170:  return((char)0x5026); 
+			case 0x213171:  return((char)0x500c); 
+			case 0x213172:  return((char)0x5025); 
+			case 0x213173:  return((char)0x5011); 
+			case 0x213174:  return((char)0x4ff8); 
+			case 0x213175:  return((char)0x5028); 
+			case 0x213176:  return((char)0x5014); 
+			case 0x213177:  return((char)0x5016); 
+			case 0x213178:  return((char)0x5029); 
+			case 0x213179:  return((char)0x5006); 
+			case 0x21317b:  return((char)0x5012); 
+			case 0x21317c:  return((char)0x503c); 
+			case 0x21317d:  return((char)0x501a); 
+			case 0x21317e:  return((char)0x4ffa); 
+			case 0x213221:  return((char)0x5018); 
+			case 0x213222:  return((char)0x4ff1); 
+			case 0x213223:  return((char)0x5021); 
+			case 0x213224:  return((char)0x500b); 
+			case 0x213225:  return((char)0x5019); 
+			case 0x213226:  return((char)0x5000); 
+			case 0x213227:  return((char)0x4fee); 
+			case 0x213228:  return((char)0x4ff3); 
+			case 0x213229:  return((char)0x502d); 
+			case 0x21322a:  return((char)0x5003); 
+			case 0x21322b:  return((char)0x4ffe); 
+			case 0x21322c:  return((char)0x502a); 
+			case 0x21322d:  return((char)0x502b); 
+			case 0x21322e:  return((char)0x505c); 
+			case 0x21322f:  return((char)0x504f); 
+			case 0x213230:  return((char)0x5065); 
+			case 0x213231:  return((char)0x5047); 
+			case 0x213232:  return((char)0x505a); 
+			case 0x213233:  return((char)0x5049); 
+			case 0x213234:  return((char)0x5043); 
+			case 0x213235:  return((char)0x5074); 
+			case 0x213236:  return((char)0x5076); 
+			case 0x213237:  return((char)0x504e); 
+			case 0x213238:  return((char)0x5075); 
+			case 0x213239:  return((char)0x504c); 
+			case 0x21323a:  return((char)0x5055); 
+			case 0x21323b:  return((char)0x500f); 
+			case 0x21323c:  return((char)0x5077); 
+			case 0x21323d:  return((char)0x508d); 
+			case 0x21323e:  return((char)0x50a2); 
+			case 0x21323f:  return((char)0x5085); 
+			case 0x213240:  return((char)0x5099); 
+			case 0x213241:  return((char)0x5091); 
+			case 0x213242:  return((char)0x5080); 
+			case 0x213243:  return((char)0x5096); 
+			case 0x213244:  return((char)0x5098); 
+			case 0x213245:  return((char)0x50ad); 
+			case 0x213246:  return((char)0x50b3); 
+			case 0x213247:  return((char)0x50b5); 
+			case 0x213248:  return((char)0x50b2); 
+			case 0x213249:  return((char)0x50c5); 
+			case 0x21324a:  return((char)0x50be); 
+			case 0x21324b:  return((char)0x50ac); 
+			case 0x21324c:  return((char)0x50b7); 
+			case 0x21324d:  return((char)0x50af); 
+			case 0x21324e:  return((char)0x50e7); 
+			case 0x21324f:  return((char)0x50ee); 
+			case 0x213250:  return((char)0x50f1); 
+			case 0x213251:  return((char)0x50e5); 
+			case 0x213252:  return((char)0x50d6); 
+			case 0x213253:  return((char)0x50ed); 
+			case 0x213254:  return((char)0x50da); 
+			case 0x213255:  return((char)0x50d5); 
+			case 0x213256:  return((char)0x507d); 
+			case 0x213257:  return((char)0x50cf); 
+			case 0x213258:  return((char)0x50d1); 
+			case 0x213259:  return((char)0x5100); 
+			case 0x21325a:  return((char)0x5104); 
+			case 0x21325b:  return((char)0x50fb); 
+			case 0x21325c:  return((char)0x50f5); 
+			case 0x21325d:  return((char)0x50f9); 
+			case 0x21325e:  return((char)0x5102); 
+			case 0x21325f:  return((char)0x510d); 
+			case 0x213260:  return((char)0x5108); 
+			case 0x213261:  return((char)0x5109); 
+			case 0x213262:  return((char)0x5110); 
+			case 0x213263:  return((char)0x5118); 
+			case 0x213264:  return((char)0x5112); 
+			case 0x213265:  return((char)0x5114); 
+			case 0x213266:  return((char)0x512a); 
+			case 0x213267:  return((char)0x511f); 
+			case 0x213268:  return((char)0x5121); 
+			case 0x213269:  return((char)0x5132); 
+			case 0x21326a:  return((char)0x5137); 
+			case 0x21326b:  return((char)0x513c); 
+			case 0x21326c:  return((char)0x5140); 
+			case 0x21326d:  return((char)0x5143); 
+			case 0x21326e:  return((char)0x5141); 
+			case 0x21326f:  return((char)0x5145); 
+			case 0x213270:  return((char)0x5144); 
+			case 0x213271:  return((char)0x5146); 
+			case 0x213272:  return((char)0x5149); 
+			case 0x213273:  return((char)0x5147); 
+			case 0x213274:  return((char)0x5148); 
+			case 0x213275:  return((char)0x514c); 
+			case 0x213277:  return((char)0x514d); 
+			case 0x213278:  return((char)0x5155); 
+			case 0x213279:  return((char)0x5154); 
+			case 0x21327a:  return((char)0x5152); 
+			case 0x21327b:  return((char)0x5157); 
+			case 0x21327c:  return((char)0x515c); 
+			case 0x21327d:  return((char)0x5162); 
+			case 0x21327e:  return((char)0x5165); 
+			case 0x213321:  return((char)0x5167); 
+			case 0x213322:  return((char)0x5168); 
+			case 0x213323:  return((char)0x5169); 
+			case 0x213324:  return((char)0x516b); 
+			case 0x213325:  return((char)0x516d); 
+			case 0x213326:  return((char)0x516e); 
+			case 0x213327:  return((char)0x516c); 
+			case 0x213328:  return((char)0x5171); 
+			case 0x213329:  return((char)0x5175); 
+			case 0x21332a:  return((char)0x5176); 
+			case 0x21332b:  return((char)0x5177); 
+			case 0x21332c:  return((char)0x5178); 
+			case 0x21332d:  return((char)0x517c); 
+			case 0x21332e:  return((char)0x5180); 
+			case 0x21332f:  return((char)0x5189); 
+			case 0x213330:  return((char)0x518c); 
+			case 0x213331:  return((char)0x518d); 
+			case 0x213332:  return((char)0x5192); 
+			case 0x213333:  return((char)0x5191); 
+			case 0x213334:  return((char)0x5195); 
+			case 0x213335:  return((char)0x6700); 
+			case 0x213336:  return((char)0x5197); 
+			case 0x213337:  return((char)0x51a0); 
+			case 0x213339:  return((char)0x51a5); 
+			case 0x21333c:  return((char)0x51b0); 
+			case 0x21333d:  return((char)0x51b6); 
+			case 0x21333e:  return((char)0x51b7); 
+			case 0x213340:  return((char)0x51cd); 
+			case 0x213341:  return((char)0x51cc); 
+			case 0x213344:  return((char)0x51dc); 
+			case 0x213345:  return((char)0x51dd); 
+			case 0x213347:  return((char)0x51f0); 
+			case 0x213348:  return((char)0x51f1); 
+			case 0x213349:  return((char)0x51f3); 
+			case 0x21334b:  return((char)0x51fa); 
+			case 0x21334c:  return((char)0x51f9); 
+			case 0x21334d:  return((char)0x51f8); 
+			case 0x21334e:  return((char)0x51fd); 
+			case 0x21334f:  return((char)0x5200); 
+			case 0x213350:  return((char)0x5201); 
+			case 0x213351:  return((char)0x5203); 
+			case 0x213352:  return((char)0x5207); 
+			case 0x213353:  return((char)0x5206); 
+			case 0x213354:  return((char)0x5208); 
+			case 0x213355:  return((char)0x520a); 
+			case 0x213356:  return((char)0x5211); 
+			case 0x213357:  return((char)0x5217); 
+			case 0x213359:  return((char)0x520e); 
+			case 0x21335a:  return((char)0x5224); 
+			case 0x21335b:  return((char)0x5225); 
+			case 0x21335c:  return((char)0x5220); 
+			case 0x21335d:  return((char)0x5228); 
+			case 0x21335e:  return((char)0x5229); 
+			case 0x21335f:  return((char)0x5238); 
+			case 0x213360:  return((char)0x523b); 
+			case 0x213361:  return((char)0x5237); 
+			case 0x213362:  return((char)0x5230); 
+			case 0x213363:  return((char)0x523a); 
+			case 0x213366:  return((char)0x5241); 
+			case 0x213367:  return((char)0x5239); 
+			case 0x213368:  return((char)0x5243); 
+			case 0x213369:  return((char)0x524d); 
+			case 0x21336a:  return((char)0x524c); 
+			case 0x21336b:  return((char)0x524b); 
+			case 0x21336c:  return((char)0x524a); 
+			case 0x21336d:  return((char)0x5247); 
+			case 0x21336e:  return((char)0x525c); 
+			case 0x21336f:  return((char)0x5256); 
+			case 0x213370:  return((char)0x525b); 
+			case 0x213371:  return((char)0x5254); 
+			case 0x213372:  return((char)0x525d); 
+			case 0x213373:  return((char)0x526a); 
+			case 0x213374:  return((char)0x526f); 
+			case 0x213375:  return((char)0x5272); 
+			case 0x213376:  return((char)0x5274); 
+			case 0x213377:  return((char)0x5269); 
+			case 0x213378:  return((char)0x5275); 
+			case 0x21337a:  return((char)0x527d); 
+			case 0x21337b:  return((char)0x527f); 
+			case 0x21337c:  return((char)0x5283); 
+			case 0x21337d:  return((char)0x5288); 
+			case 0x21337e:  return((char)0x5287); 
+			case 0x213421:  return((char)0x528d); 
+			case 0x213422:  return((char)0x5289); 
+			case 0x213423:  return((char)0x5291); 
+			case 0x213424:  return((char)0x529b); 
+			case 0x213425:  return((char)0x529f); 
+			case 0x213426:  return((char)0x52a0); 
+			case 0x213427:  return((char)0x52a3); 
+			case 0x213428:  return((char)0x52ab); 
+			case 0x213429:  return((char)0x52a9); 
+			case 0x21342a:  return((char)0x52ac); 
+			case 0x21342b:  return((char)0x52aa); 
+			case 0x21342c:  return((char)0x52be); 
+			case 0x21342d:  return((char)0x52c7); 
+			case 0x21342e:  return((char)0x52c3); 
+			case 0x21342f:  return((char)0x52c1); 
+			case 0x213430:  return((char)0x52c9); 
+			case 0x213431:  return((char)0x52d8); 
+			case 0x213432:  return((char)0x52d2); 
+			case 0x213433:  return((char)0x52d9); 
+			case 0x213434:  return((char)0x52d5); 
+			case 0x213435:  return((char)0x52de); 
+			case 0x213436:  return((char)0x52db); 
+			case 0x213437:  return((char)0x52dd); 
+			case 0x213438:  return((char)0x52e2); 
+			case 0x213439:  return((char)0x52e4); 
+			case 0x21343a:  return((char)0x52df); 
+			case 0x21343c:  return((char)0x52f5); 
+			case 0x21343d:  return((char)0x52f8); 
+			case 0x21343e:  return((char)0x52fb); 
+			case 0x213440:  return((char)0x52ff); 
+			case 0x213441:  return((char)0x5305); 
+			case 0x213442:  return((char)0x5306); 
+			case 0x213443:  return((char)0x5308); 
+			case 0x213444:  return((char)0x530d); 
+			case 0x213445:  return((char)0x5310); 
+			case 0x213446:  return((char)0x530f); 
+			case 0x213447:  return((char)0x5315); 
+			case 0x213448:  return((char)0x5316); 
+			case 0x213449:  return((char)0x5317); 
+			case 0x21344a:  return((char)0x5319); 
+			case 0x21344b:  return((char)0x53f5); 
+			case 0x21344c:  return((char)0x531d); 
+			case 0x21344d:  return((char)0x5321); 
+			case 0x21344e:  return((char)0x5320); 
+			case 0x21344f:  return((char)0x5323); 
+			case 0x213450:  return((char)0x532a); 
+			case 0x213451:  return((char)0x532f); 
+			case 0x213452:  return((char)0x5331); 
+			case 0x213453:  return((char)0x5339); 
+			case 0x213454:  return((char)0x533e); 
+			case 0x213455:  return((char)0x5340); 
+			case 0x213456:  return((char)0x533f); 
+			case 0x213457:  return((char)0x5341); 
+			case 0x213458:  return((char)0x5343); 
+			case 0x213459:  return((char)0x5345); 
+			case 0x21345a:  return((char)0x5348); 
+			case 0x21345b:  return((char)0x5347); 
+			case 0x21345c:  return((char)0x534a); 
+			case 0x21345d:  return((char)0x5349); 
+			case 0x21345f:  return((char)0x5352); 
+			case 0x213460:  return((char)0x5354); 
+			case 0x213461:  return((char)0x5353); 
+			case 0x213462:  return((char)0x5351); 
+			case 0x213463:  return((char)0x5357); 
+			case 0x213464:  return((char)0x535a); 
+			case 0x213466:  return((char)0x535e); 
+			case 0x213467:  return((char)0x5361); 
+			case 0x213469:  return((char)0x5366); 
+			case 0x21346a:  return((char)0x536f); 
+			case 0x21346b:  return((char)0x536e); 
+			case 0x21346c:  return((char)0x5370); 
+			case 0x21346d:  return((char)0x5371); 
+			case 0x21346e:  return((char)0x537d); 
+			case 0x21346f:  return((char)0x5375); 
+			case 0x213471:  return((char)0x5378); 
+			case 0x213473:  return((char)0x537b); 
+			case 0x213474:  return((char)0x537f); 
+			case 0x213475:  return((char)0x5384); 
+			case 0x213476:  return((char)0x539a); 
+			case 0x213477:  return((char)0x539d); 
+			case 0x213478:  return((char)0x539f); 
+			case 0x213479:  return((char)0x53a5); 
+			case 0x21347a:  return((char)0x53ad); 
+			case 0x21347b:  return((char)0x53b2); 
+			case 0x21347c:  return((char)0x53bb); 
+			case 0x21347d:  return((char)0x53c3); 
+			case 0x21347e:  return((char)0x53c8); 
+			case 0x213521:  return((char)0x53c9); 
+			case 0x213522:  return((char)0x53cb); 
+			case 0x213523:  return((char)0x53ca); 
+			case 0x213524:  return((char)0x53cd); 
+			case 0x213525:  return((char)0x53d6); 
+			case 0x213526:  return((char)0x53d4); 
+			case 0x213527:  return((char)0x53d7); 
+			case 0x213528:  return((char)0x53db); 
+			case 0x213529:  return((char)0x53df); 
+			case 0x21352a:  return((char)0x66fc); 
+			case 0x21352b:  return((char)0x53e2); 
+			case 0x21352c:  return((char)0x53e3); 
+			case 0x21352d:  return((char)0x53f8); 
+			case 0x21352e:  return((char)0x53e4); 
+			case 0x21352f:  return((char)0x53ee); 
+			case 0x213530:  return((char)0x53ef); 
+			case 0x213531:  return((char)0x53e9); 
+			case 0x213532:  return((char)0x53f3); 
+			case 0x213533:  return((char)0x53fc); 
+			case 0x213534:  return((char)0x53e8); 
+			case 0x213535:  return((char)0x53e6); 
+			case 0x213536:  return((char)0x53ec); 
+			case 0x213537:  return((char)0x53eb); 
+			case 0x213538:  return((char)0x53f0); 
+			case 0x213539:  return((char)0x53e5); 
+			case 0x21353a:  return((char)0x53f1); 
+			case 0x21353b:  return((char)0x53ed); 
+			case 0x21353c:  return((char)0x53ea); 
+			case 0x21353d:  return((char)0x53f2); 
+			case 0x21353f:  return((char)0x540b); 
+			case 0x213540:  return((char)0x5409); 
+			case 0x213541:  return((char)0x5410); 
+			case 0x213542:  return((char)0x540f); 
+			case 0x213543:  return((char)0x540c); 
+			case 0x213544:  return((char)0x540a); 
+			case 0x213545:  return((char)0x540d); 
+			case 0x213546:  return((char)0x5404); 
+			case 0x213547:  return((char)0x5403); 
+			case 0x213548:  return((char)0x5412); 
+			case 0x21354a:  return((char)0x5406); 
+			case 0x21354d:  return((char)0x542d); 
+			case 0x21354e:  return((char)0x541d); 
+			case 0x21354f:  return((char)0x541e); 
+			case 0x213550:  return((char)0x541b); 
+			case 0x213551:  return((char)0x544e); 
+			case 0x213552:  return((char)0x543e); 
+			case 0x213553:  return((char)0x5427); 
+			case 0x213554:  return((char)0x5440); 
+			case 0x213555:  return((char)0x5431); 
+			case 0x213556:  return((char)0x5446); 
+			case 0x213557:  return((char)0x543c); 
+			case 0x213558:  return((char)0x5443); 
+			case 0x213559:  return((char)0x5426); 
+			case 0x21355a:  return((char)0x5420); 
+			case 0x21355b:  return((char)0x5436); 
+			case 0x21355c:  return((char)0x5433); 
+			case 0x21355d:  return((char)0x5435); 
+			case 0x21355e:  return((char)0x542e); 
+			case 0x21355f:  return((char)0x544a); 
+			case 0x213560:  return((char)0x5448); 
+			case 0x213561:  return((char)0x543b); 
+			case 0x213562:  return((char)0x5438); 
+			case 0x213563:  return((char)0x5439); 
+			case 0x213564:  return((char)0x5442); 
+			case 0x213565:  return((char)0x542b); 
+			case 0x213566:  return((char)0x541f); 
+			case 0x213567:  return((char)0x5429); 
+			case 0x213568:  return((char)0x5473); 
+			case 0x213569:  return((char)0x5462); 
+			case 0x21356a:  return((char)0x5475); 
+			case 0x21356b:  return((char)0x5495); 
+			case 0x21356c:  return((char)0x5478); 
+			case 0x21356d:  return((char)0x5496); 
+			case 0x21356e:  return((char)0x5477); 
+			case 0x21356f:  return((char)0x547b); 
+			case 0x213571:  return((char)0x5492); 
+			case 0x213572:  return((char)0x5484); 
+			case 0x213573:  return((char)0x547c); 
+			case 0x213574:  return((char)0x5468); 
+			case 0x213575:  return((char)0x5486); 
+			case 0x213576:  return((char)0x548b); 
+			case 0x213577:  return((char)0x548c); 
+			case 0x213578:  return((char)0x5490); 
+			case 0x213579:  return((char)0x547d); 
+			case 0x21357a:  return((char)0x5476); 
+			case 0x21357b:  return((char)0x5471); 
+			case 0x21357c:  return((char)0x549a); 
+			case 0x21357d:  return((char)0x548e); 
+			case 0x21357e:  return((char)0x54a9); 
+			case 0x213621:  return((char)0x54aa); 
+			case 0x213622:  return((char)0x54a8); 
+			case 0x213623:  return((char)0x54ac); 
+			case 0x213624:  return((char)0x54c0); 
+			case 0x213625:  return((char)0x54b3); 
+			case 0x213626:  return((char)0x54a6); 
+			case 0x213627:  return((char)0x54ab); 
+			case 0x213628:  return((char)0x54c7); 
+			case 0x213629:  return((char)0x54c9); 
+			case 0x21362a:  return((char)0x54c4); 
+			case 0x21362b:  return((char)0x54c2); 
+			case 0x21362d:  return((char)0x54c1); 
+			case 0x21362f:  return((char)0x54ce); 
+			case 0x213630:  return((char)0x54b1); 
+			case 0x213631:  return((char)0x54bb); 
+			case 0x213632:  return((char)0x54af); 
+			case 0x213633:  return((char)0x54c8); 
+			case 0x213634:  return((char)0x5501); 
+			case 0x213635:  return((char)0x54fc); 
+			case 0x213636:  return((char)0x5510); 
+			case 0x213637:  return((char)0x54ea); 
+			case 0x213638:  return((char)0x5514); 
+			case 0x213639:  return((char)0x54fa); 
+			case 0x21363a:  return((char)0x54e5); 
+			case 0x21363b:  return((char)0x54ee); 
+			case 0x21363c:  return((char)0x54f2); 
+			case 0x21363d:  return((char)0x54e8); 
+			case 0x21363e:  return((char)0x54e1); 
+			case 0x21363f:  return((char)0x54e9); 
+			case 0x213640:  return((char)0x54ed); 
+			case 0x213641:  return((char)0x5506); 
+			case 0x213642:  return((char)0x5509); 
+			case 0x213643:  return((char)0x54e6); 
+			case 0x213644:  return((char)0x5556); 
+			case 0x213645:  return((char)0x5533); 
+			case 0x213646:  return((char)0x5546); 
+			case 0x213647:  return((char)0x5537); 
+			case 0x213648:  return((char)0x554f); 
+			case 0x213649:  return((char)0x555e); 
+			case 0x21364a:  return((char)0x5566); 
+			case 0x21364b:  return((char)0x556a); 
+			case 0x21364c:  return((char)0x554a); 
+			case 0x21364d:  return((char)0x5544); 
+			case 0x21364e:  return((char)0x555c); 
+			case 0x21364f:  return((char)0x5531); 
+			case 0x213650:  return((char)0x5543); 
+			case 0x213651:  return((char)0x552c); 
+			case 0x213652:  return((char)0x5561); 
+			case 0x213653:  return((char)0x553e); 
+			case 0x213654:  return((char)0x5563); 
+			case 0x213655:  return((char)0x5555); 
+			case 0x213656:  return((char)0x552f); 
+			case 0x213657:  return((char)0x552e); 
+			case 0x213658:  return((char)0x5564); 
+			case 0x213659:  return((char)0x5538); 
+			case 0x21365a:  return((char)0x55a7); 
+			case 0x21365b:  return((char)0x5580); 
+			case 0x21365c:  return((char)0x557b); 
+			case 0x21365d:  return((char)0x557c); 
+			case 0x21365e:  return((char)0x5527); 
+			case 0x21365f:  return((char)0x5594); 
+			case 0x213660:  return((char)0x5587); 
+			case 0x213661:  return((char)0x559c); 
+			case 0x213662:  return((char)0x558b); 
+			case 0x213663:  return((char)0x55aa); 
+			case 0x213664:  return((char)0x55b3); 
+			case 0x213665:  return((char)0x558a); 
+			case 0x213666:  return((char)0x5583); 
+			case 0x213667:  return((char)0x55b1); 
+			case 0x213668:  return((char)0x55ae); 
+			case 0x213669:  return((char)0x5582); 
+			case 0x21366a:  return((char)0x559f); 
+			case 0x21366b:  return((char)0x559d); 
+			case 0x21366c:  return((char)0x5598); 
+			case 0x21366d:  return((char)0x559a); 
+			case 0x21366e:  return((char)0x557e); 
+			case 0x21366f:  return((char)0x55ac); 
+			case 0x213670:  return((char)0x5589); 
+			case 0x213671:  return((char)0x55b2); 
+			case 0x213672:  return((char)0x55bb); 
+			case 0x213673:  return((char)0x55e8); 
+			case 0x213674:  return((char)0x55df); 
+			case 0x213675:  return((char)0x55d1); 
+			case 0x213676:  return((char)0x55dc); 
+			case 0x213677:  return((char)0x55e6); 
+			case 0x213678:  return((char)0x55c7); 
+			case 0x213679:  return((char)0x55d3); 
+			case 0x21367a:  return((char)0x55ce); 
+			case 0x21367b:  return((char)0x55e3); 
+			case 0x21367c:  return((char)0x55ef); 
+			case 0x21367d:  return((char)0x55e4); 
+			case 0x21367e:  return((char)0x55c5); 
+			case 0x213721:  return((char)0x55da); 
+			case 0x213722:  return((char)0x55c6); 
+			case 0x213723:  return((char)0x55e1); 
+			case 0x213724:  return((char)0x5600); 
+			case 0x213725:  return((char)0x561b); 
+			case 0x213726:  return((char)0x55fe); 
+			case 0x213727:  return((char)0x5616); 
+			case 0x213728:  return((char)0x55f7); 
+			case 0x213729:  return((char)0x5608); 
+			case 0x21372a:  return((char)0x561f); 
+			case 0x21372b:  return((char)0x55fd); 
+			case 0x21372c:  return((char)0x5606); 
+			case 0x21372d:  return((char)0x5609); 
+			case 0x21372e:  return((char)0x5614); 
+			case 0x21372f:  return((char)0x560e); 
+			case 0x213730:  return((char)0x5617); 
+			case 0x213731:  return((char)0x560d); 
+			case 0x213732:  return((char)0x562e); 
+			case 0x213733:  return((char)0x562f); 
+			case 0x213734:  return((char)0x564e); 
+			case 0x213735:  return((char)0x5636); 
+			case 0x213736:  return((char)0x5632); 
+			case 0x213737:  return((char)0x563b); 
+			case 0x213738:  return((char)0x5639); 
+			case 0x213739:  return((char)0x5657); 
+			case 0x21373b:  return((char)0x5653); 
+			case 0x21373c:  return((char)0x563f); 
+			case 0x21373d:  return((char)0x5634); 
+			case 0x21373e:  return((char)0x5637); 
+			case 0x21373f:  return((char)0x5659); 
+			case 0x213740:  return((char)0x5630); 
+			case 0x213741:  return((char)0x566b); 
+			case 0x213742:  return((char)0x5664); 
+			case 0x213743:  return((char)0x5669); 
+			case 0x213744:  return((char)0x5678); 
+			case 0x213745:  return((char)0x5674); 
+			case 0x213746:  return((char)0x5679); 
+			case 0x213747:  return((char)0x5665); 
+			case 0x213748:  return((char)0x566a); 
+			case 0x213749:  return((char)0x5668); 
+			case 0x21374a:  return((char)0x5671); 
+			case 0x21374b:  return((char)0x566f); 
+			case 0x21374c:  return((char)0x5662); 
+			case 0x21374d:  return((char)0x566c); 
+			case 0x21374e:  return((char)0x5680); 
+			case 0x21374f:  return((char)0x568e); 
+			case 0x213750:  return((char)0x5685); 
+			case 0x213751:  return((char)0x5687); 
+			case 0x213752:  return((char)0x5690); 
+			case 0x213753:  return((char)0x568f); 
+			case 0x213754:  return((char)0x5695); 
+			case 0x213755:  return((char)0x56ae); 
+			case 0x213756:  return((char)0x56a8); 
+			case 0x213757:  return((char)0x56b0); 
+			case 0x213758:  return((char)0x56a5); 
+			case 0x213759:  return((char)0x56b7); 
+			case 0x21375a:  return((char)0x56b4); 
+			case 0x21375b:  return((char)0x56b6); 
+			case 0x21375c:  return((char)0x56c0); 
+			case 0x21375d:  return((char)0x56c1); 
+			case 0x21375e:  return((char)0x56c2); 
+			case 0x21375f:  return((char)0x56bc); 
+			case 0x213760:  return((char)0x56ca); 
+			case 0x213761:  return((char)0x56c9); 
+			case 0x213762:  return((char)0x56c8); 
+			case 0x213764:  return((char)0x56d1); 
+			case 0x213765:  return((char)0x56db); 
+			case 0x213766:  return((char)0x56da); 
+			case 0x213767:  return((char)0x56e0); 
+			case 0x213768:  return((char)0x56de); 
+			case 0x213769:  return((char)0x56e4); 
+			case 0x21376b:  return((char)0x56f1); 
+			case 0x21376c:  return((char)0x56fa); 
+			case 0x21376d:  return((char)0x5703); 
+			case 0x21376e:  return((char)0x5708); 
+			case 0x21376f:  return((char)0x570b); 
+			case 0x213770:  return((char)0x570d); 
+			case 0x213771:  return((char)0x5712); 
+			case 0x213772:  return((char)0x5713); 
+			case 0x213773:  return((char)0x5718); 
+			case 0x213774:  return((char)0x5716); 
+			case 0x213775:  return((char)0x571f); 
+			case 0x213777:  return((char)0x572d); 
+			case 0x213778:  return((char)0x572f); 
+			case 0x213779:  return((char)0x5730); 
+			case 0x21377a:  return((char)0x5728); 
+			case 0x21377b:  return((char)0x5733); 
+			case 0x21377c:  return((char)0x5751); 
+			case 0x21377d:  return((char)0x574a); 
+			case 0x213821:  return((char)0x5740); 
+			case 0x213822:  return((char)0x5747); 
+			case 0x213823:  return((char)0x574d); 
+			case 0x213824:  return((char)0x573e); 
+			case 0x213825:  return((char)0x574e); 
+			case 0x213827:  return((char)0x5783); 
+			case 0x213828:  return((char)0x576a); 
+			case 0x213829:  return((char)0x5769); 
+			case 0x21382a:  return((char)0x5777); 
+			case 0x21382b:  return((char)0x5761); 
+			case 0x21382c:  return((char)0x5764); 
+			case 0x21382d:  return((char)0x5766); 
+			case 0x21382e:  return((char)0x5782); 
+			case 0x21382f:  return((char)0x577c); 
+			case 0x213830:  return((char)0x57a0); 
+			case 0x213831:  return((char)0x578b); 
+			case 0x213832:  return((char)0x57a3); 
+			case 0x213833:  return((char)0x57ae); 
+			case 0x213834:  return((char)0x57a2); 
+			case 0x213835:  return((char)0x57d4); 
+			case 0x213836:  return((char)0x57c2); 
+			case 0x213837:  return((char)0x57ce); 
+			case 0x213838:  return((char)0x57cb); 
+			case 0x213839:  return((char)0x57c3); 
+			case 0x21383a:  return((char)0x57f9); 
+			case 0x21383b:  return((char)0x57f7); 
+			case 0x21383c:  return((char)0x57fa); 
+			case 0x21383d:  return((char)0x57df); 
+			case 0x21383e:  return((char)0x580a); 
+			case 0x21383f:  return((char)0x5805); 
+			case 0x213840:  return((char)0x5802); 
+			case 0x213841:  return((char)0x5806); 
+			case 0x213842:  return((char)0x57e4); 
+			case 0x213843:  return((char)0x57e0); 
+			case 0x213844:  return((char)0x5831); 
+			case 0x213845:  return((char)0x582f); 
+			case 0x213846:  return((char)0x5835); 
+			case 0x213847:  return((char)0x582a); 
+			case 0x213848:  return((char)0x5830); 
+			case 0x213849:  return((char)0x5824); 
+			case 0x21384a:  return((char)0x5834); 
+			case 0x21384b:  return((char)0x5821); 
+			case 0x21384c:  return((char)0x585e); 
+			case 0x21384d:  return((char)0x5857); 
+			case 0x21384e:  return((char)0x5858); 
+			case 0x21384f:  return((char)0x5851); 
+			case 0x213850:  return((char)0x586b); 
+			case 0x213851:  return((char)0x584c); 
+			case 0x213852:  return((char)0x585a); 
+			case 0x213853:  return((char)0x586d); 
+			case 0x213854:  return((char)0x5854); 
+			case 0x213855:  return((char)0x5862); 
+			case 0x213856:  return((char)0x584a); 
+			case 0x213857:  return((char)0x5883); 
+			case 0x213858:  return((char)0x587e); 
+			case 0x213859:  return((char)0x5875); 
+			case 0x21385a:  return((char)0x588a); 
+			case 0x21385b:  return((char)0x5879); 
+			case 0x21385c:  return((char)0x5885); 
+			case 0x21385d:  return((char)0x5893); 
+			case 0x21385e:  return((char)0x589e); 
+			case 0x21385f:  return((char)0x5880); 
+			case 0x213860:  return((char)0x58b3); 
+			case 0x213861:  return((char)0x589c); 
+			case 0x213862:  return((char)0x58ae); 
+			case 0x213863:  return((char)0x589f); 
+			case 0x213864:  return((char)0x58c7); 
+			case 0x213865:  return((char)0x58c5); 
+			case 0x213866:  return((char)0x58c1); 
+			case 0x213867:  return((char)0x58be); 
+			case 0x213868:  return((char)0x58d5); 
+			case 0x213869:  return((char)0x58d3); 
+			case 0x21386a:  return((char)0x58d1); 
+			case 0x21386b:  return((char)0x58d9); 
+			case 0x21386c:  return((char)0x58d8); 
+			case 0x21386d:  return((char)0x58df); 
+			case 0x21386e:  return((char)0x58de); 
+			case 0x21386f:  return((char)0x58e2); 
+			case 0x213870:  return((char)0x58e4); 
+			case 0x213871:  return((char)0x58e9); 
+			case 0x213872:  return((char)0x58eb); 
+			case 0x213873:  return((char)0x58ec); 
+			case 0x213874:  return((char)0x58ef); 
+			case 0x213876:  return((char)0x58fa); 
+			case 0x213877:  return((char)0x58fd); 
+			case 0x213878:  return((char)0x590f); 
+			case 0x213879:  return((char)0x5914); 
+			case 0x21387a:  return((char)0x5915); 
+			case 0x21387b:  return((char)0x5916); 
+			case 0x21387c:  return((char)0x5919); 
+			case 0x21387d:  return((char)0x591a); 
+			case 0x21387e:  return((char)0x591c); 
+			case 0x213921:  return((char)0x5920); 
+			case 0x213922:  return((char)0x5924); 
+			case 0x213923:  return((char)0x5925); 
+			case 0x213924:  return((char)0x5922); 
+			case 0x213925:  return((char)0x5927); 
+			case 0x213926:  return((char)0x592a); 
+			case 0x213927:  return((char)0x592b); 
+			case 0x213928:  return((char)0x5929); 
+			case 0x213929:  return((char)0x592d); 
+			case 0x21392a:  return((char)0x592e); 
+			case 0x21392b:  return((char)0x5931); 
+			case 0x21392c:  return((char)0x5937); 
+			case 0x21392e:  return((char)0x593e); 
+			case 0x21392f:  return((char)0x5954); 
+			case 0x213930:  return((char)0x5949); 
+			case 0x213931:  return((char)0x5948); 
+			case 0x213932:  return((char)0x5947); 
+			case 0x213933:  return((char)0x5944); 
+			case 0x213934:  return((char)0x5955); 
+			case 0x213935:  return((char)0x5951); 
+			case 0x213936:  return((char)0x594e); 
+			case 0x213937:  return((char)0x594f); 
+			case 0x213938:  return((char)0x5950); 
+			case 0x213939:  return((char)0x5957); 
+			case 0x21393a:  return((char)0x5958); 
+			case 0x21393b:  return((char)0x595a); 
+			case 0x21393c:  return((char)0x5960); 
+			case 0x21393d:  return((char)0x5962); 
+			case 0x21393e:  return((char)0x5967); 
+			case 0x21393f:  return((char)0x5969); 
+			case 0x213940:  return((char)0x596a); 
+			case 0x213941:  return((char)0x596e); 
+			case 0x213942:  return((char)0x5973); 
+			case 0x213943:  return((char)0x5974); 
+			case 0x213944:  return((char)0x5976); 
+			case 0x213945:  return((char)0x5984); 
+			case 0x213946:  return((char)0x5983); 
+			case 0x213947:  return((char)0x5978); 
+			case 0x213948:  return((char)0x597d); 
+			case 0x213949:  return((char)0x5979); 
+			case 0x21394a:  return((char)0x5982); 
+			case 0x21394b:  return((char)0x5981); 
+			case 0x21394c:  return((char)0x59a8); 
+			case 0x21394d:  return((char)0x5992); 
+			case 0x21394f:  return((char)0x59a4); 
+			case 0x213950:  return((char)0x59a3); 
+			case 0x213951:  return((char)0x5993); 
+			case 0x213952:  return((char)0x599e); 
+			case 0x213953:  return((char)0x599d); 
+			case 0x213954:  return((char)0x5999); 
+			case 0x213955:  return((char)0x59a5); 
+			case 0x213956:  return((char)0x598a); 
+			case 0x213957:  return((char)0x5996); 
+			case 0x213958:  return((char)0x59be); 
+			case 0x213959:  return((char)0x59bb); 
+			case 0x21395a:  return((char)0x59ae); 
+			case 0x21395b:  return((char)0x59d1); 
+			case 0x21395c:  return((char)0x59b9); 
+			case 0x21395d:  return((char)0x59c6); 
+			case 0x21395e:  return((char)0x59d0); 
+			case 0x21395f:  return((char)0x59d7); 
+			case 0x213960:  return((char)0x59af); 
+			case 0x213961:  return((char)0x59d2); 
+			case 0x213962:  return((char)0x59d3); 
+			case 0x213963:  return((char)0x59ca); 
+			case 0x213965:  return((char)0x59cb); 
+			case 0x213966:  return((char)0x59d4); 
+			case 0x213967:  return((char)0x59e3); 
+			case 0x213969:  return((char)0x59ff); 
+			case 0x21396a:  return((char)0x59d8); 
+			case 0x21396b:  return((char)0x5a03); 
+			case 0x21396c:  return((char)0x59e8); 
+			case 0x21396d:  return((char)0x59e5); 
+			case 0x21396e:  return((char)0x59ea); 
+			case 0x21396f:  return((char)0x5a01); 
+			case 0x213970:  return((char)0x59fb); 
+			case 0x213971:  return((char)0x59e6); 
+			case 0x213972:  return((char)0x59da); 
+			case 0x213973:  return((char)0x5a11); 
+			case 0x213974:  return((char)0x5a18); 
+			case 0x213975:  return((char)0x5a23); 
+			case 0x213976:  return((char)0x5a1c); 
+			case 0x213977:  return((char)0x5a13); 
+			case 0x213978:  return((char)0x59ec); 
+			case 0x213979:  return((char)0x5a20); 
+			case 0x21397a:  return((char)0x5a1f); 
+			case 0x21397b:  return((char)0x5a1b); 
+			case 0x21397c:  return((char)0x5a0c); 
+			case 0x21397d:  return((char)0x5a29); 
+			case 0x21397e:  return((char)0x5a25); 
+			case 0x213a21:  return((char)0x5a46); 
+			case 0x213a22:  return((char)0x5a49); 
+			case 0x213a23:  return((char)0x5a6a); 
+			case 0x213a24:  return((char)0x5a36); 
+			case 0x213a25:  return((char)0x5a4a); 
+			case 0x213a26:  return((char)0x5a40); 
+			case 0x213a27:  return((char)0x5a66); 
+			case 0x213a28:  return((char)0x5a41); 
+			case 0x213a29:  return((char)0x5a3c); 
+			case 0x213a2a:  return((char)0x5a62); 
+			case 0x213a2b:  return((char)0x5a5a); 
+			case 0x213a2c:  return((char)0x5a77); 
+			case 0x213a2d:  return((char)0x5a9a); 
+			case 0x213a2e:  return((char)0x5a92); 
+			case 0x213a2f:  return((char)0x5a7f); 
+			case 0x213a30:  return((char)0x5abc); 
+			case 0x213a31:  return((char)0x5a9b); 
+			case 0x213a32:  return((char)0x5acc); 
+			case 0x213a33:  return((char)0x5ac1); 
+			case 0x213a34:  return((char)0x5ac9); 
+			case 0x213a35:  return((char)0x5abe); 
+			case 0x213a36:  return((char)0x5abd); 
+			case 0x213a37:  return((char)0x5ab2); 
+			case 0x213a38:  return((char)0x5ac2); 
+			case 0x213a39:  return((char)0x5ab3); 
+			case 0x213a3a:  return((char)0x5ae1); 
+			case 0x213a3b:  return((char)0x5ad7); 
+			case 0x213a3c:  return((char)0x5ad6); 
+			case 0x213a3d:  return((char)0x5ae3); 
+			case 0x213a3e:  return((char)0x5ae9); 
+			case 0x213a3f:  return((char)0x5ad8); 
+			case 0x213a40:  return((char)0x5ae6); 
+			case 0x213a41:  return((char)0x5afb); 
+			case 0x213a42:  return((char)0x5b09); 
+			case 0x213a43:  return((char)0x5b0b); 
+			case 0x213a44:  return((char)0x5b0c); 
+			case 0x213a45:  return((char)0x5af5); 
+			case 0x213a46:  return((char)0x5b34); 
+			case 0x213a47:  return((char)0x5b1d); 
+			case 0x213a48:  return((char)0x5b2a); 
+			case 0x213a49:  return((char)0x5b24); 
+			case 0x213a4a:  return((char)0x5b30); 
+			case 0x213a4b:  return((char)0x5b38); 
+			case 0x213a4c:  return((char)0x5b40); 
+			case 0x213a4d:  return((char)0x5b50); 
+			case 0x213a4e:  return((char)0x5b51); 
+			case 0x213a4f:  return((char)0x5b53); 
+			case 0x213a50:  return((char)0x5b54); 
+			case 0x213a51:  return((char)0x5b55); 
+			case 0x213a52:  return((char)0x5b57); 
+			case 0x213a53:  return((char)0x5b58); 
+			case 0x213a54:  return((char)0x5b5d); 
+			case 0x213a55:  return((char)0x5b5c); 
+			case 0x213a57:  return((char)0x5b5f); 
+			case 0x213a58:  return((char)0x5b63); 
+			case 0x213a59:  return((char)0x5b64); 
+			case 0x213a5a:  return((char)0x5b69); 
+			case 0x213a5b:  return((char)0x5b6b); 
+			case 0x213a5c:  return((char)0x5b70); 
+			case 0x213a5d:  return((char)0x5b73); 
+			case 0x213a5e:  return((char)0x5b71); 
+			case 0x213a5f:  return((char)0x5b75); 
+			case 0x213a60:  return((char)0x5b78); 
+			case 0x213a61:  return((char)0x5b7a); 
+			case 0x213a62:  return((char)0x5b7d); 
+			case 0x213a63:  return((char)0x5b7f); 
+			case 0x213a65:  return((char)0x5b87); 
+			case 0x213a66:  return((char)0x5b88); 
+			case 0x213a67:  return((char)0x5b89); 
+			case 0x213a68:  return((char)0x5b85); 
+			case 0x213a69:  return((char)0x5b8c); 
+			case 0x213a6a:  return((char)0x5b8b); 
+			case 0x213a6b:  return((char)0x5b8f); 
+			case 0x213a6c:  return((char)0x5b97); 
+			case 0x213a6d:  return((char)0x5b9a); 
+			case 0x213a6e:  return((char)0x5b9c); 
+			case 0x213a6f:  return((char)0x5b98); 
+			case 0x213a70:  return((char)0x5b99); 
+			case 0x213a71:  return((char)0x5b9b); 
+			case 0x213a72:  return((char)0x5ba5); 
+			case 0x213a73:  return((char)0x5ba3); 
+			case 0x213a74:  return((char)0x5ba6); 
+			case 0x213a75:  return((char)0x5ba4); 
+			case 0x213a76:  return((char)0x5ba2); 
+			case 0x213a77:  return((char)0x5bb0); 
+			case 0x213a78:  return((char)0x5bb8); 
+			case 0x213a7a:  return((char)0x5bb5); 
+			case 0x213a7b:  return((char)0x5bb4); 
+			case 0x213a7c:  return((char)0x5bae); 
+			case 0x213a7d:  return((char)0x5bb9); 
+			case 0x213a7e:  return((char)0x5bb3); 
+			case 0x213b21:  return((char)0x5bc6); 
+			case 0x213b22:  return((char)0x5bc7); 
+			case 0x213b23:  return((char)0x5bc5); 
+			case 0x213b24:  return((char)0x5bc4); 
+			case 0x213b25:  return((char)0x5bc2); 
+			case 0x213b26:  return((char)0x5bbf); 
+			case 0x213b27:  return((char)0x5bcc); 
+			case 0x213b28:  return((char)0x5bd2); 
+			case 0x213b29:  return((char)0x5bd0); 
+			case 0x213b2a:  return((char)0x5bd3); 
+			case 0x213b2b:  return((char)0x5be1); 
+			case 0x213b2c:  return((char)0x5be5); 
+			case 0x213b2d:  return((char)0x5be8); 
+			case 0x213b2e:  return((char)0x5be2); 
+			case 0x213b2f:  return((char)0x5be4); 
+			case 0x213b30:  return((char)0x5bde); 
+			case 0x213b31:  return((char)0x5be6); 
+			case 0x213b32:  return((char)0x5be7); 
+			case 0x213b33:  return((char)0x5bdf); 
+			case 0x213b34:  return((char)0x5bee); 
+			case 0x213b35:  return((char)0x5bec); 
+			case 0x213b36:  return((char)0x5be9); 
+			case 0x213b37:  return((char)0x5beb); 
+			case 0x213b38:  return((char)0x5bf5); 
+			case 0x213b39:  return((char)0x5bf6); 
+			case 0x213b3a:  return((char)0x5bf8); 
+			case 0x213b3b:  return((char)0x5bfa); 
+			case 0x213b3c:  return((char)0x5c01); 
+			case 0x213b3d:  return((char)0x5c04); 
+			case 0x213b3e:  return((char)0x5c09); 
+			case 0x213b3f:  return((char)0x5c08); 
+			case 0x213b40:  return((char)0x5c07); 
+			case 0x213b41:  return((char)0x5c0a); 
+			case 0x213b42:  return((char)0x5c0b); 
+			case 0x213b43:  return((char)0x5c0d); 
+			case 0x213b44:  return((char)0x5c0e); 
+			case 0x213b45:  return((char)0x5c0f); 
+			case 0x213b46:  return((char)0x5c11); 
+			case 0x213b47:  return((char)0x5c16); 
+			case 0x213b48:  return((char)0x5c1a); 
+			case 0x213b49:  return((char)0x5c24); 
+			case 0x213b4a:  return((char)0x5c2c); 
+			case 0x213b4b:  return((char)0x5c31); 
+			case 0x213b4c:  return((char)0x5c37); 
+			case 0x213b4d:  return((char)0x5c38); 
+			case 0x213b4e:  return((char)0x5c3a); 
+			case 0x213b4f:  return((char)0x5c3c); 
+			case 0x213b50:  return((char)0x5c40); 
+			case 0x213b51:  return((char)0x5c41); 
+			case 0x213b52:  return((char)0x5c3f); 
+			case 0x213b53:  return((char)0x5c3e); 
+			case 0x213b54:  return((char)0x5c46); 
+			case 0x213b55:  return((char)0x5c45); 
+			case 0x213b56:  return((char)0x5c48); 
+			case 0x213b57:  return((char)0x5c4e); 
+			case 0x213b58:  return((char)0x5c4b); 
+			case 0x213b59:  return((char)0x5c4d); 
+			case 0x213b5a:  return((char)0x5c55); 
+			case 0x213b5b:  return((char)0x5c51); 
+			case 0x213b5c:  return((char)0x5c50); 
+			case 0x213b5d:  return((char)0x5c5b); 
+			case 0x213b5e:  return((char)0x5c60); 
+			case 0x213b5f:  return((char)0x5c5c); 
+			case 0x213b60:  return((char)0x5c62); 
+			case 0x213b61:  return((char)0x5c64); 
+			case 0x213b62:  return((char)0x5c65); 
+			case 0x213b63:  return((char)0x5c6c); 
+			case 0x213b64:  return((char)0x5c6f); 
+			case 0x213b65:  return((char)0x5c71); 
+			case 0x213b66:  return((char)0x5c79); 
+			case 0x213b67:  return((char)0x5c90); 
+			case 0x213b68:  return((char)0x5c8c); 
+			case 0x213b69:  return((char)0x5c91); 
+			case 0x213b6a:  return((char)0x5c94); 
+			case 0x213b6b:  return((char)0x5cb7); 
+			case 0x213b6c:  return((char)0x5cb8); 
+			case 0x213b6e:  return((char)0x5ca1); 
+			case 0x213b6f:  return((char)0x5cab); 
+			case 0x213b71:  return((char)0x5cb1); 
+			case 0x213b72:  return((char)0x5cd9); 
+			case 0x213b73:  return((char)0x5d01); 
+			case 0x213b74:  return((char)0x5cfd); 
+			case 0x213b75:  return((char)0x5ced); 
+			case 0x213b76:  return((char)0x5cfb); 
+			case 0x213b77:  return((char)0x5ce8); 
+			case 0x213b78:  return((char)0x5cf0); 
+			case 0x213b79:  return((char)0x5cf6); 
+			case 0x213b7a:  return((char)0x5cea); 
+			case 0x213b7b:  return((char)0x5d07); 
+			case 0x213b7c:  return((char)0x5d06); 
+			case 0x213b7d:  return((char)0x5d1b); 
+			case 0x213b7e:  return((char)0x5d16); 
+			case 0x213c21:  return((char)0x5d0e); 
+			case 0x213c22:  return((char)0x5d11); 
+			case 0x213c23:  return((char)0x5d22); 
+			case 0x213c24:  return((char)0x5d29); 
+			case 0x213c25:  return((char)0x5d14); 
+			case 0x213c26:  return((char)0x5d19); 
+			case 0x213c27:  return((char)0x5d4c); 
+			case 0x213c28:  return((char)0x5d50); 
+			case 0x213c29:  return((char)0x5d69); 
+			case 0x213c2a:  return((char)0x5d84); 
+			case 0x213c2b:  return((char)0x5d87); 
+			case 0x213c2c:  return((char)0x5d9d); 
+			case 0x213c2d:  return((char)0x5dbc); 
+			case 0x213c2e:  return((char)0x5dbd); 
+			case 0x213c2f:  return((char)0x5dba); 
+			case 0x213c30:  return((char)0x5dcd); 
+			case 0x213c31:  return((char)0x5dd2); 
+			case 0x213c32:  return((char)0x5dd4); 
+			case 0x213c33:  return((char)0x5dd6); 
+			case 0x213c34:  return((char)0x5ddd); 
+			case 0x213c35:  return((char)0x5dde); 
+			case 0x213c36:  return((char)0x5de2); 
+			case 0x213c37:  return((char)0x5de5); 
+			case 0x213c38:  return((char)0x5de8); 
+			case 0x213c39:  return((char)0x5de7); 
+			case 0x213c3a:  return((char)0x5de6); 
+			case 0x213c3b:  return((char)0x5deb); 
+			case 0x213c3c:  return((char)0x5dee); 
+			case 0x213c3d:  return((char)0x5df1); 
+			case 0x213c3e:  return((char)0x5df2); 
+			case 0x213c3f:  return((char)0x5df3); 
+			case 0x213c40:  return((char)0x5df4); 
+			case 0x213c41:  return((char)0x5df7); 
+			case 0x213c42:  return((char)0x5dfd); 
+			case 0x213c43:  return((char)0x5dfe); 
+			case 0x213c44:  return((char)0x5e02); 
+			case 0x213c46:  return((char)0x5e06); 
+			case 0x213c49:  return((char)0x5e1a); 
+			case 0x213c4a:  return((char)0x5e16); 
+			case 0x213c4b:  return((char)0x5e15); 
+			case 0x213c4c:  return((char)0x5e1b); 
+			case 0x213c4d:  return((char)0x5e11); 
+			case 0x213c4e:  return((char)0x5e1d); 
+			case 0x213c4f:  return((char)0x5e25); 
+			case 0x213c51:  return((char)0x5e2b); 
+			case 0x213c52:  return((char)0x5e33); 
+			case 0x213c53:  return((char)0x5e36); 
+			case 0x213c54:  return((char)0x5e38); 
+			case 0x213c55:  return((char)0x5e37); 
+			case 0x213c56:  return((char)0x5e45); 
+			case 0x213c57:  return((char)0x5e3d); 
+			case 0x213c58:  return((char)0x5e40); 
+			case 0x213c59:  return((char)0x5e4c); 
+			case 0x213c5a:  return((char)0x5e5b); 
+			case 0x213c5b:  return((char)0x5e54); 
+			case 0x213c5c:  return((char)0x5e57); 
+			case 0x213c5d:  return((char)0x5e55); 
+			case 0x213c5e:  return((char)0x5e63); 
+			case 0x213c5f:  return((char)0x5e62); 
+			case 0x213c60:  return((char)0x5e5f); 
+			case 0x213c61:  return((char)0x5e6b); 
+			case 0x213c63:  return((char)0x5e73); 
+			case 0x213c65:  return((char)0x5e74); 
+			case 0x213c68:  return((char)0x5e7b); 
+			case 0x213c69:  return((char)0x5e7c); 
+			case 0x213c6a:  return((char)0x5e7d); 
+			case 0x213c6b:  return((char)0x5e7e); 
+			case 0x213c6c:  return((char)0x5e8f); 
+			case 0x213c6d:  return((char)0x5e87); 
+			case 0x213c6e:  return((char)0x5e8a); 
+			case 0x213c6f:  return((char)0x5e9a); 
+			case 0x213c70:  return((char)0x5e97); 
+			case 0x213c71:  return((char)0x5e96); 
+			case 0x213c72:  return((char)0x5e9c); 
+			case 0x213c73:  return((char)0x5e95); 
+			case 0x213c74:  return((char)0x5ea0); 
+			case 0x213c75:  return((char)0x5ea6); 
+			case 0x213c76:  return((char)0x5eab); 
+			case 0x213c77:  return((char)0x5ea7); 
+			case 0x213c78:  return((char)0x5ead); 
+			case 0x213c79:  return((char)0x5eb7); 
+			case 0x213c7a:  return((char)0x5eb8); 
+			case 0x213c7b:  return((char)0x5eb6); 
+			case 0x213c7c:  return((char)0x5eb5); 
+			case 0x213c7d:  return((char)0x5ec2); 
+			case 0x213c7e:  return((char)0x5ec1); 
+			case 0x213d21:  return((char)0x5ebe); 
+			case 0x213d22:  return((char)0x5eca); 
+			case 0x213d23:  return((char)0x5ec9); 
+			case 0x213d24:  return((char)0x5ec8); 
+			case 0x213d25:  return((char)0x5ed3); 
+			case 0x213d26:  return((char)0x5ed6); 
+			case 0x213d27:  return((char)0x5ee2); 
+			case 0x213d28:  return((char)0x5eda); 
+			case 0x213d29:  return((char)0x5edd); 
+			case 0x213d2a:  return((char)0x5ee3); 
+			case 0x213d2b:  return((char)0x5edf); 
+			case 0x213d2c:  return((char)0x5ee0); 
+			case 0x213d2d:  return((char)0x9f90); 
+			case 0x213d2e:  return((char)0x5eec); 
+			case 0x213d2f:  return((char)0x5ef3); 
+			case 0x213d30:  return((char)0x5ef7); 
+			case 0x213d32:  return((char)0x5ef6); 
+			case 0x213d33:  return((char)0x5efa); 
+			case 0x213d34:  return((char)0x5eff); 
+			case 0x213d36:  return((char)0x5f04); 
+			case 0x213d37:  return((char)0x5f08); 
+			case 0x213d38:  return((char)0x5f0a); 
+			case 0x213d39:  return((char)0x5f0f); 
+			case 0x213d3a:  return((char)0x5f12); 
+			case 0x213d3b:  return((char)0x5f13); 
+			case 0x213d3c:  return((char)0x5f15); 
+			case 0x213d3d:  return((char)0x5f14); 
+			case 0x213d3e:  return((char)0x5f18); 
+			case 0x213d3f:  return((char)0x5f17); 
+			case 0x213d40:  return((char)0x5f1b); 
+			case 0x213d41:  return((char)0x5f1f); 
+			case 0x213d42:  return((char)0x5f26); 
+			case 0x213d43:  return((char)0x5f27); 
+			case 0x213d44:  return((char)0x5f29); 
+			case 0x213d45:  return((char)0x5f2d); 
+			case 0x213d46:  return((char)0x5f31); 
+			case 0x213d47:  return((char)0x5f35); 
+			case 0x213d48:  return((char)0x5f37); 
+			case 0x213d49:  return((char)0x5f3c); 
+			case 0x213d4a:  return((char)0x5f46); 
+			case 0x213d4b:  return((char)0x5f48); 
+			case 0x213d4c:  return((char)0x5f4c); 
+			case 0x213d4d:  return((char)0x5f4e); 
+			case 0x213d4e:  return((char)0x5f57); 
+			case 0x213d4f:  return((char)0x5f59); 
+			case 0x213d50:  return((char)0x5f5d); 
+			case 0x213d51:  return((char)0x5f62); 
+			case 0x213d52:  return((char)0x5f64); 
+			case 0x213d53:  return((char)0x5f65); 
+			case 0x213d54:  return((char)0x5f6c); 
+			case 0x213d55:  return((char)0x5f69); 
+			case 0x213d57:  return((char)0x5f6d); 
+			case 0x213d58:  return((char)0x5f70); 
+			case 0x213d59:  return((char)0x5f71); 
+			case 0x213d5b:  return((char)0x5f79); 
+			case 0x213d5c:  return((char)0x5f80); 
+			case 0x213d5e:  return((char)0x5f7f); 
+			case 0x213d5f:  return((char)0x5f7c); 
+			case 0x213d60:  return((char)0x5f85); 
+			case 0x213d61:  return((char)0x5f88); 
+			case 0x213d62:  return((char)0x5f8b); 
+			case 0x213d63:  return((char)0x5f8a); 
+			case 0x213d64:  return((char)0x5f87); 
+			case 0x213d65:  return((char)0x5f8c); 
+			case 0x213d66:  return((char)0x5f92); 
+			case 0x213d67:  return((char)0x5f91); 
+			case 0x213d68:  return((char)0x5f90); 
+			case 0x213d69:  return((char)0x5f98); 
+			case 0x213d6a:  return((char)0x5f97); 
+			case 0x213d6b:  return((char)0x5f99); 
+			case 0x213d6c:  return((char)0x5f9e); 
+			case 0x213d6f:  return((char)0x5fa9); 
+			case 0x213d71:  return((char)0x5faa); 
+			case 0x213d72:  return((char)0x5fac); 
+			case 0x213d73:  return((char)0x5fae); 
+			case 0x213d74:  return((char)0x5fb9); 
+			case 0x213d75:  return((char)0x5fb7); 
+			case 0x213d76:  return((char)0x5fb5); 
+			case 0x213d77:  return((char)0x5fbd); 
+			case 0x213d78:  return((char)0x5fc3); 
+			case 0x213d79:  return((char)0x5fc5); 
+			case 0x213d7a:  return((char)0x5fd9); 
+			case 0x213d7b:  return((char)0x5fd8); 
+			case 0x213d7c:  return((char)0x5fcc); 
+			case 0x213d7d:  return((char)0x5fd6); 
+			case 0x213e21:  return((char)0x5fcd); 
+			case 0x213e22:  return((char)0x5feb); 
+			case 0x213e23:  return((char)0x5fe0); 
+			case 0x213e24:  return((char)0x5ff1); 
+			case 0x213e25:  return((char)0x5ffd); 
+			case 0x213e26:  return((char)0x5fdd); 
+			case 0x213e27:  return((char)0x5ff5); 
+			case 0x213e28:  return((char)0x5fff); 
+			case 0x213e29:  return((char)0x6014); 
+			case 0x213e2a:  return((char)0x6035); 
+			case 0x213e2b:  return((char)0x602a); 
+			case 0x213e2c:  return((char)0x602f); 
+			case 0x213e2d:  return((char)0x6016); 
+			case 0x213e2e:  return((char)0x601d); 
+			case 0x213e2f:  return((char)0x600f); 
+			case 0x213e30:  return((char)0x6021); 
+			case 0x213e31:  return((char)0x6020); 
+			case 0x213e32:  return((char)0x6028); 
+			case 0x213e33:  return((char)0x6025); 
+			case 0x213e34:  return((char)0x6027); 
+			case 0x213e35:  return((char)0x600e); 
+			case 0x213e36:  return((char)0x6015); 
+			case 0x213e37:  return((char)0x6012); 
+			case 0x213e38:  return((char)0x6059); 
+			case 0x213e39:  return((char)0x6063); 
+			case 0x213e3a:  return((char)0x6068); 
+			case 0x213e3b:  return((char)0x6043); 
+			case 0x213e3c:  return((char)0x6065); 
+			case 0x213e3d:  return((char)0x6050); 
+			case 0x213e3e:  return((char)0x606d); 
+			case 0x213e3f:  return((char)0x6062); 
+			case 0x213e40:  return((char)0x6046); 
+			case 0x213e41:  return((char)0x604d); 
+			case 0x213e42:  return((char)0x606b); 
+			case 0x213e43:  return((char)0x6069); 
+			case 0x213e44:  return((char)0x606c); 
+			case 0x213e45:  return((char)0x606f); 
+			case 0x213e46:  return((char)0x606a); 
+			case 0x213e47:  return((char)0x6064); 
+			case 0x213e48:  return((char)0x6070); 
+			case 0x213e49:  return((char)0x6055); 
+			case 0x213e4a:  return((char)0x608c); 
+			case 0x213e4b:  return((char)0x60a6); 
+			case 0x213e4c:  return((char)0x607f); 
+			case 0x213e4d:  return((char)0x609f); 
+			case 0x213e4e:  return((char)0x609a); 
+			case 0x213e4f:  return((char)0x6096); 
+			case 0x213e50:  return((char)0x6084); 
+			case 0x213e51:  return((char)0x608d); 
+			case 0x213e52:  return((char)0x60a3); 
+			case 0x213e53:  return((char)0x6089); 
+			case 0x213e54:  return((char)0x6094); 
+			case 0x213e55:  return((char)0x60a0); 
+			case 0x213e56:  return((char)0x60a8); 
+			case 0x213e57:  return((char)0x60b4); 
+			case 0x213e58:  return((char)0x60e6); 
+			case 0x213e59:  return((char)0x60cb); 
+			case 0x213e5b:  return((char)0x60c5); 
+			case 0x213e5c:  return((char)0x60b6); 
+			case 0x213e5d:  return((char)0x60d1); 
+			case 0x213e5e:  return((char)0x60b5); 
+			case 0x213e5f:  return((char)0x60bb); 
+			case 0x213e60:  return((char)0x60e0); 
+			case 0x213e61:  return((char)0x60e1); 
+			case 0x213e62:  return((char)0x60dc); 
+			case 0x213e63:  return((char)0x60d8); 
+			case 0x213e64:  return((char)0x60d5); 
+			case 0x213e65:  return((char)0x60bc); 
+			case 0x213e66:  return((char)0x60b2); 
+			case 0x213e67:  return((char)0x60c6); 
+			case 0x213e68:  return((char)0x60b8); 
+			case 0x213e69:  return((char)0x60da); 
+			case 0x213e6a:  return((char)0x60df); 
+			case 0x213e6b:  return((char)0x610f); 
+			case 0x213e6c:  return((char)0x611c); 
+			case 0x213e6d:  return((char)0x60f3); 
+			case 0x213e6e:  return((char)0x611f); 
+			case 0x213e6f:  return((char)0x60f0); 
+			case 0x213e70:  return((char)0x60fb); 
+			case 0x213e71:  return((char)0x60fa); 
+			case 0x213e72:  return((char)0x611a); 
+			case 0x213e73:  return((char)0x6115); 
+			case 0x213e74:  return((char)0x60f9); 
+			case 0x213e75:  return((char)0x6123); 
+			case 0x213e76:  return((char)0x60f4); 
+			case 0x213e77:  return((char)0x611b); 
+			case 0x213e78:  return((char)0x610e); 
+			case 0x213e79:  return((char)0x6100); 
+			case 0x213e7a:  return((char)0x6101); 
+			case 0x213e7b:  return((char)0x60f6); 
+			case 0x213e7c:  return((char)0x6109); 
+			case 0x213e7d:  return((char)0x6108); 
+			case 0x213e7e:  return((char)0x60f1); 
+			case 0x213f21:  return((char)0x6148); 
+			case 0x213f22:  return((char)0x6168); 
+			case 0x213f24:  return((char)0x613c); 
+			case 0x213f26:  return((char)0x614c); 
+			case 0x213f27:  return((char)0x614d); 
+			case 0x213f28:  return((char)0x614b); 
+			case 0x213f29:  return((char)0x613e); 
+			case 0x213f2a:  return((char)0x6127); 
+			case 0x213f2b:  return((char)0x6134); 
+			case 0x213f2c:  return((char)0x6147); 
+			case 0x213f2d:  return((char)0x6177); 
+			case 0x213f2e:  return((char)0x6176); 
+			case 0x213f2f:  return((char)0x6167); 
+			case 0x213f30:  return((char)0x6170); 
+			case 0x213f31:  return((char)0x615a); 
+			case 0x213f32:  return((char)0x615d); 
+			case 0x213f33:  return((char)0x6182); 
+			case 0x213f34:  return((char)0x617c); 
+			case 0x213f35:  return((char)0x6162); 
+			case 0x213f36:  return((char)0x616e); 
+			case 0x213f37:  return((char)0x6155); 
+			case 0x213f38:  return((char)0x6158); 
+			case 0x213f39:  return((char)0x6163); 
+			case 0x213f3a:  return((char)0x615f); 
+			case 0x213f3b:  return((char)0x616b); 
+			case 0x213f3c:  return((char)0x617e); 
+			case 0x213f3d:  return((char)0x61a7); 
+			case 0x213f3e:  return((char)0x61b2); 
+			case 0x213f3f:  return((char)0x6191); 
+			case 0x213f40:  return((char)0x618e); 
+			case 0x213f41:  return((char)0x61ab); 
+			case 0x213f42:  return((char)0x61a4); 
+			case 0x213f43:  return((char)0x61ac); 
+			case 0x213f44:  return((char)0x619a); 
+			case 0x213f45:  return((char)0x61a9); 
+			case 0x213f46:  return((char)0x6194); 
+			case 0x213f47:  return((char)0x618a); 
+			case 0x213f48:  return((char)0x61b6); 
+			case 0x213f49:  return((char)0x61cd); 
+			case 0x213f4a:  return((char)0x61c9); 
+			case 0x213f4b:  return((char)0x6190); 
+			case 0x213f4c:  return((char)0x61be); 
+			case 0x213f4d:  return((char)0x61c2); 
+			case 0x213f4e:  return((char)0x61c7); 
+			case 0x213f4f:  return((char)0x61c8); 
+			case 0x213f50:  return((char)0x61ca); 
+			case 0x213f51:  return((char)0x61e3); 
+			case 0x213f52:  return((char)0x61e6); 
+			case 0x213f53:  return((char)0x61f2); 
+			case 0x213f54:  return((char)0x61f7); 
+			case 0x213f55:  return((char)0x61f6); 
+			case 0x213f56:  return((char)0x61f8); 
+			case 0x213f57:  return((char)0x61f5); 
+			case 0x213f58:  return((char)0x61fa); 
+			case 0x213f59:  return((char)0x61fe); 
+			case 0x213f5a:  return((char)0x61ff); 
+			case 0x213f5b:  return((char)0x61fc); 
+			case 0x213f5c:  return((char)0x6200); 
+			case 0x213f5d:  return((char)0x6208); 
+			case 0x213f5e:  return((char)0x620a); 
+			case 0x213f5f:  return((char)0x620e); 
+			case 0x213f60:  return((char)0x620d); 
+			case 0x213f61:  return((char)0x620c); 
+			case 0x213f62:  return((char)0x6210); 
+			case 0x213f63:  return((char)0x6212); 
+			case 0x213f64:  return((char)0x6211); 
+			case 0x213f65:  return((char)0x6216); 
+			case 0x213f66:  return((char)0x6215); 
+			case 0x213f67:  return((char)0x621b); 
+			case 0x213f68:  return((char)0x621a); 
+			case 0x213f69:  return((char)0x621f); 
+			case 0x213f6a:  return((char)0x6221); 
+			case 0x213f6b:  return((char)0x6222); 
+			case 0x213f6c:  return((char)0x622a); 
+			case 0x213f6d:  return((char)0x622e); 
+			case 0x213f6e:  return((char)0x6230); 
+			case 0x213f6f:  return((char)0x6232); 
+			case 0x213f70:  return((char)0x6234); 
+			case 0x213f71:  return((char)0x6233); 
+			case 0x213f72:  return((char)0x6236); 
+			case 0x213f73:  return((char)0x623f); 
+			case 0x213f74:  return((char)0x623e); 
+			case 0x213f75:  return((char)0x6240); 
+			case 0x213f76:  return((char)0x6241); 
+			case 0x213f78:  return((char)0x6248); 
+			case 0x213f79:  return((char)0x6249); 
+			case 0x213f7a:  return((char)0x624b); 
+			case 0x213f7d:  return((char)0x6253); 
+			case 0x213f7e:  return((char)0x6254); 
+			case 0x214021:  return((char)0x6252); 
+			case 0x214022:  return((char)0x625b); 
+			case 0x214023:  return((char)0x6263); 
+			case 0x214024:  return((char)0x6258); 
+			case 0x214025:  return((char)0x6296); 
+			case 0x214026:  return((char)0x6297); 
+			case 0x214027:  return((char)0x6292); 
+			case 0x214028:  return((char)0x6276); 
+			case 0x214029:  return((char)0x6289); 
+			case 0x21402a:  return((char)0x627f); 
+			case 0x21402b:  return((char)0x6279); 
+			case 0x21402c:  return((char)0x6280); 
+			case 0x21402d:  return((char)0x628a); 
+			case 0x21402e:  return((char)0x626d); 
+			case 0x21402f:  return((char)0x627c); 
+			case 0x214030:  return((char)0x627e); 
+			case 0x214031:  return((char)0x626f); 
+			case 0x214032:  return((char)0x6284); 
+			case 0x214033:  return((char)0x6295); 
+			case 0x214034:  return((char)0x6291); 
+			case 0x214035:  return((char)0x6298); 
+			case 0x214036:  return((char)0x626e); 
+			case 0x214037:  return((char)0x6273); 
+			case 0x214038:  return((char)0x6293); 
+			case 0x214039:  return((char)0x62c9); 
+			case 0x21403a:  return((char)0x62c4); 
+			case 0x21403b:  return((char)0x62cc); 
+			case 0x21403c:  return((char)0x62a8); 
+			case 0x21403d:  return((char)0x62dc); 
+			case 0x21403e:  return((char)0x62bf); 
+			case 0x21403f:  return((char)0x62c2); 
+			case 0x214040:  return((char)0x62b9); 
+			case 0x214041:  return((char)0x62d2); 
+			case 0x214042:  return((char)0x62d3); 
+			case 0x214043:  return((char)0x62db); 
+			case 0x214044:  return((char)0x62ab); 
+			case 0x214045:  return((char)0x62cb); 
+			case 0x214046:  return((char)0x62d4); 
+			case 0x214047:  return((char)0x62bd); 
+			case 0x214048:  return((char)0x62bc); 
+			case 0x214049:  return((char)0x62d0); 
+			case 0x21404a:  return((char)0x62c8); 
+			case 0x21404b:  return((char)0x62d9); 
+			case 0x21404c:  return((char)0x62da); 
+			case 0x21404d:  return((char)0x62ac); 
+			case 0x21404e:  return((char)0x62c7); 
+			case 0x21404f:  return((char)0x62b1); 
+			case 0x214050:  return((char)0x62d6); 
+			case 0x214051:  return((char)0x62d8); 
+			case 0x214052:  return((char)0x62cd); 
+			case 0x214053:  return((char)0x62b5); 
+			case 0x214054:  return((char)0x62ce); 
+			case 0x214055:  return((char)0x62d7); 
+			case 0x214056:  return((char)0x62c6); 
+			case 0x214057:  return((char)0x6309); 
+			case 0x214058:  return((char)0x6316); 
+			case 0x214059:  return((char)0x62fc); 
+			case 0x21405a:  return((char)0x62f3); 
+			case 0x21405b:  return((char)0x6308); 
+			case 0x21405c:  return((char)0x62ed); 
+			case 0x21405d:  return((char)0x6301); 
+			case 0x21405e:  return((char)0x62ee); 
+			case 0x21405f:  return((char)0x62ef); 
+			case 0x214060:  return((char)0x62f7); 
+			case 0x214061:  return((char)0x6307); 
+			case 0x214062:  return((char)0x62f1); 
+			case 0x214063:  return((char)0x62fd); 
+			case 0x214064:  return((char)0x6311); 
+			case 0x214065:  return((char)0x62ec); 
+			case 0x214066:  return((char)0x62f4); 
+			case 0x214067:  return((char)0x62ff); 
+			case 0x214069:  return((char)0x6342); 
+			case 0x21406a:  return((char)0x632a); 
+			case 0x21406b:  return((char)0x6355); 
+			case 0x21406c:  return((char)0x633e); 
+			case 0x21406d:  return((char)0x632f); 
+			case 0x21406e:  return((char)0x634e); 
+			case 0x21406f:  return((char)0x634f); 
+			case 0x214070:  return((char)0x6350); 
+			case 0x214071:  return((char)0x6349); 
+			case 0x214073:  return((char)0x632b); 
+			case 0x214074:  return((char)0x6328); 
+			case 0x214075:  return((char)0x633a); 
+			case 0x214076:  return((char)0x63a5); 
+			case 0x214077:  return((char)0x6369); 
+			case 0x214078:  return((char)0x63a0); 
+			case 0x214079:  return((char)0x6396); 
+			case 0x21407a:  return((char)0x63a7); 
+			case 0x21407b:  return((char)0x6372); 
+			case 0x21407c:  return((char)0x6377); 
+			case 0x21407d:  return((char)0x6383); 
+			case 0x21407e:  return((char)0x636b); 
+			case 0x214121:  return((char)0x6367); 
+			case 0x214122:  return((char)0x6398); 
+			case 0x214123:  return((char)0x639b); 
+			case 0x214124:  return((char)0x63aa); 
+			case 0x214125:  return((char)0x6371); 
+			case 0x214126:  return((char)0x63a9); 
+			case 0x214127:  return((char)0x638c); 
+			case 0x214128:  return((char)0x6389); 
+			case 0x214129:  return((char)0x63a2); 
+			case 0x21412a:  return((char)0x6399); 
+			case 0x21412b:  return((char)0x63a1); 
+			case 0x21412c:  return((char)0x6388); 
+			case 0x21412d:  return((char)0x63ac); 
+			case 0x21412e:  return((char)0x633d); 
+			case 0x21412f:  return((char)0x6392); 
+			case 0x214130:  return((char)0x63a3); 
+			case 0x214131:  return((char)0x6376); 
+			case 0x214132:  return((char)0x638f); 
+			case 0x214133:  return((char)0x63a8); 
+			case 0x214134:  return((char)0x637b); 
+			case 0x214135:  return((char)0x6368); 
+			case 0x214136:  return((char)0x6384); 
+			case 0x214137:  return((char)0x6380); 
+			case 0x214138:  return((char)0x63c6); 
+			case 0x214139:  return((char)0x63c9); 
+			case 0x21413a:  return((char)0x63cd); 
+			case 0x21413b:  return((char)0x63e1); 
+			case 0x21413c:  return((char)0x63c0); 
+			case 0x21413d:  return((char)0x63e9); 
+			case 0x21413e:  return((char)0x63d0); 
+			case 0x21413f:  return((char)0x63da); 
+			case 0x214140:  return((char)0x63d6); 
+			case 0x214141:  return((char)0x63ed); 
+			case 0x214142:  return((char)0x63ee); 
+			case 0x214143:  return((char)0x63cf); 
+			case 0x214144:  return((char)0x63e3); 
+			case 0x214145:  return((char)0x63f4); 
+			case 0x214146:  return((char)0x63db); 
+			case 0x214147:  return((char)0x63d2); 
+			case 0x214148:  return((char)0x63ea); 
+			case 0x214149:  return((char)0x641e); 
+			case 0x21414a:  return((char)0x642a); 
+			case 0x21414b:  return((char)0x643e); 
+			case 0x21414c:  return((char)0x6413); 
+			case 0x21414d:  return((char)0x640f); 
+			case 0x21414e:  return((char)0x6414); 
+			case 0x21414f:  return((char)0x640d); 
+			case 0x214150:  return((char)0x642d); 
+			case 0x214151:  return((char)0x643d); 
+			case 0x214152:  return((char)0x6416); 
+			case 0x214153:  return((char)0x6417); 
+			case 0x214154:  return((char)0x641c); 
+			case 0x214155:  return((char)0x6436); 
+			case 0x214156:  return((char)0x642c); 
+			case 0x214157:  return((char)0x6458); 
+			case 0x214158:  return((char)0x6469); 
+			case 0x214159:  return((char)0x6454); 
+			case 0x21415a:  return((char)0x6452); 
+			case 0x21415b:  return((char)0x646f); 
+			case 0x21415c:  return((char)0x6478); 
+			case 0x21415d:  return((char)0x6479); 
+			case 0x21415e:  return((char)0x647a); 
+			case 0x21415f:  return((char)0x645f); 
+			case 0x214160:  return((char)0x6451); 
+			case 0x214161:  return((char)0x6467); 
+			case 0x214162:  return((char)0x649e); 
+			case 0x214163:  return((char)0x64a4); 
+			case 0x214164:  return((char)0x6487); 
+			case 0x214165:  return((char)0x6488); 
+			case 0x214166:  return((char)0x64a5); 
+			case 0x214167:  return((char)0x64b0); 
+			case 0x214168:  return((char)0x6493); 
+			case 0x214169:  return((char)0x6495); 
+			case 0x21416a:  return((char)0x6492); 
+			case 0x21416b:  return((char)0x64a9); 
+			case 0x21416c:  return((char)0x6491); 
+			case 0x21416d:  return((char)0x64ae); 
+			case 0x21416e:  return((char)0x64b2); 
+			case 0x21416f:  return((char)0x64ad); 
+			case 0x214170:  return((char)0x649a); 
+			case 0x214171:  return((char)0x64ab); 
+			case 0x214172:  return((char)0x64ac); 
+			case 0x214173:  return((char)0x64c5); 
+			case 0x214174:  return((char)0x64c1); 
+			case 0x214175:  return((char)0x64d8); 
+			case 0x214176:  return((char)0x64ca); 
+			case 0x214177:  return((char)0x64bb); 
+			case 0x214178:  return((char)0x64c2); 
+			case 0x214179:  return((char)0x64bc); 
+			case 0x21417a:  return((char)0x64cb); 
+			case 0x21417b:  return((char)0x64cd); 
+			case 0x21417c:  return((char)0x64da); 
+			case 0x21417d:  return((char)0x64c4); 
+			case 0x21417e:  return((char)0x64c7); 
+			case 0x214221:  return((char)0x64ce); 
+			case 0x214222:  return((char)0x64d4); 
+			case 0x214223:  return((char)0x64d2); 
+			case 0x214224:  return((char)0x64bf); 
+			case 0x214225:  return((char)0x64e0); 
+			case 0x214226:  return((char)0x64f0); 
+			case 0x214227:  return((char)0x64e6); 
+			case 0x214228:  return((char)0x64ec); 
+			case 0x214229:  return((char)0x64f1); 
+			case 0x21422a:  return((char)0x64f4); 
+			case 0x21422b:  return((char)0x64f2); 
+			case 0x21422c:  return((char)0x6506); 
+			case 0x21422d:  return((char)0x6500); 
+			case 0x21422e:  return((char)0x64fe); 
+			case 0x21422f:  return((char)0x64fb); 
+			case 0x214230:  return((char)0x64fa); 
+			case 0x214231:  return((char)0x650f); 
+			case 0x214232:  return((char)0x6518); 
+			case 0x214233:  return((char)0x6514); 
+			case 0x214234:  return((char)0x6519); 
+			case 0x214235:  return((char)0x651d); 
+			case 0x214236:  return((char)0x651c); 
+			case 0x214237:  return((char)0x6523); 
+			case 0x214238:  return((char)0x6524); 
+			case 0x214239:  return((char)0x652b); 
+			case 0x21423a:  return((char)0x652a); 
+			case 0x21423b:  return((char)0x652c); 
+			case 0x21423c:  return((char)0x652f); 
+			case 0x21423d:  return((char)0x6536); 
+			case 0x21423e:  return((char)0x6539); 
+			case 0x21423f:  return((char)0x653b); 
+			case 0x214240:  return((char)0x653e); 
+			case 0x214241:  return((char)0x653f); 
+			case 0x214242:  return((char)0x6545); 
+			case 0x214243:  return((char)0x6548); 
+			case 0x214244:  return((char)0x654e); 
+			case 0x214245:  return((char)0x6556); 
+			case 0x214246:  return((char)0x6551); 
+			case 0x214247:  return((char)0x6557); 
+			case 0x214248:  return((char)0x655d); 
+			case 0x214249:  return((char)0x6558); 
+			case 0x21424a:  return((char)0x654f); 
+			case 0x21424b:  return((char)0x6566); 
+			case 0x21424c:  return((char)0x6562); 
+			case 0x21424d:  return((char)0x6563); 
+			case 0x21424e:  return((char)0x655e); 
+			case 0x21424f:  return((char)0x5553); 
+			case 0x214250:  return((char)0x656c); 
+			case 0x214251:  return((char)0x6572); 
+			case 0x214252:  return((char)0x6575); 
+			case 0x214253:  return((char)0x6577); 
+			case 0x214254:  return((char)0x6578); 
+			case 0x214255:  return((char)0x6574); 
+			case 0x214256:  return((char)0x6582); 
+			case 0x214257:  return((char)0x6583); 
+			case 0x214258:  return((char)0x6587); 
+			case 0x214259:  return((char)0x6591); 
+			case 0x21425a:  return((char)0x6590); 
+			case 0x21425c:  return((char)0x6599); 
+			case 0x21425d:  return((char)0x659c); 
+			case 0x21425e:  return((char)0x659f); 
+			case 0x21425f:  return((char)0x65a1); 
+			case 0x214260:  return((char)0x65a4); 
+			case 0x214261:  return((char)0x65a5); 
+			case 0x214262:  return((char)0x65a7); 
+			case 0x214263:  return((char)0x65ac); 
+			case 0x214264:  return((char)0x65af); 
+			case 0x214265:  return((char)0x65b0); 
+			case 0x214266:  return((char)0x65b7); 
+			case 0x214267:  return((char)0x65b9); 
+			case 0x214269:  return((char)0x65bd); 
+			case 0x21426a:  return((char)0x65c1); 
+			case 0x21426b:  return((char)0x65c5); 
+			case 0x21426c:  return((char)0x65ce); 
+			case 0x21426d:  return((char)0x65cb); 
+			case 0x21426e:  return((char)0x65cc); 
+			case 0x21426f:  return((char)0x65cf); 
+			case 0x214270:  return((char)0x65d7); 
+			case 0x214271:  return((char)0x65d6); 
+			case 0x214272:  return((char)0x65e2); 
+			case 0x214273:  return((char)0x65e5); 
+			case 0x214275:  return((char)0x65e9); 
+			case 0x214276:  return((char)0x65ec); 
+			case 0x214277:  return((char)0x65ed); 
+			case 0x214278:  return((char)0x65e8); 
+			case 0x214279:  return((char)0x65f1); 
+			case 0x21427a:  return((char)0x65fa); 
+			case 0x21427b:  return((char)0x6606); 
+			case 0x21427c:  return((char)0x6614); 
+			case 0x21427d:  return((char)0x660c); 
+			case 0x21427e:  return((char)0x6600); 
+			case 0x214321:  return((char)0x660e); 
+			case 0x214322:  return((char)0x6613); 
+			case 0x214323:  return((char)0x6602); 
+			case 0x214324:  return((char)0x660f); 
+			case 0x214325:  return((char)0x6625); 
+			case 0x214326:  return((char)0x6627); 
+			case 0x214327:  return((char)0x662f); 
+			case 0x214328:  return((char)0x662d); 
+			case 0x214329:  return((char)0x6620); 
+			case 0x21432a:  return((char)0x661f); 
+			case 0x21432b:  return((char)0x6628); 
+			case 0x21432c:  return((char)0x664f); 
+			case 0x21432d:  return((char)0x6642); 
+			case 0x21432e:  return((char)0x6652); 
+			case 0x21432f:  return((char)0x6649); 
+			case 0x214330:  return((char)0x6643); 
+			case 0x214331:  return((char)0x664c); 
+			case 0x214332:  return((char)0x665d); 
+			case 0x214333:  return((char)0x6664); 
+			case 0x214334:  return((char)0x6668); 
+			case 0x214335:  return((char)0x6666); 
+			case 0x214336:  return((char)0x665a); 
+			case 0x214337:  return((char)0x666f); 
+			case 0x214338:  return((char)0x666e); 
+			case 0x214339:  return((char)0x6674); 
+			case 0x21433a:  return((char)0x6691); 
+			case 0x21433b:  return((char)0x6670); 
+			case 0x21433c:  return((char)0x6676); 
+			case 0x21433d:  return((char)0x667a); 
+			case 0x21433e:  return((char)0x6697); 
+			case 0x21433f:  return((char)0x6687); 
+			case 0x214340:  return((char)0x6689); 
+			case 0x214341:  return((char)0x6688); 
+			case 0x214342:  return((char)0x6696); 
+			case 0x214343:  return((char)0x66a2); 
+			case 0x214344:  return((char)0x66ab); 
+			case 0x214345:  return((char)0x66b4); 
+			case 0x214346:  return((char)0x66ae); 
+			case 0x214347:  return((char)0x66c1); 
+			case 0x214348:  return((char)0x66c9); 
+			case 0x214349:  return((char)0x66c6); 
+			case 0x21434a:  return((char)0x66b9); 
+			case 0x21434b:  return((char)0x66d6); 
+			case 0x21434c:  return((char)0x66d9); 
+			case 0x21434d:  return((char)0x66e0); 
+			case 0x21434e:  return((char)0x66dd); 
+			case 0x21434f:  return((char)0x66e6); 
+			case 0x214350:  return((char)0x66f0); 
+			case 0x214351:  return((char)0x66f2); 
+			case 0x214352:  return((char)0x66f3); 
+			case 0x214353:  return((char)0x66f4); 
+			case 0x214354:  return((char)0x66f7); 
+			case 0x214355:  return((char)0x66f8); 
+			case 0x214356:  return((char)0x66f9); 
+			case 0x214357:  return((char)0x52d7); 
+			case 0x214358:  return((char)0x66fe); 
+			case 0x214359:  return((char)0x66ff); 
+			case 0x21435a:  return((char)0x6703); 
+			case 0x21435b:  return((char)0x6708); 
+			case 0x21435c:  return((char)0x6709); 
+			case 0x21435d:  return((char)0x670d); 
+			case 0x21435e:  return((char)0x670b); 
+			case 0x21435f:  return((char)0x6717); 
+			case 0x214360:  return((char)0x6715); 
+			case 0x214361:  return((char)0x6714); 
+			case 0x214362:  return((char)0x671b); 
+			case 0x214363:  return((char)0x671d); 
+			case 0x214364:  return((char)0x671f); 
+			case 0x214366:  return((char)0x6727); 
+			case 0x214367:  return((char)0x6728); 
+			case 0x214369:  return((char)0x672c); 
+			case 0x21436a:  return((char)0x672b); 
+			case 0x21436b:  return((char)0x672a); 
+			case 0x21436d:  return((char)0x673d); 
+			case 0x21436f:  return((char)0x6731); 
+			case 0x214370:  return((char)0x6735); 
+			case 0x214371:  return((char)0x675e); 
+			case 0x214372:  return((char)0x6751); 
+			case 0x214373:  return((char)0x674e); 
+			case 0x214374:  return((char)0x675c); 
+			case 0x214375:  return((char)0x6750); 
+			case 0x214376:  return((char)0x6756); 
+			case 0x214377:  return((char)0x675f); 
+			case 0x214378:  return((char)0x674f); 
+			case 0x214379:  return((char)0x6749); 
+			case 0x21437b:  return((char)0x676d); 
+			case 0x21437c:  return((char)0x678b); 
+			case 0x21437d:  return((char)0x6795); 
+			case 0x21437e:  return((char)0x6789); 
+			case 0x214421:  return((char)0x6787); 
+			case 0x214422:  return((char)0x6777); 
+			case 0x214423:  return((char)0x679d); 
+			case 0x214424:  return((char)0x6797); 
+			case 0x214425:  return((char)0x676f); 
+			case 0x214426:  return((char)0x6771); 
+			case 0x214427:  return((char)0x6773); 
+			case 0x214428:  return((char)0x679c); 
+			case 0x214429:  return((char)0x6775); 
+			case 0x21442a:  return((char)0x679a); 
+			case 0x21442b:  return((char)0x6790); 
+			case 0x21442d:  return((char)0x677e); 
+			case 0x21442e:  return((char)0x67d3); 
+			case 0x21442f:  return((char)0x67f1); 
+			case 0x214430:  return((char)0x67ff); 
+			case 0x214431:  return((char)0x67d4); 
+			case 0x214432:  return((char)0x67c4); 
+			case 0x214433:  return((char)0x67af); 
+			case 0x214434:  return((char)0x67d0); 
+			case 0x214435:  return((char)0x67d1); 
+			case 0x214436:  return((char)0x67ef); 
+			case 0x214437:  return((char)0x67e9); 
+			case 0x214438:  return((char)0x67b6); 
+			case 0x214439:  return((char)0x67ec); 
+			case 0x21443a:  return((char)0x67e5); 
+			case 0x21443b:  return((char)0x67fa); 
+			case 0x21443c:  return((char)0x67da); 
+			case 0x21443d:  return((char)0x6805); 
+			case 0x21443e:  return((char)0x67de); 
+			case 0x21443f:  return((char)0x67b8); 
+			case 0x214440:  return((char)0x67cf); 
+			case 0x214441:  return((char)0x67f3); 
+			case 0x214442:  return((char)0x6848); 
+			case 0x214443:  return((char)0x6821); 
+			case 0x214444:  return((char)0x6838); 
+			case 0x214445:  return((char)0x6853); 
+			case 0x214446:  return((char)0x6846); 
+			case 0x214447:  return((char)0x6842); 
+			case 0x214448:  return((char)0x6854); 
+			case 0x214449:  return((char)0x6817); 
+			case 0x21444a:  return((char)0x683d); 
+			case 0x21444b:  return((char)0x6851); 
+			case 0x21444c:  return((char)0x6829); 
+			case 0x21444d:  return((char)0x6850); 
+			case 0x21444e:  return((char)0x6839); 
+			case 0x214450:  return((char)0x67f4); 
+			case 0x214451:  return((char)0x6843); 
+			case 0x214452:  return((char)0x6840); 
+			case 0x214453:  return((char)0x682a); 
+			case 0x214454:  return((char)0x6845); 
+			case 0x214455:  return((char)0x683c); 
+			case 0x214456:  return((char)0x6813); 
+			case 0x214457:  return((char)0x6881); 
+			case 0x214458:  return((char)0x6893); 
+			case 0x214459:  return((char)0x68af); 
+			case 0x21445a:  return((char)0x6876); 
+			case 0x21445b:  return((char)0x68b0); 
+			case 0x21445c:  return((char)0x68a7); 
+			case 0x21445d:  return((char)0x6897); 
+			case 0x21445e:  return((char)0x68b5); 
+			case 0x21445f:  return((char)0x68b3); 
+			case 0x214460:  return((char)0x68a2); 
+			case 0x214461:  return((char)0x687f); 
+			case 0x214462:  return((char)0x68b1); 
+			case 0x214463:  return((char)0x689d); 
+			case 0x214464:  return((char)0x68ad); 
+			case 0x214465:  return((char)0x6886); 
+			case 0x214466:  return((char)0x6885); 
+			case 0x214467:  return((char)0x68a8); 
+			case 0x214468:  return((char)0x689f); 
+			case 0x214469:  return((char)0x6894); 
+			case 0x21446a:  return((char)0x6883); 
+			case 0x21446b:  return((char)0x68d5); 
+			case 0x21446c:  return((char)0x68fa); 
+			case 0x21446d:  return((char)0x68c4); 
+			case 0x21446e:  return((char)0x68f2); 
+			case 0x21446f:  return((char)0x68d2); 
+			case 0x214470:  return((char)0x68e3); 
+			case 0x214471:  return((char)0x68df); 
+			case 0x214472:  return((char)0x68cb); 
+			case 0x214473:  return((char)0x68ee); 
+			case 0x214474:  return((char)0x690d); 
+			case 0x214475:  return((char)0x6905); 
+			case 0x214476:  return((char)0x68e7); 
+			case 0x214477:  return((char)0x68e0); 
+			case 0x214478:  return((char)0x68f5); 
+			case 0x214479:  return((char)0x68cd); 
+			case 0x21447a:  return((char)0x68d7); 
+			case 0x21447b:  return((char)0x68d8); 
+			case 0x21447c:  return((char)0x6912); 
+			case 0x21447d:  return((char)0x68f9); 
+			case 0x21447e:  return((char)0x68da); 
+			case 0x214521:  return((char)0x690e); 
+			case 0x214522:  return((char)0x68c9); 
+			case 0x214523:  return((char)0x6954); 
+			case 0x214524:  return((char)0x6930); 
+			case 0x214525:  return((char)0x6977); 
+			case 0x214526:  return((char)0x6975); 
+			case 0x214527:  return((char)0x695a); 
+			case 0x214528:  return((char)0x6960); 
+			case 0x214529:  return((char)0x696b); 
+			case 0x21452a:  return((char)0x694a); 
+			case 0x21452b:  return((char)0x6968); 
+			case 0x21452c:  return((char)0x695e); 
+			case 0x21452d:  return((char)0x696d); 
+			case 0x21452e:  return((char)0x6979); 
+			case 0x21452f:  return((char)0x6953); 
+			case 0x214530:  return((char)0x6986); 
+			case 0x214531:  return((char)0x69a8); 
+			case 0x214532:  return((char)0x6995); 
+			case 0x214533:  return((char)0x699c); 
+			case 0x214534:  return((char)0x6994); 
+			case 0x214535:  return((char)0x69c1); 
+			case 0x214536:  return((char)0x69b7); 
+			case 0x214537:  return((char)0x69ae); 
+			case 0x214538:  return((char)0x699b); 
+			case 0x214539:  return((char)0x69cb); 
+			case 0x21453a:  return((char)0x69d3); 
+			case 0x21453b:  return((char)0x69bb); 
+			case 0x21453c:  return((char)0x69ab); 
+			case 0x21453d:  return((char)0x69cc); 
+			case 0x21453e:  return((char)0x69ad); 
+			case 0x21453f:  return((char)0x69d0); 
+			case 0x214540:  return((char)0x69cd); 
+			case 0x214541:  return((char)0x69b4); 
+			case 0x214542:  return((char)0x6a1f); 
+			case 0x214543:  return((char)0x69e8); 
+			case 0x214544:  return((char)0x6a23); 
+			case 0x214545:  return((char)0x69ea); 
+			case 0x214546:  return((char)0x6a01); 
+			case 0x214547:  return((char)0x6a19); 
+			case 0x214548:  return((char)0x69fd); 
+			case 0x214549:  return((char)0x6a1e); 
+			case 0x21454a:  return((char)0x6a13); 
+			case 0x21454b:  return((char)0x6a21); 
+			case 0x21454c:  return((char)0x69f3); 
+			case 0x21454d:  return((char)0x6a0a); 
+			case 0x21454e:  return((char)0x6a02); 
+			case 0x21454f:  return((char)0x6a05); 
+			case 0x214550:  return((char)0x6a3d); 
+			case 0x214551:  return((char)0x6a58); 
+			case 0x214552:  return((char)0x6a59); 
+			case 0x214553:  return((char)0x6a62); 
+			case 0x214554:  return((char)0x6a44); 
+			case 0x214555:  return((char)0x6a39); 
+			case 0x214556:  return((char)0x6a6b); 
+			case 0x214557:  return((char)0x6a3a); 
+			case 0x214558:  return((char)0x6a38); 
+			case 0x214559:  return((char)0x6a47); 
+			case 0x21455a:  return((char)0x6a61); 
+			case 0x21455b:  return((char)0x6a4b); 
+			case 0x21455c:  return((char)0x6a35); 
+			case 0x21455d:  return((char)0x6a5f); 
+			case 0x21455e:  return((char)0x6a80); 
+			case 0x21455f:  return((char)0x6a94); 
+			case 0x214560:  return((char)0x6a84); 
+			case 0x214561:  return((char)0x6aa2); 
+			case 0x214562:  return((char)0x6a9c); 
+			case 0x214563:  return((char)0x6ab8); 
+			case 0x214564:  return((char)0x6ab3); 
+			case 0x214565:  return((char)0x6ac3); 
+			case 0x214566:  return((char)0x6abb); 
+			case 0x214568:  return((char)0x6aac); 
+			case 0x214569:  return((char)0x6ae5); 
+			case 0x21456a:  return((char)0x6ada); 
+			case 0x21456b:  return((char)0x6add); 
+			case 0x21456c:  return((char)0x6adb); 
+			case 0x21456d:  return((char)0x6ad3); 
+			case 0x21456e:  return((char)0x6b04); 
+			case 0x21456f:  return((char)0x6afb); 
+			case 0x214570:  return((char)0x6b0a); 
+			case 0x214571:  return((char)0x6b16); 
+			case 0x214573:  return((char)0x6b21); 
+			case 0x214574:  return((char)0x6b23); 
+			case 0x214576:  return((char)0x6b3e); 
+			case 0x214577:  return((char)0x6b3a); 
+			case 0x214578:  return((char)0x6b3d); 
+			case 0x214579:  return((char)0x6b47); 
+			case 0x21457a:  return((char)0x6b49); 
+			case 0x21457b:  return((char)0x6b4c); 
+			case 0x21457c:  return((char)0x6b50); 
+			case 0x21457d:  return((char)0x6b59); 
+			case 0x21457e:  return((char)0x6b5f); 
+			case 0x214621:  return((char)0x6b61); 
+			case 0x214623:  return((char)0x6b63); 
+			case 0x214624:  return((char)0x6b64); 
+			case 0x214625:  return((char)0x6b65); 
+			case 0x214627:  return((char)0x6b66); 
+			case 0x214628:  return((char)0x6b6a); 
+			case 0x214629:  return((char)0x6b72); 
+			case 0x21462a:  return((char)0x6b77); 
+			case 0x21462b:  return((char)0x6b78); 
+			case 0x21462c:  return((char)0x6b79); 
+			case 0x21462d:  return((char)0x6b7b); 
+			case 0x21462e:  return((char)0x6b7f); 
+			case 0x21462f:  return((char)0x6b83); 
+			case 0x214630:  return((char)0x6b86); 
+			case 0x214631:  return((char)0x6b8a); 
+			case 0x214632:  return((char)0x6b89); 
+			case 0x214633:  return((char)0x6b98); 
+			case 0x214634:  return((char)0x6b96); 
+			case 0x214635:  return((char)0x6ba4); 
+			case 0x214636:  return((char)0x6bae); 
+			case 0x214637:  return((char)0x6baf); 
+			case 0x214638:  return((char)0x6bb2); 
+			case 0x214639:  return((char)0x6bb5); 
+			case 0x21463a:  return((char)0x6bb7); 
+			case 0x21463b:  return((char)0x6bba); 
+			case 0x21463c:  return((char)0x6bbc); 
+			case 0x21463d:  return((char)0x6bc0); 
+			case 0x21463e:  return((char)0x6bbf); 
+			case 0x21463f:  return((char)0x6bc5); 
+			case 0x214640:  return((char)0x6bc6); 
+			case 0x214641:  return((char)0x6bcb); 
+			case 0x214642:  return((char)0x6bcd); 
+			case 0x214643:  return((char)0x6bcf); 
+			case 0x214644:  return((char)0x6bd2); 
+			case 0x214646:  return((char)0x6bd4); 
+			case 0x214647:  return((char)0x6bd7); 
+			case 0x214648:  return((char)0x6bdb); 
+			case 0x214649:  return((char)0x6beb); 
+			case 0x21464a:  return((char)0x6bef); 
+			case 0x21464b:  return((char)0x6bfd); 
+			case 0x21464c:  return((char)0x6c0f); 
+			case 0x21464d:  return((char)0x6c11); 
+			case 0x21464e:  return((char)0x6c10); 
+			case 0x21464f:  return((char)0x6c13); 
+			case 0x214650:  return((char)0x6c16); 
+			case 0x214651:  return((char)0x6c1b); 
+			case 0x214652:  return((char)0x6c1f); 
+			case 0x214653:  return((char)0x6c27); 
+			case 0x214654:  return((char)0x6c26); 
+			case 0x214655:  return((char)0x6c23); 
+			case 0x214656:  return((char)0x6c28); 
+			case 0x214657:  return((char)0x6c24); 
+			case 0x214658:  return((char)0x6c2b); 
+			case 0x214659:  return((char)0x6c2e); 
+			case 0x21465a:  return((char)0x6c33); 
+			case 0x21465b:  return((char)0x6c2f); 
+			case 0x21465c:  return((char)0x6c34); 
+			case 0x21465d:  return((char)0x6c38); 
+			case 0x21465e:  return((char)0x6c41); 
+			case 0x214660:  return((char)0x6c40); 
+			case 0x214661:  return((char)0x6c42); 
+			case 0x214662:  return((char)0x6c5e); 
+			case 0x214663:  return((char)0x6c57); 
+			case 0x214664:  return((char)0x6c5f); 
+			case 0x214665:  return((char)0x6c59); 
+			case 0x214666:  return((char)0x6c60); 
+			case 0x214667:  return((char)0x6c55); 
+			case 0x214668:  return((char)0x6c50); 
+			case 0x214669:  return((char)0x6c5d); 
+			case 0x21466a:  return((char)0x6c9b); 
+			case 0x21466b:  return((char)0x6c81); 
+			case 0x21466d:  return((char)0x6c7a); 
+			case 0x21466e:  return((char)0x6c6a); 
+			case 0x21466f:  return((char)0x6c8c); 
+			case 0x214670:  return((char)0x6c90); 
+			case 0x214671:  return((char)0x6c72); 
+			case 0x214672:  return((char)0x6c70); 
+			case 0x214673:  return((char)0x6c68); 
+			case 0x214674:  return((char)0x6c96); 
+			case 0x214676:  return((char)0x6c89); 
+			case 0x214677:  return((char)0x6c99); 
+			case 0x214678:  return((char)0x6c7e); 
+			case 0x214679:  return((char)0x6c7d); 
+			case 0x21467a:  return((char)0x6c92); 
+			case 0x21467b:  return((char)0x6c83); 
+			case 0x21467c:  return((char)0x6cb1); 
+			case 0x21467e:  return((char)0x6cf3); 
+			case 0x214721:  return((char)0x6ce3); 
+			case 0x214722:  return((char)0x6cf0); 
+			case 0x214723:  return((char)0x6cb8); 
+			case 0x214724:  return((char)0x6cd3); 
+			case 0x214725:  return((char)0x6cab); 
+			case 0x214726:  return((char)0x6ce5); 
+			case 0x214727:  return((char)0x6cbd); 
+			case 0x214728:  return((char)0x6cb3); 
+			case 0x214729:  return((char)0x6cc4); 
+			case 0x21472a:  return((char)0x6cd5); 
+			case 0x21472b:  return((char)0x6ce2); 
+			case 0x21472c:  return((char)0x6cbc); 
+			case 0x21472d:  return((char)0x6cae); 
+			case 0x21472e:  return((char)0x6cb9); 
+			case 0x21472f:  return((char)0x6cf1); 
+			case 0x214730:  return((char)0x6cc1); 
+			case 0x214731:  return((char)0x6cbe); 
+			case 0x214732:  return((char)0x6cc5); 
+			case 0x214733:  return((char)0x6cd7); 
+			case 0x214734:  return((char)0x6cbb); 
+			case 0x214735:  return((char)0x6cdb); 
+			case 0x214736:  return((char)0x6ce1); 
+			case 0x214737:  return((char)0x6cbf); 
+			case 0x214738:  return((char)0x6cca); 
+			case 0x214739:  return((char)0x6ccc); 
+			case 0x21473a:  return((char)0x6cc9); 
+			case 0x21473b:  return((char)0x6d41); 
+			case 0x21473c:  return((char)0x6d0b); 
+			case 0x21473d:  return((char)0x6d32); 
+			case 0x21473e:  return((char)0x6d25); 
+			case 0x21473f:  return((char)0x6d31); 
+			case 0x214740:  return((char)0x6d2a); 
+			case 0x214741:  return((char)0x6d0c); 
+			case 0x214742:  return((char)0x6d1e); 
+			case 0x214743:  return((char)0x6d17); 
+			case 0x214744:  return((char)0x6d3b); 
+			case 0x214745:  return((char)0x6d1b); 
+			case 0x214746:  return((char)0x6d36); 
+			case 0x214747:  return((char)0x6d3d); 
+			case 0x214748:  return((char)0x6d3e); 
+			case 0x214749:  return((char)0x6d6a); 
+			case 0x21474a:  return((char)0x6d95); 
+			case 0x21474b:  return((char)0x6d78); 
+			case 0x21474c:  return((char)0x6d66); 
+			case 0x21474d:  return((char)0x6d59); 
+			case 0x21474e:  return((char)0x6d87); 
+			case 0x21474f:  return((char)0x6d88); 
+			case 0x214750:  return((char)0x6d6c); 
+			case 0x214751:  return((char)0x6d93); 
+			case 0x214752:  return((char)0x6d89); 
+			case 0x214753:  return((char)0x6d6e); 
+			case 0x214754:  return((char)0x6d74); 
+			case 0x214755:  return((char)0x6d5a); 
+			case 0x214756:  return((char)0x6d69); 
+			case 0x214757:  return((char)0x6d77); 
+			case 0x214758:  return((char)0x6dd9); 
+			case 0x214759:  return((char)0x6dda); 
+			case 0x21475a:  return((char)0x6df3); 
+			case 0x21475b:  return((char)0x6dbc); 
+			case 0x21475c:  return((char)0x6de4); 
+			case 0x21475d:  return((char)0x6db2); 
+			case 0x21475e:  return((char)0x6de1); 
+			case 0x21475f:  return((char)0x6dd2); 
+			case 0x214760:  return((char)0x6dae); 
+			case 0x214761:  return((char)0x6df8); 
+			case 0x214762:  return((char)0x6dc7); 
+			case 0x214763:  return((char)0x6dcb); 
+			case 0x214764:  return((char)0x6dc5); 
+			case 0x214765:  return((char)0x6dde); 
+			case 0x214766:  return((char)0x6daf); 
+			case 0x214767:  return((char)0x6db5); 
+			case 0x214768:  return((char)0x6dfa); 
+			case 0x214769:  return((char)0x6df9); 
+			case 0x21476a:  return((char)0x6dcc); 
+			case 0x21476b:  return((char)0x6df7); 
+			case 0x21476c:  return((char)0x6db8); 
+			case 0x21476d:  return((char)0x6dd1); 
+			case 0x21476e:  return((char)0x6df1); 
+			case 0x21476f:  return((char)0x6de8); 
+			case 0x214770:  return((char)0x6deb); 
+			case 0x214771:  return((char)0x6dd8); 
+			case 0x214772:  return((char)0x6dfb); 
+			case 0x214773:  return((char)0x6dee); 
+			case 0x214774:  return((char)0x6df5); 
+			case 0x214775:  return((char)0x6d8e); 
+			case 0x214776:  return((char)0x6dc6); 
+			case 0x214777:  return((char)0x6dea); 
+			case 0x214778:  return((char)0x6dc4); 
+			case 0x214779:  return((char)0x6e54); 
+			case 0x21477a:  return((char)0x6e21); 
+			case 0x21477b:  return((char)0x6e38); 
+			case 0x21477c:  return((char)0x6e32); 
+			case 0x21477d:  return((char)0x6e67); 
+			case 0x21477e:  return((char)0x6e20); 
+			case 0x214821:  return((char)0x6e5b); 
+			case 0x214822:  return((char)0x6e1a); 
+			case 0x214823:  return((char)0x6e56); 
+			case 0x214824:  return((char)0x6e2f); 
+			case 0x214825:  return((char)0x6e6e); 
+			case 0x214826:  return((char)0x6e58); 
+			case 0x214827:  return((char)0x6e23); 
+			case 0x214828:  return((char)0x6e24); 
+			case 0x214829:  return((char)0x6e1b); 
+			case 0x21482a:  return((char)0x6e25); 
+			case 0x21482b:  return((char)0x6e4a); 
+			case 0x21482c:  return((char)0x6e3a); 
+			case 0x21482d:  return((char)0x6e6f); 
+			case 0x21482e:  return((char)0x6e2d); 
+			case 0x21482f:  return((char)0x6e34); 
+			case 0x214830:  return((char)0x6e2c); 
+			case 0x214831:  return((char)0x6e26); 
+			case 0x214832:  return((char)0x6e4d); 
+			case 0x214833:  return((char)0x6e3e); 
+			case 0x214834:  return((char)0x6e43); 
+			case 0x214835:  return((char)0x6e19); 
+			case 0x214836:  return((char)0x6e1d); 
+			case 0x214837:  return((char)0x6ed3); 
+			case 0x214838:  return((char)0x6eb6); 
+			case 0x214839:  return((char)0x6ec2); 
+			case 0x21483b:  return((char)0x6eaf); 
+			case 0x21483c:  return((char)0x6ea2); 
+			case 0x21483d:  return((char)0x6e9d); 
+			case 0x21483f:  return((char)0x6ea5); 
+			case 0x214840:  return((char)0x6e98); 
+			case 0x214841:  return((char)0x6e90); 
+			case 0x214842:  return((char)0x6ec5); 
+			case 0x214843:  return((char)0x6ec7); 
+			case 0x214844:  return((char)0x6ebc); 
+			case 0x214845:  return((char)0x6eab); 
+			case 0x214846:  return((char)0x6ed1); 
+			case 0x214847:  return((char)0x6ecb); 
+			case 0x214848:  return((char)0x6ec4); 
+			case 0x214849:  return((char)0x6ed4); 
+			case 0x21484a:  return((char)0x6eaa); 
+			case 0x21484b:  return((char)0x6e96); 
+			case 0x21484c:  return((char)0x6e9c); 
+			case 0x21484d:  return((char)0x6f33); 
+			case 0x21484e:  return((char)0x6ef4); 
+			case 0x21484f:  return((char)0x6eec); 
+			case 0x214850:  return((char)0x6efe); 
+			case 0x214851:  return((char)0x6f29); 
+			case 0x214852:  return((char)0x6f14); 
+			case 0x214853:  return((char)0x6f3e); 
+			case 0x214854:  return((char)0x6f2c); 
+			case 0x214855:  return((char)0x6f32); 
+			case 0x214856:  return((char)0x6f0f); 
+			case 0x214857:  return((char)0x6f22); 
+			case 0x214858:  return((char)0x6eff); 
+			case 0x214859:  return((char)0x6f23); 
+			case 0x21485a:  return((char)0x6f38); 
+			case 0x21485b:  return((char)0x6f15); 
+			case 0x21485c:  return((char)0x6f31); 
+			case 0x21485d:  return((char)0x6f02); 
+			case 0x21485e:  return((char)0x6f06); 
+			case 0x21485f:  return((char)0x6eef); 
+			case 0x214860:  return((char)0x6f2b); 
+			case 0x214861:  return((char)0x6f2f); 
+			case 0x214862:  return((char)0x6f20); 
+			case 0x214863:  return((char)0x6f3f); 
+			case 0x214864:  return((char)0x6ef2); 
+			case 0x214865:  return((char)0x6f01); 
+			case 0x214866:  return((char)0x6f11); 
+			case 0x214867:  return((char)0x6ecc); 
+			case 0x214868:  return((char)0x6f2a); 
+			case 0x214869:  return((char)0x6f7c); 
+			case 0x21486a:  return((char)0x6f88); 
+			case 0x21486b:  return((char)0x6f84); 
+			case 0x21486c:  return((char)0x6f51); 
+			case 0x21486d:  return((char)0x6f64); 
+			case 0x21486e:  return((char)0x6f97); 
+			case 0x21486f:  return((char)0x6f54); 
+			case 0x214870:  return((char)0x6f7a); 
+			case 0x214871:  return((char)0x6f86); 
+			case 0x214872:  return((char)0x6f8e); 
+			case 0x214873:  return((char)0x6f6d); 
+			case 0x214874:  return((char)0x6f5b); 
+			case 0x214875:  return((char)0x6f6e); 
+			case 0x214876:  return((char)0x6f78); 
+			case 0x214877:  return((char)0x6f66); 
+			case 0x214878:  return((char)0x6f70); 
+			case 0x214879:  return((char)0x6f58); 
+			case 0x21487a:  return((char)0x6fc2); 
+			case 0x21487b:  return((char)0x6fb1); 
+			case 0x21487c:  return((char)0x6fc3); 
+			case 0x21487d:  return((char)0x6fa7); 
+			case 0x21487e:  return((char)0x6fa1); 
+			case 0x214921:  return((char)0x6fa4); 
+			case 0x214922:  return((char)0x6fc1); 
+			case 0x214924:  return((char)0x6fc0); 
+			case 0x214925:  return((char)0x6fb3); 
+			case 0x214926:  return((char)0x6fdf); 
+			case 0x214927:  return((char)0x6fd8); 
+			case 0x214928:  return((char)0x6ff1); 
+			case 0x214929:  return((char)0x6fe0); 
+			case 0x21492a:  return((char)0x6fef); 
+			case 0x21492b:  return((char)0x6feb); 
+			case 0x21492c:  return((char)0x6fe1); 
+			case 0x21492d:  return((char)0x6fe4); 
+			case 0x21492e:  return((char)0x6f80); 
+			case 0x214931:  return((char)0x700b); 
+			case 0x214932:  return((char)0x7009); 
+			case 0x214933:  return((char)0x7006); 
+			case 0x214934:  return((char)0x6ffa); 
+			case 0x214935:  return((char)0x7011); 
+			case 0x214936:  return((char)0x6ffe); 
+			case 0x214937:  return((char)0x700f); 
+			case 0x214938:  return((char)0x701b); 
+			case 0x214939:  return((char)0x701a); 
+			case 0x21493a:  return((char)0x7028); 
+			case 0x21493b:  return((char)0x701d); 
+			case 0x21493c:  return((char)0x7015); 
+			case 0x21493d:  return((char)0x701f); 
+			case 0x21493f:  return((char)0x703e); 
+			case 0x214940:  return((char)0x704c); 
+			case 0x214941:  return((char)0x7051); 
+			case 0x214942:  return((char)0x7058); 
+			case 0x214943:  return((char)0x7063); 
+			case 0x214944:  return((char)0x7064); 
+			case 0x214945:  return((char)0x706b); 
+			case 0x214946:  return((char)0x7070); 
+			case 0x214947:  return((char)0x7076); 
+			case 0x214948:  return((char)0x707c); 
+			case 0x214949:  return((char)0x7078); 
+			case 0x21494a:  return((char)0x707d); 
+			case 0x21494b:  return((char)0x7095); 
+			case 0x21494c:  return((char)0x708e); 
+			case 0x21494d:  return((char)0x7092); 
+			case 0x21494e:  return((char)0x7099); 
+			case 0x21494f:  return((char)0x708a); 
+			case 0x214950:  return((char)0x70ab); 
+			case 0x214951:  return((char)0x70ba); 
+			case 0x214952:  return((char)0x70ac); 
+			case 0x214953:  return((char)0x70b3); 
+			case 0x214954:  return((char)0x70af); 
+			case 0x214955:  return((char)0x70ad); 
+			case 0x214956:  return((char)0x70ae); 
+			case 0x214957:  return((char)0x70b8); 
+			case 0x214958:  return((char)0x70ca); 
+			case 0x214959:  return((char)0x70e4); 
+			case 0x21495a:  return((char)0x70d8); 
+			case 0x21495b:  return((char)0x70c8); 
+			case 0x21495c:  return((char)0x70d9); 
+			case 0x21495d:  return((char)0x70cf); 
+			case 0x21495e:  return((char)0x70f9); 
+			case 0x21495f:  return((char)0x7109); 
+			case 0x214960:  return((char)0x710a); 
+			case 0x214961:  return((char)0x70fd); 
+			case 0x214962:  return((char)0x7119); 
+			case 0x214963:  return((char)0x716e); 
+			case 0x214964:  return((char)0x711a); 
+			case 0x214965:  return((char)0x7136); 
+			case 0x214966:  return((char)0x7121); 
+			case 0x214967:  return((char)0x7130); 
+			case 0x214968:  return((char)0x7126); 
+			case 0x214969:  return((char)0x714e); 
+			case 0x21496a:  return((char)0x7149); 
+			case 0x21496b:  return((char)0x7159); 
+			case 0x21496c:  return((char)0x7164); 
+			case 0x21496d:  return((char)0x7169); 
+			case 0x21496e:  return((char)0x715c); 
+			case 0x21496f:  return((char)0x716c); 
+			case 0x214970:  return((char)0x7166); 
+			case 0x214971:  return((char)0x7167); 
+			case 0x214972:  return((char)0x715e); 
+			case 0x214973:  return((char)0x7165); 
+			case 0x214974:  return((char)0x714c); 
+			case 0x214975:  return((char)0x717d); 
+			case 0x214977:  return((char)0x7199); 
+			case 0x214978:  return((char)0x718a); 
+			case 0x214979:  return((char)0x7184); 
+			case 0x21497a:  return((char)0x719f); 
+			case 0x21497b:  return((char)0x71a8); 
+			case 0x21497c:  return((char)0x71ac); 
+			case 0x21497d:  return((char)0x71b1); 
+			case 0x21497e:  return((char)0x71d9); 
+			case 0x214a21:  return((char)0x71be); 
+			case 0x214a22:  return((char)0x71c9); 
+			case 0x214a23:  return((char)0x71d0); 
+			case 0x214a24:  return((char)0x71c8); 
+			case 0x214a25:  return((char)0x71dc); 
+			case 0x214a26:  return((char)0x71d2); 
+			case 0x214a27:  return((char)0x71b9); 
+			case 0x214a28:  return((char)0x71d5); 
+			case 0x214a29:  return((char)0x71ce); 
+			case 0x214a2a:  return((char)0x71c3); 
+			case 0x214a2b:  return((char)0x71c4); 
+			case 0x214a2c:  return((char)0x71ee); 
+			case 0x214a2d:  return((char)0x71e7); 
+			case 0x214a2e:  return((char)0x71df); 
+			case 0x214a2f:  return((char)0x71e5); 
+			case 0x214a30:  return((char)0x71ed); 
+			case 0x214a31:  return((char)0x71e6); 
+			case 0x214a32:  return((char)0x71ec); 
+			case 0x214a33:  return((char)0x71f4); 
+			case 0x214a34:  return((char)0x71fb); 
+			case 0x214a35:  return((char)0x7206); 
+			case 0x214a36:  return((char)0x720d); 
+			case 0x214a37:  return((char)0x7210); 
+			case 0x214a38:  return((char)0x721b); 
+			case 0x214a39:  return((char)0x7228); 
+			case 0x214a3a:  return((char)0x722a); 
+			case 0x214a3b:  return((char)0x722d); 
+			case 0x214a3c:  return((char)0x722c); 
+			case 0x214a3d:  return((char)0x7230); 
+			case 0x214a3e:  return((char)0x7235); 
+			case 0x214a3f:  return((char)0x7236); 
+			case 0x214a40:  return((char)0x7238); 
+			case 0x214a41:  return((char)0x7239); 
+			case 0x214a42:  return((char)0x723a); 
+			case 0x214a43:  return((char)0x723b); 
+			case 0x214a44:  return((char)0x723d); 
+			case 0x214a45:  return((char)0x723e); 
+			case 0x214a46:  return((char)0x7246); 
+			case 0x214a47:  return((char)0x7247); 
+			case 0x214a48:  return((char)0x7248); 
+			case 0x214a49:  return((char)0x724c); 
+			case 0x214a4a:  return((char)0x7252); 
+			case 0x214a4b:  return((char)0x7256); 
+			case 0x214a4c:  return((char)0x7258); 
+			case 0x214a4d:  return((char)0x7259); 
+			case 0x214a4e:  return((char)0x725b); 
+			case 0x214a4f:  return((char)0x725f); 
+			case 0x214a50:  return((char)0x725d); 
+			case 0x214a51:  return((char)0x7262); 
+			case 0x214a52:  return((char)0x7261); 
+			case 0x214a53:  return((char)0x7260); 
+			case 0x214a54:  return((char)0x7267); 
+			case 0x214a55:  return((char)0x7269); 
+			case 0x214a56:  return((char)0x726f); 
+			case 0x214a57:  return((char)0x7272); 
+			case 0x214a58:  return((char)0x7274); 
+			case 0x214a59:  return((char)0x7279); 
+			case 0x214a5a:  return((char)0x727d); 
+			case 0x214a5b:  return((char)0x7281); 
+			case 0x214a5c:  return((char)0x7280); 
+			case 0x214a5d:  return((char)0x7284); 
+			case 0x214a5e:  return((char)0x7296); 
+			case 0x214a5f:  return((char)0x7292); 
+			case 0x214a60:  return((char)0x729b); 
+			case 0x214a61:  return((char)0x72a2); 
+			case 0x214a62:  return((char)0x72a7); 
+			case 0x214a63:  return((char)0x72ac); 
+			case 0x214a64:  return((char)0x72af); 
+			case 0x214a65:  return((char)0x72c4); 
+			case 0x214a66:  return((char)0x72c2); 
+			case 0x214a67:  return((char)0x72d9); 
+			case 0x214a68:  return((char)0x72c0); 
+			case 0x214a69:  return((char)0x72ce); 
+			case 0x214a6a:  return((char)0x72d7); 
+			case 0x214a6b:  return((char)0x72d0); 
+			case 0x214a6c:  return((char)0x72e1); 
+			case 0x214a6d:  return((char)0x72e9); 
+			case 0x214a6e:  return((char)0x72e0); 
+			case 0x214a6f:  return((char)0x72fc); 
+			case 0x214a70:  return((char)0x72f9); 
+			case 0x214a72:  return((char)0x72fd); 
+			case 0x214a73:  return((char)0x72f7); 
+			case 0x214a74:  return((char)0x731c); 
+			case 0x214a75:  return((char)0x731b); 
+			case 0x214a76:  return((char)0x7313); 
+			case 0x214a77:  return((char)0x7316); 
+			case 0x214a78:  return((char)0x7319); 
+			case 0x214a79:  return((char)0x7336); 
+			case 0x214a7a:  return((char)0x7337); 
+			case 0x214a7b:  return((char)0x7329); 
+			case 0x214a7c:  return((char)0x7325); 
+			case 0x214a7d:  return((char)0x7334); 
+			case 0x214a7e:  return((char)0x7344); 
+			case 0x214b21:  return((char)0x733f); 
+			case 0x214b22:  return((char)0x733e); 
+			case 0x214b23:  return((char)0x7345); 
+			case 0x214b24:  return((char)0x7350); 
+			case 0x214b26:  return((char)0x7357); 
+			case 0x214b27:  return((char)0x7368); 
+			case 0x214b28:  return((char)0x7370); 
+			case 0x214b29:  return((char)0x7372); 
+			case 0x214b2a:  return((char)0x7377); 
+			case 0x214b2b:  return((char)0x7378); 
+			case 0x214b2c:  return((char)0x7375); 
+			case 0x214b2d:  return((char)0x737a); 
+			case 0x214b2e:  return((char)0x737b); 
+			case 0x214b2f:  return((char)0x7380); 
+			case 0x214b30:  return((char)0x7384); 
+			case 0x214b31:  return((char)0x7387); 
+			case 0x214b32:  return((char)0x7389); 
+			case 0x214b33:  return((char)0x738b); 
+			case 0x214b34:  return((char)0x7396); 
+			case 0x214b35:  return((char)0x739f); 
+			case 0x214b36:  return((char)0x73a8); 
+			case 0x214b37:  return((char)0x73a9); 
+			case 0x214b38:  return((char)0x73ab); 
+			case 0x214b39:  return((char)0x73bb); 
+			case 0x214b3a:  return((char)0x73ca); 
+			case 0x214b3b:  return((char)0x73b7); 
+			case 0x214b3c:  return((char)0x73c0); 
+			case 0x214b3e:  return((char)0x73b2); 
+			case 0x214b3f:  return((char)0x73cd); 
+			case 0x214b40:  return((char)0x73ed); 
+			case 0x214b41:  return((char)0x73ee); 
+			case 0x214b42:  return((char)0x73e0); 
+			case 0x214b43:  return((char)0x7405); 
+			case 0x214b44:  return((char)0x7409); 
+			case 0x214b45:  return((char)0x7403); 
+			case 0x214b46:  return((char)0x740a); 
+			case 0x214b47:  return((char)0x73fe); 
+			case 0x214b48:  return((char)0x7406); 
+			case 0x214b49:  return((char)0x740d); 
+			case 0x214b4a:  return((char)0x743a); 
+			case 0x214b4b:  return((char)0x7435); 
+			case 0x214b4c:  return((char)0x7436); 
+			case 0x214b4d:  return((char)0x7434); 
+			case 0x214b4e:  return((char)0x742a); 
+			case 0x214b4f:  return((char)0x7433); 
+			case 0x214b50:  return((char)0x7422); 
+			case 0x214b51:  return((char)0x7425); 
+			case 0x214b53:  return((char)0x7455); 
+			case 0x214b54:  return((char)0x745f); 
+			case 0x214b55:  return((char)0x745a); 
+			case 0x214b56:  return((char)0x7441); 
+			case 0x214b57:  return((char)0x743f); 
+			case 0x214b58:  return((char)0x745b); 
+			case 0x214b59:  return((char)0x745e); 
+			case 0x214b5a:  return((char)0x745c); 
+			case 0x214b5b:  return((char)0x7459); 
+			case 0x214b5c:  return((char)0x7483); 
+			case 0x214b5d:  return((char)0x7469); 
+			case 0x214b5e:  return((char)0x746a); 
+			case 0x214b5f:  return((char)0x7463); 
+			case 0x214b60:  return((char)0x7464); 
+			case 0x214b61:  return((char)0x7470); 
+			case 0x214b62:  return((char)0x748b); 
+			case 0x214b63:  return((char)0x749c); 
+			case 0x214b64:  return((char)0x74a3); 
+			case 0x214b65:  return((char)0x74a7); 
+			case 0x214b66:  return((char)0x74a9); 
+			case 0x214b67:  return((char)0x74b0); 
+			case 0x214b68:  return((char)0x74a6); 
+			case 0x214b69:  return((char)0x74bd); 
+			case 0x214b6a:  return((char)0x74ca); 
+			case 0x214b6b:  return((char)0x74cf); 
+			case 0x214b6c:  return((char)0x74dc); 
+			case 0x214b6d:  return((char)0x74e0); 
+			case 0x214b6e:  return((char)0x74e2); 
+			case 0x214b6f:  return((char)0x74e3); 
+			case 0x214b70:  return((char)0x74e6); 
+			case 0x214b71:  return((char)0x74f6); 
+			case 0x214b72:  return((char)0x74f7); 
+			case 0x214b73:  return((char)0x7504); 
+			case 0x214b74:  return((char)0x750c); 
+			case 0x214b75:  return((char)0x7515); 
+			case 0x214b76:  return((char)0x7518); 
+			case 0x214b77:  return((char)0x751a); 
+			case 0x214b78:  return((char)0x751c); 
+			case 0x214b79:  return((char)0x751f); 
+			case 0x214b7a:  return((char)0x7522); 
+			case 0x214b7b:  return((char)0x7526); 
+			case 0x214b7c:  return((char)0x7525); 
+			case 0x214b7d:  return((char)0x7528); 
+			case 0x214b7e:  return((char)0x7529); 
+			case 0x214c21:  return((char)0x752c); 
+			case 0x214c22:  return((char)0x752b); 
+			case 0x214c23:  return((char)0x752d); 
+			case 0x214c24:  return((char)0x7530); 
+			case 0x214c25:  return((char)0x7532); 
+			case 0x214c26:  return((char)0x7531); 
+			case 0x214c27:  return((char)0x7533); 
+			case 0x214c28:  return((char)0x7537); 
+			case 0x214c29:  return((char)0x7538); 
+			case 0x214c2a:  return((char)0x753d); 
+			case 0x214c2b:  return((char)0x754f); 
+			case 0x214c2c:  return((char)0x754c); 
+			case 0x214c2d:  return((char)0x755d); 
+			case 0x214c2e:  return((char)0x755c); 
+			case 0x214c2f:  return((char)0x7554); 
+			case 0x214c30:  return((char)0x755a); 
+			case 0x214c31:  return((char)0x7559); 
+			case 0x214c32:  return((char)0x7566); 
+			case 0x214c33:  return((char)0x7562); 
+			case 0x214c34:  return((char)0x7570); 
+			case 0x214c35:  return((char)0x7565); 
+			case 0x214c36:  return((char)0x756b); 
+			case 0x214c37:  return((char)0x756a); 
+			case 0x214c38:  return((char)0x7578); 
+			case 0x214c39:  return((char)0x7576); 
+			case 0x214c3a:  return((char)0x7586); 
+			case 0x214c3b:  return((char)0x7587); 
+			case 0x214c3c:  return((char)0x758a); 
+			case 0x214c3e:  return((char)0x758f); 
+			case 0x214c3f:  return((char)0x7591); 
+			case 0x214c40:  return((char)0x759d); 
+			case 0x214c41:  return((char)0x7599); 
+			case 0x214c42:  return((char)0x759a); 
+			case 0x214c43:  return((char)0x75a4); 
+			case 0x214c44:  return((char)0x75ab); 
+			case 0x214c45:  return((char)0x75a5); 
+			case 0x214c46:  return((char)0x75c7); 
+			case 0x214c47:  return((char)0x75c5); 
+			case 0x214c48:  return((char)0x75b3); 
+			case 0x214c49:  return((char)0x75b2); 
+			case 0x214c4a:  return((char)0x75bd); 
+			case 0x214c4b:  return((char)0x75be); 
+			case 0x214c4c:  return((char)0x75bc); 
+			case 0x214c4d:  return((char)0x75b9); 
+			case 0x214c4e:  return((char)0x75d5); 
+			case 0x214c4f:  return((char)0x75d4); 
+			case 0x214c50:  return((char)0x75b5); 
+			case 0x214c51:  return((char)0x75ca); 
+			case 0x214c52:  return((char)0x75db); 
+			case 0x214c53:  return((char)0x75e3); 
+			case 0x214c54:  return((char)0x75d8); 
+			case 0x214c55:  return((char)0x75de); 
+			case 0x214c56:  return((char)0x75d9); 
+			case 0x214c57:  return((char)0x75e2); 
+			case 0x214c58:  return((char)0x7601); 
+			case 0x214c59:  return((char)0x7600); 
+			case 0x214c5a:  return((char)0x75f0); 
+			case 0x214c5b:  return((char)0x75f2); 
+			case 0x214c5c:  return((char)0x75f1); 
+			case 0x214c5d:  return((char)0x75f4); 
+			case 0x214c5e:  return((char)0x75ff); 
+			case 0x214c5f:  return((char)0x75fa); 
+			case 0x214c60:  return((char)0x760d); 
+			case 0x214c61:  return((char)0x7627); 
+			case 0x214c62:  return((char)0x7613); 
+			case 0x214c63:  return((char)0x760b); 
+			case 0x214c65:  return((char)0x7620); 
+			case 0x214c66:  return((char)0x7629); 
+			case 0x214c67:  return((char)0x761f); 
+			case 0x214c68:  return((char)0x7624); 
+			case 0x214c69:  return((char)0x7626); 
+			case 0x214c6a:  return((char)0x7621); 
+			case 0x214c6b:  return((char)0x7634); 
+			case 0x214c6c:  return((char)0x7638); 
+			case 0x214c6d:  return((char)0x7646); 
+			case 0x214c6e:  return((char)0x7642); 
+			case 0x214c6f:  return((char)0x764c); 
+			case 0x214c70:  return((char)0x7656); 
+			case 0x214c71:  return((char)0x7658); 
+			case 0x214c73:  return((char)0x7662); 
+			case 0x214c74:  return((char)0x7665); 
+			case 0x214c75:  return((char)0x7669); 
+			case 0x214c76:  return((char)0x766e); 
+			case 0x214c77:  return((char)0x766c); 
+			case 0x214c78:  return((char)0x7671); 
+			case 0x214c79:  return((char)0x7672); 
+			case 0x214c7a:  return((char)0x7678); 
+			case 0x214c7b:  return((char)0x767c); 
+			case 0x214c7c:  return((char)0x767b); 
+			case 0x214c7d:  return((char)0x767d); 
+			case 0x214c7e:  return((char)0x767e); 
+			case 0x214d21:  return((char)0x7682); 
+			case 0x214d22:  return((char)0x7684); 
+			case 0x214d23:  return((char)0x7687); 
+			case 0x214d24:  return((char)0x7686); 
+			case 0x214d26:  return((char)0x768e); 
+			case 0x214d27:  return((char)0x7696); 
+			case 0x214d28:  return((char)0x7693); 
+			case 0x214d29:  return((char)0x769a); 
+			case 0x214d2a:  return((char)0x76ae); 
+			case 0x214d2b:  return((char)0x76b0); 
+			case 0x214d2c:  return((char)0x76b4); 
+			case 0x214d2d:  return((char)0x76ba); 
+			case 0x214d2e:  return((char)0x76bf); 
+			case 0x214d2f:  return((char)0x76c2); 
+			case 0x214d31:  return((char)0x76c8); 
+			case 0x214d32:  return((char)0x76c6); 
+			case 0x214d33:  return((char)0x76ca); 
+			case 0x214d34:  return((char)0x76cd); 
+			case 0x214d35:  return((char)0x76ce); 
+			case 0x214d36:  return((char)0x76d4); 
+			case 0x214d37:  return((char)0x76d2); 
+			case 0x214d38:  return((char)0x76dc); 
+			case 0x214d39:  return((char)0x76db); 
+			case 0x214d3a:  return((char)0x76de); 
+			case 0x214d3b:  return((char)0x76df); 
+			case 0x214d3c:  return((char)0x76e1); 
+			case 0x214d3d:  return((char)0x76e3); 
+			case 0x214d3e:  return((char)0x76e4); 
+			case 0x214d3f:  return((char)0x76e7); 
+			case 0x214d40:  return((char)0x76e5); 
+			case 0x214d41:  return((char)0x76ea); 
+			case 0x214d42:  return((char)0x76ee); 
+			case 0x214d43:  return((char)0x76ef); 
+			case 0x214d44:  return((char)0x76f2); 
+			case 0x214d45:  return((char)0x76f4); 
+			case 0x214d46:  return((char)0x7709); 
+			case 0x214d47:  return((char)0x76f9); 
+			case 0x214d48:  return((char)0x76f8); 
+			case 0x214d49:  return((char)0x7701); 
+			case 0x214d4a:  return((char)0x770b); 
+			case 0x214d4b:  return((char)0x76fc); 
+			case 0x214d4c:  return((char)0x76fe); 
+			case 0x214d4d:  return((char)0x7729); 
+			case 0x214d4e:  return((char)0x7720); 
+			case 0x214d4f:  return((char)0x771e); 
+			case 0x214d50:  return((char)0x7728); 
+			case 0x214d51:  return((char)0x7737); 
+			case 0x214d52:  return((char)0x773c); 
+			case 0x214d53:  return((char)0x7736); 
+			case 0x214d54:  return((char)0x7738); 
+			case 0x214d55:  return((char)0x773a); 
+			case 0x214d56:  return((char)0x773e); 
+			case 0x214d57:  return((char)0x774f); 
+			case 0x214d58:  return((char)0x776b); 
+			case 0x214d59:  return((char)0x775b); 
+			case 0x214d5a:  return((char)0x776a); 
+			case 0x214d5b:  return((char)0x7766); 
+			case 0x214d5c:  return((char)0x7779); 
+			case 0x214d5d:  return((char)0x775e); 
+			case 0x214d5e:  return((char)0x7763); 
+			case 0x214d5f:  return((char)0x775c); 
+			case 0x214d60:  return((char)0x776c); 
+			case 0x214d61:  return((char)0x7768); 
+			case 0x214d62:  return((char)0x7765); 
+			case 0x214d63:  return((char)0x777d); 
+			case 0x214d64:  return((char)0x7771); 
+			case 0x214d65:  return((char)0x777f); 
+			case 0x214d66:  return((char)0x7784); 
+			case 0x214d67:  return((char)0x7761); 
+			case 0x214d68:  return((char)0x7787); 
+			case 0x214d69:  return((char)0x778e); 
+			case 0x214d6a:  return((char)0x778c); 
+			case 0x214d6b:  return((char)0x7791); 
+			case 0x214d6c:  return((char)0x779f); 
+			case 0x214d6d:  return((char)0x779e); 
+			case 0x214d6e:  return((char)0x77a0); 
+			case 0x214d6f:  return((char)0x77a5); 
+			case 0x214d70:  return((char)0x77b3); 
+			case 0x214d71:  return((char)0x77aa); 
+			case 0x214d72:  return((char)0x77b0); 
+			case 0x214d73:  return((char)0x77ad); 
+			case 0x214d74:  return((char)0x77ac); 
+			case 0x214d75:  return((char)0x77a7); 
+			case 0x214d76:  return((char)0x77bd); 
+			case 0x214d77:  return((char)0x77bf); 
+			case 0x214d78:  return((char)0x77bb); 
+			case 0x214d7a:  return((char)0x77d3); 
+			case 0x214d7b:  return((char)0x77d7); 
+			case 0x214d7c:  return((char)0x77da); 
+			case 0x214d7d:  return((char)0x77db); 
+			case 0x214d7e:  return((char)0x77dc); 
+			case 0x214e21:  return((char)0x77e2); 
+			case 0x214e22:  return((char)0x77e3); 
+			case 0x214e23:  return((char)0x77e5); 
+			case 0x214e24:  return((char)0x77e9); 
+			case 0x214e25:  return((char)0x77ed); 
+			case 0x214e26:  return((char)0x77ee); 
+			case 0x214e27:  return((char)0x77ef); 
+			case 0x214e28:  return((char)0x77f3); 
+			case 0x214e29:  return((char)0x77fd); 
+			case 0x214e2a:  return((char)0x7802); 
+			case 0x214e2b:  return((char)0x780d); 
+			case 0x214e2c:  return((char)0x780c); 
+			case 0x214e2d:  return((char)0x65ab); 
+			case 0x214e2e:  return((char)0x7830); 
+			case 0x214e2f:  return((char)0x781d); 
+			case 0x214e30:  return((char)0x7834); 
+			case 0x214e31:  return((char)0x7838); 
+			case 0x214e32:  return((char)0x7837); 
+			case 0x214e33:  return((char)0x7827); 
+			case 0x214e34:  return((char)0x782d); 
+			case 0x214e35:  return((char)0x7825); 
+			case 0x214e36:  return((char)0x786b); 
+			case 0x214e37:  return((char)0x784f); 
+			case 0x214e38:  return((char)0x7843); 
+			case 0x214e39:  return((char)0x786c); 
+			case 0x214e3a:  return((char)0x785d); 
+			case 0x214e3b:  return((char)0x786f); 
+			case 0x214e3c:  return((char)0x78b0); 
+			case 0x214e3d:  return((char)0x7897); 
+			case 0x214e3e:  return((char)0x788e); 
+			case 0x214e3f:  return((char)0x7898); 
+			case 0x214e40:  return((char)0x7889); 
+			case 0x214e41:  return((char)0x7891); 
+			case 0x214e42:  return((char)0x787c); 
+			case 0x214e43:  return((char)0x788c); 
+			case 0x214e44:  return((char)0x78a7); 
+			case 0x214e45:  return((char)0x78a9); 
+			case 0x214e46:  return((char)0x789f); 
+			case 0x214e47:  return((char)0x78b3); 
+			case 0x214e48:  return((char)0x78cb); 
+			case 0x214e49:  return((char)0x78ba); 
+			case 0x214e4a:  return((char)0x78c1); 
+			case 0x214e4b:  return((char)0x78c5); 
+			case 0x214e4c:  return((char)0x78bc); 
+			case 0x214e4d:  return((char)0x78d5); 
+			case 0x214e4e:  return((char)0x78be); 
+			case 0x214e4f:  return((char)0x78ca); 
+			case 0x214e50:  return((char)0x78d0); 
+			case 0x214e51:  return((char)0x78e8); 
+			case 0x214e52:  return((char)0x78ec); 
+			case 0x214e53:  return((char)0x78da); 
+			case 0x214e54:  return((char)0x78f7); 
+			case 0x214e55:  return((char)0x78f4); 
+			case 0x214e56:  return((char)0x78fa); 
+			case 0x214e57:  return((char)0x7901); 
+			case 0x214e58:  return((char)0x78ef); 
+			case 0x214e59:  return((char)0x790e); 
+			case 0x214e5a:  return((char)0x7919); 
+			case 0x214e5b:  return((char)0x7926); 
+			case 0x214e5c:  return((char)0x792c); 
+			case 0x214e5d:  return((char)0x792a); 
+			case 0x214e5e:  return((char)0x792b); 
+			case 0x214e5f:  return((char)0x793a); 
+			case 0x214e60:  return((char)0x7940); 
+			case 0x214e61:  return((char)0x793e); 
+			case 0x214e62:  return((char)0x7941); 
+			case 0x214e63:  return((char)0x7945); 
+			case 0x214e64:  return((char)0x7949); 
+			case 0x214e65:  return((char)0x7948); 
+			case 0x214e66:  return((char)0x7947); 
+			case 0x214e67:  return((char)0x7955); 
+			case 0x214e68:  return((char)0x7960); 
+			case 0x214e69:  return((char)0x7950); 
+			case 0x214e6a:  return((char)0x7956); 
+			case 0x214e6b:  return((char)0x795e); 
+			case 0x214e6c:  return((char)0x795d); 
+			case 0x214e6d:  return((char)0x795f); 
+			case 0x214e6e:  return((char)0x795a); 
+			case 0x214e6f:  return((char)0x7957); 
+			case 0x214e70:  return((char)0x7965); 
+			case 0x214e71:  return((char)0x7968); 
+			case 0x214e72:  return((char)0x796d); 
+			case 0x214e73:  return((char)0x797a); 
+			case 0x214e74:  return((char)0x7981); 
+			case 0x214e75:  return((char)0x797f); 
+			case 0x214e76:  return((char)0x798f); 
+			case 0x214e77:  return((char)0x798d); 
+			case 0x214e78:  return((char)0x798e); 
+			case 0x214e79:  return((char)0x79a6); 
+			case 0x214e7a:  return((char)0x79a7); 
+			case 0x214e7b:  return((char)0x79aa); 
+			case 0x214e7c:  return((char)0x79ae); 
+			case 0x214e7d:  return((char)0x79b1); 
+			case 0x214e7e:  return((char)0x79b9); 
+			case 0x214f21:  return((char)0x79bd); 
+			case 0x214f22:  return((char)0x842c); 
+			case 0x214f23:  return((char)0x79be); 
+			case 0x214f24:  return((char)0x79c0); 
+			case 0x214f25:  return((char)0x79c1); 
+			case 0x214f26:  return((char)0x79bf); 
+			case 0x214f27:  return((char)0x79c9); 
+			case 0x214f28:  return((char)0x79d1); 
+			case 0x214f29:  return((char)0x79cb); 
+			case 0x214f2a:  return((char)0x79d2); 
+			case 0x214f2b:  return((char)0x79e4); 
+			case 0x214f2c:  return((char)0x79e6); 
+			case 0x214f2d:  return((char)0x79e3); 
+			case 0x214f2e:  return((char)0x79df); 
+			case 0x214f2f:  return((char)0x79e7); 
+			case 0x214f30:  return((char)0x79e9); 
+			case 0x214f31:  return((char)0x79fb); 
+			case 0x214f32:  return((char)0x7a05); 
+			case 0x214f33:  return((char)0x7a0d); 
+			case 0x214f34:  return((char)0x7a08); 
+			case 0x214f35:  return((char)0x7a0b); 
+			case 0x214f36:  return((char)0x7a00); 
+			case 0x214f37:  return((char)0x7a1f); 
+			case 0x214f39:  return((char)0x7a20); 
+			case 0x214f3a:  return((char)0x7a1a); 
+			case 0x214f3b:  return((char)0x7a14); 
+			case 0x214f3c:  return((char)0x7a31); 
+			case 0x214f3d:  return((char)0x7a2e); 
+			case 0x214f3e:  return((char)0x7a3f); 
+			case 0x214f3f:  return((char)0x7a3c); 
+			case 0x214f40:  return((char)0x7a40); 
+			case 0x214f41:  return((char)0x7a3d); 
+			case 0x214f42:  return((char)0x7a37); 
+			case 0x214f43:  return((char)0x7a3b); 
+			case 0x214f44:  return((char)0x7a4d); 
+			case 0x214f45:  return((char)0x7a4e); 
+			case 0x214f46:  return((char)0x7a4c); 
+			case 0x214f47:  return((char)0x7a46); 
+			case 0x214f48:  return((char)0x7a57); 
+			case 0x214f49:  return((char)0x7a61); 
+			case 0x214f4a:  return((char)0x7a62); 
+			case 0x214f4b:  return((char)0x7a6b); 
+			case 0x214f4c:  return((char)0x7a69); 
+			case 0x214f4d:  return((char)0x7a74); 
+			case 0x214f4e:  return((char)0x7a76); 
+			case 0x214f4f:  return((char)0x7a79); 
+			case 0x214f50:  return((char)0x7a7a); 
+			case 0x214f51:  return((char)0x7a7f); 
+			case 0x214f52:  return((char)0x7a81); 
+			case 0x214f53:  return((char)0x7a84); 
+			case 0x214f54:  return((char)0x7a88); 
+			case 0x214f55:  return((char)0x7a92); 
+			case 0x214f56:  return((char)0x7a95); 
+			case 0x214f57:  return((char)0x7a98); 
+			case 0x214f58:  return((char)0x7a96); 
+			case 0x214f59:  return((char)0x7a97); 
+			case 0x214f5a:  return((char)0x7a9f); 
+			case 0x214f5b:  return((char)0x7aa0); 
+			case 0x214f5c:  return((char)0x7aaa); 
+			case 0x214f5d:  return((char)0x7aa9); 
+			case 0x214f5e:  return((char)0x7aaf); 
+			case 0x214f5f:  return((char)0x7aae); 
+			case 0x214f60:  return((char)0x7aba); 
+			case 0x214f61:  return((char)0x7ac5); 
+			case 0x214f62:  return((char)0x7ac4); 
+			case 0x214f63:  return((char)0x7ac7); 
+			case 0x214f64:  return((char)0x7aca); 
+			case 0x214f65:  return((char)0x7acb); 
+			case 0x214f66:  return((char)0x7ad9); 
+			case 0x214f67:  return((char)0x7ae5); 
+			case 0x214f68:  return((char)0x7ae3); 
+			case 0x214f69:  return((char)0x7aed); 
+			case 0x214f6a:  return((char)0x7aef); 
+			case 0x214f6b:  return((char)0x7af6); 
+			case 0x214f6c:  return((char)0x7af9); 
+			case 0x214f6d:  return((char)0x7afa); 
+			case 0x214f6e:  return((char)0x7aff); 
+			case 0x214f6f:  return((char)0x7afd); 
+			case 0x214f70:  return((char)0x7b06); 
+			case 0x214f71:  return((char)0x7b11); 
+			case 0x214f72:  return((char)0x7b20); 
+			case 0x214f73:  return((char)0x7b2c); 
+			case 0x214f74:  return((char)0x7b28); 
+			case 0x214f75:  return((char)0x7b1b); 
+			case 0x214f76:  return((char)0x7b1e); 
+			case 0x214f77:  return((char)0x7b19); 
+			case 0x214f78:  return((char)0x7b26); 
+			case 0x214f79:  return((char)0x7b46); 
+			case 0x214f7a:  return((char)0x7b49); 
+			case 0x214f7b:  return((char)0x7b50); 
+			case 0x214f7c:  return((char)0x7b56); 
+			case 0x214f7d:  return((char)0x7b52); 
+			case 0x214f7e:  return((char)0x7b4b); 
+			default: return((char)0);
+		}
+	}
+
+	private char getMultiByteChar_0x215000_0x21ffff(int c) {
+		switch(c) {
+			case 0x215021:  return((char)0x7b4d); 
+			case 0x215022:  return((char)0x7b4f); 
+			case 0x215023:  return((char)0x7b54); 
+			case 0x215024:  return((char)0x7b60); 
+			case 0x215025:  return((char)0x7b77); 
+			case 0x215026:  return((char)0x7b75); 
+			case 0x215027:  return((char)0x7ba1); 
+			case 0x215028:  return((char)0x7b94); 
+			case 0x215029:  return((char)0x7b95); 
+			case 0x21502a:  return((char)0x7b9d); 
+			case 0x21502b:  return((char)0x7b8b); 
+			case 0x21502c:  return((char)0x7b97); 
+			case 0x21502d:  return((char)0x7b8f); 
+			case 0x21502e:  return((char)0x7bc7); 
+			case 0x21502f:  return((char)0x7bad); 
+			case 0x215030:  return((char)0x7bc4); 
+			case 0x215031:  return((char)0x7bb1); 
+			case 0x215032:  return((char)0x7bb4); 
+			case 0x215033:  return((char)0x7bc0); 
+			case 0x215034:  return((char)0x7bc6); 
+			case 0x215035:  return((char)0x7bc1); 
+			case 0x215036:  return((char)0x7c11); 
+			case 0x215037:  return((char)0x7bd9); 
+			case 0x215038:  return((char)0x7bdb); 
+			case 0x215039:  return((char)0x7be4); 
+			case 0x21503a:  return((char)0x7bc9); 
+			case 0x21503b:  return((char)0x7be1); 
+			case 0x21503c:  return((char)0x7be9); 
+			case 0x21503d:  return((char)0x7c07); 
+			case 0x21503e:  return((char)0x7c0d); 
+			case 0x21503f:  return((char)0x7bfe); 
+			case 0x215040:  return((char)0x7bf7); 
+			case 0x215041:  return((char)0x7c21); 
+			case 0x215042:  return((char)0x7c2b); 
+			case 0x215043:  return((char)0x7c2a); 
+			case 0x215044:  return((char)0x7c27); 
+			case 0x215045:  return((char)0x7c1e); 
+			case 0x215046:  return((char)0x7c23); 
+			case 0x215047:  return((char)0x7c3f); 
+			case 0x215048:  return((char)0x7c3e); 
+			case 0x215049:  return((char)0x7c38); 
+			case 0x21504a:  return((char)0x7c37); 
+			case 0x21504b:  return((char)0x7c3d); 
+			case 0x21504c:  return((char)0x7c43); 
+			case 0x21504d:  return((char)0x7c4c); 
+			case 0x21504e:  return((char)0x7c4d); 
+			case 0x21504f:  return((char)0x7c50); 
+			case 0x215050:  return((char)0x7c60); 
+			case 0x215051:  return((char)0x7c5f); 
+			case 0x215052:  return((char)0x7c64); 
+			case 0x215053:  return((char)0x7c6c); 
+			case 0x215054:  return((char)0x7c6e); 
+			case 0x215055:  return((char)0x7c72); 
+			case 0x215056:  return((char)0x7c73); 
+			case 0x215057:  return((char)0x7c89); 
+			case 0x215058:  return((char)0x7c92); 
+			case 0x215059:  return((char)0x7c97); 
+			case 0x21505a:  return((char)0x7c9f); 
+			case 0x21505b:  return((char)0x7ca5); 
+			case 0x21505c:  return((char)0x7ca4); 
+			case 0x21505d:  return((char)0x7cb1); 
+			case 0x21505e:  return((char)0x7cb3); 
+			case 0x21505f:  return((char)0x7cbd); 
+			case 0x215060:  return((char)0x7cb9); 
+			case 0x215061:  return((char)0x7cbe); 
+			case 0x215062:  return((char)0x7cca); 
+			case 0x215063:  return((char)0x7cd6); 
+			case 0x215064:  return((char)0x7cd5); 
+			case 0x215065:  return((char)0x7ce0); 
+			case 0x215066:  return((char)0x7cdc); 
+			case 0x215067:  return((char)0x7cdf); 
+			case 0x215068:  return((char)0x7cde); 
+			case 0x215069:  return((char)0x7ce2); 
+			case 0x21506a:  return((char)0x7cd9); 
+			case 0x21506b:  return((char)0x7ce7); 
+			case 0x21506c:  return((char)0x7cef); 
+			case 0x21506e:  return((char)0x7cfb); 
+			case 0x21506f:  return((char)0x7cfe); 
+			case 0x215070:  return((char)0x7d00); 
+			case 0x215071:  return((char)0x7d02); 
+			case 0x215072:  return((char)0x7d05); 
+			case 0x215073:  return((char)0x7d09); 
+			case 0x215074:  return((char)0x7d04); 
+			case 0x215075:  return((char)0x7d07); 
+			case 0x215076:  return((char)0x7d21); 
+			case 0x215077:  return((char)0x7d0b); 
+			case 0x215078:  return((char)0x7d0a); 
+			case 0x215079:  return((char)0x7d20); 
+			case 0x21507a:  return((char)0x7d1c); 
+			case 0x21507b:  return((char)0x7d22); 
+			case 0x21507c:  return((char)0x7d15); 
+			case 0x21507d:  return((char)0x7d14); 
+			case 0x21507e:  return((char)0x7d10); 
+			case 0x215121:  return((char)0x7d17); 
+			case 0x215122:  return((char)0x7d0d); 
+			case 0x215123:  return((char)0x7d1a); 
+			case 0x215124:  return((char)0x7d19); 
+			case 0x215125:  return((char)0x7d1b); 
+			case 0x215126:  return((char)0x7d46); 
+			case 0x215128:  return((char)0x7d3c); 
+			case 0x215129:  return((char)0x7d2e); 
+			case 0x21512a:  return((char)0x7d39); 
+			case 0x21512b:  return((char)0x7d44); 
+			case 0x21512c:  return((char)0x7d30); 
+			case 0x21512d:  return((char)0x7d33); 
+			case 0x21512e:  return((char)0x7d2f); 
+			case 0x21512f:  return((char)0x7d40); 
+			case 0x215130:  return((char)0x7d42); 
+			case 0x215131:  return((char)0x7d71); 
+			case 0x215132:  return((char)0x7d5e); 
+			case 0x215133:  return((char)0x7d68); 
+			case 0x215134:  return((char)0x7d50); 
+			case 0x215135:  return((char)0x7d2b); 
+			case 0x215136:  return((char)0x7d62); 
+			case 0x215137:  return((char)0x7d76); 
+			case 0x215138:  return((char)0x7d61); 
+			case 0x215139:  return((char)0x7d66); 
+			case 0x21513a:  return((char)0x7d6e); 
+			case 0x21513b:  return((char)0x7d72); 
+			case 0x21513c:  return((char)0x7d93); 
+			case 0x21513d:  return((char)0x7d91); 
+			case 0x21513e:  return((char)0x7d79); 
+			case 0x21513f:  return((char)0x7d8f); 
+			case 0x215140:  return((char)0x7d81); 
+			case 0x215141:  return((char)0x7d9c); 
+			case 0x215142:  return((char)0x7dbb); 
+			case 0x215143:  return((char)0x7db0); 
+			case 0x215144:  return((char)0x7dca); 
+			case 0x215145:  return((char)0x7dbe); 
+			case 0x215146:  return((char)0x7db4); 
+			case 0x215147:  return((char)0x7dba); 
+			case 0x215148:  return((char)0x7db2); 
+			case 0x215149:  return((char)0x7db1); 
+			case 0x21514a:  return((char)0x7dbd); 
+			case 0x21514b:  return((char)0x7db5); 
+			case 0x21514c:  return((char)0x7da0); 
+			case 0x21514d:  return((char)0x7da2); 
+			case 0x21514e:  return((char)0x7dad); 
+			case 0x21514f:  return((char)0x7dbf); 
+			case 0x215150:  return((char)0x7db8); 
+			case 0x215151:  return((char)0x7dc7); 
+			case 0x215152:  return((char)0x7de0); 
+			case 0x215153:  return((char)0x7def); 
+			case 0x215154:  return((char)0x7df4); 
+			case 0x215155:  return((char)0x7dd6); 
+			case 0x215156:  return((char)0x7dd8); 
+			case 0x215157:  return((char)0x7dec); 
+			case 0x215158:  return((char)0x7ddd); 
+			case 0x215159:  return((char)0x7de9); 
+			case 0x21515a:  return((char)0x7de3); 
+			case 0x21515b:  return((char)0x7de8); 
+			case 0x21515c:  return((char)0x7dda); 
+			case 0x21515d:  return((char)0x7d9e); 
+			case 0x21515e:  return((char)0x7dde); 
+			case 0x21515f:  return((char)0x7e11); 
+			case 0x215160:  return((char)0x7e0a); 
+			case 0x215161:  return((char)0x7e08); 
+			case 0x215162:  return((char)0x7e1b); 
+			case 0x215163:  return((char)0x7dfb); 
+			case 0x215164:  return((char)0x7e23); 
+			case 0x215165:  return((char)0x7e2e); 
+			case 0x215166:  return((char)0x7e3e); 
+			case 0x215167:  return((char)0x7e46); 
+			case 0x215168:  return((char)0x7e37); 
+			case 0x215169:  return((char)0x7e32); 
+			case 0x21516a:  return((char)0x7e43); 
+			case 0x21516b:  return((char)0x7e41); 
+			case 0x21516c:  return((char)0x7e2b); 
+			case 0x21516d:  return((char)0x7e3d); 
+			case 0x21516e:  return((char)0x7e31); 
+			case 0x21516f:  return((char)0x7e45); 
+			case 0x215170:  return((char)0x7e55); 
+			case 0x215171:  return((char)0x7e54); 
+			case 0x215172:  return((char)0x7e61); 
+			case 0x215173:  return((char)0x7e5e); 
+			case 0x215174:  return((char)0x7e5a); 
+			case 0x215175:  return((char)0x7e6b); 
+			case 0x215176:  return((char)0x7e69); 
+			case 0x215177:  return((char)0x7e6d); 
+			case 0x215178:  return((char)0x7e79); 
+			case 0x215179:  return((char)0x7e6a); 
+			case 0x21517a:  return((char)0x8fae); 
+			case 0x21517b:  return((char)0x7e7d); 
+			case 0x21517c:  return((char)0x7e82); 
+			case 0x21517d:  return((char)0x7e7c); 
+			case 0x21517e:  return((char)0x7e8f); 
+			case 0x215221:  return((char)0x7e8c); 
+			case 0x215222:  return((char)0x7e93); 
+			case 0x215223:  return((char)0x7e96); 
+			case 0x215224:  return((char)0x7e9c); 
+			case 0x215226:  return((char)0x7f38); 
+			case 0x215227:  return((char)0x7f3a); 
+			case 0x215228:  return((char)0x7f3d); 
+			case 0x215229:  return((char)0x7f44); 
+			case 0x21522b:  return((char)0x7f50); 
+			case 0x21522c:  return((char)0x7f55); 
+			case 0x21522d:  return((char)0x7f54); 
+			case 0x21522e:  return((char)0x7f5f); 
+			case 0x21522f:  return((char)0x7f72); 
+			case 0x215230:  return((char)0x7f6e); 
+			case 0x215231:  return((char)0x7f69); 
+			case 0x215232:  return((char)0x7f6a); 
+			case 0x215233:  return((char)0x7f70); 
+			case 0x215234:  return((char)0x7f75); 
+			case 0x215235:  return((char)0x7f77); 
+			case 0x215236:  return((char)0x7f79); 
+			case 0x215237:  return((char)0x7f85); 
+			case 0x215238:  return((char)0x7f88); 
+			case 0x215239:  return((char)0x7f8a); 
+			case 0x21523a:  return((char)0x7f8c); 
+			case 0x21523b:  return((char)0x7f8e); 
+			case 0x21523c:  return((char)0x7f94); 
+			case 0x21523d:  return((char)0x7f9e); 
+			case 0x21523e:  return((char)0x7f9a); 
+			case 0x21523f:  return((char)0x5584); 
+			case 0x215240:  return((char)0x7fa8); 
+			case 0x215241:  return((char)0x7fa4); 
+			case 0x215242:  return((char)0x7fa9); 
+			case 0x215243:  return((char)0x7faf); 
+			case 0x215244:  return((char)0x7fb2); 
+			case 0x215245:  return((char)0x7fb6); 
+			case 0x215246:  return((char)0x7fb8); 
+			case 0x215247:  return((char)0x7fb9); 
+			case 0x215248:  return((char)0x7fbd); 
+			case 0x215249:  return((char)0x7fbf); 
+			case 0x21524a:  return((char)0x7fc5); 
+			case 0x21524b:  return((char)0x7fc1); 
+			case 0x21524c:  return((char)0x7fcc); 
+			case 0x21524d:  return((char)0x7fd2); 
+			case 0x21524e:  return((char)0x7fce); 
+			case 0x21524f:  return((char)0x7fd4); 
+			case 0x215250:  return((char)0x7fd5); 
+			case 0x215251:  return((char)0x7fe0); 
+			case 0x215252:  return((char)0x7fe1); 
+			case 0x215253:  return((char)0x7fdf); 
+			case 0x215254:  return((char)0x7fe9); 
+			case 0x215255:  return((char)0x7ff0); 
+			case 0x215256:  return((char)0x7ff3); 
+			case 0x215257:  return((char)0x7ffc); 
+			case 0x215258:  return((char)0x7ff9); 
+			case 0x215259:  return((char)0x7ffb); 
+			case 0x21525a:  return((char)0x7ff1); 
+			case 0x21525b:  return((char)0x8000); 
+			case 0x21525c:  return((char)0x8001); 
+			case 0x21525d:  return((char)0x8003); 
+			case 0x21525e:  return((char)0x8006); 
+			case 0x21525f:  return((char)0x8005); 
+			case 0x215260:  return((char)0x800c); 
+			case 0x215261:  return((char)0x8010); 
+			case 0x215262:  return((char)0x800d); 
+			case 0x215263:  return((char)0x8012); 
+			case 0x215264:  return((char)0x8015); 
+			case 0x215265:  return((char)0x8018); 
+			case 0x215266:  return((char)0x8019); 
+			case 0x215267:  return((char)0x8017); 
+			case 0x215268:  return((char)0x801c); 
+			case 0x215269:  return((char)0x8033); 
+			case 0x21526a:  return((char)0x8036); 
+			case 0x21526b:  return((char)0x803f); 
+			case 0x21526c:  return((char)0x803d); 
+			case 0x21526d:  return((char)0x804a); 
+			case 0x21526e:  return((char)0x8046); 
+			case 0x21526f:  return((char)0x8056); 
+			case 0x215270:  return((char)0x8058); 
+			case 0x215271:  return((char)0x805e); 
+			case 0x215272:  return((char)0x805a); 
+			case 0x215273:  return((char)0x8071); 
+			case 0x215274:  return((char)0x8072); 
+			case 0x215275:  return((char)0x8073); 
+			case 0x215276:  return((char)0x8070); 
+			case 0x215277:  return((char)0x806f); 
+			case 0x215278:  return((char)0x8077); 
+			case 0x215279:  return((char)0x8076); 
+			case 0x21527a:  return((char)0x807e); 
+			case 0x21527b:  return((char)0x807d); 
+			case 0x21527c:  return((char)0x807f); 
+			case 0x21527e:  return((char)0x8084); 
+			case 0x215321:  return((char)0x8085); 
+			case 0x215322:  return((char)0x8087); 
+			case 0x215323:  return((char)0x8089); 
+			case 0x215324:  return((char)0x808b); 
+			case 0x215325:  return((char)0x808c); 
+			case 0x215326:  return((char)0x8093); 
+			case 0x215327:  return((char)0x809d); 
+			case 0x215328:  return((char)0x8098); 
+			case 0x215329:  return((char)0x809b); 
+			case 0x21532a:  return((char)0x809a); 
+			case 0x21532b:  return((char)0x8096); 
+			case 0x21532c:  return((char)0x80b2); 
+			case 0x21532d:  return((char)0x80aa); 
+			case 0x21532e:  return((char)0x80ba); 
+			case 0x21532f:  return((char)0x80a5); 
+			case 0x215330:  return((char)0x80a2); 
+			case 0x215331:  return((char)0x80ab); 
+			case 0x215332:  return((char)0x80b1); 
+			case 0x215333:  return((char)0x80af); 
+			case 0x215334:  return((char)0x80a1); 
+			case 0x215335:  return((char)0x80a9); 
+			case 0x215336:  return((char)0x80b4); 
+			case 0x215337:  return((char)0x80d6); 
+			case 0x215338:  return((char)0x80cc); 
+			case 0x215339:  return((char)0x80e5); 
+			case 0x21533a:  return((char)0x80da); 
+			case 0x21533b:  return((char)0x80e1); 
+			case 0x21533c:  return((char)0x80c3); 
+			case 0x21533d:  return((char)0x80db); 
+			case 0x21533e:  return((char)0x80c4); 
+			case 0x21533f:  return((char)0x80ce); 
+			case 0x215340:  return((char)0x80de); 
+			case 0x215341:  return((char)0x80e4); 
+			case 0x215342:  return((char)0x80f0); 
+			case 0x215343:  return((char)0x8102); 
+			case 0x215344:  return((char)0x8105); 
+			case 0x215345:  return((char)0x80f1); 
+			case 0x215346:  return((char)0x80f4); 
+			case 0x215347:  return((char)0x80ed); 
+			case 0x215348:  return((char)0x80fd); 
+			case 0x215349:  return((char)0x8106); 
+			case 0x21534a:  return((char)0x80f3); 
+			case 0x21534b:  return((char)0x80f8); 
+			case 0x21534c:  return((char)0x810a); 
+			case 0x21534d:  return((char)0x8108); 
+			case 0x21534e:  return((char)0x812b); 
+			case 0x21534f:  return((char)0x812f); 
+			case 0x215350:  return((char)0x8116); 
+			case 0x215352:  return((char)0x8129); 
+			case 0x215353:  return((char)0x8155); 
+			case 0x215354:  return((char)0x8154); 
+			case 0x215355:  return((char)0x814b); 
+			case 0x215356:  return((char)0x8151); 
+			case 0x215357:  return((char)0x8150); 
+			case 0x215358:  return((char)0x814e); 
+			case 0x215359:  return((char)0x8139); 
+			case 0x21535a:  return((char)0x8146); 
+			case 0x21535b:  return((char)0x813e); 
+			case 0x21535c:  return((char)0x8171); 
+			case 0x21535d:  return((char)0x8170); 
+			case 0x21535e:  return((char)0x8178); 
+			case 0x21535f:  return((char)0x8165); 
+			case 0x215360:  return((char)0x816e); 
+			case 0x215361:  return((char)0x8173); 
+			case 0x215362:  return((char)0x816b); 
+			case 0x215363:  return((char)0x8179); 
+			case 0x215364:  return((char)0x817a); 
+			case 0x215365:  return((char)0x8166); 
+			case 0x215366:  return((char)0x8180); 
+			case 0x215367:  return((char)0x818f); 
+			case 0x215368:  return((char)0x817f); 
+			case 0x215369:  return((char)0x818a); 
+			case 0x21536a:  return((char)0x8188); 
+			case 0x21536b:  return((char)0x819d); 
+			case 0x21536c:  return((char)0x81a0); 
+			case 0x21536d:  return((char)0x819b); 
+			case 0x21536e:  return((char)0x819a); 
+			case 0x21536f:  return((char)0x819c); 
+			case 0x215370:  return((char)0x81b3); 
+			case 0x215371:  return((char)0x81a9); 
+			case 0x215372:  return((char)0x81a8); 
+			case 0x215373:  return((char)0x81c6); 
+			case 0x215374:  return((char)0x81ba); 
+			case 0x215375:  return((char)0x81c3); 
+			case 0x215376:  return((char)0x81c0); 
+			case 0x215377:  return((char)0x81c2); 
+			case 0x215378:  return((char)0x81bf); 
+			case 0x215379:  return((char)0x81bd); 
+			case 0x21537a:  return((char)0x81c9); 
+			case 0x21537b:  return((char)0x81be); 
+			case 0x21537c:  return((char)0x81cd); 
+			case 0x21537d:  return((char)0x81cf); 
+			case 0x21537e:  return((char)0x81d8); 
+			case 0x215421:  return((char)0x81da); 
+			case 0x215422:  return((char)0x81df); 
+			case 0x215423:  return((char)0x81e3); 
+			case 0x215424:  return((char)0x81e5); 
+			case 0x215425:  return((char)0x81e8); 
+			case 0x215426:  return((char)0x81ea); 
+			case 0x215427:  return((char)0x81ec); 
+			case 0x215428:  return((char)0x81ed); 
+			case 0x215429:  return((char)0x81f3); 
+			case 0x21542b:  return((char)0x81fa); 
+			case 0x21542c:  return((char)0x81fb); 
+			case 0x21542d:  return((char)0x81fc); 
+			case 0x21542e:  return((char)0x81fe); 
+			case 0x21542f:  return((char)0x8200); 
+			case 0x215430:  return((char)0x8202); 
+			case 0x215431:  return((char)0x8205); 
+			case 0x215432:  return((char)0x8207); 
+			case 0x215433:  return((char)0x8208); 
+			case 0x215434:  return((char)0x8209); 
+			case 0x215435:  return((char)0x820a); 
+			case 0x215436:  return((char)0x820c); 
+			case 0x215437:  return((char)0x820d); 
+			case 0x215438:  return((char)0x8210); 
+			case 0x215439:  return((char)0x8212); 
+			case 0x21543a:  return((char)0x8214); 
+			case 0x21543b:  return((char)0x821b); 
+			case 0x21543c:  return((char)0x821c); 
+			case 0x21543d:  return((char)0x821e); 
+			case 0x21543e:  return((char)0x821f); 
+			case 0x21543f:  return((char)0x8222); 
+			case 0x215440:  return((char)0x822a); 
+			case 0x215441:  return((char)0x822b); 
+			case 0x215442:  return((char)0x822c); 
+			case 0x215443:  return((char)0x8228); 
+			case 0x215444:  return((char)0x8237); 
+			case 0x215445:  return((char)0x8235); 
+			case 0x215446:  return((char)0x8239); 
+			case 0x215447:  return((char)0x8236); 
+			case 0x215448:  return((char)0x8247); 
+			case 0x215449:  return((char)0x8258); 
+			case 0x21544a:  return((char)0x8259); 
+			case 0x21544b:  return((char)0x8266); 
+			case 0x21544c:  return((char)0x826e); 
+			case 0x21544d:  return((char)0x826f); 
+			case 0x21544e:  return((char)0x8271); 
+			case 0x21544f:  return((char)0x8272); 
+			case 0x215450:  return((char)0x827e); 
+			case 0x215451:  return((char)0x8292); 
+			case 0x215452:  return((char)0x828b); 
+			case 0x215453:  return((char)0x828d); 
+			case 0x215454:  return((char)0x82b3); 
+			case 0x215455:  return((char)0x829d); 
+			case 0x215456:  return((char)0x8299); 
+			case 0x215457:  return((char)0x82bd); 
+			case 0x215458:  return((char)0x82ad); 
+			case 0x215459:  return((char)0x82ac); 
+			case 0x21545a:  return((char)0x82a5); 
+			case 0x21545b:  return((char)0x829f); 
+			case 0x21545c:  return((char)0x82bb); 
+			case 0x21545d:  return((char)0x82b1); 
+			case 0x21545e:  return((char)0x82b9); 
+			case 0x215460:  return((char)0x82e7); 
+			case 0x215461:  return((char)0x8305); 
+			case 0x215462:  return((char)0x8309); 
+			case 0x215463:  return((char)0x82e3); 
+			case 0x215464:  return((char)0x82db); 
+			case 0x215465:  return((char)0x82e6); 
+			case 0x215466:  return((char)0x8304); 
+			case 0x215467:  return((char)0x82e5); 
+			case 0x215468:  return((char)0x8302); 
+			case 0x215469:  return((char)0x82dc); 
+			case 0x21546a:  return((char)0x82d7); 
+			case 0x21546b:  return((char)0x82f1); 
+			case 0x21546c:  return((char)0x8301); 
+			case 0x21546d:  return((char)0x82d3); 
+			case 0x21546e:  return((char)0x82d4); 
+			case 0x21546f:  return((char)0x82d1); 
+			case 0x215470:  return((char)0x82de); 
+			case 0x215471:  return((char)0x82df); 
+			case 0x215472:  return((char)0x832b); 
+			case 0x215473:  return((char)0x8352); 
+			case 0x215474:  return((char)0x834a); 
+			case 0x215475:  return((char)0x8338); 
+			case 0x215476:  return((char)0x8354); 
+			case 0x215477:  return((char)0x8350); 
+			case 0x215478:  return((char)0x8349); 
+			case 0x215479:  return((char)0x8335); 
+			case 0x21547a:  return((char)0x8334); 
+			case 0x21547b:  return((char)0x8336); 
+			case 0x21547c:  return((char)0x8331); 
+			case 0x21547d:  return((char)0x8340); 
+			case 0x21547e:  return((char)0x8317); 
+			case 0x215521:  return((char)0x5179); 
+			case 0x215522:  return((char)0x834f); 
+			case 0x215523:  return((char)0x8339); 
+			case 0x215524:  return((char)0x838e); 
+			case 0x215525:  return((char)0x8398); 
+			case 0x215526:  return((char)0x839e); 
+			case 0x215527:  return((char)0x8378); 
+			case 0x215528:  return((char)0x83a2); 
+			case 0x215529:  return((char)0x8396); 
+			case 0x21552a:  return((char)0x83a7); 
+			case 0x21552b:  return((char)0x83ab); 
+			case 0x21552c:  return((char)0x8392); 
+			case 0x21552d:  return((char)0x838a); 
+			case 0x21552e:  return((char)0x8393); 
+			case 0x21552f:  return((char)0x83a0); 
+			case 0x215530:  return((char)0x8389); 
+			case 0x215531:  return((char)0x8377); 
+			case 0x215532:  return((char)0x837c); 
+			case 0x215533:  return((char)0x837b); 
+			case 0x215534:  return((char)0x840d); 
+			case 0x215535:  return((char)0x83e0); 
+			case 0x215536:  return((char)0x83e9); 
+			case 0x215538:  return((char)0x8403); 
+			case 0x215539:  return((char)0x83c5); 
+			case 0x21553a:  return((char)0x83c1); 
+			case 0x21553b:  return((char)0x840b); 
+			case 0x21553c:  return((char)0x83ef); 
+			case 0x21553e:  return((char)0x83f1); 
+			case 0x21553f:  return((char)0x83bd); 
+			case 0x215541:  return((char)0x840a); 
+			case 0x215542:  return((char)0x840c); 
+			case 0x215543:  return((char)0x83cc); 
+			case 0x215544:  return((char)0x83dc); 
+			case 0x215545:  return((char)0x83ca); 
+			case 0x215546:  return((char)0x83f2); 
+			case 0x215547:  return((char)0x840e); 
+			case 0x215548:  return((char)0x8404); 
+			case 0x215549:  return((char)0x843d); 
+			case 0x21554a:  return((char)0x8482); 
+			case 0x21554b:  return((char)0x8431); 
+			case 0x21554c:  return((char)0x8475); 
+			case 0x21554d:  return((char)0x8466); 
+			case 0x21554e:  return((char)0x8457); 
+			case 0x21554f:  return((char)0x8449); 
+			case 0x215550:  return((char)0x846c); 
+			case 0x215551:  return((char)0x846b); 
+			case 0x215552:  return((char)0x845b); 
+			case 0x215553:  return((char)0x8477); 
+			case 0x215554:  return((char)0x843c); 
+			case 0x215555:  return((char)0x8435); 
+			case 0x215556:  return((char)0x8461); 
+			case 0x215557:  return((char)0x8463); 
+			case 0x215558:  return((char)0x8469); 
+			case 0x215559:  return((char)0x8438); 
+			case 0x21555a:  return((char)0x84b2); 
+			case 0x21555b:  return((char)0x849e); 
+			case 0x21555c:  return((char)0x84bf); 
+			case 0x21555d:  return((char)0x84c6); 
+			case 0x21555e:  return((char)0x84c4); 
+			case 0x21555f:  return((char)0x84c9); 
+			case 0x215560:  return((char)0x849c); 
+			case 0x215561:  return((char)0x84cb); 
+			case 0x215562:  return((char)0x84b8); 
+			case 0x215563:  return((char)0x84c0); 
+			case 0x215564:  return((char)0x8499); 
+			case 0x215565:  return((char)0x84d3); 
+			case 0x215566:  return((char)0x8490); 
+			case 0x215567:  return((char)0x84bc); 
+			case 0x215568:  return((char)0x853d); 
+			case 0x215569:  return((char)0x84ff); 
+			case 0x21556a:  return((char)0x8517); 
+			case 0x21556b:  return((char)0x851a); 
+			case 0x21556c:  return((char)0x84ee); 
+			case 0x21556d:  return((char)0x852c); 
+			case 0x21556e:  return((char)0x852d); 
+			case 0x21556f:  return((char)0x8513); 
+			case 0x215571:  return((char)0x8523); 
+			case 0x215572:  return((char)0x8521); 
+			case 0x215573:  return((char)0x8514); 
+			case 0x215574:  return((char)0x84ec); 
+			case 0x215575:  return((char)0x8525); 
+			case 0x215576:  return((char)0x8569); 
+			case 0x215577:  return((char)0x854a); 
+			case 0x215578:  return((char)0x8559); 
+			case 0x215579:  return((char)0x8548); 
+			case 0x21557a:  return((char)0x8568); 
+			case 0x21557b:  return((char)0x8543); 
+			case 0x21557c:  return((char)0x856a); 
+			case 0x21557d:  return((char)0x8549); 
+			case 0x21557e:  return((char)0x8584); 
+			case 0x215621:  return((char)0x85aa); 
+			case 0x215622:  return((char)0x856d); 
+			case 0x215623:  return((char)0x859b); 
+			case 0x215624:  return((char)0x8591); 
+			case 0x215625:  return((char)0x857e); 
+			case 0x215626:  return((char)0x8594); 
+			case 0x215627:  return((char)0x859c); 
+			case 0x215628:  return((char)0x8587); 
+			case 0x215629:  return((char)0x85cd); 
+			case 0x21562a:  return((char)0x85a9); 
+			case 0x21562b:  return((char)0x85cf); 
+			case 0x21562c:  return((char)0x85af); 
+			case 0x21562d:  return((char)0x85d0); 
+			case 0x21562e:  return((char)0x85c9); 
+			case 0x21562f:  return((char)0x85b0); 
+			case 0x215630:  return((char)0x85e9); 
+			case 0x215631:  return((char)0x85dd); 
+			case 0x215632:  return((char)0x85ea); 
+			case 0x215633:  return((char)0x85e4); 
+			case 0x215634:  return((char)0x85d5); 
+			case 0x215635:  return((char)0x85e5); 
+			case 0x215636:  return((char)0x85fb); 
+			case 0x215637:  return((char)0x85f9); 
+			case 0x215638:  return((char)0x8611); 
+			case 0x215639:  return((char)0x85fa); 
+			case 0x21563a:  return((char)0x8606); 
+			case 0x21563b:  return((char)0x860b); 
+			case 0x21563c:  return((char)0x8607); 
+			case 0x21563d:  return((char)0x860a); 
+			case 0x21563e:  return((char)0x862d); 
+			case 0x21563f:  return((char)0x8617); 
+			case 0x215640:  return((char)0x861a); 
+			case 0x215641:  return((char)0x8638); 
+			case 0x215642:  return((char)0x863f); 
+			case 0x215643:  return((char)0x864e); 
+			case 0x215644:  return((char)0x8650); 
+			case 0x215645:  return((char)0x8654); 
+			case 0x215646:  return((char)0x5f6a); 
+			case 0x215647:  return((char)0x8655); 
+			case 0x215648:  return((char)0x865c); 
+			case 0x215649:  return((char)0x865b); 
+			case 0x21564a:  return((char)0x865f); 
+			case 0x21564b:  return((char)0x865e); 
+			case 0x21564c:  return((char)0x8667); 
+			case 0x21564f:  return((char)0x8679); 
+			case 0x215650:  return((char)0x86a9); 
+			case 0x215651:  return((char)0x86aa); 
+			case 0x215652:  return((char)0x868a); 
+			case 0x215653:  return((char)0x8693); 
+			case 0x215654:  return((char)0x86a4); 
+			case 0x215655:  return((char)0x868c); 
+			case 0x215656:  return((char)0x86a3); 
+			case 0x215657:  return((char)0x86c0); 
+			case 0x215658:  return((char)0x86c7); 
+			case 0x215659:  return((char)0x86b5); 
+			case 0x21565a:  return((char)0x86cb); 
+			case 0x21565b:  return((char)0x86b6); 
+			case 0x21565c:  return((char)0x86c4); 
+			case 0x21565d:  return((char)0x86c6); 
+			case 0x21565e:  return((char)0x86b1); 
+			case 0x21565f:  return((char)0x86af); 
+			case 0x215660:  return((char)0x86df); 
+			case 0x215661:  return((char)0x86d9); 
+			case 0x215662:  return((char)0x86ed); 
+			case 0x215663:  return((char)0x86d4); 
+			case 0x215664:  return((char)0x86db); 
+			case 0x215665:  return((char)0x86e4); 
+			case 0x215666:  return((char)0x86fb); 
+			case 0x215667:  return((char)0x86f9); 
+			case 0x215668:  return((char)0x8707); 
+			case 0x215669:  return((char)0x8703); 
+			case 0x21566a:  return((char)0x8708); 
+			case 0x21566b:  return((char)0x8700); 
+			case 0x21566c:  return((char)0x86fe); 
+			case 0x21566d:  return((char)0x8713); 
+			case 0x21566e:  return((char)0x8702); 
+			case 0x21566f:  return((char)0x871c); 
+			case 0x215670:  return((char)0x873f); 
+			case 0x215671:  return((char)0x873b); 
+			case 0x215672:  return((char)0x8722); 
+			case 0x215673:  return((char)0x8725); 
+			case 0x215674:  return((char)0x8734); 
+			case 0x215675:  return((char)0x8718); 
+			case 0x215676:  return((char)0x8755); 
+			case 0x215677:  return((char)0x8760); 
+			case 0x215678:  return((char)0x8776); 
+			case 0x215679:  return((char)0x8774); 
+			case 0x21567a:  return((char)0x8766); 
+			case 0x21567b:  return((char)0x8778); 
+			case 0x21567c:  return((char)0x8768); 
+			case 0x21567d:  return((char)0x874c); 
+			case 0x21567e:  return((char)0x8757); 
+			case 0x215721:  return((char)0x8759); 
+			case 0x215722:  return((char)0x8783); 
+			case 0x215723:  return((char)0x8782); 
+			case 0x215724:  return((char)0x87a2); 
+			case 0x215725:  return((char)0x879e); 
+			case 0x215726:  return((char)0x878d); 
+			case 0x215727:  return((char)0x879f); 
+			case 0x215728:  return((char)0x87d1); 
+			case 0x215729:  return((char)0x87c0); 
+			case 0x21572a:  return((char)0x87ab); 
+			case 0x21572b:  return((char)0x87b3); 
+			case 0x21572c:  return((char)0x87bb); 
+			case 0x21572d:  return((char)0x87c8); 
+			case 0x21572e:  return((char)0x87d2); 
+			case 0x21572f:  return((char)0x87ba); 
+			case 0x215730:  return((char)0x87c6); 
+			case 0x215731:  return((char)0x87cb); 
+			case 0x215732:  return((char)0x87ef); 
+			case 0x215733:  return((char)0x87f2); 
+			case 0x215734:  return((char)0x87ec); 
+			case 0x215735:  return((char)0x87fb); 
+			case 0x215736:  return((char)0x8805); 
+			case 0x215737:  return((char)0x880d); 
+			case 0x215738:  return((char)0x87f9); 
+			case 0x215739:  return((char)0x8814); 
+			case 0x21573a:  return((char)0x8815); 
+			case 0x21573b:  return((char)0x8822); 
+			case 0x21573c:  return((char)0x8823); 
+			case 0x21573d:  return((char)0x8821); 
+			case 0x21573e:  return((char)0x881f); 
+			case 0x21573f:  return((char)0x8831); 
+			case 0x215740:  return((char)0x8839); 
+			case 0x215741:  return((char)0x8836); 
+			case 0x215742:  return((char)0x883b); 
+			case 0x215743:  return((char)0x8840); 
+			case 0x215744:  return((char)0x884c); 
+			case 0x215745:  return((char)0x884d); 
+			case 0x215746:  return((char)0x8853); 
+			case 0x215747:  return((char)0x8857); 
+			case 0x215748:  return((char)0x8859); 
+			case 0x215749:  return((char)0x885b); 
+			case 0x21574a:  return((char)0x885d); 
+			case 0x21574b:  return((char)0x8861); 
+			case 0x21574c:  return((char)0x8862); 
+			case 0x21574d:  return((char)0x8863); 
+			case 0x21574e:  return((char)0x521d); 
+			case 0x21574f:  return((char)0x8868); 
+			case 0x215750:  return((char)0x886b); 
+			case 0x215751:  return((char)0x8882); 
+			case 0x215752:  return((char)0x8881); 
+			case 0x215753:  return((char)0x8870); 
+			case 0x215754:  return((char)0x8877); 
+			case 0x215755:  return((char)0x8888); 
+			case 0x215756:  return((char)0x88ab); 
+			case 0x215757:  return((char)0x8892); 
+			case 0x215758:  return((char)0x8896); 
+			case 0x215759:  return((char)0x888d); 
+			case 0x21575a:  return((char)0x888b); 
+			case 0x21575b:  return((char)0x889e); 
+			case 0x21575c:  return((char)0x88c1); 
+			case 0x21575d:  return((char)0x88c2); 
+			case 0x21575e:  return((char)0x88b1); 
+			case 0x21575f:  return((char)0x88df); 
+			case 0x215760:  return((char)0x88d9); 
+			case 0x215761:  return((char)0x88d8); 
+			case 0x215762:  return((char)0x88dc); 
+			case 0x215763:  return((char)0x88cf); 
+			case 0x215764:  return((char)0x88d4); 
+			case 0x215765:  return((char)0x88dd); 
+			case 0x215766:  return((char)0x88d5); 
+			case 0x215767:  return((char)0x8902); 
+			case 0x215768:  return((char)0x88f3); 
+			case 0x215769:  return((char)0x88f8); 
+			case 0x21576a:  return((char)0x88f9); 
+			case 0x21576b:  return((char)0x88f4); 
+			case 0x21576c:  return((char)0x88fd); 
+			case 0x21576d:  return((char)0x88e8); 
+			case 0x21576e:  return((char)0x891a); 
+			case 0x21576f:  return((char)0x8910); 
+			case 0x215771:  return((char)0x8913); 
+			case 0x215772:  return((char)0x8912); 
+			case 0x215773:  return((char)0x8932); 
+			case 0x215774:  return((char)0x892a); 
+			case 0x215775:  return((char)0x8925); 
+			case 0x215776:  return((char)0x892b); 
+			case 0x215777:  return((char)0x893b); 
+			case 0x215778:  return((char)0x8936); 
+			case 0x215779:  return((char)0x8938); 
+			case 0x21577a:  return((char)0x8944); 
+			case 0x21577b:  return((char)0x895f); 
+			case 0x21577c:  return((char)0x8960); 
+			case 0x21577d:  return((char)0x8956); 
+			case 0x21577e:  return((char)0x8964); 
+			case 0x215821:  return((char)0x896a); 
+			case 0x215822:  return((char)0x896f); 
+			case 0x215823:  return((char)0x8972); 
+			case 0x215824:  return((char)0x897f); 
+			case 0x215825:  return((char)0x8981); 
+			case 0x215826:  return((char)0x8983); 
+			case 0x215828:  return((char)0x898b); 
+			case 0x215829:  return((char)0x898f); 
+			case 0x21582a:  return((char)0x8993); 
+			case 0x21582b:  return((char)0x8996); 
+			case 0x21582c:  return((char)0x89aa); 
+			case 0x21582d:  return((char)0x89a6); 
+			case 0x21582e:  return((char)0x89ac); 
+			case 0x21582f:  return((char)0x89b2); 
+			case 0x215830:  return((char)0x89ba); 
+			case 0x215831:  return((char)0x89bd); 
+			case 0x215832:  return((char)0x89c0); 
+			case 0x215833:  return((char)0x89d2); 
+			case 0x215834:  return((char)0x89e3); 
+			case 0x215835:  return((char)0x89f4); 
+			case 0x215836:  return((char)0x89f8); 
+			case 0x215837:  return((char)0x8a00); 
+			case 0x215838:  return((char)0x8a08); 
+			case 0x215839:  return((char)0x8a02); 
+			case 0x21583a:  return((char)0x8a03); 
+			case 0x21583b:  return((char)0x8a10); 
+			case 0x21583c:  return((char)0x8a18); 
+			case 0x21583d:  return((char)0x8a0e); 
+			case 0x21583e:  return((char)0x8a0c); 
+			case 0x21583f:  return((char)0x8a15); 
+			case 0x215840:  return((char)0x8a0a); 
+			case 0x215841:  return((char)0x8a16); 
+			case 0x215842:  return((char)0x8a17); 
+			case 0x215843:  return((char)0x8a13); 
+			case 0x215844:  return((char)0x8a2a); 
+			case 0x215845:  return((char)0x8a23); 
+			case 0x215846:  return((char)0x8a1d); 
+			case 0x215847:  return((char)0x8a25); 
+			case 0x215848:  return((char)0x8a31); 
+			case 0x215849:  return((char)0x8a2d); 
+			case 0x21584a:  return((char)0x8a1b); 
+			case 0x21584b:  return((char)0x8a1f); 
+			case 0x21584c:  return((char)0x8a3b); 
+			case 0x21584d:  return((char)0x8a60); 
+			case 0x21584e:  return((char)0x8a55); 
+			case 0x21584f:  return((char)0x8a5e); 
+			case 0x215851:  return((char)0x8a41); 
+			case 0x215852:  return((char)0x8a54); 
+			case 0x215853:  return((char)0x8a5b); 
+			case 0x215854:  return((char)0x8a50); 
+			case 0x215855:  return((char)0x8a46); 
+			case 0x215856:  return((char)0x8a34); 
+			case 0x215857:  return((char)0x8a3a); 
+			case 0x215858:  return((char)0x8a6b); 
+			case 0x215859:  return((char)0x8a72); 
+			case 0x21585a:  return((char)0x8a73); 
+			case 0x21585b:  return((char)0x8a66); 
+			case 0x21585c:  return((char)0x8a69); 
+			case 0x21585d:  return((char)0x8a70); 
+			case 0x21585e:  return((char)0x8a63); 
+			case 0x21585f:  return((char)0x8a7c); 
+			case 0x215860:  return((char)0x8aa0); 
+			case 0x215861:  return((char)0x8a87); 
+			case 0x215862:  return((char)0x8a85); 
+			case 0x215863:  return((char)0x8a6d); 
+			case 0x215864:  return((char)0x8a79); 
+			case 0x215865:  return((char)0x8a62); 
+			case 0x215866:  return((char)0x8a71); 
+			case 0x215867:  return((char)0x8a6e); 
+			case 0x215868:  return((char)0x8a6c); 
+			case 0x215869:  return((char)0x8aaa); 
+			case 0x21586a:  return((char)0x8aa6); 
+			case 0x21586b:  return((char)0x8aa1); 
+			case 0x21586c:  return((char)0x8a9e); 
+			case 0x21586d:  return((char)0x8a8c); 
+			case 0x21586e:  return((char)0x8a93); 
+			case 0x21586f:  return((char)0x8aa3); 
+			case 0x215870:  return((char)0x8a8d); 
+			case 0x215871:  return((char)0x8aa4); 
+			case 0x215872:  return((char)0x8aa8); 
+			case 0x215873:  return((char)0x8aa5); 
+			case 0x215874:  return((char)0x8a98); 
+			case 0x215875:  return((char)0x8a91); 
+			case 0x215876:  return((char)0x8abc); 
+			case 0x215877:  return((char)0x8ac4); 
+			case 0x215878:  return((char)0x8ad2); 
+			case 0x215879:  return((char)0x8ac7); 
+			case 0x21587a:  return((char)0x8acb); 
+			case 0x21587b:  return((char)0x8af8); 
+			case 0x21587c:  return((char)0x8ab2); 
+			case 0x21587d:  return((char)0x8abf); 
+			case 0x21587e:  return((char)0x8ac9); 
+			case 0x215921:  return((char)0x8ac2); 
+			case 0x215922:  return((char)0x8ab0); 
+			case 0x215923:  return((char)0x8a95); 
+			case 0x215924:  return((char)0x8ad6); 
+			case 0x215925:  return((char)0x8ae6); 
+			case 0x215926:  return((char)0x8afa); 
+			case 0x215927:  return((char)0x8aeb); 
+			case 0x215928:  return((char)0x8af1); 
+			case 0x215929:  return((char)0x8ae7); 
+			case 0x21592a:  return((char)0x8adc); 
+			case 0x21592b:  return((char)0x8b00); 
+			case 0x21592c:  return((char)0x8b01); 
+			case 0x21592d:  return((char)0x8b02); 
+			case 0x21592e:  return((char)0x8afe); 
+			case 0x21592f:  return((char)0x8af7); 
+			case 0x215930:  return((char)0x8aed); 
+			case 0x215931:  return((char)0x8b17); 
+			case 0x215932:  return((char)0x8b19); 
+			case 0x215933:  return((char)0x8b0e); 
+			case 0x215934:  return((char)0x8b1b); 
+			case 0x215935:  return((char)0x8b0a); 
+			case 0x215936:  return((char)0x8b21); 
+			case 0x215937:  return((char)0x8b04); 
+			case 0x215938:  return((char)0x8b1d); 
+			case 0x215939:  return((char)0x8b39); 
+			case 0x21593a:  return((char)0x8b2c); 
+			case 0x21593b:  return((char)0x8b28); 
+			case 0x21593c:  return((char)0x8b58); 
+			case 0x21593d:  return((char)0x8b5c); 
+			case 0x21593e:  return((char)0x8b4e); 
+			case 0x21593f:  return((char)0x8b49); 
+			case 0x215940:  return((char)0x8b5a); 
+			case 0x215941:  return((char)0x8b41); 
+			case 0x215942:  return((char)0x8b4f); 
+			case 0x215943:  return((char)0x8b70); 
+			case 0x215944:  return((char)0x8b6c); 
+			case 0x215945:  return((char)0x8b66); 
+			case 0x215946:  return((char)0x8b6f); 
+			case 0x215947:  return((char)0x8b74); 
+			case 0x215948:  return((char)0x8b77); 
+			case 0x215949:  return((char)0x8b7d); 
+			case 0x21594a:  return((char)0x8b80); 
+			case 0x21594b:  return((char)0x8b8a); 
+			case 0x21594c:  return((char)0x8b93); 
+			case 0x21594d:  return((char)0x8b96); 
+			case 0x21594e:  return((char)0x8b92); 
+			case 0x21594f:  return((char)0x8b9a); 
+			case 0x215951:  return((char)0x8c41); 
+			case 0x215952:  return((char)0x8c3f); 
+			case 0x215953:  return((char)0x8c46); 
+			case 0x215954:  return((char)0x8c48); 
+			case 0x215955:  return((char)0x8c49); 
+			case 0x215956:  return((char)0x8c4c); 
+			case 0x215957:  return((char)0x8c4e); 
+			case 0x215958:  return((char)0x8c50); 
+			case 0x215959:  return((char)0x8c54); 
+			case 0x21595a:  return((char)0x8c5a); 
+			case 0x21595c:  return((char)0x8c62); 
+			case 0x21595d:  return((char)0x8c6a); 
+			case 0x21595e:  return((char)0x8c6b); 
+			case 0x21595f:  return((char)0x8c6c); 
+			case 0x215960:  return((char)0x8c7a); 
+			case 0x215961:  return((char)0x8c79); 
+			case 0x215962:  return((char)0x8c82); 
+			case 0x215963:  return((char)0x8c8a); 
+			case 0x215964:  return((char)0x8c89); 
+			case 0x215965:  return((char)0x8c8d); 
+			case 0x215966:  return((char)0x8c8c); 
+			case 0x215967:  return((char)0x8c93); 
+			case 0x215968:  return((char)0x8c9d); 
+			case 0x215969:  return((char)0x8c9e); 
+			case 0x21596a:  return((char)0x8ca0); 
+			case 0x21596b:  return((char)0x8ca2); 
+			case 0x21596c:  return((char)0x8ca1); 
+			case 0x21596d:  return((char)0x8cac); 
+			case 0x21596e:  return((char)0x8cab); 
+			case 0x21596f:  return((char)0x8ca8); 
+			case 0x215970:  return((char)0x8caa); 
+			case 0x215971:  return((char)0x8ca7); 
+			case 0x215972:  return((char)0x8ca9); 
+			case 0x215973:  return((char)0x8caf); 
+			case 0x215975:  return((char)0x8cbb); 
+			case 0x215976:  return((char)0x8cc1); 
+			case 0x215977:  return((char)0x8cc0); 
+			case 0x215978:  return((char)0x8cb4); 
+			case 0x215979:  return((char)0x8cbc); 
+			case 0x21597a:  return((char)0x8cb7); 
+			case 0x21597b:  return((char)0x8cb6); 
+			case 0x21597c:  return((char)0x8cbd); 
+			case 0x21597d:  return((char)0x8cb8); 
+			case 0x21597e:  return((char)0x8cbf); 
+			case 0x215a21:  return((char)0x8cc5); 
+			case 0x215a22:  return((char)0x8cc7); 
+			case 0x215a23:  return((char)0x8cca); 
+			case 0x215a24:  return((char)0x8cc8); 
+			case 0x215a25:  return((char)0x8cc4); 
+			case 0x215a26:  return((char)0x8cb2); 
+			case 0x215a27:  return((char)0x8cc3); 
+			case 0x215a28:  return((char)0x8cc2); 
+			case 0x215a29:  return((char)0x8cd3); 
+			case 0x215a2a:  return((char)0x8cd1); 
+			case 0x215a2b:  return((char)0x8cd2); 
+			case 0x215a2c:  return((char)0x8ce0); 
+			case 0x215a2d:  return((char)0x8ce6); 
+			case 0x215a2f:  return((char)0x8ce3); 
+			case 0x215a30:  return((char)0x8ce2); 
+			case 0x215a31:  return((char)0x8ce4); 
+			case 0x215a32:  return((char)0x8cde); 
+			case 0x215a33:  return((char)0x8cdc); 
+			case 0x215a34:  return((char)0x8cea); 
+			case 0x215a35:  return((char)0x8ced); 
+			case 0x215a36:  return((char)0x8cf4); 
+			case 0x215a37:  return((char)0x8cfd); 
+			case 0x215a38:  return((char)0x8cfa); 
+			case 0x215a39:  return((char)0x8d05); 
+			case 0x215a3a:  return((char)0x8cfc); 
+			case 0x215a3b:  return((char)0x8d08); 
+			case 0x215a3c:  return((char)0x8d0b); 
+			case 0x215a3d:  return((char)0x8d0a); 
+			case 0x215a3e:  return((char)0x8d0f); 
+			case 0x215a3f:  return((char)0x8d0d); 
+			case 0x215a40:  return((char)0x8d13); 
+			case 0x215a41:  return((char)0x8d16); 
+			case 0x215a42:  return((char)0x8d1b); 
+			case 0x215a43:  return((char)0x8d64); 
+			case 0x215a44:  return((char)0x8d67); 
+			case 0x215a45:  return((char)0x8d66); 
+			case 0x215a46:  return((char)0x8d6b); 
+			case 0x215a47:  return((char)0x8d6d); 
+			case 0x215a48:  return((char)0x8d70); 
+			case 0x215a49:  return((char)0x8d74); 
+			case 0x215a4a:  return((char)0x8d73); 
+			case 0x215a4b:  return((char)0x8d77); 
+			case 0x215a4c:  return((char)0x8d85); 
+			case 0x215a4d:  return((char)0x8d8a); 
+			case 0x215a4e:  return((char)0x8d81); 
+			case 0x215a4f:  return((char)0x8d99); 
+			case 0x215a50:  return((char)0x8d95); 
+			case 0x215a51:  return((char)0x8da3); 
+			case 0x215a52:  return((char)0x8d9f); 
+			case 0x215a53:  return((char)0x8da8); 
+			case 0x215a54:  return((char)0x8db3); 
+			case 0x215a55:  return((char)0x8db4); 
+			case 0x215a56:  return((char)0x8dbe); 
+			case 0x215a57:  return((char)0x8dce); 
+			case 0x215a58:  return((char)0x8ddd); 
+			case 0x215a59:  return((char)0x8ddb); 
+			case 0x215a5a:  return((char)0x8dcb); 
+			case 0x215a5b:  return((char)0x8dda); 
+			case 0x215a5c:  return((char)0x8dc6); 
+			case 0x215a5d:  return((char)0x8dd1); 
+			case 0x215a5e:  return((char)0x8dcc); 
+			case 0x215a5f:  return((char)0x8de1); 
+			case 0x215a60:  return((char)0x8ddf); 
+			case 0x215a61:  return((char)0x8de8); 
+			case 0x215a62:  return((char)0x8df3); 
+			case 0x215a63:  return((char)0x8dfa); 
+			case 0x215a64:  return((char)0x8dea); 
+			case 0x215a65:  return((char)0x8def); 
+			case 0x215a66:  return((char)0x8dfc); 
+			case 0x215a67:  return((char)0x8e2b); 
+			case 0x215a68:  return((char)0x8e10); 
+			case 0x215a69:  return((char)0x8e22); 
+			case 0x215a6a:  return((char)0x8e1d); 
+			case 0x215a6b:  return((char)0x8e0f); 
+			case 0x215a6c:  return((char)0x8e29); 
+			case 0x215a6d:  return((char)0x8e1f); 
+			case 0x215a6e:  return((char)0x8e44); 
+			case 0x215a6f:  return((char)0x8e31); 
+			case 0x215a70:  return((char)0x8e42); 
+			case 0x215a71:  return((char)0x8e34); 
+			case 0x215a72:  return((char)0x8e39); 
+			case 0x215a73:  return((char)0x8e35); 
+			case 0x215a74:  return((char)0x8e49); 
+			case 0x215a75:  return((char)0x8e4b); 
+			case 0x215a76:  return((char)0x8e48); 
+			case 0x215a77:  return((char)0x8e4a); 
+			case 0x215a78:  return((char)0x8e63); 
+			case 0x215a79:  return((char)0x8e59); 
+			case 0x215a7a:  return((char)0x8e66); 
+			case 0x215a7b:  return((char)0x8e64); 
+			case 0x215a7c:  return((char)0x8e72); 
+			case 0x215a7d:  return((char)0x8e6c); 
+			case 0x215a7e:  return((char)0x8e7a); 
+			case 0x215b21:  return((char)0x8e76); 
+			case 0x215b22:  return((char)0x8e7c); 
+			case 0x215b23:  return((char)0x8e82); 
+			case 0x215b24:  return((char)0x8e81); 
+			case 0x215b25:  return((char)0x8e87); 
+			case 0x215b26:  return((char)0x8e89); 
+			case 0x215b27:  return((char)0x8e85); 
+			case 0x215b28:  return((char)0x8e8a); 
+			case 0x215b29:  return((char)0x8e8d); 
+			case 0x215b2a:  return((char)0x8e91); 
+			case 0x215b2b:  return((char)0x8ea1); 
+			case 0x215b2c:  return((char)0x8eaa); 
+			case 0x215b2d:  return((char)0x8eab); 
+			case 0x215b2e:  return((char)0x8eac); 
+			case 0x215b2f:  return((char)0x8eb2); 
+			case 0x215b30:  return((char)0x8eba); 
+			case 0x215b31:  return((char)0x8ec0); 
+			case 0x215b32:  return((char)0x8eca); 
+			case 0x215b33:  return((char)0x8ecb); 
+			case 0x215b34:  return((char)0x8ecd); 
+			case 0x215b35:  return((char)0x8ecc); 
+			case 0x215b36:  return((char)0x8ed2); 
+			case 0x215b37:  return((char)0x8ed4); 
+			case 0x215b38:  return((char)0x8edf); 
+			case 0x215b39:  return((char)0x8edb); 
+			case 0x215b3a:  return((char)0x8efb); 
+			case 0x215b3b:  return((char)0x8ef8); 
+			case 0x215b3c:  return((char)0x8efc); 
+			case 0x215b3d:  return((char)0x8f03); 
+			case 0x215b3e:  return((char)0x8efe); 
+			case 0x215b3f:  return((char)0x8f09); 
+			case 0x215b40:  return((char)0x8f0a); 
+			case 0x215b41:  return((char)0x8f14); 
+			case 0x215b42:  return((char)0x8f12); 
+			case 0x215b43:  return((char)0x8f15); 
+			case 0x215b44:  return((char)0x8f13); 
+			case 0x215b45:  return((char)0x8f26); 
+			case 0x215b46:  return((char)0x8f1b); 
+			case 0x215b47:  return((char)0x8f1f); 
+			case 0x215b48:  return((char)0x8f1d); 
+			case 0x215b49:  return((char)0x8f29); 
+			case 0x215b4a:  return((char)0x8f2a); 
+			case 0x215b4b:  return((char)0x8f1c); 
+			case 0x215b4c:  return((char)0x8f3b); 
+			case 0x215b4d:  return((char)0x8f2f); 
+			case 0x215b4e:  return((char)0x8f38); 
+			case 0x215b4f:  return((char)0x8f44); 
+			case 0x215b50:  return((char)0x8f3e); 
+			case 0x215b51:  return((char)0x8f45); 
+			case 0x215b52:  return((char)0x8f42); 
+			case 0x215b53:  return((char)0x8f3f); 
+			case 0x215b54:  return((char)0x8f4d); 
+			case 0x215b55:  return((char)0x8f49); 
+			case 0x215b56:  return((char)0x8f54); 
+			case 0x215b57:  return((char)0x8f4e); 
+			case 0x215b58:  return((char)0x8f5f); 
+			case 0x215b59:  return((char)0x8f61); 
+			case 0x215b5a:  return((char)0x8f9b); 
+			case 0x215b5b:  return((char)0x8f9c); 
+			case 0x215b5c:  return((char)0x8f9f); 
+			case 0x215b5d:  return((char)0x8fa3); 
+			case 0x215b5e:  return((char)0x8fa8); 
+			case 0x215b5f:  return((char)0x8fa6); 
+			case 0x215b60:  return((char)0x8fad); 
+			case 0x215b61:  return((char)0x8faf); 
+			case 0x215b62:  return((char)0x8fb0); 
+			case 0x215b63:  return((char)0x8fb1); 
+			case 0x215b64:  return((char)0x8fb2); 
+			case 0x215b66:  return((char)0x8fc6); 
+			case 0x215b67:  return((char)0x8fc5); 
+			case 0x215b68:  return((char)0x8fc4); 
+			case 0x215b69:  return((char)0x5de1); 
+			case 0x215b6a:  return((char)0x8fce); 
+			case 0x215b6b:  return((char)0x8fd1); 
+			case 0x215b6c:  return((char)0x8fd4); 
+			case 0x215b6d:  return((char)0x8ff0); 
+			case 0x215b6e:  return((char)0x8fe6); 
+			case 0x215b6f:  return((char)0x8fe2); 
+			case 0x215b70:  return((char)0x8fea); 
+			case 0x215b71:  return((char)0x8fe5); 
+			case 0x215b73:  return((char)0x8feb); 
+			case 0x215b74:  return((char)0x9001); 
+			case 0x215b75:  return((char)0x9006); 
+			case 0x215b76:  return((char)0x8ff7); 
+			case 0x215b77:  return((char)0x9000); 
+			case 0x215b7a:  return((char)0x9003); 
+			case 0x215b7b:  return((char)0x8ffd); 
+			case 0x215b7c:  return((char)0x9005); 
+			case 0x215b7d:  return((char)0x9019); 
+			case 0x215b7e:  return((char)0x9023); 
+			case 0x215c21:  return((char)0x901f); 
+			case 0x215c22:  return((char)0x9017); 
+			case 0x215c23:  return((char)0x901d); 
+			case 0x215c24:  return((char)0x9010); 
+			case 0x215c26:  return((char)0x900d); 
+			case 0x215c27:  return((char)0x901e); 
+			case 0x215c28:  return((char)0x901a); 
+			case 0x215c29:  return((char)0x9020); 
+			case 0x215c2a:  return((char)0x900f); 
+			case 0x215c2b:  return((char)0x9022); 
+			case 0x215c2c:  return((char)0x9016); 
+			case 0x215c2d:  return((char)0x901b); 
+			case 0x215c2e:  return((char)0x9014); 
+			case 0x215c2f:  return((char)0x902e); 
+			case 0x215c30:  return((char)0x9035); 
+			case 0x215c31:  return((char)0x9031); 
+			case 0x215c32:  return((char)0x9038); 
+			case 0x215c33:  return((char)0x9032); 
+			case 0x215c34:  return((char)0x904b); 
+			case 0x215c36:  return((char)0x9053); 
+			case 0x215c37:  return((char)0x9042); 
+			case 0x215c38:  return((char)0x9050); 
+			case 0x215c39:  return((char)0x9054); 
+			case 0x215c3a:  return((char)0x9055); 
+			case 0x215c3b:  return((char)0x903c); 
+			case 0x215c3c:  return((char)0x9047); 
+			case 0x215c3d:  return((char)0x904f); 
+			case 0x215c3e:  return((char)0x904e); 
+			case 0x215c3f:  return((char)0x904d); 
+			case 0x215c40:  return((char)0x9051); 
+			case 0x215c41:  return((char)0x9041); 
+			case 0x215c42:  return((char)0x903e); 
+			case 0x215c43:  return((char)0x9058); 
+			case 0x215c44:  return((char)0x9060); 
+			case 0x215c45:  return((char)0x905c); 
+			case 0x215c46:  return((char)0x9063); 
+			case 0x215c47:  return((char)0x9065); 
+			case 0x215c48:  return((char)0x905e); 
+			case 0x215c49:  return((char)0x9069); 
+			case 0x215c4a:  return((char)0x906e); 
+			case 0x215c4b:  return((char)0x9068); 
+			case 0x215c4c:  return((char)0x906d); 
+			case 0x215c4d:  return((char)0x9075); 
+			case 0x215c4e:  return((char)0x9074); 
+			case 0x215c4f:  return((char)0x9078); 
+			case 0x215c50:  return((char)0x9072); 
+			case 0x215c51:  return((char)0x9077); 
+			case 0x215c52:  return((char)0x907c); 
+			case 0x215c53:  return((char)0x907a); 
+			case 0x215c54:  return((char)0x907f); 
+			case 0x215c55:  return((char)0x907d); 
+			case 0x215c56:  return((char)0x9081); 
+			case 0x215c57:  return((char)0x9084); 
+			case 0x215c58:  return((char)0x9082); 
+			case 0x215c59:  return((char)0x9080); 
+			case 0x215c5a:  return((char)0x9087); 
+			case 0x215c5b:  return((char)0x908a); 
+			case 0x215c5c:  return((char)0x9090); 
+			case 0x215c5d:  return((char)0x908f); 
+			case 0x215c5e:  return((char)0x9091); 
+			case 0x215c5f:  return((char)0x9095); 
+			case 0x215c60:  return((char)0x90a3); 
+			case 0x215c61:  return((char)0x90a2); 
+			case 0x215c62:  return((char)0x90aa); 
+			case 0x215c63:  return((char)0x90a6); 
+			case 0x215c64:  return((char)0x90b5); 
+			case 0x215c65:  return((char)0x90b1); 
+			case 0x215c66:  return((char)0x90b8); 
+			case 0x215c67:  return((char)0x90ce); 
+			case 0x215c68:  return((char)0x90ca); 
+			case 0x215c6a:  return((char)0x90e1); 
+			case 0x215c6b:  return((char)0x90e8); 
+			case 0x215c6c:  return((char)0x90ed); 
+			case 0x215c6d:  return((char)0x90f5); 
+			case 0x215c6e:  return((char)0x90fd); 
+			case 0x215c6f:  return((char)0x9102); 
+			case 0x215c70:  return((char)0x9109); 
+			case 0x215c71:  return((char)0x9112); 
+			case 0x215c72:  return((char)0x9119); 
+			case 0x215c73:  return((char)0x912d); 
+			case 0x215c74:  return((char)0x9130); 
+			case 0x215c75:  return((char)0x9127); 
+			case 0x215c76:  return((char)0x9131); 
+			case 0x215c77:  return((char)0x9139); 
+			case 0x215c78:  return((char)0x9149); 
+			case 0x215c79:  return((char)0x914b); 
+			case 0x215c7a:  return((char)0x914a); 
+			case 0x215c7b:  return((char)0x9152); 
+			case 0x215c7c:  return((char)0x914d); 
+			case 0x215c7d:  return((char)0x914c); 
+			case 0x215c7e:  return((char)0x9157); 
+			case 0x215d21:  return((char)0x9163); 
+			case 0x215d22:  return((char)0x9165); 
+			case 0x215d23:  return((char)0x916c); 
+			case 0x215d24:  return((char)0x9169); 
+			case 0x215d25:  return((char)0x916a); 
+			case 0x215d26:  return((char)0x9175); 
+			case 0x215d27:  return((char)0x9178); 
+			case 0x215d28:  return((char)0x9177); 
+			case 0x215d29:  return((char)0x9187); 
+			case 0x215d2a:  return((char)0x9189); 
+			case 0x215d2b:  return((char)0x918b); 
+			case 0x215d2c:  return((char)0x9183); 
+			case 0x215d2d:  return((char)0x9192); 
+			case 0x215d2e:  return((char)0x91a3); 
+			case 0x215d2f:  return((char)0x919e); 
+			case 0x215d30:  return((char)0x919c); 
+			case 0x215d31:  return((char)0x91ab); 
+			case 0x215d32:  return((char)0x91ac); 
+			case 0x215d33:  return((char)0x91ba); 
+			case 0x215d34:  return((char)0x91c0); 
+			case 0x215d35:  return((char)0x91c1); 
+			case 0x215d36:  return((char)0x91c7); 
+			case 0x215d37:  return((char)0x91c9); 
+			case 0x215d38:  return((char)0x91cb); 
+			case 0x215d3a:  return((char)0x91cd); 
+			case 0x215d3b:  return((char)0x91ce); 
+			case 0x215d3c:  return((char)0x91cf); 
+			case 0x215d3d:  return((char)0x91d0); 
+			case 0x215d3e:  return((char)0x91d1); 
+			case 0x215d3f:  return((char)0x91dd); 
+			case 0x215d40:  return((char)0x91d8); 
+			case 0x215d41:  return((char)0x91d7); 
+			case 0x215d42:  return((char)0x91dc); 
+			case 0x215d43:  return((char)0x91f5); 
+			case 0x215d44:  return((char)0x91e6); 
+			case 0x215d45:  return((char)0x91e3); 
+			case 0x215d46:  return((char)0x91e7); 
+			case 0x215d47:  return((char)0x9223); 
+			case 0x215d48:  return((char)0x920d); 
+			case 0x215d49:  return((char)0x9215); 
+			case 0x215d4a:  return((char)0x9209); 
+			case 0x215d4b:  return((char)0x9214); 
+			case 0x215d4c:  return((char)0x921e); 
+			case 0x215d4d:  return((char)0x9210); 
+			case 0x215d4f:  return((char)0x9237); 
+			case 0x215d50:  return((char)0x9238); 
+			case 0x215d51:  return((char)0x923d); 
+			case 0x215d52:  return((char)0x923e); 
+			case 0x215d53:  return((char)0x9240); 
+			case 0x215d54:  return((char)0x924b); 
+			case 0x215d55:  return((char)0x925b); 
+			case 0x215d56:  return((char)0x9264); 
+			case 0x215d57:  return((char)0x9251); 
+			case 0x215d58:  return((char)0x9234); 
+			case 0x215d59:  return((char)0x9278); 
+			case 0x215d5a:  return((char)0x9280); 
+			case 0x215d5b:  return((char)0x92ac); 
+			case 0x215d5c:  return((char)0x9285); 
+			case 0x215d5d:  return((char)0x9298); 
+			case 0x215d5e:  return((char)0x9296); 
+			case 0x215d5f:  return((char)0x927b); 
+			case 0x215d60:  return((char)0x9293); 
+			case 0x215d61:  return((char)0x929c); 
+			case 0x215d62:  return((char)0x92c5); 
+			case 0x215d63:  return((char)0x92bb); 
+			case 0x215d64:  return((char)0x92b3); 
+			case 0x215d65:  return((char)0x92ea); 
+			case 0x215d66:  return((char)0x92b7); 
+			case 0x215d67:  return((char)0x92c1); 
+			case 0x215d68:  return((char)0x92e4); 
+			case 0x215d69:  return((char)0x92bc); 
+			case 0x215d6a:  return((char)0x92d2); 
+			case 0x215d6b:  return((char)0x9320); 
+			case 0x215d6c:  return((char)0x9336); 
+			case 0x215d6d:  return((char)0x92f8); 
+			case 0x215d6e:  return((char)0x9333); 
+			case 0x215d6f:  return((char)0x932f); 
+			case 0x215d70:  return((char)0x9322); 
+			case 0x215d71:  return((char)0x92fc); 
+			case 0x215d72:  return((char)0x932b); 
+			case 0x215d73:  return((char)0x931a); 
+			case 0x215d74:  return((char)0x9304); 
+			case 0x215d75:  return((char)0x9310); 
+			case 0x215d76:  return((char)0x9326); 
+			case 0x215d77:  return((char)0x934d); 
+			case 0x215d78:  return((char)0x9382); 
+			case 0x215d79:  return((char)0x9375); 
+			case 0x215d7a:  return((char)0x9365); 
+			case 0x215d7c:  return((char)0x934b); 
+			case 0x215d7d:  return((char)0x9328); 
+			case 0x215d7e:  return((char)0x9370); 
+			case 0x215e21:  return((char)0x937e); 
+			case 0x215e22:  return((char)0x9318); 
+			case 0x215e23:  return((char)0x936c); 
+			case 0x215e24:  return((char)0x935b); 
+			case 0x215e25:  return((char)0x938a); 
+			case 0x215e26:  return((char)0x9394); 
+			case 0x215e27:  return((char)0x93ae); 
+			case 0x215e28:  return((char)0x9396); 
+			case 0x215e29:  return((char)0x93a2); 
+			case 0x215e2a:  return((char)0x93b3); 
+			case 0x215e2b:  return((char)0x93e1); 
+			case 0x215e2c:  return((char)0x93d1); 
+			case 0x215e2d:  return((char)0x93d6); 
+			case 0x215e2e:  return((char)0x93c3); 
+			case 0x215e2f:  return((char)0x93df); 
+			case 0x215e30:  return((char)0x93d7); 
+			case 0x215e31:  return((char)0x93c8); 
+			case 0x215e32:  return((char)0x93e2); 
+			case 0x215e33:  return((char)0x93dc); 
+			case 0x215e34:  return((char)0x93e4); 
+			case 0x215e35:  return((char)0x93dd); 
+			case 0x215e36:  return((char)0x93cd); 
+			case 0x215e37:  return((char)0x93d8); 
+			case 0x215e39:  return((char)0x9403); 
+			case 0x215e3a:  return((char)0x942e); 
+			case 0x215e3b:  return((char)0x93fd); 
+			case 0x215e3c:  return((char)0x9433); 
+			case 0x215e3d:  return((char)0x9435); 
+			case 0x215e3e:  return((char)0x943a); 
+			case 0x215e3f:  return((char)0x9438); 
+			case 0x215e40:  return((char)0x9432); 
+			case 0x215e42:  return((char)0x9451); 
+			case 0x215e43:  return((char)0x9444); 
+			case 0x215e44:  return((char)0x9463); 
+			case 0x215e45:  return((char)0x9460); 
+			case 0x215e46:  return((char)0x9472); 
+			case 0x215e47:  return((char)0x9470); 
+			case 0x215e48:  return((char)0x947e); 
+			case 0x215e49:  return((char)0x947c); 
+			case 0x215e4a:  return((char)0x947d); 
+			case 0x215e4b:  return((char)0x947f); 
+			case 0x215e4c:  return((char)0x9577); 
+			case 0x215e4d:  return((char)0x9580); 
+			case 0x215e4e:  return((char)0x9582); 
+			case 0x215e4f:  return((char)0x9583); 
+			case 0x215e50:  return((char)0x9589); 
+			case 0x215e51:  return((char)0x9594); 
+			case 0x215e52:  return((char)0x958f); 
+			case 0x215e53:  return((char)0x958b); 
+			case 0x215e54:  return((char)0x9591); 
+			case 0x215e55:  return((char)0x9593); 
+			case 0x215e56:  return((char)0x9592); 
+			case 0x215e57:  return((char)0x9598); 
+			case 0x215e58:  return((char)0x95a1); 
+			case 0x215e59:  return((char)0x95a8); 
+			case 0x215e5a:  return((char)0x95a9); 
+			case 0x215e5b:  return((char)0x95a3); 
+			case 0x215e5c:  return((char)0x95a5); 
+			case 0x215e5d:  return((char)0x95a4); 
+			case 0x215e5e:  return((char)0x95b1); 
+			case 0x215e5f:  return((char)0x95ad); 
+			case 0x215e60:  return((char)0x95bb); 
+			case 0x215e61:  return((char)0x95ca); 
+			case 0x215e62:  return((char)0x95cb); 
+			case 0x215e63:  return((char)0x95cc); 
+			case 0x215e64:  return((char)0x95c8); 
+			case 0x215e65:  return((char)0x95c6); 
+			case 0x215e67:  return((char)0x95d6); 
+			case 0x215e68:  return((char)0x95d0); 
+			case 0x215e69:  return((char)0x95dc); 
+			case 0x215e6a:  return((char)0x95e1); 
+			case 0x215e6b:  return((char)0x95e2); 
+			case 0x215e6c:  return((char)0x961c); 
+			case 0x215e6d:  return((char)0x9621); 
+			case 0x215e6e:  return((char)0x9632); 
+			case 0x215e6f:  return((char)0x9631); 
+			case 0x215e70:  return((char)0x962e); 
+			case 0x215e71:  return((char)0x962a); 
+			case 0x215e72:  return((char)0x9640); 
+			case 0x215e73:  return((char)0x963f); 
+			case 0x215e74:  return((char)0x963b); 
+			case 0x215e75:  return((char)0x9644); 
+			case 0x215e76:  return((char)0x9650); 
+			case 0x215e77:  return((char)0x964c); 
+			case 0x215e78:  return((char)0x964b); 
+			case 0x215e79:  return((char)0x964d); 
+			case 0x215e7a:  return((char)0x9662); 
+			case 0x215e7b:  return((char)0x9663); 
+			case 0x215e7c:  return((char)0x965b); 
+			case 0x215e7d:  return((char)0x9661); 
+			case 0x215e7e:  return((char)0x965d); 
+			case 0x215f21:  return((char)0x9664); 
+			case 0x215f22:  return((char)0x966a); 
+			case 0x215f23:  return((char)0x9673); 
+			case 0x215f24:  return((char)0x9678); 
+			case 0x215f25:  return((char)0x9675); 
+			case 0x215f26:  return((char)0x9672); 
+			case 0x215f27:  return((char)0x9676); 
+			case 0x215f28:  return((char)0x9677); 
+			case 0x215f29:  return((char)0x9674); 
+			case 0x215f2a:  return((char)0x9670); 
+			case 0x215f2b:  return((char)0x968a); 
+			case 0x215f2c:  return((char)0x968e); 
+			case 0x215f2d:  return((char)0x968b); 
+			case 0x215f2e:  return((char)0x967d); 
+			case 0x215f2f:  return((char)0x9685); 
+			case 0x215f30:  return((char)0x9686); 
+			case 0x215f31:  return((char)0x968d); 
+			case 0x215f32:  return((char)0x9698); 
+			case 0x215f33:  return((char)0x9694); 
+			case 0x215f34:  return((char)0x9699); 
+			case 0x215f35:  return((char)0x9695); 
+			case 0x215f36:  return((char)0x969c); 
+			case 0x215f37:  return((char)0x969b); 
+			case 0x215f38:  return((char)0x96a7); 
+			case 0x215f39:  return((char)0x96a8); 
+			case 0x215f3a:  return((char)0x96aa); 
+			case 0x215f3b:  return((char)0x96b1); 
+			case 0x215f3c:  return((char)0x96b4); 
+			case 0x215f3d:  return((char)0x96b8); 
+			case 0x215f3e:  return((char)0x96bb); 
+			case 0x215f3f:  return((char)0x96c0); 
+			case 0x215f40:  return((char)0x96c7); 
+			case 0x215f41:  return((char)0x96c6); 
+			case 0x215f42:  return((char)0x96c4); 
+			case 0x215f43:  return((char)0x96c1); 
+			case 0x215f44:  return((char)0x96c5); 
+			case 0x215f45:  return((char)0x96cd); 
+			case 0x215f46:  return((char)0x96cb); 
+			case 0x215f47:  return((char)0x96c9); 
+			case 0x215f48:  return((char)0x96cc); 
+			case 0x215f49:  return((char)0x96d5); 
+			case 0x215f4a:  return((char)0x96d6); 
+			case 0x215f4b:  return((char)0x96dc); 
+			case 0x215f4c:  return((char)0x96de); 
+			case 0x215f4d:  return((char)0x96db); 
+			case 0x215f4e:  return((char)0x96d9); 
+			case 0x215f4f:  return((char)0x96e2); 
+			case 0x215f50:  return((char)0x96e3); 
+			case 0x215f51:  return((char)0x96e8); 
+			case 0x215f52:  return((char)0x96ea); 
+			case 0x215f53:  return((char)0x96ef); 
+			case 0x215f54:  return((char)0x96f2); 
+			case 0x215f55:  return((char)0x96fb); 
+			case 0x215f56:  return((char)0x96f7); 
+			case 0x215f57:  return((char)0x96f9); 
+			case 0x215f58:  return((char)0x96f6); 
+			case 0x215f59:  return((char)0x9700); 
+			case 0x215f5a:  return((char)0x9707); 
+			case 0x215f5b:  return((char)0x9704); 
+			case 0x215f5c:  return((char)0x9709); 
+			case 0x215f5d:  return((char)0x9706); 
+			case 0x215f5e:  return((char)0x9711); 
+			case 0x215f5f:  return((char)0x970e); 
+			case 0x215f60:  return((char)0x9716); 
+			case 0x215f61:  return((char)0x970f); 
+			case 0x215f62:  return((char)0x970d); 
+			case 0x215f63:  return((char)0x9713); 
+			case 0x215f64:  return((char)0x971c); 
+			case 0x215f65:  return((char)0x971e); 
+			case 0x215f66:  return((char)0x972a); 
+			case 0x215f67:  return((char)0x9727); 
+			case 0x215f68:  return((char)0x9738); 
+			case 0x215f69:  return((char)0x9739); 
+			case 0x215f6a:  return((char)0x9732); 
+			case 0x215f6b:  return((char)0x973d); 
+			case 0x215f6c:  return((char)0x973e); 
+			case 0x215f6d:  return((char)0x9744); 
+			case 0x215f6e:  return((char)0x9742); 
+			case 0x215f6f:  return((char)0x9748); 
+			case 0x215f70:  return((char)0x9751); 
+			case 0x215f71:  return((char)0x9756); 
+			case 0x215f72:  return((char)0x975b); 
+			case 0x215f73:  return((char)0x975c); 
+			case 0x215f74:  return((char)0x975e); 
+			case 0x215f75:  return((char)0x9760); 
+			case 0x215f76:  return((char)0x9761); 
+			case 0x215f78:  return((char)0x9766); 
+			case 0x215f79:  return((char)0x9768); 
+			case 0x215f7a:  return((char)0x9769); 
+			case 0x215f7b:  return((char)0x9776); 
+			case 0x215f7c:  return((char)0x9774); 
+			case 0x215f7d:  return((char)0x977c); 
+			case 0x215f7e:  return((char)0x9785); 
+			case 0x216021:  return((char)0x978d); 
+			case 0x216022:  return((char)0x978b); 
+			case 0x216023:  return((char)0x978f); 
+			case 0x216024:  return((char)0x9798); 
+			case 0x216025:  return((char)0x97a0); 
+			case 0x216026:  return((char)0x97a3); 
+			case 0x216027:  return((char)0x97a6); 
+			case 0x216028:  return((char)0x97ad); 
+			case 0x216029:  return((char)0x97c3); 
+			case 0x21602a:  return((char)0x97c1); 
+			case 0x21602b:  return((char)0x97c6); 
+			case 0x21602c:  return((char)0x97cb); 
+			case 0x21602d:  return((char)0x97cc); 
+			case 0x21602e:  return((char)0x97d3); 
+			case 0x21602f:  return((char)0x97dc); 
+			case 0x216030:  return((char)0x97ed); 
+			case 0x216031:  return((char)0x97f3); 
+			case 0x216032:  return((char)0x7ae0); 
+			case 0x216033:  return((char)0x7adf); 
+			case 0x216034:  return((char)0x97f6); 
+			case 0x216035:  return((char)0x97fb); 
+			case 0x216036:  return((char)0x97ff); 
+			case 0x216037:  return((char)0x9801); 
+			case 0x216038:  return((char)0x9802); 
+			case 0x216039:  return((char)0x9803); 
+			case 0x21603a:  return((char)0x9805); 
+			case 0x21603b:  return((char)0x9806); 
+			case 0x21603c:  return((char)0x9808); 
+			case 0x21603d:  return((char)0x9810); 
+			case 0x21603e:  return((char)0x980a); 
+			case 0x21603f:  return((char)0x9811); 
+			case 0x216040:  return((char)0x9813); 
+			case 0x216041:  return((char)0x9812); 
+			case 0x216042:  return((char)0x980c); 
+			case 0x216043:  return((char)0x9817); 
+			case 0x216044:  return((char)0x9818); 
+			case 0x216045:  return((char)0x9821); 
+			case 0x216046:  return((char)0x982d); 
+			case 0x216047:  return((char)0x9830); 
+			case 0x216048:  return((char)0x9838); 
+			case 0x216049:  return((char)0x983b); 
+			case 0x21604a:  return((char)0x9839); 
+			case 0x21604b:  return((char)0x9837); 
+			case 0x21604c:  return((char)0x9824); 
+			case 0x21604d:  return((char)0x9846); 
+			case 0x21604e:  return((char)0x9854); 
+			case 0x21604f:  return((char)0x984d); 
+			case 0x216050:  return((char)0x984c); 
+			case 0x216051:  return((char)0x984e); 
+			case 0x216052:  return((char)0x9853); 
+			case 0x216053:  return((char)0x985e); 
+			case 0x216054:  return((char)0x985a); 
+			case 0x216055:  return((char)0x9858); 
+			case 0x216056:  return((char)0x9867); 
+			case 0x216057:  return((char)0x986b); 
+			case 0x216058:  return((char)0x986f); 
+			case 0x216059:  return((char)0x9871); 
+			case 0x21605a:  return((char)0x9870); 
+			case 0x21605b:  return((char)0x98a8); 
+			case 0x21605c:  return((char)0x98af); 
+			case 0x21605d:  return((char)0x98b1); 
+			case 0x21605e:  return((char)0x98b3); 
+			case 0x21605f:  return((char)0x98b6); 
+			case 0x216060:  return((char)0x98ba); 
+			case 0x216061:  return((char)0x98bc); 
+			case 0x216062:  return((char)0x98c4); 
+			case 0x216063:  return((char)0x98db); 
+			case 0x216064:  return((char)0x98df); 
+			case 0x216065:  return((char)0x98e2); 
+			case 0x216066:  return((char)0x98e7); 
+			case 0x216067:  return((char)0x98e9); 
+			case 0x216068:  return((char)0x98ed); 
+			case 0x216069:  return((char)0x98ea); 
+			case 0x21606a:  return((char)0x98ee); 
+			case 0x21606b:  return((char)0x98ef); 
+			case 0x21606c:  return((char)0x98fc); 
+			case 0x21606d:  return((char)0x98f4); 
+			case 0x21606e:  return((char)0x98fd); 
+			case 0x21606f:  return((char)0x98fe); 
+			case 0x216070:  return((char)0x9903); 
+			case 0x216071:  return((char)0x990a); 
+			case 0x216072:  return((char)0x990c); 
+			case 0x216073:  return((char)0x9909); 
+			case 0x216074:  return((char)0x9910); 
+			case 0x216075:  return((char)0x9912); 
+			case 0x216076:  return((char)0x9918); 
+			case 0x216077:  return((char)0x9913); 
+			case 0x216078:  return((char)0x9905); 
+			case 0x216079:  return((char)0x9928); 
+			case 0x21607a:  return((char)0x991e); 
+			case 0x21607b:  return((char)0x991b); 
+			case 0x21607c:  return((char)0x9921); 
+			case 0x21607d:  return((char)0x9935); 
+			case 0x21607e:  return((char)0x993e); 
+			case 0x216121:  return((char)0x993f); 
+			case 0x216122:  return((char)0x993d); 
+			case 0x216123:  return((char)0x9945); 
+			case 0x216124:  return((char)0x9952); 
+			case 0x216125:  return((char)0x9951); 
+			case 0x216126:  return((char)0x995c); 
+			case 0x216127:  return((char)0x995e); 
+			case 0x216128:  return((char)0x9996); 
+			case 0x216129:  return((char)0x9999); 
+			case 0x21612a:  return((char)0x99a5); 
+			case 0x21612b:  return((char)0x99a8); 
+			case 0x21612c:  return((char)0x99ac); 
+			case 0x21612d:  return((char)0x99ae); 
+			case 0x21612e:  return((char)0x99ad); 
+			case 0x21612f:  return((char)0x99b3); 
+			case 0x216130:  return((char)0x99b1); 
+			case 0x216131:  return((char)0x99b4); 
+			case 0x216132:  return((char)0x99c1); 
+			case 0x216133:  return((char)0x99d0); 
+			case 0x216134:  return((char)0x99dd); 
+			case 0x216135:  return((char)0x99d5); 
+			case 0x216136:  return((char)0x99df); 
+			case 0x216137:  return((char)0x99db); 
+			case 0x216138:  return((char)0x99d2); 
+			case 0x216139:  return((char)0x99d9); 
+			case 0x21613a:  return((char)0x99d1); 
+			case 0x21613b:  return((char)0x99ed); 
+			case 0x21613c:  return((char)0x99f1); 
+			case 0x21613d:  return((char)0x9a01); 
+			case 0x21613e:  return((char)0x99ff); 
+			case 0x21613f:  return((char)0x99e2); 
+			case 0x216140:  return((char)0x9a0e); 
+			case 0x216141:  return((char)0x9a19); 
+			case 0x216142:  return((char)0x9a16); 
+			case 0x216143:  return((char)0x9a2b); 
+			case 0x216144:  return((char)0x9a30); 
+			case 0x216145:  return((char)0x9a37); 
+			case 0x216146:  return((char)0x9a43); 
+			case 0x216147:  return((char)0x9a45); 
+			case 0x216148:  return((char)0x9a40); 
+			case 0x216149:  return((char)0x9a3e); 
+			case 0x21614a:  return((char)0x9a55); 
+			case 0x21614b:  return((char)0x9a5a); 
+			case 0x21614c:  return((char)0x9a5b); 
+			case 0x21614d:  return((char)0x9a57); 
+			case 0x21614e:  return((char)0x9a5f); 
+			case 0x21614f:  return((char)0x9a62); 
+			case 0x216150:  return((char)0x9a65); 
+			case 0x216151:  return((char)0x9a6a); 
+			case 0x216152:  return((char)0x9aa8); 
+			case 0x216153:  return((char)0x9aaf); 
+			case 0x216154:  return((char)0x9ab0); 
+			case 0x216155:  return((char)0x9ab7); 
+			case 0x216156:  return((char)0x9ab8); 
+			case 0x216157:  return((char)0x9abc); 
+			case 0x216158:  return((char)0x9acf); 
+			case 0x216159:  return((char)0x9ad3); 
+			case 0x21615a:  return((char)0x9ad4); 
+			case 0x21615b:  return((char)0x9ad2); 
+			case 0x21615c:  return((char)0x9ad8); 
+			case 0x21615d:  return((char)0x9ae5); 
+			case 0x21615f:  return((char)0x9aee); 
+			case 0x216160:  return((char)0x9afb); 
+			case 0x216161:  return((char)0x9aed); 
+			case 0x216162:  return((char)0x9b03); 
+			case 0x216163:  return((char)0x9b06); 
+			case 0x216164:  return((char)0x9b0d); 
+			case 0x216165:  return((char)0x9b1a); 
+			case 0x216166:  return((char)0x9b22); 
+			case 0x216167:  return((char)0x9b25); 
+			case 0x216168:  return((char)0x9b27); 
+			case 0x21616a:  return((char)0x9b31); 
+			case 0x21616b:  return((char)0x9b32); 
+			case 0x21616c:  return((char)0x9b3c); 
+			case 0x21616d:  return((char)0x9b41); 
+			case 0x21616e:  return((char)0x9b42); 
+			case 0x21616f:  return((char)0x9b45); 
+			case 0x216170:  return((char)0x9b44); 
+			case 0x216171:  return((char)0x9b4f); 
+			case 0x216172:  return((char)0x9b54); 
+			case 0x216173:  return((char)0x9b58); 
+			case 0x216174:  return((char)0x9b5a); 
+			case 0x216175:  return((char)0x9b77); 
+			case 0x216176:  return((char)0x9b6f); 
+			case 0x216177:  return((char)0x9b91); 
+			case 0x216178:  return((char)0x9bab); 
+			case 0x216179:  return((char)0x9bae); 
+			case 0x21617a:  return((char)0x9baa); 
+			case 0x21617b:  return((char)0x9bca); 
+			case 0x21617c:  return((char)0x9bc9); 
+			case 0x21617d:  return((char)0x9be8); 
+			case 0x21617e:  return((char)0x9be7); 
+			case 0x216221:  return((char)0x9c13); 
+			case 0x216222:  return((char)0x9c0d); 
+			case 0x216223:  return((char)0x9bfd); 
+			case 0x216224:  return((char)0x9c2d); 
+			case 0x216225:  return((char)0x9c25); 
+			case 0x216226:  return((char)0x9c31); 
+			case 0x216227:  return((char)0x9c3e); 
+			case 0x216228:  return((char)0x9c3b); 
+			case 0x216229:  return((char)0x9c54); 
+			case 0x21622a:  return((char)0x9c57); 
+			case 0x21622b:  return((char)0x9c56); 
+			case 0x21622c:  return((char)0x9c49); 
+			case 0x21622d:  return((char)0x9c77); 
+			case 0x21622e:  return((char)0x9c78); 
+			case 0x21622f:  return((char)0x9ce5); 
+			case 0x216230:  return((char)0x9ce9); 
+			case 0x216231:  return((char)0x9cf6); 
+			case 0x216232:  return((char)0x9cf4); 
+			case 0x216233:  return((char)0x9cf3); 
+			case 0x216234:  return((char)0x9d06); 
+			case 0x216235:  return((char)0x9d09); 
+			case 0x216236:  return((char)0x9d15); 
+			case 0x216237:  return((char)0x9d23); 
+			case 0x216238:  return((char)0x9d28); 
+			case 0x216239:  return((char)0x9d26); 
+			case 0x21623a:  return((char)0x9d1b); 
+			case 0x21623b:  return((char)0x9d12); 
+			case 0x21623c:  return((char)0x9d3b); 
+			case 0x21623d:  return((char)0x9d3f); 
+			case 0x21623e:  return((char)0x9d61); 
+			case 0x21623f:  return((char)0x9d51); 
+			case 0x216240:  return((char)0x9d60); 
+			case 0x216241:  return((char)0x9d5d); 
+			case 0x216242:  return((char)0x9d89); 
+			case 0x216243:  return((char)0x9d72); 
+			case 0x216244:  return((char)0x9d6a); 
+			case 0x216245:  return((char)0x9d6c); 
+			case 0x216246:  return((char)0x9db4); 
+			case 0x216247:  return((char)0x9daf); 
+			case 0x216248:  return((char)0x9dc2); 
+			case 0x216249:  return((char)0x9dd3); 
+			case 0x21624a:  return((char)0x9dd7); 
+			case 0x21624b:  return((char)0x9de5); 
+			case 0x21624c:  return((char)0x9df9); 
+			case 0x21624d:  return((char)0x9dfa); 
+			case 0x21624e:  return((char)0x9e1a); 
+			case 0x21624f:  return((char)0x9e1e); 
+			case 0x216250:  return((char)0x9e79); 
+			case 0x216251:  return((char)0x9e7d); 
+			case 0x216252:  return((char)0x9e7c); 
+			case 0x216253:  return((char)0x9e7f); 
+			case 0x216254:  return((char)0x9e82); 
+			case 0x216255:  return((char)0x9e8b); 
+			case 0x216256:  return((char)0x9e97); 
+			case 0x216257:  return((char)0x9e92); 
+			case 0x216258:  return((char)0x9e93); 
+			case 0x216259:  return((char)0x9e9d); 
+			case 0x21625a:  return((char)0x9e9f); 
+			case 0x21625b:  return((char)0x9ea5); 
+			case 0x21625c:  return((char)0x9ea9); 
+			case 0x21625d:  return((char)0x9eb4); 
+			case 0x21625e:  return((char)0x9eb5); 
+			case 0x21625f:  return((char)0x9ebb); 
+			case 0x216260:  return((char)0x9ebc); 
+			case 0x216261:  return((char)0x9ebe); 
+			case 0x216262:  return((char)0x9ec3); 
+			case 0x216263:  return((char)0x9ecd); 
+			case 0x216264:  return((char)0x9ece); 
+			case 0x216265:  return((char)0x9ecf); 
+			case 0x216266:  return((char)0x9ed1); 
+			case 0x216267:  return((char)0x58a8); 
+			case 0x216268:  return((char)0x9ed8); 
+			case 0x216269:  return((char)0x9ed4); 
+			case 0x21626a:  return((char)0x9ede); 
+			case 0x21626b:  return((char)0x9edc); 
+			case 0x21626c:  return((char)0x9edb); 
+			case 0x21626d:  return((char)0x9edd); 
+			case 0x21626e:  return((char)0x9ee0); 
+			case 0x21626f:  return((char)0x9ee8); 
+			case 0x216270:  return((char)0x9eef); 
+			case 0x216271:  return((char)0x9ef4); 
+			case 0x216272:  return((char)0x9ef7); 
+			case 0x216273:  return((char)0x9f07); 
+			case 0x216274:  return((char)0x9f0e); 
+			case 0x216275:  return((char)0x9f13); 
+			case 0x216276:  return((char)0x9f15); 
+			case 0x216277:  return((char)0x9f19); 
+			case 0x216278:  return((char)0x9f20); 
+			case 0x216279:  return((char)0x9f2c); 
+			case 0x21627a:  return((char)0x9f34); 
+			case 0x21627b:  return((char)0x9f3b); 
+			case 0x21627c:  return((char)0x9f3e); 
+			case 0x21627d:  return((char)0x9f4a); 
+			case 0x21627e:  return((char)0x9f4b); 
+			case 0x216321:  return((char)0x9f52); 
+			case 0x216322:  return((char)0x9f5f); 
+			case 0x216323:  return((char)0x9f63); 
+			case 0x216324:  return((char)0x9f61); 
+			case 0x216325:  return((char)0x9f66); 
+			case 0x216326:  return((char)0x9f5c); 
+			case 0x216327:  return((char)0x9f6c); 
+			case 0x216328:  return((char)0x9f6a); 
+			case 0x216329:  return((char)0x9f77); 
+			case 0x21632a:  return((char)0x9f72); 
+			case 0x21632b:  return((char)0x9f8d); 
+			case 0x21632c:  return((char)0x9f94); 
+			case 0x21632d:  return((char)0x9f9c); 
+			case 0x216330:  return((char)0x8288); 
+			case 0x216424:  return((char)0x4e0f); 
+			case 0x216425:  return((char)0x5187); 
+			case 0x216429:  return((char)0x4e28); 
+			case 0x21642e:  return((char)0x4e31); 
+			case 0x216431:  return((char)0x4e36); 
+			case 0x216433:  return((char)0x4e3f); 
+			case 0x216434:  return((char)0x4e42); 
+			case 0x216437:  return((char)0x738d); 
+			case 0x21643c:  return((char)0x4e5c); 
+			case 0x21643f:  return((char)0x6c39); 
+			case 0x216446:  return((char)0x4e85); 
+			case 0x216450:  return((char)0x4ea0); 
+			case 0x216451:  return((char)0x4ea2); 
+			case 0x216452:  return((char)0x4eb3); 
+			case 0x216455:  return((char)0x4eb6); 
+			case 0x216458:  return((char)0x4eb9); 
+			case 0x21645a:  return((char)0x4ebc); 
+			case 0x21645e:  return((char)0x4ec9); 
+			case 0x216461:  return((char)0x4ec8); 
+			case 0x216462:  return((char)0x4ece); 
+			case 0x216463:  return((char)0x4ee8); 
+			case 0x21646b:  return((char)0x4ee1); 
+			case 0x216472:  return((char)0x4f08); 
+			case 0x216473:  return((char)0x4f0e); 
+			case 0x216475:  return((char)0x4f03); 
+			case 0x21647c:  return((char)0x4f22); 
+			case 0x216527:  return((char)0x4ef5); 
+			case 0x216528:  return((char)0x4f07); 
+			case 0x21652a:  return((char)0x4f00); 
+			case 0x21652c:  return((char)0x4f0b); 
+			case 0x216532:  return((char)0x4f3b); 
+			case 0x216536:  return((char)0x4f58); 
+			case 0x216537:  return((char)0x4f62); 
+			case 0x216539:  return((char)0x4f64); 
+			case 0x21653a:  return((char)0x4f49); 
+			case 0x21653f:  return((char)0x4f3e); 
+			case 0x216540:  return((char)0x4f66); 
+			case 0x216544:  return((char)0x4f67); 
+			case 0x21654d:  return((char)0x4f68); 
+			case 0x21654e:  return((char)0x4f5a); 
+			case 0x21654f:  return((char)0x4f5f); 
+			case 0x216556:  return((char)0x4f82); 
+			case 0x216557:  return((char)0x4f7c); 
+			case 0x21655a:  return((char)0x4f98); 
+			case 0x21655b:  return((char)0x4f92); 
+			case 0x21655c:  return((char)0x4f7d); 
+			case 0x216560:  return((char)0x4f80); 
+			case 0x216561:  return((char)0x4f74); 
+			case 0x216562:  return((char)0x4f76); 
+			case 0x216564:  return((char)0x4fa2); 
+			case 0x216566:  return((char)0x4f91); 
+			case 0x216567:  return((char)0x4f95); 
+			case 0x21656c:  return((char)0x4f4c); 
+			case 0x21656d:  return((char)0x4f97); 
+			case 0x21656e:  return((char)0x4f94); 
+			case 0x216570:  return((char)0x4f79); 
+			case 0x216571:  return((char)0x4f9a); 
+			case 0x216572:  return((char)0x4f81); 
+			case 0x216573:  return((char)0x4f78); 
+			case 0x216576:  return((char)0x4f9c); 
+			case 0x216577:  return((char)0x4f90); 
+			case 0x21657b:  return((char)0x4f7a); 
+			case 0x21657c:  return((char)0x4fcd); 
+			case 0x216622:  return((char)0x4fe4); 
+			case 0x216626:  return((char)0x4fb7); 
+			case 0x216627:  return((char)0x4fc5); 
+			case 0x216629:  return((char)0x4fc9); 
+			case 0x21662a:  return((char)0x4fe5); 
+			case 0x21662c:  return((char)0x4fe7); 
+			case 0x216633:  return((char)0x4fdc); 
+			case 0x216635:  return((char)0x4fd4); 
+			case 0x216637:  return((char)0x4fc1); 
+			case 0x21663b:  return((char)0x4fdb); 
+			case 0x21663e:  return((char)0x4fc6); 
+			case 0x216643:  return((char)0x4fb9); 
+			case 0x216646:  return((char)0x501e); 
+			case 0x216648:  return((char)0x503f); 
+			case 0x216649:  return((char)0x5005); 
+			case 0x21664c:  return((char)0x5007); 
+			case 0x21664d:  return((char)0x5013); 
+			case 0x21664e:  return((char)0x5022); 
+			case 0x216652:  return((char)0x4ff5); 
+			case 0x216659:  return((char)0x4ff4); 
+			case 0x21665b:  return((char)0x5037); 
+			case 0x21665e:  return((char)0x502e); 
+			case 0x216661:  return((char)0x4ff6); 
+			case 0x216662:  return((char)0x501c); 
+			case 0x216666:  return((char)0x502c); 
+			case 0x216669:  return((char)0x5010); 
+			case 0x216679:  return((char)0x503d); 
+			case 0x216722:  return((char)0x506f); 
+			case 0x216723:  return((char)0x5050); 
+			case 0x216725:  return((char)0x5070); 
+			case 0x216729:  return((char)0x5053); 
+			case 0x21672a:  return((char)0x506a); 
+			case 0x21672c:  return((char)0x5056); 
+			case 0x216731:  return((char)0x506d); 
+			case 0x216738:  return((char)0x505d); 
+			case 0x216739:  return((char)0x5048); 
+			case 0x21673b:  return((char)0x5058); 
+			case 0x21673c:  return((char)0x5072); 
+			case 0x216741:  return((char)0x5041); 
+			case 0x216746:  return((char)0x5015); 
+			case 0x216748:  return((char)0x507a); 
+			case 0x21674a:  return((char)0x506c); 
+			case 0x21674b:  return((char)0x505f); 
+			case 0x21674d:  return((char)0x506b); 
+			case 0x21674e:  return((char)0x5094); 
+			case 0x216750:  return((char)0x509e); 
+			case 0x216752:  return((char)0x509b); 
+			case 0x216753:  return((char)0x509a); 
+			case 0x216757:  return((char)0x50a3); 
+			case 0x21675a:  return((char)0x508c); 
+			case 0x21675c:  return((char)0x5088); 
+			case 0x216762:  return((char)0x508e); 
+			case 0x216764:  return((char)0x5095); 
+			case 0x216767:  return((char)0x50a6); 
+			case 0x21676a:  return((char)0x5092); 
+			case 0x21676c:  return((char)0x509c); 
+			case 0x216771:  return((char)0x50c7); 
+			case 0x216775:  return((char)0x50c9); 
+			case 0x21677b:  return((char)0x50ca); 
+			case 0x21677c:  return((char)0x50b4); 
+			case 0x216822:  return((char)0x50c2); 
+			case 0x21682c:  return((char)0x50ba); 
+			case 0x21682e:  return((char)0x50cd); 
+			case 0x216832:  return((char)0x50d4); 
+			case 0x216834:  return((char)0x50ef); 
+			case 0x216835:  return((char)0x50e6); 
+			case 0x21683a:  return((char)0x50f4); 
+			case 0x21683b:  return((char)0x50ce); 
+			case 0x21683c:  return((char)0x50dd); 
+			case 0x216841:  return((char)0x50f3); 
+			case 0x216842:  return((char)0x50e8); 
+			case 0x216844:  return((char)0x50f0); 
+			case 0x216846:  return((char)0x50d9); 
+			case 0x216855:  return((char)0x50ec); 
+			case 0x21685b:  return((char)0x510e); 
+			case 0x21685f:  return((char)0x5105); 
+			case 0x216861:  return((char)0x50fc); 
+			case 0x216865:  return((char)0x5106); 
+			case 0x216866:  return((char)0x5107); 
+			case 0x216867:  return((char)0x510f); 
+			case 0x216868:  return((char)0x50fe); 
+			case 0x216869:  return((char)0x510b); 
+			case 0x21686a:  return((char)0x50fd); 
+			case 0x21686d:  return((char)0x5101); 
+			case 0x216871:  return((char)0x5115); 
+			case 0x216872:  return((char)0x5113); 
+			case 0x216878:  return((char)0x511a); 
+			case 0x216879:  return((char)0x9797); 
+			case 0x21687e:  return((char)0x5126); 
+			case 0x216929:  return((char)0x5124); 
+			case 0x21692b:  return((char)0x5129); 
+			case 0x216930:  return((char)0x5131); 
+			case 0x21693e:  return((char)0x5135); 
+			case 0x216940:  return((char)0x5133); 
+			case 0x216944:  return((char)0x513a); 
+			case 0x216947:  return((char)0x5139); 
+			case 0x216948:  return((char)0x513b); 
+			case 0x216951:  return((char)0x5159); 
+			case 0x216952:  return((char)0x515b); 
+			case 0x216955:  return((char)0x515d); 
+			case 0x216956:  return((char)0x515e); 
+			case 0x216958:  return((char)0x515f); 
+			case 0x216959:  return((char)0x5161); 
+			case 0x21695c:  return((char)0x5163); 
+			case 0x216967:  return((char)0x5182); 
+			case 0x216969:  return((char)0x5184); 
+			case 0x21696e:  return((char)0x518f); 
+			case 0x216970:  return((char)0x5194); 
+			case 0x216971:  return((char)0x5193); 
+			case 0x216975:  return((char)0x5196); 
+			case 0x21697b:  return((char)0x51a1); 
+			case 0x21697c:  return((char)0x51a3); 
+			case 0x216a22:  return((char)0x51aa); 
+			case 0x216a23:  return((char)0x51ab); 
+			case 0x216a26:  return((char)0x51b1); 
+			case 0x216a35:  return((char)0x51bc); 
+			case 0x216a43:  return((char)0x51ca); 
+			case 0x216a46:  return((char)0x51c7); 
+			case 0x216a4e:  return((char)0x51d1); 
+			case 0x216a4f:  return((char)0x51d0); 
+			case 0x216a54:  return((char)0x51d3); 
+			case 0x216a63:  return((char)0x51d9); 
+			case 0x216a66:  return((char)0x51df); 
+			case 0x216a68:  return((char)0x51e2); 
+			case 0x216a73:  return((char)0x5160); 
+			case 0x216a78:  return((char)0x51f5); 
+			case 0x216a79:  return((char)0x51f7); 
+			case 0x216b24:  return((char)0x5213); 
+			case 0x216b26:  return((char)0x5216); 
+			case 0x216b2a:  return((char)0x521c); 
+			case 0x216b33:  return((char)0x5231); 
+			case 0x216b36:  return((char)0x5235); 
+			case 0x216b37:  return((char)0x5232); 
+			case 0x216b39:  return((char)0x5233); 
+			case 0x216b3e:  return((char)0x5244); 
+			case 0x216b43:  return((char)0x5249); 
+			case 0x216b47:  return((char)0x5260); 
+			case 0x216b4b:  return((char)0x525a); 
+			case 0x216b4c:  return((char)0x5252); 
+			case 0x216b4d:  return((char)0x525e); 
+			case 0x216b50:  return((char)0x525f); 
+			case 0x216b53:  return((char)0x5255); 
+			case 0x216b5b:  return((char)0x526e); 
+			case 0x216b5e:  return((char)0x5268); 
+			case 0x216b5f:  return((char)0x7b9a); 
+			case 0x216b6b:  return((char)0x5278); 
+			case 0x216b74:  return((char)0x5282); 
+			case 0x216b75:  return((char)0x5281); 
+			case 0x216b79:  return((char)0x528c); 
+			case 0x216b7a:  return((char)0x528a); 
+			case 0x216b7c:  return((char)0x5290); 
+			case 0x216c21:  return((char)0x5293); 
+			case 0x216c27:  return((char)0x5296); 
+			case 0x216c29:  return((char)0x5298); 
+			case 0x216c2b:  return((char)0x529a); 
+			case 0x216c2c:  return((char)0x5299); 
+			case 0x216c2e:  return((char)0x52a6); 
+			case 0x216c31:  return((char)0x52ad); 
+			case 0x216c33:  return((char)0x52ae); 
+			case 0x216c37:  return((char)0x52bb); 
+			case 0x216c38:  return((char)0x52bc); 
+			case 0x216c3c:  return((char)0x52ca); 
+			case 0x216c3d:  return((char)0x52cd); 
+			case 0x216c40:  return((char)0x52d0); 
+			case 0x216c41:  return((char)0x52d1); 
+			case 0x216c46:  return((char)0x52d4); 
+			case 0x216c48:  return((char)0x52d6); 
+			case 0x216c4c:  return((char)0x52e3); 
+			case 0x216c4e:  return((char)0x52e1); 
+			case 0x216c50:  return((char)0x55e7); 
+			case 0x216c53:  return((char)0x52e9); 
+			case 0x216c58:  return((char)0x52f0); 
+			case 0x216c5a:  return((char)0x52f1); 
+			case 0x216c5e:  return((char)0x52f7); 
+			case 0x216c61:  return((char)0x52f9); 
+			case 0x216c62:  return((char)0x52fa); 
+			case 0x216c64:  return((char)0x52fc); 
+			case 0x216c69:  return((char)0x5307); 
+			case 0x216c6a:  return((char)0x5303); 
+			case 0x216c6b:  return((char)0x5306); 
+			case 0x216c6e:  return((char)0x530a); 
+			case 0x216c6f:  return((char)0x530b); 
+			case 0x216c77:  return((char)0x5311); 
+			case 0x216c7b:  return((char)0x6706); 
+			case 0x216d23:  return((char)0x531a); 
+			case 0x216d24:  return((char)0x531c); 
+			case 0x216d25:  return((char)0x531f); 
+			case 0x216d2e:  return((char)0x532d); 
+			case 0x216d33:  return((char)0x5330); 
+			case 0x216d36:  return((char)0x5335); 
+			case 0x216d3a:  return((char)0x5338); 
+			case 0x216d3e:  return((char)0x533d); 
+			case 0x216d41:  return((char)0x534c); 
+			case 0x216d42:  return((char)0x534d); 
+			case 0x216d4b:  return((char)0x535d); 
+			case 0x216d4c:  return((char)0x5363); 
+			case 0x216d4e:  return((char)0x5365); 
+			case 0x216d53:  return((char)0x536c); 
+			case 0x216d57:  return((char)0x5372); 
+			case 0x216d58:  return((char)0x537a); 
+			case 0x216d5d:  return((char)0x5380); 
+			case 0x216d64:  return((char)0x538e); 
+			case 0x216d66:  return((char)0x5393); 
+			case 0x216d67:  return((char)0x5394); 
+			case 0x216d6d:  return((char)0x5399); 
+			case 0x216d74:  return((char)0x8652); 
+			case 0x216d7a:  return((char)0x53a4); 
+			case 0x216d7b:  return((char)0x53ab); 
+			case 0x216e2c:  return((char)0x53b5); 
+			case 0x216e2e:  return((char)0x53b9); 
+			case 0x216e3e:  return((char)0x53d0); 
+			case 0x216e48:  return((char)0x53da); 
+			case 0x216e57:  return((char)0x53fb); 
+			case 0x216e58:  return((char)0x535f); 
+			case 0x216e61:  return((char)0x5414); 
+			case 0x216e68:  return((char)0x5406); 
+			case 0x216e6c:  return((char)0x544c); 
+			case 0x216e6d:  return((char)0x5445); 
+			case 0x216e6f:  return((char)0x541a); 
+			case 0x216e70:  return((char)0x5432); 
+			case 0x216e76:  return((char)0x5421); 
+			case 0x216e78:  return((char)0x5430); 
+			case 0x216e79:  return((char)0x5454); 
+			case 0x216e7d:  return((char)0x543d); 
+			case 0x216f21:  return((char)0x544f); 
+			case 0x216f24:  return((char)0x542a); 
+			case 0x216f26:  return((char)0x5422); 
+			case 0x216f27:  return((char)0x5423); 
+			case 0x216f2e:  return((char)0x545f); 
+			case 0x216f2f:  return((char)0x549c); 
+			case 0x216f35:  return((char)0x5488); 
+			case 0x216f37:  return((char)0x547f); 
+			case 0x216f39:  return((char)0x5482); 
+			case 0x216f3a:  return((char)0x546d); 
+			case 0x216f3b:  return((char)0x5491); 
+			case 0x216f42:  return((char)0x5494); 
+			case 0x216f43:  return((char)0x546b); 
+			case 0x216f49:  return((char)0x548d); 
+			case 0x216f4a:  return((char)0x5463); 
+			case 0x216f4b:  return((char)0x5474); 
+			case 0x216f52:  return((char)0x5466); 
+			case 0x216f53:  return((char)0x5464); 
+			case 0x216f55:  return((char)0x54a4); 
+			case 0x216f58:  return((char)0x54a1); 
+			case 0x216f5a:  return((char)0x54ad); 
+			case 0x216f5b:  return((char)0x54ba); 
+			case 0x216f5c:  return((char)0x54cf); 
+			case 0x216f5e:  return((char)0x54be); 
+			case 0x216f60:  return((char)0x54a5); 
+			case 0x216f63:  return((char)0x54a7); 
+			case 0x216f64:  return((char)0x54b5); 
+			case 0x216f66:  return((char)0x54a2); 
+			case 0x216f67:  return((char)0x5472); 
+			case 0x216f68:  return((char)0x5470); 
+			case 0x216f69:  return((char)0x54bc); 
+			case 0x216f6a:  return((char)0x54b7); 
+			case 0x216f6b:  return((char)0x54de); 
+			case 0x216f6c:  return((char)0x54d6); 
+			case 0x216f6d:  return((char)0x54ae); 
+			case 0x216f71:  return((char)0x54bf); 
+			case 0x216f74:  return((char)0x54c6); 
+			case 0x216f7b:  return((char)0x551a); 
+			case 0x216f7c:  return((char)0x54e2); 
+			case 0x216f7d:  return((char)0x5507); 
+			case 0x217023:  return((char)0x5517); 
+			case 0x217024:  return((char)0x54fd); 
+			case 0x217025:  return((char)0x54e7); 
+			case 0x217027:  return((char)0x54f3); 
+			case 0x21702a:  return((char)0x54e4); 
+			case 0x21702b:  return((char)0x550a); 
+			case 0x21702d:  return((char)0x54ff); 
+			case 0x21702e:  return((char)0x5518); 
+			case 0x217030:  return((char)0x5504); 
+			case 0x217032:  return((char)0x54ef); 
+			case 0x217034:  return((char)0x5508); 
+			case 0x217038:  return((char)0x54f6); 
+			case 0x217039:  return((char)0x54f7); 
+			case 0x21703e:  return((char)0x550e); 
+			case 0x217044:  return((char)0x5523); 
+			case 0x217046:  return((char)0x550f); 
+			case 0x217047:  return((char)0x5511); 
+			case 0x21704b:  return((char)0x5575); 
+			case 0x21704d:  return((char)0x5573); 
+			case 0x21704e:  return((char)0x554c); 
+			case 0x21704f:  return((char)0x5576); 
+			case 0x217050:  return((char)0x554d); 
+			case 0x217051:  return((char)0x555a); 
+			case 0x217053:  return((char)0x553c); 
+			case 0x217055:  return((char)0x5550); 
+			case 0x217057:  return((char)0x5539); 
+			case 0x217058:  return((char)0x5548); 
+			case 0x217059:  return((char)0x552d); 
+			case 0x21705a:  return((char)0x5551); 
+			case 0x21705d:  return((char)0x552a); 
+			case 0x217060:  return((char)0x5562); 
+			case 0x217061:  return((char)0x5536); 
+			case 0x217064:  return((char)0x5549); 
+			case 0x217068:  return((char)0x5530); 
+			case 0x21706a:  return((char)0x5540); 
+			case 0x21706b:  return((char)0x5535); 
+			case 0x217070:  return((char)0x5545); 
+			case 0x217079:  return((char)0x553f); 
+			case 0x21707b:  return((char)0x5541); 
+			case 0x21707d:  return((char)0x5565); 
+			case 0x217123:  return((char)0x5591); 
+			case 0x217125:  return((char)0x5577); 
+			case 0x217126:  return((char)0x55a8); 
+			case 0x217127:  return((char)0x55ad); 
+			case 0x21712a:  return((char)0x5605); 
+			case 0x21712d:  return((char)0x5593); 
+			case 0x21712f:  return((char)0x5586); 
+			case 0x217134:  return((char)0x5588); 
+			case 0x217136:  return((char)0x55b4); 
+			case 0x217143:  return((char)0x55e2); 
+			case 0x217144:  return((char)0x5581); 
+			case 0x217145:  return((char)0x558e); 
+			case 0x217147:  return((char)0x55b5); 
+			case 0x217149:  return((char)0x558f); 
+			case 0x21714b:  return((char)0x5559); 
+			case 0x217150:  return((char)0x55a4); 
+			case 0x217151:  return((char)0x5592); 
+			case 0x217152:  return((char)0x5599); 
+			case 0x217156:  return((char)0x55f4); 
+			case 0x217158:  return((char)0x55cc); 
+			case 0x217159:  return((char)0x55d0); 
+			case 0x21715a:  return((char)0x55db); 
+			case 0x21715b:  return((char)0x55cd); 
+			case 0x21715c:  return((char)0x55de); 
+			case 0x21715d:  return((char)0x55d9); 
+			case 0x21715e:  return((char)0x55c3); 
+			case 0x21715f:  return((char)0x55c9); 
+			case 0x217161:  return((char)0x55ca); 
+			case 0x217162:  return((char)0x55dd); 
+			case 0x217164:  return((char)0x55d4); 
+			case 0x217165:  return((char)0x55c4); 
+			case 0x217169:  return((char)0x55e9); 
+			case 0x21716f:  return((char)0x55cf); 
+			case 0x217170:  return((char)0x55d2); 
+			case 0x217175:  return((char)0x55e5); 
+			case 0x217177:  return((char)0x55d6); 
+			case 0x217178:  return((char)0x55c1); 
+			case 0x217179:  return((char)0x55f2); 
+			case 0x21717e:  return((char)0x5627); 
+			case 0x217224:  return((char)0x55fb); 
+			case 0x217225:  return((char)0x5612); 
+			case 0x217227:  return((char)0x55f8); 
+			case 0x217228:  return((char)0x560f); 
+			case 0x21722b:  return((char)0x55f9); 
+			case 0x21722e:  return((char)0x561e); 
+			case 0x217231:  return((char)0x560c); 
+			case 0x217234:  return((char)0x561c); 
+			case 0x217235:  return((char)0x5610); 
+			case 0x217236:  return((char)0x5601); 
+			case 0x217238:  return((char)0x5613); 
+			case 0x217239:  return((char)0x55f6); 
+			case 0x21723c:  return((char)0x5602); 
+			case 0x217242:  return((char)0x561d); 
+			case 0x217244:  return((char)0x55ff); 
+			case 0x217247:  return((char)0x5642); 
+			case 0x217248:  return((char)0x564c); 
+			case 0x21724b:  return((char)0x564b); 
+			case 0x217252:  return((char)0x5640); 
+			case 0x217255:  return((char)0x5635); 
+			case 0x217257:  return((char)0x5649); 
+			case 0x217258:  return((char)0x5641); 
+			case 0x21725c:  return((char)0x5658); 
+			case 0x21725d:  return((char)0x5620); 
+			case 0x21725e:  return((char)0x5654); 
+			case 0x217260:  return((char)0x562a); 
+			case 0x217261:  return((char)0x563d); 
+			case 0x217264:  return((char)0x562c); 
+			case 0x217267:  return((char)0x5638); 
+			case 0x217269:  return((char)0x564d); 
+			case 0x21726b:  return((char)0x562b); 
+			case 0x21726c:  return((char)0x564f); 
+			case 0x21726e:  return((char)0x5670); 
+			case 0x21726f:  return((char)0x565f); 
+			case 0x217270:  return((char)0x567c); 
+			case 0x217272:  return((char)0x5660); 
+			case 0x217278:  return((char)0x5676); 
+			case 0x21727a:  return((char)0x5666); 
+			case 0x21727b:  return((char)0x5673); 
+			case 0x21727c:  return((char)0x566d); 
+			case 0x21727e:  return((char)0x5672); 
+			case 0x217325:  return((char)0x5693); 
+			case 0x217328:  return((char)0x568c); 
+			case 0x217332:  return((char)0x56ba); 
+			case 0x217334:  return((char)0x5686); 
+			case 0x217335:  return((char)0x5684); 
+			case 0x217336:  return((char)0x5691); 
+			case 0x217337:  return((char)0x568a); 
+			case 0x21733e:  return((char)0x569e); 
+			case 0x217341:  return((char)0x569c); 
+			case 0x217342:  return((char)0x569a); 
+			case 0x217345:  return((char)0x5699); 
+			case 0x21734b:  return((char)0x56ad); 
+			case 0x21734c:  return((char)0x56a6); 
+			case 0x21734e:  return((char)0x56ac); 
+			case 0x217353:  return((char)0x56b2); 
+			case 0x21735a:  return((char)0x56b3); 
+			case 0x21735b:  return((char)0x56c3); 
+			case 0x217360:  return((char)0x56c5); 
+			case 0x217362:  return((char)0x56cf); 
+			case 0x217367:  return((char)0x56cd); 
+			case 0x21736a:  return((char)0x56d4); 
+			case 0x21736b:  return((char)0x56d7); 
+			case 0x21736d:  return((char)0x56dd); 
+			case 0x21736f:  return((char)0x56e1); 
+			case 0x217370:  return((char)0x56df); 
+			case 0x217375:  return((char)0x56eb); 
+			case 0x217376:  return((char)0x56ee); 
+			case 0x217377:  return((char)0x56e7); 
+			case 0x217379:  return((char)0x56fb); 
+			case 0x21737e:  return((char)0x56f7); 
+			case 0x217421:  return((char)0x56f9); 
+			case 0x217424:  return((char)0x56ff); 
+			case 0x217427:  return((char)0x5705); 
+			case 0x217428:  return((char)0x5704); 
+			case 0x217429:  return((char)0x5702); 
+			case 0x21742c:  return((char)0x570a); 
+			case 0x21742d:  return((char)0x5709); 
+			case 0x21742e:  return((char)0x5707); 
+			case 0x217430:  return((char)0x570c); 
+			case 0x217431:  return((char)0x5715); 
+			case 0x217432:  return((char)0x5714); 
+			case 0x217435:  return((char)0x571a); 
+			case 0x217436:  return((char)0x571b); 
+			case 0x217437:  return((char)0x571c); 
+			case 0x217439:  return((char)0x571d); 
+			case 0x21743a:  return((char)0x571e); 
+			case 0x217441:  return((char)0x5724); 
+			case 0x217442:  return((char)0x572e); 
+			case 0x217443:  return((char)0x5729); 
+			case 0x217448:  return((char)0x5738); 
+			case 0x21744c:  return((char)0x572a); 
+			case 0x217463:  return((char)0x5749); 
+			case 0x217465:  return((char)0x5745); 
+			case 0x217468:  return((char)0x574b); 
+			case 0x217469:  return((char)0x574c); 
+			case 0x21746a:  return((char)0x573f); 
+			case 0x217470:  return((char)0x5768); 
+			case 0x217475:  return((char)0x578a); 
+			case 0x217477:  return((char)0x576d); 
+			case 0x217479:  return((char)0x5774); 
+			case 0x21747a:  return((char)0x5767); 
+			case 0x217526:  return((char)0x5770); 
+			case 0x217528:  return((char)0x5771); 
+			case 0x21752a:  return((char)0x576e); 
+			case 0x21752d:  return((char)0x5776); 
+			case 0x21752e:  return((char)0x5789); 
+			case 0x217530:  return((char)0x577f); 
+			case 0x217531:  return((char)0x5775); 
+			case 0x217532:  return((char)0x577b); 
+			case 0x217533:  return((char)0x5788); 
+			case 0x217535:  return((char)0x5773); 
+			case 0x217538:  return((char)0x579f); 
+			case 0x217539:  return((char)0x5790); 
+			case 0x21753a:  return((char)0x5793); 
+			case 0x21753f:  return((char)0x579e); 
+			case 0x217540:  return((char)0x57b5); 
+			case 0x217543:  return((char)0x579a); 
+			case 0x217545:  return((char)0x5794); 
+			case 0x217547:  return((char)0x57a4); 
+			case 0x217548:  return((char)0x5799); 
+			case 0x217549:  return((char)0x578c); 
+			case 0x21754b:  return((char)0x5797); 
+			case 0x21754e:  return((char)0x579d); 
+			case 0x217552:  return((char)0x579c); 
+			case 0x217554:  return((char)0x57a7); 
+			case 0x217557:  return((char)0x57a1); 
+			case 0x217559:  return((char)0x12c4); 
+			case 0x21755b:  return((char)0x5795); 
+			case 0x21755f:  return((char)0x57b8); 
+			case 0x217560:  return((char)0x57c7); 
+			case 0x21756a:  return((char)0x5809); 
+			case 0x21756c:  return((char)0x57be); 
+			case 0x217571:  return((char)0x57db); 
+			case 0x217573:  return((char)0x57d5); 
+			case 0x217577:  return((char)0x57d2); 
+			case 0x21757e:  return((char)0x57c6); 
+			case 0x217622:  return((char)0x57c4); 
+			case 0x217627:  return((char)0x70fe); 
+			case 0x217629:  return((char)0x57e3); 
+			case 0x21762a:  return((char)0x57fb); 
+			case 0x21762b:  return((char)0x5803); 
+			case 0x21762c:  return((char)0x57f6); 
+			case 0x21762d:  return((char)0x57e6); 
+			case 0x217631:  return((char)0x57ed); 
+			case 0x217633:  return((char)0x5800); 
+			case 0x217635:  return((char)0x57ec); 
+			case 0x217636:  return((char)0x5807); 
+			case 0x217639:  return((char)0x580e); 
+			case 0x21763b:  return((char)0x580f); 
+			case 0x21763d:  return((char)0x57f4); 
+			case 0x21763e:  return((char)0x5810); 
+			case 0x217640:  return((char)0x580d); 
+			case 0x217643:  return((char)0x57ef); 
+			case 0x217648:  return((char)0x5801); 
+			case 0x217649:  return((char)0x5812); 
+			case 0x21764d:  return((char)0x57fd); 
+			case 0x21764e:  return((char)0x57f8); 
+			case 0x217650:  return((char)0x580c); 
+			case 0x217651:  return((char)0x5813); 
+			case 0x217652:  return((char)0x57f0); 
+			case 0x217656:  return((char)0x580b); 
+			case 0x217658:  return((char)0x57f3); 
+			case 0x217659:  return((char)0x5804); 
+			case 0x21765a:  return((char)0x57cf); 
+			case 0x21765b:  return((char)0x57dd); 
+			case 0x21765f:  return((char)0x5847); 
+			case 0x217667:  return((char)0x581b); 
+			case 0x217669:  return((char)0x5819); 
+			case 0x21766a:  return((char)0x5833); 
+			case 0x21766c:  return((char)0x581e); 
+			case 0x21766d:  return((char)0x583f); 
+			case 0x217671:  return((char)0x5827); 
+			case 0x217676:  return((char)0x5828); 
+			case 0x217678:  return((char)0x582e); 
+			case 0x21767a:  return((char)0x581d); 
+			case 0x21767d:  return((char)0x5844); 
+			case 0x217721:  return((char)0x5848); 
+			case 0x217723:  return((char)0x5818); 
+			case 0x217726:  return((char)0x57f5); 
+			case 0x217729:  return((char)0x582d); 
+			case 0x21772b:  return((char)0x5820); 
+			case 0x217730:  return((char)0x584e); 
+			case 0x217733:  return((char)0x585d); 
+			case 0x217735:  return((char)0x5859); 
+			case 0x217737:  return((char)0x584b); 
+			case 0x21773d:  return((char)0x5865); 
+			case 0x217740:  return((char)0x586c); 
+			case 0x217742:  return((char)0x5852); 
+			case 0x217745:  return((char)0x5864); 
+			case 0x217747:  return((char)0x5853); 
+			case 0x217748:  return((char)0x584f); 
+			case 0x217749:  return((char)0x583d); 
+			case 0x21774d:  return((char)0x584d); 
+			case 0x21774e:  return((char)0x5856); 
+			case 0x217755:  return((char)0x589a); 
+			case 0x217758:  return((char)0x5892); 
+			case 0x21775a:  return((char)0x588e); 
+			case 0x21775c:  return((char)0x5889); 
+			case 0x21775f:  return((char)0x5840); 
+			case 0x217760:  return((char)0x589b); 
+			case 0x217761:  return((char)0x587c); 
+			case 0x217763:  return((char)0x5888); 
+			case 0x217765:  return((char)0x5890); 
+			case 0x217768:  return((char)0x5898); 
+			case 0x21776b:  return((char)0x587d); 
+			case 0x21776f:  return((char)0x587f); 
+			case 0x217770:  return((char)0x5881); 
+			case 0x21777b:  return((char)0x58a9); 
+			case 0x21777e:  return((char)0x58a1); 
+			case 0x217824:  return((char)0x58b1); 
+			case 0x21782b:  return((char)0x58ad); 
+			case 0x21782e:  return((char)0x58a0); 
+			case 0x217830:  return((char)0x58a3); 
+			case 0x217832:  return((char)0x58a6); 
+			case 0x21783a:  return((char)0x58c8); 
+			case 0x217841:  return((char)0x58bc); 
+			case 0x217849:  return((char)0x58bf); 
+			case 0x21784b:  return((char)0x58c6); 
+			case 0x21784c:  return((char)0x58ba); 
+			case 0x217850:  return((char)0x58d6); 
+			case 0x217854:  return((char)0x58d2); 
+			case 0x217856:  return((char)0x58ce); 
+			case 0x21785a:  return((char)0x58e0); 
+			case 0x21785e:  return((char)0x58da); 
+			case 0x21786c:  return((char)0x58fc); 
+			case 0x217870:  return((char)0x5902); 
+			case 0x217873:  return((char)0x5906); 
+			case 0x217874:  return((char)0x6535); 
+			case 0x21787a:  return((char)0x5910); 
+			case 0x21787c:  return((char)0x8641); 
+			case 0x217928:  return((char)0x592c); 
+			case 0x21792b:  return((char)0x592f); 
+			case 0x217930:  return((char)0x593c); 
+			case 0x217933:  return((char)0x5940); 
+			case 0x217938:  return((char)0x594d); 
+			case 0x217943:  return((char)0x5953); 
+			case 0x21794b:  return((char)0x595c); 
+			case 0x21794f:  return((char)0x5961); 
+			case 0x217954:  return((char)0x596c); 
+			case 0x217955:  return((char)0x596d); 
+			case 0x217965:  return((char)0x597c); 
+			case 0x217969:  return((char)0x59a7); 
+			case 0x21796b:  return((char)0x5998); 
+			case 0x21796f:  return((char)0x599a); 
+			case 0x217971:  return((char)0x59a0); 
+			case 0x21797c:  return((char)0x5997); 
+			case 0x217a21:  return((char)0x5990); 
+			case 0x217a24:  return((char)0x59c5); 
+			case 0x217a25:  return((char)0x59b5); 
+			case 0x217a28:  return((char)0x59cf); 
+			case 0x217a2a:  return((char)0x59ba); 
+			case 0x217a2c:  return((char)0x59b8); 
+			case 0x217a35:  return((char)0x59b2); 
+			case 0x217a3a:  return((char)0x59b7); 
+			case 0x217a3e:  return((char)0x59c1); 
+			case 0x217a43:  return((char)0x59f9); 
+			case 0x217a44:  return((char)0x59f8); 
+			case 0x217a4f:  return((char)0x59ee); 
+			case 0x217a50:  return((char)0x59f1); 
+			case 0x217a51:  return((char)0x5a00); 
+			case 0x217a52:  return((char)0x59de); 
+			case 0x217a56:  return((char)0x59fd); 
+			case 0x217a5d:  return((char)0x59f6); 
+			case 0x217a5e:  return((char)0x59dd); 
+			case 0x217a5f:  return((char)0x59fa); 
+			case 0x217a61:  return((char)0x59e4); 
+			case 0x217a6e:  return((char)0x5a2a); 
+			case 0x217a75:  return((char)0x5a16); 
+			case 0x217a78:  return((char)0x5a09); 
+			case 0x217a7e:  return((char)0x5a12); 
+			case 0x217b2c:  return((char)0x5a60); 
+			case 0x217b31:  return((char)0x5a67); 
+			case 0x217b3a:  return((char)0x5a38); 
+			case 0x217b3b:  return((char)0x5a5e); 
+			case 0x217b3c:  return((char)0x5a6d); 
+			case 0x217b3d:  return((char)0x5a35); 
+			case 0x217b3e:  return((char)0x5a55); 
+			case 0x217b41:  return((char)0x5a2c); 
+			case 0x217b48:  return((char)0x5a50); 
+			case 0x217b49:  return((char)0x5a65); 
+			case 0x217b52:  return((char)0x5a64); 
+			case 0x217b65:  return((char)0x5a8a); 
+			case 0x217b69:  return((char)0x5acf); 
+			case 0x217b6a:  return((char)0x5a7a); 
+			case 0x217b71:  return((char)0x5a9f); 
+			case 0x217b75:  return((char)0x5aa0); 
+			case 0x217c21:  return((char)0x5aa6); 
+			case 0x217c22:  return((char)0x5a8c); 
+			case 0x217c24:  return((char)0x5aa7); 
+			case 0x217c25:  return((char)0x5a9e); 
+			case 0x217c26:  return((char)0x5aa2); 
+			case 0x217c27:  return((char)0x5a9c); 
+			case 0x217c28:  return((char)0x5a7c); 
+			case 0x217c29:  return((char)0x5a96); 
+			case 0x217c30:  return((char)0x5a93); 
+			case 0x217c31:  return((char)0x5aac); 
+			case 0x217c34:  return((char)0x5aae); 
+			case 0x217c35:  return((char)0x5a95); 
+			case 0x217c36:  return((char)0x5aaf); 
+			case 0x217c39:  return((char)0x5ac8); 
+			case 0x217c3e:  return((char)0x5ab5); 
+			case 0x217c41:  return((char)0x5ac4); 
+			case 0x217c45:  return((char)0x5ab7); 
+			case 0x217c49:  return((char)0x5ad1); 
+			case 0x217c4a:  return((char)0x5a90); 
+			case 0x217c4f:  return((char)0x5ab8); 
+			case 0x217c50:  return((char)0x5aba); 
+			case 0x217c52:  return((char)0x5aaa); 
+			case 0x217c59:  return((char)0x5ad3); 
+			case 0x217c5b:  return((char)0x5ab1); 
+			case 0x217c60:  return((char)0x5adc); 
+			case 0x217c6d:  return((char)0x5ae5); 
+			case 0x217c6e:  return((char)0x5ae0); 
+			case 0x217c72:  return((char)0x5aea); 
+			case 0x217c7b:  return((char)0x5ada); 
+			case 0x217c7c:  return((char)0x5aeb); 
+			case 0x217d26:  return((char)0x5aff); 
+			case 0x217d2a:  return((char)0x5afd); 
+			case 0x217d2b:  return((char)0x5b08); 
+			case 0x217d2e:  return((char)0x5b0d); 
+			case 0x217d38:  return((char)0x5b03); 
+			case 0x217d3d:  return((char)0x5b17); 
+			case 0x217d3e:  return((char)0x5b16); 
+			case 0x217d40:  return((char)0x5b19); 
+			case 0x217d47:  return((char)0x5b1b); 
+			case 0x217d48:  return((char)0x5b21); 
+			case 0x217d52:  return((char)0x5b2c); 
+			case 0x217d59:  return((char)0x5b32); 
+			case 0x217d63:  return((char)0x5b3f); 
+			case 0x217d6e:  return((char)0x5b45); 
+			case 0x217d74:  return((char)0x5b4c); 
+			case 0x217d76:  return((char)0x5b4b); 
+			case 0x217d7c:  return((char)0x5b56); 
+			case 0x217e21:  return((char)0x5b5b); 
+			case 0x217e23:  return((char)0x5b62); 
+			case 0x217e24:  return((char)0x5b65); 
+			case 0x217e25:  return((char)0x5b67); 
+			case 0x217e27:  return((char)0x5c58); 
+			case 0x217e28:  return((char)0x5b6c); 
+			case 0x217e2a:  return((char)0x5b6e); 
+			case 0x217e30:  return((char)0x5b7b); 
+			case 0x217e31:  return((char)0x5b7c); 
+			case 0x217e32:  return((char)0x5b80); 
+			case 0x217e34:  return((char)0x5b84); 
+			case 0x217e35:  return((char)0x5b82); 
+			case 0x217e40:  return((char)0x5b95); 
+			case 0x217e43:  return((char)0x5b93); 
+			case 0x217e49:  return((char)0x5bac); 
+			case 0x217e52:  return((char)0x5ba7); 
+			case 0x217e55:  return((char)0x5bb7); 
+			case 0x217e59:  return((char)0x5bc1); 
+			case 0x217e5b:  return((char)0x3761); 
+			case 0x217e60:  return((char)0x5bc9); 
+			case 0x217e68:  return((char)0x5bd4); 
+			case 0x217e6a:  return((char)0x5bc3); 
+			case 0x217e6e:  return((char)0x5bd6); 
+			case 0x217e75:  return((char)0x5bd7); 
+			case 0x217e79:  return((char)0x5be0); 
+			case 0x217e7e:  return((char)0x5bea); 
+			default: return((char)0);
+		}
+	}
+
+	private char getMultiByteChar_0x220000_0x22ffff(int c) {
+		switch(c) {
+			case 0x222224:  return((char)0x5bf0); 
+			case 0x222225:  return((char)0x5bef); 
+			case 0x222233:  return((char)0x5c00); 
+			case 0x222235:  return((char)0x5c57); 
+			case 0x22223c:  return((char)0x5c15); 
+			case 0x222246:  return((char)0x5c22); 
+			case 0x222248:  return((char)0x5c25); 
+			case 0x22224b:  return((char)0x5c2a); 
+			case 0x222252:  return((char)0x5c2f); 
+			case 0x22225b:  return((char)0x5c32); 
+			case 0x222263:  return((char)0x5c3b); 
+			case 0x222265:  return((char)0x5c44); 
+			case 0x222267:  return((char)0x5c49); 
+			case 0x222279:  return((char)0x5c59); 
+			case 0x22227b:  return((char)0x5c5d); 
+			case 0x22227c:  return((char)0x5c5f); 
+			case 0x222323:  return((char)0x5c63); 
+			case 0x222329:  return((char)0x5c67); 
+			case 0x22232b:  return((char)0x5c68); 
+			case 0x222330:  return((char)0x5c6d); 
+			case 0x222331:  return((char)0x5c6e); 
+			case 0x222337:  return((char)0x5c74); 
+			case 0x222339:  return((char)0x5c73); 
+			case 0x22233b:  return((char)0x5c77); 
+			case 0x22233c:  return((char)0x5c7a); 
+			case 0x222340:  return((char)0x5c7c); 
+			case 0x222346:  return((char)0x5c8f); 
+			case 0x222349:  return((char)0x5c88); 
+			case 0x22234b:  return((char)0x5c8d); 
+			case 0x22234d:  return((char)0x5c99); 
+			case 0x222355:  return((char)0x5ca6); 
+			case 0x222357:  return((char)0x5ca0); 
+			case 0x22235c:  return((char)0x5ca2); 
+			case 0x222360:  return((char)0x5cb5); 
+			case 0x222361:  return((char)0x5ca7); 
+			case 0x222366:  return((char)0x5ca8); 
+			case 0x222367:  return((char)0x5cac); 
+			case 0x22236b:  return((char)0x5ca3); 
+			case 0x22236c:  return((char)0x5cb6); 
+			case 0x22236d:  return((char)0x5cc1); 
+			case 0x22236f:  return((char)0x5cad); 
+			case 0x222370:  return((char)0x5cd5); 
+			case 0x222378:  return((char)0x5cd3); 
+			case 0x222379:  return((char)0x5c8d); 
+			case 0x222426:  return((char)0x5ce0); 
+			case 0x222428:  return((char)0x5cd2); 
+			case 0x222429:  return((char)0x5cdd); 
+			case 0x22242b:  return((char)0x5ccb); 
+			case 0x222430:  return((char)0x5cc7); 
+			case 0x222431:  return((char)0x5cdc); 
+			case 0x222434:  return((char)0x5d00); 
+			case 0x22243b:  return((char)0x5cff); 
+			case 0x22243c:  return((char)0x5ceb); 
+			case 0x222441:  return((char)0x5cf4); 
+			case 0x222446:  return((char)0x5cf1); 
+			case 0x222449:  return((char)0x5d1e); 
+			case 0x22244a:  return((char)0x5d12); 
+			case 0x222450:  return((char)0x5d1a); 
+			case 0x222452:  return((char)0x5d0c); 
+			case 0x222453:  return((char)0x5d20); 
+			case 0x222454:  return((char)0x5d21); 
+			case 0x222457:  return((char)0x5d27); 
+			case 0x222458:  return((char)0x5d0d); 
+			case 0x22245a:  return((char)0x5d26); 
+			case 0x22245d:  return((char)0x5d2e); 
+			case 0x222469:  return((char)0x5d24); 
+			case 0x222471:  return((char)0x5d36); 
+			case 0x222472:  return((char)0x5d3e); 
+			case 0x222474:  return((char)0x5d4b); 
+			case 0x222476:  return((char)0x5d57); 
+			case 0x222477:  return((char)0x5d34); 
+			case 0x222525:  return((char)0x5d3f); 
+			case 0x222526:  return((char)0x5d52); 
+			case 0x222527:  return((char)0x5d3d); 
+			case 0x222528:  return((char)0x5d4e); 
+			case 0x22252c:  return((char)0x5d59); 
+			case 0x22252d:  return((char)0x5d47); 
+			case 0x22252f:  return((char)0x5d32); 
+			case 0x222531:  return((char)0x5d42); 
+			case 0x222534:  return((char)0x5d74); 
+			case 0x222539:  return((char)0x5d6f); 
+			case 0x22253a:  return((char)0x5d6b); 
+			case 0x22253f:  return((char)0x5d75); 
+			case 0x222544:  return((char)0x5d4a); 
+			case 0x222549:  return((char)0x5d6c); 
+			case 0x22254a:  return((char)0x5d62); 
+			case 0x22254d:  return((char)0x5d82); 
+			case 0x222550:  return((char)0x5d79); 
+			case 0x222551:  return((char)0x5d8e); 
+			case 0x22255a:  return((char)0x5d81); 
+			case 0x222560:  return((char)0x5d7e); 
+			case 0x222566:  return((char)0x5d92); 
+			case 0x222568:  return((char)0x5d99); 
+			case 0x222569:  return((char)0x5d97); 
+			case 0x22256a:  return((char)0x5da2); 
+			case 0x222573:  return((char)0x5da1); 
+			case 0x222575:  return((char)0x5d93); 
+			case 0x222577:  return((char)0x5da0); 
+			case 0x22257b:  return((char)0x5d94); 
+			case 0x22257e:  return((char)0x5dac); 
+			case 0x222626:  return((char)0x5da7); 
+			case 0x22262a:  return((char)0x5db0); 
+			case 0x22262e:  return((char)0x5db4); 
+			case 0x22262f:  return((char)0x5dae); 
+			case 0x222630:  return((char)0x5db6); 
+			case 0x222632:  return((char)0x5db8); 
+			case 0x222634:  return((char)0x5dbf); 
+			case 0x222636:  return((char)0x5db7); 
+			case 0x22263e:  return((char)0x5dc3); 
+			case 0x222644:  return((char)0x5dc7); 
+			case 0x222646:  return((char)0x5dc9); 
+			case 0x222647:  return((char)0x5dcb); 
+			case 0x22264e:  return((char)0x5dd8); 
+			case 0x222650:  return((char)0x5ddb); 
+			case 0x222652:  return((char)0x5ddc); 
+			case 0x222656:  return((char)0x5de4); 
+			case 0x222662:  return((char)0x5e00); 
+			case 0x222664:  return((char)0x51e7); 
+			case 0x222672:  return((char)0x5e14); 
+			case 0x222673:  return((char)0x5e17); 
+			case 0x222676:  return((char)0x5e19); 
+			case 0x222677:  return((char)0x5e12); 
+			case 0x222678:  return((char)0x5e1f); 
+			case 0x22267a:  return((char)0x5e23); 
+			case 0x22267b:  return((char)0x5e21); 
+			case 0x222722:  return((char)0x5e22); 
+			case 0x222724:  return((char)0x5e28); 
+			case 0x222735:  return((char)0x5e44); 
+			case 0x222736:  return((char)0x5e43); 
+			case 0x222739:  return((char)0x5e42); 
+			case 0x22273f:  return((char)0x5e4e); 
+			case 0x222747:  return((char)0x5e58); 
+			case 0x222748:  return((char)0x5e48); 
+			case 0x222757:  return((char)0x5e5e); 
+			case 0x222758:  return((char)0x5e61); 
+			case 0x22275d:  return((char)0x5e68); 
+			case 0x22275f:  return((char)0x5e6c); 
+			case 0x222760:  return((char)0x5e6a); 
+			case 0x222763:  return((char)0x5e6e); 
+			case 0x222764:  return((char)0x5e6d); 
+			case 0x222765:  return((char)0x5e70); 
+			case 0x22276d:  return((char)0x5e75); 
+			case 0x222777:  return((char)0x5e80); 
+			case 0x22277e:  return((char)0x5e8b); 
+			case 0x22282f:  return((char)0x5ea4); 
+			case 0x222835:  return((char)0x5ea5); 
+			case 0x222836:  return((char)0x5eaf); 
+			case 0x222842:  return((char)0x5eb9); 
+			case 0x22284b:  return((char)0x5eb3); 
+			case 0x22284c:  return((char)0x5ec4); 
+			case 0x222851:  return((char)0x5ecc); 
+			case 0x222855:  return((char)0x5ecb); 
+			case 0x222857:  return((char)0x5ecd); 
+			case 0x22285a:  return((char)0x5ed2); 
+			case 0x22285b:  return((char)0x5ed1); 
+			case 0x22285c:  return((char)0x5ed5); 
+			case 0x22285f:  return((char)0x5ed4); 
+			case 0x222860:  return((char)0x5ed9); 
+			case 0x222861:  return((char)0x5ece); 
+			case 0x222868:  return((char)0x5ee1); 
+			case 0x22286d:  return((char)0x5ee7); 
+			case 0x222871:  return((char)0x5ee8); 
+			case 0x22287c:  return((char)0x5eed); 
+			case 0x222921:  return((char)0x5ef1); 
+			case 0x222923:  return((char)0x5ef4); 
+			case 0x222935:  return((char)0x5f07); 
+			case 0x22293a:  return((char)0x5f0b); 
+			case 0x22294a:  return((char)0x5f28); 
+			case 0x22294b:  return((char)0x5f22); 
+			case 0x22294c:  return((char)0x5f23); 
+			case 0x22294d:  return((char)0x5f24); 
+			case 0x222951:  return((char)0x5f33); 
+			case 0x222952:  return((char)0x5f30); 
+			case 0x222958:  return((char)0x5f38); 
+			case 0x22295c:  return((char)0x5f40); 
+			case 0x22295f:  return((char)0x5f44); 
+			case 0x222962:  return((char)0x5f4d); 
+			case 0x222968:  return((char)0x5f50); 
+			case 0x222969:  return((char)0x5f54); 
+			case 0x22296a:  return((char)0x5f56); 
+			case 0x22296c:  return((char)0x5f58); 
+			case 0x222970:  return((char)0x5f60); 
+			case 0x222971:  return((char)0x5f61); 
+			case 0x222972:  return((char)0x5f63); 
+			case 0x222973:  return((char)0x809c); 
+			case 0x222974:  return((char)0x5f67); 
+			case 0x222978:  return((char)0x5f72); 
+			case 0x222979:  return((char)0x5f73); 
+			case 0x22297c:  return((char)0x5f74); 
+			case 0x222a23:  return((char)0x5f82); 
+			case 0x222a27:  return((char)0x5f89); 
+			case 0x222a2b:  return((char)0x5f94); 
+			case 0x222a34:  return((char)0x251b); 
+			case 0x222a39:  return((char)0x5f9c); 
+			case 0x222a3d:  return((char)0x5f9a); 
+			case 0x222a46:  return((char)0x5faf); 
+			case 0x222a50:  return((char)0x5fbc); 
+			case 0x222a57:  return((char)0x5fc9); 
+			case 0x222a5f:  return((char)0x5fd1); 
+			case 0x222a61:  return((char)0x5fd2); 
+			case 0x222a63:  return((char)0x5fd0); 
+			case 0x222a67:  return((char)0x5fce); 
+			case 0x222a68:  return((char)0x5fed); 
+			case 0x222a72:  return((char)0x5fee); 
+			case 0x222a73:  return((char)0x5ff8); 
+			case 0x222a78:  return((char)0x5fe1); 
+			case 0x222a7b:  return((char)0x5fe4); 
+			case 0x222b24:  return((char)0x5fea); 
+			case 0x222b2a:  return((char)0x6026); 
+			case 0x222b2c:  return((char)0x6029); 
+			case 0x222b2d:  return((char)0x602b); 
+			case 0x222b30:  return((char)0x6019); 
+			case 0x222b31:  return((char)0x6008); 
+			case 0x222b36:  return((char)0x600a); 
+			case 0x222b37:  return((char)0x600c); 
+			case 0x222b38:  return((char)0x601b); 
+			case 0x222b3c:  return((char)0x6017); 
+			case 0x222b3d:  return((char)0x6033); 
+			case 0x222b45:  return((char)0x600d); 
+			case 0x222b46:  return((char)0x6010); 
+			case 0x222b4b:  return((char)0x6039); 
+			case 0x222b50:  return((char)0x6013); 
+			case 0x222b53:  return((char)0x6054); 
+			case 0x222b57:  return((char)0x605d); 
+			case 0x222b5a:  return((char)0x6047); 
+			case 0x222b5e:  return((char)0x6049); 
+			case 0x222b5f:  return((char)0x6053); 
+			case 0x222b68:  return((char)0x6067); 
+			case 0x222b6f:  return((char)0x604c); 
+			case 0x222b71:  return((char)0x6041); 
+			case 0x222b72:  return((char)0x6077); 
+			case 0x222b74:  return((char)0x6042); 
+			case 0x222b76:  return((char)0x605f); 
+			case 0x222b7a:  return((char)0x6061); 
+			case 0x222c24:  return((char)0x608a); 
+			case 0x222c2b:  return((char)0x6092); 
+			case 0x222c2c:  return((char)0x609d); 
+			case 0x222c2d:  return((char)0x6081); 
+			case 0x222c2f:  return((char)0x609e); 
+			case 0x222c30:  return((char)0x6083); 
+			case 0x222c32:  return((char)0x6097); 
+			case 0x222c34:  return((char)0x60a7); 
+			case 0x222c3a:  return((char)0x6095); 
+			case 0x222c3e:  return((char)0x60c7); 
+			case 0x222c42:  return((char)0x60b0); 
+			case 0x222c46:  return((char)0x60be); 
+			case 0x222c47:  return((char)0x60d3); 
+			case 0x222c48:  return((char)0x60d4); 
+			case 0x222c4e:  return((char)0x60ce); 
+			case 0x222c51:  return((char)0x60cf); 
+			case 0x222c53:  return((char)0x60d9); 
+			case 0x222c54:  return((char)0x60b3); 
+			case 0x222c56:  return((char)0x60dd); 
+			case 0x222c5d:  return((char)0x60c4); 
+			case 0x222c60:  return((char)0x60b1); 
+			case 0x222c62:  return((char)0x60e3); 
+			case 0x222c66:  return((char)0x60e2); 
+			case 0x222c67:  return((char)0x60e5); 
+			case 0x222c69:  return((char)0x60db); 
+			case 0x222c6e:  return((char)0x60e9); 
+			case 0x222c70:  return((char)0x6114); 
+			case 0x222c73:  return((char)0x6103); 
+			case 0x222c75:  return((char)0x6119); 
+			case 0x222c7c:  return((char)0x60fd); 
+			case 0x222c7d:  return((char)0x610d); 
+			case 0x222d2a:  return((char)0x610a); 
+			case 0x222d2c:  return((char)0x6110); 
+			case 0x222d32:  return((char)0x6112); 
+			case 0x222d34:  return((char)0x60f2); 
+			case 0x222d37:  return((char)0x6125); 
+			case 0x222d3b:  return((char)0x60f8); 
+			case 0x222d3f:  return((char)0x6121); 
+			case 0x222d41:  return((char)0x60fc); 
+			case 0x222d43:  return((char)0x6106); 
+			case 0x222d48:  return((char)0x6149); 
+			case 0x222d4a:  return((char)0x614a); 
+			case 0x222d4e:  return((char)0x612b); 
+			case 0x222d50:  return((char)0x6129); 
+			case 0x222d51:  return((char)0x6150); 
+			case 0x222d56:  return((char)0x53af); 
+			case 0x222d58:  return((char)0x6130); 
+			case 0x222d5b:  return((char)0x6141); 
+			case 0x222d5e:  return((char)0x6137); 
+			case 0x222d61:  return((char)0x6146); 
+			case 0x222d66:  return((char)0x615e); 
+			case 0x222d67:  return((char)0x6175); 
+			case 0x222d68:  return((char)0x6174); 
+			case 0x222d6b:  return((char)0x6183); 
+			case 0x222d70:  return((char)0x6171); 
+			case 0x222d74:  return((char)0x616a); 
+			case 0x222d77:  return((char)0x6173); 
+			case 0x222d79:  return((char)0x6164); 
+			case 0x222d7b:  return((char)0x6153); 
+			case 0x222e23:  return((char)0x618b); 
+			case 0x222e2c:  return((char)0x616f); 
+			case 0x222e2d:  return((char)0x6165); 
+			case 0x222e2f:  return((char)0x615c); 
+			case 0x222e32:  return((char)0x619d); 
+			case 0x222e33:  return((char)0x61a6); 
+			case 0x222e3d:  return((char)0x61a2); 
+			case 0x222e40:  return((char)0x61a8); 
+			case 0x222e42:  return((char)0x619c); 
+			case 0x222e43:  return((char)0x61af); 
+			case 0x222e45:  return((char)0x6196); 
+			case 0x222e46:  return((char)0x6197); 
+			case 0x222e47:  return((char)0x61ad); 
+			case 0x222e4c:  return((char)0x6192); 
+			case 0x222e52:  return((char)0x61ae); 
+			case 0x222e55:  return((char)0x618d); 
+			case 0x222e5a:  return((char)0x61cb); 
+			case 0x222e5c:  return((char)0x61cc); 
+			case 0x222e5d:  return((char)0x61c6); 
+			case 0x222e68:  return((char)0x61ba); 
+			case 0x222e6a:  return((char)0x61b8); 
+			case 0x222e71:  return((char)0x61e0); 
+			case 0x222e77:  return((char)0x61e5); 
+			case 0x222e7d:  return((char)0x61dc); 
+			case 0x222e7e:  return((char)0x61df); 
+			case 0x222f29:  return((char)0x61f3); 
+			case 0x222f3d:  return((char)0x6201); 
+			case 0x222f41:  return((char)0x6204); 
+			case 0x222f43:  return((char)0x6207); 
+			case 0x222f44:  return((char)0x6209); 
+			case 0x222f47:  return((char)0x6214); 
+			case 0x222f56:  return((char)0x6223); 
+			case 0x222f5b:  return((char)0x6225); 
+			case 0x222f5d:  return((char)0x6224); 
+			case 0x222f61:  return((char)0x6229); 
+			case 0x222f67:  return((char)0x622d); 
+			case 0x222f69:  return((char)0x97ef); 
+			case 0x222f6e:  return((char)0x6239); 
+			case 0x222f6f:  return((char)0x623a); 
+			case 0x222f70:  return((char)0x623d); 
+			case 0x222f75:  return((char)0x6243); 
+			case 0x222f77:  return((char)0x6246); 
+			case 0x222f78:  return((char)0x6245); 
+			case 0x222f79:  return((char)0x624a); 
+			case 0x222f7a:  return((char)0x6250); 
+			case 0x222f7c:  return((char)0x625e); 
+			case 0x223026:  return((char)0x6268); 
+			case 0x223028:  return((char)0x6260); 
+			case 0x22302b:  return((char)0x625a); 
+			case 0x22302c:  return((char)0x6262); 
+			case 0x22302d:  return((char)0x6266); 
+			case 0x223031:  return((char)0x6286); 
+			case 0x223032:  return((char)0x628e); 
+			case 0x223041:  return((char)0x62a3); 
+			case 0x223043:  return((char)0x6282); 
+			case 0x223046:  return((char)0x6285); 
+			case 0x22304b:  return((char)0x629d); 
+			case 0x223056:  return((char)0x62a6); 
+			case 0x223057:  return((char)0x62d1); 
+			case 0x223061:  return((char)0x62e4); 
+			case 0x223069:  return((char)0x62b6); 
+			case 0x22306a:  return((char)0x62c3); 
+			case 0x223072:  return((char)0x630d); 
+			case 0x223125:  return((char)0x62f5); 
+			case 0x223131:  return((char)0x630c); 
+			case 0x223132:  return((char)0x6360); 
+			case 0x223137:  return((char)0x62f6); 
+			case 0x22313a:  return((char)0x6331); 
+			case 0x223142:  return((char)0x6345); 
+			case 0x223144:  return((char)0x6343); 
+			case 0x223145:  return((char)0x6335); 
+			case 0x223147:  return((char)0x6353); 
+			case 0x223148:  return((char)0x6364); 
+			case 0x223149:  return((char)0x6336); 
+			case 0x22314a:  return((char)0x6344); 
+			case 0x223154:  return((char)0x6339); 
+			case 0x223158:  return((char)0x6357); 
+			case 0x22315a:  return((char)0x633c); 
+			case 0x22315b:  return((char)0x6358); 
+			case 0x22315c:  return((char)0x634b); 
+			case 0x22315f:  return((char)0x6354); 
+			case 0x223168:  return((char)0x637d); 
+			case 0x22316a:  return((char)0x63b6); 
+			case 0x22316b:  return((char)0x6382); 
+			case 0x22316c:  return((char)0x636c); 
+			case 0x22316e:  return((char)0x639f); 
+			case 0x223172:  return((char)0x639e); 
+			case 0x223173:  return((char)0x637f); 
+			case 0x223179:  return((char)0x6381); 
+			case 0x22317b:  return((char)0x6397); 
+			case 0x22317d:  return((char)0x63ab); 
+			case 0x223225:  return((char)0x6387); 
+			case 0x223226:  return((char)0x637a); 
+			case 0x223227:  return((char)0x638e); 
+			case 0x22322a:  return((char)0x6386); 
+			case 0x22322f:  return((char)0x6375); 
+			case 0x223230:  return((char)0x63af); 
+			case 0x223237:  return((char)0x63b1); 
+			case 0x223238:  return((char)0x63b0); 
+			case 0x223239:  return((char)0x63ae); 
+			case 0x22323a:  return((char)0x637c); 
+			case 0x22323b:  return((char)0x6390); 
+			case 0x22323d:  return((char)0x63ad); 
+			case 0x223241:  return((char)0x636d); 
+			case 0x223243:  return((char)0x63de); 
+			case 0x223244:  return((char)0x63e5); 
+			case 0x223247:  return((char)0x63d3); 
+			case 0x22324f:  return((char)0x63bd); 
+			case 0x223250:  return((char)0x63c3); 
+			case 0x223252:  return((char)0x63f5); 
+			case 0x223258:  return((char)0x63e6); 
+			case 0x22325b:  return((char)0x63e0); 
+			case 0x22325c:  return((char)0x63d5); 
+			case 0x22325d:  return((char)0x63f6); 
+			case 0x22325e:  return((char)0x63f2); 
+			case 0x22325f:  return((char)0x63f8); 
+			case 0x223266:  return((char)0x63c5); 
+			case 0x22326a:  return((char)0x63f9); 
+			case 0x223270:  return((char)0x63be); 
+			case 0x223272:  return((char)0x63eb); 
+			case 0x223273:  return((char)0x63dd); 
+			case 0x223276:  return((char)0x63d1); 
+			case 0x223279:  return((char)0x63c4); 
+			case 0x22327a:  return((char)0x63dc); 
+			case 0x22327b:  return((char)0x63d7); 
+			case 0x22327e:  return((char)0x6412); 
+			case 0x223322:  return((char)0x6410); 
+			case 0x223324:  return((char)0x6434); 
+			case 0x223329:  return((char)0x641b); 
+			case 0x22332b:  return((char)0x6420); 
+			case 0x22332c:  return((char)0x6424); 
+			case 0x22332f:  return((char)0x6426); 
+			case 0x223331:  return((char)0x640c); 
+			case 0x223336:  return((char)0x6415); 
+			case 0x223337:  return((char)0x6418); 
+			case 0x223338:  return((char)0x640e); 
+			case 0x223339:  return((char)0x2c4d); 
+			case 0x22333b:  return((char)0x6422); 
+			case 0x22333d:  return((char)0x6421); 
+			case 0x223344:  return((char)0x6430); 
+			case 0x223345:  return((char)0x6441); 
+			case 0x223348:  return((char)0x6435); 
+			case 0x22334c:  return((char)0x6409); 
+			case 0x223351:  return((char)0x640a); 
+			case 0x223353:  return((char)0x6440); 
+			case 0x223359:  return((char)0x6407); 
+			case 0x22335b:  return((char)0x643b); 
+			case 0x22335d:  return((char)0x643f); 
+			case 0x223368:  return((char)0x645b); 
+			case 0x22336a:  return((char)0x644f); 
+			case 0x22336c:  return((char)0x646b); 
+			case 0x22336f:  return((char)0x6476); 
+			case 0x223376:  return((char)0x6474); 
+			case 0x223378:  return((char)0x647d); 
+			case 0x22337b:  return((char)0x6473); 
+			case 0x223423:  return((char)0x644e); 
+			case 0x223424:  return((char)0x6464); 
+			case 0x223427:  return((char)0x6482); 
+			case 0x223428:  return((char)0x645e); 
+			case 0x22342c:  return((char)0x647b); 
+			case 0x22342e:  return((char)0x645c); 
+			case 0x22343c:  return((char)0x649d); 
+			case 0x22343f:  return((char)0x6499); 
+			case 0x223442:  return((char)0x648f); 
+			case 0x22344d:  return((char)0x6496); 
+			case 0x22344e:  return((char)0x64a2); 
+			case 0x223454:  return((char)0x6490); 
+			case 0x22345b:  return((char)0x64b6); 
+			case 0x223461:  return((char)0x6498); 
+			case 0x223462:  return((char)0x649f); 
+			case 0x223465:  return((char)0x64a7); 
+			case 0x223466:  return((char)0x64b3); 
+			case 0x22346a:  return((char)0x64d7); 
+			case 0x22346c:  return((char)0x64d3); 
+			case 0x223474:  return((char)0x64be); 
+			case 0x223475:  return((char)0x64d0); 
+			case 0x22352a:  return((char)0x64ef); 
+			case 0x22352d:  return((char)0x64e1); 
+			case 0x22352e:  return((char)0x64e5); 
+			case 0x223531:  return((char)0x64eb); 
+			case 0x223533:  return((char)0x64e2); 
+			case 0x223536:  return((char)0x64ed); 
+			case 0x223538:  return((char)0x64e4); 
+			case 0x223542:  return((char)0x64f7); 
+			case 0x223546:  return((char)0x6504); 
+			case 0x22354b:  return((char)0x64fd); 
+			case 0x22354f:  return((char)0x6508); 
+			case 0x223553:  return((char)0x6509); 
+			case 0x223559:  return((char)0x651a); 
+			case 0x22355b:  return((char)0x6516); 
+			case 0x223561:  return((char)0x651b); 
+			case 0x223569:  return((char)0x6527); 
+			case 0x22356d:  return((char)0x6522); 
+			case 0x22356f:  return((char)0x6529); 
+			case 0x223572:  return((char)0x6525); 
+			case 0x223577:  return((char)0x652e); 
+			case 0x22357c:  return((char)0x6541); 
+			case 0x22362c:  return((char)0x6538); 
+			case 0x223634:  return((char)0x6542); 
+			case 0x223636:  return((char)0x6549); 
+			case 0x22363e:  return((char)0x6554); 
+			case 0x22363f:  return((char)0x6555); 
+			case 0x223645:  return((char)0x6567); 
+			case 0x223647:  return((char)0x6561); 
+			case 0x22364f:  return((char)0x656d); 
+			case 0x223654:  return((char)0x657a); 
+			case 0x223664:  return((char)0x6585); 
+			case 0x22366e:  return((char)0x658c); 
+			case 0x223670:  return((char)0x6592); 
+			case 0x223671:  return((char)0x6595); 
+			case 0x223675:  return((char)0x659b); 
+			case 0x223677:  return((char)0x659d); 
+			case 0x22367a:  return((char)0x65a0); 
+			case 0x223722:  return((char)0x65a8); 
+			case 0x223723:  return((char)0x65a6); 
+			case 0x223727:  return((char)0x65ae); 
+			case 0x22372a:  return((char)0x65b6); 
+			case 0x22372c:  return((char)0x65b8); 
+			case 0x22372f:  return((char)0x65bf); 
+			case 0x223731:  return((char)0x65c6); 
+			case 0x223732:  return((char)0x65c3); 
+			case 0x223733:  return((char)0x65c4); 
+			case 0x223734:  return((char)0x65c2); 
+			case 0x22373b:  return((char)0x65d0); 
+			case 0x22373c:  return((char)0x65d2); 
+			case 0x223744:  return((char)0x65db); 
+			case 0x223745:  return((char)0x65dc); 
+			case 0x223747:  return((char)0x65dd); 
+			case 0x223748:  return((char)0x65df); 
+			case 0x22374a:  return((char)0x65e1); 
+			case 0x22374e:  return((char)0x65e4); 
+			case 0x223754:  return((char)0x65f4); 
+			case 0x223755:  return((char)0x65f0); 
+			case 0x22375a:  return((char)0x6609); 
+			case 0x22375b:  return((char)0x65fb); 
+			case 0x22375c:  return((char)0x65fc); 
+			case 0x22375e:  return((char)0x660a); 
+			case 0x223764:  return((char)0x6603); 
+			case 0x22376a:  return((char)0x6611); 
+			case 0x22376b:  return((char)0x6615); 
+			case 0x22376d:  return((char)0x6604); 
+			case 0x22376e:  return((char)0x6631); 
+			case 0x223772:  return((char)0x6621); 
+			case 0x223775:  return((char)0x662c); 
+			case 0x223777:  return((char)0x6635); 
+			case 0x22377c:  return((char)0x661e); 
+			case 0x22377d:  return((char)0x663a); 
+			case 0x223827:  return((char)0x6633); 
+			case 0x223828:  return((char)0x662b); 
+			case 0x22382b:  return((char)0x6634); 
+			case 0x22382c:  return((char)0x6624); 
+			case 0x223831:  return((char)0x6645); 
+			case 0x223832:  return((char)0x665f); 
+			case 0x22383d:  return((char)0x6665); 
+			case 0x22383e:  return((char)0x665c); 
+			case 0x22383f:  return((char)0x6661); 
+			case 0x223848:  return((char)0x665b); 
+			case 0x223849:  return((char)0x6659); 
+			case 0x22384a:  return((char)0x6667); 
+			case 0x22384c:  return((char)0x665e); 
+			case 0x22384d:  return((char)0x6657); 
+			case 0x223850:  return((char)0x667e); 
+			case 0x223851:  return((char)0x666c); 
+			case 0x22385a:  return((char)0x6678); 
+			case 0x223860:  return((char)0x6673); 
+			case 0x223866:  return((char)0x666d); 
+			case 0x223868:  return((char)0x6677); 
+			case 0x223870:  return((char)0x6684); 
+			case 0x223871:  return((char)0x668c); 
+			case 0x223872:  return((char)0x6693); 
+			case 0x223875:  return((char)0x668b); 
+			case 0x223876:  return((char)0x6690); 
+			case 0x223879:  return((char)0x6694); 
+			case 0x22387a:  return((char)0x668a); 
+			case 0x22387c:  return((char)0x6698); 
+			case 0x22387d:  return((char)0x668d); 
+			case 0x223924:  return((char)0x7a25); 
+			case 0x22392a:  return((char)0x66a0); 
+			case 0x223930:  return((char)0x5c21); 
+			case 0x223932:  return((char)0x669d); 
+			case 0x22393a:  return((char)0x66b2); 
+			case 0x223940:  return((char)0x66b5); 
+			case 0x223941:  return((char)0x66aa); 
+			case 0x223943:  return((char)0x66ac); 
+			case 0x223947:  return((char)0x66b1); 
+			case 0x22394e:  return((char)0x66c8); 
+			case 0x22394f:  return((char)0x66be); 
+			case 0x223954:  return((char)0x66c0); 
+			case 0x223955:  return((char)0x66c7); 
+			case 0x22395a:  return((char)0x66bb); 
+			case 0x22395c:  return((char)0x66c4); 
+			case 0x223960:  return((char)0x66cf); 
+			case 0x223971:  return((char)0x66da); 
+			case 0x223972:  return((char)0x66db); 
+			case 0x223973:  return((char)0x66e2); 
+			case 0x223976:  return((char)0x66e1); 
+			case 0x223978:  return((char)0x66e8); 
+			case 0x22397c:  return((char)0x66e9); 
+			case 0x223a28:  return((char)0x6705); 
+			case 0x223a30:  return((char)0x670f); 
+			case 0x223a31:  return((char)0x6710); 
+			case 0x223a33:  return((char)0x6712); 
+			case 0x223a34:  return((char)0x6713); 
+			case 0x223a38:  return((char)0x6719); 
+			case 0x223a39:  return((char)0x6718); 
+			case 0x223a47:  return((char)0x6723); 
+			case 0x223a4c:  return((char)0x673e); 
+			case 0x223a4e:  return((char)0x673f); 
+			case 0x223a58:  return((char)0x6757); 
+			case 0x223a5b:  return((char)0x6745); 
+			case 0x223a5c:  return((char)0x6747); 
+			case 0x223a60:  return((char)0x675d); 
+			case 0x223a61:  return((char)0x6755); 
+			case 0x223a66:  return((char)0x674c); 
+			case 0x223a67:  return((char)0x6759); 
+			case 0x223a68:  return((char)0x6748); 
+			case 0x223a6b:  return((char)0x6763); 
+			case 0x223a6e:  return((char)0x6753); 
+			case 0x223a71:  return((char)0x674a); 
+			case 0x223a75:  return((char)0x6793); 
+			case 0x223a78:  return((char)0x677c); 
+			case 0x223a7a:  return((char)0x679f); 
+			case 0x223a7c:  return((char)0x6785); 
+			case 0x223b21:  return((char)0x677b); 
+			case 0x223b22:  return((char)0x6792); 
+			case 0x223b23:  return((char)0x6776); 
+			case 0x223b25:  return((char)0x6791); 
+			case 0x223b26:  return((char)0x6799); 
+			case 0x223b28:  return((char)0x67a4); 
+			case 0x223b2e:  return((char)0x678f); 
+			case 0x223b30:  return((char)0x6772); 
+			case 0x223b31:  return((char)0x6798); 
+			case 0x223b32:  return((char)0x676a); 
+			case 0x223b39:  return((char)0x67ac); 
+			case 0x223b3b:  return((char)0x67a0); 
+			case 0x223b3f:  return((char)0x67a1); 
+			case 0x223b44:  return((char)0x67f9); 
+			case 0x223b48:  return((char)0x678d); 
+			case 0x223b49:  return((char)0x678c); 
+			case 0x223b4c:  return((char)0x67fc); 
+			case 0x223b4e:  return((char)0x6810); 
+			case 0x223b51:  return((char)0x67c8); 
+			case 0x223b54:  return((char)0x67cc); 
+			case 0x223b58:  return((char)0x67c5); 
+			case 0x223b5c:  return((char)0x67bb); 
+			case 0x223b5f:  return((char)0x67b0); 
+			case 0x223b60:  return((char)0x6803); 
+			case 0x223b61:  return((char)0x67f8); 
+			case 0x223b63:  return((char)0x67d8); 
+			case 0x223b64:  return((char)0x67b7); 
+			case 0x223b6d:  return((char)0x6802); 
+			case 0x223b6f:  return((char)0x67e4); 
+			case 0x223b70:  return((char)0x67d9); 
+			case 0x223b71:  return((char)0x67db); 
+			case 0x223b72:  return((char)0x67b5); 
+			case 0x223b74:  return((char)0x67df); 
+			case 0x223b75:  return((char)0x67f7); 
+			case 0x223b77:  return((char)0x67b3); 
+			case 0x223b78:  return((char)0x6806); 
+			case 0x223b79:  return((char)0x67ae); 
+			case 0x223b7a:  return((char)0x67f6); 
+			case 0x223b7c:  return((char)0x67ee); 
+			case 0x223b7d:  return((char)0x6aaf); 
+			case 0x223b7e:  return((char)0x67b2); 
+			case 0x223c21:  return((char)0x67b9); 
+			case 0x223c23:  return((char)0x67c2); 
+			case 0x223c24:  return((char)0x67e3); 
+			case 0x223c26:  return((char)0x67ca); 
+			case 0x223c28:  return((char)0x67ce); 
+			case 0x223c29:  return((char)0x67e2); 
+			case 0x223c2a:  return((char)0x67f2); 
+			case 0x223c2b:  return((char)0x67c3); 
+			case 0x223c2d:  return((char)0x67dd); 
+			case 0x223c2f:  return((char)0x67e7); 
+			case 0x223c30:  return((char)0x6849); 
+			case 0x223c31:  return((char)0x683e); 
+			case 0x223c36:  return((char)0x6814); 
+			case 0x223c37:  return((char)0x684b); 
+			case 0x223c38:  return((char)0x681e); 
+			case 0x223c3b:  return((char)0x6833); 
+			case 0x223c40:  return((char)0x6831); 
+			case 0x223c41:  return((char)0x6832); 
+			case 0x223c42:  return((char)0x6835); 
+			case 0x223c43:  return((char)0x683b); 
+			case 0x223c44:  return((char)0x684e); 
+			case 0x223c47:  return((char)0x682b); 
+			case 0x223c48:  return((char)0x682d); 
+			case 0x223c4a:  return((char)0x684d); 
+			case 0x223c4f:  return((char)0x6844); 
+			case 0x223c55:  return((char)0x685d); 
+			case 0x223c56:  return((char)0x685e); 
+			case 0x223c58:  return((char)0x6834); 
+			case 0x223c59:  return((char)0x6812); 
+			case 0x223c65:  return((char)0x685a); 
+			case 0x223c68:  return((char)0x686b); 
+			case 0x223c69:  return((char)0x686c); 
+			case 0x223c6b:  return((char)0x6879); 
+			case 0x223c6e:  return((char)0x68b2); 
+			case 0x223c71:  return((char)0x689b); 
+			case 0x223c72:  return((char)0x687e); 
+			case 0x223c74:  return((char)0x68b6); 
+			case 0x223c76:  return((char)0x6882); 
+			case 0x223c7a:  return((char)0x6890); 
+			case 0x223d21:  return((char)0x6872); 
+			case 0x223d22:  return((char)0x689c); 
+			case 0x223d25:  return((char)0x686d); 
+			case 0x223d2e:  return((char)0x68a9); 
+			case 0x223d30:  return((char)0x6898); 
+			case 0x223d32:  return((char)0x688b); 
+			case 0x223d33:  return((char)0x68a0); 
+			case 0x223d34:  return((char)0x686f); 
+			case 0x223d39:  return((char)0x68a3); 
+			case 0x223d3b:  return((char)0x6874); 
+			case 0x223d3c:  return((char)0x6875); 
+			case 0x223d3f:  return((char)0x6877); 
+			case 0x223d40:  return((char)0x688f); 
+			case 0x223d43:  return((char)0x687b); 
+			case 0x223d44:  return((char)0x688e); 
+			case 0x223d4b:  return((char)0x68b4); 
+			case 0x223d50:  return((char)0x692c); 
+			case 0x223d51:  return((char)0x6917); 
+			case 0x223d53:  return((char)0x690c); 
+			case 0x223d56:  return((char)0x690b); 
+			case 0x223d58:  return((char)0x68d3); 
+			case 0x223d59:  return((char)0x6904); 
+			case 0x223d5b:  return((char)0x690a); 
+			case 0x223d5c:  return((char)0x6909); 
+			case 0x223d5d:  return((char)0x6929); 
+			case 0x223d62:  return((char)0x68ec); 
+			case 0x223d63:  return((char)0x692a); 
+			case 0x223d64:  return((char)0x68ea); 
+			case 0x223d65:  return((char)0x681f); 
+			case 0x223d66:  return((char)0x7439); 
+			case 0x223d6a:  return((char)0x6910); 
+			case 0x223d6e:  return((char)0x68d6); 
+			case 0x223d6f:  return((char)0x68eb); 
+			case 0x223d73:  return((char)0x68f1); 
+			case 0x223d78:  return((char)0x68fd); 
+			case 0x223d79:  return((char)0x68fc); 
+			case 0x223d7b:  return((char)0x68f3); 
+			case 0x223d7c:  return((char)0x6913); 
+			case 0x223e21:  return((char)0x6907); 
+			case 0x223e23:  return((char)0x691a); 
+			case 0x223e24:  return((char)0x6919); 
+			case 0x223e2a:  return((char)0x68de); 
+			case 0x223e2b:  return((char)0x691b); 
+			case 0x223e2d:  return((char)0x68fb); 
+			case 0x223e33:  return((char)0x68e1); 
+			case 0x223e37:  return((char)0x68d1); 
+			case 0x223e38:  return((char)0x68d0); 
+			case 0x223e39:  return((char)0x6908); 
+			case 0x223e3e:  return((char)0x68e8); 
+			case 0x223e3f:  return((char)0x68f0); 
+			case 0x223e40:  return((char)0x68c3); 
+			case 0x223e44:  return((char)0x6911); 
+			case 0x223e46:  return((char)0x68d4); 
+			case 0x223e47:  return((char)0x68ef); 
+			case 0x223e49:  return((char)0x68c6); 
+			case 0x223e4b:  return((char)0x68c7); 
+			case 0x223e53:  return((char)0x6974); 
+			case 0x223e55:  return((char)0x6938); 
+			case 0x223e58:  return((char)0x6962); 
+			case 0x223e5d:  return((char)0x6958); 
+			case 0x223e5f:  return((char)0x6957); 
+			case 0x223e60:  return((char)0x693f); 
+			case 0x223e61:  return((char)0x6971); 
+			case 0x223e64:  return((char)0x6945); 
+			case 0x223e65:  return((char)0x695d); 
+			case 0x223e66:  return((char)0x6932); 
+			case 0x223e69:  return((char)0x696e); 
+			case 0x223e6a:  return((char)0x6963); 
+			case 0x223e6b:  return((char)0x6948); 
+			case 0x223e6e:  return((char)0x6939); 
+			case 0x223e70:  return((char)0x696a); 
+			case 0x223e73:  return((char)0x6937); 
+			case 0x223e7a:  return((char)0x696c); 
+			case 0x223e7b:  return((char)0x694e); 
+			case 0x223e7d:  return((char)0x6980); 
+			case 0x223e7e:  return((char)0x6933); 
+			case 0x223f21:  return((char)0x6952); 
+			case 0x223f25:  return((char)0x695b); 
+			case 0x223f2d:  return((char)0x6985); 
+			case 0x223f32:  return((char)0x693d); 
+			case 0x223f35:  return((char)0x6978); 
+			case 0x223f37:  return((char)0x697b); 
+			case 0x223f3a:  return((char)0x6934); 
+			case 0x223f3b:  return((char)0x6969); 
+			case 0x223f3d:  return((char)0x6944); 
+			case 0x223f3e:  return((char)0x696f); 
+			case 0x223f44:  return((char)0x698a); 
+			case 0x223f45:  return((char)0x69a0); 
+			case 0x223f46:  return((char)0x69b1); 
+			case 0x223f50:  return((char)0x69ce); 
+			case 0x223f51:  return((char)0x69ca); 
+			case 0x223f59:  return((char)0x698d); 
+			case 0x223f5a:  return((char)0x6991); 
+			case 0x223f5c:  return((char)0x69aa); 
+			case 0x223f60:  return((char)0x69bc); 
+			case 0x223f61:  return((char)0x69a7); 
+			case 0x223f65:  return((char)0x699e); 
+			case 0x223f68:  return((char)0x69d9); 
+			case 0x223f6a:  return((char)0x698e); 
+			case 0x223f6d:  return((char)0x69d6); 
+			case 0x223f75:  return((char)0x69a5); 
+			case 0x223f77:  return((char)0x69be); 
+			case 0x223f78:  return((char)0x69d1); 
+			case 0x223f7a:  return((char)0x69f6); 
+			case 0x223f7e:  return((char)0x69d5); 
+			case 0x224027:  return((char)0x69bf); 
+			case 0x22402d:  return((char)0x69a3); 
+			case 0x22402e:  return((char)0x69a4); 
+			case 0x224034:  return((char)0x69d4); 
+			case 0x224038:  return((char)0x69c3); 
+			case 0x22403d:  return((char)0x6a12); 
+			case 0x22403e:  return((char)0x6a11); 
+			case 0x224041:  return((char)0x6a00); 
+			case 0x224046:  return((char)0x69e6); 
+			case 0x22404b:  return((char)0x6a0b); 
+			case 0x22404c:  return((char)0x69e5); 
+			case 0x22404d:  return((char)0x69e9); 
+			case 0x224050:  return((char)0x69fc); 
+			case 0x224054:  return((char)0x6a17); 
+			case 0x224056:  return((char)0x69e7); 
+			case 0x224057:  return((char)0x69eb); 
+			case 0x22405b:  return((char)0x69f1); 
+			case 0x22405e:  return((char)0x6a2b); 
+			case 0x22405f:  return((char)0x69ff); 
+			case 0x224060:  return((char)0x6a20); 
+			case 0x224064:  return((char)0x69ed); 
+			case 0x224067:  return((char)0x6a1b); 
+			case 0x224068:  return((char)0x6a2d); 
+			case 0x22406e:  return((char)0x6a18); 
+			case 0x224072:  return((char)0x6a1d); 
+			case 0x224075:  return((char)0x6a0c); 
+			case 0x224076:  return((char)0x6a0f); 
+			case 0x22407c:  return((char)0x69ee); 
+			case 0x224123:  return((char)0x69f0); 
+			case 0x224124:  return((char)0x69f2); 
+			case 0x224128:  return((char)0x6a14); 
+			case 0x224129:  return((char)0x6a63); 
+			case 0x224137:  return((char)0x6a67); 
+			case 0x224139:  return((char)0x6a43); 
+			case 0x22413a:  return((char)0x6a33); 
+			case 0x22413b:  return((char)0x6a32); 
+			case 0x22413c:  return((char)0x6a5a); 
+			case 0x22413f:  return((char)0x6a28); 
+			case 0x224140:  return((char)0x6a48); 
+			case 0x224141:  return((char)0x6a50); 
+			case 0x224142:  return((char)0x6a52); 
+			case 0x224143:  return((char)0x6a72); 
+			case 0x224145:  return((char)0x6a3e); 
+			case 0x224146:  return((char)0x6a77); 
+			case 0x224147:  return((char)0x6a5b); 
+			case 0x22414a:  return((char)0x6a5e); 
+			case 0x22414b:  return((char)0x6a5c); 
+			case 0x22414f:  return((char)0x6a51); 
+			case 0x224151:  return((char)0x6a56); 
+			case 0x224153:  return((char)0x6a36); 
+			case 0x224156:  return((char)0x6a7a); 
+			case 0x224158:  return((char)0x6a3f); 
+			case 0x22416c:  return((char)0x69f9); 
+			case 0x22416d:  return((char)0x6a64); 
+			case 0x224173:  return((char)0x6a8d); 
+			case 0x224175:  return((char)0x6aa8); 
+			case 0x224177:  return((char)0x6aa5); 
+			case 0x224179:  return((char)0x6a96); 
+			case 0x22417e:  return((char)0x6a7d); 
+			case 0x224222:  return((char)0x6a7f); 
+			case 0x224223:  return((char)0x6a89); 
+			case 0x224224:  return((char)0x6a91); 
+			case 0x224226:  return((char)0x6a9f); 
+			case 0x22422a:  return((char)0x6a92); 
+			case 0x22422b:  return((char)0x6aa3); 
+			case 0x224234:  return((char)0x6a99); 
+			case 0x224235:  return((char)0x6a9d); 
+			case 0x224236:  return((char)0x6a7e); 
+			case 0x224237:  return((char)0x6a9b); 
+			case 0x224242:  return((char)0x6aa0); 
+			case 0x224247:  return((char)0x6a90); 
+			case 0x224249:  return((char)0x6a9e); 
+			case 0x22424a:  return((char)0x6a87); 
+			case 0x22424b:  return((char)0x6a8e); 
+			case 0x224251:  return((char)0x6aab); 
+			case 0x224255:  return((char)0x6ac8); 
+			case 0x224257:  return((char)0x6aae); 
+			case 0x22425d:  return((char)0x6abf); 
+			case 0x224264:  return((char)0x6aca); 
+			case 0x224268:  return((char)0x6ab4); 
+			case 0x224279:  return((char)0x6ae6); 
+			case 0x22427e:  return((char)0x6aed); 
+			case 0x224325:  return((char)0x6acc); 
+			case 0x224328:  return((char)0x6ad1); 
+			case 0x224333:  return((char)0x6adf); 
+			case 0x224334:  return((char)0x6acd); 
+			case 0x224335:  return((char)0x6ade); 
+			case 0x224337:  return((char)0x6aec); 
+			case 0x224339:  return((char)0x6af3); 
+			case 0x22433a:  return((char)0x6ae7); 
+			case 0x22433f:  return((char)0x6aeb); 
+			case 0x224340:  return((char)0x6aea); 
+			case 0x224344:  return((char)0x6af1); 
+			case 0x224345:  return((char)0x6ae8); 
+			case 0x224348:  return((char)0x6af5); 
+			case 0x22434e:  return((char)0x6afd); 
+			case 0x224350:  return((char)0x6afa); 
+			case 0x224352:  return((char)0x6b01); 
+			case 0x224358:  return((char)0x6b03); 
+			case 0x224359:  return((char)0x6af8); 
+			case 0x22435f:  return((char)0x6b0d); 
+			case 0x224360:  return((char)0x6b09); 
+			case 0x224361:  return((char)0x6b0e); 
+			case 0x224367:  return((char)0x6b11); 
+			case 0x22436d:  return((char)0x6b19); 
+			case 0x22436e:  return((char)0x6b17); 
+			case 0x224372:  return((char)0x6b1e); 
+			case 0x22437e:  return((char)0x6b2c); 
+			case 0x22442a:  return((char)0x6b35); 
+			case 0x22442c:  return((char)0x6b37); 
+			case 0x22442d:  return((char)0x6b3b); 
+			case 0x224432:  return((char)0x6b39); 
+			case 0x224435:  return((char)0x6b3f); 
+			case 0x224437:  return((char)0x6b46); 
+			case 0x224438:  return((char)0x6b41); 
+			case 0x22443a:  return((char)0x6b40); 
+			case 0x22443b:  return((char)0x6b42); 
+			case 0x22443c:  return((char)0x6b43); 
+			case 0x22443e:  return((char)0x6b48); 
+			case 0x22443f:  return((char)0x6b4a); 
+			case 0x224446:  return((char)0x6b4e); 
+			case 0x22444a:  return((char)0x6b57); 
+			case 0x22444c:  return((char)0x6b54); 
+			case 0x22444e:  return((char)0x6b55); 
+			case 0x224451:  return((char)0x6b5c); 
+			case 0x224453:  return((char)0x6b5e); 
+			case 0x224454:  return((char)0x6b60); 
+			case 0x22445b:  return((char)0x6b6b); 
+			case 0x22445d:  return((char)0x6b6c); 
+			case 0x22445f:  return((char)0x6b6e); 
+			case 0x224461:  return((char)0x6b71); 
+			case 0x22446b:  return((char)0x6b7e); 
+			case 0x224471:  return((char)0x6b82); 
+			case 0x224473:  return((char)0x6b84); 
+			case 0x224479:  return((char)0x6b8d); 
+			case 0x22447b:  return((char)0x6b95); 
+			case 0x224525:  return((char)0x6b99); 
+			case 0x224529:  return((char)0x6b9b); 
+			case 0x224535:  return((char)0x6ba3); 
+			case 0x224536:  return((char)0x6ba2); 
+			case 0x224538:  return((char)0x6baa); 
+			case 0x224539:  return((char)0x6bab); 
+			case 0x22453b:  return((char)0x6bad); 
+			case 0x22453d:  return((char)0x6bb0); 
+			case 0x22453f:  return((char)0x6bb3); 
+			case 0x224547:  return((char)0x6bbd); 
+			case 0x22454d:  return((char)0x6996); 
+			case 0x224554:  return((char)0x6bc8); 
+			case 0x22455b:  return((char)0x6bd6); 
+			case 0x224560:  return((char)0x6bda); 
+			case 0x224562:  return((char)0x6bdc); 
+			case 0x224563:  return((char)0x6bdd); 
+			case 0x224565:  return((char)0x6bdf); 
+			case 0x22456f:  return((char)0x6be7); 
+			case 0x224570:  return((char)0x6bea); 
+			case 0x224571:  return((char)0x6be8); 
+			case 0x22462a:  return((char)0x6bf6); 
+			case 0x22462c:  return((char)0x6bf3); 
+			case 0x224633:  return((char)0x6bf8); 
+			case 0x224637:  return((char)0x6bfa); 
+			case 0x224638:  return((char)0x6bf9); 
+			case 0x224642:  return((char)0x6bff); 
+			case 0x224644:  return((char)0x6c06); 
+			case 0x224648:  return((char)0x6c04); 
+			case 0x22464a:  return((char)0x6c05); 
+			case 0x22464c:  return((char)0x6c08); 
+			case 0x224651:  return((char)0x6c0c); 
+			case 0x224652:  return((char)0x6c0d); 
+			case 0x224659:  return((char)0x6c15); 
+			case 0x22465a:  return((char)0x6c18); 
+			case 0x22465b:  return((char)0x6c19); 
+			case 0x22465c:  return((char)0x6c1a); 
+			case 0x22465e:  return((char)0x6c1d); 
+			case 0x224660:  return((char)0x6c20); 
+			case 0x224662:  return((char)0x6c21); 
+			case 0x224664:  return((char)0x6c2a); 
+			case 0x224666:  return((char)0x6c2d); 
+			case 0x224667:  return((char)0x6c30); 
+			case 0x224668:  return((char)0x6c2c); 
+			case 0x224669:  return((char)0x6c31); 
+			case 0x224670:  return((char)0x6c3b); 
+			case 0x224674:  return((char)0x6c3f); 
+			case 0x224678:  return((char)0x6c46); 
+			case 0x22467a:  return((char)0x6c52); 
+			case 0x22467b:  return((char)0x6c62); 
+			case 0x22467c:  return((char)0x6c4a); 
+			case 0x224724:  return((char)0x6c5c); 
+			case 0x224726:  return((char)0x6c5b); 
+			case 0x224727:  return((char)0x6c4d); 
+			case 0x22472b:  return((char)0x6c4b); 
+			case 0x22472c:  return((char)0x6c54); 
+			case 0x22472d:  return((char)0x6c63); 
+			case 0x224730:  return((char)0x6c78); 
+			case 0x224731:  return((char)0x6c74); 
+			case 0x224732:  return((char)0x6c86); 
+			case 0x224733:  return((char)0x6c76); 
+			case 0x224738:  return((char)0x6c6c); 
+			case 0x224739:  return((char)0x6c67); 
+			case 0x22473b:  return((char)0x6c84); 
+			case 0x22473e:  return((char)0x6c94); 
+			case 0x224740:  return((char)0x6c8f); 
+			case 0x224742:  return((char)0x6c65); 
+			case 0x224747:  return((char)0x6c6f); 
+			case 0x224749:  return((char)0x6c9d); 
+			case 0x22474a:  return((char)0x6c69); 
+			case 0x22474b:  return((char)0x6c9a); 
+			case 0x22474c:  return((char)0x6c6d); 
+			case 0x22474d:  return((char)0x6c93); 
+			case 0x224751:  return((char)0x6c87); 
+			case 0x224752:  return((char)0x6c6e); 
+			case 0x224756:  return((char)0x6c95); 
+			case 0x22475a:  return((char)0x6c82); 
+			case 0x22475c:  return((char)0x6ca0); 
+			case 0x224762:  return((char)0x6ceb); 
+			case 0x224763:  return((char)0x6cee); 
+			case 0x224764:  return((char)0x6cc0); 
+			case 0x224766:  return((char)0x6cef); 
+			case 0x224767:  return((char)0x6cac); 
+			case 0x22476e:  return((char)0x6cad); 
+			case 0x224770:  return((char)0x6caf); 
+			case 0x224772:  return((char)0x6cf5); 
+			case 0x22477a:  return((char)0x6cba); 
+			case 0x22477b:  return((char)0x7553); 
+			case 0x22477d:  return((char)0x6cc2); 
+			case 0x224824:  return((char)0x6cd8); 
+			case 0x224826:  return((char)0x6cc6); 
+			case 0x224828:  return((char)0x6cce); 
+			case 0x224829:  return((char)0x6ce9); 
+			case 0x22482d:  return((char)0x6cf2); 
+			case 0x22482f:  return((char)0x6ce0); 
+			case 0x224830:  return((char)0x6cd1); 
+			case 0x224832:  return((char)0x6cd2); 
+			case 0x224833:  return((char)0x6cb4); 
+			case 0x224837:  return((char)0x6d1d); 
+			case 0x22483b:  return((char)0x6d28); 
+			case 0x224844:  return((char)0x6d39); 
+			case 0x22484d:  return((char)0x6d26); 
+			case 0x22484e:  return((char)0x6d27); 
+			case 0x22484f:  return((char)0x6d0f); 
+			case 0x224850:  return((char)0x6d0a); 
+			case 0x224851:  return((char)0x6d3f); 
+			case 0x22485a:  return((char)0x6d07); 
+			case 0x22485b:  return((char)0x6d04); 
+			case 0x22485c:  return((char)0x6cda); 
+			case 0x224860:  return((char)0x6d2e); 
+			case 0x224861:  return((char)0x6d35); 
+			case 0x224862:  return((char)0x6d3a); 
+			case 0x224864:  return((char)0x6d19); 
+			case 0x224867:  return((char)0x6d0e); 
+			case 0x22486a:  return((char)0x6d2b); 
+			case 0x22486b:  return((char)0x6d11); 
+			case 0x22486c:  return((char)0x6d00); 
+			case 0x22486d:  return((char)0x6d24); 
+			case 0x22486f:  return((char)0x6d33); 
+			case 0x224873:  return((char)0x6d63); 
+			case 0x224877:  return((char)0x6da5); 
+			case 0x22487d:  return((char)0x6d92); 
+			case 0x224925:  return((char)0x6d6d); 
+			case 0x224926:  return((char)0x6d6f); 
+			case 0x224928:  return((char)0x6d61); 
+			case 0x224929:  return((char)0x6d91); 
+			case 0x22492c:  return((char)0x6d81); 
+			case 0x22492e:  return((char)0x6d8a); 
+			case 0x22492f:  return((char)0x6d34); 
+			case 0x224934:  return((char)0x6d79); 
+			case 0x224935:  return((char)0x6def); 
+			case 0x224939:  return((char)0x6d7f); 
+			case 0x22493b:  return((char)0x6d85); 
+			case 0x22493c:  return((char)0x6d65); 
+			case 0x22493e:  return((char)0x6d5e); 
+			case 0x224940:  return((char)0x6d67); 
+			case 0x224943:  return((char)0x6d94); 
+			case 0x224946:  return((char)0x6d60); 
+			case 0x224948:  return((char)0x6d98); 
+			case 0x22494b:  return((char)0x6d7c); 
+			case 0x22494c:  return((char)0x6d70); 
+			case 0x22494f:  return((char)0x6d96); 
+			case 0x224959:  return((char)0x6dab); 
+			case 0x22495a:  return((char)0x6db4); 
+			case 0x22495c:  return((char)0x6daa); 
+			case 0x224960:  return((char)0x6dec); 
+			case 0x22496a:  return((char)0x6dac); 
+			case 0x22496b:  return((char)0x6db7); 
+			case 0x22496c:  return((char)0x6de2); 
+			case 0x22496d:  return((char)0x6dd5); 
+			case 0x22496e:  return((char)0x6de9); 
+			case 0x224971:  return((char)0x6df6); 
+			case 0x224979:  return((char)0x6e0f); 
+			case 0x22497b:  return((char)0x6dbf); 
+			case 0x224a2a:  return((char)0x6ddf); 
+			case 0x224a2d:  return((char)0x6dd3); 
+			case 0x224a32:  return((char)0x6dfc); 
+			case 0x224a35:  return((char)0x6ddd); 
+			case 0x224a36:  return((char)0x6ddc); 
+			case 0x224a39:  return((char)0x6ddb); 
+			case 0x224a3d:  return((char)0x6da4); 
+			case 0x224a44:  return((char)0x6e12); 
+			case 0x224a46:  return((char)0x6df0); 
+			case 0x224a4a:  return((char)0x6de6); 
+			case 0x224a4c:  return((char)0x6e1f); 
+			case 0x224a50:  return((char)0x6e27); 
+			case 0x224a55:  return((char)0x6e49); 
+			case 0x224a58:  return((char)0x6e3c); 
+			case 0x224a60:  return((char)0x6e8a); 
+			case 0x224a62:  return((char)0x6e4b); 
+			case 0x224a66:  return((char)0x6e62); 
+			case 0x224a6a:  return((char)0x6e51); 
+			case 0x224a6b:  return((char)0x6e44); 
+			case 0x224a6d:  return((char)0x6e63); 
+			case 0x224a71:  return((char)0x6e73); 
+			case 0x224a74:  return((char)0x6e4f); 
+			case 0x224a77:  return((char)0x6e4e); 
+			case 0x224b22:  return((char)0x6e28); 
+			case 0x224b24:  return((char)0x6e5c); 
+			case 0x224b26:  return((char)0x6e31); 
+			case 0x224b28:  return((char)0x6e5e); 
+			case 0x224b2c:  return((char)0x6e84); 
+			case 0x224b2e:  return((char)0x6e2e); 
+			case 0x224b30:  return((char)0x6e36); 
+			case 0x224b31:  return((char)0x6e5d); 
+			case 0x224b32:  return((char)0x6e72); 
+			case 0x224b33:  return((char)0x6e30); 
+			case 0x224b34:  return((char)0x6e53); 
+			case 0x224b36:  return((char)0x6e39); 
+			case 0x224b37:  return((char)0x6e71); 
+			case 0x224b38:  return((char)0x6e69); 
+			case 0x224b39:  return((char)0x6e6b); 
+			case 0x224b3b:  return((char)0x6e8b); 
+			case 0x224b3e:  return((char)0x6e76); 
+			case 0x224b40:  return((char)0x6e2a); 
+			case 0x224b41:  return((char)0x6e4c); 
+			case 0x224b42:  return((char)0x6e22); 
+			case 0x224b43:  return((char)0x6ece); 
+			case 0x224b45:  return((char)0x6e9b); 
+			case 0x224b46:  return((char)0x6e9f); 
+			case 0x224b48:  return((char)0x6ec8); 
+			case 0x224b49:  return((char)0x6ed8); 
+			case 0x224b4a:  return((char)0x6e8f); 
+			case 0x224b4d:  return((char)0x6e93); 
+			case 0x224b4f:  return((char)0x6ea0); 
+			case 0x224b51:  return((char)0x6eb1); 
+			case 0x224b57:  return((char)0x6ea8); 
+			case 0x224b59:  return((char)0x6e92); 
+			case 0x224b5a:  return((char)0x6ea7); 
+			case 0x224b5e:  return((char)0x6e8e); 
+			case 0x224b60:  return((char)0x6ed9); 
+			case 0x224b61:  return((char)0x6ebd); 
+			case 0x224b63:  return((char)0x6ec1); 
+			case 0x224b69:  return((char)0x6ebb); 
+			case 0x224b6a:  return((char)0x6ec9); 
+			case 0x224b6c:  return((char)0x6eb3); 
+			case 0x224b6d:  return((char)0x6eb7); 
+			case 0x224b75:  return((char)0x6ea4); 
+			case 0x224b79:  return((char)0x6ecf); 
+			case 0x224b7c:  return((char)0x6eca); 
+			case 0x224b7d:  return((char)0x6ed5); 
+			case 0x224c21:  return((char)0x6ec3); 
+			case 0x224c24:  return((char)0x6eb4); 
+			case 0x224c26:  return((char)0x6eb2); 
+			case 0x224c29:  return((char)0x6eb5); 
+			case 0x224c2e:  return((char)0x6ef8); 
+			case 0x224c30:  return((char)0x6f37); 
+			case 0x224c34:  return((char)0x6efd); 
+			case 0x224c35:  return((char)0x6f09); 
+			case 0x224c3c:  return((char)0x6f3b); 
+			case 0x224c3d:  return((char)0x6f63); 
+			case 0x224c3e:  return((char)0x6f12); 
+			case 0x224c3f:  return((char)0x6f26); 
+			case 0x224c41:  return((char)0x6f1a); 
+			case 0x224c42:  return((char)0x6ef6); 
+			case 0x224c43:  return((char)0x6f19); 
+			case 0x224c44:  return((char)0x6f00); 
+			case 0x224c4b:  return((char)0x6f24); 
+			case 0x224c51:  return((char)0x6f18); 
+			case 0x224c57:  return((char)0x6f1f); 
+			case 0x224c5a:  return((char)0x6f0a); 
+			case 0x224c5e:  return((char)0x6f36); 
+			case 0x224c60:  return((char)0x6ef9); 
+			case 0x224c61:  return((char)0x6eee); 
+			case 0x224c62:  return((char)0x6f41); 
+			case 0x224c64:  return((char)0x6f95); 
+			case 0x224c65:  return((char)0x6f2d); 
+			case 0x224c67:  return((char)0x6f34); 
+			case 0x224c6b:  return((char)0x6f49); 
+			case 0x224c6d:  return((char)0x6f30); 
+			case 0x224c76:  return((char)0x6efa); 
+			case 0x224c77:  return((char)0x6eeb); 
+			case 0x224c78:  return((char)0x6f08); 
+			case 0x224c79:  return((char)0x6f0e); 
+			case 0x224c7b:  return((char)0x6f35); 
+			case 0x224d23:  return((char)0x6f7e); 
+			case 0x224d24:  return((char)0x6f9d); 
+			case 0x224d27:  return((char)0x6f87); 
+			case 0x224d2b:  return((char)0x6f6f); 
+			case 0x224d2f:  return((char)0x6f5a); 
+			case 0x224d30:  return((char)0x6f60); 
+			case 0x224d35:  return((char)0x6f90); 
+			case 0x224d37:  return((char)0x6f8d); 
+			case 0x224d39:  return((char)0x6f92); 
+			case 0x224d3a:  return((char)0x6f89); 
+			case 0x224d3c:  return((char)0x6f8c); 
+			case 0x224d3d:  return((char)0x6f62); 
+			case 0x224d44:  return((char)0x6f0b); 
+			case 0x224d4b:  return((char)0x6f6c); 
+			case 0x224d4d:  return((char)0x6f8b); 
+			case 0x224d58:  return((char)0x6e88); 
+			case 0x224d5a:  return((char)0x6f55); 
+			case 0x224d5f:  return((char)0x6f72); 
+			case 0x224d62:  return((char)0x6f57); 
+			case 0x224d63:  return((char)0x6f5f); 
+			case 0x224d68:  return((char)0x6f5d); 
+			case 0x224d73:  return((char)0x6fb6); 
+			case 0x224d74:  return((char)0x6f9f); 
+			case 0x224d79:  return((char)0x6fa6); 
+			case 0x224d7c:  return((char)0x6fc6); 
+			case 0x224d7d:  return((char)0x6fbc); 
+			case 0x224e21:  return((char)0x6faa); 
+			case 0x224e25:  return((char)0x6fbf); 
+			case 0x224e26:  return((char)0x6fc7); 
+			case 0x224e2d:  return((char)0x6fc9); 
+			case 0x224e2e:  return((char)0x6f5e); 
+			case 0x224e2f:  return((char)0x6fc8); 
+			case 0x224e30:  return((char)0x6fa0); 
+			case 0x224e32:  return((char)0x6fca); 
+			case 0x224e35:  return((char)0x6fb4); 
+			case 0x224e37:  return((char)0x6faf); 
+			case 0x224e3c:  return((char)0x6fa8); 
+			case 0x224e40:  return((char)0x6fa5); 
+			case 0x224e41:  return((char)0x6fb0); 
+			case 0x224e42:  return((char)0x6fae); 
+			case 0x224e43:  return((char)0x6fd9); 
+			case 0x224e44:  return((char)0x6fda); 
+			case 0x224e50:  return((char)0x6fd4); 
+			case 0x224e56:  return((char)0x6fe9); 
+			case 0x224e57:  return((char)0x6ff8); 
+			case 0x224e5d:  return((char)0x6fde); 
+			case 0x224e5e:  return((char)0x6fee); 
+			case 0x224e62:  return((char)0x6ff0); 
+			case 0x224e66:  return((char)0x7005); 
+			case 0x224e67:  return((char)0x700c); 
+			case 0x224e6a:  return((char)0x700d); 
+			case 0x224e72:  return((char)0x7026); 
+			case 0x224f24:  return((char)0x7020); 
+			case 0x224f26:  return((char)0x7027); 
+			case 0x224f2b:  return((char)0x701e); 
+			case 0x224f2f:  return((char)0x702e); 
+			case 0x224f31:  return((char)0x702d); 
+			case 0x224f35:  return((char)0x7021); 
+			case 0x224f39:  return((char)0x7018); 
+			case 0x224f3a:  return((char)0x7023); 
+			case 0x224f41:  return((char)0x703c); 
+			case 0x224f44:  return((char)0x7035); 
+			case 0x224f51:  return((char)0x7034); 
+			case 0x224f53:  return((char)0x7039); 
+			case 0x224f54:  return((char)0x703a); 
+			case 0x224f5d:  return((char)0x7043); 
+			case 0x224f61:  return((char)0x7044); 
+			case 0x224f67:  return((char)0x7047); 
+			case 0x224f69:  return((char)0x7049); 
+			case 0x224f6b:  return((char)0x7055); 
+			case 0x224f71:  return((char)0x7052); 
+			case 0x224f73:  return((char)0x705c); 
+			case 0x224f78:  return((char)0x7059); 
+			case 0x224f7b:  return((char)0x705e); 
+			case 0x224f7c:  return((char)0x7061); 
+			case 0x224f7d:  return((char)0x705d); 
+			case 0x225021:  return((char)0x9e02); 
+			case 0x225025:  return((char)0x7066); 
+			case 0x225027:  return((char)0x7065); 
+			case 0x225028:  return((char)0x7068); 
+			case 0x225029:  return((char)0x7054); 
+			case 0x225039:  return((char)0x7074); 
+			case 0x22503b:  return((char)0x707a); 
+			case 0x225040:  return((char)0x7093); 
+			case 0x225042:  return((char)0x7086); 
+			case 0x225048:  return((char)0x7096); 
+			case 0x225049:  return((char)0x7084); 
+			case 0x22504a:  return((char)0x7081); 
+			case 0x225056:  return((char)0x7088); 
+			case 0x225057:  return((char)0x7098); 
+			case 0x225059:  return((char)0x708c); 
+			case 0x22505c:  return((char)0x70b7); 
+			case 0x225062:  return((char)0x70a1); 
+			case 0x225063:  return((char)0x70a3); 
+			case 0x225068:  return((char)0x7551); 
+			case 0x22506f:  return((char)0x70a7); 
+			case 0x225070:  return((char)0x79cc); 
+			case 0x225071:  return((char)0x70b5); 
+			case 0x225072:  return((char)0x70bf); 
+			case 0x225073:  return((char)0x70a9); 
+			case 0x225078:  return((char)0x70ea); 
+			case 0x22507b:  return((char)0x70e5); 
+			case 0x22507c:  return((char)0x70dc); 
+			case 0x22507d:  return((char)0x70d3); 
+			case 0x225122:  return((char)0x70dd); 
+			case 0x225123:  return((char)0x70e1); 
+			case 0x225126:  return((char)0x70e3); 
+			case 0x225128:  return((char)0x70e0); 
+			case 0x22512b:  return((char)0x70d4); 
+			case 0x22512e:  return((char)0x70d1); 
+			case 0x225138:  return((char)0x70cb); 
+			case 0x22513a:  return((char)0x70d0); 
+			case 0x22513b:  return((char)0x70c7); 
+			case 0x22513c:  return((char)0x70da); 
+			case 0x22513d:  return((char)0x70c6); 
+			case 0x22513f:  return((char)0x70fa); 
+			case 0x225142:  return((char)0x70f7); 
+			case 0x225144:  return((char)0x7104); 
+			case 0x225148:  return((char)0x70f3); 
+			case 0x22514a:  return((char)0x7110); 
+			case 0x22514c:  return((char)0x7103); 
+			case 0x225150:  return((char)0x70f4); 
+			case 0x225155:  return((char)0x7111); 
+			case 0x225156:  return((char)0x7112); 
+			case 0x22515c:  return((char)0x710c); 
+			case 0x225160:  return((char)0x70f6); 
+			case 0x225166:  return((char)0x7113); 
+			case 0x225167:  return((char)0x70ef); 
+			case 0x225168:  return((char)0x7100); 
+			case 0x22516c:  return((char)0x711e); 
+			case 0x22516d:  return((char)0x7134); 
+			case 0x22516e:  return((char)0x7120); 
+			case 0x22516f:  return((char)0x713f); 
+			case 0x225174:  return((char)0x7131); 
+			case 0x225175:  return((char)0x712d); 
+			case 0x225227:  return((char)0x7139); 
+			case 0x225228:  return((char)0x7135); 
+			case 0x22522c:  return((char)0x713b); 
+			case 0x22522e:  return((char)0x711c); 
+			case 0x225232:  return((char)0x713d); 
+			case 0x225235:  return((char)0x712f); 
+			case 0x22523b:  return((char)0x7129); 
+			case 0x225243:  return((char)0x712e); 
+			case 0x225248:  return((char)0x7177); 
+			case 0x225251:  return((char)0x7146); 
+			case 0x225252:  return((char)0x7152); 
+			case 0x225254:  return((char)0x714f); 
+			case 0x225255:  return((char)0x715d); 
+			case 0x225256:  return((char)0x7141); 
+			case 0x225257:  return((char)0x7160); 
+			case 0x225259:  return((char)0x7175); 
+			case 0x22525a:  return((char)0x7173); 
+			case 0x22525c:  return((char)0x7143); 
+			case 0x22525d:  return((char)0x715a); 
+			case 0x22525e:  return((char)0x7176); 
+			case 0x225260:  return((char)0x714b); 
+			case 0x225262:  return((char)0x7147); 
+			case 0x225265:  return((char)0x7168); 
+			case 0x225266:  return((char)0x7171); 
+			case 0x225267:  return((char)0x715f); 
+			case 0x225269:  return((char)0x7150); 
+			case 0x22526b:  return((char)0x7153); 
+			case 0x225270:  return((char)0x7144); 
+			case 0x225276:  return((char)0x7172); 
+			case 0x225278:  return((char)0x7178); 
+			case 0x22527b:  return((char)0x7187); 
+			case 0x22527c:  return((char)0x717b); 
+			case 0x225323:  return((char)0x7192); 
+			case 0x22532b:  return((char)0x7180); 
+			case 0x22532c:  return((char)0x7189); 
+			case 0x225332:  return((char)0x7185); 
+			case 0x225333:  return((char)0x7196); 
+			case 0x225336:  return((char)0x717c); 
+			case 0x225339:  return((char)0x7198); 
+			case 0x22533c:  return((char)0x7197); 
+			case 0x22533e:  return((char)0x71b5); 
+			case 0x22533f:  return((char)0x71a9); 
+			case 0x225342:  return((char)0x71a5); 
+			case 0x225346:  return((char)0x719e); 
+			case 0x225347:  return((char)0x71b2); 
+			case 0x22534a:  return((char)0x719b); 
+			case 0x22534e:  return((char)0x71af); 
+			case 0x225351:  return((char)0x71a4); 
+			case 0x225352:  return((char)0x71a0); 
+			case 0x225355:  return((char)0x719a); 
+			case 0x225357:  return((char)0x71b3); 
+			case 0x225359:  return((char)0x71b4); 
+			case 0x225367:  return((char)0x71d1); 
+			case 0x225369:  return((char)0x71c7); 
+			case 0x22536a:  return((char)0x71b7); 
+			case 0x22536d:  return((char)0x71ca); 
+			case 0x22536f:  return((char)0x71cf); 
+			case 0x225370:  return((char)0x71d6); 
+			case 0x225372:  return((char)0x71ba); 
+			case 0x225375:  return((char)0x71c2); 
+			case 0x225377:  return((char)0x71c5); 
+			case 0x22537a:  return((char)0x71bf); 
+			case 0x22537c:  return((char)0x71b8); 
+			case 0x225421:  return((char)0x71dd); 
+			case 0x225422:  return((char)0x71c0); 
+			case 0x225424:  return((char)0x71c1); 
+			case 0x225426:  return((char)0x71d4); 
+			case 0x225429:  return((char)0x71cb); 
+			case 0x22542a:  return((char)0x71de); 
+			case 0x225432:  return((char)0x71eb); 
+			case 0x225436:  return((char)0x71e8); 
+			case 0x22543a:  return((char)0x71f5); 
+			case 0x22543d:  return((char)0x71f3); 
+			case 0x22543f:  return((char)0x71e1); 
+			case 0x225447:  return((char)0x71e0); 
+			case 0x22544b:  return((char)0x720c); 
+			case 0x22544f:  return((char)0x71fc); 
+			case 0x225456:  return((char)0x71f9); 
+			case 0x22545b:  return((char)0x720e); 
+			case 0x22545c:  return((char)0x5911); 
+			case 0x22545e:  return((char)0x720a); 
+			case 0x225460:  return((char)0x7217); 
+			case 0x225461:  return((char)0x7207); 
+			case 0x225466:  return((char)0x7215); 
+			case 0x225469:  return((char)0x7213); 
+			case 0x22546e:  return((char)0x7218); 
+			case 0x225471:  return((char)0x720b); 
+			case 0x225479:  return((char)0x721a); 
+			case 0x22547d:  return((char)0x721f); 
+			case 0x225521:  return((char)0x721d); 
+			case 0x225529:  return((char)0x7225); 
+			case 0x22552a:  return((char)0x7226); 
+			case 0x225541:  return((char)0x723f); 
+			case 0x225543:  return((char)0x7241); 
+			case 0x225544:  return((char)0x7242); 
+			case 0x22554f:  return((char)0x7250); 
+			case 0x225551:  return((char)0x724f); 
+			case 0x225552:  return((char)0x7253); 
+			case 0x225553:  return((char)0x7255); 
+			case 0x225556:  return((char)0x725a); 
+			case 0x225559:  return((char)0x7263); 
+			case 0x225561:  return((char)0x7273); 
+			case 0x225563:  return((char)0x726e); 
+			case 0x225566:  return((char)0x7276); 
+			case 0x225568:  return((char)0x7277); 
+			case 0x22556b:  return((char)0x727e); 
+			case 0x22556d:  return((char)0x727c); 
+			case 0x225571:  return((char)0x727f); 
+			case 0x225574:  return((char)0x7289); 
+			case 0x22557c:  return((char)0x728b); 
+			case 0x225622:  return((char)0x728d); 
+			case 0x225628:  return((char)0x728f); 
+			case 0x225648:  return((char)0x72a8); 
+			case 0x22564c:  return((char)0x72ab); 
+			case 0x22564e:  return((char)0x72b0); 
+			case 0x22564f:  return((char)0x72b4); 
+			case 0x225651:  return((char)0x72c6); 
+			case 0x225652:  return((char)0x72b5); 
+			case 0x225656:  return((char)0x72bc); 
+			case 0x225658:  return((char)0x72c3); 
+			case 0x22565b:  return((char)0x72c1); 
+			case 0x225660:  return((char)0x72d6); 
+			case 0x225664:  return((char)0x72d2); 
+			case 0x225667:  return((char)0x72c9); 
+			case 0x22566c:  return((char)0x72cc); 
+			case 0x22566e:  return((char)0x72db); 
+			case 0x22566f:  return((char)0x72cd); 
+			case 0x225673:  return((char)0x72e8); 
+			case 0x225676:  return((char)0x72eb); 
+			case 0x225679:  return((char)0x72e5); 
+			case 0x22567e:  return((char)0x72fa); 
+			case 0x225724:  return((char)0x72f4); 
+			case 0x225725:  return((char)0x72fe); 
+			case 0x225729:  return((char)0x7302); 
+			case 0x22572c:  return((char)0x72fb); 
+			case 0x22572d:  return((char)0x7301); 
+			case 0x22572e:  return((char)0x72f3); 
+			case 0x225731:  return((char)0x731d); 
+			case 0x225735:  return((char)0x730b); 
+			case 0x225736:  return((char)0x7317); 
+			case 0x22573b:  return((char)0x7307); 
+			case 0x22573e:  return((char)0x7318); 
+			case 0x225742:  return((char)0x731e); 
+			case 0x225746:  return((char)0x7331); 
+			case 0x225749:  return((char)0x7338); 
+			case 0x22574a:  return((char)0x7322); 
+			case 0x22574c:  return((char)0x7332); 
+			case 0x22574d:  return((char)0x732c); 
+			case 0x22574e:  return((char)0x7327); 
+			case 0x22574f:  return((char)0x732b); 
+			case 0x225752:  return((char)0x732f); 
+			case 0x225755:  return((char)0x7328); 
+			case 0x22575a:  return((char)0x7347); 
+			case 0x22575b:  return((char)0x7348); 
+			case 0x22575c:  return((char)0x7349); 
+			case 0x22575f:  return((char)0x733b); 
+			case 0x225762:  return((char)0x733a); 
+			case 0x225765:  return((char)0x7340); 
+			case 0x225768:  return((char)0x734d); 
+			case 0x22576b:  return((char)0x7352); 
+			case 0x225772:  return((char)0x735e); 
+			case 0x225774:  return((char)0x735d); 
+			case 0x225779:  return((char)0x7360); 
+			case 0x22577b:  return((char)0x7358); 
+			case 0x22577e:  return((char)0x7362); 
+			case 0x225821:  return((char)0x734b); 
+			case 0x225825:  return((char)0x7367); 
+			case 0x225829:  return((char)0x736c); 
+			case 0x22582b:  return((char)0x736b); 
+			case 0x22582f:  return((char)0x736f); 
+			case 0x225836:  return((char)0x737c); 
+			case 0x225838:  return((char)0x737e); 
+			case 0x22583b:  return((char)0x7381); 
+			case 0x22583f:  return((char)0x7388); 
+			case 0x225842:  return((char)0x738e); 
+			case 0x225846:  return((char)0x7395); 
+			case 0x225847:  return((char)0x7392); 
+			case 0x225848:  return((char)0x7397); 
+			case 0x22584c:  return((char)0x7393); 
+			case 0x22584d:  return((char)0x7394); 
+			case 0x225851:  return((char)0x739e); 
+			case 0x225852:  return((char)0x73a6); 
+			case 0x22585d:  return((char)0x73a5); 
+			case 0x225862:  return((char)0x73a2); 
+			case 0x225863:  return((char)0x73a0); 
+			case 0x225867:  return((char)0x73b6); 
+			case 0x225868:  return((char)0x73cf); 
+			case 0x22586a:  return((char)0x73c2); 
+			case 0x22586b:  return((char)0x73d0); 
+			case 0x22586f:  return((char)0x73bf); 
+			case 0x225870:  return((char)0x73c8); 
+			case 0x22587d:  return((char)0x73cc); 
+			case 0x225921:  return((char)0x73d3); 
+			case 0x225927:  return((char)0x73ea); 
+			case 0x225928:  return((char)0x73e5); 
+			case 0x22592a:  return((char)0x73d9); 
+			case 0x22592b:  return((char)0x73ef); 
+			case 0x22592f:  return((char)0x73d4); 
+			case 0x225930:  return((char)0x73db); 
+			case 0x225932:  return((char)0x73d6); 
+			case 0x225935:  return((char)0x73bc); 
+			case 0x225936:  return((char)0x73e7); 
+			case 0x225938:  return((char)0x73e3); 
+			case 0x22593a:  return((char)0x73de); 
+			case 0x22593c:  return((char)0x73e6); 
+			case 0x22593f:  return((char)0x73e9); 
+			case 0x225945:  return((char)0x73f6); 
+			case 0x225947:  return((char)0x73fa); 
+			case 0x22594a:  return((char)0x73f8); 
+			case 0x225954:  return((char)0x73f5); 
+			case 0x22595a:  return((char)0x73fd); 
+			case 0x22595c:  return((char)0x7407); 
+			case 0x22595e:  return((char)0x7412); 
+			case 0x225963:  return((char)0x743c); 
+			case 0x225966:  return((char)0x742e); 
+			case 0x225967:  return((char)0x742f); 
+			case 0x225969:  return((char)0x7414); 
+			case 0x22596a:  return((char)0x742c); 
+			case 0x22596c:  return((char)0x7430); 
+			case 0x22596e:  return((char)0x742b); 
+			case 0x225970:  return((char)0x73f7); 
+			case 0x225971:  return((char)0x741a); 
+			case 0x225978:  return((char)0x7416); 
+			case 0x22597a:  return((char)0x7426); 
+			case 0x225a21:  return((char)0x7428); 
+			case 0x225a23:  return((char)0x7429); 
+			case 0x225a28:  return((char)0x7420); 
+			case 0x225a2a:  return((char)0x741b); 
+			case 0x225a2b:  return((char)0x7424); 
+			case 0x225a2c:  return((char)0x7432); 
+			case 0x225a2d:  return((char)0x742d); 
+			case 0x225a30:  return((char)0x7415); 
+			case 0x225a32:  return((char)0x743b); 
+			case 0x225a36:  return((char)0x7444); 
+			case 0x225a40:  return((char)0x7447); 
+			case 0x225a43:  return((char)0x7458); 
+			case 0x225a45:  return((char)0x7442); 
+			case 0x225a47:  return((char)0x744b); 
+			case 0x225a4a:  return((char)0x744a); 
+			case 0x225a4f:  return((char)0x7452); 
+			case 0x225a55:  return((char)0x7457); 
+			case 0x225a56:  return((char)0x7451); 
+			case 0x225a5a:  return((char)0x745d); 
+			case 0x225a5b:  return((char)0x7454); 
+			case 0x225a5d:  return((char)0x7440); 
+			case 0x225a60:  return((char)0x746d); 
+			case 0x225a61:  return((char)0x7462); 
+			case 0x225a62:  return((char)0x7473); 
+			case 0x225a68:  return((char)0x7474); 
+			case 0x225a69:  return((char)0x746e); 
+			case 0x225a6a:  return((char)0x7471); 
+			case 0x225a6b:  return((char)0x7468); 
+			case 0x225a78:  return((char)0x7460); 
+			case 0x225a79:  return((char)0x7472); 
+			case 0x225a7a:  return((char)0x7484); 
+			case 0x225a7b:  return((char)0x7487); 
+			case 0x225a7e:  return((char)0x7488); 
+			case 0x225b21:  return((char)0x7489); 
+			case 0x225b22:  return((char)0x747c); 
+			case 0x225b27:  return((char)0x7482); 
+			case 0x225b28:  return((char)0x747e); 
+			case 0x225b2a:  return((char)0x748a); 
+			case 0x225b2d:  return((char)0x7486); 
+			case 0x225b30:  return((char)0x747a); 
+			case 0x225b38:  return((char)0x7480); 
+			case 0x225b3c:  return((char)0x7481); 
+			case 0x225b3e:  return((char)0x747d); 
+			case 0x225b3f:  return((char)0x7485); 
+			case 0x225b40:  return((char)0x7497); 
+			case 0x225b43:  return((char)0x7498); 
+			case 0x225b45:  return((char)0x749a); 
+			case 0x225b4d:  return((char)0x74a4); 
+			case 0x225b54:  return((char)0x749f); 
+			case 0x225b55:  return((char)0x749d); 
+			case 0x225b56:  return((char)0x748d); 
+			case 0x225b57:  return((char)0x749e); 
+			case 0x225b59:  return((char)0x74a0); 
+			case 0x225b5d:  return((char)0x74a1); 
+			case 0x225b60:  return((char)0x74b2); 
+			case 0x225b61:  return((char)0x74b1); 
+			case 0x225b66:  return((char)0x74b4); 
+			case 0x225b67:  return((char)0x74ab); 
+			case 0x225b69:  return((char)0x74aa); 
+			case 0x225b6a:  return((char)0x7490); 
+			case 0x225b6c:  return((char)0x74a5); 
+			case 0x225b6e:  return((char)0x74a8); 
+			case 0x225b76:  return((char)0x74b8); 
+			case 0x225b7a:  return((char)0x74c0); 
+			case 0x225c25:  return((char)0x74bf); 
+			case 0x225c28:  return((char)0x74b5); 
+			case 0x225c29:  return((char)0x74ba); 
+			case 0x225c30:  return((char)0x74c8); 
+			case 0x225c31:  return((char)0x74c5); 
+			case 0x225c32:  return((char)0x74cc); 
+			case 0x225c38:  return((char)0x74d6); 
+			case 0x225c3a:  return((char)0x74d4); 
+			case 0x225c3d:  return((char)0x74d8); 
+			case 0x225c40:  return((char)0x74da); 
+			case 0x225c41:  return((char)0x74db); 
+			case 0x225c47:  return((char)0x74de); 
+			case 0x225c50:  return((char)0x74e4); 
+			case 0x225c52:  return((char)0x74e7); 
+			case 0x225c54:  return((char)0x74e9); 
+			case 0x225c58:  return((char)0x74f1); 
+			case 0x225c5a:  return((char)0x74f0); 
+			case 0x225c5c:  return((char)0x74ee); 
+			case 0x225c61:  return((char)0x74f4); 
+			case 0x225c63:  return((char)0x74f8); 
+			case 0x225c66:  return((char)0x74fb); 
+			case 0x225c67:  return((char)0x74ff); 
+			case 0x225c71:  return((char)0x7505); 
+			case 0x225c77:  return((char)0x7503); 
+			case 0x225c7d:  return((char)0x7507); 
+			case 0x225d25:  return((char)0x750e); 
+			case 0x225d28:  return((char)0x750d); 
+			case 0x225d2c:  return((char)0x7511); 
+			case 0x225d2d:  return((char)0x750f); 
+			case 0x225d32:  return((char)0x7512); 
+			case 0x225d33:  return((char)0x7513); 
+			case 0x225d39:  return((char)0x7517); 
+			case 0x225d42:  return((char)0x7521); 
+			case 0x225d44:  return((char)0x7524); 
+			case 0x225d49:  return((char)0x752f); 
+			case 0x225d4d:  return((char)0x753a); 
+			case 0x225d4f:  return((char)0x753f); 
+			case 0x225d51:  return((char)0x7540); 
+			case 0x225d52:  return((char)0x753e); 
+			case 0x225d55:  return((char)0x754a); 
+			case 0x225d57:  return((char)0x754e); 
+			case 0x225d58:  return((char)0x7547); 
+			case 0x225d59:  return((char)0x754b); 
+			case 0x225d5a:  return((char)0x7548); 
+			case 0x225d5f:  return((char)0x755f); 
+			case 0x225d60:  return((char)0x755b); 
+			case 0x225d62:  return((char)0x7564); 
+			case 0x225d67:  return((char)0x7563); 
+			case 0x225d69:  return((char)0x756f); 
+			case 0x225d6b:  return((char)0x756c); 
+			case 0x225d6d:  return((char)0x7579); 
+			case 0x225d6e:  return((char)0x757a); 
+			case 0x225d71:  return((char)0x7577); 
+			case 0x225d75:  return((char)0x7571); 
+			case 0x225d79:  return((char)0x757d); 
+			case 0x225d7e:  return((char)0x757f); 
+			case 0x225e25:  return((char)0x7583); 
+			case 0x225e2c:  return((char)0x7590); 
+			case 0x225e2d:  return((char)0x7592); 
+			case 0x225e2e:  return((char)0x7594); 
+			case 0x225e31:  return((char)0x7595); 
+			case 0x225e35:  return((char)0x7598); 
+			case 0x225e37:  return((char)0x75a2); 
+			case 0x225e3b:  return((char)0x75a3); 
+			case 0x225e3e:  return((char)0x75ba); 
+			case 0x225e43:  return((char)0x75b0); 
+			case 0x225e44:  return((char)0x75c3); 
+			case 0x225e46:  return((char)0x75bf); 
+			case 0x225e47:  return((char)0x75b4); 
+			case 0x225e4a:  return((char)0x75c2); 
+			case 0x225e4e:  return((char)0x75c1); 
+			case 0x225e50:  return((char)0x75b1); 
+			case 0x225e51:  return((char)0x75c4); 
+			case 0x225e58:  return((char)0x75cd); 
+			case 0x225e5c:  return((char)0x75cf); 
+			case 0x225e5e:  return((char)0x75cc); 
+			case 0x225e5f:  return((char)0x75d0); 
+			case 0x225e63:  return((char)0x75e7); 
+			case 0x225e66:  return((char)0x75e1); 
+			case 0x225e67:  return((char)0x75e6); 
+			case 0x225e71:  return((char)0x75e4); 
+			case 0x225e72:  return((char)0x75e0); 
+			case 0x225e73:  return((char)0x75d7); 
+			case 0x225e7a:  return((char)0x7602); 
+			case 0x225e7e:  return((char)0x7603); 
+			case 0x225f21:  return((char)0x75f9); 
+			case 0x225f22:  return((char)0x75fc); 
+			case 0x225f29:  return((char)0x7616); 
+			case 0x225f2c:  return((char)0x7608); 
+			case 0x225f2d:  return((char)0x7615); 
+			case 0x225f2e:  return((char)0x760c); 
+			case 0x225f2f:  return((char)0x760f); 
+			case 0x225f3b:  return((char)0x7610); 
+			case 0x225f3c:  return((char)0x760a); 
+			case 0x225f3e:  return((char)0x7625); 
+			case 0x225f3f:  return((char)0x761a); 
+			case 0x225f40:  return((char)0x761b); 
+			case 0x225f47:  return((char)0x7619); 
+			case 0x225f48:  return((char)0x761e); 
+			case 0x225f4c:  return((char)0x761d); 
+			case 0x225f50:  return((char)0x7622); 
+			case 0x225f51:  return((char)0x762f); 
+			case 0x225f54:  return((char)0x762d); 
+			case 0x225f5c:  return((char)0x7633); 
+			case 0x225f5e:  return((char)0x763b); 
+			case 0x225f5f:  return((char)0x7630); 
+			case 0x225f60:  return((char)0x763c); 
+			case 0x225f62:  return((char)0x7635); 
+			case 0x225f67:  return((char)0x7648); 
+			case 0x225f68:  return((char)0x764e); 
+			case 0x225f69:  return((char)0x7647); 
+			case 0x225f6a:  return((char)0x7643); 
+			case 0x225f6e:  return((char)0x764d); 
+			case 0x225f6f:  return((char)0x7649); 
+			case 0x225f75:  return((char)0x7654); 
+			case 0x225f7a:  return((char)0x765c); 
+			case 0x225f7b:  return((char)0x7657); 
+			case 0x226022:  return((char)0x7664); 
+			case 0x226024:  return((char)0x7659); 
+			case 0x22602b:  return((char)0x765f); 
+			case 0x226032:  return((char)0x7667); 
+			case 0x226035:  return((char)0x766a); 
+			case 0x226037:  return((char)0x766d); 
+			case 0x226038:  return((char)0x766f); 
+			case 0x22603a:  return((char)0x7670); 
+			case 0x226040:  return((char)0x7676); 
+			case 0x226041:  return((char)0x7677); 
+			case 0x226048:  return((char)0x7680); 
+			case 0x22604a:  return((char)0x768b); 
+			case 0x226052:  return((char)0x7695); 
+			case 0x226055:  return((char)0x656b); 
+			case 0x226059:  return((char)0x7699); 
+			case 0x22605d:  return((char)0x769c); 
+			case 0x22605f:  return((char)0x769d); 
+			case 0x226065:  return((char)0x76a4); 
+			case 0x226066:  return((char)0x76a5); 
+			case 0x226067:  return((char)0x76a6); 
+			case 0x22606a:  return((char)0x76aa); 
+			case 0x22606d:  return((char)0x76ad); 
+			case 0x226074:  return((char)0x76b8); 
+			case 0x226077:  return((char)0x76bd); 
+			case 0x226123:  return((char)0x76cb); 
+			case 0x226126:  return((char)0x76cc); 
+			case 0x22613b:  return((char)0x76e6); 
+			case 0x22613c:  return((char)0x76e9); 
+			case 0x226140:  return((char)0x76ec); 
+			case 0x226144:  return((char)0x76ed); 
+			case 0x226148:  return((char)0x76f1); 
+			case 0x22614b:  return((char)0x7704); 
+			case 0x22614f:  return((char)0x7708); 
+			case 0x226150:  return((char)0x7707); 
+			case 0x226153:  return((char)0x76f7); 
+			case 0x226154:  return((char)0x770a); 
+			case 0x226159:  return((char)0x76fb); 
+			case 0x22615e:  return((char)0x772b); 
+			case 0x226160:  return((char)0x770e); 
+			case 0x226162:  return((char)0x771b); 
+			case 0x226163:  return((char)0x7724); 
+			case 0x22616c:  return((char)0x7722); 
+			case 0x22616d:  return((char)0x771a); 
+			case 0x22616f:  return((char)0x7721); 
+			case 0x226174:  return((char)0x7740); 
+			case 0x226175:  return((char)0x7739); 
+			case 0x226176:  return((char)0x772f); 
+			case 0x226177:  return((char)0x7731); 
+			case 0x226222:  return((char)0x7725); 
+			case 0x226225:  return((char)0x7735); 
+			case 0x226226:  return((char)0x7734); 
+			case 0x22622d:  return((char)0x7747); 
+			case 0x226231:  return((char)0x7745); 
+			case 0x226232:  return((char)0x774d); 
+			case 0x226233:  return((char)0x774a); 
+			case 0x226235:  return((char)0x7743); 
+			case 0x226237:  return((char)0x774e); 
+			case 0x22623a:  return((char)0x775f); 
+			case 0x22623d:  return((char)0x7760); 
+			case 0x22623e:  return((char)0x7752); 
+			case 0x226242:  return((char)0x7758); 
+			case 0x226244:  return((char)0x7756); 
+			case 0x226245:  return((char)0x775a); 
+			case 0x22624f:  return((char)0x7762); 
+			case 0x226252:  return((char)0x7780); 
+			case 0x226256:  return((char)0x776f); 
+			case 0x22625d:  return((char)0x777e); 
+			case 0x22625f:  return((char)0x7785); 
+			case 0x226260:  return((char)0x777a); 
+			case 0x226266:  return((char)0x778b); 
+			case 0x22626a:  return((char)0x778d); 
+			case 0x226272:  return((char)0x7798); 
+			case 0x226273:  return((char)0x7796); 
+			case 0x226275:  return((char)0x77a2); 
+			case 0x226276:  return((char)0x7799); 
+			case 0x22627a:  return((char)0x77b5); 
+			case 0x22627d:  return((char)0x77b7); 
+			case 0x226323:  return((char)0x77b6); 
+			case 0x226329:  return((char)0x77be); 
+			case 0x22632b:  return((char)0x77b9); 
+			case 0x22632c:  return((char)0x77bc); 
+			case 0x226335:  return((char)0x77cd); 
+			case 0x22633a:  return((char)0x77d1); 
+			case 0x226345:  return((char)0x77de); 
+			case 0x226346:  return((char)0x77df); 
+			case 0x22634f:  return((char)0x77e7); 
+			case 0x226352:  return((char)0x77e6); 
+			case 0x226355:  return((char)0x77ec); 
+			case 0x226359:  return((char)0x77f0); 
+			case 0x22635a:  return((char)0x77f1); 
+			case 0x22635c:  return((char)0x77f4); 
+			case 0x226360:  return((char)0x77fc); 
+			case 0x226367:  return((char)0x77f8); 
+			case 0x226368:  return((char)0x77fb); 
+			case 0x226370:  return((char)0x7809); 
+			case 0x226371:  return((char)0x7806); 
+			case 0x226373:  return((char)0x7819); 
+			case 0x226374:  return((char)0x7811); 
+			case 0x226378:  return((char)0x7812); 
+			case 0x226424:  return((char)0x781b); 
+			case 0x226426:  return((char)0x782c); 
+			case 0x226427:  return((char)0x7823); 
+			case 0x226428:  return((char)0x782b); 
+			case 0x22642a:  return((char)0x7829); 
+			case 0x22642d:  return((char)0x7822); 
+			case 0x226431:  return((char)0x7835); 
+			case 0x226432:  return((char)0x7833); 
+			case 0x226433:  return((char)0x782e); 
+			case 0x226435:  return((char)0x7820); 
+			case 0x226438:  return((char)0x783d); 
+			case 0x22643b:  return((char)0x781f); 
+			case 0x22643d:  return((char)0x7831); 
+			case 0x226444:  return((char)0x784d); 
+			case 0x226448:  return((char)0x7848); 
+			case 0x226449:  return((char)0x7853); 
+			case 0x22644a:  return((char)0x7854); 
+			case 0x22644b:  return((char)0x7845); 
+			case 0x22644c:  return((char)0x7852); 
+			case 0x22644e:  return((char)0x7850); 
+			case 0x22644f:  return((char)0x7858); 
+			case 0x226450:  return((char)0x7826); 
+			case 0x226452:  return((char)0x7847); 
+			case 0x226456:  return((char)0x784c); 
+			case 0x22645a:  return((char)0x7868); 
+			case 0x22645b:  return((char)0x786d); 
+			case 0x226460:  return((char)0x7864); 
+			case 0x226461:  return((char)0x785c); 
+			case 0x226464:  return((char)0x7876); 
+			case 0x226466:  return((char)0x786a); 
+			case 0x226469:  return((char)0x7886); 
+			case 0x22646b:  return((char)0x789a); 
+			case 0x22646c:  return((char)0x787f); 
+			case 0x22646d:  return((char)0x7887); 
+			case 0x226470:  return((char)0x7894); 
+			case 0x226476:  return((char)0x788f); 
+			case 0x22647e:  return((char)0x7899); 
+			case 0x226529:  return((char)0x7893); 
+			case 0x22652c:  return((char)0x7892); 
+			case 0x22652d:  return((char)0x7896); 
+			case 0x22652f:  return((char)0x78b2); 
+			case 0x226531:  return((char)0x78a1); 
+			case 0x226532:  return((char)0x78b6); 
+			case 0x226539:  return((char)0x78b7); 
+			case 0x22653b:  return((char)0x78a4); 
+			case 0x22653e:  return((char)0x78b4); 
+			case 0x226540:  return((char)0x78ad); 
+			case 0x226541:  return((char)0x78a3); 
+			case 0x226543:  return((char)0x789e); 
+			case 0x226544:  return((char)0x78a8); 
+			case 0x226548:  return((char)0x78ab); 
+			case 0x22654e:  return((char)0x78bb); 
+			case 0x226555:  return((char)0x78cc); 
+			case 0x226556:  return((char)0x78c9); 
+			case 0x226558:  return((char)0x78d1); 
+			case 0x22655a:  return((char)0x78d8); 
+			case 0x22655e:  return((char)0x78c8); 
+			case 0x226560:  return((char)0x78d4); 
+			case 0x226568:  return((char)0x78df); 
+			case 0x22656a:  return((char)0x78e7); 
+			case 0x22656e:  return((char)0x78db); 
+			case 0x22656f:  return((char)0x78e1); 
+			case 0x226573:  return((char)0x78e0); 
+			case 0x226576:  return((char)0x78ee); 
+			case 0x226577:  return((char)0x78e3); 
+			case 0x226579:  return((char)0x78f2); 
+			case 0x22657e:  return((char)0x7905); 
+			case 0x226621:  return((char)0x78f9); 
+			case 0x226622:  return((char)0x78fd); 
+			case 0x226627:  return((char)0x78fe); 
+			case 0x226629:  return((char)0x78fb); 
+			case 0x22662b:  return((char)0x7904); 
+			case 0x22662e:  return((char)0x7912); 
+			case 0x226632:  return((char)0x790c); 
+			case 0x226634:  return((char)0x7913); 
+			case 0x226635:  return((char)0x7911); 
+			case 0x226643:  return((char)0x791e); 
+			case 0x226646:  return((char)0x7922); 
+			case 0x22664c:  return((char)0x7924); 
+			case 0x22664d:  return((char)0x7927); 
+			case 0x226650:  return((char)0x7929); 
+			case 0x226655:  return((char)0x7931); 
+			case 0x22665d:  return((char)0x7934); 
+			case 0x226660:  return((char)0x7936); 
+			case 0x226665:  return((char)0x793d); 
+			case 0x226667:  return((char)0x7942); 
+			case 0x226668:  return((char)0x793f); 
+			case 0x22666a:  return((char)0x794a); 
+			case 0x22666b:  return((char)0x794d); 
+			case 0x226675:  return((char)0x7946); 
+			case 0x226677:  return((char)0x7958); 
+			case 0x226679:  return((char)0x795b); 
+			case 0x22667a:  return((char)0x795c); 
+			case 0x22667b:  return((char)0x794f); 
+			case 0x22667c:  return((char)0x7953); 
+			case 0x22667d:  return((char)0x7953); 
+			case 0x226721:  return((char)0x7951); 
+			case 0x226723:  return((char)0x7954); 
+			case 0x22672a:  return((char)0x7967); 
+			case 0x22672d:  return((char)0x796b); 
+			case 0x226730:  return((char)0x7972); 
+			case 0x22673e:  return((char)0x797c); 
+			case 0x22674a:  return((char)0x7998); 
+			case 0x22674b:  return((char)0x798a); 
+			case 0x22674d:  return((char)0x7999); 
+			case 0x22674e:  return((char)0x7995); 
+			case 0x22674f:  return((char)0x798b); 
+			case 0x226750:  return((char)0x7996); 
+			case 0x226754:  return((char)0x7994); 
+			case 0x226755:  return((char)0x7993); 
+			case 0x22675c:  return((char)0x799a); 
+			case 0x22675f:  return((char)0x79a1); 
+			case 0x226760:  return((char)0x799b); 
+			case 0x226761:  return((char)0x79a3); 
+			case 0x226764:  return((char)0x799d); 
+			case 0x22676e:  return((char)0x79a9); 
+			case 0x226770:  return((char)0x79ab); 
+			case 0x226771:  return((char)0x79a8); 
+			case 0x226775:  return((char)0x79b0); 
+			case 0x22677a:  return((char)0x79b3); 
+			case 0x22677b:  return((char)0x79b4); 
+			case 0x226822:  return((char)0x79b8); 
+			case 0x226823:  return((char)0x79ba); 
+			case 0x226825:  return((char)0x79bc); 
+			case 0x226828:  return((char)0x79c6); 
+			case 0x22682a:  return((char)0x79c8); 
+			case 0x22682d:  return((char)0x79d4); 
+			case 0x22682e:  return((char)0x79d5); 
+			case 0x226832:  return((char)0x79d6); 
+			case 0x22683d:  return((char)0x79ec); 
+			case 0x22683e:  return((char)0x79eb); 
+			case 0x226842:  return((char)0x79e1); 
+			case 0x226844:  return((char)0x79dd); 
+			case 0x226845:  return((char)0x79ed); 
+			case 0x226848:  return((char)0x79f8); 
+			case 0x22684f:  return((char)0x7a02); 
+			case 0x226850:  return((char)0x7a0a); 
+			case 0x226854:  return((char)0x7a09); 
+			case 0x22685c:  return((char)0x7a03); 
+			case 0x226861:  return((char)0x7a0c); 
+			case 0x22686b:  return((char)0x7a11); 
+			case 0x22686c:  return((char)0x7a18); 
+			case 0x22686f:  return((char)0x7a19); 
+			case 0x226871:  return((char)0x7a1e); 
+			case 0x226876:  return((char)0x7a17); 
+			case 0x22687e:  return((char)0x7a2d); 
+			case 0x226922:  return((char)0x7a2c); 
+			case 0x226939:  return((char)0x7a48); 
+			case 0x22693d:  return((char)0x7a4b); 
+			case 0x22693e:  return((char)0x7a47); 
+			case 0x22693f:  return((char)0x7a44); 
+			case 0x226940:  return((char)0x7a5c); 
+			case 0x22694d:  return((char)0x7a5f); 
+			case 0x22694f:  return((char)0x7a60); 
+			case 0x226957:  return((char)0x7a6e); 
+			case 0x22695f:  return((char)0x7a70); 
+			case 0x226966:  return((char)0x7a75); 
+			case 0x226969:  return((char)0x7a78); 
+			case 0x22696b:  return((char)0x7a80); 
+			case 0x226970:  return((char)0x7a85); 
+			case 0x226975:  return((char)0x7a86); 
+			case 0x226978:  return((char)0x7a8a); 
+			case 0x22697a:  return((char)0x7a94); 
+			case 0x22697e:  return((char)0x68a5); 
+			case 0x226a28:  return((char)0x7aa3); 
+			case 0x226a2b:  return((char)0x7a9e); 
+			case 0x226a2c:  return((char)0x7aa7); 
+			case 0x226a2e:  return((char)0x7aa8); 
+			case 0x226a31:  return((char)0x7aac); 
+			case 0x226a36:  return((char)0x7ab3); 
+			case 0x226a3a:  return((char)0x7abd); 
+			case 0x226a3c:  return((char)0x7ab6); 
+			case 0x226a3d:  return((char)0x7ab8); 
+			case 0x226a3e:  return((char)0x7ab5); 
+			case 0x226a3f:  return((char)0x7abb); 
+			case 0x226a43:  return((char)0x7abf); 
+			case 0x226a49:  return((char)0x7acd); 
+			case 0x226a4b:  return((char)0x7acf); 
+			case 0x226a4f:  return((char)0x7ad1); 
+			case 0x226a51:  return((char)0x7ad3); 
+			case 0x226a52:  return((char)0x7ad4); 
+			case 0x226a54:  return((char)0x7ad5); 
+			case 0x226a55:  return((char)0x7ada); 
+			case 0x226a5a:  return((char)0x7ae1); 
+			case 0x226a5e:  return((char)0x7ae6); 
+			case 0x226a66:  return((char)0x7aeb); 
+			case 0x226a6b:  return((char)0x7af0); 
+			case 0x226a76:  return((char)0x7af5); 
+			case 0x226a7c:  return((char)0x7afe); 
+			case 0x226b27:  return((char)0x7b39); 
+			case 0x226b2d:  return((char)0x7b0f); 
+			case 0x226b2e:  return((char)0x7b08); 
+			case 0x226b33:  return((char)0x7b0a); 
+			case 0x226b35:  return((char)0x7b35); 
+			case 0x226b36:  return((char)0x7b25); 
+			case 0x226b39:  return((char)0x7b38); 
+			case 0x226b3b:  return((char)0x7b3b); 
+			case 0x226b3f:  return((char)0x7b24); 
+			case 0x226b40:  return((char)0x7b33); 
+			case 0x226b42:  return((char)0x7b2a); 
+			case 0x226b44:  return((char)0x7b18); 
+			case 0x226b47:  return((char)0x7b31); 
+			case 0x226b4a:  return((char)0x7b2b); 
+			case 0x226b4b:  return((char)0x7b37); 
+			case 0x226b4d:  return((char)0x7b1f); 
+			case 0x226b52:  return((char)0x7b4a); 
+			case 0x226b53:  return((char)0x7b59); 
+			case 0x226b54:  return((char)0x7b04); 
+			case 0x226b55:  return((char)0x7b47); 
+			case 0x226b59:  return((char)0x7b58); 
+			case 0x226b5b:  return((char)0x7b6c); 
+			case 0x226b60:  return((char)0x7b48); 
+			case 0x226b61:  return((char)0x7b45); 
+			case 0x226b62:  return((char)0x7b4c); 
+			case 0x226b63:  return((char)0x7b4e); 
+			case 0x226b68:  return((char)0x7b66); 
+			case 0x226b6c:  return((char)0x7b64); 
+			case 0x226b6e:  return((char)0x7b69); 
+			case 0x226b70:  return((char)0x7b6d); 
+			case 0x226b74:  return((char)0x7b62); 
+			case 0x226b75:  return((char)0x7b6e); 
+			case 0x226b76:  return((char)0x7b74); 
+			case 0x226b79:  return((char)0x7b72); 
+			case 0x226b7a:  return((char)0x7b78); 
+			case 0x226b7b:  return((char)0x7b6f); 
+			case 0x226b7c:  return((char)0x7b67); 
+			case 0x226b7e:  return((char)0x7b65); 
+			case 0x226c26:  return((char)0x7b71); 
+			case 0x226c27:  return((char)0x7b70); 
+			case 0x226c29:  return((char)0x7b73); 
+			case 0x226c2d:  return((char)0x7b9c); 
+			case 0x226c33:  return((char)0x7b92); 
+			case 0x226c34:  return((char)0x7b91); 
+			case 0x226c35:  return((char)0x7b90); 
+			case 0x226c38:  return((char)0x7ba3); 
+			case 0x226c3a:  return((char)0x7b8d); 
+			case 0x226c41:  return((char)0x7b85); 
+			case 0x226c43:  return((char)0x7b8e); 
+			case 0x226c44:  return((char)0x7b98); 
+			case 0x226c46:  return((char)0x7b86); 
+			case 0x226c48:  return((char)0x7b99); 
+			case 0x226c52:  return((char)0x7bb2); 
+			case 0x226c58:  return((char)0x7bcb); 
+			case 0x226c59:  return((char)0x7bb8); 
+			case 0x226c5a:  return((char)0x7bcf); 
+			case 0x226c5c:  return((char)0x7bd0); 
+			case 0x226c60:  return((char)0x7bbe); 
+			case 0x226c6f:  return((char)0x7bcc); 
+			case 0x226d22:  return((char)0x7bdd); 
+			case 0x226d24:  return((char)0x7be5); 
+			case 0x226d29:  return((char)0x7be8); 
+			case 0x226d2e:  return((char)0x7bf9); 
+			case 0x226d2f:  return((char)0x7bd4); 
+			case 0x226d32:  return((char)0x7bdf); 
+			case 0x226d35:  return((char)0x7bd8); 
+			case 0x226d37:  return((char)0x7bea); 
+			case 0x226d3b:  return((char)0x7c06); 
+			case 0x226d3e:  return((char)0x7bf0); 
+			case 0x226d41:  return((char)0x7c0f); 
+			case 0x226d46:  return((char)0x7c0b); 
+			case 0x226d47:  return((char)0x7c00); 
+			case 0x226d4b:  return((char)0x7c0c); 
+			case 0x226d4f:  return((char)0x7bf4); 
+			case 0x226d54:  return((char)0x7bf3); 
+			case 0x226d5a:  return((char)0x7c09); 
+			case 0x226d5b:  return((char)0x7c03); 
+			case 0x226d5c:  return((char)0x7bfc); 
+			case 0x226d5f:  return((char)0x7c1c); 
+			case 0x226d61:  return((char)0x7c26); 
+			case 0x226d62:  return((char)0x7c28); 
+			case 0x226d63:  return((char)0x7c20); 
+			case 0x226d66:  return((char)0x7c1f); 
+			case 0x226d68:  return((char)0x7c2f); 
+			case 0x226d75:  return((char)0x7c30); 
+			case 0x226e27:  return((char)0x7c35); 
+			case 0x226e2a:  return((char)0x7c40); 
+			case 0x226e30:  return((char)0x7c39); 
+			case 0x226e34:  return((char)0x7c3b); 
+			case 0x226e35:  return((char)0x7c34); 
+			case 0x226e3b:  return((char)0x7c42); 
+			case 0x226e46:  return((char)0x7c4e); 
+			case 0x226e54:  return((char)0x7c5d); 
+			case 0x226e56:  return((char)0x7c5c); 
+			case 0x226e57:  return((char)0x7c5a); 
+			case 0x226e58:  return((char)0x7c5b); 
+			case 0x226e59:  return((char)0x7c59); 
+			case 0x226e5b:  return((char)0x7c5e); 
+			case 0x226e5c:  return((char)0x7c67); 
+			case 0x226e5e:  return((char)0x7c63); 
+			case 0x226e61:  return((char)0x7c68); 
+			case 0x226e62:  return((char)0x7c65); 
+			case 0x226e6f:  return((char)0x7c6f); 
+			case 0x226e75:  return((char)0x7c75); 
+			case 0x226e79:  return((char)0x7c7e); 
+			case 0x226e7a:  return((char)0x7c78); 
+			case 0x226e7d:  return((char)0x7c7d); 
+			case 0x226f21:  return((char)0x7c81); 
+			case 0x226f28:  return((char)0x7c8e); 
+			case 0x226f29:  return((char)0x7c91); 
+			case 0x226f2a:  return((char)0x7c83); 
+			case 0x226f2c:  return((char)0x7c8d); 
+			case 0x226f3a:  return((char)0x7c99); 
+			case 0x226f3b:  return((char)0x7c98); 
+			case 0x226f3e:  return((char)0x7c9c); 
+			case 0x226f40:  return((char)0x7c95); 
+			case 0x226f42:  return((char)0x7ca7); 
+			case 0x226f43:  return((char)0x7ca2); 
+			case 0x226f45:  return((char)0x7c9e); 
+			case 0x226f46:  return((char)0x7ca9); 
+			case 0x226f48:  return((char)0x7ca8); 
+			case 0x226f49:  return((char)0x7ca1); 
+			case 0x226f4a:  return((char)0x7cac); 
+			case 0x226f4c:  return((char)0x7ca6); 
+			case 0x226f54:  return((char)0x7cb2); 
+			case 0x226f58:  return((char)0x7cbb); 
+			case 0x226f59:  return((char)0x7cbf); 
+			case 0x226f5e:  return((char)0x7cba); 
+			case 0x226f5f:  return((char)0x7cbc); 
+			case 0x226f64:  return((char)0x7cc2); 
+			case 0x226f66:  return((char)0x7cce); 
+			case 0x226f68:  return((char)0x7cc8); 
+			case 0x226f69:  return((char)0x7cc5); 
+			case 0x226f6d:  return((char)0x7ccc); 
+			case 0x226f6f:  return((char)0x7cc9); 
+			case 0x226f71:  return((char)0x7cd2); 
+			case 0x226f75:  return((char)0x7cd7); 
+			case 0x226f77:  return((char)0x7ce1); 
+			case 0x226f7b:  return((char)0x7ce8); 
+			case 0x227022:  return((char)0x7cdd); 
+			case 0x227028:  return((char)0x7ced); 
+			case 0x22702e:  return((char)0x7cf0); 
+			case 0x227030:  return((char)0x7cf2); 
+			case 0x227035:  return((char)0x7cf4); 
+			case 0x227039:  return((char)0x7cf6); 
+			case 0x227042:  return((char)0x7d06); 
+			case 0x227044:  return((char)0x7d03); 
+			case 0x227045:  return((char)0x7d08); 
+			case 0x227049:  return((char)0x7d0f); 
+			case 0x22704a:  return((char)0x7d13); 
+			case 0x227050:  return((char)0x7d18); 
+			case 0x227051:  return((char)0x7d1e); 
+			case 0x227052:  return((char)0x7d1d); 
+			case 0x227059:  return((char)0x7d35); 
+			case 0x22705a:  return((char)0x7d3d); 
+			case 0x227061:  return((char)0x7d3a); 
+			case 0x227062:  return((char)0x7d32); 
+			case 0x227065:  return((char)0x7d31); 
+			case 0x227068:  return((char)0x7d45); 
+			case 0x22706a:  return((char)0x7d3f); 
+			case 0x22706c:  return((char)0x7d29); 
+			case 0x22706f:  return((char)0x7d41); 
+			case 0x227071:  return((char)0x7d3e); 
+			case 0x22707a:  return((char)0x7d5c); 
+			case 0x22707c:  return((char)0x7d53); 
+			case 0x22707e:  return((char)0x7d5a); 
+			case 0x227122:  return((char)0x7d70); 
+			case 0x227129:  return((char)0x7d67); 
+			case 0x22712b:  return((char)0x7d6a); 
+			case 0x22712c:  return((char)0x7d6b); 
+			case 0x227130:  return((char)0x7d73); 
+			case 0x227134:  return((char)0x7d4e); 
+			case 0x227137:  return((char)0x7d8b); 
+			case 0x227139:  return((char)0x7d88); 
+			case 0x22713b:  return((char)0x7d85); 
+			case 0x22713d:  return((char)0x7d8e); 
+			case 0x227142:  return((char)0x7d7f); 
+			case 0x227144:  return((char)0x7d86); 
+			case 0x227148:  return((char)0x7d8d); 
+			case 0x22714b:  return((char)0x7d9b); 
+			case 0x22714d:  return((char)0x7d83); 
+			case 0x22714f:  return((char)0x7d7d); 
+			case 0x227154:  return((char)0x7d7b); 
+			case 0x227158:  return((char)0x7d7a); 
+			case 0x227159:  return((char)0x7d96); 
+			case 0x22715a:  return((char)0x7d5b); 
+			case 0x22715b:  return((char)0x7d8c); 
+			case 0x227161:  return((char)0x7da3); 
+			case 0x227162:  return((char)0x7dae); 
+			case 0x227167:  return((char)0x7dcb); 
+			case 0x227169:  return((char)0x7daa); 
+			case 0x22716a:  return((char)0x7dce); 
+			case 0x22716b:  return((char)0x7dc9); 
+			case 0x22716e:  return((char)0x7dc5); 
+			case 0x22716f:  return((char)0x7da6); 
+			case 0x227174:  return((char)0x7dc4); 
+			case 0x227178:  return((char)0x7dac); 
+			case 0x22717d:  return((char)0x7db9); 
+			case 0x227222:  return((char)0x7d9f); 
+			case 0x227229:  return((char)0x7de1); 
+			case 0x22722a:  return((char)0x7dd9); 
+			case 0x22722b:  return((char)0x7de4); 
+			case 0x227231:  return((char)0x7dd7); 
+			case 0x227236:  return((char)0x7df9); 
+			case 0x22723a:  return((char)0x7e06); 
+			case 0x22723c:  return((char)0x7df2); 
+			case 0x22723e:  return((char)0x7de6); 
+			case 0x227246:  return((char)0x7ddc); 
+			case 0x227247:  return((char)0x7df1); 
+			case 0x227248:  return((char)0x7df6); 
+			case 0x227249:  return((char)0x7de5); 
+			case 0x22724b:  return((char)0x7df5); 
+			case 0x227250:  return((char)0x7e17); 
+			case 0x227251:  return((char)0x7e1e); 
+			case 0x227252:  return((char)0x7e21); 
+			case 0x227253:  return((char)0x7e0b); 
+			case 0x227255:  return((char)0x7e12); 
+			case 0x227256:  return((char)0x7e22); 
+			case 0x22725b:  return((char)0x7e20); 
+			case 0x22725d:  return((char)0x7e1d); 
+			case 0x22725e:  return((char)0x7e09); 
+			case 0x22725f:  return((char)0x7e1f); 
+			case 0x227265:  return((char)0x7e15); 
+			case 0x227269:  return((char)0x7e10); 
+			case 0x22726a:  return((char)0x7e0f); 
+			case 0x22726d:  return((char)0x7e3b); 
+			case 0x227271:  return((char)0x7e34); 
+			case 0x227272:  return((char)0x7e2d); 
+			case 0x227273:  return((char)0x7e2f); 
+			case 0x227275:  return((char)0x7e36); 
+			case 0x227277:  return((char)0x7e3a); 
+			case 0x227279:  return((char)0x7e39); 
+			case 0x22727d:  return((char)0x7e44); 
+			case 0x227321:  return((char)0x7e35); 
+			case 0x227326:  return((char)0x7e3f); 
+			case 0x227328:  return((char)0x7e47); 
+			case 0x22732d:  return((char)0x7e52); 
+			case 0x22732f:  return((char)0x7e51); 
+			case 0x227333:  return((char)0x7e50); 
+			case 0x227334:  return((char)0x7e67); 
+			case 0x227337:  return((char)0x7e56); 
+			case 0x227348:  return((char)0x7e68); 
+			case 0x227349:  return((char)0x7e6e); 
+			case 0x22734e:  return((char)0x7e70); 
+			case 0x227351:  return((char)0x7e6f); 
+			case 0x227352:  return((char)0x7e73); 
+			case 0x227358:  return((char)0x7e7b); 
+			case 0x227359:  return((char)0x7e7e); 
+			case 0x22735b:  return((char)0x7e81); 
+			case 0x22735d:  return((char)0x7e8a); 
+			case 0x22735e:  return((char)0x7e87); 
+			case 0x227360:  return((char)0x7e88); 
+			case 0x227364:  return((char)0x7e86); 
+			case 0x22736a:  return((char)0x7e91); 
+			case 0x22736b:  return((char)0x7e95); 
+			case 0x22736d:  return((char)0x7e94); 
+			case 0x227370:  return((char)0x7e9b); 
+			case 0x227371:  return((char)0x7e9a); 
+			case 0x227373:  return((char)0x7e99); 
+			case 0x227374:  return((char)0x7e98); 
+			case 0x227425:  return((char)0x7f43); 
+			case 0x227427:  return((char)0x7f46); 
+			case 0x227428:  return((char)0x7f45); 
+			case 0x22742b:  return((char)0x7f4b); 
+			case 0x22742e:  return((char)0x7f4c); 
+			case 0x22742f:  return((char)0x7f4d); 
+			case 0x227431:  return((char)0x7f4e); 
+			case 0x227432:  return((char)0x7f4f); 
+			case 0x22743e:  return((char)0x7f60); 
+			case 0x22743f:  return((char)0x7f61); 
+			case 0x227443:  return((char)0x7f5d); 
+			case 0x227445:  return((char)0x7f5b); 
+			case 0x227447:  return((char)0x7f63); 
+			case 0x227450:  return((char)0x7f65); 
+			case 0x227451:  return((char)0x7f66); 
+			case 0x227453:  return((char)0x7f6d); 
+			case 0x227454:  return((char)0x7f6b); 
+			case 0x227455:  return((char)0x7f67); 
+			case 0x227457:  return((char)0x7f68); 
+			case 0x22745e:  return((char)0x7f71); 
+			case 0x227460:  return((char)0x7f73); 
+			case 0x227463:  return((char)0x7f76); 
+			case 0x22746a:  return((char)0x7f7f); 
+			case 0x22746b:  return((char)0x7f7e); 
+			case 0x22746c:  return((char)0x7f7d); 
+			case 0x227472:  return((char)0x7f86); 
+			case 0x22747a:  return((char)0x7f91); 
+			case 0x22747e:  return((char)0x7f96); 
+			case 0x227523:  return((char)0x7f97); 
+			case 0x227524:  return((char)0x7f95); 
+			case 0x22752c:  return((char)0x7fa2); 
+			case 0x227533:  return((char)0x7fa7); 
+			case 0x22753b:  return((char)0x7fb0); 
+			case 0x22753c:  return((char)0x7fad); 
+			case 0x22753f:  return((char)0x7fb1); 
+			case 0x227540:  return((char)0x7fb4); 
+			case 0x227542:  return((char)0x7fb5); 
+			case 0x22754a:  return((char)0x7fbc); 
+			case 0x22754c:  return((char)0x7fbe); 
+			case 0x227551:  return((char)0x7fc3); 
+			case 0x227557:  return((char)0x7fca); 
+			case 0x227567:  return((char)0x7fdb); 
+			case 0x227568:  return((char)0x7fe3); 
+			case 0x22756c:  return((char)0x7fe6); 
+			case 0x22756f:  return((char)0x7fe5); 
+			case 0x227572:  return((char)0x7fec); 
+			case 0x227573:  return((char)0x7feb); 
+			case 0x227577:  return((char)0x7fef); 
+			case 0x22757a:  return((char)0x7fee); 
+			case 0x227629:  return((char)0x7ffd); 
+			case 0x22762a:  return((char)0x7ffe); 
+			case 0x22762c:  return((char)0x7fff); 
+			case 0x22762e:  return((char)0x8004); 
+			case 0x227631:  return((char)0x8008); 
+			case 0x227633:  return((char)0x800b); 
+			case 0x227634:  return((char)0x800e); 
+			case 0x227635:  return((char)0x8011); 
+			case 0x227636:  return((char)0x800f); 
+			case 0x227637:  return((char)0x8014); 
+			case 0x227639:  return((char)0x8016); 
+			case 0x22763b:  return((char)0x801f); 
+			case 0x22763d:  return((char)0x801e); 
+			case 0x22763e:  return((char)0x801d); 
+			case 0x22764b:  return((char)0x8025); 
+			case 0x22764c:  return((char)0x8026); 
+			case 0x22764d:  return((char)0x802a); 
+			case 0x22764e:  return((char)0x8029); 
+			case 0x22764f:  return((char)0x8028); 
+			case 0x22765b:  return((char)0x8030); 
+			case 0x22765d:  return((char)0x8031); 
+			case 0x227660:  return((char)0x8035); 
+			case 0x227669:  return((char)0x8039); 
+			case 0x22766b:  return((char)0x8041); 
+			case 0x227670:  return((char)0x8043); 
+			case 0x22767b:  return((char)0x8052); 
+			case 0x22767e:  return((char)0x8062); 
+			case 0x227728:  return((char)0x8063); 
+			case 0x227732:  return((char)0x806c); 
+			case 0x227739:  return((char)0x8075); 
+			case 0x22773e:  return((char)0x807b); 
+			case 0x22773f:  return((char)0x8079); 
+			case 0x227747:  return((char)0x808a); 
+			case 0x227749:  return((char)0x808e); 
+			case 0x22774e:  return((char)0x809f); 
+			case 0x22775c:  return((char)0x670a); 
+			case 0x227760:  return((char)0x80a7); 
+			case 0x227761:  return((char)0x80b0); 
+			case 0x227768:  return((char)0x80b8); 
+			case 0x227769:  return((char)0x80b5); 
+			case 0x22776a:  return((char)0x80a6); 
+			case 0x227773:  return((char)0x80e0); 
+			case 0x227775:  return((char)0x6711); 
+			case 0x22777b:  return((char)0x80df); 
+			case 0x22777d:  return((char)0x80c2); 
+			case 0x227827:  return((char)0x80d9); 
+			case 0x22782a:  return((char)0x80dd); 
+			case 0x22782d:  return((char)0x80cf); 
+			case 0x22782f:  return((char)0x80cd); 
+			case 0x227830:  return((char)0x80d7); 
+			case 0x227833:  return((char)0x80f2); 
+			case 0x227834:  return((char)0x80fa); 
+			case 0x227838:  return((char)0x80fe); 
+			case 0x22783c:  return((char)0x8103); 
+			case 0x227840:  return((char)0x80f9); 
+			case 0x227841:  return((char)0x80ef); 
+			case 0x227842:  return((char)0x80d4); 
+			case 0x227849:  return((char)0x811d); 
+			case 0x22784b:  return((char)0x8118); 
+			case 0x227850:  return((char)0x8130); 
+			case 0x227854:  return((char)0x8124); 
+			case 0x227855:  return((char)0x811b); 
+			case 0x227860:  return((char)0x812a); 
+			case 0x227861:  return((char)0x811e); 
+			case 0x227864:  return((char)0x8121); 
+			case 0x227866:  return((char)0x8117); 
+			case 0x227869:  return((char)0x813a); 
+			case 0x22786a:  return((char)0x815a); 
+			case 0x22786d:  return((char)0x8148); 
+			case 0x227877:  return((char)0x814c); 
+			case 0x22787c:  return((char)0x8153); 
+			case 0x22787d:  return((char)0x8141); 
+			case 0x227925:  return((char)0x814d); 
+			case 0x22792e:  return((char)0x6720); 
+			case 0x227932:  return((char)0x8160); 
+			case 0x22793b:  return((char)0x8169); 
+			case 0x22793c:  return((char)0x817c); 
+			case 0x227941:  return((char)0x8161); 
+			case 0x227946:  return((char)0x8176); 
+			case 0x227947:  return((char)0x8174); 
+			case 0x227948:  return((char)0x8167); 
+			case 0x22794b:  return((char)0x816f); 
+			case 0x22794d:  return((char)0x8182); 
+			case 0x227951:  return((char)0x818b); 
+			case 0x227952:  return((char)0x8186); 
+			case 0x227959:  return((char)0x8183); 
+			case 0x22796a:  return((char)0x819f); 
+			case 0x22796b:  return((char)0x81a3); 
+			case 0x227970:  return((char)0x8198); 
+			case 0x227975:  return((char)0x8195); 
+			case 0x227977:  return((char)0x8197); 
+			case 0x22797c:  return((char)0x81aa); 
+			case 0x22797d:  return((char)0x81a6); 
+			case 0x22797e:  return((char)0x6725); 
+			case 0x227a2c:  return((char)0x81b5); 
+			case 0x227a2e:  return((char)0x81b0); 
+			case 0x227a2f:  return((char)0x81b4); 
+			case 0x227a33:  return((char)0x81b7); 
+			case 0x227a37:  return((char)0x81bb); 
+			case 0x227a38:  return((char)0x81c1); 
+			case 0x227a39:  return((char)0x81cc); 
+			case 0x227a3a:  return((char)0x81ca); 
+			case 0x227a3b:  return((char)0x81c4); 
+			case 0x227a40:  return((char)0x81d1); 
+			case 0x227a41:  return((char)0x81ce); 
+			case 0x227a43:  return((char)0x81d0); 
+			case 0x227a4b:  return((char)0x81db); 
+			case 0x227a4f:  return((char)0x81dd); 
+			case 0x227a53:  return((char)0x81de); 
+			case 0x227a56:  return((char)0x81e0); 
+			case 0x227a57:  return((char)0x81e2); 
+			case 0x227a5b:  return((char)0x81e7); 
+			case 0x227a60:  return((char)0x81ef); 
+			case 0x227a65:  return((char)0x81f2); 
+			case 0x227a68:  return((char)0x81f6); 
+			case 0x227a70:  return((char)0x8201); 
+			case 0x227a72:  return((char)0x8201); 
+			case 0x227a74:  return((char)0x8203); 
+			case 0x227a75:  return((char)0x8204); 
+			case 0x227a77:  return((char)0x820b); 
+			case 0x227b27:  return((char)0x821d); 
+			case 0x227b29:  return((char)0x8220); 
+			case 0x227b2e:  return((char)0x822d); 
+			case 0x227b2f:  return((char)0x822f); 
+			case 0x227b32:  return((char)0x8238); 
+			case 0x227b34:  return((char)0x823a); 
+			case 0x227b35:  return((char)0x8233); 
+			case 0x227b36:  return((char)0x8234); 
+			case 0x227b3a:  return((char)0x8232); 
+			case 0x227b42:  return((char)0x8248); 
+			case 0x227b43:  return((char)0x8249); 
+			case 0x227b45:  return((char)0x8244); 
+			case 0x227b47:  return((char)0x8240); 
+			case 0x227b48:  return((char)0x8241); 
+			case 0x227b4a:  return((char)0x8245); 
+			case 0x227b4b:  return((char)0x824b); 
+			case 0x227b50:  return((char)0x824f); 
+			case 0x227b53:  return((char)0x824e); 
+			case 0x227b56:  return((char)0x8256); 
+			case 0x227b57:  return((char)0x8257); 
+			case 0x227b5e:  return((char)0x825a); 
+			case 0x227b62:  return((char)0x825f); 
+			case 0x227b67:  return((char)0x8262); 
+			case 0x227b6b:  return((char)0x8268); 
+			case 0x227b6f:  return((char)0x826d); 
+			case 0x227b77:  return((char)0x8278); 
+			case 0x227b7d:  return((char)0x827f); 
+			case 0x227c24:  return((char)0x828e); 
+			case 0x227c25:  return((char)0x8291); 
+			case 0x227c27:  return((char)0x828f); 
+			case 0x227c28:  return((char)0x8284); 
+			case 0x227c2d:  return((char)0x8283); 
+			case 0x227c2e:  return((char)0x828a); 
+			case 0x227c31:  return((char)0x82af); 
+			case 0x227c34:  return((char)0x82a7); 
+			case 0x227c38:  return((char)0x82ab); 
+			case 0x227c3a:  return((char)0x82b0); 
+			case 0x227c3c:  return((char)0x82a4); 
+			case 0x227c3f:  return((char)0x829a); 
+			case 0x227c42:  return((char)0x82a3); 
+			case 0x227c44:  return((char)0x82b7); 
+			case 0x227c45:  return((char)0x82ae); 
+			case 0x227c46:  return((char)0x82a9); 
+			case 0x227c49:  return((char)0x82bc); 
+			case 0x227c4c:  return((char)0x82a8); 
+			case 0x227c4e:  return((char)0x82b4); 
+			case 0x227c50:  return((char)0x82a1); 
+			case 0x227c53:  return((char)0x82aa); 
+			case 0x227c55:  return((char)0x82d9); 
+			case 0x227c57:  return((char)0x82fe); 
+			case 0x227c5a:  return((char)0x82e0); 
+			case 0x227c5b:  return((char)0x82d0); 
+			case 0x227c5c:  return((char)0x8300); 
+			case 0x227c5f:  return((char)0x82ea); 
+			case 0x227c60:  return((char)0x82f7); 
+			case 0x227c62:  return((char)0x82ef); 
+			case 0x227c63:  return((char)0x833a); 
+			case 0x227c64:  return((char)0x82e4); 
+			case 0x227c65:  return((char)0x82d5); 
+			case 0x227c67:  return((char)0x8307); 
+			case 0x227c68:  return((char)0x82fa); 
+			case 0x227c69:  return((char)0x82f4); 
+			case 0x227c6a:  return((char)0x82e2); 
+			case 0x227c6d:  return((char)0x82d2); 
+			case 0x227c6e:  return((char)0x8314); 
+			case 0x227c71:  return((char)0x82eb); 
+			case 0x227c72:  return((char)0x82d8); 
+			case 0x227c73:  return((char)0x82e1); 
+			case 0x227c75:  return((char)0x82f6); 
+			case 0x227c7b:  return((char)0x8310); 
+			case 0x227c7c:  return((char)0x82f3); 
+			case 0x227d21:  return((char)0x830c); 
+			case 0x227d22:  return((char)0x82fb); 
+			case 0x227d24:  return((char)0x82fd); 
+			case 0x227d26:  return((char)0x8333); 
+			case 0x227d29:  return((char)0x8328); 
+			case 0x227d2b:  return((char)0x8344); 
+			case 0x227d2e:  return((char)0x8351); 
+			case 0x227d35:  return((char)0x831b); 
+			case 0x227d3b:  return((char)0x8356); 
+			case 0x227d3f:  return((char)0x8322); 
+			case 0x227d40:  return((char)0x832c); 
+			case 0x227d48:  return((char)0x833c); 
+			case 0x227d4a:  return((char)0x834d); 
+			case 0x227d4d:  return((char)0x8343); 
+			case 0x227d52:  return((char)0x832f); 
+			case 0x227d53:  return((char)0x8348); 
+			case 0x227d54:  return((char)0x8312); 
+			case 0x227d56:  return((char)0x8316); 
+			case 0x227d58:  return((char)0x831a); 
+			case 0x227d5f:  return((char)0x8347); 
+			case 0x227d62:  return((char)0x83a8); 
+			case 0x227d67:  return((char)0x83ad); 
+			case 0x227d6d:  return((char)0x8373); 
+			case 0x227d72:  return((char)0x83b0); 
+			case 0x227d76:  return((char)0x831d); 
+			case 0x227d7a:  return((char)0x838f); 
+			case 0x227d7c:  return((char)0x8395); 
+			case 0x227d7e:  return((char)0x8375); 
+			case 0x227e21:  return((char)0x837f); 
+			case 0x227e22:  return((char)0x8399); 
+			case 0x227e23:  return((char)0x83a6); 
+			case 0x227e25:  return((char)0x8387); 
+			case 0x227e26:  return((char)0x83b9); 
+			case 0x227e2b:  return((char)0x83a9); 
+			case 0x227e2f:  return((char)0x839b); 
+			case 0x227e33:  return((char)0x83aa); 
+			case 0x227e37:  return((char)0x839c); 
+			case 0x227e38:  return((char)0x839f); 
+			case 0x227e41:  return((char)0x83cf); 
+			case 0x227e43:  return((char)0x83f9); 
+			case 0x227e45:  return((char)0x8421); 
+			case 0x227e51:  return((char)0x8423); 
+			case 0x227e52:  return((char)0x83ea); 
+			case 0x227e53:  return((char)0x8413); 
+			case 0x227e56:  return((char)0x83fc); 
+			case 0x227e57:  return((char)0x83f6); 
+			case 0x227e59:  return((char)0x8410); 
+			case 0x227e5a:  return((char)0x83e1); 
+			case 0x227e60:  return((char)0x83c6); 
+			case 0x227e61:  return((char)0x8407); 
+			case 0x227e63:  return((char)0x83eb); 
+			case 0x227e6a:  return((char)0x83bf); 
+			case 0x227e6b:  return((char)0x83e2); 
+			case 0x227e6d:  return((char)0x8401); 
+			case 0x227e71:  return((char)0x83d8); 
+			case 0x227e72:  return((char)0x83e5); 
+			case 0x227e74:  return((char)0x8418); 
+			case 0x227e79:  return((char)0x83ce); 
+			case 0x227e7b:  return((char)0x83d3); 
+			case 0x227e7d:  return((char)0x83d6); 
+			default: return((char)0);
+		}
+	}
+
+	private char getMultiByteChar_0x230000_0x27ffff(int c) {
+		switch(c) {
+			case 0x232223:  return((char)0x83fd); 
+			case 0x232225:  return((char)0x841e); 
+			case 0x232229:  return((char)0x83c9); 
+			case 0x23222a:  return((char)0x83df); 
+			case 0x23222c:  return((char)0x841f); 
+			case 0x23222e:  return((char)0x840f); 
+			case 0x232230:  return((char)0x8411); 
+			case 0x232236:  return((char)0x839a); 
+			case 0x23223c:  return((char)0x83f3); 
+			case 0x232243:  return((char)0x83d1); 
+			case 0x232248:  return((char)0x8453); 
+			case 0x23224a:  return((char)0x848e); 
+			case 0x23224c:  return((char)0x8439); 
+			case 0x23224d:  return((char)0x8476); 
+			case 0x23224e:  return((char)0x8479); 
+			case 0x23225c:  return((char)0x8451); 
+			case 0x23225f:  return((char)0x847d); 
+			case 0x232262:  return((char)0x845a); 
+			case 0x232266:  return((char)0x8459); 
+			case 0x232269:  return((char)0x8473); 
+			case 0x23226e:  return((char)0x843e); 
+			case 0x232271:  return((char)0x846d); 
+			case 0x232278:  return((char)0x847a); 
+			case 0x23227b:  return((char)0x8484); 
+			case 0x23227c:  return((char)0x8478); 
+			case 0x232324:  return((char)0x8432); 
+			case 0x232329:  return((char)0x845c); 
+			case 0x23232d:  return((char)0x842a); 
+			case 0x23232e:  return((char)0x8429); 
+			case 0x232332:  return((char)0x8471); 
+			case 0x232335:  return((char)0x845f); 
+			case 0x232336:  return((char)0x8460); 
+			case 0x232337:  return((char)0x846e); 
+			case 0x23233a:  return((char)0x8446); 
+			case 0x23233c:  return((char)0x8452); 
+			case 0x23233f:  return((char)0x844a); 
+			case 0x232345:  return((char)0x844e); 
+			case 0x232349:  return((char)0x8497); 
+			case 0x232350:  return((char)0x84a1); 
+			case 0x232353:  return((char)0x849f); 
+			case 0x232356:  return((char)0x84ba); 
+			case 0x232358:  return((char)0x84b9); 
+			case 0x23235c:  return((char)0x84b4); 
+			case 0x23235e:  return((char)0x84c1); 
+			case 0x23235f:  return((char)0x84bb); 
+			case 0x232368:  return((char)0x84cd); 
+			case 0x232370:  return((char)0x84b1); 
+			case 0x232371:  return((char)0x849d); 
+			case 0x232372:  return((char)0x84d0); 
+			case 0x232375:  return((char)0x8494); 
+			case 0x232379:  return((char)0x84c7); 
+			case 0x23237a:  return((char)0x84bd); 
+			case 0x23237c:  return((char)0x84c2); 
+			case 0x232421:  return((char)0x8495); 
+			case 0x232427:  return((char)0x84af); 
+			case 0x232429:  return((char)0x84ad); 
+			case 0x232432:  return((char)0x84a8); 
+			case 0x232433:  return((char)0x84d6); 
+			case 0x232435:  return((char)0x84da); 
+			case 0x23243a:  return((char)0x8493); 
+			case 0x23243f:  return((char)0x84cf); 
+			case 0x232441:  return((char)0x84ca); 
+			case 0x232446:  return((char)0x8506); 
+			case 0x232447:  return((char)0x850b); 
+			case 0x23244d:  return((char)0x8500); 
+			case 0x232459:  return((char)0x851f); 
+			case 0x23245c:  return((char)0x853b); 
+			case 0x23245f:  return((char)0x84ea); 
+			case 0x232466:  return((char)0x84f4); 
+			case 0x23246a:  return((char)0x850c); 
+			case 0x232472:  return((char)0x852f); 
+			case 0x232475:  return((char)0x8515); 
+			case 0x232477:  return((char)0x84f7); 
+			case 0x23247a:  return((char)0x84fc); 
+			case 0x23247c:  return((char)0x84eb); 
+			case 0x23247d:  return((char)0x84fd); 
+			case 0x232524:  return((char)0x851e); 
+			case 0x23252a:  return((char)0x8518); 
+			case 0x23252d:  return((char)0x8526); 
+			case 0x23252e:  return((char)0x8507); 
+			case 0x23252f:  return((char)0x84e7); 
+			case 0x232534:  return((char)0x84f0); 
+			case 0x232535:  return((char)0x84ef); 
+			case 0x232536:  return((char)0x8556); 
+			case 0x232546:  return((char)0x8541); 
+			case 0x23254b:  return((char)0x8558); 
+			case 0x23254d:  return((char)0x8553); 
+			case 0x23254e:  return((char)0x8561); 
+			case 0x23254f:  return((char)0x8540); 
+			case 0x23255a:  return((char)0x8546); 
+			case 0x23255c:  return((char)0x8564); 
+			case 0x23255d:  return((char)0x855e); 
+			case 0x23255e:  return((char)0x8573); 
+			case 0x23255f:  return((char)0x8551); 
+			case 0x232564:  return((char)0x8562); 
+			case 0x23256b:  return((char)0x8563); 
+			case 0x23256c:  return((char)0x848d); 
+			case 0x23256d:  return((char)0x8542); 
+			case 0x232571:  return((char)0x854e); 
+			case 0x232574:  return((char)0x8555); 
+			case 0x232576:  return((char)0x855d); 
+			case 0x232577:  return((char)0x858c); 
+			case 0x232625:  return((char)0x8580); 
+			case 0x232628:  return((char)0x858f); 
+			case 0x23262d:  return((char)0x8579); 
+			case 0x232632:  return((char)0x857f); 
+			case 0x232633:  return((char)0x8577); 
+			case 0x232634:  return((char)0x8578); 
+			case 0x232635:  return((char)0x8598); 
+			case 0x232636:  return((char)0x857b); 
+			case 0x23263d:  return((char)0x85a4); 
+			case 0x232642:  return((char)0x857a); 
+			case 0x232644:  return((char)0x8597); 
+			case 0x232645:  return((char)0x8557); 
+			case 0x232649:  return((char)0x85a8); 
+			case 0x23264e:  return((char)0x8586); 
+			case 0x232650:  return((char)0x8599); 
+			case 0x232651:  return((char)0x858a); 
+			case 0x232652:  return((char)0x85a2); 
+			case 0x232654:  return((char)0x8590); 
+			case 0x232656:  return((char)0x8585); 
+			case 0x232657:  return((char)0x8588); 
+			case 0x23265a:  return((char)0x85b8); 
+			case 0x23265d:  return((char)0x85c1); 
+			case 0x232661:  return((char)0x85ba); 
+			case 0x232668:  return((char)0x85ce); 
+			case 0x23266a:  return((char)0x85c2); 
+			case 0x23266b:  return((char)0x85b7); 
+			case 0x23266c:  return((char)0x85b9); 
+			case 0x23266e:  return((char)0x85b3); 
+			case 0x23266f:  return((char)0x85bd); 
+			case 0x232670:  return((char)0x85c4); 
+			case 0x232672:  return((char)0x85bf); 
+			case 0x232675:  return((char)0x85be); 
+			case 0x23267e:  return((char)0x85b6); 
+			case 0x232724:  return((char)0x8624); 
+			case 0x232728:  return((char)0x85f7); 
+			case 0x23272c:  return((char)0x85e6); 
+			case 0x23272e:  return((char)0x85d4); 
+			case 0x232731:  return((char)0x85ed); 
+			case 0x232739:  return((char)0x85da); 
+			case 0x232743:  return((char)0x85df); 
+			case 0x232745:  return((char)0x85d8); 
+			case 0x23274c:  return((char)0x85dc); 
+			case 0x23274e:  return((char)0x85f5); 
+			case 0x232752:  return((char)0x8622); 
+			case 0x232754:  return((char)0x8610); 
+			case 0x232757:  return((char)0x85fc); 
+			case 0x23275b:  return((char)0x85ff); 
+			case 0x23275e:  return((char)0x85fe); 
+			case 0x232760:  return((char)0x8600); 
+			case 0x232768:  return((char)0x8604); 
+			case 0x232771:  return((char)0x8605); 
+			case 0x232775:  return((char)0x862b); 
+			case 0x232822:  return((char)0x8627); 
+			case 0x232826:  return((char)0x8629); 
+			case 0x232832:  return((char)0x8637); 
+			case 0x232838:  return((char)0x8636); 
+			case 0x23283e:  return((char)0x863c); 
+			case 0x23283f:  return((char)0x8640); 
+			case 0x232840:  return((char)0x863a); 
+			case 0x23284c:  return((char)0x8645); 
+			case 0x232859:  return((char)0x864d); 
+			case 0x23285a:  return((char)0x8653); 
+			case 0x23285e:  return((char)0x8659); 
+			case 0x232866:  return((char)0x8661); 
+			case 0x232869:  return((char)0x8662); 
+			case 0x23286a:  return((char)0x8663); 
+			case 0x232871:  return((char)0x8669); 
+			case 0x232878:  return((char)0x866c); 
+			case 0x23287b:  return((char)0x8672); 
+			case 0x23287c:  return((char)0x866f); 
+			case 0x23287e:  return((char)0x867b); 
+			case 0x232925:  return((char)0x867a); 
+			case 0x232926:  return((char)0x8673); 
+			case 0x232927:  return((char)0x867c); 
+			case 0x23292e:  return((char)0x8696); 
+			case 0x23292f:  return((char)0x86a8); 
+			case 0x232936:  return((char)0x8691); 
+			case 0x232937:  return((char)0x869c); 
+			case 0x232939:  return((char)0x8698); 
+			case 0x23293c:  return((char)0x868d); 
+			case 0x23293d:  return((char)0x868b); 
+			case 0x232940:  return((char)0x86a6); 
+			case 0x232942:  return((char)0x869d); 
+			case 0x232946:  return((char)0x86a0); 
+			case 0x232948:  return((char)0x86a7); 
+			case 0x23294b:  return((char)0x86bf); 
+			case 0x232958:  return((char)0x86ba); 
+			case 0x232959:  return((char)0x86b0); 
+			case 0x232960:  return((char)0x86b3); 
+			case 0x232962:  return((char)0x86c9); 
+			case 0x232963:  return((char)0x86b4); 
+			case 0x232967:  return((char)0x86d8); 
+			case 0x23296e:  return((char)0x86e3); 
+			case 0x23296f:  return((char)0x86e9); 
+			case 0x232971:  return((char)0x86ec); 
+			case 0x232974:  return((char)0x86d5); 
+			case 0x232977:  return((char)0x86d0); 
+			case 0x23297a:  return((char)0x86d1); 
+			case 0x23297e:  return((char)0x86de); 
+			case 0x232a25:  return((char)0x870b); 
+			case 0x232a2f:  return((char)0x86fa); 
+			case 0x232a33:  return((char)0x86f8); 
+			case 0x232a34:  return((char)0x8706); 
+			case 0x232a36:  return((char)0x870e); 
+			case 0x232a38:  return((char)0x8709); 
+			case 0x232a3a:  return((char)0x870a); 
+			case 0x232a3e:  return((char)0x870d); 
+			case 0x232a42:  return((char)0x874a); 
+			case 0x232a43:  return((char)0x8723); 
+			case 0x232a44:  return((char)0x8737); 
+			case 0x232a45:  return((char)0x8728); 
+			case 0x232a49:  return((char)0x8740); 
+			case 0x232a4b:  return((char)0x872e); 
+			case 0x232a4c:  return((char)0x873d); 
+			case 0x232a4e:  return((char)0x871e); 
+			case 0x232a53:  return((char)0x8743); 
+			case 0x232a55:  return((char)0x8744); 
+			case 0x232a57:  return((char)0x873e); 
+			case 0x232a59:  return((char)0x8729); 
+			case 0x232a5a:  return((char)0x8739); 
+			case 0x232a5f:  return((char)0x871a); 
+			case 0x232a64:  return((char)0x8731); 
+			case 0x232a65:  return((char)0x8711); 
+			case 0x232a66:  return((char)0x8712); 
+			case 0x232a6b:  return((char)0x874f); 
+			case 0x232a6c:  return((char)0x8771); 
+			case 0x232a6d:  return((char)0x8763); 
+			case 0x232a71:  return((char)0x8764); 
+			case 0x232a73:  return((char)0x8765); 
+			case 0x232a74:  return((char)0x877d); 
+			case 0x232a79:  return((char)0x8758); 
+			case 0x232a7b:  return((char)0x877b); 
+			case 0x232b21:  return((char)0x8761); 
+			case 0x232b24:  return((char)0x876a); 
+			case 0x232b27:  return((char)0x874e); 
+			case 0x232b28:  return((char)0x875f); 
+			case 0x232b2d:  return((char)0x876f); 
+			case 0x232b2e:  return((char)0x875d); 
+			case 0x232b30:  return((char)0x876e); 
+			case 0x232b33:  return((char)0x874d); 
+			case 0x232b35:  return((char)0x8753); 
+			case 0x232b3a:  return((char)0x87a3); 
+			case 0x232b3d:  return((char)0x8793); 
+			case 0x232b45:  return((char)0x8799); 
+			case 0x232b48:  return((char)0x8788); 
+			case 0x232b4c:  return((char)0x8798); 
+			case 0x232b53:  return((char)0x8785); 
+			case 0x232b54:  return((char)0x878b); 
+			case 0x232b55:  return((char)0x8784); 
+			case 0x232b58:  return((char)0x87a9); 
+			case 0x232b5d:  return((char)0x8789); 
+			case 0x232b60:  return((char)0x87ad); 
+			case 0x232b66:  return((char)0x87be); 
+			case 0x232b6e:  return((char)0x87c4); 
+			case 0x232b6f:  return((char)0x87af); 
+			case 0x232b72:  return((char)0x87ac); 
+			case 0x232b78:  return((char)0x87ae); 
+			case 0x232b7e:  return((char)0x87bf); 
+			case 0x232c24:  return((char)0x87bd); 
+			case 0x232c2c:  return((char)0x87ee); 
+			case 0x232c30:  return((char)0x87f3); 
+			case 0x232c31:  return((char)0x87f0); 
+			case 0x232c34:  return((char)0x87ea); 
+			case 0x232c36:  return((char)0x87db); 
+			case 0x232c37:  return((char)0x87e2); 
+			case 0x232c39:  return((char)0x87eb); 
+			case 0x232c3a:  return((char)0x87d6); 
+			case 0x232c3f:  return((char)0x87f5); 
+			case 0x232c47:  return((char)0x87e0); 
+			case 0x232c48:  return((char)0x87d3); 
+			case 0x232c49:  return((char)0x87dc); 
+			case 0x232c4c:  return((char)0x87e3); 
+			case 0x232c4d:  return((char)0x8801); 
+			case 0x232c4f:  return((char)0x8803); 
+			case 0x232c50:  return((char)0x880a); 
+			case 0x232c55:  return((char)0x87f6); 
+			case 0x232c57:  return((char)0x87f7); 
+			case 0x232c5c:  return((char)0x880b); 
+			case 0x232c5d:  return((char)0x8806); 
+			case 0x232c5f:  return((char)0x87fe); 
+			case 0x232c61:  return((char)0x8810); 
+			case 0x232c63:  return((char)0x8819); 
+			case 0x232c64:  return((char)0x8811); 
+			case 0x232c66:  return((char)0x8818); 
+			case 0x232c6a:  return((char)0x8813); 
+			case 0x232c6b:  return((char)0x8816); 
+			case 0x232c72:  return((char)0x8834); 
+			case 0x232c73:  return((char)0x881c); 
+			case 0x232c7a:  return((char)0x881b); 
+			case 0x232d23:  return((char)0x8828); 
+			case 0x232d2a:  return((char)0x8832); 
+			case 0x232d2e:  return((char)0x882e); 
+			case 0x232d32:  return((char)0x882d); 
+			case 0x232d3c:  return((char)0x883c); 
+			case 0x232d41:  return((char)0x8841); 
+			case 0x232d42:  return((char)0x4610); 
+			case 0x232d44:  return((char)0x8844); 
+			case 0x232d4b:  return((char)0x8847); 
+			case 0x232d51:  return((char)0x884a); 
+			case 0x232d53:  return((char)0x884e); 
+			case 0x232d56:  return((char)0x8852); 
+			case 0x232d57:  return((char)0x8850); 
+			case 0x232d59:  return((char)0x8856); 
+			case 0x232d5a:  return((char)0x8855); 
+			case 0x232d5e:  return((char)0x885c); 
+			case 0x232d5f:  return((char)0x885a); 
+			case 0x232d69:  return((char)0x8869); 
+			case 0x232d6d:  return((char)0x886d); 
+			case 0x232d6e:  return((char)0x887a); 
+			case 0x232d71:  return((char)0x8875); 
+			case 0x232d75:  return((char)0x8872); 
+			case 0x232d79:  return((char)0x887d); 
+			case 0x232d7c:  return((char)0x8879); 
+			case 0x232d7d:  return((char)0x887f); 
+			case 0x232d7e:  return((char)0x887e); 
+			case 0x232e28:  return((char)0x88a2); 
+			case 0x232e2a:  return((char)0x88a4); 
+			case 0x232e2f:  return((char)0x88aa); 
+			case 0x232e34:  return((char)0x889a); 
+			case 0x232e3a:  return((char)0x8890); 
+			case 0x232e3b:  return((char)0x888c); 
+			case 0x232e3d:  return((char)0x88a0); 
+			case 0x232e40:  return((char)0x8899); 
+			case 0x232e45:  return((char)0x8897); 
+			case 0x232e48:  return((char)0x88c9); 
+			case 0x232e49:  return((char)0x88bf); 
+			case 0x232e4a:  return((char)0x88ba); 
+			case 0x232e4f:  return((char)0x88c0); 
+			case 0x232e51:  return((char)0x88b2); 
+			case 0x232e54:  return((char)0x88bc); 
+			case 0x232e57:  return((char)0x88b7); 
+			case 0x232e59:  return((char)0x88bd); 
+			case 0x232e5a:  return((char)0x88c4); 
+			case 0x232e5e:  return((char)0x88cb); 
+			case 0x232e60:  return((char)0x88cc); 
+			case 0x232e62:  return((char)0x88db); 
+			case 0x232e64:  return((char)0x88ce); 
+			case 0x232e68:  return((char)0x88d2); 
+			case 0x232e71:  return((char)0x88f1); 
+			case 0x232e72:  return((char)0x88fe); 
+			case 0x232e75:  return((char)0x88f2); 
+			case 0x232e78:  return((char)0x8900); 
+			case 0x232e7a:  return((char)0x88f0); 
+			case 0x232f21:  return((char)0x88fc); 
+			case 0x232f23:  return((char)0x88ef); 
+			case 0x232f24:  return((char)0x8903); 
+			case 0x232f2d:  return((char)0x8909); 
+			case 0x232f2f:  return((char)0x8918); 
+			case 0x232f35:  return((char)0x8906); 
+			case 0x232f36:  return((char)0x890c); 
+			case 0x232f37:  return((char)0x8919); 
+			case 0x232f3d:  return((char)0x890a); 
+			case 0x232f43:  return((char)0x8915); 
+			case 0x232f45:  return((char)0x892f); 
+			case 0x232f47:  return((char)0x8930); 
+			case 0x232f4e:  return((char)0x8921); 
+			case 0x232f4f:  return((char)0x8927); 
+			case 0x232f51:  return((char)0x891f); 
+			case 0x232f53:  return((char)0x8931); 
+			case 0x232f54:  return((char)0x891e); 
+			case 0x232f56:  return((char)0x8926); 
+			case 0x232f57:  return((char)0x8922); 
+			case 0x232f5a:  return((char)0x8935); 
+			case 0x232f5d:  return((char)0x8941); 
+			case 0x232f60:  return((char)0x8933); 
+			case 0x232f66:  return((char)0x8954); 
+			case 0x232f6f:  return((char)0x894f); 
+			case 0x232f72:  return((char)0x8947); 
+			case 0x232f7a:  return((char)0x894c); 
+			case 0x232f7b:  return((char)0x8946); 
+			case 0x233021:  return((char)0x894d); 
+			case 0x233023:  return((char)0x8962); 
+			case 0x233024:  return((char)0x895a); 
+			case 0x233025:  return((char)0x895e); 
+			case 0x233029:  return((char)0x895b); 
+			case 0x23302c:  return((char)0x895c); 
+			case 0x23302d:  return((char)0x895d); 
+			case 0x233031:  return((char)0x8966); 
+			case 0x233037:  return((char)0x896d); 
+			case 0x23303a:  return((char)0x896b); 
+			case 0x23303b:  return((char)0x896e); 
+			case 0x23303c:  return((char)0x896c); 
+			case 0x233041:  return((char)0x8976); 
+			case 0x233042:  return((char)0x8974); 
+			case 0x233049:  return((char)0x897b); 
+			case 0x23304a:  return((char)0x897c); 
+			case 0x233053:  return((char)0x8984); 
+			case 0x233055:  return((char)0x8985); 
+			case 0x233062:  return((char)0x8991); 
+			case 0x233064:  return((char)0x8997); 
+			case 0x233066:  return((char)0x8998); 
+			case 0x23306b:  return((char)0x899c); 
+			case 0x23306f:  return((char)0x89a1); 
+			case 0x233076:  return((char)0x89a5); 
+			case 0x233079:  return((char)0x89a9); 
+			case 0x23307d:  return((char)0x89af); 
+			case 0x23312a:  return((char)0x89b8); 
+			case 0x23312b:  return((char)0x89b7); 
+			case 0x23312c:  return((char)0x89b6); 
+			case 0x23312f:  return((char)0x89bc); 
+			case 0x233132:  return((char)0x89bf); 
+			case 0x23313a:  return((char)0x89d6); 
+			case 0x23313b:  return((char)0x89d5); 
+			case 0x23313f:  return((char)0x89da); 
+			case 0x233143:  return((char)0x89e5); 
+			case 0x233145:  return((char)0x89dc); 
+			case 0x233147:  return((char)0x89e1); 
+			case 0x23314c:  return((char)0x89e9); 
+			case 0x23314d:  return((char)0x89eb); 
+			case 0x233153:  return((char)0x89ed); 
+			case 0x233158:  return((char)0x89f1); 
+			case 0x23315c:  return((char)0x89f3); 
+			case 0x23315e:  return((char)0x89f5); 
+			case 0x233160:  return((char)0x89f6); 
+			case 0x233164:  return((char)0x89f7); 
+			case 0x23316b:  return((char)0x89ff); 
+			case 0x23316c:  return((char)0x8a06); 
+			case 0x23316d:  return((char)0x8a07); 
+			case 0x23316e:  return((char)0x8a04); 
+			case 0x233170:  return((char)0x8a0f); 
+			case 0x233171:  return((char)0x8a11); 
+			case 0x233172:  return((char)0x8a12); 
+			case 0x233173:  return((char)0x8a0d); 
+			case 0x23317a:  return((char)0x8a27); 
+			case 0x23317d:  return((char)0x8a29); 
+			case 0x233225:  return((char)0x8a22); 
+			case 0x233227:  return((char)0x8a51); 
+			case 0x233228:  return((char)0x8a4a); 
+			case 0x23322a:  return((char)0x8a4e); 
+			case 0x233230:  return((char)0x8a56); 
+			case 0x233237:  return((char)0x8a57); 
+			case 0x233239:  return((char)0x8a48); 
+			case 0x23323b:  return((char)0x8a58); 
+			case 0x23323c:  return((char)0x8a52); 
+			case 0x233240:  return((char)0x8a3d); 
+			case 0x233242:  return((char)0x8a45); 
+			case 0x23324f:  return((char)0x8a7f); 
+			case 0x233250:  return((char)0x8a86); 
+			case 0x233256:  return((char)0x8a61); 
+			case 0x233258:  return((char)0x8a3e); 
+			case 0x233259:  return((char)0x8a82); 
+			case 0x23325d:  return((char)0x8a84); 
+			case 0x23325e:  return((char)0x8a75); 
+			case 0x233269:  return((char)0x8a8f); 
+			case 0x23326f:  return((char)0x8a96); 
+			case 0x233271:  return((char)0x8a9a); 
+			case 0x23327e:  return((char)0x8ab6); 
+			case 0x233321:  return((char)0x8abe); 
+			case 0x233325:  return((char)0x8acf); 
+			case 0x233327:  return((char)0x8ac6); 
+			case 0x23332c:  return((char)0x8ad1); 
+			case 0x23332d:  return((char)0x8ad3); 
+			case 0x233331:  return((char)0x8aaf); 
+			case 0x233333:  return((char)0x8ad4); 
+			case 0x233336:  return((char)0x8acd); 
+			case 0x233338:  return((char)0x8ab9); 
+			case 0x23333b:  return((char)0x8adb); 
+			case 0x23333f:  return((char)0x8ad0); 
+			case 0x233340:  return((char)0x8ad7); 
+			case 0x233344:  return((char)0x8af3); 
+			case 0x233345:  return((char)0x8ae2); 
+			case 0x233349:  return((char)0x8b4c); 
+			case 0x23334c:  return((char)0x8add); 
+			case 0x23334e:  return((char)0x8af6); 
+			case 0x23334f:  return((char)0x8af4); 
+			case 0x233350:  return((char)0x8af5); 
+			case 0x233353:  return((char)0x8adf); 
+			case 0x233356:  return((char)0x8b03); 
+			case 0x233357:  return((char)0x8ae4); 
+			case 0x233359:  return((char)0x8b14); 
+			case 0x23335d:  return((char)0x8afc); 
+			case 0x233362:  return((char)0x8ade); 
+			case 0x233363:  return((char)0x8ae1); 
+			case 0x233364:  return((char)0x8b07); 
+			case 0x23336b:  return((char)0x8b0c); 
+			case 0x23336f:  return((char)0x8b1c); 
+			case 0x233373:  return((char)0x8b16); 
+			case 0x233376:  return((char)0x8b1f); 
+			case 0x233378:  return((char)0x8b0b); 
+			case 0x233379:  return((char)0x8b06); 
+			case 0x23337a:  return((char)0x8b05); 
+			case 0x23337c:  return((char)0x8b0f); 
+			case 0x23337d:  return((char)0x8b10); 
+			case 0x233422:  return((char)0x8b2b); 
+			case 0x23342a:  return((char)0x8b37); 
+			case 0x23342d:  return((char)0x8b26); 
+			case 0x233430:  return((char)0x8b33); 
+			case 0x233438:  return((char)0x8b3e); 
+			case 0x23343a:  return((char)0x8b29); 
+			case 0x233442:  return((char)0x8b48); 
+			case 0x233444:  return((char)0x8b54); 
+			case 0x233448:  return((char)0x8b53); 
+			case 0x233449:  return((char)0x8b4a); 
+			case 0x23344a:  return((char)0x8b46); 
+			case 0x23344d:  return((char)0x8b56); 
+			case 0x23344f:  return((char)0x8b3f); 
+			case 0x233459:  return((char)0x8b59); 
+			case 0x23345f:  return((char)0x8b4d); 
+			case 0x233468:  return((char)0x8b6b); 
+			case 0x23346b:  return((char)0x8b6d); 
+			case 0x233470:  return((char)0x8b78); 
+			case 0x233473:  return((char)0x8b45); 
+			case 0x233478:  return((char)0x8b85); 
+			case 0x233479:  return((char)0x8b81); 
+			case 0x23347b:  return((char)0x8b7e); 
+			case 0x233523:  return((char)0x8b8b); 
+			case 0x233526:  return((char)0x8b87); 
+			case 0x23352d:  return((char)0x8b95); 
+			case 0x23352e:  return((char)0x8b94); 
+			case 0x233537:  return((char)0x8b9c); 
+			case 0x23353a:  return((char)0x8b9f); 
+			case 0x23353d:  return((char)0x8c3a); 
+			case 0x233544:  return((char)0x8c40); 
+			case 0x233545:  return((char)0x8c42); 
+			case 0x23354b:  return((char)0x8c47); 
+			case 0x23354d:  return((char)0x8c4b); 
+			case 0x233550:  return((char)0x8c4f); 
+			case 0x233552:  return((char)0x8c55); 
+			case 0x233554:  return((char)0x8c57); 
+			case 0x233555:  return((char)0x8c5c); 
+			case 0x233556:  return((char)0x8c5d); 
+			case 0x23355c:  return((char)0x86c3); 
+			case 0x233563:  return((char)0x8c68); 
+			case 0x233565:  return((char)0x8c6d); 
+			case 0x23356d:  return((char)0x8c73); 
+			case 0x23356f:  return((char)0x8c74); 
+			case 0x233571:  return((char)0x8c75); 
+			case 0x233573:  return((char)0x8c77); 
+			case 0x233574:  return((char)0x8c76); 
+			case 0x23357b:  return((char)0x8c78); 
+			case 0x23357d:  return((char)0x8c7b); 
+			case 0x23362a:  return((char)0x8c86); 
+			case 0x23362d:  return((char)0x8c85); 
+			case 0x23362e:  return((char)0x8c88); 
+			case 0x233639:  return((char)0x8c94); 
+			case 0x233641:  return((char)0x8c9b); 
+			case 0x233643:  return((char)0x8c9f); 
+			case 0x233644:  return((char)0x8ca4); 
+			case 0x23364e:  return((char)0x8cb0); 
+			case 0x233651:  return((char)0x8cba); 
+			case 0x233652:  return((char)0x8cb5); 
+			case 0x233653:  return((char)0x8cb9); 
+			case 0x233657:  return((char)0x8ccd); 
+			case 0x23365e:  return((char)0x8cd8); 
+			case 0x23365f:  return((char)0x8cd5); 
+			case 0x233667:  return((char)0x8ce8); 
+			case 0x233668:  return((char)0x8ce9); 
+			case 0x23366a:  return((char)0x8ce1); 
+			case 0x23366f:  return((char)0x8ceb); 
+			case 0x233670:  return((char)0x8cda); 
+			case 0x233672:  return((char)0x8cdd); 
+			case 0x233674:  return((char)0x8cd9); 
+			case 0x233676:  return((char)0x8cee); 
+			case 0x23367b:  return((char)0x8cf1); 
+			case 0x23367c:  return((char)0x8cf5); 
+			case 0x23367e:  return((char)0x8cfb); 
+			case 0x233721:  return((char)0x8cf7); 
+			case 0x233725:  return((char)0x8d04); 
+			case 0x233726:  return((char)0x8cfe); 
+			case 0x23372b:  return((char)0x8d07); 
+			case 0x23372d:  return((char)0x8d09); 
+			case 0x233732:  return((char)0x8d0c); 
+			case 0x233739:  return((char)0x8d11); 
+			case 0x23373a:  return((char)0x8d10); 
+			case 0x23373b:  return((char)0x8d12); 
+			case 0x23373d:  return((char)0x8d14); 
+			case 0x23373e:  return((char)0x8d18); 
+			case 0x233748:  return((char)0x8d6c); 
+			case 0x233752:  return((char)0x8d78); 
+			case 0x23375c:  return((char)0x8d7a); 
+			case 0x233761:  return((char)0x8d84); 
+			case 0x233771:  return((char)0x8d94); 
+			case 0x233775:  return((char)0x8d8d); 
+			case 0x233822:  return((char)0x8d96); 
+			case 0x23382f:  return((char)0x8da1); 
+			case 0x233833:  return((char)0x8da6); 
+			case 0x233852:  return((char)0x8dab); 
+			case 0x233859:  return((char)0x8daf); 
+			case 0x23385a:  return((char)0x8db0); 
+			case 0x233866:  return((char)0x8db2); 
+			case 0x23386e:  return((char)0x8dbc); 
+			case 0x23386f:  return((char)0x8dba); 
+			case 0x233870:  return((char)0x8db9); 
+			case 0x233871:  return((char)0x8dc2); 
+			case 0x233872:  return((char)0x8dc1); 
+			case 0x233873:  return((char)0x8dbf); 
+			case 0x233921:  return((char)0x8dcf); 
+			case 0x233922:  return((char)0x8dd6); 
+			case 0x233927:  return((char)0x8dd0); 
+			case 0x23392b:  return((char)0x8dc5); 
+			case 0x23392f:  return((char)0x8de4); 
+			case 0x233934:  return((char)0x8dec); 
+			case 0x233935:  return((char)0x8deb); 
+			case 0x233936:  return((char)0x8df4); 
+			case 0x233938:  return((char)0x8de9); 
+			case 0x23393a:  return((char)0x8de6); 
+			case 0x23393b:  return((char)0x8de3); 
+			case 0x23393d:  return((char)0x8de7); 
+			case 0x23393e:  return((char)0x8df2); 
+			case 0x23393f:  return((char)0x8e09); 
+			case 0x233941:  return((char)0x8dfd); 
+			case 0x233944:  return((char)0x8dff); 
+			case 0x233946:  return((char)0x8e05); 
+			case 0x233949:  return((char)0x8e01); 
+			case 0x23394e:  return((char)0x8e04); 
+			case 0x233950:  return((char)0x8e06); 
+			case 0x233952:  return((char)0x8e2a); 
+			case 0x233954:  return((char)0x8e23); 
+			case 0x233957:  return((char)0x8e2e); 
+			case 0x233958:  return((char)0x8e21); 
+			case 0x23395c:  return((char)0x8e1e); 
+			case 0x233964:  return((char)0x8e16); 
+			case 0x233966:  return((char)0x8e26); 
+			case 0x233967:  return((char)0x8e27); 
+			case 0x233968:  return((char)0x8e14); 
+			case 0x233969:  return((char)0x8e18); 
+			case 0x23396f:  return((char)0x8e41); 
+			case 0x233977:  return((char)0x8e40); 
+			case 0x233979:  return((char)0x8e36); 
+			case 0x23397e:  return((char)0x8e3d); 
+			case 0x233a21:  return((char)0x8e30); 
+			case 0x233a24:  return((char)0x8e47); 
+			case 0x233a26:  return((char)0x8e46); 
+			case 0x233a2e:  return((char)0x8e4c); 
+			case 0x233a30:  return((char)0x8e50); 
+			case 0x233a32:  return((char)0x8e4f); 
+			case 0x233a34:  return((char)0x8e5c); 
+			case 0x233a35:  return((char)0x8e62); 
+			case 0x233a36:  return((char)0x8e60); 
+			case 0x233a3a:  return((char)0x8e54); 
+			case 0x233a3b:  return((char)0x8e67); 
+			case 0x233a3e:  return((char)0x8e5a); 
+			case 0x233a3f:  return((char)0x8e5e); 
+			case 0x233a40:  return((char)0x8e55); 
+			case 0x233a41:  return((char)0x8e61); 
+			case 0x233a43:  return((char)0x8e5d); 
+			case 0x233a44:  return((char)0x8e75); 
+			case 0x233a45:  return((char)0x8e74); 
+			case 0x233a46:  return((char)0x8e95); 
+			case 0x233a48:  return((char)0x8e6d); 
+			case 0x233a4b:  return((char)0x8e69); 
+			case 0x233a52:  return((char)0x8e83); 
+			case 0x233a53:  return((char)0x8e84); 
+			case 0x233a57:  return((char)0x8e8b); 
+			case 0x233a5d:  return((char)0x8e94); 
+			case 0x233a5e:  return((char)0x8e9a); 
+			case 0x233a5f:  return((char)0x8e92); 
+			case 0x233a60:  return((char)0x8e93); 
+			case 0x233a62:  return((char)0x8e90); 
+			case 0x233a63:  return((char)0x8e98); 
+			case 0x233a64:  return((char)0x8e9e); 
+			case 0x233a6b:  return((char)0x8ea5); 
+			case 0x233a6f:  return((char)0x8ea7); 
+			case 0x233a71:  return((char)0x8ea9); 
+			case 0x233a72:  return((char)0x8e99); 
+			case 0x233a78:  return((char)0x8eb3); 
+			case 0x233a7a:  return((char)0x8ebc); 
+			case 0x233a7d:  return((char)0x8eb6); 
+			case 0x233b2e:  return((char)0x8ec9); 
+			case 0x233b2f:  return((char)0x8ecf); 
+			case 0x233b31:  return((char)0x8ece); 
+			case 0x233b33:  return((char)0x8ed5); 
+			case 0x233b3f:  return((char)0x8efa); 
+			case 0x233b42:  return((char)0x8ef9); 
+			case 0x233b4b:  return((char)0x8ee8); 
+			case 0x233b4f:  return((char)0x8eeb); 
+			case 0x233b51:  return((char)0x8eff); 
+			case 0x233b56:  return((char)0x8f00); 
+			case 0x233b59:  return((char)0x8f05); 
+			case 0x233b5a:  return((char)0x8f08); 
+			case 0x233b5b:  return((char)0x8f07); 
+			case 0x233b63:  return((char)0x8f27); 
+			case 0x233b64:  return((char)0x8f2c); 
+			case 0x233b6b:  return((char)0x8f1e); 
+			case 0x233b6d:  return((char)0x8f25); 
+			case 0x233b6e:  return((char)0x8f20); 
+			case 0x233b75:  return((char)0x8f17); 
+			case 0x233b78:  return((char)0x8f36); 
+			case 0x233b79:  return((char)0x8f2e); 
+			case 0x233b7a:  return((char)0x8f33); 
+			case 0x233b7d:  return((char)0x8f2d); 
+			case 0x233c26:  return((char)0x8f39); 
+			case 0x233c27:  return((char)0x8f34); 
+			case 0x233c2d:  return((char)0x8f40); 
+			case 0x233c30:  return((char)0x8f46); 
+			case 0x233c31:  return((char)0x8f4a); 
+			case 0x233c33:  return((char)0x8f47); 
+			case 0x233c3d:  return((char)0x8f52); 
+			case 0x233c48:  return((char)0x8f56); 
+			case 0x233c49:  return((char)0x8f57); 
+			case 0x233c4b:  return((char)0x8f55); 
+			case 0x233c4c:  return((char)0x8f58); 
+			case 0x233c4d:  return((char)0x8f5c); 
+			case 0x233c4e:  return((char)0x8f5e); 
+			case 0x233c53:  return((char)0x8f5d); 
+			case 0x233c57:  return((char)0x8f62); 
+			case 0x233c59:  return((char)0x8f63); 
+			case 0x233c5a:  return((char)0x8f64); 
+			case 0x233c65:  return((char)0x8fa4); 
+			case 0x233c66:  return((char)0x8fa5); 
+			case 0x233c6c:  return((char)0x8fb5); 
+			case 0x233c6d:  return((char)0x8fb7); 
+			case 0x233c6e:  return((char)0x8fbb); 
+			case 0x233c70:  return((char)0x8fbc); 
+			case 0x233c74:  return((char)0x8fbf); 
+			case 0x233c75:  return((char)0x8fd2); 
+			case 0x233c77:  return((char)0x8fcb); 
+			case 0x233c7a:  return((char)0x8fca); 
+			case 0x233c7b:  return((char)0x8fd3); 
+			case 0x233c7d:  return((char)0x8fcd); 
+			case 0x233d21:  return((char)0x8fda); 
+			case 0x233d22:  return((char)0x8fd5); 
+			case 0x233d2f:  return((char)0x8fe4); 
+			case 0x233d30:  return((char)0x8fee); 
+			case 0x233d35:  return((char)0x8ff9); 
+			case 0x233d3c:  return((char)0x8ffb); 
+			case 0x233d3f:  return((char)0x9004); 
+			case 0x233d40:  return((char)0x9008); 
+			case 0x233d44:  return((char)0x9011); 
+			case 0x233d45:  return((char)0x900b); 
+			case 0x233d48:  return((char)0x900c); 
+			case 0x233d49:  return((char)0x9021); 
+			case 0x233d4a:  return((char)0x902d); 
+			case 0x233d4e:  return((char)0x902c); 
+			case 0x233d56:  return((char)0x9037); 
+			case 0x233d57:  return((char)0x9034); 
+			case 0x233d58:  return((char)0x902f); 
+			case 0x233d59:  return((char)0x9036); 
+			case 0x233d5b:  return((char)0x9046); 
+			case 0x233d5d:  return((char)0x9052); 
+			case 0x233d67:  return((char)0x9049); 
+			case 0x233d6a:  return((char)0x9044); 
+			case 0x233d74:  return((char)0x9062); 
+			case 0x233d75:  return((char)0x905d); 
+			case 0x233d78:  return((char)0x905b); 
+			case 0x233d7b:  return((char)0x906b); 
+			case 0x233e21:  return((char)0x9070); 
+			case 0x233e25:  return((char)0x906f); 
+			case 0x233e26:  return((char)0x9079); 
+			case 0x233e28:  return((char)0x9076); 
+			case 0x233e2a:  return((char)0x907b); 
+			case 0x233e2c:  return((char)0x9085); 
+			case 0x233e34:  return((char)0x9083); 
+			case 0x233e37:  return((char)0x9088); 
+			case 0x233e3a:  return((char)0x908b); 
+			case 0x233e3f:  return((char)0x9099); 
+			case 0x233e40:  return((char)0x9097); 
+			case 0x233e43:  return((char)0x909b); 
+			case 0x233e44:  return((char)0x909c); 
+			case 0x233e48:  return((char)0x90a1); 
+			case 0x233e51:  return((char)0x90a8); 
+			case 0x233e54:  return((char)0x90a0); 
+			case 0x233e58:  return((char)0x90af); 
+			case 0x233e59:  return((char)0x90b3); 
+			case 0x233e5b:  return((char)0x90b6); 
+			case 0x233e5d:  return((char)0x90b0); 
+			case 0x233e5f:  return((char)0x90ad); 
+			case 0x233e61:  return((char)0x90b2); 
+			case 0x233e68:  return((char)0x90c9); 
+			case 0x233e6a:  return((char)0x90bd); 
+			case 0x233e6f:  return((char)0x90d5); 
+			case 0x233e72:  return((char)0x90be); 
+			case 0x233e75:  return((char)0x90c7); 
+			case 0x233e78:  return((char)0x90c8); 
+			case 0x233e79:  return((char)0x90c3); 
+			case 0x233f22:  return((char)0x90dd); 
+			case 0x233f23:  return((char)0x90df); 
+			case 0x233f26:  return((char)0x90e2); 
+			case 0x233f27:  return((char)0x90d8); 
+			case 0x233f28:  return((char)0x90db); 
+			case 0x233f2a:  return((char)0x90dc); 
+			case 0x233f2c:  return((char)0x90d7); 
+			case 0x233f2d:  return((char)0x90e4); 
+			case 0x233f2e:  return((char)0x90ef); 
+			case 0x233f2f:  return((char)0x90ea); 
+			case 0x233f32:  return((char)0x90f0); 
+			case 0x233f33:  return((char)0x90f4); 
+			case 0x233f34:  return((char)0x90f2); 
+			case 0x233f3e:  return((char)0x90eb); 
+			case 0x233f3f:  return((char)0x90f3); 
+			case 0x233f46:  return((char)0x90fc); 
+			case 0x233f47:  return((char)0x90fe); 
+			case 0x233f49:  return((char)0x9104); 
+			case 0x233f4a:  return((char)0x90ff); 
+			case 0x233f4c:  return((char)0x9106); 
+			case 0x233f4e:  return((char)0x9100); 
+			case 0x233f50:  return((char)0x9107); 
+			case 0x233f57:  return((char)0x910f); 
+			case 0x233f58:  return((char)0x9111); 
+			case 0x233f5a:  return((char)0x9116); 
+			case 0x233f5c:  return((char)0x9114); 
+			case 0x233f60:  return((char)0x910b); 
+			case 0x233f62:  return((char)0x9123); 
+			case 0x233f63:  return((char)0x9118); 
+			case 0x233f64:  return((char)0x911c); 
+			case 0x233f66:  return((char)0x9120); 
+			case 0x233f67:  return((char)0x9122); 
+			case 0x233f6a:  return((char)0x911e); 
+			case 0x233f71:  return((char)0x9124); 
+			case 0x233f72:  return((char)0x911a); 
+			case 0x233f74:  return((char)0x9125); 
+			case 0x233f77:  return((char)0x912f); 
+			case 0x233f79:  return((char)0x912b); 
+			case 0x234021:  return((char)0x9132); 
+			case 0x234024:  return((char)0x9126); 
+			case 0x23402b:  return((char)0x9134); 
+			case 0x23402c:  return((char)0x9136); 
+			case 0x234031:  return((char)0x913a); 
+			case 0x234032:  return((char)0x913b); 
+			case 0x23403b:  return((char)0x9143); 
+			case 0x23403e:  return((char)0x9146); 
+			case 0x23403f:  return((char)0x9145); 
+			case 0x234040:  return((char)0x9148); 
+			case 0x234041:  return((char)0x9147); 
+			case 0x234042:  return((char)0x9150); 
+			case 0x234043:  return((char)0x914e); 
+			case 0x234048:  return((char)0x9159); 
+			case 0x234049:  return((char)0x915c); 
+			case 0x23404d:  return((char)0x9156); 
+			case 0x234050:  return((char)0x9158); 
+			case 0x234052:  return((char)0x915a); 
+			case 0x234053:  return((char)0x9161); 
+			case 0x234056:  return((char)0x9164); 
+			case 0x234061:  return((char)0x916f); 
+			case 0x234062:  return((char)0x916e); 
+			case 0x234066:  return((char)0x917a); 
+			case 0x234068:  return((char)0x9172); 
+			case 0x234069:  return((char)0x9179); 
+			case 0x23406a:  return((char)0x9176); 
+			case 0x23406b:  return((char)0x9174); 
+			case 0x23406c:  return((char)0x9173); 
+			case 0x23406d:  return((char)0x9185); 
+			case 0x23406f:  return((char)0x9182); 
+			case 0x234070:  return((char)0x918a); 
+			case 0x234071:  return((char)0x9186); 
+			case 0x234072:  return((char)0x918c); 
+			case 0x234073:  return((char)0x9181); 
+			case 0x23407b:  return((char)0x9191); 
+			case 0x23407d:  return((char)0x9190); 
+			case 0x23407e:  return((char)0x918e); 
+			case 0x234124:  return((char)0x918d); 
+			case 0x234125:  return((char)0x9193); 
+			case 0x23412b:  return((char)0x919d); 
+			case 0x23412c:  return((char)0x919a); 
+			case 0x234130:  return((char)0x91a2); 
+			case 0x234134:  return((char)0x919b); 
+			case 0x234137:  return((char)0x91a8); 
+			case 0x23413d:  return((char)0x91aa); 
+			case 0x234141:  return((char)0x91af); 
+			case 0x234142:  return((char)0x91b1); 
+			case 0x234147:  return((char)0x91ad); 
+			case 0x234148:  return((char)0x91ae); 
+			case 0x23414b:  return((char)0x91b4); 
+			case 0x23414c:  return((char)0x91b2); 
+			case 0x23414d:  return((char)0x91b5); 
+			case 0x234156:  return((char)0x91bf); 
+			case 0x234157:  return((char)0x91bd); 
+			case 0x23415a:  return((char)0x91c2); 
+			case 0x23415b:  return((char)0x91c4); 
+			case 0x23415c:  return((char)0x91c3); 
+			case 0x234161:  return((char)0x91d4); 
+			case 0x234162:  return((char)0x91d3); 
+			case 0x234163:  return((char)0x91d5); 
+			case 0x234164:  return((char)0x91d9); 
+			case 0x234168:  return((char)0x91e2); 
+			case 0x234169:  return((char)0x91ed); 
+			case 0x23416a:  return((char)0x91f7); 
+			case 0x23416b:  return((char)0x91fa); 
+			case 0x23416f:  return((char)0x91f2); 
+			case 0x234171:  return((char)0x91e8); 
+			case 0x234172:  return((char)0x91f6); 
+			case 0x234173:  return((char)0x91ee); 
+			case 0x234174:  return((char)0x91f4); 
+			case 0x234177:  return((char)0x91f1); 
+			case 0x234179:  return((char)0x91e9); 
+			case 0x23417a:  return((char)0x91f8); 
+			case 0x234221:  return((char)0x91f9); 
+			case 0x234222:  return((char)0x91e4); 
+			case 0x234223:  return((char)0x9204); 
+			case 0x234225:  return((char)0x9201); 
+			case 0x234226:  return((char)0x922b); 
+			case 0x234227:  return((char)0x920a); 
+			case 0x234228:  return((char)0x9225); 
+			case 0x23422a:  return((char)0x9292); 
+			case 0x23422c:  return((char)0x9228); 
+			case 0x23422e:  return((char)0x9207); 
+			case 0x23422f:  return((char)0x9203); 
+			case 0x234231:  return((char)0x9200); 
+			case 0x234232:  return((char)0x9218); 
+			case 0x234233:  return((char)0x91fe); 
+			case 0x234236:  return((char)0x9208); 
+			case 0x234237:  return((char)0x9226); 
+			case 0x234238:  return((char)0x921c); 
+			case 0x23423b:  return((char)0x9224); 
+			case 0x234243:  return((char)0x9212); 
+			case 0x234248:  return((char)0x91ff); 
+			case 0x23424a:  return((char)0x9216); 
+			case 0x23424b:  return((char)0x9211); 
+			case 0x23424e:  return((char)0x9206); 
+			case 0x23424f:  return((char)0x92a2); 
+			case 0x234251:  return((char)0x9230); 
+			case 0x234252:  return((char)0x9249); 
+			case 0x234254:  return((char)0x924d); 
+			case 0x234255:  return((char)0x9248); 
+			case 0x234258:  return((char)0x923a); 
+			case 0x23425c:  return((char)0x922e); 
+			case 0x23425f:  return((char)0x9233); 
+			case 0x234261:  return((char)0x9266); 
+			case 0x234264:  return((char)0x925e); 
+			case 0x234268:  return((char)0x9235); 
+			case 0x23426b:  return((char)0x9250); 
+			case 0x23426c:  return((char)0x926b); 
+			case 0x23426d:  return((char)0x9239); 
+			case 0x23426f:  return((char)0x926d); 
+			case 0x234270:  return((char)0x926c); 
+			case 0x234271:  return((char)0x924f); 
+			case 0x234274:  return((char)0x923f); 
+			case 0x234277:  return((char)0x9260); 
+			case 0x23427e:  return((char)0x9236); 
+			case 0x234323:  return((char)0x924e); 
+			case 0x234326:  return((char)0x924c); 
+			case 0x234327:  return((char)0x9256); 
+			case 0x23432b:  return((char)0x925a); 
+			case 0x23432e:  return((char)0x9241); 
+			case 0x23432f:  return((char)0x9283); 
+			case 0x234331:  return((char)0x92a5); 
+			case 0x234333:  return((char)0x9282); 
+			case 0x234335:  return((char)0x92a8); 
+			case 0x234337:  return((char)0x927c); 
+			case 0x234338:  return((char)0x92a4); 
+			case 0x23433e:  return((char)0x9276); 
+			case 0x23433f:  return((char)0x928d); 
+			case 0x234340:  return((char)0x92ee); 
+			case 0x234342:  return((char)0x9288); 
+			case 0x234343:  return((char)0x927a); 
+			case 0x234345:  return((char)0x928e); 
+			case 0x234346:  return((char)0x92a0); 
+			case 0x234347:  return((char)0x9277); 
+			case 0x234349:  return((char)0x92aa); 
+			case 0x234350:  return((char)0x92a6); 
+			case 0x234354:  return((char)0x927e); 
+			case 0x234355:  return((char)0x929a); 
+			case 0x234358:  return((char)0x92ab); 
+			case 0x23435b:  return((char)0x9291); 
+			case 0x23435d:  return((char)0x929b); 
+			case 0x234362:  return((char)0x927f); 
+			case 0x234364:  return((char)0x92a3); 
+			case 0x234366:  return((char)0x92c8); 
+			case 0x23436a:  return((char)0x92c3); 
+			case 0x23436f:  return((char)0x92d0); 
+			case 0x234371:  return((char)0x92f1); 
+			case 0x234372:  return((char)0x92df); 
+			case 0x234375:  return((char)0x92e6); 
+			case 0x234376:  return((char)0x92b6); 
+			case 0x234377:  return((char)0x92c0); 
+			case 0x234379:  return((char)0x92be); 
+			case 0x23437a:  return((char)0x92d9); 
+			case 0x23437e:  return((char)0x92d5); 
+			case 0x234421:  return((char)0x92c6); 
+			case 0x234425:  return((char)0x92f4); 
+			case 0x234427:  return((char)0x92cf); 
+			case 0x23442a:  return((char)0x92b2); 
+			case 0x23442c:  return((char)0x92e7); 
+			case 0x23442d:  return((char)0x92c7); 
+			case 0x23442e:  return((char)0x92f0); 
+			case 0x23442f:  return((char)0x92db); 
+			case 0x234430:  return((char)0x92dc); 
+			case 0x234431:  return((char)0x92d8); 
+			case 0x234433:  return((char)0x92e9); 
+			case 0x234435:  return((char)0x92dd); 
+			case 0x234439:  return((char)0x92d1); 
+			case 0x23443a:  return((char)0x92ca); 
+			case 0x23443c:  return((char)0x92c2); 
+			case 0x23443e:  return((char)0x92cc); 
+			case 0x234440:  return((char)0x92ef); 
+			case 0x234441:  return((char)0x92e8); 
+			case 0x234443:  return((char)0x92eb); 
+			case 0x234445:  return((char)0x92f5); 
+			case 0x234448:  return((char)0x92f2); 
+			case 0x23444c:  return((char)0x9303); 
+			case 0x23444d:  return((char)0x9307); 
+			case 0x23444e:  return((char)0x931e); 
+			case 0x23444f:  return((char)0x9344); 
+			case 0x234453:  return((char)0x931d); 
+			case 0x234454:  return((char)0x92fa); 
+			case 0x234458:  return((char)0x931f); 
+			case 0x23445a:  return((char)0x9331); 
+			case 0x23445b:  return((char)0x9306); 
+			case 0x23445d:  return((char)0x92f9); 
+			case 0x23445f:  return((char)0x930f); 
+			case 0x234462:  return((char)0x9302); 
+			case 0x234464:  return((char)0x9324); 
+			case 0x234466:  return((char)0x9312); 
+			case 0x234469:  return((char)0x9338); 
+			case 0x23446a:  return((char)0x9323); 
+			case 0x23446c:  return((char)0x9321); 
+			case 0x234471:  return((char)0x9340); 
+			case 0x234472:  return((char)0x9301); 
+			case 0x234474:  return((char)0x9315); 
+			case 0x234476:  return((char)0x9329); 
+			case 0x234478:  return((char)0x932e); 
+			case 0x234479:  return((char)0x932a); 
+			case 0x23447b:  return((char)0x933f); 
+			case 0x23447c:  return((char)0x933a); 
+			case 0x23447e:  return((char)0x9335); 
+			case 0x234522:  return((char)0x9314); 
+			case 0x234528:  return((char)0x92fe); 
+			case 0x23452f:  return((char)0x9342); 
+			case 0x234531:  return((char)0x9341); 
+			case 0x234532:  return((char)0x9319); 
+			case 0x234535:  return((char)0x934c); 
+			case 0x234541:  return((char)0x9379); 
+			case 0x234544:  return((char)0x9386); 
+			case 0x234547:  return((char)0x936a); 
+			case 0x234548:  return((char)0x935c); 
+			case 0x23454c:  return((char)0x934f); 
+			case 0x23454d:  return((char)0x9347); 
+			case 0x234551:  return((char)0x937a); 
+			case 0x234553:  return((char)0x9356); 
+			case 0x234554:  return((char)0x9371); 
+			case 0x234556:  return((char)0x937c); 
+			case 0x23455c:  return((char)0x9377); 
+			case 0x23455d:  return((char)0x9349); 
+			case 0x23455e:  return((char)0x9358); 
+			case 0x23455f:  return((char)0x935a); 
+			case 0x234560:  return((char)0x93be); 
+			case 0x234562:  return((char)0x935f); 
+			case 0x234564:  return((char)0x9376); 
+			case 0x234566:  return((char)0x9355); 
+			case 0x234567:  return((char)0x9354); 
+			case 0x23456a:  return((char)0x9348); 
+			case 0x23456b:  return((char)0x9374); 
+			case 0x23456e:  return((char)0x9351); 
+			case 0x23456f:  return((char)0x9364); 
+			case 0x234571:  return((char)0x936b); 
+			case 0x234572:  return((char)0x936d); 
+			case 0x234573:  return((char)0x9360); 
+			case 0x234577:  return((char)0x936e); 
+			case 0x234579:  return((char)0x938f); 
+			case 0x23457a:  return((char)0x93ac); 
+			case 0x23457b:  return((char)0x9395); 
+			case 0x23457e:  return((char)0x938b); 
+			case 0x234621:  return((char)0x93b5); 
+			case 0x234622:  return((char)0x938c); 
+			case 0x234623:  return((char)0x9388); 
+			case 0x234625:  return((char)0x93b9); 
+			case 0x234627:  return((char)0x93a1); 
+			case 0x234628:  return((char)0x93b0); 
+			case 0x234629:  return((char)0x93a3); 
+			case 0x23462a:  return((char)0x93b7); 
+			case 0x23462b:  return((char)0x939b); 
+			case 0x23462d:  return((char)0x9398); 
+			case 0x23463c:  return((char)0x9389); 
+			case 0x23463d:  return((char)0x93a4); 
+			case 0x234640:  return((char)0x93bc); 
+			case 0x234642:  return((char)0x93a7); 
+			case 0x234644:  return((char)0x93bd); 
+			case 0x234647:  return((char)0x93a6); 
+			case 0x234648:  return((char)0x939a); 
+			case 0x23464a:  return((char)0x93aa); 
+			case 0x23464d:  return((char)0x939e); 
+			case 0x23464f:  return((char)0x9397); 
+			case 0x234651:  return((char)0x93bb); 
+			case 0x234653:  return((char)0x93f1); 
+			case 0x234656:  return((char)0x93de); 
+			case 0x234657:  return((char)0x93ee); 
+			case 0x23465a:  return((char)0x93c7); 
+			case 0x23465b:  return((char)0x93f2); 
+			case 0x23465d:  return((char)0x93d4); 
+			case 0x23465f:  return((char)0x93e5); 
+			case 0x234662:  return((char)0x93f9); 
+			case 0x234663:  return((char)0x93ca); 
+			case 0x234664:  return((char)0x93c4); 
+			case 0x234666:  return((char)0x93e8); 
+			case 0x234667:  return((char)0x93e7); 
+			case 0x234672:  return((char)0x93da); 
+			case 0x234673:  return((char)0x93d0); 
+			case 0x234674:  return((char)0x93ef); 
+			case 0x234675:  return((char)0x93db); 
+			case 0x23467c:  return((char)0x93cc); 
+			case 0x23472c:  return((char)0x93d3); 
+			case 0x23472f:  return((char)0x93a9); 
+			case 0x234730:  return((char)0x93e6); 
+			case 0x234732:  return((char)0x940b); 
+			case 0x234734:  return((char)0x9413); 
+			case 0x23473b:  return((char)0x940f); 
+			case 0x23473c:  return((char)0x9420); 
+			case 0x23473d:  return((char)0x93fb); 
+			case 0x234749:  return((char)0x93fa); 
+			case 0x23474d:  return((char)0x9419); 
+			case 0x23474e:  return((char)0x940d); 
+			case 0x234750:  return((char)0x9426); 
+			case 0x234751:  return((char)0x9427); 
+			case 0x234755:  return((char)0x9409); 
+			case 0x234758:  return((char)0x9414); 
+			case 0x234759:  return((char)0x9404); 
+			case 0x23475c:  return((char)0x9422); 
+			case 0x23475d:  return((char)0x9406); 
+			case 0x234760:  return((char)0x9410); 
+			case 0x234762:  return((char)0x9423); 
+			case 0x234767:  return((char)0x93f5); 
+			case 0x234769:  return((char)0x93f7); 
+			case 0x23476a:  return((char)0x9407); 
+			case 0x23476f:  return((char)0x940e); 
+			case 0x234771:  return((char)0x9411); 
+			case 0x234774:  return((char)0x943f); 
+			case 0x234779:  return((char)0x9429); 
+			case 0x23477c:  return((char)0x943d); 
+			case 0x234827:  return((char)0x93f4); 
+			case 0x234828:  return((char)0x9436); 
+			case 0x23482b:  return((char)0x943b); 
+			case 0x23482d:  return((char)0x9424); 
+			case 0x234830:  return((char)0x9437); 
+			case 0x234832:  return((char)0x9440); 
+			case 0x234835:  return((char)0x942b); 
+			case 0x234836:  return((char)0x942d); 
+			case 0x234837:  return((char)0x9441); 
+			case 0x234838:  return((char)0x9431); 
+			case 0x23483d:  return((char)0x9467); 
+			case 0x23483e:  return((char)0x944c); 
+			case 0x234840:  return((char)0x9445); 
+			case 0x234842:  return((char)0x9450); 
+			case 0x23484a:  return((char)0x944a); 
+			case 0x234853:  return((char)0x9466); 
+			case 0x234857:  return((char)0x9464); 
+			case 0x234858:  return((char)0x9462); 
+			case 0x23485c:  return((char)0x9465); 
+			case 0x23485d:  return((char)0x9455); 
+			case 0x23485e:  return((char)0x945e); 
+			case 0x234862:  return((char)0x946a); 
+			case 0x234868:  return((char)0x946b); 
+			case 0x234869:  return((char)0x946d); 
+			case 0x23486c:  return((char)0x946f); 
+			case 0x23486d:  return((char)0x9471); 
+			case 0x234871:  return((char)0x9477); 
+			case 0x23487b:  return((char)0x9482); 
+			case 0x23487c:  return((char)0x9481); 
+			case 0x23492e:  return((char)0x9585); 
+			case 0x234930:  return((char)0x9588); 
+			case 0x234931:  return((char)0x958c); 
+			case 0x234934:  return((char)0x9597); 
+			case 0x234936:  return((char)0x958e); 
+			case 0x234938:  return((char)0x959f); 
+			case 0x23493a:  return((char)0x95a0); 
+			case 0x234942:  return((char)0x95ac); 
+			case 0x234944:  return((char)0x95ab); 
+			case 0x234948:  return((char)0x95bc); 
+			case 0x234949:  return((char)0x95be); 
+			case 0x23494a:  return((char)0x95cd); 
+			case 0x23494d:  return((char)0x95b9); 
+			case 0x23494e:  return((char)0x95ba); 
+			case 0x23494f:  return((char)0x95b6); 
+			case 0x234950:  return((char)0x95bf); 
+			case 0x234952:  return((char)0x95bd); 
+			case 0x234959:  return((char)0x95c9); 
+			case 0x23495d:  return((char)0x95ce); 
+			case 0x234960:  return((char)0x95d5); 
+			case 0x234962:  return((char)0x95d2); 
+			case 0x234963:  return((char)0x95d3); 
+			case 0x234964:  return((char)0x95d1); 
+			case 0x234965:  return((char)0x95c3); 
+			case 0x234966:  return((char)0x95da); 
+			case 0x234969:  return((char)0x95de); 
+			case 0x23496a:  return((char)0x95e0); 
+			case 0x23496f:  return((char)0x95e5); 
+			case 0x234972:  return((char)0x95e4); 
+			case 0x234976:  return((char)0x95e7); 
+			case 0x23497a:  return((char)0x961e); 
+			case 0x23497b:  return((char)0x9624); 
+			case 0x23497c:  return((char)0x9622); 
+			case 0x234a21:  return((char)0x9627); 
+			case 0x234a2f:  return((char)0x9642); 
+			case 0x234a30:  return((char)0x963d); 
+			case 0x234a32:  return((char)0x963c); 
+			case 0x234a3c:  return((char)0x9651); 
+			case 0x234a42:  return((char)0x9660); 
+			case 0x234a44:  return((char)0x965c); 
+			case 0x234a46:  return((char)0x9658); 
+			case 0x234a4a:  return((char)0x965f); 
+			case 0x234a4b:  return((char)0x9656); 
+			case 0x234a51:  return((char)0x966c); 
+			case 0x234a5d:  return((char)0x967b); 
+			case 0x234a5e:  return((char)0x967f); 
+			case 0x234a62:  return((char)0x967e); 
+			case 0x234a63:  return((char)0x9684); 
+			case 0x234a65:  return((char)0x9688); 
+			case 0x234a6c:  return((char)0x9689); 
+			case 0x234a6d:  return((char)0x9682); 
+			case 0x234a6e:  return((char)0x9683); 
+			case 0x234a79:  return((char)0x9696); 
+			case 0x234a7a:  return((char)0x9697); 
+			case 0x234b2f:  return((char)0x96a4); 
+			case 0x234b35:  return((char)0x96a9); 
+			case 0x234b37:  return((char)0x96ae); 
+			case 0x234b3b:  return((char)0x96b0); 
+			case 0x234b3c:  return((char)0x96b2); 
+			case 0x234b3e:  return((char)0x96b3); 
+			case 0x234b48:  return((char)0x96b9); 
+			case 0x234b49:  return((char)0x96bc); 
+			case 0x234b52:  return((char)0x96ce); 
+			case 0x234b53:  return((char)0x96ca); 
+			case 0x234b57:  return((char)0x96d2); 
+			case 0x234b64:  return((char)0x96df); 
+			case 0x234b66:  return((char)0x96d8); 
+			case 0x234b67:  return((char)0x96dd); 
+			case 0x234b71:  return((char)0x96e9); 
+			case 0x234b74:  return((char)0x96f1); 
+			case 0x234b76:  return((char)0x96f0); 
+			case 0x234b77:  return((char)0x96f4); 
+			case 0x234b78:  return((char)0x96fa); 
+			case 0x234b7a:  return((char)0x96f5); 
+			case 0x234c22:  return((char)0x96ff); 
+			case 0x234c27:  return((char)0x9702); 
+			case 0x234c29:  return((char)0x9708); 
+			case 0x234c2a:  return((char)0x9705); 
+			case 0x234c38:  return((char)0x971b); 
+			case 0x234c3d:  return((char)0x971d); 
+			case 0x234c3e:  return((char)0x9719); 
+			case 0x234c47:  return((char)0x9723); 
+			case 0x234c49:  return((char)0x9722); 
+			case 0x234c4a:  return((char)0x9724); 
+			case 0x234c4e:  return((char)0x9728); 
+			case 0x234c50:  return((char)0x9726); 
+			case 0x234c52:  return((char)0x9731); 
+			case 0x234c58:  return((char)0x9730); 
+			case 0x234c5c:  return((char)0x9736); 
+			case 0x234c6a:  return((char)0x9741); 
+			case 0x234c6b:  return((char)0x9747); 
+			case 0x234c6c:  return((char)0x9746); 
+			case 0x234c6e:  return((char)0x9749); 
+			case 0x234c75:  return((char)0x9758); 
+			case 0x234c76:  return((char)0x975a); 
+			case 0x234c78:  return((char)0x975d); 
+			case 0x234c7b:  return((char)0x975f); 
+			case 0x234c7d:  return((char)0x9764); 
+			case 0x234d25:  return((char)0x9767); 
+			case 0x234d2c:  return((char)0x976b); 
+			case 0x234d30:  return((char)0x976e); 
+			case 0x234d31:  return((char)0x9777); 
+			case 0x234d32:  return((char)0x9778); 
+			case 0x234d35:  return((char)0x9773); 
+			case 0x234d37:  return((char)0x9783); 
+			case 0x234d38:  return((char)0x977a); 
+			case 0x234d3a:  return((char)0x9780); 
+			case 0x234d3c:  return((char)0x9781); 
+			case 0x234d40:  return((char)0x9784); 
+			case 0x234d43:  return((char)0x977f); 
+			case 0x234d49:  return((char)0x9789); 
+			case 0x234d54:  return((char)0x9794); 
+			case 0x234d59:  return((char)0x979b); 
+			case 0x234d5a:  return((char)0x979f); 
+			case 0x234d5c:  return((char)0x979a); 
+			case 0x234d62:  return((char)0x979c); 
+			case 0x234d6a:  return((char)0x97ac); 
+			case 0x234d70:  return((char)0x97ae); 
+			case 0x234d71:  return((char)0x97a8); 
+			case 0x234d74:  return((char)0x97ab); 
+			case 0x234d78:  return((char)0x97a5); 
+			case 0x234d7a:  return((char)0x97b2); 
+			case 0x234d7c:  return((char)0x97b4); 
+			case 0x234e24:  return((char)0x97b3); 
+			case 0x234e26:  return((char)0x97b5); 
+			case 0x234e29:  return((char)0x97b9); 
+			case 0x234e2d:  return((char)0x97b8); 
+			case 0x234e35:  return((char)0x97be); 
+			case 0x234e38:  return((char)0x97c0); 
+			case 0x234e3b:  return((char)0x97c5); 
+			case 0x234e43:  return((char)0x97c9); 
+			case 0x234e4b:  return((char)0x97ce); 
+			case 0x234e4c:  return((char)0x97cd); 
+			case 0x234e4e:  return((char)0x97d0); 
+			case 0x234e51:  return((char)0x97d4); 
+			case 0x234e53:  return((char)0x97d8); 
+			case 0x234e54:  return((char)0x97d9); 
+			case 0x234e59:  return((char)0x97dd); 
+			case 0x234e5c:  return((char)0x97de); 
+			case 0x234e5e:  return((char)0x97e0); 
+			case 0x234e60:  return((char)0x97e1); 
+			case 0x234e6c:  return((char)0x97f5); 
+			case 0x234e73:  return((char)0x97fa); 
+			case 0x234e79:  return((char)0x9807); 
+			case 0x234e7b:  return((char)0x980f); 
+			case 0x234e7e:  return((char)0x980d); 
+			case 0x234f23:  return((char)0x980e); 
+			case 0x234f26:  return((char)0x9816); 
+			case 0x234f2c:  return((char)0x9826); 
+			case 0x234f2d:  return((char)0x981e); 
+			case 0x234f34:  return((char)0x982b); 
+			case 0x234f37:  return((char)0x9820); 
+			case 0x234f38:  return((char)0x981f); 
+			case 0x234f3d:  return((char)0x9833); 
+			case 0x234f40:  return((char)0x982e); 
+			case 0x234f44:  return((char)0x982f); 
+			case 0x234f45:  return((char)0x9832); 
+			case 0x234f4b:  return((char)0x9847); 
+			case 0x234f4e:  return((char)0x9844); 
+			case 0x234f60:  return((char)0x9852); 
+			case 0x234f62:  return((char)0x984b); 
+			case 0x234f66:  return((char)0x983f); 
+			case 0x234f6a:  return((char)0x985c); 
+			case 0x234f6b:  return((char)0x9859); 
+			case 0x234f6f:  return((char)0x9857); 
+			case 0x234f72:  return((char)0x9856); 
+			case 0x234f77:  return((char)0x9862); 
+			case 0x234f7e:  return((char)0x9868); 
+			case 0x235021:  return((char)0x9865); 
+			case 0x235022:  return((char)0x9866); 
+			case 0x235029:  return((char)0x986c); 
+			case 0x235030:  return((char)0x9873); 
+			case 0x235031:  return((char)0x9874); 
+			case 0x235039:  return((char)0x98ad); 
+			case 0x235040:  return((char)0x98b4); 
+			case 0x235048:  return((char)0x98b8); 
+			case 0x23504a:  return((char)0x98bf); 
+			case 0x23504d:  return((char)0x98bb); 
+			case 0x23504e:  return((char)0x98c0); 
+			case 0x235053:  return((char)0x98c6); 
+			case 0x23505f:  return((char)0x98e1); 
+			case 0x235060:  return((char)0x98e3); 
+			case 0x235061:  return((char)0x98e4); 
+			case 0x235063:  return((char)0x98e5); 
+			case 0x235068:  return((char)0x98f1); 
+			case 0x23506c:  return((char)0x98eb); 
+			case 0x235124:  return((char)0x9907); 
+			case 0x235128:  return((char)0x9902); 
+			case 0x23512f:  return((char)0x9916); 
+			case 0x235130:  return((char)0x9914); 
+			case 0x235131:  return((char)0x9917); 
+			case 0x235132:  return((char)0x9911); 
+			case 0x235138:  return((char)0x9915); 
+			case 0x23513a:  return((char)0x9924); 
+			case 0x23513b:  return((char)0x991f); 
+			case 0x235140:  return((char)0x991c); 
+			case 0x235143:  return((char)0x9929); 
+			case 0x235145:  return((char)0x9927); 
+			case 0x235147:  return((char)0x991a); 
+			case 0x23514f:  return((char)0x992e); 
+			case 0x235150:  return((char)0x992c); 
+			case 0x235151:  return((char)0x992a); 
+			case 0x235153:  return((char)0x9933); 
+			case 0x235154:  return((char)0x9942); 
+			case 0x235155:  return((char)0x9932); 
+			case 0x235156:  return((char)0x992b); 
+			case 0x235158:  return((char)0x9931); 
+			case 0x23515c:  return((char)0x993b); 
+			case 0x235160:  return((char)0x993a); 
+			case 0x235161:  return((char)0x9941); 
+			case 0x235164:  return((char)0x9940); 
+			case 0x235166:  return((char)0x993c); 
+			case 0x23516a:  return((char)0x9948); 
+			case 0x23516c:  return((char)0x9947); 
+			case 0x23516d:  return((char)0x9949); 
+			case 0x235170:  return((char)0x9943); 
+			case 0x235171:  return((char)0x994d); 
+			case 0x235172:  return((char)0x994c); 
+			case 0x235173:  return((char)0x994e); 
+			case 0x235174:  return((char)0x9950); 
+			case 0x23517a:  return((char)0x9958); 
+			case 0x23517b:  return((char)0x9954); 
+			case 0x23517e:  return((char)0x9955); 
+			case 0x235222:  return((char)0x9957); 
+			case 0x235229:  return((char)0x995d); 
+			case 0x23522b:  return((char)0x995f); 
+			case 0x23522f:  return((char)0x9997); 
+			case 0x235230:  return((char)0x9998); 
+			case 0x23523b:  return((char)0x99a3); 
+			case 0x23523c:  return((char)0x99a1); 
+			case 0x23523e:  return((char)0x99a6); 
+			case 0x235241:  return((char)0x99a9); 
+			case 0x235242:  return((char)0x99aa); 
+			case 0x235249:  return((char)0x99b5); 
+			case 0x23524d:  return((char)0x99bf); 
+			case 0x23524e:  return((char)0x99bc); 
+			case 0x23524f:  return((char)0x99c3); 
+			case 0x235253:  return((char)0x99b9); 
+			case 0x235254:  return((char)0x99bd); 
+			case 0x235261:  return((char)0x99d3); 
+			case 0x235263:  return((char)0x99d4); 
+			case 0x235265:  return((char)0x99c9); 
+			case 0x235269:  return((char)0x99d8); 
+			case 0x235274:  return((char)0x99ec); 
+			case 0x23527a:  return((char)0x99f0); 
+			case 0x23527b:  return((char)0x99e3); 
+			case 0x23527c:  return((char)0x99ea); 
+			case 0x235324:  return((char)0x9a02); 
+			case 0x235329:  return((char)0x99f8); 
+			case 0x23532a:  return((char)0x99f4); 
+			case 0x235330:  return((char)0x99fb); 
+			case 0x235331:  return((char)0x99fd); 
+			case 0x23533d:  return((char)0x9a0f); 
+			case 0x23533e:  return((char)0x9a0b); 
+			case 0x23533f:  return((char)0x9a09); 
+			case 0x235344:  return((char)0x9a04); 
+			case 0x235345:  return((char)0x9a11); 
+			case 0x235347:  return((char)0x9a05); 
+			case 0x235348:  return((char)0x9a10); 
+			case 0x23534c:  return((char)0x9a24); 
+			case 0x23534d:  return((char)0x9a22); 
+			case 0x23534f:  return((char)0x9a20); 
+			case 0x235352:  return((char)0x9a27); 
+			case 0x235359:  return((char)0x9a2f); 
+			case 0x23535a:  return((char)0x9a38); 
+			case 0x235360:  return((char)0x9a2d); 
+			case 0x235361:  return((char)0x9a35); 
+			case 0x235364:  return((char)0x9a32); 
+			case 0x235369:  return((char)0x9a36); 
+			case 0x23536a:  return((char)0x9a2e); 
+			case 0x235370:  return((char)0x9a41); 
+			case 0x235374:  return((char)0x9a3b); 
+			case 0x235379:  return((char)0x9a42); 
+			case 0x23537a:  return((char)0x9a44); 
+			case 0x23537d:  return((char)0x9a48); 
+			case 0x23537e:  return((char)0x9a4c); 
+			case 0x235422:  return((char)0x9a4d); 
+			case 0x235424:  return((char)0x9a52); 
+			case 0x235427:  return((char)0x9a4a); 
+			case 0x23542a:  return((char)0x9a58); 
+			case 0x23542c:  return((char)0x9a56); 
+			case 0x235433:  return((char)0x9a64); 
+			case 0x235434:  return((char)0x9a66); 
+			case 0x23543a:  return((char)0x9a6b); 
+			case 0x23543f:  return((char)0x9aad); 
+			case 0x235441:  return((char)0x9aab); 
+			case 0x235443:  return((char)0x9ab1); 
+			case 0x235445:  return((char)0x9ab3); 
+			case 0x235449:  return((char)0x9ab6); 
+			case 0x23544c:  return((char)0x9abb); 
+			case 0x235450:  return((char)0x9aba); 
+			case 0x235454:  return((char)0x9abd); 
+			case 0x235457:  return((char)0x9ac1); 
+			case 0x235459:  return((char)0x9ac0); 
+			case 0x23545a:  return((char)0x9ac2); 
+			case 0x23545d:  return((char)0x9ac8); 
+			case 0x235466:  return((char)0x9ad0); 
+			case 0x23546a:  return((char)0x9ad1); 
+			case 0x23546d:  return((char)0x9ad6); 
+			case 0x235472:  return((char)0x9adc); 
+			case 0x235474:  return((char)0x9adf); 
+			case 0x235476:  return((char)0x9ae0); 
+			case 0x235477:  return((char)0x9ae2); 
+			case 0x235521:  return((char)0x9ae7); 
+			case 0x235527:  return((char)0x9aeb); 
+			case 0x235528:  return((char)0x9af2); 
+			case 0x23552a:  return((char)0x9aef); 
+			case 0x235532:  return((char)0x9af9); 
+			case 0x235535:  return((char)0x9afd); 
+			case 0x235536:  return((char)0x9b01); 
+			case 0x235538:  return((char)0x9b02); 
+			case 0x23553b:  return((char)0x9b00); 
+			case 0x23553c:  return((char)0x9b08); 
+			case 0x23553e:  return((char)0x9b04); 
+			case 0x235541:  return((char)0x9b05); 
+			case 0x235543:  return((char)0x9b0b); 
+			case 0x235547:  return((char)0x9b0e); 
+			case 0x23554e:  return((char)0x9b11); 
+			case 0x23554f:  return((char)0x9b10); 
+			case 0x235554:  return((char)0x9b18); 
+			case 0x235556:  return((char)0x9b1d); 
+			case 0x23555e:  return((char)0x9b1f); 
+			case 0x235566:  return((char)0x9b23); 
+			case 0x23556c:  return((char)0x9b29); 
+			case 0x235573:  return((char)0x9b2d); 
+			case 0x235574:  return((char)0x9b2e); 
+			case 0x235576:  return((char)0x9b2f); 
+			case 0x23557d:  return((char)0x9b34); 
+			case 0x235622:  return((char)0x9b35); 
+			case 0x235623:  return((char)0x9b37); 
+			case 0x235636:  return((char)0x9b43); 
+			case 0x23563a:  return((char)0x9b48); 
+			case 0x23563c:  return((char)0x9b4e); 
+			case 0x23563e:  return((char)0x9b4d); 
+			case 0x235641:  return((char)0x9b4b); 
+			case 0x235647:  return((char)0x9b51); 
+			case 0x23565d:  return((char)0x9b74); 
+			case 0x235663:  return((char)0x9b68); 
+			case 0x235672:  return((char)0x9b80); 
+			case 0x235673:  return((char)0x9b8c); 
+			case 0x23567a:  return((char)0x9b95); 
+			case 0x23567b:  return((char)0x9b7d); 
+			case 0x235721:  return((char)0x9b83); 
+			case 0x235729:  return((char)0x9b8e); 
+			case 0x23572b:  return((char)0x9b90); 
+			case 0x23572e:  return((char)0x9b93); 
+			case 0x23572f:  return((char)0x9b97); 
+			case 0x235731:  return((char)0x9b92); 
+			case 0x235732:  return((char)0x9b98); 
+			case 0x235736:  return((char)0x9b9f); 
+			case 0x235739:  return((char)0x9b9d); 
+			case 0x23573c:  return((char)0x9bad); 
+			case 0x23573d:  return((char)0x9b9a); 
+			case 0x23573f:  return((char)0x9ba8); 
+			case 0x235742:  return((char)0x9b9e); 
+			case 0x235743:  return((char)0x9b99); 
+			case 0x235749:  return((char)0x9b86); 
+			case 0x23574e:  return((char)0x9ba0); 
+			case 0x235756:  return((char)0x9bc7); 
+			case 0x235759:  return((char)0x9bd2); 
+			case 0x23575d:  return((char)0x9bc6); 
+			case 0x23575e:  return((char)0x9bbf); 
+			case 0x23575f:  return((char)0x9bc1); 
+			case 0x235766:  return((char)0x9bb9); 
+			case 0x23576b:  return((char)0x9bbb); 
+			case 0x23576c:  return((char)0x9bd3); 
+			case 0x23576e:  return((char)0x9bc0); 
+			case 0x235772:  return((char)0x9bc8); 
+			case 0x235777:  return((char)0x9bd7); 
+			case 0x23577a:  return((char)0x9bd6); 
+			case 0x23577c:  return((char)0x9beb); 
+			case 0x235823:  return((char)0x9bd5); 
+			case 0x235827:  return((char)0x9be4); 
+			case 0x23582b:  return((char)0x9bf1); 
+			case 0x23582c:  return((char)0x9be1); 
+			case 0x23582d:  return((char)0x9bdb); 
+			case 0x23582f:  return((char)0x9be2); 
+			case 0x235831:  return((char)0x9bf0); 
+			case 0x235834:  return((char)0x9bd4); 
+			case 0x23583e:  return((char)0x9bff); 
+			case 0x235843:  return((char)0x9c06); 
+			case 0x235844:  return((char)0x9c15); 
+			case 0x235849:  return((char)0x9c0a); 
+			case 0x23584b:  return((char)0x9c08); 
+			case 0x23584c:  return((char)0x9c14); 
+			case 0x23584d:  return((char)0x9c04); 
+			case 0x235852:  return((char)0x9c02); 
+			case 0x235854:  return((char)0x9c10); 
+			case 0x235859:  return((char)0x9c12); 
+			case 0x23585c:  return((char)0x9c09); 
+			case 0x235866:  return((char)0x9c1c); 
+			case 0x235869:  return((char)0x9c2f); 
+			case 0x23586e:  return((char)0x9c23); 
+			case 0x235870:  return((char)0x9c2e); 
+			case 0x235871:  return((char)0x9c28); 
+			case 0x235878:  return((char)0x9c21); 
+			case 0x235879:  return((char)0x9c24); 
+			case 0x23587e:  return((char)0x9c46); 
+			case 0x235925:  return((char)0x9c32); 
+			case 0x235926:  return((char)0x9c44); 
+			case 0x235928:  return((char)0x9c48); 
+			case 0x235929:  return((char)0x9c39); 
+			case 0x23592a:  return((char)0x9c33); 
+			case 0x235930:  return((char)0x9c47); 
+			case 0x235932:  return((char)0x9c35); 
+			case 0x235934:  return((char)0x9c37); 
+			case 0x235938:  return((char)0x9c52); 
+			case 0x23593b:  return((char)0x9c58); 
+			case 0x235945:  return((char)0x9c51); 
+			case 0x235949:  return((char)0x9c63); 
+			case 0x23594f:  return((char)0x9c67); 
+			case 0x235955:  return((char)0x9c5f); 
+			case 0x235956:  return((char)0x9c60); 
+			case 0x235958:  return((char)0x9c6d); 
+			case 0x23595b:  return((char)0x9c68); 
+			case 0x23595c:  return((char)0x9c6f); 
+			case 0x23595e:  return((char)0x9c6e); 
+			case 0x23596b:  return((char)0x9c7a); 
+			case 0x235973:  return((char)0x9ce7); 
+			case 0x235974:  return((char)0x9cf0); 
+			case 0x235977:  return((char)0x9cf2); 
+			case 0x235a21:  return((char)0x9d02); 
+			case 0x235a22:  return((char)0x9d03); 
+			case 0x235a23:  return((char)0x9cf7); 
+			case 0x235a24:  return((char)0x9d04); 
+			case 0x235a28:  return((char)0x9d07); 
+			case 0x235a2c:  return((char)0x9cf8); 
+			case 0x235a2f:  return((char)0x9d2a); 
+			case 0x235a30:  return((char)0x9d25); 
+			case 0x235a3f:  return((char)0x9d1e); 
+			case 0x235a44:  return((char)0x9d1d); 
+			case 0x235a48:  return((char)0x9d1f); 
+			case 0x235a4f:  return((char)0x9d41); 
+			case 0x235a53:  return((char)0x9d36); 
+			case 0x235a63:  return((char)0x9d3e); 
+			case 0x235a65:  return((char)0x9d30); 
+			case 0x235a68:  return((char)0x9d42); 
+			case 0x235a69:  return((char)0x9d40); 
+			case 0x235a6b:  return((char)0x9d3d); 
+			case 0x235a70:  return((char)0x9d5c); 
+			case 0x235a75:  return((char)0x9d53); 
+			case 0x235a7b:  return((char)0x9d59); 
+			case 0x235b26:  return((char)0x9d5a); 
+			case 0x235b2a:  return((char)0x9d52); 
+			case 0x235b2c:  return((char)0x9d77); 
+			case 0x235b2e:  return((char)0x9d8a); 
+			case 0x235b2f:  return((char)0x9d7a); 
+			case 0x235b35:  return((char)0x9d87); 
+			case 0x235b3f:  return((char)0x9d78); 
+			case 0x235b42:  return((char)0x9d7e); 
+			case 0x235b47:  return((char)0x9d69); 
+			case 0x235b4d:  return((char)0x9d7b); 
+			case 0x235b4f:  return((char)0x9d83); 
+			case 0x235b52:  return((char)0x9d6f); 
+			case 0x235b59:  return((char)0x9da9); 
+			case 0x235b5e:  return((char)0x9d92); 
+			case 0x235b60:  return((char)0x9d98); 
+			case 0x235b66:  return((char)0x9da4); 
+			case 0x235b67:  return((char)0x9daa); 
+			case 0x235b6a:  return((char)0x9da1); 
+			case 0x235b6b:  return((char)0x9d9a); 
+			case 0x235b70:  return((char)0x9d96); 
+			case 0x235b74:  return((char)0x9db1); 
+			case 0x235b76:  return((char)0x9db6); 
+			case 0x235b77:  return((char)0x9dbc); 
+			case 0x235b79:  return((char)0x9dc0); 
+			case 0x235b7a:  return((char)0x9dc1); 
+			case 0x235b7b:  return((char)0x9db8); 
+			case 0x235b7c:  return((char)0x9dba); 
+			case 0x235b7e:  return((char)0x9dcf); 
+			case 0x235c22:  return((char)0x9dc7); 
+			case 0x235c27:  return((char)0x9dc3); 
+			case 0x235c28:  return((char)0x9dbb); 
+			case 0x235c32:  return((char)0x9db9); 
+			case 0x235c34:  return((char)0x9dac); 
+			case 0x235c36:  return((char)0x9db2); 
+			case 0x235c3a:  return((char)0x9ddf); 
+			case 0x235c3e:  return((char)0x9dd9); 
+			case 0x235c45:  return((char)0x9dd6); 
+			case 0x235c46:  return((char)0x9dde); 
+			case 0x235c4f:  return((char)0x9de9); 
+			case 0x235c57:  return((char)0x9df2); 
+			case 0x235c5b:  return((char)0x9df8); 
+			case 0x235c5c:  return((char)0x9dfc); 
+			case 0x235c5f:  return((char)0x9deb); 
+			case 0x235c65:  return((char)0x9def); 
+			case 0x235c6a:  return((char)0x9ded); 
+			case 0x235c6c:  return((char)0x9de6); 
+			case 0x235c6d:  return((char)0x9dee); 
+			case 0x235c71:  return((char)0x9e07); 
+			case 0x235c7e:  return((char)0x9dfd); 
+			case 0x235d27:  return((char)0x9e0e); 
+			case 0x235d2b:  return((char)0x9e11); 
+			case 0x235d36:  return((char)0x9e15); 
+			case 0x235d37:  return((char)0x9e18); 
+			case 0x235d39:  return((char)0x9e1c); 
+			case 0x235d3a:  return((char)0x9e1b); 
+			case 0x235d3b:  return((char)0x9e1d); 
+			case 0x235d3c:  return((char)0x9e75); 
+			case 0x235d42:  return((char)0x9e7a); 
+			case 0x235d43:  return((char)0x9e7b); 
+			case 0x235d47:  return((char)0x9e80); 
+			case 0x235d48:  return((char)0x9e83); 
+			case 0x235d49:  return((char)0x9e84); 
+			case 0x235d4b:  return((char)0x9e88); 
+			case 0x235d4f:  return((char)0x9e87); 
+			case 0x235d55:  return((char)0x9e90); 
+			case 0x235d58:  return((char)0x9e8c); 
+			case 0x235d5a:  return((char)0x9e95); 
+			case 0x235d5c:  return((char)0x9e91); 
+			case 0x235d5d:  return((char)0x9e9b); 
+			case 0x235d66:  return((char)0x9e9e); 
+			case 0x235d77:  return((char)0x9ead); 
+			case 0x235d79:  return((char)0x9eaf); 
+			case 0x235d7a:  return((char)0x9eb0); 
+			case 0x235e30:  return((char)0x9ec1); 
+			case 0x235e35:  return((char)0x9ec6); 
+			case 0x235e37:  return((char)0x9ec8); 
+			case 0x235e42:  return((char)0x9ecc); 
+			case 0x235e4a:  return((char)0x9ed0); 
+			case 0x235e4c:  return((char)0x9ed3); 
+			case 0x235e53:  return((char)0x9eda); 
+			case 0x235e55:  return((char)0x9edf); 
+			case 0x235e57:  return((char)0x9ee3); 
+			case 0x235e59:  return((char)0x9ee5); 
+			case 0x235e5c:  return((char)0x9ee7); 
+			case 0x235e60:  return((char)0x9eee); 
+			case 0x235e66:  return((char)0x9ef0); 
+			case 0x235e6f:  return((char)0x9ef6); 
+			case 0x235e74:  return((char)0x9ef9); 
+			case 0x235e76:  return((char)0x9efb); 
+			case 0x235e77:  return((char)0x9efc); 
+			case 0x235e7a:  return((char)0x9efd); 
+			case 0x235e7b:  return((char)0x9efe); 
+			case 0x235e7c:  return((char)0x9eff); 
+			case 0x235e7d:  return((char)0x9f02); 
+			case 0x235f2f:  return((char)0x9f0f); 
+			case 0x235f31:  return((char)0x9f10); 
+			case 0x235f32:  return((char)0x9f12); 
+			case 0x235f33:  return((char)0x9f16); 
+			case 0x235f34:  return((char)0x9f17); 
+			case 0x235f37:  return((char)0x9f1a); 
+			case 0x235f45:  return((char)0x9f22); 
+			case 0x235f48:  return((char)0x9f2b); 
+			case 0x235f49:  return((char)0x9f26); 
+			case 0x235f53:  return((char)0x9f2f); 
+			case 0x235f5e:  return((char)0x9f39); 
+			case 0x235f5f:  return((char)0x9f37); 
+			case 0x235f64:  return((char)0x9f3d); 
+			case 0x235f69:  return((char)0x9f41); 
+			case 0x235f6d:  return((char)0x9f45); 
+			case 0x235f6f:  return((char)0x9f46); 
+			case 0x235f71:  return((char)0x9f48); 
+			case 0x235f73:  return((char)0x9f49); 
+			case 0x235f79:  return((char)0x9f4e); 
+			case 0x235f7b:  return((char)0x9f4f); 
+			case 0x235f7c:  return((char)0x9f54); 
+			case 0x235f7e:  return((char)0x9f55); 
+			case 0x236023:  return((char)0x9f57); 
+			case 0x236028:  return((char)0x9f60); 
+			case 0x23603f:  return((char)0x9f6e); 
+			case 0x236040:  return((char)0x9f6f); 
+			case 0x236047:  return((char)0x9f76); 
+			case 0x23605b:  return((char)0x9f8e); 
+			case 0x236061:  return((char)0x9f93); 
+			case 0x236062:  return((char)0x9f95); 
+			case 0x23606b:  return((char)0x9fa0); 
+			case 0x236071:  return((char)0x9fa5); 
+			case 0x236072:  return((char)0x9fa4); 
+			case 0x273032:  return((char)0x5e76); 
+			case 0x27304c:  return((char)0x5e72); 
+			case 0x27304d:  return((char)0x4e71); 
+			case 0x273058:  return((char)0x4e9a); 
+			case 0x273138:  return((char)0x5e03); 
+			case 0x27313c:  return((char)0x5360); 
+			case 0x27314c:  return((char)0x6765); 
+			case 0x27314f:  return((char)0x4ed1); 
+			case 0x27315d:  return((char)0x4fa0); 
+			case 0x273169:  return((char)0x7cfb); 
+			case 0x27316c:  return((char)0x4ed3); 
+			case 0x273173:  return((char)0x4eec); 
+			case 0x273179:  return((char)0x4fe9); 
+			case 0x273224:  return((char)0x4e2a); 
+			case 0x273226:  return((char)0x4f25); 
+			case 0x27322d:  return((char)0x4f26); 
+			case 0x27322e:  return((char)0x4ec3); 
+			case 0x273233:  return((char)0x4f1f); 
+			case 0x273235:  return((char)0x4fa7); 
+			case 0x273238:  return((char)0x4fa6); 
+			case 0x27323e:  return((char)0x5bb6); 
+			case 0x273240:  return((char)0x5907); 
+			case 0x273241:  return((char)0x6770); 
+			case 0x273243:  return((char)0x4f27); 
+			case 0x273244:  return((char)0x4f1e); 
+			case 0x273246:  return((char)0x4f20); 
+			case 0x273247:  return((char)0x503a); 
+			case 0x273249:  return((char)0x4ec5); 
+			case 0x27324a:  return((char)0x503e); 
+			case 0x27324c:  return((char)0x4f24); 
+			case 0x273251:  return((char)0x4fa5); 
+			case 0x273255:  return((char)0x4ec6); 
+			case 0x273256:  return((char)0x4f2a); 
+			case 0x273257:  return((char)0x8c61); 
+			case 0x273258:  return((char)0x4fa8); 
+			case 0x273259:  return((char)0x4eea); 
+			case 0x27325a:  return((char)0x4ebf); 
+			case 0x27325d:  return((char)0x4ef7); 
+			case 0x27325e:  return((char)0x4fac); 
+			case 0x273260:  return((char)0x4fa9); 
+			case 0x273261:  return((char)0x4fed); 
+			case 0x273262:  return((char)0x50a7); 
+			case 0x273263:  return((char)0x5c3d); 
+			case 0x273265:  return((char)0x4fe6); 
+			case 0x273266:  return((char)0x4f18); 
+			case 0x273267:  return((char)0x507f); 
+			case 0x273269:  return((char)0x50a8); 
+			case 0x27326a:  return((char)0x4fea); 
+			case 0x27326b:  return((char)0x4fe8); 
+			case 0x273273:  return((char)0x51f6); 
+			case 0x27327a:  return((char)0x513f); 
+			case 0x27327b:  return((char)0x5156); 
+			case 0x273323:  return((char)0x4e24); 
+			case 0x273340:  return((char)0x51bb); 
+			case 0x273348:  return((char)0x51ef); 
+			case 0x27336b:  return((char)0x514b); 
+			case 0x27336d:  return((char)0x5219); 
+			case 0x273370:  return((char)0x521a); 
+			case 0x273376:  return((char)0x5240); 
+			case 0x273378:  return((char)0x521b); 
+			case 0x27337c:  return((char)0x5212); 
+			case 0x27337e:  return((char)0x5267); 
+			case 0x273421:  return((char)0x5251); 
+			case 0x273422:  return((char)0x5218); 
+			case 0x273423:  return((char)0x5242); 
+			case 0x27342f:  return((char)0x52b2); 
+			case 0x273433:  return((char)0x52a1); 
+			case 0x273434:  return((char)0x52a8); 
+			case 0x273435:  return((char)0x52b3); 
+			case 0x273436:  return((char)0x52cb); 
+			case 0x273437:  return((char)0x80dc); 
+			case 0x273438:  return((char)0x52bf); 
+			case 0x27343c:  return((char)0x52b1); 
+			case 0x27343d:  return((char)0x529d); 
+			case 0x273451:  return((char)0x6c47); 
+			case 0x273452:  return((char)0x532e); 
+			case 0x273455:  return((char)0x533a); 
+			case 0x27345f:  return((char)0x5346); 
+			case 0x273460:  return((char)0x534f); 
+			case 0x27347a:  return((char)0x538c); 
+			case 0x27347b:  return((char)0x5389); 
+			case 0x27347d:  return((char)0x53c2); 
+			case 0x27352b:  return((char)0x4e1b); 
+			case 0x27363e:  return((char)0x5458); 
+			case 0x273648:  return((char)0x95ee); 
+			case 0x273649:  return((char)0x54d1); 
+			case 0x273663:  return((char)0x4e27); 
+			case 0x273668:  return((char)0x5355); 
+			case 0x27366d:  return((char)0x5524); 
+			case 0x27366f:  return((char)0x4e54); 
+			case 0x273671:  return((char)0x54df); 
+			case 0x273678:  return((char)0x556c); 
+			case 0x27367a:  return((char)0x5417); 
+			case 0x273721:  return((char)0x545c); 
+			case 0x273722:  return((char)0x545b); 
+			case 0x273727:  return((char)0x5567); 
+			case 0x27372c:  return((char)0x53f9); 
+			case 0x27372e:  return((char)0x5455); 
+			case 0x273730:  return((char)0x5c1d); 
+			case 0x273731:  return((char)0x55bd); 
+			case 0x273732:  return((char)0x5520); 
+			case 0x273733:  return((char)0x5578); 
+			case 0x27373d:  return((char)0x5480); 
+			case 0x273740:  return((char)0x53fd); 
+			case 0x273744:  return((char)0x5428); 
+			case 0x273745:  return((char)0x55b7); 
+			case 0x273746:  return((char)0x5f53); 
+			case 0x273747:  return((char)0x54dd); 
+			case 0x27374b:  return((char)0x55f3); 
+			case 0x27374e:  return((char)0x549b); 
+			case 0x273751:  return((char)0x5413); 
+			case 0x273754:  return((char)0x565c); 
+			case 0x273755:  return((char)0x5411); 
+			case 0x273756:  return((char)0x5499); 
+			case 0x27375a:  return((char)0x4e25); 
+			case 0x27375b:  return((char)0x5624); 
+			case 0x27375c:  return((char)0x556d); 
+			case 0x27375d:  return((char)0x55eb); 
+			case 0x27375e:  return((char)0x56a3); 
+			case 0x273761:  return((char)0x7f57); 
+			case 0x273762:  return((char)0x5453); 
+			case 0x273764:  return((char)0x5631); 
+			case 0x27376f:  return((char)0x56ef); 
+			case 0x273770:  return((char)0x56f4); 
+			case 0x273771:  return((char)0x56ed); 
+			case 0x273772:  return((char)0x5706); 
+			case 0x273773:  return((char)0x56e2); 
+			case 0x273774:  return((char)0x56fe); 
+			case 0x27383b:  return((char)0x6267); 
+			case 0x27383e:  return((char)0x57a9); 
+			case 0x273844:  return((char)0x62a5); 
+			case 0x273845:  return((char)0x5c27); 
+			case 0x27384a:  return((char)0x573a); 
+			case 0x27384d:  return((char)0x6d82); 
+			case 0x273855:  return((char)0x575e); 
+			case 0x273856:  return((char)0x5757); 
+			case 0x273859:  return((char)0x5c18); 
+			case 0x27385a:  return((char)0x57ab); 
+			case 0x27385b:  return((char)0x5811); 
+			case 0x273860:  return((char)0x575f); 
+			case 0x273861:  return((char)0x5760); 
+			case 0x273862:  return((char)0x5815); 
+			case 0x273864:  return((char)0x575b); 
+			case 0x273867:  return((char)0x57a6); 
+			case 0x273869:  return((char)0x538b); 
+			case 0x27386b:  return((char)0x5739); 
+			case 0x27386c:  return((char)0x5792); 
+			case 0x27386d:  return((char)0x5784); 
+			case 0x27386e:  return((char)0x574f); 
+			case 0x27386f:  return((char)0x575c); 
+			case 0x273871:  return((char)0x575d); 
+			case 0x273874:  return((char)0x58ee); 
+			case 0x273876:  return((char)0x58f6); 
+			case 0x273877:  return((char)0x5bff); 
+			case 0x273923:  return((char)0x4f19); 
+			case 0x273924:  return((char)0x68a6); 
+			case 0x27392e:  return((char)0x5939); 
+			case 0x27393f:  return((char)0x5941); 
+			case 0x273940:  return((char)0x593a); 
+			case 0x273941:  return((char)0x594b); 
+			case 0x273953:  return((char)0x5986); 
+			case 0x273a27:  return((char)0x5987); 
+			case 0x273a28:  return((char)0x5a04); 
+			case 0x273a36:  return((char)0x5988); 
+			case 0x273a3b:  return((char)0x59aa); 
+			case 0x273a41:  return((char)0x5a34); 
+			case 0x273a43:  return((char)0x5a75); 
+			case 0x273a44:  return((char)0x5a07); 
+			case 0x273a45:  return((char)0x59a9); 
+			case 0x273a48:  return((char)0x5ad4); 
+			case 0x273a4a:  return((char)0x5a74); 
+			case 0x273a4b:  return((char)0x5a76); 
+			case 0x273a5b:  return((char)0x5b59); 
+			case 0x273a5f:  return((char)0x5b5a); 
+			case 0x273a60:  return((char)0x5b66); 
+			case 0x273a63:  return((char)0x5b6a); 
+			case 0x273b2e:  return((char)0x5bdd); 
+			case 0x273b31:  return((char)0x5b9e); 
+			case 0x273b32:  return((char)0x5b81); 
+			case 0x273b35:  return((char)0x5bbd); 
+			case 0x273b36:  return((char)0x5ba1); 
+			case 0x273b37:  return((char)0x5199); 
+			case 0x273b38:  return((char)0x5ba0); 
+			case 0x273b39:  return((char)0x5b9d); 
+			case 0x273b3f:  return((char)0x4e13); 
+			case 0x273b40:  return((char)0x5c06); 
+			case 0x273b42:  return((char)0x5bfb); 
+			case 0x273b43:  return((char)0x5bf9); 
+			case 0x273b44:  return((char)0x5bfc); 
+			case 0x273b4c:  return((char)0x5c34); 
+			case 0x273b60:  return((char)0x5c61); 
+			case 0x273b61:  return((char)0x5c42); 
+			case 0x273b63:  return((char)0x5c5e); 
+			case 0x273b6e:  return((char)0x5188); 
+			case 0x273b74:  return((char)0x5ce1); 
+			case 0x273b79:  return((char)0x5c9b); 
+			case 0x273c28:  return((char)0x5c9a); 
+			case 0x273c2a:  return((char)0x5d2d); 
+			case 0x273c2b:  return((char)0x5c96); 
+			case 0x273c2d:  return((char)0x5c7f); 
+			case 0x273c2e:  return((char)0x5cb3); 
+			case 0x273c31:  return((char)0x5ce6); 
+			case 0x273c32:  return((char)0x5dc5); 
+			case 0x273c33:  return((char)0x5ca9); 
+			case 0x273c4f:  return((char)0x5e05); 
+			case 0x273c51:  return((char)0x5e08); 
+			case 0x273c52:  return((char)0x5e10); 
+			case 0x273c53:  return((char)0x5e26); 
+			case 0x273c58:  return((char)0x5e27); 
+			case 0x273c5c:  return((char)0x5e3c); 
+			case 0x273c5e:  return((char)0x5e01); 
+			case 0x273c60:  return((char)0x5e1c); 
+			case 0x273c61:  return((char)0x5e2e); 
+			case 0x273c67:  return((char)0x5e72); 
+			case 0x273c6b:  return((char)0x51e0); 
+			case 0x273c76:  return((char)0x5e93); 
+			case 0x273c77:  return((char)0x5750); 
+			case 0x273c7e:  return((char)0x5395); 
+			case 0x273d27:  return((char)0x5e9f); 
+			case 0x273d2a:  return((char)0x5e7f); 
+			case 0x273d2b:  return((char)0x5e99); 
+			case 0x273d2c:  return((char)0x5382); 
+			case 0x273d2d:  return((char)0x5e9e); 
+			case 0x273d2e:  return((char)0x5e90); 
+			case 0x273d2f:  return((char)0x5385); 
+			case 0x273d47:  return((char)0x5f20); 
+			case 0x273d4b:  return((char)0x5f39); 
+			case 0x273d4c:  return((char)0x5f25); 
+			case 0x273d4d:  return((char)0x5f2f); 
+			case 0x273d4f:  return((char)0x6c47); 
+			case 0x273d65:  return((char)0x540e); 
+			case 0x273d67:  return((char)0x5f84); 
+			case 0x273d6c:  return((char)0x4ece); 
+			case 0x273d6f:  return((char)0x590d); 
+			case 0x273d74:  return((char)0x5f7b); 
+			case 0x273d76:  return((char)0x5f81); 
+			case 0x273e57:  return((char)0x5ff0); 
+			case 0x273e5c:  return((char)0x95f7); 
+			case 0x273e5e:  return((char)0x6005); 
+			case 0x273e61:  return((char)0x6076); 
+			case 0x273e6c:  return((char)0x60ec); 
+			case 0x273e70:  return((char)0x607b); 
+			case 0x273e77:  return((char)0x7231); 
+			case 0x273e7e:  return((char)0x607c); 
+			case 0x273f28:  return((char)0x6001); 
+			case 0x273f29:  return((char)0x5ffe); 
+			case 0x273f2b:  return((char)0x6006); 
+			case 0x273f2e:  return((char)0x5e86); 
+			case 0x273f31:  return((char)0x60ed); 
+			case 0x273f33:  return((char)0x5fe7); 
+			case 0x273f36:  return((char)0x8651); 
+			case 0x273f38:  return((char)0x60e8); 
+			case 0x273f39:  return((char)0x60ef); 
+			case 0x273f3a:  return((char)0x6078); 
+			case 0x273f3b:  return((char)0x6002); 
+			case 0x273f3c:  return((char)0x6b32); 
+			case 0x273f3e:  return((char)0x5baa); 
+			case 0x273f3f:  return((char)0x51ed); 
+			case 0x273f41:  return((char)0x60af); 
+			case 0x273f42:  return((char)0x6124); 
+			case 0x273f44:  return((char)0x60ee); 
+			case 0x273f45:  return((char)0x6187); 
+			case 0x273f47:  return((char)0x60eb); 
+			case 0x273f48:  return((char)0x5fc6); 
+			case 0x273f4a:  return((char)0x5e94); 
+			case 0x273f4b:  return((char)0x601c); 
+			case 0x273f4e:  return((char)0x6073); 
+			case 0x273f54:  return((char)0x6000); 
+			case 0x273f55:  return((char)0x61d2); 
+			case 0x273f56:  return((char)0x60ac); 
+			case 0x273f58:  return((char)0x5fcf); 
+			case 0x273f59:  return((char)0x6151); 
+			case 0x273f5b:  return((char)0x60e7); 
+			case 0x273f5c:  return((char)0x604b); 
+			case 0x273f6e:  return((char)0x6218); 
+			case 0x273f6f:  return((char)0x620f); 
+			case 0x27406c:  return((char)0x631f); 
+			case 0x27407b:  return((char)0x5377); 
+			case 0x27407d:  return((char)0x626b); 
+			case 0x27407e:  return((char)0x626a); 
+			case 0x274123:  return((char)0x6302); 
+			case 0x274136:  return((char)0x62a1); 
+			case 0x27413c:  return((char)0x62e3); 
+			case 0x27413f:  return((char)0x626c); 
+			case 0x274142:  return((char)0x6325); 
+			case 0x27414f:  return((char)0x635f); 
+			case 0x274153:  return((char)0x6363); 
+			case 0x274155:  return((char)0x62a2); 
+			case 0x27415a:  return((char)0x5c4f); 
+			case 0x27415b:  return((char)0x631a); 
+			case 0x27415f:  return((char)0x6402); 
+			case 0x274160:  return((char)0x63b4); 
+			case 0x274165:  return((char)0x635e); 
+			case 0x274166:  return((char)0x62e8); 
+			case 0x274168:  return((char)0x6320); 
+			case 0x27416e:  return((char)0x6251); 
+			case 0x274171:  return((char)0x629a); 
+			case 0x274174:  return((char)0x62e5); 
+			case 0x274176:  return((char)0x51fb); 
+			case 0x274177:  return((char)0x631e); 
+			case 0x27417a:  return((char)0x6321); 
+			case 0x27417c:  return((char)0x636e); 
+			case 0x27417d:  return((char)0x63b3); 
+			case 0x27417e:  return((char)0x62e9); 
+			case 0x274222:  return((char)0x62c5); 
+			case 0x274224:  return((char)0x6361); 
+			case 0x274225:  return((char)0x6324); 
+			case 0x274226:  return((char)0x62e7); 
+			case 0x274228:  return((char)0x62df); 
+			case 0x274229:  return((char)0x6401); 
+			case 0x27422a:  return((char)0x6269); 
+			case 0x27422b:  return((char)0x63b7); 
+			case 0x27422c:  return((char)0x64b5); 
+			case 0x27422e:  return((char)0x6270); 
+			case 0x27422f:  return((char)0x64de); 
+			case 0x274230:  return((char)0x6446); 
+			case 0x274231:  return((char)0x62e2); 
+			case 0x274233:  return((char)0x62e6); 
+			case 0x274234:  return((char)0x6400); 
+			case 0x274235:  return((char)0x6444); 
+			case 0x274237:  return((char)0x631b); 
+			case 0x274238:  return((char)0x644a); 
+			case 0x27423a:  return((char)0x6405); 
+			case 0x27423b:  return((char)0x63fd); 
+			case 0x274247:  return((char)0x8d25); 
+			case 0x27424f:  return((char)0x542f); 
+			case 0x274252:  return((char)0x654c); 
+			case 0x274254:  return((char)0x6570); 
+			case 0x274256:  return((char)0x655b); 
+			case 0x274257:  return((char)0x6bd9); 
+			case 0x274263:  return((char)0x65a9); 
+			case 0x274266:  return((char)0x65ad); 
+			case 0x27432d:  return((char)0x65f6); 
+			case 0x274332:  return((char)0x663c); 
+			case 0x274340:  return((char)0x6656); 
+			case 0x274341:  return((char)0x6655); 
+			case 0x274343:  return((char)0x7545); 
+			case 0x274344:  return((char)0x6682); 
+			case 0x274348:  return((char)0x6653); 
+			case 0x274349:  return((char)0x5386); 
+			case 0x27434b:  return((char)0x66a7); 
+			case 0x27434d:  return((char)0x65f7); 
+			case 0x274355:  return((char)0x4e66); 
+			case 0x27435a:  return((char)0x4f1a); 
+			case 0x274366:  return((char)0x80e7); 
+			case 0x274426:  return((char)0x4e1c); 
+			case 0x274463:  return((char)0x6761); 
+			case 0x274468:  return((char)0x67ad); 
+			case 0x274469:  return((char)0x6800); 
+			case 0x27446d:  return((char)0x5f03); 
+			case 0x27446e:  return((char)0x6816); 
+			case 0x274471:  return((char)0x680b); 
+			case 0x274476:  return((char)0x6808); 
+			case 0x27447a:  return((char)0x67a3); 
+			case 0x27447c:  return((char)0x832d); 
+			case 0x274526:  return((char)0x6781); 
+			case 0x27452a:  return((char)0x6768); 
+			case 0x27452b:  return((char)0x6862); 
+			case 0x27452d:  return((char)0x4e1a); 
+			case 0x27452f:  return((char)0x67ab); 
+			case 0x274537:  return((char)0x8363); 
+			case 0x274539:  return((char)0x6784); 
+			case 0x274540:  return((char)0x67aa); 
+			case 0x274544:  return((char)0x6837); 
+			case 0x274546:  return((char)0x6869); 
+			case 0x274547:  return((char)0x6807); 
+			case 0x274549:  return((char)0x67a2); 
+			case 0x27454a:  return((char)0x697c); 
+			case 0x27454c:  return((char)0x6868); 
+			case 0x27454e:  return((char)0x4e50); 
+			case 0x27454f:  return((char)0x679e); 
+			case 0x274553:  return((char)0x692d); 
+			case 0x274555:  return((char)0x6811); 
+			case 0x274557:  return((char)0x6866); 
+			case 0x274558:  return((char)0x6734); 
+			case 0x27455b:  return((char)0x6865); 
+			case 0x27455d:  return((char)0x673a); 
+			case 0x27455f:  return((char)0x6863); 
+			case 0x274561:  return((char)0x68c0); 
+			case 0x274562:  return((char)0x6867); 
+			case 0x274563:  return((char)0x67e0); 
+			case 0x274564:  return((char)0x69df); 
+			case 0x274565:  return((char)0x67dc); 
+			case 0x274566:  return((char)0x69db); 
+			case 0x27456a:  return((char)0x6988); 
+			case 0x27456b:  return((char)0x691f); 
+			case 0x27456c:  return((char)0x6809); 
+			case 0x27456d:  return((char)0x6a79); 
+			case 0x27456e:  return((char)0x680f); 
+			case 0x27456f:  return((char)0x6a31); 
+			case 0x274570:  return((char)0x6743); 
+			case 0x274571:  return((char)0x6984); 
+			case 0x274578:  return((char)0x94a6); 
+			case 0x27457a:  return((char)0x6b20); 
+			case 0x27457c:  return((char)0x6b27); 
+			case 0x27457e:  return((char)0x6b24); 
+			case 0x274621:  return((char)0x6b22); 
+			case 0x274629:  return((char)0x5c81); 
+			case 0x27462a:  return((char)0x5386); 
+			case 0x27462b:  return((char)0x5f52); 
+			case 0x274633:  return((char)0x6b8b); 
+			case 0x274635:  return((char)0x6b87); 
+			case 0x274636:  return((char)0x6b93); 
+			case 0x274637:  return((char)0x6ba1); 
+			case 0x274638:  return((char)0x6b7c); 
+			case 0x27463b:  return((char)0x6740); 
+			case 0x27463c:  return((char)0x58f3); 
+			case 0x274640:  return((char)0x6bb4); 
+			case 0x274655:  return((char)0x6c14); 
+			case 0x274658:  return((char)0x6c22); 
+			case 0x27474e:  return((char)0x6cfe); 
+			case 0x274759:  return((char)0x6cea); 
+			case 0x274768:  return((char)0x6d45); 
+			case 0x274774:  return((char)0x6e0a); 
+			case 0x274777:  return((char)0x6ca6); 
+			case 0x27477d:  return((char)0x6d8c); 
+			case 0x27482d:  return((char)0x6c64); 
+			case 0x274830:  return((char)0x6d4b); 
+			case 0x274831:  return((char)0x6da1); 
+			case 0x274833:  return((char)0x6d51); 
+			case 0x27483d:  return((char)0x6c9f); 
+			case 0x274841:  return((char)0x6c85); 
+			case 0x274842:  return((char)0x706d); 
+			case 0x274844:  return((char)0x6e7f); 
+			case 0x274848:  return((char)0x6ca7); 
+			case 0x27484b:  return((char)0x51c6); 
+			case 0x27484f:  return((char)0x6caa); 
+			case 0x274854:  return((char)0x6e0d); 
+			case 0x274855:  return((char)0x6da8); 
+			case 0x274857:  return((char)0x6c49); 
+			case 0x274858:  return((char)0x6ee1); 
+			case 0x274859:  return((char)0x6d9f); 
+			case 0x27485a:  return((char)0x6e10); 
+			case 0x27485f:  return((char)0x6ede); 
+			case 0x274863:  return((char)0x6d46); 
+			case 0x274864:  return((char)0x6e17); 
+			case 0x274865:  return((char)0x6e14); 
+			case 0x27486c:  return((char)0x6cfc); 
+			case 0x27486d:  return((char)0x6da6); 
+			case 0x27486e:  return((char)0x6da7); 
+			case 0x27486f:  return((char)0x6d01); 
+			case 0x274871:  return((char)0x6d47); 
+			case 0x274878:  return((char)0x6e83); 
+			case 0x27487b:  return((char)0x6dc0); 
+			case 0x27487c:  return((char)0x6d53); 
+			case 0x274921:  return((char)0x6cfd); 
+			case 0x274922:  return((char)0x6d4a); 
+			case 0x274926:  return((char)0x6d4e); 
+			case 0x274927:  return((char)0x6cde); 
+			case 0x274928:  return((char)0x6ee8); 
+			case 0x27492b:  return((char)0x6ee5); 
+			case 0x27492d:  return((char)0x6d9b); 
+			case 0x27492e:  return((char)0x6da9); 
+			case 0x274931:  return((char)0x6c88); 
+			case 0x274932:  return((char)0x6cfb); 
+			case 0x274933:  return((char)0x6e0e); 
+			case 0x274934:  return((char)0x6e85); 
+			case 0x274936:  return((char)0x6ee4); 
+			case 0x274937:  return((char)0x6d4f); 
+			case 0x27493a:  return((char)0x6fd1); 
+			case 0x27493b:  return((char)0x6ca5); 
+			case 0x27493c:  return((char)0x6fd2); 
+			case 0x27493d:  return((char)0x6f47); 
+			case 0x27493f:  return((char)0x6f9c); 
+			case 0x274941:  return((char)0x6d12); 
+			case 0x274942:  return((char)0x6ee9); 
+			case 0x274943:  return((char)0x6e7e); 
+			case 0x274944:  return((char)0x6ee6); 
+			case 0x27494a:  return((char)0x707e); 
+			case 0x274951:  return((char)0x4e3a); 
+			case 0x27495d:  return((char)0x4e4c); 
+			case 0x274966:  return((char)0x65e0); 
+			case 0x27496a:  return((char)0x70bc); 
+			case 0x27496d:  return((char)0x70e6); 
+			case 0x27496f:  return((char)0x7080); 
+			case 0x274975:  return((char)0x6247); 
+			case 0x27497d:  return((char)0x70ed); 
+			case 0x27497e:  return((char)0x70eb); 
+			case 0x274a21:  return((char)0x70bd); 
+			case 0x274a22:  return((char)0x7096); 
+			case 0x274a24:  return((char)0x706f); 
+			case 0x274a25:  return((char)0x7116); 
+			case 0x274a26:  return((char)0x70e7); 
+			case 0x274a2e:  return((char)0x8425); 
+			case 0x274a30:  return((char)0x70db); 
+			case 0x274a31:  return((char)0x707f); 
+			case 0x274a33:  return((char)0x70e9); 
+			case 0x274a36:  return((char)0x70c1); 
+			case 0x274a37:  return((char)0x7089); 
+			case 0x274a38:  return((char)0x70c2); 
+			case 0x274a42:  return((char)0x7237); 
+			case 0x274a45:  return((char)0x5c14); 
+			case 0x274a46:  return((char)0x5899); 
+			case 0x274a4c:  return((char)0x724d); 
+			case 0x274a53:  return((char)0x5b83); 
+			case 0x274a5a:  return((char)0x7275); 
+			case 0x274a5e:  return((char)0x8366); 
+			case 0x274a61:  return((char)0x728a); 
+			case 0x274a62:  return((char)0x727a); 
+			case 0x274a68:  return((char)0x72b6); 
+			case 0x274a70:  return((char)0x72ed); 
+			case 0x274a72:  return((char)0x72c8); 
+			case 0x274a79:  return((char)0x72b9); 
+			case 0x274a7e:  return((char)0x72f1); 
+			case 0x274b22:  return((char)0x72ef); 
+			case 0x274b23:  return((char)0x72ee); 
+			case 0x274b27:  return((char)0x72ec); 
+			case 0x274b28:  return((char)0x72de); 
+			case 0x274b29:  return((char)0x83b7); 
+			case 0x274b2a:  return((char)0x72b7); 
+			case 0x274b2b:  return((char)0x517d); 
+			case 0x274b2c:  return((char)0x730e); 
+			case 0x274b2d:  return((char)0x736d); 
+			case 0x274b2e:  return((char)0x732e); 
+			case 0x274b2f:  return((char)0x7321); 
+			case 0x274b47:  return((char)0x73b0); 
+			case 0x274b57:  return((char)0x73f2); 
+			case 0x274b5e:  return((char)0x739b); 
+			case 0x274b5f:  return((char)0x7410); 
+			case 0x274b64:  return((char)0x7391); 
+			case 0x274b67:  return((char)0x73af); 
+			case 0x274b68:  return((char)0x7477); 
+			case 0x274b69:  return((char)0x73ba); 
+			case 0x274b6b:  return((char)0x73d1); 
+			case 0x274b74:  return((char)0x74ef); 
+			case 0x274b7a:  return((char)0x4ea7); 
+			case 0x274c2d:  return((char)0x4ea9); 
+			case 0x274c31:  return((char)0x7544); 
+			case 0x274c33:  return((char)0x6bd5); 
+			case 0x274c34:  return((char)0x5f02); 
+			case 0x274c36:  return((char)0x753b); 
+			case 0x274c39:  return((char)0x5f53); 
+			case 0x274c3b:  return((char)0x7574); 
+			case 0x274c3c:  return((char)0x8fed); 
+			case 0x274c56:  return((char)0x75c9); 
+			case 0x274c60:  return((char)0x75a1); 
+			case 0x274c61:  return((char)0x759f); 
+			case 0x274c62:  return((char)0x75ea); 
+			case 0x274c63:  return((char)0x75af); 
+			case 0x274c6a:  return((char)0x75ae); 
+			case 0x274c6d:  return((char)0x75e8); 
+			case 0x274c6e:  return((char)0x7597); 
+			case 0x274c71:  return((char)0x75a0); 
+			case 0x274c73:  return((char)0x75d2); 
+			case 0x274c75:  return((char)0x765e); 
+			case 0x274c76:  return((char)0x763e); 
+			case 0x274c77:  return((char)0x7663); 
+			case 0x274c78:  return((char)0x762b); 
+			case 0x274c79:  return((char)0x766b); 
+			case 0x274c7b:  return((char)0x53d1); 
+			case 0x274d29:  return((char)0x7691); 
+			case 0x274d2d:  return((char)0x76b1); 
+			case 0x274d3a:  return((char)0x76cf); 
+			case 0x274d3c:  return((char)0x5c3d); 
+			case 0x274d3d:  return((char)0x76d1); 
+			case 0x274d3e:  return((char)0x76d8); 
+			case 0x274d3f:  return((char)0x5362); 
+			case 0x274d56:  return((char)0x4f17); 
+			case 0x274d57:  return((char)0x56f0); 
+			case 0x274d5d:  return((char)0x7750); 
+			case 0x274d73:  return((char)0x4e86); 
+			case 0x274d7c:  return((char)0x77a9); 
+			case 0x274e27:  return((char)0x77eb); 
+			case 0x274e3b:  return((char)0x781a); 
+			case 0x274e3e:  return((char)0x7815); 
+			case 0x274e45:  return((char)0x7855); 
+			case 0x274e49:  return((char)0x786e); 
+			case 0x274e4c:  return((char)0x7801); 
+			case 0x274e53:  return((char)0x7816); 
+			case 0x274e58:  return((char)0x77f6); 
+			case 0x274e59:  return((char)0x7840); 
+			case 0x274e5a:  return((char)0x788d); 
+			case 0x274e5b:  return((char)0x77ff); 
+			case 0x274e5c:  return((char)0x77fe); 
+			case 0x274e5d:  return((char)0x783a); 
+			case 0x274e5e:  return((char)0x783e); 
+			case 0x274e6f:  return((char)0x53ea); 
+			case 0x274e77:  return((char)0x7978); 
+			case 0x274e78:  return((char)0x796f); 
+			case 0x274e7b:  return((char)0x7985); 
+			case 0x274e7c:  return((char)0x793c); 
+			case 0x274e7d:  return((char)0x7977); 
+			case 0x274f22:  return((char)0x4e07); 
+			case 0x274f25:  return((char)0x53b6); 
+			case 0x274f36:  return((char)0x5e0c); 
+			case 0x274f3c:  return((char)0x79f0); 
+			case 0x274f3d:  return((char)0x79cd); 
+			case 0x274f40:  return((char)0x8c37); 
+			case 0x274f44:  return((char)0x79ef); 
+			case 0x274f46:  return((char)0x7a23); 
+			case 0x274f49:  return((char)0x7a51); 
+			case 0x274f4a:  return((char)0x79fd); 
+			case 0x274f4b:  return((char)0x83b7); 
+			case 0x274f4c:  return((char)0x7a33); 
+			case 0x274f5c:  return((char)0x6d3c); 
+			case 0x274f5d:  return((char)0x7a9d); 
+			case 0x274f5f:  return((char)0x7a77); 
+			case 0x274f60:  return((char)0x7aa5); 
+			case 0x274f61:  return((char)0x7a8d); 
+			case 0x274f62:  return((char)0x7a9c); 
+			case 0x274f63:  return((char)0x7aa6); 
+			case 0x274f64:  return((char)0x7a83); 
+			case 0x274f6b:  return((char)0x7ade); 
+			case 0x274f70:  return((char)0x5df4); 
+			case 0x274f79:  return((char)0x7b14); 
+			case 0x275021:  return((char)0x7b0b); 
+			case 0x275023:  return((char)0x8345); 
+			case 0x27502a:  return((char)0x94b3); 
+			case 0x27502b:  return((char)0x7b3a); 
+			case 0x275030:  return((char)0x8303); 
+			case 0x275033:  return((char)0x8282); 
+			case 0x275038:  return((char)0x7bac); 
+			case 0x275039:  return((char)0x7b03); 
+			case 0x27503a:  return((char)0x7b51); 
+			case 0x27503c:  return((char)0x7b5b); 
+			case 0x27503e:  return((char)0x7bd3); 
+			case 0x275041:  return((char)0x7b80); 
+			case 0x275042:  return((char)0x7bab); 
+			case 0x275045:  return((char)0x7baa); 
+			case 0x275046:  return((char)0x7bd1); 
+			case 0x275048:  return((char)0x5e18); 
+			case 0x27504b:  return((char)0x7b7e); 
+			case 0x27504c:  return((char)0x7bee); 
+			case 0x27504d:  return((char)0x7b79); 
+			case 0x275050:  return((char)0x7b3c); 
+			case 0x275051:  return((char)0x7c41); 
+			case 0x275052:  return((char)0x7b7e); 
+			case 0x275053:  return((char)0x7bf1); 
+			case 0x275054:  return((char)0x7ba9); 
+			case 0x275055:  return((char)0x5401); 
+			case 0x275060:  return((char)0x7c8b); 
+			case 0x275062:  return((char)0x80e1); 
+			case 0x275068:  return((char)0x7caa); 
+			case 0x27506b:  return((char)0x7cae); 
+			case 0x27506f:  return((char)0x7ea0); 
+			case 0x275070:  return((char)0x7eaa); 
+			case 0x275071:  return((char)0x7ea3); 
+			case 0x275072:  return((char)0x7ea2); 
+			case 0x275073:  return((char)0x7eab); 
+			case 0x275074:  return((char)0x7ea6); 
+			case 0x275075:  return((char)0x7ea5); 
+			case 0x275076:  return((char)0x7eba); 
+			case 0x275077:  return((char)0x7eb9); 
+			case 0x27507a:  return((char)0x7ead); 
+			case 0x27507c:  return((char)0x7eb0); 
+			case 0x27507d:  return((char)0x7eaf); 
+			case 0x27507e:  return((char)0x7ebd); 
+			case 0x275121:  return((char)0x7eb1); 
+			case 0x275122:  return((char)0x7eb3); 
+			case 0x275123:  return((char)0x7ea7); 
+			case 0x275124:  return((char)0x7eb8); 
+			case 0x275125:  return((char)0x7eb7); 
+			case 0x275126:  return((char)0x7eca); 
+			case 0x275128:  return((char)0x7ecb); 
+			case 0x275129:  return((char)0x624e); 
+			case 0x27512a:  return((char)0x7ecd); 
+			case 0x27512b:  return((char)0x7ec4); 
+			case 0x27512c:  return((char)0x7ec6); 
+			case 0x27512d:  return((char)0x7ec5); 
+			case 0x27512f:  return((char)0x7ecc); 
+			case 0x275130:  return((char)0x7ec8); 
+			case 0x275131:  return((char)0x7edf); 
+			case 0x275132:  return((char)0x7ede); 
+			case 0x275133:  return((char)0x7ed2); 
+			case 0x275134:  return((char)0x7ed3); 
+			case 0x275136:  return((char)0x7eda); 
+			case 0x275137:  return((char)0x7edd); 
+			case 0x275138:  return((char)0x7edc); 
+			case 0x275139:  return((char)0x7ed9); 
+			case 0x27513b:  return((char)0x4e1d); 
+			case 0x27513c:  return((char)0x7ecf); 
+			case 0x27513d:  return((char)0x6346); 
+			case 0x27513e:  return((char)0x7ee2); 
+			case 0x27513f:  return((char)0x7ee5); 
+			case 0x275140:  return((char)0x7ed1); 
+			case 0x275141:  return((char)0x7efc); 
+			case 0x275142:  return((char)0x7efd); 
+			case 0x275143:  return((char)0x7efe); 
+			case 0x275144:  return((char)0x7d27); 
+			case 0x275145:  return((char)0x7eeb); 
+			case 0x275146:  return((char)0x7f00); 
+			case 0x275148:  return((char)0x7f51); 
+			case 0x275149:  return((char)0x7eb2); 
+			case 0x27514a:  return((char)0x7ef0); 
+			case 0x27514c:  return((char)0x7eff); 
+			case 0x27514d:  return((char)0x7ef8); 
+			case 0x27514e:  return((char)0x7ef4); 
+			case 0x27514f:  return((char)0x7ef5); 
+			case 0x275150:  return((char)0x7eb6); 
+			case 0x275151:  return((char)0x7f01); 
+			case 0x275152:  return((char)0x7f14); 
+			case 0x275153:  return((char)0x7eac); 
+			case 0x275154:  return((char)0x7ec3); 
+			case 0x275155:  return((char)0x7eea); 
+			case 0x275156:  return((char)0x7f04); 
+			case 0x275157:  return((char)0x7f05); 
+			case 0x275158:  return((char)0x7f09); 
+			case 0x275159:  return((char)0x7f13); 
+			case 0x27515a:  return((char)0x7f18); 
+			case 0x27515b:  return((char)0x7f16); 
+			case 0x27515c:  return((char)0x7ebf); 
+			case 0x27515d:  return((char)0x7f0d); 
+			case 0x27515e:  return((char)0x7f0e); 
+			case 0x27515f:  return((char)0x7f23); 
+			case 0x275160:  return((char)0x7f22); 
+			case 0x275161:  return((char)0x8426); 
+			case 0x275162:  return((char)0x7f1a); 
+			case 0x275163:  return((char)0x81f4); 
+			case 0x275164:  return((char)0x53bf); 
+			case 0x275165:  return((char)0x7f29); 
+			case 0x275166:  return((char)0x7ee9); 
+			case 0x275167:  return((char)0x7f2a); 
+			case 0x275168:  return((char)0x7f15); 
+			case 0x275169:  return((char)0x7f27); 
+			case 0x27516c:  return((char)0x7f1d); 
+			case 0x27516d:  return((char)0x603b); 
+			case 0x27516e:  return((char)0x7eb5); 
+			case 0x27516f:  return((char)0x7f2b); 
+			case 0x275170:  return((char)0x7f2e); 
+			case 0x275171:  return((char)0x7ec7); 
+			case 0x275172:  return((char)0x7ee3); 
+			case 0x275173:  return((char)0x7ed5); 
+			case 0x275174:  return((char)0x7f2d); 
+			case 0x275175:  return((char)0x7cfb); 
+			case 0x275176:  return((char)0x7ef3); 
+			case 0x275177:  return((char)0x8327); 
+			case 0x275178:  return((char)0x7ece); 
+			case 0x275179:  return((char)0x7ed8); 
+			case 0x27517a:  return((char)0x8fab); 
+			case 0x27517b:  return((char)0x7f24); 
+			case 0x27517d:  return((char)0x7ee7); 
+			case 0x27517e:  return((char)0x7f20); 
+			case 0x275221:  return((char)0x7eed); 
+			case 0x275222:  return((char)0x7f28); 
+			case 0x275223:  return((char)0x7ea4); 
+			case 0x275224:  return((char)0x7f06); 
+			case 0x275233:  return((char)0x7f5a); 
+			case 0x275234:  return((char)0x9a82); 
+			case 0x275235:  return((char)0x7f62); 
+			case 0x275237:  return((char)0x7f57); 
+			case 0x275238:  return((char)0x7f81); 
+			case 0x275242:  return((char)0x4e49); 
+			case 0x27524d:  return((char)0x4e60); 
+			case 0x275251:  return((char)0x7fc6); 
+			case 0x275258:  return((char)0x7fd8); 
+			case 0x27526f:  return((char)0x5723); 
+			case 0x275271:  return((char)0x95fb); 
+			case 0x275274:  return((char)0x58f0); 
+			case 0x275275:  return((char)0x8038); 
+			case 0x275276:  return((char)0x806a); 
+			case 0x275277:  return((char)0x8054); 
+			case 0x275278:  return((char)0x804c); 
+			case 0x275279:  return((char)0x8042); 
+			case 0x27527a:  return((char)0x804b); 
+			case 0x27527b:  return((char)0x542c); 
+			case 0x275321:  return((char)0x8083); 
+			case 0x275344:  return((char)0x80c1); 
+			case 0x27534a:  return((char)0x8090); 
+			case 0x27534d:  return((char)0x8109); 
+			case 0x275358:  return((char)0x80be); 
+			case 0x275359:  return((char)0x80c0); 
+			case 0x27535e:  return((char)0x80a0); 
+			case 0x275362:  return((char)0x80bf); 
+			case 0x275365:  return((char)0x8111); 
+			case 0x27536c:  return((char)0x80f6); 
+			case 0x27536e:  return((char)0x80a4); 
+			case 0x275371:  return((char)0x817b); 
+			case 0x275378:  return((char)0x8113); 
+			case 0x275379:  return((char)0x80c6); 
+			case 0x27537a:  return((char)0x8138); 
+			case 0x27537b:  return((char)0x810d); 
+			case 0x27537c:  return((char)0x8110); 
+			case 0x27537d:  return((char)0x8191); 
+			case 0x27537e:  return((char)0x814a); 
+			case 0x275421:  return((char)0x80ea); 
+			case 0x275422:  return((char)0x810f); 
+			case 0x275425:  return((char)0x4e34); 
+			case 0x27542b:  return((char)0x53f0); 
+			case 0x275432:  return((char)0x4e0e); 
+			case 0x275433:  return((char)0x5174); 
+			case 0x275434:  return((char)0x4e3e); 
+			case 0x275435:  return((char)0x65e7); 
+			case 0x27544a:  return((char)0x8231); 
+			case 0x27544b:  return((char)0x8230); 
+			case 0x27544e:  return((char)0x8270); 
+			case 0x275458:  return((char)0x5df4); 
+			case 0x27545c:  return((char)0x520d); 
+			case 0x275528:  return((char)0x835a); 
+			case 0x275529:  return((char)0x830e); 
+			case 0x27552a:  return((char)0x82cb); 
+			case 0x27552d:  return((char)0x5e84); 
+			case 0x27553c:  return((char)0x534e); 
+			case 0x275541:  return((char)0x83b1); 
+			case 0x27554d:  return((char)0x82c7); 
+			case 0x27554f:  return((char)0x53f6); 
+			case 0x275551:  return((char)0x80e1); 
+			case 0x275553:  return((char)0x8364); 
+			case 0x275555:  return((char)0x83b4); 
+			case 0x27555d:  return((char)0x5e2d); 
+			case 0x275563:  return((char)0x836a); 
+			case 0x275564:  return((char)0x82ce); 
+			case 0x275567:  return((char)0x82cd); 
+			case 0x275568:  return((char)0x8298); 
+			case 0x27556c:  return((char)0x83b2); 
+			case 0x27556e:  return((char)0x836b); 
+			case 0x275571:  return((char)0x848b); 
+			case 0x275573:  return((char)0x535c); 
+			case 0x275576:  return((char)0x8361); 
+			case 0x27557c:  return((char)0x829c); 
+			case 0x275622:  return((char)0x8427); 
+			case 0x275624:  return((char)0x59dc); 
+			case 0x275626:  return((char)0x8537); 
+			case 0x275629:  return((char)0x84dd); 
+			case 0x27562a:  return((char)0x8428); 
+			case 0x27562e:  return((char)0x501f); 
+			case 0x275631:  return((char)0x827a); 
+			case 0x275632:  return((char)0x85ae); 
+			case 0x275635:  return((char)0x836f); 
+			case 0x275637:  return((char)0x853c); 
+			case 0x275639:  return((char)0x853a); 
+			case 0x27563a:  return((char)0x82a6); 
+			case 0x27563b:  return((char)0x82f9); 
+			case 0x27563c:  return((char)0x82cf); 
+			case 0x27563d:  return((char)0x8574); 
+			case 0x27563e:  return((char)0x5170); 
+			case 0x275640:  return((char)0x85d3); 
+			case 0x275642:  return((char)0x841d); 
+			case 0x275644:  return((char)0x4e47); 
+			case 0x275647:  return((char)0x5904); 
+			case 0x275648:  return((char)0x864f); 
+			case 0x27564a:  return((char)0x53f7); 
+			case 0x27564c:  return((char)0x4e8f); 
+			case 0x27565a:  return((char)0x65e6); 
+			case 0x275676:  return((char)0x8680); 
+			case 0x275679:  return((char)0x80e1); 
+			case 0x27567a:  return((char)0x867e); 
+			case 0x275724:  return((char)0x8424); 
+			case 0x275725:  return((char)0x8682); 
+			case 0x27572c:  return((char)0x877c); 
+			case 0x275732:  return((char)0x86f2); 
+			case 0x275733:  return((char)0x866b); 
+			case 0x275734:  return((char)0x8749); 
+			case 0x275735:  return((char)0x8681); 
+			case 0x275736:  return((char)0x8747); 
+			case 0x27573c:  return((char)0x86ce); 
+			case 0x27573e:  return((char)0x8721); 
+			case 0x27573f:  return((char)0x86ca); 
+			case 0x275741:  return((char)0x8695); 
+			case 0x275742:  return((char)0x86ee); 
+			case 0x275746:  return((char)0x672e); 
+			case 0x275747:  return((char)0x4e8d); 
+			case 0x275749:  return((char)0x536b); 
+			case 0x27574a:  return((char)0x51b2); 
+			case 0x275762:  return((char)0x8865); 
+			case 0x275763:  return((char)0x91cc); 
+			case 0x275765:  return((char)0x88c5); 
+			case 0x27576c:  return((char)0x5236); 
+			case 0x275771:  return((char)0x8934); 
+			case 0x275773:  return((char)0x88e4); 
+			case 0x275777:  return((char)0x4eb5); 
+			case 0x275779:  return((char)0x891b); 
+			case 0x27577c:  return((char)0x88c6); 
+			case 0x27577d:  return((char)0x8884); 
+			case 0x275821:  return((char)0x889c); 
+			case 0x275822:  return((char)0x886c); 
+			case 0x275823:  return((char)0x88ad); 
+			case 0x275828:  return((char)0x89c1); 
+			case 0x275829:  return((char)0x89c4); 
+			case 0x27582a:  return((char)0x89c5); 
+			case 0x27582b:  return((char)0x89c6); 
+			case 0x27582c:  return((char)0x4eb2); 
+			case 0x27582d:  return((char)0x89ce); 
+			case 0x27582e:  return((char)0x89ca); 
+			case 0x27582f:  return((char)0x89d0); 
+			case 0x275830:  return((char)0x89c9); 
+			case 0x275831:  return((char)0x89c8); 
+			case 0x275832:  return((char)0x89c2); 
+			case 0x275835:  return((char)0x89de); 
+			case 0x275838:  return((char)0x8ba1); 
+			case 0x275839:  return((char)0x8ba2); 
+			case 0x27583a:  return((char)0x8ba3); 
+			case 0x27583b:  return((char)0x8ba6); 
+			case 0x27583c:  return((char)0x8bb0); 
+			case 0x27583d:  return((char)0x8ba8); 
+			case 0x27583e:  return((char)0x8ba7); 
+			case 0x27583f:  return((char)0x8baa); 
+			case 0x275840:  return((char)0x8baf); 
+			case 0x275841:  return((char)0x8bab); 
+			case 0x275843:  return((char)0x8bad); 
+			case 0x275844:  return((char)0x8bbf); 
+			case 0x275845:  return((char)0x8bc0); 
+			case 0x275846:  return((char)0x8bb6); 
+			case 0x275847:  return((char)0x8bb7); 
+			case 0x275848:  return((char)0x8bb8); 
+			case 0x275849:  return((char)0x8bbe); 
+			case 0x27584a:  return((char)0x8bb9); 
+			case 0x27584b:  return((char)0x8bbc); 
+			case 0x27584c:  return((char)0x6ce8); 
+			case 0x27584e:  return((char)0x8bc4); 
+			case 0x27584f:  return((char)0x8bcd); 
+			case 0x275851:  return((char)0x8bc2); 
+			case 0x275852:  return((char)0x8bcf); 
+			case 0x275853:  return((char)0x8bc5); 
+			case 0x275854:  return((char)0x8bc8); 
+			case 0x275855:  return((char)0x8bcb); 
+			case 0x275856:  return((char)0x8bc9); 
+			case 0x275857:  return((char)0x8bca); 
+			case 0x275858:  return((char)0x8be7); 
+			case 0x275859:  return((char)0x8be5); 
+			case 0x27585a:  return((char)0x8be6); 
+			case 0x27585b:  return((char)0x8bd5); 
+			case 0x27585c:  return((char)0x8bd7); 
+			case 0x27585d:  return((char)0x8bd8); 
+			case 0x27585e:  return((char)0x8be3); 
+			case 0x27585f:  return((char)0x8bd9); 
+			case 0x275860:  return((char)0x8bda); 
+			case 0x275861:  return((char)0x5938); 
+			case 0x275862:  return((char)0x8bdb); 
+			case 0x275863:  return((char)0x8be1); 
+			case 0x275865:  return((char)0x8be2); 
+			case 0x275866:  return((char)0x8bdd); 
+			case 0x275867:  return((char)0x8be0); 
+			case 0x275868:  return((char)0x8bdf); 
+			case 0x275869:  return((char)0x8bf4); 
+			case 0x27586a:  return((char)0x8bf5); 
+			case 0x27586b:  return((char)0x8beb); 
+			case 0x27586c:  return((char)0x8bed); 
+			case 0x27586d:  return((char)0x5fd7); 
+			case 0x27586f:  return((char)0x8bec); 
+			case 0x275870:  return((char)0x8ba4); 
+			case 0x275871:  return((char)0x8bef); 
+			case 0x275872:  return((char)0x8bf2); 
+			case 0x275873:  return((char)0x8bf0); 
+			case 0x275874:  return((char)0x8bf1); 
+			case 0x275875:  return((char)0x8bf3); 
+			case 0x275876:  return((char)0x8c0a); 
+			case 0x275877:  return((char)0x8c06); 
+			case 0x275878:  return((char)0x8c05); 
+			case 0x275879:  return((char)0x8c08); 
+			case 0x27587a:  return((char)0x8bf7); 
+			case 0x27587b:  return((char)0x8bf8); 
+			case 0x27587c:  return((char)0x8bfe); 
+			case 0x27587d:  return((char)0x8c03); 
+			case 0x27587e:  return((char)0x8bff); 
+			case 0x275921:  return((char)0x8c04); 
+			case 0x275922:  return((char)0x8c01); 
+			case 0x275923:  return((char)0x8bde); 
+			case 0x275924:  return((char)0x8bba); 
+			case 0x275925:  return((char)0x8c1b); 
+			case 0x275926:  return((char)0x8c1a); 
+			case 0x275927:  return((char)0x8c0f); 
+			case 0x275928:  return((char)0x8bb3); 
+			case 0x275929:  return((char)0x8c10); 
+			case 0x27592a:  return((char)0x8c0d); 
+			case 0x27592b:  return((char)0x8c0b); 
+			case 0x27592c:  return((char)0x8c12); 
+			case 0x27592d:  return((char)0x8c13); 
+			case 0x27592e:  return((char)0x8bfa); 
+			case 0x27592f:  return((char)0x8bbd); 
+			case 0x275930:  return((char)0x8c15); 
+			case 0x275931:  return((char)0x8c24); 
+			case 0x275932:  return((char)0x8c26); 
+			case 0x275933:  return((char)0x8c1c); 
+			case 0x275934:  return((char)0x8bb2); 
+			case 0x275935:  return((char)0x8c0e); 
+			case 0x275936:  return((char)0x8c23); 
+			case 0x275937:  return((char)0x8a8a); 
+			case 0x275938:  return((char)0x8c22); 
+			case 0x275939:  return((char)0x8c28); 
+			case 0x27593a:  return((char)0x8c2c); 
+			case 0x27593b:  return((char)0x8c1f); 
+			case 0x27593c:  return((char)0x8bc6); 
+			case 0x27593d:  return((char)0x8c31); 
+			case 0x27593e:  return((char)0x8c32); 
+			case 0x27593f:  return((char)0x8bc1); 
+			case 0x275940:  return((char)0x8c2d); 
+			case 0x275942:  return((char)0x8ba5); 
+			case 0x275943:  return((char)0x8bae); 
+			case 0x275946:  return((char)0x8bd1); 
+			case 0x275947:  return((char)0x8c34); 
+			case 0x275948:  return((char)0x62a4); 
+			case 0x275949:  return((char)0x8a89); 
+			case 0x27594a:  return((char)0x8bfb); 
+			case 0x27594b:  return((char)0x53d8); 
+			case 0x27594c:  return((char)0x8ba9); 
+			case 0x27594d:  return((char)0x8c36); 
+			case 0x27594e:  return((char)0x8c17); 
+			case 0x275954:  return((char)0x5c82); 
+			case 0x275957:  return((char)0x7ad6); 
+			case 0x275958:  return((char)0x4e30); 
+			case 0x27595e:  return((char)0x4e88); 
+			case 0x275966:  return((char)0x7683); 
+			case 0x275968:  return((char)0x8d1d); 
+			case 0x275969:  return((char)0x8d1e); 
+			case 0x27596a:  return((char)0x8d1f); 
+			case 0x27596b:  return((char)0x8d21); 
+			case 0x27596c:  return((char)0x8d22); 
+			case 0x27596d:  return((char)0x8d23); 
+			case 0x27596e:  return((char)0x8d2f); 
+			case 0x27596f:  return((char)0x8d27); 
+			case 0x275970:  return((char)0x8d2a); 
+			case 0x275971:  return((char)0x8d2b); 
+			case 0x275972:  return((char)0x8d29); 
+			case 0x275975:  return((char)0x8d39); 
+			case 0x275976:  return((char)0x8d32); 
+			case 0x275977:  return((char)0x8d3a); 
+			case 0x275978:  return((char)0x8d35); 
+			case 0x275979:  return((char)0x8d34); 
+			case 0x27597a:  return((char)0x4e70); 
+			case 0x27597b:  return((char)0x8d2c); 
+			case 0x27597c:  return((char)0x8d3b); 
+			case 0x27597d:  return((char)0x8d37); 
+			case 0x27597e:  return((char)0x8d38); 
+			case 0x275a21:  return((char)0x8d45); 
+			case 0x275a22:  return((char)0x8d44); 
+			case 0x275a23:  return((char)0x8d3c); 
+			case 0x275a24:  return((char)0x8d3e); 
+			case 0x275a25:  return((char)0x8d3f); 
+			case 0x275a26:  return((char)0x8d40); 
+			case 0x275a27:  return((char)0x8d41); 
+			case 0x275a28:  return((char)0x8d42); 
+			case 0x275a29:  return((char)0x5bbe); 
+			case 0x275a2a:  return((char)0x8d48); 
+			case 0x275a2b:  return((char)0x8d4a); 
+			case 0x275a2c:  return((char)0x8d54); 
+			case 0x275a2d:  return((char)0x8d4b); 
+			case 0x275a2f:  return((char)0x5356); 
+			case 0x275a30:  return((char)0x8d24); 
+			case 0x275a31:  return((char)0x8d31); 
+			case 0x275a32:  return((char)0x8d4f); 
+			case 0x275a33:  return((char)0x8d50); 
+			case 0x275a34:  return((char)0x8d28); 
+			case 0x275a35:  return((char)0x8d4c); 
+			case 0x275a36:  return((char)0x8d56); 
+			case 0x275a37:  return((char)0x8d5b); 
+			case 0x275a38:  return((char)0x8d5a); 
+			case 0x275a39:  return((char)0x8d58); 
+			case 0x275a3a:  return((char)0x8d2d); 
+			case 0x275a3b:  return((char)0x8d60); 
+			case 0x275a3c:  return((char)0x8d5d); 
+			case 0x275a3d:  return((char)0x8d5e); 
+			case 0x275a3e:  return((char)0x8d62); 
+			case 0x275a3f:  return((char)0x8d61); 
+			case 0x275a40:  return((char)0x8d43); 
+			case 0x275a41:  return((char)0x8d4e); 
+			case 0x275a42:  return((char)0x8d63); 
+			case 0x275a4f:  return((char)0x8d75); 
+			case 0x275a50:  return((char)0x8d76); 
+			case 0x275a53:  return((char)0x8d8b); 
+			case 0x275a68:  return((char)0x8df5); 
+			case 0x275a71:  return((char)0x8e0a); 
+			case 0x275a78:  return((char)0x8e52); 
+			case 0x275a7e:  return((char)0x8df7); 
+			case 0x275b26:  return((char)0x8db8); 
+			case 0x275b28:  return((char)0x8e0c); 
+			case 0x275b29:  return((char)0x8dc3); 
+			case 0x275b2a:  return((char)0x8e2f); 
+			case 0x275b2b:  return((char)0x8e51); 
+			case 0x275b2c:  return((char)0x8e8f); 
+			case 0x275b31:  return((char)0x8eaf); 
+			case 0x275b32:  return((char)0x8f66); 
+			case 0x275b33:  return((char)0x8f67); 
+			case 0x275b34:  return((char)0x519b); 
+			case 0x275b35:  return((char)0x8f68); 
+			case 0x275b36:  return((char)0x8f69); 
+			case 0x275b37:  return((char)0x8f6b); 
+			case 0x275b38:  return((char)0x8f6f); 
+			case 0x275b39:  return((char)0x8f6d); 
+			case 0x275b3a:  return((char)0x8f72); 
+			case 0x275b3b:  return((char)0x8f74); 
+			case 0x275b3c:  return((char)0x8f76); 
+			case 0x275b3d:  return((char)0x8f83); 
+			case 0x275b3e:  return((char)0x8f7c); 
+			case 0x275b3f:  return((char)0x8f7d); 
+			case 0x275b40:  return((char)0x8f7e); 
+			case 0x275b41:  return((char)0x8f85); 
+			case 0x275b42:  return((char)0x8f84); 
+			case 0x275b43:  return((char)0x8f7b); 
+			case 0x275b45:  return((char)0x8f87); 
+			case 0x275b46:  return((char)0x8f86); 
+			case 0x275b47:  return((char)0x8f8d); 
+			case 0x275b48:  return((char)0x8f89); 
+			case 0x275b49:  return((char)0x8f88); 
+			case 0x275b4a:  return((char)0x8f6e); 
+			case 0x275b4b:  return((char)0x8f8e); 
+			case 0x275b4c:  return((char)0x8f90); 
+			case 0x275b4d:  return((char)0x8f91); 
+			case 0x275b4e:  return((char)0x8f93); 
+			case 0x275b4f:  return((char)0x8f96); 
+			case 0x275b50:  return((char)0x8f97); 
+			case 0x275b51:  return((char)0x8f95); 
+			case 0x275b52:  return((char)0x6bc2); 
+			case 0x275b53:  return((char)0x8206); 
+			case 0x275b54:  return((char)0x8f99); 
+			case 0x275b55:  return((char)0x8f6c); 
+			case 0x275b56:  return((char)0x8f9a); 
+			case 0x275b57:  return((char)0x8f7f); 
+			case 0x275b58:  return((char)0x8f70); 
+			case 0x275b59:  return((char)0x8f94); 
+			case 0x275b5f:  return((char)0x529e); 
+			case 0x275b60:  return((char)0x8f9e); 
+			case 0x275b61:  return((char)0x8fa9); 
+			case 0x275b64:  return((char)0x519c); 
+			case 0x275b6d:  return((char)0x8ff0); 
+			case 0x275b7d:  return((char)0x8fd9); 
+			case 0x275b7e:  return((char)0x8fde); 
+			case 0x275c33:  return((char)0x8fdb); 
+			case 0x275c34:  return((char)0x8fd0); 
+			case 0x275c39:  return((char)0x8fbe); 
+			case 0x275c3a:  return((char)0x8fdd); 
+			case 0x275c3c:  return((char)0x8fc2); 
+			case 0x275c3e:  return((char)0x8fc7); 
+			case 0x275c44:  return((char)0x8fdc); 
+			case 0x275c45:  return((char)0x900a); 
+			case 0x275c48:  return((char)0x9012); 
+			case 0x275c49:  return((char)0x9002); 
+			case 0x275c4f:  return((char)0x9009); 
+			case 0x275c50:  return((char)0x8fdf); 
+			case 0x275c51:  return((char)0x8fc1); 
+			case 0x275c52:  return((char)0x8fbd); 
+			case 0x275c53:  return((char)0x9057); 
+			case 0x275c56:  return((char)0x8fc8); 
+			case 0x275c57:  return((char)0x8fd8); 
+			case 0x275c5a:  return((char)0x8fe9); 
+			case 0x275c5b:  return((char)0x8fb9); 
+			case 0x275c5c:  return((char)0x9026); 
+			case 0x275c5d:  return((char)0x903b); 
+			case 0x275c6b:  return((char)0x5369); 
+			case 0x275c6d:  return((char)0x90ae); 
+			case 0x275c70:  return((char)0x4e61); 
+			case 0x275c71:  return((char)0x90b9); 
+			case 0x275c73:  return((char)0x90d1); 
+			case 0x275c74:  return((char)0x90bb); 
+			case 0x275c75:  return((char)0x9093); 
+			case 0x275d2a:  return((char)0x9154); 
+			case 0x275d2f:  return((char)0x915d); 
+			case 0x275d30:  return((char)0x4e11); 
+			case 0x275d31:  return((char)0x533b); 
+			case 0x275d32:  return((char)0x9171); 
+			case 0x275d34:  return((char)0x917f); 
+			case 0x275d35:  return((char)0x8845); 
+			case 0x275d38:  return((char)0x91ca); 
+			case 0x275d3d:  return((char)0x5398); 
+			case 0x275d3f:  return((char)0x9488); 
+			case 0x275d40:  return((char)0x9489); 
+			case 0x275d41:  return((char)0x948a); 
+			case 0x275d43:  return((char)0x9497); 
+			case 0x275d45:  return((char)0x9493); 
+			case 0x275d46:  return((char)0x948f); 
+			case 0x275d47:  return((char)0x9499); 
+			case 0x275d48:  return((char)0x949d); 
+			case 0x275d49:  return((char)0x94ae); 
+			case 0x275d4a:  return((char)0x94a0); 
+			case 0x275d4b:  return((char)0x949e); 
+			case 0x275d4c:  return((char)0x94a7); 
+			case 0x275d4d:  return((char)0x94a4); 
+			case 0x275d4f:  return((char)0x94b4); 
+			case 0x275d50:  return((char)0x94b9); 
+			case 0x275d51:  return((char)0x94b8); 
+			case 0x275d52:  return((char)0x94c0); 
+			case 0x275d53:  return((char)0x94be); 
+			case 0x275d55:  return((char)0x94c5); 
+			case 0x275d56:  return((char)0x94a9); 
+			case 0x275d57:  return((char)0x94c2); 
+			case 0x275d58:  return((char)0x94c3); 
+			case 0x275d59:  return((char)0x94f0); 
+			case 0x275d5a:  return((char)0x94f6); 
+			case 0x275d5b:  return((char)0x94d0); 
+			case 0x275d5c:  return((char)0x94dc); 
+			case 0x275d5d:  return((char)0x94ed); 
+			case 0x275d5e:  return((char)0x94e2); 
+			case 0x275d5f:  return((char)0x94ec); 
+			case 0x275d60:  return((char)0x94e8); 
+			case 0x275d61:  return((char)0x8854); 
+			case 0x275d62:  return((char)0x950c); 
+			case 0x275d63:  return((char)0x9511); 
+			case 0x275d64:  return((char)0x9510); 
+			case 0x275d65:  return((char)0x94fa); 
+			case 0x275d66:  return((char)0x9500); 
+			case 0x275d67:  return((char)0x94dd); 
+			case 0x275d68:  return((char)0x9504); 
+			case 0x275d69:  return((char)0x9509); 
+			case 0x275d6a:  return((char)0x950b); 
+			case 0x275d6b:  return((char)0x952d); 
+			case 0x275d6d:  return((char)0x952f); 
+			case 0x275d6e:  return((char)0x9530); 
+			case 0x275d6f:  return((char)0x9519); 
+			case 0x275d70:  return((char)0x94b1); 
+			case 0x275d71:  return((char)0x94a2); 
+			case 0x275d72:  return((char)0x9521); 
+			case 0x275d73:  return((char)0x94ee); 
+			case 0x275d74:  return((char)0x5f55); 
+			case 0x275d75:  return((char)0x9525); 
+			case 0x275d76:  return((char)0x9526); 
+			case 0x275d77:  return((char)0x9540); 
+			case 0x275d78:  return((char)0x9541); 
+			case 0x275d79:  return((char)0x952e); 
+			case 0x275d7a:  return((char)0x9532); 
+			case 0x275d7c:  return((char)0x9505); 
+			case 0x275d7d:  return((char)0x951a); 
+			case 0x275d7e:  return((char)0x953e); 
+			case 0x275e21:  return((char)0x949f); 
+			case 0x275e22:  return((char)0x9524); 
+			case 0x275e23:  return((char)0x9539); 
+			case 0x275e24:  return((char)0x953b); 
+			case 0x275e25:  return((char)0x9551); 
+			case 0x275e27:  return((char)0x9547); 
+			case 0x275e28:  return((char)0x9501); 
+			case 0x275e29:  return((char)0x94a8); 
+			case 0x275e2a:  return((char)0x954d); 
+			case 0x275e2b:  return((char)0x955c); 
+			case 0x275e2c:  return((char)0x955d); 
+			case 0x275e2e:  return((char)0x955e); 
+			case 0x275e2f:  return((char)0x94f2); 
+			case 0x275e30:  return((char)0x94ff); 
+			case 0x275e31:  return((char)0x94fe); 
+			case 0x275e32:  return((char)0x9556); 
+			case 0x275e33:  return((char)0x9557); 
+			case 0x275e34:  return((char)0x9542); 
+			case 0x275e35:  return((char)0x9558); 
+			case 0x275e36:  return((char)0x9559); 
+			case 0x275e37:  return((char)0x9535); 
+			case 0x275e39:  return((char)0x94d9); 
+			case 0x275e3a:  return((char)0x9570); 
+			case 0x275e3b:  return((char)0x9508); 
+			case 0x275e3c:  return((char)0x956d); 
+			case 0x275e3d:  return((char)0x94c1); 
+			case 0x275e3e:  return((char)0x94db); 
+			case 0x275e3f:  return((char)0x94ce); 
+			case 0x275e40:  return((char)0x956f); 
+			case 0x275e43:  return((char)0x94f8); 
+			case 0x275e44:  return((char)0x9573); 
+			case 0x275e45:  return((char)0x94c4); 
+			case 0x275e46:  return((char)0x9576); 
+			case 0x275e47:  return((char)0x94a5); 
+			case 0x275e48:  return((char)0x92ae); 
+			case 0x275e49:  return((char)0x9523); 
+			case 0x275e4a:  return((char)0x94bb); 
+			case 0x275e4b:  return((char)0x51ff); 
+			case 0x275e4c:  return((char)0x957f); 
+			case 0x275e4d:  return((char)0x95e8); 
+			case 0x275e4e:  return((char)0x95e9); 
+			case 0x275e4f:  return((char)0x95ea); 
+			case 0x275e50:  return((char)0x95ed); 
+			case 0x275e51:  return((char)0x95f5); 
+			case 0x275e52:  return((char)0x95f0); 
+			case 0x275e53:  return((char)0x5f00); 
+			case 0x275e54:  return((char)0x95f2); 
+			case 0x275e55:  return((char)0x95f4); 
+			case 0x275e57:  return((char)0x95f8); 
+			case 0x275e58:  return((char)0x9602); 
+			case 0x275e59:  return((char)0x95fa); 
+			case 0x275e5a:  return((char)0x95fd); 
+			case 0x275e5b:  return((char)0x9601); 
+			case 0x275e5c:  return((char)0x9600); 
+			case 0x275e5d:  return((char)0x5408); 
+			case 0x275e5e:  return((char)0x9605); 
+			case 0x275e5f:  return((char)0x95fe); 
+			case 0x275e60:  return((char)0x960e); 
+			case 0x275e61:  return((char)0x9614); 
+			case 0x275e62:  return((char)0x9615); 
+			case 0x275e63:  return((char)0x9611); 
+			case 0x275e64:  return((char)0x95f1); 
+			case 0x275e65:  return((char)0x677f); 
+			case 0x275e67:  return((char)0x95ef); 
+			case 0x275e68:  return((char)0x9617); 
+			case 0x275e69:  return((char)0x5173); 
+			case 0x275e6a:  return((char)0x9610); 
+			case 0x275e6b:  return((char)0x8f9f); 
+			case 0x275e7b:  return((char)0x9635); 
+			case 0x275f23:  return((char)0x9648); 
+			case 0x275f24:  return((char)0x9646); 
+			case 0x275f2a:  return((char)0x9634); 
+			case 0x275f2b:  return((char)0x961f); 
+			case 0x275f2c:  return((char)0x9636); 
+			case 0x275f2e:  return((char)0x9633); 
+			case 0x275f37:  return((char)0x9645); 
+			case 0x275f39:  return((char)0x968f); 
+			case 0x275f3a:  return((char)0x9669); 
+			case 0x275f3b:  return((char)0x9690); 
+			case 0x275f3c:  return((char)0x9647); 
+			case 0x275f3d:  return((char)0x96b6); 
+			case 0x275f3e:  return((char)0x53ea); 
+			case 0x275f4a:  return((char)0x867d); 
+			case 0x275f4b:  return((char)0x6742); 
+			case 0x275f4c:  return((char)0x9e21); 
+			case 0x275f4d:  return((char)0x96cf); 
+			case 0x275f4e:  return((char)0x53cc); 
+			case 0x275f4f:  return((char)0x79bb); 
+			case 0x275f50:  return((char)0x96be); 
+			case 0x275f54:  return((char)0x4e91); 
+			case 0x275f55:  return((char)0x7535); 
+			case 0x275f67:  return((char)0x96fe); 
+			case 0x275f6b:  return((char)0x9701); 
+			case 0x275f6d:  return((char)0x972d); 
+			case 0x275f6e:  return((char)0x96f3); 
+			case 0x275f6f:  return((char)0x7075); 
+			case 0x275f79:  return((char)0x9765); 
+			case 0x276023:  return((char)0x5de9); 
+			case 0x276029:  return((char)0x9791); 
+			case 0x27602c:  return((char)0x97e6); 
+			case 0x27602d:  return((char)0x97e7); 
+			case 0x27602e:  return((char)0x97e9); 
+			case 0x27602f:  return((char)0x97ec); 
+			case 0x276030:  return((char)0x827d); 
+			case 0x276036:  return((char)0x54cd); 
+			case 0x276037:  return((char)0x9875); 
+			case 0x276038:  return((char)0x9876); 
+			case 0x276039:  return((char)0x9877); 
+			case 0x27603a:  return((char)0x9879); 
+			case 0x27603b:  return((char)0x987a); 
+			case 0x27603c:  return((char)0x987b); 
+			case 0x27603d:  return((char)0x9884); 
+			case 0x27603e:  return((char)0x987c); 
+			case 0x27603f:  return((char)0x987d); 
+			case 0x276040:  return((char)0x987f); 
+			case 0x276041:  return((char)0x9881); 
+			case 0x276042:  return((char)0x9882); 
+			case 0x276043:  return((char)0x9887); 
+			case 0x276044:  return((char)0x9886); 
+			case 0x276045:  return((char)0x9889); 
+			case 0x276046:  return((char)0x5934); 
+			case 0x276047:  return((char)0x988a); 
+			case 0x276048:  return((char)0x9888); 
+			case 0x276049:  return((char)0x9891); 
+			case 0x27604a:  return((char)0x9893); 
+			case 0x27604b:  return((char)0x9894); 
+			case 0x27604c:  return((char)0x9890); 
+			case 0x27604d:  return((char)0x9897); 
+			case 0x27604e:  return((char)0x989c); 
+			case 0x27604f:  return((char)0x989d); 
+			case 0x276050:  return((char)0x9898); 
+			case 0x276051:  return((char)0x989a); 
+			case 0x276052:  return((char)0x989b); 
+			case 0x276053:  return((char)0x7c7b); 
+			case 0x276054:  return((char)0x98a0); 
+			case 0x276055:  return((char)0x613f); 
+			case 0x276056:  return((char)0x987e); 
+			case 0x276057:  return((char)0x98a4); 
+			case 0x276058:  return((char)0x663e); 
+			case 0x276059:  return((char)0x9885); 
+			case 0x27605a:  return((char)0x98a6); 
+			case 0x27605b:  return((char)0x98ce); 
+			case 0x27605c:  return((char)0x98d2); 
+			case 0x27605d:  return((char)0x53f0); 
+			case 0x27605e:  return((char)0x522e); 
+			case 0x27605f:  return((char)0x98d3); 
+			case 0x276061:  return((char)0x98d5); 
+			case 0x276062:  return((char)0x98d8); 
+			case 0x276063:  return((char)0x98de); 
+			case 0x276065:  return((char)0x9965); 
+			case 0x276067:  return((char)0x9968); 
+			case 0x276068:  return((char)0x996c); 
+			case 0x276069:  return((char)0x996a); 
+			case 0x27606a:  return((char)0x996e); 
+			case 0x27606b:  return((char)0x996d); 
+			case 0x27606c:  return((char)0x9972); 
+			case 0x27606d:  return((char)0x9974); 
+			case 0x27606e:  return((char)0x9971); 
+			case 0x27606f:  return((char)0x9970); 
+			case 0x276070:  return((char)0x997a); 
+			case 0x276071:  return((char)0x517b); 
+			case 0x276072:  return((char)0x9975); 
+			case 0x276073:  return((char)0x9977); 
+			case 0x276075:  return((char)0x9981); 
+			case 0x276076:  return((char)0x4f59); 
+			case 0x276077:  return((char)0x997f); 
+			case 0x276078:  return((char)0x997c); 
+			case 0x276079:  return((char)0x9986); 
+			case 0x27607a:  return((char)0x996f); 
+			case 0x27607b:  return((char)0x9984); 
+			case 0x27607c:  return((char)0x9985); 
+			case 0x27607e:  return((char)0x998f); 
+			case 0x276121:  return((char)0x998a); 
+			case 0x276123:  return((char)0x9992); 
+			case 0x276124:  return((char)0x9976); 
+			case 0x276126:  return((char)0x990d); 
+			case 0x276127:  return((char)0x998b); 
+			case 0x27612c:  return((char)0x9a6c); 
+			case 0x27612d:  return((char)0x51af); 
+			case 0x27612e:  return((char)0x9a6d); 
+			case 0x27612f:  return((char)0x9a70); 
+			case 0x276130:  return((char)0x9a6e); 
+			case 0x276131:  return((char)0x9a6f); 
+			case 0x276132:  return((char)0x9a73); 
+			case 0x276133:  return((char)0x9a7b); 
+			case 0x276134:  return((char)0x9a7c); 
+			case 0x276135:  return((char)0x9a7e); 
+			case 0x276136:  return((char)0x9a77); 
+			case 0x276137:  return((char)0x9a76); 
+			case 0x276138:  return((char)0x9a79); 
+			case 0x276139:  return((char)0x9a78); 
+			case 0x27613a:  return((char)0x9a7d); 
+			case 0x27613b:  return((char)0x9a87); 
+			case 0x27613c:  return((char)0x9a86); 
+			case 0x27613d:  return((char)0x9a8b); 
+			case 0x27613e:  return((char)0x9a8f); 
+			case 0x27613f:  return((char)0x9a88); 
+			case 0x276140:  return((char)0x9a91); 
+			case 0x276141:  return((char)0x9a97); 
+			case 0x276142:  return((char)0x9a9b); 
+			case 0x276143:  return((char)0x9a9e); 
+			case 0x276144:  return((char)0x817e); 
+			case 0x276145:  return((char)0x9a9a); 
+			case 0x276146:  return((char)0x9aa0); 
+			case 0x276147:  return((char)0x9a71); 
+			case 0x276148:  return((char)0x84e6); 
+			case 0x276149:  return((char)0x9aa1); 
+			case 0x27614a:  return((char)0x9a84); 
+			case 0x27614b:  return((char)0x60ca); 
+			case 0x27614c:  return((char)0x9a7f); 
+			case 0x27614d:  return((char)0x9a8c); 
+			case 0x27614e:  return((char)0x9aa4); 
+			case 0x27614f:  return((char)0x9a74); 
+			case 0x276150:  return((char)0x9aa5); 
+			case 0x276151:  return((char)0x9a8a); 
+			case 0x276153:  return((char)0x80ae); 
+			case 0x276158:  return((char)0x9ac5); 
+			case 0x27615a:  return((char)0x4f53); 
+			case 0x27615b:  return((char)0x810f); 
+			case 0x27615f:  return((char)0x53d1); 
+			case 0x276163:  return((char)0x677e); 
+			case 0x276164:  return((char)0x80e1); 
+			case 0x276165:  return((char)0x987b); 
+			case 0x276166:  return((char)0x9b13); 
+			case 0x276167:  return((char)0x6597); 
+			case 0x276168:  return((char)0x95f9); 
+			case 0x27616a:  return((char)0x90c1); 
+			case 0x276173:  return((char)0x9b47); 
+			case 0x276174:  return((char)0x9c7c); 
+			case 0x276175:  return((char)0x9c7f); 
+			case 0x276176:  return((char)0x9c81); 
+			case 0x276177:  return((char)0x9c8d); 
+			case 0x276178:  return((char)0x9c9b); 
+			case 0x276179:  return((char)0x9c9c); 
+			case 0x27617a:  return((char)0x9c94); 
+			case 0x27617b:  return((char)0x9ca8); 
+			case 0x27617c:  return((char)0x9ca4); 
+			case 0x27617d:  return((char)0x9cb8); 
+			case 0x27617e:  return((char)0x9cb3); 
+			case 0x276221:  return((char)0x9cc3); 
+			case 0x276222:  return((char)0x9cc5); 
+			case 0x276223:  return((char)0x9cab); 
+			case 0x276224:  return((char)0x9ccd); 
+			case 0x276225:  return((char)0x9ccf); 
+			case 0x276226:  return((char)0x9ca2); 
+			case 0x276227:  return((char)0x9cd4); 
+			case 0x276228:  return((char)0x9cd7); 
+			case 0x276229:  return((char)0x9cdd); 
+			case 0x27622a:  return((char)0x9cde); 
+			case 0x27622b:  return((char)0x9cdc); 
+			case 0x27622c:  return((char)0x9cd6); 
+			case 0x27622e:  return((char)0x9c88); 
+			case 0x27622f:  return((char)0x9e1f); 
+			case 0x276230:  return((char)0x9e20); 
+			case 0x276231:  return((char)0x9e22); 
+			case 0x276232:  return((char)0x9e23); 
+			case 0x276233:  return((char)0x51e4); 
+			case 0x276234:  return((char)0x9e29); 
+			case 0x276235:  return((char)0x9e26); 
+			case 0x276236:  return((char)0x9e35); 
+			case 0x276237:  return((char)0x9e2a); 
+			case 0x276238:  return((char)0x9e2d); 
+			case 0x276239:  return((char)0x9e2f); 
+			case 0x27623a:  return((char)0x9e33); 
+			case 0x27623c:  return((char)0x9e3f); 
+			case 0x27623d:  return((char)0x9e3d); 
+			case 0x27623e:  return((char)0x9e49); 
+			case 0x27623f:  return((char)0x9e43); 
+			case 0x276240:  return((char)0x9e44); 
+			case 0x276241:  return((char)0x9e45); 
+			case 0x276242:  return((char)0x9e51); 
+			case 0x276243:  return((char)0x9e4a); 
+			case 0x276244:  return((char)0x9e4c); 
+			case 0x276245:  return((char)0x9e4f); 
+			case 0x276246:  return((char)0x9e64); 
+			case 0x276247:  return((char)0x83ba); 
+			case 0x276248:  return((char)0x9e5e); 
+			case 0x276249:  return((char)0x9e67); 
+			case 0x27624a:  return((char)0x9e25); 
+			case 0x27624b:  return((char)0x9e36); 
+			case 0x27624c:  return((char)0x9e70); 
+			case 0x27624d:  return((char)0x9e6d); 
+			case 0x27624e:  return((char)0x9e66); 
+			case 0x27624f:  return((char)0x9e3e); 
+			case 0x276250:  return((char)0x54b8); 
+			case 0x276251:  return((char)0x76d0); 
+			case 0x276252:  return((char)0x7877); 
+			case 0x276256:  return((char)0x4e3d); 
+			case 0x27625b:  return((char)0x9ea6); 
+			case 0x27625c:  return((char)0x9eb8); 
+			case 0x27625e:  return((char)0x9762); 
+			case 0x276260:  return((char)0x4e48); 
+			case 0x27626a:  return((char)0x70b9); 
+			case 0x27626f:  return((char)0x515a); 
+			case 0x276272:  return((char)0x9ee9); 
+			case 0x276276:  return((char)0x51ac); 
+			case 0x27627d:  return((char)0x9f50); 
+			case 0x27627e:  return((char)0x658e); 
+			case 0x276321:  return((char)0x9f7f); 
+			case 0x276322:  return((char)0x9f83); 
+			case 0x276324:  return((char)0x9f84); 
+			case 0x276325:  return((char)0x9f88); 
+			case 0x276326:  return((char)0x9f87); 
+			case 0x276327:  return((char)0x9f89); 
+			case 0x276328:  return((char)0x9f8a); 
+			case 0x276329:  return((char)0x9f8c); 
+			case 0x27632a:  return((char)0x9f8b); 
+			case 0x27632b:  return((char)0x9f99); 
+			case 0x27632c:  return((char)0x9f9a); 
+			case 0x27632d:  return((char)0x9f9f); 
+			case 0x276649:  return((char)0x4f1c); 
+			case 0x276775:  return((char)0x4f65); 
+			case 0x27677c:  return((char)0x4f1b); 
+			case 0x276822:  return((char)0x507b); 
+			case 0x276842:  return((char)0x507e); 
+			case 0x276871:  return((char)0x4faa); 
+			case 0x276944:  return((char)0x50a9); 
+			case 0x276948:  return((char)0x50a5); 
+			case 0x276b3e:  return((char)0x522d); 
+			case 0x276b5b:  return((char)0x5250); 
+			case 0x276b5f:  return((char)0x672d); 
+			case 0x276b79:  return((char)0x523f); 
+			case 0x276b7a:  return((char)0x523d); 
+			case 0x276d2e:  return((char)0x5326); 
+			case 0x276d6d:  return((char)0x538d); 
+			case 0x276e2a:  return((char)0x53a3); 
+			case 0x276f69:  return((char)0x5459); 
+			case 0x277030:  return((char)0x5457); 
+			case 0x277169:  return((char)0x5522); 
+			case 0x277234:  return((char)0x551b); 
+			case 0x277239:  return((char)0x54d4); 
+			case 0x277255:  return((char)0x54d3); 
+			case 0x277258:  return((char)0x6076); 
+			case 0x277267:  return((char)0x5452); 
+			case 0x277272:  return((char)0x54d2); 
+			case 0x27727a:  return((char)0x54d5); 
+			case 0x27727e:  return((char)0x54d9); 
+			case 0x277328:  return((char)0x54dc); 
+			case 0x277345:  return((char)0x556e); 
+			case 0x27734c:  return((char)0x5456); 
+			case 0x27735a:  return((char)0x55be); 
+			case 0x277360:  return((char)0x5181); 
+			case 0x27742e:  return((char)0x56f5); 
+			case 0x277638:  return((char)0x57ad); 
+			case 0x27767a:  return((char)0x57da); 
+			case 0x277742:  return((char)0x57d8); 
+			case 0x277745:  return((char)0x57d9); 
+			case 0x277748:  return((char)0x57b2); 
+			case 0x27785a:  return((char)0x5785); 
+			case 0x27785e:  return((char)0x5786); 
+			case 0x277954:  return((char)0x5956); 
+			case 0x277b3c:  return((char)0x5a05); 
+			case 0x277c24:  return((char)0x5a32); 
+			case 0x277c36:  return((char)0x59ab); 
+			case 0x277d2b:  return((char)0x5a06); 
+			case 0x277d40:  return((char)0x5af1); 
+			case 0x277d48:  return((char)0x5ad2); 
+			case 0x277d74:  return((char)0x5a08); 
+			default: return((char)0);
+		}
+	}
+
+	private char getMultiByteChar_0x280000_0x7f7fff(int c) {
+		switch(c) {
+			case 0x28232b:  return((char)0x5c66); 
+			case 0x282441:  return((char)0x5c98); 
+			case 0x282458:  return((char)0x5d03); 
+			case 0x28255a:  return((char)0x5d5d); 
+			case 0x282569:  return((char)0x5d02); 
+			case 0x282577:  return((char)0x5ce4); 
+			case 0x282626:  return((char)0x5cc4); 
+			case 0x282632:  return((char)0x5d58); 
+			case 0x282647:  return((char)0x5cbf); 
+			case 0x282659:  return((char)0x5def); 
+			case 0x282736:  return((char)0x5e0f); 
+			case 0x282747:  return((char)0x5e3b); 
+			case 0x28275f:  return((char)0x5e31); 
+			case 0x282868:  return((char)0x5e91); 
+			case 0x282951:  return((char)0x5f2a); 
+			case 0x282d34:  return((char)0x607d); 
+			case 0x282d5e:  return((char)0x607a); 
+			case 0x282d74:  return((char)0x6004); 
+			case 0x282d77:  return((char)0x60ad); 
+			case 0x282d79:  return((char)0x60ab); 
+			case 0x282e4c:  return((char)0x6126); 
+			case 0x282e52:  return((char)0x6003); 
+			case 0x282e5c:  return((char)0x603f); 
+			case 0x282e79:  return((char)0x6079); 
+			case 0x282e7e:  return((char)0x603c); 
+			case 0x282f43:  return((char)0x6206); 
+			case 0x282f47:  return((char)0x620b); 
+			case 0x282f66:  return((char)0x6217); 
+			case 0x28336f:  return((char)0x629f); 
+			case 0x28337b:  return((char)0x62a0); 
+			case 0x28342c:  return((char)0x63ba); 
+			case 0x28342e:  return((char)0x63bc); 
+			case 0x283457:  return((char)0x63b8); 
+			case 0x283462:  return((char)0x6322); 
+			case 0x283466:  return((char)0x63ff); 
+			case 0x28352a:  return((char)0x6448); 
+			case 0x283542:  return((char)0x64b7); 
+			case 0x283546:  return((char)0x6445); 
+			case 0x28355b:  return((char)0x6484); 
+			case 0x283561:  return((char)0x64ba); 
+			case 0x28356d:  return((char)0x6512); 
+			case 0x283671:  return((char)0x6593); 
+			case 0x283955:  return((char)0x6619); 
+			case 0x28395c:  return((char)0x6654); 
+			case 0x283b22:  return((char)0x4e2b); 
+			case 0x283b7d:  return((char)0x53f0); 
+			case 0x283d30:  return((char)0x67a7); 
+			case 0x283d6e:  return((char)0x67a8); 
+			case 0x283f30:  return((char)0x6966); 
+			case 0x283f5c:  return((char)0x6769); 
+			case 0x284027:  return((char)0x6864); 
+			case 0x284056:  return((char)0x6920); 
+			case 0x28405e:  return((char)0x67fd); 
+			case 0x284140:  return((char)0x6861); 
+			case 0x28422b:  return((char)0x6a2f); 
+			case 0x284257:  return((char)0x68bc); 
+			case 0x284333:  return((char)0x680e); 
+			case 0x284335:  return((char)0x6a7c); 
+			case 0x284337:  return((char)0x6987); 
+			case 0x284339:  return((char)0x680a); 
+			case 0x28433a:  return((char)0x69e0); 
+			case 0x284340:  return((char)0x67a5); 
+			case 0x284345:  return((char)0x680c); 
+			case 0x284350:  return((char)0x68c2); 
+			case 0x284359:  return((char)0x6989); 
+			case 0x284366:  return((char)0x6924); 
+			case 0x284539:  return((char)0x6b9a); 
+			case 0x284642:  return((char)0x6bf5); 
+			case 0x28464c:  return((char)0x6be1); 
+			case 0x284651:  return((char)0x6c07); 
+			case 0x284668:  return((char)0x6c29); 
+			case 0x284934:  return((char)0x6d43); 
+			case 0x284971:  return((char)0x6d9e); 
+			case 0x284b28:  return((char)0x6d48); 
+			case 0x284b43:  return((char)0x8365); 
+			case 0x284c2e:  return((char)0x6d52); 
+			case 0x284c41:  return((char)0x6ca4); 
+			case 0x284c62:  return((char)0x988d); 
+			case 0x284d27:  return((char)0x6d9d); 
+			case 0x284d2b:  return((char)0x6d54); 
+			case 0x284d49:  return((char)0x6da0); 
+			case 0x284d58:  return((char)0x6ca9); 
+			case 0x284d59:  return((char)0x6ed7); 
+			case 0x284e30:  return((char)0x6e11); 
+			case 0x284e3e:  return((char)0x6cf6); 
+			case 0x284e41:  return((char)0x6f4b); 
+			case 0x284e42:  return((char)0x6d4d); 
+			case 0x284e62:  return((char)0x6f4d); 
+			case 0x284e66:  return((char)0x6ee2); 
+			case 0x284f26:  return((char)0x6cf7); 
+			case 0x284f39:  return((char)0x6cf8); 
+			case 0x284f5d:  return((char)0x6ca3); 
+			case 0x284f61:  return((char)0x6ee0); 
+			case 0x284f6b:  return((char)0x6f13); 
+			case 0x284f7d:  return((char)0x704f); 
+			case 0x285029:  return((char)0x6edf); 
+			case 0x285150:  return((char)0x70c3); 
+			case 0x285252:  return((char)0x709c); 
+			case 0x285323:  return((char)0x8367); 
+			case 0x28533c:  return((char)0x709d); 
+			case 0x285424:  return((char)0x70e8); 
+			case 0x28544f:  return((char)0x70ec); 
+			case 0x28575e:  return((char)0x72b8); 
+			case 0x28575f:  return((char)0x72f2); 
+			case 0x28582b:  return((char)0x7303); 
+			case 0x285836:  return((char)0x7315); 
+			case 0x285a47:  return((char)0x73ae); 
+			case 0x285b21:  return((char)0x740f); 
+			case 0x285c3a:  return((char)0x748e); 
+			case 0x285c40:  return((char)0x74d2); 
+			case 0x285d6b:  return((char)0x7572); 
+			case 0x285e7a:  return((char)0x75d6); 
+			case 0x285f48:  return((char)0x7617); 
+			case 0x285f5e:  return((char)0x7618); 
+			case 0x285f6f:  return((char)0x7605); 
+			case 0x28602b:  return((char)0x762a); 
+			case 0x286032:  return((char)0x75ac); 
+			case 0x286037:  return((char)0x763f); 
+			case 0x28603a:  return((char)0x75c8); 
+			case 0x286222:  return((char)0x7726); 
+			case 0x286272:  return((char)0x770d); 
+			case 0x28632c:  return((char)0x7751); 
+			case 0x28645a:  return((char)0x7817); 
+			case 0x286460:  return((char)0x7856); 
+			case 0x286540:  return((char)0x7800); 
+			case 0x28656a:  return((char)0x789b); 
+			case 0x286577:  return((char)0x789c); 
+			case 0x286622:  return((char)0x7857); 
+			case 0x286655:  return((char)0x783b); 
+			case 0x286a3c:  return((char)0x7aad); 
+			case 0x286b7c:  return((char)0x7b15); 
+			case 0x286c58:  return((char)0x7ba7); 
+			case 0x286d47:  return((char)0x7ba6); 
+			case 0x286d54:  return((char)0x7b5a); 
+			case 0x286e56:  return((char)0x7ba8); 
+			case 0x286e68:  return((char)0x7b3e); 
+			case 0x286e69:  return((char)0x7c16); 
+			case 0x287022:  return((char)0x7cc1); 
+			case 0x28702e:  return((char)0x56e2); 
+			case 0x287030:  return((char)0x7c9d); 
+			case 0x287035:  return((char)0x7c74); 
+			case 0x287042:  return((char)0x7ea1); 
+			case 0x287045:  return((char)0x7ea8); 
+			case 0x28704a:  return((char)0x7ebe); 
+			case 0x287061:  return((char)0x7ec0); 
+			case 0x287062:  return((char)0x7ec1); 
+			case 0x287065:  return((char)0x7ec2); 
+			case 0x28706a:  return((char)0x7ed0); 
+			case 0x287130:  return((char)0x7edb); 
+			case 0x287134:  return((char)0x7ed7); 
+			case 0x287139:  return((char)0x7ee8); 
+			case 0x287144:  return((char)0x7ee0); 
+			case 0x28714d:  return((char)0x7ee1); 
+			case 0x287161:  return((char)0x7efb); 
+			case 0x287167:  return((char)0x7eef); 
+			case 0x287174:  return((char)0x7ef2); 
+			case 0x287178:  return((char)0x7ef6); 
+			case 0x28717d:  return((char)0x7efa); 
+			case 0x287229:  return((char)0x7f17); 
+			case 0x28722a:  return((char)0x7f02); 
+			case 0x287231:  return((char)0x7f03); 
+			case 0x287236:  return((char)0x7f07); 
+			case 0x28723c:  return((char)0x7f08); 
+			case 0x28723e:  return((char)0x7f0c); 
+			case 0x287247:  return((char)0x7f11); 
+			case 0x287248:  return((char)0x7f0f); 
+			case 0x287251:  return((char)0x7f1f); 
+			case 0x287253:  return((char)0x7f12); 
+			case 0x28725d:  return((char)0x7f1c); 
+			case 0x28725e:  return((char)0x7f19); 
+			case 0x28725f:  return((char)0x7f1b); 
+			case 0x287269:  return((char)0x7ec9); 
+			case 0x287271:  return((char)0x7ea4); 
+			case 0x287272:  return((char)0x7f21); 
+			case 0x287275:  return((char)0x7d77); 
+			case 0x287279:  return((char)0x7f25); 
+			case 0x287321:  return((char)0x7f26); 
+			case 0x28732d:  return((char)0x7f2f); 
+			case 0x287349:  return((char)0x7f30); 
+			case 0x28734e:  return((char)0x7f32); 
+			case 0x287351:  return((char)0x7f33); 
+			case 0x287352:  return((char)0x7f34); 
+			case 0x287359:  return((char)0x7f31); 
+			case 0x28735d:  return((char)0x7ea9); 
+			case 0x287360:  return((char)0x7f2c); 
+			case 0x28736d:  return((char)0x624d); 
+			case 0x287374:  return((char)0x7f35); 
+			case 0x28742e:  return((char)0x7f42); 
+			case 0x287431:  return((char)0x575b); 
+			case 0x287472:  return((char)0x7f74); 
+			case 0x287531:  return((char)0x7f9f); 
+			case 0x287655:  return((char)0x8027); 
+			case 0x287739:  return((char)0x8069); 
+			case 0x28773f:  return((char)0x804d); 
+			case 0x287855:  return((char)0x80eb); 
+			case 0x28786e:  return((char)0x80e8); 
+			case 0x287941:  return((char)0x8136); 
+			case 0x287a56:  return((char)0x8114); 
+			case 0x287e61:  return((char)0x82cc); 
+			case 0x29233c:  return((char)0x836d); 
+			case 0x29233d:  return((char)0x836e); 
+			case 0x292375:  return((char)0x83b3); 
+			case 0x292433:  return((char)0x8298); 
+			case 0x29243a:  return((char)0x83bc); 
+			case 0x29247d:  return((char)0x835c); 
+			case 0x292524:  return((char)0x848c); 
+			case 0x29252d:  return((char)0x8311); 
+			case 0x292535:  return((char)0x82c1); 
+			case 0x292546:  return((char)0x8368); 
+			case 0x29254b:  return((char)0x835b); 
+			case 0x29255a:  return((char)0x8487); 
+			case 0x292564:  return((char)0x8489); 
+			case 0x292567:  return((char)0x836c); 
+			case 0x292571:  return((char)0x835e); 
+			case 0x292574:  return((char)0x83b8); 
+			case 0x292577:  return((char)0x8297); 
+			case 0x292633:  return((char)0x84e3); 
+			case 0x292651:  return((char)0x84df); 
+			case 0x292657:  return((char)0x835f); 
+			case 0x292658:  return((char)0x83b6); 
+			case 0x292661:  return((char)0x8360); 
+			case 0x292668:  return((char)0x8369); 
+			case 0x292752:  return((char)0x830f); 
+			case 0x292765:  return((char)0x82c8); 
+			case 0x292768:  return((char)0x8572); 
+			case 0x29282a:  return((char)0x8539); 
+			case 0x292840:  return((char)0x84e0); 
+			case 0x292a2f:  return((char)0x86f1); 
+			case 0x292a34:  return((char)0x86ac); 
+			case 0x292b55:  return((char)0x86f3); 
+			case 0x292b6e:  return((char)0x86f0); 
+			case 0x292c4c:  return((char)0x866e); 
+			case 0x292c55:  return((char)0x86cf); 
+			case 0x292c5d:  return((char)0x867f); 
+			case 0x292c61:  return((char)0x86f4); 
+			case 0x292c64:  return((char)0x877e); 
+			case 0x292d51:  return((char)0x8511); 
+			case 0x292f60:  return((char)0x88e2); 
+			case 0x292f72:  return((char)0x88e5); 
+			case 0x29302d:  return((char)0x88e3); 
+			case 0x293032:  return((char)0x7962); 
+			case 0x293066:  return((char)0x89c7); 
+			case 0x29306f:  return((char)0x89cb); 
+			case 0x29307d:  return((char)0x89cf); 
+			case 0x29312b:  return((char)0x89d1); 
+			case 0x293132:  return((char)0x89cc); 
+			case 0x293160:  return((char)0x89ef); 
+			case 0x29322a:  return((char)0x8bb5); 
+			case 0x29323b:  return((char)0x8bce); 
+			case 0x29323c:  return((char)0x8bd2); 
+			case 0x29324f:  return((char)0x8bd6); 
+			case 0x293250:  return((char)0x8bd3); 
+			case 0x293256:  return((char)0x8be9); 
+			case 0x29325d:  return((char)0x8bd4); 
+			case 0x29325e:  return((char)0x8bdc); 
+			case 0x293271:  return((char)0x8bee); 
+			case 0x29327e:  return((char)0x8c07); 
+			case 0x293325:  return((char)0x8bf9); 
+			case 0x29332c:  return((char)0x8bfc); 
+			case 0x293336:  return((char)0x8be4); 
+			case 0x293338:  return((char)0x8bfd); 
+			case 0x29333b:  return((char)0x8c00); 
+			case 0x293340:  return((char)0x8c02); 
+			case 0x293344:  return((char)0x8c19); 
+			case 0x293345:  return((char)0x8be8); 
+			case 0x29334e:  return((char)0x8c0c); 
+			case 0x293357:  return((char)0x8c14); 
+			case 0x293359:  return((char)0x8c11); 
+			case 0x29335d:  return((char)0x8c16); 
+			case 0x293362:  return((char)0x8c1d); 
+			case 0x293373:  return((char)0x8c21); 
+			case 0x29337a:  return((char)0x8bcc); 
+			case 0x29337d:  return((char)0x8c27); 
+			case 0x293430:  return((char)0x8bb4); 
+			case 0x293438:  return((char)0x8c29); 
+			case 0x29344d:  return((char)0x8c2e); 
+			case 0x293459:  return((char)0x8c2f); 
+			case 0x293468:  return((char)0x8c35); 
+			case 0x29352d:  return((char)0x8c30); 
+			case 0x293537:  return((char)0x8c20); 
+			case 0x293539:  return((char)0x8c33); 
+			case 0x29364e:  return((char)0x8d33); 
+			case 0x293651:  return((char)0x8d36); 
+			case 0x29365f:  return((char)0x8d47); 
+			case 0x29366a:  return((char)0x8d53); 
+			case 0x29366b:  return((char)0x8d55); 
+			case 0x293670:  return((char)0x8d49); 
+			case 0x29367e:  return((char)0x8d59); 
+			case 0x293725:  return((char)0x8d3d); 
+			case 0x293726:  return((char)0x8d5c); 
+			case 0x29373a:  return((char)0x8d46); 
+			case 0x293866:  return((char)0x8db1); 
+			case 0x293a2e:  return((char)0x8dc4); 
+			case 0x293a40:  return((char)0x8df8); 
+			case 0x293a46:  return((char)0x8e70); 
+			case 0x293a57:  return((char)0x8dfb); 
+			case 0x293a5e:  return((char)0x8df9); 
+			case 0x293a5f:  return((char)0x8dde); 
+			case 0x293a60:  return((char)0x8e2c); 
+			case 0x293a6b:  return((char)0x8e7f); 
+			case 0x293a70:  return((char)0x8e9c); 
+			case 0x293b3e:  return((char)0x8f71); 
+			case 0x293b3f:  return((char)0x8f7a); 
+			case 0x293b42:  return((char)0x8f75); 
+			case 0x293b47:  return((char)0x8f77); 
+			case 0x293b4f:  return((char)0x8f78); 
+			case 0x293b59:  return((char)0x8f82); 
+			case 0x293b5b:  return((char)0x8f81); 
+			case 0x293b6b:  return((char)0x8f8b); 
+			case 0x293b6d:  return((char)0x8f8a); 
+			case 0x293b7a:  return((char)0x8f8f); 
+			case 0x293c30:  return((char)0x8f98); 
+			case 0x293c57:  return((char)0x8f79); 
+			case 0x293c5a:  return((char)0x8f73); 
+			case 0x293d4e:  return((char)0x8ff8); 
+			case 0x293f23:  return((char)0x90cf); 
+			case 0x293f4c:  return((char)0x90d3); 
+			case 0x293f5a:  return((char)0x90e7); 
+			case 0x293f5c:  return((char)0x90ac); 
+			case 0x294021:  return((char)0x90f8); 
+			case 0x29402b:  return((char)0x90ba); 
+			case 0x29402c:  return((char)0x90d0); 
+			case 0x294031:  return((char)0x909d); 
+			case 0x294040:  return((char)0x90e6); 
+			case 0x29415c:  return((char)0x917e); 
+			case 0x29415d:  return((char)0x917d); 
+			case 0x294161:  return((char)0x9487); 
+			case 0x294162:  return((char)0x9486); 
+			case 0x294163:  return((char)0x948c); 
+			case 0x294164:  return((char)0x948b); 
+			case 0x29416a:  return((char)0x948d); 
+			case 0x29416b:  return((char)0x948e); 
+			case 0x294179:  return((char)0x9492); 
+			case 0x294221:  return((char)0x9495); 
+			case 0x294222:  return((char)0x9490); 
+			case 0x294223:  return((char)0x94ad); 
+			case 0x294224:  return((char)0x94aa); 
+			case 0x294225:  return((char)0x94ab); 
+			case 0x294228:  return((char)0x94ac); 
+			case 0x294231:  return((char)0x94af); 
+			case 0x294237:  return((char)0x949b); 
+			case 0x29424b:  return((char)0x94a3); 
+			case 0x294251:  return((char)0x94c8); 
+			case 0x294252:  return((char)0x94c9); 
+			case 0x294254:  return((char)0x94cb); 
+			case 0x294255:  return((char)0x94ca); 
+			case 0x294258:  return((char)0x94b0); 
+			case 0x29425c:  return((char)0x94cc); 
+			case 0x29425f:  return((char)0x94b6); 
+			case 0x294260:  return((char)0x94b7); 
+			case 0x294261:  return((char)0x94b2); 
+			case 0x294264:  return((char)0x94ba); 
+			case 0x29426d:  return((char)0x94cd); 
+			case 0x29426f:  return((char)0x94bd); 
+			case 0x294274:  return((char)0x94bf); 
+			case 0x29432b:  return((char)0x94c6); 
+			case 0x29432f:  return((char)0x94f3); 
+			case 0x294331:  return((char)0x94f1); 
+			case 0x294335:  return((char)0x94f5); 
+			case 0x294340:  return((char)0x94d6); 
+			case 0x294343:  return((char)0x94d2); 
+			case 0x294346:  return((char)0x94d1); 
+			case 0x294349:  return((char)0x94d5); 
+			case 0x29434f:  return((char)0x94de); 
+			case 0x294350:  return((char)0x94df); 
+			case 0x294355:  return((char)0x94eb); 
+			case 0x294358:  return((char)0x94ef); 
+			case 0x294359:  return((char)0x94e5); 
+			case 0x29435b:  return((char)0x94e3); 
+			case 0x294362:  return((char)0x94ea); 
+			case 0x294364:  return((char)0x94f7); 
+			case 0x29436a:  return((char)0x9512); 
+			case 0x29436c:  return((char)0x950d); 
+			case 0x294371:  return((char)0x94fd); 
+			case 0x294372:  return((char)0x9513); 
+			case 0x294375:  return((char)0x9514); 
+			case 0x29437d:  return((char)0x94d8); 
+			case 0x294427:  return((char)0x94d7); 
+			case 0x29442b:  return((char)0x9503); 
+			case 0x29442d:  return((char)0x94a1); 
+			case 0x29442e:  return((char)0x9502); 
+			case 0x294435:  return((char)0x950a); 
+			case 0x29443e:  return((char)0x94e4); 
+			case 0x294440:  return((char)0x9506); 
+			case 0x294441:  return((char)0x9507); 
+			case 0x29444d:  return((char)0x952b); 
+			case 0x294457:  return((char)0x9529); 
+			case 0x294458:  return((char)0x952c); 
+			case 0x29445b:  return((char)0x9516); 
+			case 0x294466:  return((char)0x9515); 
+			case 0x294469:  return((char)0x94fc); 
+			case 0x29446d:  return((char)0x951b); 
+			case 0x294471:  return((char)0x951d); 
+			case 0x294472:  return((char)0x951e); 
+			case 0x294474:  return((char)0x951f); 
+			case 0x294475:  return((char)0x9494); 
+			case 0x294478:  return((char)0x9522); 
+			case 0x294531:  return((char)0x9528); 
+			case 0x294532:  return((char)0x9531); 
+			case 0x29454d:  return((char)0x9534); 
+			case 0x29454e:  return((char)0x9545); 
+			case 0x294551:  return((char)0x9517); 
+			case 0x29455e:  return((char)0x94e1); 
+			case 0x294564:  return((char)0x9536); 
+			case 0x294567:  return((char)0x9537); 
+			case 0x294568:  return((char)0x9518); 
+			case 0x29456f:  return((char)0x9538); 
+			case 0x29457a:  return((char)0x9550); 
+			case 0x294621:  return((char)0x9553); 
+			case 0x294628:  return((char)0x9552); 
+			case 0x294629:  return((char)0x84e5); 
+			case 0x29462d:  return((char)0x9549); 
+			case 0x294642:  return((char)0x94e0); 
+			case 0x294647:  return((char)0x954f); 
+			case 0x29464a:  return((char)0x953c); 
+			case 0x294656:  return((char)0x955b); 
+			case 0x29465a:  return((char)0x955f); 
+			case 0x294662:  return((char)0x956a); 
+			case 0x294666:  return((char)0x933e); 
+			case 0x29467c:  return((char)0x9546); 
+			case 0x29472f:  return((char)0x94e9); 
+			case 0x294732:  return((char)0x94f4); 
+			case 0x294734:  return((char)0x9566); 
+			case 0x29473c:  return((char)0x9568); 
+			case 0x29473e:  return((char)0x94f9); 
+			case 0x29474d:  return((char)0x956b); 
+			case 0x294750:  return((char)0x950e); 
+			case 0x294751:  return((char)0x950f); 
+			case 0x294758:  return((char)0x9561); 
+			case 0x29475e:  return((char)0x9562); 
+			case 0x294760:  return((char)0x9563); 
+			case 0x294767:  return((char)0x94e7); 
+			case 0x294769:  return((char)0x9564); 
+			case 0x294774:  return((char)0x9571); 
+			case 0x29483e:  return((char)0x9554); 
+			case 0x29483f:  return((char)0x9572); 
+			case 0x29484a:  return((char)0x956c); 
+			case 0x29485c:  return((char)0x9565); 
+			case 0x294869:  return((char)0x9567); 
+			case 0x29486f:  return((char)0x9569); 
+			case 0x294871:  return((char)0x954a); 
+			case 0x294936:  return((char)0x95f3); 
+			case 0x294942:  return((char)0x9606); 
+			case 0x294944:  return((char)0x9603); 
+			case 0x294948:  return((char)0x960f); 
+			case 0x294949:  return((char)0x9608); 
+			case 0x29494d:  return((char)0x9609); 
+			case 0x29494f:  return((char)0x960a); 
+			case 0x294950:  return((char)0x960c); 
+			case 0x294952:  return((char)0x960d); 
+			case 0x29495a:  return((char)0x9612); 
+			case 0x294960:  return((char)0x9619); 
+			case 0x294969:  return((char)0x961a); 
+			case 0x29496f:  return((char)0x95fc); 
+			case 0x294a44:  return((char)0x9655); 
+			case 0x294a46:  return((char)0x9649); 
+			case 0x294c76:  return((char)0x9753); 
+			case 0x294e43:  return((char)0x97af); 
+			case 0x294e54:  return((char)0x97ea); 
+			case 0x294e5c:  return((char)0x97eb); 
+			case 0x294e79:  return((char)0x9878); 
+			case 0x294e7b:  return((char)0x9883); 
+			case 0x294f23:  return((char)0x9880); 
+			case 0x294f2c:  return((char)0x988f); 
+			case 0x294f6b:  return((char)0x98a1); 
+			case 0x294f77:  return((char)0x989f); 
+			case 0x295021:  return((char)0x98a2); 
+			case 0x295029:  return((char)0x98a5); 
+			case 0x295030:  return((char)0x989e); 
+			case 0x295031:  return((char)0x98a7); 
+			case 0x295053:  return((char)0x98d9); 
+			case 0x29506c:  return((char)0x996b); 
+			case 0x295132:  return((char)0x997d); 
+			case 0x295153:  return((char)0x9967); 
+			case 0x295166:  return((char)0x9969); 
+			case 0x29516a:  return((char)0x9990); 
+			case 0x29516d:  return((char)0x9991); 
+			case 0x295170:  return((char)0x998d); 
+			case 0x295172:  return((char)0x9994); 
+			case 0x295175:  return((char)0x9993); 
+			case 0x295222:  return((char)0x98e8); 
+			case 0x295263:  return((char)0x9a75); 
+			case 0x295269:  return((char)0x9a80); 
+			case 0x29533d:  return((char)0x9a90); 
+			case 0x295340:  return((char)0x9a92); 
+			case 0x295347:  return((char)0x9a93); 
+			case 0x29535a:  return((char)0x9a9f); 
+			case 0x295360:  return((char)0x9a98); 
+			case 0x295369:  return((char)0x9a7a); 
+			case 0x29536a:  return((char)0x9a9d); 
+			case 0x295370:  return((char)0x9a9c); 
+			case 0x295379:  return((char)0x9a96); 
+			case 0x29537a:  return((char)0x9aa2); 
+			case 0x295421:  return((char)0x9aa3); 
+			case 0x295422:  return((char)0x9a81); 
+			case 0x295427:  return((char)0x9a85); 
+			case 0x295433:  return((char)0x9aa7); 
+			case 0x29546d:  return((char)0x9acb); 
+			case 0x29556c:  return((char)0x960b); 
+			case 0x295574:  return((char)0x9604); 
+			case 0x29563c:  return((char)0x9b49); 
+			case 0x29565d:  return((char)0x9c82); 
+			case 0x295721:  return((char)0x9c86); 
+			case 0x295729:  return((char)0x9c87); 
+			case 0x29572b:  return((char)0x9c90); 
+			case 0x295731:  return((char)0x9c8b); 
+			case 0x295739:  return((char)0x9c9e); 
+			case 0x29573c:  return((char)0x9c91); 
+			case 0x29573d:  return((char)0x9c92); 
+			case 0x295742:  return((char)0x9c95); 
+			case 0x295756:  return((char)0x9ca9); 
+			case 0x29575f:  return((char)0x9ca0); 
+			case 0x29576e:  return((char)0x9ca7); 
+			case 0x29577a:  return((char)0x9cad); 
+			case 0x29577c:  return((char)0x9cb0); 
+			case 0x295822:  return((char)0x9cae); 
+			case 0x295825:  return((char)0x9cba); 
+			case 0x295827:  return((char)0x9cb2); 
+			case 0x295828:  return((char)0x9cb4); 
+			case 0x29582c:  return((char)0x9cb1); 
+			case 0x29582d:  return((char)0x9cb7); 
+			case 0x29582f:  return((char)0x9cb5); 
+			case 0x295831:  return((char)0x9cb6); 
+			case 0x295834:  return((char)0x9cbb); 
+			case 0x29583e:  return((char)0x9cca); 
+			case 0x29584b:  return((char)0x9cbd); 
+			case 0x295854:  return((char)0x9cc4); 
+			case 0x295859:  return((char)0x9cc6); 
+			case 0x29585c:  return((char)0x9cc7); 
+			case 0x29586a:  return((char)0x9ccb); 
+			case 0x29586e:  return((char)0x9ca5); 
+			case 0x295871:  return((char)0x9cce); 
+			case 0x295921:  return((char)0x9cd9); 
+			case 0x295925:  return((char)0x9ccc); 
+			case 0x295928:  return((char)0x9cd5); 
+			case 0x295929:  return((char)0x9ca3); 
+			case 0x29592a:  return((char)0x9cd3); 
+			case 0x295932:  return((char)0x9cd8); 
+			case 0x295938:  return((char)0x9cdf); 
+			case 0x29593a:  return((char)0x9c85); 
+			case 0x29593b:  return((char)0x9c9f); 
+			case 0x295940:  return((char)0x9cbc); 
+			case 0x29594f:  return((char)0x9ce2); 
+			case 0x295955:  return((char)0x9c8e); 
+			case 0x295958:  return((char)0x9c9a); 
+			case 0x29596b:  return((char)0x9ca1); 
+			case 0x295a28:  return((char)0x9e28); 
+			case 0x295a44:  return((char)0x9e32); 
+			case 0x295a48:  return((char)0x9e31); 
+			case 0x295a59:  return((char)0x9e38); 
+			case 0x295a65:  return((char)0x9e39); 
+			case 0x295a68:  return((char)0x9e3a); 
+			case 0x295a70:  return((char)0x9e48); 
+			case 0x295a75:  return((char)0x9e41); 
+			case 0x295b2a:  return((char)0x9e46); 
+			case 0x295b35:  return((char)0x9e2b); 
+			case 0x295b52:  return((char)0x9e4e); 
+			case 0x295b59:  return((char)0x9e5c); 
+			case 0x295b5c:  return((char)0x9e5b); 
+			case 0x295b60:  return((char)0x9e55); 
+			case 0x295b6b:  return((char)0x9e57); 
+			case 0x295b6c:  return((char)0x9e4b); 
+			case 0x295b77:  return((char)0x9e63); 
+			case 0x295b79:  return((char)0x9e5a); 
+			case 0x295c28:  return((char)0x9e58); 
+			case 0x295c3e:  return((char)0x9e37); 
+			case 0x295c47:  return((char)0x9e68); 
+			case 0x295c49:  return((char)0x9e47); 
+			case 0x295c57:  return((char)0x9e6b); 
+			case 0x295c5b:  return((char)0x9e6c); 
+			case 0x295c65:  return((char)0x9e69); 
+			case 0x295c6c:  return((char)0x9e6a); 
+			case 0x295d29:  return((char)0x9e71); 
+			case 0x295d36:  return((char)0x9e2c); 
+			case 0x295d3a:  return((char)0x9e73); 
+			case 0x295d3b:  return((char)0x9e42); 
+			case 0x295d3c:  return((char)0x5364); 
+			case 0x295d42:  return((char)0x9e7e); 
+			case 0x295e6a:  return((char)0x9eea); 
+			case 0x295e7a:  return((char)0x9efe); 
+			case 0x295e7c:  return((char)0x9f0b); 
+			case 0x295f2b:  return((char)0x9f0d); 
+			case 0x295f7b:  return((char)0x9f51); 
+			case 0x295f7c:  return((char)0x9f80); 
+			case 0x296028:  return((char)0x9f86); 
+			case 0x29602b:  return((char)0x9f85); 
+			case 0x296062:  return((char)0x9f9b); 
+			case 0x2d3021:  return((char)0x5f0c); 
+			case 0x2d302d:  return((char)0x4e17); 
+			case 0x2d3032:  return((char)0x7add); 
+			case 0x2d3045:  return((char)0x4e57); 
+			case 0x2d3051:  return((char)0x5f0d); 
+			case 0x2d3053:  return((char)0x4e3c); 
+			case 0x2d3058:  return((char)0x4e9c); 
+			case 0x2d305b:  return((char)0x4ebe); 
+			case 0x2d3061:  return((char)0x4eb0); 
+			case 0x2d306c:  return((char)0x8b8e); 
+			case 0x2d3132:  return((char)0x4ecf); 
+			case 0x2d313a:  return((char)0x62bb); 
+			case 0x2d3140:  return((char)0x4f32); 
+			case 0x2d3147:  return((char)0x5002); 
+			case 0x2d314c:  return((char)0x5008); 
+			case 0x2d315f:  return((char)0x4fa3); 
+			case 0x2d3164:  return((char)0x7ae2); 
+			case 0x2d3165:  return((char)0x349e); 
+			case 0x2d3177:  return((char)0x5e78); 
+			case 0x2d3224:  return((char)0x7b87); 
+			case 0x2d3251:  return((char)0x510c); 
+			case 0x2d3253:  return((char)0x50e3); 
+			case 0x2d325f:  return((char)0x50bb); 
+			case 0x2d3261:  return((char)0x5039); 
+			case 0x2d3263:  return((char)0x4fad); 
+			case 0x2d3272:  return((char)0x706e); 
+			case 0x2d3279:  return((char)0x514e); 
+			case 0x2d3324:  return((char)0x634c); 
+			case 0x2d332a:  return((char)0x4e0c); 
+			case 0x2d3332:  return((char)0x5190); 
+			case 0x2d334f:  return((char)0x5202); 
+			case 0x2d3356:  return((char)0x5211); 
+			case 0x2d335f:  return((char)0x52b5); 
+			case 0x2d3366:  return((char)0x5234); 
+			case 0x2d336b:  return((char)0x5c05); 
+			case 0x2d3372:  return((char)0x5265); 
+			case 0x2d3377:  return((char)0x8cf8); 
+			case 0x2d3421:  return((char)0x5294); 
+			case 0x2d3428:  return((char)0x5226); 
+			case 0x2d342e:  return((char)0x8274); 
+			case 0x2d3436:  return((char)0x52f3); 
+			case 0x2d343c:  return((char)0x52a2); 
+			case 0x2d343d:  return((char)0x52e7); 
+			case 0x2d3453:  return((char)0x758b); 
+			case 0x2d3457:  return((char)0x62fe); 
+			case 0x2d3458:  return((char)0x4edf); 
+			case 0x2d345b:  return((char)0x6607); 
+			case 0x2d345d:  return((char)0x5349); 
+			case 0x2d3464:  return((char)0x613d); 
+			case 0x2d346a:  return((char)0x5918); 
+			case 0x2d346e:  return((char)0x5373); 
+			case 0x2d3473:  return((char)0x5374); 
+			case 0x2d3539:  return((char)0x52fe); 
+			case 0x2d353c:  return((char)0x6b62); 
+			case 0x2d3543:  return((char)0x4edd); 
+			case 0x2d3547:  return((char)0x55ab); 
+			case 0x2d3556:  return((char)0x7343); 
+			case 0x2d355c:  return((char)0x5434); 
+			case 0x2d356a:  return((char)0x8a36); 
+			case 0x2d3571:  return((char)0x546a); 
+			case 0x2d3622:  return((char)0x8aee); 
+			case 0x2d362a:  return((char)0x95a7); 
+			case 0x2d3632:  return((char)0x8a7b); 
+			case 0x2d3642:  return((char)0x6b38); 
+			case 0x2d3644:  return((char)0x5557); 
+			case 0x2d3661:  return((char)0x6199); 
+			case 0x2d3730:  return((char)0x751e); 
+			case 0x2d3748:  return((char)0x8b5f); 
+			case 0x2d3749:  return((char)0x5650); 
+			case 0x2d3758:  return((char)0x54bd); 
+			case 0x2d3765:  return((char)0x8086); 
+			case 0x2d3768:  return((char)0x56ec); 
+			case 0x2d376f:  return((char)0x5700); 
+			case 0x2d377c:  return((char)0x962c); 
+			case 0x2d3821:  return((char)0x962f); 
+			case 0x2d3830:  return((char)0x573b); 
+			case 0x2d383f:  return((char)0x575a); 
+			case 0x2d384a:  return((char)0x5872); 
+			case 0x2d3852:  return((char)0x51a2); 
+			case 0x2d3854:  return((char)0x5896); 
+			case 0x2d386e:  return((char)0x58ca); 
+			case 0x2d3876:  return((char)0x58f7); 
+			case 0x2d3877:  return((char)0x5900); 
+			case 0x2d3921:  return((char)0x591f); 
+			case 0x2d3929:  return((char)0x6b80); 
+			case 0x2d392f:  return((char)0x7287); 
+			case 0x2d3931:  return((char)0x67f0); 
+			case 0x2d3932:  return((char)0x7ad2); 
+			case 0x2d3944:  return((char)0x511e); 
+			case 0x2d394d:  return((char)0x59ac); 
+			case 0x2d3954:  return((char)0x7385); 
+			case 0x2d3956:  return((char)0x59d9); 
+			case 0x2d396e:  return((char)0x4f84); 
+			case 0x2d3970:  return((char)0x5a63); 
+			case 0x2d3974:  return((char)0x5b43); 
+			case 0x2d397b:  return((char)0x5a31); 
+			case 0x2d3a26:  return((char)0x5a3f); 
+			case 0x2d3a2f:  return((char)0x58fb); 
+			case 0x2d3a41:  return((char)0x5afa); 
+			case 0x2d3a47:  return((char)0x5acb); 
+			case 0x2d3a60:  return((char)0x6588); 
+			case 0x2d3b27:  return((char)0x51a8); 
+			case 0x2d3b2a:  return((char)0x5ebd); 
+			case 0x2d3b33:  return((char)0x8a67); 
+			case 0x2d3b3f:  return((char)0x5c02); 
+			case 0x2d3b40:  return((char)0x5c06); 
+			case 0x2d3b52:  return((char)0x6eba); 
+			case 0x2d3b54:  return((char)0x5c4a); 
+			case 0x2d3b6e:  return((char)0x5d17); 
+			case 0x2d3b77:  return((char)0x5ce9); 
+			case 0x2d3b78:  return((char)0x5cef); 
+			case 0x2d3b79:  return((char)0x5d8b); 
+			case 0x2d3b7b:  return((char)0x5d08); 
+			case 0x2d3c21:  return((char)0x57fc); 
+			case 0x2d3c22:  return((char)0x5d10); 
+			case 0x2d3c26:  return((char)0x5d18); 
+			case 0x2d3c36:  return((char)0x5de3); 
+			case 0x2d3c38:  return((char)0x9245); 
+			case 0x2d3c49:  return((char)0x83f7); 
+			case 0x2d3c5f:  return((char)0x6a66); 
+			case 0x2d3c61:  return((char)0x5e47); 
+			case 0x2d3c65:  return((char)0x79ca); 
+			case 0x2d3c6a:  return((char)0x51fc); 
+			case 0x2d3c6d:  return((char)0x8298); 
+			case 0x2d3c6e:  return((char)0x7240); 
+			case 0x2d3c70:  return((char)0x576b); 
+			case 0x2d3c7c:  return((char)0x83f4); 
+			case 0x2d3c7d:  return((char)0x53a2); 
+			case 0x2d3c7e:  return((char)0x53a0); 
+			case 0x2d3d29:  return((char)0x53ae); 
+			case 0x2d3d2b:  return((char)0x5ebf); 
+			case 0x2d3d2d:  return((char)0x5396); 
+			case 0x2d3d2f:  return((char)0x539b); 
+			case 0x2d3d34:  return((char)0x5efe); 
+			case 0x2d3d48:  return((char)0x5f4a); 
+			case 0x2d3d4e:  return((char)0x7bf2); 
+			case 0x2d3d50:  return((char)0x5f5c); 
+			case 0x2d3d5e:  return((char)0x9af4); 
+			case 0x2d3d67:  return((char)0x9015); 
+			case 0x2d3d6c:  return((char)0x5f93); 
+			case 0x2d3d75:  return((char)0x60ea); 
+			case 0x2d3d76:  return((char)0x5fb4); 
+			case 0x2d3e2b:  return((char)0x6060); 
+			case 0x2d3e3c:  return((char)0x803b); 
+			case 0x2d3e40:  return((char)0x6052); 
+			case 0x2d3e60:  return((char)0x6075); 
+			case 0x2d3f24:  return((char)0x661a); 
+			case 0x2d3f27:  return((char)0x6120); 
+			case 0x2d3f2a:  return((char)0x5abf); 
+			case 0x2d3f31:  return((char)0x6159); 
+			case 0x2d3f3a:  return((char)0x6185); 
+			case 0x2d3f54:  return((char)0x61d0); 
+			case 0x2d3f67:  return((char)0x621e); 
+			case 0x2d3f6e:  return((char)0x6226); 
+			case 0x2d3f6f:  return((char)0x622f); 
+			case 0x2d3f76:  return((char)0x78a5); 
+			case 0x2d4029:  return((char)0x5214); 
+			case 0x2d4031:  return((char)0x64a6); 
+			case 0x2d4039:  return((char)0x67c6); 
+			case 0x2d403f:  return((char)0x6255); 
+			case 0x2d4049:  return((char)0x67b4); 
+			case 0x2d404c:  return((char)0x6283); 
+			case 0x2d404f:  return((char)0x6294); 
+			case 0x2d4066:  return((char)0x63ce); 
+			case 0x2d4067:  return((char)0x62cf); 
+			case 0x2d4122:  return((char)0x6485); 
+			case 0x2d4132:  return((char)0x642f); 
+			case 0x2d4141:  return((char)0x63b2); 
+			case 0x2d4147:  return((char)0x6271); 
+			case 0x2d4150:  return((char)0x6428); 
+			case 0x2d4152:  return((char)0x6447); 
+			case 0x2d4153:  return((char)0x64e3); 
+			case 0x2d4154:  return((char)0x635c); 
+			case 0x2d416e:  return((char)0x6534); 
+			case 0x2d4171:  return((char)0x62ca); 
+			case 0x2d4176:  return((char)0x6483); 
+			case 0x2d4228:  return((char)0x5117); 
+			case 0x2d4249:  return((char)0x53d9); 
+			case 0x2d424f:  return((char)0x555f); 
+			case 0x2d4272:  return((char)0x65e3); 
+			case 0x2d4277:  return((char)0x65ee); 
+			case 0x2d4327:  return((char)0x6630); 
+			case 0x2d4329:  return((char)0x668e); 
+			case 0x2d432e:  return((char)0x66ec); 
+			case 0x2d433b:  return((char)0x6662); 
+			case 0x2d433e:  return((char)0x667b); 
+			case 0x2d4343:  return((char)0x6636); 
+			case 0x2d4348:  return((char)0x6681); 
+			case 0x2d4349:  return((char)0x66a6); 
+			case 0x2d435f:  return((char)0x6716); 
+			case 0x2d4362:  return((char)0x6722); 
+			case 0x2d4364:  return((char)0x671e); 
+			case 0x2d4370:  return((char)0x6736); 
+			case 0x2d4425:  return((char)0x686e); 
+			case 0x2d442d:  return((char)0x6780); 
+			case 0x2d4437:  return((char)0x67fe); 
+			case 0x2d443a:  return((char)0x6942); 
+			case 0x2d4440:  return((char)0x6822); 
+			case 0x2d4444:  return((char)0x69c5); 
+			case 0x2d444b:  return((char)0x6852); 
+			case 0x2d4450:  return((char)0x8308); 
+			case 0x2d4461:  return((char)0x6746); 
+			case 0x2d4466:  return((char)0x6973); 
+			case 0x2d446b:  return((char)0x6936); 
+			case 0x2d4472:  return((char)0x68ca); 
+			case 0x2d4474:  return((char)0x690d); 
+			case 0x2d447d:  return((char)0x684c); 
+			case 0x2d4539:  return((char)0x6406); 
+			case 0x2d453a:  return((char)0x6760); 
+			case 0x2d4543:  return((char)0x6901); 
+			case 0x2d454e:  return((char)0x697d); 
+			case 0x2d4550:  return((char)0x58ab); 
+			case 0x2d4562:  return((char)0x681d); 
+			case 0x2d4564:  return((char)0x68b9); 
+			case 0x2d4569:  return((char)0x6ac9); 
+			case 0x2d4574:  return((char)0x5ffb); 
+			case 0x2d4621:  return((char)0x61fd); 
+			case 0x2d462c:  return((char)0x6b7a); 
+			case 0x2d4647:  return((char)0x6bd8); 
+			case 0x2d466d:  return((char)0x51b3); 
+			case 0x2d4674:  return((char)0x51b2); 
+			case 0x2d467c:  return((char)0x6cb2); 
+			case 0x2d4729:  return((char)0x6d29); 
+			case 0x2d4730:  return((char)0x51b5); 
+			case 0x2d4735:  return((char)0x6c4e); 
+			case 0x2d4738:  return((char)0x6ffc); 
+			case 0x2d4746:  return((char)0x6c79); 
+			case 0x2d4756:  return((char)0x6f94); 
+			case 0x2d475b:  return((char)0x51c9); 
+			case 0x2d475f:  return((char)0x51c4); 
+			case 0x2d4768:  return((char)0x6d45); 
+			case 0x2d4829:  return((char)0x51cf); 
+			case 0x2d482f:  return((char)0x6e07); 
+			case 0x2d4844:  return((char)0x6fd5); 
+			case 0x2d4845:  return((char)0x6e29); 
+			case 0x2d4850:  return((char)0x6eda); 
+			case 0x2d4853:  return((char)0x7001); 
+			case 0x2d485c:  return((char)0x6f44); 
+			case 0x2d486b:  return((char)0x6f82); 
+			case 0x2d486e:  return((char)0x6f97); 
+			case 0x2d4874:  return((char)0x6f5c); 
+			case 0x2d493a:  return((char)0x702c); 
+			case 0x2d4947:  return((char)0x7ac8); 
+			case 0x2d4954:  return((char)0x70f1); 
+			case 0x2d4956:  return((char)0x70b0); 
+			case 0x2d496b:  return((char)0x70df); 
+			case 0x2d4971:  return((char)0x70a4); 
+			case 0x2d4a26:  return((char)0x713c); 
+			case 0x2d4a28:  return((char)0x8b8c); 
+			case 0x2d4a34:  return((char)0x718f); 
+			case 0x2d4a3b:  return((char)0x4e89); 
+			case 0x2d4a45:  return((char)0x5c12); 
+			case 0x2d4a46:  return((char)0x58bb); 
+			case 0x2d4a58:  return((char)0x7f9d); 
+			case 0x2d4a5b:  return((char)0x7282); 
+			case 0x2d4a60:  return((char)0x6c02); 
+			case 0x2d4b22:  return((char)0x736a); 
+			case 0x2d4b35:  return((char)0x73c9); 
+			case 0x2d4b3f:  return((char)0x73ce); 
+			case 0x2d4b43:  return((char)0x746f); 
+			case 0x2d4b45:  return((char)0x6bec); 
+			case 0x2d4b5b:  return((char)0x78af); 
+			case 0x2d4b71:  return((char)0x7f3e); 
+			case 0x2d4b72:  return((char)0x7506); 
+			case 0x2d4c2c:  return((char)0x583a); 
+			case 0x2d4c2d:  return((char)0x756e); 
+			case 0x2d4c35:  return((char)0x7567); 
+			case 0x2d4c3c:  return((char)0x53e0); 
+			case 0x2d4c3e:  return((char)0x758e); 
+			case 0x2d4c5d:  return((char)0x7661); 
+			case 0x2d4c7e:  return((char)0x4f70); 
+			case 0x2d4d21:  return((char)0x7681); 
+			case 0x2d4d34:  return((char)0x76c7); 
+			case 0x2d4d38:  return((char)0x76d7); 
+			case 0x2d4d4f:  return((char)0x771f); 
+			case 0x2d4d5f:  return((char)0x7741); 
+			case 0x2d4d65:  return((char)0x53e1); 
+			case 0x2d4d6d:  return((char)0x7792); 
+			case 0x2d4d71:  return((char)0x7719); 
+			case 0x2d4e24:  return((char)0x6998); 
+			case 0x2d4e33:  return((char)0x78aa); 
+			case 0x2d4e5b:  return((char)0x945b); 
+			case 0x2d4e79:  return((char)0x5fa1); 
+			case 0x2d4f29:  return((char)0x9f9d); 
+			case 0x2d4f37:  return((char)0x7980); 
+			case 0x2d4f3e:  return((char)0x7a3e); 
+			case 0x2d4f41:  return((char)0x4e69); 
+			case 0x2d4f45:  return((char)0x9834); 
+			case 0x2d4f48:  return((char)0x7a42); 
+			case 0x2d4f5e:  return((char)0x7ab0); 
+			case 0x2d4f6b:  return((char)0x7af8); 
+			case 0x2d4f7c:  return((char)0x7b5e); 
+			case 0x2d502b:  return((char)0x693e); 
+			case 0x2d502d:  return((char)0x7b5d); 
+			case 0x2d5036:  return((char)0x84d1); 
+			case 0x2d504f:  return((char)0x7c58); 
+			case 0x2d506f:  return((char)0x7cfa); 
+			case 0x2d5124:  return((char)0x5e0b); 
+			case 0x2d5129:  return((char)0x7d25); 
+			case 0x2d514a:  return((char)0x6dd6); 
+			case 0x2d514d:  return((char)0x7d2c); 
+			case 0x2d516a:  return((char)0x7db3); 
+			case 0x2d5179:  return((char)0x7e62); 
+			case 0x2d517d:  return((char)0x7d99); 
+			case 0x2d5228:  return((char)0x9262); 
+			case 0x2d522b:  return((char)0x9475); 
+			case 0x2d5232:  return((char)0x8fa0); 
+			case 0x2d5233:  return((char)0x7f78); 
+			case 0x2d5238:  return((char)0x898a); 
+			case 0x2d5240:  return((char)0x7fa1); 
+			case 0x2d5241:  return((char)0x7fa3); 
+			case 0x2d524a:  return((char)0x7fc4); 
+			case 0x2d5259:  return((char)0x98dc); 
+			case 0x2d525d:  return((char)0x6537); 
+			case 0x2d5265:  return((char)0x79d0); 
+			case 0x2d5267:  return((char)0x79cf); 
+			case 0x2d526b:  return((char)0x7085); 
+			case 0x2d526c:  return((char)0x8ead); 
+			case 0x2d527b:  return((char)0x8074); 
+			case 0x2d5321:  return((char)0x7c9b); 
+			case 0x2d5323:  return((char)0x5b8d); 
+			case 0x2d532c:  return((char)0x6bd3); 
+			case 0x2d5340:  return((char)0x812c); 
+			case 0x2d5344:  return((char)0x8107); 
+			case 0x2d534b:  return((char)0x80f7); 
+			case 0x2d535e:  return((char)0x8193); 
+			case 0x2d5361:  return((char)0x811a); 
+			case 0x2d537e:  return((char)0x81c8); 
+			case 0x2d5421:  return((char)0x9ad7); 
+			case 0x2d5424:  return((char)0x5367); 
+			case 0x2d5434:  return((char)0x64e7); 
+			case 0x2d5440:  return((char)0x6841); 
+			case 0x2d5446:  return((char)0x8229); 
+			case 0x2d5447:  return((char)0x824a); 
+			case 0x2d5461:  return((char)0x8306); 
+			case 0x2d5468:  return((char)0x6959); 
+			case 0x2d546f:  return((char)0x83c0); 
+			case 0x2d5476:  return((char)0x8318); 
+			case 0x2d5529:  return((char)0x830e); 
+			case 0x2d552d:  return((char)0x8358); 
+			case 0x2d552e:  return((char)0x82fa); 
+			case 0x2d5547:  return((char)0x837d); 
+			case 0x2d5550:  return((char)0x585f); 
+			case 0x2d5554:  return((char)0x855a); 
+			case 0x2d555a:  return((char)0x8386); 
+			case 0x2d555b:  return((char)0x8385); 
+			case 0x2d5561:  return((char)0x76d6); 
+			case 0x2d5573:  return((char)0x83d4); 
+			case 0x2d562e:  return((char)0x8024); 
+			case 0x2d5635:  return((char)0x846f); 
+			case 0x2d563c:  return((char)0x8613); 
+			case 0x2d563f:  return((char)0x6a97); 
+			case 0x2d5664:  return((char)0x9f04); 
+			case 0x2d5675:  return((char)0x9f05); 
+			case 0x2d567b:  return((char)0x8717); 
+			case 0x2d572b:  return((char)0x8797); 
+			case 0x2d572d:  return((char)0x8748); 
+			case 0x2d5730:  return((char)0x87c7); 
+			case 0x2d573b:  return((char)0x60f7); 
+			case 0x2d5749:  return((char)0x885e); 
+			case 0x2d5758:  return((char)0x890e); 
+			case 0x2d575b:  return((char)0x886e); 
+			case 0x2d5760:  return((char)0x5e2c); 
+			case 0x2d5763:  return((char)0x88e1); 
+			case 0x2d5773:  return((char)0x7d5d); 
+			case 0x2d5831:  return((char)0x89a7); 
+			case 0x2d5833:  return((char)0x752a); 
+			case 0x2d5836:  return((char)0x89e6); 
+			case 0x2d584d:  return((char)0x548f); 
+			case 0x2d5856:  return((char)0x612c); 
+			case 0x2d5927:  return((char)0x8acc); 
+			case 0x2d592c:  return((char)0x8b01); 
+			case 0x2d593d:  return((char)0x8ae9); 
+			case 0x2d5941:  return((char)0x5629); 
+			case 0x2d594c:  return((char)0x8b72); 
+			case 0x2d594f:  return((char)0x8b83); 
+			case 0x2d5957:  return((char)0x7aea); 
+			case 0x2d5959:  return((char)0x8277); 
+			case 0x2d595f:  return((char)0x732a); 
+			case 0x2d5960:  return((char)0x72b2); 
+			case 0x2d5963:  return((char)0x8c98); 
+			case 0x2d5965:  return((char)0x72f8); 
+			case 0x2d5a34:  return((char)0x8cad); 
+			case 0x2d5a3d:  return((char)0x8cdb); 
+			case 0x2d5a48:  return((char)0x8d71); 
+			case 0x2d5a4e:  return((char)0x8d82); 
+			case 0x2d5a5f:  return((char)0x8e5f); 
+			case 0x2d5a63:  return((char)0x8de5); 
+			case 0x2d5a7e:  return((char)0x8e7b); 
+			case 0x2d5b2f:  return((char)0x8eb1); 
+			case 0x2d5b42:  return((char)0x8f19); 
+			case 0x2d5b43:  return((char)0x8efd); 
+			case 0x2d5b5d:  return((char)0x8fa2); 
+			case 0x2d5b5e:  return((char)0x8fa7); 
+			case 0x2d5b69:  return((char)0x5ef5); 
+			case 0x2d5b7a:  return((char)0x8fef); 
+			case 0x2d5c2f:  return((char)0x8fe8); 
+			case 0x2d5c3f:  return((char)0x5fa7); 
+			case 0x2d5c40:  return((char)0x5fa8); 
+			case 0x2d5c48:  return((char)0x9013); 
+			case 0x2d5c5a:  return((char)0x8fe9); 
+			case 0x2d5c5b:  return((char)0x9089); 
+			case 0x2d5c74:  return((char)0x96a3); 
+			case 0x2d5d23:  return((char)0x9167); 
+			case 0x2d5d2f:  return((char)0x9196); 
+			case 0x2d5d56:  return((char)0x920e); 
+			case 0x2d5d65:  return((char)0x8216); 
+			case 0x2d5d68:  return((char)0x8021); 
+			case 0x2d5e21:  return((char)0x9418); 
+			case 0x2d5e24:  return((char)0x7145); 
+			case 0x2d5e26:  return((char)0x7194); 
+			case 0x2d5e28:  return((char)0x93c1); 
+			case 0x2d5e3b:  return((char)0x92b9); 
+			case 0x2d5e43:  return((char)0x92f3); 
+			case 0x2d5e4a:  return((char)0x945a); 
+			case 0x2d5e50:  return((char)0x9587); 
+			case 0x2d5e61:  return((char)0x6ff6); 
+			case 0x2d5f28:  return((char)0x9665); 
+			case 0x2d5f2c:  return((char)0x5826); 
+			case 0x2d5f2d:  return((char)0x964f); 
+			case 0x2d5f2e:  return((char)0x661c); 
+			case 0x2d5f35:  return((char)0x78d2); 
+			case 0x2d5f3b:  return((char)0x96a0); 
+			case 0x2d5f43:  return((char)0x9ceb); 
+			case 0x2d5f46:  return((char)0x96bd); 
+			case 0x2d5f4b:  return((char)0x96d1); 
+			case 0x2d5f4c:  return((char)0x9dc4); 
+			case 0x2d5f63:  return((char)0x873a); 
+			case 0x2d5f73:  return((char)0x975a); 
+			case 0x2d6021:  return((char)0x978c); 
+			case 0x2d602d:  return((char)0x976d); 
+			case 0x2d6030:  return((char)0x97ee); 
+			case 0x2d6056:  return((char)0x980b); 
+			case 0x2d6078:  return((char)0x9920); 
+			case 0x2d6079:  return((char)0x8218); 
+			case 0x2d6132:  return((char)0x99ee); 
+			case 0x2d6134:  return((char)0x99de); 
+			case 0x2d6147:  return((char)0x99c8); 
+			case 0x2d6159:  return((char)0x9ac4); 
+			case 0x2d615a:  return((char)0x8ec6); 
+			case 0x2d6162:  return((char)0x9a0c); 
+			case 0x2d616a:  return((char)0x6b1d); 
+			case 0x2d6222:  return((char)0x9c0c); 
+			case 0x2d6229:  return((char)0x9c53); 
+			case 0x2d622c:  return((char)0x9f08); 
+			case 0x2d6235:  return((char)0x9d76); 
+			case 0x2d6241:  return((char)0x9d5e); 
+			case 0x2d6251:  return((char)0x5869); 
+			case 0x2d6252:  return((char)0x78b1); 
+			case 0x2d625f:  return((char)0x83fb); 
+			case 0x2d6260:  return((char)0x5e85); 
+			case 0x2d6262:  return((char)0x9ec4); 
+			case 0x2d6275:  return((char)0x76b7); 
+			case 0x2d627e:  return((char)0x658b); 
+			case 0x2d632b:  return((char)0x5c28); 
+			case 0x2d632d:  return((char)0x4e80); 
+			case 0x2d6b33:  return((char)0x5231); 
+			case 0x2d6b5f:  return((char)0x5273); 
+			case 0x2d6f7d:  return((char)0x8123); 
+			case 0x2d7143:  return((char)0x55e2); 
+			case 0x2d7164:  return((char)0x55d4); 
+			case 0x2d7345:  return((char)0x56d3); 
+			case 0x2d753a:  return((char)0x9654); 
+			case 0x2d7552:  return((char)0x579b); 
+			case 0x2d7a44:  return((char)0x598d); 
+			case 0x2d7e6a:  return((char)0x51a4); 
+			case 0x2e257b:  return((char)0x5d1f); 
+			case 0x2e284c:  return((char)0x5ecf); 
+			case 0x2e2968:  return((char)0x5f51); 
+			case 0x2e2b5b:  return((char)0x605a); 
+			case 0x2e2b74:  return((char)0x609b); 
+			case 0x2e2d79:  return((char)0x6128); 
+			case 0x2e2f7a:  return((char)0x6738); 
+			case 0x2e2f7c:  return((char)0x634d); 
+			case 0x2e3028:  return((char)0x640b); 
+			case 0x2e313a:  return((char)0x6332); 
+			case 0x2e3144:  return((char)0x651f); 
+			case 0x2e3172:  return((char)0x5261); 
+			case 0x2e3328:  return((char)0x6528); 
+			case 0x2e337b:  return((char)0x630e); 
+			case 0x2e363f:  return((char)0x52c5); 
+			case 0x2e3645:  return((char)0x69e3); 
+			case 0x2e3654:  return((char)0x657f); 
+			case 0x2e3729:  return((char)0x65b5); 
+			case 0x2e3870:  return((char)0x714a); 
+			case 0x2e3936:  return((char)0x66cd); 
+			case 0x2e3a26:  return((char)0x661d); 
+			case 0x2e3a33:  return((char)0x80ad); 
+			case 0x2e3b22:  return((char)0x690f); 
+			case 0x2e3d62:  return((char)0x684a); 
+			case 0x2e3d73:  return((char)0x7a1c); 
+			case 0x2e3e3f:  return((char)0x7ba0); 
+			case 0x2e3f2d:  return((char)0x69b2); 
+			case 0x2e403d:  return((char)0x6ac1); 
+			case 0x2e4174:  return((char)0x6aa9); 
+			case 0x2e4670:  return((char)0x6cd0); 
+			case 0x2e4731:  return((char)0x6c73); 
+			case 0x2e4739:  return((char)0x6c67); 
+			case 0x2e4747:  return((char)0x6d64); 
+			case 0x2e4873:  return((char)0x6fa3); 
+			case 0x2e492f:  return((char)0x6cd9); 
+			case 0x2e493b:  return((char)0x6e7c); 
+			case 0x2e4a6b:  return((char)0x6ea6); 
+			case 0x2e4c35:  return((char)0x6de5); 
+			case 0x2e4c7b:  return((char)0x6e86); 
+			case 0x2e4d3d:  return((char)0x6d38); 
+			case 0x2e4e41:  return((char)0x7032); 
+			case 0x2e4e56:  return((char)0x9800); 
+			case 0x2e4e5d:  return((char)0x6de0); 
+			case 0x2e4e72:  return((char)0x6f74); 
+			case 0x2e506d:  return((char)0x70b1); 
+			case 0x2e525d:  return((char)0x715b); 
+			case 0x2e5452:  return((char)0x71fe); 
+			case 0x2e5a40:  return((char)0x73b3); 
+			case 0x2e5a78:  return((char)0x74a2); 
+			case 0x2e5f6f:  return((char)0x75b8); 
+			case 0x2e604a:  return((char)0x7690); 
+			case 0x2e6060:  return((char)0x76a1); 
+			case 0x2e624f:  return((char)0x772d); 
+			case 0x2e625f:  return((char)0x77c1); 
+			case 0x2e684e:  return((char)0x8020); 
+			case 0x2e686f:  return((char)0x7a19); 
+			case 0x2e6b54:  return((char)0x7b04); 
+			case 0x2e6c26:  return((char)0x7be0); 
+			case 0x2e6c27:  return((char)0x7b2e); 
+			case 0x2e6c3e:  return((char)0x7b59); 
+			case 0x2e6c46:  return((char)0x7be6); 
+			case 0x2e6f35:  return((char)0x6cd4); 
+			case 0x2e6f43:  return((char)0x9908); 
+			case 0x2e7062:  return((char)0x7d4f); 
+			case 0x2e715a:  return((char)0x7e27); 
+			case 0x2e717c:  return((char)0x7d63); 
+			case 0x2e7328:  return((char)0x5fad); 
+			case 0x2e735d:  return((char)0x7d56); 
+			case 0x2e7374:  return((char)0x7e89); 
+			case 0x2e742e:  return((char)0x7516); 
+			case 0x2e7431:  return((char)0x7f48); 
+			case 0x2e7450:  return((char)0x7f82); 
+			case 0x2e7451:  return((char)0x7f58); 
+			case 0x2e765f:  return((char)0x8037); 
+			case 0x2e7c2e:  return((char)0x831c); 
+			case 0x2e7d24:  return((char)0x83f0); 
+			case 0x2f252d:  return((char)0x6a22); 
+			case 0x2f252e:  return((char)0x8507); 
+			case 0x2f2a5a:  return((char)0x868b); 
+			case 0x2f2a64:  return((char)0x87b5); 
+			case 0x2f2a73:  return((char)0x87ca); 
+			case 0x2f2d79:  return((char)0x88b5); 
+			case 0x2f2f5d:  return((char)0x7e48); 
+			case 0x2f312b:  return((char)0x89bb); 
+			case 0x2f3143:  return((char)0x89f5); 
+			case 0x2f317d:  return((char)0x8a7e); 
+			case 0x2f3363:  return((char)0x8b1a); 
+			case 0x2f3639:  return((char)0x8c7c); 
+			case 0x2f3833:  return((char)0x8d91); 
+			case 0x2f386f:  return((char)0x8dd7); 
+			case 0x2f3a5e:  return((char)0x8e6e); 
+			case 0x2f3b63:  return((char)0x5e32); 
+			case 0x2f3c2d:  return((char)0x8f3c); 
+			case 0x2f3d5d:  return((char)0x900e); 
+			case 0x2f4053:  return((char)0x914f); 
+			case 0x2f4231:  return((char)0x8019); 
+			case 0x2f445f:  return((char)0x941a); 
+			case 0x2f4a2e:  return((char)0x90b4); 
+			case 0x2f4a4a:  return((char)0x5f8f); 
+			case 0x2f5158:  return((char)0x7cc7); 
+			case 0x2f5476:  return((char)0x9ae1); 
+			case 0x2f575f:  return((char)0x9abe); 
+			case 0x2f585c:  return((char)0x9c51); 
+			case 0x2f5870:  return((char)0x9c1b); 
+			case 0x2f5973:  return((char)0x9cec); 
+			case 0x2f5a48:  return((char)0x9d44); 
+			case 0x2f5d3c:  return((char)0x6ef7); 
+			case 0x2f5d49:  return((char)0x9ea4); 
+			case 0x2f5d5c:  return((char)0x730a); 
+			case 0x2f5e42:  return((char)0x9ec9); 
+			case 0x2f5e66:  return((char)0x9b12); 
+			case 0x2f5e7d:  return((char)0x6641); 
+			case 0x2f5f45:  return((char)0x86a1); 
+			case 0x333021:  return((char)0x58f9); 
+			case 0x33303a:  return((char)0x8ffa); 
+			case 0x33304c:  return((char)0x4e79); 
+			case 0x333051:  return((char)0x8cb3); 
+			case 0x333060:  return((char)0x4eaf); 
+			case 0x333066:  return((char)0x5fc8); 
+			case 0x33306c:  return((char)0x8b90); 
+			case 0x333078:  return((char)0x5f77); 
+			case 0x33314c:  return((char)0x5fa0); 
+			case 0x333240:  return((char)0x4ffb); 
+			case 0x333251:  return((char)0x5fba); 
+			case 0x33325d:  return((char)0x4fa1); 
+			case 0x33327a:  return((char)0x5150); 
+			case 0x333323:  return((char)0x4e21); 
+			case 0x33332a:  return((char)0x4e93); 
+			case 0x333330:  return((char)0x518a); 
+			case 0x33333c:  return((char)0x6c37); 
+			case 0x333344:  return((char)0x51db); 
+			case 0x33334e:  return((char)0x51fe); 
+			case 0x333377:  return((char)0x5270); 
+			case 0x33337b:  return((char)0x52e6); 
+			case 0x333421:  return((char)0x91fc); 
+			case 0x333423:  return((char)0x5264); 
+			case 0x333428:  return((char)0x523c); 
+			case 0x333475:  return((char)0x9628); 
+			case 0x33347d:  return((char)0x53c1); 
+			case 0x333529:  return((char)0x53dc); 
+			case 0x33354e:  return((char)0x608b); 
+			case 0x333556:  return((char)0x9a03); 
+			case 0x33355c:  return((char)0x5449); 
+			case 0x333564:  return((char)0x5415); 
+			case 0x333573:  return((char)0x8656); 
+			case 0x333623:  return((char)0x9f69); 
+			case 0x33362a:  return((char)0x9b28); 
+			case 0x333642:  return((char)0x8a92); 
+			case 0x33365a:  return((char)0x5405); 
+			case 0x333768:  return((char)0x8ff4); 
+			case 0x33386e:  return((char)0x576f); 
+			case 0x33392f:  return((char)0x9029); 
+			case 0x333944:  return((char)0x5b2d); 
+			case 0x333963:  return((char)0x59c9); 
+			case 0x333c21:  return((char)0x7895); 
+			case 0x333c52:  return((char)0x8cec); 
+			case 0x333d28:  return((char)0x53a8); 
+			case 0x333d2a:  return((char)0x5e83); 
+			case 0x333d2f:  return((char)0x5e81); 
+			case 0x333d42:  return((char)0x7d43); 
+			case 0x333d48:  return((char)0x5f3a); 
+			case 0x333d4c:  return((char)0x7030); 
+			case 0x333d54:  return((char)0x4efd); 
+			case 0x333d75:  return((char)0x5fb3); 
+			case 0x333e7d:  return((char)0x7652); 
+			case 0x333f22:  return((char)0x6168); 
+			case 0x333f24:  return((char)0x7718); 
+			case 0x333f3f:  return((char)0x51f4); 
+			case 0x333f55:  return((char)0x5b3e); 
+			case 0x333f58:  return((char)0x61f4); 
+			case 0x333f5b:  return((char)0x6133); 
+			case 0x334045:  return((char)0x629b); 
+			case 0x334050:  return((char)0x62d5); 
+			case 0x334131:  return((char)0x6425); 
+			case 0x33417e:  return((char)0x629e); 
+			case 0x33422a:  return((char)0x62e1); 
+			case 0x33423d:  return((char)0x53ce); 
+			case 0x334243:  return((char)0x52b9); 
+			case 0x334244:  return((char)0x6559); 
+			case 0x334256:  return((char)0x6b5b); 
+			case 0x334260:  return((char)0x89d4); 
+			case 0x334277:  return((char)0x65ef); 
+			case 0x33432f:  return((char)0x664b); 
+			case 0x33433e:  return((char)0x95c7); 
+			case 0x334342:  return((char)0x7156); 
+			case 0x334357:  return((char)0x6702); 
+			case 0x334369:  return((char)0x5932); 
+			case 0x334425:  return((char)0x76c3); 
+			case 0x334449:  return((char)0x6144); 
+			case 0x334527:  return((char)0x6918); 
+			case 0x334550:  return((char)0x7f47); 
+			case 0x33456d:  return((char)0x826a); 
+			case 0x334621:  return((char)0x8b99); 
+			case 0x334633:  return((char)0x6b8b); 
+			case 0x33463c:  return((char)0x6bbb); 
+			case 0x334665:  return((char)0x6c61); 
+			case 0x334674:  return((char)0x76c5); 
+			case 0x33467a:  return((char)0x6ca1); 
+			case 0x334729:  return((char)0x6e2b); 
+			case 0x334730:  return((char)0x6e5f); 
+			case 0x334740:  return((char)0x6d1a); 
+			case 0x33474a:  return((char)0x6d1f); 
+			case 0x334755:  return((char)0x6fec); 
+			case 0x33475e:  return((char)0x6fb9); 
+			case 0x33475f:  return((char)0x60bd); 
+			case 0x33476f:  return((char)0x6d44); 
+			case 0x334770:  return((char)0x5a6c); 
+			case 0x33477b:  return((char)0x904a); 
+			case 0x33483b:  return((char)0x6cdd); 
+			case 0x33485e:  return((char)0x67d2); 
+			case 0x33492e:  return((char)0x6f81); 
+			case 0x33494a:  return((char)0x70d6); 
+			case 0x334968:  return((char)0x7133); 
+			case 0x33496a:  return((char)0x934a); 
+			case 0x334a28:  return((char)0x91bc); 
+			case 0x334a58:  return((char)0x89dd); 
+			case 0x334c2c:  return((char)0x754d); 
+			case 0x334c36:  return((char)0x753b); 
+			case 0x334c37:  return((char)0x8e6f); 
+			case 0x334c3e:  return((char)0x8e08); 
+			case 0x334c7b:  return((char)0x767a); 
+			case 0x334e37:  return((char)0x784e); 
+			case 0x334e73:  return((char)0x79a5); 
+			case 0x334f37:  return((char)0x5ee9); 
+			case 0x334f3a:  return((char)0x7a49); 
+			case 0x334f59:  return((char)0x7a93); 
+			case 0x334f5e:  return((char)0x7a91); 
+			case 0x334f71:  return((char)0x54b2); 
+			case 0x33502a:  return((char)0x9257); 
+			case 0x33502b:  return((char)0x724b); 
+			case 0x335065:  return((char)0x7a45); 
+			case 0x33512e:  return((char)0x7e8d); 
+			case 0x33513c:  return((char)0x7d4c); 
+			case 0x335147:  return((char)0x7eee); 
+			case 0x33514c:  return((char)0x7dd1); 
+			case 0x33515c:  return((char)0x7dab); 
+			case 0x33516b:  return((char)0x7dd0); 
+			case 0x33516d:  return((char)0x6374); 
+			case 0x335172:  return((char)0x7d89); 
+			case 0x335223:  return((char)0x7e8e); 
+			case 0x335228:  return((char)0x94b5); 
+			case 0x335230:  return((char)0x7f6e); 
+			case 0x335234:  return((char)0x99e1); 
+			case 0x335238:  return((char)0x8989); 
+			case 0x33523f:  return((char)0x8b71); 
+			case 0x335259:  return((char)0x7e59); 
+			case 0x33525b:  return((char)0x71ff); 
+			case 0x335276:  return((char)0x8061); 
+			case 0x335333:  return((char)0x80bb); 
+			case 0x335347:  return((char)0x81d9); 
+			case 0x33537d:  return((char)0x9ad5); 
+			case 0x335445:  return((char)0x67c1); 
+			case 0x335446:  return((char)0x8221); 
+			case 0x335461:  return((char)0x6cd6); 
+			case 0x335561:  return((char)0x8462); 
+			case 0x335568:  return((char)0x8406); 
+			case 0x335577:  return((char)0x8602); 
+			case 0x335635:  return((char)0x85ac); 
+			case 0x335652:  return((char)0x87c1); 
+			case 0x33567c:  return((char)0x8671); 
+			case 0x33572e:  return((char)0x880e); 
+			case 0x335738:  return((char)0x880f); 
+			case 0x335760:  return((char)0x88e0); 
+			case 0x335772:  return((char)0x8943); 
+			case 0x335773:  return((char)0x88b4); 
+			case 0x335821:  return((char)0x97c8); 
+			case 0x335830:  return((char)0x658d); 
+			case 0x335834:  return((char)0x89e7); 
+			case 0x335941:  return((char)0x54d7); 
+			case 0x335958:  return((char)0x8c4a); 
+			case 0x335a7b:  return((char)0x8e28); 
+			case 0x335b70:  return((char)0x5ef8); 
+			case 0x335d23:  return((char)0x8a76); 
+			case 0x335d3b:  return((char)0x57dc); 
+			case 0x335e21:  return((char)0x9221); 
+			case 0x335e2f:  return((char)0x5257); 
+			case 0x335e3d:  return((char)0x9244); 
+			case 0x335e42:  return((char)0x9452); 
+			case 0x335f34:  return((char)0x90c4); 
+			case 0x335f3d:  return((char)0x96b7); 
+			case 0x335f43:  return((char)0x9d08); 
+			case 0x335f49:  return((char)0x9d70); 
+			case 0x335f73:  return((char)0x9759); 
+			case 0x336054:  return((char)0x985b); 
+			case 0x336058:  return((char)0x9855); 
+			case 0x336062:  return((char)0x98c3); 
+			case 0x33615a:  return((char)0x8eb0); 
+			case 0x336162:  return((char)0x9a23); 
+			case 0x336179:  return((char)0x9c7b); 
+			case 0x33625e:  return((char)0x9eaa); 
+			case 0x33625f:  return((char)0x8534); 
+			case 0x336275:  return((char)0x76bc); 
+			case 0x33627d:  return((char)0x6589); 
+			case 0x336321:  return((char)0x6b6f); 
+			case 0x33632b:  return((char)0x7adc); 
+			case 0x336b33:  return((char)0x524f); 
+			case 0x336c6b:  return((char)0x6031); 
+			case 0x337345:  return((char)0x9f67); 
+			case 0x342453:  return((char)0x5cbd); 
+			case 0x343875:  return((char)0x5fde); 
+			case 0x343a5b:  return((char)0x572c); 
+			case 0x343e38:  return((char)0x7bda); 
+			case 0x344138:  return((char)0x8022); 
+			case 0x344177:  return((char)0x8264); 
+			case 0x34492f:  return((char)0x6d34); 
+			case 0x345175:  return((char)0x7162); 
+			case 0x345452:  return((char)0x7118); 
+			case 0x345d6b:  return((char)0x756d); 
+			case 0x345e3b:  return((char)0x80ac); 
+			case 0x345e47:  return((char)0x75fe); 
+			case 0x346126:  return((char)0x6900); 
+			case 0x346622:  return((char)0x589d); 
+			case 0x34682a:  return((char)0x7c7c); 
+			case 0x34715a:  return((char)0x7e1a); 
+			case 0x347431:  return((char)0x58dc); 
+			case 0x34782a:  return((char)0x90c5); 
+			case 0x347d24:  return((char)0x83c7); 
+			case 0x35344d:  return((char)0x8b5b); 
+			case 0x35347b:  return((char)0x8b2d); 
+			case 0x354156:  return((char)0x91be); 
+			case 0x355053:  return((char)0x98c8); 
+			case 0x355739:  return((char)0x9c76); 
+			case 0x355d5c:  return((char)0x8c8e); 
+			case 0x355e76:  return((char)0x82be); 
+			case 0x39302d:  return((char)0x534b); 
+			case 0x39303a:  return((char)0x5efc); 
+			case 0x39304c:  return((char)0x4e81); 
+			case 0x393052:  return((char)0x65bc); 
+			case 0x393054:  return((char)0x4f0d); 
+			case 0x393078:  return((char)0x9ae3); 
+			case 0x393246:  return((char)0x4f1d); 
+			case 0x393428:  return((char)0x5227); 
+			case 0x393439:  return((char)0x61c3); 
+			case 0x39345b:  return((char)0x965e); 
+			case 0x393460:  return((char)0x604a); 
+			case 0x393573:  return((char)0x5611); 
+			case 0x393577:  return((char)0x9fa2); 
+			case 0x39365a:  return((char)0x8ae0); 
+			case 0x39365e:  return((char)0x559e); 
+			case 0x393770:  return((char)0x56f2); 
+			case 0x393944:  return((char)0x59b3); 
+			case 0x393b39:  return((char)0x5bf3); 
+			case 0x393b6e:  return((char)0x5c97); 
+			case 0x393b78:  return((char)0x5cc4); 
+			case 0x393c52:  return((char)0x8d26); 
+			case 0x393d6f:  return((char)0x8907); 
+			case 0x393e47:  return((char)0x8cc9); 
+			case 0x393e4c:  return((char)0x6142); 
+			case 0x393e61:  return((char)0x60aa); 
+			case 0x393e7d:  return((char)0x7609); 
+			case 0x394022:  return((char)0x6443); 
+			case 0x394042:  return((char)0x646d); 
+			case 0x39417c:  return((char)0x62e0); 
+			case 0x394243:  return((char)0x4ff2); 
+			case 0x39424f:  return((char)0x5554); 
+			case 0x394330:  return((char)0x6644); 
+			case 0x394444:  return((char)0x8988); 
+			case 0x39447d:  return((char)0x6ac2); 
+			case 0x39456d:  return((char)0x826b); 
+			case 0x394634:  return((char)0x6b96); 
+			case 0x394735:  return((char)0x6c3e); 
+			case 0x39476f:  return((char)0x51c0); 
+			case 0x39483b:  return((char)0x9061); 
+			case 0x394928:  return((char)0x6d5c); 
+			case 0x394944:  return((char)0x6b12); 
+			case 0x394956:  return((char)0x792e); 
+			case 0x394a60:  return((char)0x9ae6); 
+			case 0x394c2d:  return((char)0x7546); 
+			case 0x395050:  return((char)0x7bed); 
+			case 0x39505b:  return((char)0x9b3b); 
+			case 0x395063:  return((char)0x9939); 
+			case 0x395179:  return((char)0x7d75); 
+			case 0x395230:  return((char)0x5bd8); 
+			case 0x39525b:  return((char)0x66dc); 
+			case 0x39526b:  return((char)0x7094); 
+			case 0x395477:  return((char)0x85a6); 
+			case 0x39553c:  return((char)0x5d0b); 
+			case 0x395564:  return((char)0x6726); 
+			case 0x395568:  return((char)0x83dd); 
+			case 0x395577:  return((char)0x854b); 
+			case 0x39563c:  return((char)0x56cc); 
+			case 0x395643:  return((char)0x4e55); 
+			case 0x395652:  return((char)0x87a1); 
+			case 0x395773:  return((char)0x7daf); 
+			case 0x395821:  return((char)0x97e4); 
+			case 0x395829:  return((char)0x69fb); 
+			case 0x39593f:  return((char)0x8a3c); 
+			case 0x395a2f:  return((char)0x58f2); 
+			case 0x395a36:  return((char)0x983c); 
+			case 0x395d23:  return((char)0x91bb); 
+			case 0x395e2f:  return((char)0x5277); 
+			case 0x395e3d:  return((char)0x9295); 
+			case 0x395e42:  return((char)0x9274); 
+			case 0x395e6f:  return((char)0x7a7d); 
+			case 0x395e71:  return((char)0x5742); 
+			case 0x395f49:  return((char)0x5f6b); 
+			case 0x395f68:  return((char)0x8987); 
+			case 0x396074:  return((char)0x55b0); 
+			case 0x396167:  return((char)0x9b2a); 
+			case 0x396179:  return((char)0x5c20); 
+			case 0x396223:  return((char)0x9bfd); 
+			case 0x396b2f:  return((char)0x521f); 
+			case 0x396b33:  return((char)0x5259); 
+			case 0x396c6b:  return((char)0x60a4); 
+			case 0x3a284c:  return((char)0x53a9); 
+			case 0x3a2f7c:  return((char)0x64c0); 
+			case 0x3a3b7d:  return((char)0x67b1); 
+			case 0x3a4034:  return((char)0x6855); 
+			case 0x3a6a7c:  return((char)0x7bea); 
+			case 0x3a787d:  return((char)0x80fc); 
+			case 0x3a7970:  return((char)0x81d5); 
+			case 0x3b2d44:  return((char)0x8842); 
+			case 0x3b3922:  return((char)0x8db5); 
+			case 0x3f304c:  return((char)0x5e79); 
+			case 0x3f3078:  return((char)0x5023); 
+			case 0x3f347d:  return((char)0x84e1); 
+			case 0x3f3573:  return((char)0x8b3c); 
+			case 0x3f377b:  return((char)0x784e); 
+			case 0x3f3d6f:  return((char)0x8986); 
+			case 0x3f3e47:  return((char)0x5379); 
+			case 0x3f3f24:  return((char)0x614e); 
+			case 0x3f404f:  return((char)0x638a); 
+			case 0x3f424f:  return((char)0x542f); 
+			case 0x3f4472:  return((char)0x7881); 
+			case 0x3f456d:  return((char)0x8263); 
+			case 0x3f4621:  return((char)0x9a69); 
+			case 0x3f4629:  return((char)0x4e97); 
+			case 0x3f462b:  return((char)0x5e30); 
+			case 0x3f476f:  return((char)0x51c8); 
+			case 0x3f4926:  return((char)0x6e08); 
+			case 0x3f4956:  return((char)0x7832); 
+			case 0x3f4a28:  return((char)0x9df0); 
+			case 0x3f4a60:  return((char)0x7266); 
+			case 0x3f4c3c:  return((char)0x7582); 
+			case 0x3f516d:  return((char)0x6403); 
+			case 0x3f5564:  return((char)0x61de); 
+			case 0x3f5631:  return((char)0x517f); 
+			case 0x3f5959:  return((char)0x8276); 
+			case 0x3f5e60:  return((char)0x9586); 
+			case 0x3f5f34:  return((char)0x9699); 
+			case 0x3f5f35:  return((char)0x6b9e); 
+			case 0x3f5f49:  return((char)0x7431); 
+			case 0x3f614c:  return((char)0x99c5); 
+			case 0x3f6179:  return((char)0x5c1f); 
+			case 0x45304c:  return((char)0x69a6); 
+			case 0x453051:  return((char)0x8d30); 
+			case 0x453336:  return((char)0x5b82); 
+			case 0x453421:  return((char)0x5271); 
+			case 0x453666:  return((char)0x5ad0); 
+			case 0x453755:  return((char)0x56ae); 
+			case 0x453768:  return((char)0x5efb); 
+			case 0x453d53:  return((char)0x5f66); 
+			case 0x453f6d:  return((char)0x52e0); 
+			case 0x454146:  return((char)0x63db); 
+			case 0x45456d:  return((char)0x6a10); 
+			case 0x45462b:  return((char)0x7688); 
+			case 0x45465b:  return((char)0x6c2f); 
+			case 0x454738:  return((char)0x6cfa); 
+			case 0x454774:  return((char)0x6e15); 
+			case 0x454b7a:  return((char)0x7523); 
+			case 0x454c3c:  return((char)0x7589); 
+			case 0x454e43:  return((char)0x788c); 
+			case 0x454e75:  return((char)0x7984); 
+			case 0x454f45:  return((char)0x9896); 
+			case 0x455122:  return((char)0x7d0d); 
+			case 0x455164:  return((char)0x53bf); 
+			case 0x455564:  return((char)0x6fdb); 
+			case 0x45564b:  return((char)0x865e); 
+			case 0x455746:  return((char)0x672f); 
+			case 0x455837:  return((char)0x8ba0); 
+			case 0x455847:  return((char)0x8a25); 
+			case 0x455d3e:  return((char)0x9485); 
+			case 0x455e21:  return((char)0x953a); 
+			case 0x455e60:  return((char)0x95eb); 
+			case 0x455f35:  return((char)0x9668); 
+			case 0x456036:  return((char)0x97ff); 
+			case 0x45604e:  return((char)0x984f); 
+			case 0x456064:  return((char)0x9963); 
+			case 0x45606b:  return((char)0x98f0); 
+			case 0x456076:  return((char)0x9980); 
+			case 0x456260:  return((char)0x5e7a); 
+			case 0x456324:  return((char)0x9f61); 
+			case 0x46284c:  return((char)0x5ed0); 
+			case 0x466074:  return((char)0x76b2); 
+			case 0x472c4d:  return((char)0x8801); 
+			case 0x473422:  return((char)0x8c2a); 
+			case 0x47347b:  return((char)0x8c2b); 
+			case 0x473539:  return((char)0x8b9e); 
+			case 0x47366f:  return((char)0x8d4d); 
+			case 0x474236:  return((char)0x949a); 
+			case 0x474270:  return((char)0x94bc); 
+			case 0x474931:  return((char)0x95f6); 
+			case 0x474e5c:  return((char)0x97de); 
+			case 0x475222:  return((char)0x9957); 
+			case 0x47577a:  return((char)0x9bd6); 
+			case 0x47594e:  return((char)0x9c3a); 
+			case 0x4b3021:  return((char)0x58f1); 
+			case 0x4b3050:  return((char)0x4e8a); 
+			case 0x4b3051:  return((char)0x5f10); 
+			case 0x4b3052:  return((char)0x6275); 
+			case 0x4b3057:  return((char)0x4e99); 
+			case 0x4b306c:  return((char)0x96e0); 
+			case 0x4b306e:  return((char)0x4ee4); 
+			case 0x4b3072:  return((char)0x4eed); 
+			case 0x4b312d:  return((char)0x4f2b); 
+			case 0x4b3130:  return((char)0x4fab); 
+			case 0x4b3144:  return((char)0x4f36); 
+			case 0x4b314c:  return((char)0x5f95); 
+			case 0x4b316a:  return((char)0x723c); 
+			case 0x4b3178:  return((char)0x5029); 
+			case 0x4b317c:  return((char)0x5024); 
+			case 0x4b3231:  return((char)0x4eee); 
+			case 0x4b3248:  return((char)0x50b2); 
+			case 0x4b324e:  return((char)0x50e7); 
+			case 0x4b325f:  return((char)0x50bb); 
+			case 0x4b3321:  return((char)0x5185); 
+			case 0x4b3322:  return((char)0x5168); 
+			case 0x4b3324:  return((char)0x634c); 
+			case 0x4b333e:  return((char)0x51b7); 
+			case 0x4b3351:  return((char)0x5204); 
+			case 0x4b3354:  return((char)0x82c5); 
+			case 0x4b3355:  return((char)0x520b); 
+			case 0x4b335b:  return((char)0x522b); 
+			case 0x4b3421:  return((char)0x5263); 
+			case 0x4b3435:  return((char)0x52b4); 
+			case 0x4b3436:  return((char)0x52f2); 
+			case 0x4b346b:  return((char)0x5df5); 
+			case 0x4b3474:  return((char)0x537f); 
+			case 0x4b356a:  return((char)0x55ec); 
+			case 0x4b357b:  return((char)0x54cc); 
+			case 0x4b3622:  return((char)0x8c18); 
+			case 0x4b3642:  return((char)0x8bf6); 
+			case 0x4b3666:  return((char)0x5a1a); 
+			case 0x4b3668:  return((char)0x5358); 
+			case 0x4b372c:  return((char)0x5606); 
+			case 0x4b372f:  return((char)0x5c1c); 
+			case 0x4b3749:  return((char)0x5668); 
+			case 0x4b374c:  return((char)0x5662); 
+			case 0x4b3758:  return((char)0x56a5); 
+			case 0x4b375a:  return((char)0x53b3); 
+			case 0x4b3768:  return((char)0x56d8); 
+			case 0x4b376f:  return((char)0x56fd); 
+			case 0x4b3772:  return((char)0x5186); 
+			case 0x4b3773:  return((char)0x56e3); 
+			case 0x4b3774:  return((char)0x56f3); 
+			case 0x4b382e:  return((char)0x57c0); 
+			case 0x4b3850:  return((char)0x5861); 
+			case 0x4b3853:  return((char)0x586d); 
+			case 0x4b385e:  return((char)0x5897); 
+			case 0x4b3864:  return((char)0x58c7); 
+			case 0x4b3869:  return((char)0x5727); 
+			case 0x4b386c:  return((char)0x5841); 
+			case 0x4b3870:  return((char)0x58cc); 
+			case 0x4b3871:  return((char)0x57bb); 
+			case 0x4b387d:  return((char)0x591b); 
+			case 0x4b3938:  return((char)0x5942); 
+			case 0x4b393a:  return((char)0x5f09); 
+			case 0x4b393e:  return((char)0x5965); 
+			case 0x4b393f:  return((char)0x5333); 
+			case 0x4b3974:  return((char)0x5b22); 
+			case 0x4b397b:  return((char)0x5a2f); 
+			case 0x4b3a2f:  return((char)0x805f); 
+			case 0x4b3a47:  return((char)0x88ca); 
+			case 0x4b3a49:  return((char)0x5b37); 
+			case 0x4b3b22:  return((char)0x51a6); 
+			case 0x4b3b31:  return((char)0x5b9f); 
+			case 0x4b3b37:  return((char)0x51a9); 
+			case 0x4b3b43:  return((char)0x5bfe); 
+			case 0x4b3b52:  return((char)0x8132); 
+			case 0x4b3b61:  return((char)0x5c64); 
+			case 0x4b3b67:  return((char)0x6b67); 
+			case 0x4b3b79:  return((char)0x5d8c); 
+			case 0x4b3b7e:  return((char)0x5d15); 
+			case 0x4b3c21:  return((char)0x5d5c); 
+			case 0x4b3c23:  return((char)0x5ce5); 
+			case 0x4b3c2b:  return((char)0x67c3); 
+			case 0x4b3c2f:  return((char)0x5dba); 
+			case 0x4b3c32:  return((char)0x5dd3); 
+			case 0x4b3c33:  return((char)0x5dcc); 
+			case 0x4b3c38:  return((char)0x949c); 
+			case 0x4b3c53:  return((char)0x5e2f); 
+			case 0x4b3c5e:  return((char)0x5e64); 
+			case 0x4b3d24:  return((char)0x53a6); 
+			case 0x4b3d27:  return((char)0x5ec3); 
+			case 0x4b3d2a:  return((char)0x5ee3); 
+			case 0x4b3d2c:  return((char)0x53b0); 
+			case 0x4b3d2f:  return((char)0x5ef0); 
+			case 0x4b3d4b:  return((char)0x5f3e); 
+			case 0x4b3d4c:  return((char)0x5f25); 
+			case 0x4b3d5c:  return((char)0x5f83); 
+			case 0x4b3d67:  return((char)0x5f84); 
+			case 0x4b3e2a:  return((char)0x6035); 
+			case 0x4b3e40:  return((char)0x6046); 
+			case 0x4b3e5b:  return((char)0x60c5); 
+			case 0x4b3e7e:  return((char)0x60a9); 
+			case 0x4b3f40:  return((char)0x618e); 
+			case 0x4b3f4a:  return((char)0x5fdc); 
+			case 0x4b3f4b:  return((char)0x601c); 
+			case 0x4b3f50:  return((char)0x61ca); 
+			case 0x4b3f51:  return((char)0x61d1); 
+			case 0x4b3f53:  return((char)0x61f2); 
+			case 0x4b3f74:  return((char)0x623b); 
+			case 0x4b403d:  return((char)0x62dd); 
+			case 0x4b4046:  return((char)0x629c); 
+			case 0x4b4049:  return((char)0x62d0); 
+			case 0x4b4053:  return((char)0x627a); 
+			case 0x4b4066:  return((char)0x62f4); 
+			case 0x4b412a:  return((char)0x6323); 
+			case 0x4b4135:  return((char)0x6368); 
+			case 0x4b4146:  return((char)0x6362); 
+			case 0x4b4147:  return((char)0x633f); 
+			case 0x4b4235:  return((char)0x6442); 
+			case 0x4b4236:  return((char)0x643a); 
+			case 0x4b423a:  return((char)0x64b9); 
+			case 0x4b4339:  return((char)0x6674); 
+			case 0x4b4347:  return((char)0x66a8); 
+			case 0x4b434d:  return((char)0x663f); 
+			case 0x4b4352:  return((char)0x66f5); 
+			case 0x4b4358:  return((char)0x66fd); 
+			case 0x4b442d:  return((char)0x67a9); 
+			case 0x4b4444:  return((char)0x8988); 
+			case 0x4b4456:  return((char)0x6813); 
+			case 0x4b4476:  return((char)0x685f); 
+			case 0x4b4534:  return((char)0x6994); 
+			case 0x4b4537:  return((char)0x6804); 
+			case 0x4b4544:  return((char)0x69d8); 
+			case 0x4b4545:  return((char)0x6982); 
+			case 0x4b4553:  return((char)0x6955); 
+			case 0x4b4556:  return((char)0x6a2a); 
+			case 0x4b4559:  return((char)0x9792); 
+			case 0x4b4561:  return((char)0x691c); 
+			case 0x4b4569:  return((char)0x6a71); 
+			case 0x4b456c:  return((char)0x6adb); 
+			case 0x4b456d:  return((char)0x823b); 
+			case 0x4b456f:  return((char)0x685c); 
+			case 0x4b4570:  return((char)0x6a29); 
+			case 0x4b4621:  return((char)0x6b53); 
+			case 0x4b462a:  return((char)0x6b74); 
+			case 0x4b462e:  return((char)0x6b81); 
+			case 0x4b4638:  return((char)0x6bb1); 
+			case 0x4b4655:  return((char)0x6c17); 
+			case 0x4b465a:  return((char)0x6c32); 
+			case 0x4b4676:  return((char)0x6c89); 
+			case 0x4b4741:  return((char)0x51bd); 
+			case 0x4b4759:  return((char)0x6d99); 
+			case 0x4b4761:  return((char)0x6e05); 
+			case 0x4b4767:  return((char)0x6db5); 
+			case 0x4b476c:  return((char)0x51c5); 
+			case 0x4b4835:  return((char)0x6da3); 
+			case 0x4b4846:  return((char)0x78c6); 
+			case 0x4b484a:  return((char)0x6e13); 
+			case 0x4b484b:  return((char)0x51d6); 
+			case 0x4b484c:  return((char)0x6f91); 
+			case 0x4b4857:  return((char)0x6f22); 
+			case 0x4b4858:  return((char)0x6e80); 
+			case 0x4b485f:  return((char)0x6ede); 
+			case 0x4b4866:  return((char)0x6e89); 
+			case 0x4b4874:  return((char)0x6ff3); 
+			case 0x4b4921:  return((char)0x6ca2); 
+			case 0x4b4925:  return((char)0x6fb3); 
+			case 0x4b492b:  return((char)0x6feb); 
+			case 0x4b492e:  return((char)0x6e0b); 
+			case 0x4b4931:  return((char)0x6e16); 
+			case 0x4b4937:  return((char)0x56a0); 
+			case 0x4b4940:  return((char)0x6f45); 
+			case 0x4b4947:  return((char)0x7ac3); 
+			case 0x4b496a:  return((char)0x932c); 
+			case 0x4b496b:  return((char)0x83f8); 
+			case 0x4b4973:  return((char)0x7115); 
+			case 0x4b4975:  return((char)0x6427); 
+			case 0x4b4977:  return((char)0x7188); 
+			case 0x4b4a2e:  return((char)0x55b6); 
+			case 0x4b4a38:  return((char)0x71d7); 
+			case 0x4b4a3e:  return((char)0x7235); 
+			case 0x4b4a45:  return((char)0x5c13); 
+			case 0x4b4a62:  return((char)0x72a0); 
+			case 0x4b4a74:  return((char)0x731c); 
+			case 0x4b4a78:  return((char)0x72f0); 
+			case 0x4b4b2b:  return((char)0x7363); 
+			case 0x4b4b2c:  return((char)0x731f); 
+			case 0x4b4b3e:  return((char)0x73b2); 
+			case 0x4b4b63:  return((char)0x749c); 
+			case 0x4b4b71:  return((char)0x7f3e); 
+			case 0x4b4b77:  return((char)0x4ec0); 
+			case 0x4b4c36:  return((char)0x7575); 
+			case 0x4b4c3c:  return((char)0x7573); 
+			case 0x4b4c51:  return((char)0x75ca); 
+			case 0x4b4c5b:  return((char)0x75f3); 
+			case 0x4b4c67:  return((char)0x761f); 
+			case 0x4b4c79:  return((char)0x7672); 
+			case 0x4b4d41:  return((char)0x862f); 
+			case 0x4b4d45:  return((char)0x76f4); 
+			case 0x4b4d56:  return((char)0x8846); 
+			case 0x4b4d59:  return((char)0x775b); 
+			case 0x4b4d73:  return((char)0x66b8); 
+			case 0x4b4d7b:  return((char)0x77d7); 
+			case 0x4b4e21:  return((char)0x7b36); 
+			case 0x4b4e37:  return((char)0x7814); 
+			case 0x4b4e39:  return((char)0x5cfa); 
+			case 0x4b4e56:  return((char)0x78fa); 
+			case 0x4b4e5b:  return((char)0x783f); 
+			case 0x4b4e67:  return((char)0x79d8); 
+			case 0x4b4e7b:  return((char)0x7985); 
+			case 0x4b4f29:  return((char)0x7a50); 
+			case 0x4b4f3c:  return((char)0x79f0); 
+			case 0x4b4f43:  return((char)0x7a32); 
+			case 0x4b4f4c:  return((char)0x7a4f); 
+			case 0x4b4f7b:  return((char)0x7b7a); 
+			case 0x4b5036:  return((char)0x7c14); 
+			case 0x4b503b:  return((char)0x7c12); 
+			case 0x4b5044:  return((char)0x7c27); 
+			case 0x4b5052:  return((char)0x7c56); 
+			case 0x4b5061:  return((char)0x7cbe); 
+			case 0x4b506c:  return((char)0x7cab); 
+			case 0x4b513b:  return((char)0x7cf8); 
+			case 0x4b5154:  return((char)0x7df4); 
+			case 0x4b515a:  return((char)0x7e01); 
+			case 0x4b5164:  return((char)0x770c); 
+			case 0x4b516a:  return((char)0x7ef7); 
+			case 0x4b516d:  return((char)0x7dcf); 
+			case 0x4b516e:  return((char)0x7e26); 
+			case 0x4b5176:  return((char)0x7e04); 
+			case 0x4b5179:  return((char)0x7f0b); 
+			case 0x4b517e:  return((char)0x7e92); 
+			case 0x4b5221:  return((char)0x7d9a); 
+			case 0x4b5223:  return((char)0x7e4a); 
+			case 0x4b5227:  return((char)0x6b20); 
+			case 0x4b522b:  return((char)0x7f36); 
+			case 0x4b5238:  return((char)0x7f87); 
+			case 0x4b523e:  return((char)0x7f9a); 
+			case 0x4b5247:  return((char)0x7fae); 
+			case 0x4b524e:  return((char)0x7fce); 
+			case 0x4b525a:  return((char)0x7ffa); 
+			case 0x4b525b:  return((char)0x66dc); 
+			case 0x4b525c:  return((char)0x8002); 
+			case 0x4b526e:  return((char)0x8046); 
+			case 0x4b5277:  return((char)0x8068); 
+			case 0x4b527c:  return((char)0x8080); 
+			case 0x4b533b:  return((char)0x695c); 
+			case 0x4b5361:  return((char)0x89d2); 
+			case 0x4b5365:  return((char)0x8133); 
+			case 0x4b537d:  return((char)0x9acc); 
+			case 0x4b5422:  return((char)0x81d3); 
+			case 0x4b5428:  return((char)0x81ed); 
+			case 0x4b5434:  return((char)0x6319); 
+			case 0x4b5437:  return((char)0x820e); 
+			case 0x4b546d:  return((char)0x82d3); 
+			case 0x4b5521:  return((char)0x8332); 
+			case 0x4b552c:  return((char)0x8392); 
+			case 0x4b553a:  return((char)0x83c1); 
+			case 0x4b553f:  return((char)0x83bd); 
+			case 0x4b5542:  return((char)0x8420); 
+			case 0x4b5564:  return((char)0x77c7); 
+			case 0x4b5629:  return((char)0x85cd); 
+			case 0x4b562b:  return((char)0x8535); 
+			case 0x4b5631:  return((char)0x82b8); 
+			case 0x4b5632:  return((char)0x7c54); 
+			case 0x4b563a:  return((char)0x82a6); 
+			case 0x4b563f:  return((char)0x6a98); 
+			case 0x4b5647:  return((char)0x51e6); 
+			case 0x4b566a:  return((char)0x8708); 
+			case 0x4b5671:  return((char)0x873b); 
+			case 0x4b5724:  return((char)0x86cd); 
+			case 0x4b5736:  return((char)0x877f); 
+			case 0x4b5740:  return((char)0x8827); 
+			case 0x4b5746:  return((char)0x8853); 
+			case 0x4b576c:  return((char)0x523e); 
+			case 0x4b576f:  return((char)0x8910); 
+			case 0x4b5773:  return((char)0x7ed4); 
+			case 0x4b577e:  return((char)0x7e7f); 
+			case 0x4b5824:  return((char)0x897e); 
+			case 0x4b5826:  return((char)0x8983); 
+			case 0x4b5830:  return((char)0x899a); 
+			case 0x4b5832:  return((char)0x89b3); 
+			case 0x4b5861:  return((char)0x4f89); 
+			case 0x4b5871:  return((char)0x8aa4); 
+			case 0x4b587a:  return((char)0x8acb); 
+			case 0x4b5936:  return((char)0x8b20); 
+			case 0x4b5946:  return((char)0x8a33); 
+			case 0x4b594a:  return((char)0x8aad); 
+			case 0x4b594b:  return((char)0x5909); 
+			case 0x4b5959:  return((char)0x8273); 
+			case 0x4b5963:  return((char)0x734f); 
+			case 0x4b5964:  return((char)0x72e2); 
+			case 0x4b5973:  return((char)0x8d2e); 
+			case 0x4b5a23:  return((char)0x621d); 
+			case 0x4b5a31:  return((char)0x8cce); 
+			case 0x4b5a3b:  return((char)0x8d08); 
+			case 0x4b5a68:  return((char)0x8df5); 
+			case 0x4b5a7e:  return((char)0x5c69); 
+			case 0x4b5b29:  return((char)0x8e8d); 
+			case 0x4b5b46:  return((char)0x8f0c); 
+			case 0x4b5b52:  return((char)0x8f42); 
+			case 0x4b5b55:  return((char)0x8ee2); 
+			case 0x4b5b58:  return((char)0x8ee3); 
+			case 0x4b5b5e:  return((char)0x5f01); 
+			case 0x4b5c32:  return((char)0x9038); 
+			case 0x4b5c39:  return((char)0x9039); 
+			case 0x4b5c47:  return((char)0x9059); 
+			case 0x4b5c50:  return((char)0x9045); 
+			case 0x4b5c54:  return((char)0x8f9f); 
+			case 0x4b5c5b:  return((char)0x8fba); 
+			case 0x4b5c5e:  return((char)0x961d); 
+			case 0x4b5c72:  return((char)0x9119); 
+			case 0x4b5c77:  return((char)0x9139); 
+			case 0x4b5d2b:  return((char)0x9162); 
+			case 0x4b5d34:  return((char)0x91b8); 
+			case 0x4b5d36:  return((char)0x91c6); 
+			case 0x4b5d38:  return((char)0x91c8); 
+			case 0x4b5d42:  return((char)0x91e1); 
+			case 0x4b5d58:  return((char)0x9234); 
+			case 0x4b5d65:  return((char)0x8217); 
+			case 0x4b5d70:  return((char)0x92ad); 
+			case 0x4b5e27:  return((char)0x93ad); 
+			case 0x4b5e3d:  return((char)0x9421); 
+			case 0x4b5e3f:  return((char)0x922c); 
+			case 0x4b5e5d:  return((char)0x95d4); 
+			case 0x4b5e69:  return((char)0x95a2); 
+			case 0x4b5e6c:  return((char)0x961d); 
+			case 0x4b5f30:  return((char)0x9686); 
+			case 0x4b5f35:  return((char)0x6b92); 
+			case 0x4b5f3a:  return((char)0x967a); 
+			case 0x4b5f49:  return((char)0x51cb); 
+			case 0x4b5f4c:  return((char)0x9d8f); 
+			case 0x4b5f50:  return((char)0x96e3); 
+			case 0x4b5f58:  return((char)0x96f6); 
+			case 0x4b5f62:  return((char)0x7668); 
+			case 0x4b5f6f:  return((char)0x970a); 
+			case 0x4b5f70:  return((char)0x9752); 
+			case 0x4b5f71:  return((char)0x9756); 
+			case 0x4b5f72:  return((char)0x975b); 
+			case 0x4b5f73:  return((char)0x975c); 
+			case 0x4b602d:  return((char)0x9771); 
+			case 0x4b6044:  return((char)0x9818); 
+			case 0x4b6048:  return((char)0x981a); 
+			case 0x4b6053:  return((char)0x985e); 
+			case 0x4b606f:  return((char)0x991d); 
+			case 0x4b6122:  return((char)0x994b); 
+			case 0x4b6130:  return((char)0x99c4); 
+			case 0x4b613f:  return((char)0x9a08); 
+			case 0x4b6145:  return((char)0x9a12); 
+			case 0x4b6147:  return((char)0x99c6); 
+			case 0x4b614d:  return((char)0x9a13); 
+			case 0x4b6159:  return((char)0x81b8); 
+			case 0x4b615f:  return((char)0x9aea); 
+			case 0x4b6167:  return((char)0x95d8); 
+			case 0x4b6168:  return((char)0x9599); 
+			case 0x4b623b:  return((char)0x9d12); 
+			case 0x4b6247:  return((char)0x9d2c); 
+			case 0x4b624f:  return((char)0x9d49); 
+			case 0x4b6258:  return((char)0x68ba); 
+			case 0x4b625c:  return((char)0x9eb8); 
+			case 0x4b6260:  return((char)0x9ebd); 
+			case 0x4b6266:  return((char)0x9ed2); 
+			case 0x4b6268:  return((char)0x9ed9); 
+			case 0x4b6278:  return((char)0x9f21); 
+			case 0x4b6324:  return((char)0x9f62); 
+			case 0x4b6455:  return((char)0x4eb6); 
+			case 0x4b6637:  return((char)0x4fe3); 
+			case 0x4b682e:  return((char)0x4ec2); 
+			case 0x4b6a22:  return((char)0x7f83); 
+			case 0x4b6a26:  return((char)0x6c8d); 
+			case 0x4b7421:  return((char)0x56f9); 
+			case 0x4b7577:  return((char)0x57d3); 
+			case 0x4b763d:  return((char)0x57f4); 
+			case 0x4b7874:  return((char)0x590a); 
+			case 0x4b7954:  return((char)0x5968); 
+			case 0x4b7e6a:  return((char)0x5bc3); 
+			case 0x4c2330:  return((char)0x5c53); 
+			case 0x4c233f:  return((char)0x5c76); 
+			case 0x4c2532:  return((char)0x5d5b); 
+			case 0x4c2539:  return((char)0x5d73); 
+			case 0x4c284c:  return((char)0x53a9); 
+			case 0x4c2867:  return((char)0x5edb); 
+			case 0x4c2962:  return((char)0x5f4d); 
+			case 0x4c2f61:  return((char)0x622c); 
+			case 0x4c3474:  return((char)0x631d); 
+			case 0x4c354a:  return((char)0x64b8); 
+			case 0x4c3744:  return((char)0x65d9); 
+			case 0x4c3a33:  return((char)0x80ad); 
+			case 0x4c3a55:  return((char)0x6741); 
+			case 0x4c3a5b:  return((char)0x6859); 
+			case 0x4c3b22:  return((char)0x6860); 
+			case 0x4c3b31:  return((char)0x6798); 
+			case 0x4c3b60:  return((char)0x6764); 
+			case 0x4c3f68:  return((char)0x69c7); 
+			case 0x4c3f7a:  return((char)0x6922); 
+			case 0x4c4146:  return((char)0x8538); 
+			case 0x4c4177:  return((char)0x8223); 
+			case 0x4c4333:  return((char)0x6aaa); 
+			case 0x4c4339:  return((char)0x69de); 
+			case 0x4c433f:  return((char)0x6a65); 
+			case 0x4c4345:  return((char)0x67a6); 
+			case 0x4c4359:  return((char)0x6b05); 
+			case 0x4c4446:  return((char)0x6b4e); 
+			case 0x4c476e:  return((char)0x6cad); 
+			case 0x4c4c35:  return((char)0x6e0c); 
+			case 0x4c4d3d:  return((char)0x6f62); 
+			case 0x4c4d63:  return((char)0x6f99); 
+			case 0x4c4f24:  return((char)0x6f46); 
+			case 0x4c4f26:  return((char)0x6edd); 
+			case 0x4c4f2b:  return((char)0x701e); 
+			case 0x4c5175:  return((char)0x8315); 
+			case 0x4c523a:  return((char)0x717a); 
+			case 0x4c5447:  return((char)0x71e0); 
+			case 0x4c5541:  return((char)0x4e2c); 
+			case 0x4c5638:  return((char)0x729f); 
+			case 0x4c5c3a:  return((char)0x73f1); 
+			case 0x4c5c61:  return((char)0x74f4); 
+			case 0x4c5f58:  return((char)0x7640); 
+			case 0x4c5f69:  return((char)0x75eb); 
+			case 0x4c6022:  return((char)0x7596); 
+			case 0x4c6074:  return((char)0x76b9); 
+			case 0x4c6266:  return((char)0x778b); 
+			case 0x4c6376:  return((char)0x7839); 
+			case 0x4c6564:  return((char)0x78d9); 
+			case 0x4c6565:  return((char)0x78b9); 
+			case 0x4c6775:  return((char)0x7962); 
+			case 0x4c683e:  return((char)0x79eb); 
+			case 0x4c695c:  return((char)0x7a06); 
+			case 0x4c695f:  return((char)0x7a63); 
+			case 0x4c6b62:  return((char)0x7b4c); 
+			case 0x4c6c46:  return((char)0x7b9f); 
+			case 0x4c6e42:  return((char)0x7c31); 
+			case 0x4c6f43:  return((char)0x7ccd); 
+			case 0x4c6f7b:  return((char)0x7ce8); 
+			case 0x4c715a:  return((char)0x7ee6); 
+			case 0x4c725d:  return((char)0x7a39); 
+			case 0x4c7265:  return((char)0x7dfc); 
+			case 0x4c7328:  return((char)0x5fad); 
+			case 0x4c735d:  return((char)0x7d4b); 
+			case 0x4c794e:  return((char)0x80b7); 
+			case 0x4c7959:  return((char)0x817d); 
+			case 0x4c796b:  return((char)0x815f); 
+			case 0x4c7c45:  return((char)0x82ae); 
+			case 0x4c7d4d:  return((char)0x8343); 
+			case 0x4c7d6a:  return((char)0x8323); 
+			case 0x4d222a:  return((char)0x83b5); 
+			case 0x4d2925:  return((char)0x8770); 
+			case 0x4d2962:  return((char)0x86c9); 
+			case 0x4d2c3c:  return((char)0x87e5); 
+			case 0x4d2d75:  return((char)0x8872); 
+			case 0x4d2f5d:  return((char)0x8941); 
+			case 0x4d2f73:  return((char)0x7e5d); 
+			case 0x4d2f7a:  return((char)0x891d); 
+			case 0x4d3032:  return((char)0x88ae); 
+			case 0x4d3359:  return((char)0x56af); 
+			case 0x4d3363:  return((char)0x8c25); 
+			case 0x4d386f:  return((char)0x544b); 
+			case 0x4d3c6c:  return((char)0x8fb6); 
+			case 0x4d4134:  return((char)0x919b); 
+			case 0x4d4176:  return((char)0x91db); 
+			case 0x4d445b:  return((char)0x9306); 
+			case 0x4d446b:  return((char)0x954e); 
+			case 0x4d472c:  return((char)0x952a); 
+			case 0x4d4754:  return((char)0x9544); 
+			case 0x4d477b:  return((char)0x943e); 
+			case 0x4d4832:  return((char)0x953f); 
+			case 0x4d4835:  return((char)0x954c); 
+			case 0x4d4862:  return((char)0x9229); 
+			case 0x4d4a6c:  return((char)0x9667); 
+			case 0x4d4d61:  return((char)0x7ef1); 
+			case 0x4d4f39:  return((char)0x988c); 
+			case 0x4d503a:  return((char)0x98d1); 
+			case 0x4d5053:  return((char)0x98da); 
+			case 0x4d5154:  return((char)0x9942); 
+			case 0x4d5574:  return((char)0x9b2e); 
+			case 0x4d5858:  return((char)0x9be3); 
+			case 0x4d5875:  return((char)0x9cd0); 
+			case 0x4d5934:  return((char)0x9ca6); 
+			case 0x4d594e:  return((char)0x9bf5); 
+			case 0x4d5973:  return((char)0x51eb); 
+			case 0x4d5a6c:  return((char)0x9d46); 
+			case 0x4d5b35:  return((char)0x9dab); 
+			case 0x4d5b7e:  return((char)0x9dc6); 
+			case 0x4d5c6b:  return((char)0x9d50); 
+			case 0x4d5d49:  return((char)0x9e81); 
+			case 0x4d5f70:  return((char)0x9f44); 
+			case 0x4d5f7b:  return((char)0x97f2); 
+			case 0x4d6047:  return((char)0x816d); 
+			case 0x513051:  return((char)0x8cae); 
+			case 0x513057:  return((char)0x4e98); 
+			case 0x513421:  return((char)0x91d6); 
+			case 0x51356a:  return((char)0x8bc3); 
+			case 0x51384d:  return((char)0x51c3); 
+			case 0x513a47:  return((char)0x8885); 
+			case 0x513b52:  return((char)0x6c3d); 
+			case 0x513d67:  return((char)0x8ff3); 
+			case 0x51456d:  return((char)0x822e); 
+			case 0x51496b:  return((char)0x852b); 
+			case 0x514e5b:  return((char)0x9271); 
+			case 0x51513b:  return((char)0x7e9f); 
+			case 0x51563f:  return((char)0x8616); 
+			case 0x515e5d:  return((char)0x9616); 
+			case 0x516122:  return((char)0x9988); 
+			case 0x516a26:  return((char)0x51b4); 
+			case 0x517954:  return((char)0x734e); 
+			case 0x52735d:  return((char)0x7e8a); 
+			case 0x692126:  return((char)0x30fb); 
+			case 0x692139:  return((char)0x3005); 
+			case 0x69213c:  return((char)0x30fc); 
+			case 0x692152:  return((char)0x3008); 
+			case 0x692153:  return((char)0x3009); 
+			case 0x692154:  return((char)0x300a); 
+			case 0x692155:  return((char)0x300b); 
+			case 0x692421:  return((char)0x3041); 
+			case 0x692422:  return((char)0x3042); 
+			case 0x692423:  return((char)0x3043); 
+			case 0x692424:  return((char)0x3044); 
+			case 0x692425:  return((char)0x3045); 
+			case 0x692426:  return((char)0x3046); 
+			case 0x692427:  return((char)0x3047); 
+			case 0x692428:  return((char)0x3048); 
+			case 0x692429:  return((char)0x3049); 
+			case 0x69242a:  return((char)0x304a); 
+			case 0x69242b:  return((char)0x304b); 
+			case 0x69242c:  return((char)0x304c); 
+			case 0x69242d:  return((char)0x304d); 
+			case 0x69242e:  return((char)0x304e); 
+			case 0x69242f:  return((char)0x304f); 
+			case 0x692430:  return((char)0x3050); 
+			case 0x692431:  return((char)0x3051); 
+			case 0x692432:  return((char)0x3052); 
+			case 0x692433:  return((char)0x3053); 
+			case 0x692434:  return((char)0x3054); 
+			case 0x692435:  return((char)0x3055); 
+			case 0x692436:  return((char)0x3056); 
+			case 0x692437:  return((char)0x3057); 
+			case 0x692438:  return((char)0x3058); 
+			case 0x692439:  return((char)0x3059); 
+			case 0x69243a:  return((char)0x305a); 
+			case 0x69243b:  return((char)0x305b); 
+			case 0x69243c:  return((char)0x305c); 
+			case 0x69243d:  return((char)0x305d); 
+			case 0x69243e:  return((char)0x305e); 
+			case 0x69243f:  return((char)0x305f); 
+			case 0x692440:  return((char)0x3060); 
+			case 0x692441:  return((char)0x3061); 
+			case 0x692442:  return((char)0x3062); 
+			case 0x692443:  return((char)0x3063); 
+			case 0x692444:  return((char)0x3064); 
+			case 0x692445:  return((char)0x3065); 
+			case 0x692446:  return((char)0x3066); 
+			case 0x692447:  return((char)0x3067); 
+			case 0x692448:  return((char)0x3068); 
+			case 0x692449:  return((char)0x3069); 
+			case 0x69244a:  return((char)0x306a); 
+			case 0x69244b:  return((char)0x306b); 
+			case 0x69244c:  return((char)0x306c); 
+			case 0x69244d:  return((char)0x306d); 
+			case 0x69244e:  return((char)0x306e); 
+			case 0x69244f:  return((char)0x306f); 
+			case 0x692450:  return((char)0x3070); 
+			case 0x692451:  return((char)0x3071); 
+			case 0x692452:  return((char)0x3072); 
+			case 0x692453:  return((char)0x3073); 
+			case 0x692454:  return((char)0x3074); 
+			case 0x692455:  return((char)0x3075); 
+			case 0x692456:  return((char)0x3076); 
+			case 0x692457:  return((char)0x3077); 
+			case 0x692458:  return((char)0x3078); 
+			case 0x692459:  return((char)0x3079); 
+			case 0x69245a:  return((char)0x307a); 
+			case 0x69245b:  return((char)0x307b); 
+			case 0x69245c:  return((char)0x307c); 
+			case 0x69245d:  return((char)0x307d); 
+			case 0x69245e:  return((char)0x307e); 
+			case 0x69245f:  return((char)0x307f); 
+			case 0x692460:  return((char)0x3080); 
+			case 0x692461:  return((char)0x3081); 
+			case 0x692462:  return((char)0x3082); 
+			case 0x692463:  return((char)0x3083); 
+			case 0x692464:  return((char)0x3084); 
+			case 0x692465:  return((char)0x3085); 
+			case 0x692466:  return((char)0x3086); 
+			case 0x692467:  return((char)0x3087); 
+			case 0x692468:  return((char)0x3088); 
+			case 0x692469:  return((char)0x3089); 
+			case 0x69246a:  return((char)0x308a); 
+			case 0x69246b:  return((char)0x308b); 
+			case 0x69246c:  return((char)0x308c); 
+			case 0x69246d:  return((char)0x308d); 
+			case 0x69246e:  return((char)0x308e); 
+			case 0x69246f:  return((char)0x308f); 
+			case 0x692470:  return((char)0x3090); 
+			case 0x692471:  return((char)0x3091); 
+			case 0x692472:  return((char)0x3092); 
+			case 0x692473:  return((char)0x3093); 
+			case 0x692521:  return((char)0x30a1); 
+			case 0x692522:  return((char)0x30a2); 
+			case 0x692523:  return((char)0x30a3); 
+			case 0x692524:  return((char)0x30a4); 
+			case 0x692525:  return((char)0x30a5); 
+			case 0x692526:  return((char)0x30a6); 
+			case 0x692527:  return((char)0x30a7); 
+			case 0x692528:  return((char)0x30a8); 
+			case 0x692529:  return((char)0x30a9); 
+			case 0x69252a:  return((char)0x30aa); 
+			case 0x69252b:  return((char)0x30ab); 
+			case 0x69252c:  return((char)0x30ac); 
+			case 0x69252d:  return((char)0x30ad); 
+			case 0x69252e:  return((char)0x30ae); 
+			case 0x69252f:  return((char)0x30af); 
+			case 0x692530:  return((char)0x30b0); 
+			case 0x692531:  return((char)0x30b1); 
+			case 0x692532:  return((char)0x30b2); 
+			case 0x692533:  return((char)0x30b3); 
+			case 0x692534:  return((char)0x30b4); 
+			case 0x692535:  return((char)0x30b5); 
+			case 0x692536:  return((char)0x30b6); 
+			case 0x692537:  return((char)0x30b7); 
+			case 0x692538:  return((char)0x30b8); 
+			case 0x692539:  return((char)0x30b9); 
+			case 0x69253a:  return((char)0x30ba); 
+			case 0x69253b:  return((char)0x30bb); 
+			case 0x69253c:  return((char)0x30bc); 
+			case 0x69253d:  return((char)0x30bd); 
+			case 0x69253e:  return((char)0x30be); 
+			case 0x69253f:  return((char)0x30bf); 
+			case 0x692540:  return((char)0x30c0); 
+			case 0x692541:  return((char)0x30c1); 
+			case 0x692542:  return((char)0x30c2); 
+			case 0x692543:  return((char)0x30c3); 
+			case 0x692544:  return((char)0x30c4); 
+			case 0x692545:  return((char)0x30c5); 
+			case 0x692546:  return((char)0x30c6); 
+			case 0x692547:  return((char)0x30c7); 
+			case 0x692548:  return((char)0x30c8); 
+			case 0x692549:  return((char)0x30c9); 
+			case 0x69254a:  return((char)0x30ca); 
+			case 0x69254b:  return((char)0x30cb); 
+			case 0x69254c:  return((char)0x30cc); 
+			case 0x69254d:  return((char)0x30cd); 
+			case 0x69254e:  return((char)0x30ce); 
+			case 0x69254f:  return((char)0x30cf); 
+			case 0x692550:  return((char)0x30d0); 
+			case 0x692551:  return((char)0x30d1); 
+			case 0x692552:  return((char)0x30d2); 
+			case 0x692553:  return((char)0x30d3); 
+			case 0x692554:  return((char)0x30d4); 
+			case 0x692555:  return((char)0x30d5); 
+			case 0x692556:  return((char)0x30d6); 
+			case 0x692557:  return((char)0x30d7); 
+			case 0x692558:  return((char)0x30d8); 
+			case 0x692559:  return((char)0x30d9); 
+			case 0x69255a:  return((char)0x30da); 
+			case 0x69255b:  return((char)0x30db); 
+			case 0x69255c:  return((char)0x30dc); 
+			case 0x69255d:  return((char)0x30dd); 
+			case 0x69255e:  return((char)0x30de); 
+			case 0x69255f:  return((char)0x30df); 
+			case 0x692560:  return((char)0x30e0); 
+			case 0x692561:  return((char)0x30e1); 
+			case 0x692562:  return((char)0x30e2); 
+			case 0x692563:  return((char)0x30e3); 
+			case 0x692564:  return((char)0x30e4); 
+			case 0x692565:  return((char)0x30e5); 
+			case 0x692566:  return((char)0x30e6); 
+			case 0x692567:  return((char)0x30e7); 
+			case 0x692568:  return((char)0x30e8); 
+			case 0x692569:  return((char)0x30e9); 
+			case 0x69256a:  return((char)0x30ea); 
+			case 0x69256b:  return((char)0x30eb); 
+			case 0x69256c:  return((char)0x30ec); 
+			case 0x69256d:  return((char)0x30ed); 
+			case 0x69256e:  return((char)0x30ee); 
+			case 0x69256f:  return((char)0x30ef); 
+			case 0x692570:  return((char)0x30f0); 
+			case 0x692571:  return((char)0x30f1); 
+			case 0x692572:  return((char)0x30f2); 
+			case 0x692573:  return((char)0x30f3); 
+			case 0x692574:  return((char)0x30f4); 
+			case 0x692575:  return((char)0x30f5); 
+			case 0x692576:  return((char)0x30f6); 
+			case 0x692577:  return((char)0x309b); 
+			case 0x692578:  return((char)0x309c); 
+			case 0x693729:  return((char)0x7c82); 
+			case 0x693c32:  return((char)0x9d2b); 
+			case 0x693c36:  return((char)0x96eb); 
+			case 0x694664:  return((char)0x51ea); 
+			case 0x694677:  return((char)0x5302); 
+			case 0x694823:  return((char)0x7872); 
+			case 0x69482b:  return((char)0x7560); 
+			case 0x694838:  return((char)0x567a); 
+			case 0x694b7b:  return((char)0x9ebf); 
+			case 0x694c5d:  return((char)0x6762); 
+			case 0x694c68:  return((char)0x5301); 
+			case 0x694c7a:  return((char)0x9453); 
+			case 0x695130:  return((char)0x5116); 
+			case 0x69515e:  return((char)0x51e9); 
+			case 0x69525d:  return((char)0x53fa); 
+			case 0x695326:  return((char)0x54d8); 
+			case 0x69533b:  return((char)0x555d); 
+			case 0x695375:  return((char)0x56ce); 
+			case 0x695429:  return((char)0x5726); 
+			case 0x69542a:  return((char)0x5737); 
+			case 0x695438:  return((char)0x57b3); 
+			case 0x69543a:  return((char)0x57aa); 
+			case 0x69543b:  return((char)0x57b0); 
+			case 0x695442:  return((char)0x57d6); 
+			case 0x69544b:  return((char)0x5870); 
+			case 0x695451:  return((char)0x58b9); 
+			case 0x695457:  return((char)0x58b8); 
+			case 0x69545c:  return((char)0x58d7); 
+			case 0x69545f:  return((char)0x58e5); 
+			case 0x69554e:  return((char)0x5b36); 
+			case 0x695626:  return((char)0x4e62); 
+			case 0x69562c:  return((char)0x599b); 
+			case 0x69562e:  return((char)0x5cbb); 
+			case 0x695630:  return((char)0x5cbc); 
+			case 0x695632:  return((char)0x5cc5); 
+			case 0x695633:  return((char)0x5cbe); 
+			case 0x69564e:  return((char)0x5d76); 
+			case 0x695657:  return((char)0x5d90); 
+			case 0x695737:  return((char)0x5f16); 
+			case 0x69573b:  return((char)0x5f41); 
+			case 0x69576a:  return((char)0x603a); 
+			case 0x69594b:  return((char)0x6327); 
+			case 0x69595e:  return((char)0x63b5); 
+			case 0x695a31:  return((char)0x64f6); 
+			case 0x695a73:  return((char)0x6683); 
+			case 0x695a7e:  return((char)0x66bc); 
+			case 0x695b37:  return((char)0x6737); 
+			case 0x695b7b:  return((char)0x6926); 
+			case 0x695c29:  return((char)0x6925); 
+			case 0x695c2d:  return((char)0x6928); 
+			case 0x695c30:  return((char)0x6923); 
+			case 0x695c31:  return((char)0x6921); 
+			case 0x695c39:  return((char)0x697e); 
+			case 0x695c43:  return((char)0x6981); 
+			case 0x695c4f:  return((char)0x69dd); 
+			case 0x695c53:  return((char)0x6a2e); 
+			case 0x695c71:  return((char)0x6a78); 
+			case 0x695d36:  return((char)0x6b1f); 
+			case 0x695e63:  return((char)0x6e82); 
+			case 0x695f70:  return((char)0x7195); 
+			case 0x696126:  return((char)0x74f2); 
+			case 0x696136:  return((char)0x753c); 
+			case 0x69613a:  return((char)0x7549); 
+			case 0x69613e:  return((char)0x7569); 
+			case 0x69626d:  return((char)0x7874); 
+			case 0x696273:  return((char)0x78b5); 
+			case 0x696325:  return((char)0x7907); 
+			case 0x69634e:  return((char)0x7a43); 
+			case 0x696373:  return((char)0x7b02); 
+			case 0x696449:  return((char)0x7c13); 
+			case 0x69644c:  return((char)0x7c17); 
+			case 0x69644e:  return((char)0x7bf6); 
+			case 0x696464:  return((char)0x7c90); 
+			case 0x696466:  return((char)0x7cad); 
+			case 0x696471:  return((char)0x7cc0); 
+			case 0x696474:  return((char)0x7cd8); 
+			case 0x69654f:  return((char)0x7e05); 
+			case 0x69656d:  return((char)0x7e83); 
+			case 0x69656e:  return((char)0x7dd5); 
+			case 0x696576:  return((char)0x7e90); 
+			case 0x696733:  return((char)0x81a4); 
+			case 0x69675c:  return((char)0x825d); 
+			case 0x69684d:  return((char)0x8422); 
+			case 0x696868:  return((char)0x84d9); 
+			case 0x696946:  return((char)0x8630); 
+			case 0x69695b:  return((char)0x86ab); 
+			case 0x696962:  return((char)0x86ef); 
+			case 0x696a2c:  return((char)0x87d0); 
+			case 0x696a5e:  return((char)0x88b0); 
+			case 0x696a61:  return((char)0x88c3); 
+			case 0x696a6d:  return((char)0x8904); 
+			case 0x696b27:  return((char)0x8977); 
+			case 0x696b5c:  return((char)0x8ada); 
+			case 0x696d3f:  return((char)0x8ebe); 
+			case 0x696d40:  return((char)0x8ec5); 
+			case 0x696d41:  return((char)0x8ec8); 
+			case 0x696d5a:  return((char)0x8f4c); 
+			case 0x696d7a:  return((char)0x9027); 
+			case 0x696e28:  return((char)0x9056); 
+			case 0x696e5c:  return((char)0x91df); 
+			case 0x696f27:  return((char)0x933b); 
+			case 0x696f5b:  return((char)0x958a); 
+			case 0x696f5d:  return((char)0x9596); 
+			case 0x697023:  return((char)0x9666); 
+			case 0x697058:  return((char)0x9779); 
+			case 0x69705d:  return((char)0x9786); 
+			case 0x697060:  return((char)0x9790); 
+			case 0x697124:  return((char)0x98aa); 
+			case 0x697152:  return((char)0x99f2); 
+			case 0x697174:  return((char)0x9ade); 
+			case 0x69717d:  return((char)0x9af1); 
+			case 0x69717e:  return((char)0x9af7); 
+			case 0x69723b:  return((char)0x9b96); 
+			case 0x697240:  return((char)0x9bb4); 
+			case 0x697245:  return((char)0x9bcf); 
+			case 0x697246:  return((char)0x9bd1); 
+			case 0x69724e:  return((char)0x9bf2); 
+			case 0x697260:  return((char)0x9c30); 
+			case 0x697265:  return((char)0x9c5a); 
+			case 0x69727e:  return((char)0x9d48); 
+			case 0x697323:  return((char)0x9d64); 
+			case 0x6f2457:  return((char)0x3131); 
+			case 0x6f2458:  return((char)0x3134); 
+			case 0x6f2459:  return((char)0x3137); 
+			case 0x6f245a:  return((char)0x3139); 
+			case 0x6f245b:  return((char)0x3141); 
+			case 0x6f245c:  return((char)0x3142); 
+			case 0x6f245d:  return((char)0x3145); 
+			case 0x6f245e:  return((char)0x3147); 
+			case 0x6f245f:  return((char)0x3148); 
+			case 0x6f2460:  return((char)0x314a); 
+			case 0x6f2461:  return((char)0x314b); 
+			case 0x6f2462:  return((char)0x314c); 
+			case 0x6f2463:  return((char)0x314d); 
+			case 0x6f2464:  return((char)0x314e); 
+			case 0x6f2465:  return((char)0x3132); 
+			case 0x6f2469:  return((char)0x3138); 
+			case 0x6f246e:  return((char)0x3143); 
+			case 0x6f2470:  return((char)0x3146); 
+			case 0x6f2471:  return((char)0x3149); 
+			case 0x6f2472:  return((char)0x314f); 
+			case 0x6f2473:  return((char)0x3150); 
+			case 0x6f2474:  return((char)0x3151); 
+			case 0x6f2476:  return((char)0x3153); 
+			case 0x6f2477:  return((char)0x3154); 
+			case 0x6f2478:  return((char)0x3155); 
+			case 0x6f247a:  return((char)0x3157); 
+			case 0x6f247b:  return((char)0x3158); 
+			case 0x6f247e:  return((char)0x315b); 
+			case 0x6f2521:  return((char)0x315c); 
+			case 0x6f2525:  return((char)0x3160); 
+			case 0x6f2526:  return((char)0x3161); 
+			case 0x6f2527:  return((char)0x3162); 
+			case 0x6f2528:  return((char)0x3163); 
+			case 0x6f485f:  return((char)0xac00); 
+			case 0x6f4860:  return((char)0xac01); 
+			case 0x6f4861:  return((char)0xac02); 
+			case 0x6f4862:  return((char)0xac04); 
+			case 0x6f4863:  return((char)0xac07); 
+			case 0x6f4864:  return((char)0xac08); 
+			case 0x6f4865:  return((char)0xac09); 
+			case 0x6f4866:  return((char)0xac10); 
+			case 0x6f4867:  return((char)0xac11); 
+			case 0x6f4868:  return((char)0xac12); 
+			case 0x6f4869:  return((char)0xac13); 
+			case 0x6f486a:  return((char)0xac14); 
+			case 0x6f486b:  return((char)0xac15); 
+			case 0x6f486c:  return((char)0xac16); 
+			case 0x6f486d:  return((char)0xac17); 
+			case 0x6f486e:  return((char)0xac19); 
+			case 0x6f486f:  return((char)0xac1a); 
+			case 0x6f4870:  return((char)0xac1b); 
+			case 0x6f4871:  return((char)0xac1c); 
+			case 0x6f4872:  return((char)0xac1d); 
+			case 0x6f4873:  return((char)0xac20); 
+			case 0x6f4875:  return((char)0xac24); 
+			case 0x6f4876:  return((char)0xac2c); 
+			case 0x6f4877:  return((char)0xac2d); 
+			case 0x6f4878:  return((char)0xac2f); 
+			case 0x6f4879:  return((char)0xac30); 
+			case 0x6f487a:  return((char)0xac31); 
+			case 0x6f487b:  return((char)0xac38); 
+			case 0x6f487c:  return((char)0xac39); 
+			case 0x6f487d:  return((char)0xac40); 
+			case 0x6f487e:  return((char)0xac54); 
+			case 0x6f4921:  return((char)0xac70); 
+			case 0x6f4922:  return((char)0xac71); 
+			case 0x6f4924:  return((char)0xac74); 
+			case 0x6f4925:  return((char)0xac77); 
+			case 0x6f4926:  return((char)0xac78); 
+			case 0x6f4927:  return((char)0xac79); 
+			case 0x6f4929:  return((char)0xac80); 
+			case 0x6f492a:  return((char)0xac81); 
+			case 0x6f492b:  return((char)0xac83); 
+			case 0x6f492c:  return((char)0xac84); 
+			case 0x6f492d:  return((char)0xac85); 
+			case 0x6f492e:  return((char)0xac86); 
+			case 0x6f4930:  return((char)0xac89); 
+			case 0x6f4931:  return((char)0xac8a); 
+			case 0x6f4932:  return((char)0xac8b); 
+			case 0x6f4933:  return((char)0xac8c); 
+			case 0x6f4934:  return((char)0xac90); 
+			case 0x6f4935:  return((char)0xac94); 
+			case 0x6f4936:  return((char)0xac9c); 
+			case 0x6f4937:  return((char)0xac9f); 
+			case 0x6f4938:  return((char)0xaca0); 
+			case 0x6f4939:  return((char)0xaca1); 
+			case 0x6f493a:  return((char)0xaca8); 
+			case 0x6f493b:  return((char)0xaca9); 
+			case 0x6f493c:  return((char)0xacaa); 
+			case 0x6f493d:  return((char)0xacac); 
+			case 0x6f493e:  return((char)0xacaf); 
+			case 0x6f493f:  return((char)0xacb0); 
+			case 0x6f4940:  return((char)0xacb8); 
+			case 0x6f4941:  return((char)0xacb9); 
+			case 0x6f4943:  return((char)0xacbc); 
+			case 0x6f4944:  return((char)0xacbd); 
+			case 0x6f4945:  return((char)0xacc1); 
+			case 0x6f4947:  return((char)0xacc4); 
+			case 0x6f4949:  return((char)0xacd7); 
+			case 0x6f494a:  return((char)0xace0); 
+			case 0x6f494b:  return((char)0xace1); 
+			case 0x6f494c:  return((char)0xace4); 
+			case 0x6f494d:  return((char)0xace7); 
+			case 0x6f494e:  return((char)0xace8); 
+			case 0x6f494f:  return((char)0xacea); 
+			case 0x6f4950:  return((char)0xacec); 
+			case 0x6f4951:  return((char)0xacef); 
+			case 0x6f4952:  return((char)0xacf0); 
+			case 0x6f4953:  return((char)0xacf1); 
+			case 0x6f4954:  return((char)0xacf3); 
+			case 0x6f4955:  return((char)0xacf5); 
+			case 0x6f4956:  return((char)0xacf6); 
+			case 0x6f4957:  return((char)0xacfa); 
+			case 0x6f4958:  return((char)0xacfc); 
+			case 0x6f4959:  return((char)0xacfd); 
+			case 0x6f495a:  return((char)0xad00); 
+			case 0x6f495b:  return((char)0xad04); 
+			case 0x6f495c:  return((char)0xad0c); 
+			case 0x6f495d:  return((char)0xad0d); 
+			case 0x6f495e:  return((char)0xad0f); 
+			case 0x6f495f:  return((char)0xad11); 
+			case 0x6f4960:  return((char)0xad18); 
+			case 0x6f4961:  return((char)0xad19); 
+			case 0x6f4962:  return((char)0xad1c); 
+			case 0x6f4963:  return((char)0xad20); 
+			case 0x6f4964:  return((char)0xad28); 
+			case 0x6f4965:  return((char)0xad29); 
+			case 0x6f4966:  return((char)0xad2d); 
+			case 0x6f4967:  return((char)0xad34); 
+			case 0x6f4968:  return((char)0xad38); 
+			case 0x6f4969:  return((char)0xad3c); 
+			case 0x6f496a:  return((char)0xad44); 
+			case 0x6f496c:  return((char)0xad49); 
+			case 0x6f496d:  return((char)0xad50); 
+			case 0x6f496e:  return((char)0xad6c); 
+			case 0x6f496f:  return((char)0xad6d); 
+			case 0x6f4970:  return((char)0xad70); 
+			case 0x6f4971:  return((char)0xad73); 
+			case 0x6f4972:  return((char)0xad74); 
+			case 0x6f4973:  return((char)0xad75); 
+			case 0x6f4974:  return((char)0xad76); 
+			case 0x6f4975:  return((char)0xad7c); 
+			case 0x6f4976:  return((char)0xad7d); 
+			case 0x6f4977:  return((char)0xad7f); 
+			case 0x6f4978:  return((char)0xad81); 
+			case 0x6f4979:  return((char)0xad82); 
+			case 0x6f497a:  return((char)0xad88); 
+			case 0x6f497b:  return((char)0xad8c); 
+			case 0x6f497c:  return((char)0xad90); 
+			case 0x6f497e:  return((char)0xada4); 
+			case 0x6f4a22:  return((char)0xadc0); 
+			case 0x6f4a23:  return((char)0xadc4); 
+			case 0x6f4a24:  return((char)0xadc8); 
+			case 0x6f4a25:  return((char)0xadd0); 
+			case 0x6f4a26:  return((char)0xadd1); 
+			case 0x6f4a27:  return((char)0xadd3); 
+			case 0x6f4a28:  return((char)0xaddc); 
+			case 0x6f4a29:  return((char)0xade0); 
+			case 0x6f4a2a:  return((char)0xade4); 
+			case 0x6f4a2b:  return((char)0xadec); 
+			case 0x6f4a2c:  return((char)0xadf8); 
+			case 0x6f4a2d:  return((char)0xadf9); 
+			case 0x6f4a2e:  return((char)0xadfc); 
+			case 0x6f4a2f:  return((char)0xadff); 
+			case 0x6f4a30:  return((char)0xae00); 
+			case 0x6f4a31:  return((char)0xae01); 
+			case 0x6f4a32:  return((char)0xae08); 
+			case 0x6f4a33:  return((char)0xae09); 
+			case 0x6f4a34:  return((char)0xae0b); 
+			case 0x6f4a35:  return((char)0xae0d); 
+			case 0x6f4a36:  return((char)0xae30); 
+			case 0x6f4a37:  return((char)0xae31); 
+			case 0x6f4a38:  return((char)0xae34); 
+			case 0x6f4a39:  return((char)0xae37); 
+			case 0x6f4a3a:  return((char)0xae38); 
+			case 0x6f4a3b:  return((char)0xae40); 
+			case 0x6f4a3c:  return((char)0xae41); 
+			case 0x6f4a3d:  return((char)0xae43); 
+			case 0x6f4a3e:  return((char)0xae44); 
+			case 0x6f4a3f:  return((char)0xae45); 
+			case 0x6f4a40:  return((char)0xae4a); 
+			case 0x6f4a43:  return((char)0xae4c); 
+			case 0x6f4a44:  return((char)0xae4d); 
+			case 0x6f4a45:  return((char)0xae4e); 
+			case 0x6f4a46:  return((char)0xae50); 
+			case 0x6f4a47:  return((char)0xae54); 
+			case 0x6f4a48:  return((char)0xae5c); 
+			case 0x6f4a49:  return((char)0xae5d); 
+			case 0x6f4a4a:  return((char)0xae60); 
+			case 0x6f4a4b:  return((char)0xae61); 
+			case 0x6f4a4c:  return((char)0xae62); 
+			case 0x6f4a4d:  return((char)0xae65); 
+			case 0x6f4a4e:  return((char)0xae68); 
+			case 0x6f4a4f:  return((char)0xae69); 
+			case 0x6f4a50:  return((char)0xae6c); 
+			case 0x6f4a51:  return((char)0xae70); 
+			case 0x6f4a52:  return((char)0xae78); 
+			case 0x6f4a53:  return((char)0xae79); 
+			case 0x6f4a54:  return((char)0xae7b); 
+			case 0x6f4a55:  return((char)0xae7c); 
+			case 0x6f4a56:  return((char)0xae7d); 
+			case 0x6f4a57:  return((char)0xae84); 
+			case 0x6f4a58:  return((char)0xae85); 
+			case 0x6f4a59:  return((char)0xaebc); 
+			case 0x6f4a5a:  return((char)0xaebd); 
+			case 0x6f4a5b:  return((char)0xaebe); 
+			case 0x6f4a5c:  return((char)0xaec0); 
+			case 0x6f4a5d:  return((char)0xaec4); 
+			case 0x6f4a5e:  return((char)0xaecc); 
+			case 0x6f4a5f:  return((char)0xaecd); 
+			case 0x6f4a60:  return((char)0xaecf); 
+			case 0x6f4a61:  return((char)0xaed0); 
+			case 0x6f4a62:  return((char)0xaed1); 
+			case 0x6f4a63:  return((char)0xaed8); 
+			case 0x6f4a64:  return((char)0xaedc); 
+			case 0x6f4a65:  return((char)0xaef4); 
+			case 0x6f4a66:  return((char)0xaf0d); 
+			case 0x6f4a67:  return((char)0xaf2c); 
+			case 0x6f4a68:  return((char)0xaf2d); 
+			case 0x6f4a69:  return((char)0xaf30); 
+			case 0x6f4a6a:  return((char)0xaf34); 
+			case 0x6f4a6b:  return((char)0xaf3c); 
+			case 0x6f4a6c:  return((char)0xaf3d); 
+			case 0x6f4a6d:  return((char)0xaf3f); 
+			case 0x6f4a6e:  return((char)0xaf41); 
+			case 0x6f4a6f:  return((char)0xaf42); 
+			case 0x6f4a70:  return((char)0xaf43); 
+			case 0x6f4a71:  return((char)0xaf48); 
+			case 0x6f4a72:  return((char)0xaf49); 
+			case 0x6f4a73:  return((char)0xaf4c); 
+			case 0x6f4a74:  return((char)0xaf58); 
+			case 0x6f4a75:  return((char)0xaf5c); 
+			case 0x6f4a76:  return((char)0xaf5d); 
+			case 0x6f4a77:  return((char)0xaf64); 
+			case 0x6f4a78:  return((char)0xaf65); 
+			case 0x6f4a79:  return((char)0xaf79); 
+			case 0x6f4a7a:  return((char)0xaf80); 
+			case 0x6f4a7b:  return((char)0xaf84); 
+			case 0x6f4a7c:  return((char)0xaf88); 
+			case 0x6f4a7d:  return((char)0xaf90); 
+			case 0x6f4a7e:  return((char)0xaf95); 
+			case 0x6f4b21:  return((char)0xaf9c); 
+			case 0x6f4b22:  return((char)0xafb8); 
+			case 0x6f4b23:  return((char)0xafb9); 
+			case 0x6f4b24:  return((char)0xafbc); 
+			case 0x6f4b25:  return((char)0xafc0); 
+			case 0x6f4b26:  return((char)0xafc7); 
+			case 0x6f4b27:  return((char)0xafc8); 
+			case 0x6f4b28:  return((char)0xafc9); 
+			case 0x6f4b29:  return((char)0xafcb); 
+			case 0x6f4b2a:  return((char)0xafcd); 
+			case 0x6f4b2b:  return((char)0xafce); 
+			case 0x6f4b2c:  return((char)0xafd4); 
+			case 0x6f4b2d:  return((char)0xafd8); 
+			case 0x6f4b2e:  return((char)0xafe9); 
+			case 0x6f4b2f:  return((char)0xaff0); 
+			case 0x6f4b30:  return((char)0xb000); 
+			case 0x6f4b32:  return((char)0xb00c); 
+			case 0x6f4b33:  return((char)0xb00d); 
+			case 0x6f4b34:  return((char)0xb010); 
+			case 0x6f4b35:  return((char)0xb014); 
+			case 0x6f4b36:  return((char)0xb01c); 
+			case 0x6f4b37:  return((char)0xb01d); 
+			case 0x6f4b38:  return((char)0xb028); 
+			case 0x6f4b39:  return((char)0xb044); 
+			case 0x6f4b3a:  return((char)0xb045); 
+			case 0x6f4b3b:  return((char)0xb048); 
+			case 0x6f4b3c:  return((char)0xb04a); 
+			case 0x6f4b3d:  return((char)0xb04c); 
+			case 0x6f4b3e:  return((char)0xb053); 
+			case 0x6f4b3f:  return((char)0xb054); 
+			case 0x6f4b40:  return((char)0xb055); 
+			case 0x6f4b41:  return((char)0xb057); 
+			case 0x6f4b42:  return((char)0xb059); 
+			case 0x6f4b43:  return((char)0xb05d); 
+			case 0x6f4b44:  return((char)0xb07c); 
+			case 0x6f4b45:  return((char)0xb07d); 
+			case 0x6f4b46:  return((char)0xb080); 
+			case 0x6f4b47:  return((char)0xb084); 
+			case 0x6f4b48:  return((char)0xb08c); 
+			case 0x6f4b49:  return((char)0xb08d); 
+			case 0x6f4b4a:  return((char)0xb08f); 
+			case 0x6f4b4b:  return((char)0xb090); 
+			case 0x6f4b4c:  return((char)0xb091); 
+			case 0x6f4b4f:  return((char)0xb098); 
+			case 0x6f4b50:  return((char)0xb099); 
+			case 0x6f4b51:  return((char)0xb09a); 
+			case 0x6f4b52:  return((char)0xb09c); 
+			case 0x6f4b53:  return((char)0xb09f); 
+			case 0x6f4b54:  return((char)0xb0a0); 
+			case 0x6f4b55:  return((char)0xb0a1); 
+			case 0x6f4b56:  return((char)0xb0a8); 
+			case 0x6f4b57:  return((char)0xb0a9); 
+			case 0x6f4b58:  return((char)0xb0ab); 
+			case 0x6f4b59:  return((char)0xb0ac); 
+			case 0x6f4b5a:  return((char)0xb0ad); 
+			case 0x6f4b5b:  return((char)0xb0ae); 
+			case 0x6f4b5c:  return((char)0xb0af); 
+			case 0x6f4b5d:  return((char)0xb0b1); 
+			case 0x6f4b5e:  return((char)0xb0b3); 
+			case 0x6f4b5f:  return((char)0xb0b4); 
+			case 0x6f4b60:  return((char)0xb0b5); 
+			case 0x6f4b61:  return((char)0xb0b8); 
+			case 0x6f4b62:  return((char)0xb0bb); 
+			case 0x6f4b63:  return((char)0xb0bc); 
+			case 0x6f4b64:  return((char)0xb0c4); 
+			case 0x6f4b65:  return((char)0xb0c5); 
+			case 0x6f4b66:  return((char)0xb0c7); 
+			case 0x6f4b67:  return((char)0xb0c8); 
+			case 0x6f4b68:  return((char)0xb0c9); 
+			case 0x6f4b69:  return((char)0xb0d0); 
+			case 0x6f4b6a:  return((char)0xb0d1); 
+			case 0x6f4b6b:  return((char)0xb0e0); 
+			case 0x6f4b6c:  return((char)0xb0e5); 
+			case 0x6f4b6d:  return((char)0xb0ec); 
+			case 0x6f4b6e:  return((char)0xb108); 
+			case 0x6f4b6f:  return((char)0xb109); 
+			case 0x6f4b71:  return((char)0xb10b); 
+			case 0x6f4b72:  return((char)0xb10c); 
+			case 0x6f4b73:  return((char)0xb10f); 
+			case 0x6f4b74:  return((char)0xb110); 
+			case 0x6f4b75:  return((char)0xb113); 
+			case 0x6f4b76:  return((char)0xb118); 
+			case 0x6f4b77:  return((char)0xb119); 
+			case 0x6f4b78:  return((char)0xb11b); 
+			case 0x6f4b79:  return((char)0xb11c); 
+			case 0x6f4b7a:  return((char)0xb11d); 
+			case 0x6f4b7b:  return((char)0xb11e); 
+			case 0x6f4b7c:  return((char)0xb123); 
+			case 0x6f4b7d:  return((char)0xb124); 
+			case 0x6f4b7e:  return((char)0xb125); 
+			case 0x6f4c21:  return((char)0xb128); 
+			case 0x6f4c22:  return((char)0xb12c); 
+			case 0x6f4c23:  return((char)0xb134); 
+			case 0x6f4c24:  return((char)0xb135); 
+			case 0x6f4c25:  return((char)0xb137); 
+			case 0x6f4c26:  return((char)0xb140); 
+			case 0x6f4c27:  return((char)0xb141); 
+			case 0x6f4c28:  return((char)0xb144); 
+			case 0x6f4c29:  return((char)0xb150); 
+			case 0x6f4c2a:  return((char)0xb151); 
+			case 0x6f4c2b:  return((char)0xb153); 
+			case 0x6f4c2c:  return((char)0xb154); 
+			case 0x6f4c2d:  return((char)0xb155); 
+			case 0x6f4c2e:  return((char)0xb158); 
+			case 0x6f4c2f:  return((char)0xb15c); 
+			case 0x6f4c30:  return((char)0xb178); 
+			case 0x6f4c31:  return((char)0xb179); 
+			case 0x6f4c32:  return((char)0xb17a); 
+			case 0x6f4c33:  return((char)0xb17c); 
+			case 0x6f4c34:  return((char)0xb180); 
+			case 0x6f4c35:  return((char)0xb188); 
+			case 0x6f4c36:  return((char)0xb189); 
+			case 0x6f4c37:  return((char)0xb18b); 
+			case 0x6f4c38:  return((char)0xb18d); 
+			case 0x6f4c39:  return((char)0xb192); 
+			case 0x6f4c3a:  return((char)0xb193); 
+			case 0x6f4c3b:  return((char)0xb194); 
+			case 0x6f4c3c:  return((char)0xb1a8); 
+			case 0x6f4c3d:  return((char)0xb1cc); 
+			case 0x6f4c3e:  return((char)0xb1d0); 
+			case 0x6f4c3f:  return((char)0xb1d4); 
+			case 0x6f4c40:  return((char)0xb1dc); 
+			case 0x6f4c41:  return((char)0xb1e8); 
+			case 0x6f4c42:  return((char)0xb1fd); 
+			case 0x6f4c43:  return((char)0xb204); 
+			case 0x6f4c44:  return((char)0xb205); 
+			case 0x6f4c45:  return((char)0xb208); 
+			case 0x6f4c46:  return((char)0xb20b); 
+			case 0x6f4c47:  return((char)0xb20c); 
+			case 0x6f4c48:  return((char)0xb213); 
+			case 0x6f4c49:  return((char)0xb214); 
+			case 0x6f4c4a:  return((char)0xb215); 
+			case 0x6f4c4b:  return((char)0xb217); 
+			case 0x6f4c4c:  return((char)0xb220); 
+			case 0x6f4c4d:  return((char)0xb233); 
+			case 0x6f4c4e:  return((char)0xb234); 
+			case 0x6f4c4f:  return((char)0xb258); 
+			case 0x6f4c50:  return((char)0xb25c); 
+			case 0x6f4c51:  return((char)0xb260); 
+			case 0x6f4c52:  return((char)0xb268); 
+			case 0x6f4c53:  return((char)0xb269); 
+			case 0x6f4c54:  return((char)0xb274); 
+			case 0x6f4c55:  return((char)0xb284); 
+			case 0x6f4c56:  return((char)0xb289); 
+			case 0x6f4c57:  return((char)0xb290); 
+			case 0x6f4c58:  return((char)0xb291); 
+			case 0x6f4c59:  return((char)0xb294); 
+			case 0x6f4c5a:  return((char)0xb298); 
+			case 0x6f4c5b:  return((char)0xb299); 
+			case 0x6f4c5c:  return((char)0xb2a0); 
+			case 0x6f4c5d:  return((char)0xb2a1); 
+			case 0x6f4c5e:  return((char)0xb2a5); 
+			case 0x6f4c5f:  return((char)0xb2a6); 
+			case 0x6f4c60:  return((char)0xb2aa); 
+			case 0x6f4c61:  return((char)0xb2ac); 
+			case 0x6f4c62:  return((char)0xb2c8); 
+			case 0x6f4c63:  return((char)0xb2c9); 
+			case 0x6f4c64:  return((char)0xb2cc); 
+			case 0x6f4c65:  return((char)0xb2d0); 
+			case 0x6f4c66:  return((char)0xb2d8); 
+			case 0x6f4c67:  return((char)0xb2d9); 
+			case 0x6f4c68:  return((char)0xb2db); 
+			case 0x6f4c69:  return((char)0xb2dd); 
+			case 0x6f4c6a:  return((char)0xb2e2); 
+			case 0x6f4c6d:  return((char)0xb2e4); 
+			case 0x6f4c6e:  return((char)0xb2e5); 
+			case 0x6f4c6f:  return((char)0xb2e6); 
+			case 0x6f4c70:  return((char)0xb2e8); 
+			case 0x6f4c71:  return((char)0xb2eb); 
+			case 0x6f4c72:  return((char)0xb2ec); 
+			case 0x6f4c73:  return((char)0xb2ed); 
+			case 0x6f4c74:  return((char)0xb2ee); 
+			case 0x6f4c75:  return((char)0xb2f3); 
+			case 0x6f4c76:  return((char)0xb2f4); 
+			case 0x6f4c77:  return((char)0xb2f5); 
+			case 0x6f4c78:  return((char)0xb2f7); 
+			case 0x6f4c79:  return((char)0xb2f9); 
+			case 0x6f4c7a:  return((char)0xb2fa); 
+			case 0x6f4c7b:  return((char)0xb2fb); 
+			case 0x6f4c7c:  return((char)0xb2ff); 
+			case 0x6f4c7d:  return((char)0xb300); 
+			case 0x6f4c7e:  return((char)0xb301); 
+			case 0x6f4d21:  return((char)0xb304); 
+			case 0x6f4d22:  return((char)0xb308); 
+			case 0x6f4d23:  return((char)0xb310); 
+			case 0x6f4d24:  return((char)0xb311); 
+			case 0x6f4d25:  return((char)0xb313); 
+			case 0x6f4d26:  return((char)0xb314); 
+			case 0x6f4d27:  return((char)0xb315); 
+			case 0x6f4d28:  return((char)0xb354); 
+			case 0x6f4d29:  return((char)0xb355); 
+			case 0x6f4d2a:  return((char)0xb358); 
+			case 0x6f4d2b:  return((char)0xb35b); 
+			case 0x6f4d2c:  return((char)0xb35c); 
+			case 0x6f4d2d:  return((char)0xb35f); 
+			case 0x6f4d2e:  return((char)0xb364); 
+			case 0x6f4d2f:  return((char)0xb365); 
+			case 0x6f4d30:  return((char)0xb367); 
+			case 0x6f4d31:  return((char)0xb368); 
+			case 0x6f4d32:  return((char)0xb369); 
+			case 0x6f4d33:  return((char)0xb36a); 
+			case 0x6f4d34:  return((char)0xb36b); 
+			case 0x6f4d35:  return((char)0xb36e); 
+			case 0x6f4d36:  return((char)0xb370); 
+			case 0x6f4d37:  return((char)0xb371); 
+			case 0x6f4d38:  return((char)0xb374); 
+			case 0x6f4d39:  return((char)0xb378); 
+			case 0x6f4d3a:  return((char)0xb380); 
+			case 0x6f4d3b:  return((char)0xb383); 
+			case 0x6f4d3c:  return((char)0xb385); 
+			case 0x6f4d3d:  return((char)0xb38c); 
+			case 0x6f4d3e:  return((char)0xb3c4); 
+			case 0x6f4d3f:  return((char)0xb3c5); 
+			case 0x6f4d40:  return((char)0xb3c8); 
+			case 0x6f4d41:  return((char)0xb3cb); 
+			case 0x6f4d42:  return((char)0xb3cc); 
+			case 0x6f4d43:  return((char)0xb3d0); 
+			case 0x6f4d44:  return((char)0xb3d4); 
+			case 0x6f4d45:  return((char)0xb3d5); 
+			case 0x6f4d46:  return((char)0xb3d7); 
+			case 0x6f4d47:  return((char)0xb3d9); 
+			case 0x6f4d48:  return((char)0xb3db); 
+			case 0x6f4d49:  return((char)0xb3fc); 
+			case 0x6f4d4a:  return((char)0xb400); 
+			case 0x6f4d4b:  return((char)0xb410); 
+			case 0x6f4d4c:  return((char)0xb418); 
+			case 0x6f4d4d:  return((char)0xb41c); 
+			case 0x6f4d4e:  return((char)0xb420); 
+			case 0x6f4d4f:  return((char)0xb428); 
+			case 0x6f4d50:  return((char)0xb429); 
+			case 0x6f4d51:  return((char)0xb42b); 
+			case 0x6f4d52:  return((char)0xb42c); 
+			case 0x6f4d53:  return((char)0xb450); 
+			case 0x6f4d54:  return((char)0xb451); 
+			case 0x6f4d55:  return((char)0xb454); 
+			case 0x6f4d56:  return((char)0xb458); 
+			case 0x6f4d57:  return((char)0xb460); 
+			case 0x6f4d58:  return((char)0xb461); 
+			case 0x6f4d59:  return((char)0xb463); 
+			case 0x6f4d5a:  return((char)0xb465); 
+			case 0x6f4d5b:  return((char)0xb46c); 
+			case 0x6f4d5c:  return((char)0xb480); 
+			case 0x6f4d5d:  return((char)0xb488); 
+			case 0x6f4d5e:  return((char)0xb4a4); 
+			case 0x6f4d5f:  return((char)0xb4b7); 
+			case 0x6f4d60:  return((char)0xb4c0); 
+			case 0x6f4d61:  return((char)0xb4d0); 
+			case 0x6f4d62:  return((char)0xb4dc); 
+			case 0x6f4d63:  return((char)0xb4dd); 
+			case 0x6f4d64:  return((char)0xb4e0); 
+			case 0x6f4d65:  return((char)0xb4e3); 
+			case 0x6f4d66:  return((char)0xb4e4); 
+			case 0x6f4d67:  return((char)0xb4ec); 
+			case 0x6f4d68:  return((char)0xb4ed); 
+			case 0x6f4d69:  return((char)0xb4ef); 
+			case 0x6f4d6a:  return((char)0xb4f1); 
+			case 0x6f4d6b:  return((char)0xb514); 
+			case 0x6f4d6c:  return((char)0xb515); 
+			case 0x6f4d6d:  return((char)0xb518); 
+			case 0x6f4d6e:  return((char)0xb51b); 
+			case 0x6f4d6f:  return((char)0xb51c); 
+			case 0x6f4d70:  return((char)0xb524); 
+			case 0x6f4d71:  return((char)0xb525); 
+			case 0x6f4d72:  return((char)0xb527); 
+			case 0x6f4d73:  return((char)0xb528); 
+			case 0x6f4d74:  return((char)0xb529); 
+			case 0x6f4d75:  return((char)0xb52a); 
+			case 0x6f4d78:  return((char)0xb530); 
+			case 0x6f4d79:  return((char)0xb531); 
+			case 0x6f4d7a:  return((char)0xb532); 
+			case 0x6f4d7b:  return((char)0xb534); 
+			case 0x6f4d7c:  return((char)0xb537); 
+			case 0x6f4d7d:  return((char)0xb538); 
+			case 0x6f4e21:  return((char)0xb540); 
+			case 0x6f4e22:  return((char)0xb541); 
+			case 0x6f4e23:  return((char)0xb543); 
+			case 0x6f4e24:  return((char)0xb544); 
+			case 0x6f4e25:  return((char)0xb545); 
+			case 0x6f4e26:  return((char)0xb54b); 
+			case 0x6f4e27:  return((char)0xb54c); 
+			case 0x6f4e28:  return((char)0xb54d); 
+			case 0x6f4e29:  return((char)0xb550); 
+			case 0x6f4e2a:  return((char)0xb554); 
+			case 0x6f4e2b:  return((char)0xb55c); 
+			case 0x6f4e2c:  return((char)0xb55d); 
+			case 0x6f4e2d:  return((char)0xb55f); 
+			case 0x6f4e2e:  return((char)0xb560); 
+			case 0x6f4e2f:  return((char)0xb561); 
+			case 0x6f4e30:  return((char)0xb5a0); 
+			case 0x6f4e31:  return((char)0xb5a1); 
+			case 0x6f4e32:  return((char)0xb5a4); 
+			case 0x6f4e33:  return((char)0xb5a8); 
+			case 0x6f4e34:  return((char)0xb5ab); 
+			case 0x6f4e35:  return((char)0xb5b0); 
+			case 0x6f4e36:  return((char)0xb5b1); 
+			case 0x6f4e37:  return((char)0xb5b3); 
+			case 0x6f4e38:  return((char)0xb5b4); 
+			case 0x6f4e39:  return((char)0xb5b5); 
+			case 0x6f4e3a:  return((char)0xb5bb); 
+			case 0x6f4e3b:  return((char)0xb5bc); 
+			case 0x6f4e3c:  return((char)0xb5c0); 
+			case 0x6f4e3d:  return((char)0xb5c4); 
+			case 0x6f4e3e:  return((char)0xb5cc); 
+			case 0x6f4e3f:  return((char)0xb5cf); 
+			case 0x6f4e40:  return((char)0xb5d1); 
+			case 0x6f4e41:  return((char)0xb610); 
+			case 0x6f4e42:  return((char)0xb611); 
+			case 0x6f4e43:  return((char)0xb614); 
+			case 0x6f4e44:  return((char)0xb618); 
+			case 0x6f4e45:  return((char)0xb625); 
+			case 0x6f4e46:  return((char)0xb664); 
+			case 0x6f4e47:  return((char)0xb69c); 
+			case 0x6f4e48:  return((char)0xb69d); 
+			case 0x6f4e49:  return((char)0xb6a4); 
+			case 0x6f4e4a:  return((char)0xb6ab); 
+			case 0x6f4e4b:  return((char)0xb6ac); 
+			case 0x6f4e4c:  return((char)0xb6b1); 
+			case 0x6f4e4d:  return((char)0xb6f0); 
+			case 0x6f4e4e:  return((char)0xb6f4); 
+			case 0x6f4e4f:  return((char)0xb6f8); 
+			case 0x6f4e50:  return((char)0xb700); 
+			case 0x6f4e51:  return((char)0xb701); 
+			case 0x6f4e52:  return((char)0xb728); 
+			case 0x6f4e53:  return((char)0xb729); 
+			case 0x6f4e54:  return((char)0xb72c); 
+			case 0x6f4e55:  return((char)0xb72f); 
+			case 0x6f4e56:  return((char)0xb730); 
+			case 0x6f4e57:  return((char)0xb738); 
+			case 0x6f4e58:  return((char)0xb739); 
+			case 0x6f4e59:  return((char)0xb73b); 
+			case 0x6f4e5a:  return((char)0xb744); 
+			case 0x6f4e5b:  return((char)0xb748); 
+			case 0x6f4e5c:  return((char)0xb760); 
+			case 0x6f4e5d:  return((char)0xb764); 
+			case 0x6f4e5e:  return((char)0xb768); 
+			case 0x6f4e5f:  return((char)0xb770); 
+			case 0x6f4e60:  return((char)0xb771); 
+			case 0x6f4e61:  return((char)0xb775); 
+			case 0x6f4e64:  return((char)0xb77c); 
+			case 0x6f4e65:  return((char)0xb77d); 
+			case 0x6f4e66:  return((char)0xb780); 
+			case 0x6f4e67:  return((char)0xb784); 
+			case 0x6f4e68:  return((char)0xb78c); 
+			case 0x6f4e69:  return((char)0xb78d); 
+			case 0x6f4e6a:  return((char)0xb78f); 
+			case 0x6f4e6b:  return((char)0xb790); 
+			case 0x6f4e6c:  return((char)0xb791); 
+			case 0x6f4e6d:  return((char)0xb797); 
+			case 0x6f4e6e:  return((char)0xb798); 
+			case 0x6f4e6f:  return((char)0xb799); 
+			case 0x6f4e70:  return((char)0xb79c); 
+			case 0x6f4e71:  return((char)0xb7a0); 
+			case 0x6f4e72:  return((char)0xb7a8); 
+			case 0x6f4e73:  return((char)0xb7a9); 
+			case 0x6f4e74:  return((char)0xb7ab); 
+			case 0x6f4e75:  return((char)0xb7ac); 
+			case 0x6f4e76:  return((char)0xb7ad); 
+			case 0x6f4e77:  return((char)0xb7b4); 
+			case 0x6f4e78:  return((char)0xb7b5); 
+			case 0x6f4e79:  return((char)0xb7c9); 
+			case 0x6f4e7a:  return((char)0xb7ec); 
+			case 0x6f4e7b:  return((char)0xb7ed); 
+			case 0x6f4e7c:  return((char)0xb7f0); 
+			case 0x6f4e7d:  return((char)0xb7f4); 
+			case 0x6f4e7e:  return((char)0xb7fc); 
+			case 0x6f4f21:  return((char)0xb7fd); 
+			case 0x6f4f22:  return((char)0xb7ff); 
+			case 0x6f4f23:  return((char)0xb800); 
+			case 0x6f4f24:  return((char)0xb801); 
+			case 0x6f4f25:  return((char)0xb807); 
+			case 0x6f4f26:  return((char)0xb808); 
+			case 0x6f4f27:  return((char)0xb809); 
+			case 0x6f4f28:  return((char)0xb80c); 
+			case 0x6f4f29:  return((char)0xb810); 
+			case 0x6f4f2a:  return((char)0xb818); 
+			case 0x6f4f2b:  return((char)0xb819); 
+			case 0x6f4f2c:  return((char)0xb81b); 
+			case 0x6f4f2d:  return((char)0xb81d); 
+			case 0x6f4f2e:  return((char)0xb824); 
+			case 0x6f4f2f:  return((char)0xb825); 
+			case 0x6f4f30:  return((char)0xb828); 
+			case 0x6f4f31:  return((char)0xb82c); 
+			case 0x6f4f32:  return((char)0xb834); 
+			case 0x6f4f33:  return((char)0xb835); 
+			case 0x6f4f34:  return((char)0xb837); 
+			case 0x6f4f35:  return((char)0xb838); 
+			case 0x6f4f36:  return((char)0xb839); 
+			case 0x6f4f37:  return((char)0xb840); 
+			case 0x6f4f38:  return((char)0xb85c); 
+			case 0x6f4f39:  return((char)0xb85d); 
+			case 0x6f4f3a:  return((char)0xb860); 
+			case 0x6f4f3b:  return((char)0xb864); 
+			case 0x6f4f3c:  return((char)0xb86c); 
+			case 0x6f4f3d:  return((char)0xb86d); 
+			case 0x6f4f3e:  return((char)0xb86f); 
+			case 0x6f4f3f:  return((char)0xb871); 
+			case 0x6f4f40:  return((char)0xb8b0); 
+			case 0x6f4f41:  return((char)0xb8cc); 
+			case 0x6f4f42:  return((char)0xb8e1); 
+			case 0x6f4f43:  return((char)0xb8e8); 
+			case 0x6f4f44:  return((char)0xb8e9); 
+			case 0x6f4f45:  return((char)0xb8ec); 
+			case 0x6f4f46:  return((char)0xb8f0); 
+			case 0x6f4f47:  return((char)0xb8f8); 
+			case 0x6f4f48:  return((char)0xb8f9); 
+			case 0x6f4f49:  return((char)0xb8fb); 
+			case 0x6f4f4a:  return((char)0xb8fd); 
+			case 0x6f4f4b:  return((char)0xb904); 
+			case 0x6f4f4c:  return((char)0xb93c); 
+			case 0x6f4f4d:  return((char)0xb958); 
+			case 0x6f4f4e:  return((char)0xb959); 
+			case 0x6f4f4f:  return((char)0xb95c); 
+			case 0x6f4f50:  return((char)0xb960); 
+			case 0x6f4f51:  return((char)0xb968); 
+			case 0x6f4f52:  return((char)0xb96d); 
+			case 0x6f4f53:  return((char)0xb974); 
+			case 0x6f4f54:  return((char)0xb975); 
+			case 0x6f4f55:  return((char)0xb978); 
+			case 0x6f4f56:  return((char)0xb97c); 
+			case 0x6f4f57:  return((char)0xb984); 
+			case 0x6f4f58:  return((char)0xb985); 
+			case 0x6f4f59:  return((char)0xb987); 
+			case 0x6f4f5a:  return((char)0xb989); 
+			case 0x6f4f5b:  return((char)0xb98e); 
+			case 0x6f4f5c:  return((char)0xb9ac); 
+			case 0x6f4f5d:  return((char)0xb9ad); 
+			case 0x6f4f5e:  return((char)0xb9b0); 
+			case 0x6f4f5f:  return((char)0xb9b4); 
+			case 0x6f4f60:  return((char)0xb9bc); 
+			case 0x6f4f61:  return((char)0xb9bd); 
+			case 0x6f4f62:  return((char)0xb9bf); 
+			case 0x6f4f63:  return((char)0xb9c1); 
+			case 0x6f4f66:  return((char)0xb9c8); 
+			case 0x6f4f67:  return((char)0xb9c9); 
+			case 0x6f4f68:  return((char)0xb9cc); 
+			case 0x6f4f69:  return((char)0xb9ce); 
+			case 0x6f4f6a:  return((char)0xb9cf); 
+			case 0x6f4f6b:  return((char)0xb9d0); 
+			case 0x6f4f6c:  return((char)0xb9d1); 
+			case 0x6f4f6d:  return((char)0xb9d8); 
+			case 0x6f4f6e:  return((char)0xb9d9); 
+			case 0x6f4f6f:  return((char)0xb9db); 
+			case 0x6f4f70:  return((char)0xb9dd); 
+			case 0x6f4f71:  return((char)0xb9de); 
+			case 0x6f4f72:  return((char)0xb9e1); 
+			case 0x6f4f73:  return((char)0xb9e3); 
+			case 0x6f4f74:  return((char)0xb9e4); 
+			case 0x6f4f75:  return((char)0xb9e5); 
+			case 0x6f4f76:  return((char)0xb9e8); 
+			case 0x6f4f77:  return((char)0xb9ec); 
+			case 0x6f4f78:  return((char)0xb9f4); 
+			case 0x6f4f79:  return((char)0xb9f5); 
+			case 0x6f4f7a:  return((char)0xb9f7); 
+			case 0x6f4f7b:  return((char)0xb9f8); 
+			case 0x6f4f7c:  return((char)0xb9f9); 
+			case 0x6f4f7d:  return((char)0xb9fa); 
+			case 0x6f4f7e:  return((char)0xba00); 
+			case 0x6f5021:  return((char)0xba38); 
+			case 0x6f5022:  return((char)0xba39); 
+			case 0x6f5023:  return((char)0xba3c); 
+			case 0x6f5024:  return((char)0xba40); 
+			case 0x6f5025:  return((char)0xba48); 
+			case 0x6f5026:  return((char)0xba49); 
+			case 0x6f5027:  return((char)0xba4b); 
+			case 0x6f5028:  return((char)0xba4d); 
+			case 0x6f5029:  return((char)0xba4e); 
+			case 0x6f502a:  return((char)0xba53); 
+			case 0x6f502b:  return((char)0xba54); 
+			case 0x6f502c:  return((char)0xba55); 
+			case 0x6f502d:  return((char)0xba58); 
+			case 0x6f502e:  return((char)0xba5c); 
+			case 0x6f502f:  return((char)0xba64); 
+			case 0x6f5030:  return((char)0xba65); 
+			case 0x6f5031:  return((char)0xba67); 
+			case 0x6f5032:  return((char)0xba70); 
+			case 0x6f5033:  return((char)0xba71); 
+			case 0x6f5034:  return((char)0xba74); 
+			case 0x6f5035:  return((char)0xba78); 
+			case 0x6f5036:  return((char)0xba83); 
+			case 0x6f5037:  return((char)0xba84); 
+			case 0x6f5038:  return((char)0xba85); 
+			case 0x6f5039:  return((char)0xba87); 
+			case 0x6f503a:  return((char)0xbaa8); 
+			case 0x6f503b:  return((char)0xbaa9); 
+			case 0x6f503c:  return((char)0xbaab); 
+			case 0x6f503d:  return((char)0xbaac); 
+			case 0x6f503e:  return((char)0xbab0); 
+			case 0x6f503f:  return((char)0xbab8); 
+			case 0x6f5040:  return((char)0xbab9); 
+			case 0x6f5041:  return((char)0xbabb); 
+			case 0x6f5042:  return((char)0xbabd); 
+			case 0x6f5043:  return((char)0xbac3); 
+			case 0x6f5044:  return((char)0xbafc); 
+			case 0x6f5045:  return((char)0xbb0f); 
+			case 0x6f5046:  return((char)0xbb18); 
+			case 0x6f5047:  return((char)0xbb34); 
+			case 0x6f5048:  return((char)0xbb35); 
+			case 0x6f5049:  return((char)0xbb36); 
+			case 0x6f504a:  return((char)0xbb38); 
+			case 0x6f504b:  return((char)0xbb3b); 
+			case 0x6f504c:  return((char)0xbb3c); 
+			case 0x6f504d:  return((char)0xbb3d); 
+			case 0x6f504e:  return((char)0xbb44); 
+			case 0x6f504f:  return((char)0xbb47); 
+			case 0x6f5050:  return((char)0xbb49); 
+			case 0x6f5051:  return((char)0xbb4d); 
+			case 0x6f5052:  return((char)0xbb4f); 
+			case 0x6f5053:  return((char)0xbb50); 
+			case 0x6f5054:  return((char)0xbb54); 
+			case 0x6f5055:  return((char)0xbb58); 
+			case 0x6f5056:  return((char)0xbb61); 
+			case 0x6f5057:  return((char)0xbb63); 
+			case 0x6f5058:  return((char)0xbb88); 
+			case 0x6f5059:  return((char)0xbb8c); 
+			case 0x6f505a:  return((char)0xbba4); 
+			case 0x6f505b:  return((char)0xbbc0); 
+			case 0x6f505c:  return((char)0xbbc4); 
+			case 0x6f505d:  return((char)0xbbc8); 
+			case 0x6f505e:  return((char)0xbbd0); 
+			case 0x6f505f:  return((char)0xbbf8); 
+			case 0x6f5060:  return((char)0xbbf9); 
+			case 0x6f5061:  return((char)0xbbfc); 
+			case 0x6f5062:  return((char)0xbbff); 
+			case 0x6f5063:  return((char)0xbc00); 
+			case 0x6f5064:  return((char)0xbc08); 
+			case 0x6f5065:  return((char)0xbc09); 
+			case 0x6f5066:  return((char)0xbc0b); 
+			case 0x6f5068:  return((char)0xbc0d); 
+			case 0x6f5069:  return((char)0xbc0f); 
+			case 0x6f506a:  return((char)0xbc11); 
+			case 0x6f506b:  return((char)0xbbb4); 
+			case 0x6f506d:  return((char)0xbc14); 
+			case 0x6f506e:  return((char)0xbc15); 
+			case 0x6f506f:  return((char)0xbc16); 
+			case 0x6f5070:  return((char)0xbc18); 
+			case 0x6f5071:  return((char)0xbc1b); 
+			case 0x6f5072:  return((char)0xbc1c); 
+			case 0x6f5073:  return((char)0xbc1d); 
+			case 0x6f5074:  return((char)0xbc1f); 
+			case 0x6f5075:  return((char)0xbc24); 
+			case 0x6f5076:  return((char)0xbc25); 
+			case 0x6f5077:  return((char)0xbc27); 
+			case 0x6f5078:  return((char)0xbc29); 
+			case 0x6f5079:  return((char)0xbc2d); 
+			case 0x6f507a:  return((char)0xbc30); 
+			case 0x6f507b:  return((char)0xbc31); 
+			case 0x6f507c:  return((char)0xbc34); 
+			case 0x6f507d:  return((char)0xbc37); 
+			case 0x6f507e:  return((char)0xbc38); 
+			case 0x6f5121:  return((char)0xbc40); 
+			case 0x6f5122:  return((char)0xbc41); 
+			case 0x6f5123:  return((char)0xbc43); 
+			case 0x6f5124:  return((char)0xbc44); 
+			case 0x6f5125:  return((char)0xbc45); 
+			case 0x6f5126:  return((char)0xbc84); 
+			case 0x6f5127:  return((char)0xbc85); 
+			case 0x6f5128:  return((char)0xbc88); 
+			case 0x6f5129:  return((char)0xbc8b); 
+			case 0x6f512a:  return((char)0xbc8c); 
+			case 0x6f512b:  return((char)0xbc94); 
+			case 0x6f512c:  return((char)0xbc95); 
+			case 0x6f512d:  return((char)0xbc97); 
+			case 0x6f512e:  return((char)0xbc98); 
+			case 0x6f512f:  return((char)0xbc99); 
+			case 0x6f5130:  return((char)0xbc9a); 
+			case 0x6f5131:  return((char)0xbca0); 
+			case 0x6f5132:  return((char)0xbca1); 
+			case 0x6f5133:  return((char)0xbca4); 
+			case 0x6f5134:  return((char)0xbca7); 
+			case 0x6f5135:  return((char)0xbca8); 
+			case 0x6f5136:  return((char)0xbcb0); 
+			case 0x6f5137:  return((char)0xbcb1); 
+			case 0x6f5138:  return((char)0xbcb3); 
+			case 0x6f5139:  return((char)0xbcb5); 
+			case 0x6f513a:  return((char)0xbcbc); 
+			case 0x6f513b:  return((char)0xbcbd); 
+			case 0x6f513c:  return((char)0xbcc0); 
+			case 0x6f513d:  return((char)0xbcc4); 
+			case 0x6f513e:  return((char)0xbccc); 
+			case 0x6f513f:  return((char)0xbccd); 
+			case 0x6f5140:  return((char)0xbccf); 
+			case 0x6f5141:  return((char)0xbcd0); 
+			case 0x6f5142:  return((char)0xbcd1); 
+			case 0x6f5143:  return((char)0xbcd2); 
+			case 0x6f5144:  return((char)0xbcd5); 
+			case 0x6f5145:  return((char)0xbcf4); 
+			case 0x6f5146:  return((char)0xbcf5); 
+			case 0x6f5147:  return((char)0xbcf6); 
+			case 0x6f5148:  return((char)0xbcf8); 
+			case 0x6f5149:  return((char)0xbcfc); 
+			case 0x6f514a:  return((char)0xbd04); 
+			case 0x6f514b:  return((char)0xbd05); 
+			case 0x6f514c:  return((char)0xbd07); 
+			case 0x6f514d:  return((char)0xbd09); 
+			case 0x6f514e:  return((char)0xbd10); 
+			case 0x6f514f:  return((char)0xbd14); 
+			case 0x6f5150:  return((char)0xbd24); 
+			case 0x6f5151:  return((char)0xbd48); 
+			case 0x6f5152:  return((char)0xbd49); 
+			case 0x6f5153:  return((char)0xbd4c); 
+			case 0x6f5154:  return((char)0xbd50); 
+			case 0x6f5155:  return((char)0xbd58); 
+			case 0x6f5156:  return((char)0xbd59); 
+			case 0x6f5157:  return((char)0xbd64); 
+			case 0x6f5158:  return((char)0xbd80); 
+			case 0x6f5159:  return((char)0xbd81); 
+			case 0x6f515a:  return((char)0xbd84); 
+			case 0x6f515b:  return((char)0xbd87); 
+			case 0x6f515c:  return((char)0xbd88); 
+			case 0x6f515d:  return((char)0xbd89); 
+			case 0x6f515e:  return((char)0xbd90); 
+			case 0x6f515f:  return((char)0xbd91); 
+			case 0x6f5160:  return((char)0xbd93); 
+			case 0x6f5161:  return((char)0xbd95); 
+			case 0x6f5162:  return((char)0xbd99); 
+			case 0x6f5163:  return((char)0xbd9c); 
+			case 0x6f5164:  return((char)0xbdd4); 
+			case 0x6f5165:  return((char)0xbdf0); 
+			case 0x6f5166:  return((char)0xbe0c); 
+			case 0x6f5167:  return((char)0xbe0d); 
+			case 0x6f5168:  return((char)0xbe10); 
+			case 0x6f5169:  return((char)0xbe14); 
+			case 0x6f516a:  return((char)0xbe1c); 
+			case 0x6f516b:  return((char)0xbe1d); 
+			case 0x6f516c:  return((char)0xbe1f); 
+			case 0x6f516d:  return((char)0xbe44); 
+			case 0x6f516e:  return((char)0xbe45); 
+			case 0x6f516f:  return((char)0xbe48); 
+			case 0x6f5170:  return((char)0xbe4b); 
+			case 0x6f5171:  return((char)0xbe4c); 
+			case 0x6f5172:  return((char)0xbe4e); 
+			case 0x6f5173:  return((char)0xbe54); 
+			case 0x6f5174:  return((char)0xbe55); 
+			case 0x6f5175:  return((char)0xbe57); 
+			case 0x6f5176:  return((char)0xbe59); 
+			case 0x6f5177:  return((char)0xbe5a); 
+			case 0x6f5178:  return((char)0xbe5b); 
+			case 0x6f517b:  return((char)0xbe60); 
+			case 0x6f517c:  return((char)0xbe61); 
+			case 0x6f517d:  return((char)0xbe64); 
+			case 0x6f517e:  return((char)0xbe68); 
+			case 0x6f5221:  return((char)0xbe70); 
+			case 0x6f5222:  return((char)0xbe71); 
+			case 0x6f5223:  return((char)0xbe73); 
+			case 0x6f5224:  return((char)0xbe74); 
+			case 0x6f5225:  return((char)0xbe75); 
+			case 0x6f5226:  return((char)0xbe7b); 
+			case 0x6f5227:  return((char)0xbe7c); 
+			case 0x6f5228:  return((char)0xbe7d); 
+			case 0x6f5229:  return((char)0xbe80); 
+			case 0x6f522a:  return((char)0xbe84); 
+			case 0x6f522b:  return((char)0xbe8c); 
+			case 0x6f522c:  return((char)0xbe8f); 
+			case 0x6f522d:  return((char)0xbe90); 
+			case 0x6f522e:  return((char)0xbe91); 
+			case 0x6f522f:  return((char)0xbe98); 
+			case 0x6f5230:  return((char)0xbea8); 
+			case 0x6f5231:  return((char)0xbed0); 
+			case 0x6f5232:  return((char)0xbed1); 
+			case 0x6f5233:  return((char)0xbed4); 
+			case 0x6f5234:  return((char)0xbed7); 
+			case 0x6f5235:  return((char)0xbed8); 
+			case 0x6f5236:  return((char)0xbee0); 
+			case 0x6f5237:  return((char)0xbee3); 
+			case 0x6f5238:  return((char)0xbee4); 
+			case 0x6f5239:  return((char)0xbee5); 
+			case 0x6f523a:  return((char)0xbeec); 
+			case 0x6f523b:  return((char)0xbf08); 
+			case 0x6f523c:  return((char)0xbf09); 
+			case 0x6f523d:  return((char)0xbf18); 
+			case 0x6f523e:  return((char)0xbf1d); 
+			case 0x6f523f:  return((char)0xbf40); 
+			case 0x6f5240:  return((char)0xbf41); 
+			case 0x6f5241:  return((char)0xbf44); 
+			case 0x6f5242:  return((char)0xbf48); 
+			case 0x6f5243:  return((char)0xbf50); 
+			case 0x6f5244:  return((char)0xbf51); 
+			case 0x6f5245:  return((char)0xbf55); 
+			case 0x6f5246:  return((char)0xbfb0); 
+			case 0x6f5247:  return((char)0xbfc0); 
+			case 0x6f5248:  return((char)0xbfc5); 
+			case 0x6f5249:  return((char)0xbfcc); 
+			case 0x6f524a:  return((char)0xbfcd); 
+			case 0x6f524b:  return((char)0xbfd0); 
+			case 0x6f524c:  return((char)0xbfd4); 
+			case 0x6f524d:  return((char)0xbfdc); 
+			case 0x6f524e:  return((char)0xbfdd); 
+			case 0x6f524f:  return((char)0xbfe1); 
+			case 0x6f5250:  return((char)0xc058); 
+			case 0x6f5251:  return((char)0xc059); 
+			case 0x6f5252:  return((char)0xc05c); 
+			case 0x6f5253:  return((char)0xc060); 
+			case 0x6f5254:  return((char)0xc068); 
+			case 0x6f5255:  return((char)0xc069); 
+			case 0x6f5256:  return((char)0xc090); 
+			case 0x6f5257:  return((char)0xc091); 
+			case 0x6f5258:  return((char)0xc094); 
+			case 0x6f5259:  return((char)0xc098); 
+			case 0x6f525a:  return((char)0xc0a0); 
+			case 0x6f525b:  return((char)0xc0a3); 
+			case 0x6f525c:  return((char)0xc0a5); 
+			case 0x6f525f:  return((char)0xc0ac); 
+			case 0x6f5260:  return((char)0xc0ad); 
+			case 0x6f5261:  return((char)0xc0ae); 
+			case 0x6f5262:  return((char)0xc0af); 
+			case 0x6f5263:  return((char)0xc0b0); 
+			case 0x6f5264:  return((char)0xc0b3); 
+			case 0x6f5265:  return((char)0xc0b4); 
+			case 0x6f5266:  return((char)0xc0b5); 
+			case 0x6f5267:  return((char)0xc0b6); 
+			case 0x6f5268:  return((char)0xc0bc); 
+			case 0x6f5269:  return((char)0xc0bd); 
+			case 0x6f526a:  return((char)0xc0bf); 
+			case 0x6f526b:  return((char)0xc0c0); 
+			case 0x6f526c:  return((char)0xc0c1); 
+			case 0x6f526d:  return((char)0xc0c5); 
+			case 0x6f526e:  return((char)0xc0c8); 
+			case 0x6f526f:  return((char)0xc0c9); 
+			case 0x6f5270:  return((char)0xc0cc); 
+			case 0x6f5271:  return((char)0xc0cf); 
+			case 0x6f5272:  return((char)0xc0d0); 
+			case 0x6f5273:  return((char)0xc0d8); 
+			case 0x6f5274:  return((char)0xc0d9); 
+			case 0x6f5275:  return((char)0xc0db); 
+			case 0x6f5276:  return((char)0xc0dc); 
+			case 0x6f5277:  return((char)0xc0dd); 
+			case 0x6f5278:  return((char)0xc0e4); 
+			case 0x6f5279:  return((char)0xc0e5); 
+			case 0x6f527a:  return((char)0xc0e8); 
+			case 0x6f527b:  return((char)0xc0ec); 
+			case 0x6f527c:  return((char)0xc0f4); 
+			case 0x6f527d:  return((char)0xc0f7); 
+			case 0x6f527e:  return((char)0xc0f9); 
+			case 0x6f5321:  return((char)0xc11c); 
+			case 0x6f5322:  return((char)0xc11d); 
+			case 0x6f5323:  return((char)0xc11e); 
+			case 0x6f5324:  return((char)0xc120); 
+			case 0x6f5325:  return((char)0xc123); 
+			case 0x6f5326:  return((char)0xc124); 
+			case 0x6f5327:  return((char)0xc125); 
+			case 0x6f5328:  return((char)0xc126); 
+			case 0x6f5329:  return((char)0xc127); 
+			case 0x6f532a:  return((char)0xc12a); 
+			case 0x6f532b:  return((char)0xc12c); 
+			case 0x6f532c:  return((char)0xc12d); 
+			case 0x6f532d:  return((char)0xc12f); 
+			case 0x6f532e:  return((char)0xc130); 
+			case 0x6f532f:  return((char)0xc131); 
+			case 0x6f5330:  return((char)0xc136); 
+			case 0x6f5331:  return((char)0xc138); 
+			case 0x6f5332:  return((char)0xc139); 
+			case 0x6f5333:  return((char)0xc13c); 
+			case 0x6f5334:  return((char)0xc140); 
+			case 0x6f5335:  return((char)0xc148); 
+			case 0x6f5336:  return((char)0xc149); 
+			case 0x6f5337:  return((char)0xc14b); 
+			case 0x6f5338:  return((char)0xc14d); 
+			case 0x6f5339:  return((char)0xc151); 
+			case 0x6f533a:  return((char)0xc154); 
+			case 0x6f533b:  return((char)0xc158); 
+			case 0x6f533c:  return((char)0xc167); 
+			case 0x6f533d:  return((char)0xc168); 
+			case 0x6f533e:  return((char)0xc170); 
+			case 0x6f533f:  return((char)0xc18c); 
+			case 0x6f5340:  return((char)0xc18d); 
+			case 0x6f5341:  return((char)0xc18e); 
+			case 0x6f5342:  return((char)0xc190); 
+			case 0x6f5343:  return((char)0xc194); 
+			case 0x6f5344:  return((char)0xc19c); 
+			case 0x6f5345:  return((char)0xc19d); 
+			case 0x6f5346:  return((char)0xc19f); 
+			case 0x6f5347:  return((char)0xc1a1); 
+			case 0x6f5348:  return((char)0xc1a5); 
+			case 0x6f5349:  return((char)0xc1a8); 
+			case 0x6f534a:  return((char)0xc1a9); 
+			case 0x6f534b:  return((char)0xc1b0); 
+			case 0x6f534c:  return((char)0xc1c4); 
+			case 0x6f534d:  return((char)0xc1c8); 
+			case 0x6f534e:  return((char)0xc1d7); 
+			case 0x6f534f:  return((char)0xc1e0); 
+			case 0x6f5350:  return((char)0xc1e4); 
+			case 0x6f5351:  return((char)0xc1e8); 
+			case 0x6f5352:  return((char)0xc1f0); 
+			case 0x6f5353:  return((char)0xc1f1); 
+			case 0x6f5354:  return((char)0xc1f3); 
+			case 0x6f5355:  return((char)0xc1fc); 
+			case 0x6f5356:  return((char)0xc1fd); 
+			case 0x6f5357:  return((char)0xc200); 
+			case 0x6f5358:  return((char)0xc204); 
+			case 0x6f5359:  return((char)0xc20d); 
+			case 0x6f535b:  return((char)0xc218); 
+			case 0x6f535c:  return((char)0xc219); 
+			case 0x6f535d:  return((char)0xc21c); 
+			case 0x6f535e:  return((char)0xc21f); 
+			case 0x6f535f:  return((char)0xc220); 
+			case 0x6f5360:  return((char)0xc228); 
+			case 0x6f5361:  return((char)0xc229); 
+			case 0x6f5362:  return((char)0xc22b); 
+			case 0x6f5363:  return((char)0xc22d); 
+			case 0x6f5364:  return((char)0xc22f); 
+			case 0x6f5365:  return((char)0xc231); 
+			case 0x6f5366:  return((char)0xc232); 
+			case 0x6f5367:  return((char)0xc234); 
+			case 0x6f5368:  return((char)0xc250); 
+			case 0x6f5369:  return((char)0xc258); 
+			case 0x6f536a:  return((char)0xc26c); 
+			case 0x6f536b:  return((char)0xc270); 
+			case 0x6f536c:  return((char)0xc274); 
+			case 0x6f536d:  return((char)0xc27c); 
+			case 0x6f536e:  return((char)0xc27d); 
+			case 0x6f536f:  return((char)0xc27f); 
+			case 0x6f5370:  return((char)0xc281); 
+			case 0x6f5371:  return((char)0xc288); 
+			case 0x6f5372:  return((char)0xc289); 
+			case 0x6f5373:  return((char)0xc290); 
+			case 0x6f5374:  return((char)0xc298); 
+			case 0x6f5375:  return((char)0xc29b); 
+			case 0x6f5376:  return((char)0xc29d); 
+			case 0x6f5377:  return((char)0xc2a4); 
+			case 0x6f5378:  return((char)0xc2a5); 
+			case 0x6f5379:  return((char)0xc2a8); 
+			case 0x6f537a:  return((char)0xc2ac); 
+			case 0x6f537b:  return((char)0xc2ad); 
+			case 0x6f537d:  return((char)0xc2b4); 
+			case 0x6f537e:  return((char)0xc2b5); 
+			case 0x6f5421:  return((char)0xc2b7); 
+			case 0x6f5422:  return((char)0xc2b9); 
+			case 0x6f5423:  return((char)0xc2dc); 
+			case 0x6f5424:  return((char)0xc2dd); 
+			case 0x6f5425:  return((char)0xc2e0); 
+			case 0x6f5426:  return((char)0xc2e3); 
+			case 0x6f5427:  return((char)0xc2e4); 
+			case 0x6f5428:  return((char)0xc2eb); 
+			case 0x6f5429:  return((char)0xc2ec); 
+			case 0x6f542a:  return((char)0xc2ed); 
+			case 0x6f542b:  return((char)0xc2ef); 
+			case 0x6f542c:  return((char)0xc2f1); 
+			case 0x6f542d:  return((char)0xc2f6); 
+			case 0x6f5430:  return((char)0xc2f8); 
+			case 0x6f5431:  return((char)0xc2f9); 
+			case 0x6f5432:  return((char)0xc2fc); 
+			case 0x6f5433:  return((char)0xc300); 
+			case 0x6f5434:  return((char)0xc308); 
+			case 0x6f5435:  return((char)0xc309); 
+			case 0x6f5436:  return((char)0xc30b); 
+			case 0x6f5437:  return((char)0xc30c); 
+			case 0x6f5438:  return((char)0xc30d); 
+			case 0x6f5439:  return((char)0xc313); 
+			case 0x6f543a:  return((char)0xc314); 
+			case 0x6f543b:  return((char)0xc315); 
+			case 0x6f543c:  return((char)0xc318); 
+			case 0x6f543d:  return((char)0xc31c); 
+			case 0x6f543e:  return((char)0xc324); 
+			case 0x6f543f:  return((char)0xc327); 
+			case 0x6f5440:  return((char)0xc328); 
+			case 0x6f5441:  return((char)0xc329); 
+			case 0x6f5442:  return((char)0xc330); 
+			case 0x6f5443:  return((char)0xc343); 
+			case 0x6f5444:  return((char)0xc345); 
+			case 0x6f5445:  return((char)0xc368); 
+			case 0x6f5446:  return((char)0xc369); 
+			case 0x6f5447:  return((char)0xc36c); 
+			case 0x6f5448:  return((char)0xc370); 
+			case 0x6f5449:  return((char)0xc372); 
+			case 0x6f544a:  return((char)0xc378); 
+			case 0x6f544b:  return((char)0xc379); 
+			case 0x6f544c:  return((char)0xc37c); 
+			case 0x6f544d:  return((char)0xc37d); 
+			case 0x6f544e:  return((char)0xc384); 
+			case 0x6f544f:  return((char)0xc388); 
+			case 0x6f5450:  return((char)0xc399); 
+			case 0x6f5451:  return((char)0xc3d8); 
+			case 0x6f5452:  return((char)0xc3d9); 
+			case 0x6f5453:  return((char)0xc3dc); 
+			case 0x6f5454:  return((char)0xc3df); 
+			case 0x6f5455:  return((char)0xc3e0); 
+			case 0x6f5456:  return((char)0xc3e8); 
+			case 0x6f5457:  return((char)0xc3ed); 
+			case 0x6f5458:  return((char)0xc3f4); 
+			case 0x6f5459:  return((char)0xc3f5); 
+			case 0x6f545a:  return((char)0xc410); 
+			case 0x6f545b:  return((char)0xc42c); 
+			case 0x6f545c:  return((char)0xc430); 
+			case 0x6f545d:  return((char)0xc434); 
+			case 0x6f545e:  return((char)0xc43c); 
+			case 0x6f545f:  return((char)0xc43f); 
+			case 0x6f5460:  return((char)0xc464); 
+			case 0x6f5461:  return((char)0xc465); 
+			case 0x6f5462:  return((char)0xc468); 
+			case 0x6f5463:  return((char)0xc46c); 
+			case 0x6f5464:  return((char)0xc474); 
+			case 0x6f5465:  return((char)0xc479); 
+			case 0x6f5466:  return((char)0xc480); 
+			case 0x6f5467:  return((char)0xc494); 
+			case 0x6f5468:  return((char)0xc4d4); 
+			case 0x6f5469:  return((char)0xc4d5); 
+			case 0x6f546a:  return((char)0xc4f0); 
+			case 0x6f546b:  return((char)0xc4f1); 
+			case 0x6f546c:  return((char)0xc4f4); 
+			case 0x6f546d:  return((char)0xc4f8); 
+			case 0x6f546e:  return((char)0xc500); 
+			case 0x6f546f:  return((char)0xc501); 
+			case 0x6f5470:  return((char)0xc50c); 
+			case 0x6f5471:  return((char)0xc510); 
+			case 0x6f5472:  return((char)0xc528); 
+			case 0x6f5473:  return((char)0xc529); 
+			case 0x6f5474:  return((char)0xc52c); 
+			case 0x6f5475:  return((char)0xc530); 
+			case 0x6f5476:  return((char)0xc538); 
+			case 0x6f5477:  return((char)0xc539); 
+			case 0x6f5478:  return((char)0xc53b); 
+			case 0x6f5479:  return((char)0xc53d); 
+			case 0x6f547c:  return((char)0xc544); 
+			case 0x6f547d:  return((char)0xc545); 
+			case 0x6f547e:  return((char)0xc548); 
+			case 0x6f5521:  return((char)0xc549); 
+			case 0x6f5522:  return((char)0xc54a); 
+			case 0x6f5523:  return((char)0xc54c); 
+			case 0x6f5524:  return((char)0xc54e); 
+			case 0x6f5525:  return((char)0xc553); 
+			case 0x6f5526:  return((char)0xc554); 
+			case 0x6f5527:  return((char)0xc555); 
+			case 0x6f5528:  return((char)0xc557); 
+			case 0x6f5529:  return((char)0xc558); 
+			case 0x6f552a:  return((char)0xc559); 
+			case 0x6f552b:  return((char)0xc55e); 
+			case 0x6f552c:  return((char)0xc55f); 
+			case 0x6f552d:  return((char)0xc560); 
+			case 0x6f552e:  return((char)0xc561); 
+			case 0x6f552f:  return((char)0xc564); 
+			case 0x6f5530:  return((char)0xc568); 
+			case 0x6f5531:  return((char)0xc570); 
+			case 0x6f5532:  return((char)0xc571); 
+			case 0x6f5533:  return((char)0xc573); 
+			case 0x6f5534:  return((char)0xc574); 
+			case 0x6f5535:  return((char)0xc575); 
+			case 0x6f5536:  return((char)0xc57c); 
+			case 0x6f5537:  return((char)0xc57d); 
+			case 0x6f5538:  return((char)0xc580); 
+			case 0x6f5539:  return((char)0xc584); 
+			case 0x6f553a:  return((char)0xc587); 
+			case 0x6f553b:  return((char)0xc58c); 
+			case 0x6f553c:  return((char)0xc58d); 
+			case 0x6f553d:  return((char)0xc58f); 
+			case 0x6f553e:  return((char)0xc590); 
+			case 0x6f553f:  return((char)0xc591); 
+			case 0x6f5540:  return((char)0xc595); 
+			case 0x6f5541:  return((char)0xc597); 
+			case 0x6f5542:  return((char)0xc598); 
+			case 0x6f5543:  return((char)0xc59c); 
+			case 0x6f5544:  return((char)0xc5b4); 
+			case 0x6f5545:  return((char)0xc5b5); 
+			case 0x6f5546:  return((char)0xc5b6); 
+			case 0x6f5547:  return((char)0xc5b8); 
+			case 0x6f5548:  return((char)0xc5b9); 
+			case 0x6f5549:  return((char)0xc5ba); 
+			case 0x6f554a:  return((char)0xc5bb); 
+			case 0x6f554b:  return((char)0xc5bc); 
+			case 0x6f554c:  return((char)0xc5bd); 
+			case 0x6f554d:  return((char)0xc5c4); 
+			case 0x6f554e:  return((char)0xc5c5); 
+			case 0x6f554f:  return((char)0xc5c6); 
+			case 0x6f5550:  return((char)0xc5c7); 
+			case 0x6f5551:  return((char)0xc5c8); 
+			case 0x6f5552:  return((char)0xc5c9); 
+			case 0x6f5553:  return((char)0xc5ca); 
+			case 0x6f5554:  return((char)0xc5cc); 
+			case 0x6f5555:  return((char)0xc5ce); 
+			case 0x6f5556:  return((char)0xc5d0); 
+			case 0x6f5557:  return((char)0xc5d1); 
+			case 0x6f5558:  return((char)0xc5d4); 
+			case 0x6f5559:  return((char)0xc5d8); 
+			case 0x6f555a:  return((char)0xc5e0); 
+			case 0x6f555b:  return((char)0xc5e1); 
+			case 0x6f555c:  return((char)0xc5e3); 
+			case 0x6f555d:  return((char)0xc5e5); 
+			case 0x6f555e:  return((char)0xc5ec); 
+			case 0x6f555f:  return((char)0xc5ed); 
+			case 0x6f5560:  return((char)0xc5ee); 
+			case 0x6f5561:  return((char)0xc5f0); 
+			case 0x6f5562:  return((char)0xc5f4); 
+			case 0x6f5563:  return((char)0xc5f6); 
+			case 0x6f5564:  return((char)0xc5f7); 
+			case 0x6f5565:  return((char)0xc5fc); 
+			case 0x6f5566:  return((char)0xc5fd); 
+			case 0x6f5567:  return((char)0xc5fe); 
+			case 0x6f5568:  return((char)0xc5ff); 
+			case 0x6f5569:  return((char)0xc600); 
+			case 0x6f556a:  return((char)0xc601); 
+			case 0x6f556b:  return((char)0xc606); 
+			case 0x6f556c:  return((char)0xc607); 
+			case 0x6f556d:  return((char)0xc608); 
+			case 0x6f556e:  return((char)0xc60c); 
+			case 0x6f556f:  return((char)0xc610); 
+			case 0x6f5570:  return((char)0xc61b); 
+			case 0x6f5571:  return((char)0xc624); 
+			case 0x6f5572:  return((char)0xc625); 
+			case 0x6f5573:  return((char)0xc628); 
+			case 0x6f5574:  return((char)0xc62c); 
+			case 0x6f5575:  return((char)0xc62d); 
+			case 0x6f5576:  return((char)0xc62e); 
+			case 0x6f5577:  return((char)0xc633); 
+			case 0x6f5578:  return((char)0xc634); 
+			case 0x6f5579:  return((char)0xc635); 
+			case 0x6f557a:  return((char)0xc637); 
+			case 0x6f557b:  return((char)0xc639); 
+			case 0x6f557c:  return((char)0xc63a); 
+			case 0x6f557d:  return((char)0xc63b); 
+			case 0x6f557e:  return((char)0xc640); 
+			case 0x6f5621:  return((char)0xc641); 
+			case 0x6f5622:  return((char)0xc644); 
+			case 0x6f5623:  return((char)0xc648); 
+			case 0x6f5624:  return((char)0xc650); 
+			case 0x6f5625:  return((char)0xc651); 
+			case 0x6f5626:  return((char)0xc653); 
+			case 0x6f5627:  return((char)0xc654); 
+			case 0x6f5629:  return((char)0xc65c); 
+			case 0x6f562a:  return((char)0xc65d); 
+			case 0x6f562b:  return((char)0xc660); 
+			case 0x6f562c:  return((char)0xc671); 
+			case 0x6f562d:  return((char)0xc678); 
+			case 0x6f562e:  return((char)0xc679); 
+			case 0x6f562f:  return((char)0xc67c); 
+			case 0x6f5630:  return((char)0xc680); 
+			case 0x6f5631:  return((char)0xc688); 
+			case 0x6f5632:  return((char)0xc68b); 
+			case 0x6f5633:  return((char)0xc68d); 
+			case 0x6f5634:  return((char)0xc694); 
+			case 0x6f5635:  return((char)0xc695); 
+			case 0x6f5636:  return((char)0xc698); 
+			case 0x6f5637:  return((char)0xc6a5); 
+			case 0x6f5638:  return((char)0xc6a7); 
+			case 0x6f5639:  return((char)0xc6a9); 
+			case 0x6f563a:  return((char)0xc6b0); 
+			case 0x6f563b:  return((char)0xc6b1); 
+			case 0x6f563c:  return((char)0xc6b4); 
+			case 0x6f563d:  return((char)0xc6b7); 
+			case 0x6f563e:  return((char)0xc6b8); 
+			case 0x6f563f:  return((char)0xc6b9); 
+			case 0x6f5640:  return((char)0xc6ba); 
+			case 0x6f5641:  return((char)0xc6c0); 
+			case 0x6f5642:  return((char)0xc6c1); 
+			case 0x6f5643:  return((char)0xc6c3); 
+			case 0x6f5644:  return((char)0xc6c5); 
+			case 0x6f5645:  return((char)0xc6cc); 
+			case 0x6f5646:  return((char)0xc6cd); 
+			case 0x6f5647:  return((char)0xc6d0); 
+			case 0x6f5648:  return((char)0xc6d4); 
+			case 0x6f5649:  return((char)0xc6dc); 
+			case 0x6f564a:  return((char)0xc6dd); 
+			case 0x6f564b:  return((char)0xc6df); 
+			case 0x6f564c:  return((char)0xc6e0); 
+			case 0x6f564d:  return((char)0xc6e1); 
+			case 0x6f564e:  return((char)0xc6e8); 
+			case 0x6f564f:  return((char)0xc6e9); 
+			case 0x6f5650:  return((char)0xc6ec); 
+			case 0x6f5651:  return((char)0xc6f0); 
+			case 0x6f5652:  return((char)0xc6f8); 
+			case 0x6f5653:  return((char)0xc704); 
+			case 0x6f5654:  return((char)0xc705); 
+			case 0x6f5655:  return((char)0xc708); 
+			case 0x6f5656:  return((char)0xc70c); 
+			case 0x6f5657:  return((char)0xc714); 
+			case 0x6f5658:  return((char)0xc717); 
+			case 0x6f5659:  return((char)0xc719); 
+			case 0x6f565a:  return((char)0xc720); 
+			case 0x6f565b:  return((char)0xc721); 
+			case 0x6f565c:  return((char)0xc724); 
+			case 0x6f565d:  return((char)0xc728); 
+			case 0x6f565e:  return((char)0xc730); 
+			case 0x6f565f:  return((char)0xc735); 
+			case 0x6f5660:  return((char)0xc737); 
+			case 0x6f5661:  return((char)0xc73c); 
+			case 0x6f5662:  return((char)0xc73d); 
+			case 0x6f5663:  return((char)0xc740); 
+			case 0x6f5664:  return((char)0xc744); 
+			case 0x6f5665:  return((char)0xc74a); 
+			case 0x6f5666:  return((char)0xc74c); 
+			case 0x6f5667:  return((char)0xc74d); 
+			case 0x6f5668:  return((char)0xc751); 
+			case 0x6f5669:  return((char)0xc758); 
+			case 0x6f566a:  return((char)0xc774); 
+			case 0x6f566b:  return((char)0xc775); 
+			case 0x6f566c:  return((char)0xc778); 
+			case 0x6f566d:  return((char)0xc77c); 
+			case 0x6f566e:  return((char)0xc77d); 
+			case 0x6f566f:  return((char)0xc783); 
+			case 0x6f5670:  return((char)0xc784); 
+			case 0x6f5671:  return((char)0xc785); 
+			case 0x6f5672:  return((char)0xc787); 
+			case 0x6f5673:  return((char)0xc788); 
+			case 0x6f5674:  return((char)0xc789); 
+			case 0x6f5675:  return((char)0xc78a); 
+			case 0x6f5676:  return((char)0xc78e); 
+			case 0x6f5677:  return((char)0xc655); 
+			case 0x6f5679:  return((char)0xc790); 
+			case 0x6f567a:  return((char)0xc791); 
+			case 0x6f567b:  return((char)0xc794); 
+			case 0x6f567c:  return((char)0xc796); 
+			case 0x6f567d:  return((char)0xc798); 
+			case 0x6f567e:  return((char)0xc7a0); 
+			case 0x6f5721:  return((char)0xc7a1); 
+			case 0x6f5722:  return((char)0xc7a3); 
+			case 0x6f5723:  return((char)0xc7a4); 
+			case 0x6f5724:  return((char)0xc7a5); 
+			case 0x6f5725:  return((char)0xc7a6); 
+			case 0x6f5726:  return((char)0xc7a7); 
+			case 0x6f5727:  return((char)0xc7ac); 
+			case 0x6f5728:  return((char)0xc7ad); 
+			case 0x6f5729:  return((char)0xc7b0); 
+			case 0x6f572a:  return((char)0xc7b4); 
+			case 0x6f572b:  return((char)0xc7bc); 
+			case 0x6f572c:  return((char)0xc7bd); 
+			case 0x6f572d:  return((char)0xc7bf); 
+			case 0x6f572e:  return((char)0xc7c0); 
+			case 0x6f572f:  return((char)0xc7c1); 
+			case 0x6f5730:  return((char)0xc7c8); 
+			case 0x6f5731:  return((char)0xc7c9); 
+			case 0x6f5732:  return((char)0xc7cc); 
+			case 0x6f5733:  return((char)0xc7d8); 
+			case 0x6f5734:  return((char)0xc800); 
+			case 0x6f5735:  return((char)0xc801); 
+			case 0x6f5736:  return((char)0xc804); 
+			case 0x6f5737:  return((char)0xc808); 
+			case 0x6f5738:  return((char)0xc80a); 
+			case 0x6f5739:  return((char)0xc810); 
+			case 0x6f573a:  return((char)0xc811); 
+			case 0x6f573b:  return((char)0xc813); 
+			case 0x6f573c:  return((char)0xc814); 
+			case 0x6f573d:  return((char)0xc815); 
+			case 0x6f573e:  return((char)0xc816); 
+			case 0x6f573f:  return((char)0xc81c); 
+			case 0x6f5740:  return((char)0xc81d); 
+			case 0x6f5741:  return((char)0xc820); 
+			case 0x6f5742:  return((char)0xc824); 
+			case 0x6f5743:  return((char)0xc82c); 
+			case 0x6f5744:  return((char)0xc82d); 
+			case 0x6f5745:  return((char)0xc82f); 
+			case 0x6f5746:  return((char)0xc838); 
+			case 0x6f5747:  return((char)0xc83c); 
+			case 0x6f5748:  return((char)0xc84c); 
+			case 0x6f5749:  return((char)0xc870); 
+			case 0x6f574a:  return((char)0xc871); 
+			case 0x6f574b:  return((char)0xc874); 
+			case 0x6f574c:  return((char)0xc878); 
+			case 0x6f574d:  return((char)0xc87a); 
+			case 0x6f574e:  return((char)0xc880); 
+			case 0x6f574f:  return((char)0xc881); 
+			case 0x6f5750:  return((char)0xc885); 
+			case 0x6f5751:  return((char)0xc886); 
+			case 0x6f5752:  return((char)0xc887); 
+			case 0x6f5753:  return((char)0xc88b); 
+			case 0x6f5754:  return((char)0xc88c); 
+			case 0x6f5755:  return((char)0xc88d); 
+			case 0x6f5756:  return((char)0xc890); 
+			case 0x6f5757:  return((char)0xc894); 
+			case 0x6f5758:  return((char)0xc89c); 
+			case 0x6f5759:  return((char)0xc89d); 
+			case 0x6f575a:  return((char)0xc89f); 
+			case 0x6f575b:  return((char)0xc8a0); 
+			case 0x6f575d:  return((char)0xc8a8); 
+			case 0x6f575e:  return((char)0xc8ac); 
+			case 0x6f575f:  return((char)0xc8b0); 
+			case 0x6f5760:  return((char)0xc8b8); 
+			case 0x6f5761:  return((char)0xc8c4); 
+			case 0x6f5762:  return((char)0xc8c8); 
+			case 0x6f5763:  return((char)0xc8cc); 
+			case 0x6f5764:  return((char)0xc8d4); 
+			case 0x6f5765:  return((char)0xc8d5); 
+			case 0x6f5766:  return((char)0xc8d7); 
+			case 0x6f5767:  return((char)0xc8e0); 
+			case 0x6f5768:  return((char)0xc8e4); 
+			case 0x6f5769:  return((char)0xc8f0); 
+			case 0x6f576a:  return((char)0xc8f1); 
+			case 0x6f576b:  return((char)0xc8f5); 
+			case 0x6f576c:  return((char)0xc8fc); 
+			case 0x6f576d:  return((char)0xc8fd); 
+			case 0x6f576e:  return((char)0xc900); 
+			case 0x6f576f:  return((char)0xc904); 
+			case 0x6f5770:  return((char)0xc906); 
+			case 0x6f5771:  return((char)0xc90c); 
+			case 0x6f5772:  return((char)0xc90d); 
+			case 0x6f5773:  return((char)0xc90f); 
+			case 0x6f5774:  return((char)0xc911); 
+			case 0x6f5775:  return((char)0xc918); 
+			case 0x6f5776:  return((char)0xc92c); 
+			case 0x6f5777:  return((char)0xc950); 
+			case 0x6f5779:  return((char)0xc954); 
+			case 0x6f577a:  return((char)0xc958); 
+			case 0x6f577b:  return((char)0xc960); 
+			case 0x6f577c:  return((char)0xc961); 
+			case 0x6f577d:  return((char)0xc96c); 
+			case 0x6f577e:  return((char)0xc970); 
+			case 0x6f5821:  return((char)0xc974); 
+			case 0x6f5822:  return((char)0xc988); 
+			case 0x6f5823:  return((char)0xc989); 
+			case 0x6f5824:  return((char)0xc98c); 
+			case 0x6f5825:  return((char)0xc990); 
+			case 0x6f5826:  return((char)0xc998); 
+			case 0x6f5827:  return((char)0xc999); 
+			case 0x6f5828:  return((char)0xc99d); 
+			case 0x6f5829:  return((char)0xc9c0); 
+			case 0x6f582a:  return((char)0xc9c1); 
+			case 0x6f582b:  return((char)0xc9c4); 
+			case 0x6f582c:  return((char)0xc9c7); 
+			case 0x6f582d:  return((char)0xc9c8); 
+			case 0x6f582e:  return((char)0xc9ca); 
+			case 0x6f582f:  return((char)0xc9d0); 
+			case 0x6f5830:  return((char)0xc9d1); 
+			case 0x6f5831:  return((char)0xc9d3); 
+			case 0x6f5832:  return((char)0xc9d5); 
+			case 0x6f5833:  return((char)0xc9d6); 
+			case 0x6f5834:  return((char)0xc9d9); 
+			case 0x6f5835:  return((char)0xc9da); 
+			case 0x6f5838:  return((char)0xc9dc); 
+			case 0x6f5839:  return((char)0xc9dd); 
+			case 0x6f583a:  return((char)0xc9e0); 
+			case 0x6f583b:  return((char)0xc9e2); 
+			case 0x6f583c:  return((char)0xc9e4); 
+			case 0x6f583e:  return((char)0xc9e7); 
+			case 0x6f583f:  return((char)0xc9ec); 
+			case 0x6f5840:  return((char)0xc9ed); 
+			case 0x6f5841:  return((char)0xc9ef); 
+			case 0x6f5842:  return((char)0xc9f0); 
+			case 0x6f5843:  return((char)0xc9f1); 
+			case 0x6f5844:  return((char)0xc9f8); 
+			case 0x6f5845:  return((char)0xc9f9); 
+			case 0x6f5846:  return((char)0xc9fc); 
+			case 0x6f5847:  return((char)0xca00); 
+			case 0x6f5848:  return((char)0xca08); 
+			case 0x6f5849:  return((char)0xca09); 
+			case 0x6f584a:  return((char)0xca0b); 
+			case 0x6f584b:  return((char)0xca0c); 
+			case 0x6f584c:  return((char)0xca0d); 
+			case 0x6f584d:  return((char)0xca18); 
+			case 0x6f584e:  return((char)0xca4c); 
+			case 0x6f584f:  return((char)0xca4d); 
+			case 0x6f5850:  return((char)0xca50); 
+			case 0x6f5851:  return((char)0xca54); 
+			case 0x6f5852:  return((char)0xca5c); 
+			case 0x6f5853:  return((char)0xca5d); 
+			case 0x6f5854:  return((char)0xca61); 
+			case 0x6f5855:  return((char)0xca84); 
+			case 0x6f5856:  return((char)0xca98); 
+			case 0x6f5857:  return((char)0xcabc); 
+			case 0x6f5858:  return((char)0xcabd); 
+			case 0x6f5859:  return((char)0xcac0); 
+			case 0x6f585a:  return((char)0xcac4); 
+			case 0x6f585b:  return((char)0xcacc); 
+			case 0x6f585c:  return((char)0xcacd); 
+			case 0x6f585d:  return((char)0xcad1); 
+			case 0x6f585e:  return((char)0xcad2); 
+			case 0x6f585f:  return((char)0xcad3); 
+			case 0x6f5860:  return((char)0xcad8); 
+			case 0x6f5861:  return((char)0xcad9); 
+			case 0x6f5862:  return((char)0xcb10); 
+			case 0x6f5863:  return((char)0xcb14); 
+			case 0x6f5864:  return((char)0xcb18); 
+			case 0x6f5865:  return((char)0xcb20); 
+			case 0x6f5866:  return((char)0xcb21); 
+			case 0x6f5867:  return((char)0xcb41); 
+			case 0x6f5868:  return((char)0xcb48); 
+			case 0x6f5869:  return((char)0xcb49); 
+			case 0x6f586a:  return((char)0xcb50); 
+			case 0x6f586b:  return((char)0xcb58); 
+			case 0x6f586c:  return((char)0xcb59); 
+			case 0x6f586d:  return((char)0xcb5d); 
+			case 0x6f586e:  return((char)0xcb64); 
+			case 0x6f586f:  return((char)0xcbb8); 
+			case 0x6f5870:  return((char)0xcbd4); 
+			case 0x6f5871:  return((char)0xcbe4); 
+			case 0x6f5872:  return((char)0xcbe7); 
+			case 0x6f5873:  return((char)0xcc0c); 
+			case 0x6f5874:  return((char)0xcc0d); 
+			case 0x6f5875:  return((char)0xcc10); 
+			case 0x6f5876:  return((char)0xcc14); 
+			case 0x6f5877:  return((char)0xcc1c); 
+			case 0x6f5878:  return((char)0xcc1d); 
+			case 0x6f5879:  return((char)0xcc21); 
+			case 0x6f587a:  return((char)0xcc22); 
+			case 0x6f587b:  return((char)0xcc27); 
+			case 0x6f587e:  return((char)0xcc28); 
+			case 0x6f5921:  return((char)0xcc29); 
+			case 0x6f5922:  return((char)0xcc2c); 
+			case 0x6f5923:  return((char)0xcc2e); 
+			case 0x6f5924:  return((char)0xcc2f); 
+			case 0x6f5925:  return((char)0xcc30); 
+			case 0x6f5926:  return((char)0xcc38); 
+			case 0x6f5927:  return((char)0xcc39); 
+			case 0x6f5928:  return((char)0xcc3b); 
+			case 0x6f5929:  return((char)0xcc3c); 
+			case 0x6f592a:  return((char)0xcc3d); 
+			case 0x6f592b:  return((char)0xcc3e); 
+			case 0x6f592c:  return((char)0xcc3f); 
+			case 0x6f592d:  return((char)0xcc44); 
+			case 0x6f592e:  return((char)0xcc45); 
+			case 0x6f592f:  return((char)0xcc48); 
+			case 0x6f5930:  return((char)0xcc4c); 
+			case 0x6f5931:  return((char)0xcc54); 
+			case 0x6f5932:  return((char)0xcc55); 
+			case 0x6f5933:  return((char)0xcc58); 
+			case 0x6f5934:  return((char)0xcc59); 
+			case 0x6f5935:  return((char)0xcc60); 
+			case 0x6f5936:  return((char)0xcc64); 
+			case 0x6f5937:  return((char)0xcc70); 
+			case 0x6f5938:  return((char)0xcc71); 
+			case 0x6f5939:  return((char)0xcc98); 
+			case 0x6f593a:  return((char)0xcc99); 
+			case 0x6f593b:  return((char)0xcc9c); 
+			case 0x6f593c:  return((char)0xcca0); 
+			case 0x6f593d:  return((char)0xcca8); 
+			case 0x6f593e:  return((char)0xcca9); 
+			case 0x6f593f:  return((char)0xccab); 
+			case 0x6f5940:  return((char)0xccad); 
+			case 0x6f5941:  return((char)0xccb4); 
+			case 0x6f5942:  return((char)0xccb5); 
+			case 0x6f5943:  return((char)0xccb8); 
+			case 0x6f5944:  return((char)0xccbc); 
+			case 0x6f5945:  return((char)0xccc7); 
+			case 0x6f5946:  return((char)0xccd0); 
+			case 0x6f5947:  return((char)0xcce4); 
+			case 0x6f5948:  return((char)0xcd08); 
+			case 0x6f5949:  return((char)0xcd09); 
+			case 0x6f594a:  return((char)0xcd0c); 
+			case 0x6f594b:  return((char)0xcd10); 
+			case 0x6f594c:  return((char)0xcd18); 
+			case 0x6f594d:  return((char)0xcd19); 
+			case 0x6f594e:  return((char)0xcd1b); 
+			case 0x6f594f:  return((char)0xcd1d); 
+			case 0x6f5950:  return((char)0xcd2c); 
+			case 0x6f5951:  return((char)0xcd5c); 
+			case 0x6f5952:  return((char)0xcd78); 
+			case 0x6f5953:  return((char)0xcd94); 
+			case 0x6f5954:  return((char)0xcd95); 
+			case 0x6f5955:  return((char)0xcd98); 
+			case 0x6f5956:  return((char)0xcd9c); 
+			case 0x6f5957:  return((char)0xcda4); 
+			case 0x6f5958:  return((char)0xcda5); 
+			case 0x6f5959:  return((char)0xcda7); 
+			case 0x6f595a:  return((char)0xcda9); 
+			case 0x6f595b:  return((char)0xcdb0); 
+			case 0x6f595c:  return((char)0xcdc4); 
+			case 0x6f595d:  return((char)0xcdcc); 
+			case 0x6f595e:  return((char)0xcde8); 
+			case 0x6f595f:  return((char)0xce04); 
+			case 0x6f5960:  return((char)0xce20); 
+			case 0x6f5961:  return((char)0xce21); 
+			case 0x6f5962:  return((char)0xce30); 
+			case 0x6f5963:  return((char)0xce35); 
+			case 0x6f5964:  return((char)0xce58); 
+			case 0x6f5965:  return((char)0xce59); 
+			case 0x6f5966:  return((char)0xce5c); 
+			case 0x6f5967:  return((char)0xce60); 
+			case 0x6f5968:  return((char)0xce61); 
+			case 0x6f5969:  return((char)0xce68); 
+			case 0x6f596a:  return((char)0xce69); 
+			case 0x6f596b:  return((char)0xce6b); 
+			case 0x6f596c:  return((char)0xce6d); 
+			case 0x6f596f:  return((char)0xce74); 
+			case 0x6f5970:  return((char)0xce75); 
+			case 0x6f5971:  return((char)0xce78); 
+			case 0x6f5972:  return((char)0xce7c); 
+			case 0x6f5973:  return((char)0xce84); 
+			case 0x6f5974:  return((char)0xce85); 
+			case 0x6f5975:  return((char)0xce87); 
+			case 0x6f5976:  return((char)0xce89); 
+			case 0x6f5977:  return((char)0xce90); 
+			case 0x6f5978:  return((char)0xce91); 
+			case 0x6f5979:  return((char)0xce94); 
+			case 0x6f597a:  return((char)0xce98); 
+			case 0x6f597b:  return((char)0xcea0); 
+			case 0x6f597c:  return((char)0xcea1); 
+			case 0x6f597d:  return((char)0xcea3); 
+			case 0x6f5a21:  return((char)0xcea5); 
+			case 0x6f5a22:  return((char)0xceac); 
+			case 0x6f5a23:  return((char)0xcead); 
+			case 0x6f5a24:  return((char)0xcee4); 
+			case 0x6f5a26:  return((char)0xcee8); 
+			case 0x6f5a27:  return((char)0xceec); 
+			case 0x6f5a28:  return((char)0xcef4); 
+			case 0x6f5a29:  return((char)0xcef5); 
+			case 0x6f5a2a:  return((char)0xcef7); 
+			case 0x6f5a2c:  return((char)0xcef9); 
+			case 0x6f5a2e:  return((char)0xcf00); 
+			case 0x6f5a2f:  return((char)0xcf01); 
+			case 0x6f5a30:  return((char)0xcf04); 
+			case 0x6f5a31:  return((char)0xcf08); 
+			case 0x6f5a32:  return((char)0xcf10); 
+			case 0x6f5a33:  return((char)0xcf11); 
+			case 0x6f5a34:  return((char)0xcf13); 
+			case 0x6f5a35:  return((char)0xcf15); 
+			case 0x6f5a36:  return((char)0xcf1c); 
+			case 0x6f5a37:  return((char)0xcf20); 
+			case 0x6f5a38:  return((char)0xcf24); 
+			case 0x6f5a39:  return((char)0xcf2c); 
+			case 0x6f5a3a:  return((char)0xcf2d); 
+			case 0x6f5a3b:  return((char)0xcf2f); 
+			case 0x6f5a3c:  return((char)0xcf30); 
+			case 0x6f5a3d:  return((char)0xcf54); 
+			case 0x6f5a3e:  return((char)0xcf55); 
+			case 0x6f5a3f:  return((char)0xcf58); 
+			case 0x6f5a40:  return((char)0xcf5c); 
+			case 0x6f5a41:  return((char)0xcf64); 
+			case 0x6f5a42:  return((char)0xcf65); 
+			case 0x6f5a43:  return((char)0xcf67); 
+			case 0x6f5a44:  return((char)0xcf69); 
+			case 0x6f5a45:  return((char)0xcf70); 
+			case 0x6f5a46:  return((char)0xcf71); 
+			case 0x6f5a47:  return((char)0xcf74); 
+			case 0x6f5a48:  return((char)0xcf78); 
+			case 0x6f5a49:  return((char)0xcf80); 
+			case 0x6f5a4a:  return((char)0xcf85); 
+			case 0x6f5a4b:  return((char)0xcf8c); 
+			case 0x6f5a4c:  return((char)0xcf8d); 
+			case 0x6f5a4d:  return((char)0xcfa1); 
+			case 0x6f5a4f:  return((char)0xcfb0); 
+			case 0x6f5a50:  return((char)0xcfc4); 
+			case 0x6f5a51:  return((char)0xcfe0); 
+			case 0x6f5a52:  return((char)0xcfe1); 
+			case 0x6f5a53:  return((char)0xcfe4); 
+			case 0x6f5a54:  return((char)0xcfe8); 
+			case 0x6f5a55:  return((char)0xcff0); 
+			case 0x6f5a56:  return((char)0xcff3); 
+			case 0x6f5a57:  return((char)0xcff5); 
+			case 0x6f5a58:  return((char)0xcffc); 
+			case 0x6f5a5a:  return((char)0xd018); 
+			case 0x6f5a5b:  return((char)0xd02d); 
+			case 0x6f5a5c:  return((char)0xd034); 
+			case 0x6f5a5d:  return((char)0xd035); 
+			case 0x6f5a5e:  return((char)0xd038); 
+			case 0x6f5a5f:  return((char)0xd050); 
+			case 0x6f5a60:  return((char)0xd06c); 
+			case 0x6f5a61:  return((char)0xd070); 
+			case 0x6f5a62:  return((char)0xd074); 
+			case 0x6f5a63:  return((char)0xd07c); 
+			case 0x6f5a64:  return((char)0xd07d); 
+			case 0x6f5a65:  return((char)0xd081); 
+			case 0x6f5a66:  return((char)0xd0a4); 
+			case 0x6f5a67:  return((char)0xd0a5); 
+			case 0x6f5a68:  return((char)0xd0a8); 
+			case 0x6f5a69:  return((char)0xd0ac); 
+			case 0x6f5a6a:  return((char)0xd0b4); 
+			case 0x6f5a6b:  return((char)0xd0b5); 
+			case 0x6f5a6c:  return((char)0xd0b7); 
+			case 0x6f5a6d:  return((char)0xd0b9); 
+			case 0x6f5a70:  return((char)0xd0c0); 
+			case 0x6f5a71:  return((char)0xd0c1); 
+			case 0x6f5a72:  return((char)0xd0c4); 
+			case 0x6f5a73:  return((char)0xd0c8); 
+			case 0x6f5a74:  return((char)0xd0c9); 
+			case 0x6f5a75:  return((char)0xd0d0); 
+			case 0x6f5a76:  return((char)0xd0d1); 
+			case 0x6f5a77:  return((char)0xd0d3); 
+			case 0x6f5a78:  return((char)0xd0d4); 
+			case 0x6f5a79:  return((char)0xd0d5); 
+			case 0x6f5a7a:  return((char)0xd0dc); 
+			case 0x6f5a7b:  return((char)0xd0dd); 
+			case 0x6f5a7c:  return((char)0xd0e0); 
+			case 0x6f5a7d:  return((char)0xd0e4); 
+			case 0x6f5a7e:  return((char)0xd0ec); 
+			case 0x6f5b21:  return((char)0xd0ed); 
+			case 0x6f5b22:  return((char)0xd0ef); 
+			case 0x6f5b23:  return((char)0xd0f0); 
+			case 0x6f5b24:  return((char)0xd0f1); 
+			case 0x6f5b25:  return((char)0xd130); 
+			case 0x6f5b26:  return((char)0xd131); 
+			case 0x6f5b27:  return((char)0xd134); 
+			case 0x6f5b28:  return((char)0xd138); 
+			case 0x6f5b29:  return((char)0xd140); 
+			case 0x6f5b2a:  return((char)0xd141); 
+			case 0x6f5b2b:  return((char)0xd143); 
+			case 0x6f5b2c:  return((char)0xd144); 
+			case 0x6f5b2d:  return((char)0xd145); 
+			case 0x6f5b2e:  return((char)0xd14c); 
+			case 0x6f5b2f:  return((char)0xd14d); 
+			case 0x6f5b30:  return((char)0xd150); 
+			case 0x6f5b31:  return((char)0xd154); 
+			case 0x6f5b32:  return((char)0xd15c); 
+			case 0x6f5b33:  return((char)0xd15d); 
+			case 0x6f5b34:  return((char)0xd15f); 
+			case 0x6f5b35:  return((char)0xd160); 
+			case 0x6f5b36:  return((char)0xd161); 
+			case 0x6f5b37:  return((char)0xd168); 
+			case 0x6f5b38:  return((char)0xd1a0); 
+			case 0x6f5b39:  return((char)0xd1a1); 
+			case 0x6f5b3a:  return((char)0xd1a4); 
+			case 0x6f5b3b:  return((char)0xd1a8); 
+			case 0x6f5b3c:  return((char)0xd1b0); 
+			case 0x6f5b3d:  return((char)0xd1b1); 
+			case 0x6f5b3e:  return((char)0xd1b3); 
+			case 0x6f5b3f:  return((char)0xd1b5); 
+			case 0x6f5b40:  return((char)0xd1d8); 
+			case 0x6f5b41:  return((char)0xd1f4); 
+			case 0x6f5b43:  return((char)0xd22c); 
+			case 0x6f5b44:  return((char)0xd22d); 
+			case 0x6f5b45:  return((char)0xd230); 
+			case 0x6f5b46:  return((char)0xd234); 
+			case 0x6f5b47:  return((char)0xd23c); 
+			case 0x6f5b48:  return((char)0xd23d); 
+			case 0x6f5b49:  return((char)0xd23f); 
+			case 0x6f5b4a:  return((char)0xd241); 
+			case 0x6f5b4b:  return((char)0xd264); 
+			case 0x6f5b4c:  return((char)0xd277); 
+			case 0x6f5b4d:  return((char)0xd280); 
+			case 0x6f5b4e:  return((char)0xd284); 
+			case 0x6f5b4f:  return((char)0xd288); 
+			case 0x6f5b50:  return((char)0xd290); 
+			case 0x6f5b51:  return((char)0xd291); 
+			case 0x6f5b52:  return((char)0xd293); 
+			case 0x6f5b53:  return((char)0xd295); 
+			case 0x6f5b54:  return((char)0xd29c); 
+			case 0x6f5b57:  return((char)0xd2ac); 
+			case 0x6f5b59:  return((char)0xd2b8); 
+			case 0x6f5b5a:  return((char)0xd2b9); 
+			case 0x6f5b5b:  return((char)0xd2bc); 
+			case 0x6f5b5c:  return((char)0xd2bf); 
+			case 0x6f5b5d:  return((char)0xd2c0); 
+			case 0x6f5b5e:  return((char)0xd2c8); 
+			case 0x6f5b5f:  return((char)0xd2c9); 
+			case 0x6f5b60:  return((char)0xd2cb); 
+			case 0x6f5b61:  return((char)0xd2d4); 
+			case 0x6f5b62:  return((char)0xd1f8); 
+			case 0x6f5b63:  return((char)0xd2f0); 
+			case 0x6f5b64:  return((char)0xd2f1); 
+			case 0x6f5b65:  return((char)0xd2f4); 
+			case 0x6f5b66:  return((char)0xd2f8); 
+			case 0x6f5b67:  return((char)0xd300); 
+			case 0x6f5b68:  return((char)0xd301); 
+			case 0x6f5b69:  return((char)0xd305); 
+			case 0x6f5b6c:  return((char)0xd30c); 
+			case 0x6f5b6d:  return((char)0xd30d); 
+			case 0x6f5b6e:  return((char)0xd30e); 
+			case 0x6f5b6f:  return((char)0xd310); 
+			case 0x6f5b70:  return((char)0xd314); 
+			case 0x6f5b71:  return((char)0xd31c); 
+			case 0x6f5b72:  return((char)0xd31d); 
+			case 0x6f5b73:  return((char)0xd31f); 
+			case 0x6f5b74:  return((char)0xd320); 
+			case 0x6f5b75:  return((char)0xd321); 
+			case 0x6f5b76:  return((char)0xd325); 
+			case 0x6f5b77:  return((char)0xd328); 
+			case 0x6f5b78:  return((char)0xd329); 
+			case 0x6f5b79:  return((char)0xd32c); 
+			case 0x6f5b7a:  return((char)0xd330); 
+			case 0x6f5b7b:  return((char)0xd338); 
+			case 0x6f5b7c:  return((char)0xd339); 
+			case 0x6f5b7d:  return((char)0xd33b); 
+			case 0x6f5b7e:  return((char)0xd33c); 
+			case 0x6f5c21:  return((char)0xd33d); 
+			case 0x6f5c23:  return((char)0xd37c); 
+			case 0x6f5c24:  return((char)0xd37d); 
+			case 0x6f5c25:  return((char)0xd380); 
+			case 0x6f5c26:  return((char)0xd384); 
+			case 0x6f5c27:  return((char)0xd38c); 
+			case 0x6f5c28:  return((char)0xd38d); 
+			case 0x6f5c29:  return((char)0xd38f); 
+			case 0x6f5c2a:  return((char)0xd390); 
+			case 0x6f5c2b:  return((char)0xd391); 
+			case 0x6f5c2c:  return((char)0xd398); 
+			case 0x6f5c2d:  return((char)0xd399); 
+			case 0x6f5c2e:  return((char)0xd39c); 
+			case 0x6f5c2f:  return((char)0xd3a0); 
+			case 0x6f5c30:  return((char)0xd3a8); 
+			case 0x6f5c31:  return((char)0xd3a9); 
+			case 0x6f5c32:  return((char)0xd3ab); 
+			case 0x6f5c33:  return((char)0xd3ad); 
+			case 0x6f5c34:  return((char)0xd3b4); 
+			case 0x6f5c35:  return((char)0xd3b5); 
+			case 0x6f5c36:  return((char)0xd3b8); 
+			case 0x6f5c37:  return((char)0xd3bc); 
+			case 0x6f5c38:  return((char)0xd3c4); 
+			case 0x6f5c39:  return((char)0xd3c5); 
+			case 0x6f5c3a:  return((char)0xd3c8); 
+			case 0x6f5c3b:  return((char)0xd3c9); 
+			case 0x6f5c3c:  return((char)0xd3d0); 
+			case 0x6f5c3d:  return((char)0xd3ec); 
+			case 0x6f5c3e:  return((char)0xd3ed); 
+			case 0x6f5c3f:  return((char)0xd3f0); 
+			case 0x6f5c40:  return((char)0xd3f4); 
+			case 0x6f5c41:  return((char)0xd3fc); 
+			case 0x6f5c42:  return((char)0xd3fd); 
+			case 0x6f5c43:  return((char)0xd3ff); 
+			case 0x6f5c44:  return((char)0xd401); 
+			case 0x6f5c45:  return((char)0xd440); 
+			case 0x6f5c46:  return((char)0xd444); 
+			case 0x6f5c47:  return((char)0xd45c); 
+			case 0x6f5c48:  return((char)0xd46f); 
+			case 0x6f5c49:  return((char)0xd478); 
+			case 0x6f5c4a:  return((char)0xd479); 
+			case 0x6f5c4b:  return((char)0xd47c); 
+			case 0x6f5c4c:  return((char)0xd480); 
+			case 0x6f5c4d:  return((char)0xd488); 
+			case 0x6f5c4e:  return((char)0xd489); 
+			case 0x6f5c4f:  return((char)0xd48b); 
+			case 0x6f5c50:  return((char)0xd48d); 
+			case 0x6f5c51:  return((char)0xd4cc); 
+			case 0x6f5c52:  return((char)0xd4e8); 
+			case 0x6f5c53:  return((char)0xd504); 
+			case 0x6f5c55:  return((char)0xd508); 
+			case 0x6f5c56:  return((char)0xd50c); 
+			case 0x6f5c57:  return((char)0xd514); 
+			case 0x6f5c58:  return((char)0xd515); 
+			case 0x6f5c59:  return((char)0xd53c); 
+			case 0x6f5c5a:  return((char)0xd53d); 
+			case 0x6f5c5b:  return((char)0xd540); 
+			case 0x6f5c5c:  return((char)0xd544); 
+			case 0x6f5c5d:  return((char)0xd54c); 
+			case 0x6f5c5e:  return((char)0xd54d); 
+			case 0x6f5c5f:  return((char)0xd54f); 
+			case 0x6f5c60:  return((char)0xd551); 
+			case 0x6f5c63:  return((char)0xd558); 
+			case 0x6f5c64:  return((char)0xd559); 
+			case 0x6f5c65:  return((char)0xd55c); 
+			case 0x6f5c66:  return((char)0xd560); 
+			case 0x6f5c67:  return((char)0xd565); 
+			case 0x6f5c68:  return((char)0xd568); 
+			case 0x6f5c69:  return((char)0xd569); 
+			case 0x6f5c6a:  return((char)0xd56b); 
+			case 0x6f5c6b:  return((char)0xd56c); 
+			case 0x6f5c6c:  return((char)0xd56d); 
+			case 0x6f5c6d:  return((char)0xd571); 
+			case 0x6f5c6e:  return((char)0xd574); 
+			case 0x6f5c6f:  return((char)0xd575); 
+			case 0x6f5c70:  return((char)0xd578); 
+			case 0x6f5c71:  return((char)0xd57c); 
+			case 0x6f5c72:  return((char)0xd584); 
+			case 0x6f5c73:  return((char)0xd585); 
+			case 0x6f5c74:  return((char)0xd587); 
+			case 0x6f5c75:  return((char)0xd588); 
+			case 0x6f5c76:  return((char)0xd589); 
+			case 0x6f5c77:  return((char)0xd590); 
+			case 0x6f5c78:  return((char)0xd5a5); 
+			case 0x6f5c79:  return((char)0xd5c8); 
+			case 0x6f5c7a:  return((char)0xd5c9); 
+			case 0x6f5c7b:  return((char)0xd5cc); 
+			case 0x6f5c7c:  return((char)0xd5d0); 
+			case 0x6f5c7d:  return((char)0xd5d2); 
+			case 0x6f5c7e:  return((char)0xd5d8); 
+			case 0x6f5d21:  return((char)0xd5d9); 
+			case 0x6f5d22:  return((char)0xd5db); 
+			case 0x6f5d23:  return((char)0xd5dd); 
+			case 0x6f5d24:  return((char)0xd5e4); 
+			case 0x6f5d25:  return((char)0xd5e5); 
+			case 0x6f5d26:  return((char)0xd5e8); 
+			case 0x6f5d27:  return((char)0xd5ec); 
+			case 0x6f5d28:  return((char)0xd5f4); 
+			case 0x6f5d29:  return((char)0xd5f5); 
+			case 0x6f5d2a:  return((char)0xd5f7); 
+			case 0x6f5d2b:  return((char)0xd5f9); 
+			case 0x6f5d2c:  return((char)0xd600); 
+			case 0x6f5d2d:  return((char)0xd601); 
+			case 0x6f5d2e:  return((char)0xd604); 
+			case 0x6f5d2f:  return((char)0xd608); 
+			case 0x6f5d30:  return((char)0xd610); 
+			case 0x6f5d31:  return((char)0xd611); 
+			case 0x6f5d32:  return((char)0xd613); 
+			case 0x6f5d33:  return((char)0xd614); 
+			case 0x6f5d34:  return((char)0xd615); 
+			case 0x6f5d35:  return((char)0xd61c); 
+			case 0x6f5d36:  return((char)0xd638); 
+			case 0x6f5d37:  return((char)0xd639); 
+			case 0x6f5d38:  return((char)0xd63c); 
+			case 0x6f5d39:  return((char)0xd640); 
+			case 0x6f5d3a:  return((char)0xd648); 
+			case 0x6f5d3b:  return((char)0xd649); 
+			case 0x6f5d3c:  return((char)0xd64b); 
+			case 0x6f5d3d:  return((char)0xd64d); 
+			case 0x6f5d3f:  return((char)0xd654); 
+			case 0x6f5d40:  return((char)0xd655); 
+			case 0x6f5d41:  return((char)0xd658); 
+			case 0x6f5d42:  return((char)0xd65c); 
+			case 0x6f5d44:  return((char)0xd667); 
+			case 0x6f5d45:  return((char)0xd669); 
+			case 0x6f5d46:  return((char)0xd670); 
+			case 0x6f5d47:  return((char)0xd671); 
+			case 0x6f5d48:  return((char)0xd683); 
+			case 0x6f5d4a:  return((char)0xd68c); 
+			case 0x6f5d4b:  return((char)0xd68d); 
+			case 0x6f5d4c:  return((char)0xd69f); 
+			case 0x6f5d4d:  return((char)0xd6a1); 
+			case 0x6f5d4e:  return((char)0xd6a8); 
+			case 0x6f5d4f:  return((char)0xd6c4); 
+			case 0x6f5d50:  return((char)0xd6c5); 
+			case 0x6f5d51:  return((char)0xd6c8); 
+			case 0x6f5d52:  return((char)0xd6cc); 
+			case 0x6f5d53:  return((char)0xd6d1); 
+			case 0x6f5d54:  return((char)0xd6d4); 
+			case 0x6f5d55:  return((char)0xd6d7); 
+			case 0x6f5d56:  return((char)0xd6e0); 
+			case 0x6f5d57:  return((char)0xd6e4); 
+			case 0x6f5d58:  return((char)0xd6e8); 
+			case 0x6f5d59:  return((char)0xd6f0); 
+			case 0x6f5d5a:  return((char)0xd6fc); 
+			case 0x6f5d5c:  return((char)0xd700); 
+			case 0x6f5d5d:  return((char)0xd711); 
+			case 0x6f5d5e:  return((char)0xd718); 
+			case 0x6f5d5f:  return((char)0xd719); 
+			case 0x6f5d60:  return((char)0xd71c); 
+			case 0x6f5d61:  return((char)0xd720); 
+			case 0x6f5d62:  return((char)0xd728); 
+			case 0x6f5d63:  return((char)0xd729); 
+			case 0x6f5d65:  return((char)0xd72d); 
+			case 0x6f5d66:  return((char)0xd734); 
+			case 0x6f5d67:  return((char)0xd73c); 
+			case 0x6f5d68:  return((char)0xd744); 
+			case 0x6f5d69:  return((char)0xd749); 
+			case 0x6f5d6a:  return((char)0xd750); 
+			case 0x6f5d6b:  return((char)0xd751); 
+			case 0x6f5d6c:  return((char)0xd754); 
+			case 0x6f5d6d:  return((char)0xd757); 
+			case 0x6f5d6e:  return((char)0xd758); 
+			case 0x6f5d6f:  return((char)0xd759); 
+			case 0x6f5d70:  return((char)0xd760); 
+			case 0x6f5d71:  return((char)0xd761); 
+			case 0x6f5d72:  return((char)0xd763); 
+			case 0x6f5d73:  return((char)0xd765); 
+			case 0x6f5d74:  return((char)0xd769); 
+			case 0x6f5d75:  return((char)0xd76c); 
+			case 0x6f5d76:  return((char)0xd770); 
+			case 0x6f5d77:  return((char)0xd774); 
+			case 0x6f5d78:  return((char)0xd788); 
+			case 0x6f5d79:  return((char)0xd789); 
+			case 0x6f5d7a:  return((char)0xd78c); 
+			case 0x6f5d7b:  return((char)0xd790); 
+			case 0x6f5d7c:  return((char)0xd798); 
+			case 0x6f5d7d:  return((char)0xd799); 
+			case 0x6f5d7e:  return((char)0xd79b); 
+			case 0x6f5e21:  return((char)0xd79d); 
+			case 0x6f7621:  return((char)0x3181); 
+			case 0x6f7622:  return((char)0x3186); 
+			case 0x6f7623:  return((char)0x317f); 
+			case 0x6f7624:  return((char)0xe8b0); 
+			case 0x6f7625:  return((char)0x318d); 
+			case 0x6f7640:  return((char)0xe8b2); 
+			case 0x6f7641:  return((char)0xe8b3); 
+			case 0x6f7642:  return((char)0xe8b4); 
+			case 0x6f7643:  return((char)0xe8b5); 
+			case 0x6f7644:  return((char)0xe8b6); 
+			case 0x6f7645:  return((char)0xe8b7); 
+			case 0x6f7646:  return((char)0xe8b8); 
+			case 0x6f7647:  return((char)0xe8b9); 
+			case 0x6f7648:  return((char)0xe8ba); 
+			case 0x6f7649:  return((char)0xe8bb); 
+			case 0x6f764a:  return((char)0xe8bc); 
+			case 0x6f764b:  return((char)0xe8bd); 
+			case 0x6f764c:  return((char)0xe8be); 
+			case 0x6f764d:  return((char)0xe8bf); 
+			case 0x6f764e:  return((char)0xe8c0); 
+			case 0x6f764f:  return((char)0xe8c1); 
+			case 0x6f7650:  return((char)0xe8c2); 
+			case 0x6f7651:  return((char)0xe8c3); 
+			case 0x6f7652:  return((char)0xe8c4); 
+			case 0x6f7653:  return((char)0xe8c5); 
+			case 0x6f7654:  return((char)0xe8c6); 
+			case 0x6f7655:  return((char)0xe8c7); 
+			case 0x6f7656:  return((char)0xe8c8); 
+			case 0x6f7657:  return((char)0xe8c9); 
+			case 0x6f7721:  return((char)0xad35); 
+			case 0x6f7722:  return((char)0xad7b); 
+			case 0x6f7723:  return((char)0xe8ca); 
+			case 0x6f7724:  return((char)0xad89); 
+			case 0x6f7725:  return((char)0xad9d); 
+			case 0x6f7726:  return((char)0xadb9); 
+			case 0x6f7727:  return((char)0xadd5); 
+			case 0x6f7728:  return((char)0xae07); 
+			case 0x6f7729:  return((char)0xae0e); 
+			case 0x6f772a:  return((char)0xae0f); 
+			case 0x6f772b:  return((char)0xae11); 
+			case 0x6f772c:  return((char)0xae14); 
+			case 0x6f772d:  return((char)0xae5f); 
+			case 0x6f772e:  return((char)0xaeed); 
+			case 0x6f772f:  return((char)0xaf09); 
+			case 0x6f7730:  return((char)0xaf50); 
+			case 0x6f7731:  return((char)0xafbf); 
+			case 0x6f7732:  return((char)0xb060); 
+			case 0x6f7733:  return((char)0xb9c4); 
+			case 0x6f7734:  return((char)0xc54d); 
+			case 0x6f7735:  return((char)0xc54f); 
+			case 0x6f7736:  return((char)0xc552); 
+			case 0x6f7737:  return((char)0xc5ab); 
+			case 0x6f7738:  return((char)0xc5b1); 
+			case 0x6f7739:  return((char)0xc61c); 
+			case 0x6f773a:  return((char)0xc61d); 
+			case 0x6f773b:  return((char)0xc6fd); 
+			case 0x6f773c:  return((char)0xc717); 
+			case 0x6f773d:  return((char)0xc733); 
+			case 0x6f773e:  return((char)0xcb4c); 
+			case 0x704c2a:  return((char)0x915e); 
+			case 0x70586f:  return((char)0x4eeb); 
+			case 0x705b71:  return((char)0x57b4); 
+			case 0x705c43:  return((char)0x82ca); 
+			case 0x705c50:  return((char)0x82c4); 
+			case 0x705d46:  return((char)0x841c); 
+			case 0x705d5c:  return((char)0x8488); 
+			case 0x705f30:  return((char)0x7519); 
+			case 0x705f39:  return((char)0x5416); 
+			case 0x705f50:  return((char)0x549d); 
+			case 0x705f51:  return((char)0x54d0); 
+			case 0x705f54:  return((char)0x54b4); 
+			case 0x705f5b:  return((char)0x54a3); 
+			case 0x705f61:  return((char)0x54da); 
+			case 0x70602d:  return((char)0x55b9); 
+			case 0x70603a:  return((char)0x55ea); 
+			case 0x70604c:  return((char)0x55f5); 
+			case 0x706054:  return((char)0x5623); 
+			case 0x706058:  return((char)0x562d); 
+			case 0x706067:  return((char)0x567b); 
+			case 0x706131:  return((char)0x5c9c); 
+			case 0x70622a:  return((char)0x7339); 
+			case 0x706247:  return((char)0x9987); 
+			case 0x70624e:  return((char)0x9995); 
+			case 0x706340:  return((char)0x61b7); 
+			case 0x706640:  return((char)0x80ec); 
+			case 0x706b42:  return((char)0x80bc); 
+			case 0x706b44:  return((char)0x80bd); 
+			case 0x706b4c:  return((char)0x80e9); 
+			case 0x706b5b:  return((char)0x810e); 
+			case 0x706b5f:  return((char)0x8112); 
+			case 0x706b6a:  return((char)0x8159); 
+			case 0x706c42:  return((char)0x70bb); 
+			case 0x706c43:  return((char)0x70c0); 
+			case 0x706d3b:  return((char)0x7818); 
+			case 0x706d3f:  return((char)0x781c); 
+			case 0x706d45:  return((char)0x783c); 
+			case 0x70727d:  return((char)0x87a8); 
+			case 0x707360:  return((char)0x7b7b); 
+			case 0x70736e:  return((char)0x7ba2); 
+			case 0x707438:  return((char)0x823e); 
+			case 0x707523:  return((char)0x9170); 
+			case 0x70755d:  return((char)0x8e3a); 
+			case 0x70775d:  return((char)0x9b0f); 
+			case 0x707771:  return((char)0x9ee2); 
+			default: return((char)0);
+		}
+	}
+
+	private int getMultiByteChar(int c) {
+		if (c >= 0x210000 && c <= 0x214fff)  return (getMultiByteChar_0x210000_0x214fff(c));
+		if (c >= 0x215000 && c <= 0x21ffff)  return (getMultiByteChar_0x215000_0x21ffff(c));
+		if (c >= 0x220000 && c <= 0x22ffff)  return (getMultiByteChar_0x220000_0x22ffff(c));
+		if (c >= 0x230000 && c <= 0x27ffff)  return (getMultiByteChar_0x230000_0x27ffff(c));
+		if (c >= 0x280000 && c <= 0x7f7fff)  return (getMultiByteChar_0x280000_0x7f7fff(c));
+		return(0);
+	}
+}
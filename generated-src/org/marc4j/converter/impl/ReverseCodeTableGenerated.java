@@ -0,0 +1,16792 @@
+package org.marc4j.converter.impl;
+
+import java.util.Hashtable;
+
+/**
+ * An implementation of ReverseCodeTable that is used in converting Unicode
+ * data to MARC8 data, that doesn't rely on any data files or resources or
+ * data structures
+ *
+ * Warning: This file is generated by running the main routine in the file
+ * ReverseCodeTableHandler.java
+ *
+ * Warning: Do not edit this file, or all edits will be lost at the next
+ * build.
+ */
+
+public class ReverseCodeTableGenerated extends ReverseCodeTable {
+
+	public boolean isCombining(Character c) {
+		switch ((int)c.charValue()) {
+			case 0x300:
+			case 0x301:
+			case 0x302:
+			case 0x303:
+			case 0x304:
+			case 0x306:
+			case 0x307:
+			case 0x308:
+			case 0x309:
+			case 0x30a:
+			case 0x30b:
+			case 0x30c:
+			case 0x310:
+			case 0x313:
+			case 0x314:
+			case 0x315:
+			case 0x31c:
+			case 0x323:
+			case 0x324:
+			case 0x325:
+			case 0x326:
+			case 0x327:
+			case 0x328:
+			case 0x32e:
+			case 0x332:
+			case 0x333:
+			case 0x342:
+			case 0x345:
+			case 0x360:
+			case 0x361:
+			case 0x5b0:
+			case 0x5b1:
+			case 0x5b2:
+			case 0x5b3:
+			case 0x5b4:
+			case 0x5b5:
+			case 0x5b6:
+			case 0x5b7:
+			case 0x5b8:
+			case 0x5b9:
+			case 0x5bb:
+			case 0x5bc:
+			case 0x5bf:
+			case 0x5c1:
+			case 0x64b:
+			case 0x64c:
+			case 0x64d:
+			case 0x64e:
+			case 0x64f:
+			case 0x650:
+			case 0x651:
+			case 0x652:
+			case 0xfb1e:
+			case 0xfe20:
+			case 0xfe21:
+			case 0xfe22:
+			case 0xfe23:
+				return true;
+			default: return false;
+		}
+	}
+
+	public Hashtable<Integer, char[]> getCharTable(Character c) {
+		String resultStr1 = getCharTableCharSet(c);
+		String resultStr2 = getCharTableCharString(c);
+		if (resultStr2 == null)  return(null);
+		Hashtable<Integer, char[]> result = new Hashtable<Integer, char[]>(resultStr1.length());
+		String res2[] = resultStr2.split(" ");
+		for (int i = 0; i < resultStr1.length(); i++) {
+			result.put(new Integer(resultStr1.charAt(i)), deHexify(res2[(res2.length==1) ? 0 : i]));
+		}
+		return(result);
+	}
+
+	private String getCharTableCharSet(Character c)
+	{
+		int cVal = (int)c.charValue();
+		switch(cVal) {
+			case 0x1b: return "B";
+			case 0x1d: return "B";
+			case 0x1e: return "B";
+			case 0x1f: return "B";
+			case 0x20: return "B";
+			case 0x21: return "23BN";
+			case 0x22: return "3BN";
+			case 0x23: return "23BN";
+			case 0x24: return "23BN";
+			case 0x25: return "2BN";
+			case 0x26: return "23BN";
+			case 0x27: return "3BN";
+			case 0x28: return "23BN";
+			case 0x29: return "23BN";
+			case 0x2a: return "2BN";
+			case 0x2b: return "23BN";
+			case 0x2c: return "2BN";
+			case 0x2d: return "3BN";
+			case 0x2e: return "23BN";
+			case 0x2f: return "23BN";
+			case 0x30: return "2BN";
+			case 0x31: return "2BN";
+			case 0x32: return "2BN";
+			case 0x33: return "2BN";
+			case 0x34: return "2BN";
+			case 0x35: return "2BN";
+			case 0x36: return "2BN";
+			case 0x37: return "2BN";
+			case 0x38: return "2BN";
+			case 0x39: return "2BN";
+			case 0x3a: return "23BN";
+			case 0x3b: return "2BN";
+			case 0x3c: return "23BN";
+			case 0x3d: return "23BN";
+			case 0x3e: return "23BN";
+			case 0x3f: return "2BN";
+			case 0x40: return "B";
+			case 0x41: return "B";
+			case 0x42: return "B";
+			case 0x43: return "B";
+			case 0x44: return "B";
+			case 0x45: return "B";
+			case 0x46: return "B";
+			case 0x47: return "B";
+			case 0x48: return "B";
+			case 0x49: return "B";
+			case 0x4a: return "B";
+			case 0x4b: return "B";
+			case 0x4c: return "B";
+			case 0x4d: return "B";
+			case 0x4e: return "B";
+			case 0x4f: return "B";
+			case 0x50: return "B";
+			case 0x51: return "B";
+			case 0x52: return "B";
+			case 0x53: return "B";
+			case 0x54: return "B";
+			case 0x55: return "B";
+			case 0x56: return "B";
+			case 0x57: return "B";
+			case 0x58: return "B";
+			case 0x59: return "B";
+			case 0x5a: return "B";
+			case 0x5b: return "23BQ";
+			case 0x5c: return "B";
+			case 0x5d: return "23BQ";
+			case 0x5e: return "B";
+			case 0x5f: return "BQ";
+			case 0x60: return "B";
+			case 0x61: return "B";
+			case 0x62: return "B";
+			case 0x63: return "B";
+			case 0x64: return "B";
+			case 0x65: return "B";
+			case 0x66: return "B";
+			case 0x67: return "B";
+			case 0x68: return "B";
+			case 0x69: return "B";
+			case 0x6a: return "B";
+			case 0x6b: return "B";
+			case 0x6c: return "B";
+			case 0x6d: return "B";
+			case 0x6e: return "B";
+			case 0x6f: return "B";
+			case 0x70: return "B";
+			case 0x71: return "B";
+			case 0x72: return "B";
+			case 0x73: return "B";
+			case 0x74: return "B";
+			case 0x75: return "B";
+			case 0x76: return "B";
+			case 0x77: return "B";
+			case 0x78: return "B";
+			case 0x79: return "B";
+			case 0x7a: return "B";
+			case 0x7b: return "B";
+			case 0x7c: return "B";
+			case 0x7d: return "B";
+			case 0x7e: return "B";
+			case 0x98: return "E";
+			case 0x9c: return "E";
+			case 0xa1: return "E";
+			case 0xa3: return "E";
+			case 0xa9: return "E";
+			case 0xab: return "S";
+			case 0xae: return "E";
+			case 0xb0: return "E";
+			case 0xb1: return "E";
+			case 0xb2: return "p";
+			case 0xb3: return "p";
+			case 0xb7: return "E";
+			case 0xb9: return "p";
+			case 0xbb: return "S";
+			case 0xbf: return "E";
+			case 0xc6: return "E";
+			case 0xd8: return "E";
+			case 0xde: return "E";
+			case 0xdf: return "E";
+			case 0xe6: return "E";
+			case 0xf0: return "E";
+			case 0xf8: return "E";
+			case 0xfe: return "E";
+			case 0x110: return "E";
+			case 0x111: return "E";
+			case 0x131: return "E";
+			case 0x141: return "E";
+			case 0x142: return "E";
+			case 0x152: return "E";
+			case 0x153: return "E";
+			case 0x1a0: return "E";
+			case 0x1a1: return "E";
+			case 0x1af: return "E";
+			case 0x1b0: return "E";
+			case 0x2b9: return "E";
+			case 0x2ba: return "E";
+			case 0x2bb: return "E";
+			case 0x2bc: return "E";
+			case 0x300: return "ES";
+			case 0x301: return "ES";
+			case 0x302: return "E";
+			case 0x303: return "E";
+			case 0x304: return "E";
+			case 0x306: return "4E";
+			case 0x307: return "E";
+			case 0x308: return "ES";
+			case 0x309: return "E";
+			case 0x30a: return "E";
+			case 0x30b: return "E";
+			case 0x30c: return "4E";
+			case 0x310: return "E";
+			case 0x313: return "ES";
+			case 0x314: return "S";
+			case 0x315: return "E";
+			case 0x31c: return "E";
+			case 0x323: return "E";
+			case 0x324: return "E";
+			case 0x325: return "E";
+			case 0x326: return "E";
+			case 0x327: return "E";
+			case 0x328: return "E";
+			case 0x32e: return "E";
+			case 0x332: return "E";
+			case 0x333: return "E";
+			case 0x342: return "S";
+			case 0x345: return "S";
+			case 0x360: return "E";
+			case 0x361: return "E";
+			case 0x374: return "S";
+			case 0x375: return "S";
+			case 0x37e: return "S";
+			case 0x387: return "S";
+			case 0x391: return "S";
+			case 0x392: return "S";
+			case 0x393: return "S";
+			case 0x394: return "S";
+			case 0x395: return "S";
+			case 0x396: return "S";
+			case 0x397: return "S";
+			case 0x398: return "S";
+			case 0x399: return "S";
+			case 0x39a: return "S";
+			case 0x39b: return "S";
+			case 0x39c: return "S";
+			case 0x39d: return "S";
+			case 0x39e: return "S";
+			case 0x39f: return "S";
+			case 0x3a0: return "S";
+			case 0x3a1: return "S";
+			case 0x3a3: return "S";
+			case 0x3a4: return "S";
+			case 0x3a5: return "S";
+			case 0x3a6: return "S";
+			case 0x3a7: return "S";
+			case 0x3a8: return "S";
+			case 0x3a9: return "S";
+			case 0x3b1: return "Sg";
+			case 0x3b2: return "Sg";
+			case 0x3b3: return "Sg";
+			case 0x3b4: return "S";
+			case 0x3b5: return "S";
+			case 0x3b6: return "S";
+			case 0x3b7: return "S";
+			case 0x3b8: return "S";
+			case 0x3b9: return "S";
+			case 0x3ba: return "S";
+			case 0x3bb: return "S";
+			case 0x3bc: return "S";
+			case 0x3bd: return "S";
+			case 0x3be: return "S";
+			case 0x3bf: return "S";
+			case 0x3c0: return "S";
+			case 0x3c1: return "S";
+			case 0x3c2: return "S";
+			case 0x3c3: return "S";
+			case 0x3c4: return "S";
+			case 0x3c5: return "S";
+			case 0x3c6: return "S";
+			case 0x3c7: return "S";
+			case 0x3c8: return "S";
+			case 0x3c9: return "S";
+			case 0x3d0: return "S";
+			case 0x3da: return "S";
+			case 0x3db: return "S";
+			case 0x3dc: return "S";
+			case 0x3dd: return "S";
+			case 0x3de: return "S";
+			case 0x3df: return "S";
+			case 0x3e0: return "S";
+			case 0x3e1: return "S";
+			case 0x401: return "Q";
+			case 0x402: return "Q";
+			case 0x403: return "Q";
+			case 0x404: return "Q";
+			case 0x405: return "Q";
+			case 0x406: return "Q";
+			case 0x407: return "Q";
+			case 0x408: return "Q";
+			case 0x409: return "Q";
+			case 0x40a: return "Q";
+			case 0x40b: return "Q";
+			case 0x40c: return "Q";
+			case 0x40e: return "Q";
+			case 0x40f: return "Q";
+			case 0x410: return "N";
+			case 0x411: return "N";
+			case 0x412: return "N";
+			case 0x413: return "N";
+			case 0x414: return "N";
+			case 0x415: return "N";
+			case 0x416: return "N";
+			case 0x417: return "N";
+			case 0x418: return "N";
+			case 0x419: return "N";
+			case 0x41a: return "N";
+			case 0x41b: return "N";
+			case 0x41c: return "N";
+			case 0x41d: return "N";
+			case 0x41e: return "N";
+			case 0x41f: return "N";
+			case 0x420: return "N";
+			case 0x421: return "N";
+			case 0x422: return "N";
+			case 0x423: return "N";
+			case 0x424: return "N";
+			case 0x425: return "N";
+			case 0x426: return "N";
+			case 0x427: return "N";
+			case 0x428: return "N";
+			case 0x429: return "N";
+			case 0x42a: return "Q";
+			case 0x42b: return "N";
+			case 0x42c: return "N";
+			case 0x42d: return "N";
+			case 0x42e: return "N";
+			case 0x42f: return "N";
+			case 0x430: return "N";
+			case 0x431: return "N";
+			case 0x432: return "N";
+			case 0x433: return "N";
+			case 0x434: return "N";
+			case 0x435: return "N";
+			case 0x436: return "N";
+			case 0x437: return "N";
+			case 0x438: return "N";
+			case 0x439: return "N";
+			case 0x43a: return "N";
+			case 0x43b: return "N";
+			case 0x43c: return "N";
+			case 0x43d: return "N";
+			case 0x43e: return "N";
+			case 0x43f: return "N";
+			case 0x440: return "N";
+			case 0x441: return "N";
+			case 0x442: return "N";
+			case 0x443: return "N";
+			case 0x444: return "N";
+			case 0x445: return "N";
+			case 0x446: return "N";
+			case 0x447: return "N";
+			case 0x448: return "N";
+			case 0x449: return "N";
+			case 0x44a: return "N";
+			case 0x44b: return "N";
+			case 0x44c: return "N";
+			case 0x44d: return "N";
+			case 0x44e: return "N";
+			case 0x44f: return "N";
+			case 0x451: return "Q";
+			case 0x452: return "Q";
+			case 0x453: return "Q";
+			case 0x454: return "Q";
+			case 0x455: return "Q";
+			case 0x456: return "Q";
+			case 0x457: return "Q";
+			case 0x458: return "Q";
+			case 0x459: return "Q";
+			case 0x45a: return "Q";
+			case 0x45b: return "Q";
+			case 0x45c: return "Q";
+			case 0x45e: return "Q";
+			case 0x45f: return "Q";
+			case 0x462: return "Q";
+			case 0x463: return "Q";
+			case 0x46a: return "Q";
+			case 0x46b: return "Q";
+			case 0x472: return "Q";
+			case 0x473: return "Q";
+			case 0x474: return "Q";
+			case 0x475: return "Q";
+			case 0x490: return "Q";
+			case 0x491: return "Q";
+			case 0x5b0: return "2";
+			case 0x5b1: return "2";
+			case 0x5b2: return "2";
+			case 0x5b3: return "2";
+			case 0x5b4: return "2";
+			case 0x5b5: return "2";
+			case 0x5b6: return "2";
+			case 0x5b7: return "2";
+			case 0x5b8: return "2";
+			case 0x5b9: return "2";
+			case 0x5bb: return "2";
+			case 0x5bc: return "2";
+			case 0x5be: return "2";
+			case 0x5bf: return "2";
+			case 0x5c1: return "2";
+			case 0x5d0: return "2";
+			case 0x5d1: return "2";
+			case 0x5d2: return "2";
+			case 0x5d3: return "2";
+			case 0x5d4: return "2";
+			case 0x5d5: return "2";
+			case 0x5d6: return "2";
+			case 0x5d7: return "2";
+			case 0x5d8: return "2";
+			case 0x5d9: return "2";
+			case 0x5da: return "2";
+			case 0x5db: return "2";
+			case 0x5dc: return "2";
+			case 0x5dd: return "2";
+			case 0x5de: return "2";
+			case 0x5df: return "2";
+			case 0x5e0: return "2";
+			case 0x5e1: return "2";
+			case 0x5e2: return "2";
+			case 0x5e3: return "2";
+			case 0x5e4: return "2";
+			case 0x5e5: return "2";
+			case 0x5e6: return "2";
+			case 0x5e7: return "2";
+			case 0x5e8: return "2";
+			case 0x5e9: return "2";
+			case 0x5ea: return "2";
+			case 0x5f0: return "2";
+			case 0x5f1: return "2";
+			case 0x5f2: return "2";
+			case 0x5f3: return "2";
+			case 0x5f4: return "2";
+			case 0x60c: return "3";
+			case 0x61b: return "3";
+			case 0x61f: return "3";
+			case 0x621: return "3";
+			case 0x622: return "3";
+			case 0x623: return "3";
+			case 0x624: return "3";
+			case 0x625: return "3";
+			case 0x626: return "3";
+			case 0x627: return "3";
+			case 0x628: return "3";
+			case 0x629: return "3";
+			case 0x62a: return "3";
+			case 0x62b: return "3";
+			case 0x62c: return "3";
+			case 0x62d: return "3";
+			case 0x62e: return "3";
+			case 0x62f: return "3";
+			case 0x630: return "3";
+			case 0x631: return "3";
+			case 0x632: return "3";
+			case 0x633: return "3";
+			case 0x634: return "3";
+			case 0x635: return "3";
+			case 0x636: return "3";
+			case 0x637: return "3";
+			case 0x638: return "3";
+			case 0x639: return "3";
+			case 0x63a: return "3";
+			case 0x640: return "3";
+			case 0x641: return "3";
+			case 0x642: return "3";
+			case 0x643: return "3";
+			case 0x644: return "3";
+			case 0x645: return "3";
+			case 0x646: return "3";
+			case 0x647: return "3";
+			case 0x648: return "3";
+			case 0x649: return "3";
+			case 0x64a: return "3";
+			case 0x64b: return "3";
+			case 0x64c: return "3";
+			case 0x64d: return "3";
+			case 0x64e: return "3";
+			case 0x64f: return "3";
+			case 0x650: return "3";
+			case 0x651: return "3";
+			case 0x652: return "3";
+			case 0x660: return "3";
+			case 0x661: return "3";
+			case 0x662: return "3";
+			case 0x663: return "3";
+			case 0x664: return "3";
+			case 0x665: return "3";
+			case 0x666: return "3";
+			case 0x667: return "3";
+			case 0x668: return "3";
+			case 0x669: return "3";
+			case 0x66a: return "3";
+			case 0x66c: return "3";
+			case 0x66d: return "3";
+			case 0x670: return "3";
+			case 0x671: return "3";
+			case 0x672: return "4";
+			case 0x673: return "4";
+			case 0x679: return "4";
+			case 0x67a: return "4";
+			case 0x67b: return "4";
+			case 0x67c: return "4";
+			case 0x67d: return "4";
+			case 0x67e: return "4";
+			case 0x67f: return "4";
+			case 0x680: return "4";
+			case 0x681: return "4";
+			case 0x682: return "4";
+			case 0x683: return "4";
+			case 0x684: return "4";
+			case 0x685: return "4";
+			case 0x686: return "4";
+			case 0x687: return "4";
+			case 0x688: return "4";
+			case 0x689: return "4";
+			case 0x68a: return "4";
+			case 0x68b: return "4";
+			case 0x68c: return "4";
+			case 0x68d: return "4";
+			case 0x68e: return "4";
+			case 0x68f: return "4";
+			case 0x690: return "4";
+			case 0x691: return "4";
+			case 0x692: return "4";
+			case 0x693: return "4";
+			case 0x694: return "4";
+			case 0x695: return "4";
+			case 0x696: return "4";
+			case 0x697: return "4";
+			case 0x698: return "4";
+			case 0x699: return "4";
+			case 0x69a: return "4";
+			case 0x69b: return "4";
+			case 0x69c: return "4";
+			case 0x69d: return "4";
+			case 0x69e: return "4";
+			case 0x69f: return "4";
+			case 0x6a0: return "4";
+			case 0x6a1: return "4";
+			case 0x6a2: return "4";
+			case 0x6a3: return "4";
+			case 0x6a4: return "4";
+			case 0x6a5: return "4";
+			case 0x6a6: return "4";
+			case 0x6a7: return "4";
+			case 0x6a8: return "4";
+			case 0x6a9: return "4";
+			case 0x6aa: return "4";
+			case 0x6ab: return "4";
+			case 0x6ac: return "4";
+			case 0x6ad: return "4";
+			case 0x6ae: return "4";
+			case 0x6af: return "4";
+			case 0x6b0: return "4";
+			case 0x6b1: return "4";
+			case 0x6b2: return "4";
+			case 0x6b3: return "4";
+			case 0x6b4: return "4";
+			case 0x6b5: return "4";
+			case 0x6b6: return "4";
+			case 0x6b7: return "4";
+			case 0x6b8: return "4";
+			case 0x6b9: return "4";
+			case 0x6ba: return "4";
+			case 0x6bb: return "4";
+			case 0x6bc: return "4";
+			case 0x6bd: return "4";
+			case 0x6be: return "4";
+			case 0x6bf: return "4";
+			case 0x6c0: return "4";
+			case 0x6c4: return "4";
+			case 0x6c5: return "4";
+			case 0x6c6: return "4";
+			case 0x6ca: return "4";
+			case 0x6cb: return "4";
+			case 0x6cd: return "4";
+			case 0x6ce: return "4";
+			case 0x6d0: return "4";
+			case 0x6d2: return "4";
+			case 0x6d3: return "4";
+			case 0x6fa: return "4";
+			case 0x6fb: return "4";
+			case 0x6fc: return "4";
+			case 0x6fd: return "4";
+			case 0x200c: return "E";
+			case 0x200d: return "E";
+			case 0x201c: return "3S";
+			case 0x201d: return "3S";
+			case 0x2070: return "p";
+			case 0x2074: return "p";
+			case 0x2075: return "p";
+			case 0x2076: return "p";
+			case 0x2077: return "p";
+			case 0x2078: return "p";
+			case 0x2079: return "p";
+			case 0x207a: return "p";
+			case 0x207b: return "p";
+			case 0x207d: return "p";
+			case 0x207e: return "p";
+			case 0x2080: return "b";
+			case 0x2081: return "b";
+			case 0x2082: return "b";
+			case 0x2083: return "b";
+			case 0x2084: return "b";
+			case 0x2085: return "b";
+			case 0x2086: return "b";
+			case 0x2087: return "b";
+			case 0x2088: return "b";
+			case 0x2089: return "b";
+			case 0x208a: return "b";
+			case 0x208b: return "b";
+			case 0x208d: return "b";
+			case 0x208e: return "b";
+			case 0x20ac: return "E";
+			case 0x2113: return "E";
+			case 0x2117: return "E";
+			case 0x266d: return "E";
+			case 0x266f: return "E";
+			case 0xfb1e: return "2";
+			case 0xfe20: return "E";
+			case 0xfe21: return "E";
+			case 0xfe22: return "E";
+			case 0xfe23: return "E";
+		}
+		return "1";
+	}
+	private String getCharTableCharString_0x1b_0x5e5f(Character c) {
+		switch((int)c.charValue()) {
+			case 0x1b: return "1b";
+			case 0x1d: return "1d";
+			case 0x1e: return "1e";
+			case 0x1f: return "1f";
+			case 0x20: return "20";
+			case 0x21: return "21";
+			case 0x22: return "22";
+			case 0x23: return "23";
+			case 0x24: return "24";
+			case 0x25: return "25";
+			case 0x26: return "26";
+			case 0x27: return "27";
+			case 0x28: return "28";
+			case 0x29: return "29";
+			case 0x2a: return "2a";
+			case 0x2b: return "2b";
+			case 0x2c: return "2c";
+			case 0x2d: return "2d";
+			case 0x2e: return "2e";
+			case 0x2f: return "2f";
+			case 0x30: return "30";
+			case 0x31: return "31";
+			case 0x32: return "32";
+			case 0x33: return "33";
+			case 0x34: return "34";
+			case 0x35: return "35";
+			case 0x36: return "36";
+			case 0x37: return "37";
+			case 0x38: return "38";
+			case 0x39: return "39";
+			case 0x3a: return "3a";
+			case 0x3b: return "3b";
+			case 0x3c: return "3c";
+			case 0x3d: return "3d";
+			case 0x3e: return "3e";
+			case 0x3f: return "3f";
+			case 0x40: return "40";
+			case 0x41: return "41";
+			case 0x42: return "42";
+			case 0x43: return "43";
+			case 0x44: return "44";
+			case 0x45: return "45";
+			case 0x46: return "46";
+			case 0x47: return "47";
+			case 0x48: return "48";
+			case 0x49: return "49";
+			case 0x4a: return "4a";
+			case 0x4b: return "4b";
+			case 0x4c: return "4c";
+			case 0x4d: return "4d";
+			case 0x4e: return "4e";
+			case 0x4f: return "4f";
+			case 0x50: return "50";
+			case 0x51: return "51";
+			case 0x52: return "52";
+			case 0x53: return "53";
+			case 0x54: return "54";
+			case 0x55: return "55";
+			case 0x56: return "56";
+			case 0x57: return "57";
+			case 0x58: return "58";
+			case 0x59: return "59";
+			case 0x5a: return "5a";
+			case 0x5b: return "5b 5b 5b db";
+			case 0x5c: return "5c";
+			case 0x5d: return "5d 5d 5d dd";
+			case 0x5e: return "5e";
+			case 0x5f: return "5f df";
+			case 0x60: return "60";
+			case 0x61: return "61";
+			case 0x62: return "62";
+			case 0x63: return "63";
+			case 0x64: return "64";
+			case 0x65: return "65";
+			case 0x66: return "66";
+			case 0x67: return "67";
+			case 0x68: return "68";
+			case 0x69: return "69";
+			case 0x6a: return "6a";
+			case 0x6b: return "6b";
+			case 0x6c: return "6c";
+			case 0x6d: return "6d";
+			case 0x6e: return "6e";
+			case 0x6f: return "6f";
+			case 0x70: return "70";
+			case 0x71: return "71";
+			case 0x72: return "72";
+			case 0x73: return "73";
+			case 0x74: return "74";
+			case 0x75: return "75";
+			case 0x76: return "76";
+			case 0x77: return "77";
+			case 0x78: return "78";
+			case 0x79: return "79";
+			case 0x7a: return "7a";
+			case 0x7b: return "7b";
+			case 0x7c: return "7c";
+			case 0x7d: return "7d";
+			case 0x7e: return "7e";
+			case 0x98: return "88";
+			case 0x9c: return "89";
+			case 0xa1: return "c6";
+			case 0xa3: return "b9";
+			case 0xa9: return "c3";
+			case 0xab: return "30";
+			case 0xae: return "aa";
+			case 0xb0: return "c0";
+			case 0xb1: return "ab";
+			case 0xb2: return "32";
+			case 0xb3: return "33";
+			case 0xb7: return "a8";
+			case 0xb9: return "31";
+			case 0xbb: return "31";
+			case 0xbf: return "c5";
+			case 0xc6: return "a5";
+			case 0xd8: return "a2";
+			case 0xde: return "a4";
+			case 0xdf: return "c7";
+			case 0xe6: return "b5";
+			case 0xf0: return "ba";
+			case 0xf8: return "b2";
+			case 0xfe: return "b4";
+			case 0x110: return "a3";
+			case 0x111: return "b3";
+			case 0x131: return "b8";
+			case 0x141: return "a1";
+			case 0x142: return "b1";
+			case 0x152: return "a6";
+			case 0x153: return "b6";
+			case 0x1a0: return "ac";
+			case 0x1a1: return "bc";
+			case 0x1af: return "ad";
+			case 0x1b0: return "bd";
+			case 0x2b9: return "a7";
+			case 0x2ba: return "b7";
+			case 0x2bb: return "b0";
+			case 0x2bc: return "ae";
+			case 0x300: return "e1 21";
+			case 0x301: return "e2 22";
+			case 0x302: return "e3";
+			case 0x303: return "e4";
+			case 0x304: return "e5";
+			case 0x306: return "fd e6";
+			case 0x307: return "e7";
+			case 0x308: return "e8 23";
+			case 0x309: return "e0";
+			case 0x30a: return "ea";
+			case 0x30b: return "ee";
+			case 0x30c: return "fe e9";
+			case 0x310: return "ef";
+			case 0x313: return "fe 25";
+			case 0x314: return "26";
+			case 0x315: return "ed";
+			case 0x31c: return "f8";
+			case 0x323: return "f2";
+			case 0x324: return "f3";
+			case 0x325: return "f4";
+			case 0x326: return "f7";
+			case 0x327: return "f0";
+			case 0x328: return "f1";
+			case 0x32e: return "f9";
+			case 0x332: return "f6";
+			case 0x333: return "f5";
+			case 0x342: return "24";
+			case 0x345: return "27";
+			case 0x360: return "fa";
+			case 0x361: return "eb";
+			case 0x374: return "34";
+			case 0x375: return "35";
+			case 0x37e: return "3f";
+			case 0x387: return "3b";
+			case 0x391: return "41";
+			case 0x392: return "42";
+			case 0x393: return "44";
+			case 0x394: return "45";
+			case 0x395: return "46";
+			case 0x396: return "49";
+			case 0x397: return "4a";
+			case 0x398: return "4b";
+			case 0x399: return "4c";
+			case 0x39a: return "4d";
+			case 0x39b: return "4e";
+			case 0x39c: return "4f";
+			case 0x39d: return "50";
+			case 0x39e: return "51";
+			case 0x39f: return "52";
+			case 0x3a0: return "53";
+			case 0x3a1: return "55";
+			case 0x3a3: return "56";
+			case 0x3a4: return "58";
+			case 0x3a5: return "59";
+			case 0x3a6: return "5a";
+			case 0x3a7: return "5b";
+			case 0x3a8: return "5c";
+			case 0x3a9: return "5d";
+			case 0x3b1: return "61";
+			case 0x3b2: return "62";
+			case 0x3b3: return "64 63";
+			case 0x3b4: return "65";
+			case 0x3b5: return "66";
+			case 0x3b6: return "69";
+			case 0x3b7: return "6a";
+			case 0x3b8: return "6b";
+			case 0x3b9: return "6c";
+			case 0x3ba: return "6d";
+			case 0x3bb: return "6e";
+			case 0x3bc: return "6f";
+			case 0x3bd: return "70";
+			case 0x3be: return "71";
+			case 0x3bf: return "72";
+			case 0x3c0: return "73";
+			case 0x3c1: return "75";
+			case 0x3c2: return "77";
+			case 0x3c3: return "76";
+			case 0x3c4: return "78";
+			case 0x3c5: return "79";
+			case 0x3c6: return "7a";
+			case 0x3c7: return "7b";
+			case 0x3c8: return "7c";
+			case 0x3c9: return "7d";
+			case 0x3d0: return "63";
+			case 0x3da: return "47";
+			case 0x3db: return "67";
+			case 0x3dc: return "48";
+			case 0x3dd: return "68";
+			case 0x3de: return "54";
+			case 0x3df: return "74";
+			case 0x3e0: return "5e";
+			case 0x3e1: return "7e";
+			case 0x401: return "e4";
+			case 0x402: return "e1";
+			case 0x403: return "e2";
+			case 0x404: return "e3";
+			case 0x405: return "e5";
+			case 0x406: return "e6";
+			case 0x407: return "e7";
+			case 0x408: return "e8";
+			case 0x409: return "e9";
+			case 0x40a: return "ea";
+			case 0x40b: return "eb";
+			case 0x40c: return "ec";
+			case 0x40e: return "ed";
+			case 0x40f: return "ee";
+			case 0x410: return "61";
+			case 0x411: return "62";
+			case 0x412: return "77";
+			case 0x413: return "67";
+			case 0x414: return "64";
+			case 0x415: return "65";
+			case 0x416: return "76";
+			case 0x417: return "7a";
+			case 0x418: return "69";
+			case 0x419: return "6a";
+			case 0x41a: return "6b";
+			case 0x41b: return "6c";
+			case 0x41c: return "6d";
+			case 0x41d: return "6e";
+			case 0x41e: return "6f";
+			case 0x41f: return "70";
+			case 0x420: return "72";
+			case 0x421: return "73";
+			case 0x422: return "74";
+			case 0x423: return "75";
+			case 0x424: return "66";
+			case 0x425: return "68";
+			case 0x426: return "63";
+			case 0x427: return "7e";
+			case 0x428: return "7b";
+			case 0x429: return "7d";
+			case 0x42a: return "ef";
+			case 0x42b: return "79";
+			case 0x42c: return "78";
+			case 0x42d: return "7c";
+			case 0x42e: return "60";
+			case 0x42f: return "71";
+			case 0x430: return "41";
+			case 0x431: return "42";
+			case 0x432: return "57";
+			case 0x433: return "47";
+			case 0x434: return "44";
+			case 0x435: return "45";
+			case 0x436: return "56";
+			case 0x437: return "5a";
+			case 0x438: return "49";
+			case 0x439: return "4a";
+			case 0x43a: return "4b";
+			case 0x43b: return "4c";
+			case 0x43c: return "4d";
+			case 0x43d: return "4e";
+			case 0x43e: return "4f";
+			case 0x43f: return "50";
+			case 0x440: return "52";
+			case 0x441: return "53";
+			case 0x442: return "54";
+			case 0x443: return "55";
+			case 0x444: return "46";
+			case 0x445: return "48";
+			case 0x446: return "43";
+			case 0x447: return "5e";
+			case 0x448: return "5b";
+			case 0x449: return "5d";
+			case 0x44a: return "5f";
+			case 0x44b: return "59";
+			case 0x44c: return "58";
+			case 0x44d: return "5c";
+			case 0x44e: return "40";
+			case 0x44f: return "51";
+			case 0x451: return "c4";
+			case 0x452: return "c1";
+			case 0x453: return "c2";
+			case 0x454: return "c3";
+			case 0x455: return "c5";
+			case 0x456: return "c6";
+			case 0x457: return "c7";
+			case 0x458: return "c8";
+			case 0x459: return "c9";
+			case 0x45a: return "ca";
+			case 0x45b: return "cb";
+			case 0x45c: return "cc";
+			case 0x45e: return "cd";
+			case 0x45f: return "ce";
+			case 0x462: return "f0";
+			case 0x463: return "d0";
+			case 0x46a: return "f3";
+			case 0x46b: return "d3";
+			case 0x472: return "f1";
+			case 0x473: return "d1";
+			case 0x474: return "f2";
+			case 0x475: return "d2";
+			case 0x490: return "e0";
+			case 0x491: return "c0";
+			case 0x5b0: return "47";
+			case 0x5b1: return "4a";
+			case 0x5b2: return "48";
+			case 0x5b3: return "49";
+			case 0x5b4: return "44";
+			case 0x5b5: return "43";
+			case 0x5b6: return "42";
+			case 0x5b7: return "40";
+			case 0x5b8: return "41";
+			case 0x5b9: return "45";
+			case 0x5bb: return "46";
+			case 0x5bc: return "4b";
+			case 0x5be: return "2d";
+			case 0x5bf: return "4c";
+			case 0x5c1: return "4d";
+			case 0x5d0: return "60";
+			case 0x5d1: return "61";
+			case 0x5d2: return "62";
+			case 0x5d3: return "63";
+			case 0x5d4: return "64";
+			case 0x5d5: return "65";
+			case 0x5d6: return "66";
+			case 0x5d7: return "67";
+			case 0x5d8: return "68";
+			case 0x5d9: return "69";
+			case 0x5da: return "6a";
+			case 0x5db: return "6b";
+			case 0x5dc: return "6c";
+			case 0x5dd: return "6d";
+			case 0x5de: return "6e";
+			case 0x5df: return "6f";
+			case 0x5e0: return "70";
+			case 0x5e1: return "71";
+			case 0x5e2: return "72";
+			case 0x5e3: return "73";
+			case 0x5e4: return "74";
+			case 0x5e5: return "75";
+			case 0x5e6: return "76";
+			case 0x5e7: return "77";
+			case 0x5e8: return "78";
+			case 0x5e9: return "79";
+			case 0x5ea: return "7a";
+			case 0x5f0: return "7b";
+			case 0x5f1: return "7c";
+			case 0x5f2: return "7d";
+			case 0x5f3: return "27";
+			case 0x5f4: return "22";
+			case 0x60c: return "2c";
+			case 0x61b: return "3b";
+			case 0x61f: return "3f";
+			case 0x621: return "41";
+			case 0x622: return "42";
+			case 0x623: return "43";
+			case 0x624: return "44";
+			case 0x625: return "45";
+			case 0x626: return "46";
+			case 0x627: return "47";
+			case 0x628: return "48";
+			case 0x629: return "49";
+			case 0x62a: return "4a";
+			case 0x62b: return "4b";
+			case 0x62c: return "4c";
+			case 0x62d: return "4d";
+			case 0x62e: return "4e";
+			case 0x62f: return "4f";
+			case 0x630: return "50";
+			case 0x631: return "51";
+			case 0x632: return "52";
+			case 0x633: return "53";
+			case 0x634: return "54";
+			case 0x635: return "55";
+			case 0x636: return "56";
+			case 0x637: return "57";
+			case 0x638: return "58";
+			case 0x639: return "59";
+			case 0x63a: return "5a";
+			case 0x640: return "60";
+			case 0x641: return "61";
+			case 0x642: return "62";
+			case 0x643: return "63";
+			case 0x644: return "64";
+			case 0x645: return "65";
+			case 0x646: return "66";
+			case 0x647: return "67";
+			case 0x648: return "68";
+			case 0x649: return "69";
+			case 0x64a: return "6a";
+			case 0x64b: return "6b";
+			case 0x64c: return "6c";
+			case 0x64d: return "6d";
+			case 0x64e: return "6e";
+			case 0x64f: return "6f";
+			case 0x650: return "70";
+			case 0x651: return "71";
+			case 0x652: return "72";
+			case 0x660: return "30";
+			case 0x661: return "31";
+			case 0x662: return "32";
+			case 0x663: return "33";
+			case 0x664: return "34";
+			case 0x665: return "35";
+			case 0x666: return "36";
+			case 0x667: return "37";
+			case 0x668: return "38";
+			case 0x669: return "39";
+			case 0x66a: return "25";
+			case 0x66c: return "78";
+			case 0x66d: return "2a";
+			case 0x670: return "74";
+			case 0x671: return "73";
+			case 0x672: return "a2";
+			case 0x673: return "a3";
+			case 0x679: return "a4";
+			case 0x67a: return "a5";
+			case 0x67b: return "a6";
+			case 0x67c: return "a7";
+			case 0x67d: return "a8";
+			case 0x67e: return "a9";
+			case 0x67f: return "aa";
+			case 0x680: return "ab";
+			case 0x681: return "ac";
+			case 0x682: return "ad";
+			case 0x683: return "ae";
+			case 0x684: return "af";
+			case 0x685: return "b0";
+			case 0x686: return "b1";
+			case 0x687: return "b3";
+			case 0x688: return "b4";
+			case 0x689: return "b5";
+			case 0x68a: return "b6";
+			case 0x68b: return "b7";
+			case 0x68c: return "b8";
+			case 0x68d: return "b9";
+			case 0x68e: return "ba";
+			case 0x68f: return "bb";
+			case 0x690: return "bc";
+			case 0x691: return "bd";
+			case 0x692: return "be";
+			case 0x693: return "bf";
+			case 0x694: return "c0";
+			case 0x695: return "c1";
+			case 0x696: return "c2";
+			case 0x697: return "c3";
+			case 0x698: return "c4";
+			case 0x699: return "c5";
+			case 0x69a: return "c6";
+			case 0x69b: return "c7";
+			case 0x69c: return "c8";
+			case 0x69d: return "ca";
+			case 0x69e: return "cb";
+			case 0x69f: return "cd";
+			case 0x6a0: return "ce";
+			case 0x6a1: return "d0";
+			case 0x6a2: return "d1";
+			case 0x6a3: return "d2";
+			case 0x6a4: return "d3";
+			case 0x6a5: return "d4";
+			case 0x6a6: return "d5";
+			case 0x6a7: return "d6";
+			case 0x6a8: return "d7";
+			case 0x6a9: return "d8";
+			case 0x6aa: return "d9";
+			case 0x6ab: return "da";
+			case 0x6ac: return "db";
+			case 0x6ad: return "dc";
+			case 0x6ae: return "dd";
+			case 0x6af: return "de";
+			case 0x6b0: return "df";
+			case 0x6b1: return "e0";
+			case 0x6b2: return "e1";
+			case 0x6b3: return "e2";
+			case 0x6b4: return "e3";
+			case 0x6b5: return "e4";
+			case 0x6b6: return "e5";
+			case 0x6b7: return "e6";
+			case 0x6b8: return "e7";
+			case 0x6b9: return "ec";
+			case 0x6ba: return "e8";
+			case 0x6bb: return "e9";
+			case 0x6bc: return "ea";
+			case 0x6bd: return "eb";
+			case 0x6be: return "ed";
+			case 0x6bf: return "b2";
+			case 0x6c0: return "ee";
+			case 0x6c4: return "ef";
+			case 0x6c5: return "f0";
+			case 0x6c6: return "f1";
+			case 0x6ca: return "f2";
+			case 0x6cb: return "f3";
+			case 0x6cd: return "f4";
+			case 0x6ce: return "f5";
+			case 0x6d0: return "f6";
+			case 0x6d2: return "f7";
+			case 0x6d3: return "f8";
+			case 0x6fa: return "c9";
+			case 0x6fb: return "cc";
+			case 0x6fc: return "cf";
+			case 0x6fd: return "a1";
+			case 0x12c4: return "217559";
+			case 0x200c: return "8e";
+			case 0x200d: return "8d";
+			case 0x201c: return "7a 32";
+			case 0x201d: return "79 33";
+			case 0x2070: return "30";
+			case 0x2074: return "34";
+			case 0x2075: return "35";
+			case 0x2076: return "36";
+			case 0x2077: return "37";
+			case 0x2078: return "38";
+			case 0x2079: return "39";
+			case 0x207a: return "2b";
+			case 0x207b: return "2d";
+			case 0x207d: return "28";
+			case 0x207e: return "29";
+			case 0x2080: return "30";
+			case 0x2081: return "31";
+			case 0x2082: return "32";
+			case 0x2083: return "33";
+			case 0x2084: return "34";
+			case 0x2085: return "35";
+			case 0x2086: return "36";
+			case 0x2087: return "37";
+			case 0x2088: return "38";
+			case 0x2089: return "39";
+			case 0x208a: return "2b";
+			case 0x208b: return "2d";
+			case 0x208d: return "28";
+			case 0x208e: return "29";
+			case 0x20ac: return "c8";
+			case 0x2113: return "c1";
+			case 0x2117: return "c2";
+			case 0x251b: return "222a34";
+			case 0x266d: return "a9";
+			case 0x266f: return "c4";
+			case 0x2c4d: return "223339";
+			case 0x3000: return "212321";
+			case 0x3001: return "212b35";
+			case 0x3002: return "212b33";
+			case 0x3005: return "692139";
+			case 0x3007: return "212f30";
+			case 0x3008: return "692152";
+			case 0x3009: return "692153";
+			case 0x300a: return "692154";
+			case 0x300b: return "692155";
+			case 0x300c: return "212b25";
+			case 0x300d: return "212b26";
+			case 0x3013: return "212a46";
+			case 0x3041: return "692421";
+			case 0x3042: return "692422";
+			case 0x3043: return "692423";
+			case 0x3044: return "692424";
+			case 0x3045: return "692425";
+			case 0x3046: return "692426";
+			case 0x3047: return "692427";
+			case 0x3048: return "692428";
+			case 0x3049: return "692429";
+			case 0x304a: return "69242a";
+			case 0x304b: return "69242b";
+			case 0x304c: return "69242c";
+			case 0x304d: return "69242d";
+			case 0x304e: return "69242e";
+			case 0x304f: return "69242f";
+			case 0x3050: return "692430";
+			case 0x3051: return "692431";
+			case 0x3052: return "692432";
+			case 0x3053: return "692433";
+			case 0x3054: return "692434";
+			case 0x3055: return "692435";
+			case 0x3056: return "692436";
+			case 0x3057: return "692437";
+			case 0x3058: return "692438";
+			case 0x3059: return "692439";
+			case 0x305a: return "69243a";
+			case 0x305b: return "69243b";
+			case 0x305c: return "69243c";
+			case 0x305d: return "69243d";
+			case 0x305e: return "69243e";
+			case 0x305f: return "69243f";
+			case 0x3060: return "692440";
+			case 0x3061: return "692441";
+			case 0x3062: return "692442";
+			case 0x3063: return "692443";
+			case 0x3064: return "692444";
+			case 0x3065: return "692445";
+			case 0x3066: return "692446";
+			case 0x3067: return "692447";
+			case 0x3068: return "692448";
+			case 0x3069: return "692449";
+			case 0x306a: return "69244a";
+			case 0x306b: return "69244b";
+			case 0x306c: return "69244c";
+			case 0x306d: return "69244d";
+			case 0x306e: return "69244e";
+			case 0x306f: return "69244f";
+			case 0x3070: return "692450";
+			case 0x3071: return "692451";
+			case 0x3072: return "692452";
+			case 0x3073: return "692453";
+			case 0x3074: return "692454";
+			case 0x3075: return "692455";
+			case 0x3076: return "692456";
+			case 0x3077: return "692457";
+			case 0x3078: return "692458";
+			case 0x3079: return "692459";
+			case 0x307a: return "69245a";
+			case 0x307b: return "69245b";
+			case 0x307c: return "69245c";
+			case 0x307d: return "69245d";
+			case 0x307e: return "69245e";
+			case 0x307f: return "69245f";
+			case 0x3080: return "692460";
+			case 0x3081: return "692461";
+			case 0x3082: return "692462";
+			case 0x3083: return "692463";
+			case 0x3084: return "692464";
+			case 0x3085: return "692465";
+			case 0x3086: return "692466";
+			case 0x3087: return "692467";
+			case 0x3088: return "692468";
+			case 0x3089: return "692469";
+			case 0x308a: return "69246a";
+			case 0x308b: return "69246b";
+			case 0x308c: return "69246c";
+			case 0x308d: return "69246d";
+			case 0x308e: return "69246e";
+			case 0x308f: return "69246f";
+			case 0x3090: return "692470";
+			case 0x3091: return "692471";
+			case 0x3092: return "692472";
+			case 0x3093: return "692473";
+			case 0x309b: return "692577";
+			case 0x309c: return "692578";
+			case 0x30a1: return "692521";
+			case 0x30a2: return "692522";
+			case 0x30a3: return "692523";
+			case 0x30a4: return "692524";
+			case 0x30a5: return "692525";
+			case 0x30a6: return "692526";
+			case 0x30a7: return "692527";
+			case 0x30a8: return "692528";
+			case 0x30a9: return "692529";
+			case 0x30aa: return "69252a";
+			case 0x30ab: return "69252b";
+			case 0x30ac: return "69252c";
+			case 0x30ad: return "69252d";
+			case 0x30ae: return "69252e";
+			case 0x30af: return "69252f";
+			case 0x30b0: return "692530";
+			case 0x30b1: return "692531";
+			case 0x30b2: return "692532";
+			case 0x30b3: return "692533";
+			case 0x30b4: return "692534";
+			case 0x30b5: return "692535";
+			case 0x30b6: return "692536";
+			case 0x30b7: return "692537";
+			case 0x30b8: return "692538";
+			case 0x30b9: return "692539";
+			case 0x30ba: return "69253a";
+			case 0x30bb: return "69253b";
+			case 0x30bc: return "69253c";
+			case 0x30bd: return "69253d";
+			case 0x30be: return "69253e";
+			case 0x30bf: return "69253f";
+			case 0x30c0: return "692540";
+			case 0x30c1: return "692541";
+			case 0x30c2: return "692542";
+			case 0x30c3: return "692543";
+			case 0x30c4: return "692544";
+			case 0x30c5: return "692545";
+			case 0x30c6: return "692546";
+			case 0x30c7: return "692547";
+			case 0x30c8: return "692548";
+			case 0x30c9: return "692549";
+			case 0x30ca: return "69254a";
+			case 0x30cb: return "69254b";
+			case 0x30cc: return "69254c";
+			case 0x30cd: return "69254d";
+			case 0x30ce: return "69254e";
+			case 0x30cf: return "69254f";
+			case 0x30d0: return "692550";
+			case 0x30d1: return "692551";
+			case 0x30d2: return "692552";
+			case 0x30d3: return "692553";
+			case 0x30d4: return "692554";
+			case 0x30d5: return "692555";
+			case 0x30d6: return "692556";
+			case 0x30d7: return "692557";
+			case 0x30d8: return "692558";
+			case 0x30d9: return "692559";
+			case 0x30da: return "69255a";
+			case 0x30db: return "69255b";
+			case 0x30dc: return "69255c";
+			case 0x30dd: return "69255d";
+			case 0x30de: return "69255e";
+			case 0x30df: return "69255f";
+			case 0x30e0: return "692560";
+			case 0x30e1: return "692561";
+			case 0x30e2: return "692562";
+			case 0x30e3: return "692563";
+			case 0x30e4: return "692564";
+			case 0x30e5: return "692565";
+			case 0x30e6: return "692566";
+			case 0x30e7: return "692567";
+			case 0x30e8: return "692568";
+			case 0x30e9: return "692569";
+			case 0x30ea: return "69256a";
+			case 0x30eb: return "69256b";
+			case 0x30ec: return "69256c";
+			case 0x30ed: return "69256d";
+			case 0x30ee: return "69256e";
+			case 0x30ef: return "69256f";
+			case 0x30f0: return "692570";
+			case 0x30f1: return "692571";
+			case 0x30f2: return "692572";
+			case 0x30f3: return "692573";
+			case 0x30f4: return "692574";
+			case 0x30f5: return "692575";
+			case 0x30f6: return "692576";
+			case 0x30fb: return "692126";
+			case 0x30fc: return "69213c";
+			case 0x3131: return "6f2457";
+			case 0x3132: return "6f2465";
+			case 0x3134: return "6f2458";
+			case 0x3137: return "6f2459";
+			case 0x3138: return "6f2469";
+			case 0x3139: return "6f245a";
+			case 0x3141: return "6f245b";
+			case 0x3142: return "6f245c";
+			case 0x3143: return "6f246e";
+			case 0x3145: return "6f245d";
+			case 0x3146: return "6f2470";
+			case 0x3147: return "6f245e";
+			case 0x3148: return "6f245f";
+			case 0x3149: return "6f2471";
+			case 0x314a: return "6f2460";
+			case 0x314b: return "6f2461";
+			case 0x314c: return "6f2462";
+			case 0x314d: return "6f2463";
+			case 0x314e: return "6f2464";
+			case 0x314f: return "6f2472";
+			case 0x3150: return "6f2473";
+			case 0x3151: return "6f2474";
+			case 0x3153: return "6f2476";
+			case 0x3154: return "6f2477";
+			case 0x3155: return "6f2478";
+			case 0x3157: return "6f247a";
+			case 0x3158: return "6f247b";
+			case 0x315b: return "6f247e";
+			case 0x315c: return "6f2521";
+			case 0x3160: return "6f2525";
+			case 0x3161: return "6f2526";
+			case 0x3162: return "6f2527";
+			case 0x3163: return "6f2528";
+			case 0x317f: return "6f7623";
+			case 0x3181: return "6f7621";
+			case 0x3186: return "6f7622";
+			case 0x318d: return "6f7625";
+			case 0x349e: return "2d3165";
+			case 0x3761: return "217e5b";
+			case 0x4610: return "232d42";
+			case 0x4e00: return "213021";
+			case 0x4e01: return "213022";
+			case 0x4e03: return "213023";
+			case 0x4e07: return "274f22";
+			case 0x4e08: return "213027";
+			case 0x4e09: return "213024";
+			case 0x4e0a: return "213026";
+			case 0x4e0b: return "213025";
+			case 0x4e0c: return "2d332a";
+			case 0x4e0d: return "21302a";
+			case 0x4e0e: return "275432";
+			case 0x4e0f: return "216424";
+			case 0x4e10: return "213029";
+			case 0x4e11: return "275d30";
+			case 0x4e13: return "273b3f";
+			case 0x4e14: return "21302b";
+			case 0x4e15: return "21302e";
+			case 0x4e16: return "21302d";
+			case 0x4e17: return "2d302d";
+			case 0x4e18: return "21302f";
+			case 0x4e19: return "21302c";
+			case 0x4e1a: return "27452d";
+			case 0x4e1b: return "27352b";
+			case 0x4e1c: return "274426";
+			case 0x4e1d: return "27513b";
+			case 0x4e1e: return "213031";
+			case 0x4e21: return "333323";
+			case 0x4e22: return "213030";
+			case 0x4e24: return "273323";
+			case 0x4e25: return "27375a";
+			case 0x4e26: return "213032";
+			case 0x4e27: return "273663";
+			case 0x4e28: return "216429";
+			case 0x4e2a: return "273224";
+			case 0x4e2b: return "283b22";
+			case 0x4e2c: return "4c5541";
+			case 0x4e2d: return "213034";
+			case 0x4e30: return "275958";
+			case 0x4e31: return "21642e";
+			case 0x4e32: return "213035";
+			case 0x4e34: return "275425";
+			case 0x4e36: return "216431";
+			case 0x4e38: return "213037";
+			case 0x4e39: return "213038";
+			case 0x4e3a: return "274951";
+			case 0x4e3b: return "213039";
+			case 0x4e3c: return "2d3053";
+			case 0x4e3d: return "276256";
+			case 0x4e3e: return "275434";
+			case 0x4e3f: return "216433";
+			case 0x4e42: return "216434";
+			case 0x4e43: return "21303a";
+			case 0x4e45: return "21303b";
+			case 0x4e47: return "275644";
+			case 0x4e48: return "276260";
+			case 0x4e49: return "275242";
+			case 0x4e4b: return "21303d";
+			case 0x4e4c: return "27495d";
+			case 0x4e4d: return "213041";
+			case 0x4e4e: return "213040";
+			case 0x4e4f: return "21303f";
+			case 0x4e50: return "27454e";
+			case 0x4e52: return "213042";
+			case 0x4e53: return "213043";
+			case 0x4e54: return "27366f";
+			case 0x4e55: return "395643";
+			case 0x4e56: return "213044";
+			case 0x4e57: return "2d3045";
+			case 0x4e58: return "213045";
+			case 0x4e59: return "213046";
+			case 0x4e5c: return "21643c";
+			case 0x4e5d: return "213047";
+			case 0x4e5e: return "213049";
+			case 0x4e5f: return "213048";
+			case 0x4e60: return "27524d";
+			case 0x4e61: return "275c70";
+			case 0x4e62: return "695626";
+			case 0x4e66: return "274355";
+			case 0x4e69: return "2d4f41";
+			case 0x4e70: return "27597a";
+			case 0x4e71: return "27304d";
+			case 0x4e73: return "21304b";
+			case 0x4e79: return "33304c";
+			case 0x4e7e: return "21304c";
+			case 0x4e80: return "2d632d";
+			case 0x4e81: return "39304c";
+			case 0x4e82: return "21304d";
+			case 0x4e85: return "216446";
+			case 0x4e86: return "274d73";
+			case 0x4e88: return "27595e";
+			case 0x4e89: return "2d4a3b";
+			case 0x4e8a: return "4b3050";
+			case 0x4e8b: return "213050";
+			case 0x4e8c: return "213051";
+			case 0x4e8d: return "275747";
+			case 0x4e8e: return "213052";
+			case 0x4e8f: return "27564c";
+			case 0x4e91: return "275f54";
+			case 0x4e92: return "213055";
+			case 0x4e93: return "33332a";
+			case 0x4e94: return "213054";
+			case 0x4e95: return "213053";
+			case 0x4e97: return "3f4629";
+			case 0x4e98: return "513057";
+			case 0x4e99: return "4b3057";
+			case 0x4e9a: return "273058";
+			case 0x4e9b: return "213059";
+			case 0x4e9c: return "2d3058";
+			case 0x4e9e: return "213058";
+			case 0x4e9f: return "21305a";
+			case 0x4ea0: return "216450";
+			case 0x4ea1: return "21305b";
+			case 0x4ea2: return "216451";
+			case 0x4ea4: return "21305e";
+			case 0x4ea5: return "21305d";
+			case 0x4ea6: return "21305c";
+			case 0x4ea7: return "274b7a";
+			case 0x4ea8: return "21305f";
+			case 0x4ea9: return "274c2d";
+			case 0x4eab: return "213060";
+			case 0x4eac: return "213061";
+			case 0x4ead: return "213062";
+			case 0x4eae: return "213063";
+			case 0x4eaf: return "333060";
+			case 0x4eb0: return "2d3061";
+			case 0x4eb2: return "27582c";
+			case 0x4eb3: return "216452";
+			case 0x4eb5: return "275777";
+			case 0x4eb6: return "4b6455";
+			case 0x4eb9: return "216458";
+			case 0x4eba: return "213064";
+			case 0x4ebc: return "21645a";
+			case 0x4ebe: return "2d305b";
+			case 0x4ebf: return "27325a";
+			case 0x4ec0: return "4b4b77";
+			case 0x4ec1: return "213066";
+			case 0x4ec2: return "4b682e";
+			case 0x4ec3: return "27322e";
+			case 0x4ec4: return "213069";
+			case 0x4ec5: return "273249";
+			case 0x4ec6: return "273255";
+			case 0x4ec7: return "21306c";
+			case 0x4ec8: return "216461";
+			case 0x4ec9: return "21645e";
+			case 0x4eca: return "213065";
+			case 0x4ecb: return "21306d";
+			case 0x4ecd: return "21306b";
+			case 0x4ece: return "273d6c";
+			case 0x4ecf: return "2d3132";
+			case 0x4ed1: return "27314f";
+			case 0x4ed3: return "27316c";
+			case 0x4ed4: return "213074";
+			case 0x4ed5: return "213070";
+			case 0x4ed6: return "213071";
+			case 0x4ed7: return "213075";
+			case 0x4ed8: return "21306f";
+			case 0x4ed9: return "213076";
+			case 0x4edd: return "2d3543";
+			case 0x4ede: return "213072";
+			case 0x4edf: return "2d3458";
+			case 0x4ee1: return "21646b";
+			case 0x4ee3: return "213073";
+			case 0x4ee4: return "4b306e";
+			case 0x4ee5: return "213077";
+			case 0x4ee8: return "216463";
+			case 0x4eea: return "273259";
+			case 0x4eeb: return "70586f";
+			case 0x4eec: return "273173";
+			case 0x4eed: return "4b3072";
+			case 0x4eee: return "4b3231";
+			case 0x4ef0: return "213128";
+			case 0x4ef2: return "213124";
+			case 0x4ef3: return "213126";
+			case 0x4ef5: return "216527";
+			case 0x4ef6: return "213127";
+			case 0x4ef7: return "27325d";
+			case 0x4efb: return "21307c";
+			case 0x4efd: return "333d54";
+			case 0x4eff: return "213078";
+			case 0x4f00: return "21652a";
+			case 0x4f01: return "213125";
+			case 0x4f03: return "216475";
+			case 0x4f07: return "216528";
+			case 0x4f08: return "216472";
+			case 0x4f09: return "213079";
+			case 0x4f0a: return "21307d";
+			case 0x4f0b: return "21652c";
+			case 0x4f0d: return "393054";
+			case 0x4f0e: return "216473";
+			case 0x4f0f: return "213123";
+			case 0x4f10: return "213122";
+			case 0x4f11: return "213121";
+			case 0x4f15: return "21307e";
+			case 0x4f17: return "274d56";
+			case 0x4f18: return "273266";
+			case 0x4f19: return "273923";
+			case 0x4f1a: return "27435a";
+			case 0x4f1b: return "27677c";
+			case 0x4f1c: return "276649";
+			case 0x4f1d: return "393246";
+			case 0x4f1e: return "273244";
+			case 0x4f1f: return "273233";
+			case 0x4f20: return "273246";
+			case 0x4f22: return "21647c";
+			case 0x4f24: return "27324c";
+			case 0x4f25: return "273226";
+			case 0x4f26: return "27322d";
+			case 0x4f27: return "273243";
+			case 0x4f2a: return "273256";
+			case 0x4f2b: return "4b312d";
+			case 0x4f2f: return "213141";
+			case 0x4f30: return "213134";
+			case 0x4f32: return "2d3140";
+			case 0x4f34: return "21312c";
+			case 0x4f36: return "4b3144";
+			case 0x4f38: return "21313a";
+			case 0x4f3a: return "21312f";
+			case 0x4f3b: return "216532";
+			case 0x4f3c: return "21313d";
+			case 0x4f3d: return "213137";
+			case 0x4f3e: return "21653f";
+			case 0x4f43: return "21313b";
+			case 0x4f46: return "213139";
+			case 0x4f47: return "21312d";
+			case 0x4f48: return "213138";
+			case 0x4f49: return "21653a";
+			case 0x4f4c: return "21656c";
+			case 0x4f4d: return "21312b";
+			case 0x4f4e: return "213142";
+			case 0x4f4f: return "21312a";
+			case 0x4f50: return "213135";
+			case 0x4f51: return "213136";
+			case 0x4f53: return "27615a";
+			case 0x4f54: return "21313c";
+			case 0x4f55: return "213133";
+			case 0x4f57: return "21312e";
+			case 0x4f58: return "216536";
+			case 0x4f59: return "276076";
+			case 0x4f5a: return "21654e";
+			case 0x4f5b: return "213132";
+			case 0x4f5c: return "21313f";
+			case 0x4f5d: return "213143";
+			case 0x4f5e: return "213130";
+			case 0x4f5f: return "21654f";
+			case 0x4f60: return "213140";
+			case 0x4f62: return "216537";
+			case 0x4f63: return "21313e";
+			case 0x4f64: return "216539";
+			case 0x4f65: return "276775";
+			case 0x4f66: return "216540";
+			case 0x4f67: return "216544";
+			case 0x4f68: return "21654d";
+			case 0x4f69: return "213154";
+			case 0x4f6c: return "21314d";
+			case 0x4f6f: return "213146";
+			case 0x4f70: return "2d4c7e";
+			case 0x4f73: return "213149";
+			case 0x4f74: return "216561";
+			case 0x4f75: return "213147";
+			case 0x4f76: return "216562";
+			case 0x4f78: return "216573";
+			case 0x4f79: return "216570";
+			case 0x4f7a: return "21657b";
+			case 0x4f7b: return "213152";
+			case 0x4f7c: return "216557";
+			case 0x4f7d: return "21655c";
+			case 0x4f7e: return "213156";
+			case 0x4f7f: return "21314a";
+			case 0x4f80: return "216560";
+			case 0x4f81: return "216572";
+			case 0x4f82: return "216556";
+			case 0x4f83: return "213151";
+			case 0x4f84: return "2d396e";
+			case 0x4f86: return "21314c";
+			case 0x4f88: return "213153";
+			case 0x4f89: return "4b5861";
+			case 0x4f8b: return "21314e";
+			case 0x4f8d: return "213148";
+			case 0x4f8f: return "213155";
+			case 0x4f90: return "216577";
+			case 0x4f91: return "216566";
+			case 0x4f92: return "21655b";
+			case 0x4f94: return "21656e";
+			case 0x4f95: return "216567";
+			case 0x4f96: return "21314f";
+			case 0x4f97: return "21656d";
+			case 0x4f98: return "21655a";
+			case 0x4f9a: return "216571";
+			case 0x4f9b: return "21314b";
+			case 0x4f9c: return "216576";
+			case 0x4f9d: return "213145";
+			case 0x4fa0: return "27315d";
+			case 0x4fa1: return "33325d";
+			case 0x4fa2: return "216564";
+			case 0x4fa3: return "2d315f";
+			case 0x4fa5: return "273251";
+			case 0x4fa6: return "273238";
+			case 0x4fa7: return "273235";
+			case 0x4fa8: return "273258";
+			case 0x4fa9: return "273260";
+			case 0x4faa: return "276871";
+			case 0x4fab: return "4b3130";
+			case 0x4fac: return "27325e";
+			case 0x4fad: return "2d3263";
+			case 0x4fae: return "213166";
+			case 0x4faf: return "21315a";
+			case 0x4fb5: return "213159";
+			case 0x4fb6: return "21315f";
+			case 0x4fb7: return "216626";
+			case 0x4fb9: return "216643";
+			case 0x4fbf: return "21315b";
+			case 0x4fc1: return "216637";
+			case 0x4fc2: return "213169";
+			case 0x4fc3: return "213162";
+			case 0x4fc4: return "213168";
+			case 0x4fc5: return "216627";
+			case 0x4fc6: return "21663e";
+			case 0x4fc9: return "216629";
+			case 0x4fca: return "213165";
+			case 0x4fcd: return "21657c";
+			case 0x4fce: return "21316a";
+			case 0x4fcf: return "21315e";
+			case 0x4fd0: return "213167";
+			case 0x4fd1: return "213158";
+			case 0x4fd4: return "216635";
+			case 0x4fd7: return "21316b";
+			case 0x4fd8: return "213163";
+			case 0x4fda: return "213160";
+			case 0x4fdb: return "21663b";
+			case 0x4fdc: return "216633";
+			case 0x4fdd: return "213161";
+			case 0x4fde: return "21315c";
+			case 0x4fdf: return "213164";
+			case 0x4fe0: return "21315d";
+			case 0x4fe1: return "213157";
+			case 0x4fe3: return "4b6637";
+			case 0x4fe4: return "216622";
+			case 0x4fe5: return "21662a";
+			case 0x4fe6: return "273265";
+			case 0x4fe7: return "21662c";
+			case 0x4fe8: return "27326b";
+			case 0x4fe9: return "273179";
+			case 0x4fea: return "27326a";
+			case 0x4fed: return "273261";
+			case 0x4fee: return "213227";
+			case 0x4fef: return "21316f";
+			case 0x4ff1: return "213222";
+			case 0x4ff2: return "394243";
+			case 0x4ff3: return "213228";
+			case 0x4ff4: return "216659";
+			case 0x4ff5: return "216652";
+			case 0x4ff6: return "216661";
+			case 0x4ff8: return "213174";
+			case 0x4ffa: return "21317e";
+			case 0x4ffb: return "333240";
+			case 0x4ffe: return "21322b";
+			case 0x5000: return "213226";
+			case 0x5002: return "2d3147";
+			case 0x5003: return "21322a";
+			case 0x5005: return "216649";
+			case 0x5006: return "213179";
+			case 0x5007: return "21664c";
+			case 0x5008: return "2d314c";
+			case 0x5009: return "21316c";
+			case 0x500b: return "213224";
+			case 0x500c: return "213171";
+			case 0x500d: return "21316e";
+			case 0x500f: return "21323b";
+			case 0x5010: return "216669";
+			case 0x5011: return "213173";
+			case 0x5012: return "21317b";
+			case 0x5013: return "21664d";
+			case 0x5014: return "213176";
+			case 0x5015: return "216746";
+			case 0x5016: return "213177";
+			case 0x5018: return "213221";
+			case 0x5019: return "213225";
+			case 0x501a: return "21317d";
+			case 0x501c: return "216662";
+			case 0x501e: return "216646";
+			case 0x501f: return "27562e";
+			case 0x5021: return "213223";
+			case 0x5022: return "21664e";
+			case 0x5023: return "3f3078";
+			case 0x5024: return "4b317c";
+			case 0x5025: return "213172";
+			case 0x5026: return "213170";
+			case 0x5028: return "213175";
+			case 0x5029: return "4b3178";
+			case 0x502a: return "21322c";
+			case 0x502b: return "21322d";
+			case 0x502c: return "216666";
+			case 0x502d: return "213229";
+			case 0x502e: return "21665e";
+			case 0x5037: return "21665b";
+			case 0x5039: return "2d3261";
+			case 0x503a: return "273247";
+			case 0x503c: return "21317c";
+			case 0x503d: return "216679";
+			case 0x503e: return "27324a";
+			case 0x503f: return "216648";
+			case 0x5041: return "216741";
+			case 0x5043: return "213234";
+			case 0x5047: return "213231";
+			case 0x5048: return "216739";
+			case 0x5049: return "213233";
+			case 0x504c: return "213239";
+			case 0x504e: return "213237";
+			case 0x504f: return "21322f";
+			case 0x5050: return "216723";
+			case 0x5053: return "216729";
+			case 0x5055: return "21323a";
+			case 0x5056: return "21672c";
+			case 0x5058: return "21673b";
+			case 0x505a: return "213232";
+			case 0x505c: return "21322e";
+			case 0x505d: return "216738";
+			case 0x505f: return "21674b";
+			case 0x5065: return "213230";
+			case 0x506a: return "21672a";
+			case 0x506b: return "21674d";
+			case 0x506c: return "21674a";
+			case 0x506d: return "216731";
+			case 0x506f: return "216722";
+			case 0x5070: return "216725";
+			case 0x5072: return "21673c";
+			case 0x5074: return "213235";
+			case 0x5075: return "213238";
+			case 0x5076: return "213236";
+			case 0x5077: return "21323c";
+			case 0x507a: return "216748";
+			case 0x507b: return "276822";
+			case 0x507d: return "213256";
+			case 0x507e: return "276842";
+			case 0x507f: return "273267";
+			case 0x5080: return "213242";
+			case 0x5085: return "21323f";
+			case 0x5088: return "21675c";
+			case 0x508c: return "21675a";
+			case 0x508d: return "21323d";
+			case 0x508e: return "216762";
+			case 0x5091: return "213241";
+			case 0x5092: return "21676a";
+			case 0x5094: return "21674e";
+			case 0x5095: return "216764";
+			case 0x5096: return "213243";
+			case 0x5098: return "213244";
+			case 0x5099: return "213240";
+			case 0x509a: return "216753";
+			case 0x509b: return "216752";
+			case 0x509c: return "21676c";
+			case 0x509e: return "216750";
+			case 0x50a2: return "21323e";
+			case 0x50a3: return "216757";
+			case 0x50a5: return "276948";
+			case 0x50a6: return "216767";
+			case 0x50a7: return "273262";
+			case 0x50a8: return "273269";
+			case 0x50a9: return "276944";
+			case 0x50ac: return "21324b";
+			case 0x50ad: return "213245";
+			case 0x50af: return "21324d";
+			case 0x50b2: return "4b3248";
+			case 0x50b3: return "213246";
+			case 0x50b4: return "21677c";
+			case 0x50b5: return "213247";
+			case 0x50b7: return "21324c";
+			case 0x50ba: return "21682c";
+			case 0x50bb: return "4b325f";
+			case 0x50be: return "21324a";
+			case 0x50c2: return "216822";
+			case 0x50c5: return "213249";
+			case 0x50c7: return "216771";
+			case 0x50c9: return "216775";
+			case 0x50ca: return "21677b";
+			case 0x50cd: return "21682e";
+			case 0x50ce: return "21683b";
+			case 0x50cf: return "213257";
+			case 0x50d1: return "213258";
+			case 0x50d4: return "216832";
+			case 0x50d5: return "213255";
+			case 0x50d6: return "213252";
+			case 0x50d9: return "216846";
+			case 0x50da: return "213254";
+			case 0x50dd: return "21683c";
+			case 0x50e3: return "2d3253";
+			case 0x50e5: return "213251";
+			case 0x50e6: return "216835";
+			case 0x50e7: return "4b324e";
+			case 0x50e8: return "216842";
+			case 0x50ec: return "216855";
+			case 0x50ed: return "213253";
+			case 0x50ee: return "21324f";
+			case 0x50ef: return "216834";
+			case 0x50f0: return "216844";
+			case 0x50f1: return "213250";
+			case 0x50f3: return "216841";
+			case 0x50f4: return "21683a";
+			case 0x50f5: return "21325c";
+			case 0x50f9: return "21325d";
+			case 0x50fb: return "21325b";
+			case 0x50fc: return "216861";
+			case 0x50fd: return "21686a";
+			case 0x50fe: return "216868";
+			case 0x5100: return "213259";
+			case 0x5101: return "21686d";
+			case 0x5102: return "21325e";
+			case 0x5104: return "21325a";
+			case 0x5105: return "21685f";
+			case 0x5106: return "216865";
+			case 0x5107: return "216866";
+			case 0x5108: return "213260";
+			case 0x5109: return "213261";
+			case 0x510b: return "216869";
+			case 0x510c: return "2d3251";
+			case 0x510d: return "21325f";
+			case 0x510e: return "21685b";
+			case 0x510f: return "216867";
+			case 0x5110: return "213262";
+			case 0x5112: return "213264";
+			case 0x5113: return "216872";
+			case 0x5114: return "213265";
+			case 0x5115: return "216871";
+			case 0x5116: return "695130";
+			case 0x5117: return "2d4228";
+			case 0x5118: return "213263";
+			case 0x511a: return "216878";
+			case 0x511e: return "2d3944";
+			case 0x511f: return "213267";
+			case 0x5121: return "213268";
+			case 0x5124: return "216929";
+			case 0x5126: return "21687e";
+			case 0x5129: return "21692b";
+			case 0x512a: return "213266";
+			case 0x5131: return "216930";
+			case 0x5132: return "213269";
+			case 0x5133: return "216940";
+			case 0x5135: return "21693e";
+			case 0x5137: return "21326a";
+			case 0x5139: return "216947";
+			case 0x513a: return "216944";
+			case 0x513b: return "216948";
+			case 0x513c: return "21326b";
+			case 0x513f: return "27327a";
+			case 0x5140: return "21326c";
+			case 0x5141: return "21326e";
+			case 0x5143: return "21326d";
+			case 0x5144: return "213270";
+			case 0x5145: return "21326f";
+			case 0x5146: return "213271";
+			case 0x5147: return "213273";
+			case 0x5148: return "213274";
+			case 0x5149: return "213272";
+			case 0x514b: return "27336b";
+			case 0x514c: return "213275";
+			case 0x514d: return "213277";
+			case 0x514e: return "2d3279";
+			case 0x5150: return "33327a";
+			case 0x5152: return "21327a";
+			case 0x5154: return "213279";
+			case 0x5155: return "213278";
+			case 0x5156: return "27327b";
+			case 0x5157: return "21327b";
+			case 0x5159: return "216951";
+			case 0x515a: return "27626f";
+			case 0x515b: return "216952";
+			case 0x515c: return "21327c";
+			case 0x515d: return "216955";
+			case 0x515e: return "216956";
+			case 0x515f: return "216958";
+			case 0x5160: return "216a73";
+			case 0x5161: return "216959";
+			case 0x5162: return "21327d";
+			case 0x5163: return "21695c";
+			case 0x5165: return "21327e";
+			case 0x5167: return "213321";
+			case 0x5168: return "4b3322";
+			case 0x5169: return "213323";
+			case 0x516b: return "213324";
+			case 0x516c: return "213327";
+			case 0x516d: return "213325";
+			case 0x516e: return "213326";
+			case 0x5170: return "27563e";
+			case 0x5171: return "213328";
+			case 0x5173: return "275e69";
+			case 0x5174: return "275433";
+			case 0x5175: return "213329";
+			case 0x5176: return "21332a";
+			case 0x5177: return "21332b";
+			case 0x5178: return "21332c";
+			case 0x5179: return "215521";
+			case 0x517b: return "276071";
+			case 0x517c: return "21332d";
+			case 0x517d: return "274b2b";
+			case 0x517f: return "3f5631";
+			case 0x5180: return "21332e";
+			case 0x5181: return "277360";
+			case 0x5182: return "216967";
+			case 0x5184: return "216969";
+			case 0x5185: return "4b3321";
+			case 0x5186: return "4b3772";
+			case 0x5187: return "216425";
+			case 0x5188: return "273b6e";
+			case 0x5189: return "21332f";
+			case 0x518a: return "333330";
+			case 0x518c: return "213330";
+			case 0x518d: return "213331";
+			case 0x518f: return "21696e";
+			case 0x5190: return "2d3332";
+			case 0x5191: return "213333";
+			case 0x5192: return "213332";
+			case 0x5193: return "216971";
+			case 0x5194: return "216970";
+			case 0x5195: return "213334";
+			case 0x5196: return "216975";
+			case 0x5197: return "213336";
+			case 0x5199: return "273b37";
+			case 0x519b: return "275b34";
+			case 0x519c: return "275b64";
+			case 0x51a0: return "213337";
+			case 0x51a1: return "21697b";
+			case 0x51a2: return "2d3852";
+			case 0x51a3: return "21697c";
+			case 0x51a4: return "2d7e6a";
+			case 0x51a5: return "213339";
+			case 0x51a6: return "4b3b22";
+			case 0x51a8: return "2d3b27";
+			case 0x51a9: return "4b3b37";
+			case 0x51aa: return "216a22";
+			case 0x51ab: return "216a23";
+			case 0x51ac: return "276276";
+			case 0x51af: return "27612d";
+			case 0x51b0: return "21333c";
+			case 0x51b1: return "216a26";
+			case 0x51b2: return "2d4674";
+			case 0x51b3: return "2d466d";
+			case 0x51b4: return "516a26";
+			case 0x51b5: return "2d4730";
+			case 0x51b6: return "21333d";
+			case 0x51b7: return "4b333e";
+			case 0x51bb: return "273340";
+			case 0x51bc: return "216a35";
+			case 0x51bd: return "4b4741";
+			case 0x51c0: return "39476f";
+			case 0x51c3: return "51384d";
+			case 0x51c4: return "2d475f";
+			case 0x51c5: return "4b476c";
+			case 0x51c6: return "27484b";
+			case 0x51c7: return "216a46";
+			case 0x51c8: return "3f476f";
+			case 0x51c9: return "2d475b";
+			case 0x51ca: return "216a43";
+			case 0x51cb: return "4b5f49";
+			case 0x51cc: return "213341";
+			case 0x51cd: return "213340";
+			case 0x51cf: return "2d4829";
+			case 0x51d0: return "216a4f";
+			case 0x51d1: return "216a4e";
+			case 0x51d3: return "216a54";
+			case 0x51d6: return "4b484b";
+			case 0x51d9: return "216a63";
+			case 0x51db: return "333344";
+			case 0x51dc: return "213344";
+			case 0x51dd: return "213345";
+			case 0x51df: return "216a66";
+			case 0x51e0: return "273c6b";
+			case 0x51e1: return "213036";
+			case 0x51e2: return "216a68";
+			case 0x51e4: return "276233";
+			case 0x51e6: return "4b5647";
+			case 0x51e7: return "222664";
+			case 0x51e9: return "69515e";
+			case 0x51ea: return "694664";
+			case 0x51eb: return "4d5973";
+			case 0x51ed: return "273f3f";
+			case 0x51ef: return "273348";
+			case 0x51f0: return "213347";
+			case 0x51f1: return "213348";
+			case 0x51f3: return "213349";
+			case 0x51f4: return "333f3f";
+			case 0x51f5: return "216a78";
+			case 0x51f6: return "273273";
+			case 0x51f7: return "216a79";
+			case 0x51f8: return "21334d";
+			case 0x51f9: return "21334c";
+			case 0x51fa: return "21334b";
+			case 0x51fb: return "274176";
+			case 0x51fc: return "2d3c6a";
+			case 0x51fd: return "21334e";
+			case 0x51fe: return "33334e";
+			case 0x51ff: return "275e4b";
+			case 0x5200: return "21334f";
+			case 0x5201: return "213350";
+			case 0x5202: return "2d334f";
+			case 0x5203: return "213351";
+			case 0x5204: return "4b3351";
+			case 0x5206: return "213353";
+			case 0x5207: return "213352";
+			case 0x5208: return "213354";
+			case 0x520a: return "213355";
+			case 0x520b: return "4b3355";
+			case 0x520d: return "27545c";
+			case 0x520e: return "213359";
+			case 0x5211: return "2d3356";
+			case 0x5212: return "27337c";
+			case 0x5213: return "216b24";
+			case 0x5214: return "2d4029";
+			case 0x5216: return "216b26";
+			case 0x5217: return "213357";
+			case 0x5218: return "273422";
+			case 0x5219: return "27336d";
+			case 0x521a: return "273370";
+			case 0x521b: return "273378";
+			case 0x521c: return "216b2a";
+			case 0x521d: return "21574e";
+			case 0x521f: return "396b2f";
+			case 0x5220: return "21335c";
+			case 0x5224: return "21335a";
+			case 0x5225: return "21335b";
+			case 0x5226: return "2d3428";
+			case 0x5227: return "393428";
+			case 0x5228: return "21335d";
+			case 0x5229: return "21335e";
+			case 0x522b: return "4b335b";
+			case 0x522d: return "276b3e";
+			case 0x522e: return "27605e";
+			case 0x5230: return "213362";
+			case 0x5231: return "2d6b33";
+			case 0x5232: return "216b37";
+			case 0x5233: return "216b39";
+			case 0x5234: return "2d3366";
+			case 0x5235: return "216b36";
+			case 0x5236: return "27576c";
+			case 0x5237: return "213361";
+			case 0x5238: return "21335f";
+			case 0x5239: return "213367";
+			case 0x523a: return "213363";
+			case 0x523b: return "213360";
+			case 0x523c: return "333428";
+			case 0x523d: return "276b7a";
+			case 0x523e: return "4b576c";
+			case 0x523f: return "276b79";
+			case 0x5240: return "273376";
+			case 0x5241: return "213366";
+			case 0x5242: return "273423";
+			case 0x5243: return "213368";
+			case 0x5244: return "216b3e";
+			case 0x5247: return "21336d";
+			case 0x5249: return "216b43";
+			case 0x524a: return "21336c";
+			case 0x524b: return "21336b";
+			case 0x524c: return "21336a";
+			case 0x524d: return "213369";
+			case 0x524f: return "336b33";
+			case 0x5250: return "276b5b";
+			case 0x5251: return "273421";
+			case 0x5252: return "216b4c";
+			case 0x5254: return "213371";
+			case 0x5255: return "216b53";
+			case 0x5256: return "21336f";
+			case 0x5257: return "335e2f";
+			case 0x5259: return "396b33";
+			case 0x525a: return "216b4b";
+			case 0x525b: return "213370";
+			case 0x525c: return "21336e";
+			case 0x525d: return "213372";
+			case 0x525e: return "216b4d";
+			case 0x525f: return "216b50";
+			case 0x5260: return "216b47";
+			case 0x5261: return "2e3172";
+			case 0x5263: return "4b3421";
+			case 0x5264: return "333423";
+			case 0x5265: return "2d3372";
+			case 0x5267: return "27337e";
+			case 0x5268: return "216b5e";
+			case 0x5269: return "213377";
+			case 0x526a: return "213373";
+			case 0x526e: return "216b5b";
+			case 0x526f: return "213374";
+			case 0x5270: return "333377";
+			case 0x5271: return "453421";
+			case 0x5272: return "213375";
+			case 0x5273: return "2d6b5f";
+			case 0x5274: return "213376";
+			case 0x5275: return "213378";
+			case 0x5277: return "395e2f";
+			case 0x5278: return "216b6b";
+			case 0x527d: return "21337a";
+			case 0x527f: return "21337b";
+			case 0x5281: return "216b75";
+			case 0x5282: return "216b74";
+			case 0x5283: return "21337c";
+			case 0x5287: return "21337e";
+			case 0x5288: return "21337d";
+			case 0x5289: return "213422";
+			case 0x528a: return "216b7a";
+			case 0x528c: return "216b79";
+			case 0x528d: return "213421";
+			case 0x5290: return "216b7c";
+			case 0x5291: return "213423";
+			case 0x5293: return "216c21";
+			case 0x5294: return "2d3421";
+			case 0x5296: return "216c27";
+			case 0x5298: return "216c29";
+			case 0x5299: return "216c2c";
+			case 0x529a: return "216c2b";
+			case 0x529b: return "213424";
+			case 0x529d: return "27343d";
+			case 0x529e: return "275b5f";
+			case 0x529f: return "213425";
+			case 0x52a0: return "213426";
+			case 0x52a1: return "273433";
+			case 0x52a2: return "2d343c";
+			case 0x52a3: return "213427";
+			case 0x52a6: return "216c2e";
+			case 0x52a8: return "273434";
+			case 0x52a9: return "213429";
+			case 0x52aa: return "21342b";
+			case 0x52ab: return "213428";
+			case 0x52ac: return "21342a";
+			case 0x52ad: return "216c31";
+			case 0x52ae: return "216c33";
+			case 0x52b1: return "27343c";
+			case 0x52b2: return "27342f";
+			case 0x52b3: return "273435";
+			case 0x52b4: return "4b3435";
+			case 0x52b5: return "2d335f";
+			case 0x52b9: return "334243";
+			case 0x52bb: return "216c37";
+			case 0x52bc: return "216c38";
+			case 0x52be: return "21342c";
+			case 0x52bf: return "273438";
+			case 0x52c1: return "21342f";
+			case 0x52c3: return "21342e";
+			case 0x52c5: return "2e363f";
+			case 0x52c7: return "21342d";
+			case 0x52c9: return "213430";
+			case 0x52ca: return "216c3c";
+			case 0x52cb: return "273436";
+			case 0x52cd: return "216c3d";
+			case 0x52d0: return "216c40";
+			case 0x52d1: return "216c41";
+			case 0x52d2: return "213432";
+			case 0x52d4: return "216c46";
+			case 0x52d5: return "213434";
+			case 0x52d6: return "216c48";
+			case 0x52d7: return "214357";
+			case 0x52d8: return "213431";
+			case 0x52d9: return "213433";
+			case 0x52db: return "213436";
+			case 0x52dd: return "213437";
+			case 0x52de: return "213435";
+			case 0x52df: return "21343a";
+			case 0x52e0: return "453f6d";
+			case 0x52e1: return "216c4e";
+			case 0x52e2: return "213438";
+			case 0x52e3: return "216c4c";
+			case 0x52e4: return "213439";
+			case 0x52e6: return "33337b";
+			case 0x52e7: return "2d343d";
+			case 0x52e9: return "216c53";
+			case 0x52f0: return "216c58";
+			case 0x52f1: return "216c5a";
+			case 0x52f2: return "4b3436";
+			case 0x52f3: return "2d3436";
+			case 0x52f5: return "21343c";
+			case 0x52f7: return "216c5e";
+			case 0x52f8: return "21343d";
+			case 0x52f9: return "216c61";
+			case 0x52fa: return "216c62";
+			case 0x52fb: return "21343e";
+			case 0x52fc: return "216c64";
+			case 0x52fe: return "2d3539";
+			case 0x52ff: return "213440";
+			case 0x5301: return "694c68";
+			case 0x5302: return "694677";
+			case 0x5303: return "216c6a";
+			case 0x5305: return "213441";
+			case 0x5306: return "216c6b";
+			case 0x5307: return "216c69";
+			case 0x5308: return "213443";
+			case 0x530a: return "216c6e";
+			case 0x530b: return "216c6f";
+			case 0x530d: return "213444";
+			case 0x530f: return "213446";
+			case 0x5310: return "213445";
+			case 0x5311: return "216c77";
+			case 0x5315: return "213447";
+			case 0x5316: return "213448";
+			case 0x5317: return "213449";
+			case 0x5319: return "21344a";
+			case 0x531a: return "216d23";
+			case 0x531c: return "216d24";
+			case 0x531d: return "21344c";
+			case 0x531f: return "216d25";
+			case 0x5320: return "21344e";
+			case 0x5321: return "21344d";
+			case 0x5323: return "21344f";
+			case 0x5326: return "276d2e";
+			case 0x532a: return "213450";
+			case 0x532d: return "216d2e";
+			case 0x532e: return "273452";
+			case 0x532f: return "213451";
+			case 0x5330: return "216d33";
+			case 0x5331: return "213452";
+			case 0x5333: return "4b393f";
+			case 0x5335: return "216d36";
+			case 0x5338: return "216d3a";
+			case 0x5339: return "213453";
+			case 0x533a: return "273455";
+			case 0x533b: return "275d31";
+			case 0x533d: return "216d3e";
+			case 0x533e: return "213454";
+			case 0x533f: return "213456";
+			case 0x5340: return "213455";
+			case 0x5341: return "213457";
+			case 0x5343: return "213458";
+			case 0x5345: return "213459";
+			case 0x5346: return "27345f";
+			case 0x5347: return "21345b";
+			case 0x5348: return "21345a";
+			case 0x5349: return "2d345d";
+			case 0x534a: return "21345c";
+			case 0x534b: return "39302d";
+			case 0x534c: return "216d41";
+			case 0x534d: return "216d42";
+			case 0x534e: return "27553c";
+			case 0x534f: return "273460";
+			case 0x5351: return "213462";
+			case 0x5352: return "21345f";
+			case 0x5353: return "213461";
+			case 0x5354: return "213460";
+			case 0x5355: return "273668";
+			case 0x5356: return "275a2f";
+			case 0x5357: return "213463";
+			case 0x5358: return "4b3668";
+			case 0x535a: return "213464";
+			case 0x535c: return "275573";
+			case 0x535d: return "216d4b";
+			case 0x535e: return "213466";
+			case 0x535f: return "216e58";
+			case 0x5360: return "27313c";
+			case 0x5361: return "213467";
+			case 0x5362: return "274d3f";
+			case 0x5363: return "216d4c";
+			case 0x5364: return "295d3c";
+			case 0x5365: return "216d4e";
+			case 0x5366: return "213469";
+			case 0x5367: return "2d5424";
+			case 0x5369: return "275c6b";
+			case 0x536b: return "275749";
+			case 0x536c: return "216d53";
+			case 0x536e: return "21346b";
+			case 0x536f: return "21346a";
+			case 0x5370: return "21346c";
+			case 0x5371: return "21346d";
+			case 0x5372: return "216d57";
+			case 0x5373: return "2d346e";
+			case 0x5374: return "2d3473";
+			case 0x5375: return "21346f";
+			case 0x5377: return "27407b";
+			case 0x5378: return "213471";
+			case 0x5379: return "3f3e47";
+			case 0x537a: return "216d58";
+			case 0x537b: return "213473";
+			case 0x537d: return "21346e";
+			case 0x537f: return "4b3474";
+			case 0x5380: return "216d5d";
+			case 0x5382: return "273d2c";
+			case 0x5384: return "213475";
+			case 0x5385: return "273d2f";
+			case 0x5386: return "27462a";
+			case 0x5389: return "27347b";
+			case 0x538b: return "273869";
+			case 0x538c: return "27347a";
+			case 0x538d: return "276d6d";
+			case 0x538e: return "216d64";
+			case 0x5393: return "216d66";
+			case 0x5394: return "216d67";
+			case 0x5395: return "273c7e";
+			case 0x5396: return "2d3d2d";
+			case 0x5398: return "275d3d";
+			case 0x5399: return "216d6d";
+			case 0x539a: return "213476";
+			case 0x539b: return "2d3d2f";
+			case 0x539d: return "213477";
+			case 0x539f: return "213478";
+			case 0x53a0: return "2d3c7e";
+			case 0x53a2: return "2d3c7d";
+			case 0x53a3: return "276e2a";
+			case 0x53a4: return "216d7a";
+			case 0x53a5: return "213479";
+			case 0x53a6: return "4b3d24";
+			case 0x53a8: return "333d28";
+			case 0x53a9: return "4c284c";
+			case 0x53ab: return "216d7b";
+			case 0x53ad: return "21347a";
+			case 0x53ae: return "2d3d29";
+			case 0x53af: return "222d56";
+			case 0x53b0: return "4b3d2c";
+			case 0x53b2: return "21347b";
+			case 0x53b3: return "4b375a";
+			case 0x53b5: return "216e2c";
+			case 0x53b6: return "274f25";
+			case 0x53b9: return "216e2e";
+			case 0x53bb: return "21347c";
+			case 0x53bf: return "455164";
+			case 0x53c1: return "33347d";
+			case 0x53c2: return "27347d";
+			case 0x53c3: return "21347d";
+			case 0x53c8: return "21347e";
+			case 0x53c9: return "213521";
+			case 0x53ca: return "213523";
+			case 0x53cb: return "213522";
+			case 0x53cc: return "275f4e";
+			case 0x53cd: return "213524";
+			case 0x53ce: return "33423d";
+			case 0x53d0: return "216e3e";
+			case 0x53d1: return "27615f";
+			case 0x53d4: return "213526";
+			case 0x53d6: return "213525";
+			case 0x53d7: return "213527";
+			case 0x53d8: return "27594b";
+			case 0x53d9: return "2d4249";
+			case 0x53da: return "216e48";
+			case 0x53db: return "213528";
+			case 0x53dc: return "333529";
+			case 0x53df: return "213529";
+			case 0x53e0: return "2d4c3c";
+			case 0x53e1: return "2d4d65";
+			case 0x53e2: return "21352b";
+			case 0x53e3: return "21352c";
+			case 0x53e4: return "21352e";
+			case 0x53e5: return "213539";
+			case 0x53e6: return "213535";
+			case 0x53e8: return "213534";
+			case 0x53e9: return "213531";
+			case 0x53ea: return "275f3e";
+			case 0x53eb: return "213537";
+			case 0x53ec: return "213536";
+			case 0x53ed: return "21353b";
+			case 0x53ee: return "21352f";
+			case 0x53ef: return "213530";
+			case 0x53f0: return "283b7d";
+			case 0x53f1: return "21353a";
+			case 0x53f2: return "21353d";
+			case 0x53f3: return "213532";
+			case 0x53f5: return "21344b";
+			case 0x53f6: return "27554f";
+			case 0x53f7: return "27564a";
+			case 0x53f8: return "21352d";
+			case 0x53f9: return "27372c";
+			case 0x53fa: return "69525d";
+			case 0x53fb: return "216e57";
+			case 0x53fc: return "213533";
+			case 0x53fd: return "273740";
+			case 0x5401: return "275055";
+			case 0x5403: return "213547";
+			case 0x5404: return "213546";
+			case 0x5405: return "33365a";
+			case 0x5406: return "216e68";
+			case 0x5408: return "275e5d";
+			case 0x5409: return "213540";
+			case 0x540a: return "213544";
+			case 0x540b: return "21353f";
+			case 0x540c: return "213543";
+			case 0x540d: return "213545";
+			case 0x540e: return "273d65";
+			case 0x540f: return "213542";
+			case 0x5410: return "213541";
+			case 0x5411: return "273755";
+			case 0x5412: return "213548";
+			case 0x5413: return "273751";
+			case 0x5414: return "216e61";
+			case 0x5415: return "333564";
+			case 0x5416: return "705f39";
+			case 0x5417: return "27367a";
+			case 0x541a: return "216e6f";
+			case 0x541b: return "213550";
+			case 0x541d: return "21354e";
+			case 0x541e: return "21354f";
+			case 0x541f: return "213566";
+			case 0x5420: return "21355a";
+			case 0x5421: return "216e76";
+			case 0x5422: return "216f26";
+			case 0x5423: return "216f27";
+			case 0x5426: return "213559";
+			case 0x5427: return "213553";
+			case 0x5428: return "273744";
+			case 0x5429: return "213567";
+			case 0x542a: return "216f24";
+			case 0x542b: return "213565";
+			case 0x542c: return "27527b";
+			case 0x542d: return "21354d";
+			case 0x542e: return "21355e";
+			case 0x542f: return "3f424f";
+			case 0x5430: return "216e78";
+			case 0x5431: return "213555";
+			case 0x5432: return "216e70";
+			case 0x5433: return "21355c";
+			case 0x5434: return "2d355c";
+			case 0x5435: return "21355d";
+			case 0x5436: return "21355b";
+			case 0x5438: return "213562";
+			case 0x5439: return "213563";
+			case 0x543b: return "213561";
+			case 0x543c: return "213557";
+			case 0x543d: return "216e7d";
+			case 0x543e: return "213552";
+			case 0x5440: return "213554";
+			case 0x5442: return "213564";
+			case 0x5443: return "213558";
+			case 0x5445: return "216e6d";
+			case 0x5446: return "213556";
+			case 0x5448: return "213560";
+			case 0x5449: return "33355c";
+			case 0x544a: return "21355f";
+			case 0x544b: return "4d386f";
+			case 0x544c: return "216e6c";
+			case 0x544e: return "213551";
+			case 0x544f: return "216f21";
+			case 0x5452: return "277267";
+			case 0x5453: return "273762";
+			case 0x5454: return "216e79";
+			case 0x5455: return "27372e";
+			case 0x5456: return "27734c";
+			case 0x5457: return "277030";
+			case 0x5458: return "27363e";
+			case 0x5459: return "276f69";
+			case 0x545b: return "273722";
+			case 0x545c: return "273721";
+			case 0x545f: return "216f2e";
+			case 0x5462: return "213569";
+			case 0x5463: return "216f4a";
+			case 0x5464: return "216f53";
+			case 0x5466: return "216f52";
+			case 0x5468: return "213574";
+			case 0x546a: return "2d3571";
+			case 0x546b: return "216f43";
+			case 0x546d: return "216f3a";
+			case 0x5470: return "216f68";
+			case 0x5471: return "21357b";
+			case 0x5472: return "216f67";
+			case 0x5473: return "213568";
+			case 0x5474: return "216f4b";
+			case 0x5475: return "21356a";
+			case 0x5476: return "21357a";
+			case 0x5477: return "21356e";
+			case 0x5478: return "21356c";
+			case 0x547b: return "21356f";
+			case 0x547c: return "213573";
+			case 0x547d: return "213579";
+			case 0x547f: return "216f37";
+			case 0x5480: return "27373d";
+			case 0x5482: return "216f39";
+			case 0x5484: return "213572";
+			case 0x5486: return "213575";
+			case 0x5488: return "216f35";
+			case 0x548b: return "213576";
+			case 0x548c: return "213577";
+			case 0x548d: return "216f49";
+			case 0x548e: return "21357d";
+			case 0x548f: return "2d584d";
+			case 0x5490: return "213578";
+			case 0x5491: return "216f3b";
+			case 0x5492: return "213571";
+			case 0x5494: return "216f42";
+			case 0x5495: return "21356b";
+			case 0x5496: return "21356d";
+			case 0x5499: return "273756";
+			case 0x549a: return "21357c";
+			case 0x549b: return "27374e";
+			case 0x549c: return "216f2f";
+			case 0x549d: return "705f50";
+			case 0x54a1: return "216f58";
+			case 0x54a2: return "216f66";
+			case 0x54a3: return "705f5b";
+			case 0x54a4: return "216f55";
+			case 0x54a5: return "216f60";
+			case 0x54a6: return "213626";
+			case 0x54a7: return "216f63";
+			case 0x54a8: return "213622";
+			case 0x54a9: return "21357e";
+			case 0x54aa: return "213621";
+			case 0x54ab: return "213627";
+			case 0x54ac: return "213623";
+			case 0x54ad: return "216f5a";
+			case 0x54ae: return "216f6d";
+			case 0x54af: return "213632";
+			case 0x54b1: return "213630";
+			case 0x54b2: return "334f71";
+			case 0x54b3: return "213625";
+			case 0x54b4: return "705f54";
+			case 0x54b5: return "216f64";
+			case 0x54b7: return "216f6a";
+			case 0x54b8: return "276250";
+			case 0x54ba: return "216f5b";
+			case 0x54bb: return "213631";
+			case 0x54bc: return "216f69";
+			case 0x54bd: return "2d3758";
+			case 0x54be: return "216f5e";
+			case 0x54bf: return "216f71";
+			case 0x54c0: return "213624";
+			case 0x54c1: return "21362d";
+			case 0x54c2: return "21362b";
+			case 0x54c4: return "21362a";
+			case 0x54c6: return "216f74";
+			case 0x54c7: return "213628";
+			case 0x54c8: return "213633";
+			case 0x54c9: return "213629";
+			case 0x54cc: return "4b357b";
+			case 0x54cd: return "276036";
+			case 0x54ce: return "21362f";
+			case 0x54cf: return "216f5c";
+			case 0x54d0: return "705f51";
+			case 0x54d1: return "273649";
+			case 0x54d2: return "277272";
+			case 0x54d3: return "277255";
+			case 0x54d4: return "277239";
+			case 0x54d5: return "27727a";
+			case 0x54d6: return "216f6c";
+			case 0x54d7: return "335941";
+			case 0x54d8: return "695326";
+			case 0x54d9: return "27727e";
+			case 0x54da: return "705f61";
+			case 0x54dc: return "277328";
+			case 0x54dd: return "273747";
+			case 0x54de: return "216f6b";
+			case 0x54df: return "273671";
+			case 0x54e1: return "21363e";
+			case 0x54e2: return "216f7c";
+			case 0x54e4: return "21702a";
+			case 0x54e5: return "21363a";
+			case 0x54e6: return "213643";
+			case 0x54e7: return "217025";
+			case 0x54e8: return "21363d";
+			case 0x54e9: return "21363f";
+			case 0x54ea: return "213637";
+			case 0x54ed: return "213640";
+			case 0x54ee: return "21363b";
+			case 0x54ef: return "217032";
+			case 0x54f2: return "21363c";
+			case 0x54f3: return "217027";
+			case 0x54f6: return "217038";
+			case 0x54f7: return "217039";
+			case 0x54fa: return "213639";
+			case 0x54fc: return "213635";
+			case 0x54fd: return "217024";
+			case 0x54ff: return "21702d";
+			case 0x5501: return "213634";
+			case 0x5504: return "217030";
+			case 0x5506: return "213641";
+			case 0x5507: return "216f7d";
+			case 0x5508: return "217034";
+			case 0x5509: return "213642";
+			case 0x550a: return "21702b";
+			case 0x550e: return "21703e";
+			case 0x550f: return "217046";
+			case 0x5510: return "213636";
+			case 0x5511: return "217047";
+			case 0x5514: return "213638";
+			case 0x5517: return "217023";
+			case 0x5518: return "21702e";
+			case 0x551a: return "216f7b";
+			case 0x551b: return "277234";
+			case 0x5520: return "273732";
+			case 0x5522: return "277169";
+			case 0x5523: return "217044";
+			case 0x5524: return "27366d";
+			case 0x5527: return "21365e";
+			case 0x552a: return "21705d";
+			case 0x552c: return "213651";
+			case 0x552d: return "217059";
+			case 0x552e: return "213657";
+			case 0x552f: return "213656";
+			case 0x5530: return "217068";
+			case 0x5531: return "21364f";
+			case 0x5533: return "213645";
+			case 0x5535: return "21706b";
+			case 0x5536: return "217061";
+			case 0x5537: return "213647";
+			case 0x5538: return "213659";
+			case 0x5539: return "217057";
+			case 0x553c: return "217053";
+			case 0x553e: return "213653";
+			case 0x553f: return "217079";
+			case 0x5540: return "21706a";
+			case 0x5541: return "21707b";
+			case 0x5543: return "213650";
+			case 0x5544: return "21364d";
+			case 0x5545: return "217070";
+			case 0x5546: return "213646";
+			case 0x5548: return "217058";
+			case 0x5549: return "217064";
+			case 0x554a: return "21364c";
+			case 0x554c: return "21704e";
+			case 0x554d: return "217050";
+			case 0x554f: return "213648";
+			case 0x5550: return "217055";
+			case 0x5551: return "21705a";
+			case 0x5553: return "21424f";
+			case 0x5554: return "39424f";
+			case 0x5555: return "213655";
+			case 0x5556: return "213644";
+			case 0x5557: return "2d3644";
+			case 0x5559: return "21714b";
+			case 0x555a: return "217051";
+			case 0x555c: return "21364e";
+			case 0x555d: return "69533b";
+			case 0x555e: return "213649";
+			case 0x555f: return "2d424f";
+			case 0x5561: return "213652";
+			case 0x5562: return "217060";
+			case 0x5563: return "213654";
+			case 0x5564: return "213658";
+			case 0x5565: return "21707d";
+			case 0x5566: return "21364a";
+			case 0x5567: return "273727";
+			case 0x556a: return "21364b";
+			case 0x556c: return "273678";
+			case 0x556d: return "27375c";
+			case 0x556e: return "277345";
+			case 0x5573: return "21704d";
+			case 0x5575: return "21704b";
+			case 0x5576: return "21704f";
+			case 0x5577: return "217125";
+			case 0x5578: return "273733";
+			case 0x557b: return "21365c";
+			case 0x557c: return "21365d";
+			case 0x557e: return "21366e";
+			case 0x5580: return "21365b";
+			case 0x5581: return "217144";
+			case 0x5582: return "213669";
+			case 0x5583: return "213666";
+			case 0x5584: return "21523f";
+			case 0x5586: return "21712f";
+			case 0x5587: return "213660";
+			case 0x5588: return "217134";
+			case 0x5589: return "213670";
+			case 0x558a: return "213665";
+			case 0x558b: return "213662";
+			case 0x558e: return "217145";
+			case 0x558f: return "217149";
+			case 0x5591: return "217123";
+			case 0x5592: return "217151";
+			case 0x5593: return "21712d";
+			case 0x5594: return "21365f";
+			case 0x5598: return "21366c";
+			case 0x5599: return "217152";
+			case 0x559a: return "21366d";
+			case 0x559c: return "213661";
+			case 0x559d: return "21366b";
+			case 0x559e: return "39365e";
+			case 0x559f: return "21366a";
+			case 0x55a4: return "217150";
+			case 0x55a7: return "21365a";
+			case 0x55a8: return "217126";
+			case 0x55aa: return "213663";
+			case 0x55ab: return "2d3547";
+			case 0x55ac: return "21366f";
+			case 0x55ad: return "217127";
+			case 0x55ae: return "213668";
+			case 0x55b0: return "396074";
+			case 0x55b1: return "213667";
+			case 0x55b2: return "213671";
+			case 0x55b3: return "213664";
+			case 0x55b4: return "217136";
+			case 0x55b5: return "217147";
+			case 0x55b6: return "4b4a2e";
+			case 0x55b7: return "273745";
+			case 0x55b9: return "70602d";
+			case 0x55bb: return "213672";
+			case 0x55bd: return "273731";
+			case 0x55be: return "27735a";
+			case 0x55c1: return "217178";
+			case 0x55c3: return "21715e";
+			case 0x55c4: return "217165";
+			case 0x55c5: return "21367e";
+			case 0x55c6: return "213722";
+			case 0x55c7: return "213678";
+			case 0x55c9: return "21715f";
+			case 0x55ca: return "217161";
+			case 0x55cc: return "217158";
+			case 0x55cd: return "21715b";
+			case 0x55ce: return "21367a";
+			case 0x55cf: return "21716f";
+			case 0x55d0: return "217159";
+			case 0x55d1: return "213675";
+			case 0x55d2: return "217170";
+			case 0x55d3: return "213679";
+			case 0x55d4: return "2d7164";
+			case 0x55d6: return "217177";
+			case 0x55d9: return "21715d";
+			case 0x55da: return "213721";
+			case 0x55db: return "21715a";
+			case 0x55dc: return "213676";
+			case 0x55dd: return "217162";
+			case 0x55de: return "21715c";
+			case 0x55df: return "213674";
+			case 0x55e1: return "213723";
+			case 0x55e2: return "2d7143";
+			case 0x55e3: return "21367b";
+			case 0x55e4: return "21367d";
+			case 0x55e5: return "217175";
+			case 0x55e6: return "213677";
+			case 0x55e7: return "216c50";
+			case 0x55e8: return "213673";
+			case 0x55e9: return "217169";
+			case 0x55ea: return "70603a";
+			case 0x55eb: return "27375d";
+			case 0x55ec: return "4b356a";
+			case 0x55ef: return "21367c";
+			case 0x55f2: return "217179";
+			case 0x55f3: return "27374b";
+			case 0x55f4: return "217156";
+			case 0x55f5: return "70604c";
+			case 0x55f6: return "217239";
+			case 0x55f7: return "213728";
+			case 0x55f8: return "217227";
+			case 0x55f9: return "21722b";
+			case 0x55fb: return "217224";
+			case 0x55fd: return "21372b";
+			case 0x55fe: return "213726";
+			case 0x55ff: return "217244";
+			case 0x5600: return "213724";
+			case 0x5601: return "217236";
+			case 0x5602: return "21723c";
+			case 0x5605: return "21712a";
+			case 0x5606: return "4b372c";
+			case 0x5608: return "213729";
+			case 0x5609: return "21372d";
+			case 0x560c: return "217231";
+			case 0x560d: return "213731";
+			case 0x560e: return "21372f";
+			case 0x560f: return "217228";
+			case 0x5610: return "217235";
+			case 0x5611: return "393573";
+			case 0x5612: return "217225";
+			case 0x5613: return "217238";
+			case 0x5614: return "21372e";
+			case 0x5616: return "213727";
+			case 0x5617: return "213730";
+			case 0x561b: return "213725";
+			case 0x561c: return "217234";
+			case 0x561d: return "217242";
+			case 0x561e: return "21722e";
+			case 0x561f: return "21372a";
+			case 0x5620: return "21725d";
+			case 0x5623: return "706054";
+			case 0x5624: return "27375b";
+			case 0x5627: return "21717e";
+			case 0x5629: return "2d5941";
+			case 0x562a: return "217260";
+			case 0x562b: return "21726b";
+			case 0x562c: return "217264";
+			case 0x562d: return "706058";
+			case 0x562e: return "213732";
+			case 0x562f: return "213733";
+			case 0x5630: return "213740";
+			case 0x5631: return "273764";
+			case 0x5632: return "213736";
+			case 0x5634: return "21373d";
+			case 0x5635: return "217255";
+			case 0x5636: return "213735";
+			case 0x5637: return "21373e";
+			case 0x5638: return "217267";
+			case 0x5639: return "213738";
+			case 0x563b: return "213737";
+			case 0x563d: return "217261";
+			case 0x563f: return "21373c";
+			case 0x5640: return "217252";
+			case 0x5641: return "217258";
+			case 0x5642: return "217247";
+			case 0x5649: return "217257";
+			case 0x564b: return "21724b";
+			case 0x564c: return "217248";
+			case 0x564d: return "217269";
+			case 0x564e: return "213734";
+			case 0x564f: return "21726c";
+			case 0x5650: return "2d3749";
+			case 0x5653: return "21373b";
+			case 0x5654: return "21725e";
+			case 0x5657: return "213739";
+			case 0x5658: return "21725c";
+			case 0x5659: return "21373f";
+			case 0x565c: return "273754";
+			case 0x565f: return "21726f";
+			case 0x5660: return "217272";
+			case 0x5662: return "4b374c";
+			case 0x5664: return "213742";
+			case 0x5665: return "213747";
+			case 0x5666: return "21727a";
+			case 0x5668: return "4b3749";
+			case 0x5669: return "213743";
+			case 0x566a: return "213748";
+			case 0x566b: return "213741";
+			case 0x566c: return "21374d";
+			case 0x566d: return "21727c";
+			case 0x566f: return "21374b";
+			case 0x5670: return "21726e";
+			case 0x5671: return "21374a";
+			case 0x5672: return "21727e";
+			case 0x5673: return "21727b";
+			case 0x5674: return "213745";
+			case 0x5676: return "217278";
+			case 0x5678: return "213744";
+			case 0x5679: return "213746";
+			case 0x567a: return "694838";
+			case 0x567b: return "706067";
+			case 0x567c: return "217270";
+			case 0x5680: return "21374e";
+			case 0x5684: return "217335";
+			case 0x5685: return "213750";
+			case 0x5686: return "217334";
+			case 0x5687: return "213751";
+			case 0x568a: return "217337";
+			case 0x568c: return "217328";
+			case 0x568e: return "21374f";
+			case 0x568f: return "213753";
+			case 0x5690: return "213752";
+			case 0x5691: return "217336";
+			case 0x5693: return "217325";
+			case 0x5695: return "213754";
+			case 0x5699: return "217345";
+			case 0x569a: return "217342";
+			case 0x569c: return "217341";
+			case 0x569e: return "21733e";
+			case 0x56a0: return "4b4937";
+			case 0x56a3: return "27375e";
+			case 0x56a5: return "4b3758";
+			case 0x56a6: return "21734c";
+			case 0x56a8: return "213756";
+			case 0x56ac: return "21734e";
+			case 0x56ad: return "21734b";
+			case 0x56ae: return "453755";
+			case 0x56af: return "4d3359";
+			case 0x56b0: return "213757";
+			case 0x56b2: return "217353";
+			case 0x56b3: return "21735a";
+			case 0x56b4: return "21375a";
+			case 0x56b6: return "21375b";
+			case 0x56b7: return "213759";
+			case 0x56ba: return "217332";
+			case 0x56bc: return "21375f";
+			case 0x56c0: return "21375c";
+			case 0x56c1: return "21375d";
+			case 0x56c2: return "21375e";
+			case 0x56c3: return "21735b";
+			case 0x56c5: return "217360";
+			case 0x56c8: return "213762";
+			case 0x56c9: return "213761";
+			case 0x56ca: return "213760";
+			case 0x56cc: return "39563c";
+			case 0x56cd: return "217367";
+			case 0x56ce: return "695375";
+			case 0x56cf: return "217362";
+			case 0x56d1: return "213764";
+			case 0x56d3: return "2d7345";
+			case 0x56d4: return "21736a";
+			case 0x56d7: return "21736b";
+			case 0x56d8: return "4b3768";
+			case 0x56da: return "213766";
+			case 0x56db: return "213765";
+			case 0x56dd: return "21736d";
+			case 0x56de: return "213768";
+			case 0x56df: return "217370";
+			case 0x56e0: return "213767";
+			case 0x56e1: return "21736f";
+			case 0x56e2: return "28702e";
+			case 0x56e3: return "4b3773";
+			case 0x56e4: return "213769";
+			case 0x56e7: return "217377";
+			case 0x56eb: return "217375";
+			case 0x56ec: return "2d3768";
+			case 0x56ed: return "273771";
+			case 0x56ee: return "217376";
+			case 0x56ef: return "27376f";
+			case 0x56f0: return "274d57";
+			case 0x56f1: return "21376b";
+			case 0x56f2: return "393770";
+			case 0x56f3: return "4b3774";
+			case 0x56f4: return "273770";
+			case 0x56f5: return "27742e";
+			case 0x56f7: return "21737e";
+			case 0x56f9: return "4b7421";
+			case 0x56fa: return "21376c";
+			case 0x56fb: return "217379";
+			case 0x56fd: return "4b376f";
+			case 0x56fe: return "273774";
+			case 0x56ff: return "217424";
+			case 0x5700: return "2d376f";
+			case 0x5702: return "217429";
+			case 0x5703: return "21376d";
+			case 0x5704: return "217428";
+			case 0x5705: return "217427";
+			case 0x5706: return "273772";
+			case 0x5707: return "21742e";
+			case 0x5708: return "21376e";
+			case 0x5709: return "21742d";
+			case 0x570a: return "21742c";
+			case 0x570b: return "21376f";
+			case 0x570c: return "217430";
+			case 0x570d: return "213770";
+			case 0x5712: return "213771";
+			case 0x5713: return "213772";
+			case 0x5714: return "217432";
+			case 0x5715: return "217431";
+			case 0x5716: return "213774";
+			case 0x5718: return "213773";
+			case 0x571a: return "217435";
+			case 0x571b: return "217436";
+			case 0x571c: return "217437";
+			case 0x571d: return "217439";
+			case 0x571e: return "21743a";
+			case 0x571f: return "213775";
+			case 0x5723: return "27526f";
+			case 0x5724: return "217441";
+			case 0x5726: return "695429";
+			case 0x5727: return "4b3869";
+			case 0x5728: return "21377a";
+			case 0x5729: return "217443";
+			case 0x572a: return "21744c";
+			case 0x572c: return "343a5b";
+			case 0x572d: return "213777";
+			case 0x572e: return "217442";
+			case 0x572f: return "213778";
+			case 0x5730: return "213779";
+			case 0x5733: return "21377b";
+			case 0x5737: return "69542a";
+			case 0x5738: return "217448";
+			case 0x5739: return "27386b";
+			case 0x573a: return "27384a";
+			case 0x573b: return "2d3830";
+			case 0x573e: return "213824";
+			case 0x573f: return "21746a";
+			case 0x5740: return "213821";
+			case 0x5742: return "395e71";
+			case 0x5745: return "217465";
+			case 0x5747: return "213822";
+			case 0x5749: return "217463";
+			case 0x574a: return "21377d";
+			case 0x574b: return "217468";
+			case 0x574c: return "217469";
+			case 0x574d: return "213823";
+			case 0x574e: return "213825";
+			case 0x574f: return "27386e";
+			case 0x5750: return "273c77";
+			case 0x5751: return "21377c";
+			case 0x5757: return "273856";
+			case 0x575a: return "2d383f";
+			case 0x575b: return "287431";
+			case 0x575c: return "27386f";
+			case 0x575d: return "273871";
+			case 0x575e: return "273855";
+			case 0x575f: return "273860";
+			case 0x5760: return "273861";
+			case 0x5761: return "21382b";
+			case 0x5764: return "21382c";
+			case 0x5766: return "21382d";
+			case 0x5767: return "21747a";
+			case 0x5768: return "217470";
+			case 0x5769: return "213829";
+			case 0x576a: return "213828";
+			case 0x576b: return "2d3c70";
+			case 0x576d: return "217477";
+			case 0x576e: return "21752a";
+			case 0x576f: return "33386e";
+			case 0x5770: return "217526";
+			case 0x5771: return "217528";
+			case 0x5773: return "217535";
+			case 0x5774: return "217479";
+			case 0x5775: return "217531";
+			case 0x5776: return "21752d";
+			case 0x5777: return "21382a";
+			case 0x577b: return "217532";
+			case 0x577c: return "21382f";
+			case 0x577f: return "217530";
+			case 0x5782: return "21382e";
+			case 0x5783: return "213827";
+			case 0x5784: return "27386d";
+			case 0x5785: return "27785a";
+			case 0x5786: return "27785e";
+			case 0x5788: return "217533";
+			case 0x5789: return "21752e";
+			case 0x578a: return "217475";
+			case 0x578b: return "213831";
+			case 0x578c: return "217549";
+			case 0x5790: return "217539";
+			case 0x5792: return "27386c";
+			case 0x5793: return "21753a";
+			case 0x5794: return "217545";
+			case 0x5795: return "21755b";
+			case 0x5797: return "21754b";
+			case 0x5799: return "217548";
+			case 0x579a: return "217543";
+			case 0x579b: return "2d7552";
+			case 0x579c: return "217552";
+			case 0x579d: return "21754e";
+			case 0x579e: return "21753f";
+			case 0x579f: return "217538";
+			case 0x57a0: return "213830";
+			case 0x57a1: return "217557";
+			case 0x57a2: return "213834";
+			case 0x57a3: return "213832";
+			case 0x57a4: return "217547";
+			case 0x57a6: return "273867";
+			case 0x57a7: return "217554";
+			case 0x57a9: return "27383e";
+			case 0x57aa: return "69543a";
+			case 0x57ab: return "27385a";
+			case 0x57ad: return "277638";
+			case 0x57ae: return "213833";
+			case 0x57b0: return "69543b";
+			case 0x57b2: return "277748";
+			case 0x57b3: return "695438";
+			case 0x57b4: return "705b71";
+			case 0x57b5: return "217540";
+			case 0x57b8: return "21755f";
+			case 0x57bb: return "4b3871";
+			case 0x57be: return "21756c";
+			case 0x57c0: return "4b382e";
+			case 0x57c2: return "213836";
+			case 0x57c3: return "213839";
+			case 0x57c4: return "217622";
+			case 0x57c6: return "21757e";
+			case 0x57c7: return "217560";
+			case 0x57cb: return "213838";
+			case 0x57ce: return "213837";
+			case 0x57cf: return "21765a";
+			case 0x57d2: return "217577";
+			case 0x57d3: return "4b7577";
+			case 0x57d4: return "213835";
+			case 0x57d5: return "217573";
+			case 0x57d6: return "695442";
+			case 0x57d8: return "277742";
+			case 0x57d9: return "277745";
+			case 0x57da: return "27767a";
+			case 0x57db: return "217571";
+			case 0x57dc: return "335d3b";
+			case 0x57dd: return "21765b";
+			case 0x57df: return "21383d";
+			case 0x57e0: return "213843";
+			case 0x57e3: return "217629";
+			case 0x57e4: return "213842";
+			case 0x57e6: return "21762d";
+			case 0x57ec: return "217635";
+			case 0x57ed: return "217631";
+			case 0x57ef: return "217643";
+			case 0x57f0: return "217652";
+			case 0x57f3: return "217658";
+			case 0x57f4: return "4b763d";
+			case 0x57f5: return "217726";
+			case 0x57f6: return "21762c";
+			case 0x57f7: return "21383b";
+			case 0x57f8: return "21764e";
+			case 0x57f9: return "21383a";
+			case 0x57fa: return "21383c";
+			case 0x57fb: return "21762a";
+			case 0x57fc: return "2d3c21";
+			case 0x57fd: return "21764d";
+			case 0x5800: return "217633";
+			case 0x5801: return "217648";
+			case 0x5802: return "213840";
+			case 0x5803: return "21762b";
+			case 0x5804: return "217659";
+			case 0x5805: return "21383f";
+			case 0x5806: return "213841";
+			case 0x5807: return "217636";
+			case 0x5809: return "21756a";
+			case 0x580a: return "21383e";
+			case 0x580b: return "217656";
+			case 0x580c: return "217650";
+			case 0x580d: return "217640";
+			case 0x580e: return "217639";
+			case 0x580f: return "21763b";
+			case 0x5810: return "21763e";
+			case 0x5811: return "27385b";
+			case 0x5812: return "217649";
+			case 0x5813: return "217651";
+			case 0x5815: return "273862";
+			case 0x5818: return "217723";
+			case 0x5819: return "217669";
+			case 0x581b: return "217667";
+			case 0x581d: return "21767a";
+			case 0x581e: return "21766c";
+			case 0x5820: return "21772b";
+			case 0x5821: return "21384b";
+			case 0x5824: return "213849";
+			case 0x5826: return "2d5f2c";
+			case 0x5827: return "217671";
+			case 0x5828: return "217676";
+			case 0x582a: return "213847";
+			case 0x582d: return "217729";
+			case 0x582e: return "217678";
+			case 0x582f: return "213845";
+			case 0x5830: return "213848";
+			case 0x5831: return "213844";
+			case 0x5833: return "21766a";
+			case 0x5834: return "21384a";
+			case 0x5835: return "213846";
+			case 0x583a: return "2d4c2c";
+			case 0x583d: return "217749";
+			case 0x583f: return "21766d";
+			case 0x5840: return "21775f";
+			case 0x5841: return "4b386c";
+			case 0x5844: return "21767d";
+			case 0x5847: return "21765f";
+			case 0x5848: return "217721";
+			case 0x584a: return "213856";
+			case 0x584b: return "217737";
+			case 0x584c: return "213851";
+			case 0x584d: return "21774d";
+			case 0x584e: return "217730";
+			case 0x584f: return "217748";
+			case 0x5851: return "21384f";
+			case 0x5852: return "217742";
+			case 0x5853: return "217747";
+			case 0x5854: return "213854";
+			case 0x5856: return "21774e";
+			case 0x5857: return "21384d";
+			case 0x5858: return "21384e";
+			case 0x5859: return "217735";
+			case 0x585a: return "213852";
+			case 0x585d: return "217733";
+			case 0x585e: return "21384c";
+			case 0x585f: return "2d5550";
+			case 0x5861: return "4b3850";
+			case 0x5862: return "213855";
+			case 0x5864: return "217745";
+			case 0x5865: return "21773d";
+			case 0x5869: return "2d6251";
+			case 0x586b: return "213850";
+			case 0x586c: return "217740";
+			case 0x586d: return "4b3853";
+			case 0x5870: return "69544b";
+			case 0x5872: return "2d384a";
+			case 0x5875: return "213859";
+			case 0x5879: return "21385b";
+			case 0x587c: return "217761";
+			case 0x587d: return "21776b";
+			case 0x587e: return "213858";
+			case 0x587f: return "21776f";
+			case 0x5880: return "21385f";
+			case 0x5881: return "217770";
+			case 0x5883: return "213857";
+			case 0x5885: return "21385c";
+			case 0x5888: return "217763";
+			case 0x5889: return "21775c";
+			case 0x588a: return "21385a";
+			case 0x588e: return "21775a";
+			case 0x5890: return "217765";
+			case 0x5892: return "217758";
+			case 0x5893: return "21385d";
+			case 0x5896: return "2d3854";
+			case 0x5897: return "4b385e";
+			case 0x5898: return "217768";
+			case 0x5899: return "274a46";
+			case 0x589a: return "217755";
+			case 0x589b: return "217760";
+			case 0x589c: return "213861";
+			case 0x589d: return "346622";
+			case 0x589e: return "21385e";
+			case 0x589f: return "213863";
+			case 0x58a0: return "21782e";
+			case 0x58a1: return "21777e";
+			case 0x58a3: return "217830";
+			case 0x58a6: return "217832";
+			case 0x58a8: return "216267";
+			case 0x58a9: return "21777b";
+			case 0x58ab: return "2d4550";
+			case 0x58ad: return "21782b";
+			case 0x58ae: return "213862";
+			case 0x58b1: return "217824";
+			case 0x58b3: return "213860";
+			case 0x58b8: return "695457";
+			case 0x58b9: return "695451";
+			case 0x58ba: return "21784c";
+			case 0x58bb: return "2d4a46";
+			case 0x58bc: return "217841";
+			case 0x58be: return "213867";
+			case 0x58bf: return "217849";
+			case 0x58c1: return "213866";
+			case 0x58c5: return "213865";
+			case 0x58c6: return "21784b";
+			case 0x58c7: return "4b3864";
+			case 0x58c8: return "21783a";
+			case 0x58ca: return "2d386e";
+			case 0x58cc: return "4b3870";
+			case 0x58ce: return "217856";
+			case 0x58d1: return "21386a";
+			case 0x58d2: return "217854";
+			case 0x58d3: return "213869";
+			case 0x58d5: return "213868";
+			case 0x58d6: return "217850";
+			case 0x58d7: return "69545c";
+			case 0x58d8: return "21386c";
+			case 0x58d9: return "21386b";
+			case 0x58da: return "21785e";
+			case 0x58dc: return "347431";
+			case 0x58de: return "21386e";
+			case 0x58df: return "21386d";
+			case 0x58e0: return "21785a";
+			case 0x58e2: return "21386f";
+			case 0x58e4: return "213870";
+			case 0x58e5: return "69545f";
+			case 0x58e9: return "213871";
+			case 0x58eb: return "213872";
+			case 0x58ec: return "213873";
+			case 0x58ee: return "273874";
+			case 0x58ef: return "213874";
+			case 0x58f0: return "275274";
+			case 0x58f1: return "4b3021";
+			case 0x58f2: return "395a2f";
+			case 0x58f3: return "27463c";
+			case 0x58f6: return "273876";
+			case 0x58f7: return "2d3876";
+			case 0x58f9: return "333021";
+			case 0x58fa: return "213876";
+			case 0x58fb: return "2d3a2f";
+			case 0x58fc: return "21786c";
+			case 0x58fd: return "213877";
+			case 0x5900: return "2d3877";
+			case 0x5902: return "217870";
+			case 0x5904: return "275647";
+			case 0x5906: return "217873";
+			case 0x5907: return "273240";
+			case 0x5909: return "4b594b";
+			case 0x590a: return "4b7874";
+			case 0x590d: return "273d6f";
+			case 0x590f: return "213878";
+			case 0x5910: return "21787a";
+			case 0x5911: return "22545c";
+			case 0x5914: return "213879";
+			case 0x5915: return "21387a";
+			case 0x5916: return "21387b";
+			case 0x5918: return "2d346a";
+			case 0x5919: return "21387c";
+			case 0x591a: return "21387d";
+			case 0x591b: return "4b387d";
+			case 0x591c: return "21387e";
+			case 0x591f: return "2d3921";
+			case 0x5920: return "213921";
+			case 0x5922: return "213924";
+			case 0x5924: return "213922";
+			case 0x5925: return "213923";
+			case 0x5927: return "213925";
+			case 0x5929: return "213928";
+			case 0x592a: return "213926";
+			case 0x592b: return "213927";
+			case 0x592c: return "217928";
+			case 0x592d: return "213929";
+			case 0x592e: return "21392a";
+			case 0x592f: return "21792b";
+			case 0x5931: return "21392b";
+			case 0x5932: return "334369";
+			case 0x5934: return "276046";
+			case 0x5937: return "21392c";
+			case 0x5938: return "275861";
+			case 0x5939: return "27392e";
+			case 0x593a: return "273940";
+			case 0x593c: return "217930";
+			case 0x593e: return "21392e";
+			case 0x5940: return "217933";
+			case 0x5941: return "27393f";
+			case 0x5942: return "4b3938";
+			case 0x5944: return "213933";
+			case 0x5947: return "213932";
+			case 0x5948: return "213931";
+			case 0x5949: return "213930";
+			case 0x594b: return "273941";
+			case 0x594d: return "217938";
+			case 0x594e: return "213936";
+			case 0x594f: return "213937";
+			case 0x5950: return "213938";
+			case 0x5951: return "213935";
+			case 0x5953: return "217943";
+			case 0x5954: return "21392f";
+			case 0x5955: return "213934";
+			case 0x5956: return "277954";
+			case 0x5957: return "213939";
+			case 0x5958: return "21393a";
+			case 0x595a: return "21393b";
+			case 0x595c: return "21794b";
+			case 0x5960: return "21393c";
+			case 0x5961: return "21794f";
+			case 0x5962: return "21393d";
+			case 0x5965: return "4b393e";
+			case 0x5967: return "21393e";
+			case 0x5968: return "4b7954";
+			case 0x5969: return "21393f";
+			case 0x596a: return "213940";
+			case 0x596c: return "217954";
+			case 0x596d: return "217955";
+			case 0x596e: return "213941";
+			case 0x5973: return "213942";
+			case 0x5974: return "213943";
+			case 0x5976: return "213944";
+			case 0x5978: return "213947";
+			case 0x5979: return "213949";
+			case 0x597c: return "217965";
+			case 0x597d: return "213948";
+			case 0x5981: return "21394b";
+			case 0x5982: return "21394a";
+			case 0x5983: return "213946";
+			case 0x5984: return "213945";
+			case 0x5986: return "273953";
+			case 0x5987: return "273a27";
+			case 0x5988: return "273a36";
+			case 0x598a: return "213956";
+			case 0x598d: return "2d7a44";
+			case 0x5990: return "217a21";
+			case 0x5992: return "21394d";
+			case 0x5993: return "213951";
+			case 0x5996: return "213957";
+			case 0x5997: return "21797c";
+			case 0x5998: return "21796b";
+			case 0x5999: return "213954";
+			case 0x599a: return "21796f";
+			case 0x599b: return "69562c";
+			case 0x599d: return "213953";
+			case 0x599e: return "213952";
+			case 0x59a0: return "217971";
+			case 0x59a3: return "213950";
+			case 0x59a4: return "21394f";
+			case 0x59a5: return "213955";
+			case 0x59a7: return "217969";
+			case 0x59a8: return "21394c";
+			case 0x59a9: return "273a45";
+			case 0x59aa: return "273a3b";
+			case 0x59ab: return "277c36";
+			case 0x59ac: return "2d394d";
+			case 0x59ae: return "21395a";
+			case 0x59af: return "213960";
+			case 0x59b2: return "217a35";
+			case 0x59b3: return "393944";
+			case 0x59b5: return "217a25";
+			case 0x59b7: return "217a3a";
+			case 0x59b8: return "217a2c";
+			case 0x59b9: return "21395c";
+			case 0x59ba: return "217a2a";
+			case 0x59bb: return "213959";
+			case 0x59be: return "213958";
+			case 0x59c1: return "217a3e";
+			case 0x59c5: return "217a24";
+			case 0x59c6: return "21395d";
+			case 0x59c9: return "333963";
+			case 0x59ca: return "213963";
+			case 0x59cb: return "213965";
+			case 0x59cf: return "217a28";
+			case 0x59d0: return "21395e";
+			case 0x59d1: return "21395b";
+			case 0x59d2: return "213961";
+			case 0x59d3: return "213962";
+			case 0x59d4: return "213966";
+			case 0x59d7: return "21395f";
+			case 0x59d8: return "21396a";
+			case 0x59d9: return "2d3956";
+			case 0x59da: return "213972";
+			case 0x59dc: return "275624";
+			case 0x59dd: return "217a5e";
+			case 0x59de: return "217a52";
+			case 0x59e3: return "213967";
+			case 0x59e4: return "217a61";
+			case 0x59e5: return "21396d";
+			case 0x59e6: return "213971";
+			case 0x59e8: return "21396c";
+			case 0x59ea: return "21396e";
+			case 0x59ec: return "213978";
+			case 0x59ee: return "217a4f";
+			case 0x59f1: return "217a50";
+			case 0x59f6: return "217a5d";
+			case 0x59f8: return "217a44";
+			case 0x59f9: return "217a43";
+			case 0x59fa: return "217a5f";
+			case 0x59fb: return "213970";
+			case 0x59fd: return "217a56";
+			case 0x59ff: return "213969";
+			case 0x5a00: return "217a51";
+			case 0x5a01: return "21396f";
+			case 0x5a03: return "21396b";
+			case 0x5a04: return "273a28";
+			case 0x5a05: return "277b3c";
+			case 0x5a06: return "277d2b";
+			case 0x5a07: return "273a44";
+			case 0x5a08: return "277d74";
+			case 0x5a09: return "217a78";
+			case 0x5a0c: return "21397c";
+			case 0x5a11: return "213973";
+			case 0x5a12: return "217a7e";
+			case 0x5a13: return "213977";
+			case 0x5a16: return "217a75";
+			case 0x5a18: return "213974";
+			case 0x5a1a: return "4b3666";
+			case 0x5a1b: return "21397b";
+			case 0x5a1c: return "213976";
+			case 0x5a1f: return "21397a";
+			case 0x5a20: return "213979";
+			case 0x5a23: return "213975";
+			case 0x5a25: return "21397e";
+			case 0x5a29: return "21397d";
+			case 0x5a2a: return "217a6e";
+			case 0x5a2c: return "217b41";
+			case 0x5a2f: return "4b397b";
+			case 0x5a31: return "2d397b";
+			case 0x5a32: return "277c24";
+			case 0x5a34: return "273a41";
+			case 0x5a35: return "217b3d";
+			case 0x5a36: return "213a24";
+			case 0x5a38: return "217b3a";
+			case 0x5a3c: return "213a29";
+			case 0x5a3f: return "2d3a26";
+			case 0x5a40: return "213a26";
+			case 0x5a41: return "213a28";
+			case 0x5a46: return "213a21";
+			case 0x5a49: return "213a22";
+			case 0x5a4a: return "213a25";
+			case 0x5a50: return "217b48";
+			case 0x5a55: return "217b3e";
+			case 0x5a5a: return "213a2b";
+			case 0x5a5e: return "217b3b";
+			case 0x5a60: return "217b2c";
+			case 0x5a62: return "213a2a";
+			case 0x5a63: return "2d3970";
+			case 0x5a64: return "217b52";
+			case 0x5a65: return "217b49";
+			case 0x5a66: return "213a27";
+			case 0x5a67: return "217b31";
+			case 0x5a6a: return "213a23";
+			case 0x5a6c: return "334770";
+			case 0x5a6d: return "217b3c";
+			case 0x5a74: return "273a4a";
+			case 0x5a75: return "273a43";
+			case 0x5a76: return "273a4b";
+			case 0x5a77: return "213a2c";
+			case 0x5a7a: return "217b6a";
+			case 0x5a7c: return "217c28";
+			case 0x5a7f: return "213a2f";
+			case 0x5a8a: return "217b65";
+			case 0x5a8c: return "217c22";
+			case 0x5a90: return "217c4a";
+			case 0x5a92: return "213a2e";
+			case 0x5a93: return "217c30";
+			case 0x5a95: return "217c35";
+			case 0x5a96: return "217c29";
+			case 0x5a9a: return "213a2d";
+			case 0x5a9b: return "213a31";
+			case 0x5a9c: return "217c27";
+			case 0x5a9e: return "217c25";
+			case 0x5a9f: return "217b71";
+			case 0x5aa0: return "217b75";
+			case 0x5aa2: return "217c26";
+			case 0x5aa6: return "217c21";
+			case 0x5aa7: return "217c24";
+			case 0x5aaa: return "217c52";
+			case 0x5aac: return "217c31";
+			case 0x5aae: return "217c34";
+			case 0x5aaf: return "217c36";
+			case 0x5ab1: return "217c5b";
+			case 0x5ab2: return "213a37";
+			case 0x5ab3: return "213a39";
+			case 0x5ab5: return "217c3e";
+			case 0x5ab7: return "217c45";
+			case 0x5ab8: return "217c4f";
+			case 0x5aba: return "217c50";
+			case 0x5abc: return "213a30";
+			case 0x5abd: return "213a36";
+			case 0x5abe: return "213a35";
+			case 0x5abf: return "2d3f2a";
+			case 0x5ac1: return "213a33";
+			case 0x5ac2: return "213a38";
+			case 0x5ac4: return "217c41";
+			case 0x5ac8: return "217c39";
+			case 0x5ac9: return "213a34";
+			case 0x5acb: return "2d3a47";
+			case 0x5acc: return "213a32";
+			case 0x5acf: return "217b69";
+			case 0x5ad0: return "453666";
+			case 0x5ad1: return "217c49";
+			case 0x5ad2: return "277d48";
+			case 0x5ad3: return "217c59";
+			case 0x5ad4: return "273a48";
+			case 0x5ad6: return "213a3c";
+			case 0x5ad7: return "213a3b";
+			case 0x5ad8: return "213a3f";
+			case 0x5ada: return "217c7b";
+			case 0x5adc: return "217c60";
+			case 0x5ae0: return "217c6e";
+			case 0x5ae1: return "213a3a";
+			case 0x5ae3: return "213a3d";
+			case 0x5ae5: return "217c6d";
+			case 0x5ae6: return "213a40";
+			case 0x5ae9: return "213a3e";
+			case 0x5aea: return "217c72";
+			case 0x5aeb: return "217c7c";
+			case 0x5af1: return "277d40";
+			case 0x5af5: return "213a45";
+			case 0x5afa: return "2d3a41";
+			case 0x5afb: return "213a41";
+			case 0x5afd: return "217d2a";
+			case 0x5aff: return "217d26";
+			case 0x5b03: return "217d38";
+			case 0x5b08: return "217d2b";
+			case 0x5b09: return "213a42";
+			case 0x5b0b: return "213a43";
+			case 0x5b0c: return "213a44";
+			case 0x5b0d: return "217d2e";
+			case 0x5b16: return "217d3e";
+			case 0x5b17: return "217d3d";
+			case 0x5b19: return "217d40";
+			case 0x5b1b: return "217d47";
+			case 0x5b1d: return "213a47";
+			case 0x5b21: return "217d48";
+			case 0x5b22: return "4b3974";
+			case 0x5b24: return "213a49";
+			case 0x5b2a: return "213a48";
+			case 0x5b2c: return "217d52";
+			case 0x5b2d: return "333944";
+			case 0x5b30: return "213a4a";
+			case 0x5b32: return "217d59";
+			case 0x5b34: return "213a46";
+			case 0x5b36: return "69554e";
+			case 0x5b37: return "4b3a49";
+			case 0x5b38: return "213a4b";
+			case 0x5b3e: return "333f55";
+			case 0x5b3f: return "217d63";
+			case 0x5b40: return "213a4c";
+			case 0x5b43: return "2d3974";
+			case 0x5b45: return "217d6e";
+			case 0x5b4b: return "217d76";
+			case 0x5b4c: return "217d74";
+			case 0x5b50: return "213a4d";
+			case 0x5b51: return "213a4e";
+			case 0x5b53: return "213a4f";
+			case 0x5b54: return "213a50";
+			case 0x5b55: return "213a51";
+			case 0x5b56: return "217d7c";
+			case 0x5b57: return "213a52";
+			case 0x5b58: return "213a53";
+			case 0x5b59: return "273a5b";
+			case 0x5b5a: return "273a5f";
+			case 0x5b5b: return "217e21";
+			case 0x5b5c: return "213a55";
+			case 0x5b5d: return "213a54";
+			case 0x5b5f: return "213a57";
+			case 0x5b62: return "217e23";
+			case 0x5b63: return "213a58";
+			case 0x5b64: return "213a59";
+			case 0x5b65: return "217e24";
+			case 0x5b66: return "273a60";
+			case 0x5b67: return "217e25";
+			case 0x5b69: return "213a5a";
+			case 0x5b6a: return "273a63";
+			case 0x5b6b: return "213a5b";
+			case 0x5b6c: return "217e28";
+			case 0x5b6e: return "217e2a";
+			case 0x5b70: return "213a5c";
+			case 0x5b71: return "213a5e";
+			case 0x5b73: return "213a5d";
+			case 0x5b75: return "213a5f";
+			case 0x5b78: return "213a60";
+			case 0x5b7a: return "213a61";
+			case 0x5b7b: return "217e30";
+			case 0x5b7c: return "217e31";
+			case 0x5b7d: return "213a62";
+			case 0x5b7f: return "213a63";
+			case 0x5b80: return "217e32";
+			case 0x5b81: return "273b32";
+			case 0x5b82: return "453336";
+			case 0x5b83: return "274a53";
+			case 0x5b84: return "217e34";
+			case 0x5b85: return "213a68";
+			case 0x5b87: return "213a65";
+			case 0x5b88: return "213a66";
+			case 0x5b89: return "213a67";
+			case 0x5b8b: return "213a6a";
+			case 0x5b8c: return "213a69";
+			case 0x5b8d: return "2d5323";
+			case 0x5b8f: return "213a6b";
+			case 0x5b93: return "217e43";
+			case 0x5b95: return "217e40";
+			case 0x5b97: return "213a6c";
+			case 0x5b98: return "213a6f";
+			case 0x5b99: return "213a70";
+			case 0x5b9a: return "213a6d";
+			case 0x5b9b: return "213a71";
+			case 0x5b9c: return "213a6e";
+			case 0x5b9d: return "273b39";
+			case 0x5b9e: return "273b31";
+			case 0x5b9f: return "4b3b31";
+			case 0x5ba0: return "273b38";
+			case 0x5ba1: return "273b36";
+			case 0x5ba2: return "213a76";
+			case 0x5ba3: return "213a73";
+			case 0x5ba4: return "213a75";
+			case 0x5ba5: return "213a72";
+			case 0x5ba6: return "213a74";
+			case 0x5ba7: return "217e52";
+			case 0x5baa: return "273f3e";
+			case 0x5bac: return "217e49";
+			case 0x5bae: return "213a7c";
+			case 0x5bb0: return "213a77";
+			case 0x5bb3: return "213a7e";
+			case 0x5bb4: return "213a7b";
+			case 0x5bb5: return "213a7a";
+			case 0x5bb6: return "27323e";
+			case 0x5bb7: return "217e55";
+			case 0x5bb8: return "213a78";
+			case 0x5bb9: return "213a7d";
+			case 0x5bbd: return "273b35";
+			case 0x5bbe: return "275a29";
+			case 0x5bbf: return "213b26";
+			case 0x5bc1: return "217e59";
+			case 0x5bc2: return "213b25";
+			case 0x5bc3: return "4b7e6a";
+			case 0x5bc4: return "213b24";
+			case 0x5bc5: return "213b23";
+			case 0x5bc6: return "213b21";
+			case 0x5bc7: return "213b22";
+			case 0x5bc9: return "217e60";
+			case 0x5bcc: return "213b27";
+			case 0x5bd0: return "213b29";
+			case 0x5bd2: return "213b28";
+			case 0x5bd3: return "213b2a";
+			case 0x5bd4: return "217e68";
+			case 0x5bd6: return "217e6e";
+			case 0x5bd7: return "217e75";
+			case 0x5bd8: return "395230";
+			case 0x5bdd: return "273b2e";
+			case 0x5bde: return "213b30";
+			case 0x5bdf: return "213b33";
+			case 0x5be0: return "217e79";
+			case 0x5be1: return "213b2b";
+			case 0x5be2: return "213b2e";
+			case 0x5be4: return "213b2f";
+			case 0x5be5: return "213b2c";
+			case 0x5be6: return "213b31";
+			case 0x5be7: return "213b32";
+			case 0x5be8: return "213b2d";
+			case 0x5be9: return "213b36";
+			case 0x5bea: return "217e7e";
+			case 0x5beb: return "213b37";
+			case 0x5bec: return "213b35";
+			case 0x5bee: return "213b34";
+			case 0x5bef: return "222225";
+			case 0x5bf0: return "222224";
+			case 0x5bf3: return "393b39";
+			case 0x5bf5: return "213b38";
+			case 0x5bf6: return "213b39";
+			case 0x5bf8: return "213b3a";
+			case 0x5bf9: return "273b43";
+			case 0x5bfa: return "213b3b";
+			case 0x5bfb: return "273b42";
+			case 0x5bfc: return "273b44";
+			case 0x5bfe: return "4b3b43";
+			case 0x5bff: return "273877";
+			case 0x5c00: return "222233";
+			case 0x5c01: return "213b3c";
+			case 0x5c02: return "2d3b3f";
+			case 0x5c04: return "213b3d";
+			case 0x5c05: return "2d336b";
+			case 0x5c06: return "2d3b40";
+			case 0x5c07: return "213b40";
+			case 0x5c08: return "213b3f";
+			case 0x5c09: return "213b3e";
+			case 0x5c0a: return "213b41";
+			case 0x5c0b: return "213b42";
+			case 0x5c0d: return "213b43";
+			case 0x5c0e: return "213b44";
+			case 0x5c0f: return "213b45";
+			case 0x5c11: return "213b46";
+			case 0x5c12: return "2d4a45";
+			case 0x5c13: return "4b4a45";
+			case 0x5c14: return "274a45";
+			case 0x5c15: return "22223c";
+			case 0x5c16: return "213b47";
+			case 0x5c18: return "273859";
+			case 0x5c1a: return "213b48";
+			case 0x5c1c: return "4b372f";
+			case 0x5c1d: return "273730";
+			case 0x5c1f: return "3f6179";
+			case 0x5c20: return "396179";
+			case 0x5c21: return "223930";
+			case 0x5c22: return "222246";
+			case 0x5c24: return "213b49";
+			case 0x5c25: return "222248";
+			case 0x5c27: return "273845";
+			case 0x5c28: return "2d632b";
+			case 0x5c2a: return "22224b";
+			case 0x5c2c: return "213b4a";
+			case 0x5c2f: return "222252";
+			case 0x5c31: return "213b4b";
+			case 0x5c32: return "22225b";
+			case 0x5c34: return "273b4c";
+			case 0x5c37: return "213b4c";
+			case 0x5c38: return "213b4d";
+			case 0x5c39: return "21303e";
+			case 0x5c3a: return "213b4e";
+			case 0x5c3b: return "222263";
+			case 0x5c3c: return "213b4f";
+			case 0x5c3d: return "274d3c";
+			case 0x5c3e: return "213b53";
+			case 0x5c3f: return "213b52";
+			case 0x5c40: return "213b50";
+			case 0x5c41: return "213b51";
+			case 0x5c42: return "273b61";
+			case 0x5c44: return "222265";
+			case 0x5c45: return "213b55";
+			case 0x5c46: return "213b54";
+			case 0x5c48: return "213b56";
+			case 0x5c49: return "222267";
+			case 0x5c4a: return "2d3b54";
+			case 0x5c4b: return "213b58";
+			case 0x5c4d: return "213b59";
+			case 0x5c4e: return "213b57";
+			case 0x5c4f: return "27415a";
+			case 0x5c50: return "213b5c";
+			case 0x5c51: return "213b5b";
+			case 0x5c53: return "4c2330";
+			case 0x5c55: return "213b5a";
+			case 0x5c57: return "222235";
+			case 0x5c58: return "217e27";
+			case 0x5c59: return "222279";
+			case 0x5c5b: return "213b5d";
+			case 0x5c5c: return "213b5f";
+			case 0x5c5d: return "22227b";
+			case 0x5c5e: return "273b63";
+			case 0x5c5f: return "22227c";
+			case 0x5c60: return "213b5e";
+			case 0x5c61: return "273b60";
+			case 0x5c62: return "213b60";
+			case 0x5c63: return "222323";
+			case 0x5c64: return "4b3b61";
+			case 0x5c65: return "213b62";
+			case 0x5c66: return "28232b";
+			case 0x5c67: return "222329";
+			case 0x5c68: return "22232b";
+			case 0x5c69: return "4b5a7e";
+			case 0x5c6c: return "213b63";
+			case 0x5c6d: return "222330";
+			case 0x5c6e: return "222331";
+			case 0x5c6f: return "213b64";
+			case 0x5c71: return "213b65";
+			case 0x5c73: return "222339";
+			case 0x5c74: return "222337";
+			case 0x5c76: return "4c233f";
+			case 0x5c77: return "22233b";
+			case 0x5c79: return "213b66";
+			case 0x5c7a: return "22233c";
+			case 0x5c7c: return "222340";
+			case 0x5c7f: return "273c2d";
+			case 0x5c81: return "274629";
+			case 0x5c82: return "275954";
+			case 0x5c88: return "222349";
+			case 0x5c8c: return "213b68";
+			case 0x5c8d: return "222379";
+			case 0x5c8f: return "222346";
+			case 0x5c90: return "213b67";
+			case 0x5c91: return "213b69";
+			case 0x5c94: return "213b6a";
+			case 0x5c96: return "273c2b";
+			case 0x5c97: return "393b6e";
+			case 0x5c98: return "282441";
+			case 0x5c99: return "22234d";
+			case 0x5c9a: return "273c28";
+			case 0x5c9b: return "273b79";
+			case 0x5c9c: return "706131";
+			case 0x5ca0: return "222357";
+			case 0x5ca1: return "213b6e";
+			case 0x5ca2: return "22235c";
+			case 0x5ca3: return "22236b";
+			case 0x5ca6: return "222355";
+			case 0x5ca7: return "222361";
+			case 0x5ca8: return "222366";
+			case 0x5ca9: return "273c33";
+			case 0x5cab: return "213b6f";
+			case 0x5cac: return "222367";
+			case 0x5cad: return "22236f";
+			case 0x5cb1: return "213b71";
+			case 0x5cb3: return "273c2e";
+			case 0x5cb5: return "222360";
+			case 0x5cb6: return "22236c";
+			case 0x5cb7: return "213b6b";
+			case 0x5cb8: return "213b6c";
+			case 0x5cbb: return "69562e";
+			case 0x5cbc: return "695630";
+			case 0x5cbd: return "342453";
+			case 0x5cbe: return "695633";
+			case 0x5cbf: return "282647";
+			case 0x5cc1: return "22236d";
+			case 0x5cc4: return "393b78";
+			case 0x5cc5: return "695632";
+			case 0x5cc7: return "222430";
+			case 0x5ccb: return "22242b";
+			case 0x5cd2: return "222428";
+			case 0x5cd3: return "222378";
+			case 0x5cd5: return "222370";
+			case 0x5cd9: return "213b72";
+			case 0x5cdc: return "222431";
+			case 0x5cdd: return "222429";
+			case 0x5ce0: return "222426";
+			case 0x5ce1: return "273b74";
+			case 0x5ce4: return "282577";
+			case 0x5ce5: return "4b3c23";
+			case 0x5ce6: return "273c31";
+			case 0x5ce8: return "213b77";
+			case 0x5ce9: return "2d3b77";
+			case 0x5cea: return "213b7a";
+			case 0x5ceb: return "22243c";
+			case 0x5ced: return "213b75";
+			case 0x5cef: return "2d3b78";
+			case 0x5cf0: return "213b78";
+			case 0x5cf1: return "222446";
+			case 0x5cf4: return "222441";
+			case 0x5cf6: return "213b79";
+			case 0x5cfa: return "4b4e39";
+			case 0x5cfb: return "213b76";
+			case 0x5cfd: return "213b74";
+			case 0x5cff: return "22243b";
+			case 0x5d00: return "222434";
+			case 0x5d01: return "213b73";
+			case 0x5d02: return "282569";
+			case 0x5d03: return "282458";
+			case 0x5d06: return "213b7c";
+			case 0x5d07: return "213b7b";
+			case 0x5d08: return "2d3b7b";
+			case 0x5d0b: return "39553c";
+			case 0x5d0c: return "222452";
+			case 0x5d0d: return "222458";
+			case 0x5d0e: return "213c21";
+			case 0x5d10: return "2d3c22";
+			case 0x5d11: return "213c22";
+			case 0x5d12: return "22244a";
+			case 0x5d14: return "213c25";
+			case 0x5d15: return "4b3b7e";
+			case 0x5d16: return "213b7e";
+			case 0x5d17: return "2d3b6e";
+			case 0x5d18: return "2d3c26";
+			case 0x5d19: return "213c26";
+			case 0x5d1a: return "222450";
+			case 0x5d1b: return "213b7d";
+			case 0x5d1e: return "222449";
+			case 0x5d1f: return "2e257b";
+			case 0x5d20: return "222453";
+			case 0x5d21: return "222454";
+			case 0x5d22: return "213c23";
+			case 0x5d24: return "222469";
+			case 0x5d26: return "22245a";
+			case 0x5d27: return "222457";
+			case 0x5d29: return "213c24";
+			case 0x5d2d: return "273c2a";
+			case 0x5d2e: return "22245d";
+			case 0x5d32: return "22252f";
+			case 0x5d34: return "222477";
+			case 0x5d36: return "222471";
+			case 0x5d3d: return "222527";
+			case 0x5d3e: return "222472";
+			case 0x5d3f: return "222525";
+			case 0x5d42: return "222531";
+			case 0x5d47: return "22252d";
+			case 0x5d4a: return "222544";
+			case 0x5d4b: return "222474";
+			case 0x5d4c: return "213c27";
+			case 0x5d4e: return "222528";
+			case 0x5d50: return "213c28";
+			case 0x5d52: return "222526";
+			case 0x5d57: return "222476";
+			case 0x5d58: return "282632";
+			case 0x5d59: return "22252c";
+			case 0x5d5b: return "4c2532";
+			case 0x5d5c: return "4b3c21";
+			case 0x5d5d: return "28255a";
+			case 0x5d62: return "22254a";
+			case 0x5d69: return "213c29";
+			case 0x5d6b: return "22253a";
+			case 0x5d6c: return "222549";
+			case 0x5d6f: return "222539";
+			case 0x5d73: return "4c2539";
+			case 0x5d74: return "222534";
+			case 0x5d75: return "22253f";
+			case 0x5d76: return "69564e";
+			case 0x5d79: return "222550";
+			case 0x5d7e: return "222560";
+			case 0x5d81: return "22255a";
+			case 0x5d82: return "22254d";
+			case 0x5d84: return "213c2a";
+			case 0x5d87: return "213c2b";
+			case 0x5d8b: return "2d3b79";
+			case 0x5d8c: return "4b3b79";
+			case 0x5d8e: return "222551";
+			case 0x5d90: return "695657";
+			case 0x5d92: return "222566";
+			case 0x5d93: return "222575";
+			case 0x5d94: return "22257b";
+			case 0x5d97: return "222569";
+			case 0x5d99: return "222568";
+			case 0x5d9d: return "213c2c";
+			case 0x5da0: return "222577";
+			case 0x5da1: return "222573";
+			case 0x5da2: return "22256a";
+			case 0x5da7: return "222626";
+			case 0x5dac: return "22257e";
+			case 0x5dae: return "22262f";
+			case 0x5db0: return "22262a";
+			case 0x5db4: return "22262e";
+			case 0x5db6: return "222630";
+			case 0x5db7: return "222636";
+			case 0x5db8: return "222632";
+			case 0x5dba: return "4b3c2f";
+			case 0x5dbc: return "213c2d";
+			case 0x5dbd: return "213c2e";
+			case 0x5dbf: return "222634";
+			case 0x5dc3: return "22263e";
+			case 0x5dc5: return "273c32";
+			case 0x5dc7: return "222644";
+			case 0x5dc9: return "222646";
+			case 0x5dcb: return "222647";
+			case 0x5dcc: return "4b3c33";
+			case 0x5dcd: return "213c30";
+			case 0x5dd2: return "213c31";
+			case 0x5dd3: return "4b3c32";
+			case 0x5dd4: return "213c32";
+			case 0x5dd6: return "213c33";
+			case 0x5dd8: return "22264e";
+			case 0x5ddb: return "222650";
+			case 0x5ddc: return "222652";
+			case 0x5ddd: return "213c34";
+			case 0x5dde: return "213c35";
+			case 0x5de1: return "215b69";
+			case 0x5de2: return "213c36";
+			case 0x5de3: return "2d3c36";
+			case 0x5de4: return "222656";
+			case 0x5de5: return "213c37";
+			case 0x5de6: return "213c3a";
+			case 0x5de7: return "213c39";
+			case 0x5de8: return "213c38";
+			case 0x5de9: return "276023";
+			case 0x5deb: return "213c3b";
+			case 0x5dee: return "213c3c";
+			case 0x5def: return "282659";
+			case 0x5df1: return "213c3d";
+			case 0x5df2: return "213c3e";
+			case 0x5df3: return "213c3f";
+			case 0x5df4: return "275458";
+			case 0x5df5: return "4b346b";
+			case 0x5df7: return "213c41";
+			case 0x5dfd: return "213c42";
+			case 0x5dfe: return "213c43";
+			case 0x5e00: return "222662";
+			case 0x5e01: return "273c5e";
+			case 0x5e02: return "213c44";
+			case 0x5e03: return "273138";
+			case 0x5e05: return "273c4f";
+			case 0x5e06: return "213c46";
+			case 0x5e08: return "273c51";
+			case 0x5e0b: return "2d5124";
+			case 0x5e0c: return "274f36";
+			case 0x5e0f: return "282736";
+			case 0x5e10: return "273c52";
+			case 0x5e11: return "213c4d";
+			case 0x5e12: return "222677";
+			case 0x5e14: return "222672";
+			case 0x5e15: return "213c4b";
+			case 0x5e16: return "213c4a";
+			case 0x5e17: return "222673";
+			case 0x5e18: return "275048";
+			case 0x5e19: return "222676";
+			case 0x5e1a: return "213c49";
+			case 0x5e1b: return "213c4c";
+			case 0x5e1c: return "273c60";
+			case 0x5e1d: return "213c4e";
+			case 0x5e1f: return "222678";
+			case 0x5e21: return "22267b";
+			case 0x5e22: return "222722";
+			case 0x5e23: return "22267a";
+			case 0x5e25: return "213c4f";
+			case 0x5e26: return "273c53";
+			case 0x5e27: return "273c58";
+			case 0x5e28: return "222724";
+			case 0x5e2b: return "213c51";
+			case 0x5e2c: return "2d5760";
+			case 0x5e2d: return "27555d";
+			case 0x5e2e: return "273c61";
+			case 0x5e2f: return "4b3c53";
+			case 0x5e30: return "3f462b";
+			case 0x5e31: return "28275f";
+			case 0x5e32: return "2f3b63";
+			case 0x5e33: return "213c52";
+			case 0x5e36: return "213c53";
+			case 0x5e37: return "213c55";
+			case 0x5e38: return "213c54";
+			case 0x5e3b: return "282747";
+			case 0x5e3c: return "273c5c";
+			case 0x5e3d: return "213c57";
+			case 0x5e40: return "213c58";
+			case 0x5e42: return "222739";
+			case 0x5e43: return "222736";
+			case 0x5e44: return "222735";
+			case 0x5e45: return "213c56";
+			case 0x5e47: return "2d3c61";
+			case 0x5e48: return "222748";
+			case 0x5e4c: return "213c59";
+			case 0x5e4e: return "22273f";
+			case 0x5e54: return "213c5b";
+			case 0x5e55: return "213c5d";
+			case 0x5e57: return "213c5c";
+			case 0x5e58: return "222747";
+			case 0x5e5b: return "213c5a";
+			case 0x5e5e: return "222757";
+			case 0x5e5f: return "213c60";
+			default: return null;
+		}
+	}
+
+	private String getCharTableCharString_0x5e61_0x73a9(Character c) {
+		switch((int)c.charValue()) {
+			case 0x5e61: return "222758";
+			case 0x5e62: return "213c5f";
+			case 0x5e63: return "213c5e";
+			case 0x5e64: return "4b3c5e";
+			case 0x5e68: return "22275d";
+			case 0x5e6a: return "222760";
+			case 0x5e6b: return "213c61";
+			case 0x5e6c: return "22275f";
+			case 0x5e6d: return "222764";
+			case 0x5e6e: return "222763";
+			case 0x5e70: return "222765";
+			case 0x5e72: return "273c67";
+			case 0x5e73: return "213c63";
+			case 0x5e74: return "213c65";
+			case 0x5e75: return "22276d";
+			case 0x5e76: return "273032";
+			case 0x5e78: return "2d3177";
+			case 0x5e79: return "3f304c";
+			case 0x5e7a: return "456260";
+			case 0x5e7b: return "213c68";
+			case 0x5e7c: return "213c69";
+			case 0x5e7d: return "213c6a";
+			case 0x5e7e: return "213c6b";
+			case 0x5e7f: return "273d2a";
+			case 0x5e80: return "222777";
+			case 0x5e81: return "333d2f";
+			case 0x5e83: return "333d2a";
+			case 0x5e84: return "27552d";
+			case 0x5e85: return "2d6260";
+			case 0x5e86: return "273f2e";
+			case 0x5e87: return "213c6d";
+			case 0x5e8a: return "213c6e";
+			case 0x5e8b: return "22277e";
+			case 0x5e8f: return "213c6c";
+			case 0x5e90: return "273d2e";
+			case 0x5e91: return "282868";
+			case 0x5e93: return "273c76";
+			case 0x5e94: return "273f4a";
+			case 0x5e95: return "213c73";
+			case 0x5e96: return "213c71";
+			case 0x5e97: return "213c70";
+			case 0x5e99: return "273d2b";
+			case 0x5e9a: return "213c6f";
+			case 0x5e9c: return "213c72";
+			case 0x5e9e: return "273d2d";
+			case 0x5e9f: return "273d27";
+			case 0x5ea0: return "213c74";
+			case 0x5ea4: return "22282f";
+			case 0x5ea5: return "222835";
+			case 0x5ea6: return "213c75";
+			case 0x5ea7: return "213c77";
+			case 0x5eab: return "213c76";
+			case 0x5ead: return "213c78";
+			case 0x5eaf: return "222836";
+			case 0x5eb3: return "22284b";
+			case 0x5eb5: return "213c7c";
+			case 0x5eb6: return "213c7b";
+			case 0x5eb7: return "213c79";
+			case 0x5eb8: return "213c7a";
+			case 0x5eb9: return "222842";
+			case 0x5ebd: return "2d3b2a";
+			case 0x5ebe: return "213d21";
+			case 0x5ebf: return "2d3d2b";
+			case 0x5ec1: return "213c7e";
+			case 0x5ec2: return "213c7d";
+			case 0x5ec3: return "4b3d27";
+			case 0x5ec4: return "22284c";
+			case 0x5ec8: return "213d24";
+			case 0x5ec9: return "213d23";
+			case 0x5eca: return "213d22";
+			case 0x5ecb: return "222855";
+			case 0x5ecc: return "222851";
+			case 0x5ecd: return "222857";
+			case 0x5ece: return "222861";
+			case 0x5ecf: return "2e284c";
+			case 0x5ed0: return "46284c";
+			case 0x5ed1: return "22285b";
+			case 0x5ed2: return "22285a";
+			case 0x5ed3: return "213d25";
+			case 0x5ed4: return "22285f";
+			case 0x5ed5: return "22285c";
+			case 0x5ed6: return "213d26";
+			case 0x5ed9: return "222860";
+			case 0x5eda: return "213d28";
+			case 0x5edb: return "4c2867";
+			case 0x5edd: return "213d29";
+			case 0x5edf: return "213d2b";
+			case 0x5ee0: return "213d2c";
+			case 0x5ee1: return "222868";
+			case 0x5ee2: return "213d27";
+			case 0x5ee3: return "4b3d2a";
+			case 0x5ee7: return "22286d";
+			case 0x5ee8: return "222871";
+			case 0x5ee9: return "334f37";
+			case 0x5eec: return "213d2e";
+			case 0x5eed: return "22287c";
+			case 0x5ef0: return "4b3d2f";
+			case 0x5ef1: return "222921";
+			case 0x5ef3: return "213d2f";
+			case 0x5ef4: return "222923";
+			case 0x5ef5: return "2d5b69";
+			case 0x5ef6: return "213d32";
+			case 0x5ef7: return "213d30";
+			case 0x5ef8: return "335b70";
+			case 0x5efa: return "213d33";
+			case 0x5efb: return "453768";
+			case 0x5efc: return "39303a";
+			case 0x5efe: return "2d3d34";
+			case 0x5eff: return "213d34";
+			case 0x5f00: return "275e53";
+			case 0x5f01: return "4b5b5e";
+			case 0x5f02: return "274c34";
+			case 0x5f03: return "27446d";
+			case 0x5f04: return "213d36";
+			case 0x5f07: return "222935";
+			case 0x5f08: return "213d37";
+			case 0x5f09: return "4b393a";
+			case 0x5f0a: return "213d38";
+			case 0x5f0b: return "22293a";
+			case 0x5f0c: return "2d3021";
+			case 0x5f0d: return "2d3051";
+			case 0x5f0f: return "213d39";
+			case 0x5f10: return "4b3051";
+			case 0x5f12: return "213d3a";
+			case 0x5f13: return "213d3b";
+			case 0x5f14: return "213d3d";
+			case 0x5f15: return "213d3c";
+			case 0x5f16: return "695737";
+			case 0x5f17: return "213d3f";
+			case 0x5f18: return "213d3e";
+			case 0x5f1b: return "213d40";
+			case 0x5f1f: return "213d41";
+			case 0x5f20: return "273d47";
+			case 0x5f22: return "22294b";
+			case 0x5f23: return "22294c";
+			case 0x5f24: return "22294d";
+			case 0x5f25: return "4b3d4c";
+			case 0x5f26: return "213d42";
+			case 0x5f27: return "213d43";
+			case 0x5f28: return "22294a";
+			case 0x5f29: return "213d44";
+			case 0x5f2a: return "282951";
+			case 0x5f2d: return "213d45";
+			case 0x5f2f: return "273d4d";
+			case 0x5f30: return "222952";
+			case 0x5f31: return "213d46";
+			case 0x5f33: return "222951";
+			case 0x5f35: return "213d47";
+			case 0x5f37: return "213d48";
+			case 0x5f38: return "222958";
+			case 0x5f39: return "273d4b";
+			case 0x5f3a: return "333d48";
+			case 0x5f3c: return "213d49";
+			case 0x5f3e: return "4b3d4b";
+			case 0x5f40: return "22295c";
+			case 0x5f41: return "69573b";
+			case 0x5f44: return "22295f";
+			case 0x5f46: return "213d4a";
+			case 0x5f48: return "213d4b";
+			case 0x5f4a: return "2d3d48";
+			case 0x5f4c: return "213d4c";
+			case 0x5f4d: return "4c2962";
+			case 0x5f4e: return "213d4d";
+			case 0x5f50: return "222968";
+			case 0x5f51: return "2e2968";
+			case 0x5f52: return "27462b";
+			case 0x5f53: return "274c39";
+			case 0x5f54: return "222969";
+			case 0x5f55: return "275d74";
+			case 0x5f56: return "22296a";
+			case 0x5f57: return "213d4e";
+			case 0x5f58: return "22296c";
+			case 0x5f59: return "213d4f";
+			case 0x5f5c: return "2d3d50";
+			case 0x5f5d: return "213d50";
+			case 0x5f60: return "222970";
+			case 0x5f61: return "222971";
+			case 0x5f62: return "213d51";
+			case 0x5f63: return "222972";
+			case 0x5f64: return "213d52";
+			case 0x5f65: return "213d53";
+			case 0x5f66: return "453d53";
+			case 0x5f67: return "222974";
+			case 0x5f69: return "213d55";
+			case 0x5f6a: return "215646";
+			case 0x5f6b: return "395f49";
+			case 0x5f6c: return "213d54";
+			case 0x5f6d: return "213d57";
+			case 0x5f70: return "213d58";
+			case 0x5f71: return "213d59";
+			case 0x5f72: return "222978";
+			case 0x5f73: return "222979";
+			case 0x5f74: return "22297c";
+			case 0x5f77: return "333078";
+			case 0x5f79: return "213d5b";
+			case 0x5f7b: return "273d74";
+			case 0x5f7c: return "213d5f";
+			case 0x5f7f: return "213d5e";
+			case 0x5f80: return "213d5c";
+			case 0x5f81: return "273d76";
+			case 0x5f82: return "222a23";
+			case 0x5f83: return "4b3d5c";
+			case 0x5f84: return "4b3d67";
+			case 0x5f85: return "213d60";
+			case 0x5f87: return "213d64";
+			case 0x5f88: return "213d61";
+			case 0x5f89: return "222a27";
+			case 0x5f8a: return "213d63";
+			case 0x5f8b: return "213d62";
+			case 0x5f8c: return "213d65";
+			case 0x5f8f: return "2f4a4a";
+			case 0x5f90: return "213d68";
+			case 0x5f91: return "213d67";
+			case 0x5f92: return "213d66";
+			case 0x5f93: return "2d3d6c";
+			case 0x5f94: return "222a2b";
+			case 0x5f95: return "4b314c";
+			case 0x5f97: return "213d6a";
+			case 0x5f98: return "213d69";
+			case 0x5f99: return "213d6b";
+			case 0x5f9a: return "222a3d";
+			case 0x5f9c: return "222a39";
+			case 0x5f9e: return "213d6c";
+			case 0x5fa0: return "33314c";
+			case 0x5fa1: return "2d4e79";
+			case 0x5fa7: return "2d5c3f";
+			case 0x5fa8: return "2d5c40";
+			case 0x5fa9: return "213d6f";
+			case 0x5faa: return "213d71";
+			case 0x5fac: return "213d72";
+			case 0x5fad: return "4c7328";
+			case 0x5fae: return "213d73";
+			case 0x5faf: return "222a46";
+			case 0x5fb3: return "333d75";
+			case 0x5fb4: return "2d3d76";
+			case 0x5fb5: return "213d76";
+			case 0x5fb7: return "213d75";
+			case 0x5fb9: return "213d74";
+			case 0x5fba: return "333251";
+			case 0x5fbc: return "222a50";
+			case 0x5fbd: return "213d77";
+			case 0x5fc3: return "213d78";
+			case 0x5fc5: return "213d79";
+			case 0x5fc6: return "273f48";
+			case 0x5fc8: return "333066";
+			case 0x5fc9: return "222a57";
+			case 0x5fcc: return "213d7c";
+			case 0x5fcd: return "213e21";
+			case 0x5fce: return "222a67";
+			case 0x5fcf: return "273f58";
+			case 0x5fd0: return "222a63";
+			case 0x5fd1: return "222a5f";
+			case 0x5fd2: return "222a61";
+			case 0x5fd6: return "213d7d";
+			case 0x5fd7: return "27586d";
+			case 0x5fd8: return "213d7b";
+			case 0x5fd9: return "213d7a";
+			case 0x5fdc: return "4b3f4a";
+			case 0x5fdd: return "213e26";
+			case 0x5fde: return "343875";
+			case 0x5fe0: return "213e23";
+			case 0x5fe1: return "222a78";
+			case 0x5fe4: return "222a7b";
+			case 0x5fe7: return "273f33";
+			case 0x5fea: return "222b24";
+			case 0x5feb: return "213e22";
+			case 0x5fed: return "222a68";
+			case 0x5fee: return "222a72";
+			case 0x5ff0: return "273e57";
+			case 0x5ff1: return "213e24";
+			case 0x5ff5: return "213e27";
+			case 0x5ff8: return "222a73";
+			case 0x5ffb: return "2d4574";
+			case 0x5ffd: return "213e25";
+			case 0x5ffe: return "273f29";
+			case 0x5fff: return "213e28";
+			case 0x6000: return "273f54";
+			case 0x6001: return "273f28";
+			case 0x6002: return "273f3b";
+			case 0x6003: return "282e52";
+			case 0x6004: return "282d74";
+			case 0x6005: return "273e5e";
+			case 0x6006: return "273f2b";
+			case 0x6008: return "222b31";
+			case 0x600a: return "222b36";
+			case 0x600c: return "222b37";
+			case 0x600d: return "222b45";
+			case 0x600e: return "213e35";
+			case 0x600f: return "213e2f";
+			case 0x6010: return "222b46";
+			case 0x6012: return "213e37";
+			case 0x6013: return "222b50";
+			case 0x6014: return "213e29";
+			case 0x6015: return "213e36";
+			case 0x6016: return "213e2d";
+			case 0x6017: return "222b3c";
+			case 0x6019: return "222b30";
+			case 0x601b: return "222b38";
+			case 0x601c: return "4b3f4b";
+			case 0x601d: return "213e2e";
+			case 0x6020: return "213e31";
+			case 0x6021: return "213e30";
+			case 0x6025: return "213e33";
+			case 0x6026: return "222b2a";
+			case 0x6027: return "213e34";
+			case 0x6028: return "213e32";
+			case 0x6029: return "222b2c";
+			case 0x602a: return "213e2b";
+			case 0x602b: return "222b2d";
+			case 0x602f: return "213e2c";
+			case 0x6031: return "336c6b";
+			case 0x6033: return "222b3d";
+			case 0x6035: return "4b3e2a";
+			case 0x6039: return "222b4b";
+			case 0x603a: return "69576a";
+			case 0x603b: return "27516d";
+			case 0x603c: return "282e7e";
+			case 0x603f: return "282e5c";
+			case 0x6041: return "222b71";
+			case 0x6042: return "222b74";
+			case 0x6043: return "213e3b";
+			case 0x6046: return "4b3e40";
+			case 0x6047: return "222b5a";
+			case 0x6049: return "222b5e";
+			case 0x604a: return "393460";
+			case 0x604b: return "273f5c";
+			case 0x604c: return "222b6f";
+			case 0x604d: return "213e41";
+			case 0x6050: return "213e3d";
+			case 0x6052: return "2d3e40";
+			case 0x6053: return "222b5f";
+			case 0x6054: return "222b53";
+			case 0x6055: return "213e49";
+			case 0x6059: return "213e38";
+			case 0x605a: return "2e2b5b";
+			case 0x605d: return "222b57";
+			case 0x605f: return "222b76";
+			case 0x6060: return "2d3e2b";
+			case 0x6061: return "222b7a";
+			case 0x6062: return "213e3f";
+			case 0x6063: return "213e39";
+			case 0x6064: return "213e47";
+			case 0x6065: return "213e3c";
+			case 0x6067: return "222b68";
+			case 0x6068: return "213e3a";
+			case 0x6069: return "213e43";
+			case 0x606a: return "213e46";
+			case 0x606b: return "213e42";
+			case 0x606c: return "213e44";
+			case 0x606d: return "213e3e";
+			case 0x606f: return "213e45";
+			case 0x6070: return "213e48";
+			case 0x6073: return "273f4e";
+			case 0x6075: return "2d3e60";
+			case 0x6076: return "277258";
+			case 0x6077: return "222b72";
+			case 0x6078: return "273f3a";
+			case 0x6079: return "282e79";
+			case 0x607a: return "282d5e";
+			case 0x607b: return "273e70";
+			case 0x607c: return "273e7e";
+			case 0x607d: return "282d34";
+			case 0x607f: return "213e4c";
+			case 0x6081: return "222c2d";
+			case 0x6083: return "222c30";
+			case 0x6084: return "213e50";
+			case 0x6089: return "213e53";
+			case 0x608a: return "222c24";
+			case 0x608b: return "33354e";
+			case 0x608c: return "213e4a";
+			case 0x608d: return "213e51";
+			case 0x6092: return "222c2b";
+			case 0x6094: return "213e54";
+			case 0x6095: return "222c3a";
+			case 0x6096: return "213e4f";
+			case 0x6097: return "222c32";
+			case 0x609a: return "213e4e";
+			case 0x609b: return "2e2b74";
+			case 0x609d: return "222c2c";
+			case 0x609e: return "222c2f";
+			case 0x609f: return "213e4d";
+			case 0x60a0: return "213e55";
+			case 0x60a3: return "213e52";
+			case 0x60a4: return "396c6b";
+			case 0x60a6: return "213e4b";
+			case 0x60a7: return "222c34";
+			case 0x60a8: return "213e56";
+			case 0x60a9: return "4b3e7e";
+			case 0x60aa: return "393e61";
+			case 0x60ab: return "282d79";
+			case 0x60ac: return "273f56";
+			case 0x60ad: return "282d77";
+			case 0x60af: return "273f41";
+			case 0x60b0: return "222c42";
+			case 0x60b1: return "222c60";
+			case 0x60b2: return "213e66";
+			case 0x60b3: return "222c54";
+			case 0x60b4: return "213e57";
+			case 0x60b5: return "213e5e";
+			case 0x60b6: return "213e5c";
+			case 0x60b8: return "213e68";
+			case 0x60bb: return "213e5f";
+			case 0x60bc: return "213e65";
+			case 0x60bd: return "33475f";
+			case 0x60be: return "222c46";
+			case 0x60c4: return "222c5d";
+			case 0x60c5: return "4b3e5b";
+			case 0x60c6: return "213e67";
+			case 0x60c7: return "222c3e";
+			case 0x60ca: return "27614b";
+			case 0x60cb: return "213e59";
+			case 0x60ce: return "222c4e";
+			case 0x60cf: return "222c51";
+			case 0x60d1: return "213e5d";
+			case 0x60d3: return "222c47";
+			case 0x60d4: return "222c48";
+			case 0x60d5: return "213e64";
+			case 0x60d8: return "213e63";
+			case 0x60d9: return "222c53";
+			case 0x60da: return "213e69";
+			case 0x60db: return "222c69";
+			case 0x60dc: return "213e62";
+			case 0x60dd: return "222c56";
+			case 0x60df: return "213e6a";
+			case 0x60e0: return "213e60";
+			case 0x60e1: return "213e61";
+			case 0x60e2: return "222c66";
+			case 0x60e3: return "222c62";
+			case 0x60e5: return "222c67";
+			case 0x60e6: return "213e58";
+			case 0x60e7: return "273f5b";
+			case 0x60e8: return "273f38";
+			case 0x60e9: return "222c6e";
+			case 0x60ea: return "2d3d75";
+			case 0x60eb: return "273f47";
+			case 0x60ec: return "273e6c";
+			case 0x60ed: return "273f31";
+			case 0x60ee: return "273f44";
+			case 0x60ef: return "273f39";
+			case 0x60f0: return "213e6f";
+			case 0x60f1: return "213e7e";
+			case 0x60f2: return "222d34";
+			case 0x60f3: return "213e6d";
+			case 0x60f4: return "213e76";
+			case 0x60f6: return "213e7b";
+			case 0x60f7: return "2d573b";
+			case 0x60f8: return "222d3b";
+			case 0x60f9: return "213e74";
+			case 0x60fa: return "213e71";
+			case 0x60fb: return "213e70";
+			case 0x60fc: return "222d41";
+			case 0x60fd: return "222c7c";
+			case 0x6100: return "213e79";
+			case 0x6101: return "213e7a";
+			case 0x6103: return "222c73";
+			case 0x6106: return "222d43";
+			case 0x6108: return "213e7d";
+			case 0x6109: return "213e7c";
+			case 0x610a: return "222d2a";
+			case 0x610d: return "222c7d";
+			case 0x610e: return "213e78";
+			case 0x610f: return "213e6b";
+			case 0x6110: return "222d2c";
+			case 0x6112: return "222d32";
+			case 0x6114: return "222c70";
+			case 0x6115: return "213e73";
+			case 0x6119: return "222c75";
+			case 0x611a: return "213e72";
+			case 0x611b: return "213e77";
+			case 0x611c: return "213e6c";
+			case 0x611f: return "213e6e";
+			case 0x6120: return "2d3f27";
+			case 0x6121: return "222d3f";
+			case 0x6123: return "213e75";
+			case 0x6124: return "273f42";
+			case 0x6125: return "222d37";
+			case 0x6126: return "282e4c";
+			case 0x6127: return "213f2a";
+			case 0x6128: return "2e2d79";
+			case 0x6129: return "222d50";
+			case 0x612b: return "222d4e";
+			case 0x612c: return "2d5856";
+			case 0x6130: return "222d58";
+			case 0x6133: return "333f5b";
+			case 0x6134: return "213f2b";
+			case 0x6137: return "222d5e";
+			case 0x613c: return "213f24";
+			case 0x613d: return "2d3464";
+			case 0x613e: return "213f29";
+			case 0x613f: return "276055";
+			case 0x6141: return "222d5b";
+			case 0x6142: return "393e4c";
+			case 0x6144: return "334449";
+			case 0x6146: return "222d61";
+			case 0x6147: return "213f2c";
+			case 0x6148: return "213f21";
+			case 0x6149: return "222d48";
+			case 0x614a: return "222d4a";
+			case 0x614b: return "213f28";
+			case 0x614c: return "213f26";
+			case 0x614d: return "213f27";
+			case 0x614e: return "3f3f24";
+			case 0x6150: return "222d51";
+			case 0x6151: return "273f59";
+			case 0x6153: return "222d7b";
+			case 0x6155: return "213f37";
+			case 0x6158: return "213f38";
+			case 0x6159: return "2d3f31";
+			case 0x615a: return "213f31";
+			case 0x615c: return "222e2f";
+			case 0x615d: return "213f32";
+			case 0x615e: return "222d66";
+			case 0x615f: return "213f3a";
+			case 0x6162: return "213f35";
+			case 0x6163: return "213f39";
+			case 0x6164: return "222d79";
+			case 0x6165: return "222e2d";
+			case 0x6167: return "213f2f";
+			case 0x6168: return "333f22";
+			case 0x616a: return "222d74";
+			case 0x616b: return "213f3b";
+			case 0x616e: return "213f36";
+			case 0x616f: return "222e2c";
+			case 0x6170: return "213f30";
+			case 0x6171: return "222d70";
+			case 0x6173: return "222d77";
+			case 0x6174: return "222d68";
+			case 0x6175: return "222d67";
+			case 0x6176: return "213f2e";
+			case 0x6177: return "213f2d";
+			case 0x617c: return "213f34";
+			case 0x617e: return "213f3c";
+			case 0x6182: return "213f33";
+			case 0x6183: return "222d6b";
+			case 0x6185: return "2d3f3a";
+			case 0x6187: return "273f45";
+			case 0x618a: return "213f47";
+			case 0x618b: return "222e23";
+			case 0x618d: return "222e55";
+			case 0x618e: return "4b3f40";
+			case 0x6190: return "213f4b";
+			case 0x6191: return "213f3f";
+			case 0x6192: return "222e4c";
+			case 0x6194: return "213f46";
+			case 0x6196: return "222e45";
+			case 0x6197: return "222e46";
+			case 0x6199: return "2d3661";
+			case 0x619a: return "213f44";
+			case 0x619c: return "222e42";
+			case 0x619d: return "222e32";
+			case 0x61a2: return "222e3d";
+			case 0x61a4: return "213f42";
+			case 0x61a6: return "222e33";
+			case 0x61a7: return "213f3d";
+			case 0x61a8: return "222e40";
+			case 0x61a9: return "213f45";
+			case 0x61ab: return "213f41";
+			case 0x61ac: return "213f43";
+			case 0x61ad: return "222e47";
+			case 0x61ae: return "222e52";
+			case 0x61af: return "222e43";
+			case 0x61b2: return "213f3e";
+			case 0x61b6: return "213f48";
+			case 0x61b7: return "706340";
+			case 0x61b8: return "222e6a";
+			case 0x61ba: return "222e68";
+			case 0x61be: return "213f4c";
+			case 0x61c2: return "213f4d";
+			case 0x61c3: return "393439";
+			case 0x61c6: return "222e5d";
+			case 0x61c7: return "213f4e";
+			case 0x61c8: return "213f4f";
+			case 0x61c9: return "213f4a";
+			case 0x61ca: return "4b3f50";
+			case 0x61cb: return "222e5a";
+			case 0x61cc: return "222e5c";
+			case 0x61cd: return "213f49";
+			case 0x61d0: return "2d3f54";
+			case 0x61d1: return "4b3f51";
+			case 0x61d2: return "273f55";
+			case 0x61dc: return "222e7d";
+			case 0x61de: return "3f5564";
+			case 0x61df: return "222e7e";
+			case 0x61e0: return "222e71";
+			case 0x61e3: return "213f51";
+			case 0x61e5: return "222e77";
+			case 0x61e6: return "213f52";
+			case 0x61f2: return "4b3f53";
+			case 0x61f3: return "222f29";
+			case 0x61f4: return "333f58";
+			case 0x61f5: return "213f57";
+			case 0x61f6: return "213f55";
+			case 0x61f7: return "213f54";
+			case 0x61f8: return "213f56";
+			case 0x61fa: return "213f58";
+			case 0x61fc: return "213f5b";
+			case 0x61fd: return "2d4621";
+			case 0x61fe: return "213f59";
+			case 0x61ff: return "213f5a";
+			case 0x6200: return "213f5c";
+			case 0x6201: return "222f3d";
+			case 0x6204: return "222f41";
+			case 0x6206: return "282f43";
+			case 0x6207: return "222f43";
+			case 0x6208: return "213f5d";
+			case 0x6209: return "222f44";
+			case 0x620a: return "213f5e";
+			case 0x620b: return "282f47";
+			case 0x620c: return "213f61";
+			case 0x620d: return "213f60";
+			case 0x620e: return "213f5f";
+			case 0x620f: return "273f6f";
+			case 0x6210: return "213f62";
+			case 0x6211: return "213f64";
+			case 0x6212: return "213f63";
+			case 0x6214: return "222f47";
+			case 0x6215: return "213f66";
+			case 0x6216: return "213f65";
+			case 0x6217: return "282f66";
+			case 0x6218: return "273f6e";
+			case 0x621a: return "213f68";
+			case 0x621b: return "213f67";
+			case 0x621d: return "4b5a23";
+			case 0x621e: return "2d3f67";
+			case 0x621f: return "213f69";
+			case 0x6221: return "213f6a";
+			case 0x6222: return "213f6b";
+			case 0x6223: return "222f56";
+			case 0x6224: return "222f5d";
+			case 0x6225: return "222f5b";
+			case 0x6226: return "2d3f6e";
+			case 0x6229: return "222f61";
+			case 0x622a: return "213f6c";
+			case 0x622c: return "4c2f61";
+			case 0x622d: return "222f67";
+			case 0x622e: return "213f6d";
+			case 0x622f: return "2d3f6f";
+			case 0x6230: return "213f6e";
+			case 0x6232: return "213f6f";
+			case 0x6233: return "213f71";
+			case 0x6234: return "213f70";
+			case 0x6236: return "213f72";
+			case 0x6239: return "222f6e";
+			case 0x623a: return "222f6f";
+			case 0x623b: return "4b3f74";
+			case 0x623d: return "222f70";
+			case 0x623e: return "213f74";
+			case 0x623f: return "213f73";
+			case 0x6240: return "213f75";
+			case 0x6241: return "213f76";
+			case 0x6243: return "222f75";
+			case 0x6245: return "222f78";
+			case 0x6246: return "222f77";
+			case 0x6247: return "274975";
+			case 0x6248: return "213f78";
+			case 0x6249: return "213f79";
+			case 0x624a: return "222f79";
+			case 0x624b: return "213f7a";
+			case 0x624d: return "28736d";
+			case 0x624e: return "275129";
+			case 0x6250: return "222f7a";
+			case 0x6251: return "27416e";
+			case 0x6252: return "214021";
+			case 0x6253: return "213f7d";
+			case 0x6254: return "213f7e";
+			case 0x6255: return "2d403f";
+			case 0x6258: return "214024";
+			case 0x625a: return "22302b";
+			case 0x625b: return "214022";
+			case 0x625e: return "222f7c";
+			case 0x6260: return "223028";
+			case 0x6262: return "22302c";
+			case 0x6263: return "214023";
+			case 0x6266: return "22302d";
+			case 0x6267: return "27383b";
+			case 0x6268: return "223026";
+			case 0x6269: return "27422a";
+			case 0x626a: return "27407e";
+			case 0x626b: return "27407d";
+			case 0x626c: return "27413f";
+			case 0x626d: return "21402e";
+			case 0x626e: return "214036";
+			case 0x626f: return "214031";
+			case 0x6270: return "27422e";
+			case 0x6271: return "2d4147";
+			case 0x6273: return "214037";
+			case 0x6275: return "4b3052";
+			case 0x6276: return "214028";
+			case 0x6279: return "21402b";
+			case 0x627a: return "4b4053";
+			case 0x627c: return "21402f";
+			case 0x627e: return "214030";
+			case 0x627f: return "21402a";
+			case 0x6280: return "21402c";
+			case 0x6282: return "223043";
+			case 0x6283: return "2d404c";
+			case 0x6284: return "214032";
+			case 0x6285: return "223046";
+			case 0x6286: return "223031";
+			case 0x6289: return "214029";
+			case 0x628a: return "21402d";
+			case 0x628e: return "223032";
+			case 0x6291: return "214034";
+			case 0x6292: return "214027";
+			case 0x6293: return "214038";
+			case 0x6294: return "2d404f";
+			case 0x6295: return "214033";
+			case 0x6296: return "214025";
+			case 0x6297: return "214026";
+			case 0x6298: return "214035";
+			case 0x629a: return "274171";
+			case 0x629b: return "334045";
+			case 0x629c: return "4b4046";
+			case 0x629d: return "22304b";
+			case 0x629e: return "33417e";
+			case 0x629f: return "28336f";
+			case 0x62a0: return "28337b";
+			case 0x62a1: return "274136";
+			case 0x62a2: return "274155";
+			case 0x62a3: return "223041";
+			case 0x62a4: return "275948";
+			case 0x62a5: return "273844";
+			case 0x62a6: return "223056";
+			case 0x62a8: return "21403c";
+			case 0x62ab: return "214044";
+			case 0x62ac: return "21404d";
+			case 0x62b1: return "21404f";
+			case 0x62b5: return "214053";
+			case 0x62b6: return "223069";
+			case 0x62b9: return "214040";
+			case 0x62bb: return "2d313a";
+			case 0x62bc: return "214048";
+			case 0x62bd: return "214047";
+			case 0x62bf: return "21403e";
+			case 0x62c2: return "21403f";
+			case 0x62c3: return "22306a";
+			case 0x62c4: return "21403a";
+			case 0x62c5: return "274222";
+			case 0x62c6: return "214056";
+			case 0x62c7: return "21404e";
+			case 0x62c8: return "21404a";
+			case 0x62c9: return "214039";
+			case 0x62ca: return "2d4171";
+			case 0x62cb: return "214045";
+			case 0x62cc: return "21403b";
+			case 0x62cd: return "214052";
+			case 0x62ce: return "214054";
+			case 0x62cf: return "2d4067";
+			case 0x62d0: return "4b4049";
+			case 0x62d1: return "223057";
+			case 0x62d2: return "214041";
+			case 0x62d3: return "214042";
+			case 0x62d4: return "214046";
+			case 0x62d5: return "334050";
+			case 0x62d6: return "214050";
+			case 0x62d7: return "214055";
+			case 0x62d8: return "214051";
+			case 0x62d9: return "21404b";
+			case 0x62da: return "21404c";
+			case 0x62db: return "214043";
+			case 0x62dc: return "21403d";
+			case 0x62dd: return "4b403d";
+			case 0x62df: return "274228";
+			case 0x62e0: return "39417c";
+			case 0x62e1: return "33422a";
+			case 0x62e2: return "274231";
+			case 0x62e3: return "27413c";
+			case 0x62e4: return "223061";
+			case 0x62e5: return "274174";
+			case 0x62e6: return "274233";
+			case 0x62e7: return "274226";
+			case 0x62e8: return "274166";
+			case 0x62e9: return "27417e";
+			case 0x62ec: return "214065";
+			case 0x62ed: return "21405c";
+			case 0x62ee: return "21405e";
+			case 0x62ef: return "21405f";
+			case 0x62f1: return "214062";
+			case 0x62f3: return "21405a";
+			case 0x62f4: return "4b4066";
+			case 0x62f5: return "223125";
+			case 0x62f6: return "223137";
+			case 0x62f7: return "214060";
+			case 0x62fc: return "214059";
+			case 0x62fd: return "214063";
+			case 0x62fe: return "2d3457";
+			case 0x62ff: return "214067";
+			case 0x6301: return "21405d";
+			case 0x6302: return "274123";
+			case 0x6307: return "214061";
+			case 0x6308: return "21405b";
+			case 0x6309: return "214057";
+			case 0x630c: return "223131";
+			case 0x630d: return "223072";
+			case 0x630e: return "2e337b";
+			case 0x6311: return "214064";
+			case 0x6316: return "214058";
+			case 0x6319: return "4b5434";
+			case 0x631a: return "27415b";
+			case 0x631b: return "274237";
+			case 0x631d: return "4c3474";
+			case 0x631e: return "274177";
+			case 0x631f: return "27406c";
+			case 0x6320: return "274168";
+			case 0x6321: return "27417a";
+			case 0x6322: return "283462";
+			case 0x6323: return "4b412a";
+			case 0x6324: return "274225";
+			case 0x6325: return "274142";
+			case 0x6327: return "69594b";
+			case 0x6328: return "214074";
+			case 0x632a: return "21406a";
+			case 0x632b: return "214073";
+			case 0x632f: return "21406d";
+			case 0x6331: return "22313a";
+			case 0x6332: return "2e313a";
+			case 0x6335: return "223145";
+			case 0x6336: return "223149";
+			case 0x6339: return "223154";
+			case 0x633a: return "214075";
+			case 0x633c: return "22315a";
+			case 0x633d: return "21412e";
+			case 0x633e: return "21406c";
+			case 0x633f: return "4b4147";
+			case 0x6342: return "214069";
+			case 0x6343: return "223144";
+			case 0x6344: return "22314a";
+			case 0x6345: return "223142";
+			case 0x6346: return "27513d";
+			case 0x6349: return "214071";
+			case 0x634b: return "22315c";
+			case 0x634c: return "4b3324";
+			case 0x634d: return "2e2f7c";
+			case 0x634e: return "21406e";
+			case 0x634f: return "21406f";
+			case 0x6350: return "214070";
+			case 0x6353: return "223147";
+			case 0x6354: return "22315f";
+			case 0x6355: return "21406b";
+			case 0x6357: return "223158";
+			case 0x6358: return "22315b";
+			case 0x635c: return "2d4154";
+			case 0x635e: return "274165";
+			case 0x635f: return "27414f";
+			case 0x6360: return "223132";
+			case 0x6361: return "274224";
+			case 0x6362: return "4b4146";
+			case 0x6363: return "274153";
+			case 0x6364: return "223148";
+			case 0x6367: return "214121";
+			case 0x6368: return "4b4135";
+			case 0x6369: return "214077";
+			case 0x636b: return "21407e";
+			case 0x636c: return "22316c";
+			case 0x636d: return "223241";
+			case 0x636e: return "27417c";
+			case 0x6371: return "214125";
+			case 0x6372: return "21407b";
+			case 0x6374: return "33516d";
+			case 0x6375: return "22322f";
+			case 0x6376: return "214131";
+			case 0x6377: return "21407c";
+			case 0x637a: return "223226";
+			case 0x637b: return "214134";
+			case 0x637c: return "22323a";
+			case 0x637d: return "223168";
+			case 0x637f: return "223173";
+			case 0x6380: return "214137";
+			case 0x6381: return "223179";
+			case 0x6382: return "22316b";
+			case 0x6383: return "21407d";
+			case 0x6384: return "214136";
+			case 0x6386: return "22322a";
+			case 0x6387: return "223225";
+			case 0x6388: return "21412c";
+			case 0x6389: return "214128";
+			case 0x638a: return "3f404f";
+			case 0x638c: return "214127";
+			case 0x638e: return "223227";
+			case 0x638f: return "214132";
+			case 0x6390: return "22323b";
+			case 0x6392: return "21412f";
+			case 0x6396: return "214079";
+			case 0x6397: return "22317b";
+			case 0x6398: return "214122";
+			case 0x6399: return "21412a";
+			case 0x639b: return "214123";
+			case 0x639e: return "223172";
+			case 0x639f: return "22316e";
+			case 0x63a0: return "214078";
+			case 0x63a1: return "21412b";
+			case 0x63a2: return "214129";
+			case 0x63a3: return "214130";
+			case 0x63a5: return "214076";
+			case 0x63a7: return "21407a";
+			case 0x63a8: return "214133";
+			case 0x63a9: return "214126";
+			case 0x63aa: return "214124";
+			case 0x63ab: return "22317d";
+			case 0x63ac: return "21412d";
+			case 0x63ad: return "22323d";
+			case 0x63ae: return "223239";
+			case 0x63af: return "223230";
+			case 0x63b0: return "223238";
+			case 0x63b1: return "223237";
+			case 0x63b2: return "2d4141";
+			case 0x63b3: return "27417d";
+			case 0x63b4: return "274160";
+			case 0x63b5: return "69595e";
+			case 0x63b6: return "22316a";
+			case 0x63b7: return "27422b";
+			case 0x63b8: return "283457";
+			case 0x63ba: return "28342c";
+			case 0x63bc: return "28342e";
+			case 0x63bd: return "22324f";
+			case 0x63be: return "223270";
+			case 0x63c0: return "21413c";
+			case 0x63c3: return "223250";
+			case 0x63c4: return "223279";
+			case 0x63c5: return "223266";
+			case 0x63c6: return "214138";
+			case 0x63c9: return "214139";
+			case 0x63cd: return "21413a";
+			case 0x63ce: return "2d4066";
+			case 0x63cf: return "214143";
+			case 0x63d0: return "21413e";
+			case 0x63d1: return "223276";
+			case 0x63d2: return "214147";
+			case 0x63d3: return "223247";
+			case 0x63d5: return "22325c";
+			case 0x63d6: return "214140";
+			case 0x63d7: return "22327b";
+			case 0x63da: return "21413f";
+			case 0x63db: return "454146";
+			case 0x63dc: return "22327a";
+			case 0x63dd: return "223273";
+			case 0x63de: return "223243";
+			case 0x63e0: return "22325b";
+			case 0x63e1: return "21413b";
+			case 0x63e3: return "214144";
+			case 0x63e5: return "223244";
+			case 0x63e6: return "223258";
+			case 0x63e9: return "21413d";
+			case 0x63ea: return "214148";
+			case 0x63eb: return "223272";
+			case 0x63ed: return "214141";
+			case 0x63ee: return "214142";
+			case 0x63f2: return "22325e";
+			case 0x63f4: return "214145";
+			case 0x63f5: return "223252";
+			case 0x63f6: return "22325d";
+			case 0x63f8: return "22325f";
+			case 0x63f9: return "22326a";
+			case 0x63fd: return "27423b";
+			case 0x63ff: return "283466";
+			case 0x6400: return "274234";
+			case 0x6401: return "274229";
+			case 0x6402: return "27415f";
+			case 0x6403: return "3f516d";
+			case 0x6405: return "27423a";
+			case 0x6406: return "2d4539";
+			case 0x6407: return "223359";
+			case 0x6409: return "22334c";
+			case 0x640a: return "223351";
+			case 0x640b: return "2e3028";
+			case 0x640c: return "223331";
+			case 0x640d: return "21414f";
+			case 0x640e: return "223338";
+			case 0x640f: return "21414d";
+			case 0x6410: return "223322";
+			case 0x6412: return "22327e";
+			case 0x6413: return "21414c";
+			case 0x6414: return "21414e";
+			case 0x6415: return "223336";
+			case 0x6416: return "214152";
+			case 0x6417: return "214153";
+			case 0x6418: return "223337";
+			case 0x641b: return "223329";
+			case 0x641c: return "214154";
+			case 0x641e: return "214149";
+			case 0x6420: return "22332b";
+			case 0x6421: return "22333d";
+			case 0x6422: return "22333b";
+			case 0x6424: return "22332c";
+			case 0x6425: return "334131";
+			case 0x6426: return "22332f";
+			case 0x6427: return "4b4975";
+			case 0x6428: return "2d4150";
+			case 0x642a: return "21414a";
+			case 0x642c: return "214156";
+			case 0x642d: return "214150";
+			case 0x642f: return "2d4132";
+			case 0x6430: return "223344";
+			case 0x6434: return "223324";
+			case 0x6435: return "223348";
+			case 0x6436: return "214155";
+			case 0x643a: return "4b4236";
+			case 0x643b: return "22335b";
+			case 0x643d: return "214151";
+			case 0x643e: return "21414b";
+			case 0x643f: return "22335d";
+			case 0x6440: return "223353";
+			case 0x6441: return "223345";
+			case 0x6442: return "4b4235";
+			case 0x6443: return "394022";
+			case 0x6444: return "274235";
+			case 0x6445: return "283546";
+			case 0x6446: return "274230";
+			case 0x6447: return "2d4152";
+			case 0x6448: return "28352a";
+			case 0x644a: return "274238";
+			case 0x644e: return "223423";
+			case 0x644f: return "22336a";
+			case 0x6451: return "214160";
+			case 0x6452: return "21415a";
+			case 0x6454: return "214159";
+			case 0x6458: return "214157";
+			case 0x645b: return "223368";
+			case 0x645c: return "22342e";
+			case 0x645e: return "223428";
+			case 0x645f: return "21415f";
+			case 0x6464: return "223424";
+			case 0x6467: return "214161";
+			case 0x6469: return "214158";
+			case 0x646b: return "22336c";
+			case 0x646d: return "394042";
+			case 0x646f: return "21415b";
+			case 0x6473: return "22337b";
+			case 0x6474: return "223376";
+			case 0x6476: return "22336f";
+			case 0x6478: return "21415c";
+			case 0x6479: return "21415d";
+			case 0x647a: return "21415e";
+			case 0x647b: return "22342c";
+			case 0x647d: return "223378";
+			case 0x6482: return "223427";
+			case 0x6483: return "2d4176";
+			case 0x6484: return "28355b";
+			case 0x6485: return "2d4122";
+			case 0x6487: return "214164";
+			case 0x6488: return "214165";
+			case 0x648f: return "223442";
+			case 0x6490: return "223454";
+			case 0x6491: return "21416c";
+			case 0x6492: return "21416a";
+			case 0x6493: return "214168";
+			case 0x6495: return "214169";
+			case 0x6496: return "22344d";
+			case 0x6498: return "223461";
+			case 0x6499: return "22343f";
+			case 0x649a: return "214170";
+			case 0x649d: return "22343c";
+			case 0x649e: return "214162";
+			case 0x649f: return "223462";
+			case 0x64a2: return "22344e";
+			case 0x64a4: return "214163";
+			case 0x64a5: return "214166";
+			case 0x64a6: return "2d4031";
+			case 0x64a7: return "223465";
+			case 0x64a9: return "21416b";
+			case 0x64ab: return "214171";
+			case 0x64ac: return "214172";
+			case 0x64ad: return "21416f";
+			case 0x64ae: return "21416d";
+			case 0x64b0: return "214167";
+			case 0x64b2: return "21416e";
+			case 0x64b3: return "223466";
+			case 0x64b5: return "27422c";
+			case 0x64b6: return "22345b";
+			case 0x64b7: return "283542";
+			case 0x64b8: return "4c354a";
+			case 0x64b9: return "4b423a";
+			case 0x64ba: return "283561";
+			case 0x64bb: return "214177";
+			case 0x64bc: return "214179";
+			case 0x64be: return "223474";
+			case 0x64bf: return "214224";
+			case 0x64c0: return "3a2f7c";
+			case 0x64c1: return "214174";
+			case 0x64c2: return "214178";
+			case 0x64c4: return "21417d";
+			case 0x64c5: return "214173";
+			case 0x64c7: return "21417e";
+			case 0x64ca: return "214176";
+			case 0x64cb: return "21417a";
+			case 0x64cd: return "21417b";
+			case 0x64ce: return "214221";
+			case 0x64d0: return "223475";
+			case 0x64d2: return "214223";
+			case 0x64d3: return "22346c";
+			case 0x64d4: return "214222";
+			case 0x64d7: return "22346a";
+			case 0x64d8: return "214175";
+			case 0x64da: return "21417c";
+			case 0x64de: return "27422f";
+			case 0x64e0: return "214225";
+			case 0x64e1: return "22352d";
+			case 0x64e2: return "223533";
+			case 0x64e3: return "2d4153";
+			case 0x64e4: return "223538";
+			case 0x64e5: return "22352e";
+			case 0x64e6: return "214227";
+			case 0x64e7: return "2d5434";
+			case 0x64eb: return "223531";
+			case 0x64ec: return "214228";
+			case 0x64ed: return "223536";
+			case 0x64ef: return "22352a";
+			case 0x64f0: return "214226";
+			case 0x64f1: return "214229";
+			case 0x64f2: return "21422b";
+			case 0x64f4: return "21422a";
+			case 0x64f6: return "695a31";
+			case 0x64f7: return "223542";
+			case 0x64fa: return "214230";
+			case 0x64fb: return "21422f";
+			case 0x64fd: return "22354b";
+			case 0x64fe: return "21422e";
+			case 0x6500: return "21422d";
+			case 0x6504: return "223546";
+			case 0x6506: return "21422c";
+			case 0x6508: return "22354f";
+			case 0x6509: return "223553";
+			case 0x650f: return "214231";
+			case 0x6512: return "28356d";
+			case 0x6514: return "214233";
+			case 0x6516: return "22355b";
+			case 0x6518: return "214232";
+			case 0x6519: return "214234";
+			case 0x651a: return "223559";
+			case 0x651b: return "223561";
+			case 0x651c: return "214236";
+			case 0x651d: return "214235";
+			case 0x651f: return "2e3144";
+			case 0x6522: return "22356d";
+			case 0x6523: return "214237";
+			case 0x6524: return "214238";
+			case 0x6525: return "223572";
+			case 0x6527: return "223569";
+			case 0x6528: return "2e3328";
+			case 0x6529: return "22356f";
+			case 0x652a: return "21423a";
+			case 0x652b: return "214239";
+			case 0x652c: return "21423b";
+			case 0x652e: return "223577";
+			case 0x652f: return "21423c";
+			case 0x6534: return "2d416e";
+			case 0x6535: return "217874";
+			case 0x6536: return "21423d";
+			case 0x6537: return "2d525d";
+			case 0x6538: return "22362c";
+			case 0x6539: return "21423e";
+			case 0x653b: return "21423f";
+			case 0x653e: return "214240";
+			case 0x653f: return "214241";
+			case 0x6541: return "22357c";
+			case 0x6542: return "223634";
+			case 0x6545: return "214242";
+			case 0x6548: return "214243";
+			case 0x6549: return "223636";
+			case 0x654c: return "274252";
+			case 0x654e: return "214244";
+			case 0x654f: return "21424a";
+			case 0x6551: return "214246";
+			case 0x6554: return "22363e";
+			case 0x6555: return "22363f";
+			case 0x6556: return "214245";
+			case 0x6557: return "214247";
+			case 0x6558: return "214249";
+			case 0x6559: return "334244";
+			case 0x655b: return "274256";
+			case 0x655d: return "214248";
+			case 0x655e: return "21424e";
+			case 0x6561: return "223647";
+			case 0x6562: return "21424c";
+			case 0x6563: return "21424d";
+			case 0x6566: return "21424b";
+			case 0x6567: return "223645";
+			case 0x656b: return "226055";
+			case 0x656c: return "214250";
+			case 0x656d: return "22364f";
+			case 0x6570: return "274254";
+			case 0x6572: return "214251";
+			case 0x6574: return "214255";
+			case 0x6575: return "214252";
+			case 0x6577: return "214253";
+			case 0x6578: return "214254";
+			case 0x657a: return "223654";
+			case 0x657f: return "2e3654";
+			case 0x6582: return "214256";
+			case 0x6583: return "214257";
+			case 0x6585: return "223664";
+			case 0x6587: return "214258";
+			case 0x6588: return "2d3a60";
+			case 0x6589: return "33627d";
+			case 0x658b: return "2d627e";
+			case 0x658c: return "22366e";
+			case 0x658d: return "335830";
+			case 0x658e: return "27627e";
+			case 0x6590: return "21425a";
+			case 0x6591: return "214259";
+			case 0x6592: return "223670";
+			case 0x6593: return "283671";
+			case 0x6595: return "223671";
+			case 0x6597: return "276167";
+			case 0x6599: return "21425c";
+			case 0x659b: return "223675";
+			case 0x659c: return "21425d";
+			case 0x659d: return "223677";
+			case 0x659f: return "21425e";
+			case 0x65a0: return "22367a";
+			case 0x65a1: return "21425f";
+			case 0x65a4: return "214260";
+			case 0x65a5: return "214261";
+			case 0x65a6: return "223723";
+			case 0x65a7: return "214262";
+			case 0x65a8: return "223722";
+			case 0x65a9: return "274263";
+			case 0x65ab: return "214e2d";
+			case 0x65ac: return "214263";
+			case 0x65ad: return "274266";
+			case 0x65ae: return "223727";
+			case 0x65af: return "214264";
+			case 0x65b0: return "214265";
+			case 0x65b5: return "2e3729";
+			case 0x65b6: return "22372a";
+			case 0x65b7: return "214266";
+			case 0x65b8: return "22372c";
+			case 0x65b9: return "214267";
+			case 0x65bc: return "393052";
+			case 0x65bd: return "214269";
+			case 0x65bf: return "22372f";
+			case 0x65c1: return "21426a";
+			case 0x65c2: return "223734";
+			case 0x65c3: return "223732";
+			case 0x65c4: return "223733";
+			case 0x65c5: return "21426b";
+			case 0x65c6: return "223731";
+			case 0x65cb: return "21426d";
+			case 0x65cc: return "21426e";
+			case 0x65ce: return "21426c";
+			case 0x65cf: return "21426f";
+			case 0x65d0: return "22373b";
+			case 0x65d2: return "22373c";
+			case 0x65d6: return "214271";
+			case 0x65d7: return "214270";
+			case 0x65d9: return "4c3744";
+			case 0x65db: return "223744";
+			case 0x65dc: return "223745";
+			case 0x65dd: return "223747";
+			case 0x65df: return "223748";
+			case 0x65e0: return "274966";
+			case 0x65e1: return "22374a";
+			case 0x65e2: return "214272";
+			case 0x65e3: return "2d4272";
+			case 0x65e4: return "22374e";
+			case 0x65e5: return "214273";
+			case 0x65e6: return "27565a";
+			case 0x65e7: return "275435";
+			case 0x65e8: return "214278";
+			case 0x65e9: return "214275";
+			case 0x65ec: return "214276";
+			case 0x65ed: return "214277";
+			case 0x65ee: return "2d4277";
+			case 0x65ef: return "334277";
+			case 0x65f0: return "223755";
+			case 0x65f1: return "214279";
+			case 0x65f4: return "223754";
+			case 0x65f6: return "27432d";
+			case 0x65f7: return "27434d";
+			case 0x65fa: return "21427a";
+			case 0x65fb: return "22375b";
+			case 0x65fc: return "22375c";
+			case 0x6600: return "21427e";
+			case 0x6602: return "214323";
+			case 0x6603: return "223764";
+			case 0x6604: return "22376d";
+			case 0x6606: return "21427b";
+			case 0x6607: return "2d345b";
+			case 0x6609: return "22375a";
+			case 0x660a: return "22375e";
+			case 0x660c: return "21427d";
+			case 0x660e: return "214321";
+			case 0x660f: return "214324";
+			case 0x6611: return "22376a";
+			case 0x6613: return "214322";
+			case 0x6614: return "21427c";
+			case 0x6615: return "22376b";
+			case 0x6619: return "283955";
+			case 0x661a: return "2d3f24";
+			case 0x661c: return "2d5f2e";
+			case 0x661d: return "2e3a26";
+			case 0x661e: return "22377c";
+			case 0x661f: return "21432a";
+			case 0x6620: return "214329";
+			case 0x6621: return "223772";
+			case 0x6624: return "22382c";
+			case 0x6625: return "214325";
+			case 0x6627: return "214326";
+			case 0x6628: return "21432b";
+			case 0x662b: return "223828";
+			case 0x662c: return "223775";
+			case 0x662d: return "214328";
+			case 0x662f: return "214327";
+			case 0x6630: return "2d4327";
+			case 0x6631: return "22376e";
+			case 0x6633: return "223827";
+			case 0x6634: return "22382b";
+			case 0x6635: return "223777";
+			case 0x6636: return "2d4343";
+			case 0x663a: return "22377d";
+			case 0x663c: return "274332";
+			case 0x663e: return "276058";
+			case 0x663f: return "4b434d";
+			case 0x6641: return "2f5e7d";
+			case 0x6642: return "21432d";
+			case 0x6643: return "214330";
+			case 0x6644: return "394330";
+			case 0x6645: return "223831";
+			case 0x6649: return "21432f";
+			case 0x664b: return "33432f";
+			case 0x664c: return "214331";
+			case 0x664f: return "21432c";
+			case 0x6652: return "21432e";
+			case 0x6653: return "274348";
+			case 0x6654: return "28395c";
+			case 0x6655: return "274341";
+			case 0x6656: return "274340";
+			case 0x6657: return "22384d";
+			case 0x6659: return "223849";
+			case 0x665a: return "214336";
+			case 0x665b: return "223848";
+			case 0x665c: return "22383e";
+			case 0x665d: return "214332";
+			case 0x665e: return "22384c";
+			case 0x665f: return "223832";
+			case 0x6661: return "22383f";
+			case 0x6662: return "2d433b";
+			case 0x6664: return "214333";
+			case 0x6665: return "22383d";
+			case 0x6666: return "214335";
+			case 0x6667: return "22384a";
+			case 0x6668: return "214334";
+			case 0x666c: return "223851";
+			case 0x666d: return "223866";
+			case 0x666e: return "214338";
+			case 0x666f: return "214337";
+			case 0x6670: return "21433b";
+			case 0x6673: return "223860";
+			case 0x6674: return "4b4339";
+			case 0x6676: return "21433c";
+			case 0x6677: return "223868";
+			case 0x6678: return "22385a";
+			case 0x667a: return "21433d";
+			case 0x667b: return "2d433e";
+			case 0x667e: return "223850";
+			case 0x6681: return "2d4348";
+			case 0x6682: return "274344";
+			case 0x6683: return "695a73";
+			case 0x6684: return "223870";
+			case 0x6687: return "21433f";
+			case 0x6688: return "214341";
+			case 0x6689: return "214340";
+			case 0x668a: return "22387a";
+			case 0x668b: return "223875";
+			case 0x668c: return "223871";
+			case 0x668d: return "22387d";
+			case 0x668e: return "2d4329";
+			case 0x6690: return "223876";
+			case 0x6691: return "21433a";
+			case 0x6693: return "223872";
+			case 0x6694: return "223879";
+			case 0x6696: return "214342";
+			case 0x6697: return "21433e";
+			case 0x6698: return "22387c";
+			case 0x669d: return "223932";
+			case 0x66a0: return "22392a";
+			case 0x66a2: return "214343";
+			case 0x66a6: return "2d4349";
+			case 0x66a7: return "27434b";
+			case 0x66a8: return "4b4347";
+			case 0x66aa: return "223941";
+			case 0x66ab: return "214344";
+			case 0x66ac: return "223943";
+			case 0x66ae: return "214346";
+			case 0x66b1: return "223947";
+			case 0x66b2: return "22393a";
+			case 0x66b4: return "214345";
+			case 0x66b5: return "223940";
+			case 0x66b8: return "4b4d73";
+			case 0x66b9: return "21434a";
+			case 0x66bb: return "22395a";
+			case 0x66bc: return "695a7e";
+			case 0x66be: return "22394f";
+			case 0x66c0: return "223954";
+			case 0x66c1: return "214347";
+			case 0x66c4: return "22395c";
+			case 0x66c6: return "214349";
+			case 0x66c7: return "223955";
+			case 0x66c8: return "22394e";
+			case 0x66c9: return "214348";
+			case 0x66cd: return "2e3936";
+			case 0x66cf: return "223960";
+			case 0x66d6: return "21434b";
+			case 0x66d9: return "21434c";
+			case 0x66da: return "223971";
+			case 0x66db: return "223972";
+			case 0x66dc: return "4b525b";
+			case 0x66dd: return "21434e";
+			case 0x66e0: return "21434d";
+			case 0x66e1: return "223976";
+			case 0x66e2: return "223973";
+			case 0x66e6: return "21434f";
+			case 0x66e8: return "223978";
+			case 0x66e9: return "22397c";
+			case 0x66ec: return "2d432e";
+			case 0x66f0: return "214350";
+			case 0x66f2: return "214351";
+			case 0x66f3: return "214352";
+			case 0x66f4: return "214353";
+			case 0x66f5: return "4b4352";
+			case 0x66f7: return "214354";
+			case 0x66f8: return "214355";
+			case 0x66f9: return "214356";
+			case 0x66fc: return "21352a";
+			case 0x66fd: return "4b4358";
+			case 0x66fe: return "214358";
+			case 0x66ff: return "214359";
+			case 0x6700: return "213335";
+			case 0x6702: return "334357";
+			case 0x6703: return "21435a";
+			case 0x6705: return "223a28";
+			case 0x6706: return "216c7b";
+			case 0x6708: return "21435b";
+			case 0x6709: return "21435c";
+			case 0x670a: return "22775c";
+			case 0x670b: return "21435e";
+			case 0x670d: return "21435d";
+			case 0x670f: return "223a30";
+			case 0x6710: return "223a31";
+			case 0x6711: return "227775";
+			case 0x6712: return "223a33";
+			case 0x6713: return "223a34";
+			case 0x6714: return "214361";
+			case 0x6715: return "214360";
+			case 0x6716: return "2d435f";
+			case 0x6717: return "21435f";
+			case 0x6718: return "223a39";
+			case 0x6719: return "223a38";
+			case 0x671b: return "214362";
+			case 0x671d: return "214363";
+			case 0x671e: return "2d4364";
+			case 0x671f: return "214364";
+			case 0x6720: return "22792e";
+			case 0x6722: return "2d4362";
+			case 0x6723: return "223a47";
+			case 0x6725: return "22797e";
+			case 0x6726: return "395564";
+			case 0x6727: return "214366";
+			case 0x6728: return "214367";
+			case 0x672a: return "21436b";
+			case 0x672b: return "21436a";
+			case 0x672c: return "214369";
+			case 0x672d: return "276b5f";
+			case 0x672e: return "275746";
+			case 0x672f: return "455746";
+			case 0x6731: return "21436f";
+			case 0x6734: return "274558";
+			case 0x6735: return "214370";
+			case 0x6736: return "2d4370";
+			case 0x6737: return "695b37";
+			case 0x6738: return "2e2f7a";
+			case 0x673a: return "27455d";
+			case 0x673d: return "21436d";
+			case 0x673e: return "223a4c";
+			case 0x673f: return "223a4e";
+			case 0x6740: return "27463b";
+			case 0x6741: return "4c3a55";
+			case 0x6742: return "275f4b";
+			case 0x6743: return "274570";
+			case 0x6745: return "223a5b";
+			case 0x6746: return "2d4461";
+			case 0x6747: return "223a5c";
+			case 0x6748: return "223a68";
+			case 0x6749: return "214379";
+			case 0x674a: return "223a71";
+			case 0x674c: return "223a66";
+			case 0x674e: return "214373";
+			case 0x674f: return "214378";
+			case 0x6750: return "214375";
+			case 0x6751: return "214372";
+			case 0x6753: return "223a6e";
+			case 0x6755: return "223a61";
+			case 0x6756: return "214376";
+			case 0x6757: return "223a58";
+			case 0x6759: return "223a67";
+			case 0x675c: return "214374";
+			case 0x675d: return "223a60";
+			case 0x675e: return "214371";
+			case 0x675f: return "214377";
+			case 0x6760: return "2d453a";
+			case 0x6761: return "274463";
+			case 0x6762: return "694c5d";
+			case 0x6763: return "223a6b";
+			case 0x6764: return "4c3b60";
+			case 0x6765: return "27314c";
+			case 0x6768: return "27452a";
+			case 0x6769: return "283f5c";
+			case 0x676a: return "223b32";
+			case 0x676d: return "21437b";
+			case 0x676f: return "214425";
+			case 0x6770: return "273241";
+			case 0x6771: return "214426";
+			case 0x6772: return "223b30";
+			case 0x6773: return "214427";
+			case 0x6775: return "214429";
+			case 0x6776: return "223b23";
+			case 0x6777: return "214422";
+			case 0x677b: return "223b21";
+			case 0x677c: return "223a78";
+			case 0x677e: return "276163";
+			case 0x677f: return "275e65";
+			case 0x6780: return "2d442d";
+			case 0x6781: return "274526";
+			case 0x6784: return "274539";
+			case 0x6785: return "223a7c";
+			case 0x6787: return "214421";
+			case 0x6789: return "21437e";
+			case 0x678b: return "21437c";
+			case 0x678c: return "223b49";
+			case 0x678d: return "223b48";
+			case 0x678f: return "223b2e";
+			case 0x6790: return "21442b";
+			case 0x6791: return "223b25";
+			case 0x6792: return "223b22";
+			case 0x6793: return "223a75";
+			case 0x6795: return "21437d";
+			case 0x6797: return "214424";
+			case 0x6798: return "4c3b31";
+			case 0x6799: return "223b26";
+			case 0x679a: return "21442a";
+			case 0x679c: return "214428";
+			case 0x679d: return "214423";
+			case 0x679e: return "27454f";
+			case 0x679f: return "223a7a";
+			case 0x67a0: return "223b3b";
+			case 0x67a1: return "223b3f";
+			case 0x67a2: return "274549";
+			case 0x67a3: return "27447a";
+			case 0x67a4: return "223b28";
+			case 0x67a5: return "284340";
+			case 0x67a6: return "4c4345";
+			case 0x67a7: return "283d30";
+			case 0x67a8: return "283d6e";
+			case 0x67a9: return "4b442d";
+			case 0x67aa: return "274540";
+			case 0x67ab: return "27452f";
+			case 0x67ac: return "223b39";
+			case 0x67ad: return "274468";
+			case 0x67ae: return "223b79";
+			case 0x67af: return "214433";
+			case 0x67b0: return "223b5f";
+			case 0x67b1: return "3a3b7d";
+			case 0x67b2: return "223b7e";
+			case 0x67b3: return "223b77";
+			case 0x67b4: return "2d4049";
+			case 0x67b5: return "223b72";
+			case 0x67b6: return "214438";
+			case 0x67b7: return "223b64";
+			case 0x67b8: return "21443f";
+			case 0x67b9: return "223c21";
+			case 0x67bb: return "223b5c";
+			case 0x67c1: return "335445";
+			case 0x67c2: return "223c23";
+			case 0x67c3: return "4b3c2b";
+			case 0x67c4: return "214432";
+			case 0x67c5: return "223b58";
+			case 0x67c6: return "2d4039";
+			case 0x67c8: return "223b51";
+			case 0x67ca: return "223c26";
+			case 0x67cc: return "223b54";
+			case 0x67ce: return "223c28";
+			case 0x67cf: return "214440";
+			case 0x67d0: return "214434";
+			case 0x67d1: return "214435";
+			case 0x67d2: return "33485e";
+			case 0x67d3: return "21442e";
+			case 0x67d4: return "214431";
+			case 0x67d8: return "223b63";
+			case 0x67d9: return "223b70";
+			case 0x67da: return "21443c";
+			case 0x67db: return "223b71";
+			case 0x67dc: return "274565";
+			case 0x67dd: return "223c2d";
+			case 0x67de: return "21443e";
+			case 0x67df: return "223b74";
+			case 0x67e0: return "274563";
+			case 0x67e2: return "223c29";
+			case 0x67e3: return "223c24";
+			case 0x67e4: return "223b6f";
+			case 0x67e5: return "21443a";
+			case 0x67e7: return "223c2f";
+			case 0x67e9: return "214437";
+			case 0x67ec: return "214439";
+			case 0x67ee: return "223b7c";
+			case 0x67ef: return "214436";
+			case 0x67f0: return "2d3931";
+			case 0x67f1: return "21442f";
+			case 0x67f2: return "223c2a";
+			case 0x67f3: return "214441";
+			case 0x67f4: return "214450";
+			case 0x67f6: return "223b7a";
+			case 0x67f7: return "223b75";
+			case 0x67f8: return "223b61";
+			case 0x67f9: return "223b44";
+			case 0x67fa: return "21443b";
+			case 0x67fc: return "223b4c";
+			case 0x67fd: return "28405e";
+			case 0x67fe: return "2d4437";
+			case 0x67ff: return "214430";
+			case 0x6800: return "274469";
+			case 0x6802: return "223b6d";
+			case 0x6803: return "223b60";
+			case 0x6804: return "4b4537";
+			case 0x6805: return "21443d";
+			case 0x6806: return "223b78";
+			case 0x6807: return "274547";
+			case 0x6808: return "274476";
+			case 0x6809: return "27456c";
+			case 0x680a: return "284339";
+			case 0x680b: return "274471";
+			case 0x680c: return "284345";
+			case 0x680e: return "284333";
+			case 0x680f: return "27456e";
+			case 0x6810: return "223b4e";
+			case 0x6811: return "274555";
+			case 0x6812: return "223c59";
+			case 0x6813: return "4b4456";
+			case 0x6814: return "223c36";
+			case 0x6816: return "27446e";
+			case 0x6817: return "214449";
+			case 0x681d: return "2d4562";
+			case 0x681e: return "223c38";
+			case 0x681f: return "223d65";
+			case 0x6821: return "214443";
+			case 0x6822: return "2d4440";
+			case 0x6829: return "21444c";
+			case 0x682a: return "214453";
+			case 0x682b: return "223c47";
+			case 0x682d: return "223c48";
+			case 0x6831: return "223c40";
+			case 0x6832: return "223c41";
+			case 0x6833: return "223c3b";
+			case 0x6834: return "223c58";
+			case 0x6835: return "223c42";
+			case 0x6837: return "274544";
+			case 0x6838: return "214444";
+			case 0x6839: return "21444e";
+			case 0x683b: return "223c43";
+			case 0x683c: return "214455";
+			case 0x683d: return "21444a";
+			case 0x683e: return "223c31";
+			case 0x6840: return "214452";
+			case 0x6841: return "2d5440";
+			case 0x6842: return "214447";
+			case 0x6843: return "214451";
+			case 0x6844: return "223c4f";
+			case 0x6845: return "214454";
+			case 0x6846: return "214446";
+			case 0x6848: return "214442";
+			case 0x6849: return "223c30";
+			case 0x684a: return "2e3d62";
+			case 0x684b: return "223c37";
+			case 0x684c: return "2d447d";
+			case 0x684d: return "223c4a";
+			case 0x684e: return "223c44";
+			case 0x6850: return "21444d";
+			case 0x6851: return "21444b";
+			case 0x6852: return "2d444b";
+			case 0x6853: return "214445";
+			case 0x6854: return "214448";
+			case 0x6855: return "3a4034";
+			case 0x6859: return "4c3a5b";
+			case 0x685a: return "223c65";
+			case 0x685c: return "4b456f";
+			case 0x685d: return "223c55";
+			case 0x685e: return "223c56";
+			case 0x685f: return "4b4476";
+			case 0x6860: return "4c3b22";
+			case 0x6861: return "284140";
+			case 0x6862: return "27452b";
+			case 0x6863: return "27455f";
+			case 0x6864: return "284027";
+			case 0x6865: return "27455b";
+			case 0x6866: return "274557";
+			case 0x6867: return "274562";
+			case 0x6868: return "27454c";
+			case 0x6869: return "274546";
+			case 0x686b: return "223c68";
+			case 0x686c: return "223c69";
+			case 0x686d: return "223d25";
+			case 0x686e: return "2d4425";
+			case 0x686f: return "223d34";
+			case 0x6872: return "223d21";
+			case 0x6874: return "223d3b";
+			case 0x6875: return "223d3c";
+			case 0x6876: return "21445a";
+			case 0x6877: return "223d3f";
+			case 0x6879: return "223c6b";
+			case 0x687b: return "223d43";
+			case 0x687e: return "223c72";
+			case 0x687f: return "214461";
+			case 0x6881: return "214457";
+			case 0x6882: return "223c76";
+			case 0x6883: return "21446a";
+			case 0x6885: return "214466";
+			case 0x6886: return "214465";
+			case 0x688b: return "223d32";
+			case 0x688e: return "223d44";
+			case 0x688f: return "223d40";
+			case 0x6890: return "223c7a";
+			case 0x6893: return "214458";
+			case 0x6894: return "214469";
+			case 0x6897: return "21445d";
+			case 0x6898: return "223d30";
+			case 0x689b: return "223c71";
+			case 0x689c: return "223d22";
+			case 0x689d: return "214463";
+			case 0x689f: return "214468";
+			case 0x68a0: return "223d33";
+			case 0x68a2: return "214460";
+			case 0x68a3: return "223d39";
+			case 0x68a5: return "22697e";
+			case 0x68a6: return "273924";
+			case 0x68a7: return "21445c";
+			case 0x68a8: return "214467";
+			case 0x68a9: return "223d2e";
+			case 0x68ad: return "214464";
+			case 0x68af: return "214459";
+			case 0x68b0: return "21445b";
+			case 0x68b1: return "214462";
+			case 0x68b2: return "223c6e";
+			case 0x68b3: return "21445f";
+			case 0x68b4: return "223d4b";
+			case 0x68b5: return "21445e";
+			case 0x68b6: return "223c74";
+			case 0x68b9: return "2d4564";
+			case 0x68ba: return "4b6258";
+			case 0x68bc: return "284257";
+			case 0x68c0: return "274561";
+			case 0x68c2: return "284350";
+			case 0x68c3: return "223e40";
+			case 0x68c4: return "21446d";
+			case 0x68c6: return "223e49";
+			case 0x68c7: return "223e4b";
+			case 0x68c9: return "214522";
+			case 0x68ca: return "2d4472";
+			case 0x68cb: return "214472";
+			case 0x68cd: return "214479";
+			case 0x68d0: return "223e38";
+			case 0x68d1: return "223e37";
+			case 0x68d2: return "21446f";
+			case 0x68d3: return "223d58";
+			case 0x68d4: return "223e46";
+			case 0x68d5: return "21446b";
+			case 0x68d6: return "223d6e";
+			case 0x68d7: return "21447a";
+			case 0x68d8: return "21447b";
+			case 0x68da: return "21447e";
+			case 0x68de: return "223e2a";
+			case 0x68df: return "214471";
+			case 0x68e0: return "214477";
+			case 0x68e1: return "223e33";
+			case 0x68e3: return "214470";
+			case 0x68e7: return "214476";
+			case 0x68e8: return "223e3e";
+			case 0x68ea: return "223d64";
+			case 0x68eb: return "223d6f";
+			case 0x68ec: return "223d62";
+			case 0x68ee: return "214473";
+			case 0x68ef: return "223e47";
+			case 0x68f0: return "223e3f";
+			case 0x68f1: return "223d73";
+			case 0x68f2: return "21446e";
+			case 0x68f3: return "223d7b";
+			case 0x68f5: return "214478";
+			case 0x68f9: return "21447d";
+			case 0x68fa: return "21446c";
+			case 0x68fb: return "223e2d";
+			case 0x68fc: return "223d79";
+			case 0x68fd: return "223d78";
+			case 0x6900: return "346126";
+			case 0x6901: return "2d4543";
+			case 0x6904: return "223d59";
+			case 0x6905: return "214475";
+			case 0x6907: return "223e21";
+			case 0x6908: return "223e39";
+			case 0x6909: return "223d5c";
+			case 0x690a: return "223d5b";
+			case 0x690b: return "223d56";
+			case 0x690c: return "223d53";
+			case 0x690d: return "2d4474";
+			case 0x690e: return "214521";
+			case 0x690f: return "2e3b22";
+			case 0x6910: return "223d6a";
+			case 0x6911: return "223e44";
+			case 0x6912: return "21447c";
+			case 0x6913: return "223d7c";
+			case 0x6917: return "223d51";
+			case 0x6918: return "334527";
+			case 0x6919: return "223e24";
+			case 0x691a: return "223e23";
+			case 0x691b: return "223e2b";
+			case 0x691c: return "4b4561";
+			case 0x691f: return "27456b";
+			case 0x6920: return "284056";
+			case 0x6921: return "695c31";
+			case 0x6922: return "4c3f7a";
+			case 0x6923: return "695c30";
+			case 0x6924: return "284366";
+			case 0x6925: return "695c29";
+			case 0x6926: return "695b7b";
+			case 0x6928: return "695c2d";
+			case 0x6929: return "223d5d";
+			case 0x692a: return "223d63";
+			case 0x692c: return "223d50";
+			case 0x692d: return "274553";
+			case 0x6930: return "214524";
+			case 0x6932: return "223e66";
+			case 0x6933: return "223e7e";
+			case 0x6934: return "223f3a";
+			case 0x6936: return "2d446b";
+			case 0x6937: return "223e73";
+			case 0x6938: return "223e55";
+			case 0x6939: return "223e6e";
+			case 0x693d: return "223f32";
+			case 0x693e: return "2d502b";
+			case 0x693f: return "223e60";
+			case 0x6942: return "2d443a";
+			case 0x6944: return "223f3d";
+			case 0x6945: return "223e64";
+			case 0x6948: return "223e6b";
+			case 0x694a: return "21452a";
+			case 0x694e: return "223e7b";
+			case 0x6952: return "223f21";
+			case 0x6953: return "21452f";
+			case 0x6954: return "214523";
+			case 0x6955: return "4b4553";
+			case 0x6957: return "223e5f";
+			case 0x6958: return "223e5d";
+			case 0x6959: return "2d5468";
+			case 0x695a: return "214527";
+			case 0x695b: return "223f25";
+			case 0x695c: return "4b533b";
+			case 0x695d: return "223e65";
+			case 0x695e: return "21452c";
+			case 0x6960: return "214528";
+			case 0x6962: return "223e58";
+			case 0x6963: return "223e6a";
+			case 0x6966: return "283f30";
+			case 0x6968: return "21452b";
+			case 0x6969: return "223f3b";
+			case 0x696a: return "223e70";
+			case 0x696b: return "214529";
+			case 0x696c: return "223e7a";
+			case 0x696d: return "21452d";
+			case 0x696e: return "223e69";
+			case 0x696f: return "223f3e";
+			case 0x6971: return "223e61";
+			case 0x6973: return "2d4466";
+			case 0x6974: return "223e53";
+			case 0x6975: return "214526";
+			case 0x6977: return "214525";
+			case 0x6978: return "223f35";
+			case 0x6979: return "21452e";
+			case 0x697b: return "223f37";
+			case 0x697c: return "27454a";
+			case 0x697d: return "2d454e";
+			case 0x697e: return "695c39";
+			case 0x6980: return "223e7d";
+			case 0x6981: return "695c43";
+			case 0x6982: return "4b4545";
+			case 0x6984: return "274571";
+			case 0x6985: return "223f2d";
+			case 0x6986: return "214530";
+			case 0x6987: return "284337";
+			case 0x6988: return "27456a";
+			case 0x6989: return "284359";
+			case 0x698a: return "223f44";
+			case 0x698d: return "223f59";
+			case 0x698e: return "223f6a";
+			case 0x6991: return "223f5a";
+			case 0x6994: return "4b4534";
+			case 0x6995: return "214532";
+			case 0x6996: return "22454d";
+			case 0x6998: return "2d4e24";
+			case 0x699b: return "214538";
+			case 0x699c: return "214533";
+			case 0x699e: return "223f65";
+			case 0x69a0: return "223f45";
+			case 0x69a3: return "22402d";
+			case 0x69a4: return "22402e";
+			case 0x69a5: return "223f75";
+			case 0x69a6: return "45304c";
+			case 0x69a7: return "223f61";
+			case 0x69a8: return "214531";
+			case 0x69aa: return "223f5c";
+			case 0x69ab: return "21453c";
+			case 0x69ad: return "21453e";
+			case 0x69ae: return "214537";
+			case 0x69b1: return "223f46";
+			case 0x69b2: return "2e3f2d";
+			case 0x69b4: return "214541";
+			case 0x69b7: return "214536";
+			case 0x69bb: return "21453b";
+			case 0x69bc: return "223f60";
+			case 0x69be: return "223f77";
+			case 0x69bf: return "224027";
+			case 0x69c1: return "214535";
+			case 0x69c3: return "224038";
+			case 0x69c5: return "2d4444";
+			case 0x69c7: return "4c3f68";
+			case 0x69ca: return "223f51";
+			case 0x69cb: return "214539";
+			case 0x69cc: return "21453d";
+			case 0x69cd: return "214540";
+			case 0x69ce: return "223f50";
+			case 0x69d0: return "21453f";
+			case 0x69d1: return "223f78";
+			case 0x69d3: return "21453a";
+			case 0x69d4: return "224034";
+			case 0x69d5: return "223f7e";
+			case 0x69d6: return "223f6d";
+			case 0x69d8: return "4b4544";
+			case 0x69d9: return "223f68";
+			case 0x69db: return "274566";
+			case 0x69dd: return "695c4f";
+			case 0x69de: return "4c4339";
+			case 0x69df: return "274564";
+			case 0x69e0: return "28433a";
+			case 0x69e3: return "2e3645";
+			case 0x69e5: return "22404c";
+			case 0x69e6: return "224046";
+			case 0x69e7: return "224056";
+			case 0x69e8: return "214543";
+			case 0x69e9: return "22404d";
+			case 0x69ea: return "214545";
+			case 0x69eb: return "224057";
+			case 0x69ed: return "224064";
+			case 0x69ee: return "22407c";
+			case 0x69f0: return "224123";
+			case 0x69f1: return "22405b";
+			case 0x69f2: return "224124";
+			case 0x69f3: return "21454c";
+			case 0x69f6: return "223f7a";
+			case 0x69f9: return "22416c";
+			case 0x69fb: return "395829";
+			case 0x69fc: return "224050";
+			case 0x69fd: return "214548";
+			case 0x69ff: return "22405f";
+			case 0x6a00: return "224041";
+			case 0x6a01: return "214546";
+			case 0x6a02: return "21454e";
+			case 0x6a05: return "21454f";
+			case 0x6a0a: return "21454d";
+			case 0x6a0b: return "22404b";
+			case 0x6a0c: return "224075";
+			case 0x6a0f: return "224076";
+			case 0x6a10: return "45456d";
+			case 0x6a11: return "22403e";
+			case 0x6a12: return "22403d";
+			case 0x6a13: return "21454a";
+			case 0x6a14: return "224128";
+			case 0x6a17: return "224054";
+			case 0x6a18: return "22406e";
+			case 0x6a19: return "214547";
+			case 0x6a1b: return "224067";
+			case 0x6a1d: return "224072";
+			case 0x6a1e: return "214549";
+			case 0x6a1f: return "214542";
+			case 0x6a20: return "224060";
+			case 0x6a21: return "21454b";
+			case 0x6a22: return "2f252d";
+			case 0x6a23: return "214544";
+			case 0x6a28: return "22413f";
+			case 0x6a29: return "4b4570";
+			case 0x6a2a: return "4b4556";
+			case 0x6a2b: return "22405e";
+			case 0x6a2d: return "224068";
+			case 0x6a2e: return "695c53";
+			case 0x6a2f: return "28422b";
+			case 0x6a31: return "27456f";
+			case 0x6a32: return "22413b";
+			case 0x6a33: return "22413a";
+			case 0x6a35: return "21455c";
+			case 0x6a36: return "224153";
+			case 0x6a38: return "214558";
+			case 0x6a39: return "214555";
+			case 0x6a3a: return "214557";
+			case 0x6a3d: return "214550";
+			case 0x6a3e: return "224145";
+			case 0x6a3f: return "224158";
+			case 0x6a43: return "224139";
+			case 0x6a44: return "214554";
+			case 0x6a47: return "214559";
+			case 0x6a48: return "224140";
+			case 0x6a4b: return "21455b";
+			case 0x6a50: return "224141";
+			case 0x6a51: return "22414f";
+			case 0x6a52: return "224142";
+			case 0x6a56: return "224151";
+			case 0x6a58: return "214551";
+			case 0x6a59: return "214552";
+			case 0x6a5a: return "22413c";
+			case 0x6a5b: return "224147";
+			case 0x6a5c: return "22414b";
+			case 0x6a5e: return "22414a";
+			case 0x6a5f: return "21455d";
+			case 0x6a61: return "21455a";
+			case 0x6a62: return "214553";
+			case 0x6a63: return "224129";
+			case 0x6a64: return "22416d";
+			case 0x6a65: return "4c433f";
+			case 0x6a66: return "2d3c5f";
+			case 0x6a67: return "224137";
+			case 0x6a6b: return "214556";
+			case 0x6a71: return "4b4569";
+			case 0x6a72: return "224143";
+			case 0x6a77: return "224146";
+			case 0x6a78: return "695c71";
+			case 0x6a79: return "27456d";
+			case 0x6a7a: return "224156";
+			case 0x6a7c: return "284335";
+			case 0x6a7d: return "22417e";
+			case 0x6a7e: return "224236";
+			case 0x6a7f: return "224222";
+			case 0x6a80: return "21455e";
+			case 0x6a84: return "214560";
+			case 0x6a87: return "22424a";
+			case 0x6a89: return "224223";
+			case 0x6a8d: return "224173";
+			case 0x6a8e: return "22424b";
+			case 0x6a90: return "224247";
+			case 0x6a91: return "224224";
+			case 0x6a92: return "22422a";
+			case 0x6a94: return "21455f";
+			case 0x6a96: return "224179";
+			case 0x6a97: return "2d563f";
+			case 0x6a98: return "4b563f";
+			case 0x6a99: return "224234";
+			case 0x6a9b: return "224237";
+			case 0x6a9c: return "214562";
+			case 0x6a9d: return "224235";
+			case 0x6a9e: return "224249";
+			case 0x6a9f: return "224226";
+			case 0x6aa0: return "224242";
+			case 0x6aa2: return "214561";
+			case 0x6aa3: return "22422b";
+			case 0x6aa5: return "224177";
+			case 0x6aa8: return "224175";
+			case 0x6aa9: return "2e4174";
+			case 0x6aaa: return "4c4333";
+			case 0x6aab: return "224251";
+			case 0x6aac: return "214568";
+			case 0x6aae: return "224257";
+			case 0x6aaf: return "223b7d";
+			case 0x6ab3: return "214564";
+			case 0x6ab4: return "224268";
+			case 0x6ab8: return "214563";
+			case 0x6abb: return "214566";
+			case 0x6abf: return "22425d";
+			case 0x6ac1: return "2e403d";
+			case 0x6ac2: return "39447d";
+			case 0x6ac3: return "214565";
+			case 0x6ac8: return "224255";
+			case 0x6ac9: return "2d4569";
+			case 0x6aca: return "224264";
+			case 0x6acc: return "224325";
+			case 0x6acd: return "224334";
+			case 0x6ad1: return "224328";
+			case 0x6ad3: return "21456d";
+			case 0x6ada: return "21456a";
+			case 0x6adb: return "4b456c";
+			case 0x6add: return "21456b";
+			case 0x6ade: return "224335";
+			case 0x6adf: return "224333";
+			case 0x6ae5: return "214569";
+			case 0x6ae6: return "224279";
+			case 0x6ae7: return "22433a";
+			case 0x6ae8: return "224345";
+			case 0x6aea: return "224340";
+			case 0x6aeb: return "22433f";
+			case 0x6aec: return "224337";
+			case 0x6aed: return "22427e";
+			case 0x6af1: return "224344";
+			case 0x6af3: return "224339";
+			case 0x6af5: return "224348";
+			case 0x6af8: return "224359";
+			case 0x6afa: return "224350";
+			case 0x6afb: return "21456f";
+			case 0x6afd: return "22434e";
+			case 0x6b01: return "224352";
+			case 0x6b03: return "224358";
+			case 0x6b04: return "21456e";
+			case 0x6b05: return "4c4359";
+			case 0x6b09: return "224360";
+			case 0x6b0a: return "214570";
+			case 0x6b0d: return "22435f";
+			case 0x6b0e: return "224361";
+			case 0x6b11: return "224367";
+			case 0x6b12: return "394944";
+			case 0x6b16: return "214571";
+			case 0x6b17: return "22436e";
+			case 0x6b19: return "22436d";
+			case 0x6b1d: return "2d616a";
+			case 0x6b1e: return "224372";
+			case 0x6b1f: return "695d36";
+			case 0x6b20: return "4b5227";
+			case 0x6b21: return "214573";
+			case 0x6b22: return "274621";
+			case 0x6b23: return "214574";
+			case 0x6b24: return "27457e";
+			case 0x6b27: return "27457c";
+			case 0x6b2c: return "22437e";
+			case 0x6b32: return "273f3c";
+			case 0x6b35: return "22442a";
+			case 0x6b37: return "22442c";
+			case 0x6b38: return "2d3642";
+			case 0x6b39: return "224432";
+			case 0x6b3a: return "214577";
+			case 0x6b3b: return "22442d";
+			case 0x6b3d: return "214578";
+			case 0x6b3e: return "214576";
+			case 0x6b3f: return "224435";
+			case 0x6b40: return "22443a";
+			case 0x6b41: return "224438";
+			case 0x6b42: return "22443b";
+			case 0x6b43: return "22443c";
+			case 0x6b46: return "224437";
+			case 0x6b47: return "214579";
+			case 0x6b48: return "22443e";
+			case 0x6b49: return "21457a";
+			case 0x6b4a: return "22443f";
+			case 0x6b4c: return "21457b";
+			case 0x6b4e: return "4c4446";
+			case 0x6b50: return "21457c";
+			case 0x6b53: return "4b4621";
+			case 0x6b54: return "22444c";
+			case 0x6b55: return "22444e";
+			case 0x6b57: return "22444a";
+			case 0x6b59: return "21457d";
+			case 0x6b5b: return "334256";
+			case 0x6b5c: return "224451";
+			case 0x6b5e: return "224453";
+			case 0x6b5f: return "21457e";
+			case 0x6b60: return "224454";
+			case 0x6b61: return "214621";
+			case 0x6b62: return "2d353c";
+			case 0x6b63: return "214623";
+			case 0x6b64: return "214624";
+			case 0x6b65: return "214625";
+			case 0x6b66: return "214627";
+			case 0x6b67: return "4b3b67";
+			case 0x6b6a: return "214628";
+			case 0x6b6b: return "22445b";
+			case 0x6b6c: return "22445d";
+			case 0x6b6e: return "22445f";
+			case 0x6b6f: return "336321";
+			case 0x6b71: return "224461";
+			case 0x6b72: return "214629";
+			case 0x6b74: return "4b462a";
+			case 0x6b77: return "21462a";
+			case 0x6b78: return "21462b";
+			case 0x6b79: return "21462c";
+			case 0x6b7a: return "2d462c";
+			case 0x6b7b: return "21462d";
+			case 0x6b7c: return "274638";
+			case 0x6b7e: return "22446b";
+			case 0x6b7f: return "21462e";
+			case 0x6b80: return "2d3929";
+			case 0x6b81: return "4b462e";
+			case 0x6b82: return "224471";
+			case 0x6b83: return "21462f";
+			case 0x6b84: return "224473";
+			case 0x6b86: return "214630";
+			case 0x6b87: return "274635";
+			case 0x6b89: return "214632";
+			case 0x6b8a: return "214631";
+			case 0x6b8b: return "334633";
+			case 0x6b8d: return "224479";
+			case 0x6b92: return "4b5f35";
+			case 0x6b93: return "274636";
+			case 0x6b95: return "22447b";
+			case 0x6b96: return "394634";
+			case 0x6b98: return "214633";
+			case 0x6b99: return "224525";
+			case 0x6b9a: return "284539";
+			case 0x6b9b: return "224529";
+			case 0x6b9e: return "3f5f35";
+			case 0x6ba1: return "274637";
+			case 0x6ba2: return "224536";
+			case 0x6ba3: return "224535";
+			case 0x6ba4: return "214635";
+			case 0x6baa: return "224538";
+			case 0x6bab: return "224539";
+			case 0x6bad: return "22453b";
+			case 0x6bae: return "214636";
+			case 0x6baf: return "214637";
+			case 0x6bb0: return "22453d";
+			case 0x6bb1: return "4b4638";
+			case 0x6bb2: return "214638";
+			case 0x6bb3: return "22453f";
+			case 0x6bb4: return "274640";
+			case 0x6bb5: return "214639";
+			case 0x6bb7: return "21463a";
+			case 0x6bba: return "21463b";
+			case 0x6bbb: return "33463c";
+			case 0x6bbc: return "21463c";
+			case 0x6bbd: return "224547";
+			case 0x6bbf: return "21463e";
+			case 0x6bc0: return "21463d";
+			case 0x6bc2: return "275b52";
+			case 0x6bc5: return "21463f";
+			case 0x6bc6: return "214640";
+			case 0x6bc8: return "224554";
+			case 0x6bcb: return "214641";
+			case 0x6bcd: return "214642";
+			case 0x6bcf: return "214643";
+			case 0x6bd2: return "214644";
+			case 0x6bd3: return "2d532c";
+			case 0x6bd4: return "214646";
+			case 0x6bd5: return "274c33";
+			case 0x6bd6: return "22455b";
+			case 0x6bd7: return "214647";
+			case 0x6bd8: return "2d4647";
+			case 0x6bd9: return "274257";
+			case 0x6bda: return "224560";
+			case 0x6bdb: return "214648";
+			case 0x6bdc: return "224562";
+			case 0x6bdd: return "224563";
+			case 0x6bdf: return "224565";
+			case 0x6be1: return "28464c";
+			case 0x6be7: return "22456f";
+			case 0x6be8: return "224571";
+			case 0x6bea: return "224570";
+			case 0x6beb: return "214649";
+			case 0x6bec: return "2d4b45";
+			case 0x6bef: return "21464a";
+			case 0x6bf3: return "22462c";
+			case 0x6bf5: return "284642";
+			case 0x6bf6: return "22462a";
+			case 0x6bf8: return "224633";
+			case 0x6bf9: return "224638";
+			case 0x6bfa: return "224637";
+			case 0x6bfd: return "21464b";
+			case 0x6bff: return "224642";
+			case 0x6c02: return "2d4a60";
+			case 0x6c04: return "224648";
+			case 0x6c05: return "22464a";
+			case 0x6c06: return "224644";
+			case 0x6c07: return "284651";
+			case 0x6c08: return "22464c";
+			case 0x6c0c: return "224651";
+			case 0x6c0d: return "224652";
+			case 0x6c0f: return "21464c";
+			case 0x6c10: return "21464e";
+			case 0x6c11: return "21464d";
+			case 0x6c13: return "21464f";
+			case 0x6c14: return "274655";
+			case 0x6c15: return "224659";
+			case 0x6c16: return "214650";
+			case 0x6c17: return "4b4655";
+			case 0x6c18: return "22465a";
+			case 0x6c19: return "22465b";
+			case 0x6c1a: return "22465c";
+			case 0x6c1b: return "214651";
+			case 0x6c1d: return "22465e";
+			case 0x6c1f: return "214652";
+			case 0x6c20: return "224660";
+			case 0x6c21: return "224662";
+			case 0x6c22: return "274658";
+			case 0x6c23: return "214655";
+			case 0x6c24: return "214657";
+			case 0x6c26: return "214654";
+			case 0x6c27: return "214653";
+			case 0x6c28: return "214656";
+			case 0x6c29: return "284668";
+			case 0x6c2a: return "224664";
+			case 0x6c2b: return "214658";
+			case 0x6c2c: return "224668";
+			case 0x6c2d: return "224666";
+			case 0x6c2e: return "214659";
+			case 0x6c2f: return "45465b";
+			case 0x6c30: return "224667";
+			case 0x6c31: return "224669";
+			case 0x6c32: return "4b465a";
+			case 0x6c33: return "21465a";
+			case 0x6c34: return "21465c";
+			case 0x6c37: return "33333c";
+			case 0x6c38: return "21465d";
+			case 0x6c39: return "21643f";
+			case 0x6c3b: return "224670";
+			case 0x6c3d: return "513b52";
+			case 0x6c3e: return "394735";
+			case 0x6c3f: return "224674";
+			case 0x6c40: return "214660";
+			case 0x6c41: return "21465e";
+			case 0x6c42: return "214661";
+			case 0x6c46: return "224678";
+			case 0x6c47: return "273d4f";
+			case 0x6c49: return "274857";
+			case 0x6c4a: return "22467c";
+			case 0x6c4b: return "22472b";
+			case 0x6c4d: return "224727";
+			case 0x6c4e: return "2d4735";
+			case 0x6c50: return "214668";
+			case 0x6c52: return "22467a";
+			case 0x6c54: return "22472c";
+			case 0x6c55: return "214667";
+			case 0x6c57: return "214663";
+			case 0x6c59: return "214665";
+			case 0x6c5b: return "224726";
+			case 0x6c5c: return "224724";
+			case 0x6c5d: return "214669";
+			case 0x6c5e: return "214662";
+			case 0x6c5f: return "214664";
+			case 0x6c60: return "214666";
+			case 0x6c61: return "334665";
+			case 0x6c62: return "22467b";
+			case 0x6c63: return "22472d";
+			case 0x6c64: return "27482d";
+			case 0x6c65: return "224742";
+			case 0x6c67: return "2e4739";
+			case 0x6c68: return "214673";
+			case 0x6c69: return "22474a";
+			case 0x6c6a: return "21466e";
+			case 0x6c6c: return "224738";
+			case 0x6c6d: return "22474c";
+			case 0x6c6e: return "224752";
+			case 0x6c6f: return "224747";
+			case 0x6c70: return "214672";
+			case 0x6c72: return "214671";
+			case 0x6c73: return "2e4731";
+			case 0x6c74: return "224731";
+			case 0x6c76: return "224733";
+			case 0x6c78: return "224730";
+			case 0x6c79: return "2d4746";
+			case 0x6c7a: return "21466d";
+			case 0x6c7d: return "214679";
+			case 0x6c7e: return "214678";
+			case 0x6c81: return "21466b";
+			case 0x6c82: return "22475a";
+			case 0x6c83: return "21467b";
+			case 0x6c84: return "22473b";
+			case 0x6c85: return "274841";
+			case 0x6c86: return "224732";
+			case 0x6c87: return "224751";
+			case 0x6c88: return "274931";
+			case 0x6c89: return "4b4676";
+			case 0x6c8c: return "21466f";
+			case 0x6c8d: return "4b6a26";
+			case 0x6c8f: return "224740";
+			case 0x6c90: return "214670";
+			case 0x6c92: return "21467a";
+			case 0x6c93: return "22474d";
+			case 0x6c94: return "22473e";
+			case 0x6c95: return "224756";
+			case 0x6c96: return "214674";
+			case 0x6c99: return "214677";
+			case 0x6c9a: return "22474b";
+			case 0x6c9b: return "21466a";
+			case 0x6c9d: return "224749";
+			case 0x6c9f: return "27483d";
+			case 0x6ca0: return "22475c";
+			case 0x6ca1: return "33467a";
+			case 0x6ca2: return "4b4921";
+			case 0x6ca3: return "284f5d";
+			case 0x6ca4: return "284c41";
+			case 0x6ca5: return "27493b";
+			case 0x6ca6: return "274777";
+			case 0x6ca7: return "274848";
+			case 0x6ca9: return "284d58";
+			case 0x6caa: return "27484f";
+			case 0x6cab: return "214725";
+			case 0x6cac: return "224767";
+			case 0x6cad: return "4c476e";
+			case 0x6cae: return "21472d";
+			case 0x6caf: return "224770";
+			case 0x6cb1: return "21467c";
+			case 0x6cb2: return "2d467c";
+			case 0x6cb3: return "214728";
+			case 0x6cb4: return "224833";
+			case 0x6cb8: return "214723";
+			case 0x6cb9: return "21472e";
+			case 0x6cba: return "22477a";
+			case 0x6cbb: return "214734";
+			case 0x6cbc: return "21472c";
+			case 0x6cbd: return "214727";
+			case 0x6cbe: return "214731";
+			case 0x6cbf: return "214737";
+			case 0x6cc0: return "224764";
+			case 0x6cc1: return "214730";
+			case 0x6cc2: return "22477d";
+			case 0x6cc4: return "214729";
+			case 0x6cc5: return "214732";
+			case 0x6cc6: return "224826";
+			case 0x6cc9: return "21473a";
+			case 0x6cca: return "214738";
+			case 0x6ccc: return "214739";
+			case 0x6cce: return "224828";
+			case 0x6cd0: return "2e4670";
+			case 0x6cd1: return "224830";
+			case 0x6cd2: return "224832";
+			case 0x6cd3: return "214724";
+			case 0x6cd4: return "2e6f35";
+			case 0x6cd5: return "21472a";
+			case 0x6cd6: return "335461";
+			case 0x6cd7: return "214733";
+			case 0x6cd8: return "224824";
+			case 0x6cd9: return "2e492f";
+			case 0x6cda: return "22485c";
+			case 0x6cdb: return "214735";
+			case 0x6cdd: return "33483b";
+			case 0x6cde: return "274927";
+			case 0x6ce0: return "22482f";
+			case 0x6ce1: return "214736";
+			case 0x6ce2: return "21472b";
+			case 0x6ce3: return "214721";
+			case 0x6ce5: return "214726";
+			case 0x6ce8: return "27584c";
+			case 0x6ce9: return "224829";
+			case 0x6cea: return "274759";
+			case 0x6ceb: return "224762";
+			case 0x6cee: return "224763";
+			case 0x6cef: return "224766";
+			case 0x6cf0: return "214722";
+			case 0x6cf1: return "21472f";
+			case 0x6cf2: return "22482d";
+			case 0x6cf3: return "21467e";
+			case 0x6cf5: return "224772";
+			case 0x6cf6: return "284e3e";
+			case 0x6cf7: return "284f26";
+			case 0x6cf8: return "284f39";
+			case 0x6cfa: return "454738";
+			case 0x6cfb: return "274932";
+			case 0x6cfc: return "27486c";
+			case 0x6cfd: return "274921";
+			case 0x6cfe: return "27474e";
+			case 0x6d00: return "22486c";
+			case 0x6d01: return "27486f";
+			case 0x6d04: return "22485b";
+			case 0x6d07: return "22485a";
+			case 0x6d0a: return "224850";
+			case 0x6d0b: return "21473c";
+			case 0x6d0c: return "214741";
+			case 0x6d0e: return "224867";
+			case 0x6d0f: return "22484f";
+			case 0x6d11: return "22486b";
+			case 0x6d12: return "274941";
+			case 0x6d17: return "214743";
+			case 0x6d19: return "224864";
+			case 0x6d1a: return "334740";
+			case 0x6d1b: return "214745";
+			case 0x6d1d: return "224837";
+			case 0x6d1e: return "214742";
+			case 0x6d1f: return "33474a";
+			case 0x6d24: return "22486d";
+			case 0x6d25: return "21473e";
+			case 0x6d26: return "22484d";
+			case 0x6d27: return "22484e";
+			case 0x6d28: return "22483b";
+			case 0x6d29: return "2d4729";
+			case 0x6d2a: return "214740";
+			case 0x6d2b: return "22486a";
+			case 0x6d2e: return "224860";
+			case 0x6d31: return "21473f";
+			case 0x6d32: return "21473d";
+			case 0x6d33: return "22486f";
+			case 0x6d34: return "34492f";
+			case 0x6d35: return "224861";
+			case 0x6d36: return "214746";
+			case 0x6d38: return "2e4d3d";
+			case 0x6d39: return "224844";
+			case 0x6d3a: return "224862";
+			case 0x6d3b: return "214744";
+			case 0x6d3c: return "274f5c";
+			case 0x6d3d: return "214747";
+			case 0x6d3e: return "214748";
+			case 0x6d3f: return "224851";
+			case 0x6d41: return "21473b";
+			case 0x6d43: return "284934";
+			case 0x6d44: return "33476f";
+			case 0x6d45: return "2d4768";
+			case 0x6d46: return "274863";
+			case 0x6d47: return "274871";
+			case 0x6d48: return "284b28";
+			case 0x6d4a: return "274922";
+			case 0x6d4b: return "274830";
+			case 0x6d4d: return "284e42";
+			case 0x6d4e: return "274926";
+			case 0x6d4f: return "274937";
+			case 0x6d51: return "274833";
+			case 0x6d52: return "284c2e";
+			case 0x6d53: return "27487c";
+			case 0x6d54: return "284d2b";
+			case 0x6d59: return "21474d";
+			case 0x6d5a: return "214755";
+			case 0x6d5c: return "394928";
+			case 0x6d5e: return "22493e";
+			case 0x6d60: return "224946";
+			case 0x6d61: return "224928";
+			case 0x6d63: return "224873";
+			case 0x6d64: return "2e4747";
+			case 0x6d65: return "22493c";
+			case 0x6d66: return "21474c";
+			case 0x6d67: return "224940";
+			case 0x6d69: return "214756";
+			case 0x6d6a: return "214749";
+			case 0x6d6c: return "214750";
+			case 0x6d6d: return "224925";
+			case 0x6d6e: return "214753";
+			case 0x6d6f: return "224926";
+			case 0x6d70: return "22494c";
+			case 0x6d74: return "214754";
+			case 0x6d77: return "214757";
+			case 0x6d78: return "21474b";
+			case 0x6d79: return "224934";
+			case 0x6d7c: return "22494b";
+			case 0x6d7f: return "224939";
+			case 0x6d81: return "22492c";
+			case 0x6d82: return "27384d";
+			case 0x6d85: return "22493b";
+			case 0x6d87: return "21474e";
+			case 0x6d88: return "21474f";
+			case 0x6d89: return "214752";
+			case 0x6d8a: return "22492e";
+			case 0x6d8c: return "27477d";
+			case 0x6d8e: return "214775";
+			case 0x6d91: return "224929";
+			case 0x6d92: return "22487d";
+			case 0x6d93: return "214751";
+			case 0x6d94: return "224943";
+			case 0x6d95: return "21474a";
+			case 0x6d96: return "22494f";
+			case 0x6d98: return "224948";
+			case 0x6d99: return "4b4759";
+			case 0x6d9b: return "27492d";
+			case 0x6d9d: return "284d27";
+			case 0x6d9e: return "284971";
+			case 0x6d9f: return "274859";
+			case 0x6da0: return "284d49";
+			case 0x6da1: return "274831";
+			case 0x6da3: return "4b4835";
+			case 0x6da4: return "224a3d";
+			case 0x6da5: return "224877";
+			case 0x6da6: return "27486d";
+			case 0x6da7: return "27486e";
+			case 0x6da8: return "274855";
+			case 0x6da9: return "27492e";
+			case 0x6daa: return "22495c";
+			case 0x6dab: return "224959";
+			case 0x6dac: return "22496a";
+			case 0x6dae: return "214760";
+			case 0x6daf: return "214766";
+			case 0x6db2: return "21475d";
+			case 0x6db4: return "22495a";
+			case 0x6db5: return "4b4767";
+			case 0x6db7: return "22496b";
+			case 0x6db8: return "21476c";
+			case 0x6dbc: return "21475b";
+			case 0x6dbf: return "22497b";
+			case 0x6dc0: return "27487b";
+			case 0x6dc4: return "214778";
+			case 0x6dc5: return "214764";
+			case 0x6dc6: return "214776";
+			case 0x6dc7: return "214762";
+			case 0x6dcb: return "214763";
+			case 0x6dcc: return "21476a";
+			case 0x6dd1: return "21476d";
+			case 0x6dd2: return "21475f";
+			case 0x6dd3: return "224a2d";
+			case 0x6dd5: return "22496d";
+			case 0x6dd6: return "2d514a";
+			case 0x6dd8: return "214771";
+			case 0x6dd9: return "214758";
+			case 0x6dda: return "214759";
+			case 0x6ddb: return "224a39";
+			case 0x6ddc: return "224a36";
+			case 0x6ddd: return "224a35";
+			case 0x6dde: return "214765";
+			case 0x6ddf: return "224a2a";
+			case 0x6de0: return "2e4e5d";
+			case 0x6de1: return "21475e";
+			case 0x6de2: return "22496c";
+			case 0x6de4: return "21475c";
+			case 0x6de5: return "2e4c35";
+			case 0x6de6: return "224a4a";
+			case 0x6de8: return "21476f";
+			case 0x6de9: return "22496e";
+			case 0x6dea: return "214777";
+			case 0x6deb: return "214770";
+			case 0x6dec: return "224960";
+			case 0x6dee: return "214773";
+			case 0x6def: return "224935";
+			case 0x6df0: return "224a46";
+			case 0x6df1: return "21476e";
+			case 0x6df3: return "21475a";
+			case 0x6df5: return "214774";
+			case 0x6df6: return "224971";
+			case 0x6df7: return "21476b";
+			case 0x6df8: return "214761";
+			case 0x6df9: return "214769";
+			case 0x6dfa: return "214768";
+			case 0x6dfb: return "214772";
+			case 0x6dfc: return "224a32";
+			case 0x6e05: return "4b4761";
+			case 0x6e07: return "2d482f";
+			case 0x6e08: return "3f4926";
+			case 0x6e0a: return "274774";
+			case 0x6e0b: return "4b492e";
+			case 0x6e0c: return "4c4c35";
+			case 0x6e0d: return "274854";
+			case 0x6e0e: return "274933";
+			case 0x6e0f: return "224979";
+			case 0x6e10: return "27485a";
+			case 0x6e11: return "284e30";
+			case 0x6e12: return "224a44";
+			case 0x6e13: return "4b484a";
+			case 0x6e14: return "274865";
+			case 0x6e15: return "454774";
+			case 0x6e16: return "4b4931";
+			case 0x6e17: return "274864";
+			case 0x6e19: return "214835";
+			case 0x6e1a: return "214822";
+			case 0x6e1b: return "214829";
+			case 0x6e1d: return "214836";
+			case 0x6e1f: return "224a4c";
+			case 0x6e20: return "21477e";
+			case 0x6e21: return "21477a";
+			case 0x6e22: return "224b42";
+			case 0x6e23: return "214827";
+			case 0x6e24: return "214828";
+			case 0x6e25: return "21482a";
+			case 0x6e26: return "214831";
+			case 0x6e27: return "224a50";
+			case 0x6e28: return "224b22";
+			case 0x6e29: return "2d4845";
+			case 0x6e2a: return "224b40";
+			case 0x6e2b: return "334729";
+			case 0x6e2c: return "214830";
+			case 0x6e2d: return "21482e";
+			case 0x6e2e: return "224b2e";
+			case 0x6e2f: return "214824";
+			case 0x6e30: return "224b33";
+			case 0x6e31: return "224b26";
+			case 0x6e32: return "21477c";
+			case 0x6e34: return "21482f";
+			case 0x6e36: return "224b30";
+			case 0x6e38: return "21477b";
+			case 0x6e39: return "224b36";
+			case 0x6e3a: return "21482c";
+			case 0x6e3c: return "224a58";
+			case 0x6e3e: return "214833";
+			case 0x6e43: return "214834";
+			case 0x6e44: return "224a6b";
+			case 0x6e49: return "224a55";
+			case 0x6e4a: return "21482b";
+			case 0x6e4b: return "224a62";
+			case 0x6e4c: return "224b41";
+			case 0x6e4d: return "214832";
+			case 0x6e4e: return "224a77";
+			case 0x6e4f: return "224a74";
+			case 0x6e51: return "224a6a";
+			case 0x6e53: return "224b34";
+			case 0x6e54: return "214779";
+			case 0x6e56: return "214823";
+			case 0x6e58: return "214826";
+			case 0x6e5b: return "214821";
+			case 0x6e5c: return "224b24";
+			case 0x6e5d: return "224b31";
+			case 0x6e5e: return "224b28";
+			case 0x6e5f: return "334730";
+			case 0x6e62: return "224a66";
+			case 0x6e63: return "224a6d";
+			case 0x6e67: return "21477d";
+			case 0x6e69: return "224b38";
+			case 0x6e6b: return "224b39";
+			case 0x6e6e: return "214825";
+			case 0x6e6f: return "21482d";
+			case 0x6e71: return "224b37";
+			case 0x6e72: return "224b32";
+			case 0x6e73: return "224a71";
+			case 0x6e76: return "224b3e";
+			case 0x6e7c: return "2e493b";
+			case 0x6e7e: return "274943";
+			case 0x6e7f: return "274844";
+			case 0x6e80: return "4b4858";
+			case 0x6e82: return "695e63";
+			case 0x6e83: return "274878";
+			case 0x6e84: return "224b2c";
+			case 0x6e85: return "274934";
+			case 0x6e86: return "2e4c7b";
+			case 0x6e88: return "224d58";
+			case 0x6e89: return "4b4866";
+			case 0x6e8a: return "224a60";
+			case 0x6e8b: return "224b3b";
+			case 0x6e8e: return "224b5e";
+			case 0x6e8f: return "224b4a";
+			case 0x6e90: return "214841";
+			case 0x6e92: return "224b59";
+			case 0x6e93: return "224b4d";
+			case 0x6e96: return "21484b";
+			case 0x6e98: return "214840";
+			case 0x6e9b: return "224b45";
+			case 0x6e9c: return "21484c";
+			case 0x6e9d: return "21483d";
+			case 0x6e9f: return "224b46";
+			case 0x6ea0: return "224b4f";
+			case 0x6ea2: return "21483c";
+			case 0x6ea4: return "224b75";
+			case 0x6ea5: return "21483f";
+			case 0x6ea6: return "2e4a6b";
+			case 0x6ea7: return "224b5a";
+			case 0x6ea8: return "224b57";
+			case 0x6eaa: return "21484a";
+			case 0x6eab: return "214845";
+			case 0x6eaf: return "21483b";
+			case 0x6eb1: return "224b51";
+			case 0x6eb2: return "224c26";
+			case 0x6eb3: return "224b6c";
+			case 0x6eb4: return "224c24";
+			case 0x6eb5: return "224c29";
+			case 0x6eb6: return "214838";
+			case 0x6eb7: return "224b6d";
+			case 0x6eba: return "2d3b52";
+			case 0x6ebb: return "224b69";
+			case 0x6ebc: return "214844";
+			case 0x6ebd: return "224b61";
+			case 0x6ec1: return "224b63";
+			case 0x6ec2: return "214839";
+			case 0x6ec3: return "224c21";
+			case 0x6ec4: return "214848";
+			case 0x6ec5: return "214842";
+			case 0x6ec7: return "214843";
+			case 0x6ec8: return "224b48";
+			case 0x6ec9: return "224b6a";
+			case 0x6eca: return "224b7c";
+			case 0x6ecb: return "214847";
+			case 0x6ecc: return "214867";
+			case 0x6ece: return "224b43";
+			case 0x6ecf: return "224b79";
+			case 0x6ed1: return "214846";
+			case 0x6ed3: return "214837";
+			case 0x6ed4: return "214849";
+			case 0x6ed5: return "224b7d";
+			case 0x6ed7: return "284d59";
+			case 0x6ed8: return "224b49";
+			case 0x6ed9: return "224b60";
+			case 0x6eda: return "2d4850";
+			case 0x6edd: return "4c4f26";
+			case 0x6ede: return "4b485f";
+			case 0x6edf: return "285029";
+			case 0x6ee0: return "284f61";
+			case 0x6ee1: return "274858";
+			case 0x6ee2: return "284e66";
+			case 0x6ee4: return "274936";
+			case 0x6ee5: return "27492b";
+			case 0x6ee6: return "274944";
+			case 0x6ee8: return "274928";
+			case 0x6ee9: return "274942";
+			case 0x6eeb: return "224c77";
+			case 0x6eec: return "21484f";
+			case 0x6eee: return "224c61";
+			case 0x6eef: return "21485f";
+			case 0x6ef2: return "214864";
+			case 0x6ef4: return "21484e";
+			case 0x6ef6: return "224c42";
+			case 0x6ef7: return "2f5d3c";
+			case 0x6ef8: return "224c2e";
+			case 0x6ef9: return "224c60";
+			case 0x6efa: return "224c76";
+			case 0x6efd: return "224c34";
+			case 0x6efe: return "214850";
+			case 0x6eff: return "214858";
+			case 0x6f00: return "224c44";
+			case 0x6f01: return "214865";
+			case 0x6f02: return "21485d";
+			case 0x6f06: return "21485e";
+			case 0x6f08: return "224c78";
+			case 0x6f09: return "224c35";
+			case 0x6f0a: return "224c5a";
+			case 0x6f0b: return "224d44";
+			case 0x6f0e: return "224c79";
+			case 0x6f0f: return "214856";
+			case 0x6f11: return "214866";
+			case 0x6f12: return "224c3e";
+			case 0x6f13: return "284f6b";
+			case 0x6f14: return "214852";
+			case 0x6f15: return "21485b";
+			case 0x6f18: return "224c51";
+			case 0x6f19: return "224c43";
+			case 0x6f1a: return "224c41";
+			case 0x6f1f: return "224c57";
+			case 0x6f20: return "214862";
+			case 0x6f22: return "4b4857";
+			case 0x6f23: return "214859";
+			case 0x6f24: return "224c4b";
+			case 0x6f26: return "224c3f";
+			case 0x6f29: return "214851";
+			case 0x6f2a: return "214868";
+			case 0x6f2b: return "214860";
+			case 0x6f2c: return "214854";
+			case 0x6f2d: return "224c65";
+			case 0x6f2f: return "214861";
+			case 0x6f30: return "224c6d";
+			case 0x6f31: return "21485c";
+			case 0x6f32: return "214855";
+			case 0x6f33: return "21484d";
+			case 0x6f34: return "224c67";
+			case 0x6f35: return "224c7b";
+			case 0x6f36: return "224c5e";
+			case 0x6f37: return "224c30";
+			case 0x6f38: return "21485a";
+			case 0x6f3b: return "224c3c";
+			case 0x6f3e: return "214853";
+			case 0x6f3f: return "214863";
+			case 0x6f41: return "224c62";
+			case 0x6f44: return "2d485c";
+			case 0x6f45: return "4b4940";
+			case 0x6f46: return "4c4f24";
+			case 0x6f47: return "27493d";
+			case 0x6f49: return "224c6b";
+			case 0x6f4b: return "284e41";
+			case 0x6f4d: return "284e62";
+			case 0x6f51: return "21486c";
+			case 0x6f54: return "21486f";
+			case 0x6f55: return "224d5a";
+			case 0x6f57: return "224d62";
+			case 0x6f58: return "214879";
+			case 0x6f5a: return "224d2f";
+			case 0x6f5b: return "214874";
+			case 0x6f5c: return "2d4874";
+			case 0x6f5d: return "224d68";
+			case 0x6f5e: return "224e2e";
+			case 0x6f5f: return "224d63";
+			case 0x6f60: return "224d30";
+			case 0x6f62: return "4c4d3d";
+			case 0x6f63: return "224c3d";
+			case 0x6f64: return "21486d";
+			case 0x6f66: return "214877";
+			case 0x6f6c: return "224d4b";
+			case 0x6f6d: return "214873";
+			case 0x6f6e: return "214875";
+			case 0x6f6f: return "224d2b";
+			case 0x6f70: return "214878";
+			case 0x6f72: return "224d5f";
+			case 0x6f74: return "2e4e72";
+			case 0x6f78: return "214876";
+			case 0x6f7a: return "214870";
+			case 0x6f7c: return "214869";
+			case 0x6f7e: return "224d23";
+			case 0x6f80: return "21492e";
+			case 0x6f81: return "33492e";
+			case 0x6f82: return "2d486b";
+			case 0x6f84: return "21486b";
+			case 0x6f86: return "214871";
+			case 0x6f87: return "224d27";
+			case 0x6f88: return "21486a";
+			case 0x6f89: return "224d3a";
+			case 0x6f8b: return "224d4d";
+			case 0x6f8c: return "224d3c";
+			case 0x6f8d: return "224d37";
+			case 0x6f8e: return "214872";
+			case 0x6f90: return "224d35";
+			case 0x6f91: return "4b484c";
+			case 0x6f92: return "224d39";
+			case 0x6f94: return "2d4756";
+			case 0x6f95: return "224c64";
+			case 0x6f97: return "2d486e";
+			case 0x6f99: return "4c4d63";
+			case 0x6f9c: return "27493f";
+			case 0x6f9d: return "224d24";
+			case 0x6f9f: return "224d74";
+			case 0x6fa0: return "224e30";
+			case 0x6fa1: return "21487e";
+			case 0x6fa3: return "2e4873";
+			case 0x6fa4: return "214921";
+			case 0x6fa5: return "224e40";
+			case 0x6fa6: return "224d79";
+			case 0x6fa7: return "21487d";
+			case 0x6fa8: return "224e3c";
+			case 0x6faa: return "224e21";
+			case 0x6fae: return "224e42";
+			case 0x6faf: return "224e37";
+			case 0x6fb0: return "224e41";
+			case 0x6fb1: return "21487b";
+			case 0x6fb3: return "4b4925";
+			case 0x6fb4: return "224e35";
+			case 0x6fb6: return "224d73";
+			case 0x6fb9: return "33475e";
+			case 0x6fbc: return "224d7d";
+			case 0x6fbf: return "224e25";
+			case 0x6fc0: return "214924";
+			case 0x6fc1: return "214922";
+			case 0x6fc2: return "21487a";
+			case 0x6fc3: return "21487c";
+			case 0x6fc6: return "224d7c";
+			case 0x6fc7: return "224e26";
+			case 0x6fc8: return "224e2f";
+			case 0x6fc9: return "224e2d";
+			case 0x6fca: return "224e32";
+			case 0x6fd1: return "27493a";
+			case 0x6fd2: return "27493c";
+			case 0x6fd4: return "224e50";
+			case 0x6fd5: return "2d4844";
+			case 0x6fd8: return "214927";
+			case 0x6fd9: return "224e43";
+			case 0x6fda: return "224e44";
+			case 0x6fdb: return "455564";
+			case 0x6fde: return "224e5d";
+			case 0x6fdf: return "214926";
+			case 0x6fe0: return "214929";
+			case 0x6fe1: return "21492c";
+			case 0x6fe4: return "21492d";
+			case 0x6fe9: return "224e56";
+			case 0x6feb: return "4b492b";
+			case 0x6fec: return "334755";
+			case 0x6fee: return "224e5e";
+			case 0x6fef: return "21492a";
+			case 0x6ff0: return "224e62";
+			case 0x6ff1: return "214928";
+			case 0x6ff3: return "4b4874";
+			case 0x6ff6: return "2d5e61";
+			case 0x6ff8: return "224e57";
+			case 0x6ffa: return "214934";
+			case 0x6ffc: return "2d4738";
+			case 0x6ffe: return "214936";
+			case 0x7001: return "2d4853";
+			case 0x7005: return "224e66";
+			case 0x7006: return "214933";
+			case 0x7009: return "214932";
+			case 0x700b: return "214931";
+			case 0x700c: return "224e67";
+			case 0x700d: return "224e6a";
+			case 0x700f: return "214937";
+			case 0x7011: return "214935";
+			case 0x7015: return "21493c";
+			case 0x7018: return "224f39";
+			case 0x701a: return "214939";
+			case 0x701b: return "214938";
+			case 0x701d: return "21493b";
+			case 0x701e: return "4c4f2b";
+			case 0x701f: return "21493d";
+			case 0x7020: return "224f24";
+			case 0x7021: return "224f35";
+			case 0x7023: return "224f3a";
+			case 0x7026: return "224e72";
+			case 0x7027: return "224f26";
+			case 0x7028: return "21493a";
+			case 0x702c: return "2d493a";
+			case 0x702d: return "224f31";
+			case 0x702e: return "224f2f";
+			case 0x7030: return "333d4c";
+			case 0x7032: return "2e4e41";
+			case 0x7034: return "224f51";
+			case 0x7035: return "224f44";
+			case 0x7039: return "224f53";
+			case 0x703a: return "224f54";
+			case 0x703c: return "224f41";
+			case 0x703e: return "21493f";
+			case 0x7043: return "224f5d";
+			case 0x7044: return "224f61";
+			case 0x7047: return "224f67";
+			case 0x7049: return "224f69";
+			case 0x704c: return "214940";
+			case 0x704f: return "284f7d";
+			case 0x7051: return "214941";
+			case 0x7052: return "224f71";
+			case 0x7054: return "225029";
+			case 0x7055: return "224f6b";
+			case 0x7058: return "214942";
+			case 0x7059: return "224f78";
+			case 0x705c: return "224f73";
+			case 0x705d: return "224f7d";
+			case 0x705e: return "224f7b";
+			case 0x7061: return "224f7c";
+			case 0x7063: return "214943";
+			case 0x7064: return "214944";
+			case 0x7065: return "225027";
+			case 0x7066: return "225025";
+			case 0x7068: return "225028";
+			case 0x706b: return "214945";
+			case 0x706d: return "274842";
+			case 0x706e: return "2d3272";
+			case 0x706f: return "274a24";
+			case 0x7070: return "214946";
+			case 0x7074: return "225039";
+			case 0x7075: return "275f6f";
+			case 0x7076: return "214947";
+			case 0x7078: return "214949";
+			case 0x707a: return "22503b";
+			case 0x707c: return "214948";
+			case 0x707d: return "21494a";
+			case 0x707e: return "27494a";
+			case 0x707f: return "274a31";
+			case 0x7080: return "27496f";
+			case 0x7081: return "22504a";
+			case 0x7084: return "225049";
+			case 0x7085: return "2d526b";
+			case 0x7086: return "225042";
+			case 0x7088: return "225056";
+			case 0x7089: return "274a37";
+			case 0x708a: return "21494f";
+			case 0x708c: return "225059";
+			case 0x708e: return "21494c";
+			case 0x7092: return "21494d";
+			case 0x7093: return "225040";
+			case 0x7094: return "39526b";
+			case 0x7095: return "21494b";
+			case 0x7096: return "274a22";
+			case 0x7098: return "225057";
+			case 0x7099: return "21494e";
+			case 0x709c: return "285252";
+			case 0x709d: return "28533c";
+			case 0x70a1: return "225062";
+			case 0x70a3: return "225063";
+			case 0x70a4: return "2d4971";
+			case 0x70a7: return "22506f";
+			case 0x70a9: return "225073";
+			case 0x70ab: return "214950";
+			case 0x70ac: return "214952";
+			case 0x70ad: return "214955";
+			case 0x70ae: return "214956";
+			case 0x70af: return "214954";
+			case 0x70b0: return "2d4956";
+			case 0x70b1: return "2e506d";
+			case 0x70b3: return "214953";
+			case 0x70b5: return "225071";
+			case 0x70b7: return "22505c";
+			case 0x70b8: return "214957";
+			case 0x70b9: return "27626a";
+			case 0x70ba: return "214951";
+			case 0x70bb: return "706c42";
+			case 0x70bc: return "27496a";
+			case 0x70bd: return "274a21";
+			case 0x70bf: return "225072";
+			case 0x70c0: return "706c43";
+			case 0x70c1: return "274a36";
+			case 0x70c2: return "274a38";
+			case 0x70c3: return "285150";
+			case 0x70c6: return "22513d";
+			case 0x70c7: return "22513b";
+			case 0x70c8: return "21495b";
+			case 0x70ca: return "214958";
+			case 0x70cb: return "225138";
+			case 0x70cf: return "21495d";
+			case 0x70d0: return "22513a";
+			case 0x70d1: return "22512e";
+			case 0x70d3: return "22507d";
+			case 0x70d4: return "22512b";
+			case 0x70d6: return "33494a";
+			case 0x70d8: return "21495a";
+			case 0x70d9: return "21495c";
+			case 0x70da: return "22513c";
+			case 0x70db: return "274a30";
+			case 0x70dc: return "22507c";
+			case 0x70dd: return "225122";
+			case 0x70df: return "2d496b";
+			case 0x70e0: return "225128";
+			case 0x70e1: return "225123";
+			case 0x70e3: return "225126";
+			case 0x70e4: return "214959";
+			case 0x70e5: return "22507b";
+			case 0x70e6: return "27496d";
+			case 0x70e7: return "274a26";
+			case 0x70e8: return "285424";
+			case 0x70e9: return "274a33";
+			case 0x70ea: return "225078";
+			case 0x70eb: return "27497e";
+			case 0x70ec: return "28544f";
+			case 0x70ed: return "27497d";
+			case 0x70ef: return "225167";
+			case 0x70f1: return "2d4954";
+			case 0x70f3: return "225148";
+			case 0x70f4: return "225150";
+			case 0x70f6: return "225160";
+			case 0x70f7: return "225142";
+			case 0x70f9: return "21495e";
+			case 0x70fa: return "22513f";
+			case 0x70fd: return "214961";
+			case 0x70fe: return "217627";
+			case 0x7100: return "225168";
+			case 0x7103: return "22514c";
+			case 0x7104: return "225144";
+			case 0x7109: return "21495f";
+			case 0x710a: return "214960";
+			case 0x710c: return "22515c";
+			case 0x7110: return "22514a";
+			case 0x7111: return "225155";
+			case 0x7112: return "225156";
+			case 0x7113: return "225166";
+			case 0x7115: return "4b4973";
+			case 0x7116: return "274a25";
+			case 0x7118: return "345452";
+			case 0x7119: return "214962";
+			case 0x711a: return "214964";
+			case 0x711c: return "22522e";
+			case 0x711e: return "22516c";
+			case 0x7120: return "22516e";
+			case 0x7121: return "214966";
+			case 0x7126: return "214968";
+			case 0x7129: return "22523b";
+			case 0x712d: return "225175";
+			case 0x712e: return "225243";
+			case 0x712f: return "225235";
+			case 0x7130: return "214967";
+			case 0x7131: return "225174";
+			case 0x7133: return "334968";
+			case 0x7134: return "22516d";
+			case 0x7135: return "225228";
+			case 0x7136: return "214965";
+			case 0x7139: return "225227";
+			case 0x713b: return "22522c";
+			case 0x713c: return "2d4a26";
+			case 0x713d: return "225232";
+			case 0x713f: return "22516f";
+			case 0x7141: return "225256";
+			case 0x7143: return "22525c";
+			case 0x7144: return "225270";
+			case 0x7145: return "2d5e24";
+			case 0x7146: return "225251";
+			case 0x7147: return "225262";
+			case 0x7149: return "21496a";
+			case 0x714a: return "2e3870";
+			case 0x714b: return "225260";
+			case 0x714c: return "214974";
+			case 0x714e: return "214969";
+			case 0x714f: return "225254";
+			case 0x7150: return "225269";
+			case 0x7152: return "225252";
+			case 0x7153: return "22526b";
+			case 0x7156: return "334342";
+			case 0x7159: return "21496b";
+			case 0x715a: return "22525d";
+			case 0x715b: return "2e525d";
+			case 0x715c: return "21496e";
+			case 0x715d: return "225255";
+			case 0x715e: return "214972";
+			case 0x715f: return "225267";
+			case 0x7160: return "225257";
+			case 0x7162: return "345175";
+			case 0x7164: return "21496c";
+			case 0x7165: return "214973";
+			case 0x7166: return "214970";
+			case 0x7167: return "214971";
+			case 0x7168: return "225265";
+			case 0x7169: return "21496d";
+			case 0x716c: return "21496f";
+			case 0x716e: return "214963";
+			case 0x7171: return "225266";
+			case 0x7172: return "225276";
+			case 0x7173: return "22525a";
+			case 0x7175: return "225259";
+			case 0x7176: return "22525e";
+			case 0x7177: return "225248";
+			case 0x7178: return "225278";
+			case 0x717a: return "4c523a";
+			case 0x717b: return "22527c";
+			case 0x717c: return "225336";
+			case 0x717d: return "214975";
+			case 0x7180: return "22532b";
+			case 0x7184: return "214979";
+			case 0x7185: return "225332";
+			case 0x7187: return "22527b";
+			case 0x7188: return "4b4977";
+			case 0x7189: return "22532c";
+			case 0x718a: return "214978";
+			case 0x718f: return "2d4a34";
+			case 0x7192: return "225323";
+			case 0x7194: return "2d5e26";
+			case 0x7195: return "695f70";
+			case 0x7196: return "225333";
+			case 0x7197: return "22533c";
+			case 0x7198: return "225339";
+			case 0x7199: return "214977";
+			case 0x719a: return "225355";
+			case 0x719b: return "22534a";
+			case 0x719e: return "225346";
+			case 0x719f: return "21497a";
+			case 0x71a0: return "225352";
+			case 0x71a4: return "225351";
+			case 0x71a5: return "225342";
+			case 0x71a8: return "21497b";
+			case 0x71a9: return "22533f";
+			case 0x71ac: return "21497c";
+			case 0x71af: return "22534e";
+			case 0x71b1: return "21497d";
+			case 0x71b2: return "225347";
+			case 0x71b3: return "225357";
+			case 0x71b4: return "225359";
+			case 0x71b5: return "22533e";
+			case 0x71b7: return "22536a";
+			case 0x71b8: return "22537c";
+			case 0x71b9: return "214a27";
+			case 0x71ba: return "225372";
+			case 0x71be: return "214a21";
+			case 0x71bf: return "22537a";
+			case 0x71c0: return "225422";
+			case 0x71c1: return "225424";
+			case 0x71c2: return "225375";
+			case 0x71c3: return "214a2a";
+			case 0x71c4: return "214a2b";
+			case 0x71c5: return "225377";
+			case 0x71c7: return "225369";
+			case 0x71c8: return "214a24";
+			case 0x71c9: return "214a22";
+			case 0x71ca: return "22536d";
+			case 0x71cb: return "225429";
+			case 0x71ce: return "214a29";
+			case 0x71cf: return "22536f";
+			case 0x71d0: return "214a23";
+			case 0x71d1: return "225367";
+			case 0x71d2: return "214a26";
+			case 0x71d4: return "225426";
+			case 0x71d5: return "214a28";
+			case 0x71d6: return "225370";
+			case 0x71d7: return "4b4a38";
+			case 0x71d9: return "21497e";
+			case 0x71dc: return "214a25";
+			case 0x71dd: return "225421";
+			case 0x71de: return "22542a";
+			case 0x71df: return "214a2e";
+			case 0x71e0: return "4c5447";
+			case 0x71e1: return "22543f";
+			case 0x71e5: return "214a2f";
+			case 0x71e6: return "214a31";
+			case 0x71e7: return "214a2d";
+			case 0x71e8: return "225436";
+			case 0x71eb: return "225432";
+			case 0x71ec: return "214a32";
+			case 0x71ed: return "214a30";
+			case 0x71ee: return "214a2c";
+			case 0x71f3: return "22543d";
+			case 0x71f4: return "214a33";
+			case 0x71f5: return "22543a";
+			case 0x71f9: return "225456";
+			case 0x71fb: return "214a34";
+			case 0x71fc: return "22544f";
+			case 0x71fe: return "2e5452";
+			case 0x71ff: return "33525b";
+			case 0x7206: return "214a35";
+			case 0x7207: return "225461";
+			case 0x720a: return "22545e";
+			case 0x720b: return "225471";
+			case 0x720c: return "22544b";
+			case 0x720d: return "214a36";
+			case 0x720e: return "22545b";
+			case 0x7210: return "214a37";
+			case 0x7213: return "225469";
+			case 0x7215: return "225466";
+			case 0x7217: return "225460";
+			case 0x7218: return "22546e";
+			case 0x721a: return "225479";
+			case 0x721b: return "214a38";
+			case 0x721d: return "225521";
+			case 0x721f: return "22547d";
+			case 0x7225: return "225529";
+			case 0x7226: return "22552a";
+			case 0x7228: return "214a39";
+			case 0x722a: return "214a3a";
+			case 0x722c: return "214a3c";
+			case 0x722d: return "214a3b";
+			case 0x7230: return "214a3d";
+			case 0x7231: return "273e77";
+			case 0x7235: return "4b4a3e";
+			case 0x7236: return "214a3f";
+			case 0x7237: return "274a42";
+			case 0x7238: return "214a40";
+			case 0x7239: return "214a41";
+			case 0x723a: return "214a42";
+			case 0x723b: return "214a43";
+			case 0x723c: return "4b316a";
+			case 0x723d: return "214a44";
+			case 0x723e: return "214a45";
+			case 0x723f: return "225541";
+			case 0x7240: return "2d3c6e";
+			case 0x7241: return "225543";
+			case 0x7242: return "225544";
+			case 0x7246: return "214a46";
+			case 0x7247: return "214a47";
+			case 0x7248: return "214a48";
+			case 0x724b: return "33502b";
+			case 0x724c: return "214a49";
+			case 0x724d: return "274a4c";
+			case 0x724f: return "225551";
+			case 0x7250: return "22554f";
+			case 0x7252: return "214a4a";
+			case 0x7253: return "225552";
+			case 0x7255: return "225553";
+			case 0x7256: return "214a4b";
+			case 0x7258: return "214a4c";
+			case 0x7259: return "214a4d";
+			case 0x725a: return "225556";
+			case 0x725b: return "214a4e";
+			case 0x725d: return "214a50";
+			case 0x725f: return "214a4f";
+			case 0x7260: return "214a53";
+			case 0x7261: return "214a52";
+			case 0x7262: return "214a51";
+			case 0x7263: return "225559";
+			case 0x7266: return "3f4a60";
+			case 0x7267: return "214a54";
+			case 0x7269: return "214a55";
+			case 0x726e: return "225563";
+			case 0x726f: return "214a56";
+			case 0x7272: return "214a57";
+			case 0x7273: return "225561";
+			case 0x7274: return "214a58";
+			case 0x7275: return "274a5a";
+			case 0x7276: return "225566";
+			case 0x7277: return "225568";
+			case 0x7279: return "214a59";
+			case 0x727a: return "274a62";
+			case 0x727c: return "22556d";
+			case 0x727d: return "214a5a";
+			case 0x727e: return "22556b";
+			case 0x727f: return "225571";
+			case 0x7280: return "214a5c";
+			case 0x7281: return "214a5b";
+			case 0x7282: return "2d4a5b";
+			case 0x7284: return "214a5d";
+			case 0x7287: return "2d392f";
+			case 0x7289: return "225574";
+			case 0x728a: return "274a61";
+			case 0x728b: return "22557c";
+			case 0x728d: return "225622";
+			case 0x728f: return "225628";
+			case 0x7292: return "214a5f";
+			case 0x7296: return "214a5e";
+			case 0x729b: return "214a60";
+			case 0x729f: return "4c5638";
+			case 0x72a0: return "4b4a62";
+			case 0x72a2: return "214a61";
+			case 0x72a7: return "214a62";
+			case 0x72a8: return "225648";
+			case 0x72ab: return "22564c";
+			case 0x72ac: return "214a63";
+			case 0x72af: return "214a64";
+			case 0x72b0: return "22564e";
+			case 0x72b2: return "2d5960";
+			case 0x72b4: return "22564f";
+			case 0x72b5: return "225652";
+			case 0x72b6: return "274a68";
+			case 0x72b7: return "274b2a";
+			case 0x72b8: return "28575e";
+			case 0x72b9: return "274a79";
+			case 0x72bc: return "225656";
+			case 0x72c0: return "214a68";
+			case 0x72c1: return "22565b";
+			case 0x72c2: return "214a66";
+			case 0x72c3: return "225658";
+			case 0x72c4: return "214a65";
+			case 0x72c6: return "225651";
+			case 0x72c8: return "274a72";
+			case 0x72c9: return "225667";
+			case 0x72cc: return "22566c";
+			case 0x72cd: return "22566f";
+			case 0x72ce: return "214a69";
+			case 0x72d0: return "214a6b";
+			case 0x72d2: return "225664";
+			case 0x72d6: return "225660";
+			case 0x72d7: return "214a6a";
+			case 0x72d9: return "214a67";
+			case 0x72db: return "22566e";
+			case 0x72de: return "274b28";
+			case 0x72e0: return "214a6e";
+			case 0x72e1: return "214a6c";
+			case 0x72e2: return "4b5964";
+			case 0x72e5: return "225679";
+			case 0x72e8: return "225673";
+			case 0x72e9: return "214a6d";
+			case 0x72eb: return "225676";
+			case 0x72ec: return "274b27";
+			case 0x72ed: return "274a70";
+			case 0x72ee: return "274b23";
+			case 0x72ef: return "274b22";
+			case 0x72f0: return "4b4a78";
+			case 0x72f1: return "274a7e";
+			case 0x72f2: return "28575f";
+			case 0x72f3: return "22572e";
+			case 0x72f4: return "225724";
+			case 0x72f7: return "214a73";
+			case 0x72f8: return "2d5965";
+			case 0x72f9: return "214a70";
+			case 0x72fa: return "22567e";
+			case 0x72fb: return "22572c";
+			case 0x72fc: return "214a6f";
+			case 0x72fd: return "214a72";
+			case 0x72fe: return "225725";
+			case 0x7301: return "22572d";
+			case 0x7302: return "225729";
+			case 0x7303: return "28582b";
+			case 0x7307: return "22573b";
+			case 0x730a: return "2f5d5c";
+			case 0x730b: return "225735";
+			case 0x730e: return "274b2c";
+			case 0x7313: return "214a76";
+			case 0x7315: return "285836";
+			case 0x7316: return "214a77";
+			case 0x7317: return "225736";
+			case 0x7318: return "22573e";
+			case 0x7319: return "214a78";
+			case 0x731b: return "214a75";
+			case 0x731c: return "4b4a74";
+			case 0x731d: return "225731";
+			case 0x731e: return "225742";
+			case 0x731f: return "4b4b2c";
+			case 0x7321: return "274b2f";
+			case 0x7322: return "22574a";
+			case 0x7325: return "214a7c";
+			case 0x7327: return "22574e";
+			case 0x7328: return "225755";
+			case 0x7329: return "214a7b";
+			case 0x732a: return "2d595f";
+			case 0x732b: return "22574f";
+			case 0x732c: return "22574d";
+			case 0x732e: return "274b2e";
+			case 0x732f: return "225752";
+			case 0x7331: return "225746";
+			case 0x7332: return "22574c";
+			case 0x7334: return "214a7d";
+			case 0x7336: return "214a79";
+			case 0x7337: return "214a7a";
+			case 0x7338: return "225749";
+			case 0x7339: return "70622a";
+			case 0x733a: return "225762";
+			case 0x733b: return "22575f";
+			case 0x733e: return "214b22";
+			case 0x733f: return "214b21";
+			case 0x7340: return "225765";
+			case 0x7343: return "2d3556";
+			case 0x7344: return "214a7e";
+			case 0x7345: return "214b23";
+			case 0x7347: return "22575a";
+			case 0x7348: return "22575b";
+			case 0x7349: return "22575c";
+			case 0x734b: return "225821";
+			case 0x734d: return "225768";
+			case 0x734e: return "517954";
+			case 0x734f: return "4b5963";
+			case 0x7350: return "214b24";
+			case 0x7352: return "22576b";
+			case 0x7357: return "214b26";
+			case 0x7358: return "22577b";
+			case 0x735d: return "225774";
+			case 0x735e: return "225772";
+			case 0x7360: return "225779";
+			case 0x7362: return "22577e";
+			case 0x7363: return "4b4b2b";
+			case 0x7367: return "225825";
+			case 0x7368: return "214b27";
+			case 0x736a: return "2d4b22";
+			case 0x736b: return "22582b";
+			case 0x736c: return "225829";
+			case 0x736d: return "274b2d";
+			case 0x736f: return "22582f";
+			case 0x7370: return "214b28";
+			case 0x7372: return "214b29";
+			case 0x7375: return "214b2c";
+			case 0x7377: return "214b2a";
+			case 0x7378: return "214b2b";
+			case 0x737a: return "214b2d";
+			case 0x737b: return "214b2e";
+			case 0x737c: return "225836";
+			case 0x737e: return "225838";
+			case 0x7380: return "214b2f";
+			case 0x7381: return "22583b";
+			case 0x7384: return "214b30";
+			case 0x7385: return "2d3954";
+			case 0x7387: return "214b31";
+			case 0x7388: return "22583f";
+			case 0x7389: return "214b32";
+			case 0x738b: return "214b33";
+			case 0x738d: return "216437";
+			case 0x738e: return "225842";
+			case 0x7391: return "274b64";
+			case 0x7392: return "225847";
+			case 0x7393: return "22584c";
+			case 0x7394: return "22584d";
+			case 0x7395: return "225846";
+			case 0x7396: return "214b34";
+			case 0x7397: return "225848";
+			case 0x739b: return "274b5e";
+			case 0x739e: return "225851";
+			case 0x739f: return "214b35";
+			case 0x73a0: return "225863";
+			case 0x73a2: return "225862";
+			case 0x73a5: return "22585d";
+			case 0x73a6: return "225852";
+			case 0x73a8: return "214b36";
+			case 0x73a9: return "214b37";
+			default: return null;
+		}
+	}
+
+	private String getCharTableCharString_0x73ab_0x89e1(Character c) {
+		switch((int)c.charValue()) {
+			case 0x73ab: return "214b38";
+			case 0x73ae: return "285a47";
+			case 0x73af: return "274b67";
+			case 0x73b0: return "274b47";
+			case 0x73b2: return "4b4b3e";
+			case 0x73b3: return "2e5a40";
+			case 0x73b6: return "225867";
+			case 0x73b7: return "214b3b";
+			case 0x73ba: return "274b69";
+			case 0x73bb: return "214b39";
+			case 0x73bc: return "225935";
+			case 0x73bf: return "22586f";
+			case 0x73c0: return "214b3c";
+			case 0x73c2: return "22586a";
+			case 0x73c8: return "225870";
+			case 0x73c9: return "2d4b35";
+			case 0x73ca: return "214b3a";
+			case 0x73cc: return "22587d";
+			case 0x73cd: return "214b3f";
+			case 0x73ce: return "2d4b3f";
+			case 0x73cf: return "225868";
+			case 0x73d0: return "22586b";
+			case 0x73d1: return "274b6b";
+			case 0x73d3: return "225921";
+			case 0x73d4: return "22592f";
+			case 0x73d6: return "225932";
+			case 0x73d9: return "22592a";
+			case 0x73db: return "225930";
+			case 0x73de: return "22593a";
+			case 0x73e0: return "214b42";
+			case 0x73e3: return "225938";
+			case 0x73e5: return "225928";
+			case 0x73e6: return "22593c";
+			case 0x73e7: return "225936";
+			case 0x73e9: return "22593f";
+			case 0x73ea: return "225927";
+			case 0x73ed: return "214b40";
+			case 0x73ee: return "214b41";
+			case 0x73ef: return "22592b";
+			case 0x73f1: return "4c5c3a";
+			case 0x73f2: return "274b57";
+			case 0x73f5: return "225954";
+			case 0x73f6: return "225945";
+			case 0x73f7: return "225970";
+			case 0x73f8: return "22594a";
+			case 0x73fa: return "225947";
+			case 0x73fd: return "22595a";
+			case 0x73fe: return "214b47";
+			case 0x7403: return "214b45";
+			case 0x7405: return "214b43";
+			case 0x7406: return "214b48";
+			case 0x7407: return "22595c";
+			case 0x7409: return "214b44";
+			case 0x740a: return "214b46";
+			case 0x740d: return "214b49";
+			case 0x740f: return "285b21";
+			case 0x7410: return "274b5f";
+			case 0x7412: return "22595e";
+			case 0x7414: return "225969";
+			case 0x7415: return "225a30";
+			case 0x7416: return "225978";
+			case 0x741a: return "225971";
+			case 0x741b: return "225a2a";
+			case 0x7420: return "225a28";
+			case 0x7422: return "214b50";
+			case 0x7424: return "225a2b";
+			case 0x7425: return "214b51";
+			case 0x7426: return "22597a";
+			case 0x7428: return "225a21";
+			case 0x7429: return "225a23";
+			case 0x742a: return "214b4e";
+			case 0x742b: return "22596e";
+			case 0x742c: return "22596a";
+			case 0x742d: return "225a2d";
+			case 0x742e: return "225966";
+			case 0x742f: return "225967";
+			case 0x7430: return "22596c";
+			case 0x7431: return "3f5f49";
+			case 0x7432: return "225a2c";
+			case 0x7433: return "214b4f";
+			case 0x7434: return "214b4d";
+			case 0x7435: return "214b4b";
+			case 0x7436: return "214b4c";
+			case 0x7439: return "223d66";
+			case 0x743a: return "214b4a";
+			case 0x743b: return "225a32";
+			case 0x743c: return "225963";
+			case 0x743f: return "214b57";
+			case 0x7440: return "225a5d";
+			case 0x7441: return "214b56";
+			case 0x7442: return "225a45";
+			case 0x7444: return "225a36";
+			case 0x7447: return "225a40";
+			case 0x744a: return "225a4a";
+			case 0x744b: return "225a47";
+			case 0x7451: return "225a56";
+			case 0x7452: return "225a4f";
+			case 0x7454: return "225a5b";
+			case 0x7455: return "214b53";
+			case 0x7457: return "225a55";
+			case 0x7458: return "225a43";
+			case 0x7459: return "214b5b";
+			case 0x745a: return "214b55";
+			case 0x745b: return "214b58";
+			case 0x745c: return "214b5a";
+			case 0x745d: return "225a5a";
+			case 0x745e: return "214b59";
+			case 0x745f: return "214b54";
+			case 0x7460: return "225a78";
+			case 0x7462: return "225a61";
+			case 0x7463: return "214b5f";
+			case 0x7464: return "214b60";
+			case 0x7468: return "225a6b";
+			case 0x7469: return "214b5d";
+			case 0x746a: return "214b5e";
+			case 0x746d: return "225a60";
+			case 0x746e: return "225a69";
+			case 0x746f: return "2d4b43";
+			case 0x7470: return "214b61";
+			case 0x7471: return "225a6a";
+			case 0x7472: return "225a79";
+			case 0x7473: return "225a62";
+			case 0x7474: return "225a68";
+			case 0x7477: return "274b68";
+			case 0x747a: return "225b30";
+			case 0x747c: return "225b22";
+			case 0x747d: return "225b3e";
+			case 0x747e: return "225b28";
+			case 0x7480: return "225b38";
+			case 0x7481: return "225b3c";
+			case 0x7482: return "225b27";
+			case 0x7483: return "214b5c";
+			case 0x7484: return "225a7a";
+			case 0x7485: return "225b3f";
+			case 0x7486: return "225b2d";
+			case 0x7487: return "225a7b";
+			case 0x7488: return "225a7e";
+			case 0x7489: return "225b21";
+			case 0x748a: return "225b2a";
+			case 0x748b: return "214b62";
+			case 0x748d: return "225b56";
+			case 0x748e: return "285c3a";
+			case 0x7490: return "225b6a";
+			case 0x7497: return "225b40";
+			case 0x7498: return "225b43";
+			case 0x749a: return "225b45";
+			case 0x749c: return "4b4b63";
+			case 0x749d: return "225b55";
+			case 0x749e: return "225b57";
+			case 0x749f: return "225b54";
+			case 0x74a0: return "225b59";
+			case 0x74a1: return "225b5d";
+			case 0x74a2: return "2e5a78";
+			case 0x74a3: return "214b64";
+			case 0x74a4: return "225b4d";
+			case 0x74a5: return "225b6c";
+			case 0x74a6: return "214b68";
+			case 0x74a7: return "214b65";
+			case 0x74a8: return "225b6e";
+			case 0x74a9: return "214b66";
+			case 0x74aa: return "225b69";
+			case 0x74ab: return "225b67";
+			case 0x74b0: return "214b67";
+			case 0x74b1: return "225b61";
+			case 0x74b2: return "225b60";
+			case 0x74b4: return "225b66";
+			case 0x74b5: return "225c28";
+			case 0x74b8: return "225b76";
+			case 0x74ba: return "225c29";
+			case 0x74bd: return "214b69";
+			case 0x74bf: return "225c25";
+			case 0x74c0: return "225b7a";
+			case 0x74c5: return "225c31";
+			case 0x74c8: return "225c30";
+			case 0x74ca: return "214b6a";
+			case 0x74cc: return "225c32";
+			case 0x74cf: return "214b6b";
+			case 0x74d2: return "285c40";
+			case 0x74d4: return "225c3a";
+			case 0x74d6: return "225c38";
+			case 0x74d8: return "225c3d";
+			case 0x74da: return "225c40";
+			case 0x74db: return "225c41";
+			case 0x74dc: return "214b6c";
+			case 0x74de: return "225c47";
+			case 0x74e0: return "214b6d";
+			case 0x74e2: return "214b6e";
+			case 0x74e3: return "214b6f";
+			case 0x74e4: return "225c50";
+			case 0x74e6: return "214b70";
+			case 0x74e7: return "225c52";
+			case 0x74e9: return "225c54";
+			case 0x74ee: return "225c5c";
+			case 0x74ef: return "274b74";
+			case 0x74f0: return "225c5a";
+			case 0x74f1: return "225c58";
+			case 0x74f2: return "696126";
+			case 0x74f4: return "4c5c61";
+			case 0x74f6: return "214b71";
+			case 0x74f7: return "214b72";
+			case 0x74f8: return "225c63";
+			case 0x74fb: return "225c66";
+			case 0x74ff: return "225c67";
+			case 0x7503: return "225c77";
+			case 0x7504: return "214b73";
+			case 0x7505: return "225c71";
+			case 0x7506: return "2d4b72";
+			case 0x7507: return "225c7d";
+			case 0x750c: return "214b74";
+			case 0x750d: return "225d28";
+			case 0x750e: return "225d25";
+			case 0x750f: return "225d2d";
+			case 0x7511: return "225d2c";
+			case 0x7512: return "225d32";
+			case 0x7513: return "225d33";
+			case 0x7515: return "214b75";
+			case 0x7516: return "2e742e";
+			case 0x7517: return "225d39";
+			case 0x7518: return "214b76";
+			case 0x7519: return "705f30";
+			case 0x751a: return "214b77";
+			case 0x751c: return "214b78";
+			case 0x751e: return "2d3730";
+			case 0x751f: return "214b79";
+			case 0x7521: return "225d42";
+			case 0x7522: return "214b7a";
+			case 0x7523: return "454b7a";
+			case 0x7524: return "225d44";
+			case 0x7525: return "214b7c";
+			case 0x7526: return "214b7b";
+			case 0x7528: return "214b7d";
+			case 0x7529: return "214b7e";
+			case 0x752a: return "2d5833";
+			case 0x752b: return "214c22";
+			case 0x752c: return "214c21";
+			case 0x752d: return "214c23";
+			case 0x752f: return "225d49";
+			case 0x7530: return "214c24";
+			case 0x7531: return "214c26";
+			case 0x7532: return "214c25";
+			case 0x7533: return "214c27";
+			case 0x7535: return "275f55";
+			case 0x7537: return "214c28";
+			case 0x7538: return "214c29";
+			case 0x753a: return "225d4d";
+			case 0x753b: return "334c36";
+			case 0x753c: return "696136";
+			case 0x753d: return "214c2a";
+			case 0x753e: return "225d52";
+			case 0x753f: return "225d4f";
+			case 0x7540: return "225d51";
+			case 0x7544: return "274c31";
+			case 0x7545: return "274343";
+			case 0x7546: return "394c2d";
+			case 0x7547: return "225d58";
+			case 0x7548: return "225d5a";
+			case 0x7549: return "69613a";
+			case 0x754a: return "225d55";
+			case 0x754b: return "225d59";
+			case 0x754c: return "214c2c";
+			case 0x754d: return "334c2c";
+			case 0x754e: return "225d57";
+			case 0x754f: return "214c2b";
+			case 0x7551: return "225068";
+			case 0x7553: return "22477b";
+			case 0x7554: return "214c2f";
+			case 0x7559: return "214c31";
+			case 0x755a: return "214c30";
+			case 0x755b: return "225d60";
+			case 0x755c: return "214c2e";
+			case 0x755d: return "214c2d";
+			case 0x755f: return "225d5f";
+			case 0x7560: return "69482b";
+			case 0x7562: return "214c33";
+			case 0x7563: return "225d67";
+			case 0x7564: return "225d62";
+			case 0x7565: return "214c35";
+			case 0x7566: return "214c32";
+			case 0x7567: return "2d4c35";
+			case 0x7569: return "69613e";
+			case 0x756a: return "214c37";
+			case 0x756b: return "214c36";
+			case 0x756c: return "225d6b";
+			case 0x756d: return "345d6b";
+			case 0x756e: return "2d4c2d";
+			case 0x756f: return "225d69";
+			case 0x7570: return "214c34";
+			case 0x7571: return "225d75";
+			case 0x7572: return "285d6b";
+			case 0x7573: return "4b4c3c";
+			case 0x7574: return "274c3b";
+			case 0x7575: return "4b4c36";
+			case 0x7576: return "214c39";
+			case 0x7577: return "225d71";
+			case 0x7578: return "214c38";
+			case 0x7579: return "225d6d";
+			case 0x757a: return "225d6e";
+			case 0x757d: return "225d79";
+			case 0x757f: return "225d7e";
+			case 0x7582: return "3f4c3c";
+			case 0x7583: return "225e25";
+			case 0x7586: return "214c3a";
+			case 0x7587: return "214c3b";
+			case 0x7589: return "454c3c";
+			case 0x758a: return "214c3c";
+			case 0x758b: return "2d3453";
+			case 0x758e: return "2d4c3e";
+			case 0x758f: return "214c3e";
+			case 0x7590: return "225e2c";
+			case 0x7591: return "214c3f";
+			case 0x7592: return "225e2d";
+			case 0x7594: return "225e2e";
+			case 0x7595: return "225e31";
+			case 0x7596: return "4c6022";
+			case 0x7597: return "274c6e";
+			case 0x7598: return "225e35";
+			case 0x7599: return "214c41";
+			case 0x759a: return "214c42";
+			case 0x759d: return "214c40";
+			case 0x759f: return "274c61";
+			case 0x75a0: return "274c71";
+			case 0x75a1: return "274c60";
+			case 0x75a2: return "225e37";
+			case 0x75a3: return "225e3b";
+			case 0x75a4: return "214c43";
+			case 0x75a5: return "214c45";
+			case 0x75ab: return "214c44";
+			case 0x75ac: return "286032";
+			case 0x75ae: return "274c6a";
+			case 0x75af: return "274c63";
+			case 0x75b0: return "225e43";
+			case 0x75b1: return "225e50";
+			case 0x75b2: return "214c49";
+			case 0x75b3: return "214c48";
+			case 0x75b4: return "225e47";
+			case 0x75b5: return "214c50";
+			case 0x75b8: return "2e5f6f";
+			case 0x75b9: return "214c4d";
+			case 0x75ba: return "225e3e";
+			case 0x75bc: return "214c4c";
+			case 0x75bd: return "214c4a";
+			case 0x75be: return "214c4b";
+			case 0x75bf: return "225e46";
+			case 0x75c1: return "225e4e";
+			case 0x75c2: return "225e4a";
+			case 0x75c3: return "225e44";
+			case 0x75c4: return "225e51";
+			case 0x75c5: return "214c47";
+			case 0x75c7: return "214c46";
+			case 0x75c8: return "28603a";
+			case 0x75c9: return "274c56";
+			case 0x75ca: return "4b4c51";
+			case 0x75cc: return "225e5e";
+			case 0x75cd: return "225e58";
+			case 0x75cf: return "225e5c";
+			case 0x75d0: return "225e5f";
+			case 0x75d2: return "274c73";
+			case 0x75d4: return "214c4f";
+			case 0x75d5: return "214c4e";
+			case 0x75d6: return "285e7a";
+			case 0x75d7: return "225e73";
+			case 0x75d8: return "214c54";
+			case 0x75d9: return "214c56";
+			case 0x75db: return "214c52";
+			case 0x75de: return "214c55";
+			case 0x75e0: return "225e72";
+			case 0x75e1: return "225e66";
+			case 0x75e2: return "214c57";
+			case 0x75e3: return "214c53";
+			case 0x75e4: return "225e71";
+			case 0x75e6: return "225e67";
+			case 0x75e7: return "225e63";
+			case 0x75e8: return "274c6d";
+			case 0x75ea: return "274c62";
+			case 0x75eb: return "4c5f69";
+			case 0x75f0: return "214c5a";
+			case 0x75f1: return "214c5c";
+			case 0x75f2: return "214c5b";
+			case 0x75f3: return "4b4c5b";
+			case 0x75f4: return "214c5d";
+			case 0x75f9: return "225f21";
+			case 0x75fa: return "214c5f";
+			case 0x75fc: return "225f22";
+			case 0x75fe: return "345e47";
+			case 0x75ff: return "214c5e";
+			case 0x7600: return "214c59";
+			case 0x7601: return "214c58";
+			case 0x7602: return "225e7a";
+			case 0x7603: return "225e7e";
+			case 0x7605: return "285f6f";
+			case 0x7608: return "225f2c";
+			case 0x7609: return "393e7d";
+			case 0x760a: return "225f3c";
+			case 0x760b: return "214c63";
+			case 0x760c: return "225f2e";
+			case 0x760d: return "214c60";
+			case 0x760f: return "225f2f";
+			case 0x7610: return "225f3b";
+			case 0x7613: return "214c62";
+			case 0x7615: return "225f2d";
+			case 0x7616: return "225f29";
+			case 0x7617: return "285f48";
+			case 0x7618: return "285f5e";
+			case 0x7619: return "225f47";
+			case 0x761a: return "225f3f";
+			case 0x761b: return "225f40";
+			case 0x761d: return "225f4c";
+			case 0x761e: return "225f48";
+			case 0x761f: return "4b4c67";
+			case 0x7620: return "214c65";
+			case 0x7621: return "214c6a";
+			case 0x7622: return "225f50";
+			case 0x7624: return "214c68";
+			case 0x7625: return "225f3e";
+			case 0x7626: return "214c69";
+			case 0x7627: return "214c61";
+			case 0x7629: return "214c66";
+			case 0x762a: return "28602b";
+			case 0x762b: return "274c78";
+			case 0x762d: return "225f54";
+			case 0x762f: return "225f51";
+			case 0x7630: return "225f5f";
+			case 0x7633: return "225f5c";
+			case 0x7634: return "214c6b";
+			case 0x7635: return "225f62";
+			case 0x7638: return "214c6c";
+			case 0x763b: return "225f5e";
+			case 0x763c: return "225f60";
+			case 0x763e: return "274c76";
+			case 0x763f: return "286037";
+			case 0x7640: return "4c5f58";
+			case 0x7642: return "214c6e";
+			case 0x7643: return "225f6a";
+			case 0x7646: return "214c6d";
+			case 0x7647: return "225f69";
+			case 0x7648: return "225f67";
+			case 0x7649: return "225f6f";
+			case 0x764c: return "214c6f";
+			case 0x764d: return "225f6e";
+			case 0x764e: return "225f68";
+			case 0x7652: return "333e7d";
+			case 0x7654: return "225f75";
+			case 0x7656: return "214c70";
+			case 0x7657: return "225f7b";
+			case 0x7658: return "214c71";
+			case 0x7659: return "226024";
+			case 0x765c: return "225f7a";
+			case 0x765e: return "274c75";
+			case 0x765f: return "22602b";
+			case 0x7661: return "2d4c5d";
+			case 0x7662: return "214c73";
+			case 0x7663: return "274c77";
+			case 0x7664: return "226022";
+			case 0x7665: return "214c74";
+			case 0x7667: return "226032";
+			case 0x7668: return "4b5f62";
+			case 0x7669: return "214c75";
+			case 0x766a: return "226035";
+			case 0x766b: return "274c79";
+			case 0x766c: return "214c77";
+			case 0x766d: return "226037";
+			case 0x766e: return "214c76";
+			case 0x766f: return "226038";
+			case 0x7670: return "22603a";
+			case 0x7671: return "214c78";
+			case 0x7672: return "4b4c79";
+			case 0x7676: return "226040";
+			case 0x7677: return "226041";
+			case 0x7678: return "214c7a";
+			case 0x767a: return "334c7b";
+			case 0x767b: return "214c7c";
+			case 0x767c: return "214c7b";
+			case 0x767d: return "214c7d";
+			case 0x767e: return "214c7e";
+			case 0x7680: return "226048";
+			case 0x7681: return "2d4d21";
+			case 0x7682: return "214d21";
+			case 0x7683: return "275966";
+			case 0x7684: return "214d22";
+			case 0x7686: return "214d24";
+			case 0x7687: return "214d23";
+			case 0x7688: return "45462b";
+			case 0x768b: return "22604a";
+			case 0x768e: return "214d26";
+			case 0x7690: return "2e604a";
+			case 0x7691: return "274d29";
+			case 0x7693: return "214d28";
+			case 0x7695: return "226052";
+			case 0x7696: return "214d27";
+			case 0x7699: return "226059";
+			case 0x769a: return "214d29";
+			case 0x769c: return "22605d";
+			case 0x769d: return "22605f";
+			case 0x76a1: return "2e6060";
+			case 0x76a4: return "226065";
+			case 0x76a5: return "226066";
+			case 0x76a6: return "226067";
+			case 0x76aa: return "22606a";
+			case 0x76ad: return "22606d";
+			case 0x76ae: return "214d2a";
+			case 0x76b0: return "214d2b";
+			case 0x76b1: return "274d2d";
+			case 0x76b2: return "466074";
+			case 0x76b4: return "214d2c";
+			case 0x76b7: return "2d6275";
+			case 0x76b8: return "226074";
+			case 0x76b9: return "4c6074";
+			case 0x76ba: return "214d2d";
+			case 0x76bc: return "336275";
+			case 0x76bd: return "226077";
+			case 0x76bf: return "214d2e";
+			case 0x76c2: return "214d2f";
+			case 0x76c3: return "334425";
+			case 0x76c5: return "334674";
+			case 0x76c6: return "214d32";
+			case 0x76c7: return "2d4d34";
+			case 0x76c8: return "214d31";
+			case 0x76ca: return "214d33";
+			case 0x76cb: return "226123";
+			case 0x76cc: return "226126";
+			case 0x76cd: return "214d34";
+			case 0x76ce: return "214d35";
+			case 0x76cf: return "274d3a";
+			case 0x76d0: return "276251";
+			case 0x76d1: return "274d3d";
+			case 0x76d2: return "214d37";
+			case 0x76d4: return "214d36";
+			case 0x76d6: return "2d5561";
+			case 0x76d7: return "2d4d38";
+			case 0x76d8: return "274d3e";
+			case 0x76db: return "214d39";
+			case 0x76dc: return "214d38";
+			case 0x76de: return "214d3a";
+			case 0x76df: return "214d3b";
+			case 0x76e1: return "214d3c";
+			case 0x76e3: return "214d3d";
+			case 0x76e4: return "214d3e";
+			case 0x76e5: return "214d40";
+			case 0x76e6: return "22613b";
+			case 0x76e7: return "214d3f";
+			case 0x76e9: return "22613c";
+			case 0x76ea: return "214d41";
+			case 0x76ec: return "226140";
+			case 0x76ed: return "226144";
+			case 0x76ee: return "214d42";
+			case 0x76ef: return "214d43";
+			case 0x76f1: return "226148";
+			case 0x76f2: return "214d44";
+			case 0x76f4: return "4b4d45";
+			case 0x76f7: return "226153";
+			case 0x76f8: return "214d48";
+			case 0x76f9: return "214d47";
+			case 0x76fb: return "226159";
+			case 0x76fc: return "214d4b";
+			case 0x76fe: return "214d4c";
+			case 0x7701: return "214d49";
+			case 0x7704: return "22614b";
+			case 0x7707: return "226150";
+			case 0x7708: return "22614f";
+			case 0x7709: return "214d46";
+			case 0x770a: return "226154";
+			case 0x770b: return "214d4a";
+			case 0x770c: return "4b5164";
+			case 0x770d: return "286272";
+			case 0x770e: return "226160";
+			case 0x7718: return "333f24";
+			case 0x7719: return "2d4d71";
+			case 0x771a: return "22616d";
+			case 0x771b: return "226162";
+			case 0x771e: return "214d4f";
+			case 0x771f: return "2d4d4f";
+			case 0x7720: return "214d4e";
+			case 0x7721: return "22616f";
+			case 0x7722: return "22616c";
+			case 0x7724: return "226163";
+			case 0x7725: return "226222";
+			case 0x7726: return "286222";
+			case 0x7728: return "214d50";
+			case 0x7729: return "214d4d";
+			case 0x772b: return "22615e";
+			case 0x772d: return "2e624f";
+			case 0x772f: return "226176";
+			case 0x7731: return "226177";
+			case 0x7734: return "226226";
+			case 0x7735: return "226225";
+			case 0x7736: return "214d53";
+			case 0x7737: return "214d51";
+			case 0x7738: return "214d54";
+			case 0x7739: return "226175";
+			case 0x773a: return "214d55";
+			case 0x773c: return "214d52";
+			case 0x773e: return "214d56";
+			case 0x7740: return "226174";
+			case 0x7741: return "2d4d5f";
+			case 0x7743: return "226235";
+			case 0x7745: return "226231";
+			case 0x7747: return "22622d";
+			case 0x774a: return "226233";
+			case 0x774d: return "226232";
+			case 0x774e: return "226237";
+			case 0x774f: return "214d57";
+			case 0x7750: return "274d5d";
+			case 0x7751: return "28632c";
+			case 0x7752: return "22623e";
+			case 0x7756: return "226244";
+			case 0x7758: return "226242";
+			case 0x775a: return "226245";
+			case 0x775b: return "4b4d59";
+			case 0x775c: return "214d5f";
+			case 0x775e: return "214d5d";
+			case 0x775f: return "22623a";
+			case 0x7760: return "22623d";
+			case 0x7761: return "214d67";
+			case 0x7762: return "22624f";
+			case 0x7763: return "214d5e";
+			case 0x7765: return "214d62";
+			case 0x7766: return "214d5b";
+			case 0x7768: return "214d61";
+			case 0x776a: return "214d5a";
+			case 0x776b: return "214d58";
+			case 0x776c: return "214d60";
+			case 0x776f: return "226256";
+			case 0x7771: return "214d64";
+			case 0x7779: return "214d5c";
+			case 0x777a: return "226260";
+			case 0x777d: return "214d63";
+			case 0x777e: return "22625d";
+			case 0x777f: return "214d65";
+			case 0x7780: return "226252";
+			case 0x7784: return "214d66";
+			case 0x7785: return "22625f";
+			case 0x7787: return "214d68";
+			case 0x778b: return "4c6266";
+			case 0x778c: return "214d6a";
+			case 0x778d: return "22626a";
+			case 0x778e: return "214d69";
+			case 0x7791: return "214d6b";
+			case 0x7792: return "2d4d6d";
+			case 0x7796: return "226273";
+			case 0x7798: return "226272";
+			case 0x7799: return "226276";
+			case 0x779e: return "214d6d";
+			case 0x779f: return "214d6c";
+			case 0x77a0: return "214d6e";
+			case 0x77a2: return "226275";
+			case 0x77a5: return "214d6f";
+			case 0x77a7: return "214d75";
+			case 0x77a9: return "274d7c";
+			case 0x77aa: return "214d71";
+			case 0x77ac: return "214d74";
+			case 0x77ad: return "214d73";
+			case 0x77b0: return "214d72";
+			case 0x77b3: return "214d70";
+			case 0x77b5: return "22627a";
+			case 0x77b6: return "226323";
+			case 0x77b7: return "22627d";
+			case 0x77b9: return "22632b";
+			case 0x77bb: return "214d78";
+			case 0x77bc: return "22632c";
+			case 0x77bd: return "214d76";
+			case 0x77be: return "226329";
+			case 0x77bf: return "214d77";
+			case 0x77c1: return "2e625f";
+			case 0x77c7: return "4b5564";
+			case 0x77cd: return "226335";
+			case 0x77d1: return "22633a";
+			case 0x77d3: return "214d7a";
+			case 0x77d7: return "4b4d7b";
+			case 0x77da: return "214d7c";
+			case 0x77db: return "214d7d";
+			case 0x77dc: return "214d7e";
+			case 0x77de: return "226345";
+			case 0x77df: return "226346";
+			case 0x77e2: return "214e21";
+			case 0x77e3: return "214e22";
+			case 0x77e5: return "214e23";
+			case 0x77e6: return "226352";
+			case 0x77e7: return "22634f";
+			case 0x77e9: return "214e24";
+			case 0x77eb: return "274e27";
+			case 0x77ec: return "226355";
+			case 0x77ed: return "214e25";
+			case 0x77ee: return "214e26";
+			case 0x77ef: return "214e27";
+			case 0x77f0: return "226359";
+			case 0x77f1: return "22635a";
+			case 0x77f3: return "214e28";
+			case 0x77f4: return "22635c";
+			case 0x77f6: return "274e58";
+			case 0x77f8: return "226367";
+			case 0x77fb: return "226368";
+			case 0x77fc: return "226360";
+			case 0x77fd: return "214e29";
+			case 0x77fe: return "274e5c";
+			case 0x77ff: return "274e5b";
+			case 0x7800: return "286540";
+			case 0x7801: return "274e4c";
+			case 0x7802: return "214e2a";
+			case 0x7806: return "226371";
+			case 0x7809: return "226370";
+			case 0x780c: return "214e2c";
+			case 0x780d: return "214e2b";
+			case 0x7811: return "226374";
+			case 0x7812: return "226378";
+			case 0x7814: return "4b4e37";
+			case 0x7815: return "274e3e";
+			case 0x7816: return "274e53";
+			case 0x7817: return "28645a";
+			case 0x7818: return "706d3b";
+			case 0x7819: return "226373";
+			case 0x781a: return "274e3b";
+			case 0x781b: return "226424";
+			case 0x781c: return "706d3f";
+			case 0x781d: return "214e2f";
+			case 0x781f: return "22643b";
+			case 0x7820: return "226435";
+			case 0x7822: return "22642d";
+			case 0x7823: return "226427";
+			case 0x7825: return "214e35";
+			case 0x7826: return "226450";
+			case 0x7827: return "214e33";
+			case 0x7829: return "22642a";
+			case 0x782b: return "226428";
+			case 0x782c: return "226426";
+			case 0x782d: return "214e34";
+			case 0x782e: return "226433";
+			case 0x7830: return "214e2e";
+			case 0x7831: return "22643d";
+			case 0x7832: return "3f4956";
+			case 0x7833: return "226432";
+			case 0x7834: return "214e30";
+			case 0x7835: return "226431";
+			case 0x7837: return "214e32";
+			case 0x7838: return "214e31";
+			case 0x7839: return "4c6376";
+			case 0x783a: return "274e5d";
+			case 0x783b: return "286655";
+			case 0x783c: return "706d45";
+			case 0x783d: return "226438";
+			case 0x783e: return "274e5e";
+			case 0x783f: return "4b4e5b";
+			case 0x7840: return "274e59";
+			case 0x7843: return "214e38";
+			case 0x7845: return "22644b";
+			case 0x7847: return "226452";
+			case 0x7848: return "226448";
+			case 0x784c: return "226456";
+			case 0x784d: return "226444";
+			case 0x784e: return "3f377b";
+			case 0x784f: return "214e37";
+			case 0x7850: return "22644e";
+			case 0x7852: return "22644c";
+			case 0x7853: return "226449";
+			case 0x7854: return "22644a";
+			case 0x7855: return "274e45";
+			case 0x7856: return "286460";
+			case 0x7857: return "286622";
+			case 0x7858: return "22644f";
+			case 0x785c: return "226461";
+			case 0x785d: return "214e3a";
+			case 0x7864: return "226460";
+			case 0x7868: return "22645a";
+			case 0x786a: return "226466";
+			case 0x786b: return "214e36";
+			case 0x786c: return "214e39";
+			case 0x786d: return "22645b";
+			case 0x786e: return "274e49";
+			case 0x786f: return "214e3b";
+			case 0x7872: return "694823";
+			case 0x7874: return "69626d";
+			case 0x7876: return "226464";
+			case 0x7877: return "276252";
+			case 0x787c: return "214e42";
+			case 0x787f: return "22646c";
+			case 0x7881: return "3f4472";
+			case 0x7886: return "226469";
+			case 0x7887: return "22646d";
+			case 0x7889: return "214e40";
+			case 0x788c: return "454e43";
+			case 0x788d: return "274e5a";
+			case 0x788e: return "214e3e";
+			case 0x788f: return "226476";
+			case 0x7891: return "214e41";
+			case 0x7892: return "22652c";
+			case 0x7893: return "226529";
+			case 0x7894: return "226470";
+			case 0x7895: return "333c21";
+			case 0x7896: return "22652d";
+			case 0x7897: return "214e3d";
+			case 0x7898: return "214e3f";
+			case 0x7899: return "22647e";
+			case 0x789a: return "22646b";
+			case 0x789b: return "28656a";
+			case 0x789c: return "286577";
+			case 0x789e: return "226543";
+			case 0x789f: return "214e46";
+			case 0x78a1: return "226531";
+			case 0x78a3: return "226541";
+			case 0x78a4: return "22653b";
+			case 0x78a5: return "2d3f76";
+			case 0x78a7: return "214e44";
+			case 0x78a8: return "226544";
+			case 0x78a9: return "214e45";
+			case 0x78aa: return "2d4e33";
+			case 0x78ab: return "226548";
+			case 0x78ad: return "226540";
+			case 0x78af: return "2d4b5b";
+			case 0x78b0: return "214e3c";
+			case 0x78b1: return "2d6252";
+			case 0x78b2: return "22652f";
+			case 0x78b3: return "214e47";
+			case 0x78b4: return "22653e";
+			case 0x78b5: return "696273";
+			case 0x78b6: return "226532";
+			case 0x78b7: return "226539";
+			case 0x78b9: return "4c6565";
+			case 0x78ba: return "214e49";
+			case 0x78bb: return "22654e";
+			case 0x78bc: return "214e4c";
+			case 0x78be: return "214e4e";
+			case 0x78c1: return "214e4a";
+			case 0x78c5: return "214e4b";
+			case 0x78c6: return "4b4846";
+			case 0x78c8: return "22655e";
+			case 0x78c9: return "226556";
+			case 0x78ca: return "214e4f";
+			case 0x78cb: return "214e48";
+			case 0x78cc: return "226555";
+			case 0x78d0: return "214e50";
+			case 0x78d1: return "226558";
+			case 0x78d2: return "2d5f35";
+			case 0x78d4: return "226560";
+			case 0x78d5: return "214e4d";
+			case 0x78d8: return "22655a";
+			case 0x78d9: return "4c6564";
+			case 0x78da: return "214e53";
+			case 0x78db: return "22656e";
+			case 0x78df: return "226568";
+			case 0x78e0: return "226573";
+			case 0x78e1: return "22656f";
+			case 0x78e3: return "226577";
+			case 0x78e7: return "22656a";
+			case 0x78e8: return "214e51";
+			case 0x78ec: return "214e52";
+			case 0x78ee: return "226576";
+			case 0x78ef: return "214e58";
+			case 0x78f2: return "226579";
+			case 0x78f4: return "214e55";
+			case 0x78f7: return "214e54";
+			case 0x78f9: return "226621";
+			case 0x78fa: return "4b4e56";
+			case 0x78fb: return "226629";
+			case 0x78fd: return "226622";
+			case 0x78fe: return "226627";
+			case 0x7901: return "214e57";
+			case 0x7904: return "22662b";
+			case 0x7905: return "22657e";
+			case 0x7907: return "696325";
+			case 0x790c: return "226632";
+			case 0x790e: return "214e59";
+			case 0x7911: return "226635";
+			case 0x7912: return "22662e";
+			case 0x7913: return "226634";
+			case 0x7919: return "214e5a";
+			case 0x791e: return "226643";
+			case 0x7922: return "226646";
+			case 0x7924: return "22664c";
+			case 0x7926: return "214e5b";
+			case 0x7927: return "22664d";
+			case 0x7929: return "226650";
+			case 0x792a: return "214e5d";
+			case 0x792b: return "214e5e";
+			case 0x792c: return "214e5c";
+			case 0x792e: return "394956";
+			case 0x7931: return "226655";
+			case 0x7934: return "22665d";
+			case 0x7936: return "226660";
+			case 0x793a: return "214e5f";
+			case 0x793c: return "274e7c";
+			case 0x793d: return "226665";
+			case 0x793e: return "214e61";
+			case 0x793f: return "226668";
+			case 0x7940: return "214e60";
+			case 0x7941: return "214e62";
+			case 0x7942: return "226667";
+			case 0x7945: return "214e63";
+			case 0x7946: return "226675";
+			case 0x7947: return "214e66";
+			case 0x7948: return "214e65";
+			case 0x7949: return "214e64";
+			case 0x794a: return "22666a";
+			case 0x794d: return "22666b";
+			case 0x794f: return "22667b";
+			case 0x7950: return "214e69";
+			case 0x7951: return "226721";
+			case 0x7953: return "22667d";
+			case 0x7954: return "226723";
+			case 0x7955: return "214e67";
+			case 0x7956: return "214e6a";
+			case 0x7957: return "214e6f";
+			case 0x7958: return "226677";
+			case 0x795a: return "214e6e";
+			case 0x795b: return "226679";
+			case 0x795c: return "22667a";
+			case 0x795d: return "214e6c";
+			case 0x795e: return "214e6b";
+			case 0x795f: return "214e6d";
+			case 0x7960: return "214e68";
+			case 0x7962: return "4c6775";
+			case 0x7965: return "214e70";
+			case 0x7967: return "22672a";
+			case 0x7968: return "214e71";
+			case 0x796b: return "22672d";
+			case 0x796d: return "214e72";
+			case 0x796f: return "274e78";
+			case 0x7972: return "226730";
+			case 0x7977: return "274e7d";
+			case 0x7978: return "274e77";
+			case 0x797a: return "214e73";
+			case 0x797c: return "22673e";
+			case 0x797f: return "214e75";
+			case 0x7980: return "2d4f37";
+			case 0x7981: return "214e74";
+			case 0x7984: return "454e75";
+			case 0x7985: return "4b4e7b";
+			case 0x798a: return "22674b";
+			case 0x798b: return "22674f";
+			case 0x798d: return "214e77";
+			case 0x798e: return "214e78";
+			case 0x798f: return "214e76";
+			case 0x7993: return "226755";
+			case 0x7994: return "226754";
+			case 0x7995: return "22674e";
+			case 0x7996: return "226750";
+			case 0x7998: return "22674a";
+			case 0x7999: return "22674d";
+			case 0x799a: return "22675c";
+			case 0x799b: return "226760";
+			case 0x799d: return "226764";
+			case 0x79a1: return "22675f";
+			case 0x79a3: return "226761";
+			case 0x79a5: return "334e73";
+			case 0x79a6: return "214e79";
+			case 0x79a7: return "214e7a";
+			case 0x79a8: return "226771";
+			case 0x79a9: return "22676e";
+			case 0x79aa: return "214e7b";
+			case 0x79ab: return "226770";
+			case 0x79ae: return "214e7c";
+			case 0x79b0: return "226775";
+			case 0x79b1: return "214e7d";
+			case 0x79b3: return "22677a";
+			case 0x79b4: return "22677b";
+			case 0x79b8: return "226822";
+			case 0x79b9: return "214e7e";
+			case 0x79ba: return "226823";
+			case 0x79bb: return "275f4f";
+			case 0x79bc: return "226825";
+			case 0x79bd: return "214f21";
+			case 0x79be: return "214f23";
+			case 0x79bf: return "214f26";
+			case 0x79c0: return "214f24";
+			case 0x79c1: return "214f25";
+			case 0x79c6: return "226828";
+			case 0x79c8: return "22682a";
+			case 0x79c9: return "214f27";
+			case 0x79ca: return "2d3c65";
+			case 0x79cb: return "214f29";
+			case 0x79cc: return "225070";
+			case 0x79cd: return "274f3d";
+			case 0x79cf: return "2d5267";
+			case 0x79d0: return "2d5265";
+			case 0x79d1: return "214f28";
+			case 0x79d2: return "214f2a";
+			case 0x79d4: return "22682d";
+			case 0x79d5: return "22682e";
+			case 0x79d6: return "226832";
+			case 0x79d8: return "4b4e67";
+			case 0x79dd: return "226844";
+			case 0x79df: return "214f2e";
+			case 0x79e1: return "226842";
+			case 0x79e3: return "214f2d";
+			case 0x79e4: return "214f2b";
+			case 0x79e6: return "214f2c";
+			case 0x79e7: return "214f2f";
+			case 0x79e9: return "214f30";
+			case 0x79eb: return "4c683e";
+			case 0x79ec: return "22683d";
+			case 0x79ed: return "226845";
+			case 0x79ef: return "274f44";
+			case 0x79f0: return "4b4f3c";
+			case 0x79f8: return "226848";
+			case 0x79fb: return "214f31";
+			case 0x79fd: return "274f4a";
+			case 0x7a00: return "214f36";
+			case 0x7a02: return "22684f";
+			case 0x7a03: return "22685c";
+			case 0x7a05: return "214f32";
+			case 0x7a06: return "4c695c";
+			case 0x7a08: return "214f34";
+			case 0x7a09: return "226854";
+			case 0x7a0a: return "226850";
+			case 0x7a0b: return "214f35";
+			case 0x7a0c: return "226861";
+			case 0x7a0d: return "214f33";
+			case 0x7a11: return "22686b";
+			case 0x7a14: return "214f3b";
+			case 0x7a17: return "226876";
+			case 0x7a18: return "22686c";
+			case 0x7a19: return "2e686f";
+			case 0x7a1a: return "214f3a";
+			case 0x7a1c: return "2e3d73";
+			case 0x7a1e: return "226871";
+			case 0x7a1f: return "214f37";
+			case 0x7a20: return "214f39";
+			case 0x7a23: return "274f46";
+			case 0x7a25: return "223924";
+			case 0x7a2c: return "226922";
+			case 0x7a2d: return "22687e";
+			case 0x7a2e: return "214f3d";
+			case 0x7a31: return "214f3c";
+			case 0x7a32: return "4b4f43";
+			case 0x7a33: return "274f4c";
+			case 0x7a37: return "214f42";
+			case 0x7a39: return "4c725d";
+			case 0x7a3b: return "214f43";
+			case 0x7a3c: return "214f3f";
+			case 0x7a3d: return "214f41";
+			case 0x7a3e: return "2d4f3e";
+			case 0x7a3f: return "214f3e";
+			case 0x7a40: return "214f40";
+			case 0x7a42: return "2d4f48";
+			case 0x7a43: return "69634e";
+			case 0x7a44: return "22693f";
+			case 0x7a45: return "335065";
+			case 0x7a46: return "214f47";
+			case 0x7a47: return "22693e";
+			case 0x7a48: return "226939";
+			case 0x7a49: return "334f3a";
+			case 0x7a4b: return "22693d";
+			case 0x7a4c: return "214f46";
+			case 0x7a4d: return "214f44";
+			case 0x7a4e: return "214f45";
+			case 0x7a4f: return "4b4f4c";
+			case 0x7a50: return "4b4f29";
+			case 0x7a51: return "274f49";
+			case 0x7a57: return "214f48";
+			case 0x7a5c: return "226940";
+			case 0x7a5f: return "22694d";
+			case 0x7a60: return "22694f";
+			case 0x7a61: return "214f49";
+			case 0x7a62: return "214f4a";
+			case 0x7a63: return "4c695f";
+			case 0x7a69: return "214f4c";
+			case 0x7a6b: return "214f4b";
+			case 0x7a6e: return "226957";
+			case 0x7a70: return "22695f";
+			case 0x7a74: return "214f4d";
+			case 0x7a75: return "226966";
+			case 0x7a76: return "214f4e";
+			case 0x7a77: return "274f5f";
+			case 0x7a78: return "226969";
+			case 0x7a79: return "214f4f";
+			case 0x7a7a: return "214f50";
+			case 0x7a7d: return "395e6f";
+			case 0x7a7f: return "214f51";
+			case 0x7a80: return "22696b";
+			case 0x7a81: return "214f52";
+			case 0x7a83: return "274f64";
+			case 0x7a84: return "214f53";
+			case 0x7a85: return "226970";
+			case 0x7a86: return "226975";
+			case 0x7a88: return "214f54";
+			case 0x7a8a: return "226978";
+			case 0x7a8d: return "274f61";
+			case 0x7a91: return "334f5e";
+			case 0x7a92: return "214f55";
+			case 0x7a93: return "334f59";
+			case 0x7a94: return "22697a";
+			case 0x7a95: return "214f56";
+			case 0x7a96: return "214f58";
+			case 0x7a97: return "214f59";
+			case 0x7a98: return "214f57";
+			case 0x7a9c: return "274f62";
+			case 0x7a9d: return "274f5d";
+			case 0x7a9e: return "226a2b";
+			case 0x7a9f: return "214f5a";
+			case 0x7aa0: return "214f5b";
+			case 0x7aa3: return "226a28";
+			case 0x7aa5: return "274f60";
+			case 0x7aa6: return "274f63";
+			case 0x7aa7: return "226a2c";
+			case 0x7aa8: return "226a2e";
+			case 0x7aa9: return "214f5d";
+			case 0x7aaa: return "214f5c";
+			case 0x7aac: return "226a31";
+			case 0x7aad: return "286a3c";
+			case 0x7aae: return "214f5f";
+			case 0x7aaf: return "214f5e";
+			case 0x7ab0: return "2d4f5e";
+			case 0x7ab3: return "226a36";
+			case 0x7ab5: return "226a3e";
+			case 0x7ab6: return "226a3c";
+			case 0x7ab8: return "226a3d";
+			case 0x7aba: return "214f60";
+			case 0x7abb: return "226a3f";
+			case 0x7abd: return "226a3a";
+			case 0x7abf: return "226a43";
+			case 0x7ac3: return "4b4947";
+			case 0x7ac4: return "214f62";
+			case 0x7ac5: return "214f61";
+			case 0x7ac7: return "214f63";
+			case 0x7ac8: return "2d4947";
+			case 0x7aca: return "214f64";
+			case 0x7acb: return "214f65";
+			case 0x7acd: return "226a49";
+			case 0x7acf: return "226a4b";
+			case 0x7ad1: return "226a4f";
+			case 0x7ad2: return "2d3932";
+			case 0x7ad3: return "226a51";
+			case 0x7ad4: return "226a52";
+			case 0x7ad5: return "226a54";
+			case 0x7ad6: return "275957";
+			case 0x7ad9: return "214f66";
+			case 0x7ada: return "226a55";
+			case 0x7adc: return "33632b";
+			case 0x7add: return "2d3032";
+			case 0x7ade: return "274f6b";
+			case 0x7adf: return "216033";
+			case 0x7ae0: return "216032";
+			case 0x7ae1: return "226a5a";
+			case 0x7ae2: return "2d3164";
+			case 0x7ae3: return "214f68";
+			case 0x7ae5: return "214f67";
+			case 0x7ae6: return "226a5e";
+			case 0x7aea: return "2d5957";
+			case 0x7aeb: return "226a66";
+			case 0x7aed: return "214f69";
+			case 0x7aef: return "214f6a";
+			case 0x7af0: return "226a6b";
+			case 0x7af5: return "226a76";
+			case 0x7af6: return "214f6b";
+			case 0x7af8: return "2d4f6b";
+			case 0x7af9: return "214f6c";
+			case 0x7afa: return "214f6d";
+			case 0x7afd: return "214f6f";
+			case 0x7afe: return "226a7c";
+			case 0x7aff: return "214f6e";
+			case 0x7b02: return "696373";
+			case 0x7b03: return "275039";
+			case 0x7b04: return "2e6b54";
+			case 0x7b06: return "214f70";
+			case 0x7b08: return "226b2e";
+			case 0x7b0a: return "226b33";
+			case 0x7b0b: return "275021";
+			case 0x7b0f: return "226b2d";
+			case 0x7b11: return "214f71";
+			case 0x7b14: return "274f79";
+			case 0x7b15: return "286b7c";
+			case 0x7b18: return "226b44";
+			case 0x7b19: return "214f77";
+			case 0x7b1b: return "214f75";
+			case 0x7b1e: return "214f76";
+			case 0x7b1f: return "226b4d";
+			case 0x7b20: return "214f72";
+			case 0x7b24: return "226b3f";
+			case 0x7b25: return "226b36";
+			case 0x7b26: return "214f78";
+			case 0x7b28: return "214f74";
+			case 0x7b2a: return "226b42";
+			case 0x7b2b: return "226b4a";
+			case 0x7b2c: return "214f73";
+			case 0x7b2e: return "2e6c27";
+			case 0x7b31: return "226b47";
+			case 0x7b33: return "226b40";
+			case 0x7b35: return "226b35";
+			case 0x7b36: return "4b4e21";
+			case 0x7b37: return "226b4b";
+			case 0x7b38: return "226b39";
+			case 0x7b39: return "226b27";
+			case 0x7b3a: return "27502b";
+			case 0x7b3b: return "226b3b";
+			case 0x7b3c: return "275050";
+			case 0x7b3e: return "286e68";
+			case 0x7b45: return "226b61";
+			case 0x7b46: return "214f79";
+			case 0x7b47: return "226b55";
+			case 0x7b48: return "226b60";
+			case 0x7b49: return "214f7a";
+			case 0x7b4a: return "226b52";
+			case 0x7b4b: return "214f7e";
+			case 0x7b4c: return "4c6b62";
+			case 0x7b4d: return "215021";
+			case 0x7b4e: return "226b63";
+			case 0x7b4f: return "215022";
+			case 0x7b50: return "214f7b";
+			case 0x7b51: return "27503a";
+			case 0x7b52: return "214f7d";
+			case 0x7b54: return "215023";
+			case 0x7b56: return "214f7c";
+			case 0x7b58: return "226b59";
+			case 0x7b59: return "2e6c3e";
+			case 0x7b5a: return "286d54";
+			case 0x7b5b: return "27503c";
+			case 0x7b5d: return "2d502d";
+			case 0x7b5e: return "2d4f7c";
+			case 0x7b60: return "215024";
+			case 0x7b62: return "226b74";
+			case 0x7b64: return "226b6c";
+			case 0x7b65: return "226b7e";
+			case 0x7b66: return "226b68";
+			case 0x7b67: return "226b7c";
+			case 0x7b69: return "226b6e";
+			case 0x7b6c: return "226b5b";
+			case 0x7b6d: return "226b70";
+			case 0x7b6e: return "226b75";
+			case 0x7b6f: return "226b7b";
+			case 0x7b70: return "226c27";
+			case 0x7b71: return "226c26";
+			case 0x7b72: return "226b79";
+			case 0x7b73: return "226c29";
+			case 0x7b74: return "226b76";
+			case 0x7b75: return "215026";
+			case 0x7b77: return "215025";
+			case 0x7b78: return "226b7a";
+			case 0x7b79: return "27504d";
+			case 0x7b7a: return "4b4f7b";
+			case 0x7b7b: return "707360";
+			case 0x7b7e: return "275052";
+			case 0x7b80: return "275041";
+			case 0x7b85: return "226c41";
+			case 0x7b86: return "226c46";
+			case 0x7b87: return "2d3224";
+			case 0x7b8b: return "21502b";
+			case 0x7b8d: return "226c3a";
+			case 0x7b8e: return "226c43";
+			case 0x7b8f: return "21502d";
+			case 0x7b90: return "226c35";
+			case 0x7b91: return "226c34";
+			case 0x7b92: return "226c33";
+			case 0x7b94: return "215028";
+			case 0x7b95: return "215029";
+			case 0x7b97: return "21502c";
+			case 0x7b98: return "226c44";
+			case 0x7b99: return "226c48";
+			case 0x7b9a: return "216b5f";
+			case 0x7b9c: return "226c2d";
+			case 0x7b9d: return "21502a";
+			case 0x7b9f: return "4c6c46";
+			case 0x7ba0: return "2e3e3f";
+			case 0x7ba1: return "215027";
+			case 0x7ba2: return "70736e";
+			case 0x7ba3: return "226c38";
+			case 0x7ba6: return "286d47";
+			case 0x7ba7: return "286c58";
+			case 0x7ba8: return "286e56";
+			case 0x7ba9: return "275054";
+			case 0x7baa: return "275045";
+			case 0x7bab: return "275042";
+			case 0x7bac: return "275038";
+			case 0x7bad: return "21502f";
+			case 0x7bb1: return "215031";
+			case 0x7bb2: return "226c52";
+			case 0x7bb4: return "215032";
+			case 0x7bb8: return "226c59";
+			case 0x7bbe: return "226c60";
+			case 0x7bc0: return "215033";
+			case 0x7bc1: return "215035";
+			case 0x7bc4: return "215030";
+			case 0x7bc6: return "215034";
+			case 0x7bc7: return "21502e";
+			case 0x7bc9: return "21503a";
+			case 0x7bcb: return "226c58";
+			case 0x7bcc: return "226c6f";
+			case 0x7bcf: return "226c5a";
+			case 0x7bd0: return "226c5c";
+			case 0x7bd1: return "275046";
+			case 0x7bd3: return "27503e";
+			case 0x7bd4: return "226d2f";
+			case 0x7bd8: return "226d35";
+			case 0x7bd9: return "215037";
+			case 0x7bda: return "343e38";
+			case 0x7bdb: return "215038";
+			case 0x7bdd: return "226d22";
+			case 0x7bdf: return "226d32";
+			case 0x7be0: return "2e6c26";
+			case 0x7be1: return "21503b";
+			case 0x7be4: return "215039";
+			case 0x7be5: return "226d24";
+			case 0x7be6: return "2e6c46";
+			case 0x7be8: return "226d29";
+			case 0x7be9: return "21503c";
+			case 0x7bea: return "3a6a7c";
+			case 0x7bed: return "395050";
+			case 0x7bee: return "27504c";
+			case 0x7bf0: return "226d3e";
+			case 0x7bf1: return "275053";
+			case 0x7bf2: return "2d3d4e";
+			case 0x7bf3: return "226d54";
+			case 0x7bf4: return "226d4f";
+			case 0x7bf6: return "69644e";
+			case 0x7bf7: return "215040";
+			case 0x7bf9: return "226d2e";
+			case 0x7bfc: return "226d5c";
+			case 0x7bfe: return "21503f";
+			case 0x7c00: return "226d47";
+			case 0x7c03: return "226d5b";
+			case 0x7c06: return "226d3b";
+			case 0x7c07: return "21503d";
+			case 0x7c09: return "226d5a";
+			case 0x7c0b: return "226d46";
+			case 0x7c0c: return "226d4b";
+			case 0x7c0d: return "21503e";
+			case 0x7c0f: return "226d41";
+			case 0x7c11: return "215036";
+			case 0x7c12: return "4b503b";
+			case 0x7c13: return "696449";
+			case 0x7c14: return "4b5036";
+			case 0x7c16: return "286e69";
+			case 0x7c17: return "69644c";
+			case 0x7c1c: return "226d5f";
+			case 0x7c1e: return "215045";
+			case 0x7c1f: return "226d66";
+			case 0x7c20: return "226d63";
+			case 0x7c21: return "215041";
+			case 0x7c23: return "215046";
+			case 0x7c26: return "226d61";
+			case 0x7c27: return "4b5044";
+			case 0x7c28: return "226d62";
+			case 0x7c2a: return "215043";
+			case 0x7c2b: return "215042";
+			case 0x7c2f: return "226d68";
+			case 0x7c30: return "226d75";
+			case 0x7c31: return "4c6e42";
+			case 0x7c34: return "226e35";
+			case 0x7c35: return "226e27";
+			case 0x7c37: return "21504a";
+			case 0x7c38: return "215049";
+			case 0x7c39: return "226e30";
+			case 0x7c3b: return "226e34";
+			case 0x7c3d: return "21504b";
+			case 0x7c3e: return "215048";
+			case 0x7c3f: return "215047";
+			case 0x7c40: return "226e2a";
+			case 0x7c41: return "275051";
+			case 0x7c42: return "226e3b";
+			case 0x7c43: return "21504c";
+			case 0x7c4c: return "21504d";
+			case 0x7c4d: return "21504e";
+			case 0x7c4e: return "226e46";
+			case 0x7c50: return "21504f";
+			case 0x7c54: return "4b5632";
+			case 0x7c56: return "4b5052";
+			case 0x7c58: return "2d504f";
+			case 0x7c59: return "226e59";
+			case 0x7c5a: return "226e57";
+			case 0x7c5b: return "226e58";
+			case 0x7c5c: return "226e56";
+			case 0x7c5d: return "226e54";
+			case 0x7c5e: return "226e5b";
+			case 0x7c5f: return "215051";
+			case 0x7c60: return "215050";
+			case 0x7c63: return "226e5e";
+			case 0x7c64: return "215052";
+			case 0x7c65: return "226e62";
+			case 0x7c67: return "226e5c";
+			case 0x7c68: return "226e61";
+			case 0x7c6c: return "215053";
+			case 0x7c6e: return "215054";
+			case 0x7c6f: return "226e6f";
+			case 0x7c72: return "215055";
+			case 0x7c73: return "215056";
+			case 0x7c74: return "287035";
+			case 0x7c75: return "226e75";
+			case 0x7c78: return "226e7a";
+			case 0x7c7b: return "276053";
+			case 0x7c7c: return "34682a";
+			case 0x7c7d: return "226e7d";
+			case 0x7c7e: return "226e79";
+			case 0x7c81: return "226f21";
+			case 0x7c82: return "693729";
+			case 0x7c83: return "226f2a";
+			case 0x7c89: return "215057";
+			case 0x7c8b: return "275060";
+			case 0x7c8d: return "226f2c";
+			case 0x7c8e: return "226f28";
+			case 0x7c90: return "696464";
+			case 0x7c91: return "226f29";
+			case 0x7c92: return "215058";
+			case 0x7c95: return "226f40";
+			case 0x7c97: return "215059";
+			case 0x7c98: return "226f3b";
+			case 0x7c99: return "226f3a";
+			case 0x7c9b: return "2d5321";
+			case 0x7c9c: return "226f3e";
+			case 0x7c9d: return "287030";
+			case 0x7c9e: return "226f45";
+			case 0x7c9f: return "21505a";
+			case 0x7ca1: return "226f49";
+			case 0x7ca2: return "226f43";
+			case 0x7ca4: return "21505c";
+			case 0x7ca5: return "21505b";
+			case 0x7ca6: return "226f4c";
+			case 0x7ca7: return "226f42";
+			case 0x7ca8: return "226f48";
+			case 0x7ca9: return "226f46";
+			case 0x7caa: return "275068";
+			case 0x7cab: return "4b506c";
+			case 0x7cac: return "226f4a";
+			case 0x7cad: return "696466";
+			case 0x7cae: return "27506b";
+			case 0x7cb1: return "21505d";
+			case 0x7cb2: return "226f54";
+			case 0x7cb3: return "21505e";
+			case 0x7cb9: return "215060";
+			case 0x7cba: return "226f5e";
+			case 0x7cbb: return "226f58";
+			case 0x7cbc: return "226f5f";
+			case 0x7cbd: return "21505f";
+			case 0x7cbe: return "4b5061";
+			case 0x7cbf: return "226f59";
+			case 0x7cc0: return "696471";
+			case 0x7cc1: return "287022";
+			case 0x7cc2: return "226f64";
+			case 0x7cc5: return "226f69";
+			case 0x7cc7: return "2f5158";
+			case 0x7cc8: return "226f68";
+			case 0x7cc9: return "226f6f";
+			case 0x7cca: return "215062";
+			case 0x7ccc: return "226f6d";
+			case 0x7ccd: return "4c6f43";
+			case 0x7cce: return "226f66";
+			case 0x7cd2: return "226f71";
+			case 0x7cd5: return "215064";
+			case 0x7cd6: return "215063";
+			case 0x7cd7: return "226f75";
+			case 0x7cd8: return "696474";
+			case 0x7cd9: return "21506a";
+			case 0x7cdc: return "215066";
+			case 0x7cdd: return "227022";
+			case 0x7cde: return "215068";
+			case 0x7cdf: return "215067";
+			case 0x7ce0: return "215065";
+			case 0x7ce1: return "226f77";
+			case 0x7ce2: return "215069";
+			case 0x7ce7: return "21506b";
+			case 0x7ce8: return "4c6f7b";
+			case 0x7ced: return "227028";
+			case 0x7cef: return "21506c";
+			case 0x7cf0: return "22702e";
+			case 0x7cf2: return "227030";
+			case 0x7cf4: return "227035";
+			case 0x7cf6: return "227039";
+			case 0x7cf8: return "4b513b";
+			case 0x7cfa: return "2d506f";
+			case 0x7cfb: return "275175";
+			case 0x7cfe: return "21506f";
+			case 0x7d00: return "215070";
+			case 0x7d02: return "215071";
+			case 0x7d03: return "227044";
+			case 0x7d04: return "215074";
+			case 0x7d05: return "215072";
+			case 0x7d06: return "227042";
+			case 0x7d07: return "215075";
+			case 0x7d08: return "227045";
+			case 0x7d09: return "215073";
+			case 0x7d0a: return "215078";
+			case 0x7d0b: return "215077";
+			case 0x7d0d: return "455122";
+			case 0x7d0f: return "227049";
+			case 0x7d10: return "21507e";
+			case 0x7d13: return "22704a";
+			case 0x7d14: return "21507d";
+			case 0x7d15: return "21507c";
+			case 0x7d17: return "215121";
+			case 0x7d18: return "227050";
+			case 0x7d19: return "215124";
+			case 0x7d1a: return "215123";
+			case 0x7d1b: return "215125";
+			case 0x7d1c: return "21507a";
+			case 0x7d1d: return "227052";
+			case 0x7d1e: return "227051";
+			case 0x7d20: return "215079";
+			case 0x7d21: return "215076";
+			case 0x7d22: return "21507b";
+			case 0x7d25: return "2d5129";
+			case 0x7d27: return "275144";
+			case 0x7d29: return "22706c";
+			case 0x7d2b: return "215135";
+			case 0x7d2c: return "2d514d";
+			case 0x7d2e: return "215129";
+			case 0x7d2f: return "21512e";
+			case 0x7d30: return "21512c";
+			case 0x7d31: return "227065";
+			case 0x7d32: return "227062";
+			case 0x7d33: return "21512d";
+			case 0x7d35: return "227059";
+			case 0x7d39: return "21512a";
+			case 0x7d3a: return "227061";
+			case 0x7d3c: return "215128";
+			case 0x7d3d: return "22705a";
+			case 0x7d3e: return "227071";
+			case 0x7d3f: return "22706a";
+			case 0x7d40: return "21512f";
+			case 0x7d41: return "22706f";
+			case 0x7d42: return "215130";
+			case 0x7d43: return "333d42";
+			case 0x7d44: return "21512b";
+			case 0x7d45: return "227068";
+			case 0x7d46: return "215126";
+			case 0x7d4b: return "4c735d";
+			case 0x7d4c: return "33513c";
+			case 0x7d4e: return "227134";
+			case 0x7d4f: return "2e7062";
+			case 0x7d50: return "215134";
+			case 0x7d53: return "22707c";
+			case 0x7d56: return "2e735d";
+			case 0x7d5a: return "22707e";
+			case 0x7d5b: return "22715a";
+			case 0x7d5c: return "22707a";
+			case 0x7d5d: return "2d5773";
+			case 0x7d5e: return "215132";
+			case 0x7d61: return "215138";
+			case 0x7d62: return "215136";
+			case 0x7d63: return "2e717c";
+			case 0x7d66: return "215139";
+			case 0x7d67: return "227129";
+			case 0x7d68: return "215133";
+			case 0x7d6a: return "22712b";
+			case 0x7d6b: return "22712c";
+			case 0x7d6e: return "21513a";
+			case 0x7d70: return "227122";
+			case 0x7d71: return "215131";
+			case 0x7d72: return "21513b";
+			case 0x7d73: return "227130";
+			case 0x7d75: return "395179";
+			case 0x7d76: return "215137";
+			case 0x7d77: return "287275";
+			case 0x7d79: return "21513e";
+			case 0x7d7a: return "227158";
+			case 0x7d7b: return "227154";
+			case 0x7d7d: return "22714f";
+			case 0x7d7f: return "227142";
+			case 0x7d81: return "215140";
+			case 0x7d83: return "22714d";
+			case 0x7d85: return "22713b";
+			case 0x7d86: return "227144";
+			case 0x7d88: return "227139";
+			case 0x7d89: return "335172";
+			case 0x7d8b: return "227137";
+			case 0x7d8c: return "22715b";
+			case 0x7d8d: return "227148";
+			case 0x7d8e: return "22713d";
+			case 0x7d8f: return "21513f";
+			case 0x7d91: return "21513d";
+			case 0x7d93: return "21513c";
+			case 0x7d96: return "227159";
+			case 0x7d99: return "2d517d";
+			case 0x7d9a: return "4b5221";
+			case 0x7d9b: return "22714b";
+			case 0x7d9c: return "215141";
+			case 0x7d9e: return "21515d";
+			case 0x7d9f: return "227222";
+			case 0x7da0: return "21514c";
+			case 0x7da2: return "21514d";
+			case 0x7da3: return "227161";
+			case 0x7da6: return "22716f";
+			case 0x7daa: return "227169";
+			case 0x7dab: return "33515c";
+			case 0x7dac: return "227178";
+			case 0x7dad: return "21514e";
+			case 0x7dae: return "227162";
+			case 0x7daf: return "395773";
+			case 0x7db0: return "215143";
+			case 0x7db1: return "215149";
+			case 0x7db2: return "215148";
+			case 0x7db3: return "2d516a";
+			case 0x7db4: return "215146";
+			case 0x7db5: return "21514b";
+			case 0x7db8: return "215150";
+			case 0x7db9: return "22717d";
+			case 0x7dba: return "215147";
+			case 0x7dbb: return "215142";
+			case 0x7dbd: return "21514a";
+			case 0x7dbe: return "215145";
+			case 0x7dbf: return "21514f";
+			case 0x7dc4: return "227174";
+			case 0x7dc5: return "22716e";
+			case 0x7dc7: return "215151";
+			case 0x7dc9: return "22716b";
+			case 0x7dca: return "215144";
+			case 0x7dcb: return "227167";
+			case 0x7dce: return "22716a";
+			case 0x7dcf: return "4b516d";
+			case 0x7dd0: return "33516b";
+			case 0x7dd1: return "33514c";
+			case 0x7dd5: return "69656e";
+			case 0x7dd6: return "215155";
+			case 0x7dd7: return "227231";
+			case 0x7dd8: return "215156";
+			case 0x7dd9: return "22722a";
+			case 0x7dda: return "21515c";
+			case 0x7ddc: return "227246";
+			case 0x7ddd: return "215158";
+			case 0x7dde: return "21515e";
+			case 0x7de0: return "215152";
+			case 0x7de1: return "227229";
+			case 0x7de3: return "21515a";
+			case 0x7de4: return "22722b";
+			case 0x7de5: return "227249";
+			case 0x7de6: return "22723e";
+			case 0x7de8: return "21515b";
+			case 0x7de9: return "215159";
+			case 0x7dec: return "215157";
+			case 0x7def: return "215153";
+			case 0x7df1: return "227247";
+			case 0x7df2: return "22723c";
+			case 0x7df4: return "4b5154";
+			case 0x7df5: return "22724b";
+			case 0x7df6: return "227248";
+			case 0x7df9: return "227236";
+			case 0x7dfb: return "215163";
+			case 0x7dfc: return "4c7265";
+			case 0x7e01: return "4b515a";
+			case 0x7e04: return "4b5176";
+			case 0x7e05: return "69654f";
+			case 0x7e06: return "22723a";
+			case 0x7e08: return "215161";
+			case 0x7e09: return "22725e";
+			case 0x7e0a: return "215160";
+			case 0x7e0b: return "227253";
+			case 0x7e0f: return "22726a";
+			case 0x7e10: return "227269";
+			case 0x7e11: return "21515f";
+			case 0x7e12: return "227255";
+			case 0x7e15: return "227265";
+			case 0x7e17: return "227250";
+			case 0x7e1a: return "34715a";
+			case 0x7e1b: return "215162";
+			case 0x7e1d: return "22725d";
+			case 0x7e1e: return "227251";
+			case 0x7e1f: return "22725f";
+			case 0x7e20: return "22725b";
+			case 0x7e21: return "227252";
+			case 0x7e22: return "227256";
+			case 0x7e23: return "215164";
+			case 0x7e26: return "4b516e";
+			case 0x7e27: return "2e715a";
+			case 0x7e2b: return "21516c";
+			case 0x7e2d: return "227272";
+			case 0x7e2e: return "215165";
+			case 0x7e2f: return "227273";
+			case 0x7e31: return "21516e";
+			case 0x7e32: return "215169";
+			case 0x7e34: return "227271";
+			case 0x7e35: return "227321";
+			case 0x7e36: return "227275";
+			case 0x7e37: return "215168";
+			case 0x7e39: return "227279";
+			case 0x7e3a: return "227277";
+			case 0x7e3b: return "22726d";
+			case 0x7e3d: return "21516d";
+			case 0x7e3e: return "215166";
+			case 0x7e3f: return "227326";
+			case 0x7e41: return "21516b";
+			case 0x7e43: return "21516a";
+			case 0x7e44: return "22727d";
+			case 0x7e45: return "21516f";
+			case 0x7e46: return "215167";
+			case 0x7e47: return "227328";
+			case 0x7e48: return "2f2f5d";
+			case 0x7e4a: return "4b5223";
+			case 0x7e50: return "227333";
+			case 0x7e51: return "22732f";
+			case 0x7e52: return "22732d";
+			case 0x7e54: return "215171";
+			case 0x7e55: return "215170";
+			case 0x7e56: return "227337";
+			case 0x7e59: return "335259";
+			case 0x7e5a: return "215174";
+			case 0x7e5d: return "4d2f73";
+			case 0x7e5e: return "215173";
+			case 0x7e61: return "215172";
+			case 0x7e62: return "2d5179";
+			case 0x7e67: return "227334";
+			case 0x7e68: return "227348";
+			case 0x7e69: return "215176";
+			case 0x7e6a: return "215179";
+			case 0x7e6b: return "215175";
+			case 0x7e6d: return "215177";
+			case 0x7e6e: return "227349";
+			case 0x7e6f: return "227351";
+			case 0x7e70: return "22734e";
+			case 0x7e73: return "227352";
+			case 0x7e79: return "215178";
+			case 0x7e7b: return "227358";
+			case 0x7e7c: return "21517d";
+			case 0x7e7d: return "21517b";
+			case 0x7e7e: return "227359";
+			case 0x7e7f: return "4b577e";
+			case 0x7e81: return "22735b";
+			case 0x7e82: return "21517c";
+			case 0x7e83: return "69656d";
+			case 0x7e86: return "227364";
+			case 0x7e87: return "22735e";
+			case 0x7e88: return "227360";
+			case 0x7e89: return "2e7374";
+			case 0x7e8a: return "52735d";
+			case 0x7e8c: return "215221";
+			case 0x7e8d: return "33512e";
+			case 0x7e8e: return "335223";
+			case 0x7e8f: return "21517e";
+			case 0x7e90: return "696576";
+			case 0x7e91: return "22736a";
+			case 0x7e92: return "4b517e";
+			case 0x7e93: return "215222";
+			case 0x7e94: return "22736d";
+			case 0x7e95: return "22736b";
+			case 0x7e96: return "215223";
+			case 0x7e98: return "227374";
+			case 0x7e99: return "227373";
+			case 0x7e9a: return "227371";
+			case 0x7e9b: return "227370";
+			case 0x7e9c: return "215224";
+			case 0x7e9f: return "51513b";
+			case 0x7ea0: return "27506f";
+			case 0x7ea1: return "287042";
+			case 0x7ea2: return "275072";
+			case 0x7ea3: return "275071";
+			case 0x7ea4: return "287271";
+			case 0x7ea5: return "275075";
+			case 0x7ea6: return "275074";
+			case 0x7ea7: return "275123";
+			case 0x7ea8: return "287045";
+			case 0x7ea9: return "28735d";
+			case 0x7eaa: return "275070";
+			case 0x7eab: return "275073";
+			case 0x7eac: return "275153";
+			case 0x7ead: return "27507a";
+			case 0x7eaf: return "27507d";
+			case 0x7eb0: return "27507c";
+			case 0x7eb1: return "275121";
+			case 0x7eb2: return "275149";
+			case 0x7eb3: return "275122";
+			case 0x7eb5: return "27516e";
+			case 0x7eb6: return "275150";
+			case 0x7eb7: return "275125";
+			case 0x7eb8: return "275124";
+			case 0x7eb9: return "275077";
+			case 0x7eba: return "275076";
+			case 0x7ebd: return "27507e";
+			case 0x7ebe: return "28704a";
+			case 0x7ebf: return "27515c";
+			case 0x7ec0: return "287061";
+			case 0x7ec1: return "287062";
+			case 0x7ec2: return "287065";
+			case 0x7ec3: return "275154";
+			case 0x7ec4: return "27512b";
+			case 0x7ec5: return "27512d";
+			case 0x7ec6: return "27512c";
+			case 0x7ec7: return "275171";
+			case 0x7ec8: return "275130";
+			case 0x7ec9: return "287269";
+			case 0x7eca: return "275126";
+			case 0x7ecb: return "275128";
+			case 0x7ecc: return "27512f";
+			case 0x7ecd: return "27512a";
+			case 0x7ece: return "275178";
+			case 0x7ecf: return "27513c";
+			case 0x7ed0: return "28706a";
+			case 0x7ed1: return "275140";
+			case 0x7ed2: return "275133";
+			case 0x7ed3: return "275134";
+			case 0x7ed4: return "4b5773";
+			case 0x7ed5: return "275173";
+			case 0x7ed7: return "287134";
+			case 0x7ed8: return "275179";
+			case 0x7ed9: return "275139";
+			case 0x7eda: return "275136";
+			case 0x7edb: return "287130";
+			case 0x7edc: return "275138";
+			case 0x7edd: return "275137";
+			case 0x7ede: return "275132";
+			case 0x7edf: return "275131";
+			case 0x7ee0: return "287144";
+			case 0x7ee1: return "28714d";
+			case 0x7ee2: return "27513e";
+			case 0x7ee3: return "275172";
+			case 0x7ee5: return "27513f";
+			case 0x7ee6: return "4c715a";
+			case 0x7ee7: return "27517d";
+			case 0x7ee8: return "287139";
+			case 0x7ee9: return "275166";
+			case 0x7eea: return "275155";
+			case 0x7eeb: return "275145";
+			case 0x7eed: return "275221";
+			case 0x7eee: return "335147";
+			case 0x7eef: return "287167";
+			case 0x7ef0: return "27514a";
+			case 0x7ef1: return "4d4d61";
+			case 0x7ef2: return "287174";
+			case 0x7ef3: return "275176";
+			case 0x7ef4: return "27514e";
+			case 0x7ef5: return "27514f";
+			case 0x7ef6: return "287178";
+			case 0x7ef7: return "4b516a";
+			case 0x7ef8: return "27514d";
+			case 0x7efa: return "28717d";
+			case 0x7efb: return "287161";
+			case 0x7efc: return "275141";
+			case 0x7efd: return "275142";
+			case 0x7efe: return "275143";
+			case 0x7eff: return "27514c";
+			case 0x7f00: return "275146";
+			case 0x7f01: return "275151";
+			case 0x7f02: return "28722a";
+			case 0x7f03: return "287231";
+			case 0x7f04: return "275156";
+			case 0x7f05: return "275157";
+			case 0x7f06: return "275224";
+			case 0x7f07: return "287236";
+			case 0x7f08: return "28723c";
+			case 0x7f09: return "275158";
+			case 0x7f0b: return "4b5179";
+			case 0x7f0c: return "28723e";
+			case 0x7f0d: return "27515d";
+			case 0x7f0e: return "27515e";
+			case 0x7f0f: return "287248";
+			case 0x7f11: return "287247";
+			case 0x7f12: return "287253";
+			case 0x7f13: return "275159";
+			case 0x7f14: return "275152";
+			case 0x7f15: return "275168";
+			case 0x7f16: return "27515b";
+			case 0x7f17: return "287229";
+			case 0x7f18: return "27515a";
+			case 0x7f19: return "28725e";
+			case 0x7f1a: return "275162";
+			case 0x7f1b: return "28725f";
+			case 0x7f1c: return "28725d";
+			case 0x7f1d: return "27516c";
+			case 0x7f1f: return "287251";
+			case 0x7f20: return "27517e";
+			case 0x7f21: return "287272";
+			case 0x7f22: return "275160";
+			case 0x7f23: return "27515f";
+			case 0x7f24: return "27517b";
+			case 0x7f25: return "287279";
+			case 0x7f26: return "287321";
+			case 0x7f27: return "275169";
+			case 0x7f28: return "275222";
+			case 0x7f29: return "275165";
+			case 0x7f2a: return "275167";
+			case 0x7f2b: return "27516f";
+			case 0x7f2c: return "287360";
+			case 0x7f2d: return "275174";
+			case 0x7f2e: return "275170";
+			case 0x7f2f: return "28732d";
+			case 0x7f30: return "287349";
+			case 0x7f31: return "287359";
+			case 0x7f32: return "28734e";
+			case 0x7f33: return "287351";
+			case 0x7f34: return "287352";
+			case 0x7f35: return "287374";
+			case 0x7f36: return "4b522b";
+			case 0x7f38: return "215226";
+			case 0x7f3a: return "215227";
+			case 0x7f3d: return "215228";
+			case 0x7f3e: return "4b4b71";
+			case 0x7f42: return "28742e";
+			case 0x7f43: return "227425";
+			case 0x7f44: return "215229";
+			case 0x7f45: return "227428";
+			case 0x7f46: return "227427";
+			case 0x7f47: return "334550";
+			case 0x7f48: return "2e7431";
+			case 0x7f4b: return "22742b";
+			case 0x7f4c: return "22742e";
+			case 0x7f4d: return "22742f";
+			case 0x7f4e: return "227431";
+			case 0x7f4f: return "227432";
+			case 0x7f50: return "21522b";
+			case 0x7f51: return "275148";
+			case 0x7f54: return "21522d";
+			case 0x7f55: return "21522c";
+			case 0x7f57: return "275237";
+			case 0x7f58: return "2e7451";
+			case 0x7f5a: return "275233";
+			case 0x7f5b: return "227445";
+			case 0x7f5d: return "227443";
+			case 0x7f5f: return "21522e";
+			case 0x7f60: return "22743e";
+			case 0x7f61: return "22743f";
+			case 0x7f62: return "275235";
+			case 0x7f63: return "227447";
+			case 0x7f65: return "227450";
+			case 0x7f66: return "227451";
+			case 0x7f67: return "227455";
+			case 0x7f68: return "227457";
+			case 0x7f69: return "215231";
+			case 0x7f6a: return "215232";
+			case 0x7f6b: return "227454";
+			case 0x7f6d: return "227453";
+			case 0x7f6e: return "335230";
+			case 0x7f70: return "215233";
+			case 0x7f71: return "22745e";
+			case 0x7f72: return "21522f";
+			case 0x7f73: return "227460";
+			case 0x7f74: return "287472";
+			case 0x7f75: return "215234";
+			case 0x7f76: return "227463";
+			case 0x7f77: return "215235";
+			case 0x7f78: return "2d5233";
+			case 0x7f79: return "215236";
+			case 0x7f7d: return "22746c";
+			case 0x7f7e: return "22746b";
+			case 0x7f7f: return "22746a";
+			case 0x7f81: return "275238";
+			case 0x7f82: return "2e7450";
+			case 0x7f83: return "4b6a22";
+			case 0x7f85: return "215237";
+			case 0x7f86: return "227472";
+			case 0x7f87: return "4b5238";
+			case 0x7f88: return "215238";
+			case 0x7f8a: return "215239";
+			case 0x7f8c: return "21523a";
+			case 0x7f8e: return "21523b";
+			case 0x7f91: return "22747a";
+			case 0x7f94: return "21523c";
+			case 0x7f95: return "227524";
+			case 0x7f96: return "22747e";
+			case 0x7f97: return "227523";
+			case 0x7f9a: return "4b523e";
+			case 0x7f9d: return "2d4a58";
+			case 0x7f9e: return "21523d";
+			case 0x7f9f: return "287531";
+			case 0x7fa1: return "2d5240";
+			case 0x7fa2: return "22752c";
+			case 0x7fa3: return "2d5241";
+			case 0x7fa4: return "215241";
+			case 0x7fa7: return "227533";
+			case 0x7fa8: return "215240";
+			case 0x7fa9: return "215242";
+			case 0x7fad: return "22753c";
+			case 0x7fae: return "4b5247";
+			case 0x7faf: return "215243";
+			case 0x7fb0: return "22753b";
+			case 0x7fb1: return "22753f";
+			case 0x7fb2: return "215244";
+			case 0x7fb4: return "227540";
+			case 0x7fb5: return "227542";
+			case 0x7fb6: return "215245";
+			case 0x7fb8: return "215246";
+			case 0x7fb9: return "215247";
+			case 0x7fbc: return "22754a";
+			case 0x7fbd: return "215248";
+			case 0x7fbe: return "22754c";
+			case 0x7fbf: return "215249";
+			case 0x7fc1: return "21524b";
+			case 0x7fc3: return "227551";
+			case 0x7fc4: return "2d524a";
+			case 0x7fc5: return "21524a";
+			case 0x7fc6: return "275251";
+			case 0x7fca: return "227557";
+			case 0x7fcc: return "21524c";
+			case 0x7fce: return "4b524e";
+			case 0x7fd2: return "21524d";
+			case 0x7fd4: return "21524f";
+			case 0x7fd5: return "215250";
+			case 0x7fd8: return "275258";
+			case 0x7fdb: return "227567";
+			case 0x7fdf: return "215253";
+			case 0x7fe0: return "215251";
+			case 0x7fe1: return "215252";
+			case 0x7fe3: return "227568";
+			case 0x7fe5: return "22756f";
+			case 0x7fe6: return "22756c";
+			case 0x7fe9: return "215254";
+			case 0x7feb: return "227573";
+			case 0x7fec: return "227572";
+			case 0x7fee: return "22757a";
+			case 0x7fef: return "227577";
+			case 0x7ff0: return "215255";
+			case 0x7ff1: return "21525a";
+			case 0x7ff3: return "215256";
+			case 0x7ff9: return "215258";
+			case 0x7ffa: return "4b525a";
+			case 0x7ffb: return "215259";
+			case 0x7ffc: return "215257";
+			case 0x7ffd: return "227629";
+			case 0x7ffe: return "22762a";
+			case 0x7fff: return "22762c";
+			case 0x8000: return "21525b";
+			case 0x8001: return "21525c";
+			case 0x8002: return "4b525c";
+			case 0x8003: return "21525d";
+			case 0x8004: return "22762e";
+			case 0x8005: return "21525f";
+			case 0x8006: return "21525e";
+			case 0x8008: return "227631";
+			case 0x800b: return "227633";
+			case 0x800c: return "215260";
+			case 0x800d: return "215262";
+			case 0x800e: return "227634";
+			case 0x800f: return "227636";
+			case 0x8010: return "215261";
+			case 0x8011: return "227635";
+			case 0x8012: return "215263";
+			case 0x8014: return "227637";
+			case 0x8015: return "215264";
+			case 0x8016: return "227639";
+			case 0x8017: return "215267";
+			case 0x8018: return "215265";
+			case 0x8019: return "2f4231";
+			case 0x801c: return "215268";
+			case 0x801d: return "22763e";
+			case 0x801e: return "22763d";
+			case 0x801f: return "22763b";
+			case 0x8020: return "2e684e";
+			case 0x8021: return "2d5d68";
+			case 0x8022: return "344138";
+			case 0x8024: return "2d562e";
+			case 0x8025: return "22764b";
+			case 0x8026: return "22764c";
+			case 0x8027: return "287655";
+			case 0x8028: return "22764f";
+			case 0x8029: return "22764e";
+			case 0x802a: return "22764d";
+			case 0x8030: return "22765b";
+			case 0x8031: return "22765d";
+			case 0x8033: return "215269";
+			case 0x8035: return "227660";
+			case 0x8036: return "21526a";
+			case 0x8037: return "2e765f";
+			case 0x8038: return "275275";
+			case 0x8039: return "227669";
+			case 0x803b: return "2d3e3c";
+			case 0x803d: return "21526c";
+			case 0x803f: return "21526b";
+			case 0x8041: return "22766b";
+			case 0x8042: return "275279";
+			case 0x8043: return "227670";
+			case 0x8046: return "4b526e";
+			case 0x804a: return "21526d";
+			case 0x804b: return "27527a";
+			case 0x804c: return "275278";
+			case 0x804d: return "28773f";
+			case 0x8052: return "22767b";
+			case 0x8054: return "275277";
+			case 0x8056: return "21526f";
+			case 0x8058: return "215270";
+			case 0x805a: return "215272";
+			case 0x805e: return "215271";
+			case 0x805f: return "4b3a2f";
+			case 0x8061: return "335276";
+			case 0x8062: return "22767e";
+			case 0x8063: return "227728";
+			case 0x8068: return "4b5277";
+			case 0x8069: return "287739";
+			case 0x806a: return "275276";
+			case 0x806c: return "227732";
+			case 0x806f: return "215277";
+			case 0x8070: return "215276";
+			case 0x8071: return "215273";
+			case 0x8072: return "215274";
+			case 0x8073: return "215275";
+			case 0x8074: return "2d527b";
+			case 0x8075: return "227739";
+			case 0x8076: return "215279";
+			case 0x8077: return "215278";
+			case 0x8079: return "22773f";
+			case 0x807b: return "22773e";
+			case 0x807d: return "21527b";
+			case 0x807e: return "21527a";
+			case 0x807f: return "21527c";
+			case 0x8080: return "4b527c";
+			case 0x8083: return "275321";
+			case 0x8084: return "21527e";
+			case 0x8085: return "215321";
+			case 0x8086: return "2d3765";
+			case 0x8087: return "215322";
+			case 0x8089: return "215323";
+			case 0x808a: return "227747";
+			case 0x808b: return "215324";
+			case 0x808c: return "215325";
+			case 0x808e: return "227749";
+			case 0x8090: return "27534a";
+			case 0x8093: return "215326";
+			case 0x8096: return "21532b";
+			case 0x8098: return "215328";
+			case 0x809a: return "21532a";
+			case 0x809b: return "215329";
+			case 0x809c: return "222973";
+			case 0x809d: return "215327";
+			case 0x809f: return "22774e";
+			case 0x80a0: return "27535e";
+			case 0x80a1: return "215334";
+			case 0x80a2: return "215330";
+			case 0x80a4: return "27536e";
+			case 0x80a5: return "21532f";
+			case 0x80a6: return "22776a";
+			case 0x80a7: return "227760";
+			case 0x80a9: return "215335";
+			case 0x80aa: return "21532d";
+			case 0x80ab: return "215331";
+			case 0x80ac: return "345e3b";
+			case 0x80ad: return "4c3a33";
+			case 0x80ae: return "276153";
+			case 0x80af: return "215333";
+			case 0x80b0: return "227761";
+			case 0x80b1: return "215332";
+			case 0x80b2: return "21532c";
+			case 0x80b4: return "215336";
+			case 0x80b5: return "227769";
+			case 0x80b7: return "4c794e";
+			case 0x80b8: return "227768";
+			case 0x80ba: return "21532e";
+			case 0x80bb: return "335333";
+			case 0x80bc: return "706b42";
+			case 0x80bd: return "706b44";
+			case 0x80be: return "275358";
+			case 0x80bf: return "275362";
+			case 0x80c0: return "275359";
+			case 0x80c1: return "275344";
+			case 0x80c2: return "22777d";
+			case 0x80c3: return "21533c";
+			case 0x80c4: return "21533e";
+			case 0x80c6: return "275379";
+			case 0x80cc: return "215338";
+			case 0x80cd: return "22782f";
+			case 0x80ce: return "21533f";
+			case 0x80cf: return "22782d";
+			case 0x80d4: return "227842";
+			case 0x80d6: return "215337";
+			case 0x80d7: return "227830";
+			case 0x80d9: return "227827";
+			case 0x80da: return "21533a";
+			case 0x80db: return "21533d";
+			case 0x80dc: return "273437";
+			case 0x80dd: return "22782a";
+			case 0x80de: return "215340";
+			case 0x80df: return "22777b";
+			case 0x80e0: return "227773";
+			case 0x80e1: return "276164";
+			case 0x80e4: return "215341";
+			case 0x80e5: return "215339";
+			case 0x80e7: return "274366";
+			case 0x80e8: return "28786e";
+			case 0x80e9: return "706b4c";
+			case 0x80ea: return "275421";
+			case 0x80eb: return "287855";
+			case 0x80ec: return "706640";
+			case 0x80ed: return "215347";
+			case 0x80ef: return "227841";
+			case 0x80f0: return "215342";
+			case 0x80f1: return "215345";
+			case 0x80f2: return "227833";
+			case 0x80f3: return "21534a";
+			case 0x80f4: return "215346";
+			case 0x80f6: return "27536c";
+			case 0x80f7: return "2d534b";
+			case 0x80f8: return "21534b";
+			case 0x80f9: return "227840";
+			case 0x80fa: return "227834";
+			case 0x80fc: return "3a787d";
+			case 0x80fd: return "215348";
+			case 0x80fe: return "227838";
+			case 0x8102: return "215343";
+			case 0x8103: return "22783c";
+			case 0x8105: return "215344";
+			case 0x8106: return "215349";
+			case 0x8107: return "2d5344";
+			case 0x8108: return "21534d";
+			case 0x8109: return "27534d";
+			case 0x810a: return "21534c";
+			case 0x810d: return "27537b";
+			case 0x810e: return "706b5b";
+			case 0x810f: return "27615b";
+			case 0x8110: return "27537c";
+			case 0x8111: return "275365";
+			case 0x8112: return "706b5f";
+			case 0x8113: return "275378";
+			case 0x8114: return "287a56";
+			case 0x8116: return "215350";
+			case 0x8117: return "227866";
+			case 0x8118: return "22784b";
+			case 0x811a: return "2d5361";
+			case 0x811b: return "227855";
+			case 0x811d: return "227849";
+			case 0x811e: return "227861";
+			case 0x8121: return "227864";
+			case 0x8123: return "2d6f7d";
+			case 0x8124: return "227854";
+			case 0x8129: return "215352";
+			case 0x812a: return "227860";
+			case 0x812b: return "21534e";
+			case 0x812c: return "2d5340";
+			case 0x812f: return "21534f";
+			case 0x8130: return "227850";
+			case 0x8132: return "4b3b52";
+			case 0x8133: return "4b5365";
+			case 0x8136: return "287941";
+			case 0x8138: return "27537a";
+			case 0x8139: return "215359";
+			case 0x813a: return "227869";
+			case 0x813e: return "21535b";
+			case 0x8141: return "22787d";
+			case 0x8146: return "21535a";
+			case 0x8148: return "22786d";
+			case 0x814a: return "27537e";
+			case 0x814b: return "215355";
+			case 0x814c: return "227877";
+			case 0x814d: return "227925";
+			case 0x814e: return "215358";
+			case 0x8150: return "215357";
+			case 0x8151: return "215356";
+			case 0x8153: return "22787c";
+			case 0x8154: return "215354";
+			case 0x8155: return "215353";
+			case 0x8159: return "706b6a";
+			case 0x815a: return "22786a";
+			case 0x815f: return "4c796b";
+			case 0x8160: return "227932";
+			case 0x8161: return "227941";
+			case 0x8165: return "21535f";
+			case 0x8166: return "215365";
+			case 0x8167: return "227948";
+			case 0x8169: return "22793b";
+			case 0x816b: return "215362";
+			case 0x816d: return "4d6047";
+			case 0x816e: return "215360";
+			case 0x816f: return "22794b";
+			case 0x8170: return "21535d";
+			case 0x8171: return "21535c";
+			case 0x8173: return "215361";
+			case 0x8174: return "227947";
+			case 0x8176: return "227946";
+			case 0x8178: return "21535e";
+			case 0x8179: return "215363";
+			case 0x817a: return "215364";
+			case 0x817b: return "275371";
+			case 0x817c: return "22793c";
+			case 0x817d: return "4c7959";
+			case 0x817e: return "276144";
+			case 0x817f: return "215368";
+			case 0x8180: return "215366";
+			case 0x8182: return "22794d";
+			case 0x8183: return "227959";
+			case 0x8186: return "227952";
+			case 0x8188: return "21536a";
+			case 0x818a: return "215369";
+			case 0x818b: return "227951";
+			case 0x818f: return "215367";
+			case 0x8191: return "27537d";
+			case 0x8193: return "2d535e";
+			case 0x8195: return "227975";
+			case 0x8197: return "227977";
+			case 0x8198: return "227970";
+			case 0x819a: return "21536e";
+			case 0x819b: return "21536d";
+			case 0x819c: return "21536f";
+			case 0x819d: return "21536b";
+			case 0x819f: return "22796a";
+			case 0x81a0: return "21536c";
+			case 0x81a3: return "22796b";
+			case 0x81a4: return "696733";
+			case 0x81a6: return "22797d";
+			case 0x81a8: return "215372";
+			case 0x81a9: return "215371";
+			case 0x81aa: return "22797c";
+			case 0x81b0: return "227a2e";
+			case 0x81b3: return "215370";
+			case 0x81b4: return "227a2f";
+			case 0x81b5: return "227a2c";
+			case 0x81b7: return "227a33";
+			case 0x81b8: return "4b6159";
+			case 0x81ba: return "215374";
+			case 0x81bb: return "227a37";
+			case 0x81bd: return "215379";
+			case 0x81be: return "21537b";
+			case 0x81bf: return "215378";
+			case 0x81c0: return "215376";
+			case 0x81c1: return "227a38";
+			case 0x81c2: return "215377";
+			case 0x81c3: return "215375";
+			case 0x81c4: return "227a3b";
+			case 0x81c6: return "215373";
+			case 0x81c8: return "2d537e";
+			case 0x81c9: return "21537a";
+			case 0x81ca: return "227a3a";
+			case 0x81cc: return "227a39";
+			case 0x81cd: return "21537c";
+			case 0x81ce: return "227a41";
+			case 0x81cf: return "21537d";
+			case 0x81d0: return "227a43";
+			case 0x81d1: return "227a40";
+			case 0x81d3: return "4b5422";
+			case 0x81d5: return "3a7970";
+			case 0x81d8: return "21537e";
+			case 0x81d9: return "335347";
+			case 0x81da: return "215421";
+			case 0x81db: return "227a4b";
+			case 0x81dd: return "227a4f";
+			case 0x81de: return "227a53";
+			case 0x81df: return "215422";
+			case 0x81e0: return "227a56";
+			case 0x81e2: return "227a57";
+			case 0x81e3: return "215423";
+			case 0x81e5: return "215424";
+			case 0x81e7: return "227a5b";
+			case 0x81e8: return "215425";
+			case 0x81ea: return "215426";
+			case 0x81ec: return "215427";
+			case 0x81ed: return "4b5428";
+			case 0x81ef: return "227a60";
+			case 0x81f2: return "227a65";
+			case 0x81f3: return "215429";
+			case 0x81f4: return "275163";
+			case 0x81f6: return "227a68";
+			case 0x81fa: return "21542b";
+			case 0x81fb: return "21542c";
+			case 0x81fc: return "21542d";
+			case 0x81fe: return "21542e";
+			case 0x8200: return "21542f";
+			case 0x8201: return "227a72";
+			case 0x8202: return "215430";
+			case 0x8203: return "227a74";
+			case 0x8204: return "227a75";
+			case 0x8205: return "215431";
+			case 0x8206: return "275b53";
+			case 0x8207: return "215432";
+			case 0x8208: return "215433";
+			case 0x8209: return "215434";
+			case 0x820a: return "215435";
+			case 0x820b: return "227a77";
+			case 0x820c: return "215436";
+			case 0x820d: return "215437";
+			case 0x820e: return "4b5437";
+			case 0x8210: return "215438";
+			case 0x8212: return "215439";
+			case 0x8214: return "21543a";
+			case 0x8216: return "2d5d65";
+			case 0x8217: return "4b5d65";
+			case 0x8218: return "2d6079";
+			case 0x821b: return "21543b";
+			case 0x821c: return "21543c";
+			case 0x821d: return "227b27";
+			case 0x821e: return "21543d";
+			case 0x821f: return "21543e";
+			case 0x8220: return "227b29";
+			case 0x8221: return "335446";
+			case 0x8222: return "21543f";
+			case 0x8223: return "4c4177";
+			case 0x8228: return "215443";
+			case 0x8229: return "2d5446";
+			case 0x822a: return "215440";
+			case 0x822b: return "215441";
+			case 0x822c: return "215442";
+			case 0x822d: return "227b2e";
+			case 0x822e: return "51456d";
+			case 0x822f: return "227b2f";
+			case 0x8230: return "27544b";
+			case 0x8231: return "27544a";
+			case 0x8232: return "227b3a";
+			case 0x8233: return "227b35";
+			case 0x8234: return "227b36";
+			case 0x8235: return "215445";
+			case 0x8236: return "215447";
+			case 0x8237: return "215444";
+			case 0x8238: return "227b32";
+			case 0x8239: return "215446";
+			case 0x823a: return "227b34";
+			case 0x823b: return "4b456d";
+			case 0x823e: return "707438";
+			case 0x8240: return "227b47";
+			case 0x8241: return "227b48";
+			case 0x8244: return "227b45";
+			case 0x8245: return "227b4a";
+			case 0x8247: return "215448";
+			case 0x8248: return "227b42";
+			case 0x8249: return "227b43";
+			case 0x824a: return "2d5447";
+			case 0x824b: return "227b4b";
+			case 0x824e: return "227b53";
+			case 0x824f: return "227b50";
+			case 0x8256: return "227b56";
+			case 0x8257: return "227b57";
+			case 0x8258: return "215449";
+			case 0x8259: return "21544a";
+			case 0x825a: return "227b5e";
+			case 0x825d: return "69675c";
+			case 0x825f: return "227b62";
+			case 0x8262: return "227b67";
+			case 0x8263: return "3f456d";
+			case 0x8264: return "344177";
+			case 0x8266: return "21544b";
+			case 0x8268: return "227b6b";
+			case 0x826a: return "33456d";
+			case 0x826b: return "39456d";
+			case 0x826d: return "227b6f";
+			case 0x826e: return "21544c";
+			case 0x826f: return "21544d";
+			case 0x8270: return "27544e";
+			case 0x8271: return "21544e";
+			case 0x8272: return "21544f";
+			case 0x8273: return "4b5959";
+			case 0x8274: return "2d342e";
+			case 0x8276: return "3f5959";
+			case 0x8277: return "2d5959";
+			case 0x8278: return "227b77";
+			case 0x827a: return "275631";
+			case 0x827d: return "276030";
+			case 0x827e: return "215450";
+			case 0x827f: return "227b7d";
+			case 0x8282: return "275033";
+			case 0x8283: return "227c2d";
+			case 0x8284: return "227c28";
+			case 0x8288: return "216330";
+			case 0x828a: return "227c2e";
+			case 0x828b: return "215452";
+			case 0x828d: return "215453";
+			case 0x828e: return "227c24";
+			case 0x828f: return "227c27";
+			case 0x8291: return "227c25";
+			case 0x8292: return "215451";
+			case 0x8297: return "292577";
+			case 0x8298: return "2d3c6d";
+			case 0x8299: return "215456";
+			case 0x829a: return "227c3f";
+			case 0x829c: return "27557c";
+			case 0x829d: return "215455";
+			case 0x829f: return "21545b";
+			case 0x82a1: return "227c50";
+			case 0x82a3: return "227c42";
+			case 0x82a4: return "227c3c";
+			case 0x82a5: return "21545a";
+			case 0x82a6: return "4b563a";
+			case 0x82a7: return "227c34";
+			case 0x82a8: return "227c4c";
+			case 0x82a9: return "227c46";
+			case 0x82aa: return "227c53";
+			case 0x82ab: return "227c38";
+			case 0x82ac: return "215459";
+			case 0x82ad: return "215458";
+			case 0x82ae: return "4c7c45";
+			case 0x82af: return "227c31";
+			case 0x82b0: return "227c3a";
+			case 0x82b1: return "21545d";
+			case 0x82b3: return "215454";
+			case 0x82b4: return "227c4e";
+			case 0x82b7: return "227c44";
+			case 0x82b8: return "4b5631";
+			case 0x82b9: return "21545e";
+			case 0x82bb: return "21545c";
+			case 0x82bc: return "227c49";
+			case 0x82bd: return "215457";
+			case 0x82be: return "355e76";
+			case 0x82c1: return "292535";
+			case 0x82c4: return "705c50";
+			case 0x82c5: return "4b3354";
+			case 0x82c7: return "27554d";
+			case 0x82c8: return "292765";
+			case 0x82ca: return "705c43";
+			case 0x82cb: return "27552a";
+			case 0x82cc: return "287e61";
+			case 0x82cd: return "275567";
+			case 0x82ce: return "275564";
+			case 0x82cf: return "27563c";
+			case 0x82d0: return "227c5b";
+			case 0x82d1: return "21546f";
+			case 0x82d2: return "227c6d";
+			case 0x82d3: return "4b546d";
+			case 0x82d4: return "21546e";
+			case 0x82d5: return "227c65";
+			case 0x82d7: return "21546a";
+			case 0x82d8: return "227c72";
+			case 0x82d9: return "227c55";
+			case 0x82db: return "215464";
+			case 0x82dc: return "215469";
+			case 0x82de: return "215470";
+			case 0x82df: return "215471";
+			case 0x82e0: return "227c5a";
+			case 0x82e1: return "227c73";
+			case 0x82e2: return "227c6a";
+			case 0x82e3: return "215463";
+			case 0x82e4: return "227c64";
+			case 0x82e5: return "215467";
+			case 0x82e6: return "215465";
+			case 0x82e7: return "215460";
+			case 0x82ea: return "227c5f";
+			case 0x82eb: return "227c71";
+			case 0x82ef: return "227c62";
+			case 0x82f1: return "21546b";
+			case 0x82f3: return "227c7c";
+			case 0x82f4: return "227c69";
+			case 0x82f6: return "227c75";
+			case 0x82f7: return "227c60";
+			case 0x82f9: return "27563b";
+			case 0x82fa: return "2d552e";
+			case 0x82fb: return "227d22";
+			case 0x82fd: return "227d24";
+			case 0x82fe: return "227c57";
+			case 0x8300: return "227c5c";
+			case 0x8301: return "21546c";
+			case 0x8302: return "215468";
+			case 0x8303: return "275030";
+			case 0x8304: return "215466";
+			case 0x8305: return "215461";
+			case 0x8306: return "2d5461";
+			case 0x8307: return "227c67";
+			case 0x8308: return "2d4450";
+			case 0x8309: return "215462";
+			case 0x830c: return "227d21";
+			case 0x830e: return "2d5529";
+			case 0x830f: return "292752";
+			case 0x8310: return "227c7b";
+			case 0x8311: return "29252d";
+			case 0x8312: return "227d54";
+			case 0x8314: return "227c6e";
+			case 0x8315: return "4c5175";
+			case 0x8316: return "227d56";
+			case 0x8317: return "21547e";
+			case 0x8318: return "2d5476";
+			case 0x831a: return "227d58";
+			case 0x831b: return "227d35";
+			case 0x831c: return "2e7c2e";
+			case 0x831d: return "227d76";
+			case 0x8322: return "227d3f";
+			case 0x8323: return "4c7d6a";
+			case 0x8327: return "275177";
+			case 0x8328: return "227d29";
+			case 0x832b: return "215472";
+			case 0x832c: return "227d40";
+			case 0x832d: return "27447c";
+			case 0x832f: return "227d52";
+			case 0x8331: return "21547c";
+			case 0x8332: return "4b5521";
+			case 0x8333: return "227d26";
+			case 0x8334: return "21547a";
+			case 0x8335: return "215479";
+			case 0x8336: return "21547b";
+			case 0x8338: return "215475";
+			case 0x8339: return "215523";
+			case 0x833a: return "227c63";
+			case 0x833c: return "227d48";
+			case 0x8340: return "21547d";
+			case 0x8343: return "4c7d4d";
+			case 0x8344: return "227d2b";
+			case 0x8345: return "275023";
+			case 0x8347: return "227d5f";
+			case 0x8348: return "227d53";
+			case 0x8349: return "215478";
+			case 0x834a: return "215474";
+			case 0x834d: return "227d4a";
+			case 0x834f: return "215522";
+			case 0x8350: return "215477";
+			case 0x8351: return "227d2e";
+			case 0x8352: return "215473";
+			case 0x8354: return "215476";
+			case 0x8356: return "227d3b";
+			case 0x8358: return "2d552d";
+			case 0x835a: return "275528";
+			case 0x835b: return "29254b";
+			case 0x835c: return "29247d";
+			case 0x835e: return "292571";
+			case 0x835f: return "292657";
+			case 0x8360: return "292661";
+			case 0x8361: return "275576";
+			case 0x8363: return "274537";
+			case 0x8364: return "275553";
+			case 0x8365: return "284b43";
+			case 0x8366: return "274a5e";
+			case 0x8367: return "285323";
+			case 0x8368: return "292546";
+			case 0x8369: return "292668";
+			case 0x836a: return "275563";
+			case 0x836b: return "27556e";
+			case 0x836c: return "292567";
+			case 0x836d: return "29233c";
+			case 0x836e: return "29233d";
+			case 0x836f: return "275635";
+			case 0x8373: return "227d6d";
+			case 0x8375: return "227d7e";
+			case 0x8377: return "215531";
+			case 0x8378: return "215527";
+			case 0x837b: return "215533";
+			case 0x837c: return "215532";
+			case 0x837d: return "2d5547";
+			case 0x837f: return "227e21";
+			case 0x8385: return "2d555b";
+			case 0x8386: return "2d555a";
+			case 0x8387: return "227e25";
+			case 0x8389: return "215530";
+			case 0x838a: return "21552d";
+			case 0x838e: return "215524";
+			case 0x838f: return "227d7a";
+			case 0x8392: return "4b552c";
+			case 0x8393: return "21552e";
+			case 0x8395: return "227d7c";
+			case 0x8396: return "215529";
+			case 0x8398: return "215525";
+			case 0x8399: return "227e22";
+			case 0x839a: return "232236";
+			case 0x839b: return "227e2f";
+			case 0x839c: return "227e37";
+			case 0x839e: return "215526";
+			case 0x839f: return "227e38";
+			case 0x83a0: return "21552f";
+			case 0x83a2: return "215528";
+			case 0x83a6: return "227e23";
+			case 0x83a7: return "21552a";
+			case 0x83a8: return "227d62";
+			case 0x83a9: return "227e2b";
+			case 0x83aa: return "227e33";
+			case 0x83ab: return "21552b";
+			case 0x83ad: return "227d67";
+			case 0x83b0: return "227d72";
+			case 0x83b1: return "275541";
+			case 0x83b2: return "27556c";
+			case 0x83b3: return "292375";
+			case 0x83b4: return "275555";
+			case 0x83b5: return "4d222a";
+			case 0x83b6: return "292658";
+			case 0x83b7: return "274f4b";
+			case 0x83b8: return "292574";
+			case 0x83b9: return "227e26";
+			case 0x83ba: return "276247";
+			case 0x83bc: return "29243a";
+			case 0x83bd: return "4b553f";
+			case 0x83bf: return "227e6a";
+			case 0x83c0: return "2d546f";
+			case 0x83c1: return "4b553a";
+			case 0x83c5: return "215539";
+			case 0x83c6: return "227e60";
+			case 0x83c7: return "347d24";
+			case 0x83c9: return "232229";
+			case 0x83ca: return "215545";
+			case 0x83cc: return "215543";
+			case 0x83ce: return "227e79";
+			case 0x83cf: return "227e41";
+			case 0x83d1: return "232243";
+			case 0x83d3: return "227e7b";
+			case 0x83d4: return "2d5573";
+			case 0x83d6: return "227e7d";
+			case 0x83d8: return "227e71";
+			case 0x83dc: return "215544";
+			case 0x83dd: return "395568";
+			case 0x83df: return "23222a";
+			case 0x83e0: return "215535";
+			case 0x83e1: return "227e5a";
+			case 0x83e2: return "227e6b";
+			case 0x83e5: return "227e72";
+			case 0x83e9: return "215536";
+			case 0x83ea: return "227e52";
+			case 0x83eb: return "227e63";
+			case 0x83ef: return "21553c";
+			case 0x83f0: return "2e7d24";
+			case 0x83f1: return "21553e";
+			case 0x83f2: return "215546";
+			case 0x83f3: return "23223c";
+			case 0x83f4: return "2d3c7c";
+			case 0x83f6: return "227e57";
+			case 0x83f7: return "2d3c49";
+			case 0x83f8: return "4b496b";
+			case 0x83f9: return "227e43";
+			case 0x83fb: return "2d625f";
+			case 0x83fc: return "227e56";
+			case 0x83fd: return "232223";
+			case 0x8401: return "227e6d";
+			case 0x8403: return "215538";
+			case 0x8404: return "215548";
+			case 0x8406: return "335568";
+			case 0x8407: return "227e61";
+			case 0x840a: return "215541";
+			case 0x840b: return "21553b";
+			case 0x840c: return "215542";
+			case 0x840d: return "215534";
+			case 0x840e: return "215547";
+			case 0x840f: return "23222e";
+			case 0x8410: return "227e59";
+			case 0x8411: return "232230";
+			case 0x8413: return "227e53";
+			case 0x8418: return "227e74";
+			case 0x841c: return "705d46";
+			case 0x841d: return "275642";
+			case 0x841e: return "232225";
+			case 0x841f: return "23222c";
+			case 0x8420: return "4b5542";
+			case 0x8421: return "227e45";
+			case 0x8422: return "69684d";
+			case 0x8423: return "227e51";
+			case 0x8424: return "275724";
+			case 0x8425: return "274a2e";
+			case 0x8426: return "275161";
+			case 0x8427: return "275622";
+			case 0x8428: return "27562a";
+			case 0x8429: return "23232e";
+			case 0x842a: return "23232d";
+			case 0x842c: return "214f22";
+			case 0x8431: return "21554b";
+			case 0x8432: return "232324";
+			case 0x8435: return "215555";
+			case 0x8438: return "215559";
+			case 0x8439: return "23224c";
+			case 0x843c: return "215554";
+			case 0x843d: return "215549";
+			case 0x843e: return "23226e";
+			case 0x8446: return "23233a";
+			case 0x8449: return "21554f";
+			case 0x844a: return "23233f";
+			case 0x844e: return "232345";
+			case 0x8451: return "23225c";
+			case 0x8452: return "23233c";
+			case 0x8453: return "232248";
+			case 0x8457: return "21554e";
+			case 0x8459: return "232266";
+			case 0x845a: return "232262";
+			case 0x845b: return "215552";
+			case 0x845c: return "232329";
+			case 0x845f: return "232335";
+			case 0x8460: return "232336";
+			case 0x8461: return "215556";
+			case 0x8462: return "335561";
+			case 0x8463: return "215557";
+			case 0x8466: return "21554d";
+			case 0x8469: return "215558";
+			case 0x846b: return "215551";
+			case 0x846c: return "215550";
+			case 0x846d: return "232271";
+			case 0x846e: return "232337";
+			case 0x846f: return "2d5635";
+			case 0x8471: return "232332";
+			case 0x8473: return "232269";
+			case 0x8475: return "21554c";
+			case 0x8476: return "23224d";
+			case 0x8477: return "215553";
+			case 0x8478: return "23227c";
+			case 0x8479: return "23224e";
+			case 0x847a: return "232278";
+			case 0x847d: return "23225f";
+			case 0x8482: return "21554a";
+			case 0x8484: return "23227b";
+			case 0x8487: return "29255a";
+			case 0x8488: return "705d5c";
+			case 0x8489: return "292564";
+			case 0x848b: return "275571";
+			case 0x848c: return "292524";
+			case 0x848d: return "23256c";
+			case 0x848e: return "23224a";
+			case 0x8490: return "215566";
+			case 0x8493: return "23243a";
+			case 0x8494: return "232375";
+			case 0x8495: return "232421";
+			case 0x8497: return "232349";
+			case 0x8499: return "215564";
+			case 0x849c: return "215560";
+			case 0x849d: return "232371";
+			case 0x849e: return "21555b";
+			case 0x849f: return "232353";
+			case 0x84a1: return "232350";
+			case 0x84a8: return "232432";
+			case 0x84ad: return "232429";
+			case 0x84af: return "232427";
+			case 0x84b1: return "232370";
+			case 0x84b2: return "21555a";
+			case 0x84b4: return "23235c";
+			case 0x84b8: return "215562";
+			case 0x84b9: return "232358";
+			case 0x84ba: return "232356";
+			case 0x84bb: return "23235f";
+			case 0x84bc: return "215567";
+			case 0x84bd: return "23237a";
+			case 0x84bf: return "21555c";
+			case 0x84c0: return "215563";
+			case 0x84c1: return "23235e";
+			case 0x84c2: return "23237c";
+			case 0x84c4: return "21555e";
+			case 0x84c6: return "21555d";
+			case 0x84c7: return "232379";
+			case 0x84c9: return "21555f";
+			case 0x84ca: return "232441";
+			case 0x84cb: return "215561";
+			case 0x84cd: return "232368";
+			case 0x84cf: return "23243f";
+			case 0x84d0: return "232372";
+			case 0x84d1: return "2d5036";
+			case 0x84d3: return "215565";
+			case 0x84d6: return "232433";
+			case 0x84d9: return "696868";
+			case 0x84da: return "232435";
+			case 0x84dd: return "275629";
+			case 0x84df: return "292651";
+			case 0x84e0: return "292840";
+			case 0x84e1: return "3f347d";
+			case 0x84e3: return "292633";
+			case 0x84e5: return "294629";
+			case 0x84e6: return "276148";
+			case 0x84e7: return "23252f";
+			case 0x84ea: return "23245f";
+			case 0x84eb: return "23247c";
+			case 0x84ec: return "215574";
+			case 0x84ee: return "21556c";
+			case 0x84ef: return "232535";
+			case 0x84f0: return "232534";
+			case 0x84f4: return "232466";
+			case 0x84f7: return "232477";
+			case 0x84fc: return "23247a";
+			case 0x84fd: return "23247d";
+			case 0x84ff: return "215569";
+			case 0x8500: return "23244d";
+			case 0x8506: return "232446";
+			case 0x8507: return "2f252e";
+			case 0x850b: return "232447";
+			case 0x850c: return "23246a";
+			case 0x8511: return "292d51";
+			case 0x8513: return "21556f";
+			case 0x8514: return "215573";
+			case 0x8515: return "232475";
+			case 0x8517: return "21556a";
+			case 0x8518: return "23252a";
+			case 0x851a: return "21556b";
+			case 0x851e: return "232524";
+			case 0x851f: return "232459";
+			case 0x8521: return "215572";
+			case 0x8523: return "215571";
+			case 0x8525: return "215575";
+			case 0x8526: return "23252d";
+			case 0x852b: return "51496b";
+			case 0x852c: return "21556d";
+			case 0x852d: return "21556e";
+			case 0x852f: return "232472";
+			case 0x8534: return "33625f";
+			case 0x8535: return "4b562b";
+			case 0x8537: return "275626";
+			case 0x8538: return "4c4146";
+			case 0x8539: return "29282a";
+			case 0x853a: return "275639";
+			case 0x853b: return "23245c";
+			case 0x853c: return "275637";
+			case 0x853d: return "215568";
+			case 0x8540: return "23254f";
+			case 0x8541: return "232546";
+			case 0x8542: return "23256d";
+			case 0x8543: return "21557b";
+			case 0x8546: return "23255a";
+			case 0x8548: return "215579";
+			case 0x8549: return "21557d";
+			case 0x854a: return "215577";
+			case 0x854b: return "395577";
+			case 0x854e: return "232571";
+			case 0x8551: return "23255f";
+			case 0x8553: return "23254d";
+			case 0x8555: return "232574";
+			case 0x8556: return "232536";
+			case 0x8557: return "232645";
+			case 0x8558: return "23254b";
+			case 0x8559: return "215578";
+			case 0x855a: return "2d5554";
+			case 0x855d: return "232576";
+			case 0x855e: return "23255d";
+			case 0x8561: return "23254e";
+			case 0x8562: return "232564";
+			case 0x8563: return "23256b";
+			case 0x8564: return "23255c";
+			case 0x8568: return "21557a";
+			case 0x8569: return "215576";
+			case 0x856a: return "21557c";
+			case 0x856d: return "215622";
+			case 0x8572: return "292768";
+			case 0x8573: return "23255e";
+			case 0x8574: return "27563d";
+			case 0x8577: return "232633";
+			case 0x8578: return "232634";
+			case 0x8579: return "23262d";
+			case 0x857a: return "232642";
+			case 0x857b: return "232636";
+			case 0x857e: return "215625";
+			case 0x857f: return "232632";
+			case 0x8580: return "232625";
+			case 0x8584: return "21557e";
+			case 0x8585: return "232656";
+			case 0x8586: return "23264e";
+			case 0x8587: return "215628";
+			case 0x8588: return "232657";
+			case 0x858a: return "232651";
+			case 0x858c: return "232577";
+			case 0x858f: return "232628";
+			case 0x8590: return "232654";
+			case 0x8591: return "215624";
+			case 0x8594: return "215626";
+			case 0x8597: return "232644";
+			case 0x8598: return "232635";
+			case 0x8599: return "232650";
+			case 0x859b: return "215623";
+			case 0x859c: return "215627";
+			case 0x85a2: return "232652";
+			case 0x85a4: return "23263d";
+			case 0x85a6: return "395477";
+			case 0x85a8: return "232649";
+			case 0x85a9: return "21562a";
+			case 0x85aa: return "215621";
+			case 0x85ac: return "335635";
+			case 0x85ae: return "275632";
+			case 0x85af: return "21562c";
+			case 0x85b0: return "21562f";
+			case 0x85b3: return "23266e";
+			case 0x85b6: return "23267e";
+			case 0x85b7: return "23266b";
+			case 0x85b8: return "23265a";
+			case 0x85b9: return "23266c";
+			case 0x85ba: return "232661";
+			case 0x85bd: return "23266f";
+			case 0x85be: return "232675";
+			case 0x85bf: return "232672";
+			case 0x85c1: return "23265d";
+			case 0x85c2: return "23266a";
+			case 0x85c4: return "232670";
+			case 0x85c9: return "21562e";
+			case 0x85cd: return "4b5629";
+			case 0x85ce: return "232668";
+			case 0x85cf: return "21562b";
+			case 0x85d0: return "21562d";
+			case 0x85d3: return "275640";
+			case 0x85d4: return "23272e";
+			case 0x85d5: return "215634";
+			case 0x85d8: return "232745";
+			case 0x85da: return "232739";
+			case 0x85dc: return "23274c";
+			case 0x85dd: return "215631";
+			case 0x85df: return "232743";
+			case 0x85e4: return "215633";
+			case 0x85e5: return "215635";
+			case 0x85e6: return "23272c";
+			case 0x85e9: return "215630";
+			case 0x85ea: return "215632";
+			case 0x85ed: return "232731";
+			case 0x85f5: return "23274e";
+			case 0x85f7: return "232728";
+			case 0x85f9: return "215637";
+			case 0x85fa: return "215639";
+			case 0x85fb: return "215636";
+			case 0x85fc: return "232757";
+			case 0x85fe: return "23275e";
+			case 0x85ff: return "23275b";
+			case 0x8600: return "232760";
+			case 0x8602: return "335577";
+			case 0x8604: return "232768";
+			case 0x8605: return "232771";
+			case 0x8606: return "21563a";
+			case 0x8607: return "21563c";
+			case 0x860a: return "21563d";
+			case 0x860b: return "21563b";
+			case 0x8610: return "232754";
+			case 0x8611: return "215638";
+			case 0x8613: return "2d563c";
+			case 0x8616: return "51563f";
+			case 0x8617: return "21563f";
+			case 0x861a: return "215640";
+			case 0x8622: return "232752";
+			case 0x8624: return "232724";
+			case 0x8627: return "232822";
+			case 0x8629: return "232826";
+			case 0x862b: return "232775";
+			case 0x862d: return "21563e";
+			case 0x862f: return "4b4d41";
+			case 0x8630: return "696946";
+			case 0x8636: return "232838";
+			case 0x8637: return "232832";
+			case 0x8638: return "215641";
+			case 0x863a: return "232840";
+			case 0x863c: return "23283e";
+			case 0x863f: return "215642";
+			case 0x8640: return "23283f";
+			case 0x8641: return "21787c";
+			case 0x8645: return "23284c";
+			case 0x864d: return "232859";
+			case 0x864e: return "215643";
+			case 0x864f: return "275648";
+			case 0x8650: return "215644";
+			case 0x8651: return "273f36";
+			case 0x8652: return "216d74";
+			case 0x8653: return "23285a";
+			case 0x8654: return "215645";
+			case 0x8655: return "215647";
+			case 0x8656: return "333573";
+			case 0x8659: return "23285e";
+			case 0x865b: return "215649";
+			case 0x865c: return "215648";
+			case 0x865e: return "45564b";
+			case 0x865f: return "21564a";
+			case 0x8661: return "232866";
+			case 0x8662: return "232869";
+			case 0x8663: return "23286a";
+			case 0x8667: return "21564c";
+			case 0x8669: return "232871";
+			case 0x866b: return "275733";
+			case 0x866c: return "232878";
+			case 0x866e: return "292c4c";
+			case 0x866f: return "23287c";
+			case 0x8671: return "33567c";
+			case 0x8672: return "23287b";
+			case 0x8673: return "232926";
+			case 0x8679: return "21564f";
+			case 0x867a: return "232925";
+			case 0x867b: return "23287e";
+			case 0x867c: return "232927";
+			case 0x867d: return "275f4a";
+			case 0x867e: return "27567a";
+			case 0x867f: return "292c5d";
+			case 0x8680: return "275676";
+			case 0x8681: return "275735";
+			case 0x8682: return "275725";
+			case 0x868a: return "215652";
+			case 0x868b: return "2f2a5a";
+			case 0x868c: return "215655";
+			case 0x868d: return "23293c";
+			case 0x8691: return "232936";
+			case 0x8693: return "215653";
+			case 0x8695: return "275741";
+			case 0x8696: return "23292e";
+			case 0x8698: return "232939";
+			case 0x869c: return "232937";
+			case 0x869d: return "232942";
+			case 0x86a0: return "232946";
+			case 0x86a1: return "2f5f45";
+			case 0x86a3: return "215656";
+			case 0x86a4: return "215654";
+			case 0x86a6: return "232940";
+			case 0x86a7: return "232948";
+			case 0x86a8: return "23292f";
+			case 0x86a9: return "215650";
+			case 0x86aa: return "215651";
+			case 0x86ab: return "69695b";
+			case 0x86ac: return "292a34";
+			case 0x86af: return "21565f";
+			case 0x86b0: return "232959";
+			case 0x86b1: return "21565e";
+			case 0x86b3: return "232960";
+			case 0x86b4: return "232963";
+			case 0x86b5: return "215659";
+			case 0x86b6: return "21565b";
+			case 0x86ba: return "232958";
+			case 0x86bf: return "23294b";
+			case 0x86c0: return "215657";
+			case 0x86c3: return "23355c";
+			case 0x86c4: return "21565c";
+			case 0x86c6: return "21565d";
+			case 0x86c7: return "215658";
+			case 0x86c9: return "4d2962";
+			case 0x86ca: return "27573f";
+			case 0x86cb: return "21565a";
+			case 0x86cd: return "4b5724";
+			case 0x86ce: return "27573c";
+			case 0x86cf: return "292c55";
+			case 0x86d0: return "232977";
+			case 0x86d1: return "23297a";
+			case 0x86d4: return "215663";
+			case 0x86d5: return "232974";
+			case 0x86d8: return "232967";
+			case 0x86d9: return "215661";
+			case 0x86db: return "215664";
+			case 0x86de: return "23297e";
+			case 0x86df: return "215660";
+			case 0x86e3: return "23296e";
+			case 0x86e4: return "215665";
+			case 0x86e9: return "23296f";
+			case 0x86ec: return "232971";
+			case 0x86ed: return "215662";
+			case 0x86ee: return "275742";
+			case 0x86ef: return "696962";
+			case 0x86f0: return "292b6e";
+			case 0x86f1: return "292a2f";
+			case 0x86f2: return "275732";
+			case 0x86f3: return "292b55";
+			case 0x86f4: return "292c61";
+			case 0x86f8: return "232a33";
+			case 0x86f9: return "215667";
+			case 0x86fa: return "232a2f";
+			case 0x86fb: return "215666";
+			case 0x86fe: return "21566c";
+			case 0x8700: return "21566b";
+			case 0x8702: return "21566e";
+			case 0x8703: return "215669";
+			case 0x8706: return "232a34";
+			case 0x8707: return "215668";
+			case 0x8708: return "4b566a";
+			case 0x8709: return "232a38";
+			case 0x870a: return "232a3a";
+			case 0x870b: return "232a25";
+			case 0x870d: return "232a3e";
+			case 0x870e: return "232a36";
+			case 0x8711: return "232a65";
+			case 0x8712: return "232a66";
+			case 0x8713: return "21566d";
+			case 0x8717: return "2d567b";
+			case 0x8718: return "215675";
+			case 0x871a: return "232a5f";
+			case 0x871c: return "21566f";
+			case 0x871e: return "232a4e";
+			case 0x8721: return "27573e";
+			case 0x8722: return "215672";
+			case 0x8723: return "232a43";
+			case 0x8725: return "215673";
+			case 0x8728: return "232a45";
+			case 0x8729: return "232a59";
+			case 0x872e: return "232a4b";
+			case 0x8731: return "232a64";
+			case 0x8734: return "215674";
+			case 0x8737: return "232a44";
+			case 0x8739: return "232a5a";
+			case 0x873a: return "2d5f63";
+			case 0x873b: return "4b5671";
+			case 0x873d: return "232a4c";
+			case 0x873e: return "232a57";
+			case 0x873f: return "215670";
+			case 0x8740: return "232a49";
+			case 0x8743: return "232a53";
+			case 0x8744: return "232a55";
+			case 0x8747: return "275736";
+			case 0x8748: return "2d572d";
+			case 0x8749: return "275734";
+			case 0x874a: return "232a42";
+			case 0x874c: return "21567d";
+			case 0x874d: return "232b33";
+			case 0x874e: return "232b27";
+			case 0x874f: return "232a6b";
+			case 0x8753: return "232b35";
+			case 0x8755: return "215676";
+			case 0x8757: return "21567e";
+			case 0x8758: return "232a79";
+			case 0x8759: return "215721";
+			case 0x875d: return "232b2e";
+			case 0x875f: return "232b28";
+			case 0x8760: return "215677";
+			case 0x8761: return "232b21";
+			case 0x8763: return "232a6d";
+			case 0x8764: return "232a71";
+			case 0x8765: return "232a73";
+			case 0x8766: return "21567a";
+			case 0x8768: return "21567c";
+			case 0x876a: return "232b24";
+			case 0x876e: return "232b30";
+			case 0x876f: return "232b2d";
+			case 0x8770: return "4d2925";
+			case 0x8771: return "232a6c";
+			case 0x8774: return "215679";
+			case 0x8776: return "215678";
+			case 0x8778: return "21567b";
+			case 0x877b: return "232a7b";
+			case 0x877c: return "27572c";
+			case 0x877d: return "232a74";
+			case 0x877e: return "292c64";
+			case 0x877f: return "4b5736";
+			case 0x8782: return "215723";
+			case 0x8783: return "215722";
+			case 0x8784: return "232b55";
+			case 0x8785: return "232b53";
+			case 0x8788: return "232b48";
+			case 0x8789: return "232b5d";
+			case 0x878b: return "232b54";
+			case 0x878d: return "215726";
+			case 0x8793: return "232b3d";
+			case 0x8797: return "2d572b";
+			case 0x8798: return "232b4c";
+			case 0x8799: return "232b45";
+			case 0x879e: return "215725";
+			case 0x879f: return "215727";
+			case 0x87a1: return "395652";
+			case 0x87a2: return "215724";
+			case 0x87a3: return "232b3a";
+			case 0x87a8: return "70727d";
+			case 0x87a9: return "232b58";
+			case 0x87ab: return "21572a";
+			case 0x87ac: return "232b72";
+			case 0x87ad: return "232b60";
+			case 0x87ae: return "232b78";
+			case 0x87af: return "232b6f";
+			case 0x87b3: return "21572b";
+			case 0x87b5: return "2f2a64";
+			case 0x87ba: return "21572f";
+			case 0x87bb: return "21572c";
+			case 0x87bd: return "232c24";
+			case 0x87be: return "232b66";
+			case 0x87bf: return "232b7e";
+			case 0x87c0: return "215729";
+			case 0x87c1: return "335652";
+			case 0x87c4: return "232b6e";
+			case 0x87c6: return "215730";
+			case 0x87c7: return "2d5730";
+			case 0x87c8: return "21572d";
+			case 0x87ca: return "2f2a73";
+			case 0x87cb: return "215731";
+			case 0x87d0: return "696a2c";
+			case 0x87d1: return "215728";
+			case 0x87d2: return "21572e";
+			case 0x87d3: return "232c48";
+			case 0x87d6: return "232c3a";
+			case 0x87db: return "232c36";
+			case 0x87dc: return "232c49";
+			case 0x87e0: return "232c47";
+			case 0x87e2: return "232c37";
+			case 0x87e3: return "232c4c";
+			case 0x87e5: return "4d2c3c";
+			case 0x87ea: return "232c34";
+			case 0x87eb: return "232c39";
+			case 0x87ec: return "215734";
+			case 0x87ee: return "232c2c";
+			case 0x87ef: return "215732";
+			case 0x87f0: return "232c31";
+			case 0x87f2: return "215733";
+			case 0x87f3: return "232c30";
+			case 0x87f5: return "232c3f";
+			case 0x87f6: return "232c55";
+			case 0x87f7: return "232c57";
+			case 0x87f9: return "215738";
+			case 0x87fb: return "215735";
+			case 0x87fe: return "232c5f";
+			case 0x8801: return "472c4d";
+			case 0x8803: return "232c4f";
+			case 0x8805: return "215736";
+			case 0x8806: return "232c5d";
+			case 0x880a: return "232c50";
+			case 0x880b: return "232c5c";
+			case 0x880d: return "215737";
+			case 0x880e: return "33572e";
+			case 0x880f: return "335738";
+			case 0x8810: return "232c61";
+			case 0x8811: return "232c64";
+			case 0x8813: return "232c6a";
+			case 0x8814: return "215739";
+			case 0x8815: return "21573a";
+			case 0x8816: return "232c6b";
+			case 0x8818: return "232c66";
+			case 0x8819: return "232c63";
+			case 0x881b: return "232c7a";
+			case 0x881c: return "232c73";
+			case 0x881f: return "21573e";
+			case 0x8821: return "21573d";
+			case 0x8822: return "21573b";
+			case 0x8823: return "21573c";
+			case 0x8827: return "4b5740";
+			case 0x8828: return "232d23";
+			case 0x882d: return "232d32";
+			case 0x882e: return "232d2e";
+			case 0x8831: return "21573f";
+			case 0x8832: return "232d2a";
+			case 0x8834: return "232c72";
+			case 0x8836: return "215741";
+			case 0x8839: return "215740";
+			case 0x883b: return "215742";
+			case 0x883c: return "232d3c";
+			case 0x8840: return "215743";
+			case 0x8841: return "232d41";
+			case 0x8842: return "3b2d44";
+			case 0x8844: return "232d44";
+			case 0x8845: return "275d35";
+			case 0x8846: return "4b4d56";
+			case 0x8847: return "232d4b";
+			case 0x884a: return "232d51";
+			case 0x884c: return "215744";
+			case 0x884d: return "215745";
+			case 0x884e: return "232d53";
+			case 0x8850: return "232d57";
+			case 0x8852: return "232d56";
+			case 0x8853: return "4b5746";
+			case 0x8854: return "275d61";
+			case 0x8855: return "232d5a";
+			case 0x8856: return "232d59";
+			case 0x8857: return "215747";
+			case 0x8859: return "215748";
+			case 0x885a: return "232d5f";
+			case 0x885b: return "215749";
+			case 0x885c: return "232d5e";
+			case 0x885d: return "21574a";
+			case 0x885e: return "2d5749";
+			case 0x8861: return "21574b";
+			case 0x8862: return "21574c";
+			case 0x8863: return "21574d";
+			case 0x8865: return "275762";
+			case 0x8868: return "21574f";
+			case 0x8869: return "232d69";
+			case 0x886b: return "215750";
+			case 0x886c: return "275822";
+			case 0x886d: return "232d6d";
+			case 0x886e: return "2d575b";
+			case 0x8870: return "215753";
+			case 0x8872: return "4d2d75";
+			case 0x8875: return "232d71";
+			case 0x8877: return "215754";
+			case 0x8879: return "232d7c";
+			case 0x887a: return "232d6e";
+			case 0x887d: return "232d79";
+			case 0x887e: return "232d7e";
+			case 0x887f: return "232d7d";
+			case 0x8881: return "215752";
+			case 0x8882: return "215751";
+			case 0x8884: return "27577d";
+			case 0x8885: return "513a47";
+			case 0x8888: return "215755";
+			case 0x888b: return "21575a";
+			case 0x888c: return "232e3b";
+			case 0x888d: return "215759";
+			case 0x8890: return "232e3a";
+			case 0x8892: return "215757";
+			case 0x8896: return "215758";
+			case 0x8897: return "232e45";
+			case 0x8899: return "232e40";
+			case 0x889a: return "232e34";
+			case 0x889c: return "275821";
+			case 0x889e: return "21575b";
+			case 0x88a0: return "232e3d";
+			case 0x88a2: return "232e28";
+			case 0x88a4: return "232e2a";
+			case 0x88aa: return "232e2f";
+			case 0x88ab: return "215756";
+			case 0x88ad: return "275823";
+			case 0x88ae: return "4d3032";
+			case 0x88b0: return "696a5e";
+			case 0x88b1: return "21575e";
+			case 0x88b2: return "232e51";
+			case 0x88b4: return "335773";
+			case 0x88b5: return "2f2d79";
+			case 0x88b7: return "232e57";
+			case 0x88ba: return "232e4a";
+			case 0x88bc: return "232e54";
+			case 0x88bd: return "232e59";
+			case 0x88bf: return "232e49";
+			case 0x88c0: return "232e4f";
+			case 0x88c1: return "21575c";
+			case 0x88c2: return "21575d";
+			case 0x88c3: return "696a61";
+			case 0x88c4: return "232e5a";
+			case 0x88c5: return "275765";
+			case 0x88c6: return "27577c";
+			case 0x88c9: return "232e48";
+			case 0x88ca: return "4b3a47";
+			case 0x88cb: return "232e5e";
+			case 0x88cc: return "232e60";
+			case 0x88ce: return "232e64";
+			case 0x88cf: return "215763";
+			case 0x88d2: return "232e68";
+			case 0x88d4: return "215764";
+			case 0x88d5: return "215766";
+			case 0x88d8: return "215761";
+			case 0x88d9: return "215760";
+			case 0x88db: return "232e62";
+			case 0x88dc: return "215762";
+			case 0x88dd: return "215765";
+			case 0x88df: return "21575f";
+			case 0x88e0: return "335760";
+			case 0x88e1: return "2d5763";
+			case 0x88e2: return "292f60";
+			case 0x88e3: return "29302d";
+			case 0x88e4: return "275773";
+			case 0x88e5: return "292f72";
+			case 0x88e8: return "21576d";
+			case 0x88ef: return "232f23";
+			case 0x88f0: return "232e7a";
+			case 0x88f1: return "232e71";
+			case 0x88f2: return "232e75";
+			case 0x88f3: return "215768";
+			case 0x88f4: return "21576b";
+			case 0x88f8: return "215769";
+			case 0x88f9: return "21576a";
+			case 0x88fc: return "232f21";
+			case 0x88fd: return "21576c";
+			case 0x88fe: return "232e72";
+			case 0x8900: return "232e78";
+			case 0x8902: return "215767";
+			case 0x8903: return "232f24";
+			case 0x8904: return "696a6d";
+			case 0x8906: return "232f35";
+			case 0x8907: return "393d6f";
+			case 0x8909: return "232f2d";
+			case 0x890a: return "232f3d";
+			case 0x890c: return "232f36";
+			case 0x890e: return "2d5758";
+			case 0x8910: return "4b576f";
+			case 0x8912: return "215772";
+			case 0x8913: return "215771";
+			case 0x8915: return "232f43";
+			case 0x8918: return "232f2f";
+			case 0x8919: return "232f37";
+			case 0x891a: return "21576e";
+			case 0x891b: return "275779";
+			case 0x891d: return "4d2f7a";
+			case 0x891e: return "232f54";
+			case 0x891f: return "232f51";
+			case 0x8921: return "232f4e";
+			case 0x8922: return "232f57";
+			case 0x8925: return "215775";
+			case 0x8926: return "232f56";
+			case 0x8927: return "232f4f";
+			case 0x892a: return "215774";
+			case 0x892b: return "215776";
+			case 0x892f: return "232f45";
+			case 0x8930: return "232f47";
+			case 0x8931: return "232f53";
+			case 0x8932: return "215773";
+			case 0x8933: return "232f60";
+			case 0x8934: return "275771";
+			case 0x8935: return "232f5a";
+			case 0x8936: return "215778";
+			case 0x8938: return "215779";
+			case 0x893b: return "215777";
+			case 0x8941: return "4d2f5d";
+			case 0x8943: return "335772";
+			case 0x8944: return "21577a";
+			case 0x8946: return "232f7b";
+			case 0x8947: return "232f72";
+			case 0x894c: return "232f7a";
+			case 0x894d: return "233021";
+			case 0x894f: return "232f6f";
+			case 0x8954: return "232f66";
+			case 0x8956: return "21577d";
+			case 0x895a: return "233024";
+			case 0x895b: return "233029";
+			case 0x895c: return "23302c";
+			case 0x895d: return "23302d";
+			case 0x895e: return "233025";
+			case 0x895f: return "21577b";
+			case 0x8960: return "21577c";
+			case 0x8962: return "233023";
+			case 0x8964: return "21577e";
+			case 0x8966: return "233031";
+			case 0x896a: return "215821";
+			case 0x896b: return "23303a";
+			case 0x896c: return "23303c";
+			case 0x896d: return "233037";
+			case 0x896e: return "23303b";
+			case 0x896f: return "215822";
+			case 0x8972: return "215823";
+			case 0x8974: return "233042";
+			case 0x8976: return "233041";
+			case 0x8977: return "696b27";
+			case 0x897b: return "233049";
+			case 0x897c: return "23304a";
+			case 0x897e: return "4b5824";
+			case 0x897f: return "215824";
+			case 0x8981: return "215825";
+			case 0x8983: return "4b5826";
+			case 0x8984: return "233053";
+			case 0x8985: return "233055";
+			case 0x8986: return "3f3d6f";
+			case 0x8987: return "395f68";
+			case 0x8988: return "4b4444";
+			case 0x8989: return "335238";
+			case 0x898a: return "2d5238";
+			case 0x898b: return "215828";
+			case 0x898f: return "215829";
+			case 0x8991: return "233062";
+			case 0x8993: return "21582a";
+			case 0x8996: return "21582b";
+			case 0x8997: return "233064";
+			case 0x8998: return "233066";
+			case 0x899a: return "4b5830";
+			case 0x899c: return "23306b";
+			case 0x89a1: return "23306f";
+			case 0x89a5: return "233076";
+			case 0x89a6: return "21582d";
+			case 0x89a7: return "2d5831";
+			case 0x89a9: return "233079";
+			case 0x89aa: return "21582c";
+			case 0x89ac: return "21582e";
+			case 0x89af: return "23307d";
+			case 0x89b2: return "21582f";
+			case 0x89b3: return "4b5832";
+			case 0x89b6: return "23312c";
+			case 0x89b7: return "23312b";
+			case 0x89b8: return "23312a";
+			case 0x89ba: return "215830";
+			case 0x89bb: return "2f312b";
+			case 0x89bc: return "23312f";
+			case 0x89bd: return "215831";
+			case 0x89bf: return "233132";
+			case 0x89c0: return "215832";
+			case 0x89c1: return "275828";
+			case 0x89c2: return "275832";
+			case 0x89c4: return "275829";
+			case 0x89c5: return "27582a";
+			case 0x89c6: return "27582b";
+			case 0x89c7: return "293066";
+			case 0x89c8: return "275831";
+			case 0x89c9: return "275830";
+			case 0x89ca: return "27582e";
+			case 0x89cb: return "29306f";
+			case 0x89cc: return "293132";
+			case 0x89ce: return "27582d";
+			case 0x89cf: return "29307d";
+			case 0x89d0: return "27582f";
+			case 0x89d1: return "29312b";
+			case 0x89d2: return "4b5361";
+			case 0x89d4: return "334260";
+			case 0x89d5: return "23313b";
+			case 0x89d6: return "23313a";
+			case 0x89da: return "23313f";
+			case 0x89dc: return "233145";
+			case 0x89dd: return "334a58";
+			case 0x89de: return "275835";
+			case 0x89e1: return "233147";
+			default: return null;
+		}
+	}
+
+	private String getCharTableCharString_0x89e3_0x9f62(Character c) {
+		switch((int)c.charValue()) {
+			case 0x89e3: return "215834";
+			case 0x89e5: return "233143";
+			case 0x89e6: return "2d5836";
+			case 0x89e7: return "335834";
+			case 0x89e9: return "23314c";
+			case 0x89eb: return "23314d";
+			case 0x89ed: return "233153";
+			case 0x89ef: return "293160";
+			case 0x89f1: return "233158";
+			case 0x89f3: return "23315c";
+			case 0x89f4: return "215835";
+			case 0x89f5: return "2f3143";
+			case 0x89f6: return "233160";
+			case 0x89f7: return "233164";
+			case 0x89f8: return "215836";
+			case 0x89ff: return "23316b";
+			case 0x8a00: return "215837";
+			case 0x8a02: return "215839";
+			case 0x8a03: return "21583a";
+			case 0x8a04: return "23316e";
+			case 0x8a06: return "23316c";
+			case 0x8a07: return "23316d";
+			case 0x8a08: return "215838";
+			case 0x8a0a: return "215840";
+			case 0x8a0c: return "21583e";
+			case 0x8a0d: return "233173";
+			case 0x8a0e: return "21583d";
+			case 0x8a0f: return "233170";
+			case 0x8a10: return "21583b";
+			case 0x8a11: return "233171";
+			case 0x8a12: return "233172";
+			case 0x8a13: return "215843";
+			case 0x8a15: return "21583f";
+			case 0x8a16: return "215841";
+			case 0x8a17: return "215842";
+			case 0x8a18: return "21583c";
+			case 0x8a1b: return "21584a";
+			case 0x8a1d: return "215846";
+			case 0x8a1f: return "21584b";
+			case 0x8a22: return "233225";
+			case 0x8a23: return "215845";
+			case 0x8a25: return "455847";
+			case 0x8a27: return "23317a";
+			case 0x8a29: return "23317d";
+			case 0x8a2a: return "215844";
+			case 0x8a2d: return "215849";
+			case 0x8a31: return "215848";
+			case 0x8a33: return "4b5946";
+			case 0x8a34: return "215856";
+			case 0x8a36: return "2d356a";
+			case 0x8a3a: return "215857";
+			case 0x8a3b: return "21584c";
+			case 0x8a3c: return "39593f";
+			case 0x8a3d: return "233240";
+			case 0x8a3e: return "233258";
+			case 0x8a41: return "215851";
+			case 0x8a45: return "233242";
+			case 0x8a46: return "215855";
+			case 0x8a48: return "233239";
+			case 0x8a4a: return "233228";
+			case 0x8a4e: return "23322a";
+			case 0x8a50: return "215854";
+			case 0x8a51: return "233227";
+			case 0x8a52: return "23323c";
+			case 0x8a54: return "215852";
+			case 0x8a55: return "21584e";
+			case 0x8a56: return "233230";
+			case 0x8a57: return "233237";
+			case 0x8a58: return "23323b";
+			case 0x8a5b: return "215853";
+			case 0x8a5e: return "21584f";
+			case 0x8a60: return "21584d";
+			case 0x8a61: return "233256";
+			case 0x8a62: return "215865";
+			case 0x8a63: return "21585e";
+			case 0x8a66: return "21585b";
+			case 0x8a67: return "2d3b33";
+			case 0x8a69: return "21585c";
+			case 0x8a6b: return "215858";
+			case 0x8a6c: return "215868";
+			case 0x8a6d: return "215863";
+			case 0x8a6e: return "215867";
+			case 0x8a70: return "21585d";
+			case 0x8a71: return "215866";
+			case 0x8a72: return "215859";
+			case 0x8a73: return "21585a";
+			case 0x8a75: return "23325e";
+			case 0x8a76: return "335d23";
+			case 0x8a79: return "215864";
+			case 0x8a7b: return "2d3632";
+			case 0x8a7c: return "21585f";
+			case 0x8a7e: return "2f317d";
+			case 0x8a7f: return "23324f";
+			case 0x8a82: return "233259";
+			case 0x8a84: return "23325d";
+			case 0x8a85: return "215862";
+			case 0x8a86: return "233250";
+			case 0x8a87: return "215861";
+			case 0x8a89: return "275949";
+			case 0x8a8a: return "275937";
+			case 0x8a8c: return "21586d";
+			case 0x8a8d: return "215870";
+			case 0x8a8f: return "233269";
+			case 0x8a91: return "215875";
+			case 0x8a92: return "333642";
+			case 0x8a93: return "21586e";
+			case 0x8a95: return "215923";
+			case 0x8a96: return "23326f";
+			case 0x8a98: return "215874";
+			case 0x8a9a: return "233271";
+			case 0x8a9e: return "21586c";
+			case 0x8aa0: return "215860";
+			case 0x8aa1: return "21586b";
+			case 0x8aa3: return "21586f";
+			case 0x8aa4: return "4b5871";
+			case 0x8aa5: return "215873";
+			case 0x8aa6: return "21586a";
+			case 0x8aa8: return "215872";
+			case 0x8aaa: return "215869";
+			case 0x8aad: return "4b594a";
+			case 0x8aaf: return "233331";
+			case 0x8ab0: return "215922";
+			case 0x8ab2: return "21587c";
+			case 0x8ab6: return "23327e";
+			case 0x8ab9: return "233338";
+			case 0x8abc: return "215876";
+			case 0x8abe: return "233321";
+			case 0x8abf: return "21587d";
+			case 0x8ac2: return "215921";
+			case 0x8ac4: return "215877";
+			case 0x8ac6: return "233327";
+			case 0x8ac7: return "215879";
+			case 0x8ac9: return "21587e";
+			case 0x8acb: return "4b587a";
+			case 0x8acc: return "2d5927";
+			case 0x8acd: return "233336";
+			case 0x8acf: return "233325";
+			case 0x8ad0: return "23333f";
+			case 0x8ad1: return "23332c";
+			case 0x8ad2: return "215878";
+			case 0x8ad3: return "23332d";
+			case 0x8ad4: return "233333";
+			case 0x8ad6: return "215924";
+			case 0x8ad7: return "233340";
+			case 0x8ada: return "696b5c";
+			case 0x8adb: return "23333b";
+			case 0x8adc: return "21592a";
+			case 0x8add: return "23334c";
+			case 0x8ade: return "233362";
+			case 0x8adf: return "233353";
+			case 0x8ae0: return "39365a";
+			case 0x8ae1: return "233363";
+			case 0x8ae2: return "233345";
+			case 0x8ae4: return "233357";
+			case 0x8ae6: return "215925";
+			case 0x8ae7: return "215929";
+			case 0x8ae9: return "2d593d";
+			case 0x8aeb: return "215927";
+			case 0x8aed: return "215930";
+			case 0x8aee: return "2d3622";
+			case 0x8af1: return "215928";
+			case 0x8af3: return "233344";
+			case 0x8af4: return "23334f";
+			case 0x8af5: return "233350";
+			case 0x8af6: return "23334e";
+			case 0x8af7: return "21592f";
+			case 0x8af8: return "21587b";
+			case 0x8afa: return "215926";
+			case 0x8afc: return "23335d";
+			case 0x8afe: return "21592e";
+			case 0x8b00: return "21592b";
+			case 0x8b01: return "2d592c";
+			case 0x8b02: return "21592d";
+			case 0x8b03: return "233356";
+			case 0x8b04: return "215937";
+			case 0x8b05: return "23337a";
+			case 0x8b06: return "233379";
+			case 0x8b07: return "233364";
+			case 0x8b0a: return "215935";
+			case 0x8b0b: return "233378";
+			case 0x8b0c: return "23336b";
+			case 0x8b0e: return "215933";
+			case 0x8b0f: return "23337c";
+			case 0x8b10: return "23337d";
+			case 0x8b14: return "233359";
+			case 0x8b16: return "233373";
+			case 0x8b17: return "215931";
+			case 0x8b19: return "215932";
+			case 0x8b1a: return "2f3363";
+			case 0x8b1b: return "215934";
+			case 0x8b1c: return "23336f";
+			case 0x8b1d: return "215938";
+			case 0x8b1f: return "233376";
+			case 0x8b20: return "4b5936";
+			case 0x8b21: return "215936";
+			case 0x8b26: return "23342d";
+			case 0x8b28: return "21593b";
+			case 0x8b29: return "23343a";
+			case 0x8b2b: return "233422";
+			case 0x8b2c: return "21593a";
+			case 0x8b2d: return "35347b";
+			case 0x8b33: return "233430";
+			case 0x8b37: return "23342a";
+			case 0x8b39: return "215939";
+			case 0x8b3c: return "3f3573";
+			case 0x8b3e: return "233438";
+			case 0x8b3f: return "23344f";
+			case 0x8b41: return "215941";
+			case 0x8b45: return "233473";
+			case 0x8b46: return "23344a";
+			case 0x8b48: return "233442";
+			case 0x8b49: return "21593f";
+			case 0x8b4a: return "233449";
+			case 0x8b4c: return "233349";
+			case 0x8b4d: return "23345f";
+			case 0x8b4e: return "21593e";
+			case 0x8b4f: return "215942";
+			case 0x8b53: return "233448";
+			case 0x8b54: return "233444";
+			case 0x8b56: return "23344d";
+			case 0x8b58: return "21593c";
+			case 0x8b59: return "233459";
+			case 0x8b5a: return "215940";
+			case 0x8b5b: return "35344d";
+			case 0x8b5c: return "21593d";
+			case 0x8b5f: return "2d3748";
+			case 0x8b66: return "215945";
+			case 0x8b6b: return "233468";
+			case 0x8b6c: return "215944";
+			case 0x8b6d: return "23346b";
+			case 0x8b6f: return "215946";
+			case 0x8b70: return "215943";
+			case 0x8b71: return "33523f";
+			case 0x8b72: return "2d594c";
+			case 0x8b74: return "215947";
+			case 0x8b77: return "215948";
+			case 0x8b78: return "233470";
+			case 0x8b7d: return "215949";
+			case 0x8b7e: return "23347b";
+			case 0x8b80: return "21594a";
+			case 0x8b81: return "233479";
+			case 0x8b83: return "2d594f";
+			case 0x8b85: return "233478";
+			case 0x8b87: return "233526";
+			case 0x8b8a: return "21594b";
+			case 0x8b8b: return "233523";
+			case 0x8b8c: return "2d4a28";
+			case 0x8b8e: return "2d306c";
+			case 0x8b90: return "33306c";
+			case 0x8b92: return "21594e";
+			case 0x8b93: return "21594c";
+			case 0x8b94: return "23352e";
+			case 0x8b95: return "23352d";
+			case 0x8b96: return "21594d";
+			case 0x8b99: return "334621";
+			case 0x8b9a: return "21594f";
+			case 0x8b9c: return "233537";
+			case 0x8b9e: return "473539";
+			case 0x8b9f: return "23353a";
+			case 0x8ba0: return "455837";
+			case 0x8ba1: return "275838";
+			case 0x8ba2: return "275839";
+			case 0x8ba3: return "27583a";
+			case 0x8ba4: return "275870";
+			case 0x8ba5: return "275942";
+			case 0x8ba6: return "27583b";
+			case 0x8ba7: return "27583e";
+			case 0x8ba8: return "27583d";
+			case 0x8ba9: return "27594c";
+			case 0x8baa: return "27583f";
+			case 0x8bab: return "275841";
+			case 0x8bad: return "275843";
+			case 0x8bae: return "275943";
+			case 0x8baf: return "275840";
+			case 0x8bb0: return "27583c";
+			case 0x8bb2: return "275934";
+			case 0x8bb3: return "275928";
+			case 0x8bb4: return "293430";
+			case 0x8bb5: return "29322a";
+			case 0x8bb6: return "275846";
+			case 0x8bb7: return "275847";
+			case 0x8bb8: return "275848";
+			case 0x8bb9: return "27584a";
+			case 0x8bba: return "275924";
+			case 0x8bbc: return "27584b";
+			case 0x8bbd: return "27592f";
+			case 0x8bbe: return "275849";
+			case 0x8bbf: return "275844";
+			case 0x8bc0: return "275845";
+			case 0x8bc1: return "27593f";
+			case 0x8bc2: return "275851";
+			case 0x8bc3: return "51356a";
+			case 0x8bc4: return "27584e";
+			case 0x8bc5: return "275853";
+			case 0x8bc6: return "27593c";
+			case 0x8bc8: return "275854";
+			case 0x8bc9: return "275856";
+			case 0x8bca: return "275857";
+			case 0x8bcb: return "275855";
+			case 0x8bcc: return "29337a";
+			case 0x8bcd: return "27584f";
+			case 0x8bce: return "29323b";
+			case 0x8bcf: return "275852";
+			case 0x8bd1: return "275946";
+			case 0x8bd2: return "29323c";
+			case 0x8bd3: return "293250";
+			case 0x8bd4: return "29325d";
+			case 0x8bd5: return "27585b";
+			case 0x8bd6: return "29324f";
+			case 0x8bd7: return "27585c";
+			case 0x8bd8: return "27585d";
+			case 0x8bd9: return "27585f";
+			case 0x8bda: return "275860";
+			case 0x8bdb: return "275862";
+			case 0x8bdc: return "29325e";
+			case 0x8bdd: return "275866";
+			case 0x8bde: return "275923";
+			case 0x8bdf: return "275868";
+			case 0x8be0: return "275867";
+			case 0x8be1: return "275863";
+			case 0x8be2: return "275865";
+			case 0x8be3: return "27585e";
+			case 0x8be4: return "293336";
+			case 0x8be5: return "275859";
+			case 0x8be6: return "27585a";
+			case 0x8be7: return "275858";
+			case 0x8be8: return "293345";
+			case 0x8be9: return "293256";
+			case 0x8beb: return "27586b";
+			case 0x8bec: return "27586f";
+			case 0x8bed: return "27586c";
+			case 0x8bee: return "293271";
+			case 0x8bef: return "275871";
+			case 0x8bf0: return "275873";
+			case 0x8bf1: return "275874";
+			case 0x8bf2: return "275872";
+			case 0x8bf3: return "275875";
+			case 0x8bf4: return "275869";
+			case 0x8bf5: return "27586a";
+			case 0x8bf6: return "4b3642";
+			case 0x8bf7: return "27587a";
+			case 0x8bf8: return "27587b";
+			case 0x8bf9: return "293325";
+			case 0x8bfa: return "27592e";
+			case 0x8bfb: return "27594a";
+			case 0x8bfc: return "29332c";
+			case 0x8bfd: return "293338";
+			case 0x8bfe: return "27587c";
+			case 0x8bff: return "27587e";
+			case 0x8c00: return "29333b";
+			case 0x8c01: return "275922";
+			case 0x8c02: return "293340";
+			case 0x8c03: return "27587d";
+			case 0x8c04: return "275921";
+			case 0x8c05: return "275878";
+			case 0x8c06: return "275877";
+			case 0x8c07: return "29327e";
+			case 0x8c08: return "275879";
+			case 0x8c0a: return "275876";
+			case 0x8c0b: return "27592b";
+			case 0x8c0c: return "29334e";
+			case 0x8c0d: return "27592a";
+			case 0x8c0e: return "275935";
+			case 0x8c0f: return "275927";
+			case 0x8c10: return "275929";
+			case 0x8c11: return "293359";
+			case 0x8c12: return "27592c";
+			case 0x8c13: return "27592d";
+			case 0x8c14: return "293357";
+			case 0x8c15: return "275930";
+			case 0x8c16: return "29335d";
+			case 0x8c17: return "27594e";
+			case 0x8c18: return "4b3622";
+			case 0x8c19: return "293344";
+			case 0x8c1a: return "275926";
+			case 0x8c1b: return "275925";
+			case 0x8c1c: return "275933";
+			case 0x8c1d: return "293362";
+			case 0x8c1f: return "27593b";
+			case 0x8c20: return "293537";
+			case 0x8c21: return "293373";
+			case 0x8c22: return "275938";
+			case 0x8c23: return "275936";
+			case 0x8c24: return "275931";
+			case 0x8c25: return "4d3363";
+			case 0x8c26: return "275932";
+			case 0x8c27: return "29337d";
+			case 0x8c28: return "275939";
+			case 0x8c29: return "293438";
+			case 0x8c2a: return "473422";
+			case 0x8c2b: return "47347b";
+			case 0x8c2c: return "27593a";
+			case 0x8c2d: return "275940";
+			case 0x8c2e: return "29344d";
+			case 0x8c2f: return "293459";
+			case 0x8c30: return "29352d";
+			case 0x8c31: return "27593d";
+			case 0x8c32: return "27593e";
+			case 0x8c33: return "293539";
+			case 0x8c34: return "275947";
+			case 0x8c35: return "293468";
+			case 0x8c36: return "27594d";
+			case 0x8c37: return "274f40";
+			case 0x8c3a: return "23353d";
+			case 0x8c3f: return "215952";
+			case 0x8c40: return "233544";
+			case 0x8c41: return "215951";
+			case 0x8c42: return "233545";
+			case 0x8c46: return "215953";
+			case 0x8c47: return "23354b";
+			case 0x8c48: return "215954";
+			case 0x8c49: return "215955";
+			case 0x8c4a: return "335958";
+			case 0x8c4b: return "23354d";
+			case 0x8c4c: return "215956";
+			case 0x8c4e: return "215957";
+			case 0x8c4f: return "233550";
+			case 0x8c50: return "215958";
+			case 0x8c54: return "215959";
+			case 0x8c55: return "233552";
+			case 0x8c57: return "233554";
+			case 0x8c5a: return "21595a";
+			case 0x8c5c: return "233555";
+			case 0x8c5d: return "233556";
+			case 0x8c61: return "273257";
+			case 0x8c62: return "21595c";
+			case 0x8c68: return "233563";
+			case 0x8c6a: return "21595d";
+			case 0x8c6b: return "21595e";
+			case 0x8c6c: return "21595f";
+			case 0x8c6d: return "233565";
+			case 0x8c73: return "23356d";
+			case 0x8c74: return "23356f";
+			case 0x8c75: return "233571";
+			case 0x8c76: return "233574";
+			case 0x8c77: return "233573";
+			case 0x8c78: return "23357b";
+			case 0x8c79: return "215961";
+			case 0x8c7a: return "215960";
+			case 0x8c7b: return "23357d";
+			case 0x8c7c: return "2f3639";
+			case 0x8c82: return "215962";
+			case 0x8c85: return "23362d";
+			case 0x8c86: return "23362a";
+			case 0x8c88: return "23362e";
+			case 0x8c89: return "215964";
+			case 0x8c8a: return "215963";
+			case 0x8c8c: return "215966";
+			case 0x8c8d: return "215965";
+			case 0x8c8e: return "355d5c";
+			case 0x8c93: return "215967";
+			case 0x8c94: return "233639";
+			case 0x8c98: return "2d5963";
+			case 0x8c9b: return "233641";
+			case 0x8c9d: return "215968";
+			case 0x8c9e: return "215969";
+			case 0x8c9f: return "233643";
+			case 0x8ca0: return "21596a";
+			case 0x8ca1: return "21596c";
+			case 0x8ca2: return "21596b";
+			case 0x8ca4: return "233644";
+			case 0x8ca7: return "215971";
+			case 0x8ca8: return "21596f";
+			case 0x8ca9: return "215972";
+			case 0x8caa: return "215970";
+			case 0x8cab: return "21596e";
+			case 0x8cac: return "21596d";
+			case 0x8cad: return "2d5a34";
+			case 0x8cae: return "513051";
+			case 0x8caf: return "215973";
+			case 0x8cb0: return "23364e";
+			case 0x8cb2: return "215a26";
+			case 0x8cb3: return "333051";
+			case 0x8cb4: return "215978";
+			case 0x8cb5: return "233652";
+			case 0x8cb6: return "21597b";
+			case 0x8cb7: return "21597a";
+			case 0x8cb8: return "21597d";
+			case 0x8cb9: return "233653";
+			case 0x8cba: return "233651";
+			case 0x8cbb: return "215975";
+			case 0x8cbc: return "215979";
+			case 0x8cbd: return "21597c";
+			case 0x8cbf: return "21597e";
+			case 0x8cc0: return "215977";
+			case 0x8cc1: return "215976";
+			case 0x8cc2: return "215a28";
+			case 0x8cc3: return "215a27";
+			case 0x8cc4: return "215a25";
+			case 0x8cc5: return "215a21";
+			case 0x8cc7: return "215a22";
+			case 0x8cc8: return "215a24";
+			case 0x8cc9: return "393e47";
+			case 0x8cca: return "215a23";
+			case 0x8ccd: return "233657";
+			case 0x8cce: return "4b5a31";
+			case 0x8cd1: return "215a2a";
+			case 0x8cd2: return "215a2b";
+			case 0x8cd3: return "215a29";
+			case 0x8cd5: return "23365f";
+			case 0x8cd8: return "23365e";
+			case 0x8cd9: return "233674";
+			case 0x8cda: return "233670";
+			case 0x8cdb: return "2d5a3d";
+			case 0x8cdc: return "215a33";
+			case 0x8cdd: return "233672";
+			case 0x8cde: return "215a32";
+			case 0x8ce0: return "215a2c";
+			case 0x8ce1: return "23366a";
+			case 0x8ce2: return "215a30";
+			case 0x8ce3: return "215a2f";
+			case 0x8ce4: return "215a31";
+			case 0x8ce6: return "215a2d";
+			case 0x8ce8: return "233667";
+			case 0x8ce9: return "233668";
+			case 0x8cea: return "215a34";
+			case 0x8ceb: return "23366f";
+			case 0x8cec: return "333c52";
+			case 0x8ced: return "215a35";
+			case 0x8cee: return "233676";
+			case 0x8cf1: return "23367b";
+			case 0x8cf4: return "215a36";
+			case 0x8cf5: return "23367c";
+			case 0x8cf7: return "233721";
+			case 0x8cf8: return "2d3377";
+			case 0x8cfa: return "215a38";
+			case 0x8cfb: return "23367e";
+			case 0x8cfc: return "215a3a";
+			case 0x8cfd: return "215a37";
+			case 0x8cfe: return "233726";
+			case 0x8d04: return "233725";
+			case 0x8d05: return "215a39";
+			case 0x8d07: return "23372b";
+			case 0x8d08: return "4b5a3b";
+			case 0x8d09: return "23372d";
+			case 0x8d0a: return "215a3d";
+			case 0x8d0b: return "215a3c";
+			case 0x8d0c: return "233732";
+			case 0x8d0d: return "215a3f";
+			case 0x8d0f: return "215a3e";
+			case 0x8d10: return "23373a";
+			case 0x8d11: return "233739";
+			case 0x8d12: return "23373b";
+			case 0x8d13: return "215a40";
+			case 0x8d14: return "23373d";
+			case 0x8d16: return "215a41";
+			case 0x8d18: return "23373e";
+			case 0x8d1b: return "215a42";
+			case 0x8d1d: return "275968";
+			case 0x8d1e: return "275969";
+			case 0x8d1f: return "27596a";
+			case 0x8d21: return "27596b";
+			case 0x8d22: return "27596c";
+			case 0x8d23: return "27596d";
+			case 0x8d24: return "275a30";
+			case 0x8d25: return "274247";
+			case 0x8d26: return "393c52";
+			case 0x8d27: return "27596f";
+			case 0x8d28: return "275a34";
+			case 0x8d29: return "275972";
+			case 0x8d2a: return "275970";
+			case 0x8d2b: return "275971";
+			case 0x8d2c: return "27597b";
+			case 0x8d2d: return "275a3a";
+			case 0x8d2e: return "4b5973";
+			case 0x8d2f: return "27596e";
+			case 0x8d30: return "453051";
+			case 0x8d31: return "275a31";
+			case 0x8d32: return "275976";
+			case 0x8d33: return "29364e";
+			case 0x8d34: return "275979";
+			case 0x8d35: return "275978";
+			case 0x8d36: return "293651";
+			case 0x8d37: return "27597d";
+			case 0x8d38: return "27597e";
+			case 0x8d39: return "275975";
+			case 0x8d3a: return "275977";
+			case 0x8d3b: return "27597c";
+			case 0x8d3c: return "275a23";
+			case 0x8d3d: return "293725";
+			case 0x8d3e: return "275a24";
+			case 0x8d3f: return "275a25";
+			case 0x8d40: return "275a26";
+			case 0x8d41: return "275a27";
+			case 0x8d42: return "275a28";
+			case 0x8d43: return "275a40";
+			case 0x8d44: return "275a22";
+			case 0x8d45: return "275a21";
+			case 0x8d46: return "29373a";
+			case 0x8d47: return "29365f";
+			case 0x8d48: return "275a2a";
+			case 0x8d49: return "293670";
+			case 0x8d4a: return "275a2b";
+			case 0x8d4b: return "275a2d";
+			case 0x8d4c: return "275a35";
+			case 0x8d4d: return "47366f";
+			case 0x8d4e: return "275a41";
+			case 0x8d4f: return "275a32";
+			case 0x8d50: return "275a33";
+			case 0x8d53: return "29366a";
+			case 0x8d54: return "275a2c";
+			case 0x8d55: return "29366b";
+			case 0x8d56: return "275a36";
+			case 0x8d58: return "275a39";
+			case 0x8d59: return "29367e";
+			case 0x8d5a: return "275a38";
+			case 0x8d5b: return "275a37";
+			case 0x8d5c: return "293726";
+			case 0x8d5d: return "275a3c";
+			case 0x8d5e: return "275a3d";
+			case 0x8d60: return "275a3b";
+			case 0x8d61: return "275a3f";
+			case 0x8d62: return "275a3e";
+			case 0x8d63: return "275a42";
+			case 0x8d64: return "215a43";
+			case 0x8d66: return "215a45";
+			case 0x8d67: return "215a44";
+			case 0x8d6b: return "215a46";
+			case 0x8d6c: return "233748";
+			case 0x8d6d: return "215a47";
+			case 0x8d70: return "215a48";
+			case 0x8d71: return "2d5a48";
+			case 0x8d73: return "215a4a";
+			case 0x8d74: return "215a49";
+			case 0x8d75: return "275a4f";
+			case 0x8d76: return "275a50";
+			case 0x8d77: return "215a4b";
+			case 0x8d78: return "233752";
+			case 0x8d7a: return "23375c";
+			case 0x8d81: return "215a4e";
+			case 0x8d82: return "2d5a4e";
+			case 0x8d84: return "233761";
+			case 0x8d85: return "215a4c";
+			case 0x8d8a: return "215a4d";
+			case 0x8d8b: return "275a53";
+			case 0x8d8d: return "233775";
+			case 0x8d91: return "2f3833";
+			case 0x8d94: return "233771";
+			case 0x8d95: return "215a50";
+			case 0x8d96: return "233822";
+			case 0x8d99: return "215a4f";
+			case 0x8d9f: return "215a52";
+			case 0x8da1: return "23382f";
+			case 0x8da3: return "215a51";
+			case 0x8da6: return "233833";
+			case 0x8da8: return "215a53";
+			case 0x8dab: return "233852";
+			case 0x8daf: return "233859";
+			case 0x8db0: return "23385a";
+			case 0x8db1: return "293866";
+			case 0x8db2: return "233866";
+			case 0x8db3: return "215a54";
+			case 0x8db4: return "215a55";
+			case 0x8db5: return "3b3922";
+			case 0x8db8: return "275b26";
+			case 0x8db9: return "233870";
+			case 0x8dba: return "23386f";
+			case 0x8dbc: return "23386e";
+			case 0x8dbe: return "215a56";
+			case 0x8dbf: return "233873";
+			case 0x8dc1: return "233872";
+			case 0x8dc2: return "233871";
+			case 0x8dc3: return "275b29";
+			case 0x8dc4: return "293a2e";
+			case 0x8dc5: return "23392b";
+			case 0x8dc6: return "215a5c";
+			case 0x8dcb: return "215a5a";
+			case 0x8dcc: return "215a5e";
+			case 0x8dce: return "215a57";
+			case 0x8dcf: return "233921";
+			case 0x8dd0: return "233927";
+			case 0x8dd1: return "215a5d";
+			case 0x8dd6: return "233922";
+			case 0x8dd7: return "2f386f";
+			case 0x8dda: return "215a5b";
+			case 0x8ddb: return "215a59";
+			case 0x8ddd: return "215a58";
+			case 0x8dde: return "293a5f";
+			case 0x8ddf: return "215a60";
+			case 0x8de1: return "215a5f";
+			case 0x8de3: return "23393b";
+			case 0x8de4: return "23392f";
+			case 0x8de5: return "2d5a63";
+			case 0x8de6: return "23393a";
+			case 0x8de7: return "23393d";
+			case 0x8de8: return "215a61";
+			case 0x8de9: return "233938";
+			case 0x8dea: return "215a64";
+			case 0x8deb: return "233935";
+			case 0x8dec: return "233934";
+			case 0x8def: return "215a65";
+			case 0x8df2: return "23393e";
+			case 0x8df3: return "215a62";
+			case 0x8df4: return "233936";
+			case 0x8df5: return "4b5a68";
+			case 0x8df7: return "275a7e";
+			case 0x8df8: return "293a40";
+			case 0x8df9: return "293a5e";
+			case 0x8dfa: return "215a63";
+			case 0x8dfb: return "293a57";
+			case 0x8dfc: return "215a66";
+			case 0x8dfd: return "233941";
+			case 0x8dff: return "233944";
+			case 0x8e01: return "233949";
+			case 0x8e04: return "23394e";
+			case 0x8e05: return "233946";
+			case 0x8e06: return "233950";
+			case 0x8e08: return "334c3e";
+			case 0x8e09: return "23393f";
+			case 0x8e0a: return "275a71";
+			case 0x8e0c: return "275b28";
+			case 0x8e0f: return "215a6b";
+			case 0x8e10: return "215a68";
+			case 0x8e14: return "233968";
+			case 0x8e16: return "233964";
+			case 0x8e18: return "233969";
+			case 0x8e1d: return "215a6a";
+			case 0x8e1e: return "23395c";
+			case 0x8e1f: return "215a6d";
+			case 0x8e21: return "233958";
+			case 0x8e22: return "215a69";
+			case 0x8e23: return "233954";
+			case 0x8e26: return "233966";
+			case 0x8e27: return "233967";
+			case 0x8e28: return "335a7b";
+			case 0x8e29: return "215a6c";
+			case 0x8e2a: return "233952";
+			case 0x8e2b: return "215a67";
+			case 0x8e2c: return "293a60";
+			case 0x8e2e: return "233957";
+			case 0x8e2f: return "275b2a";
+			case 0x8e30: return "233a21";
+			case 0x8e31: return "215a6f";
+			case 0x8e34: return "215a71";
+			case 0x8e35: return "215a73";
+			case 0x8e36: return "233979";
+			case 0x8e39: return "215a72";
+			case 0x8e3a: return "70755d";
+			case 0x8e3d: return "23397e";
+			case 0x8e40: return "233977";
+			case 0x8e41: return "23396f";
+			case 0x8e42: return "215a70";
+			case 0x8e44: return "215a6e";
+			case 0x8e46: return "233a26";
+			case 0x8e47: return "233a24";
+			case 0x8e48: return "215a76";
+			case 0x8e49: return "215a74";
+			case 0x8e4a: return "215a77";
+			case 0x8e4b: return "215a75";
+			case 0x8e4c: return "233a2e";
+			case 0x8e4f: return "233a32";
+			case 0x8e50: return "233a30";
+			case 0x8e51: return "275b2b";
+			case 0x8e52: return "275a78";
+			case 0x8e54: return "233a3a";
+			case 0x8e55: return "233a40";
+			case 0x8e59: return "215a79";
+			case 0x8e5a: return "233a3e";
+			case 0x8e5c: return "233a34";
+			case 0x8e5d: return "233a43";
+			case 0x8e5e: return "233a3f";
+			case 0x8e5f: return "2d5a5f";
+			case 0x8e60: return "233a36";
+			case 0x8e61: return "233a41";
+			case 0x8e62: return "233a35";
+			case 0x8e63: return "215a78";
+			case 0x8e64: return "215a7b";
+			case 0x8e66: return "215a7a";
+			case 0x8e67: return "233a3b";
+			case 0x8e69: return "233a4b";
+			case 0x8e6c: return "215a7d";
+			case 0x8e6d: return "233a48";
+			case 0x8e6e: return "2f3a5e";
+			case 0x8e6f: return "334c37";
+			case 0x8e70: return "293a46";
+			case 0x8e72: return "215a7c";
+			case 0x8e74: return "233a45";
+			case 0x8e75: return "233a44";
+			case 0x8e76: return "215b21";
+			case 0x8e7a: return "215a7e";
+			case 0x8e7b: return "2d5a7e";
+			case 0x8e7c: return "215b22";
+			case 0x8e7f: return "293a6b";
+			case 0x8e81: return "215b24";
+			case 0x8e82: return "215b23";
+			case 0x8e83: return "233a52";
+			case 0x8e84: return "233a53";
+			case 0x8e85: return "215b27";
+			case 0x8e87: return "215b25";
+			case 0x8e89: return "215b26";
+			case 0x8e8a: return "215b28";
+			case 0x8e8b: return "233a57";
+			case 0x8e8d: return "4b5b29";
+			case 0x8e8f: return "275b2c";
+			case 0x8e90: return "233a62";
+			case 0x8e91: return "215b2a";
+			case 0x8e92: return "233a5f";
+			case 0x8e93: return "233a60";
+			case 0x8e94: return "233a5d";
+			case 0x8e95: return "233a46";
+			case 0x8e98: return "233a63";
+			case 0x8e99: return "233a72";
+			case 0x8e9a: return "233a5e";
+			case 0x8e9c: return "293a70";
+			case 0x8e9e: return "233a64";
+			case 0x8ea1: return "215b2b";
+			case 0x8ea5: return "233a6b";
+			case 0x8ea7: return "233a6f";
+			case 0x8ea9: return "233a71";
+			case 0x8eaa: return "215b2c";
+			case 0x8eab: return "215b2d";
+			case 0x8eac: return "215b2e";
+			case 0x8ead: return "2d526c";
+			case 0x8eaf: return "275b31";
+			case 0x8eb0: return "33615a";
+			case 0x8eb1: return "2d5b2f";
+			case 0x8eb2: return "215b2f";
+			case 0x8eb3: return "233a78";
+			case 0x8eb6: return "233a7d";
+			case 0x8eba: return "215b30";
+			case 0x8ebc: return "233a7a";
+			case 0x8ebe: return "696d3f";
+			case 0x8ec0: return "215b31";
+			case 0x8ec5: return "696d40";
+			case 0x8ec6: return "2d615a";
+			case 0x8ec8: return "696d41";
+			case 0x8ec9: return "233b2e";
+			case 0x8eca: return "215b32";
+			case 0x8ecb: return "215b33";
+			case 0x8ecc: return "215b35";
+			case 0x8ecd: return "215b34";
+			case 0x8ece: return "233b31";
+			case 0x8ecf: return "233b2f";
+			case 0x8ed2: return "215b36";
+			case 0x8ed4: return "215b37";
+			case 0x8ed5: return "233b33";
+			case 0x8edb: return "215b39";
+			case 0x8edf: return "215b38";
+			case 0x8ee2: return "4b5b55";
+			case 0x8ee3: return "4b5b58";
+			case 0x8ee8: return "233b4b";
+			case 0x8eeb: return "233b4f";
+			case 0x8ef8: return "215b3b";
+			case 0x8ef9: return "233b42";
+			case 0x8efa: return "233b3f";
+			case 0x8efb: return "215b3a";
+			case 0x8efc: return "215b3c";
+			case 0x8efd: return "2d5b43";
+			case 0x8efe: return "215b3e";
+			case 0x8eff: return "233b51";
+			case 0x8f00: return "233b56";
+			case 0x8f03: return "215b3d";
+			case 0x8f05: return "233b59";
+			case 0x8f07: return "233b5b";
+			case 0x8f08: return "233b5a";
+			case 0x8f09: return "215b3f";
+			case 0x8f0a: return "215b40";
+			case 0x8f0c: return "4b5b46";
+			case 0x8f12: return "215b42";
+			case 0x8f13: return "215b44";
+			case 0x8f14: return "215b41";
+			case 0x8f15: return "215b43";
+			case 0x8f17: return "233b75";
+			case 0x8f19: return "2d5b42";
+			case 0x8f1b: return "215b46";
+			case 0x8f1c: return "215b4b";
+			case 0x8f1d: return "215b48";
+			case 0x8f1e: return "233b6b";
+			case 0x8f1f: return "215b47";
+			case 0x8f20: return "233b6e";
+			case 0x8f25: return "233b6d";
+			case 0x8f26: return "215b45";
+			case 0x8f27: return "233b63";
+			case 0x8f29: return "215b49";
+			case 0x8f2a: return "215b4a";
+			case 0x8f2c: return "233b64";
+			case 0x8f2d: return "233b7d";
+			case 0x8f2e: return "233b79";
+			case 0x8f2f: return "215b4d";
+			case 0x8f33: return "233b7a";
+			case 0x8f34: return "233c27";
+			case 0x8f36: return "233b78";
+			case 0x8f38: return "215b4e";
+			case 0x8f39: return "233c26";
+			case 0x8f3b: return "215b4c";
+			case 0x8f3c: return "2f3c2d";
+			case 0x8f3e: return "215b50";
+			case 0x8f3f: return "215b53";
+			case 0x8f40: return "233c2d";
+			case 0x8f42: return "4b5b52";
+			case 0x8f44: return "215b4f";
+			case 0x8f45: return "215b51";
+			case 0x8f46: return "233c30";
+			case 0x8f47: return "233c33";
+			case 0x8f49: return "215b55";
+			case 0x8f4a: return "233c31";
+			case 0x8f4c: return "696d5a";
+			case 0x8f4d: return "215b54";
+			case 0x8f4e: return "215b57";
+			case 0x8f52: return "233c3d";
+			case 0x8f54: return "215b56";
+			case 0x8f55: return "233c4b";
+			case 0x8f56: return "233c48";
+			case 0x8f57: return "233c49";
+			case 0x8f58: return "233c4c";
+			case 0x8f5c: return "233c4d";
+			case 0x8f5d: return "233c53";
+			case 0x8f5e: return "233c4e";
+			case 0x8f5f: return "215b58";
+			case 0x8f61: return "215b59";
+			case 0x8f62: return "233c57";
+			case 0x8f63: return "233c59";
+			case 0x8f64: return "233c5a";
+			case 0x8f66: return "275b32";
+			case 0x8f67: return "275b33";
+			case 0x8f68: return "275b35";
+			case 0x8f69: return "275b36";
+			case 0x8f6b: return "275b37";
+			case 0x8f6c: return "275b55";
+			case 0x8f6d: return "275b39";
+			case 0x8f6e: return "275b4a";
+			case 0x8f6f: return "275b38";
+			case 0x8f70: return "275b58";
+			case 0x8f71: return "293b3e";
+			case 0x8f72: return "275b3a";
+			case 0x8f73: return "293c5a";
+			case 0x8f74: return "275b3b";
+			case 0x8f75: return "293b42";
+			case 0x8f76: return "275b3c";
+			case 0x8f77: return "293b47";
+			case 0x8f78: return "293b4f";
+			case 0x8f79: return "293c57";
+			case 0x8f7a: return "293b3f";
+			case 0x8f7b: return "275b43";
+			case 0x8f7c: return "275b3e";
+			case 0x8f7d: return "275b3f";
+			case 0x8f7e: return "275b40";
+			case 0x8f7f: return "275b57";
+			case 0x8f81: return "293b5b";
+			case 0x8f82: return "293b59";
+			case 0x8f83: return "275b3d";
+			case 0x8f84: return "275b42";
+			case 0x8f85: return "275b41";
+			case 0x8f86: return "275b46";
+			case 0x8f87: return "275b45";
+			case 0x8f88: return "275b49";
+			case 0x8f89: return "275b48";
+			case 0x8f8a: return "293b6d";
+			case 0x8f8b: return "293b6b";
+			case 0x8f8d: return "275b47";
+			case 0x8f8e: return "275b4b";
+			case 0x8f8f: return "293b7a";
+			case 0x8f90: return "275b4c";
+			case 0x8f91: return "275b4d";
+			case 0x8f93: return "275b4e";
+			case 0x8f94: return "275b59";
+			case 0x8f95: return "275b51";
+			case 0x8f96: return "275b4f";
+			case 0x8f97: return "275b50";
+			case 0x8f98: return "293c30";
+			case 0x8f99: return "275b54";
+			case 0x8f9a: return "275b56";
+			case 0x8f9b: return "215b5a";
+			case 0x8f9c: return "215b5b";
+			case 0x8f9e: return "275b60";
+			case 0x8f9f: return "4b5c54";
+			case 0x8fa0: return "2d5232";
+			case 0x8fa2: return "2d5b5d";
+			case 0x8fa3: return "215b5d";
+			case 0x8fa4: return "233c65";
+			case 0x8fa5: return "233c66";
+			case 0x8fa6: return "215b5f";
+			case 0x8fa7: return "2d5b5e";
+			case 0x8fa8: return "215b5e";
+			case 0x8fa9: return "275b61";
+			case 0x8fab: return "27517a";
+			case 0x8fad: return "215b60";
+			case 0x8fae: return "21517a";
+			case 0x8faf: return "215b61";
+			case 0x8fb0: return "215b62";
+			case 0x8fb1: return "215b63";
+			case 0x8fb2: return "215b64";
+			case 0x8fb5: return "233c6c";
+			case 0x8fb6: return "4d3c6c";
+			case 0x8fb7: return "233c6d";
+			case 0x8fb9: return "275c5b";
+			case 0x8fba: return "4b5c5b";
+			case 0x8fbb: return "233c6e";
+			case 0x8fbc: return "233c70";
+			case 0x8fbd: return "275c52";
+			case 0x8fbe: return "275c39";
+			case 0x8fbf: return "233c74";
+			case 0x8fc1: return "275c51";
+			case 0x8fc2: return "275c3c";
+			case 0x8fc4: return "215b68";
+			case 0x8fc5: return "215b67";
+			case 0x8fc6: return "215b66";
+			case 0x8fc7: return "275c3e";
+			case 0x8fc8: return "275c56";
+			case 0x8fca: return "233c7a";
+			case 0x8fcb: return "233c77";
+			case 0x8fcd: return "233c7d";
+			case 0x8fce: return "215b6a";
+			case 0x8fd0: return "275c34";
+			case 0x8fd1: return "215b6b";
+			case 0x8fd2: return "233c75";
+			case 0x8fd3: return "233c7b";
+			case 0x8fd4: return "215b6c";
+			case 0x8fd5: return "233d22";
+			case 0x8fd8: return "275c57";
+			case 0x8fd9: return "275b7d";
+			case 0x8fda: return "233d21";
+			case 0x8fdb: return "275c33";
+			case 0x8fdc: return "275c44";
+			case 0x8fdd: return "275c3a";
+			case 0x8fde: return "275b7e";
+			case 0x8fdf: return "275c50";
+			case 0x8fe2: return "215b6f";
+			case 0x8fe4: return "233d2f";
+			case 0x8fe5: return "215b71";
+			case 0x8fe6: return "215b6e";
+			case 0x8fe8: return "2d5c2f";
+			case 0x8fe9: return "2d5c5a";
+			case 0x8fea: return "215b70";
+			case 0x8feb: return "215b73";
+			case 0x8fed: return "274c3c";
+			case 0x8fee: return "233d30";
+			case 0x8fef: return "2d5b7a";
+			case 0x8ff0: return "275b6d";
+			case 0x8ff3: return "513d67";
+			case 0x8ff4: return "333768";
+			case 0x8ff7: return "215b76";
+			case 0x8ff8: return "293d4e";
+			case 0x8ff9: return "233d35";
+			case 0x8ffa: return "33303a";
+			case 0x8ffb: return "233d3c";
+			case 0x8ffd: return "215b7b";
+			case 0x9000: return "215b77";
+			case 0x9001: return "215b74";
+			case 0x9002: return "275c49";
+			case 0x9003: return "215b7a";
+			case 0x9004: return "233d3f";
+			case 0x9005: return "215b7c";
+			case 0x9006: return "215b75";
+			case 0x9008: return "233d40";
+			case 0x9009: return "275c4f";
+			case 0x900a: return "275c45";
+			case 0x900b: return "233d45";
+			case 0x900c: return "233d48";
+			case 0x900d: return "215c26";
+			case 0x900e: return "2f3d5d";
+			case 0x900f: return "215c2a";
+			case 0x9010: return "215c24";
+			case 0x9011: return "233d44";
+			case 0x9012: return "275c48";
+			case 0x9013: return "2d5c48";
+			case 0x9014: return "215c2e";
+			case 0x9015: return "2d3d67";
+			case 0x9016: return "215c2c";
+			case 0x9017: return "215c22";
+			case 0x9019: return "215b7d";
+			case 0x901a: return "215c28";
+			case 0x901b: return "215c2d";
+			case 0x901d: return "215c23";
+			case 0x901e: return "215c27";
+			case 0x901f: return "215c21";
+			case 0x9020: return "215c29";
+			case 0x9021: return "233d49";
+			case 0x9022: return "215c2b";
+			case 0x9023: return "215b7e";
+			case 0x9026: return "275c5c";
+			case 0x9027: return "696d7a";
+			case 0x9029: return "33392f";
+			case 0x902c: return "233d4e";
+			case 0x902d: return "233d4a";
+			case 0x902e: return "215c2f";
+			case 0x902f: return "233d58";
+			case 0x9031: return "215c31";
+			case 0x9032: return "215c33";
+			case 0x9034: return "233d57";
+			case 0x9035: return "215c30";
+			case 0x9036: return "233d59";
+			case 0x9037: return "233d56";
+			case 0x9038: return "4b5c32";
+			case 0x9039: return "4b5c39";
+			case 0x903b: return "275c5d";
+			case 0x903c: return "215c3b";
+			case 0x903e: return "215c42";
+			case 0x9041: return "215c41";
+			case 0x9042: return "215c37";
+			case 0x9044: return "233d6a";
+			case 0x9045: return "4b5c50";
+			case 0x9046: return "233d5b";
+			case 0x9047: return "215c3c";
+			case 0x9049: return "233d67";
+			case 0x904a: return "33477b";
+			case 0x904b: return "215c34";
+			case 0x904d: return "215c3f";
+			case 0x904e: return "215c3e";
+			case 0x904f: return "215c3d";
+			case 0x9050: return "215c38";
+			case 0x9051: return "215c40";
+			case 0x9052: return "233d5d";
+			case 0x9053: return "215c36";
+			case 0x9054: return "215c39";
+			case 0x9055: return "215c3a";
+			case 0x9056: return "696e28";
+			case 0x9057: return "275c53";
+			case 0x9058: return "215c43";
+			case 0x9059: return "4b5c47";
+			case 0x905b: return "233d78";
+			case 0x905c: return "215c45";
+			case 0x905d: return "233d75";
+			case 0x905e: return "215c48";
+			case 0x9060: return "215c44";
+			case 0x9061: return "39483b";
+			case 0x9062: return "233d74";
+			case 0x9063: return "215c46";
+			case 0x9065: return "215c47";
+			case 0x9068: return "215c4b";
+			case 0x9069: return "215c49";
+			case 0x906b: return "233d7b";
+			case 0x906d: return "215c4c";
+			case 0x906e: return "215c4a";
+			case 0x906f: return "233e25";
+			case 0x9070: return "233e21";
+			case 0x9072: return "215c50";
+			case 0x9074: return "215c4e";
+			case 0x9075: return "215c4d";
+			case 0x9076: return "233e28";
+			case 0x9077: return "215c51";
+			case 0x9078: return "215c4f";
+			case 0x9079: return "233e26";
+			case 0x907a: return "215c53";
+			case 0x907b: return "233e2a";
+			case 0x907c: return "215c52";
+			case 0x907d: return "215c55";
+			case 0x907f: return "215c54";
+			case 0x9080: return "215c59";
+			case 0x9081: return "215c56";
+			case 0x9082: return "215c58";
+			case 0x9083: return "233e34";
+			case 0x9084: return "215c57";
+			case 0x9085: return "233e2c";
+			case 0x9087: return "215c5a";
+			case 0x9088: return "233e37";
+			case 0x9089: return "2d5c5b";
+			case 0x908a: return "215c5b";
+			case 0x908b: return "233e3a";
+			case 0x908f: return "215c5d";
+			case 0x9090: return "215c5c";
+			case 0x9091: return "215c5e";
+			case 0x9093: return "275c75";
+			case 0x9095: return "215c5f";
+			case 0x9097: return "233e40";
+			case 0x9099: return "233e3f";
+			case 0x909b: return "233e43";
+			case 0x909c: return "233e44";
+			case 0x909d: return "294031";
+			case 0x90a0: return "233e54";
+			case 0x90a1: return "233e48";
+			case 0x90a2: return "215c61";
+			case 0x90a3: return "215c60";
+			case 0x90a6: return "215c63";
+			case 0x90a8: return "233e51";
+			case 0x90aa: return "215c62";
+			case 0x90ac: return "293f5c";
+			case 0x90ad: return "233e5f";
+			case 0x90ae: return "275c6d";
+			case 0x90af: return "233e58";
+			case 0x90b0: return "233e5d";
+			case 0x90b1: return "215c65";
+			case 0x90b2: return "233e61";
+			case 0x90b3: return "233e59";
+			case 0x90b4: return "2f4a2e";
+			case 0x90b5: return "215c64";
+			case 0x90b6: return "233e5b";
+			case 0x90b8: return "215c66";
+			case 0x90b9: return "275c71";
+			case 0x90ba: return "29402b";
+			case 0x90bb: return "275c74";
+			case 0x90bd: return "233e6a";
+			case 0x90be: return "233e72";
+			case 0x90c1: return "27616a";
+			case 0x90c3: return "233e79";
+			case 0x90c4: return "335f34";
+			case 0x90c5: return "34782a";
+			case 0x90c7: return "233e75";
+			case 0x90c8: return "233e78";
+			case 0x90c9: return "233e68";
+			case 0x90ca: return "215c68";
+			case 0x90ce: return "215c67";
+			case 0x90cf: return "293f23";
+			case 0x90d0: return "29402c";
+			case 0x90d1: return "275c73";
+			case 0x90d3: return "293f4c";
+			case 0x90d5: return "233e6f";
+			case 0x90d7: return "233f2c";
+			case 0x90d8: return "233f27";
+			case 0x90db: return "233f28";
+			case 0x90dc: return "233f2a";
+			case 0x90dd: return "233f22";
+			case 0x90df: return "233f23";
+			case 0x90e1: return "215c6a";
+			case 0x90e2: return "233f26";
+			case 0x90e4: return "233f2d";
+			case 0x90e6: return "294040";
+			case 0x90e7: return "293f5a";
+			case 0x90e8: return "215c6b";
+			case 0x90ea: return "233f2f";
+			case 0x90eb: return "233f3e";
+			case 0x90ed: return "215c6c";
+			case 0x90ef: return "233f2e";
+			case 0x90f0: return "233f32";
+			case 0x90f2: return "233f34";
+			case 0x90f3: return "233f3f";
+			case 0x90f4: return "233f33";
+			case 0x90f5: return "215c6d";
+			case 0x90f8: return "294021";
+			case 0x90fc: return "233f46";
+			case 0x90fd: return "215c6e";
+			case 0x90fe: return "233f47";
+			case 0x90ff: return "233f4a";
+			case 0x9100: return "233f4e";
+			case 0x9102: return "215c6f";
+			case 0x9104: return "233f49";
+			case 0x9106: return "233f4c";
+			case 0x9107: return "233f50";
+			case 0x9109: return "215c70";
+			case 0x910b: return "233f60";
+			case 0x910f: return "233f57";
+			case 0x9111: return "233f58";
+			case 0x9112: return "215c71";
+			case 0x9114: return "233f5c";
+			case 0x9116: return "233f5a";
+			case 0x9118: return "233f63";
+			case 0x9119: return "4b5c72";
+			case 0x911a: return "233f72";
+			case 0x911c: return "233f64";
+			case 0x911e: return "233f6a";
+			case 0x9120: return "233f66";
+			case 0x9122: return "233f67";
+			case 0x9123: return "233f62";
+			case 0x9124: return "233f71";
+			case 0x9125: return "233f74";
+			case 0x9126: return "234024";
+			case 0x9127: return "215c75";
+			case 0x912b: return "233f79";
+			case 0x912d: return "215c73";
+			case 0x912f: return "233f77";
+			case 0x9130: return "215c74";
+			case 0x9131: return "215c76";
+			case 0x9132: return "234021";
+			case 0x9134: return "23402b";
+			case 0x9136: return "23402c";
+			case 0x9139: return "4b5c77";
+			case 0x913a: return "234031";
+			case 0x913b: return "234032";
+			case 0x9143: return "23403b";
+			case 0x9145: return "23403f";
+			case 0x9146: return "23403e";
+			case 0x9147: return "234041";
+			case 0x9148: return "234040";
+			case 0x9149: return "215c78";
+			case 0x914a: return "215c7a";
+			case 0x914b: return "215c79";
+			case 0x914c: return "215c7d";
+			case 0x914d: return "215c7c";
+			case 0x914e: return "234043";
+			case 0x914f: return "2f4053";
+			case 0x9150: return "234042";
+			case 0x9152: return "215c7b";
+			case 0x9154: return "275d2a";
+			case 0x9156: return "23404d";
+			case 0x9157: return "215c7e";
+			case 0x9158: return "234050";
+			case 0x9159: return "234048";
+			case 0x915a: return "234052";
+			case 0x915c: return "234049";
+			case 0x915d: return "275d2f";
+			case 0x915e: return "704c2a";
+			case 0x9161: return "234053";
+			case 0x9162: return "4b5d2b";
+			case 0x9163: return "215d21";
+			case 0x9164: return "234056";
+			case 0x9165: return "215d22";
+			case 0x9167: return "2d5d23";
+			case 0x9169: return "215d24";
+			case 0x916a: return "215d25";
+			case 0x916c: return "215d23";
+			case 0x916e: return "234062";
+			case 0x916f: return "234061";
+			case 0x9170: return "707523";
+			case 0x9171: return "275d32";
+			case 0x9172: return "234068";
+			case 0x9173: return "23406c";
+			case 0x9174: return "23406b";
+			case 0x9175: return "215d26";
+			case 0x9176: return "23406a";
+			case 0x9177: return "215d28";
+			case 0x9178: return "215d27";
+			case 0x9179: return "234069";
+			case 0x917a: return "234066";
+			case 0x917d: return "29415d";
+			case 0x917e: return "29415c";
+			case 0x917f: return "275d34";
+			case 0x9181: return "234073";
+			case 0x9182: return "23406f";
+			case 0x9183: return "215d2c";
+			case 0x9185: return "23406d";
+			case 0x9186: return "234071";
+			case 0x9187: return "215d29";
+			case 0x9189: return "215d2a";
+			case 0x918a: return "234070";
+			case 0x918b: return "215d2b";
+			case 0x918c: return "234072";
+			case 0x918d: return "234124";
+			case 0x918e: return "23407e";
+			case 0x9190: return "23407d";
+			case 0x9191: return "23407b";
+			case 0x9192: return "215d2d";
+			case 0x9193: return "234125";
+			case 0x9196: return "2d5d2f";
+			case 0x919a: return "23412c";
+			case 0x919b: return "4d4134";
+			case 0x919c: return "215d30";
+			case 0x919d: return "23412b";
+			case 0x919e: return "215d2f";
+			case 0x91a2: return "234130";
+			case 0x91a3: return "215d2e";
+			case 0x91a8: return "234137";
+			case 0x91aa: return "23413d";
+			case 0x91ab: return "215d31";
+			case 0x91ac: return "215d32";
+			case 0x91ad: return "234147";
+			case 0x91ae: return "234148";
+			case 0x91af: return "234141";
+			case 0x91b1: return "234142";
+			case 0x91b2: return "23414c";
+			case 0x91b4: return "23414b";
+			case 0x91b5: return "23414d";
+			case 0x91b8: return "4b5d34";
+			case 0x91ba: return "215d33";
+			case 0x91bb: return "395d23";
+			case 0x91bc: return "334a28";
+			case 0x91bd: return "234157";
+			case 0x91be: return "354156";
+			case 0x91bf: return "234156";
+			case 0x91c0: return "215d34";
+			case 0x91c1: return "215d35";
+			case 0x91c2: return "23415a";
+			case 0x91c3: return "23415c";
+			case 0x91c4: return "23415b";
+			case 0x91c6: return "4b5d36";
+			case 0x91c7: return "215d36";
+			case 0x91c8: return "4b5d38";
+			case 0x91c9: return "215d37";
+			case 0x91ca: return "275d38";
+			case 0x91cb: return "215d38";
+			case 0x91cc: return "275763";
+			case 0x91cd: return "215d3a";
+			case 0x91ce: return "215d3b";
+			case 0x91cf: return "215d3c";
+			case 0x91d0: return "215d3d";
+			case 0x91d1: return "215d3e";
+			case 0x91d3: return "234162";
+			case 0x91d4: return "234161";
+			case 0x91d5: return "234163";
+			case 0x91d6: return "513421";
+			case 0x91d7: return "215d41";
+			case 0x91d8: return "215d40";
+			case 0x91d9: return "234164";
+			case 0x91db: return "4d4176";
+			case 0x91dc: return "215d42";
+			case 0x91dd: return "215d3f";
+			case 0x91df: return "696e5c";
+			case 0x91e1: return "4b5d42";
+			case 0x91e2: return "234168";
+			case 0x91e3: return "215d45";
+			case 0x91e4: return "234222";
+			case 0x91e6: return "215d44";
+			case 0x91e7: return "215d46";
+			case 0x91e8: return "234171";
+			case 0x91e9: return "234179";
+			case 0x91ed: return "234169";
+			case 0x91ee: return "234173";
+			case 0x91f1: return "234177";
+			case 0x91f2: return "23416f";
+			case 0x91f4: return "234174";
+			case 0x91f5: return "215d43";
+			case 0x91f6: return "234172";
+			case 0x91f7: return "23416a";
+			case 0x91f8: return "23417a";
+			case 0x91f9: return "234221";
+			case 0x91fa: return "23416b";
+			case 0x91fc: return "333421";
+			case 0x91fe: return "234233";
+			case 0x91ff: return "234248";
+			case 0x9200: return "234231";
+			case 0x9201: return "234225";
+			case 0x9203: return "23422f";
+			case 0x9204: return "234223";
+			case 0x9206: return "23424e";
+			case 0x9207: return "23422e";
+			case 0x9208: return "234236";
+			case 0x9209: return "215d4a";
+			case 0x920a: return "234227";
+			case 0x920d: return "215d48";
+			case 0x920e: return "2d5d56";
+			case 0x9210: return "215d4d";
+			case 0x9211: return "23424b";
+			case 0x9212: return "234243";
+			case 0x9214: return "215d4b";
+			case 0x9215: return "215d49";
+			case 0x9216: return "23424a";
+			case 0x9218: return "234232";
+			case 0x921c: return "234238";
+			case 0x921e: return "215d4c";
+			case 0x9221: return "335e21";
+			case 0x9223: return "215d47";
+			case 0x9224: return "23423b";
+			case 0x9225: return "234228";
+			case 0x9226: return "234237";
+			case 0x9228: return "23422c";
+			case 0x9229: return "4d4862";
+			case 0x922b: return "234226";
+			case 0x922c: return "4b5e3f";
+			case 0x922e: return "23425c";
+			case 0x9230: return "234251";
+			case 0x9233: return "23425f";
+			case 0x9234: return "4b5d58";
+			case 0x9235: return "234268";
+			case 0x9236: return "23427e";
+			case 0x9237: return "215d4f";
+			case 0x9238: return "215d50";
+			case 0x9239: return "23426d";
+			case 0x923a: return "234258";
+			case 0x923d: return "215d51";
+			case 0x923e: return "215d52";
+			case 0x923f: return "234274";
+			case 0x9240: return "215d53";
+			case 0x9241: return "23432e";
+			case 0x9244: return "335e3d";
+			case 0x9245: return "2d3c38";
+			case 0x9248: return "234255";
+			case 0x9249: return "234252";
+			case 0x924b: return "215d54";
+			case 0x924c: return "234326";
+			case 0x924d: return "234254";
+			case 0x924e: return "234323";
+			case 0x924f: return "234271";
+			case 0x9250: return "23426b";
+			case 0x9251: return "215d57";
+			case 0x9256: return "234327";
+			case 0x9257: return "33502a";
+			case 0x925a: return "23432b";
+			case 0x925b: return "215d55";
+			case 0x925e: return "234264";
+			case 0x9260: return "234277";
+			case 0x9262: return "2d5228";
+			case 0x9264: return "215d56";
+			case 0x9266: return "234261";
+			case 0x926b: return "23426c";
+			case 0x926c: return "234270";
+			case 0x926d: return "23426f";
+			case 0x9271: return "514e5b";
+			case 0x9274: return "395e42";
+			case 0x9276: return "23433e";
+			case 0x9277: return "234347";
+			case 0x9278: return "215d59";
+			case 0x927a: return "234343";
+			case 0x927b: return "215d5f";
+			case 0x927c: return "234337";
+			case 0x927e: return "234354";
+			case 0x927f: return "234362";
+			case 0x9280: return "215d5a";
+			case 0x9282: return "234333";
+			case 0x9283: return "23432f";
+			case 0x9285: return "215d5c";
+			case 0x9288: return "234342";
+			case 0x928d: return "23433f";
+			case 0x928e: return "234345";
+			case 0x9291: return "23435b";
+			case 0x9292: return "23422a";
+			case 0x9293: return "215d60";
+			case 0x9295: return "395e3d";
+			case 0x9296: return "215d5e";
+			case 0x9298: return "215d5d";
+			case 0x929a: return "234355";
+			case 0x929b: return "23435d";
+			case 0x929c: return "215d61";
+			case 0x92a0: return "234346";
+			case 0x92a2: return "23424f";
+			case 0x92a3: return "234364";
+			case 0x92a4: return "234338";
+			case 0x92a5: return "234331";
+			case 0x92a6: return "234350";
+			case 0x92a8: return "234335";
+			case 0x92aa: return "234349";
+			case 0x92ab: return "234358";
+			case 0x92ac: return "215d5b";
+			case 0x92ad: return "4b5d70";
+			case 0x92ae: return "275e48";
+			case 0x92b2: return "23442a";
+			case 0x92b3: return "215d64";
+			case 0x92b6: return "234376";
+			case 0x92b7: return "215d66";
+			case 0x92b9: return "2d5e3b";
+			case 0x92bb: return "215d63";
+			case 0x92bc: return "215d69";
+			case 0x92be: return "234379";
+			case 0x92c0: return "234377";
+			case 0x92c1: return "215d67";
+			case 0x92c2: return "23443c";
+			case 0x92c3: return "23436a";
+			case 0x92c5: return "215d62";
+			case 0x92c6: return "234421";
+			case 0x92c7: return "23442d";
+			case 0x92c8: return "234366";
+			case 0x92ca: return "23443a";
+			case 0x92cc: return "23443e";
+			case 0x92cf: return "234427";
+			case 0x92d0: return "23436f";
+			case 0x92d1: return "234439";
+			case 0x92d2: return "215d6a";
+			case 0x92d5: return "23437e";
+			case 0x92d8: return "234431";
+			case 0x92d9: return "23437a";
+			case 0x92db: return "23442f";
+			case 0x92dc: return "234430";
+			case 0x92dd: return "234435";
+			case 0x92df: return "234372";
+			case 0x92e4: return "215d68";
+			case 0x92e6: return "234375";
+			case 0x92e7: return "23442c";
+			case 0x92e8: return "234441";
+			case 0x92e9: return "234433";
+			case 0x92ea: return "215d65";
+			case 0x92eb: return "234443";
+			case 0x92ee: return "234340";
+			case 0x92ef: return "234440";
+			case 0x92f0: return "23442e";
+			case 0x92f1: return "234371";
+			case 0x92f2: return "234448";
+			case 0x92f3: return "2d5e43";
+			case 0x92f4: return "234425";
+			case 0x92f5: return "234445";
+			case 0x92f8: return "215d6d";
+			case 0x92f9: return "23445d";
+			case 0x92fa: return "234454";
+			case 0x92fc: return "215d71";
+			case 0x92fe: return "234528";
+			case 0x9301: return "234472";
+			case 0x9302: return "234462";
+			case 0x9303: return "23444c";
+			case 0x9304: return "215d74";
+			case 0x9306: return "4d445b";
+			case 0x9307: return "23444d";
+			case 0x930f: return "23445f";
+			case 0x9310: return "215d75";
+			case 0x9312: return "234466";
+			case 0x9314: return "234522";
+			case 0x9315: return "234474";
+			case 0x9318: return "215e22";
+			case 0x9319: return "234532";
+			case 0x931a: return "215d73";
+			case 0x931d: return "234453";
+			case 0x931e: return "23444e";
+			case 0x931f: return "234458";
+			case 0x9320: return "215d6b";
+			case 0x9321: return "23446c";
+			case 0x9322: return "215d70";
+			case 0x9323: return "23446a";
+			case 0x9324: return "234464";
+			case 0x9326: return "215d76";
+			case 0x9328: return "215d7d";
+			case 0x9329: return "234476";
+			case 0x932a: return "234479";
+			case 0x932b: return "215d72";
+			case 0x932c: return "4b496a";
+			case 0x932e: return "234478";
+			case 0x932f: return "215d6f";
+			case 0x9331: return "23445a";
+			case 0x9333: return "215d6e";
+			case 0x9335: return "23447e";
+			case 0x9336: return "215d6c";
+			case 0x9338: return "234469";
+			case 0x933a: return "23447c";
+			case 0x933b: return "696f27";
+			case 0x933e: return "294666";
+			case 0x933f: return "23447b";
+			case 0x9340: return "234471";
+			case 0x9341: return "234531";
+			case 0x9342: return "23452f";
+			case 0x9344: return "23444f";
+			case 0x9347: return "23454d";
+			case 0x9348: return "23456a";
+			case 0x9349: return "23455d";
+			case 0x934a: return "33496a";
+			case 0x934b: return "215d7c";
+			case 0x934c: return "234535";
+			case 0x934d: return "215d77";
+			case 0x934f: return "23454c";
+			case 0x9351: return "23456e";
+			case 0x9354: return "234567";
+			case 0x9355: return "234566";
+			case 0x9356: return "234553";
+			case 0x9358: return "23455e";
+			case 0x935a: return "23455f";
+			case 0x935b: return "215e24";
+			case 0x935c: return "234548";
+			case 0x935f: return "234562";
+			case 0x9360: return "234573";
+			case 0x9364: return "23456f";
+			case 0x9365: return "215d7a";
+			case 0x936a: return "234547";
+			case 0x936b: return "234571";
+			case 0x936c: return "215e23";
+			case 0x936d: return "234572";
+			case 0x936e: return "234577";
+			case 0x9370: return "215d7e";
+			case 0x9371: return "234554";
+			case 0x9374: return "23456b";
+			case 0x9375: return "215d79";
+			case 0x9376: return "234564";
+			case 0x9377: return "23455c";
+			case 0x9379: return "234541";
+			case 0x937a: return "234551";
+			case 0x937c: return "234556";
+			case 0x937e: return "215e21";
+			case 0x9382: return "215d78";
+			case 0x9386: return "234544";
+			case 0x9388: return "234623";
+			case 0x9389: return "23463c";
+			case 0x938a: return "215e25";
+			case 0x938b: return "23457e";
+			case 0x938c: return "234622";
+			case 0x938f: return "234579";
+			case 0x9394: return "215e26";
+			case 0x9395: return "23457b";
+			case 0x9396: return "215e28";
+			case 0x9397: return "23464f";
+			case 0x9398: return "23462d";
+			case 0x939a: return "234648";
+			case 0x939b: return "23462b";
+			case 0x939e: return "23464d";
+			case 0x93a1: return "234627";
+			case 0x93a2: return "215e29";
+			case 0x93a3: return "234629";
+			case 0x93a4: return "23463d";
+			case 0x93a6: return "234647";
+			case 0x93a7: return "234642";
+			case 0x93a9: return "23472f";
+			case 0x93aa: return "23464a";
+			case 0x93ac: return "23457a";
+			case 0x93ad: return "4b5e27";
+			case 0x93ae: return "215e27";
+			case 0x93b0: return "234628";
+			case 0x93b3: return "215e2a";
+			case 0x93b5: return "234621";
+			case 0x93b7: return "23462a";
+			case 0x93b9: return "234625";
+			case 0x93bb: return "234651";
+			case 0x93bc: return "234640";
+			case 0x93bd: return "234644";
+			case 0x93be: return "234560";
+			case 0x93c1: return "2d5e28";
+			case 0x93c3: return "215e2e";
+			case 0x93c4: return "234664";
+			case 0x93c7: return "23465a";
+			case 0x93c8: return "215e31";
+			case 0x93ca: return "234663";
+			case 0x93cc: return "23467c";
+			case 0x93cd: return "215e36";
+			case 0x93d0: return "234673";
+			case 0x93d1: return "215e2c";
+			case 0x93d3: return "23472c";
+			case 0x93d4: return "23465d";
+			case 0x93d6: return "215e2d";
+			case 0x93d7: return "215e30";
+			case 0x93d8: return "215e37";
+			case 0x93da: return "234672";
+			case 0x93db: return "234675";
+			case 0x93dc: return "215e33";
+			case 0x93dd: return "215e35";
+			case 0x93de: return "234656";
+			case 0x93df: return "215e2f";
+			case 0x93e1: return "215e2b";
+			case 0x93e2: return "215e32";
+			case 0x93e4: return "215e34";
+			case 0x93e5: return "23465f";
+			case 0x93e6: return "234730";
+			case 0x93e7: return "234667";
+			case 0x93e8: return "234666";
+			case 0x93ee: return "234657";
+			case 0x93ef: return "234674";
+			case 0x93f1: return "234653";
+			case 0x93f2: return "23465b";
+			case 0x93f4: return "234827";
+			case 0x93f5: return "234767";
+			case 0x93f7: return "234769";
+			case 0x93f9: return "234662";
+			case 0x93fa: return "234749";
+			case 0x93fb: return "23473d";
+			case 0x93fd: return "215e3b";
+			case 0x9403: return "215e39";
+			case 0x9404: return "234759";
+			case 0x9406: return "23475d";
+			case 0x9407: return "23476a";
+			case 0x9409: return "234755";
+			case 0x940b: return "234732";
+			case 0x940d: return "23474e";
+			case 0x940e: return "23476f";
+			case 0x940f: return "23473b";
+			case 0x9410: return "234760";
+			case 0x9411: return "234771";
+			case 0x9413: return "234734";
+			case 0x9414: return "234758";
+			case 0x9418: return "2d5e21";
+			case 0x9419: return "23474d";
+			case 0x941a: return "2f445f";
+			case 0x9420: return "23473c";
+			case 0x9421: return "4b5e3d";
+			case 0x9422: return "23475c";
+			case 0x9423: return "234762";
+			case 0x9424: return "23482d";
+			case 0x9426: return "234750";
+			case 0x9427: return "234751";
+			case 0x9429: return "234779";
+			case 0x942b: return "234835";
+			case 0x942d: return "234836";
+			case 0x942e: return "215e3a";
+			case 0x9431: return "234838";
+			case 0x9432: return "215e40";
+			case 0x9433: return "215e3c";
+			case 0x9435: return "215e3d";
+			case 0x9436: return "234828";
+			case 0x9437: return "234830";
+			case 0x9438: return "215e3f";
+			case 0x943a: return "215e3e";
+			case 0x943b: return "23482b";
+			case 0x943d: return "23477c";
+			case 0x943e: return "4d477b";
+			case 0x943f: return "234774";
+			case 0x9440: return "234832";
+			case 0x9441: return "234837";
+			case 0x9444: return "215e43";
+			case 0x9445: return "234840";
+			case 0x944a: return "23484a";
+			case 0x944c: return "23483e";
+			case 0x9450: return "234842";
+			case 0x9451: return "215e42";
+			case 0x9452: return "335e42";
+			case 0x9453: return "694c7a";
+			case 0x9455: return "23485d";
+			case 0x945a: return "2d5e4a";
+			case 0x945b: return "2d4e5b";
+			case 0x945e: return "23485e";
+			case 0x9460: return "215e45";
+			case 0x9462: return "234858";
+			case 0x9463: return "215e44";
+			case 0x9464: return "234857";
+			case 0x9465: return "23485c";
+			case 0x9466: return "234853";
+			case 0x9467: return "23483d";
+			case 0x946a: return "234862";
+			case 0x946b: return "234868";
+			case 0x946d: return "234869";
+			case 0x946f: return "23486c";
+			case 0x9470: return "215e47";
+			case 0x9471: return "23486d";
+			case 0x9472: return "215e46";
+			case 0x9475: return "2d522b";
+			case 0x9477: return "234871";
+			case 0x947c: return "215e49";
+			case 0x947d: return "215e4a";
+			case 0x947e: return "215e48";
+			case 0x947f: return "215e4b";
+			case 0x9481: return "23487c";
+			case 0x9482: return "23487b";
+			case 0x9485: return "455d3e";
+			case 0x9486: return "294162";
+			case 0x9487: return "294161";
+			case 0x9488: return "275d3f";
+			case 0x9489: return "275d40";
+			case 0x948a: return "275d41";
+			case 0x948b: return "294164";
+			case 0x948c: return "294163";
+			case 0x948d: return "29416a";
+			case 0x948e: return "29416b";
+			case 0x948f: return "275d46";
+			case 0x9490: return "294222";
+			case 0x9492: return "294179";
+			case 0x9493: return "275d45";
+			case 0x9494: return "294475";
+			case 0x9495: return "294221";
+			case 0x9497: return "275d43";
+			case 0x9499: return "275d47";
+			case 0x949a: return "474236";
+			case 0x949b: return "294237";
+			case 0x949c: return "4b3c38";
+			case 0x949d: return "275d48";
+			case 0x949e: return "275d4b";
+			case 0x949f: return "275e21";
+			case 0x94a0: return "275d4a";
+			case 0x94a1: return "29442d";
+			case 0x94a2: return "275d71";
+			case 0x94a3: return "29424b";
+			case 0x94a4: return "275d4d";
+			case 0x94a5: return "275e47";
+			case 0x94a6: return "274578";
+			case 0x94a7: return "275d4c";
+			case 0x94a8: return "275e29";
+			case 0x94a9: return "275d56";
+			case 0x94aa: return "294224";
+			case 0x94ab: return "294225";
+			case 0x94ac: return "294228";
+			case 0x94ad: return "294223";
+			case 0x94ae: return "275d49";
+			case 0x94af: return "294231";
+			case 0x94b0: return "294258";
+			case 0x94b1: return "275d70";
+			case 0x94b2: return "294261";
+			case 0x94b3: return "27502a";
+			case 0x94b4: return "275d4f";
+			case 0x94b5: return "335228";
+			case 0x94b6: return "29425f";
+			case 0x94b7: return "294260";
+			case 0x94b8: return "275d51";
+			case 0x94b9: return "275d50";
+			case 0x94ba: return "294264";
+			case 0x94bb: return "275e4a";
+			case 0x94bc: return "474270";
+			case 0x94bd: return "29426f";
+			case 0x94be: return "275d53";
+			case 0x94bf: return "294274";
+			case 0x94c0: return "275d52";
+			case 0x94c1: return "275e3d";
+			case 0x94c2: return "275d57";
+			case 0x94c3: return "275d58";
+			case 0x94c4: return "275e45";
+			case 0x94c5: return "275d55";
+			case 0x94c6: return "29432b";
+			case 0x94c8: return "294251";
+			case 0x94c9: return "294252";
+			case 0x94ca: return "294255";
+			case 0x94cb: return "294254";
+			case 0x94cc: return "29425c";
+			case 0x94cd: return "29426d";
+			case 0x94ce: return "275e3f";
+			case 0x94d0: return "275d5b";
+			case 0x94d1: return "294346";
+			case 0x94d2: return "294343";
+			case 0x94d5: return "294349";
+			case 0x94d6: return "294340";
+			case 0x94d7: return "294427";
+			case 0x94d8: return "29437d";
+			case 0x94d9: return "275e39";
+			case 0x94db: return "275e3e";
+			case 0x94dc: return "275d5c";
+			case 0x94dd: return "275d67";
+			case 0x94de: return "29434f";
+			case 0x94df: return "294350";
+			case 0x94e0: return "294642";
+			case 0x94e1: return "29455e";
+			case 0x94e2: return "275d5e";
+			case 0x94e3: return "29435b";
+			case 0x94e4: return "29443e";
+			case 0x94e5: return "294359";
+			case 0x94e7: return "294767";
+			case 0x94e8: return "275d60";
+			case 0x94e9: return "29472f";
+			case 0x94ea: return "294362";
+			case 0x94eb: return "294355";
+			case 0x94ec: return "275d5f";
+			case 0x94ed: return "275d5d";
+			case 0x94ee: return "275d73";
+			case 0x94ef: return "294358";
+			case 0x94f0: return "275d59";
+			case 0x94f1: return "294331";
+			case 0x94f2: return "275e2f";
+			case 0x94f3: return "29432f";
+			case 0x94f4: return "294732";
+			case 0x94f5: return "294335";
+			case 0x94f6: return "275d5a";
+			case 0x94f7: return "294364";
+			case 0x94f8: return "275e43";
+			case 0x94f9: return "29473e";
+			case 0x94fa: return "275d65";
+			case 0x94fc: return "294469";
+			case 0x94fd: return "294371";
+			case 0x94fe: return "275e31";
+			case 0x94ff: return "275e30";
+			case 0x9500: return "275d66";
+			case 0x9501: return "275e28";
+			case 0x9502: return "29442e";
+			case 0x9503: return "29442b";
+			case 0x9504: return "275d68";
+			case 0x9505: return "275d7c";
+			case 0x9506: return "294440";
+			case 0x9507: return "294441";
+			case 0x9508: return "275e3b";
+			case 0x9509: return "275d69";
+			case 0x950a: return "294435";
+			case 0x950b: return "275d6a";
+			case 0x950c: return "275d62";
+			case 0x950d: return "29436c";
+			case 0x950e: return "294750";
+			case 0x950f: return "294751";
+			case 0x9510: return "275d64";
+			case 0x9511: return "275d63";
+			case 0x9512: return "29436a";
+			case 0x9513: return "294372";
+			case 0x9514: return "294375";
+			case 0x9515: return "294466";
+			case 0x9516: return "29445b";
+			case 0x9517: return "294551";
+			case 0x9518: return "294568";
+			case 0x9519: return "275d6f";
+			case 0x951a: return "275d7d";
+			case 0x951b: return "29446d";
+			case 0x951d: return "294471";
+			case 0x951e: return "294472";
+			case 0x951f: return "294474";
+			case 0x9521: return "275d72";
+			case 0x9522: return "294478";
+			case 0x9523: return "275e49";
+			case 0x9524: return "275e22";
+			case 0x9525: return "275d75";
+			case 0x9526: return "275d76";
+			case 0x9528: return "294531";
+			case 0x9529: return "294457";
+			case 0x952a: return "4d472c";
+			case 0x952b: return "29444d";
+			case 0x952c: return "294458";
+			case 0x952d: return "275d6b";
+			case 0x952e: return "275d79";
+			case 0x952f: return "275d6d";
+			case 0x9530: return "275d6e";
+			case 0x9531: return "294532";
+			case 0x9532: return "275d7a";
+			case 0x9534: return "29454d";
+			case 0x9535: return "275e37";
+			case 0x9536: return "294564";
+			case 0x9537: return "294567";
+			case 0x9538: return "29456f";
+			case 0x9539: return "275e23";
+			case 0x953a: return "455e21";
+			case 0x953b: return "275e24";
+			case 0x953c: return "29464a";
+			case 0x953e: return "275d7e";
+			case 0x953f: return "4d4832";
+			case 0x9540: return "275d77";
+			case 0x9541: return "275d78";
+			case 0x9542: return "275e34";
+			case 0x9544: return "4d4754";
+			case 0x9545: return "29454e";
+			case 0x9546: return "29467c";
+			case 0x9547: return "275e27";
+			case 0x9549: return "29462d";
+			case 0x954a: return "294871";
+			case 0x954c: return "4d4835";
+			case 0x954d: return "275e2a";
+			case 0x954e: return "4d446b";
+			case 0x954f: return "294647";
+			case 0x9550: return "29457a";
+			case 0x9551: return "275e25";
+			case 0x9552: return "294628";
+			case 0x9553: return "294621";
+			case 0x9554: return "29483e";
+			case 0x9556: return "275e32";
+			case 0x9557: return "275e33";
+			case 0x9558: return "275e35";
+			case 0x9559: return "275e36";
+			case 0x955b: return "294656";
+			case 0x955c: return "275e2b";
+			case 0x955d: return "275e2c";
+			case 0x955e: return "275e2e";
+			case 0x955f: return "29465a";
+			case 0x9561: return "294758";
+			case 0x9562: return "29475e";
+			case 0x9563: return "294760";
+			case 0x9564: return "294769";
+			case 0x9565: return "29485c";
+			case 0x9566: return "294734";
+			case 0x9567: return "294869";
+			case 0x9568: return "29473c";
+			case 0x9569: return "29486f";
+			case 0x956a: return "294662";
+			case 0x956b: return "29474d";
+			case 0x956c: return "29484a";
+			case 0x956d: return "275e3c";
+			case 0x956f: return "275e40";
+			case 0x9570: return "275e3a";
+			case 0x9571: return "294774";
+			case 0x9572: return "29483f";
+			case 0x9573: return "275e44";
+			case 0x9576: return "275e46";
+			case 0x9577: return "215e4c";
+			case 0x957f: return "275e4c";
+			case 0x9580: return "215e4d";
+			case 0x9582: return "215e4e";
+			case 0x9583: return "215e4f";
+			case 0x9585: return "23492e";
+			case 0x9586: return "3f5e60";
+			case 0x9587: return "2d5e50";
+			case 0x9588: return "234930";
+			case 0x9589: return "215e50";
+			case 0x958a: return "696f5b";
+			case 0x958b: return "215e53";
+			case 0x958c: return "234931";
+			case 0x958e: return "234936";
+			case 0x958f: return "215e52";
+			case 0x9591: return "215e54";
+			case 0x9592: return "215e56";
+			case 0x9593: return "215e55";
+			case 0x9594: return "215e51";
+			case 0x9596: return "696f5d";
+			case 0x9597: return "234934";
+			case 0x9598: return "215e57";
+			case 0x9599: return "4b6168";
+			case 0x959f: return "234938";
+			case 0x95a0: return "23493a";
+			case 0x95a1: return "215e58";
+			case 0x95a2: return "4b5e69";
+			case 0x95a3: return "215e5b";
+			case 0x95a4: return "215e5d";
+			case 0x95a5: return "215e5c";
+			case 0x95a7: return "2d362a";
+			case 0x95a8: return "215e59";
+			case 0x95a9: return "215e5a";
+			case 0x95ab: return "234944";
+			case 0x95ac: return "234942";
+			case 0x95ad: return "215e5f";
+			case 0x95b1: return "215e5e";
+			case 0x95b6: return "23494f";
+			case 0x95b9: return "23494d";
+			case 0x95ba: return "23494e";
+			case 0x95bb: return "215e60";
+			case 0x95bc: return "234948";
+			case 0x95bd: return "234952";
+			case 0x95be: return "234949";
+			case 0x95bf: return "234950";
+			case 0x95c3: return "234965";
+			case 0x95c6: return "215e65";
+			case 0x95c7: return "33433e";
+			case 0x95c8: return "215e64";
+			case 0x95c9: return "234959";
+			case 0x95ca: return "215e61";
+			case 0x95cb: return "215e62";
+			case 0x95cc: return "215e63";
+			case 0x95cd: return "23494a";
+			case 0x95ce: return "23495d";
+			case 0x95d0: return "215e68";
+			case 0x95d1: return "234964";
+			case 0x95d2: return "234962";
+			case 0x95d3: return "234963";
+			case 0x95d4: return "4b5e5d";
+			case 0x95d5: return "234960";
+			case 0x95d6: return "215e67";
+			case 0x95d8: return "4b6167";
+			case 0x95da: return "234966";
+			case 0x95dc: return "215e69";
+			case 0x95de: return "234969";
+			case 0x95e0: return "23496a";
+			case 0x95e1: return "215e6a";
+			case 0x95e2: return "215e6b";
+			case 0x95e4: return "234972";
+			case 0x95e5: return "23496f";
+			case 0x95e7: return "234976";
+			case 0x95e8: return "275e4d";
+			case 0x95e9: return "275e4e";
+			case 0x95ea: return "275e4f";
+			case 0x95eb: return "455e60";
+			case 0x95ed: return "275e50";
+			case 0x95ee: return "273648";
+			case 0x95ef: return "275e67";
+			case 0x95f0: return "275e52";
+			case 0x95f1: return "275e64";
+			case 0x95f2: return "275e54";
+			case 0x95f3: return "294936";
+			case 0x95f4: return "275e55";
+			case 0x95f5: return "275e51";
+			case 0x95f6: return "474931";
+			case 0x95f7: return "273e5c";
+			case 0x95f8: return "275e57";
+			case 0x95f9: return "276168";
+			case 0x95fa: return "275e59";
+			case 0x95fb: return "275271";
+			case 0x95fc: return "29496f";
+			case 0x95fd: return "275e5a";
+			case 0x95fe: return "275e5f";
+			case 0x9600: return "275e5c";
+			case 0x9601: return "275e5b";
+			case 0x9602: return "275e58";
+			case 0x9603: return "294944";
+			case 0x9604: return "295574";
+			case 0x9605: return "275e5e";
+			case 0x9606: return "294942";
+			case 0x9608: return "294949";
+			case 0x9609: return "29494d";
+			case 0x960a: return "29494f";
+			case 0x960b: return "29556c";
+			case 0x960c: return "294950";
+			case 0x960d: return "294952";
+			case 0x960e: return "275e60";
+			case 0x960f: return "294948";
+			case 0x9610: return "275e6a";
+			case 0x9611: return "275e63";
+			case 0x9612: return "29495a";
+			case 0x9614: return "275e61";
+			case 0x9615: return "275e62";
+			case 0x9616: return "515e5d";
+			case 0x9617: return "275e68";
+			case 0x9619: return "294960";
+			case 0x961a: return "294969";
+			case 0x961c: return "215e6c";
+			case 0x961d: return "4b5e6c";
+			case 0x961e: return "23497a";
+			case 0x961f: return "275f2b";
+			case 0x9621: return "215e6d";
+			case 0x9622: return "23497c";
+			case 0x9624: return "23497b";
+			case 0x9627: return "234a21";
+			case 0x9628: return "333475";
+			case 0x962a: return "215e71";
+			case 0x962c: return "2d377c";
+			case 0x962e: return "215e70";
+			case 0x962f: return "2d3821";
+			case 0x9631: return "215e6f";
+			case 0x9632: return "215e6e";
+			case 0x9633: return "275f2e";
+			case 0x9634: return "275f2a";
+			case 0x9635: return "275e7b";
+			case 0x9636: return "275f2c";
+			case 0x963b: return "215e74";
+			case 0x963c: return "234a32";
+			case 0x963d: return "234a30";
+			case 0x963f: return "215e73";
+			case 0x9640: return "215e72";
+			case 0x9642: return "234a2f";
+			case 0x9644: return "215e75";
+			case 0x9645: return "275f37";
+			case 0x9646: return "275f24";
+			case 0x9647: return "275f3c";
+			case 0x9648: return "275f23";
+			case 0x9649: return "294a46";
+			case 0x964b: return "215e78";
+			case 0x964c: return "215e77";
+			case 0x964d: return "215e79";
+			case 0x964f: return "2d5f2d";
+			case 0x9650: return "215e76";
+			case 0x9651: return "234a3c";
+			case 0x9654: return "2d753a";
+			case 0x9655: return "294a44";
+			case 0x9656: return "234a4b";
+			case 0x9658: return "234a46";
+			case 0x965b: return "215e7c";
+			case 0x965c: return "234a44";
+			case 0x965d: return "215e7e";
+			case 0x965e: return "39345b";
+			case 0x965f: return "234a4a";
+			case 0x9660: return "234a42";
+			case 0x9661: return "215e7d";
+			case 0x9662: return "215e7a";
+			case 0x9663: return "215e7b";
+			case 0x9664: return "215f21";
+			case 0x9665: return "2d5f28";
+			case 0x9666: return "697023";
+			case 0x9667: return "4d4a6c";
+			case 0x9668: return "455f35";
+			case 0x9669: return "275f3a";
+			case 0x966a: return "215f22";
+			case 0x966c: return "234a51";
+			case 0x9670: return "215f2a";
+			case 0x9672: return "215f26";
+			case 0x9673: return "215f23";
+			case 0x9674: return "215f29";
+			case 0x9675: return "215f25";
+			case 0x9676: return "215f27";
+			case 0x9677: return "215f28";
+			case 0x9678: return "215f24";
+			case 0x967a: return "4b5f3a";
+			case 0x967b: return "234a5d";
+			case 0x967d: return "215f2e";
+			case 0x967e: return "234a62";
+			case 0x967f: return "234a5e";
+			case 0x9682: return "234a6d";
+			case 0x9683: return "234a6e";
+			case 0x9684: return "234a63";
+			case 0x9685: return "215f2f";
+			case 0x9686: return "4b5f30";
+			case 0x9688: return "234a65";
+			case 0x9689: return "234a6c";
+			case 0x968a: return "215f2b";
+			case 0x968b: return "215f2d";
+			case 0x968d: return "215f31";
+			case 0x968e: return "215f2c";
+			case 0x968f: return "275f39";
+			case 0x9690: return "275f3b";
+			case 0x9694: return "215f33";
+			case 0x9695: return "215f35";
+			case 0x9696: return "234a79";
+			case 0x9697: return "234a7a";
+			case 0x9698: return "215f32";
+			case 0x9699: return "3f5f34";
+			case 0x969b: return "215f37";
+			case 0x969c: return "215f36";
+			case 0x96a0: return "2d5f3b";
+			case 0x96a3: return "2d5c74";
+			case 0x96a4: return "234b2f";
+			case 0x96a7: return "215f38";
+			case 0x96a8: return "215f39";
+			case 0x96a9: return "234b35";
+			case 0x96aa: return "215f3a";
+			case 0x96ae: return "234b37";
+			case 0x96b0: return "234b3b";
+			case 0x96b1: return "215f3b";
+			case 0x96b2: return "234b3c";
+			case 0x96b3: return "234b3e";
+			case 0x96b4: return "215f3c";
+			case 0x96b6: return "275f3d";
+			case 0x96b7: return "335f3d";
+			case 0x96b8: return "215f3d";
+			case 0x96b9: return "234b48";
+			case 0x96bb: return "215f3e";
+			case 0x96bc: return "234b49";
+			case 0x96bd: return "2d5f46";
+			case 0x96be: return "275f50";
+			case 0x96c0: return "215f3f";
+			case 0x96c1: return "215f43";
+			case 0x96c4: return "215f42";
+			case 0x96c5: return "215f44";
+			case 0x96c6: return "215f41";
+			case 0x96c7: return "215f40";
+			case 0x96c9: return "215f47";
+			case 0x96ca: return "234b53";
+			case 0x96cb: return "215f46";
+			case 0x96cc: return "215f48";
+			case 0x96cd: return "215f45";
+			case 0x96ce: return "234b52";
+			case 0x96cf: return "275f4d";
+			case 0x96d1: return "2d5f4b";
+			case 0x96d2: return "234b57";
+			case 0x96d5: return "215f49";
+			case 0x96d6: return "215f4a";
+			case 0x96d8: return "234b66";
+			case 0x96d9: return "215f4e";
+			case 0x96db: return "215f4d";
+			case 0x96dc: return "215f4b";
+			case 0x96dd: return "234b67";
+			case 0x96de: return "215f4c";
+			case 0x96df: return "234b64";
+			case 0x96e0: return "4b306c";
+			case 0x96e2: return "215f4f";
+			case 0x96e3: return "4b5f50";
+			case 0x96e8: return "215f51";
+			case 0x96e9: return "234b71";
+			case 0x96ea: return "215f52";
+			case 0x96eb: return "693c36";
+			case 0x96ef: return "215f53";
+			case 0x96f0: return "234b76";
+			case 0x96f1: return "234b74";
+			case 0x96f2: return "215f54";
+			case 0x96f3: return "275f6e";
+			case 0x96f4: return "234b77";
+			case 0x96f5: return "234b7a";
+			case 0x96f6: return "4b5f58";
+			case 0x96f7: return "215f56";
+			case 0x96f9: return "215f57";
+			case 0x96fa: return "234b78";
+			case 0x96fb: return "215f55";
+			case 0x96fe: return "275f67";
+			case 0x96ff: return "234c22";
+			case 0x9700: return "215f59";
+			case 0x9701: return "275f6b";
+			case 0x9702: return "234c27";
+			case 0x9704: return "215f5b";
+			case 0x9705: return "234c2a";
+			case 0x9706: return "215f5d";
+			case 0x9707: return "215f5a";
+			case 0x9708: return "234c29";
+			case 0x9709: return "215f5c";
+			case 0x970a: return "4b5f6f";
+			case 0x970d: return "215f62";
+			case 0x970e: return "215f5f";
+			case 0x970f: return "215f61";
+			case 0x9711: return "215f5e";
+			case 0x9713: return "215f63";
+			case 0x9716: return "215f60";
+			case 0x9719: return "234c3e";
+			case 0x971b: return "234c38";
+			case 0x971c: return "215f64";
+			case 0x971d: return "234c3d";
+			case 0x971e: return "215f65";
+			case 0x9722: return "234c49";
+			case 0x9723: return "234c47";
+			case 0x9724: return "234c4a";
+			case 0x9726: return "234c50";
+			case 0x9727: return "215f67";
+			case 0x9728: return "234c4e";
+			case 0x972a: return "215f66";
+			case 0x972d: return "275f6d";
+			case 0x9730: return "234c58";
+			case 0x9731: return "234c52";
+			case 0x9732: return "215f6a";
+			case 0x9736: return "234c5c";
+			case 0x9738: return "215f68";
+			case 0x9739: return "215f69";
+			case 0x973d: return "215f6b";
+			case 0x973e: return "215f6c";
+			case 0x9741: return "234c6a";
+			case 0x9742: return "215f6e";
+			case 0x9744: return "215f6d";
+			case 0x9746: return "234c6c";
+			case 0x9747: return "234c6b";
+			case 0x9748: return "215f6f";
+			case 0x9749: return "234c6e";
+			case 0x9751: return "215f70";
+			case 0x9752: return "4b5f70";
+			case 0x9753: return "294c76";
+			case 0x9756: return "4b5f71";
+			case 0x9758: return "234c75";
+			case 0x9759: return "335f73";
+			case 0x975a: return "2d5f73";
+			case 0x975b: return "4b5f72";
+			case 0x975c: return "4b5f73";
+			case 0x975d: return "234c78";
+			case 0x975e: return "215f74";
+			case 0x975f: return "234c7b";
+			case 0x9760: return "215f75";
+			case 0x9761: return "215f76";
+			case 0x9762: return "27625e";
+			case 0x9764: return "234c7d";
+			case 0x9765: return "275f79";
+			case 0x9766: return "215f78";
+			case 0x9767: return "234d25";
+			case 0x9768: return "215f79";
+			case 0x9769: return "215f7a";
+			case 0x976b: return "234d2c";
+			case 0x976d: return "2d602d";
+			case 0x976e: return "234d30";
+			case 0x9771: return "4b602d";
+			case 0x9773: return "234d35";
+			case 0x9774: return "215f7c";
+			case 0x9776: return "215f7b";
+			case 0x9777: return "234d31";
+			case 0x9778: return "234d32";
+			case 0x9779: return "697058";
+			case 0x977a: return "234d38";
+			case 0x977c: return "215f7d";
+			case 0x977f: return "234d43";
+			case 0x9780: return "234d3a";
+			case 0x9781: return "234d3c";
+			case 0x9783: return "234d37";
+			case 0x9784: return "234d40";
+			case 0x9785: return "215f7e";
+			case 0x9786: return "69705d";
+			case 0x9789: return "234d49";
+			case 0x978b: return "216022";
+			case 0x978c: return "2d6021";
+			case 0x978d: return "216021";
+			case 0x978f: return "216023";
+			case 0x9790: return "697060";
+			case 0x9791: return "276029";
+			case 0x9792: return "4b4559";
+			case 0x9794: return "234d54";
+			case 0x9797: return "216879";
+			case 0x9798: return "216024";
+			case 0x979a: return "234d5c";
+			case 0x979b: return "234d59";
+			case 0x979c: return "234d62";
+			case 0x979f: return "234d5a";
+			case 0x97a0: return "216025";
+			case 0x97a3: return "216026";
+			case 0x97a5: return "234d78";
+			case 0x97a6: return "216027";
+			case 0x97a8: return "234d71";
+			case 0x97ab: return "234d74";
+			case 0x97ac: return "234d6a";
+			case 0x97ad: return "216028";
+			case 0x97ae: return "234d70";
+			case 0x97af: return "294e43";
+			case 0x97b2: return "234d7a";
+			case 0x97b3: return "234e24";
+			case 0x97b4: return "234d7c";
+			case 0x97b5: return "234e26";
+			case 0x97b8: return "234e2d";
+			case 0x97b9: return "234e29";
+			case 0x97be: return "234e35";
+			case 0x97c0: return "234e38";
+			case 0x97c1: return "21602a";
+			case 0x97c3: return "216029";
+			case 0x97c5: return "234e3b";
+			case 0x97c6: return "21602b";
+			case 0x97c8: return "335821";
+			case 0x97c9: return "234e43";
+			case 0x97cb: return "21602c";
+			case 0x97cc: return "21602d";
+			case 0x97cd: return "234e4c";
+			case 0x97ce: return "234e4b";
+			case 0x97d0: return "234e4e";
+			case 0x97d3: return "21602e";
+			case 0x97d4: return "234e51";
+			case 0x97d8: return "234e53";
+			case 0x97d9: return "234e54";
+			case 0x97dc: return "21602f";
+			case 0x97dd: return "234e59";
+			case 0x97de: return "474e5c";
+			case 0x97e0: return "234e5e";
+			case 0x97e1: return "234e60";
+			case 0x97e4: return "395821";
+			case 0x97e6: return "27602c";
+			case 0x97e7: return "27602d";
+			case 0x97e9: return "27602e";
+			case 0x97ea: return "294e54";
+			case 0x97eb: return "294e5c";
+			case 0x97ec: return "27602f";
+			case 0x97ed: return "216030";
+			case 0x97ee: return "2d6030";
+			case 0x97ef: return "222f69";
+			case 0x97f2: return "4d5f7b";
+			case 0x97f3: return "216031";
+			case 0x97f5: return "234e6c";
+			case 0x97f6: return "216034";
+			case 0x97fa: return "234e73";
+			case 0x97fb: return "216035";
+			case 0x97ff: return "456036";
+			case 0x9800: return "2e4e56";
+			case 0x9801: return "216037";
+			case 0x9802: return "216038";
+			case 0x9803: return "216039";
+			case 0x9805: return "21603a";
+			case 0x9806: return "21603b";
+			case 0x9807: return "234e79";
+			case 0x9808: return "21603c";
+			case 0x980a: return "21603e";
+			case 0x980b: return "2d6056";
+			case 0x980c: return "216042";
+			case 0x980d: return "234e7e";
+			case 0x980e: return "234f23";
+			case 0x980f: return "234e7b";
+			case 0x9810: return "21603d";
+			case 0x9811: return "21603f";
+			case 0x9812: return "216041";
+			case 0x9813: return "216040";
+			case 0x9816: return "234f26";
+			case 0x9817: return "216043";
+			case 0x9818: return "4b6044";
+			case 0x981a: return "4b6048";
+			case 0x981e: return "234f2d";
+			case 0x981f: return "234f38";
+			case 0x9820: return "234f37";
+			case 0x9821: return "216045";
+			case 0x9824: return "21604c";
+			case 0x9826: return "234f2c";
+			case 0x982b: return "234f34";
+			case 0x982d: return "216046";
+			case 0x982e: return "234f40";
+			case 0x982f: return "234f44";
+			case 0x9830: return "216047";
+			case 0x9832: return "234f45";
+			case 0x9833: return "234f3d";
+			case 0x9834: return "2d4f45";
+			case 0x9837: return "21604b";
+			case 0x9838: return "216048";
+			case 0x9839: return "21604a";
+			case 0x983b: return "216049";
+			case 0x983c: return "395a36";
+			case 0x983f: return "234f66";
+			case 0x9844: return "234f4e";
+			case 0x9846: return "21604d";
+			case 0x9847: return "234f4b";
+			case 0x984b: return "234f62";
+			case 0x984c: return "216050";
+			case 0x984d: return "21604f";
+			case 0x984e: return "216051";
+			case 0x984f: return "45604e";
+			case 0x9852: return "234f60";
+			case 0x9853: return "216052";
+			case 0x9854: return "21604e";
+			case 0x9855: return "336058";
+			case 0x9856: return "234f72";
+			case 0x9857: return "234f6f";
+			case 0x9858: return "216055";
+			case 0x9859: return "234f6b";
+			case 0x985a: return "216054";
+			case 0x985b: return "336054";
+			case 0x985c: return "234f6a";
+			case 0x985e: return "4b6053";
+			case 0x9862: return "234f77";
+			case 0x9865: return "235021";
+			case 0x9866: return "235022";
+			case 0x9867: return "216056";
+			case 0x9868: return "234f7e";
+			case 0x986b: return "216057";
+			case 0x986c: return "235029";
+			case 0x986f: return "216058";
+			case 0x9870: return "21605a";
+			case 0x9871: return "216059";
+			case 0x9873: return "235030";
+			case 0x9874: return "235031";
+			case 0x9875: return "276037";
+			case 0x9876: return "276038";
+			case 0x9877: return "276039";
+			case 0x9878: return "294e79";
+			case 0x9879: return "27603a";
+			case 0x987a: return "27603b";
+			case 0x987b: return "276165";
+			case 0x987c: return "27603e";
+			case 0x987d: return "27603f";
+			case 0x987e: return "276056";
+			case 0x987f: return "276040";
+			case 0x9880: return "294f23";
+			case 0x9881: return "276041";
+			case 0x9882: return "276042";
+			case 0x9883: return "294e7b";
+			case 0x9884: return "27603d";
+			case 0x9885: return "276059";
+			case 0x9886: return "276044";
+			case 0x9887: return "276043";
+			case 0x9888: return "276048";
+			case 0x9889: return "276045";
+			case 0x988a: return "276047";
+			case 0x988c: return "4d4f39";
+			case 0x988d: return "284c62";
+			case 0x988f: return "294f2c";
+			case 0x9890: return "27604c";
+			case 0x9891: return "276049";
+			case 0x9893: return "27604a";
+			case 0x9894: return "27604b";
+			case 0x9896: return "454f45";
+			case 0x9897: return "27604d";
+			case 0x9898: return "276050";
+			case 0x989a: return "276051";
+			case 0x989b: return "276052";
+			case 0x989c: return "27604e";
+			case 0x989d: return "27604f";
+			case 0x989e: return "295030";
+			case 0x989f: return "294f77";
+			case 0x98a0: return "276054";
+			case 0x98a1: return "294f6b";
+			case 0x98a2: return "295021";
+			case 0x98a4: return "276057";
+			case 0x98a5: return "295029";
+			case 0x98a6: return "27605a";
+			case 0x98a7: return "295031";
+			case 0x98a8: return "21605b";
+			case 0x98aa: return "697124";
+			case 0x98ad: return "235039";
+			case 0x98af: return "21605c";
+			case 0x98b1: return "21605d";
+			case 0x98b3: return "21605e";
+			case 0x98b4: return "235040";
+			case 0x98b6: return "21605f";
+			case 0x98b8: return "235048";
+			case 0x98ba: return "216060";
+			case 0x98bb: return "23504d";
+			case 0x98bc: return "216061";
+			case 0x98bf: return "23504a";
+			case 0x98c0: return "23504e";
+			case 0x98c3: return "336062";
+			case 0x98c4: return "216062";
+			case 0x98c6: return "235053";
+			case 0x98c8: return "355053";
+			case 0x98ce: return "27605b";
+			case 0x98d1: return "4d503a";
+			case 0x98d2: return "27605c";
+			case 0x98d3: return "27605f";
+			case 0x98d5: return "276061";
+			case 0x98d8: return "276062";
+			case 0x98d9: return "295053";
+			case 0x98da: return "4d5053";
+			case 0x98db: return "216063";
+			case 0x98dc: return "2d5259";
+			case 0x98de: return "276063";
+			case 0x98df: return "216064";
+			case 0x98e1: return "23505f";
+			case 0x98e2: return "216065";
+			case 0x98e3: return "235060";
+			case 0x98e4: return "235061";
+			case 0x98e5: return "235063";
+			case 0x98e7: return "216066";
+			case 0x98e8: return "295222";
+			case 0x98e9: return "216067";
+			case 0x98ea: return "216069";
+			case 0x98eb: return "23506c";
+			case 0x98ed: return "216068";
+			case 0x98ee: return "21606a";
+			case 0x98ef: return "21606b";
+			case 0x98f0: return "45606b";
+			case 0x98f1: return "235068";
+			case 0x98f4: return "21606d";
+			case 0x98fc: return "21606c";
+			case 0x98fd: return "21606e";
+			case 0x98fe: return "21606f";
+			case 0x9902: return "235128";
+			case 0x9903: return "216070";
+			case 0x9905: return "216078";
+			case 0x9907: return "235124";
+			case 0x9908: return "2e6f43";
+			case 0x9909: return "216073";
+			case 0x990a: return "216071";
+			case 0x990c: return "216072";
+			case 0x990d: return "276126";
+			case 0x9910: return "216074";
+			case 0x9911: return "235132";
+			case 0x9912: return "216075";
+			case 0x9913: return "216077";
+			case 0x9914: return "235130";
+			case 0x9915: return "235138";
+			case 0x9916: return "23512f";
+			case 0x9917: return "235131";
+			case 0x9918: return "216076";
+			case 0x991a: return "235147";
+			case 0x991b: return "21607b";
+			case 0x991c: return "235140";
+			case 0x991d: return "4b606f";
+			case 0x991e: return "21607a";
+			case 0x991f: return "23513b";
+			case 0x9920: return "2d6078";
+			case 0x9921: return "21607c";
+			case 0x9924: return "23513a";
+			case 0x9927: return "235145";
+			case 0x9928: return "216079";
+			case 0x9929: return "235143";
+			case 0x992a: return "235151";
+			case 0x992b: return "235156";
+			case 0x992c: return "235150";
+			case 0x992e: return "23514f";
+			case 0x9931: return "235158";
+			case 0x9932: return "235155";
+			case 0x9933: return "235153";
+			case 0x9935: return "21607d";
+			case 0x9939: return "395063";
+			case 0x993a: return "235160";
+			case 0x993b: return "23515c";
+			case 0x993c: return "235166";
+			case 0x993d: return "216122";
+			case 0x993e: return "21607e";
+			case 0x993f: return "216121";
+			case 0x9940: return "235164";
+			case 0x9941: return "235161";
+			case 0x9942: return "4d5154";
+			case 0x9943: return "235170";
+			case 0x9945: return "216123";
+			case 0x9947: return "23516c";
+			case 0x9948: return "23516a";
+			case 0x9949: return "23516d";
+			case 0x994b: return "4b6122";
+			case 0x994c: return "235172";
+			case 0x994d: return "235171";
+			case 0x994e: return "235173";
+			case 0x9950: return "235174";
+			case 0x9951: return "216125";
+			case 0x9952: return "216124";
+			case 0x9954: return "23517b";
+			case 0x9955: return "23517e";
+			case 0x9957: return "475222";
+			case 0x9958: return "23517a";
+			case 0x995c: return "216126";
+			case 0x995d: return "235229";
+			case 0x995e: return "216127";
+			case 0x995f: return "23522b";
+			case 0x9963: return "456064";
+			case 0x9965: return "276065";
+			case 0x9967: return "295153";
+			case 0x9968: return "276067";
+			case 0x9969: return "295166";
+			case 0x996a: return "276069";
+			case 0x996b: return "29506c";
+			case 0x996c: return "276068";
+			case 0x996d: return "27606b";
+			case 0x996e: return "27606a";
+			case 0x996f: return "27607a";
+			case 0x9970: return "27606f";
+			case 0x9971: return "27606e";
+			case 0x9972: return "27606c";
+			case 0x9974: return "27606d";
+			case 0x9975: return "276072";
+			case 0x9976: return "276124";
+			case 0x9977: return "276073";
+			case 0x997a: return "276070";
+			case 0x997c: return "276078";
+			case 0x997d: return "295132";
+			case 0x997f: return "276077";
+			case 0x9980: return "456076";
+			case 0x9981: return "276075";
+			case 0x9984: return "27607b";
+			case 0x9985: return "27607c";
+			case 0x9986: return "276079";
+			case 0x9987: return "706247";
+			case 0x9988: return "516122";
+			case 0x998a: return "276121";
+			case 0x998b: return "276127";
+			case 0x998d: return "295170";
+			case 0x998f: return "27607e";
+			case 0x9990: return "29516a";
+			case 0x9991: return "29516d";
+			case 0x9992: return "276123";
+			case 0x9993: return "295175";
+			case 0x9994: return "295172";
+			case 0x9995: return "70624e";
+			case 0x9996: return "216128";
+			case 0x9997: return "23522f";
+			case 0x9998: return "235230";
+			case 0x9999: return "216129";
+			case 0x99a1: return "23523c";
+			case 0x99a3: return "23523b";
+			case 0x99a5: return "21612a";
+			case 0x99a6: return "23523e";
+			case 0x99a8: return "21612b";
+			case 0x99a9: return "235241";
+			case 0x99aa: return "235242";
+			case 0x99ac: return "21612c";
+			case 0x99ad: return "21612e";
+			case 0x99ae: return "21612d";
+			case 0x99b1: return "216130";
+			case 0x99b3: return "21612f";
+			case 0x99b4: return "216131";
+			case 0x99b5: return "235249";
+			case 0x99b9: return "235253";
+			case 0x99bc: return "23524e";
+			case 0x99bd: return "235254";
+			case 0x99bf: return "23524d";
+			case 0x99c1: return "216132";
+			case 0x99c3: return "23524f";
+			case 0x99c4: return "4b6130";
+			case 0x99c5: return "3f614c";
+			case 0x99c6: return "4b6147";
+			case 0x99c8: return "2d6147";
+			case 0x99c9: return "235265";
+			case 0x99d0: return "216133";
+			case 0x99d1: return "21613a";
+			case 0x99d2: return "216138";
+			case 0x99d3: return "235261";
+			case 0x99d4: return "235263";
+			case 0x99d5: return "216135";
+			case 0x99d8: return "235269";
+			case 0x99d9: return "216139";
+			case 0x99db: return "216137";
+			case 0x99dd: return "216134";
+			case 0x99de: return "2d6134";
+			case 0x99df: return "216136";
+			case 0x99e1: return "335234";
+			case 0x99e2: return "21613f";
+			case 0x99e3: return "23527b";
+			case 0x99ea: return "23527c";
+			case 0x99ec: return "235274";
+			case 0x99ed: return "21613b";
+			case 0x99ee: return "2d6132";
+			case 0x99f0: return "23527a";
+			case 0x99f1: return "21613c";
+			case 0x99f2: return "697152";
+			case 0x99f4: return "23532a";
+			case 0x99f8: return "235329";
+			case 0x99fb: return "235330";
+			case 0x99fd: return "235331";
+			case 0x99ff: return "21613e";
+			case 0x9a01: return "21613d";
+			case 0x9a02: return "235324";
+			case 0x9a03: return "333556";
+			case 0x9a04: return "235344";
+			case 0x9a05: return "235347";
+			case 0x9a08: return "4b613f";
+			case 0x9a09: return "23533f";
+			case 0x9a0b: return "23533e";
+			case 0x9a0c: return "2d6162";
+			case 0x9a0e: return "216140";
+			case 0x9a0f: return "23533d";
+			case 0x9a10: return "235348";
+			case 0x9a11: return "235345";
+			case 0x9a12: return "4b6145";
+			case 0x9a13: return "4b614d";
+			case 0x9a16: return "216142";
+			case 0x9a19: return "216141";
+			case 0x9a20: return "23534f";
+			case 0x9a22: return "23534d";
+			case 0x9a23: return "336162";
+			case 0x9a24: return "23534c";
+			case 0x9a27: return "235352";
+			case 0x9a2b: return "216143";
+			case 0x9a2d: return "235360";
+			case 0x9a2e: return "23536a";
+			case 0x9a2f: return "235359";
+			case 0x9a30: return "216144";
+			case 0x9a32: return "235364";
+			case 0x9a35: return "235361";
+			case 0x9a36: return "235369";
+			case 0x9a37: return "216145";
+			case 0x9a38: return "23535a";
+			case 0x9a3b: return "235374";
+			case 0x9a3e: return "216149";
+			case 0x9a40: return "216148";
+			case 0x9a41: return "235370";
+			case 0x9a42: return "235379";
+			case 0x9a43: return "216146";
+			case 0x9a44: return "23537a";
+			case 0x9a45: return "216147";
+			case 0x9a48: return "23537d";
+			case 0x9a4a: return "235427";
+			case 0x9a4c: return "23537e";
+			case 0x9a4d: return "235422";
+			case 0x9a52: return "235424";
+			case 0x9a55: return "21614a";
+			case 0x9a56: return "23542c";
+			case 0x9a57: return "21614d";
+			case 0x9a58: return "23542a";
+			case 0x9a5a: return "21614b";
+			case 0x9a5b: return "21614c";
+			case 0x9a5f: return "21614e";
+			case 0x9a62: return "21614f";
+			case 0x9a64: return "235433";
+			case 0x9a65: return "216150";
+			case 0x9a66: return "235434";
+			case 0x9a69: return "3f4621";
+			case 0x9a6a: return "216151";
+			case 0x9a6b: return "23543a";
+			case 0x9a6c: return "27612c";
+			case 0x9a6d: return "27612e";
+			case 0x9a6e: return "276130";
+			case 0x9a6f: return "276131";
+			case 0x9a70: return "27612f";
+			case 0x9a71: return "276147";
+			case 0x9a73: return "276132";
+			case 0x9a74: return "27614f";
+			case 0x9a75: return "295263";
+			case 0x9a76: return "276137";
+			case 0x9a77: return "276136";
+			case 0x9a78: return "276139";
+			case 0x9a79: return "276138";
+			case 0x9a7a: return "295369";
+			case 0x9a7b: return "276133";
+			case 0x9a7c: return "276134";
+			case 0x9a7d: return "27613a";
+			case 0x9a7e: return "276135";
+			case 0x9a7f: return "27614c";
+			case 0x9a80: return "295269";
+			case 0x9a81: return "295422";
+			case 0x9a82: return "275234";
+			case 0x9a84: return "27614a";
+			case 0x9a85: return "295427";
+			case 0x9a86: return "27613c";
+			case 0x9a87: return "27613b";
+			case 0x9a88: return "27613f";
+			case 0x9a8a: return "276151";
+			case 0x9a8b: return "27613d";
+			case 0x9a8c: return "27614d";
+			case 0x9a8f: return "27613e";
+			case 0x9a90: return "29533d";
+			case 0x9a91: return "276140";
+			case 0x9a92: return "295340";
+			case 0x9a93: return "295347";
+			case 0x9a96: return "295379";
+			case 0x9a97: return "276141";
+			case 0x9a98: return "295360";
+			case 0x9a9a: return "276145";
+			case 0x9a9b: return "276142";
+			case 0x9a9c: return "295370";
+			case 0x9a9d: return "29536a";
+			case 0x9a9e: return "276143";
+			case 0x9a9f: return "29535a";
+			case 0x9aa0: return "276146";
+			case 0x9aa1: return "276149";
+			case 0x9aa2: return "29537a";
+			case 0x9aa3: return "295421";
+			case 0x9aa4: return "27614e";
+			case 0x9aa5: return "276150";
+			case 0x9aa7: return "295433";
+			case 0x9aa8: return "216152";
+			case 0x9aab: return "235441";
+			case 0x9aad: return "23543f";
+			case 0x9aaf: return "216153";
+			case 0x9ab0: return "216154";
+			case 0x9ab1: return "235443";
+			case 0x9ab3: return "235445";
+			case 0x9ab6: return "235449";
+			case 0x9ab7: return "216155";
+			case 0x9ab8: return "216156";
+			case 0x9aba: return "235450";
+			case 0x9abb: return "23544c";
+			case 0x9abc: return "216157";
+			case 0x9abd: return "235454";
+			case 0x9abe: return "2f575f";
+			case 0x9ac0: return "235459";
+			case 0x9ac1: return "235457";
+			case 0x9ac2: return "23545a";
+			case 0x9ac4: return "2d6159";
+			case 0x9ac5: return "276158";
+			case 0x9ac8: return "23545d";
+			case 0x9acb: return "29546d";
+			case 0x9acc: return "4b537d";
+			case 0x9acf: return "216158";
+			case 0x9ad0: return "235466";
+			case 0x9ad1: return "23546a";
+			case 0x9ad2: return "21615b";
+			case 0x9ad3: return "216159";
+			case 0x9ad4: return "21615a";
+			case 0x9ad5: return "33537d";
+			case 0x9ad6: return "23546d";
+			case 0x9ad7: return "2d5421";
+			case 0x9ad8: return "21615c";
+			case 0x9adc: return "235472";
+			case 0x9ade: return "697174";
+			case 0x9adf: return "235474";
+			case 0x9ae0: return "235476";
+			case 0x9ae1: return "2f5476";
+			case 0x9ae2: return "235477";
+			case 0x9ae3: return "393078";
+			case 0x9ae5: return "21615d";
+			case 0x9ae6: return "394a60";
+			case 0x9ae7: return "235521";
+			case 0x9aea: return "4b615f";
+			case 0x9aeb: return "235527";
+			case 0x9aed: return "216161";
+			case 0x9aee: return "21615f";
+			case 0x9aef: return "23552a";
+			case 0x9af1: return "69717d";
+			case 0x9af2: return "235528";
+			case 0x9af4: return "2d3d5e";
+			case 0x9af7: return "69717e";
+			case 0x9af9: return "235532";
+			case 0x9afb: return "216160";
+			case 0x9afd: return "235535";
+			case 0x9b00: return "23553b";
+			case 0x9b01: return "235536";
+			case 0x9b02: return "235538";
+			case 0x9b03: return "216162";
+			case 0x9b04: return "23553e";
+			case 0x9b05: return "235541";
+			case 0x9b06: return "216163";
+			case 0x9b08: return "23553c";
+			case 0x9b0b: return "235543";
+			case 0x9b0d: return "216164";
+			case 0x9b0e: return "235547";
+			case 0x9b0f: return "70775d";
+			case 0x9b10: return "23554f";
+			case 0x9b11: return "23554e";
+			case 0x9b12: return "2f5e66";
+			case 0x9b13: return "276166";
+			case 0x9b18: return "235554";
+			case 0x9b1a: return "216165";
+			case 0x9b1d: return "235556";
+			case 0x9b1f: return "23555e";
+			case 0x9b22: return "216166";
+			case 0x9b23: return "235566";
+			case 0x9b25: return "216167";
+			case 0x9b27: return "216168";
+			case 0x9b28: return "33362a";
+			case 0x9b29: return "23556c";
+			case 0x9b2a: return "396167";
+			case 0x9b2d: return "235573";
+			case 0x9b2e: return "4d5574";
+			case 0x9b2f: return "235576";
+			case 0x9b31: return "21616a";
+			case 0x9b32: return "21616b";
+			case 0x9b34: return "23557d";
+			case 0x9b35: return "235622";
+			case 0x9b37: return "235623";
+			case 0x9b3b: return "39505b";
+			case 0x9b3c: return "21616c";
+			case 0x9b41: return "21616d";
+			case 0x9b42: return "21616e";
+			case 0x9b43: return "235636";
+			case 0x9b44: return "216170";
+			case 0x9b45: return "21616f";
+			case 0x9b47: return "276173";
+			case 0x9b48: return "23563a";
+			case 0x9b49: return "29563c";
+			case 0x9b4b: return "235641";
+			case 0x9b4d: return "23563e";
+			case 0x9b4e: return "23563c";
+			case 0x9b4f: return "216171";
+			case 0x9b51: return "235647";
+			case 0x9b54: return "216172";
+			case 0x9b58: return "216173";
+			case 0x9b5a: return "216174";
+			case 0x9b68: return "235663";
+			case 0x9b6f: return "216176";
+			case 0x9b74: return "23565d";
+			case 0x9b77: return "216175";
+			case 0x9b7d: return "23567b";
+			case 0x9b80: return "235672";
+			case 0x9b83: return "235721";
+			case 0x9b86: return "235749";
+			case 0x9b8c: return "235673";
+			case 0x9b8e: return "235729";
+			case 0x9b90: return "23572b";
+			case 0x9b91: return "216177";
+			case 0x9b92: return "235731";
+			case 0x9b93: return "23572e";
+			case 0x9b95: return "23567a";
+			case 0x9b96: return "69723b";
+			case 0x9b97: return "23572f";
+			case 0x9b98: return "235732";
+			case 0x9b99: return "235743";
+			case 0x9b9a: return "23573d";
+			case 0x9b9d: return "235739";
+			case 0x9b9e: return "235742";
+			case 0x9b9f: return "235736";
+			case 0x9ba0: return "23574e";
+			case 0x9ba8: return "23573f";
+			case 0x9baa: return "21617a";
+			case 0x9bab: return "216178";
+			case 0x9bad: return "23573c";
+			case 0x9bae: return "216179";
+			case 0x9bb4: return "697240";
+			case 0x9bb9: return "235766";
+			case 0x9bbb: return "23576b";
+			case 0x9bbf: return "23575e";
+			case 0x9bc0: return "23576e";
+			case 0x9bc1: return "23575f";
+			case 0x9bc6: return "23575d";
+			case 0x9bc7: return "235756";
+			case 0x9bc8: return "235772";
+			case 0x9bc9: return "21617c";
+			case 0x9bca: return "21617b";
+			case 0x9bcf: return "697245";
+			case 0x9bd1: return "697246";
+			case 0x9bd2: return "235759";
+			case 0x9bd3: return "23576c";
+			case 0x9bd4: return "235834";
+			case 0x9bd5: return "235823";
+			case 0x9bd6: return "47577a";
+			case 0x9bd7: return "235777";
+			case 0x9bdb: return "23582d";
+			case 0x9be1: return "23582c";
+			case 0x9be2: return "23582f";
+			case 0x9be3: return "4d5858";
+			case 0x9be4: return "235827";
+			case 0x9be7: return "21617e";
+			case 0x9be8: return "21617d";
+			case 0x9beb: return "23577c";
+			case 0x9bf0: return "235831";
+			case 0x9bf1: return "23582b";
+			case 0x9bf2: return "69724e";
+			case 0x9bf5: return "4d594e";
+			case 0x9bfd: return "396223";
+			case 0x9bff: return "23583e";
+			case 0x9c02: return "235852";
+			case 0x9c04: return "23584d";
+			case 0x9c06: return "235843";
+			case 0x9c08: return "23584b";
+			case 0x9c09: return "23585c";
+			case 0x9c0a: return "235849";
+			case 0x9c0c: return "2d6222";
+			case 0x9c0d: return "216222";
+			case 0x9c10: return "235854";
+			case 0x9c12: return "235859";
+			case 0x9c13: return "216221";
+			case 0x9c14: return "23584c";
+			case 0x9c15: return "235844";
+			case 0x9c1b: return "2f5870";
+			case 0x9c1c: return "235866";
+			case 0x9c21: return "235878";
+			case 0x9c23: return "23586e";
+			case 0x9c24: return "235879";
+			case 0x9c25: return "216225";
+			case 0x9c28: return "235871";
+			case 0x9c2d: return "216224";
+			case 0x9c2e: return "235870";
+			case 0x9c2f: return "235869";
+			case 0x9c30: return "697260";
+			case 0x9c31: return "216226";
+			case 0x9c32: return "235925";
+			case 0x9c33: return "23592a";
+			case 0x9c35: return "235932";
+			case 0x9c37: return "235934";
+			case 0x9c39: return "235929";
+			case 0x9c3a: return "47594e";
+			case 0x9c3b: return "216228";
+			case 0x9c3e: return "216227";
+			case 0x9c44: return "235926";
+			case 0x9c46: return "23587e";
+			case 0x9c47: return "235930";
+			case 0x9c48: return "235928";
+			case 0x9c49: return "21622c";
+			case 0x9c51: return "2f585c";
+			case 0x9c52: return "235938";
+			case 0x9c53: return "2d6229";
+			case 0x9c54: return "216229";
+			case 0x9c56: return "21622b";
+			case 0x9c57: return "21622a";
+			case 0x9c58: return "23593b";
+			case 0x9c5a: return "697265";
+			case 0x9c5f: return "235955";
+			case 0x9c60: return "235956";
+			case 0x9c63: return "235949";
+			case 0x9c67: return "23594f";
+			case 0x9c68: return "23595b";
+			case 0x9c6d: return "235958";
+			case 0x9c6e: return "23595e";
+			case 0x9c6f: return "23595c";
+			case 0x9c76: return "355739";
+			case 0x9c77: return "21622d";
+			case 0x9c78: return "21622e";
+			case 0x9c7a: return "23596b";
+			case 0x9c7b: return "336179";
+			case 0x9c7c: return "276174";
+			case 0x9c7f: return "276175";
+			case 0x9c81: return "276176";
+			case 0x9c82: return "29565d";
+			case 0x9c85: return "29593a";
+			case 0x9c86: return "295721";
+			case 0x9c87: return "295729";
+			case 0x9c88: return "27622e";
+			case 0x9c8b: return "295731";
+			case 0x9c8d: return "276177";
+			case 0x9c8e: return "295955";
+			case 0x9c90: return "29572b";
+			case 0x9c91: return "29573c";
+			case 0x9c92: return "29573d";
+			case 0x9c94: return "27617a";
+			case 0x9c95: return "295742";
+			case 0x9c9a: return "295958";
+			case 0x9c9b: return "276178";
+			case 0x9c9c: return "276179";
+			case 0x9c9e: return "295739";
+			case 0x9c9f: return "29593b";
+			case 0x9ca0: return "29575f";
+			case 0x9ca1: return "29596b";
+			case 0x9ca2: return "276226";
+			case 0x9ca3: return "295929";
+			case 0x9ca4: return "27617c";
+			case 0x9ca5: return "29586e";
+			case 0x9ca6: return "4d5934";
+			case 0x9ca7: return "29576e";
+			case 0x9ca8: return "27617b";
+			case 0x9ca9: return "295756";
+			case 0x9cab: return "276223";
+			case 0x9cad: return "29577a";
+			case 0x9cae: return "295822";
+			case 0x9cb0: return "29577c";
+			case 0x9cb1: return "29582c";
+			case 0x9cb2: return "295827";
+			case 0x9cb3: return "27617e";
+			case 0x9cb4: return "295828";
+			case 0x9cb5: return "29582f";
+			case 0x9cb6: return "295831";
+			case 0x9cb7: return "29582d";
+			case 0x9cb8: return "27617d";
+			case 0x9cba: return "295825";
+			case 0x9cbb: return "295834";
+			case 0x9cbc: return "295940";
+			case 0x9cbd: return "29584b";
+			case 0x9cc3: return "276221";
+			case 0x9cc4: return "295854";
+			case 0x9cc5: return "276222";
+			case 0x9cc6: return "295859";
+			case 0x9cc7: return "29585c";
+			case 0x9cca: return "29583e";
+			case 0x9ccb: return "29586a";
+			case 0x9ccc: return "295925";
+			case 0x9ccd: return "276224";
+			case 0x9cce: return "295871";
+			case 0x9ccf: return "276225";
+			case 0x9cd0: return "4d5875";
+			case 0x9cd3: return "29592a";
+			case 0x9cd4: return "276227";
+			case 0x9cd5: return "295928";
+			case 0x9cd6: return "27622c";
+			case 0x9cd7: return "276228";
+			case 0x9cd8: return "295932";
+			case 0x9cd9: return "295921";
+			case 0x9cdc: return "27622b";
+			case 0x9cdd: return "276229";
+			case 0x9cde: return "27622a";
+			case 0x9cdf: return "295938";
+			case 0x9ce2: return "29594f";
+			case 0x9ce5: return "21622f";
+			case 0x9ce7: return "235973";
+			case 0x9ce9: return "216230";
+			case 0x9ceb: return "2d5f43";
+			case 0x9cec: return "2f5973";
+			case 0x9cf0: return "235974";
+			case 0x9cf2: return "235977";
+			case 0x9cf3: return "216233";
+			case 0x9cf4: return "216232";
+			case 0x9cf6: return "216231";
+			case 0x9cf7: return "235a23";
+			case 0x9cf8: return "235a2c";
+			case 0x9d02: return "235a21";
+			case 0x9d03: return "235a22";
+			case 0x9d04: return "235a24";
+			case 0x9d06: return "216234";
+			case 0x9d07: return "235a28";
+			case 0x9d08: return "335f43";
+			case 0x9d09: return "216235";
+			case 0x9d12: return "4b623b";
+			case 0x9d15: return "216236";
+			case 0x9d1b: return "21623a";
+			case 0x9d1d: return "235a44";
+			case 0x9d1e: return "235a3f";
+			case 0x9d1f: return "235a48";
+			case 0x9d23: return "216237";
+			case 0x9d25: return "235a30";
+			case 0x9d26: return "216239";
+			case 0x9d28: return "216238";
+			case 0x9d2a: return "235a2f";
+			case 0x9d2b: return "693c32";
+			case 0x9d2c: return "4b6247";
+			case 0x9d30: return "235a65";
+			case 0x9d36: return "235a53";
+			case 0x9d3b: return "21623c";
+			case 0x9d3d: return "235a6b";
+			case 0x9d3e: return "235a63";
+			case 0x9d3f: return "21623d";
+			case 0x9d40: return "235a69";
+			case 0x9d41: return "235a4f";
+			case 0x9d42: return "235a68";
+			case 0x9d44: return "2f5a48";
+			case 0x9d46: return "4d5a6c";
+			case 0x9d48: return "69727e";
+			case 0x9d49: return "4b624f";
+			case 0x9d50: return "4d5c6b";
+			case 0x9d51: return "21623f";
+			case 0x9d52: return "235b2a";
+			case 0x9d53: return "235a75";
+			case 0x9d59: return "235a7b";
+			case 0x9d5a: return "235b26";
+			case 0x9d5c: return "235a70";
+			case 0x9d5d: return "216241";
+			case 0x9d5e: return "2d6241";
+			case 0x9d60: return "216240";
+			case 0x9d61: return "21623e";
+			case 0x9d64: return "697323";
+			case 0x9d69: return "235b47";
+			case 0x9d6a: return "216244";
+			case 0x9d6c: return "216245";
+			case 0x9d6f: return "235b52";
+			case 0x9d70: return "335f49";
+			case 0x9d72: return "216243";
+			case 0x9d76: return "2d6235";
+			case 0x9d77: return "235b2c";
+			case 0x9d78: return "235b3f";
+			case 0x9d7a: return "235b2f";
+			case 0x9d7b: return "235b4d";
+			case 0x9d7e: return "235b42";
+			case 0x9d83: return "235b4f";
+			case 0x9d87: return "235b35";
+			case 0x9d89: return "216242";
+			case 0x9d8a: return "235b2e";
+			case 0x9d8f: return "4b5f4c";
+			case 0x9d92: return "235b5e";
+			case 0x9d96: return "235b70";
+			case 0x9d98: return "235b60";
+			case 0x9d9a: return "235b6b";
+			case 0x9da1: return "235b6a";
+			case 0x9da4: return "235b66";
+			case 0x9da9: return "235b59";
+			case 0x9daa: return "235b67";
+			case 0x9dab: return "4d5b35";
+			case 0x9dac: return "235c34";
+			case 0x9daf: return "216247";
+			case 0x9db1: return "235b74";
+			case 0x9db2: return "235c36";
+			case 0x9db4: return "216246";
+			case 0x9db6: return "235b76";
+			case 0x9db8: return "235b7b";
+			case 0x9db9: return "235c32";
+			case 0x9dba: return "235b7c";
+			case 0x9dbb: return "235c28";
+			case 0x9dbc: return "235b77";
+			case 0x9dc0: return "235b79";
+			case 0x9dc1: return "235b7a";
+			case 0x9dc2: return "216248";
+			case 0x9dc3: return "235c27";
+			case 0x9dc4: return "2d5f4c";
+			case 0x9dc6: return "4d5b7e";
+			case 0x9dc7: return "235c22";
+			case 0x9dcf: return "235b7e";
+			case 0x9dd3: return "216249";
+			case 0x9dd6: return "235c45";
+			case 0x9dd7: return "21624a";
+			case 0x9dd9: return "235c3e";
+			case 0x9dde: return "235c46";
+			case 0x9ddf: return "235c3a";
+			case 0x9de5: return "21624b";
+			case 0x9de6: return "235c6c";
+			case 0x9de9: return "235c4f";
+			case 0x9deb: return "235c5f";
+			case 0x9ded: return "235c6a";
+			case 0x9dee: return "235c6d";
+			case 0x9def: return "235c65";
+			case 0x9df0: return "3f4a28";
+			case 0x9df2: return "235c57";
+			case 0x9df8: return "235c5b";
+			case 0x9df9: return "21624c";
+			case 0x9dfa: return "21624d";
+			case 0x9dfc: return "235c5c";
+			case 0x9dfd: return "235c7e";
+			case 0x9e02: return "225021";
+			case 0x9e07: return "235c71";
+			case 0x9e0e: return "235d27";
+			case 0x9e11: return "235d2b";
+			case 0x9e15: return "235d36";
+			case 0x9e18: return "235d37";
+			case 0x9e1a: return "21624e";
+			case 0x9e1b: return "235d3a";
+			case 0x9e1c: return "235d39";
+			case 0x9e1d: return "235d3b";
+			case 0x9e1e: return "21624f";
+			case 0x9e1f: return "27622f";
+			case 0x9e20: return "276230";
+			case 0x9e21: return "275f4c";
+			case 0x9e22: return "276231";
+			case 0x9e23: return "276232";
+			case 0x9e25: return "27624a";
+			case 0x9e26: return "276235";
+			case 0x9e28: return "295a28";
+			case 0x9e29: return "276234";
+			case 0x9e2a: return "276237";
+			case 0x9e2b: return "295b35";
+			case 0x9e2c: return "295d36";
+			case 0x9e2d: return "276238";
+			case 0x9e2f: return "276239";
+			case 0x9e31: return "295a48";
+			case 0x9e32: return "295a44";
+			case 0x9e33: return "27623a";
+			case 0x9e35: return "276236";
+			case 0x9e36: return "27624b";
+			case 0x9e37: return "295c3e";
+			case 0x9e38: return "295a59";
+			case 0x9e39: return "295a65";
+			case 0x9e3a: return "295a68";
+			case 0x9e3d: return "27623d";
+			case 0x9e3e: return "27624f";
+			case 0x9e3f: return "27623c";
+			case 0x9e41: return "295a75";
+			case 0x9e42: return "295d3b";
+			case 0x9e43: return "27623f";
+			case 0x9e44: return "276240";
+			case 0x9e45: return "276241";
+			case 0x9e46: return "295b2a";
+			case 0x9e47: return "295c49";
+			case 0x9e48: return "295a70";
+			case 0x9e49: return "27623e";
+			case 0x9e4a: return "276243";
+			case 0x9e4b: return "295b6c";
+			case 0x9e4c: return "276244";
+			case 0x9e4e: return "295b52";
+			case 0x9e4f: return "276245";
+			case 0x9e51: return "276242";
+			case 0x9e55: return "295b60";
+			case 0x9e57: return "295b6b";
+			case 0x9e58: return "295c28";
+			case 0x9e5a: return "295b79";
+			case 0x9e5b: return "295b5c";
+			case 0x9e5c: return "295b59";
+			case 0x9e5e: return "276248";
+			case 0x9e63: return "295b77";
+			case 0x9e64: return "276246";
+			case 0x9e66: return "27624e";
+			case 0x9e67: return "276249";
+			case 0x9e68: return "295c47";
+			case 0x9e69: return "295c65";
+			case 0x9e6a: return "295c6c";
+			case 0x9e6b: return "295c57";
+			case 0x9e6c: return "295c5b";
+			case 0x9e6d: return "27624d";
+			case 0x9e70: return "27624c";
+			case 0x9e71: return "295d29";
+			case 0x9e73: return "295d3a";
+			case 0x9e75: return "235d3c";
+			case 0x9e79: return "216250";
+			case 0x9e7a: return "235d42";
+			case 0x9e7b: return "235d43";
+			case 0x9e7c: return "216252";
+			case 0x9e7d: return "216251";
+			case 0x9e7e: return "295d42";
+			case 0x9e7f: return "216253";
+			case 0x9e80: return "235d47";
+			case 0x9e81: return "4d5d49";
+			case 0x9e82: return "216254";
+			case 0x9e83: return "235d48";
+			case 0x9e84: return "235d49";
+			case 0x9e87: return "235d4f";
+			case 0x9e88: return "235d4b";
+			case 0x9e8b: return "216255";
+			case 0x9e8c: return "235d58";
+			case 0x9e90: return "235d55";
+			case 0x9e91: return "235d5c";
+			case 0x9e92: return "216257";
+			case 0x9e93: return "216258";
+			case 0x9e95: return "235d5a";
+			case 0x9e97: return "216256";
+			case 0x9e9b: return "235d5d";
+			case 0x9e9d: return "216259";
+			case 0x9e9e: return "235d66";
+			case 0x9e9f: return "21625a";
+			case 0x9ea4: return "2f5d49";
+			case 0x9ea5: return "21625b";
+			case 0x9ea6: return "27625b";
+			case 0x9ea9: return "21625c";
+			case 0x9eaa: return "33625e";
+			case 0x9ead: return "235d77";
+			case 0x9eaf: return "235d79";
+			case 0x9eb0: return "235d7a";
+			case 0x9eb4: return "21625d";
+			case 0x9eb5: return "21625e";
+			case 0x9eb8: return "4b625c";
+			case 0x9ebb: return "21625f";
+			case 0x9ebc: return "216260";
+			case 0x9ebd: return "4b6260";
+			case 0x9ebe: return "216261";
+			case 0x9ebf: return "694b7b";
+			case 0x9ec1: return "235e30";
+			case 0x9ec3: return "216262";
+			case 0x9ec4: return "2d6262";
+			case 0x9ec6: return "235e35";
+			case 0x9ec8: return "235e37";
+			case 0x9ec9: return "2f5e42";
+			case 0x9ecc: return "235e42";
+			case 0x9ecd: return "216263";
+			case 0x9ece: return "216264";
+			case 0x9ecf: return "216265";
+			case 0x9ed0: return "235e4a";
+			case 0x9ed1: return "216266";
+			case 0x9ed2: return "4b6266";
+			case 0x9ed3: return "235e4c";
+			case 0x9ed4: return "216269";
+			case 0x9ed8: return "216268";
+			case 0x9ed9: return "4b6268";
+			case 0x9eda: return "235e53";
+			case 0x9edb: return "21626c";
+			case 0x9edc: return "21626b";
+			case 0x9edd: return "21626d";
+			case 0x9ede: return "21626a";
+			case 0x9edf: return "235e55";
+			case 0x9ee0: return "21626e";
+			case 0x9ee2: return "707771";
+			case 0x9ee3: return "235e57";
+			case 0x9ee5: return "235e59";
+			case 0x9ee7: return "235e5c";
+			case 0x9ee8: return "21626f";
+			case 0x9ee9: return "276272";
+			case 0x9eea: return "295e6a";
+			case 0x9eee: return "235e60";
+			case 0x9eef: return "216270";
+			case 0x9ef0: return "235e66";
+			case 0x9ef4: return "216271";
+			case 0x9ef6: return "235e6f";
+			case 0x9ef7: return "216272";
+			case 0x9ef9: return "235e74";
+			case 0x9efb: return "235e76";
+			case 0x9efc: return "235e77";
+			case 0x9efd: return "235e7a";
+			case 0x9efe: return "295e7a";
+			case 0x9eff: return "235e7c";
+			case 0x9f02: return "235e7d";
+			case 0x9f04: return "2d5664";
+			case 0x9f05: return "2d5675";
+			case 0x9f07: return "216273";
+			case 0x9f08: return "2d622c";
+			case 0x9f0b: return "295e7c";
+			case 0x9f0d: return "295f2b";
+			case 0x9f0e: return "216274";
+			case 0x9f0f: return "235f2f";
+			case 0x9f10: return "235f31";
+			case 0x9f12: return "235f32";
+			case 0x9f13: return "216275";
+			case 0x9f15: return "216276";
+			case 0x9f16: return "235f33";
+			case 0x9f17: return "235f34";
+			case 0x9f19: return "216277";
+			case 0x9f1a: return "235f37";
+			case 0x9f20: return "216278";
+			case 0x9f21: return "4b6278";
+			case 0x9f22: return "235f45";
+			case 0x9f26: return "235f49";
+			case 0x9f2b: return "235f48";
+			case 0x9f2c: return "216279";
+			case 0x9f2f: return "235f53";
+			case 0x9f34: return "21627a";
+			case 0x9f37: return "235f5f";
+			case 0x9f39: return "235f5e";
+			case 0x9f3b: return "21627b";
+			case 0x9f3d: return "235f64";
+			case 0x9f3e: return "21627c";
+			case 0x9f41: return "235f69";
+			case 0x9f44: return "4d5f70";
+			case 0x9f45: return "235f6d";
+			case 0x9f46: return "235f6f";
+			case 0x9f48: return "235f71";
+			case 0x9f49: return "235f73";
+			case 0x9f4a: return "21627d";
+			case 0x9f4b: return "21627e";
+			case 0x9f4e: return "235f79";
+			case 0x9f4f: return "235f7b";
+			case 0x9f50: return "27627d";
+			case 0x9f51: return "295f7b";
+			case 0x9f52: return "216321";
+			case 0x9f54: return "235f7c";
+			case 0x9f55: return "235f7e";
+			case 0x9f57: return "236023";
+			case 0x9f5c: return "216326";
+			case 0x9f5f: return "216322";
+			case 0x9f60: return "236028";
+			case 0x9f61: return "456324";
+			case 0x9f62: return "4b6324";
+			default: return null;
+		}
+	}
+
+	private String getCharTableCharString_0x9f63_0xff3d(Character c) {
+		switch((int)c.charValue()) {
+			case 0x9f63: return "216323";
+			case 0x9f66: return "216325";
+			case 0x9f67: return "337345";
+			case 0x9f69: return "333623";
+			case 0x9f6a: return "216328";
+			case 0x9f6c: return "216327";
+			case 0x9f6e: return "23603f";
+			case 0x9f6f: return "236040";
+			case 0x9f72: return "21632a";
+			case 0x9f76: return "236047";
+			case 0x9f77: return "216329";
+			case 0x9f7f: return "276321";
+			case 0x9f80: return "295f7c";
+			case 0x9f83: return "276322";
+			case 0x9f84: return "276324";
+			case 0x9f85: return "29602b";
+			case 0x9f86: return "296028";
+			case 0x9f87: return "276326";
+			case 0x9f88: return "276325";
+			case 0x9f89: return "276327";
+			case 0x9f8a: return "276328";
+			case 0x9f8b: return "27632a";
+			case 0x9f8c: return "276329";
+			case 0x9f8d: return "21632b";
+			case 0x9f8e: return "23605b";
+			case 0x9f90: return "213d2d";
+			case 0x9f93: return "236061";
+			case 0x9f94: return "21632c";
+			case 0x9f95: return "236062";
+			case 0x9f99: return "27632b";
+			case 0x9f9a: return "27632c";
+			case 0x9f9b: return "296062";
+			case 0x9f9c: return "21632d";
+			case 0x9f9d: return "2d4f29";
+			case 0x9f9f: return "27632d";
+			case 0x9fa0: return "23606b";
+			case 0x9fa2: return "393577";
+			case 0x9fa4: return "236072";
+			case 0x9fa5: return "236071";
+			case 0xac00: return "6f485f";
+			case 0xac01: return "6f4860";
+			case 0xac02: return "6f4861";
+			case 0xac04: return "6f4862";
+			case 0xac07: return "6f4863";
+			case 0xac08: return "6f4864";
+			case 0xac09: return "6f4865";
+			case 0xac10: return "6f4866";
+			case 0xac11: return "6f4867";
+			case 0xac12: return "6f4868";
+			case 0xac13: return "6f4869";
+			case 0xac14: return "6f486a";
+			case 0xac15: return "6f486b";
+			case 0xac16: return "6f486c";
+			case 0xac17: return "6f486d";
+			case 0xac19: return "6f486e";
+			case 0xac1a: return "6f486f";
+			case 0xac1b: return "6f4870";
+			case 0xac1c: return "6f4871";
+			case 0xac1d: return "6f4872";
+			case 0xac20: return "6f4873";
+			case 0xac24: return "6f4875";
+			case 0xac2c: return "6f4876";
+			case 0xac2d: return "6f4877";
+			case 0xac2f: return "6f4878";
+			case 0xac30: return "6f4879";
+			case 0xac31: return "6f487a";
+			case 0xac38: return "6f487b";
+			case 0xac39: return "6f487c";
+			case 0xac40: return "6f487d";
+			case 0xac54: return "6f487e";
+			case 0xac70: return "6f4921";
+			case 0xac71: return "6f4922";
+			case 0xac74: return "6f4924";
+			case 0xac77: return "6f4925";
+			case 0xac78: return "6f4926";
+			case 0xac79: return "6f4927";
+			case 0xac80: return "6f4929";
+			case 0xac81: return "6f492a";
+			case 0xac83: return "6f492b";
+			case 0xac84: return "6f492c";
+			case 0xac85: return "6f492d";
+			case 0xac86: return "6f492e";
+			case 0xac89: return "6f4930";
+			case 0xac8a: return "6f4931";
+			case 0xac8b: return "6f4932";
+			case 0xac8c: return "6f4933";
+			case 0xac90: return "6f4934";
+			case 0xac94: return "6f4935";
+			case 0xac9c: return "6f4936";
+			case 0xac9f: return "6f4937";
+			case 0xaca0: return "6f4938";
+			case 0xaca1: return "6f4939";
+			case 0xaca8: return "6f493a";
+			case 0xaca9: return "6f493b";
+			case 0xacaa: return "6f493c";
+			case 0xacac: return "6f493d";
+			case 0xacaf: return "6f493e";
+			case 0xacb0: return "6f493f";
+			case 0xacb8: return "6f4940";
+			case 0xacb9: return "6f4941";
+			case 0xacbc: return "6f4943";
+			case 0xacbd: return "6f4944";
+			case 0xacc1: return "6f4945";
+			case 0xacc4: return "6f4947";
+			case 0xacd7: return "6f4949";
+			case 0xace0: return "6f494a";
+			case 0xace1: return "6f494b";
+			case 0xace4: return "6f494c";
+			case 0xace7: return "6f494d";
+			case 0xace8: return "6f494e";
+			case 0xacea: return "6f494f";
+			case 0xacec: return "6f4950";
+			case 0xacef: return "6f4951";
+			case 0xacf0: return "6f4952";
+			case 0xacf1: return "6f4953";
+			case 0xacf3: return "6f4954";
+			case 0xacf5: return "6f4955";
+			case 0xacf6: return "6f4956";
+			case 0xacfa: return "6f4957";
+			case 0xacfc: return "6f4958";
+			case 0xacfd: return "6f4959";
+			case 0xad00: return "6f495a";
+			case 0xad04: return "6f495b";
+			case 0xad0c: return "6f495c";
+			case 0xad0d: return "6f495d";
+			case 0xad0f: return "6f495e";
+			case 0xad11: return "6f495f";
+			case 0xad18: return "6f4960";
+			case 0xad19: return "6f4961";
+			case 0xad1c: return "6f4962";
+			case 0xad20: return "6f4963";
+			case 0xad28: return "6f4964";
+			case 0xad29: return "6f4965";
+			case 0xad2d: return "6f4966";
+			case 0xad34: return "6f4967";
+			case 0xad35: return "6f7721";
+			case 0xad38: return "6f4968";
+			case 0xad3c: return "6f4969";
+			case 0xad44: return "6f496a";
+			case 0xad49: return "6f496c";
+			case 0xad50: return "6f496d";
+			case 0xad6c: return "6f496e";
+			case 0xad6d: return "6f496f";
+			case 0xad70: return "6f4970";
+			case 0xad73: return "6f4971";
+			case 0xad74: return "6f4972";
+			case 0xad75: return "6f4973";
+			case 0xad76: return "6f4974";
+			case 0xad7b: return "6f7722";
+			case 0xad7c: return "6f4975";
+			case 0xad7d: return "6f4976";
+			case 0xad7f: return "6f4977";
+			case 0xad81: return "6f4978";
+			case 0xad82: return "6f4979";
+			case 0xad88: return "6f497a";
+			case 0xad89: return "6f7724";
+			case 0xad8c: return "6f497b";
+			case 0xad90: return "6f497c";
+			case 0xad9d: return "6f7725";
+			case 0xada4: return "6f497e";
+			case 0xadb9: return "6f7726";
+			case 0xadc0: return "6f4a22";
+			case 0xadc4: return "6f4a23";
+			case 0xadc8: return "6f4a24";
+			case 0xadd0: return "6f4a25";
+			case 0xadd1: return "6f4a26";
+			case 0xadd3: return "6f4a27";
+			case 0xadd5: return "6f7727";
+			case 0xaddc: return "6f4a28";
+			case 0xade0: return "6f4a29";
+			case 0xade4: return "6f4a2a";
+			case 0xadec: return "6f4a2b";
+			case 0xadf8: return "6f4a2c";
+			case 0xadf9: return "6f4a2d";
+			case 0xadfc: return "6f4a2e";
+			case 0xadff: return "6f4a2f";
+			case 0xae00: return "6f4a30";
+			case 0xae01: return "6f4a31";
+			case 0xae07: return "6f7728";
+			case 0xae08: return "6f4a32";
+			case 0xae09: return "6f4a33";
+			case 0xae0b: return "6f4a34";
+			case 0xae0d: return "6f4a35";
+			case 0xae0e: return "6f7729";
+			case 0xae0f: return "6f772a";
+			case 0xae11: return "6f772b";
+			case 0xae14: return "6f772c";
+			case 0xae30: return "6f4a36";
+			case 0xae31: return "6f4a37";
+			case 0xae34: return "6f4a38";
+			case 0xae37: return "6f4a39";
+			case 0xae38: return "6f4a3a";
+			case 0xae40: return "6f4a3b";
+			case 0xae41: return "6f4a3c";
+			case 0xae43: return "6f4a3d";
+			case 0xae44: return "6f4a3e";
+			case 0xae45: return "6f4a3f";
+			case 0xae4a: return "6f4a40";
+			case 0xae4c: return "6f4a43";
+			case 0xae4d: return "6f4a44";
+			case 0xae4e: return "6f4a45";
+			case 0xae50: return "6f4a46";
+			case 0xae54: return "6f4a47";
+			case 0xae5c: return "6f4a48";
+			case 0xae5d: return "6f4a49";
+			case 0xae5f: return "6f772d";
+			case 0xae60: return "6f4a4a";
+			case 0xae61: return "6f4a4b";
+			case 0xae62: return "6f4a4c";
+			case 0xae65: return "6f4a4d";
+			case 0xae68: return "6f4a4e";
+			case 0xae69: return "6f4a4f";
+			case 0xae6c: return "6f4a50";
+			case 0xae70: return "6f4a51";
+			case 0xae78: return "6f4a52";
+			case 0xae79: return "6f4a53";
+			case 0xae7b: return "6f4a54";
+			case 0xae7c: return "6f4a55";
+			case 0xae7d: return "6f4a56";
+			case 0xae84: return "6f4a57";
+			case 0xae85: return "6f4a58";
+			case 0xaebc: return "6f4a59";
+			case 0xaebd: return "6f4a5a";
+			case 0xaebe: return "6f4a5b";
+			case 0xaec0: return "6f4a5c";
+			case 0xaec4: return "6f4a5d";
+			case 0xaecc: return "6f4a5e";
+			case 0xaecd: return "6f4a5f";
+			case 0xaecf: return "6f4a60";
+			case 0xaed0: return "6f4a61";
+			case 0xaed1: return "6f4a62";
+			case 0xaed8: return "6f4a63";
+			case 0xaedc: return "6f4a64";
+			case 0xaeed: return "6f772e";
+			case 0xaef4: return "6f4a65";
+			case 0xaf09: return "6f772f";
+			case 0xaf0d: return "6f4a66";
+			case 0xaf2c: return "6f4a67";
+			case 0xaf2d: return "6f4a68";
+			case 0xaf30: return "6f4a69";
+			case 0xaf34: return "6f4a6a";
+			case 0xaf3c: return "6f4a6b";
+			case 0xaf3d: return "6f4a6c";
+			case 0xaf3f: return "6f4a6d";
+			case 0xaf41: return "6f4a6e";
+			case 0xaf42: return "6f4a6f";
+			case 0xaf43: return "6f4a70";
+			case 0xaf48: return "6f4a71";
+			case 0xaf49: return "6f4a72";
+			case 0xaf4c: return "6f4a73";
+			case 0xaf50: return "6f7730";
+			case 0xaf58: return "6f4a74";
+			case 0xaf5c: return "6f4a75";
+			case 0xaf5d: return "6f4a76";
+			case 0xaf64: return "6f4a77";
+			case 0xaf65: return "6f4a78";
+			case 0xaf79: return "6f4a79";
+			case 0xaf80: return "6f4a7a";
+			case 0xaf84: return "6f4a7b";
+			case 0xaf88: return "6f4a7c";
+			case 0xaf90: return "6f4a7d";
+			case 0xaf95: return "6f4a7e";
+			case 0xaf9c: return "6f4b21";
+			case 0xafb8: return "6f4b22";
+			case 0xafb9: return "6f4b23";
+			case 0xafbc: return "6f4b24";
+			case 0xafbf: return "6f7731";
+			case 0xafc0: return "6f4b25";
+			case 0xafc7: return "6f4b26";
+			case 0xafc8: return "6f4b27";
+			case 0xafc9: return "6f4b28";
+			case 0xafcb: return "6f4b29";
+			case 0xafcd: return "6f4b2a";
+			case 0xafce: return "6f4b2b";
+			case 0xafd4: return "6f4b2c";
+			case 0xafd8: return "6f4b2d";
+			case 0xafe9: return "6f4b2e";
+			case 0xaff0: return "6f4b2f";
+			case 0xb000: return "6f4b30";
+			case 0xb00c: return "6f4b32";
+			case 0xb00d: return "6f4b33";
+			case 0xb010: return "6f4b34";
+			case 0xb014: return "6f4b35";
+			case 0xb01c: return "6f4b36";
+			case 0xb01d: return "6f4b37";
+			case 0xb028: return "6f4b38";
+			case 0xb044: return "6f4b39";
+			case 0xb045: return "6f4b3a";
+			case 0xb048: return "6f4b3b";
+			case 0xb04a: return "6f4b3c";
+			case 0xb04c: return "6f4b3d";
+			case 0xb053: return "6f4b3e";
+			case 0xb054: return "6f4b3f";
+			case 0xb055: return "6f4b40";
+			case 0xb057: return "6f4b41";
+			case 0xb059: return "6f4b42";
+			case 0xb05d: return "6f4b43";
+			case 0xb060: return "6f7732";
+			case 0xb07c: return "6f4b44";
+			case 0xb07d: return "6f4b45";
+			case 0xb080: return "6f4b46";
+			case 0xb084: return "6f4b47";
+			case 0xb08c: return "6f4b48";
+			case 0xb08d: return "6f4b49";
+			case 0xb08f: return "6f4b4a";
+			case 0xb090: return "6f4b4b";
+			case 0xb091: return "6f4b4c";
+			case 0xb098: return "6f4b4f";
+			case 0xb099: return "6f4b50";
+			case 0xb09a: return "6f4b51";
+			case 0xb09c: return "6f4b52";
+			case 0xb09f: return "6f4b53";
+			case 0xb0a0: return "6f4b54";
+			case 0xb0a1: return "6f4b55";
+			case 0xb0a8: return "6f4b56";
+			case 0xb0a9: return "6f4b57";
+			case 0xb0ab: return "6f4b58";
+			case 0xb0ac: return "6f4b59";
+			case 0xb0ad: return "6f4b5a";
+			case 0xb0ae: return "6f4b5b";
+			case 0xb0af: return "6f4b5c";
+			case 0xb0b1: return "6f4b5d";
+			case 0xb0b3: return "6f4b5e";
+			case 0xb0b4: return "6f4b5f";
+			case 0xb0b5: return "6f4b60";
+			case 0xb0b8: return "6f4b61";
+			case 0xb0bb: return "6f4b62";
+			case 0xb0bc: return "6f4b63";
+			case 0xb0c4: return "6f4b64";
+			case 0xb0c5: return "6f4b65";
+			case 0xb0c7: return "6f4b66";
+			case 0xb0c8: return "6f4b67";
+			case 0xb0c9: return "6f4b68";
+			case 0xb0d0: return "6f4b69";
+			case 0xb0d1: return "6f4b6a";
+			case 0xb0e0: return "6f4b6b";
+			case 0xb0e5: return "6f4b6c";
+			case 0xb0ec: return "6f4b6d";
+			case 0xb108: return "6f4b6e";
+			case 0xb109: return "6f4b6f";
+			case 0xb10b: return "6f4b71";
+			case 0xb10c: return "6f4b72";
+			case 0xb10f: return "6f4b73";
+			case 0xb110: return "6f4b74";
+			case 0xb113: return "6f4b75";
+			case 0xb118: return "6f4b76";
+			case 0xb119: return "6f4b77";
+			case 0xb11b: return "6f4b78";
+			case 0xb11c: return "6f4b79";
+			case 0xb11d: return "6f4b7a";
+			case 0xb11e: return "6f4b7b";
+			case 0xb123: return "6f4b7c";
+			case 0xb124: return "6f4b7d";
+			case 0xb125: return "6f4b7e";
+			case 0xb128: return "6f4c21";
+			case 0xb12c: return "6f4c22";
+			case 0xb134: return "6f4c23";
+			case 0xb135: return "6f4c24";
+			case 0xb137: return "6f4c25";
+			case 0xb140: return "6f4c26";
+			case 0xb141: return "6f4c27";
+			case 0xb144: return "6f4c28";
+			case 0xb150: return "6f4c29";
+			case 0xb151: return "6f4c2a";
+			case 0xb153: return "6f4c2b";
+			case 0xb154: return "6f4c2c";
+			case 0xb155: return "6f4c2d";
+			case 0xb158: return "6f4c2e";
+			case 0xb15c: return "6f4c2f";
+			case 0xb178: return "6f4c30";
+			case 0xb179: return "6f4c31";
+			case 0xb17a: return "6f4c32";
+			case 0xb17c: return "6f4c33";
+			case 0xb180: return "6f4c34";
+			case 0xb188: return "6f4c35";
+			case 0xb189: return "6f4c36";
+			case 0xb18b: return "6f4c37";
+			case 0xb18d: return "6f4c38";
+			case 0xb192: return "6f4c39";
+			case 0xb193: return "6f4c3a";
+			case 0xb194: return "6f4c3b";
+			case 0xb1a8: return "6f4c3c";
+			case 0xb1cc: return "6f4c3d";
+			case 0xb1d0: return "6f4c3e";
+			case 0xb1d4: return "6f4c3f";
+			case 0xb1dc: return "6f4c40";
+			case 0xb1e8: return "6f4c41";
+			case 0xb1fd: return "6f4c42";
+			case 0xb204: return "6f4c43";
+			case 0xb205: return "6f4c44";
+			case 0xb208: return "6f4c45";
+			case 0xb20b: return "6f4c46";
+			case 0xb20c: return "6f4c47";
+			case 0xb213: return "6f4c48";
+			case 0xb214: return "6f4c49";
+			case 0xb215: return "6f4c4a";
+			case 0xb217: return "6f4c4b";
+			case 0xb220: return "6f4c4c";
+			case 0xb233: return "6f4c4d";
+			case 0xb234: return "6f4c4e";
+			case 0xb258: return "6f4c4f";
+			case 0xb25c: return "6f4c50";
+			case 0xb260: return "6f4c51";
+			case 0xb268: return "6f4c52";
+			case 0xb269: return "6f4c53";
+			case 0xb274: return "6f4c54";
+			case 0xb284: return "6f4c55";
+			case 0xb289: return "6f4c56";
+			case 0xb290: return "6f4c57";
+			case 0xb291: return "6f4c58";
+			case 0xb294: return "6f4c59";
+			case 0xb298: return "6f4c5a";
+			case 0xb299: return "6f4c5b";
+			case 0xb2a0: return "6f4c5c";
+			case 0xb2a1: return "6f4c5d";
+			case 0xb2a5: return "6f4c5e";
+			case 0xb2a6: return "6f4c5f";
+			case 0xb2aa: return "6f4c60";
+			case 0xb2ac: return "6f4c61";
+			case 0xb2c8: return "6f4c62";
+			case 0xb2c9: return "6f4c63";
+			case 0xb2cc: return "6f4c64";
+			case 0xb2d0: return "6f4c65";
+			case 0xb2d8: return "6f4c66";
+			case 0xb2d9: return "6f4c67";
+			case 0xb2db: return "6f4c68";
+			case 0xb2dd: return "6f4c69";
+			case 0xb2e2: return "6f4c6a";
+			case 0xb2e4: return "6f4c6d";
+			case 0xb2e5: return "6f4c6e";
+			case 0xb2e6: return "6f4c6f";
+			case 0xb2e8: return "6f4c70";
+			case 0xb2eb: return "6f4c71";
+			case 0xb2ec: return "6f4c72";
+			case 0xb2ed: return "6f4c73";
+			case 0xb2ee: return "6f4c74";
+			case 0xb2f3: return "6f4c75";
+			case 0xb2f4: return "6f4c76";
+			case 0xb2f5: return "6f4c77";
+			case 0xb2f7: return "6f4c78";
+			case 0xb2f9: return "6f4c79";
+			case 0xb2fa: return "6f4c7a";
+			case 0xb2fb: return "6f4c7b";
+			case 0xb2ff: return "6f4c7c";
+			case 0xb300: return "6f4c7d";
+			case 0xb301: return "6f4c7e";
+			case 0xb304: return "6f4d21";
+			case 0xb308: return "6f4d22";
+			case 0xb310: return "6f4d23";
+			case 0xb311: return "6f4d24";
+			case 0xb313: return "6f4d25";
+			case 0xb314: return "6f4d26";
+			case 0xb315: return "6f4d27";
+			case 0xb354: return "6f4d28";
+			case 0xb355: return "6f4d29";
+			case 0xb358: return "6f4d2a";
+			case 0xb35b: return "6f4d2b";
+			case 0xb35c: return "6f4d2c";
+			case 0xb35f: return "6f4d2d";
+			case 0xb364: return "6f4d2e";
+			case 0xb365: return "6f4d2f";
+			case 0xb367: return "6f4d30";
+			case 0xb368: return "6f4d31";
+			case 0xb369: return "6f4d32";
+			case 0xb36a: return "6f4d33";
+			case 0xb36b: return "6f4d34";
+			case 0xb36e: return "6f4d35";
+			case 0xb370: return "6f4d36";
+			case 0xb371: return "6f4d37";
+			case 0xb374: return "6f4d38";
+			case 0xb378: return "6f4d39";
+			case 0xb380: return "6f4d3a";
+			case 0xb383: return "6f4d3b";
+			case 0xb385: return "6f4d3c";
+			case 0xb38c: return "6f4d3d";
+			case 0xb3c4: return "6f4d3e";
+			case 0xb3c5: return "6f4d3f";
+			case 0xb3c8: return "6f4d40";
+			case 0xb3cb: return "6f4d41";
+			case 0xb3cc: return "6f4d42";
+			case 0xb3d0: return "6f4d43";
+			case 0xb3d4: return "6f4d44";
+			case 0xb3d5: return "6f4d45";
+			case 0xb3d7: return "6f4d46";
+			case 0xb3d9: return "6f4d47";
+			case 0xb3db: return "6f4d48";
+			case 0xb3fc: return "6f4d49";
+			case 0xb400: return "6f4d4a";
+			case 0xb410: return "6f4d4b";
+			case 0xb418: return "6f4d4c";
+			case 0xb41c: return "6f4d4d";
+			case 0xb420: return "6f4d4e";
+			case 0xb428: return "6f4d4f";
+			case 0xb429: return "6f4d50";
+			case 0xb42b: return "6f4d51";
+			case 0xb42c: return "6f4d52";
+			case 0xb450: return "6f4d53";
+			case 0xb451: return "6f4d54";
+			case 0xb454: return "6f4d55";
+			case 0xb458: return "6f4d56";
+			case 0xb460: return "6f4d57";
+			case 0xb461: return "6f4d58";
+			case 0xb463: return "6f4d59";
+			case 0xb465: return "6f4d5a";
+			case 0xb46c: return "6f4d5b";
+			case 0xb480: return "6f4d5c";
+			case 0xb488: return "6f4d5d";
+			case 0xb4a4: return "6f4d5e";
+			case 0xb4b7: return "6f4d5f";
+			case 0xb4c0: return "6f4d60";
+			case 0xb4d0: return "6f4d61";
+			case 0xb4dc: return "6f4d62";
+			case 0xb4dd: return "6f4d63";
+			case 0xb4e0: return "6f4d64";
+			case 0xb4e3: return "6f4d65";
+			case 0xb4e4: return "6f4d66";
+			case 0xb4ec: return "6f4d67";
+			case 0xb4ed: return "6f4d68";
+			case 0xb4ef: return "6f4d69";
+			case 0xb4f1: return "6f4d6a";
+			case 0xb514: return "6f4d6b";
+			case 0xb515: return "6f4d6c";
+			case 0xb518: return "6f4d6d";
+			case 0xb51b: return "6f4d6e";
+			case 0xb51c: return "6f4d6f";
+			case 0xb524: return "6f4d70";
+			case 0xb525: return "6f4d71";
+			case 0xb527: return "6f4d72";
+			case 0xb528: return "6f4d73";
+			case 0xb529: return "6f4d74";
+			case 0xb52a: return "6f4d75";
+			case 0xb530: return "6f4d78";
+			case 0xb531: return "6f4d79";
+			case 0xb532: return "6f4d7a";
+			case 0xb534: return "6f4d7b";
+			case 0xb537: return "6f4d7c";
+			case 0xb538: return "6f4d7d";
+			case 0xb540: return "6f4e21";
+			case 0xb541: return "6f4e22";
+			case 0xb543: return "6f4e23";
+			case 0xb544: return "6f4e24";
+			case 0xb545: return "6f4e25";
+			case 0xb54b: return "6f4e26";
+			case 0xb54c: return "6f4e27";
+			case 0xb54d: return "6f4e28";
+			case 0xb550: return "6f4e29";
+			case 0xb554: return "6f4e2a";
+			case 0xb55c: return "6f4e2b";
+			case 0xb55d: return "6f4e2c";
+			case 0xb55f: return "6f4e2d";
+			case 0xb560: return "6f4e2e";
+			case 0xb561: return "6f4e2f";
+			case 0xb5a0: return "6f4e30";
+			case 0xb5a1: return "6f4e31";
+			case 0xb5a4: return "6f4e32";
+			case 0xb5a8: return "6f4e33";
+			case 0xb5ab: return "6f4e34";
+			case 0xb5b0: return "6f4e35";
+			case 0xb5b1: return "6f4e36";
+			case 0xb5b3: return "6f4e37";
+			case 0xb5b4: return "6f4e38";
+			case 0xb5b5: return "6f4e39";
+			case 0xb5bb: return "6f4e3a";
+			case 0xb5bc: return "6f4e3b";
+			case 0xb5c0: return "6f4e3c";
+			case 0xb5c4: return "6f4e3d";
+			case 0xb5cc: return "6f4e3e";
+			case 0xb5cf: return "6f4e3f";
+			case 0xb5d1: return "6f4e40";
+			case 0xb610: return "6f4e41";
+			case 0xb611: return "6f4e42";
+			case 0xb614: return "6f4e43";
+			case 0xb618: return "6f4e44";
+			case 0xb625: return "6f4e45";
+			case 0xb664: return "6f4e46";
+			case 0xb69c: return "6f4e47";
+			case 0xb69d: return "6f4e48";
+			case 0xb6a4: return "6f4e49";
+			case 0xb6ab: return "6f4e4a";
+			case 0xb6ac: return "6f4e4b";
+			case 0xb6b1: return "6f4e4c";
+			case 0xb6f0: return "6f4e4d";
+			case 0xb6f4: return "6f4e4e";
+			case 0xb6f8: return "6f4e4f";
+			case 0xb700: return "6f4e50";
+			case 0xb701: return "6f4e51";
+			case 0xb728: return "6f4e52";
+			case 0xb729: return "6f4e53";
+			case 0xb72c: return "6f4e54";
+			case 0xb72f: return "6f4e55";
+			case 0xb730: return "6f4e56";
+			case 0xb738: return "6f4e57";
+			case 0xb739: return "6f4e58";
+			case 0xb73b: return "6f4e59";
+			case 0xb744: return "6f4e5a";
+			case 0xb748: return "6f4e5b";
+			case 0xb760: return "6f4e5c";
+			case 0xb764: return "6f4e5d";
+			case 0xb768: return "6f4e5e";
+			case 0xb770: return "6f4e5f";
+			case 0xb771: return "6f4e60";
+			case 0xb775: return "6f4e61";
+			case 0xb77c: return "6f4e64";
+			case 0xb77d: return "6f4e65";
+			case 0xb780: return "6f4e66";
+			case 0xb784: return "6f4e67";
+			case 0xb78c: return "6f4e68";
+			case 0xb78d: return "6f4e69";
+			case 0xb78f: return "6f4e6a";
+			case 0xb790: return "6f4e6b";
+			case 0xb791: return "6f4e6c";
+			case 0xb797: return "6f4e6d";
+			case 0xb798: return "6f4e6e";
+			case 0xb799: return "6f4e6f";
+			case 0xb79c: return "6f4e70";
+			case 0xb7a0: return "6f4e71";
+			case 0xb7a8: return "6f4e72";
+			case 0xb7a9: return "6f4e73";
+			case 0xb7ab: return "6f4e74";
+			case 0xb7ac: return "6f4e75";
+			case 0xb7ad: return "6f4e76";
+			case 0xb7b4: return "6f4e77";
+			case 0xb7b5: return "6f4e78";
+			case 0xb7c9: return "6f4e79";
+			case 0xb7ec: return "6f4e7a";
+			case 0xb7ed: return "6f4e7b";
+			case 0xb7f0: return "6f4e7c";
+			case 0xb7f4: return "6f4e7d";
+			case 0xb7fc: return "6f4e7e";
+			case 0xb7fd: return "6f4f21";
+			case 0xb7ff: return "6f4f22";
+			case 0xb800: return "6f4f23";
+			case 0xb801: return "6f4f24";
+			case 0xb807: return "6f4f25";
+			case 0xb808: return "6f4f26";
+			case 0xb809: return "6f4f27";
+			case 0xb80c: return "6f4f28";
+			case 0xb810: return "6f4f29";
+			case 0xb818: return "6f4f2a";
+			case 0xb819: return "6f4f2b";
+			case 0xb81b: return "6f4f2c";
+			case 0xb81d: return "6f4f2d";
+			case 0xb824: return "6f4f2e";
+			case 0xb825: return "6f4f2f";
+			case 0xb828: return "6f4f30";
+			case 0xb82c: return "6f4f31";
+			case 0xb834: return "6f4f32";
+			case 0xb835: return "6f4f33";
+			case 0xb837: return "6f4f34";
+			case 0xb838: return "6f4f35";
+			case 0xb839: return "6f4f36";
+			case 0xb840: return "6f4f37";
+			case 0xb85c: return "6f4f38";
+			case 0xb85d: return "6f4f39";
+			case 0xb860: return "6f4f3a";
+			case 0xb864: return "6f4f3b";
+			case 0xb86c: return "6f4f3c";
+			case 0xb86d: return "6f4f3d";
+			case 0xb86f: return "6f4f3e";
+			case 0xb871: return "6f4f3f";
+			case 0xb8b0: return "6f4f40";
+			case 0xb8cc: return "6f4f41";
+			case 0xb8e1: return "6f4f42";
+			case 0xb8e8: return "6f4f43";
+			case 0xb8e9: return "6f4f44";
+			case 0xb8ec: return "6f4f45";
+			case 0xb8f0: return "6f4f46";
+			case 0xb8f8: return "6f4f47";
+			case 0xb8f9: return "6f4f48";
+			case 0xb8fb: return "6f4f49";
+			case 0xb8fd: return "6f4f4a";
+			case 0xb904: return "6f4f4b";
+			case 0xb93c: return "6f4f4c";
+			case 0xb958: return "6f4f4d";
+			case 0xb959: return "6f4f4e";
+			case 0xb95c: return "6f4f4f";
+			case 0xb960: return "6f4f50";
+			case 0xb968: return "6f4f51";
+			case 0xb96d: return "6f4f52";
+			case 0xb974: return "6f4f53";
+			case 0xb975: return "6f4f54";
+			case 0xb978: return "6f4f55";
+			case 0xb97c: return "6f4f56";
+			case 0xb984: return "6f4f57";
+			case 0xb985: return "6f4f58";
+			case 0xb987: return "6f4f59";
+			case 0xb989: return "6f4f5a";
+			case 0xb98e: return "6f4f5b";
+			case 0xb9ac: return "6f4f5c";
+			case 0xb9ad: return "6f4f5d";
+			case 0xb9b0: return "6f4f5e";
+			case 0xb9b4: return "6f4f5f";
+			case 0xb9bc: return "6f4f60";
+			case 0xb9bd: return "6f4f61";
+			case 0xb9bf: return "6f4f62";
+			case 0xb9c1: return "6f4f63";
+			case 0xb9c4: return "6f7733";
+			case 0xb9c8: return "6f4f66";
+			case 0xb9c9: return "6f4f67";
+			case 0xb9cc: return "6f4f68";
+			case 0xb9ce: return "6f4f69";
+			case 0xb9cf: return "6f4f6a";
+			case 0xb9d0: return "6f4f6b";
+			case 0xb9d1: return "6f4f6c";
+			case 0xb9d8: return "6f4f6d";
+			case 0xb9d9: return "6f4f6e";
+			case 0xb9db: return "6f4f6f";
+			case 0xb9dd: return "6f4f70";
+			case 0xb9de: return "6f4f71";
+			case 0xb9e1: return "6f4f72";
+			case 0xb9e3: return "6f4f73";
+			case 0xb9e4: return "6f4f74";
+			case 0xb9e5: return "6f4f75";
+			case 0xb9e8: return "6f4f76";
+			case 0xb9ec: return "6f4f77";
+			case 0xb9f4: return "6f4f78";
+			case 0xb9f5: return "6f4f79";
+			case 0xb9f7: return "6f4f7a";
+			case 0xb9f8: return "6f4f7b";
+			case 0xb9f9: return "6f4f7c";
+			case 0xb9fa: return "6f4f7d";
+			case 0xba00: return "6f4f7e";
+			case 0xba38: return "6f5021";
+			case 0xba39: return "6f5022";
+			case 0xba3c: return "6f5023";
+			case 0xba40: return "6f5024";
+			case 0xba48: return "6f5025";
+			case 0xba49: return "6f5026";
+			case 0xba4b: return "6f5027";
+			case 0xba4d: return "6f5028";
+			case 0xba4e: return "6f5029";
+			case 0xba53: return "6f502a";
+			case 0xba54: return "6f502b";
+			case 0xba55: return "6f502c";
+			case 0xba58: return "6f502d";
+			case 0xba5c: return "6f502e";
+			case 0xba64: return "6f502f";
+			case 0xba65: return "6f5030";
+			case 0xba67: return "6f5031";
+			case 0xba70: return "6f5032";
+			case 0xba71: return "6f5033";
+			case 0xba74: return "6f5034";
+			case 0xba78: return "6f5035";
+			case 0xba83: return "6f5036";
+			case 0xba84: return "6f5037";
+			case 0xba85: return "6f5038";
+			case 0xba87: return "6f5039";
+			case 0xbaa8: return "6f503a";
+			case 0xbaa9: return "6f503b";
+			case 0xbaab: return "6f503c";
+			case 0xbaac: return "6f503d";
+			case 0xbab0: return "6f503e";
+			case 0xbab8: return "6f503f";
+			case 0xbab9: return "6f5040";
+			case 0xbabb: return "6f5041";
+			case 0xbabd: return "6f5042";
+			case 0xbac3: return "6f5043";
+			case 0xbafc: return "6f5044";
+			case 0xbb0f: return "6f5045";
+			case 0xbb18: return "6f5046";
+			case 0xbb34: return "6f5047";
+			case 0xbb35: return "6f5048";
+			case 0xbb36: return "6f5049";
+			case 0xbb38: return "6f504a";
+			case 0xbb3b: return "6f504b";
+			case 0xbb3c: return "6f504c";
+			case 0xbb3d: return "6f504d";
+			case 0xbb44: return "6f504e";
+			case 0xbb47: return "6f504f";
+			case 0xbb49: return "6f5050";
+			case 0xbb4d: return "6f5051";
+			case 0xbb4f: return "6f5052";
+			case 0xbb50: return "6f5053";
+			case 0xbb54: return "6f5054";
+			case 0xbb58: return "6f5055";
+			case 0xbb61: return "6f5056";
+			case 0xbb63: return "6f5057";
+			case 0xbb88: return "6f5058";
+			case 0xbb8c: return "6f5059";
+			case 0xbba4: return "6f505a";
+			case 0xbbb4: return "6f506b";
+			case 0xbbc0: return "6f505b";
+			case 0xbbc4: return "6f505c";
+			case 0xbbc8: return "6f505d";
+			case 0xbbd0: return "6f505e";
+			case 0xbbf8: return "6f505f";
+			case 0xbbf9: return "6f5060";
+			case 0xbbfc: return "6f5061";
+			case 0xbbff: return "6f5062";
+			case 0xbc00: return "6f5063";
+			case 0xbc08: return "6f5064";
+			case 0xbc09: return "6f5065";
+			case 0xbc0b: return "6f5066";
+			case 0xbc0d: return "6f5068";
+			case 0xbc0f: return "6f5069";
+			case 0xbc11: return "6f506a";
+			case 0xbc14: return "6f506d";
+			case 0xbc15: return "6f506e";
+			case 0xbc16: return "6f506f";
+			case 0xbc18: return "6f5070";
+			case 0xbc1b: return "6f5071";
+			case 0xbc1c: return "6f5072";
+			case 0xbc1d: return "6f5073";
+			case 0xbc1f: return "6f5074";
+			case 0xbc24: return "6f5075";
+			case 0xbc25: return "6f5076";
+			case 0xbc27: return "6f5077";
+			case 0xbc29: return "6f5078";
+			case 0xbc2d: return "6f5079";
+			case 0xbc30: return "6f507a";
+			case 0xbc31: return "6f507b";
+			case 0xbc34: return "6f507c";
+			case 0xbc37: return "6f507d";
+			case 0xbc38: return "6f507e";
+			case 0xbc40: return "6f5121";
+			case 0xbc41: return "6f5122";
+			case 0xbc43: return "6f5123";
+			case 0xbc44: return "6f5124";
+			case 0xbc45: return "6f5125";
+			case 0xbc84: return "6f5126";
+			case 0xbc85: return "6f5127";
+			case 0xbc88: return "6f5128";
+			case 0xbc8b: return "6f5129";
+			case 0xbc8c: return "6f512a";
+			case 0xbc94: return "6f512b";
+			case 0xbc95: return "6f512c";
+			case 0xbc97: return "6f512d";
+			case 0xbc98: return "6f512e";
+			case 0xbc99: return "6f512f";
+			case 0xbc9a: return "6f5130";
+			case 0xbca0: return "6f5131";
+			case 0xbca1: return "6f5132";
+			case 0xbca4: return "6f5133";
+			case 0xbca7: return "6f5134";
+			case 0xbca8: return "6f5135";
+			case 0xbcb0: return "6f5136";
+			case 0xbcb1: return "6f5137";
+			case 0xbcb3: return "6f5138";
+			case 0xbcb5: return "6f5139";
+			case 0xbcbc: return "6f513a";
+			case 0xbcbd: return "6f513b";
+			case 0xbcc0: return "6f513c";
+			case 0xbcc4: return "6f513d";
+			case 0xbccc: return "6f513e";
+			case 0xbccd: return "6f513f";
+			case 0xbccf: return "6f5140";
+			case 0xbcd0: return "6f5141";
+			case 0xbcd1: return "6f5142";
+			case 0xbcd2: return "6f5143";
+			case 0xbcd5: return "6f5144";
+			case 0xbcf4: return "6f5145";
+			case 0xbcf5: return "6f5146";
+			case 0xbcf6: return "6f5147";
+			case 0xbcf8: return "6f5148";
+			case 0xbcfc: return "6f5149";
+			case 0xbd04: return "6f514a";
+			case 0xbd05: return "6f514b";
+			case 0xbd07: return "6f514c";
+			case 0xbd09: return "6f514d";
+			case 0xbd10: return "6f514e";
+			case 0xbd14: return "6f514f";
+			case 0xbd24: return "6f5150";
+			case 0xbd48: return "6f5151";
+			case 0xbd49: return "6f5152";
+			case 0xbd4c: return "6f5153";
+			case 0xbd50: return "6f5154";
+			case 0xbd58: return "6f5155";
+			case 0xbd59: return "6f5156";
+			case 0xbd64: return "6f5157";
+			case 0xbd80: return "6f5158";
+			case 0xbd81: return "6f5159";
+			case 0xbd84: return "6f515a";
+			case 0xbd87: return "6f515b";
+			case 0xbd88: return "6f515c";
+			case 0xbd89: return "6f515d";
+			case 0xbd90: return "6f515e";
+			case 0xbd91: return "6f515f";
+			case 0xbd93: return "6f5160";
+			case 0xbd95: return "6f5161";
+			case 0xbd99: return "6f5162";
+			case 0xbd9c: return "6f5163";
+			case 0xbdd4: return "6f5164";
+			case 0xbdf0: return "6f5165";
+			case 0xbe0c: return "6f5166";
+			case 0xbe0d: return "6f5167";
+			case 0xbe10: return "6f5168";
+			case 0xbe14: return "6f5169";
+			case 0xbe1c: return "6f516a";
+			case 0xbe1d: return "6f516b";
+			case 0xbe1f: return "6f516c";
+			case 0xbe44: return "6f516d";
+			case 0xbe45: return "6f516e";
+			case 0xbe48: return "6f516f";
+			case 0xbe4b: return "6f5170";
+			case 0xbe4c: return "6f5171";
+			case 0xbe4e: return "6f5172";
+			case 0xbe54: return "6f5173";
+			case 0xbe55: return "6f5174";
+			case 0xbe57: return "6f5175";
+			case 0xbe59: return "6f5176";
+			case 0xbe5a: return "6f5177";
+			case 0xbe5b: return "6f5178";
+			case 0xbe60: return "6f517b";
+			case 0xbe61: return "6f517c";
+			case 0xbe64: return "6f517d";
+			case 0xbe68: return "6f517e";
+			case 0xbe70: return "6f5221";
+			case 0xbe71: return "6f5222";
+			case 0xbe73: return "6f5223";
+			case 0xbe74: return "6f5224";
+			case 0xbe75: return "6f5225";
+			case 0xbe7b: return "6f5226";
+			case 0xbe7c: return "6f5227";
+			case 0xbe7d: return "6f5228";
+			case 0xbe80: return "6f5229";
+			case 0xbe84: return "6f522a";
+			case 0xbe8c: return "6f522b";
+			case 0xbe8f: return "6f522c";
+			case 0xbe90: return "6f522d";
+			case 0xbe91: return "6f522e";
+			case 0xbe98: return "6f522f";
+			case 0xbea8: return "6f5230";
+			case 0xbed0: return "6f5231";
+			case 0xbed1: return "6f5232";
+			case 0xbed4: return "6f5233";
+			case 0xbed7: return "6f5234";
+			case 0xbed8: return "6f5235";
+			case 0xbee0: return "6f5236";
+			case 0xbee3: return "6f5237";
+			case 0xbee4: return "6f5238";
+			case 0xbee5: return "6f5239";
+			case 0xbeec: return "6f523a";
+			case 0xbf08: return "6f523b";
+			case 0xbf09: return "6f523c";
+			case 0xbf18: return "6f523d";
+			case 0xbf1d: return "6f523e";
+			case 0xbf40: return "6f523f";
+			case 0xbf41: return "6f5240";
+			case 0xbf44: return "6f5241";
+			case 0xbf48: return "6f5242";
+			case 0xbf50: return "6f5243";
+			case 0xbf51: return "6f5244";
+			case 0xbf55: return "6f5245";
+			case 0xbfb0: return "6f5246";
+			case 0xbfc0: return "6f5247";
+			case 0xbfc5: return "6f5248";
+			case 0xbfcc: return "6f5249";
+			case 0xbfcd: return "6f524a";
+			case 0xbfd0: return "6f524b";
+			case 0xbfd4: return "6f524c";
+			case 0xbfdc: return "6f524d";
+			case 0xbfdd: return "6f524e";
+			case 0xbfe1: return "6f524f";
+			case 0xc058: return "6f5250";
+			case 0xc059: return "6f5251";
+			case 0xc05c: return "6f5252";
+			case 0xc060: return "6f5253";
+			case 0xc068: return "6f5254";
+			case 0xc069: return "6f5255";
+			case 0xc090: return "6f5256";
+			case 0xc091: return "6f5257";
+			case 0xc094: return "6f5258";
+			case 0xc098: return "6f5259";
+			case 0xc0a0: return "6f525a";
+			case 0xc0a3: return "6f525b";
+			case 0xc0a5: return "6f525c";
+			case 0xc0ac: return "6f525f";
+			case 0xc0ad: return "6f5260";
+			case 0xc0ae: return "6f5261";
+			case 0xc0af: return "6f5262";
+			case 0xc0b0: return "6f5263";
+			case 0xc0b3: return "6f5264";
+			case 0xc0b4: return "6f5265";
+			case 0xc0b5: return "6f5266";
+			case 0xc0b6: return "6f5267";
+			case 0xc0bc: return "6f5268";
+			case 0xc0bd: return "6f5269";
+			case 0xc0bf: return "6f526a";
+			case 0xc0c0: return "6f526b";
+			case 0xc0c1: return "6f526c";
+			case 0xc0c5: return "6f526d";
+			case 0xc0c8: return "6f526e";
+			case 0xc0c9: return "6f526f";
+			case 0xc0cc: return "6f5270";
+			case 0xc0cf: return "6f5271";
+			case 0xc0d0: return "6f5272";
+			case 0xc0d8: return "6f5273";
+			case 0xc0d9: return "6f5274";
+			case 0xc0db: return "6f5275";
+			case 0xc0dc: return "6f5276";
+			case 0xc0dd: return "6f5277";
+			case 0xc0e4: return "6f5278";
+			case 0xc0e5: return "6f5279";
+			case 0xc0e8: return "6f527a";
+			case 0xc0ec: return "6f527b";
+			case 0xc0f4: return "6f527c";
+			case 0xc0f7: return "6f527d";
+			case 0xc0f9: return "6f527e";
+			case 0xc11c: return "6f5321";
+			case 0xc11d: return "6f5322";
+			case 0xc11e: return "6f5323";
+			case 0xc120: return "6f5324";
+			case 0xc123: return "6f5325";
+			case 0xc124: return "6f5326";
+			case 0xc125: return "6f5327";
+			case 0xc126: return "6f5328";
+			case 0xc127: return "6f5329";
+			case 0xc12a: return "6f532a";
+			case 0xc12c: return "6f532b";
+			case 0xc12d: return "6f532c";
+			case 0xc12f: return "6f532d";
+			case 0xc130: return "6f532e";
+			case 0xc131: return "6f532f";
+			case 0xc136: return "6f5330";
+			case 0xc138: return "6f5331";
+			case 0xc139: return "6f5332";
+			case 0xc13c: return "6f5333";
+			case 0xc140: return "6f5334";
+			case 0xc148: return "6f5335";
+			case 0xc149: return "6f5336";
+			case 0xc14b: return "6f5337";
+			case 0xc14d: return "6f5338";
+			case 0xc151: return "6f5339";
+			case 0xc154: return "6f533a";
+			case 0xc158: return "6f533b";
+			case 0xc167: return "6f533c";
+			case 0xc168: return "6f533d";
+			case 0xc170: return "6f533e";
+			case 0xc18c: return "6f533f";
+			case 0xc18d: return "6f5340";
+			case 0xc18e: return "6f5341";
+			case 0xc190: return "6f5342";
+			case 0xc194: return "6f5343";
+			case 0xc19c: return "6f5344";
+			case 0xc19d: return "6f5345";
+			case 0xc19f: return "6f5346";
+			case 0xc1a1: return "6f5347";
+			case 0xc1a5: return "6f5348";
+			case 0xc1a8: return "6f5349";
+			case 0xc1a9: return "6f534a";
+			case 0xc1b0: return "6f534b";
+			case 0xc1c4: return "6f534c";
+			case 0xc1c8: return "6f534d";
+			case 0xc1d7: return "6f534e";
+			case 0xc1e0: return "6f534f";
+			case 0xc1e4: return "6f5350";
+			case 0xc1e8: return "6f5351";
+			case 0xc1f0: return "6f5352";
+			case 0xc1f1: return "6f5353";
+			case 0xc1f3: return "6f5354";
+			case 0xc1fc: return "6f5355";
+			case 0xc1fd: return "6f5356";
+			case 0xc200: return "6f5357";
+			case 0xc204: return "6f5358";
+			case 0xc20d: return "6f5359";
+			case 0xc218: return "6f535b";
+			case 0xc219: return "6f535c";
+			case 0xc21c: return "6f535d";
+			case 0xc21f: return "6f535e";
+			case 0xc220: return "6f535f";
+			case 0xc228: return "6f5360";
+			case 0xc229: return "6f5361";
+			case 0xc22b: return "6f5362";
+			case 0xc22d: return "6f5363";
+			case 0xc22f: return "6f5364";
+			case 0xc231: return "6f5365";
+			case 0xc232: return "6f5366";
+			case 0xc234: return "6f5367";
+			case 0xc250: return "6f5368";
+			case 0xc258: return "6f5369";
+			case 0xc26c: return "6f536a";
+			case 0xc270: return "6f536b";
+			case 0xc274: return "6f536c";
+			case 0xc27c: return "6f536d";
+			case 0xc27d: return "6f536e";
+			case 0xc27f: return "6f536f";
+			case 0xc281: return "6f5370";
+			case 0xc288: return "6f5371";
+			case 0xc289: return "6f5372";
+			case 0xc290: return "6f5373";
+			case 0xc298: return "6f5374";
+			case 0xc29b: return "6f5375";
+			case 0xc29d: return "6f5376";
+			case 0xc2a4: return "6f5377";
+			case 0xc2a5: return "6f5378";
+			case 0xc2a8: return "6f5379";
+			case 0xc2ac: return "6f537a";
+			case 0xc2ad: return "6f537b";
+			case 0xc2b4: return "6f537d";
+			case 0xc2b5: return "6f537e";
+			case 0xc2b7: return "6f5421";
+			case 0xc2b9: return "6f5422";
+			case 0xc2dc: return "6f5423";
+			case 0xc2dd: return "6f5424";
+			case 0xc2e0: return "6f5425";
+			case 0xc2e3: return "6f5426";
+			case 0xc2e4: return "6f5427";
+			case 0xc2eb: return "6f5428";
+			case 0xc2ec: return "6f5429";
+			case 0xc2ed: return "6f542a";
+			case 0xc2ef: return "6f542b";
+			case 0xc2f1: return "6f542c";
+			case 0xc2f6: return "6f542d";
+			case 0xc2f8: return "6f5430";
+			case 0xc2f9: return "6f5431";
+			case 0xc2fc: return "6f5432";
+			case 0xc300: return "6f5433";
+			case 0xc308: return "6f5434";
+			case 0xc309: return "6f5435";
+			case 0xc30b: return "6f5436";
+			case 0xc30c: return "6f5437";
+			case 0xc30d: return "6f5438";
+			case 0xc313: return "6f5439";
+			case 0xc314: return "6f543a";
+			case 0xc315: return "6f543b";
+			case 0xc318: return "6f543c";
+			case 0xc31c: return "6f543d";
+			case 0xc324: return "6f543e";
+			case 0xc327: return "6f543f";
+			case 0xc328: return "6f5440";
+			case 0xc329: return "6f5441";
+			case 0xc330: return "6f5442";
+			case 0xc343: return "6f5443";
+			case 0xc345: return "6f5444";
+			case 0xc368: return "6f5445";
+			case 0xc369: return "6f5446";
+			case 0xc36c: return "6f5447";
+			case 0xc370: return "6f5448";
+			case 0xc372: return "6f5449";
+			case 0xc378: return "6f544a";
+			case 0xc379: return "6f544b";
+			case 0xc37c: return "6f544c";
+			case 0xc37d: return "6f544d";
+			case 0xc384: return "6f544e";
+			case 0xc388: return "6f544f";
+			case 0xc399: return "6f5450";
+			case 0xc3d8: return "6f5451";
+			case 0xc3d9: return "6f5452";
+			case 0xc3dc: return "6f5453";
+			case 0xc3df: return "6f5454";
+			case 0xc3e0: return "6f5455";
+			case 0xc3e8: return "6f5456";
+			case 0xc3ed: return "6f5457";
+			case 0xc3f4: return "6f5458";
+			case 0xc3f5: return "6f5459";
+			case 0xc410: return "6f545a";
+			case 0xc42c: return "6f545b";
+			case 0xc430: return "6f545c";
+			case 0xc434: return "6f545d";
+			case 0xc43c: return "6f545e";
+			case 0xc43f: return "6f545f";
+			case 0xc464: return "6f5460";
+			case 0xc465: return "6f5461";
+			case 0xc468: return "6f5462";
+			case 0xc46c: return "6f5463";
+			case 0xc474: return "6f5464";
+			case 0xc479: return "6f5465";
+			case 0xc480: return "6f5466";
+			case 0xc494: return "6f5467";
+			case 0xc4d4: return "6f5468";
+			case 0xc4d5: return "6f5469";
+			case 0xc4f0: return "6f546a";
+			case 0xc4f1: return "6f546b";
+			case 0xc4f4: return "6f546c";
+			case 0xc4f8: return "6f546d";
+			case 0xc500: return "6f546e";
+			case 0xc501: return "6f546f";
+			case 0xc50c: return "6f5470";
+			case 0xc510: return "6f5471";
+			case 0xc528: return "6f5472";
+			case 0xc529: return "6f5473";
+			case 0xc52c: return "6f5474";
+			case 0xc530: return "6f5475";
+			case 0xc538: return "6f5476";
+			case 0xc539: return "6f5477";
+			case 0xc53b: return "6f5478";
+			case 0xc53d: return "6f5479";
+			case 0xc544: return "6f547c";
+			case 0xc545: return "6f547d";
+			case 0xc548: return "6f547e";
+			case 0xc549: return "6f5521";
+			case 0xc54a: return "6f5522";
+			case 0xc54c: return "6f5523";
+			case 0xc54d: return "6f7734";
+			case 0xc54e: return "6f5524";
+			case 0xc54f: return "6f7735";
+			case 0xc552: return "6f7736";
+			case 0xc553: return "6f5525";
+			case 0xc554: return "6f5526";
+			case 0xc555: return "6f5527";
+			case 0xc557: return "6f5528";
+			case 0xc558: return "6f5529";
+			case 0xc559: return "6f552a";
+			case 0xc55e: return "6f552b";
+			case 0xc55f: return "6f552c";
+			case 0xc560: return "6f552d";
+			case 0xc561: return "6f552e";
+			case 0xc564: return "6f552f";
+			case 0xc568: return "6f5530";
+			case 0xc570: return "6f5531";
+			case 0xc571: return "6f5532";
+			case 0xc573: return "6f5533";
+			case 0xc574: return "6f5534";
+			case 0xc575: return "6f5535";
+			case 0xc57c: return "6f5536";
+			case 0xc57d: return "6f5537";
+			case 0xc580: return "6f5538";
+			case 0xc584: return "6f5539";
+			case 0xc587: return "6f553a";
+			case 0xc58c: return "6f553b";
+			case 0xc58d: return "6f553c";
+			case 0xc58f: return "6f553d";
+			case 0xc590: return "6f553e";
+			case 0xc591: return "6f553f";
+			case 0xc595: return "6f5540";
+			case 0xc597: return "6f5541";
+			case 0xc598: return "6f5542";
+			case 0xc59c: return "6f5543";
+			case 0xc5ab: return "6f7737";
+			case 0xc5b1: return "6f7738";
+			case 0xc5b4: return "6f5544";
+			case 0xc5b5: return "6f5545";
+			case 0xc5b6: return "6f5546";
+			case 0xc5b8: return "6f5547";
+			case 0xc5b9: return "6f5548";
+			case 0xc5ba: return "6f5549";
+			case 0xc5bb: return "6f554a";
+			case 0xc5bc: return "6f554b";
+			case 0xc5bd: return "6f554c";
+			case 0xc5c4: return "6f554d";
+			case 0xc5c5: return "6f554e";
+			case 0xc5c6: return "6f554f";
+			case 0xc5c7: return "6f5550";
+			case 0xc5c8: return "6f5551";
+			case 0xc5c9: return "6f5552";
+			case 0xc5ca: return "6f5553";
+			case 0xc5cc: return "6f5554";
+			case 0xc5ce: return "6f5555";
+			case 0xc5d0: return "6f5556";
+			case 0xc5d1: return "6f5557";
+			case 0xc5d4: return "6f5558";
+			case 0xc5d8: return "6f5559";
+			case 0xc5e0: return "6f555a";
+			case 0xc5e1: return "6f555b";
+			case 0xc5e3: return "6f555c";
+			case 0xc5e5: return "6f555d";
+			case 0xc5ec: return "6f555e";
+			case 0xc5ed: return "6f555f";
+			case 0xc5ee: return "6f5560";
+			case 0xc5f0: return "6f5561";
+			case 0xc5f4: return "6f5562";
+			case 0xc5f6: return "6f5563";
+			case 0xc5f7: return "6f5564";
+			case 0xc5fc: return "6f5565";
+			case 0xc5fd: return "6f5566";
+			case 0xc5fe: return "6f5567";
+			case 0xc5ff: return "6f5568";
+			case 0xc600: return "6f5569";
+			case 0xc601: return "6f556a";
+			case 0xc606: return "6f556b";
+			case 0xc607: return "6f556c";
+			case 0xc608: return "6f556d";
+			case 0xc60c: return "6f556e";
+			case 0xc610: return "6f556f";
+			case 0xc61b: return "6f5570";
+			case 0xc61c: return "6f7739";
+			case 0xc61d: return "6f773a";
+			case 0xc624: return "6f5571";
+			case 0xc625: return "6f5572";
+			case 0xc628: return "6f5573";
+			case 0xc62c: return "6f5574";
+			case 0xc62d: return "6f5575";
+			case 0xc62e: return "6f5576";
+			case 0xc633: return "6f5577";
+			case 0xc634: return "6f5578";
+			case 0xc635: return "6f5579";
+			case 0xc637: return "6f557a";
+			case 0xc639: return "6f557b";
+			case 0xc63a: return "6f557c";
+			case 0xc63b: return "6f557d";
+			case 0xc640: return "6f557e";
+			case 0xc641: return "6f5621";
+			case 0xc644: return "6f5622";
+			case 0xc648: return "6f5623";
+			case 0xc650: return "6f5624";
+			case 0xc651: return "6f5625";
+			case 0xc653: return "6f5626";
+			case 0xc654: return "6f5627";
+			case 0xc655: return "6f5677";
+			case 0xc65c: return "6f5629";
+			case 0xc65d: return "6f562a";
+			case 0xc660: return "6f562b";
+			case 0xc671: return "6f562c";
+			case 0xc678: return "6f562d";
+			case 0xc679: return "6f562e";
+			case 0xc67c: return "6f562f";
+			case 0xc680: return "6f5630";
+			case 0xc688: return "6f5631";
+			case 0xc68b: return "6f5632";
+			case 0xc68d: return "6f5633";
+			case 0xc694: return "6f5634";
+			case 0xc695: return "6f5635";
+			case 0xc698: return "6f5636";
+			case 0xc6a5: return "6f5637";
+			case 0xc6a7: return "6f5638";
+			case 0xc6a9: return "6f5639";
+			case 0xc6b0: return "6f563a";
+			case 0xc6b1: return "6f563b";
+			case 0xc6b4: return "6f563c";
+			case 0xc6b7: return "6f563d";
+			case 0xc6b8: return "6f563e";
+			case 0xc6b9: return "6f563f";
+			case 0xc6ba: return "6f5640";
+			case 0xc6c0: return "6f5641";
+			case 0xc6c1: return "6f5642";
+			case 0xc6c3: return "6f5643";
+			case 0xc6c5: return "6f5644";
+			case 0xc6cc: return "6f5645";
+			case 0xc6cd: return "6f5646";
+			case 0xc6d0: return "6f5647";
+			case 0xc6d4: return "6f5648";
+			case 0xc6dc: return "6f5649";
+			case 0xc6dd: return "6f564a";
+			case 0xc6df: return "6f564b";
+			case 0xc6e0: return "6f564c";
+			case 0xc6e1: return "6f564d";
+			case 0xc6e8: return "6f564e";
+			case 0xc6e9: return "6f564f";
+			case 0xc6ec: return "6f5650";
+			case 0xc6f0: return "6f5651";
+			case 0xc6f8: return "6f5652";
+			case 0xc6fd: return "6f773b";
+			case 0xc704: return "6f5653";
+			case 0xc705: return "6f5654";
+			case 0xc708: return "6f5655";
+			case 0xc70c: return "6f5656";
+			case 0xc714: return "6f5657";
+			case 0xc717: return "6f773c";
+			case 0xc719: return "6f5659";
+			case 0xc720: return "6f565a";
+			case 0xc721: return "6f565b";
+			case 0xc724: return "6f565c";
+			case 0xc728: return "6f565d";
+			case 0xc730: return "6f565e";
+			case 0xc733: return "6f773d";
+			case 0xc735: return "6f565f";
+			case 0xc737: return "6f5660";
+			case 0xc73c: return "6f5661";
+			case 0xc73d: return "6f5662";
+			case 0xc740: return "6f5663";
+			case 0xc744: return "6f5664";
+			case 0xc74a: return "6f5665";
+			case 0xc74c: return "6f5666";
+			case 0xc74d: return "6f5667";
+			case 0xc751: return "6f5668";
+			case 0xc758: return "6f5669";
+			case 0xc774: return "6f566a";
+			case 0xc775: return "6f566b";
+			case 0xc778: return "6f566c";
+			case 0xc77c: return "6f566d";
+			case 0xc77d: return "6f566e";
+			case 0xc783: return "6f566f";
+			case 0xc784: return "6f5670";
+			case 0xc785: return "6f5671";
+			case 0xc787: return "6f5672";
+			case 0xc788: return "6f5673";
+			case 0xc789: return "6f5674";
+			case 0xc78a: return "6f5675";
+			case 0xc78e: return "6f5676";
+			case 0xc790: return "6f5679";
+			case 0xc791: return "6f567a";
+			case 0xc794: return "6f567b";
+			case 0xc796: return "6f567c";
+			case 0xc798: return "6f567d";
+			case 0xc7a0: return "6f567e";
+			case 0xc7a1: return "6f5721";
+			case 0xc7a3: return "6f5722";
+			case 0xc7a4: return "6f5723";
+			case 0xc7a5: return "6f5724";
+			case 0xc7a6: return "6f5725";
+			case 0xc7a7: return "6f5726";
+			case 0xc7ac: return "6f5727";
+			case 0xc7ad: return "6f5728";
+			case 0xc7b0: return "6f5729";
+			case 0xc7b4: return "6f572a";
+			case 0xc7bc: return "6f572b";
+			case 0xc7bd: return "6f572c";
+			case 0xc7bf: return "6f572d";
+			case 0xc7c0: return "6f572e";
+			case 0xc7c1: return "6f572f";
+			case 0xc7c8: return "6f5730";
+			case 0xc7c9: return "6f5731";
+			case 0xc7cc: return "6f5732";
+			case 0xc7d8: return "6f5733";
+			case 0xc800: return "6f5734";
+			case 0xc801: return "6f5735";
+			case 0xc804: return "6f5736";
+			case 0xc808: return "6f5737";
+			case 0xc80a: return "6f5738";
+			case 0xc810: return "6f5739";
+			case 0xc811: return "6f573a";
+			case 0xc813: return "6f573b";
+			case 0xc814: return "6f573c";
+			case 0xc815: return "6f573d";
+			case 0xc816: return "6f573e";
+			case 0xc81c: return "6f573f";
+			case 0xc81d: return "6f5740";
+			case 0xc820: return "6f5741";
+			case 0xc824: return "6f5742";
+			case 0xc82c: return "6f5743";
+			case 0xc82d: return "6f5744";
+			case 0xc82f: return "6f5745";
+			case 0xc838: return "6f5746";
+			case 0xc83c: return "6f5747";
+			case 0xc84c: return "6f5748";
+			case 0xc870: return "6f5749";
+			case 0xc871: return "6f574a";
+			case 0xc874: return "6f574b";
+			case 0xc878: return "6f574c";
+			case 0xc87a: return "6f574d";
+			case 0xc880: return "6f574e";
+			case 0xc881: return "6f574f";
+			case 0xc885: return "6f5750";
+			case 0xc886: return "6f5751";
+			case 0xc887: return "6f5752";
+			case 0xc88b: return "6f5753";
+			case 0xc88c: return "6f5754";
+			case 0xc88d: return "6f5755";
+			case 0xc890: return "6f5756";
+			case 0xc894: return "6f5757";
+			case 0xc89c: return "6f5758";
+			case 0xc89d: return "6f5759";
+			case 0xc89f: return "6f575a";
+			case 0xc8a0: return "6f575b";
+			case 0xc8a8: return "6f575d";
+			case 0xc8ac: return "6f575e";
+			case 0xc8b0: return "6f575f";
+			case 0xc8b8: return "6f5760";
+			case 0xc8c4: return "6f5761";
+			case 0xc8c8: return "6f5762";
+			case 0xc8cc: return "6f5763";
+			case 0xc8d4: return "6f5764";
+			case 0xc8d5: return "6f5765";
+			case 0xc8d7: return "6f5766";
+			case 0xc8e0: return "6f5767";
+			case 0xc8e4: return "6f5768";
+			case 0xc8f0: return "6f5769";
+			case 0xc8f1: return "6f576a";
+			case 0xc8f5: return "6f576b";
+			case 0xc8fc: return "6f576c";
+			case 0xc8fd: return "6f576d";
+			case 0xc900: return "6f576e";
+			case 0xc904: return "6f576f";
+			case 0xc906: return "6f5770";
+			case 0xc90c: return "6f5771";
+			case 0xc90d: return "6f5772";
+			case 0xc90f: return "6f5773";
+			case 0xc911: return "6f5774";
+			case 0xc918: return "6f5775";
+			case 0xc92c: return "6f5776";
+			case 0xc950: return "6f5777";
+			case 0xc954: return "6f5779";
+			case 0xc958: return "6f577a";
+			case 0xc960: return "6f577b";
+			case 0xc961: return "6f577c";
+			case 0xc96c: return "6f577d";
+			case 0xc970: return "6f577e";
+			case 0xc974: return "6f5821";
+			case 0xc988: return "6f5822";
+			case 0xc989: return "6f5823";
+			case 0xc98c: return "6f5824";
+			case 0xc990: return "6f5825";
+			case 0xc998: return "6f5826";
+			case 0xc999: return "6f5827";
+			case 0xc99d: return "6f5828";
+			case 0xc9c0: return "6f5829";
+			case 0xc9c1: return "6f582a";
+			case 0xc9c4: return "6f582b";
+			case 0xc9c7: return "6f582c";
+			case 0xc9c8: return "6f582d";
+			case 0xc9ca: return "6f582e";
+			case 0xc9d0: return "6f582f";
+			case 0xc9d1: return "6f5830";
+			case 0xc9d3: return "6f5831";
+			case 0xc9d5: return "6f5832";
+			case 0xc9d6: return "6f5833";
+			case 0xc9d9: return "6f5834";
+			case 0xc9da: return "6f5835";
+			case 0xc9dc: return "6f5838";
+			case 0xc9dd: return "6f5839";
+			case 0xc9e0: return "6f583a";
+			case 0xc9e2: return "6f583b";
+			case 0xc9e4: return "6f583c";
+			case 0xc9e7: return "6f583e";
+			case 0xc9ec: return "6f583f";
+			case 0xc9ed: return "6f5840";
+			case 0xc9ef: return "6f5841";
+			case 0xc9f0: return "6f5842";
+			case 0xc9f1: return "6f5843";
+			case 0xc9f8: return "6f5844";
+			case 0xc9f9: return "6f5845";
+			case 0xc9fc: return "6f5846";
+			case 0xca00: return "6f5847";
+			case 0xca08: return "6f5848";
+			case 0xca09: return "6f5849";
+			case 0xca0b: return "6f584a";
+			case 0xca0c: return "6f584b";
+			case 0xca0d: return "6f584c";
+			case 0xca18: return "6f584d";
+			case 0xca4c: return "6f584e";
+			case 0xca4d: return "6f584f";
+			case 0xca50: return "6f5850";
+			case 0xca54: return "6f5851";
+			case 0xca5c: return "6f5852";
+			case 0xca5d: return "6f5853";
+			case 0xca61: return "6f5854";
+			case 0xca84: return "6f5855";
+			case 0xca98: return "6f5856";
+			case 0xcabc: return "6f5857";
+			case 0xcabd: return "6f5858";
+			case 0xcac0: return "6f5859";
+			case 0xcac4: return "6f585a";
+			case 0xcacc: return "6f585b";
+			case 0xcacd: return "6f585c";
+			case 0xcad1: return "6f585d";
+			case 0xcad2: return "6f585e";
+			case 0xcad3: return "6f585f";
+			case 0xcad8: return "6f5860";
+			case 0xcad9: return "6f5861";
+			case 0xcb10: return "6f5862";
+			case 0xcb14: return "6f5863";
+			case 0xcb18: return "6f5864";
+			case 0xcb20: return "6f5865";
+			case 0xcb21: return "6f5866";
+			case 0xcb41: return "6f5867";
+			case 0xcb48: return "6f5868";
+			case 0xcb49: return "6f5869";
+			case 0xcb4c: return "6f773e";
+			case 0xcb50: return "6f586a";
+			case 0xcb58: return "6f586b";
+			case 0xcb59: return "6f586c";
+			case 0xcb5d: return "6f586d";
+			case 0xcb64: return "6f586e";
+			case 0xcbb8: return "6f586f";
+			case 0xcbd4: return "6f5870";
+			case 0xcbe4: return "6f5871";
+			case 0xcbe7: return "6f5872";
+			case 0xcc0c: return "6f5873";
+			case 0xcc0d: return "6f5874";
+			case 0xcc10: return "6f5875";
+			case 0xcc14: return "6f5876";
+			case 0xcc1c: return "6f5877";
+			case 0xcc1d: return "6f5878";
+			case 0xcc21: return "6f5879";
+			case 0xcc22: return "6f587a";
+			case 0xcc27: return "6f587b";
+			case 0xcc28: return "6f587e";
+			case 0xcc29: return "6f5921";
+			case 0xcc2c: return "6f5922";
+			case 0xcc2e: return "6f5923";
+			case 0xcc2f: return "6f5924";
+			case 0xcc30: return "6f5925";
+			case 0xcc38: return "6f5926";
+			case 0xcc39: return "6f5927";
+			case 0xcc3b: return "6f5928";
+			case 0xcc3c: return "6f5929";
+			case 0xcc3d: return "6f592a";
+			case 0xcc3e: return "6f592b";
+			case 0xcc3f: return "6f592c";
+			case 0xcc44: return "6f592d";
+			case 0xcc45: return "6f592e";
+			case 0xcc48: return "6f592f";
+			case 0xcc4c: return "6f5930";
+			case 0xcc54: return "6f5931";
+			case 0xcc55: return "6f5932";
+			case 0xcc58: return "6f5933";
+			case 0xcc59: return "6f5934";
+			case 0xcc60: return "6f5935";
+			case 0xcc64: return "6f5936";
+			case 0xcc70: return "6f5937";
+			case 0xcc71: return "6f5938";
+			case 0xcc98: return "6f5939";
+			case 0xcc99: return "6f593a";
+			case 0xcc9c: return "6f593b";
+			case 0xcca0: return "6f593c";
+			case 0xcca8: return "6f593d";
+			case 0xcca9: return "6f593e";
+			case 0xccab: return "6f593f";
+			case 0xccad: return "6f5940";
+			case 0xccb4: return "6f5941";
+			case 0xccb5: return "6f5942";
+			case 0xccb8: return "6f5943";
+			case 0xccbc: return "6f5944";
+			case 0xccc7: return "6f5945";
+			case 0xccd0: return "6f5946";
+			case 0xcce4: return "6f5947";
+			case 0xcd08: return "6f5948";
+			case 0xcd09: return "6f5949";
+			case 0xcd0c: return "6f594a";
+			case 0xcd10: return "6f594b";
+			case 0xcd18: return "6f594c";
+			case 0xcd19: return "6f594d";
+			case 0xcd1b: return "6f594e";
+			case 0xcd1d: return "6f594f";
+			case 0xcd2c: return "6f5950";
+			case 0xcd5c: return "6f5951";
+			case 0xcd78: return "6f5952";
+			case 0xcd94: return "6f5953";
+			case 0xcd95: return "6f5954";
+			case 0xcd98: return "6f5955";
+			case 0xcd9c: return "6f5956";
+			case 0xcda4: return "6f5957";
+			case 0xcda5: return "6f5958";
+			case 0xcda7: return "6f5959";
+			case 0xcda9: return "6f595a";
+			case 0xcdb0: return "6f595b";
+			case 0xcdc4: return "6f595c";
+			case 0xcdcc: return "6f595d";
+			case 0xcde8: return "6f595e";
+			case 0xce04: return "6f595f";
+			case 0xce20: return "6f5960";
+			case 0xce21: return "6f5961";
+			case 0xce30: return "6f5962";
+			case 0xce35: return "6f5963";
+			case 0xce58: return "6f5964";
+			case 0xce59: return "6f5965";
+			case 0xce5c: return "6f5966";
+			case 0xce60: return "6f5967";
+			case 0xce61: return "6f5968";
+			case 0xce68: return "6f5969";
+			case 0xce69: return "6f596a";
+			case 0xce6b: return "6f596b";
+			case 0xce6d: return "6f596c";
+			case 0xce74: return "6f596f";
+			case 0xce75: return "6f5970";
+			case 0xce78: return "6f5971";
+			case 0xce7c: return "6f5972";
+			case 0xce84: return "6f5973";
+			case 0xce85: return "6f5974";
+			case 0xce87: return "6f5975";
+			case 0xce89: return "6f5976";
+			case 0xce90: return "6f5977";
+			case 0xce91: return "6f5978";
+			case 0xce94: return "6f5979";
+			case 0xce98: return "6f597a";
+			case 0xcea0: return "6f597b";
+			case 0xcea1: return "6f597c";
+			case 0xcea3: return "6f597d";
+			case 0xcea5: return "6f5a21";
+			case 0xceac: return "6f5a22";
+			case 0xcead: return "6f5a23";
+			case 0xcee4: return "6f5a24";
+			case 0xcee8: return "6f5a26";
+			case 0xceec: return "6f5a27";
+			case 0xcef4: return "6f5a28";
+			case 0xcef5: return "6f5a29";
+			case 0xcef7: return "6f5a2a";
+			case 0xcef9: return "6f5a2c";
+			case 0xcf00: return "6f5a2e";
+			case 0xcf01: return "6f5a2f";
+			case 0xcf04: return "6f5a30";
+			case 0xcf08: return "6f5a31";
+			case 0xcf10: return "6f5a32";
+			case 0xcf11: return "6f5a33";
+			case 0xcf13: return "6f5a34";
+			case 0xcf15: return "6f5a35";
+			case 0xcf1c: return "6f5a36";
+			case 0xcf20: return "6f5a37";
+			case 0xcf24: return "6f5a38";
+			case 0xcf2c: return "6f5a39";
+			case 0xcf2d: return "6f5a3a";
+			case 0xcf2f: return "6f5a3b";
+			case 0xcf30: return "6f5a3c";
+			case 0xcf54: return "6f5a3d";
+			case 0xcf55: return "6f5a3e";
+			case 0xcf58: return "6f5a3f";
+			case 0xcf5c: return "6f5a40";
+			case 0xcf64: return "6f5a41";
+			case 0xcf65: return "6f5a42";
+			case 0xcf67: return "6f5a43";
+			case 0xcf69: return "6f5a44";
+			case 0xcf70: return "6f5a45";
+			case 0xcf71: return "6f5a46";
+			case 0xcf74: return "6f5a47";
+			case 0xcf78: return "6f5a48";
+			case 0xcf80: return "6f5a49";
+			case 0xcf85: return "6f5a4a";
+			case 0xcf8c: return "6f5a4b";
+			case 0xcf8d: return "6f5a4c";
+			case 0xcfa1: return "6f5a4d";
+			case 0xcfb0: return "6f5a4f";
+			case 0xcfc4: return "6f5a50";
+			case 0xcfe0: return "6f5a51";
+			case 0xcfe1: return "6f5a52";
+			case 0xcfe4: return "6f5a53";
+			case 0xcfe8: return "6f5a54";
+			case 0xcff0: return "6f5a55";
+			case 0xcff3: return "6f5a56";
+			case 0xcff5: return "6f5a57";
+			case 0xcffc: return "6f5a58";
+			case 0xd018: return "6f5a5a";
+			case 0xd02d: return "6f5a5b";
+			case 0xd034: return "6f5a5c";
+			case 0xd035: return "6f5a5d";
+			case 0xd038: return "6f5a5e";
+			case 0xd050: return "6f5a5f";
+			case 0xd06c: return "6f5a60";
+			case 0xd070: return "6f5a61";
+			case 0xd074: return "6f5a62";
+			case 0xd07c: return "6f5a63";
+			case 0xd07d: return "6f5a64";
+			case 0xd081: return "6f5a65";
+			case 0xd0a4: return "6f5a66";
+			case 0xd0a5: return "6f5a67";
+			case 0xd0a8: return "6f5a68";
+			case 0xd0ac: return "6f5a69";
+			case 0xd0b4: return "6f5a6a";
+			case 0xd0b5: return "6f5a6b";
+			case 0xd0b7: return "6f5a6c";
+			case 0xd0b9: return "6f5a6d";
+			case 0xd0c0: return "6f5a70";
+			case 0xd0c1: return "6f5a71";
+			case 0xd0c4: return "6f5a72";
+			case 0xd0c8: return "6f5a73";
+			case 0xd0c9: return "6f5a74";
+			case 0xd0d0: return "6f5a75";
+			case 0xd0d1: return "6f5a76";
+			case 0xd0d3: return "6f5a77";
+			case 0xd0d4: return "6f5a78";
+			case 0xd0d5: return "6f5a79";
+			case 0xd0dc: return "6f5a7a";
+			case 0xd0dd: return "6f5a7b";
+			case 0xd0e0: return "6f5a7c";
+			case 0xd0e4: return "6f5a7d";
+			case 0xd0ec: return "6f5a7e";
+			case 0xd0ed: return "6f5b21";
+			case 0xd0ef: return "6f5b22";
+			case 0xd0f0: return "6f5b23";
+			case 0xd0f1: return "6f5b24";
+			case 0xd130: return "6f5b25";
+			case 0xd131: return "6f5b26";
+			case 0xd134: return "6f5b27";
+			case 0xd138: return "6f5b28";
+			case 0xd140: return "6f5b29";
+			case 0xd141: return "6f5b2a";
+			case 0xd143: return "6f5b2b";
+			case 0xd144: return "6f5b2c";
+			case 0xd145: return "6f5b2d";
+			case 0xd14c: return "6f5b2e";
+			case 0xd14d: return "6f5b2f";
+			case 0xd150: return "6f5b30";
+			case 0xd154: return "6f5b31";
+			case 0xd15c: return "6f5b32";
+			case 0xd15d: return "6f5b33";
+			case 0xd15f: return "6f5b34";
+			case 0xd160: return "6f5b35";
+			case 0xd161: return "6f5b36";
+			case 0xd168: return "6f5b37";
+			case 0xd1a0: return "6f5b38";
+			case 0xd1a1: return "6f5b39";
+			case 0xd1a4: return "6f5b3a";
+			case 0xd1a8: return "6f5b3b";
+			case 0xd1b0: return "6f5b3c";
+			case 0xd1b1: return "6f5b3d";
+			case 0xd1b3: return "6f5b3e";
+			case 0xd1b5: return "6f5b3f";
+			case 0xd1d8: return "6f5b40";
+			case 0xd1f4: return "6f5b41";
+			case 0xd1f8: return "6f5b62";
+			case 0xd22c: return "6f5b43";
+			case 0xd22d: return "6f5b44";
+			case 0xd230: return "6f5b45";
+			case 0xd234: return "6f5b46";
+			case 0xd23c: return "6f5b47";
+			case 0xd23d: return "6f5b48";
+			case 0xd23f: return "6f5b49";
+			case 0xd241: return "6f5b4a";
+			case 0xd264: return "6f5b4b";
+			case 0xd277: return "6f5b4c";
+			case 0xd280: return "6f5b4d";
+			case 0xd284: return "6f5b4e";
+			case 0xd288: return "6f5b4f";
+			case 0xd290: return "6f5b50";
+			case 0xd291: return "6f5b51";
+			case 0xd293: return "6f5b52";
+			case 0xd295: return "6f5b53";
+			case 0xd29c: return "6f5b54";
+			case 0xd2ac: return "6f5b57";
+			case 0xd2b8: return "6f5b59";
+			case 0xd2b9: return "6f5b5a";
+			case 0xd2bc: return "6f5b5b";
+			case 0xd2bf: return "6f5b5c";
+			case 0xd2c0: return "6f5b5d";
+			case 0xd2c8: return "6f5b5e";
+			case 0xd2c9: return "6f5b5f";
+			case 0xd2cb: return "6f5b60";
+			case 0xd2d4: return "6f5b61";
+			case 0xd2f0: return "6f5b63";
+			case 0xd2f1: return "6f5b64";
+			case 0xd2f4: return "6f5b65";
+			case 0xd2f8: return "6f5b66";
+			case 0xd300: return "6f5b67";
+			case 0xd301: return "6f5b68";
+			case 0xd305: return "6f5b69";
+			case 0xd30c: return "6f5b6c";
+			case 0xd30d: return "6f5b6d";
+			case 0xd30e: return "6f5b6e";
+			case 0xd310: return "6f5b6f";
+			case 0xd314: return "6f5b70";
+			case 0xd31c: return "6f5b71";
+			case 0xd31d: return "6f5b72";
+			case 0xd31f: return "6f5b73";
+			case 0xd320: return "6f5b74";
+			case 0xd321: return "6f5b75";
+			case 0xd325: return "6f5b76";
+			case 0xd328: return "6f5b77";
+			case 0xd329: return "6f5b78";
+			case 0xd32c: return "6f5b79";
+			case 0xd330: return "6f5b7a";
+			case 0xd338: return "6f5b7b";
+			case 0xd339: return "6f5b7c";
+			case 0xd33b: return "6f5b7d";
+			case 0xd33c: return "6f5b7e";
+			case 0xd33d: return "6f5c21";
+			case 0xd37c: return "6f5c23";
+			case 0xd37d: return "6f5c24";
+			case 0xd380: return "6f5c25";
+			case 0xd384: return "6f5c26";
+			case 0xd38c: return "6f5c27";
+			case 0xd38d: return "6f5c28";
+			case 0xd38f: return "6f5c29";
+			case 0xd390: return "6f5c2a";
+			case 0xd391: return "6f5c2b";
+			case 0xd398: return "6f5c2c";
+			case 0xd399: return "6f5c2d";
+			case 0xd39c: return "6f5c2e";
+			case 0xd3a0: return "6f5c2f";
+			case 0xd3a8: return "6f5c30";
+			case 0xd3a9: return "6f5c31";
+			case 0xd3ab: return "6f5c32";
+			case 0xd3ad: return "6f5c33";
+			case 0xd3b4: return "6f5c34";
+			case 0xd3b5: return "6f5c35";
+			case 0xd3b8: return "6f5c36";
+			case 0xd3bc: return "6f5c37";
+			case 0xd3c4: return "6f5c38";
+			case 0xd3c5: return "6f5c39";
+			case 0xd3c8: return "6f5c3a";
+			case 0xd3c9: return "6f5c3b";
+			case 0xd3d0: return "6f5c3c";
+			case 0xd3ec: return "6f5c3d";
+			case 0xd3ed: return "6f5c3e";
+			case 0xd3f0: return "6f5c3f";
+			case 0xd3f4: return "6f5c40";
+			case 0xd3fc: return "6f5c41";
+			case 0xd3fd: return "6f5c42";
+			case 0xd3ff: return "6f5c43";
+			case 0xd401: return "6f5c44";
+			case 0xd440: return "6f5c45";
+			case 0xd444: return "6f5c46";
+			case 0xd45c: return "6f5c47";
+			case 0xd46f: return "6f5c48";
+			case 0xd478: return "6f5c49";
+			case 0xd479: return "6f5c4a";
+			case 0xd47c: return "6f5c4b";
+			case 0xd480: return "6f5c4c";
+			case 0xd488: return "6f5c4d";
+			case 0xd489: return "6f5c4e";
+			case 0xd48b: return "6f5c4f";
+			case 0xd48d: return "6f5c50";
+			case 0xd4cc: return "6f5c51";
+			case 0xd4e8: return "6f5c52";
+			case 0xd504: return "6f5c53";
+			case 0xd508: return "6f5c55";
+			case 0xd50c: return "6f5c56";
+			case 0xd514: return "6f5c57";
+			case 0xd515: return "6f5c58";
+			case 0xd53c: return "6f5c59";
+			case 0xd53d: return "6f5c5a";
+			case 0xd540: return "6f5c5b";
+			case 0xd544: return "6f5c5c";
+			case 0xd54c: return "6f5c5d";
+			case 0xd54d: return "6f5c5e";
+			case 0xd54f: return "6f5c5f";
+			case 0xd551: return "6f5c60";
+			case 0xd558: return "6f5c63";
+			case 0xd559: return "6f5c64";
+			case 0xd55c: return "6f5c65";
+			case 0xd560: return "6f5c66";
+			case 0xd565: return "6f5c67";
+			case 0xd568: return "6f5c68";
+			case 0xd569: return "6f5c69";
+			case 0xd56b: return "6f5c6a";
+			case 0xd56c: return "6f5c6b";
+			case 0xd56d: return "6f5c6c";
+			case 0xd571: return "6f5c6d";
+			case 0xd574: return "6f5c6e";
+			case 0xd575: return "6f5c6f";
+			case 0xd578: return "6f5c70";
+			case 0xd57c: return "6f5c71";
+			case 0xd584: return "6f5c72";
+			case 0xd585: return "6f5c73";
+			case 0xd587: return "6f5c74";
+			case 0xd588: return "6f5c75";
+			case 0xd589: return "6f5c76";
+			case 0xd590: return "6f5c77";
+			case 0xd5a5: return "6f5c78";
+			case 0xd5c8: return "6f5c79";
+			case 0xd5c9: return "6f5c7a";
+			case 0xd5cc: return "6f5c7b";
+			case 0xd5d0: return "6f5c7c";
+			case 0xd5d2: return "6f5c7d";
+			case 0xd5d8: return "6f5c7e";
+			case 0xd5d9: return "6f5d21";
+			case 0xd5db: return "6f5d22";
+			case 0xd5dd: return "6f5d23";
+			case 0xd5e4: return "6f5d24";
+			case 0xd5e5: return "6f5d25";
+			case 0xd5e8: return "6f5d26";
+			case 0xd5ec: return "6f5d27";
+			case 0xd5f4: return "6f5d28";
+			case 0xd5f5: return "6f5d29";
+			case 0xd5f7: return "6f5d2a";
+			case 0xd5f9: return "6f5d2b";
+			case 0xd600: return "6f5d2c";
+			case 0xd601: return "6f5d2d";
+			case 0xd604: return "6f5d2e";
+			case 0xd608: return "6f5d2f";
+			case 0xd610: return "6f5d30";
+			case 0xd611: return "6f5d31";
+			case 0xd613: return "6f5d32";
+			case 0xd614: return "6f5d33";
+			case 0xd615: return "6f5d34";
+			case 0xd61c: return "6f5d35";
+			case 0xd638: return "6f5d36";
+			case 0xd639: return "6f5d37";
+			case 0xd63c: return "6f5d38";
+			case 0xd640: return "6f5d39";
+			case 0xd648: return "6f5d3a";
+			case 0xd649: return "6f5d3b";
+			case 0xd64b: return "6f5d3c";
+			case 0xd64d: return "6f5d3d";
+			case 0xd654: return "6f5d3f";
+			case 0xd655: return "6f5d40";
+			case 0xd658: return "6f5d41";
+			case 0xd65c: return "6f5d42";
+			case 0xd667: return "6f5d44";
+			case 0xd669: return "6f5d45";
+			case 0xd670: return "6f5d46";
+			case 0xd671: return "6f5d47";
+			case 0xd683: return "6f5d48";
+			case 0xd68c: return "6f5d4a";
+			case 0xd68d: return "6f5d4b";
+			case 0xd69f: return "6f5d4c";
+			case 0xd6a1: return "6f5d4d";
+			case 0xd6a8: return "6f5d4e";
+			case 0xd6c4: return "6f5d4f";
+			case 0xd6c5: return "6f5d50";
+			case 0xd6c8: return "6f5d51";
+			case 0xd6cc: return "6f5d52";
+			case 0xd6d1: return "6f5d53";
+			case 0xd6d4: return "6f5d54";
+			case 0xd6d7: return "6f5d55";
+			case 0xd6e0: return "6f5d56";
+			case 0xd6e4: return "6f5d57";
+			case 0xd6e8: return "6f5d58";
+			case 0xd6f0: return "6f5d59";
+			case 0xd6fc: return "6f5d5a";
+			case 0xd700: return "6f5d5c";
+			case 0xd711: return "6f5d5d";
+			case 0xd718: return "6f5d5e";
+			case 0xd719: return "6f5d5f";
+			case 0xd71c: return "6f5d60";
+			case 0xd720: return "6f5d61";
+			case 0xd728: return "6f5d62";
+			case 0xd729: return "6f5d63";
+			case 0xd72d: return "6f5d65";
+			case 0xd734: return "6f5d66";
+			case 0xd73c: return "6f5d67";
+			case 0xd744: return "6f5d68";
+			case 0xd749: return "6f5d69";
+			case 0xd750: return "6f5d6a";
+			case 0xd751: return "6f5d6b";
+			case 0xd754: return "6f5d6c";
+			case 0xd757: return "6f5d6d";
+			case 0xd758: return "6f5d6e";
+			case 0xd759: return "6f5d6f";
+			case 0xd760: return "6f5d70";
+			case 0xd761: return "6f5d71";
+			case 0xd763: return "6f5d72";
+			case 0xd765: return "6f5d73";
+			case 0xd769: return "6f5d74";
+			case 0xd76c: return "6f5d75";
+			case 0xd770: return "6f5d76";
+			case 0xd774: return "6f5d77";
+			case 0xd788: return "6f5d78";
+			case 0xd789: return "6f5d79";
+			case 0xd78c: return "6f5d7a";
+			case 0xd790: return "6f5d7b";
+			case 0xd798: return "6f5d7c";
+			case 0xd799: return "6f5d7d";
+			case 0xd79b: return "6f5d7e";
+			case 0xd79d: return "6f5e21";
+			case 0xe8b0: return "6f7624";
+			case 0xe8b2: return "6f7640";
+			case 0xe8b3: return "6f7641";
+			case 0xe8b4: return "6f7642";
+			case 0xe8b5: return "6f7643";
+			case 0xe8b6: return "6f7644";
+			case 0xe8b7: return "6f7645";
+			case 0xe8b8: return "6f7646";
+			case 0xe8b9: return "6f7647";
+			case 0xe8ba: return "6f7648";
+			case 0xe8bb: return "6f7649";
+			case 0xe8bc: return "6f764a";
+			case 0xe8bd: return "6f764b";
+			case 0xe8be: return "6f764c";
+			case 0xe8bf: return "6f764d";
+			case 0xe8c0: return "6f764e";
+			case 0xe8c1: return "6f764f";
+			case 0xe8c2: return "6f7650";
+			case 0xe8c3: return "6f7651";
+			case 0xe8c4: return "6f7652";
+			case 0xe8c5: return "6f7653";
+			case 0xe8c6: return "6f7654";
+			case 0xe8c7: return "6f7655";
+			case 0xe8c8: return "6f7656";
+			case 0xe8c9: return "6f7657";
+			case 0xe8ca: return "6f7723";
+			case 0xe8d0: return "212a21";
+			case 0xe8d1: return "212a22";
+			case 0xe8d2: return "212a23";
+			case 0xe8d3: return "212a24";
+			case 0xe8d4: return "212a25";
+			case 0xe8d5: return "212a26";
+			case 0xe8d6: return "212a28";
+			case 0xe8d7: return "212a29";
+			case 0xe8d8: return "212a2a";
+			case 0xe8d9: return "212a2b";
+			case 0xe8da: return "212a2c";
+			case 0xe8db: return "212a2d";
+			case 0xe8dc: return "212a2e";
+			case 0xe8dd: return "212a2f";
+			case 0xe8de: return "212a30";
+			case 0xe8df: return "212a32";
+			case 0xe8e0: return "212a33";
+			case 0xe8e1: return "212a34";
+			case 0xe8e2: return "212a35";
+			case 0xe8e3: return "212a36";
+			case 0xe8e4: return "212a37";
+			case 0xe8e5: return "212a38";
+			case 0xe8e6: return "212a39";
+			case 0xe8e7: return "212a3a";
+			case 0xe8e8: return "212a3b";
+			case 0xe8e9: return "212a3c";
+			case 0xe8ea: return "212a3d";
+			case 0xe8eb: return "212a3e";
+			case 0xe8ec: return "212a3f";
+			case 0xe8ed: return "212a40";
+			case 0xe8ee: return "212a41";
+			case 0xe8ef: return "212a42";
+			case 0xe8f0: return "212a43";
+			case 0xe8f1: return "212a44";
+			case 0xe8f2: return "212a45";
+			case 0xfb1e: return "4e";
+			case 0xfe20: return "eb";
+			case 0xfe21: return "ec";
+			case 0xfe22: return "fa";
+			case 0xfe23: return "fb";
+			case 0xff01: return "212b3d";
+			case 0xff08: return "212328";
+			case 0xff09: return "212329";
+			case 0xff0c: return "212b38";
+			case 0xff0d: return "21232d";
+			case 0xff0e: return "212b34";
+			case 0xff0f: return "212b59";
+			case 0xff1a: return "212b3a";
+			case 0xff1b: return "212b39";
+			case 0xff1f: return "212b3b";
+			case 0xff3b: return "212b31";
+			case 0xff3d: return "212b32";
+			default: return null;
+		}
+	}
+
+	private String getCharTableCharString(Character c)
+	{
+		int cVal = (int)c.charValue();
+		if (cVal >= 0x1b && cVal <= 0x5e5f)  return (getCharTableCharString_0x1b_0x5e5f(c));
+		if (cVal >= 0x5e61 && cVal <= 0x73a9)  return (getCharTableCharString_0x5e61_0x73a9(c));
+		if (cVal >= 0x73ab && cVal <= 0x89e1)  return (getCharTableCharString_0x73ab_0x89e1(c));
+		if (cVal >= 0x89e3 && cVal <= 0x9f62)  return (getCharTableCharString_0x89e3_0x9f62(c));
+		if (cVal >= 0x9f63 && cVal <= 0xff3d)  return (getCharTableCharString_0x9f63_0xff3d(c));
+
+		return null;
+	}
+}
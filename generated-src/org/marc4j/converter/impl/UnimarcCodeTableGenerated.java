@@ -0,0 +1,563 @@
+package org.marc4j.converter.impl;
+
+/** 
+ *  An implementation of CodeTableInterface that is used in converting UNIMARC
+ *  data to UTF8 data, that doesn't rely on any data files or resources or data structures
+ *  
+ *  Warning: This file is generated by running the main routine in the file CodeTableGenerator.java 
+ *  Warning: Do not edit this file, or all edits will be lost at the next build. 
+ */
+public class UnimarcCodeTableGenerated implements CodeTableInterface {
+	public boolean isCombining(int i, int g0, int g1) {
+		switch (i <= 0x7E ? g0 : g1) {
+			case 0x40:
+				return(false);
+			case 0x4d:
+				return(false);
+			case 0x4e:
+				return(false);
+			case 0x50:
+				switch(i) {
+					case 0xc0: case 0x40:
+					case 0xc1: case 0x41:
+					case 0xc2: case 0x42:
+					case 0xc3: case 0x43:
+					case 0xc4: case 0x44:
+					case 0xc5: case 0x45:
+					case 0xc6: case 0x46:
+					case 0xc7: case 0x47:
+					case 0xc8: case 0x48:
+					case 0xc9: case 0x49:
+					case 0xca: case 0x4a:
+					case 0xcb: case 0x4b:
+					case 0xcc: case 0x4c:
+					case 0xcd: case 0x4d:
+					case 0xce: case 0x4e:
+					case 0xcf: case 0x4f:
+					case 0xd0: case 0x50:
+					case 0xd1: case 0x51:
+					case 0xd2: case 0x52:
+					case 0xd3: case 0x53:
+					case 0xd4: case 0x54:
+					case 0xd5: case 0x55:
+					case 0xd6: case 0x56:
+					case 0xd7: case 0x57:
+					case 0xd8: case 0x58:
+					case 0xd9: case 0x59:
+					case 0xda: case 0x5a:
+					case 0xdb: case 0x5b:
+					case 0xdd: case 0x5d:
+					case 0xde: case 0x5e:
+					case 0xdf: case 0x5f:
+						return(true);
+					default:
+						return(false);
+				}
+			case 0x51:
+				return(false);
+			case 0x53:
+				switch(i) {
+					case 0x21: case 0xa1:
+					case 0x22: case 0xa2:
+					case 0x23: case 0xa3:
+					case 0x24: case 0xa4:
+					case 0x25: case 0xa5:
+					case 0x26: case 0xa6:
+					case 0x27: case 0xa7:
+						return(true);
+					default:
+						return(false);
+				}
+			default:
+				return(false);
+			}
+	}
+
+	public char getChar(int c, int mode) {
+		int code = getCharCode(c, mode);
+		if (code == -1) return((char)0);
+		if (code != 0) return((char)code);
+		code = getCharCode(c < 0x80 ? c + 0x80 : c - 0x80 , mode);
+		return((char)code);
+	}
+
+	private int getCharCode(int c, int mode) {
+		if (c == 0x20) return  c;
+		switch (mode) {
+			case 0x40:
+				switch(c) {
+					case 0x1b:  return(0x1b); 
+					case 0x1d:  return(0x1d); 
+					case 0x1e:  return(0x1e); 
+					case 0x1f:  return(0x1f); 
+					case 0x20:  return(0x20); 
+					case 0x21:  return(0x21); 
+					case 0x22:  return(0x22); 
+					case 0x23:  return(0x23); 
+					case 0x24:  return(0x24); 
+					case 0x25:  return(0x25); 
+					case 0x26:  return(0x26); 
+					case 0x27:  return(0x27); 
+					case 0x28:  return(0x28); 
+					case 0x29:  return(0x29); 
+					case 0x2a:  return(0x2a); 
+					case 0x2b:  return(0x2b); 
+					case 0x2c:  return(0x2c); 
+					case 0x2d:  return(0x2d); 
+					case 0x2e:  return(0x2e); 
+					case 0x2f:  return(0x2f); 
+					case 0x30:  return(0x30); 
+					case 0x31:  return(0x31); 
+					case 0x32:  return(0x32); 
+					case 0x33:  return(0x33); 
+					case 0x34:  return(0x34); 
+					case 0x35:  return(0x35); 
+					case 0x36:  return(0x36); 
+					case 0x37:  return(0x37); 
+					case 0x38:  return(0x38); 
+					case 0x39:  return(0x39); 
+					case 0x3a:  return(0x3a); 
+					case 0x3b:  return(0x3b); 
+					case 0x3c:  return(0x3c); 
+					case 0x3d:  return(0x3d); 
+					case 0x3e:  return(0x3e); 
+					case 0x3f:  return(0x3f); 
+					case 0x40:  return(0x40); 
+					case 0x41:  return(0x41); 
+					case 0x42:  return(0x42); 
+					case 0x43:  return(0x43); 
+					case 0x44:  return(0x44); 
+					case 0x45:  return(0x45); 
+					case 0x46:  return(0x46); 
+					case 0x47:  return(0x47); 
+					case 0x48:  return(0x48); 
+					case 0x49:  return(0x49); 
+					case 0x4a:  return(0x4a); 
+					case 0x4b:  return(0x4b); 
+					case 0x4c:  return(0x4c); 
+					case 0x4d:  return(0x4d); 
+					case 0x4e:  return(0x4e); 
+					case 0x4f:  return(0x4f); 
+					case 0x50:  return(0x50); 
+					case 0x51:  return(0x51); 
+					case 0x52:  return(0x52); 
+					case 0x53:  return(0x53); 
+					case 0x54:  return(0x54); 
+					case 0x55:  return(0x55); 
+					case 0x56:  return(0x56); 
+					case 0x57:  return(0x57); 
+					case 0x58:  return(0x58); 
+					case 0x59:  return(0x59); 
+					case 0x5a:  return(0x5a); 
+					case 0x5b:  return(0x5b); 
+					case 0x5c:  return(0x5c); 
+					case 0x5d:  return(0x5d); 
+					case 0x5e:  return(0x5e); 
+					case 0x5f:  return(0x5f); 
+					case 0x60:  return(0x60); 
+					case 0x61:  return(0x61); 
+					case 0x62:  return(0x62); 
+					case 0x63:  return(0x63); 
+					case 0x64:  return(0x64); 
+					case 0x65:  return(0x65); 
+					case 0x66:  return(0x66); 
+					case 0x67:  return(0x67); 
+					case 0x68:  return(0x68); 
+					case 0x69:  return(0x69); 
+					case 0x6a:  return(0x6a); 
+					case 0x6b:  return(0x6b); 
+					case 0x6c:  return(0x6c); 
+					case 0x6d:  return(0x6d); 
+					case 0x6e:  return(0x6e); 
+					case 0x6f:  return(0x6f); 
+					case 0x70:  return(0x70); 
+					case 0x71:  return(0x71); 
+					case 0x72:  return(0x72); 
+					case 0x73:  return(0x73); 
+					case 0x74:  return(0x74); 
+					case 0x75:  return(0x75); 
+					case 0x76:  return(0x76); 
+					case 0x77:  return(0x77); 
+					case 0x78:  return(0x78); 
+					case 0x79:  return(0x79); 
+					case 0x7a:  return(0x7a); 
+					case 0x7b:  return(0x7b); 
+					case 0x7c:  return(0x7c); 
+					case 0x7d:  return(0x7d); 
+					case 0x7e:  return(0x7e); 
+					default:  return(0);
+				}
+			case 0x4d:
+				switch(c) {
+					case 0x22:  return(0x181); 
+					case 0x23:  return(0x187); 
+					case 0x24:  return(0x18a); 
+					case 0x25:  return(0x189); 
+					case 0x27:  return(0x190); 
+					case 0x28:  return(0x18e); 
+					case 0x2a:  return(0x191); 
+					case 0x2b:  return(0x193); 
+					case 0x2c:  return(0x194); 
+					case 0x2d:  return(0x126); 
+					case 0x2f:  return(0x197); 
+					case 0x32:  return(0x253); 
+					case 0x33:  return(0x188); 
+					case 0x34:  return(0x257); 
+					case 0x35:  return(0x256); 
+					case 0x37:  return(0x25b); 
+					case 0x38:  return(0x1dd); 
+					case 0x3a:  return(0x192); 
+					case 0x3b:  return(0x260); 
+					case 0x3c:  return(0x263); 
+					case 0x3d:  return(0x127); 
+					case 0x3f:  return(0x26a); 
+					case 0x40:  return(0x198); 
+					case 0x47:  return(0x220); 
+					case 0x49:  return(0x19f); 
+					case 0x4a:  return(0x186); 
+					case 0x4b:  return(0x1a4); 
+					case 0x4f:  return(0x1a9); 
+					case 0x50:  return(0x199); 
+					case 0x51:  return(0); 
+					case 0x53:  return(0x271); 
+					case 0x55:  return(0x273); 
+					case 0x56:  return(0x272); 
+					case 0x57:  return(0x19e); 
+					case 0x59:  return(0x275); 
+					case 0x5a:  return(0x254); 
+					case 0x5b:  return(0x1a5); 
+					case 0x5d:  return(0x27d); 
+					case 0x5f:  return(0x283); 
+					case 0x60:  return(0x1ac); 
+					case 0x61:  return(0x1ae); 
+					case 0x63:  return(0x1b1); 
+					case 0x64:  return(0x1b2); 
+					case 0x65:  return(0x3c7); 
+					case 0x66:  return(0x1b3); 
+					case 0x67:  return(0x1b7); 
+					case 0x70:  return(0x1ad); 
+					case 0x71:  return(0x288); 
+					case 0x73:  return(0x28a); 
+					case 0x74:  return(0x28b); 
+					case 0x75:  return(0); 
+					case 0x76:  return(0x1b4); 
+					case 0x77:  return(0x292); 
+					case 0x78:  return(0x295); 
+					case 0x79:  return(0x294); 
+					case 0x7a:  return(0x298); 
+					case 0x7b:  return(0x1c0); 
+					case 0x7c:  return(0x1c2); 
+					case 0x7d:  return(0x1c3); 
+					case 0x7e:  return(0x1c1); 
+					default:  return(0);
+				}
+			case 0x4e:
+				switch(c) {
+					case 0x21:  return(0x21); 
+					case 0x22:  return(0x22); 
+					case 0x23:  return(0x23); 
+					case 0x24:  return(0x24); 
+					case 0x25:  return(0x25); 
+					case 0x26:  return(0x26); 
+					case 0x27:  return(0x27); 
+					case 0x28:  return(0x28); 
+					case 0x29:  return(0x29); 
+					case 0x2a:  return(0x2a); 
+					case 0x2b:  return(0x2b); 
+					case 0x2c:  return(0x2c); 
+					case 0x2d:  return(0x2d); 
+					case 0x2e:  return(0x2e); 
+					case 0x2f:  return(0x2f); 
+					case 0x30:  return(0x30); 
+					case 0x31:  return(0x31); 
+					case 0x32:  return(0x32); 
+					case 0x33:  return(0x33); 
+					case 0x34:  return(0x34); 
+					case 0x35:  return(0x35); 
+					case 0x36:  return(0x36); 
+					case 0x37:  return(0x37); 
+					case 0x38:  return(0x38); 
+					case 0x39:  return(0x39); 
+					case 0x3a:  return(0x3a); 
+					case 0x3b:  return(0x3b); 
+					case 0x3c:  return(0x3c); 
+					case 0x3d:  return(0x3d); 
+					case 0x3e:  return(0x3e); 
+					case 0x3f:  return(0x3f); 
+					case 0x40:  return(0x44e); 
+					case 0x41:  return(0x430); 
+					case 0x42:  return(0x431); 
+					case 0x43:  return(0x446); 
+					case 0x44:  return(0x434); 
+					case 0x45:  return(0x435); 
+					case 0x46:  return(0x444); 
+					case 0x47:  return(0x433); 
+					case 0x48:  return(0x445); 
+					case 0x49:  return(0x438); 
+					case 0x4a:  return(0x439); 
+					case 0x4b:  return(0x43a); 
+					case 0x4c:  return(0x43b); 
+					case 0x4d:  return(0x43c); 
+					case 0x4e:  return(0x43d); 
+					case 0x4f:  return(0x43e); 
+					case 0x50:  return(0x43f); 
+					case 0x51:  return(0x44f); 
+					case 0x52:  return(0x440); 
+					case 0x53:  return(0x441); 
+					case 0x54:  return(0x442); 
+					case 0x55:  return(0x443); 
+					case 0x56:  return(0x436); 
+					case 0x57:  return(0x432); 
+					case 0x58:  return(0x44c); 
+					case 0x59:  return(0x44b); 
+					case 0x5a:  return(0x437); 
+					case 0x5b:  return(0x448); 
+					case 0x5c:  return(0x44d); 
+					case 0x5d:  return(0x449); 
+					case 0x5e:  return(0x447); 
+					case 0x5f:  return(0x44a); 
+					case 0x60:  return(0x42e); 
+					case 0x61:  return(0x410); 
+					case 0x62:  return(0x411); 
+					case 0x63:  return(0x426); 
+					case 0x64:  return(0x414); 
+					case 0x65:  return(0x415); 
+					case 0x66:  return(0x424); 
+					case 0x67:  return(0x413); 
+					case 0x68:  return(0x425); 
+					case 0x69:  return(0x418); 
+					case 0x6a:  return(0x419); 
+					case 0x6b:  return(0x41a); 
+					case 0x6c:  return(0x41b); 
+					case 0x6d:  return(0x41c); 
+					case 0x6e:  return(0x41d); 
+					case 0x6f:  return(0x41e); 
+					case 0x70:  return(0x41f); 
+					case 0x71:  return(0x42f); 
+					case 0x72:  return(0x420); 
+					case 0x73:  return(0x421); 
+					case 0x74:  return(0x422); 
+					case 0x75:  return(0x423); 
+					case 0x76:  return(0x416); 
+					case 0x77:  return(0x412); 
+					case 0x78:  return(0x42c); 
+					case 0x79:  return(0x42b); 
+					case 0x7a:  return(0x417); 
+					case 0x7b:  return(0x428); 
+					case 0x7c:  return(0x42d); 
+					case 0x7d:  return(0x429); 
+					case 0x7e:  return(0x427); 
+					default:  return(0);
+				}
+			case 0x50:
+				switch(c) {
+					case 0x88:  return(0x98); 
+					case 0x89:  return(0x9c); 
+					case 0x8d:  return(0x200d); 
+					case 0x8e:  return(0x200c); 
+					case 0xa1:  return(0xa1); 
+					case 0xa2:  return(0x201c); 
+					case 0xa3:  return(0xa3); 
+					case 0xa4:  return(0x24); 
+					case 0xa5:  return(0xa5); 
+					case 0xa6:  return(0x2020); 
+					case 0xa7:  return(0xa7); 
+					case 0xa8:  return(0x2032); 
+					case 0xa9:  return(0x2018); 
+					case 0xaa:  return(0x201c); 
+					case 0xab:  return(0xab); 
+					case 0xac:  return(0x266d); 
+					case 0xad:  return(0xa9); 
+					case 0xae:  return(0x2117); 
+					case 0xaf:  return(0xae); 
+					case 0xb0:  return(0x639); 
+					case 0xb1:  return(0x623); 
+					case 0xb2:  return(0x201a); 
+					case 0xb6:  return(0x2021); 
+					case 0xb7:  return(0xb7); 
+					case 0xb8:  return(0x2033); 
+					case 0xb9:  return(0x2019); 
+					case 0xba:  return(0x201d); 
+					case 0xbb:  return(0xbb); 
+					case 0xbc:  return(0x266f); 
+					case 0xbd:  return(0x2b9); 
+					case 0xbe:  return(0x2ba); 
+					case 0xbf:  return(0xbf); 
+					case 0xc0:  return(0x309); 
+					case 0xc1:  return(0x300); 
+					case 0xc2:  return(0x301); 
+					case 0xc3:  return(0x302); 
+					case 0xc4:  return(0x303); 
+					case 0xc5:  return(0x304); 
+					case 0xc6:  return(0x306); 
+					case 0xc7:  return(0x307); 
+					case 0xc8:  return(0x308); 
+					case 0xc9:  return(0x308); 
+					case 0xca:  return(0x30a); 
+					case 0xcb:  return(0x315); 
+					case 0xcc:  return(0x313); 
+					case 0xcd:  return(0x30b); 
+					case 0xce:  return(0x31b); 
+					case 0xcf:  return(0x30c); 
+					case 0xd0:  return(0x327); 
+					case 0xd1:  return(0x31c); 
+					case 0xd2:  return(0x326); 
+					case 0xd3:  return(0x328); 
+					case 0xd4:  return(0x325); 
+					case 0xd5:  return(0x32e); 
+					case 0xd6:  return(0x323); 
+					case 0xd7:  return(0x324); 
+					case 0xd8:  return(0x332); 
+					case 0xd9:  return(0x333); 
+					case 0xda:  return(0x329); 
+					case 0xdb:  return(0x32d); 
+					case 0xdd:  return(0x360); 
+					case 0xde:  return(0x31b); 
+					case 0xdf:  return(0); 
+					case 0xe1:  return(0xc6); 
+					case 0xe2:  return(0x110); 
+					case 0xe6:  return(0x132); 
+					case 0xe8:  return(0x141); 
+					case 0xe9:  return(0xd8); 
+					case 0xea:  return(0x152); 
+					case 0xec:  return(0xde); 
+					case 0xf1:  return(0xe6); 
+					case 0xf2:  return(0x111); 
+					case 0xf3:  return(0xf0); 
+					case 0xf5:  return(0x131); 
+					case 0xf6:  return(0x133); 
+					case 0xf8:  return(0x142); 
+					case 0xf9:  return(0xf8); 
+					case 0xfa:  return(0x153); 
+					case 0xfb:  return(0xdf); 
+					case 0xfc:  return(0xfe); 
+					default:  return(0);
+				}
+			case 0x51:
+				switch(c) {
+					case 0xc0:  return(0x491); 
+					case 0xc1:  return(0x452); 
+					case 0xc2:  return(0x453); 
+					case 0xc3:  return(0x454); 
+					case 0xc4:  return(0x451); 
+					case 0xc5:  return(0x455); 
+					case 0xc6:  return(0x456); 
+					case 0xc7:  return(0x457); 
+					case 0xc8:  return(0x458); 
+					case 0xc9:  return(0x459); 
+					case 0xca:  return(0x45a); 
+					case 0xcb:  return(0x45b); 
+					case 0xcc:  return(0x45c); 
+					case 0xcd:  return(0x45e); 
+					case 0xce:  return(0x45f); 
+					case 0xd0:  return(0x463); 
+					case 0xd1:  return(0x473); 
+					case 0xd2:  return(0x475); 
+					case 0xd3:  return(0x46b); 
+					case 0xdb:  return(0x5b); 
+					case 0xdd:  return(0x5d); 
+					case 0xdf:  return(0x5f); 
+					case 0xe0:  return(0x490); 
+					case 0xe1:  return(0x402); 
+					case 0xe2:  return(0x403); 
+					case 0xe3:  return(0x404); 
+					case 0xe4:  return(0x401); 
+					case 0xe5:  return(0x405); 
+					case 0xe6:  return(0x406); 
+					case 0xe7:  return(0x407); 
+					case 0xe8:  return(0x408); 
+					case 0xe9:  return(0x409); 
+					case 0xea:  return(0x40a); 
+					case 0xeb:  return(0x40b); 
+					case 0xec:  return(0x40c); 
+					case 0xed:  return(0x40e); 
+					case 0xee:  return(0x40f); 
+					case 0xef:  return(0x42a); 
+					case 0xf0:  return(0x462); 
+					case 0xf1:  return(0x472); 
+					case 0xf2:  return(0x474); 
+					case 0xf3:  return(0x46a); 
+					default:  return(0);
+				}
+			case 0x53:
+				switch(c) {
+					case 0x21:  return(0x300); 
+					case 0x22:  return(0x301); 
+					case 0x23:  return(0x308); 
+					case 0x24:  return(0x342); 
+					case 0x25:  return(0x313); 
+					case 0x26:  return(0x314); 
+					case 0x27:  return(0x345); 
+					case 0x30:  return(0xab); 
+					case 0x31:  return(0xbb); 
+					case 0x32:  return(0x201c); 
+					case 0x33:  return(0x201d); 
+					case 0x34:  return(0x374); 
+					case 0x35:  return(0x375); 
+					case 0x3b:  return(0x387); 
+					case 0x3f:  return(0x37e); 
+					case 0x41:  return(0x391); 
+					case 0x42:  return(0x392); 
+					case 0x44:  return(0x393); 
+					case 0x45:  return(0x394); 
+					case 0x46:  return(0x395); 
+					case 0x47:  return(0x3da); 
+					case 0x48:  return(0x3dc); 
+					case 0x49:  return(0x396); 
+					case 0x4a:  return(0x397); 
+					case 0x4b:  return(0x398); 
+					case 0x4c:  return(0x399); 
+					case 0x4d:  return(0x39a); 
+					case 0x4e:  return(0x39b); 
+					case 0x4f:  return(0x39c); 
+					case 0x50:  return(0x39d); 
+					case 0x51:  return(0x39e); 
+					case 0x52:  return(0x39f); 
+					case 0x53:  return(0x3a0); 
+					case 0x54:  return(0x3de); 
+					case 0x55:  return(0x3a1); 
+					case 0x56:  return(0x3a3); 
+					case 0x58:  return(0x3a4); 
+					case 0x59:  return(0x3a5); 
+					case 0x5a:  return(0x3a6); 
+					case 0x5b:  return(0x3a7); 
+					case 0x5c:  return(0x3a8); 
+					case 0x5d:  return(0x3a9); 
+					case 0x5e:  return(0x3e0); 
+					case 0x61:  return(0x3b1); 
+					case 0x62:  return(0x3b2); 
+					case 0x63:  return(0x3d0); 
+					case 0x64:  return(0x3b3); 
+					case 0x65:  return(0x3b4); 
+					case 0x66:  return(0x3b5); 
+					case 0x67:  return(0x3db); 
+					case 0x68:  return(0x3dd); 
+					case 0x69:  return(0x3b6); 
+					case 0x6a:  return(0x3b7); 
+					case 0x6b:  return(0x3b8); 
+					case 0x6c:  return(0x3b9); 
+					case 0x6d:  return(0x3ba); 
+					case 0x6e:  return(0x3bb); 
+					case 0x6f:  return(0x3bc); 
+					case 0x70:  return(0x3bd); 
+					case 0x71:  return(0x3be); 
+					case 0x72:  return(0x3bf); 
+					case 0x73:  return(0x3c0); 
+					case 0x74:  return(0x3df); 
+					case 0x75:  return(0x3c1); 
+					case 0x76:  return(0x3c3); 
+					case 0x77:  return(0x3c2); 
+					case 0x78:  return(0x3c4); 
+					case 0x79:  return(0x3c5); 
+					case 0x7a:  return(0x3c6); 
+					case 0x7b:  return(0x3c7); 
+					case 0x7c:  return(0x3c8); 
+					case 0x7d:  return(0x3c9); 
+					case 0x7e:  return(0x3e1); 
+					default:  return(0);
+				}
+			default: return(-1);  // unknown charset specified 
+		}
+	}
+
+}
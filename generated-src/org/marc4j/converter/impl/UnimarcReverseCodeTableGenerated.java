@@ -0,0 +1,894 @@
+package org.marc4j.converter.impl;
+
+import java.util.Hashtable;
+
+/**
+ * An implementation of ReverseCodeTable that is used in converting Unicode
+ * data to UNIMARC data, that doesn't rely on any data files or resources or
+ * data structures
+ *
+ * Warning: This file is generated by running the main routine in the file
+ * ReverseCodeTableHandler.java
+ *
+ * Warning: Do not edit this file, or all edits will be lost at the next
+ * build.
+ */
+
+public class UnimarcReverseCodeTableGenerated extends ReverseCodeTable {
+
+	public boolean isCombining(Character c) {
+		switch ((int)c.charValue()) {
+			case 0x300:
+			case 0x301:
+			case 0x302:
+			case 0x303:
+			case 0x304:
+			case 0x306:
+			case 0x307:
+			case 0x308:
+			case 0x309:
+			case 0x30a:
+			case 0x30b:
+			case 0x30c:
+			case 0x313:
+			case 0x314:
+			case 0x315:
+			case 0x31b:
+			case 0x31c:
+			case 0x323:
+			case 0x324:
+			case 0x325:
+			case 0x326:
+			case 0x327:
+			case 0x328:
+			case 0x329:
+			case 0x32d:
+			case 0x32e:
+			case 0x332:
+			case 0x333:
+			case 0x342:
+			case 0x345:
+			case 0x360:
+			case 0xfe21:
+			case 0xfe22:
+			case 0xfe23:
+				return true;
+			default: return false;
+		}
+	}
+
+	public Hashtable<Integer, char[]> getCharTable(Character c) {
+		String resultStr1 = getCharTableCharSet(c);
+		String resultStr2 = getCharTableCharString(c);
+		if (resultStr2 == null)  return(null);
+		Hashtable<Integer, char[]> result = new Hashtable<Integer, char[]>(resultStr1.length());
+		String res2[] = resultStr2.split(" ");
+		for (int i = 0; i < resultStr1.length(); i++) {
+			result.put(new Integer(resultStr1.charAt(i)), deHexify(res2[(res2.length==1) ? 0 : i]));
+		}
+		return(result);
+	}
+
+	private String getCharTableCharSet(Character c)
+	{
+		int cVal = (int)c.charValue();
+		switch(cVal) {
+			case 0x1b: return "@";
+			case 0x1d: return "@";
+			case 0x1e: return "@";
+			case 0x1f: return "@";
+			case 0x20: return "@";
+			case 0x21: return "@N";
+			case 0x22: return "@N";
+			case 0x23: return "@N";
+			case 0x24: return "@NP";
+			case 0x25: return "@N";
+			case 0x26: return "@N";
+			case 0x27: return "@N";
+			case 0x28: return "@N";
+			case 0x29: return "@N";
+			case 0x2a: return "@N";
+			case 0x2b: return "@N";
+			case 0x2c: return "@N";
+			case 0x2d: return "@N";
+			case 0x2e: return "@N";
+			case 0x2f: return "@N";
+			case 0x30: return "@N";
+			case 0x31: return "@N";
+			case 0x32: return "@N";
+			case 0x33: return "@N";
+			case 0x34: return "@N";
+			case 0x35: return "@N";
+			case 0x36: return "@N";
+			case 0x37: return "@N";
+			case 0x38: return "@N";
+			case 0x39: return "@N";
+			case 0x3a: return "@N";
+			case 0x3b: return "@N";
+			case 0x3c: return "@N";
+			case 0x3d: return "@N";
+			case 0x3e: return "@N";
+			case 0x3f: return "@N";
+			case 0x40: return "@";
+			case 0x41: return "@";
+			case 0x42: return "@";
+			case 0x43: return "@";
+			case 0x44: return "@";
+			case 0x45: return "@";
+			case 0x46: return "@";
+			case 0x47: return "@";
+			case 0x48: return "@";
+			case 0x49: return "@";
+			case 0x4a: return "@";
+			case 0x4b: return "@";
+			case 0x4c: return "@";
+			case 0x4d: return "@";
+			case 0x4e: return "@";
+			case 0x4f: return "@";
+			case 0x50: return "@";
+			case 0x51: return "@";
+			case 0x52: return "@";
+			case 0x53: return "@";
+			case 0x54: return "@";
+			case 0x55: return "@";
+			case 0x56: return "@";
+			case 0x57: return "@";
+			case 0x58: return "@";
+			case 0x59: return "@";
+			case 0x5a: return "@";
+			case 0x5b: return "@Q";
+			case 0x5c: return "@";
+			case 0x5d: return "@Q";
+			case 0x5e: return "@";
+			case 0x5f: return "@Q";
+			case 0x60: return "@";
+			case 0x61: return "@";
+			case 0x62: return "@";
+			case 0x63: return "@";
+			case 0x64: return "@";
+			case 0x65: return "@";
+			case 0x66: return "@";
+			case 0x67: return "@";
+			case 0x68: return "@";
+			case 0x69: return "@";
+			case 0x6a: return "@";
+			case 0x6b: return "@";
+			case 0x6c: return "@";
+			case 0x6d: return "@";
+			case 0x6e: return "@";
+			case 0x6f: return "@";
+			case 0x70: return "@";
+			case 0x71: return "@";
+			case 0x72: return "@";
+			case 0x73: return "@";
+			case 0x74: return "@";
+			case 0x75: return "@";
+			case 0x76: return "@";
+			case 0x77: return "@";
+			case 0x78: return "@";
+			case 0x79: return "@";
+			case 0x7a: return "@";
+			case 0x7b: return "@";
+			case 0x7c: return "@";
+			case 0x7d: return "@";
+			case 0x7e: return "@";
+			case 0x98: return "P";
+			case 0x9c: return "P";
+			case 0xa1: return "P";
+			case 0xa3: return "P";
+			case 0xa5: return "P";
+			case 0xa7: return "P";
+			case 0xa9: return "P";
+			case 0xab: return "PS";
+			case 0xae: return "P";
+			case 0xb7: return "P";
+			case 0xbb: return "PS";
+			case 0xbf: return "P";
+			case 0xc6: return "P";
+			case 0xd8: return "P";
+			case 0xde: return "P";
+			case 0xdf: return "P";
+			case 0xe6: return "P";
+			case 0xf0: return "P";
+			case 0xf8: return "P";
+			case 0xfe: return "P";
+			case 0x110: return "P";
+			case 0x111: return "P";
+			case 0x126: return "M";
+			case 0x127: return "M";
+			case 0x131: return "P";
+			case 0x132: return "P";
+			case 0x133: return "P";
+			case 0x141: return "P";
+			case 0x142: return "P";
+			case 0x152: return "P";
+			case 0x153: return "P";
+			case 0x181: return "M";
+			case 0x186: return "M";
+			case 0x187: return "M";
+			case 0x188: return "M";
+			case 0x189: return "M";
+			case 0x18a: return "M";
+			case 0x18e: return "M";
+			case 0x190: return "M";
+			case 0x191: return "M";
+			case 0x192: return "M";
+			case 0x193: return "M";
+			case 0x194: return "M";
+			case 0x197: return "M";
+			case 0x198: return "M";
+			case 0x199: return "M";
+			case 0x19e: return "M";
+			case 0x19f: return "M";
+			case 0x1a4: return "M";
+			case 0x1a5: return "M";
+			case 0x1a9: return "M";
+			case 0x1ac: return "M";
+			case 0x1ad: return "M";
+			case 0x1ae: return "M";
+			case 0x1b1: return "M";
+			case 0x1b2: return "M";
+			case 0x1b3: return "M";
+			case 0x1b4: return "M";
+			case 0x1b7: return "M";
+			case 0x1c0: return "M";
+			case 0x1c1: return "M";
+			case 0x1c2: return "M";
+			case 0x1c3: return "M";
+			case 0x1dd: return "M";
+			case 0x220: return "M";
+			case 0x253: return "M";
+			case 0x254: return "M";
+			case 0x256: return "M";
+			case 0x257: return "M";
+			case 0x25b: return "M";
+			case 0x260: return "M";
+			case 0x263: return "M";
+			case 0x26a: return "M";
+			case 0x271: return "M";
+			case 0x272: return "M";
+			case 0x273: return "M";
+			case 0x275: return "M";
+			case 0x27d: return "M";
+			case 0x283: return "M";
+			case 0x288: return "M";
+			case 0x28a: return "M";
+			case 0x28b: return "M";
+			case 0x292: return "M";
+			case 0x294: return "M";
+			case 0x295: return "M";
+			case 0x298: return "M";
+			case 0x2b9: return "P";
+			case 0x2ba: return "P";
+			case 0x300: return "PS";
+			case 0x301: return "PS";
+			case 0x302: return "P";
+			case 0x303: return "P";
+			case 0x304: return "P";
+			case 0x306: return "P";
+			case 0x307: return "P";
+			case 0x308: return "PS";
+			case 0x309: return "P";
+			case 0x30a: return "P";
+			case 0x30b: return "P";
+			case 0x30c: return "P";
+			case 0x313: return "PS";
+			case 0x314: return "S";
+			case 0x315: return "P";
+			case 0x31b: return "P";
+			case 0x31c: return "P";
+			case 0x323: return "P";
+			case 0x324: return "P";
+			case 0x325: return "P";
+			case 0x326: return "P";
+			case 0x327: return "P";
+			case 0x328: return "P";
+			case 0x329: return "P";
+			case 0x32d: return "P";
+			case 0x32e: return "P";
+			case 0x332: return "P";
+			case 0x333: return "P";
+			case 0x342: return "S";
+			case 0x345: return "S";
+			case 0x360: return "P";
+			case 0x374: return "S";
+			case 0x375: return "S";
+			case 0x37e: return "S";
+			case 0x387: return "S";
+			case 0x391: return "S";
+			case 0x392: return "S";
+			case 0x393: return "S";
+			case 0x394: return "S";
+			case 0x395: return "S";
+			case 0x396: return "S";
+			case 0x397: return "S";
+			case 0x398: return "S";
+			case 0x399: return "S";
+			case 0x39a: return "S";
+			case 0x39b: return "S";
+			case 0x39c: return "S";
+			case 0x39d: return "S";
+			case 0x39e: return "S";
+			case 0x39f: return "S";
+			case 0x3a0: return "S";
+			case 0x3a1: return "S";
+			case 0x3a3: return "S";
+			case 0x3a4: return "S";
+			case 0x3a5: return "S";
+			case 0x3a6: return "S";
+			case 0x3a7: return "S";
+			case 0x3a8: return "S";
+			case 0x3a9: return "S";
+			case 0x3b1: return "S";
+			case 0x3b2: return "S";
+			case 0x3b3: return "S";
+			case 0x3b4: return "S";
+			case 0x3b5: return "S";
+			case 0x3b6: return "S";
+			case 0x3b7: return "S";
+			case 0x3b8: return "S";
+			case 0x3b9: return "S";
+			case 0x3ba: return "S";
+			case 0x3bb: return "S";
+			case 0x3bc: return "S";
+			case 0x3bd: return "S";
+			case 0x3be: return "S";
+			case 0x3bf: return "S";
+			case 0x3c0: return "S";
+			case 0x3c1: return "S";
+			case 0x3c2: return "S";
+			case 0x3c3: return "S";
+			case 0x3c4: return "S";
+			case 0x3c5: return "S";
+			case 0x3c6: return "S";
+			case 0x3c7: return "MS";
+			case 0x3c8: return "S";
+			case 0x3c9: return "S";
+			case 0x3d0: return "S";
+			case 0x3da: return "S";
+			case 0x3db: return "S";
+			case 0x3dc: return "S";
+			case 0x3dd: return "S";
+			case 0x3de: return "S";
+			case 0x3df: return "S";
+			case 0x3e0: return "S";
+			case 0x3e1: return "S";
+			case 0x401: return "Q";
+			case 0x402: return "Q";
+			case 0x403: return "Q";
+			case 0x404: return "Q";
+			case 0x405: return "Q";
+			case 0x406: return "Q";
+			case 0x407: return "Q";
+			case 0x408: return "Q";
+			case 0x409: return "Q";
+			case 0x40a: return "Q";
+			case 0x40b: return "Q";
+			case 0x40c: return "Q";
+			case 0x40e: return "Q";
+			case 0x40f: return "Q";
+			case 0x410: return "N";
+			case 0x411: return "N";
+			case 0x412: return "N";
+			case 0x413: return "N";
+			case 0x414: return "N";
+			case 0x415: return "N";
+			case 0x416: return "N";
+			case 0x417: return "N";
+			case 0x418: return "N";
+			case 0x419: return "N";
+			case 0x41a: return "N";
+			case 0x41b: return "N";
+			case 0x41c: return "N";
+			case 0x41d: return "N";
+			case 0x41e: return "N";
+			case 0x41f: return "N";
+			case 0x420: return "N";
+			case 0x421: return "N";
+			case 0x422: return "N";
+			case 0x423: return "N";
+			case 0x424: return "N";
+			case 0x425: return "N";
+			case 0x426: return "N";
+			case 0x427: return "N";
+			case 0x428: return "N";
+			case 0x429: return "N";
+			case 0x42a: return "Q";
+			case 0x42b: return "N";
+			case 0x42c: return "N";
+			case 0x42d: return "N";
+			case 0x42e: return "N";
+			case 0x42f: return "N";
+			case 0x430: return "N";
+			case 0x431: return "N";
+			case 0x432: return "N";
+			case 0x433: return "N";
+			case 0x434: return "N";
+			case 0x435: return "N";
+			case 0x436: return "N";
+			case 0x437: return "N";
+			case 0x438: return "N";
+			case 0x439: return "N";
+			case 0x43a: return "N";
+			case 0x43b: return "N";
+			case 0x43c: return "N";
+			case 0x43d: return "N";
+			case 0x43e: return "N";
+			case 0x43f: return "N";
+			case 0x440: return "N";
+			case 0x441: return "N";
+			case 0x442: return "N";
+			case 0x443: return "N";
+			case 0x444: return "N";
+			case 0x445: return "N";
+			case 0x446: return "N";
+			case 0x447: return "N";
+			case 0x448: return "N";
+			case 0x449: return "N";
+			case 0x44a: return "N";
+			case 0x44b: return "N";
+			case 0x44c: return "N";
+			case 0x44d: return "N";
+			case 0x44e: return "N";
+			case 0x44f: return "N";
+			case 0x451: return "Q";
+			case 0x452: return "Q";
+			case 0x453: return "Q";
+			case 0x454: return "Q";
+			case 0x455: return "Q";
+			case 0x456: return "Q";
+			case 0x457: return "Q";
+			case 0x458: return "Q";
+			case 0x459: return "Q";
+			case 0x45a: return "Q";
+			case 0x45b: return "Q";
+			case 0x45c: return "Q";
+			case 0x45e: return "Q";
+			case 0x45f: return "Q";
+			case 0x462: return "Q";
+			case 0x463: return "Q";
+			case 0x46a: return "Q";
+			case 0x46b: return "Q";
+			case 0x472: return "Q";
+			case 0x473: return "Q";
+			case 0x474: return "Q";
+			case 0x475: return "Q";
+			case 0x490: return "Q";
+			case 0x491: return "Q";
+			case 0x623: return "P";
+			case 0x639: return "P";
+			case 0x200c: return "P";
+			case 0x200d: return "P";
+			case 0x2018: return "P";
+			case 0x2019: return "P";
+			case 0x201a: return "P";
+			case 0x201c: return "PS";
+			case 0x201d: return "PS";
+			case 0x2020: return "P";
+			case 0x2021: return "P";
+			case 0x2032: return "P";
+			case 0x2033: return "P";
+			case 0x2117: return "P";
+			case 0x266d: return "P";
+			case 0x266f: return "P";
+			case 0xfe21: return "P";
+			case 0xfe22: return "P";
+			case 0xfe23: return "P";
+		}
+		return "1";
+	}
+	private String getCharTableCharString_0x1b_0xfe23(Character c) {
+		switch((int)c.charValue()) {
+			case 0x1b: return "1b";
+			case 0x1d: return "1d";
+			case 0x1e: return "1e";
+			case 0x1f: return "1f";
+			case 0x20: return "20";
+			case 0x21: return "21";
+			case 0x22: return "22";
+			case 0x23: return "23";
+			case 0x24: return "24 24 a4";
+			case 0x25: return "25";
+			case 0x26: return "26";
+			case 0x27: return "27";
+			case 0x28: return "28";
+			case 0x29: return "29";
+			case 0x2a: return "2a";
+			case 0x2b: return "2b";
+			case 0x2c: return "2c";
+			case 0x2d: return "2d";
+			case 0x2e: return "2e";
+			case 0x2f: return "2f";
+			case 0x30: return "30";
+			case 0x31: return "31";
+			case 0x32: return "32";
+			case 0x33: return "33";
+			case 0x34: return "34";
+			case 0x35: return "35";
+			case 0x36: return "36";
+			case 0x37: return "37";
+			case 0x38: return "38";
+			case 0x39: return "39";
+			case 0x3a: return "3a";
+			case 0x3b: return "3b";
+			case 0x3c: return "3c";
+			case 0x3d: return "3d";
+			case 0x3e: return "3e";
+			case 0x3f: return "3f";
+			case 0x40: return "40";
+			case 0x41: return "41";
+			case 0x42: return "42";
+			case 0x43: return "43";
+			case 0x44: return "44";
+			case 0x45: return "45";
+			case 0x46: return "46";
+			case 0x47: return "47";
+			case 0x48: return "48";
+			case 0x49: return "49";
+			case 0x4a: return "4a";
+			case 0x4b: return "4b";
+			case 0x4c: return "4c";
+			case 0x4d: return "4d";
+			case 0x4e: return "4e";
+			case 0x4f: return "4f";
+			case 0x50: return "50";
+			case 0x51: return "51";
+			case 0x52: return "52";
+			case 0x53: return "53";
+			case 0x54: return "54";
+			case 0x55: return "55";
+			case 0x56: return "56";
+			case 0x57: return "57";
+			case 0x58: return "58";
+			case 0x59: return "59";
+			case 0x5a: return "5a";
+			case 0x5b: return "5b db";
+			case 0x5c: return "5c";
+			case 0x5d: return "5d dd";
+			case 0x5e: return "5e";
+			case 0x5f: return "5f df";
+			case 0x60: return "60";
+			case 0x61: return "61";
+			case 0x62: return "62";
+			case 0x63: return "63";
+			case 0x64: return "64";
+			case 0x65: return "65";
+			case 0x66: return "66";
+			case 0x67: return "67";
+			case 0x68: return "68";
+			case 0x69: return "69";
+			case 0x6a: return "6a";
+			case 0x6b: return "6b";
+			case 0x6c: return "6c";
+			case 0x6d: return "6d";
+			case 0x6e: return "6e";
+			case 0x6f: return "6f";
+			case 0x70: return "70";
+			case 0x71: return "71";
+			case 0x72: return "72";
+			case 0x73: return "73";
+			case 0x74: return "74";
+			case 0x75: return "75";
+			case 0x76: return "76";
+			case 0x77: return "77";
+			case 0x78: return "78";
+			case 0x79: return "79";
+			case 0x7a: return "7a";
+			case 0x7b: return "7b";
+			case 0x7c: return "7c";
+			case 0x7d: return "7d";
+			case 0x7e: return "7e";
+			case 0x98: return "88";
+			case 0x9c: return "89";
+			case 0xa1: return "a1";
+			case 0xa3: return "a3";
+			case 0xa5: return "a5";
+			case 0xa7: return "a7";
+			case 0xa9: return "ad";
+			case 0xab: return "ab 30";
+			case 0xae: return "af";
+			case 0xb7: return "b7";
+			case 0xbb: return "bb 31";
+			case 0xbf: return "bf";
+			case 0xc6: return "e1";
+			case 0xd8: return "e9";
+			case 0xde: return "ec";
+			case 0xdf: return "fb";
+			case 0xe6: return "f1";
+			case 0xf0: return "f3";
+			case 0xf8: return "f9";
+			case 0xfe: return "fc";
+			case 0x110: return "e2";
+			case 0x111: return "f2";
+			case 0x126: return "2d";
+			case 0x127: return "3d";
+			case 0x131: return "f5";
+			case 0x132: return "e6";
+			case 0x133: return "f6";
+			case 0x141: return "e8";
+			case 0x142: return "f8";
+			case 0x152: return "ea";
+			case 0x153: return "fa";
+			case 0x181: return "22";
+			case 0x186: return "4a";
+			case 0x187: return "23";
+			case 0x188: return "33";
+			case 0x189: return "25";
+			case 0x18a: return "24";
+			case 0x18e: return "28";
+			case 0x190: return "27";
+			case 0x191: return "2a";
+			case 0x192: return "3a";
+			case 0x193: return "2b";
+			case 0x194: return "2c";
+			case 0x197: return "2f";
+			case 0x198: return "40";
+			case 0x199: return "50";
+			case 0x19e: return "57";
+			case 0x19f: return "49";
+			case 0x1a4: return "4b";
+			case 0x1a5: return "5b";
+			case 0x1a9: return "4f";
+			case 0x1ac: return "60";
+			case 0x1ad: return "70";
+			case 0x1ae: return "61";
+			case 0x1b1: return "63";
+			case 0x1b2: return "64";
+			case 0x1b3: return "66";
+			case 0x1b4: return "76";
+			case 0x1b7: return "67";
+			case 0x1c0: return "7b";
+			case 0x1c1: return "7e";
+			case 0x1c2: return "7c";
+			case 0x1c3: return "7d";
+			case 0x1dd: return "38";
+			case 0x220: return "47";
+			case 0x253: return "32";
+			case 0x254: return "5a";
+			case 0x256: return "35";
+			case 0x257: return "34";
+			case 0x25b: return "37";
+			case 0x260: return "3b";
+			case 0x263: return "3c";
+			case 0x26a: return "3f";
+			case 0x271: return "53";
+			case 0x272: return "56";
+			case 0x273: return "55";
+			case 0x275: return "59";
+			case 0x27d: return "5d";
+			case 0x283: return "5f";
+			case 0x288: return "71";
+			case 0x28a: return "73";
+			case 0x28b: return "74";
+			case 0x292: return "77";
+			case 0x294: return "79";
+			case 0x295: return "78";
+			case 0x298: return "7a";
+			case 0x2b9: return "bd";
+			case 0x2ba: return "be";
+			case 0x300: return "c1 21";
+			case 0x301: return "c2 22";
+			case 0x302: return "c3";
+			case 0x303: return "c4";
+			case 0x304: return "c5";
+			case 0x306: return "c6";
+			case 0x307: return "c7";
+			case 0x308: return "c9 23";
+			case 0x309: return "c0";
+			case 0x30a: return "ca";
+			case 0x30b: return "cd";
+			case 0x30c: return "cf";
+			case 0x313: return "cc 25";
+			case 0x314: return "26";
+			case 0x315: return "cb";
+			case 0x31b: return "de";
+			case 0x31c: return "d1";
+			case 0x323: return "d6";
+			case 0x324: return "d7";
+			case 0x325: return "d4";
+			case 0x326: return "d2";
+			case 0x327: return "d0";
+			case 0x328: return "d3";
+			case 0x329: return "da";
+			case 0x32d: return "db";
+			case 0x32e: return "d5";
+			case 0x332: return "d8";
+			case 0x333: return "d9";
+			case 0x342: return "24";
+			case 0x345: return "27";
+			case 0x360: return "dd";
+			case 0x374: return "34";
+			case 0x375: return "35";
+			case 0x37e: return "3f";
+			case 0x387: return "3b";
+			case 0x391: return "41";
+			case 0x392: return "42";
+			case 0x393: return "44";
+			case 0x394: return "45";
+			case 0x395: return "46";
+			case 0x396: return "49";
+			case 0x397: return "4a";
+			case 0x398: return "4b";
+			case 0x399: return "4c";
+			case 0x39a: return "4d";
+			case 0x39b: return "4e";
+			case 0x39c: return "4f";
+			case 0x39d: return "50";
+			case 0x39e: return "51";
+			case 0x39f: return "52";
+			case 0x3a0: return "53";
+			case 0x3a1: return "55";
+			case 0x3a3: return "56";
+			case 0x3a4: return "58";
+			case 0x3a5: return "59";
+			case 0x3a6: return "5a";
+			case 0x3a7: return "5b";
+			case 0x3a8: return "5c";
+			case 0x3a9: return "5d";
+			case 0x3b1: return "61";
+			case 0x3b2: return "62";
+			case 0x3b3: return "64";
+			case 0x3b4: return "65";
+			case 0x3b5: return "66";
+			case 0x3b6: return "69";
+			case 0x3b7: return "6a";
+			case 0x3b8: return "6b";
+			case 0x3b9: return "6c";
+			case 0x3ba: return "6d";
+			case 0x3bb: return "6e";
+			case 0x3bc: return "6f";
+			case 0x3bd: return "70";
+			case 0x3be: return "71";
+			case 0x3bf: return "72";
+			case 0x3c0: return "73";
+			case 0x3c1: return "75";
+			case 0x3c2: return "77";
+			case 0x3c3: return "76";
+			case 0x3c4: return "78";
+			case 0x3c5: return "79";
+			case 0x3c6: return "7a";
+			case 0x3c7: return "65 7b";
+			case 0x3c8: return "7c";
+			case 0x3c9: return "7d";
+			case 0x3d0: return "63";
+			case 0x3da: return "47";
+			case 0x3db: return "67";
+			case 0x3dc: return "48";
+			case 0x3dd: return "68";
+			case 0x3de: return "54";
+			case 0x3df: return "74";
+			case 0x3e0: return "5e";
+			case 0x3e1: return "7e";
+			case 0x401: return "e4";
+			case 0x402: return "e1";
+			case 0x403: return "e2";
+			case 0x404: return "e3";
+			case 0x405: return "e5";
+			case 0x406: return "e6";
+			case 0x407: return "e7";
+			case 0x408: return "e8";
+			case 0x409: return "e9";
+			case 0x40a: return "ea";
+			case 0x40b: return "eb";
+			case 0x40c: return "ec";
+			case 0x40e: return "ed";
+			case 0x40f: return "ee";
+			case 0x410: return "61";
+			case 0x411: return "62";
+			case 0x412: return "77";
+			case 0x413: return "67";
+			case 0x414: return "64";
+			case 0x415: return "65";
+			case 0x416: return "76";
+			case 0x417: return "7a";
+			case 0x418: return "69";
+			case 0x419: return "6a";
+			case 0x41a: return "6b";
+			case 0x41b: return "6c";
+			case 0x41c: return "6d";
+			case 0x41d: return "6e";
+			case 0x41e: return "6f";
+			case 0x41f: return "70";
+			case 0x420: return "72";
+			case 0x421: return "73";
+			case 0x422: return "74";
+			case 0x423: return "75";
+			case 0x424: return "66";
+			case 0x425: return "68";
+			case 0x426: return "63";
+			case 0x427: return "7e";
+			case 0x428: return "7b";
+			case 0x429: return "7d";
+			case 0x42a: return "ef";
+			case 0x42b: return "79";
+			case 0x42c: return "78";
+			case 0x42d: return "7c";
+			case 0x42e: return "60";
+			case 0x42f: return "71";
+			case 0x430: return "41";
+			case 0x431: return "42";
+			case 0x432: return "57";
+			case 0x433: return "47";
+			case 0x434: return "44";
+			case 0x435: return "45";
+			case 0x436: return "56";
+			case 0x437: return "5a";
+			case 0x438: return "49";
+			case 0x439: return "4a";
+			case 0x43a: return "4b";
+			case 0x43b: return "4c";
+			case 0x43c: return "4d";
+			case 0x43d: return "4e";
+			case 0x43e: return "4f";
+			case 0x43f: return "50";
+			case 0x440: return "52";
+			case 0x441: return "53";
+			case 0x442: return "54";
+			case 0x443: return "55";
+			case 0x444: return "46";
+			case 0x445: return "48";
+			case 0x446: return "43";
+			case 0x447: return "5e";
+			case 0x448: return "5b";
+			case 0x449: return "5d";
+			case 0x44a: return "5f";
+			case 0x44b: return "59";
+			case 0x44c: return "58";
+			case 0x44d: return "5c";
+			case 0x44e: return "40";
+			case 0x44f: return "51";
+			case 0x451: return "c4";
+			case 0x452: return "c1";
+			case 0x453: return "c2";
+			case 0x454: return "c3";
+			case 0x455: return "c5";
+			case 0x456: return "c6";
+			case 0x457: return "c7";
+			case 0x458: return "c8";
+			case 0x459: return "c9";
+			case 0x45a: return "ca";
+			case 0x45b: return "cb";
+			case 0x45c: return "cc";
+			case 0x45e: return "cd";
+			case 0x45f: return "ce";
+			case 0x462: return "f0";
+			case 0x463: return "d0";
+			case 0x46a: return "f3";
+			case 0x46b: return "d3";
+			case 0x472: return "f1";
+			case 0x473: return "d1";
+			case 0x474: return "f2";
+			case 0x475: return "d2";
+			case 0x490: return "e0";
+			case 0x491: return "c0";
+			case 0x623: return "b1";
+			case 0x639: return "b0";
+			case 0x200c: return "8e";
+			case 0x200d: return "8d";
+			case 0x2018: return "a9";
+			case 0x2019: return "b9";
+			case 0x201a: return "b2";
+			case 0x201c: return "aa 32";
+			case 0x201d: return "ba 33";
+			case 0x2020: return "a6";
+			case 0x2021: return "b6";
+			case 0x2032: return "a8";
+			case 0x2033: return "b8";
+			case 0x2117: return "ae";
+			case 0x266d: return "ac";
+			case 0x266f: return "bc";
+			case 0xfe21: return "de";
+			case 0xfe22: return "dd";
+			case 0xfe23: return "df";
+			default: return null;
+		}
+	}
+
+	private String getCharTableCharString(Character c)
+	{
+		int cVal = (int)c.charValue();
+		if (cVal >= 0x1b && cVal <= 0xfe23)  return (getCharTableCharString_0x1b_0xfe23(c));
+
+		return null;
+	}
+}
@@ -0,0 +1,298 @@
+package org.marc4j;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.marc4j.converter.CharConverter;
+import org.marc4j.marc.Record;
+
+/**
+ * A {@link MarcWriter} that hands the records to another writer running on a background thread, through a queue of
+ * limited capacity, so that reading and processing records can go on while the output is slow. When the queue is full,
+ * {@link #write(Record)} either waits for room or drops the record, as set by the {@link OverflowPolicy}.
+ * <p>
+ * The following example keeps up to 1000 records waiting to be written to a file:
+ * </p>
+ *
+ * <pre>
+ * MarcWriter writer = new AsyncMarcWriter(new MarcStreamWriter(new FileOutputStream(&quot;records.mrc&quot;)), 1000);
+ * while (reader.hasNext()) {
+ *     writer.write(reader.next());
+ * }
+ * writer.close();
+ * </pre>
+ * <p>
+ * A record must not be changed once it has been handed to {@link #write(Record)}, since it is written later on the
+ * background thread. Errors raised while writing are thrown by the next call to {@link #write(Record)},
+ * {@link #flush()} or {@link #close()}; the records after the error are discarded. The writer itself is meant to be
+ * used from a single thread.
+ * </p>
+ */
+public class AsyncMarcWriter implements MarcWriter, Flushable {
+
+    /**
+     * What {@link AsyncMarcWriter#write(Record)} does when the queue is full.
+     */
+    public enum OverflowPolicy {
+        /** Wait until there is room in the queue. */
+        BLOCK,
+        /** Drop the record, counting it in {@link AsyncMarcWriter#getDroppedCount()}. */
+        DROP
+    }
+
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    private static final Object CLOSE = new Object();
+
+    private static final AtomicInteger threadNumber = new AtomicInteger();
+
+    private final MarcWriter writer;
+
+    private final OverflowPolicy policy;
+
+    private final BlockingQueue<Object> queue;
+
+    private final Thread thread;
+
+    private final AtomicLong dropped = new AtomicLong();
+
+    private volatile Throwable error;
+
+    private CharConverter converter;
+
+    private boolean closed = false;
+
+    /**
+     * Constructs a writer with a queue of 1024 records that waits for room when the queue is full.
+     *
+     * @param writer - the writer to hand the records to
+     */
+    public AsyncMarcWriter(final MarcWriter writer) {
+        this(writer, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a writer with a queue of the supplied capacity that waits for room when the queue is full.
+     *
+     * @param writer - the writer to hand the records to
+     * @param capacity - the number of records that can wait to be written
+     */
+    public AsyncMarcWriter(final MarcWriter writer, final int capacity) {
+        this(writer, capacity, OverflowPolicy.BLOCK);
+    }
+
+    /**
+     * Constructs a writer with a queue of the supplied capacity and the supplied policy for a full queue.
+     *
+     * @param writer - the writer to hand the records to
+     * @param capacity - the number of records that can wait to be written
+     * @param policy - what to do with a record when the queue is full
+     */
+    public AsyncMarcWriter(final MarcWriter writer, final int capacity, final OverflowPolicy policy) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity must be at least 1: " + capacity);
+        }
+        this.writer = writer;
+        this.policy = policy;
+        this.converter = writer.getConverter();
+        queue = new ArrayBlockingQueue<Object>(capacity);
+
+        thread = new Thread(new Runnable() {
+
+            @Override
+            public void run() {
+                drain();
+            }
+        }, "marc4j-async-writer-" + threadNumber.incrementAndGet());
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Queues the supplied record to be written on the background thread. If the queue is full, this waits for room or
+     * drops the record, depending on the policy.
+     *
+     * @param record - the record to write
+     */
+    @Override
+    public void write(final Record record) {
+        if (closed) {
+            throw new MarcException("The writer has been closed");
+        }
+        checkError();
+
+        if (policy == OverflowPolicy.BLOCK) {
+            put(record);
+        } else if (!queue.offer(record)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Waits until the records queued so far have been written, then flushes the wrapped writer if it is
+     * {@link Flushable}.
+     */
+    @Override
+    public void flush() {
+        if (closed) {
+            throw new MarcException("The writer has been closed");
+        }
+        final CountDownLatch done = new CountDownLatch(1);
+        put(done);
+        try {
+            done.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MarcException("Interrupted while waiting for the records to be written", e);
+        }
+        checkError();
+    }
+
+    /**
+     * Waits until the queued records have been written, stops the background thread and closes the wrapped writer.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        try {
+            put(CLOSE);
+            try {
+                thread.join();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MarcException("Interrupted while waiting for the records to be written", e);
+            }
+        } finally {
+            try {
+                writer.close();
+            } catch (final RuntimeException e) {
+                if (error == null) {
+                    error = e;
+                }
+            }
+        }
+        checkError();
+    }
+
+    /**
+     * Returns the number of records dropped because the queue was full.
+     *
+     * @return the number of dropped records
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Returns the character converter last set on this writer, or that of the wrapped writer if none was set.
+     *
+     * @return the character converter
+     */
+    @Override
+    public CharConverter getConverter() {
+        return converter;
+    }
+
+    /**
+     * Sets the character converter of the wrapped writer. The change is queued like a record and made on the
+     * background thread, so the records queued before it are still written with the previous converter. The
+     * change is never dropped; if the queue is full, this waits for room.
+     *
+     * @param converter - the character converter
+     */
+    @Override
+    public void setConverter(final CharConverter converter) {
+        this.converter = converter;
+        if (closed) {
+            writer.setConverter(converter);
+            return;
+        }
+
+        // the writer belongs to the background thread, so the change is queued like a record
+        put(new Runnable() {
+
+            @Override
+            public void run() {
+                writer.setConverter(converter);
+            }
+        });
+    }
+
+    /**
+     * Whether the wrapped writer expects the records passed in to be encoded in Unicode.
+     */
+    @Override
+    public boolean expectsUnicode() {
+        return writer.expectsUnicode();
+    }
+
+    private void put(final Object item) {
+        try {
+            queue.put(item);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MarcException("Interrupted while waiting to queue a record", e);
+        }
+    }
+
+    private void checkError() {
+        final Throwable e = error;
+        if (e instanceof RuntimeException) {
+            throw (RuntimeException) e;
+        } else if (e != null) {
+            throw new MarcException("Error occured while writing record", e);
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            final Object item;
+            try {
+                item = queue.take();
+            } catch (final InterruptedException e) {
+                // keep taking from the queue, so that nothing waits on it for ever
+                error = new MarcException("Interrupted while writing records", e);
+                continue;
+            }
+
+            if (item == CLOSE) {
+                return;
+            } else if (item instanceof Runnable) {
+                try {
+                    ((Runnable) item).run();
+                } catch (final Throwable e) {
+                    if (error == null) {
+                        error = e;
+                    }
+                }
+            } else if (item instanceof CountDownLatch) {
+                if (error == null && writer instanceof Flushable) {
+                    try {
+                        ((Flushable) writer).flush();
+                    } catch (final IOException e) {
+                        error = new MarcException("IO Error occured while flushing", e);
+                    } catch (final Throwable e) {
+                        error = e;
+                    }
+                }
+                ((CountDownLatch) item).countDown();
+            } else if (error == null) {
+                try {
+                    writer.write((Record) item);
+                } catch (final Throwable e) {
+                    error = e;
+                }
+            }
+        }
+    }
+
+}
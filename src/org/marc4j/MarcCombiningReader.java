@@ -7,6 +7,7 @@ import java.util.List;
 import org.marc4j.marc.ControlField;
 import org.marc4j.marc.DataField;
 import org.marc4j.marc.Record;
+import org.marc4j.marc.RecordVisitor;
 import org.marc4j.marc.Subfield;
 import org.marc4j.marc.VariableField;
 
@@ -257,29 +258,20 @@ public class MarcCombiningReader implements MarcReader {
      */
     static public Record combineRecords(final Record currentRecord, final Record nextRecord,
             final String idsToMerge) {
-        final List<VariableField> fields = nextRecord.getVariableFields();
+        final boolean unique = idsToMerge.startsWith("unique");
 
-        boolean unique = false;
-        if (idsToMerge.startsWith("unique")) {
-            unique = true;
-        }
-        for (final VariableField field : fields) {
-            if (field.getTag().matches(idsToMerge)) {
-                boolean add = true;
-                if (unique) {
-                    final List<VariableField> existingFields = currentRecord.getVariableFields();
-                    for (VariableField evf : existingFields)
-                        if (evf.getTag().equals(field.getTag())) {
-                            if (evf.toString().equals(field.toString())) {
-                                add = false;
-                            }
-                        }
-                }
-                if (add) {
-                    currentRecord.addVariableField(field);
+        nextRecord.forEachField(new RecordVisitor() {
+
+            @Override
+            public boolean visitField(final VariableField field) {
+                if (field.getTag().matches(idsToMerge)) {
+                    if (!unique || !containsField(currentRecord, field)) {
+                        currentRecord.addVariableField(field);
+                    }
                 }
+                return true;
             }
-        }
+        });
         if (nextRecord.hasErrors()) {
             currentRecord.addErrors(nextRecord.getErrors());
         }
@@ -310,13 +302,16 @@ public class MarcCombiningReader implements MarcReader {
             }
         }
 
-        final List<VariableField> fields = nextRecord.getVariableFields();
+        nextRecord.forEachField(new RecordVisitor() {
 
-        for (final VariableField field : fields) {
-            if (field.getTag().matches(idsToMerge)) {
-                currentRecord.addVariableField(field);
+            @Override
+            public boolean visitField(final VariableField field) {
+                if (field.getTag().matches(idsToMerge)) {
+                    currentRecord.addVariableField(field);
+                }
+                return true;
             }
-        }
+        });
 
         // now add back the temporarily removed fields
         for (final VariableField field : fieldsToMove) {
@@ -330,4 +325,18 @@ public class MarcCombiningReader implements MarcReader {
         return currentRecord;
     }
 
+    /**
+     * Returns true if the record has a field equal to the supplied one,
+     * stopping at the first match.
+     */
+    private static boolean containsField(final Record record, final VariableField field) {
+        return !record.forEachField(new RecordVisitor() {
+
+            @Override
+            public boolean visitField(final VariableField existing) {
+                return !(existing.getTag().equals(field.getTag()) && existing.equals(field));
+            }
+        });
+    }
+
 }
@@ -5,6 +5,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.text.Normalizer;
+import java.util.List;
 
 import org.marc4j.converter.CharConverter;
 import org.marc4j.marc.ControlField;
@@ -12,12 +13,42 @@ import org.marc4j.marc.DataField;
 import org.marc4j.marc.Record;
 import org.marc4j.marc.Subfield;
 
+/**
+ * Writes records as MARC-in-JSON or MARC-JSON, one JSON object for each record. Each record is generated straight
+ * into a reusable UTF-8 byte buffer and written to the output stream with a single call.
+ * <p>
+ * Unless indentation is turned on, every record is written on a line of its own. With {@link #setJsonLines(boolean)}
+ * this is guaranteed regardless of the indentation setting, so the output can be split on newlines and the records
+ * parsed in parallel, as the JSON Lines format expects.
+ * </p>
+ */
 public class MarcJsonWriter implements MarcWriter {
 
     public final static int MARC_IN_JSON = 0;
 
     public final static int MARC_JSON = 1;
 
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * The escapes of the ASCII characters in JSON strings; <code>null</code> for the characters that are written as
+     * they are.
+     */
+    private static final byte[][] ESCAPES = new byte[0x80][];
+
+    static {
+        for (int c = 0; c < 0x20; c++) {
+            ESCAPES[c] = new byte[] { '\\', 'u', '0', '0', HEX_DIGITS[c >> 4], HEX_DIGITS[c & 0xF] };
+        }
+        ESCAPES['"'] = new byte[] { '\\', '"' };
+        ESCAPES['\\'] = new byte[] { '\\', '\\' };
+        ESCAPES['\b'] = new byte[] { '\\', 'b' };
+        ESCAPES['\f'] = new byte[] { '\\', 'f' };
+        ESCAPES['\n'] = new byte[] { '\\', 'n' };
+        ESCAPES['\r'] = new byte[] { '\\', 'r' };
+        ESCAPES['\t'] = new byte[] { '\\', 't' };
+    }
+
     /**
      * Character encoding. Default is UTF-8.
      */
@@ -29,14 +60,21 @@ public class MarcJsonWriter implements MarcWriter {
 
     private boolean indent = false;
 
+    private boolean jsonLines = false;
+
     private boolean escapeSlash = false;
 
     private boolean quoteLabels = true;
 
-    private String ql = "\"";
-
     private boolean normalize = false;
 
+    /**
+     * The buffer a record is generated in.
+     */
+    private byte[] buffer = new byte[8192];
+
+    private int length;
+
     private static String localSubfields = " ! \" # $ % & ' ( ) * + , - . / : ; < = > ? { } _ ^ ` ~ [ ] \\ ";
     /**
      * Creates a {@link MarcJsonWriter} with the supplied {@link OutputStream}.
@@ -104,91 +142,124 @@ public class MarcJsonWriter implements MarcWriter {
     }
 
     protected String toMarcJson(final Record record) {
-        final StringBuffer buf = new StringBuffer();
-        buf.append("{");
+        length = 0;
+        appendMarcJson(record);
+        return new String(buffer, 0, length, StandardCharsets.UTF_8);
+    }
+
+    protected String toMarcInJson(final Record record) {
+        length = 0;
+        appendMarcInJson(record);
+        return new String(buffer, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private void appendMarcJson(final Record record) {
+        append('{');
 
-        indent(buf, "\n    ");
+        indent("\n    ");
 
-        buf.append(ql + "leader" + ql + ":\"").append(unicodeEscape(record.getLeader().toString())).append("\",");
+        appendLabel("leader");
+        append(":\"");
+        appendEscaped(transform(record.getLeader().toString()));
+        append("\",");
 
-        indent(buf, "\n    ");
+        indent("\n    ");
 
-        buf.append(ql + "controlfield" + ql + ":");
+        appendLabel("controlfield");
+        append(':');
 
-        indent(buf, "\n    ");
+        indent("\n    ");
 
-        buf.append("[");
+        append('[');
         boolean firstField = true;
 
-        for (final ControlField cf : record.getControlFields()) {
+        final List<ControlField> controlFields = record.getControlFields();
+        for (int i = 0; i < controlFields.size(); i++) {
+            final ControlField cf = controlFields.get(i);
+
             if (!firstField) {
-                buf.append(",");
+                append(',');
             } else {
                 firstField = false;
             }
 
-            indent(buf, "\n        ");
+            indent("\n        ");
 
-            if (!cf.getTag().matches("[A-Z0-9][A-Z0-9][A-Z0-9]")) {
-                throw new MarcException("Invalid tag: " + cf.getTag());
-            }
+            checkTag(cf.getTag());
 
-            buf.append("{ " + ql + "tag" + ql + " : \"" + cf.getTag() + "\", " + ql + "data" + ql + " : ")
-                    .append("\"" + unicodeEscape(cf.getData()) + "\" }");
+            append("{ ");
+            appendLabel("tag");
+            append(" : \"");
+            append(cf.getTag());
+            append("\", ");
+            appendLabel("data");
+            append(" : \"");
+            appendEscaped(transform(cf.getData()));
+            append("\" }");
         }
 
-        indent(buf, "\n    ");
+        indent("\n    ");
 
-        buf.append("]");
+        append(']');
 
-        indent(buf, "\n    ");
+        indent("\n    ");
 
-        buf.append("datafield :");
+        append("datafield :");
 
-        indent(buf, "\n    ");
+        indent("\n    ");
 
-        buf.append("[");
+        append('[');
         firstField = true;
 
-        for (final DataField df : record.getDataFields()) {
+        final List<DataField> dataFields = record.getDataFields();
+        for (int i = 0; i < dataFields.size(); i++) {
+            final DataField df = dataFields.get(i);
+
             if (!firstField) {
-                buf.append(",");
+                append(',');
             } else {
                 firstField = false;
             }
 
-            indent(buf, "\n        ");
+            indent("\n        ");
 
-            buf.append("{");
+            append('{');
 
-            indent(buf, "\n            ");
+            indent("\n            ");
 
-            if (!df.getTag().matches("[A-Z0-9][A-Z0-9][A-Z0-9]")) {
-                throw new MarcException("Invalid tag: " + df.getTag());
-            }
+            checkTag(df.getTag());
 
-            buf.append(ql + "tag" + ql + " : \"" + df.getTag() + "\", " + ql + "ind" + ql + " : \"");
-            unicodeEscape(buf, df.getIndicator1());
-            unicodeEscape(buf, df.getIndicator2());
-            buf.append("\",");
+            appendLabel("tag");
+            append(" : \"");
+            append(df.getTag());
+            append("\", ");
+            appendLabel("ind");
+            append(" : \"");
+            appendEscaped(df.getIndicator1());
+            appendEscaped(df.getIndicator2());
+            append("\",");
 
-            indent(buf, "\n            ");
+            indent("\n            ");
 
-            buf.append(ql + "subfield" + ql + " :");
+            appendLabel("subfield");
+            append(" :");
 
-            indent(buf, "\n            ");
+            indent("\n            ");
 
-            buf.append("[");
+            append('[');
             boolean firstSubfield = true;
 
-            for (final Subfield sf : df.getSubfields()) {
+            final List<Subfield> subfields = df.getSubfields();
+            for (int j = 0; j < subfields.size(); j++) {
+                final Subfield sf = subfields.get(j);
+
                 if (!firstSubfield) {
-                    buf.append(",");
+                    append(',');
                 } else {
                     firstSubfield = false;
                 }
 
-                indent(buf, "\n                ");
+                indent("\n                ");
 
                 if (!((sf.getCode() >= 'a' && sf.getCode() <= 'z') ||
                       (sf.getCode() >= '0' && sf.getCode() <= '9') ||
@@ -198,169 +269,206 @@ public class MarcJsonWriter implements MarcWriter {
                     throw new MarcException("Invalid code: " + sf.getCode());
                 }
 
-                buf.append("{ " + ql + "code" + ql + " : \"" + sf.getCode() + "\", " + ql + "data" + ql + " : \"" +
-                        unicodeEscape(sf.getData()) + "\" }");
+                append("{ ");
+                appendLabel("code");
+                append(" : \"");
+                append(sf.getCode());
+                append("\", ");
+                appendLabel("data");
+                append(" : \"");
+                appendEscaped(transform(sf.getData()));
+                append("\" }");
             }
 
-            indent(buf, "\n            ");
+            indent("\n            ");
 
-            buf.append("]");
+            append(']');
 
-            indent(buf, "\n        ");
+            indent("\n        ");
 
-            buf.append("}");
+            append('}');
         }
 
-        indent(buf, "\n    ");
-
-        buf.append("]");
+        indent("\n    ");
 
-        indent(buf, "\n");
+        append(']');
 
-        buf.append("}\n");
-
-        return (buf.toString());
-    }
+        indent("\n");
 
-    private void indent(StringBuffer buf, String indentStr) {
-        if (indent) {
-            buf.append(indentStr);
-        }
-        
+        append("}\n");
     }
 
-    protected String toMarcInJson(final Record record) {
-        final StringBuffer buf = new StringBuffer();
-        buf.append("{");
+    private void appendMarcInJson(final Record record) {
+        append('{');
 
-        indent(buf, "\n    ");
+        indent("\n    ");
 
-        buf.append(ql + "leader" + ql + ":\"").append(unicodeEscape(record.getLeader().toString())).append("\",");
+        appendLabel("leader");
+        append(":\"");
+        appendEscaped(transform(record.getLeader().toString()));
+        append("\",");
 
-        indent(buf, "\n    ");
+        indent("\n    ");
 
-        buf.append(ql + "fields" + ql + ":");
+        appendLabel("fields");
+        append(':');
 
-        indent(buf, "\n    ");
+        indent("\n    ");
 
-        buf.append("[");
+        append('[');
         boolean firstField = true;
 
-        for (final ControlField cf : record.getControlFields()) {
+        final List<ControlField> controlFields = record.getControlFields();
+        for (int i = 0; i < controlFields.size(); i++) {
+            final ControlField cf = controlFields.get(i);
+
             if (!firstField) {
-                buf.append(",");
+                append(',');
             } else {
                 firstField = false;
             }
 
-            indent(buf, "\n        ");
+            indent("\n        ");
 
-            buf.append("{");
+            append('{');
 
-            indent(buf, "\n            ");
+            indent("\n            ");
 
-            if (!cf.getTag().matches("[A-Z0-9][A-Z0-9][A-Z0-9]")) {
-                throw new MarcException("Invalid tag: " + cf.getTag());
-            }
+            checkTag(cf.getTag());
 
-            buf.append(ql + cf.getTag() + ql + ":").append("\"" + unicodeEscape(cf.getData()) + "\"");
+            appendLabel(cf.getTag());
+            append(":\"");
+            appendEscaped(transform(cf.getData()));
+            append('"');
 
-            indent(buf, "\n        ");
+            indent("\n        ");
 
-            buf.append("}");
+            append('}');
         }
 
-        for (final DataField df : record.getDataFields()) {
+        final List<DataField> dataFields = record.getDataFields();
+        for (int i = 0; i < dataFields.size(); i++) {
+            final DataField df = dataFields.get(i);
+
             if (!firstField) {
-                buf.append(",");
+                append(',');
             } else {
                 firstField = false;
             }
 
-            indent(buf, "\n        ");
+            indent("\n        ");
 
-            buf.append("{");
+            append('{');
 
-            indent(buf, "\n            ");
+            indent("\n            ");
 
-            if (!df.getTag().matches("[A-Z0-9][A-Z0-9][A-Z0-9]")) {
-                throw new MarcException("Invalid tag: " + df.getTag());
-            }
+            checkTag(df.getTag());
 
-            buf.append(ql + df.getTag() + ql + ":");
+            appendLabel(df.getTag());
+            append(':');
 
-            indent(buf, "\n                ");
+            indent("\n                ");
 
-            buf.append("{");
+            append('{');
 
-            buf.append(ql + "subfields" + ql + ":");
+            appendLabel("subfields");
+            append(':');
 
-            indent(buf, "\n                ");
+            indent("\n                ");
 
-            buf.append("[");
+            append('[');
             boolean firstSubfield = true;
 
-            for (final Subfield sf : df.getSubfields()) {
+            final List<Subfield> subfields = df.getSubfields();
+            for (int j = 0; j < subfields.size(); j++) {
+                final Subfield sf = subfields.get(j);
+
                 if (!firstSubfield) {
-                    buf.append(",");
+                    append(',');
                 } else {
                     firstSubfield = false;
                 }
 
-                indent(buf, "\n                    ");
+                indent("\n                    ");
 
-                buf.append("{");
+                append('{');
 
-                indent(buf, "\n                        ");
+                indent("\n                        ");
 
                 if ((sf.getCode() < 'a' || 'z' < sf.getCode()) && (sf.getCode() < '0' || '9' < sf.getCode())) {
                     throw new MarcException("Invalid code: " + sf.getCode());
                 }
 
-                buf.append(ql + sf.getCode() + ql + ":\"" + unicodeEscape(sf.getData()) + "\"");
+                if (quoteLabels) {
+                    append('"');
+                }
+                append(sf.getCode());
+                if (quoteLabels) {
+                    append('"');
+                }
+                append(":\"");
+                appendEscaped(transform(sf.getData()));
+                append('"');
 
-                indent(buf, "\n                    ");
+                indent("\n                    ");
 
-                buf.append("}");
+                append('}');
             }
 
-            indent(buf, "\n                ");
+            indent("\n                ");
 
-            buf.append("],");
+            append("],");
 
-            indent(buf, "\n                ");
+            indent("\n                ");
 
-            buf.append(ql + "ind1" + ql + ":\"");
-            unicodeEscape(buf, df.getIndicator1());
-            buf.append("\",");
+            appendLabel("ind1");
+            append(":\"");
+            appendEscaped(df.getIndicator1());
+            append("\",");
 
-            indent(buf, "\n                ");
+            indent("\n                ");
 
-            buf.append(ql + "ind2" + ql + ":\"");
-            unicodeEscape(buf, df.getIndicator2());
-            buf.append("\"");
+            appendLabel("ind2");
+            append(":\"");
+            appendEscaped(df.getIndicator2());
+            append('"');
 
-            indent(buf, "\n            ");
+            indent("\n            ");
 
-            buf.append("}");
+            append('}');
 
-            indent(buf, "\n        ");
+            indent("\n        ");
 
-            buf.append("}");
+            append('}');
         }
 
-        indent(buf, "\n    ");
+        indent("\n    ");
+
+        append(']');
 
-        buf.append("]");
+        indent("\n");
 
-        indent(buf, "\n");
+        append("}\n");
+    }
 
-        buf.append("}\n");
+    private static void checkTag(final String tag) {
+        if (tag.length() != 3 || !isTagChar(tag.charAt(0)) || !isTagChar(tag.charAt(1)) ||
+                !isTagChar(tag.charAt(2))) {
+            throw new MarcException("Invalid tag: " + tag);
+        }
+    }
 
-        return (buf.toString());
+    private static boolean isTagChar(final char c) {
+        return c >= 'A' && c <= 'Z' || c >= '0' && c <= '9';
     }
 
-    private String unicodeEscape(String data) {
+    private void indent(final String indentStr) {
+        if (indent && !jsonLines) {
+            append(indentStr);
+        }
+    }
+
+    private String transform(String data) {
         if (converter != null) {
             data = converter.convert(data);
         }
@@ -369,53 +477,87 @@ public class MarcJsonWriter implements MarcWriter {
             data = Normalizer.normalize(data, Normalizer.Form.NFC);
         }
 
-        final StringBuffer buffer = new StringBuffer();
+        return data;
+    }
 
-        for (int i = 0; i < data.length(); i++) {
-            final char c = data.charAt(i);
-            unicodeEscape(buffer, c);
+    private void appendLabel(final String label) {
+        if (quoteLabels) {
+            append('"');
+            append(label);
+            append('"');
+        } else {
+            append(label);
         }
-        return buffer.toString();
     }
 
-    private void unicodeEscape(StringBuffer buffer, char c) {
-        switch (c) {
-            case '/':
-                if (escapeSlash) {
-                    buffer.append("\\/");
-                } else {
-                    buffer.append("/");
-                }
-                break;
-            case '"':
-                buffer.append("\\\"");
-                break;
-            case '\\':
-                buffer.append("\\\\");
-                break;
-            case '\b':
-                buffer.append("\\b");
-                break;
-            case '\f':
-                buffer.append("\\f");
-                break;
-            case '\n':
-                buffer.append("\\n");
-                break;
-            case '\r':
-                buffer.append("\\r");
-                break;
-            case '\t':
-                buffer.append("\\t");
-                break;
-            default:
-                if (c > 0xff || c <= 0x1f) {
-                    final String val = "0000" + Integer.toHexString(c);
-                    buffer.append("\\u" + val.substring(val.length() - 4));
-                } else {
-                    buffer.append(c);
-                }
-                break;
+    /**
+     * Appends the supplied string, which must contain only ASCII characters, as it is.
+     */
+    private void append(final String str) {
+        final int strLength = str.length();
+        ensureCapacity(length + strLength);
+
+        for (int i = 0; i < strLength; i++) {
+            buffer[length++] = (byte) str.charAt(i);
+        }
+    }
+
+    /**
+     * Appends the supplied ASCII character as it is.
+     */
+    private void append(final char c) {
+        ensureCapacity(length + 1);
+        buffer[length++] = (byte) c;
+    }
+
+    private void appendEscaped(final String data) {
+        final int dataLength = data.length();
+
+        for (int i = 0; i < dataLength; i++) {
+            appendEscaped(data.charAt(i));
+        }
+    }
+
+    /**
+     * Appends the supplied character escaped for a JSON string: the ASCII control characters, quotation mark and
+     * backslash are escaped, as is the solidus if escape slashes are turned on, and characters beyond U+00FF are
+     * written as Unicode escapes. All other characters are encoded in UTF-8.
+     */
+    private void appendEscaped(final char c) {
+        if (length + 6 > buffer.length) {
+            ensureCapacity(length + 6);
+        }
+
+        if (c < 0x80) {
+            final byte[] escape = ESCAPES[c];
+
+            if (escape != null) {
+                System.arraycopy(escape, 0, buffer, length, escape.length);
+                length += escape.length;
+            } else if (c == '/' && escapeSlash) {
+                buffer[length++] = '\\';
+                buffer[length++] = '/';
+            } else {
+                buffer[length++] = (byte) c;
+            }
+        } else if (c < 0x100) {
+            buffer[length++] = (byte) (0xC0 | c >> 6);
+            buffer[length++] = (byte) (0x80 | c & 0x3F);
+        } else {
+            buffer[length++] = '\\';
+            buffer[length++] = 'u';
+            buffer[length++] = HEX_DIGITS[c >> 12];
+            buffer[length++] = HEX_DIGITS[c >> 8 & 0xF];
+            buffer[length++] = HEX_DIGITS[c >> 4 & 0xF];
+            buffer[length++] = HEX_DIGITS[c & 0xF];
+        }
+    }
+
+    private void ensureCapacity(final int size) {
+        if (size > buffer.length) {
+            final byte[] grown = new byte[Math.max(size, buffer.length * 2)];
+            System.arraycopy(buffer, 0, grown, 0, length);
+            buffer = grown;
         }
     }
 
@@ -457,25 +599,42 @@ public class MarcJsonWriter implements MarcWriter {
         this.indent = indent;
     }
 
+    /**
+     * Returns true if each record is written on a line of its own, as JSON Lines; else, false.
+     *
+     * @return True if JSON Lines output is turned on; else, false
+     */
+    public boolean isJsonLines() {
+        return jsonLines;
+    }
+
+    /**
+     * Turns on JSON Lines output, in which each record is written on a line of its own whether or not indentation is
+     * active. Default value is false.
+     *
+     * @param jsonLines - true to write one record per line
+     */
+    public void setJsonLines(final boolean jsonLines) {
+        this.jsonLines = jsonLines;
+    }
+
     /**
      * Writes the supplied {@link Record}.
      */
     @Override
     public void write(final Record record) {
-        String recordAsJson = "";
+        length = 0;
 
         if (useJsonFormat == MARC_IN_JSON) {
-            recordAsJson = toMarcInJson(record);
+            appendMarcInJson(record);
         } else if (useJsonFormat == MARC_JSON) {
-            recordAsJson = toMarcJson(record);
+            appendMarcJson(record);
         }
 
         try {
-            os.write(recordAsJson.getBytes(StandardCharsets.UTF_8));
-            os.flush();
+            os.write(buffer, 0, length);
         } catch (final IOException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
+            throw new MarcException("IO Error occured while writing record", e);
         }
     }
 
@@ -513,7 +672,6 @@ public class MarcJsonWriter implements MarcWriter {
      */
     public void setQuoteLabels(final boolean quoteLabels) {
         this.quoteLabels = quoteLabels;
-        ql = (quoteLabels) ? "\"" : "";
     }
 
     /**
@@ -540,7 +698,7 @@ public class MarcJsonWriter implements MarcWriter {
     @Override
     public boolean expectsUnicode()
     {
-        return (converter == null) ? true : false; 
+        return (converter == null) ? true : false;
     }
 
 }
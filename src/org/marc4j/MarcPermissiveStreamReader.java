@@ -28,9 +28,11 @@ import org.marc4j.marc.DataField;
 import org.marc4j.marc.Leader;
 import org.marc4j.marc.MarcFactory;
 import org.marc4j.marc.Record;
+import org.marc4j.marc.RecordVisitor;
 import org.marc4j.marc.Subfield;
-import org.marc4j.marc.VariableField;
+import org.marc4j.marc.impl.RecordImpl;
 import org.marc4j.marc.impl.Verifier;
+import org.marc4j.util.StringPool;
 
 import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
@@ -40,12 +42,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.UnsupportedEncodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.text.Normalizer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
-import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -129,6 +131,8 @@ public class MarcPermissiveStreamReader implements MarcReader, ConverterErrorHan
 
     private boolean translateLosslessUnicodeNumericCodeReferencesEnabled = true;
 
+    private boolean keepSourceData = false;
+
     private int marc_file_lookahead_buffer = 200000;
 
     private AnselToUnicode converterAnsel = null;
@@ -290,6 +294,39 @@ public class MarcPermissiveStreamReader implements MarcReader, ConverterErrorHan
         this.translateLosslessUnicodeNumericCodeReferencesEnabled = translateLosslessUnicodeNumericCodeReferencesEnabled;
     }
 
+    /**
+     * Returns true if records keep the bytes they were read from.
+     *
+     * @return true if the source bytes are kept
+     */
+    public boolean keepsSourceData() {
+        return keepSourceData;
+    }
+
+    /**
+     * Sets the string pool used for the subfield data of the records read, so
+     * that values repeated across records share a single instance. Set it to
+     * <code>null</code> to stop pooling.
+     *
+     * @param pool - the string pool, or <code>null</code>
+     */
+    public void setStringPool(final StringPool pool) {
+        factory.setStringPool(pool);
+    }
+
+    /**
+     * Sets whether records should keep the bytes they were read from, so that a
+     * {@link MarcStreamWriter} can write an unmodified record without encoding it
+     * again. Only records that were read without errors, and whose data was decoded
+     * as UTF-8 or ISO-8859-1 without being converted, keep their source bytes.
+     * Defaults to false, since the bytes double the memory held by each record.
+     *
+     * @param keepSourceData - true to keep the source bytes
+     */
+    public void setKeepSourceData(final boolean keepSourceData) {
+        this.keepSourceData = keepSourceData;
+    }
+
     /**
      * Returns true if the iteration has more records, false otherwise.
      */
@@ -369,6 +406,7 @@ public class MarcPermissiveStreamReader implements MarcReader, ConverterErrorHan
                 l.setCharCodingScheme('a');
                 record.setLeader(l);
             }
+            keepSourceData(record, byteArray, recordBuf);
             if (errors != null && record.hasErrors()) {
                 errors.addErrors(record.getControlNumber(), record.getErrors());
             }
@@ -380,6 +418,28 @@ public class MarcPermissiveStreamReader implements MarcReader, ConverterErrorHan
         }
     }
 
+    private void keepSourceData(final Record record, final byte[] leaderBytes, final byte[] recordBuf) {
+        if (!keepSourceData || !(record instanceof RecordImpl) || record.hasErrors()) {
+            return;
+        }
+        final Charset charset;
+        if (encoding.equals("UTF8")) {
+            charset = StandardCharsets.UTF_8;
+        } else if (encoding.equals("ISO8859_1")) {
+            charset = StandardCharsets.ISO_8859_1;
+        } else {
+            return;
+        }
+        if (convertToUTF8 && leaderBytes[9] != 'a') {
+            // the leader was changed after reading
+            return;
+        }
+        final byte[] source = new byte[leaderBytes.length + recordBuf.length];
+        System.arraycopy(leaderBytes, 0, source, 0, leaderBytes.length);
+        System.arraycopy(recordBuf, 0, source, leaderBytes.length, recordBuf.length);
+        ((RecordImpl) record).setSourceData(source, charset);
+    }
+
     private byte[] rereadPermissively(final Record record, final DataInputStream input,
             byte[] recordBuf, int recordLength) throws IOException {
         int loc = arrayContainsAt(recordBuf, Constants.RT);
@@ -995,23 +1055,18 @@ public class MarcPermissiveStreamReader implements MarcReader, ConverterErrorHan
                     "No Determination made, defaulting to " + (defaultPart == 0 ? "MARC8" : "Unimarc"));
             partToUse = defaultPart;
         }
-        final List<VariableField> fields = record.getVariableFields();
-        final Iterator<VariableField> iter = fields.iterator();
-        while (iter.hasNext()) {
-            final VariableField field = iter.next();
-            if (field instanceof DataField) {
-                final DataField df = (DataField) field;
-                final List<Subfield> subf = df.getSubfields();
-                final Iterator<Subfield> sfiter = subf.iterator();
-                while (sfiter.hasNext()) {
-                    final Subfield sf = sfiter.next();
-                    if (sf.getData().contains("%%@%%")) {
-                        final String parts[] = sf.getData().split("%%@%%", 3);
-                        sf.setData(parts[partToUse]);
-                    }
+        final int part = partToUse;
+        record.forEachField(new RecordVisitor() {
+
+            @Override
+            public boolean visitSubfield(final DataField df, final Subfield sf) {
+                if (sf.getData().contains("%%@%%")) {
+                    final String parts[] = sf.getData().split("%%@%%", 3);
+                    sf.setData(parts[part]);
                 }
+                return true;
             }
-        }
+        });
     }
 
     private int onlyOneStartsWithUpperCase(final String conversionCheck12,
@@ -1130,7 +1185,6 @@ public class MarcPermissiveStreamReader implements MarcReader, ConverterErrorHan
 
                     data = new byte[size];
                     bais.read(data);
-                    subfield = factory.newSubfield();
 
                     if (permissive) {
                         currentSubfield = "" + (char) code;
@@ -1176,8 +1230,7 @@ public class MarcPermissiveStreamReader implements MarcReader, ConverterErrorHan
                                     "Subfield tag is an invalid character, [ " + (char) code + " ]");
                         }
                     }
-                    subfield.setCode((char) code);
-                    subfield.setData(dataAsString);
+                    subfield = factory.newSubfield((char) code, dataAsString);
                     dataField.addSubfield(subfield);
                     break;
                 case Constants.FT:
@@ -4,6 +4,10 @@ package org.marc4j;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.marc4j.marc.ControlField;
 import org.marc4j.marc.DataField;
@@ -15,7 +19,7 @@ public class MarcSplitStreamWriter extends MarcStreamWriter {
 
     private final int recordThreshold;
 
-    private final String fieldsToSplit;
+    private final Matcher splitTagMatcher;
 
     /**
      * Creates a MarcSplitStreamWriter with a record threshold and fields to split from the supplied
@@ -23,12 +27,13 @@ public class MarcSplitStreamWriter extends MarcStreamWriter {
      *
      * @param out - the OutputStream to use for output
      * @param threshold - the record size in bytes above which record ought to be split
-     * @param fieldsToSplit - a list of field tags that can be split over multiple records
+     * @param fieldsToSplit - a regular expression matching the tags of the fields that can be split over multiple
+     *        records
      */
     public MarcSplitStreamWriter(final OutputStream out, final int threshold, final String fieldsToSplit) {
         super(out, false);
         recordThreshold = threshold;
-        this.fieldsToSplit = fieldsToSplit;
+        splitTagMatcher = Pattern.compile(fieldsToSplit).matcher("");
     }
 
     /**
@@ -38,115 +43,115 @@ public class MarcSplitStreamWriter extends MarcStreamWriter {
      * @param out - the OutputStream to use for output
      * @param encoding - the encoding to use for outputting the record
      * @param threshold - the record size in bytes above which record ought to be split
-     * @param fieldsToSplit - a list of field tags that can be split over multiple records
+     * @param fieldsToSplit - a regular expression matching the tags of the fields that can be split over multiple
+     *        records
      */
     public MarcSplitStreamWriter(final OutputStream out, final String encoding, final int threshold,
             final String fieldsToSplit) {
         super(out, encoding, false);
         recordThreshold = threshold;
-        this.fieldsToSplit = fieldsToSplit;
+        splitTagMatcher = Pattern.compile(fieldsToSplit).matcher("");
     }
 
     /**
-     * Writes a <code>Record</code> object to the writer.
+     * Writes a <code>Record</code> object to the writer. A record that grows past the threshold is written as several
+     * records, each with all the control fields and the data fields that are not split, followed by the next fields
+     * to split until it reaches the threshold; every such record gets at least one of them.
      *
      * @param record - the <code>Record</code> object
      */
     @Override
     public void write(final Record record) {
-        boolean doneWithRec = false;
-        for (final DataField df : record.getDataFields()) {
-            if (!df.getTag().matches(fieldsToSplit)) {
-                continue;
-            }
-            df.setId(null);
-        }
         setEncodingCurrent(record, getConverter());
+        hasOversizeLength = false;
+
+        try {
+            final ByteArrayOutputStream data = new ByteArrayOutputStream();
+            final ByteArrayOutputStream dir = new ByteArrayOutputStream();
+            final List<DataField> splitFields = new ArrayList<DataField>();
+
+            // control fields
+            for (final ControlField cf : record.getControlFields()) {
+                final int previous = data.size();
+                data.write(getDataElement(cf));
+                data.write(Constants.FT);
+                dir.write(getEntry(cf.getTag(), data.size() - previous, previous));
+            }
 
-        while (!doneWithRec) {
-            try {
-                int previous = 0;
-                final ByteArrayOutputStream data = new ByteArrayOutputStream();
-                final ByteArrayOutputStream dir = new ByteArrayOutputStream();
-
-                // control fields
-                for (final ControlField cf : record.getControlFields()) {
-                    data.write(getDataElement(cf.getData()));
-                    data.write(Constants.FT);
-                    dir.write(getEntry(cf.getTag(), data.size() - previous, previous));
-                    previous = data.size();
+            // data fields that are not split
+            for (final DataField df : record.getDataFields()) {
+                if (splitTagMatcher.reset(df.getTag()).matches()) {
+                    splitFields.add(df);
+                    continue;
                 }
+                final int previous = data.size();
+                writeDataField(data, df);
+                dir.write(getEntry(df.getTag(), data.size() - previous, previous));
+            }
 
-                // data fields
-                for (final DataField df : record.getDataFields()) {
-                    if (df.getTag().matches(fieldsToSplit)) {
-                        continue;
-                    }
-                    data.write(df.getIndicator1());
-                    data.write(df.getIndicator2());
-                    for (final Subfield sf : df.getSubfields()) {
-                        data.write(Constants.US);
-                        data.write(sf.getCode());
-                        data.write(getDataElement(sf.getData()));
-                    }
-                    data.write(Constants.FT);
-                    dir.write(getEntry(df.getTag(), data.size() - previous, previous));
-                    previous = data.size();
-                }
-                // data fields
-                doneWithRec = true;
-                for (final DataField df : record.getDataFields()) {
-                    if (previous >= recordThreshold) {
-                        doneWithRec = false;
-                        break;
-                    }
-                    if (!df.getTag().matches(fieldsToSplit)) {
-                        continue;
-                    }
-                    if (!(df.getId() == null || df.getId().intValue() != 0)) {
-                        continue;
-                    }
-                    df.setId(new Long(0));
-                    data.write(df.getIndicator1());
-                    data.write(df.getIndicator2());
-                    for (final Subfield sf : df.getSubfields()) {
-                        data.write(Constants.US);
-                        data.write(sf.getCode());
-                        data.write(getDataElement(sf.getData()));
-                    }
-                    data.write(Constants.FT);
-                    dir.write(getEntry(df.getTag(), data.size() - previous, previous));
-                    previous = data.size();
+            // the part every record written shares is laid out once
+            final byte[] sharedData = data.toByteArray();
+            final byte[] sharedDir = dir.toByteArray();
+
+            // each field to split is encoded once, in order
+            final byte[][] splitData = new byte[splitFields.size()][];
+            for (int i = 0; i < splitData.length; i++) {
+                data.reset();
+                writeDataField(data, splitFields.get(i));
+                splitData[i] = data.toByteArray();
+            }
+
+            int next = 0;
+            do {
+                data.reset();
+                dir.reset();
+                int previous = sharedData.length;
+                final int first = next;
+
+                while (next < splitData.length && (previous < recordThreshold || next == first)) {
+                    data.write(splitData[next]);
+                    dir.write(getEntry(splitFields.get(next).getTag(), splitData[next].length, previous));
+                    previous += splitData[next].length;
+                    next++;
                 }
-                dir.write(Constants.FT);
 
                 // base address of data and logical record length
                 final Leader ldr = record.getLeader();
 
-                final int baseAddress = 24 + dir.size();
+                final int baseAddress = 24 + sharedDir.length + dir.size() + 1;
                 ldr.setBaseAddressOfData(baseAddress);
-                final int recordLength = ldr.getBaseAddressOfData() + data.size() + 1;
+                final int recordLength = ldr.getBaseAddressOfData() + previous + 1;
                 ldr.setRecordLength(recordLength);
 
-                // write record to output stream
-                dir.close();
-                data.close();
-
                 if (!allowOversizeEntry && hasOversizeLength) {
                     throw new MarcException("Record has field that is too long to be a valid MARC binary record. "
                             + "The maximum length for a field counting all of the sub-fields is 9999 bytes.");
                 }
+
+                // write record to output stream
                 writeLeader(ldr);
-                out.write(dir.toByteArray());
-                out.write(data.toByteArray());
+                out.write(sharedDir);
+                dir.writeTo(out);
+                out.write(Constants.FT);
+                out.write(sharedData);
+                data.writeTo(out);
                 out.write(Constants.RT);
+            } while (next < splitData.length);
 
-            } catch (final IOException e) {
-                throw new MarcException("IO Error occured while writing record", e);
-            } catch (final MarcException e) {
-                throw e;
-            }
+        } catch (final IOException e) {
+            throw new MarcException("IO Error occured while writing record", e);
+        }
+    }
+
+    private void writeDataField(final ByteArrayOutputStream data, final DataField df) throws IOException {
+        data.write(df.getIndicator1());
+        data.write(df.getIndicator2());
+        for (final Subfield sf : df.getSubfields()) {
+            data.write(Constants.US);
+            data.write(sf.getCode());
+            data.write(getDataElement(sf));
         }
+        data.write(Constants.FT);
     }
 
 }
@@ -28,6 +28,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.UnsupportedEncodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.HashMap;
 
@@ -39,8 +41,10 @@ import org.marc4j.marc.Leader;
 import org.marc4j.marc.MarcFactory;
 import org.marc4j.marc.Record;
 import org.marc4j.marc.Subfield;
+import org.marc4j.marc.impl.RecordImpl;
 import org.marc4j.marc.impl.Verifier;
 import org.marc4j.util.Encoding;
+import org.marc4j.util.StringPool;
 
 /**
  * An iterator over a collection of MARC records in ISO 2709 format.
@@ -85,6 +89,8 @@ public class MarcStreamReader implements MarcReader {
 
     private CharConverter converterAnsel = null;
 
+    private boolean keepSourceData = false;
+
     /**
      * Constructs an instance with the specified input stream.
      *
@@ -112,6 +118,40 @@ public class MarcStreamReader implements MarcReader {
         }
     }
 
+    /**
+     * Sets whether the bytes each record was read from are kept with the
+     * record. As long as such a record is not modified, writers that output
+     * the same encoding copy these bytes instead of encoding the record again.
+     * Only records whose data does not need to be converted while reading
+     * (UTF-8 and ISO-8859-1) keep their bytes.
+     *
+     * @param keepSourceData - true to keep the bytes of each record
+     */
+    public void setKeepSourceData(final boolean keepSourceData) {
+        this.keepSourceData = keepSourceData;
+    }
+
+    /**
+     * Returns <code>true</code> if the bytes each record was read from are
+     * kept with the record; else, <code>false</code>.
+     *
+     * @return <code>true</code> if the bytes of each record are kept
+     */
+    public boolean keepsSourceData() {
+        return keepSourceData;
+    }
+
+    /**
+     * Sets the string pool used for the subfield data of the records read, so
+     * that values repeated across records share a single instance. Set it to
+     * <code>null</code> to stop pooling.
+     *
+     * @param pool - the string pool, or <code>null</code>
+     */
+    public void setStringPool(final StringPool pool) {
+        factory.setStringPool(pool);
+    }
+
     /**
      * Returns true if the iteration has more records, false otherwise.
      */
@@ -148,6 +188,7 @@ public class MarcStreamReader implements MarcReader {
                 final byte[] recordBuf = new byte[recordLength - 24];
                 input.readFully(recordBuf);
                 parseRecord(record, byteArray, recordBuf, recordLength);
+                keepSourceData(record, byteArray, recordBuf);
             }
             return record;
         } catch (final EOFException e) {
@@ -157,6 +198,16 @@ public class MarcStreamReader implements MarcReader {
         }
     }
 
+    private void keepSourceData(final Record record, final byte[] leaderBuf, final byte[] recordBuf) {
+        final Charset charset = getDataCharset();
+        if (keepSourceData && charset != null && record instanceof RecordImpl) {
+            final byte[] source = new byte[leaderBuf.length + recordBuf.length];
+            System.arraycopy(leaderBuf, 0, source, 0, leaderBuf.length);
+            System.arraycopy(recordBuf, 0, source, leaderBuf.length, recordBuf.length);
+            ((RecordImpl) record).setSourceData(source, charset);
+        }
+    }
+
     private void parseRecord(final Record record, final byte[] aByteArray, final byte[] recordBuf,
             final int recordLength) {
         final Leader ldr;
@@ -264,9 +315,15 @@ public class MarcStreamReader implements MarcReader {
                         throw new MarcException("expected field terminator at end of field");
                     }
 
-                    final ControlField field = factory.newControlField();
-                    field.setTag(tags[i]);
-                    field.setData(getDataAsString(byteArray));
+                    final Charset charset = getDataCharset();
+                    final ControlField field;
+                    if (charset != null) {
+                        field = factory.newControlField(tags[i], byteArray, charset);
+                    } else {
+                        field = factory.newControlField();
+                        field.setTag(tags[i]);
+                        field.setData(getDataAsString(byteArray));
+                    }
                     record.addVariableField(field);
                 } else {
                     byteArray = new byte[lengths[i]];
@@ -299,6 +356,7 @@ public class MarcStreamReader implements MarcReader {
         dataField.setIndicator1(ind1);
         dataField.setIndicator2(ind2);
 
+        final Charset charset = getDataCharset();
         int code;
         int size;
         int readByte;
@@ -321,9 +379,11 @@ public class MarcStreamReader implements MarcReader {
                     size = getSubfieldLength(bais);
                     data = new byte[size];
                     bais.read(data);
-                    subfield = factory.newSubfield();
-                    subfield.setCode((char) code);
-                    subfield.setData(getDataAsString(data));
+                    if (charset != null) {
+                        subfield = factory.newSubfield((char) code, data, charset);
+                    } else {
+                        subfield = factory.newSubfield((char) code, getDataAsString(data));
+                    }
                     dataField.addSubfield(subfield);
                     break;
                 case Constants.FT:
@@ -427,6 +487,20 @@ public class MarcStreamReader implements MarcReader {
 
     }
 
+    /**
+     * Returns the character set the data can be decoded with directly, leaving
+     * the decoding to the field or subfield, or null when the data needs to be
+     * converted here.
+     */
+    private Charset getDataCharset() {
+        if (encoding.equals(Encoding.UTF8)) {
+            return StandardCharsets.UTF_8;
+        } else if (encoding.equals(Encoding.ISO8859_1)) {
+            return StandardCharsets.ISO_8859_1;
+        }
+        return null;
+    }
+
     private String getDataAsString(final byte[] bytes) {
         String dataElement = null;
         if (encoding.equals(Encoding.UTF8) || encoding.equals(Encoding.ISO8859_1)) {
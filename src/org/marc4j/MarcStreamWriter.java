@@ -23,7 +23,13 @@ package org.marc4j;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
 import java.text.DecimalFormat;
+import java.util.Arrays;
+import java.util.List;
 
 import org.marc4j.converter.CharConverter;
 import org.marc4j.marc.ControlField;
@@ -31,6 +37,10 @@ import org.marc4j.marc.DataField;
 import org.marc4j.marc.Leader;
 import org.marc4j.marc.Record;
 import org.marc4j.marc.Subfield;
+import org.marc4j.marc.impl.ControlFieldImpl;
+import org.marc4j.marc.impl.LeaderImpl;
+import org.marc4j.marc.impl.RecordImpl;
+import org.marc4j.marc.impl.SubfieldImpl;
 import org.marc4j.util.CustomDecimalFormat;
 
 /**
@@ -65,6 +75,16 @@ import org.marc4j.util.CustomDecimalFormat;
  * }
  * writer.close();
  * </pre>
+ * <p>
+ * Each writer lays out the leader, directory and data of a record in a buffer of its own and hands the record to
+ * the output stream in a single write, so writers used by separate threads do not interfere with each other. A
+ * single writer is not thread-safe.
+ * </p>
+ * <p>
+ * A subclass that overrides {@link #writeLeader(Leader)}, {@link #getEntry(String, int, int)} or one of the
+ * <code>getDataElement</code> methods has its records written through those methods instead, as before; the bytes
+ * a record or its fields were read from are never copied to its output.
+ * </p>
  *
  * @author Bas Peters
  */
@@ -77,6 +97,11 @@ public class MarcStreamWriter implements MarcWriter {
     protected String encoding = "ISO8859_1";
     protected String encodingCurrent;
 
+    /** The character set for <code>encodingCurrent</code>, or null if the JVM does not know it. */
+    private Charset charsetCurrent;
+
+    private String charsetCurrentName;
+
     private CharConverter converter = null;
 
     protected boolean allowOversizeEntry = false;
@@ -85,10 +110,58 @@ public class MarcStreamWriter implements MarcWriter {
 
     protected boolean hasOversizeLength = false;
 
+    /**
+     * No longer used by this class. A <code>DecimalFormat</code> is not thread-safe, so sharing this one between
+     * writers in separate threads can corrupt their output.
+     *
+     * @deprecated the writer formats its numbers without it
+     */
+    @Deprecated
     protected static DecimalFormat format4Use = new CustomDecimalFormat(4);
 
+    /**
+     * No longer used by this class. A <code>DecimalFormat</code> is not thread-safe, so sharing this one between
+     * writers in separate threads can corrupt their output.
+     *
+     * @deprecated the writer formats its numbers without it
+     */
+    @Deprecated
     protected static DecimalFormat format5Use = new CustomDecimalFormat(5);
 
+    private static final int LEADER_LENGTH = 24;
+
+    /** The buffer the records are laid out in; it grows to hold the largest record written so far. */
+    private byte[] buffer = new byte[8192];
+
+    /**
+     * Whether a class overrides any of the protected methods records used to be written through, in which case its
+     * records are still written through them.
+     */
+    private static final ClassValue<Boolean> OVERRIDES_HOOKS = new ClassValue<Boolean>() {
+
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            for (Class<?> c = type; c != MarcStreamWriter.class; c = c.getSuperclass()) {
+                if (declares(c, "writeLeader", Leader.class) || declares(c, "getEntry", String.class, int.class,
+                        int.class) || declares(c, "getDataElement", String.class) ||
+                        declares(c, "getDataElement", ControlField.class) ||
+                        declares(c, "getDataElement", Subfield.class)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean declares(final Class<?> c, final String name, final Class<?>... parameterTypes) {
+            try {
+                c.getDeclaredMethod(name, parameterTypes);
+                return true;
+            } catch (final NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
     /**
      * Constructs an instance and creates a <code>Writer</code> object with the specified output stream.
      *
@@ -164,6 +237,17 @@ public class MarcStreamWriter implements MarcWriter {
         }
         
         encodingCurrent = encoding.equals(ENCODING_BY_CHAR_CODE) ? (ldr.getCharCodingScheme() == 'a' ? "UTF-8" : "ISO8859_1") : encoding;
+
+        if (!encodingCurrent.equals(charsetCurrentName)) {
+            charsetCurrentName = encodingCurrent;
+            try {
+                charsetCurrent = Charset.forName(encodingCurrent);
+            } catch (final IllegalCharsetNameException e) {
+                charsetCurrent = null;
+            } catch (final UnsupportedCharsetException e) {
+                charsetCurrent = null;
+            }
+        }
     }
     
     /**
@@ -175,7 +259,109 @@ public class MarcStreamWriter implements MarcWriter {
     public void write(final Record record) {
 
         setEncodingCurrent(record, converter);
-        
+
+        if (OVERRIDES_HOOKS.get(getClass())) {
+            writeThroughHooks(record);
+            return;
+        }
+
+        int previous = 0;
+
+        try {
+            // an unmodified record is written from the bytes it was read from
+            if (converter == null && charsetCurrent != null && record instanceof RecordImpl) {
+                final byte[] source = ((RecordImpl) record).getSourceData(charsetCurrent);
+                if (source != null) {
+                    out.write(source);
+                    return;
+                }
+            }
+
+            final Leader ldr = record.getLeader();
+            final List<ControlField> controlFields = record.getControlFields();
+            final List<DataField> dataFields = record.getDataFields();
+            hasOversizeOffset = false;
+            hasOversizeLength = false;
+
+            // the directory is sized up front, so the data can go straight after it
+            int dirLength = 1;
+            for (int i = 0; i < controlFields.size(); i++) {
+                dirLength += controlFields.get(i).getTag().length() + 9;
+            }
+            for (int i = 0; i < dataFields.size(); i++) {
+                dirLength += dataFields.get(i).getTag().length() + 9;
+            }
+            final int leaderLength = getLeaderLength(ldr);
+            final int dataStart = leaderLength + dirLength;
+            int entry = leaderLength;
+            int pos = dataStart;
+            ensureCapacity(dataStart);
+
+            // control fields
+            for (int i = 0; i < controlFields.size(); i++) {
+                final ControlField cf = controlFields.get(i);
+                pos = putDataElement(pos, cf);
+                ensureCapacity(pos + 1);
+                buffer[pos++] = Constants.FT;
+                entry = putEntry(entry, cf.getTag(), pos - dataStart - previous, previous);
+                previous = pos - dataStart;
+            }
+
+            // data fields
+            for (int i = 0; i < dataFields.size(); i++) {
+                final DataField df = dataFields.get(i);
+                final List<Subfield> subfields = df.getSubfields();
+                ensureCapacity(pos + 2);
+                buffer[pos++] = (byte) df.getIndicator1();
+                buffer[pos++] = (byte) df.getIndicator2();
+                for (int j = 0; j < subfields.size(); j++) {
+                    final Subfield sf = subfields.get(j);
+                    ensureCapacity(pos + 2);
+                    buffer[pos++] = Constants.US;
+                    buffer[pos++] = (byte) sf.getCode();
+                    pos = putDataElement(pos, sf);
+                }
+                ensureCapacity(pos + 1);
+                buffer[pos++] = Constants.FT;
+                entry = putEntry(entry, df.getTag(), pos - dataStart - previous, previous);
+                previous = pos - dataStart;
+            }
+            buffer[entry] = Constants.FT;
+
+            // base address of data and logical record length
+            final int baseAddress = LEADER_LENGTH + dirLength;
+            ldr.setBaseAddressOfData(baseAddress);
+            final int recordLength = ldr.getBaseAddressOfData() + (pos - dataStart) + 1;
+            ldr.setRecordLength(recordLength);
+
+            if (!allowOversizeEntry && (baseAddress > 99999 || recordLength > 99999 || hasOversizeOffset)) {
+                throw new MarcException("Record is too long to be a valid MARC binary record, it's length would be " +
+                        recordLength + " which is more thatn 99999 bytes");
+            }
+            if (!allowOversizeEntry && (hasOversizeLength)) {
+                throw new MarcException("Record has field that is too long to be a valid MARC binary record. "
+                        + "The maximum length for a field counting all of the sub-fields is 9999 bytes.");
+            }
+
+            // write record to output stream
+            putLeader(buffer, ldr);
+            ensureCapacity(pos + 1);
+            buffer[pos++] = Constants.RT;
+            out.write(buffer, 0, pos);
+
+        } catch (final IOException e) {
+            throw new MarcException("IO Error occured while writing record", e);
+        } catch (final MarcException e) {
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the supplied record through {@link #getDataElement(ControlField)},
+     * {@link #getDataElement(Subfield)}, {@link #getEntry(String, int, int)} and {@link #writeLeader(Leader)}, for
+     * subclasses that override them.
+     */
+    private void writeThroughHooks(final Record record) {
         int previous = 0;
 
         try {
@@ -186,7 +372,7 @@ public class MarcStreamWriter implements MarcWriter {
 
             // control fields
             for (final ControlField cf : record.getControlFields()) {
-                data.write(getDataElement(cf.getData()));
+                data.write(getDataElement(cf));
                 data.write(Constants.FT);
                 dir.write(getEntry(cf.getTag(), data.size() - previous, previous));
                 previous = data.size();
@@ -199,7 +385,7 @@ public class MarcStreamWriter implements MarcWriter {
                 for (final Subfield sf : df.getSubfields()) {
                     data.write(Constants.US);
                     data.write(sf.getCode());
-                    data.write(getDataElement(sf.getData()));
+                    data.write(getDataElement(sf));
                 }
                 data.write(Constants.FT);
                 dir.write(getEntry(df.getTag(), data.size() - previous, previous));
@@ -210,15 +396,11 @@ public class MarcStreamWriter implements MarcWriter {
             // base address of data and logical record length
             final Leader ldr = record.getLeader();
 
-            final int baseAddress = 24 + dir.size();
+            final int baseAddress = LEADER_LENGTH + dir.size();
             ldr.setBaseAddressOfData(baseAddress);
             final int recordLength = ldr.getBaseAddressOfData() + data.size() + 1;
             ldr.setRecordLength(recordLength);
 
-            // write record to output stream
-            dir.close();
-            data.close();
-
             if (!allowOversizeEntry && (baseAddress > 99999 || recordLength > 99999 || hasOversizeOffset)) {
                 throw new MarcException("Record is too long to be a valid MARC binary record, it's length would be " +
                         recordLength + " which is more thatn 99999 bytes");
@@ -227,30 +409,73 @@ public class MarcStreamWriter implements MarcWriter {
                 throw new MarcException("Record has field that is too long to be a valid MARC binary record. "
                         + "The maximum length for a field counting all of the sub-fields is 9999 bytes.");
             }
+
+            // write record to output stream
             writeLeader(ldr);
-            out.write(dir.toByteArray());
-            out.write(data.toByteArray());
+            dir.writeTo(out);
+            data.writeTo(out);
             out.write(Constants.RT);
 
         } catch (final IOException e) {
             throw new MarcException("IO Error occured while writing record", e);
-        } catch (final MarcException e) {
-            throw e;
         }
     }
 
     protected void writeLeader(final Leader ldr) throws IOException {
-        String leaderEncoding = ENCODING_FOR_DIR_ENTRIES;
-        out.write(format5Use.format(ldr.getRecordLength()).getBytes(leaderEncoding));
-        out.write(ldr.getRecordStatus());
-        out.write(ldr.getTypeOfRecord());
-        out.write(new String(ldr.getImplDefined1()).getBytes(leaderEncoding));
-        out.write(ldr.getCharCodingScheme());
-        out.write(Integer.toString(ldr.getIndicatorCount()).getBytes(leaderEncoding));
-        out.write(Integer.toString(ldr.getSubfieldCodeLength()).getBytes(leaderEncoding));
-        out.write(format5Use.format(ldr.getBaseAddressOfData()).getBytes(leaderEncoding));
-        out.write(new String(ldr.getImplDefined2()).getBytes(leaderEncoding));
-        out.write(new String(ldr.getEntryMap()).getBytes(leaderEncoding));
+        final byte[] bytes = new byte[getLeaderLength(ldr)];
+        putLeader(bytes, ldr);
+        out.write(bytes);
+    }
+
+    /**
+     * Returns the number of bytes the supplied leader takes up when it is written out; 24 for a well-formed leader.
+     */
+    private static int getLeaderLength(final Leader ldr) {
+        final int numbers = 5 + digitCount(ldr.getIndicatorCount()) + digitCount(ldr.getSubfieldCodeLength()) + 5;
+        if (ldr instanceof LeaderImpl) {
+            // positions 05-09 and 17-19 are always there, only the entry map can be malformed
+            return numbers + 5 + 3 + ((LeaderImpl) ldr).getEntryMapLength();
+        }
+        return numbers + 2 + ldr.getImplDefined1().length + 1 + ldr.getImplDefined2().length +
+                ldr.getEntryMap().length;
+    }
+
+    /**
+     * Writes the supplied leader at the start of the supplied buffer, which has room for
+     * {@link #getLeaderLength(Leader)} bytes.
+     */
+    private static void putLeader(final byte[] buf, final Leader ldr) {
+        if (ldr instanceof LeaderImpl) {
+            putLeader(buf, (LeaderImpl) ldr);
+            return;
+        }
+        int pos = putDigits(buf, 0, ldr.getRecordLength(), 5);
+        buf[pos++] = (byte) ldr.getRecordStatus();
+        buf[pos++] = (byte) ldr.getTypeOfRecord();
+        pos = putLatin1(buf, pos, ldr.getImplDefined1());
+        buf[pos++] = (byte) ldr.getCharCodingScheme();
+        pos = putDigits(buf, pos, ldr.getIndicatorCount(), digitCount(ldr.getIndicatorCount()));
+        pos = putDigits(buf, pos, ldr.getSubfieldCodeLength(), digitCount(ldr.getSubfieldCodeLength()));
+        pos = putDigits(buf, pos, ldr.getBaseAddressOfData(), 5);
+        pos = putLatin1(buf, pos, ldr.getImplDefined2());
+        putLatin1(buf, pos, ldr.getEntryMap());
+    }
+
+    /**
+     * Writes the supplied leader like {@link #putLeader(byte[], Leader)}, reading its character positions in place
+     * rather than through the getters that copy them.
+     */
+    private static void putLeader(final byte[] buf, final LeaderImpl ldr) {
+        int pos = putDigits(buf, 0, ldr.getRecordLength(), 5);
+        for (int i = 5; i < 10; i++) {
+            buf[pos++] = toLatin1(ldr.charAt(i));
+        }
+        pos = putDigits(buf, pos, ldr.getIndicatorCount(), digitCount(ldr.getIndicatorCount()));
+        pos = putDigits(buf, pos, ldr.getSubfieldCodeLength(), digitCount(ldr.getSubfieldCodeLength()));
+        pos = putDigits(buf, pos, ldr.getBaseAddressOfData(), 5);
+        for (int i = 17; i < 20 + ldr.getEntryMapLength(); i++) {
+            buf[pos++] = toLatin1(ldr.charAt(i));
+        }
     }
 
     /**
@@ -272,15 +497,220 @@ public class MarcStreamWriter implements MarcWriter {
         return data.getBytes(encodingCurrent);
     }
 
+    /**
+     * Returns the encoded data of the supplied control field. When the field still holds the bytes it was read
+     * from, no converter is set, those bytes are in the output encoding and this class does not override any of
+     * the hooks records are written through, they are returned without decoding and re-encoding them. Otherwise
+     * the data goes through {@link #getDataElement(String)}.
+     *
+     * @param cf - the control field to encode
+     * @return the encoded data
+     * @throws IOException if the data cannot be encoded
+     */
+    protected byte[] getDataElement(final ControlField cf) throws IOException {
+        if (writesRawData() && cf instanceof ControlFieldImpl) {
+            final byte[] raw = ((ControlFieldImpl) cf).getRawData(charsetCurrent);
+            if (raw != null) {
+                return raw;
+            }
+        }
+        return getDataElement(cf.getData());
+    }
+
+    /**
+     * Returns the encoded data of the supplied subfield. When the subfield still holds the bytes it was read from,
+     * no converter is set, those bytes are in the output encoding and this class does not override any of the
+     * hooks records are written through, they are returned without decoding and re-encoding them. Otherwise the
+     * data goes through {@link #getDataElement(String)}.
+     *
+     * @param sf - the subfield to encode
+     * @return the encoded data
+     * @throws IOException if the data cannot be encoded
+     */
+    protected byte[] getDataElement(final Subfield sf) throws IOException {
+        if (writesRawData() && sf instanceof SubfieldImpl) {
+            final byte[] raw = ((SubfieldImpl) sf).getRawData(charsetCurrent);
+            if (raw != null) {
+                return raw;
+            }
+        }
+        return getDataElement(sf.getData());
+    }
+
+    /**
+     * Returns true if the encoded bytes fields were read from may be written out as they are: no converter is set,
+     * the output encoding is known and this class leaves the hooks records are written through alone.
+     */
+    private boolean writesRawData() {
+        return converter == null && charsetCurrent != null && !OVERRIDES_HOOKS.get(getClass());
+    }
+
     protected byte[] getEntry(final String tag, final int length, final int start) throws IOException {
-        final String entryUse = tag + format4Use.format(length) + format5Use.format(start);
+        final byte[] entry = new byte[tag.length() + 9];
+        putDigits(entry, putLatin1(entry, 0, tag), length, 4);
+        putDigits(entry, tag.length() + 4, start, 5);
         if (length > 99999) {
             hasOversizeLength = true;
         }
         if (start > 99999) {
             hasOversizeOffset = true;
         }
-        return (entryUse.getBytes(ENCODING_FOR_DIR_ENTRIES));
+        return entry;
+    }
+
+    /**
+     * Writes a directory entry at the supplied position of the buffer, which has room for it, and returns the
+     * position after it.
+     */
+    private int putEntry(final int pos, final String tag, final int length, final int start) {
+        final int end = putDigits(buffer, putLatin1(buffer, pos, tag), length, 4);
+        if (length > 99999) {
+            hasOversizeLength = true;
+        }
+        if (start > 99999) {
+            hasOversizeOffset = true;
+        }
+        return putDigits(buffer, end, start, 5);
+    }
+
+    /**
+     * Writes the encoded data of the supplied control field at the supplied position of the buffer and returns the
+     * position after it.
+     */
+    private int putDataElement(final int pos, final ControlField cf) throws IOException {
+        if (converter == null && charsetCurrent != null && cf instanceof ControlFieldImpl) {
+            final byte[] raw = ((ControlFieldImpl) cf).getRawData(charsetCurrent);
+            if (raw != null) {
+                return putBytes(pos, raw);
+            }
+        }
+        return putDataElement(pos, cf.getData());
+    }
+
+    /**
+     * Writes the encoded data of the supplied subfield at the supplied position of the buffer and returns the
+     * position after it.
+     */
+    private int putDataElement(final int pos, final Subfield sf) throws IOException {
+        if (converter == null && charsetCurrent != null && sf instanceof SubfieldImpl) {
+            final byte[] raw = ((SubfieldImpl) sf).getRawData(charsetCurrent);
+            if (raw != null) {
+                return putBytes(pos, raw);
+            }
+        }
+        return putDataElement(pos, sf.getData());
+    }
+
+    /**
+     * Writes the supplied data at the supplied position of the buffer and returns the position after it. UTF-8 and
+     * ISO-8859-1 are encoded straight into the buffer; with a converter or another encoding, this goes through
+     * {@link #getDataElement(String)}.
+     */
+    private int putDataElement(int pos, final String data) throws IOException {
+        if (converter != null || charsetCurrent == null) {
+            return putBytes(pos, getDataElement(data));
+        }
+        final int length = data.length();
+        if (charsetCurrent.equals(StandardCharsets.ISO_8859_1)) {
+            ensureCapacity(pos + length);
+            for (int i = 0; i < length; i++) {
+                final char c = data.charAt(i);
+                if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(data.charAt(i + 1))) {
+                    // a surrogate pair is a single unmappable character
+                    i++;
+                }
+                buffer[pos++] = (byte) (c <= 0xFF ? c : '?');
+            }
+            return pos;
+        }
+        if (!charsetCurrent.equals(StandardCharsets.UTF_8)) {
+            return putBytes(pos, getDataElement(data));
+        }
+        ensureCapacity(pos + length * 3);
+        final byte[] buf = buffer;
+        for (int i = 0; i < length; i++) {
+            final char c = data.charAt(i);
+            if (c < 0x80) {
+                buf[pos++] = (byte) c;
+            } else if (c < 0x800) {
+                buf[pos++] = (byte) (0xC0 | c >> 6);
+                buf[pos++] = (byte) (0x80 | c & 0x3F);
+            } else if (!Character.isSurrogate(c)) {
+                buf[pos++] = (byte) (0xE0 | c >> 12);
+                buf[pos++] = (byte) (0x80 | c >> 6 & 0x3F);
+                buf[pos++] = (byte) (0x80 | c & 0x3F);
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(data.charAt(i + 1))) {
+                final int cp = Character.toCodePoint(c, data.charAt(++i));
+                buf[pos++] = (byte) (0xF0 | cp >> 18);
+                buf[pos++] = (byte) (0x80 | cp >> 12 & 0x3F);
+                buf[pos++] = (byte) (0x80 | cp >> 6 & 0x3F);
+                buf[pos++] = (byte) (0x80 | cp & 0x3F);
+            } else {
+                // an unpaired surrogate, replaced as String.getBytes does
+                buf[pos++] = '?';
+            }
+        }
+        return pos;
+    }
+
+    private int putBytes(final int pos, final byte[] bytes) {
+        ensureCapacity(pos + bytes.length);
+        System.arraycopy(bytes, 0, buffer, pos, bytes.length);
+        return pos + bytes.length;
+    }
+
+    private void ensureCapacity(final int size) {
+        if (size > buffer.length) {
+            final byte[] grown = new byte[Math.max(size, buffer.length * 2)];
+            System.arraycopy(buffer, 0, grown, 0, buffer.length);
+            buffer = grown;
+        }
+    }
+
+    /**
+     * Writes the supplied number as a zero-padded decimal of the supplied width and returns the position after it.
+     * A number too large for the width is written as all nines, as {@link CustomDecimalFormat} does.
+     */
+    private static int putDigits(final byte[] buf, final int pos, final int value, final int width) {
+        if (digitCount(value) > width) {
+            Arrays.fill(buf, pos, pos + width, (byte) '9');
+            return pos + width;
+        }
+        int n = value;
+        for (int i = pos + width - 1; i >= pos; i--) {
+            buf[i] = (byte) ('0' + n % 10);
+            n /= 10;
+        }
+        return pos + width;
+    }
+
+    private static int digitCount(final int value) {
+        int count = 1;
+        for (int n = value; n >= 10; n /= 10) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Writes the supplied characters as ISO-8859-1 and returns the position after them.
+     */
+    private static int putLatin1(final byte[] buf, int pos, final char[] chars) {
+        for (final char c : chars) {
+            buf[pos++] = toLatin1(c);
+        }
+        return pos;
+    }
+
+    private static int putLatin1(final byte[] buf, int pos, final String chars) {
+        for (int i = 0; i < chars.length(); i++) {
+            buf[pos++] = toLatin1(chars.charAt(i));
+        }
+        return pos;
+    }
+
+    private static byte toLatin1(final char c) {
+        return (byte) (c <= 0xFF ? c : '?');
     }
 
     /**
@@ -20,15 +20,14 @@ package org.marc4j;
 
 import java.text.Normalizer;
 import java.text.Normalizer.Form;
-import java.util.List;
 
 import org.marc4j.converter.CharConverter;
 import org.marc4j.converter.impl.AnselToUnicode;
 import org.marc4j.marc.DataField;
 import org.marc4j.marc.Leader;
 import org.marc4j.marc.Record;
+import org.marc4j.marc.RecordVisitor;
 import org.marc4j.marc.Subfield;
-import org.marc4j.marc.VariableField;
 
 /**
  * @author Robert Haschart
@@ -96,27 +95,16 @@ public class MarcTranslatedReader implements MarcReader {
     public Record next() {
         final Record rec = reader.next();
         final Leader l = rec.getLeader();
-        boolean is_utf_8 = false;
-
-        if (l.getCharCodingScheme() == 'a') {
-            is_utf_8 = true;
-        }
+        final boolean is_utf_8 = l.getCharCodingScheme() == 'a';
 
         if (is_utf_8 && unicodeNormalize == null) {
             return (rec);
         }
 
-        final List<VariableField> fields = rec.getVariableFields();
-
-        for (final VariableField f : fields) {
-            if (!(f instanceof DataField)) {
-                continue;
-            }
+        rec.forEachField(new RecordVisitor() {
 
-            final DataField field = (DataField) f;
-            final List<Subfield> subfields = field.getSubfields();
-
-            for (final Subfield sf : subfields) {
+            @Override
+            public boolean visitSubfield(final DataField field, final Subfield sf) {
                 final String oldData = sf.getData();
                 String newData = oldData;
 
@@ -131,8 +119,10 @@ public class MarcTranslatedReader implements MarcReader {
                 if (!oldData.equals(newData)) {
                     sf.setData(newData);
                 }
+
+                return true;
             }
-        }
+        });
 
         l.setCharCodingScheme('a');
         rec.setLeader(l);
@@ -10,8 +10,8 @@ import org.marc4j.converter.CharConverter;
 import org.marc4j.marc.ControlField;
 import org.marc4j.marc.DataField;
 import org.marc4j.marc.Record;
+import org.marc4j.marc.RecordVisitor;
 import org.marc4j.marc.Subfield;
-import org.marc4j.marc.VariableField;
 
 public class MarcTxtWriter implements MarcWriter {
     /**
@@ -82,18 +82,23 @@ public class MarcTxtWriter implements MarcWriter {
         }
     }
 
-    private String applyConverter(Record record, CharConverter conv) {
+    private String applyConverter(Record record, final CharConverter conv) {
         final StringBuilder sb = new StringBuilder();
         sb.append("LEADER ");
         sb.append(record.getLeader().toString());
         sb.append('\n');
     
-        for (final VariableField field : record.getVariableFields()) {
-            if (field instanceof ControlField) {
+        record.forEachField(new RecordVisitor() {
+
+            @Override
+            public boolean visitControlField(final ControlField field) {
                 sb.append(field.toString());
+                sb.append('\n');
+                return true;
             }
-            else if (field instanceof DataField) {
-                DataField df = (DataField)field;
+
+            @Override
+            public boolean visitDataField(final DataField df) {
                 sb.append(df.getTag());
                 sb.append(' ');
                 sb.append(df.getIndicator1());
@@ -102,9 +107,10 @@ public class MarcTxtWriter implements MarcWriter {
                 for (final Subfield sf : df.getSubfields()) {
                     sb.append("$").append(sf.getCode()).append(conv.convert(sf.getData()));
                 }
+                sb.append('\n');
+                return true;
             }
-            sb.append('\n');
-        }
+        });
         return sb.toString();
     }
 
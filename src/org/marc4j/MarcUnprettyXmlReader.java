@@ -2,11 +2,11 @@
 package org.marc4j;
 
 import java.io.InputStream;
-import java.util.List;
 
 import org.marc4j.marc.ControlField;
 import org.marc4j.marc.DataField;
 import org.marc4j.marc.Record;
+import org.marc4j.marc.RecordVisitor;
 import org.marc4j.marc.Subfield;
 
 public class MarcUnprettyXmlReader implements MarcReader {
@@ -37,31 +37,30 @@ public class MarcUnprettyXmlReader implements MarcReader {
 
         final Record rec = reader.next();
         rec.getLeader().setCharCodingScheme('a');
-        final List<?> varFields = rec.getVariableFields();
+        rec.forEachField(new RecordVisitor() {
 
-        for (final Object f : varFields) {
-            if (f instanceof ControlField) {
-                final ControlField cf = (ControlField) f;
+            @Override
+            public boolean visitControlField(final ControlField cf) {
                 String data = cf.getData();
                 if (data.contains("\n")) {
                     data = data.replaceAll("\\r?\\n[ \t]*", " ");
                     data = data.trim();
                     cf.setData(data);
                 }
-            } else if (f instanceof DataField) {
-                final DataField df = (DataField) f;
-                final List<?> subFields = df.getSubfields();
-                for (final Object s : subFields) {
-                    final Subfield sf = (Subfield) s;
-                    String data = sf.getData();
-                    if (data.contains("\n")) {
-                        data = data.replaceAll("\\r?\\n[ \t]*", " ");
-                        data = data.trim();
-                        sf.setData(data);
-                    }
+                return true;
+            }
+
+            @Override
+            public boolean visitSubfield(final DataField df, final Subfield sf) {
+                String data = sf.getData();
+                if (data.contains("\n")) {
+                    data = data.replaceAll("\\r?\\n[ \t]*", " ");
+                    data = data.trim();
+                    sf.setData(data);
                 }
+                return true;
             }
-        }
+        });
         return rec;
     }
 
@@ -3,6 +3,7 @@ package org.marc4j;
 import java.io.OutputStream;
 
 import org.marc4j.converter.impl.UnicodeToAnsel;
+import org.marc4j.util.ParallelGzipOutputStream;
 
 public class MarcWriterFactory
 {
@@ -15,6 +16,7 @@ public class MarcWriterFactory
         boolean pretty = false;
         boolean normalize = false;
         boolean oversize = false;
+        boolean gzip = false;
         int splitAt = 0;
         
         String[] convertParts = convertString.split("[;:_, ]+");
@@ -25,6 +27,7 @@ public class MarcWriterFactory
             else if (part.equalsIgnoreCase("XML") || part.equalsIgnoreCase("MARCXML"))       convert = "xml";
             else if (part.equalsIgnoreCase("MARC_IN_JSON") || part.equalsIgnoreCase("json")) convert = "json";
             else if (part.equalsIgnoreCase("MARC_JSON") || part.equalsIgnoreCase("json2"))   convert = "json2";
+            else if (part.equalsIgnoreCase("jsonl") || part.equalsIgnoreCase("ndjson"))      convert = "jsonl";
             else if (part.equalsIgnoreCase("UTF8") || part.equalsIgnoreCase("UTF-8"))        convert = "utf8";
             else if (part.equalsIgnoreCase("RAW") || part.equalsIgnoreCase("raw"))           convert = "raw";
             else if (part.equalsIgnoreCase("MARC8"))                                         convert = "marc8";
@@ -42,6 +45,14 @@ public class MarcWriterFactory
             {
                 oversize = true;
             }
+            else if (part.equalsIgnoreCase("gzip") || part.equalsIgnoreCase("gz")) 
+            {
+                gzip = true;
+            }
+        }
+        if (gzip)
+        {
+            out = new ParallelGzipOutputStream(out);
         }
         return  makeWriterFromConvertParm(convert, pretty, normalize, oversize, splitAt, out );
     }
@@ -83,6 +94,13 @@ public class MarcWriterFactory
             if (normalize)  jsonwriter.setUnicodeNormalization(true);
             writer = jsonwriter;
         } 
+        else if (convert.equalsIgnoreCase("jsonl") || convert.equalsIgnoreCase("ndjson")) 
+        {
+            MarcJsonWriter jsonwriter = new MarcJsonWriter(out, MarcJsonWriter.MARC_IN_JSON);
+            jsonwriter.setJsonLines(true);
+            if (normalize)  jsonwriter.setUnicodeNormalization(true);
+            writer = jsonwriter;
+        } 
         else if (convert.equalsIgnoreCase("UTF8") || convert.equalsIgnoreCase("UTF-8")) 
         {
             MarcStreamWriter binwriter;
@@ -46,7 +46,10 @@ import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.UnsupportedEncodingException;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.List;
 import java.util.regex.Pattern;
 
 /**
@@ -59,6 +62,12 @@ import java.util.regex.Pattern;
  * aware.
  * </p>
  * <p>
+ * A writer constructed with an <code>OutputStream</code> does not go through SAX events: it serializes the records
+ * itself, escaping the data as it copies it into a buffer, and writes the same characters the null transform would.
+ * A writer constructed with a <code>Result</code>, or a subclass, hands its SAX events to a
+ * <code>TransformerHandler</code>.
+ * </p>
+ * <p>
  * The following example reads a file with MARC records and writes MARCXML records in UTF-8 encoding to the console:
  * </p>
  * <pre>
@@ -179,12 +188,118 @@ public class MarcXmlWriter implements MarcWriter {
 
     protected static final String LEADER = "leader";
 
+    private static final char[] INDENT_RECORD = "\n  ".toCharArray();
+
+    private static final char[] INDENT_FIELD = "\n    ".toCharArray();
+
+    private static final char[] INDENT_SUBFIELD = "\n      ".toCharArray();
+
+    private static final char[] NEWLINE = "\n".toCharArray();
+
+    private static final char[] XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>".toCharArray();
+
+    private static final String NAMESPACE_DECLARATION = " xmlns:" + Constants.MARCXML_NS_PREFIX + "=\"" +
+            Constants.MARCXML_NS_URI + "\"";
+
+    private static final char[] COLLECTION_START = (new String(startTag(COLLECTION)) + NAMESPACE_DECLARATION)
+            .toCharArray();
+
+    private static final char[] NAMESPACE_ATTRIBUTE = NAMESPACE_DECLARATION.toCharArray();
+
+    private static final char[] COLLECTION_END = endTag(COLLECTION);
+
+    private static final char[] RECORD_START = startTag(RECORD);
+
+    private static final char[] RECORD_END = endTag(RECORD);
+
+    private static final char[] LEADER_START = (new String(startTag(LEADER)) + ">").toCharArray();
+
+    private static final char[] LEADER_END = endTag(LEADER);
+
+    private static final char[] CONTROL_FIELD_START = (new String(startTag(CONTROL_FIELD)) + " tag=\"").toCharArray();
+
+    private static final char[] CONTROL_FIELD_END = endTag(CONTROL_FIELD);
+
+    private static final char[] DATA_FIELD_START = (new String(startTag(DATA_FIELD)) + " tag=\"").toCharArray();
+
+    private static final char[] DATA_FIELD_END = endTag(DATA_FIELD);
+
+    private static final char[] SUBFIELD_START = (new String(startTag(SUBFIELD)) + " code=\"").toCharArray();
+
+    private static final char[] SUBFIELD_END = endTag(SUBFIELD);
+
+    private static final char[] TYPE_ATTRIBUTE = " type=\"".toCharArray();
+
+    private static final char[] IND1_ATTRIBUTE = "\" ind1=\"".toCharArray();
+
+    private static final char[] IND2_ATTRIBUTE = "\" ind2=\"".toCharArray();
+
+    private static final char[] ATTRIBUTE_END = "\">".toCharArray();
+
+    private static final char[] EMPTY_ELEMENT_END = "/>".toCharArray();
+
+    private static final char[] EMPTY_ATTRIBUTE_ELEMENT_END = "\"/>".toCharArray();
+
+    /**
+     * The escapes of the characters below U+00A0 in text, as the null transform writes them; <code>null</code> for the
+     * characters that are written as they are.
+     */
+    private static final char[][] TEXT_ESCAPES = new char[0xA0][];
+
+    /**
+     * The escapes of the characters below U+00A0 in attribute values, as the null transform writes them.
+     */
+    private static final char[][] ATTRIBUTE_ESCAPES = new char[0xA0][];
+
+    /**
+     * The characters below U+00A0 that {@link #CheckNonXMLChars(String)} replaces.
+     */
+    private static final boolean[] NON_XML_CHARS = new boolean[0xA0];
+
+    static {
+        for (int c = 0; c < 0x20; c++) {
+            ATTRIBUTE_ESCAPES[c] = ("&#" + c + ";").toCharArray();
+            if (c != '\t' && c != '\n') {
+                TEXT_ESCAPES[c] = ATTRIBUTE_ESCAPES[c];
+            }
+            NON_XML_CHARS[c] = c != '\t' && c != '\n' && c != '\r';
+        }
+        for (int c = 0x7F; c < 0xA0; c++) {
+            TEXT_ESCAPES[c] = ("&#" + c + ";").toCharArray();
+            NON_XML_CHARS[c] = c != 0x85;
+        }
+        TEXT_ESCAPES['<'] = ATTRIBUTE_ESCAPES['<'] = "&lt;".toCharArray();
+        TEXT_ESCAPES['>'] = ATTRIBUTE_ESCAPES['>'] = "&gt;".toCharArray();
+        TEXT_ESCAPES['&'] = ATTRIBUTE_ESCAPES['&'] = "&amp;".toCharArray();
+        ATTRIBUTE_ESCAPES['"'] = "&quot;".toCharArray();
+    }
+
     private boolean indent = false;
 
     private TransformerHandler handler = null;
 
     private Writer writer = null;
 
+    /**
+     * The buffer a record is serialized in when the writer does not use a <code>TransformerHandler</code>.
+     */
+    private char[] buffer;
+
+    private int length;
+
+    /**
+     * Whether the collection start tag still lacks its closing bracket, so it can become an empty element.
+     */
+    private boolean collectionStartOpen = false;
+
+    private char pendingHighSurrogate = 0;
+
+    /**
+     * Whether each record is written as an XML document of its own, as {@link #writeSingleRecord(Record,
+     * OutputStream, boolean, boolean)} writes it.
+     */
+    private boolean singleRecord = false;
+
     /**
      * Character encoding. Default is UTF-8.
      */
@@ -196,6 +311,11 @@ public class MarcXmlWriter implements MarcWriter {
 
     private boolean checkNonXMLChars = false;
 
+    /**
+     * The factory that validates records, created once per writer.
+     */
+    private final MarcFactory marcFactory = MarcFactory.newInstance();
+
     private MarcXmlWriter() {
     }
 
@@ -256,7 +376,12 @@ public class MarcXmlWriter implements MarcWriter {
             writer = new OutputStreamWriter(out, encoding);
             writer = new BufferedWriter(writer);
 
-            setHandler(new StreamResult(writer), null);
+            // subclasses may override the SAX methods, so only this class serializes directly
+            if (getClass() == MarcXmlWriter.class) {
+                buffer = new char[8192];
+            } else {
+                setHandler(new StreamResult(writer), null);
+            }
         } catch (final UnsupportedEncodingException details) {
             throw new MarcException(details.getMessage(), details);
         }
@@ -312,6 +437,15 @@ public class MarcXmlWriter implements MarcWriter {
      */
     @Override
     public void close() {
+        if (singleRecord) {
+            try {
+                writer.close();
+            } catch (final IOException details) {
+                throw new MarcException(details.getMessage(), details);
+            }
+            return;
+        }
+
         writeEndDocument();
 
         try {
@@ -415,6 +549,15 @@ public class MarcXmlWriter implements MarcWriter {
      * @throws MarcException - for a poorly formed document
      */
     protected void writeStartDocument() {
+        if (handler == null) {
+            length = 0;
+            append(XML_DECLARATION);
+            append(COLLECTION_START);
+            collectionStartOpen = true;
+            flushBuffer();
+            return;
+        }
+
         try {
             final AttributesImpl atts = new AttributesImpl();
             handler.startDocument();
@@ -432,9 +575,25 @@ public class MarcXmlWriter implements MarcWriter {
      * @throws MarcException - for a poorly formed document
      */
     protected void writeEndDocument() {
+        if (handler == null) {
+            length = 0;
+            if (indent) {
+                closeCollectionStart();
+                append(NEWLINE);
+            }
+            if (collectionStartOpen) {
+                append(EMPTY_ELEMENT_END);
+                collectionStartOpen = false;
+            } else {
+                append(COLLECTION_END);
+            }
+            flushBuffer();
+            return;
+        }
+
         try {
             if (indent) {
-                handler.ignorableWhitespace("\n".toCharArray(), 0, 1);
+                handler.ignorableWhitespace(NEWLINE, 0, 1);
             }
 
             handler.endElement(Constants.MARCXML_NS_URI, COLLECTION, Constants.MARCXML_NS_PREFIX + ":" + COLLECTION);
@@ -453,6 +612,11 @@ public class MarcXmlWriter implements MarcWriter {
      */
     @Override
     public void write(final Record record) {
+        if (handler == null) {
+            serialize(record);
+            return;
+        }
+
         try {
             toXml(record);
         } catch (final SAXException e) {
@@ -487,7 +651,9 @@ public class MarcXmlWriter implements MarcWriter {
     }
 
     /**
-     * A convenience method that writes a single Record object to the result.
+     * A convenience method that writes a single Record object to the result. To write many records each as a document
+     * of its own, a {@link RecordSerializer#marcXml(boolean, boolean)} owned by the caller avoids setting up a writer
+     * for every record.
      *
      * @param record The <code>Record</code> to write
      * @param stream The XML output stream
@@ -497,35 +663,34 @@ public class MarcXmlWriter implements MarcWriter {
      */
     public static void writeSingleRecord(final Record record, final OutputStream stream, final boolean encode,
             final boolean indent) throws IOException {
-        try {
-            final BufferedWriter out = new BufferedWriter(new OutputStreamWriter(stream, "UTF-8"));
-            final MarcXmlWriter writer = new MarcXmlWriter();
-
-            if (encode) {
-                writer.setConverter(new AnselToUnicode());
-            }
-
-            writer.setIndent(indent);
-            writer.setUnicodeNormalization(true);
-            writer.setHandler(new StreamResult(out), null);
-            writer.handler.startDocument();
-            writer.handler.startPrefixMapping(Constants.MARCXML_NS_PREFIX, Constants.MARCXML_NS_URI);
-            writer.toXml(record);
-
-            if (indent) {
-                writer.handler.ignorableWhitespace("\n".toCharArray(), 0, 1);
-            }
+        final MarcXmlWriter writer = newSingleRecordWriter(stream, encode, indent);
+        writer.write(record);
+        writer.close();
+    }
 
-            writer.handler.endPrefixMapping(Constants.MARCXML_NS_URI);
-            writer.handler.endDocument();
+    /**
+     * Returns a writer that writes each record to the supplied output stream as an XML document of its own, as
+     * {@link #writeSingleRecord(Record, OutputStream, boolean, boolean)} does, keeping its buffer and converter from
+     * one record to the next.
+     *
+     * @param out - the output stream to write to
+     * @param encode - if the text should be converted from Ansel to Unicode
+     * @param indent - whether the output XML should be indented
+     * @return the writer
+     */
+    static MarcXmlWriter newSingleRecordWriter(final OutputStream out, final boolean encode, final boolean indent) {
+        final MarcXmlWriter writer = new MarcXmlWriter();
 
-            out.write("\n");
-            out.close();
-        } catch (final SAXException details) {
-            throw new MarcException("SAX error occured while writing record", details);
-        } catch (final UnsupportedEncodingException details) {
-            throw new MarcException(details.getMessage(), details);
+        if (encode) {
+            writer.setConverter(new AnselToUnicode());
         }
+
+        writer.setIndent(indent);
+        writer.setUnicodeNormalization(true);
+        writer.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.buffer = new char[8192];
+        writer.singleRecord = true;
+        return writer;
     }
 
     /**
@@ -547,15 +712,15 @@ public class MarcXmlWriter implements MarcWriter {
     }
 
     protected void toXml(final Record record) throws SAXException {
-        if (!MarcFactory.newInstance().validateRecord(record)) {
+        if (!marcFactory.validateRecord(record)) {
             throw new MarcException("Marc record didn't validate");
         }
 
         char temp[];
-        AttributesImpl atts = new AttributesImpl();
+        final AttributesImpl atts = new AttributesImpl();
 
         if (indent) {
-            handler.ignorableWhitespace("\n  ".toCharArray(), 0, 3);
+            handler.ignorableWhitespace(INDENT_RECORD, 0, INDENT_RECORD.length);
         }
 
         if (record.getType() != null) {
@@ -568,7 +733,7 @@ public class MarcXmlWriter implements MarcWriter {
         }
 
         if (indent) {
-            handler.ignorableWhitespace("\n    ".toCharArray(), 0, 5);
+            handler.ignorableWhitespace(INDENT_FIELD, 0, INDENT_FIELD.length);
         }
 
         handler.startElement(Constants.MARCXML_NS_URI, LEADER, Constants.MARCXML_NS_PREFIX + ":" + LEADER, atts);
@@ -578,11 +743,11 @@ public class MarcXmlWriter implements MarcWriter {
         handler.endElement(Constants.MARCXML_NS_URI, LEADER, Constants.MARCXML_NS_PREFIX + ":" + LEADER);
 
         for (final ControlField field : record.getControlFields()) {
-            atts = new AttributesImpl();
+            atts.clear();
             atts.addAttribute("", "tag", "tag", "CDATA", getDataElementString(field.getTag()));
 
             if (indent) {
-                handler.ignorableWhitespace("\n    ".toCharArray(), 0, 5);
+                handler.ignorableWhitespace(INDENT_FIELD, 0, INDENT_FIELD.length);
             }
 
             handler.startElement(Constants.MARCXML_NS_URI, CONTROL_FIELD, Constants.MARCXML_NS_PREFIX + ":" +
@@ -594,7 +759,7 @@ public class MarcXmlWriter implements MarcWriter {
         }
 
         for (final DataField field : record.getDataFields()) {
-            atts = new AttributesImpl();
+            atts.clear();
             atts.addAttribute("", "tag", "tag", "CDATA", getDataElementString(field.getTag()));
             atts.addAttribute("", "ind1", "ind1", "CDATA", getDataElementString(String.valueOf(field
                     .getIndicator1())));
@@ -602,19 +767,19 @@ public class MarcXmlWriter implements MarcWriter {
                     .getIndicator2())));
 
             if (indent) {
-                handler.ignorableWhitespace("\n    ".toCharArray(), 0, 5);
+                handler.ignorableWhitespace(INDENT_FIELD, 0, INDENT_FIELD.length);
             }
 
             handler.startElement(Constants.MARCXML_NS_URI, DATA_FIELD, Constants.MARCXML_NS_PREFIX + ":" + DATA_FIELD,
                     atts);
 
             for (final Subfield subfield : field.getSubfields()) {
-                atts = new AttributesImpl();
+                atts.clear();
                 atts.addAttribute("", "code", "code", "CDATA", getDataElementString(String.valueOf(subfield
                         .getCode())));
 
                 if (indent) {
-                    handler.ignorableWhitespace("\n      ".toCharArray(), 0, 7);
+                    handler.ignorableWhitespace(INDENT_SUBFIELD, 0, INDENT_SUBFIELD.length);
                 }
 
                 handler.startElement(Constants.MARCXML_NS_URI, SUBFIELD, Constants.MARCXML_NS_PREFIX + ":" + SUBFIELD,
@@ -625,19 +790,299 @@ public class MarcXmlWriter implements MarcWriter {
             }
 
             if (indent) {
-                handler.ignorableWhitespace("\n    ".toCharArray(), 0, 5);
+                handler.ignorableWhitespace(INDENT_FIELD, 0, INDENT_FIELD.length);
             }
 
             handler.endElement(Constants.MARCXML_NS_URI, DATA_FIELD, Constants.MARCXML_NS_PREFIX + ":" + DATA_FIELD);
         }
 
         if (indent) {
-            handler.ignorableWhitespace("\n  ".toCharArray(), 0, 3);
+            handler.ignorableWhitespace(INDENT_RECORD, 0, INDENT_RECORD.length);
         }
 
         handler.endElement(Constants.MARCXML_NS_URI, RECORD, Constants.MARCXML_NS_PREFIX + ":" + RECORD);
     }
 
+    /**
+     * Serializes the supplied record into the buffer and writes it out, producing what {@link #toXml(Record)} and the
+     * null transform would.
+     */
+    private void serialize(final Record record) {
+        if (!marcFactory.validateRecord(record)) {
+            throw new MarcException("Marc record didn't validate");
+        }
+
+        length = 0;
+        if (singleRecord) {
+            pendingHighSurrogate = 0;
+            append(XML_DECLARATION);
+        } else {
+            closeCollectionStart();
+        }
+
+        if (indent) {
+            append(INDENT_RECORD);
+        }
+
+        append(RECORD_START);
+        if (singleRecord) {
+            append(NAMESPACE_ATTRIBUTE);
+        }
+        if (record.getType() != null) {
+            append(TYPE_ATTRIBUTE);
+            appendEscaped(record.getType(), ATTRIBUTE_ESCAPES, false);
+            append(ATTRIBUTE_END);
+        } else {
+            append('>');
+        }
+
+        if (indent) {
+            append(INDENT_FIELD);
+        }
+
+        append(LEADER_START);
+        appendEscaped(transform(record.getLeader().toString()), TEXT_ESCAPES, checkNonXMLChars);
+        append(LEADER_END);
+
+        final List<ControlField> controlFields = record.getControlFields();
+        for (int i = 0; i < controlFields.size(); i++) {
+            final ControlField field = controlFields.get(i);
+
+            if (indent) {
+                append(INDENT_FIELD);
+            }
+
+            append(CONTROL_FIELD_START);
+            appendEscaped(transform(field.getTag()), ATTRIBUTE_ESCAPES, checkNonXMLChars);
+            appendContent(transform(field.getData()), CONTROL_FIELD_END);
+        }
+
+        final List<DataField> dataFields = record.getDataFields();
+        for (int i = 0; i < dataFields.size(); i++) {
+            final DataField field = dataFields.get(i);
+            final List<Subfield> subfields = field.getSubfields();
+
+            if (indent) {
+                append(INDENT_FIELD);
+            }
+
+            append(DATA_FIELD_START);
+            appendEscaped(transform(field.getTag()), ATTRIBUTE_ESCAPES, checkNonXMLChars);
+            append(IND1_ATTRIBUTE);
+            appendAttribute(field.getIndicator1());
+            append(IND2_ATTRIBUTE);
+            appendAttribute(field.getIndicator2());
+
+            if (!indent && subfields.isEmpty()) {
+                append(EMPTY_ATTRIBUTE_ELEMENT_END);
+                continue;
+            }
+
+            append(ATTRIBUTE_END);
+
+            for (int j = 0; j < subfields.size(); j++) {
+                final Subfield subfield = subfields.get(j);
+
+                if (indent) {
+                    append(INDENT_SUBFIELD);
+                }
+
+                append(SUBFIELD_START);
+                appendAttribute(subfield.getCode());
+                appendContent(transform(subfield.getData()), SUBFIELD_END);
+            }
+
+            if (indent) {
+                append(INDENT_FIELD);
+            }
+
+            append(DATA_FIELD_END);
+        }
+
+        if (indent) {
+            append(INDENT_RECORD);
+        }
+
+        append(RECORD_END);
+
+        if (singleRecord) {
+            if (indent) {
+                append(NEWLINE);
+            }
+            append(NEWLINE);
+        }
+
+        flushBuffer();
+
+        if (singleRecord) {
+            try {
+                writer.flush();
+            } catch (final IOException details) {
+                throw new MarcException("IO Error occured while writing record", details);
+            }
+        }
+    }
+
+    /**
+     * Applies the converter and Unicode normalization to the supplied data, as {@link #getDataElementString(String)}
+     * does; non-XML characters are replaced while the data is escaped.
+     */
+    private String transform(final String data) {
+        String dataElement = converter == null ? data : converter.convert(data);
+
+        if (normalize) {
+            dataElement = Normalizer.normalize(dataElement, Normalizer.Form.NFC);
+        }
+
+        return dataElement;
+    }
+
+    /**
+     * Closes the start tag of an element whose tag attribute has been written, and writes the supplied content and
+     * end tag, or ends the element as an empty one.
+     */
+    private void appendContent(final String data, final char[] endTag) {
+        if (data.isEmpty()) {
+            append(EMPTY_ATTRIBUTE_ELEMENT_END);
+        } else {
+            append(ATTRIBUTE_END);
+            appendEscaped(data, TEXT_ESCAPES, checkNonXMLChars);
+            append(endTag);
+        }
+    }
+
+    private void appendAttribute(final char c) {
+        if (converter != null || normalize) {
+            appendEscaped(transform(String.valueOf(c)), ATTRIBUTE_ESCAPES, checkNonXMLChars);
+        } else if (c < 0xA0 && !(checkNonXMLChars && NON_XML_CHARS[c]) && ATTRIBUTE_ESCAPES[c] == null) {
+            append(c);
+        } else {
+            appendEscaped(String.valueOf(c), ATTRIBUTE_ESCAPES, checkNonXMLChars);
+        }
+    }
+
+    /**
+     * Appends the supplied data, escaped with the supplied table. Characters from U+00A0 on are written as they are,
+     * apart from surrogate pairs, which become character references, and the characters that
+     * {@link #CheckNonXMLChars(String)} replaces when <code>checkNonXML</code> is set.
+     */
+    private void appendEscaped(final String data, final char[][] escapes, final boolean checkNonXML) {
+        final int dataLength = data.length();
+        ensureCapacity(length + dataLength);
+
+        for (int i = 0; i < dataLength; i++) {
+            final char c = data.charAt(i);
+
+            if (c < 0xA0) {
+                if (checkNonXML && NON_XML_CHARS[c]) {
+                    appendUnicodeBNF(c);
+                } else if (escapes[c] != null) {
+                    if (pendingHighSurrogate != 0 && escapes[c][1] == '#') {
+                        throw invalidSurrogate(pendingHighSurrogate);
+                    }
+                    append(escapes[c]);
+                } else {
+                    if (length == buffer.length) {
+                        ensureCapacity(length + 1);
+                    }
+                    buffer[length++] = c;
+                }
+            } else if (c < Character.MIN_SURROGATE || c > Character.MAX_SURROGATE && c < 0xFDD0) {
+                if (length == buffer.length) {
+                    ensureCapacity(length + 1);
+                }
+                buffer[length++] = c;
+            } else if (checkNonXML && (Character.isSurrogate(c) || c <= 0xFDEF || c >= 0xFFFE)) {
+                appendUnicodeBNF(c);
+            } else if (!Character.isSurrogate(c)) {
+                append(c);
+            } else if (pendingHighSurrogate != 0) {
+                if (!Character.isLowSurrogate(c)) {
+                    throw invalidSurrogate(pendingHighSurrogate);
+                }
+                appendCharacterReference(Character.toCodePoint(pendingHighSurrogate, c));
+                pendingHighSurrogate = 0;
+            } else if (Character.isHighSurrogate(c)) {
+                // as with the serializer, a high surrogate that ends the data is paired with the next character
+                // written as a reference, wherever that is
+                if (i + 1 == dataLength) {
+                    pendingHighSurrogate = c;
+                } else if (!Character.isLowSurrogate(data.charAt(i + 1))) {
+                    throw invalidSurrogate(c);
+                } else {
+                    appendCharacterReference(Character.toCodePoint(c, data.charAt(++i)));
+                }
+            } else {
+                appendCharacterReference(c);
+            }
+        }
+    }
+
+    private static MarcException invalidSurrogate(final char c) {
+        return new MarcException("Invalid UTF-16 surrogate in data element: " + Integer.toHexString(c));
+    }
+
+    private void appendUnicodeBNF(final char c) {
+        append("&lt;U+");
+        for (int shift = 12; shift >= 0; shift -= 4) {
+            append(Character.toUpperCase(Character.forDigit(c >> shift & 0xF, 16)));
+        }
+        append("&gt;");
+    }
+
+    private void appendCharacterReference(final int codePoint) {
+        append("&#");
+        append(Integer.toString(codePoint));
+        append(';');
+    }
+
+    private void closeCollectionStart() {
+        if (collectionStartOpen) {
+            append('>');
+            collectionStartOpen = false;
+        }
+    }
+
+    private void append(final char c) {
+        ensureCapacity(length + 1);
+        buffer[length++] = c;
+    }
+
+    private void append(final char[] chars) {
+        ensureCapacity(length + chars.length);
+        System.arraycopy(chars, 0, buffer, length, chars.length);
+        length += chars.length;
+    }
+
+    private void append(final String chars) {
+        ensureCapacity(length + chars.length());
+        chars.getChars(0, chars.length(), buffer, length);
+        length += chars.length();
+    }
+
+    private void ensureCapacity(final int size) {
+        if (size > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(size, buffer.length * 2));
+        }
+    }
+
+    private void flushBuffer() {
+        try {
+            writer.write(buffer, 0, length);
+        } catch (final IOException details) {
+            throw new MarcException("IO Error occured while writing record", details);
+        }
+        length = 0;
+    }
+
+    private static char[] startTag(final String name) {
+        return ("<" + Constants.MARCXML_NS_PREFIX + ":" + name).toCharArray();
+    }
+
+    private static char[] endTag(final String name) {
+        return ("</" + Constants.MARCXML_NS_PREFIX + ":" + name + ">").toCharArray();
+    }
+
     protected String getDataElementString(final String data) {
         String dataElement = null;
 
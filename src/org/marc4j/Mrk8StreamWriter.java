@@ -19,18 +19,18 @@
  */
 package org.marc4j;
 
+import java.io.IOException;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
-import java.io.PrintWriter;
-import java.io.UnsupportedEncodingException;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
+
 import org.marc4j.converter.CharConverter;
 import org.marc4j.marc.ControlField;
 import org.marc4j.marc.DataField;
 import org.marc4j.marc.Leader;
 import org.marc4j.marc.Record;
+import org.marc4j.marc.RecordVisitor;
 import org.marc4j.marc.Subfield;
-import org.marc4j.marc.VariableField;
 
 /**
  * Class for writing MARC record objects in MRK8 format.
@@ -55,8 +55,50 @@ import org.marc4j.marc.VariableField;
  */
 public class Mrk8StreamWriter implements MarcWriter {
 
-    private PrintWriter mrk8Writer;
-//    private final CharsetEncoder encoder;
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private final OutputStream output;
+
+    /**
+     * The builder each record is written into, reused from one record to the next.
+     */
+    private final StringBuilder recordStringBuilder = new StringBuilder(4096);
+
+    /**
+     * The UTF-8 encoded record, written out in one call.
+     */
+    private byte[] bytes = new byte[8192];
+
+    private final RecordVisitor fieldWriter = new RecordVisitor() {
+
+        @Override
+        public boolean visitControlField(final ControlField controlField) {
+            recordStringBuilder.append('=').append(controlField.getTag()).append("  ");
+            final String data = controlField.getData();
+            for (int i = 0; i < data.length(); i++) {
+                final char c = data.charAt(i);
+                recordStringBuilder.append(c == ' ' ? '\\' : c);
+            }
+            recordStringBuilder.append(LINE_SEPARATOR);
+            return true;
+        }
+
+        @Override
+        public boolean visitDataField(final DataField dataField) {
+            recordStringBuilder.append('=').append(dataField.getTag()).append("  ");
+            recordStringBuilder.append((dataField.getIndicator1() == ' ') ? '\\' : dataField.getIndicator1());
+            recordStringBuilder.append((dataField.getIndicator2() == ' ') ? '\\' : dataField.getIndicator2());
+
+            final List<Subfield> subfields = dataField.getSubfields();
+            for (int i = 0; i < subfields.size(); i++) {
+                final Subfield subField = subfields.get(i);
+                recordStringBuilder.append('$').append(subField.getCode());
+                Mrk8TranslationTable.appendMrk8(recordStringBuilder, subField.getData());
+            }
+            recordStringBuilder.append(LINE_SEPARATOR);
+            return true;
+        }
+    };
 
     /**
      * Constructs an instance and creates a {@link MarcWriter} object with the
@@ -65,15 +107,7 @@ public class Mrk8StreamWriter implements MarcWriter {
      * @param output The {@link OutputStream} to write to
      */
     public Mrk8StreamWriter(final OutputStream output) {
- //       this.encoder = StandardCharsets.UTF_8.newEncoder();
-        try
-        {
-            this.mrk8Writer = new PrintWriter(new OutputStreamWriter(output, "UTF8"));
-        }
-        catch (UnsupportedEncodingException e)
-        {
-            this.mrk8Writer = new PrintWriter(output);
-        }
+        this.output = output;
     }
 
     /**
@@ -83,41 +117,57 @@ public class Mrk8StreamWriter implements MarcWriter {
      */
     @Override
     public void write(final Record record) {
-        final StringBuilder recordStringBuilder = new StringBuilder();
+        recordStringBuilder.setLength(0);
 
         final Leader ldr = record.getLeader();
-        recordStringBuilder.append("=").append("LDR").append("  ").append(ldr.marshal()).append(System.lineSeparator());;
-
-        for (final VariableField field : record.getVariableFields()) {
-            recordStringBuilder.append("=").append(field.getTag()).append("  ");
-
-            if (field instanceof ControlField) {
-                final ControlField controlField = (ControlField) field;
-                String data;
-//                try {
-//                    data = this.encoder.encode(CharBuffer.wrap(controlField.getData())).asCharBuffer().toString();
-//                } catch (CharacterCodingException cce) {
-                    data = controlField.getData();
-                    data = data.replace(' ', '\\');
-//                }
-                recordStringBuilder.append(data);
-            } else if (field instanceof DataField) {
-                final DataField dataField = (DataField) field;
-                recordStringBuilder.append((dataField.getIndicator1() == ' ') ? "\\" : dataField.getIndicator1());
-                recordStringBuilder.append((dataField.getIndicator2() == ' ') ? "\\" : dataField.getIndicator2());
-
-                for (final Subfield subField : dataField.getSubfields()) {
-                    String data;
-                    data =  Mrk8TranslationTable.toMrk8(subField.getData());
-                    recordStringBuilder.append("$").append(subField.getCode()).append(data);
-                }
-            }
-            recordStringBuilder.append(System.lineSeparator());
+        recordStringBuilder.append("=LDR  ").append(ldr.marshal()).append(LINE_SEPARATOR);
+
+        record.forEachField(fieldWriter);
+        recordStringBuilder.append(LINE_SEPARATOR);
+
+        final int length = encodeRecord();
+        try {
+            this.output.write(bytes, 0, length);
+            this.output.flush();
+        } catch (final IOException e) {
+            throw new MarcException("IO Error occured while writing record", e);
+        }
+    }
+
+    /**
+     * Encodes the record in the builder as UTF-8 into the byte buffer, replacing unpaired surrogates with '?' as
+     * the UTF-8 encoder of the JDK does, and returns the number of bytes.
+     */
+    private int encodeRecord() {
+        final int length = recordStringBuilder.length();
+        if (length * 3 > bytes.length) {
+            bytes = new byte[Math.max(length * 3, bytes.length * 2)];
         }
-        recordStringBuilder.append(System.lineSeparator());
 
-        this.mrk8Writer.append(recordStringBuilder);
-        this.mrk8Writer.flush();
+        int pos = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = recordStringBuilder.charAt(i);
+            if (c < 0x80) {
+                bytes[pos++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes[pos++] = (byte) (0xC0 | c >> 6);
+                bytes[pos++] = (byte) (0x80 | c & 0x3F);
+            } else if (!Character.isSurrogate(c)) {
+                bytes[pos++] = (byte) (0xE0 | c >> 12);
+                bytes[pos++] = (byte) (0x80 | c >> 6 & 0x3F);
+                bytes[pos++] = (byte) (0x80 | c & 0x3F);
+            } else if (Character.isHighSurrogate(c) && i + 1 < length &&
+                    Character.isLowSurrogate(recordStringBuilder.charAt(i + 1))) {
+                final int cp = Character.toCodePoint(c, recordStringBuilder.charAt(++i));
+                bytes[pos++] = (byte) (0xF0 | cp >> 18);
+                bytes[pos++] = (byte) (0x80 | cp >> 12 & 0x3F);
+                bytes[pos++] = (byte) (0x80 | cp >> 6 & 0x3F);
+                bytes[pos++] = (byte) (0x80 | cp & 0x3F);
+            } else {
+                bytes[pos++] = '?';
+            }
+        }
+        return pos;
     }
 
     /**
@@ -149,8 +199,11 @@ public class Mrk8StreamWriter implements MarcWriter {
      */
     @Override
     public void close() {
-        this.mrk8Writer.flush();
-        this.mrk8Writer.close();
+        try {
+            this.output.close();
+        } catch (final IOException e) {
+            throw new MarcException("IO Error occured on close", e);
+        }
     }
 
     /**
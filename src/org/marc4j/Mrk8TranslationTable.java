@@ -42,72 +42,93 @@
 
 package org.marc4j;
 
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 public class Mrk8TranslationTable  {
 
-    public static String fromMrk8(final String datafield) {
+    /**
+     * The mnemonics the characters below U+0080 are written as, or <code>null</code> for those written as they are.
+     */
+    private static final String[] TO_MRK8 = new String[0x80];
+
+    static {
+        TO_MRK8['$'] = "{dollar}";
+        TO_MRK8['{'] = "{lcub}";
+        TO_MRK8['}'] = "{rcub}";
+    }
 
-        if (datafield.indexOf('{') == -1) {
+    /**
+     * Replaces the mnemonics in curly braces in the supplied MRK8 data with the characters they stand for. Mnemonics
+     * that are not in the table, and a curly brace that is not closed, are passed through unchanged.
+     *
+     * @param datafield - the MRK8 data
+     * @return the data with the mnemonics replaced
+     */
+    public static String fromMrk8(final String datafield) {
+        int j = datafield.indexOf('{');
+        if (j == -1) {
             return(datafield);
         }
-        StringBuilder sb = new StringBuilder();
-        int len = datafield.length();
+
+        final int len = datafield.length();
+        final StringBuilder sb = new StringBuilder(len);
         int i = 0;
-        while (i < len) {
-            int j = datafield.indexOf('{', i);
-            if (j == -1) {
-                sb.append(datafield.substring(i));
-                i = len;
-                continue;
+        while (j != -1) {
+            final int k = datafield.indexOf('}', j + 1);
+            if (k == -1) {
+                break;
             }
-            if (i < j) {
-                sb.append(datafield.substring(i, j));
-                i = j-1;
+            final String translation = Mnemonics.lookup(datafield, j + 1, k);
+            if (translation != null) {
+                sb.append(datafield, i, j).append(translation);
+                i = k + 1;
             }
-            int k = datafield.indexOf('}', j);
-            String lookupVal = datafield.substring(j, k+1);
-            sb.append(lookup(lookupVal));
-            i = k+1;
+            j = datafield.indexOf('{', k + 1);
         }
+        sb.append(datafield, i, len);
         return(sb.toString());
     }
 
-    public static String toMrk8(String datafield) {
-        char chars[] = datafield.toCharArray();
-        StringBuilder sb = new StringBuilder();
-        for (char c : chars)
-        {
-            switch (c) {
-                case '$': sb.append("{dollar}"); break;
-                case '{': sb.append("{lcub}");   break;
-                case '}': sb.append("{rcub}");   break;
-                default:  sb.append(c);
+    /**
+     * Replaces the characters that MRK8 uses as delimiters in the supplied data with their mnemonics.
+     *
+     * @param datafield - the data
+     * @return the MRK8 data, which is the supplied data itself if there is nothing to replace
+     */
+    public static String toMrk8(final String datafield) {
+        final int len = datafield.length();
+        for (int i = 0; i < len; i++) {
+            final char c = datafield.charAt(i);
+            if (c < 0x80 && TO_MRK8[c] != null) {
+                final StringBuilder sb = new StringBuilder(len + 16);
+                appendMrk8(sb, datafield);
+                return(sb.toString());
             }
         }
-        return(sb.toString());
+        return(datafield);
     }
 
-    private static String lookup(String toLookup) {
-        if (mrk8Map == null) {
-            mrk8Map = new LinkedHashMap<String,String>();
-            for (int i = 0; i < mrk8Table.length; i++) {
-                String translateVal = translate(mrk8Table[i][1]);
-                mrk8Map.put(mrk8Table[i][0], translateVal);
+    /**
+     * Appends the supplied data to the supplied builder with the characters that MRK8 uses as delimiters replaced by
+     * their mnemonics, as {@link #toMrk8(String)} does, in a single pass and without creating any strings.
+     *
+     * @param sb - the builder to append to
+     * @param datafield - the data
+     */
+    public static void appendMrk8(final StringBuilder sb, final String datafield) {
+        final int len = datafield.length();
+        int start = 0;
+        for (int i = 0; i < len; i++) {
+            final char c = datafield.charAt(i);
+            if (c < 0x80 && TO_MRK8[c] != null) {
+                sb.append(datafield, start, i).append(TO_MRK8[c]);
+                start = i + 1;
             }
         }
-//        int maxlen = "DoubleLongLeftRightArrow".length() + 2;
-        String lookupVal = mrk8Map.get(toLookup);
-        if (lookupVal == null) {
-//            if (toLookup.matches("[{][A-Za-z0-9]*[}]") && toLookup.length() < maxlen) {
-//                lookupVal = toLookup.replace('{', '&').replace('}', ';');
-//            }
-//            else {
-                lookupVal = toLookup;
-//            }
-        }
-        return(lookupVal);
+        sb.append(datafield, start, len);
     }
 
     private static String translate(String s) {
@@ -125,7 +146,83 @@ public class Mrk8TranslationTable  {
         return 0;
     }
 
-    private static Map<String, String> mrk8Map = null;
+    /**
+     * The mnemonics of the table, without their curly braces, indexed by their first character and sorted, along
+     * with the characters they stand for. It is built the first time a mnemonic is looked up.
+     */
+    private static class Mnemonics {
+
+        private static final String[][] NAMES = new String[0x80][];
+
+        private static final String[][] TRANSLATIONS = new String[0x80][];
+
+        static {
+            // a later entry for the same mnemonic replaces an earlier one
+            final Map<String, String> sorted = new TreeMap<String, String>();
+            for (final String[] entry : mrk8Table) {
+                sorted.put(entry[0].substring(1, entry[0].length() - 1), translate(entry[1]));
+            }
+
+            final List<List<String>> names = new ArrayList<List<String>>();
+            final List<List<String>> translations = new ArrayList<List<String>>();
+            for (int c = 0; c < 0x80; c++) {
+                names.add(new ArrayList<String>());
+                translations.add(new ArrayList<String>());
+            }
+            for (final Map.Entry<String, String> entry : sorted.entrySet()) {
+                final char c = entry.getKey().charAt(0);
+                names.get(c).add(entry.getKey());
+                translations.get(c).add(entry.getValue());
+            }
+            for (int c = 0; c < 0x80; c++) {
+                if (!names.get(c).isEmpty()) {
+                    NAMES[c] = names.get(c).toArray(new String[0]);
+                    TRANSLATIONS[c] = translations.get(c).toArray(new String[0]);
+                }
+            }
+        }
+
+        /**
+         * Returns the characters the mnemonic between the supplied positions stands for, or <code>null</code> if it
+         * is not in the table.
+         */
+        static String lookup(final String data, final int start, final int end) {
+            if (start == end || data.charAt(start) >= 0x80 || NAMES[data.charAt(start)] == null) {
+                return null;
+            }
+
+            final String[] names = NAMES[data.charAt(start)];
+            int low = 0;
+            int high = names.length - 1;
+            while (low <= high) {
+                final int mid = (low + high) >>> 1;
+                final int cmp = compare(names[mid], data, start, end);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return TRANSLATIONS[data.charAt(start)][mid];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Compares the supplied name with the characters between the supplied positions, as
+         * {@link String#compareTo(String)} would.
+         */
+        private static int compare(final String name, final String data, final int start, final int end) {
+            final int length = Math.min(name.length(), end - start);
+            for (int i = 0; i < length; i++) {
+                final int cmp = name.charAt(i) - data.charAt(start + i);
+                if (cmp != 0) {
+                    return cmp;
+                }
+            }
+            return name.length() - (end - start);
+        }
+    }
 
     private final static String[][] mrk8Table = {
         {"{0}", "30x" },  // zero
@@ -0,0 +1,280 @@
+package org.marc4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.marc4j.converter.CharConverter;
+import org.marc4j.marc.Record;
+
+/**
+ * A {@link MarcWriter} that serializes records on a pool of worker threads and writes the results to the output
+ * stream in the order the records were handed to it. The serializing, which includes any character conversion such
+ * as {@link org.marc4j.converter.impl.UnicodeToAnsel}, is done by writers created with the supplied
+ * {@link WriterFactory}, one for each worker thread, each writing to a buffer of its own.
+ * <p>
+ * The following example converts UTF-8 records to MARC-8 on all available processors:
+ * </p>
+ *
+ * <pre>
+ * MarcWriter writer = new ParallelMarcWriter(output, new ParallelMarcWriter.WriterFactory() {
+ *
+ *     public MarcWriter newWriter(OutputStream out) {
+ *         MarcStreamWriter writer = new MarcStreamWriter(out, &quot;ISO8859_1&quot;, true);
+ *         writer.setConverter(new UnicodeToAnsel());
+ *         return writer;
+ *     }
+ * });
+ * while (reader.hasNext()) {
+ *     writer.write(reader.next());
+ * }
+ * writer.close();
+ * </pre>
+ * <p>
+ * The output of each created writer for a single record must stand on its own, as it does for
+ * {@link MarcStreamWriter}, {@link MarcTxtWriter} and {@link Mrk8StreamWriter}; writers that wrap their records in a
+ * document, such as {@link MarcXmlWriter}, are not suited to this. A record must not be changed once it has been
+ * handed to {@link #write(Record)}, since it is serialized later on another thread. Errors raised while serializing a
+ * record are thrown by the call to {@link #write(Record)}, {@link #flush()} or {@link #close()} that writes it out.
+ * The writer itself is meant to be used from a single thread.
+ * </p>
+ */
+public class ParallelMarcWriter implements MarcWriter, Flushable {
+
+    /**
+     * Creates the writers that serialize the records, one for each worker thread.
+     */
+    public interface WriterFactory {
+
+        /**
+         * Returns a new writer that writes to the supplied output stream.
+         *
+         * @param out - the output stream to write to
+         * @return the new writer
+         */
+        public MarcWriter newWriter(OutputStream out);
+    }
+
+    private static final AtomicInteger poolNumber = new AtomicInteger();
+
+    private final OutputStream out;
+
+    private final WriterFactory factory;
+
+    private final ExecutorService executor;
+
+    private final ThreadLocal<Encoder> encoders = new ThreadLocal<Encoder>();
+
+    private final ArrayDeque<Future<byte[]>> pending = new ArrayDeque<Future<byte[]>>();
+
+    private final int maxPending;
+
+    private CharConverter converter = null;
+
+    private boolean converterSet = false;
+
+    private boolean closed = false;
+
+    /**
+     * Constructs a writer with a worker thread for each available processor.
+     *
+     * @param out - the output stream to write to
+     * @param factory - the factory for the writers that serialize the records
+     */
+    public ParallelMarcWriter(final OutputStream out, final WriterFactory factory) {
+        this(out, factory, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a writer with the supplied number of worker threads.
+     *
+     * @param out - the output stream to write to
+     * @param factory - the factory for the writers that serialize the records
+     * @param threads - the number of worker threads
+     */
+    public ParallelMarcWriter(final OutputStream out, final WriterFactory factory, final int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("The number of threads must be at least 1: " + threads);
+        }
+        this.out = out;
+        this.factory = factory;
+        this.maxPending = threads * 4;
+
+        final String prefix = "marc4j-writer-" + poolNumber.incrementAndGet() + "-";
+        executor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+
+            private final AtomicInteger threadNumber = new AtomicInteger();
+
+            @Override
+            public Thread newThread(final Runnable task) {
+                final Thread thread = new Thread(task, prefix + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * Hands the supplied record to a worker thread and writes out the records serialized so far, in order. This
+     * waits for the oldest record when too many are outstanding.
+     *
+     * @param record - the record to write
+     */
+    @Override
+    public void write(final Record record) {
+        if (closed) {
+            throw new MarcException("The writer has been closed");
+        }
+        while (pending.size() >= maxPending) {
+            writeNext();
+        }
+        // the record is encoded with the converter set when it was handed over
+        final boolean setConverter = converterSet;
+        final CharConverter recordConverter = converter;
+        pending.add(executor.submit(new Callable<byte[]>() {
+
+            @Override
+            public byte[] call() {
+                return getEncoder().encode(record, setConverter, recordConverter);
+            }
+        }));
+        while (!pending.isEmpty() && pending.peek().isDone()) {
+            writeNext();
+        }
+    }
+
+    /**
+     * Waits for all the records handed to the writer so far, writes them out and flushes the output stream.
+     */
+    @Override
+    public void flush() {
+        while (!pending.isEmpty()) {
+            writeNext();
+        }
+        try {
+            out.flush();
+        } catch (final IOException e) {
+            throw new MarcException("IO Error occured while writing record", e);
+        }
+    }
+
+    /**
+     * Writes out the outstanding records, stops the worker threads and closes the output stream.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        try {
+            flush();
+        } finally {
+            closed = true;
+            for (final Future<byte[]> future : pending) {
+                future.cancel(false);
+            }
+            pending.clear();
+            executor.shutdown();
+            try {
+                out.close();
+            } catch (final IOException e) {
+                throw new MarcException("IO Error occured on close", e);
+            }
+        }
+    }
+
+    /**
+     * Returns the character converter set on this writer, or <code>null</code> if the created writers use their own.
+     *
+     * @return the character converter
+     */
+    @Override
+    public CharConverter getConverter() {
+        return converter;
+    }
+
+    /**
+     * Sets the character converter of the writers that serialize the records. The converter is shared by the worker
+     * threads, so it must be safe to use from several threads at once; otherwise, set a converter of its own on each
+     * writer in the {@link WriterFactory}. Records handed to the writer before this call are still serialized with
+     * the converter that was set when they were handed over.
+     *
+     * @param converter - the character converter
+     */
+    @Override
+    public void setConverter(final CharConverter converter) {
+        this.converter = converter;
+        converterSet = true;
+    }
+
+    /**
+     * Whether the created writers expect the records passed in to be encoded in Unicode.
+     */
+    @Override
+    public boolean expectsUnicode() {
+        final MarcWriter writer = factory.newWriter(new ByteArrayOutputStream());
+        if (converterSet) {
+            writer.setConverter(converter);
+        }
+        return writer.expectsUnicode();
+    }
+
+    private void writeNext() {
+        final Future<byte[]> future = pending.remove();
+        final byte[] bytes;
+        try {
+            bytes = future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MarcException("Interrupted while waiting for a record to be serialized", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new MarcException("Error occured while serializing a record", e.getCause());
+        }
+        try {
+            out.write(bytes);
+        } catch (final IOException e) {
+            throw new MarcException("IO Error occured while writing record", e);
+        }
+    }
+
+    private Encoder getEncoder() {
+        Encoder encoder = encoders.get();
+        if (encoder == null) {
+            encoder = new Encoder();
+            encoders.set(encoder);
+        }
+        return encoder;
+    }
+
+    /**
+     * The writer of a worker thread and the buffer it writes to.
+     */
+    private class Encoder {
+
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(8192);
+
+        private final MarcWriter writer = factory.newWriter(buffer);
+
+        byte[] encode(final Record record, final boolean setConverter, final CharConverter converter) {
+            if (setConverter && writer.getConverter() != converter) {
+                writer.setConverter(converter);
+            }
+            buffer.reset();
+            writer.write(record);
+            return buffer.toByteArray();
+        }
+    }
+
+}
@@ -0,0 +1,160 @@
+package org.marc4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.marc4j.marc.Record;
+
+/**
+ * Serializes single records to bytes, for storing each record on its own, such as MARCXML or MARC-JSON in a search
+ * index. Each thread that uses a serializer gets a writer and buffer of its own, created once with the supplied
+ * {@link org.marc4j.ParallelMarcWriter.WriterFactory WriterFactory} and reused for every record that thread
+ * serializes, so a serializer can be shared by any number of threads without setting up a writer for each record.
+ * <p>
+ * The following example stores each record as a MARCXML document of its own:
+ * </p>
+ *
+ * <pre>
+ * RecordSerializer serializer = RecordSerializer.marcXml(false, false);
+ * while (reader.hasNext()) {
+ *     Record record = reader.next();
+ *     index.store(record.getControlNumber(), serializer.toBytes(record));
+ * }
+ * </pre>
+ * <p>
+ * As with {@link ParallelMarcWriter}, the output of the created writers for a single record must stand on its own.
+ * The writers and buffers stay with their threads until the serializer is no longer referenced, so a serializer is
+ * best owned by the code that uses it rather than kept in a static field that pooled threads reach for the life of
+ * the application. A thread keeps a buffer of at most twice {@link #MAX_RETAINED_SIZE} bytes: once a record
+ * serializes to more than that, the thread's writer and buffer are dropped after the record and created anew for the
+ * next one.
+ * </p>
+ */
+public class RecordSerializer {
+
+    /** The size of a serialized record above which a thread does not keep its writer and buffer. */
+    public static final int MAX_RETAINED_SIZE = 64 * 1024;
+
+    private final ParallelMarcWriter.WriterFactory factory;
+
+    private final ThreadLocal<Encoder> encoders = new ThreadLocal<Encoder>();
+
+    /**
+     * Constructs a serializer that serializes the records with writers created by the supplied factory.
+     *
+     * @param factory - the factory for the writers that serialize the records
+     */
+    public RecordSerializer(final ParallelMarcWriter.WriterFactory factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Returns a serializer that writes each record as a MARCXML document of its own, as
+     * {@link MarcXmlWriter#writeSingleRecord(Record, OutputStream, boolean, boolean)} does.
+     *
+     * @param encode - if the text should be converted from Ansel to Unicode
+     * @param indent - whether the output XML should be indented
+     * @return the serializer
+     */
+    public static RecordSerializer marcXml(final boolean encode, final boolean indent) {
+        return new RecordSerializer(new ParallelMarcWriter.WriterFactory() {
+
+            @Override
+            public MarcWriter newWriter(final OutputStream out) {
+                return MarcXmlWriter.newSingleRecordWriter(out, encode, indent);
+            }
+        });
+    }
+
+    /**
+     * Returns a serializer that writes each record as a JSON object in the supplied format.
+     *
+     * @param jsonFormat - {@link MarcJsonWriter#MARC_IN_JSON} or {@link MarcJsonWriter#MARC_JSON}
+     * @param indent - whether the output JSON should be indented
+     * @return the serializer
+     */
+    public static RecordSerializer marcJson(final int jsonFormat, final boolean indent) {
+        return new RecordSerializer(new ParallelMarcWriter.WriterFactory() {
+
+            @Override
+            public MarcWriter newWriter(final OutputStream out) {
+                final MarcJsonWriter writer = new MarcJsonWriter(out, jsonFormat);
+                writer.setIndent(indent);
+                return writer;
+            }
+        });
+    }
+
+    /**
+     * Returns the supplied record serialized.
+     *
+     * @param record - the record to serialize
+     * @return the serialized record
+     */
+    public byte[] toBytes(final Record record) {
+        final Encoder encoder = getEncoder();
+        try {
+            return encoder.encode(record).toByteArray();
+        } finally {
+            release(encoder);
+        }
+    }
+
+    /**
+     * Writes the supplied record serialized to the supplied output stream, such as a buffer of the caller.
+     *
+     * @param record - the record to serialize
+     * @param out - the output stream to write to
+     */
+    public void write(final Record record, final OutputStream out) {
+        final Encoder encoder = getEncoder();
+        try {
+            encoder.encode(record).writeTo(out);
+        } catch (final IOException e) {
+            throw new MarcException("IO Error occured while writing record", e);
+        } finally {
+            release(encoder);
+        }
+    }
+
+    private Encoder getEncoder() {
+        Encoder encoder = encoders.get();
+        if (encoder == null) {
+            encoder = new Encoder();
+            encoders.set(encoder);
+        }
+        return encoder;
+    }
+
+    /**
+     * Drops the writer and buffer of the current thread if the buffer has grown too large to keep, or if the record
+     * could not be written and the writer may be left in an unknown state.
+     */
+    private void release(final Encoder encoder) {
+        if (!encoder.completed || encoder.buffer.size() > MAX_RETAINED_SIZE) {
+            encoders.remove();
+        }
+    }
+
+    /**
+     * The writer of a thread and the buffer it writes to.
+     */
+    private class Encoder {
+
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(8192);
+
+        private final MarcWriter writer = factory.newWriter(buffer);
+
+        private boolean completed = false;
+
+        ByteArrayOutputStream encode(final Record record) {
+            completed = false;
+            buffer.reset();
+            writer.write(record);
+            completed = true;
+            return buffer;
+        }
+    }
+
+}
@@ -0,0 +1,564 @@
+package org.marc4j;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.marc4j.converter.CharConverter;
+import org.marc4j.marc.ControlField;
+import org.marc4j.marc.DataField;
+import org.marc4j.marc.Record;
+import org.marc4j.marc.VariableField;
+
+/**
+ * A {@link MarcWriter} that routes each record to one of several outputs, or shards, chosen by a {@link Partitioner}:
+ * by a hash of a key, by the range a key falls in, or by rolling over to the next shard after a number of records or
+ * bytes. Each shard has a writer of its own, created with the supplied
+ * {@link org.marc4j.ParallelMarcWriter.WriterFactory WriterFactory} on an output stream opened by the supplied
+ * {@link OutputFactory} the first time a record is routed to it, so the shards can be binary MARC, MARCXML or JSON.
+ * <p>
+ * The following example writes the records to eight MARCXML files, balanced by a hash of their control numbers:
+ * </p>
+ *
+ * <pre>
+ * MarcWriter writer = new ShardingMarcWriter(ShardingMarcWriter.files(&quot;records-%02d.xml&quot;),
+ *         new ParallelMarcWriter.WriterFactory() {
+ *
+ *             public MarcWriter newWriter(OutputStream out) {
+ *                 return new MarcXmlWriter(out, true);
+ *             }
+ *         }, ShardingMarcWriter.byHash(&quot;001&quot;, 8));
+ * while (reader.hasNext()) {
+ *     writer.write(reader.next());
+ * }
+ * writer.close();
+ * </pre>
+ * <p>
+ * With worker threads, each shard is written on a thread of its own, in the order its records were handed to
+ * {@link #write(Record)}; a record must then not be changed once it has been written. Errors raised on a worker
+ * thread are thrown by a later call to {@link #write(Record)} or by {@link #close()}. The writer itself is meant to be
+ * used from a single thread.
+ * </p>
+ */
+public class ShardingMarcWriter implements MarcWriter {
+
+    /**
+     * Opens the output stream of a shard.
+     */
+    public interface OutputFactory {
+
+        /**
+         * Returns a new output stream for the supplied shard.
+         *
+         * @param shard - the number of the shard, from 0
+         * @return the output stream to write the shard to
+         * @throws IOException if the output stream cannot be opened
+         */
+        public OutputStream newOutput(int shard) throws IOException;
+    }
+
+    /**
+     * Chooses the shard a record is written to.
+     */
+    public interface Partitioner {
+
+        /**
+         * Returns the shard the supplied record is written to.
+         *
+         * @param record - the record to write
+         * @param writer - the writer, which tells how much has been written to each shard so far
+         * @return the number of the shard, from 0
+         */
+        public int partition(Record record, ShardingMarcWriter writer);
+    }
+
+    private static final int QUEUED_RECORDS = 256;
+
+    private static final AtomicInteger poolNumber = new AtomicInteger();
+
+    private final OutputFactory outputs;
+
+    private final ParallelMarcWriter.WriterFactory factory;
+
+    private final Partitioner partitioner;
+
+    private final boolean workerThreads;
+
+    private final String threadPrefix = "marc4j-shard-" + poolNumber.incrementAndGet() + "-";
+
+    private final Map<Integer, Shard> shards = new HashMap<Integer, Shard>();
+
+    private CharConverter converter = null;
+
+    private boolean converterSet = false;
+
+    private boolean closed = false;
+
+    /**
+     * Constructs a writer that writes the shards on the calling thread.
+     *
+     * @param outputs - the factory for the output streams of the shards
+     * @param factory - the factory for the writers of the shards
+     * @param partitioner - chooses the shard of each record
+     */
+    public ShardingMarcWriter(final OutputFactory outputs, final ParallelMarcWriter.WriterFactory factory,
+            final Partitioner partitioner) {
+        this(outputs, factory, partitioner, false);
+    }
+
+    /**
+     * Constructs a writer that writes each shard on a worker thread of its own if <code>workerThreads</code> is
+     * <code>true</code>.
+     *
+     * @param outputs - the factory for the output streams of the shards
+     * @param factory - the factory for the writers of the shards
+     * @param partitioner - chooses the shard of each record
+     * @param workerThreads - true to write each shard on a thread of its own
+     */
+    public ShardingMarcWriter(final OutputFactory outputs, final ParallelMarcWriter.WriterFactory factory,
+            final Partitioner partitioner, final boolean workerThreads) {
+        this.outputs = outputs;
+        this.factory = factory;
+        this.partitioner = partitioner;
+        this.workerThreads = workerThreads;
+    }
+
+    /**
+     * Returns an {@link OutputFactory} that writes each shard to a file, named by formatting the shard number with the
+     * supplied pattern, such as <code>"records-%02d.mrc"</code>.
+     *
+     * @param pattern - the pattern of the file names, as for {@link String#format(String, Object...)}
+     * @return the output factory
+     */
+    public static OutputFactory files(final String pattern) {
+        return new OutputFactory() {
+
+            @Override
+            public OutputStream newOutput(final int shard) throws IOException {
+                return new BufferedOutputStream(new FileOutputStream(String.format(pattern, shard)));
+            }
+        };
+    }
+
+    /**
+     * Returns a {@link Partitioner} that spreads the records over the supplied number of shards by a hash of their
+     * key, so a key always goes to the same shard.
+     *
+     * @param keySpec - the key, as a tag optionally followed by subfield codes, such as <code>"001"</code> or
+     *        <code>"035a"</code>; see {@link #getKey(Record, String)}
+     * @param shardCount - the number of shards
+     * @return the partitioner
+     */
+    public static Partitioner byHash(final String keySpec, final int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("The number of shards must be at least 1: " + shardCount);
+        }
+
+        return new Partitioner() {
+
+            @Override
+            public int partition(final Record record, final ShardingMarcWriter writer) {
+                final int hash = getKey(record, keySpec).hashCode();
+                return Math.floorMod(hash ^ hash >>> 16, shardCount);
+            }
+        };
+    }
+
+    /**
+     * Returns a {@link Partitioner} that sends the records to shards by the range their key falls in. Records with a
+     * key before the first bound go to shard 0, those from the first bound up to the second to shard 1, and so on, so
+     * there is one more shard than there are bounds.
+     *
+     * @param keySpec - the key, as a tag optionally followed by subfield codes; see {@link #getKey(Record, String)}
+     * @param bounds - the lower bounds of the keys of shards 1 and up, in ascending order
+     * @return the partitioner
+     */
+    public static Partitioner byRange(final String keySpec, final String... bounds) {
+        final String[] sorted = bounds.clone();
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i - 1].compareTo(sorted[i]) >= 0) {
+                throw new IllegalArgumentException("The bounds are not in ascending order: " + sorted[i - 1] + ", " +
+                        sorted[i]);
+            }
+        }
+
+        return new Partitioner() {
+
+            @Override
+            public int partition(final Record record, final ShardingMarcWriter writer) {
+                final int index = Arrays.binarySearch(sorted, getKey(record, keySpec));
+                return index >= 0 ? index + 1 : -index - 1;
+            }
+        };
+    }
+
+    /**
+     * Returns a {@link Partitioner} that fills one shard after the other with the supplied number of records. Each
+     * full shard is closed.
+     *
+     * @param recordsPerShard - the number of records in each shard
+     * @return the partitioner
+     */
+    public static Partitioner byCount(final long recordsPerShard) {
+        if (recordsPerShard < 1) {
+            throw new IllegalArgumentException("The number of records must be at least 1: " + recordsPerShard);
+        }
+
+        return new Partitioner() {
+
+            private int current = 0;
+
+            @Override
+            public int partition(final Record record, final ShardingMarcWriter writer) {
+                if (writer.getRecordCount(current) >= recordsPerShard) {
+                    writer.closeShard(current++);
+                }
+                return current;
+            }
+        };
+    }
+
+    /**
+     * Returns a {@link Partitioner} that fills one shard after the other, moving on to the next once the supplied
+     * number of bytes has been written to the current one. Each full shard is closed. With worker threads, or a shard
+     * writer that buffers its output, a shard can go somewhat over the size before this is noticed.
+     *
+     * @param bytesPerShard - the number of bytes after which a shard is full
+     * @return the partitioner
+     */
+    public static Partitioner bySize(final long bytesPerShard) {
+        if (bytesPerShard < 1) {
+            throw new IllegalArgumentException("The number of bytes must be at least 1: " + bytesPerShard);
+        }
+
+        return new Partitioner() {
+
+            private int current = 0;
+
+            @Override
+            public int partition(final Record record, final ShardingMarcWriter writer) {
+                if (writer.getBytesWritten(current) >= bytesPerShard) {
+                    writer.closeShard(current++);
+                }
+                return current;
+            }
+        };
+    }
+
+    /**
+     * Returns the key of the supplied record for the supplied key specification: a tag, such as <code>"001"</code>,
+     * followed by the codes of the subfields to use for a data field, such as <code>"035a"</code>. The key is the data
+     * of the first field with the tag, or the data of its subfields with the codes, or all its subfields if there are
+     * no codes, run together. A record without such a field or subfields has the empty string as its key.
+     *
+     * @param record - the record
+     * @param keySpec - the key specification
+     * @return the key
+     */
+    public static String getKey(final Record record, final String keySpec) {
+        final VariableField field = record.getVariableField(keySpec.substring(0, 3));
+        String key = null;
+
+        if (field instanceof ControlField) {
+            key = ((ControlField) field).getData();
+        } else if (field instanceof DataField) {
+            key = ((DataField) field).getSubfieldsAsString(keySpec.substring(3));
+        }
+
+        return key == null ? "" : key;
+    }
+
+    /**
+     * Writes the supplied record to the shard the partitioner chooses.
+     *
+     * @param record - the record to write
+     */
+    @Override
+    public void write(final Record record) {
+        if (closed) {
+            throw new MarcException("The writer has been closed");
+        }
+
+        final int index = partitioner.partition(record, this);
+        Shard shard = shards.get(index);
+
+        if (shard == null) {
+            shard = new Shard(index);
+            shards.put(index, shard);
+        } else if (shard.writer == null) {
+            throw new MarcException("Shard " + index + " has been closed");
+        }
+
+        shard.write(record);
+    }
+
+    /**
+     * Returns the number of records routed to the supplied shard so far, including any still waiting for a worker
+     * thread.
+     *
+     * @param shard - the number of the shard
+     * @return the number of records
+     */
+    public long getRecordCount(final int shard) {
+        final Shard s = shards.get(shard);
+        return s == null ? 0 : s.records;
+    }
+
+    /**
+     * Returns the number of bytes written to the output stream of the supplied shard so far.
+     *
+     * @param shard - the number of the shard
+     * @return the number of bytes
+     */
+    public long getBytesWritten(final int shard) {
+        final Shard s = shards.get(shard);
+        return s == null ? 0 : s.output.count.get();
+    }
+
+    /**
+     * Closes the writer of the supplied shard, after any records still waiting for its worker thread have been
+     * written. No more records may be routed to the shard.
+     *
+     * @param shard - the number of the shard
+     */
+    public void closeShard(final int shard) {
+        final Shard s = shards.get(shard);
+        if (s != null) {
+            s.close();
+        }
+    }
+
+    /**
+     * Closes the writers of all the shards.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        MarcException error = null;
+        for (final Shard shard : shards.values()) {
+            try {
+                shard.close();
+            } catch (final MarcException e) {
+                if (error == null) {
+                    error = e;
+                }
+            }
+        }
+
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    /**
+     * Returns the character converter set on this writer, or <code>null</code> if the created writers use their own.
+     *
+     * @return the character converter
+     */
+    @Override
+    public CharConverter getConverter() {
+        return converter;
+    }
+
+    /**
+     * Sets the character converter of the writers of the shards, including those already open. With worker threads
+     * the converter is handed to each open shard's thread behind the records already waiting for it, so it applies
+     * to the records written from now on; it is shared by the threads, so it must be safe to use from several
+     * threads at once.
+     *
+     * @param converter - the character converter
+     */
+    @Override
+    public void setConverter(final CharConverter converter) {
+        this.converter = converter;
+        converterSet = true;
+
+        for (final Shard shard : shards.values()) {
+            if (shard.writer != null) {
+                shard.setConverter(converter);
+            }
+        }
+    }
+
+    /**
+     * Whether the created writers expect the records passed in to be encoded in Unicode.
+     */
+    @Override
+    public boolean expectsUnicode() {
+        final MarcWriter writer = factory.newWriter(new ByteArrayOutputStream());
+        if (converterSet) {
+            writer.setConverter(converter);
+        }
+        return writer.expectsUnicode();
+    }
+
+    /**
+     * The writer of a shard, and its worker thread.
+     */
+    private class Shard {
+
+        private final int index;
+
+        private final CountingOutputStream output;
+
+        private MarcWriter writer;
+
+        private long records = 0;
+
+        private ExecutorService executor;
+
+        private Semaphore queued;
+
+        private volatile RuntimeException error;
+
+        Shard(final int index) {
+            this.index = index;
+
+            try {
+                output = new CountingOutputStream(outputs.newOutput(index));
+            } catch (final IOException e) {
+                throw new MarcException("IO Error occured while opening shard " + index, e);
+            }
+
+            writer = factory.newWriter(output);
+            if (converterSet) {
+                writer.setConverter(converter);
+            }
+
+            if (workerThreads) {
+                queued = new Semaphore(QUEUED_RECORDS);
+                executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+
+                    @Override
+                    public Thread newThread(final Runnable task) {
+                        final Thread thread = new Thread(task, threadPrefix + index);
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+            }
+        }
+
+        void write(final Record record) {
+            records++;
+
+            if (executor == null) {
+                writer.write(record);
+                return;
+            }
+
+            checkError();
+            try {
+                queued.acquire();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MarcException("Interrupted while waiting to write to shard " + index, e);
+            }
+
+            executor.execute(new Runnable() {
+
+                @Override
+                public void run() {
+                    try {
+                        if (error == null) {
+                            writer.write(record);
+                        }
+                    } catch (final RuntimeException e) {
+                        error = e;
+                    } finally {
+                        queued.release();
+                    }
+                }
+            });
+        }
+
+        void setConverter(final CharConverter converter) {
+            if (executor == null) {
+                writer.setConverter(converter);
+                return;
+            }
+
+            // the writer belongs to the worker thread, so the change is queued like a record
+            executor.execute(new Runnable() {
+
+                @Override
+                public void run() {
+                    writer.setConverter(converter);
+                }
+            });
+        }
+
+        void close() {
+            if (writer == null) {
+                return;
+            }
+
+            try {
+                if (executor != null) {
+                    executor.shutdown();
+                    try {
+                        while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                            // keep waiting for the queued records
+                        }
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new MarcException("Interrupted while closing shard " + index, e);
+                    }
+                    checkError();
+                }
+            } finally {
+                final MarcWriter closing = writer;
+                writer = null;
+                closing.close();
+            }
+        }
+
+        private void checkError() {
+            if (error != null) {
+                throw error;
+            }
+        }
+    }
+
+    /**
+     * Counts the bytes written to a shard.
+     */
+    private static class CountingOutputStream extends FilterOutputStream {
+
+        private final AtomicLong count = new AtomicLong();
+
+        CountingOutputStream(final OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            out.write(b);
+            count.incrementAndGet();
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            out.write(b, off, len);
+            count.addAndGet(len);
+        }
+    }
+
+}
@@ -0,0 +1,248 @@
+package org.marc4j;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.marc4j.converter.CharConverter;
+import org.marc4j.marc.ControlField;
+import org.marc4j.marc.DataField;
+import org.marc4j.marc.Leader;
+import org.marc4j.marc.MarcFactory;
+import org.marc4j.marc.Record;
+import org.marc4j.marc.Subfield;
+
+/**
+ * A {@link MarcWriter} that writes each record to several writers, so that one pass over the input can produce, for
+ * example, binary MARC, MARCXML and JSON at once. The preparation the outputs share, character conversion, Unicode
+ * normalization and validation, is done once for each record by this writer, and the prepared record is handed to
+ * every target writer; with worker threads, each target serializes on a thread of its own. The targets share the
+ * fields of the prepared record, but each gets a leader of its own, since writers such as {@link MarcStreamWriter}
+ * set the record length and base address in the leader as they write.
+ * <p>
+ * The following example writes UTF-8 binary MARC and MARCXML from MARC-8 records, converting each record once:
+ * </p>
+ *
+ * <pre>
+ * TeeMarcWriter writer = new TeeMarcWriter(new MarcStreamWriter(mrcOut, &quot;UTF-8&quot;), new MarcXmlWriter(xmlOut, true));
+ * writer.setConverter(new AnselToUnicode());
+ * writer.setUnicodeNormalization(true);
+ * while (reader.hasNext()) {
+ *     writer.write(reader.next());
+ * }
+ * writer.close();
+ * </pre>
+ * <p>
+ * The target writers should not have a converter or normalization of their own, since the records they get are
+ * already prepared. With worker threads, a record must not be changed once it has been written, and errors raised by
+ * a target are thrown by a later call to {@link #write(Record)} or by {@link #close()}. The writer itself is meant to
+ * be used from a single thread.
+ * </p>
+ */
+public class TeeMarcWriter implements MarcWriter {
+
+    private final List<MarcWriter> writers = new ArrayList<MarcWriter>();
+
+    private final MarcFactory factory = MarcFactory.newInstance();
+
+    private CharConverter converter = null;
+
+    private boolean normalize = false;
+
+    private boolean validate = false;
+
+    private boolean closed = false;
+
+    /**
+     * Constructs a writer that writes to each of the supplied writers on a worker thread of its own.
+     *
+     * @param writers - the writers to write the records to
+     */
+    public TeeMarcWriter(final MarcWriter... writers) {
+        this(true, writers);
+    }
+
+    /**
+     * Constructs a writer that writes to the supplied writers, each on a worker thread of its own if
+     * <code>workerThreads</code> is <code>true</code>, or one after the other on the calling thread otherwise.
+     *
+     * @param workerThreads - true to write to each writer on a thread of its own
+     * @param writers - the writers to write the records to
+     */
+    public TeeMarcWriter(final boolean workerThreads, final MarcWriter... writers) {
+        if (writers.length == 0) {
+            throw new IllegalArgumentException("At least one writer is needed");
+        }
+        for (final MarcWriter writer : writers) {
+            this.writers.add(workerThreads ? new AsyncMarcWriter(writer) : writer);
+        }
+    }
+
+    /**
+     * Prepares the supplied record and writes it to each of the writers.
+     *
+     * @param record - the record to write
+     */
+    @Override
+    public void write(final Record record) {
+        if (closed) {
+            throw new MarcException("The writer has been closed");
+        }
+        if (validate && !factory.validateRecord(record)) {
+            throw new MarcException("Invalid record: " + record.getControlNumber());
+        }
+
+        final Record prepared = prepare(record);
+        for (final MarcWriter writer : writers) {
+            writer.write(withOwnLeader(prepared));
+        }
+    }
+
+    /**
+     * Closes each of the writers, after any records still waiting for their worker threads have been written.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        RuntimeException error = null;
+        for (final MarcWriter writer : writers) {
+            try {
+                writer.close();
+            } catch (final RuntimeException e) {
+                if (error == null) {
+                    error = e;
+                }
+            }
+        }
+
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    /**
+     * Returns the character converter applied to the records before they are handed to the writers.
+     *
+     * @return the character converter
+     */
+    @Override
+    public CharConverter getConverter() {
+        return converter;
+    }
+
+    /**
+     * Sets the character converter applied once to each record before it is handed to the writers.
+     *
+     * @param converter - the character converter
+     */
+    @Override
+    public void setConverter(final CharConverter converter) {
+        this.converter = converter;
+    }
+
+    /**
+     * Performs Unicode normalization (NFC) on the data of each record before it is handed to the writers.
+     *
+     * @param normalize - true if this writer performs Unicode normalization, false otherwise
+     */
+    public void setUnicodeNormalization(final boolean normalize) {
+        this.normalize = normalize;
+    }
+
+    /**
+     * Returns true if this writer performs Unicode normalization, false otherwise.
+     *
+     * @return Returns true if this writer performs Unicode normalization, false otherwise.
+     */
+    public boolean getUnicodeNormalization() {
+        return normalize;
+    }
+
+    /**
+     * Checks each record with {@link MarcFactory#validateRecord(Record)} before writing it, and throws a
+     * {@link MarcException} for an invalid record instead of handing it to any of the writers.
+     *
+     * @param validate - true to validate the records, false (default) otherwise
+     */
+    public void setValidation(final boolean validate) {
+        this.validate = validate;
+    }
+
+    /**
+     * Returns true if this writer validates the records, false otherwise.
+     *
+     * @return true if this writer validates the records
+     */
+    public boolean getValidation() {
+        return validate;
+    }
+
+    /**
+     * Whether the writer expects the records passed in to be encoded in Unicode.
+     */
+    @Override
+    public boolean expectsUnicode() {
+        return converter != null ? !converter.outputsUnicode() : writers.get(0).expectsUnicode();
+    }
+
+    /**
+     * Returns a copy of the supplied record with its data converted and normalized, or the record itself if there is
+     * nothing to do.
+     */
+    private Record prepare(final Record record) {
+        if (converter == null && !normalize) {
+            return record;
+        }
+
+        final Record copy = factory.deepCopy(record);
+        if (converter != null && copy.getLeader() != null) {
+            copy.getLeader().setCharCodingScheme(converter.outputsUnicode() ? 'a' : ' ');
+        }
+        for (final ControlField field : copy.getControlFields()) {
+            field.setData(transform(field.getData()));
+        }
+        for (final DataField field : copy.getDataFields()) {
+            for (final Subfield subfield : field.getSubfields()) {
+                subfield.setData(transform(subfield.getData()));
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Returns a record with a copy of the leader of the supplied record and the same field objects.
+     */
+    private Record withOwnLeader(final Record record) {
+        final Leader leader = record.getLeader();
+        final Record view = leader == null ? factory.newRecord()
+                : factory.newRecord(factory.newLeader(leader.toString()));
+
+        view.setId(record.getId());
+        view.setType(record.getType());
+        for (final ControlField field : record.getControlFields()) {
+            view.addVariableField(field);
+        }
+        for (final DataField field : record.getDataFields()) {
+            view.addVariableField(field);
+        }
+        if (record.hasErrors()) {
+            view.addErrors(record.getErrors());
+        }
+        return view;
+    }
+
+    private String transform(String data) {
+        if (converter != null) {
+            data = converter.convert(data);
+        }
+        if (normalize) {
+            data = Normalizer.normalize(data, Normalizer.Form.NFC);
+        }
+        return data;
+    }
+
+}
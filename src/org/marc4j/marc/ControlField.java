@@ -48,4 +48,57 @@ public interface ControlField extends VariableField {
      */
     public void setData(String data);
 
+    /**
+     * Returns the character at the supplied position of the data element,
+     * such as 008/06 (type of date). Positions beyond the end of the data are
+     * returned as blanks.
+     *
+     * @param position The position in the data element, starting at 0
+     * @return The character at the supplied position
+     */
+    default public char charAt(final int position) {
+        final String data = getData();
+        return data != null && position < data.length() ? data.charAt(position) : ' ';
+    }
+
+    /**
+     * Returns the number formed by the digits at the supplied positions of
+     * the data element, such as 008/07-10 (Date 1), or -1 if any of them is
+     * not a digit (for example 'u' for an unknown digit) or lies beyond the
+     * end of the data.
+     *
+     * @param start The position of the first digit
+     * @param length The number of digits
+     * @return The number, or -1
+     */
+    default public int intAt(final int start, final int length) {
+        int value = 0;
+        for (int i = start; i < start + length; i++) {
+            final char c = charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + c - '0';
+        }
+        return value;
+    }
+
+    /**
+     * Returns <code>true</code> if the data element contains the supplied
+     * value at the supplied position, such as "eng" at 008/35-37 (language);
+     * else, <code>false</code>.
+     *
+     * @param start The position the value should start at
+     * @param value The value to look for
+     * @return <code>true</code> if the value is found at the position
+     */
+    default public boolean matchesAt(final int start, final CharSequence value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (charAt(start + i) != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
 }
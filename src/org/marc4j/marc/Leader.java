@@ -187,6 +187,114 @@ public interface Leader extends Serializable {
      */
     public char[] getEntryMap();
 
+    /**
+     * Returns the character at the supplied position (00-23) of this leader,
+     * as it appears in {@link #marshal()}, without creating the string.
+     * Positions of implementation defined values or of the entry map that
+     * have not been set are returned as blanks.
+     *
+     * @param position the position in the leader
+     * @return <code>char</code>- the character at the supplied position
+     * @throws IndexOutOfBoundsException if the position is not between 0 and 23
+     */
+    default public char charAt(final int position) {
+        final char[] chars;
+        final int offset;
+        int value;
+        int digit;
+
+        if (position >= 0 && position <= 4) {
+            value = getRecordLength();
+            digit = 4 - position;
+        } else if (position >= 12 && position <= 16) {
+            value = getBaseAddressOfData();
+            digit = 16 - position;
+        } else {
+            switch (position) {
+                case 5:
+                    return getRecordStatus();
+                case 6:
+                    return getTypeOfRecord();
+                case 7:
+                case 8:
+                    chars = getImplDefined1();
+                    offset = position - 7;
+                    break;
+                case 9:
+                    return getCharCodingScheme();
+                case 10:
+                    return (char) ('0' + getIndicatorCount() % 10);
+                case 11:
+                    return (char) ('0' + getSubfieldCodeLength() % 10);
+                case 17:
+                case 18:
+                case 19:
+                    chars = getImplDefined2();
+                    offset = position - 17;
+                    break;
+                case 20:
+                case 21:
+                case 22:
+                case 23:
+                    chars = getEntryMap();
+                    offset = position - 20;
+                    break;
+                default:
+                    throw new IndexOutOfBoundsException("Leader position out of range: " + position);
+            }
+            return chars != null && offset < chars.length ? chars[offset] : ' ';
+        }
+        while (digit-- > 0) {
+            value /= 10;
+        }
+        return (char) ('0' + value % 10);
+    }
+
+    /**
+     * Returns the bibliographic level (position 07).
+     *
+     * @return <code>char</code>- the bibliographic level
+     */
+    default public char getBibliographicLevel() {
+        return charAt(7);
+    }
+
+    /**
+     * Returns the type of control (position 08).
+     *
+     * @return <code>char</code>- the type of control
+     */
+    default public char getTypeOfControl() {
+        return charAt(8);
+    }
+
+    /**
+     * Returns the encoding level (position 17).
+     *
+     * @return <code>char</code>- the encoding level
+     */
+    default public char getEncodingLevel() {
+        return charAt(17);
+    }
+
+    /**
+     * Returns the descriptive cataloging form (position 18).
+     *
+     * @return <code>char</code>- the descriptive cataloging form
+     */
+    default public char getDescriptiveCatalogingForm() {
+        return charAt(18);
+    }
+
+    /**
+     * Returns the multipart resource record level (position 19).
+     *
+     * @return <code>char</code>- the multipart resource record level
+     */
+    default public char getMultipartResourceRecordLevel() {
+        return charAt(19);
+    }
+
     /**
      * <p>
      * Creates a leader object from a string object.
@@ -26,7 +26,14 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.lang.ref.WeakReference;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.WeakHashMap;
+
+import org.marc4j.util.StringPool;
 
 /**
  * Factory for creating MARC record objects.
@@ -50,6 +57,62 @@ public abstract class MarcFactory {
 
     protected MarcFactory() {}
 
+    /**
+     * The factory class resolved from the properties file, the services
+     * resource or the default, cached per class loader.
+     */
+    private static final Map<ClassLoader, WeakReference<Class<?>>> factoryClassCache =
+            new WeakHashMap<ClassLoader, WeakReference<Class<?>>>();
+
+    /**
+     * The string pool given to factories when they are created.
+     */
+    private static volatile StringPool defaultStringPool;
+
+    private StringPool stringPool = defaultStringPool;
+
+    /**
+     * Sets the string pool that factories created from now on use for
+     * subfield data, or <code>null</code> for none. This also affects the
+     * factories that readers create internally.
+     *
+     * @param pool - the string pool, or <code>null</code>
+     */
+    public static void setDefaultStringPool(final StringPool pool) {
+        defaultStringPool = pool;
+    }
+
+    /**
+     * Returns the string pool that factories created from now on use, or
+     * <code>null</code> if there is none.
+     *
+     * @return the default string pool
+     */
+    public static StringPool getDefaultStringPool() {
+        return defaultStringPool;
+    }
+
+    /**
+     * Sets the string pool this factory uses for subfield data, so that equal
+     * values read from many records share a single instance. Set it to
+     * <code>null</code> to stop pooling.
+     *
+     * @param pool - the string pool, or <code>null</code>
+     */
+    public void setStringPool(final StringPool pool) {
+        this.stringPool = pool;
+    }
+
+    /**
+     * Returns the string pool this factory uses for subfield data, or
+     * <code>null</code> if it has none.
+     *
+     * @return the string pool
+     */
+    public StringPool getStringPool() {
+        return stringPool;
+    }
+
     /**
      * Creates a new factory instance. The implementation class to load is the
      * first found in the following locations:
@@ -62,6 +125,12 @@ public abstract class MarcFactory {
      * resource</li>
      * <li>the default factory class</li>
      * </ol>
+     * <p>
+     * The system property is consulted on every call, but the outcome of the
+     * lookup in the properties file and the services resource is remembered
+     * for each class loader. Call {@link #clearFactoryCache()} to force those
+     * locations to be read again.
+     * </p>
      * @return the MarcFactory to use for creating Records and their Fields
      */
     public static MarcFactory newInstance() {
@@ -71,24 +140,84 @@ public abstract class MarcFactory {
             loader = MarcFactory.class.getClassLoader();
         }
 
+        final String className = getFactoryClassName(loader, 0);
+
+        if (className != null) {
+            try {
+                final Class<?> t = loadFactoryClass(loader, className);
+                return (MarcFactory) t.newInstance();
+            } catch (final ClassNotFoundException e) {
+                // fall through to the other locations
+            } catch (final Exception e) {
+                return new org.marc4j.marc.impl.MarcFactoryImpl();
+            }
+        }
+
+        final Class<?> cached = getCachedFactoryClass(loader);
+
+        if (cached != null) {
+            try {
+                return (MarcFactory) cached.newInstance();
+            } catch (final Exception e) {
+                return new org.marc4j.marc.impl.MarcFactoryImpl();
+            }
+        }
+
+        return resolveFactory(loader);
+    }
+
+    /**
+     * Discards the factory classes remembered by {@link #newInstance()}, so
+     * that the next call reads the <code>marc4j.properties</code> file and the
+     * <code>META-INF/services</code> resource again.
+     */
+    public static void clearFactoryCache() {
+        synchronized (factoryClassCache) {
+            factoryClassCache.clear();
+        }
+    }
+
+    private static Class<?> getCachedFactoryClass(final ClassLoader loader) {
+        synchronized (factoryClassCache) {
+            final WeakReference<Class<?>> ref = factoryClassCache.get(loader);
+            return ref != null ? ref.get() : null;
+        }
+    }
+
+    private static void cacheFactoryClass(final ClassLoader loader, final Class<?> factoryClass) {
+        synchronized (factoryClassCache) {
+            factoryClassCache.put(loader, new WeakReference<Class<?>>(factoryClass));
+        }
+    }
+
+    private static Class<?> loadFactoryClass(final ClassLoader loader, final String className)
+            throws ClassNotFoundException {
+        return loader != null ? loader.loadClass(className) : Class.forName(className);
+    }
+
+    private static MarcFactory resolveFactory(final ClassLoader loader) {
         String className = null;
-        int count = 0;
+        int count = 1;
 
         do {
             className = getFactoryClassName(loader, count++);
 
             if (className != null) {
                 try {
-                    final Class<?> t = loader != null ? loader.loadClass(className) : Class
-                            .forName(className);
-                    return (MarcFactory) t.newInstance();
+                    final Class<?> t = loadFactoryClass(loader, className);
+                    final MarcFactory factory = (MarcFactory) t.newInstance();
+                    cacheFactoryClass(loader, t);
+                    return factory;
                 } catch (final ClassNotFoundException e) {
                     className = null;
                 } catch (final Exception e) {
                 }
             }
         } while (className == null && count < 3);
-        return new org.marc4j.marc.impl.MarcFactoryImpl();
+
+        final MarcFactory factory = new org.marc4j.marc.impl.MarcFactoryImpl();
+        cacheFactoryClass(loader, factory.getClass());
+        return factory;
     }
 
     private static String getFactoryClassName(final ClassLoader loader, final int attempt) {
@@ -162,6 +291,21 @@ public abstract class MarcFactory {
      */
     public abstract ControlField newControlField(String tag, String data);
 
+    /**
+     * Creates a new control field with the given tag and encoded data and
+     * returns the instance. Implementations may keep the encoded bytes and
+     * decode them only when the data is requested; this implementation decodes
+     * them immediately.
+     *
+     * @param tag - the tag to use for the newly created ControlField
+     * @param data - the encoded data to use for the newly created ControlField
+     * @param charset - the character set the data is encoded in
+     * @return ControlField
+     */
+    public ControlField newControlField(final String tag, final byte[] data, final Charset charset) {
+        return newControlField(tag, new String(data, charset));
+    }
+
     /**
      * Returns a new data field instance.
      *
@@ -255,9 +399,85 @@ public abstract class MarcFactory {
      */
     public abstract Subfield newSubfield(char code, String data);
 
+    /**
+     * Creates a new subfield with the given identifier and encoded data.
+     * Implementations may keep the encoded bytes and decode them only when the
+     * data is requested; this implementation decodes them immediately, through
+     * the string pool if the factory has one.
+     *
+     * @param code - the subfield code to use for the newly created Subfield
+     * @param data - the encoded data to use for the newly created Subfield
+     * @param charset - the character set the data is encoded in
+     * @return Subfield
+     */
+    public Subfield newSubfield(final char code, final byte[] data, final Charset charset) {
+        final StringPool pool = getStringPool();
+        return newSubfield(code, pool == null ? new String(data, charset) : pool.intern(data, charset));
+    }
+
+    /**
+     * Returns a deep copy of the supplied record, built from the objects this
+     * factory creates. Changes made to the copy or to its fields do not affect
+     * the original record, and vice versa. The data strings themselves are
+     * immutable and are shared between the two records.
+     *
+     * @param record - the record to copy
+     * @return Record
+     */
+    public Record deepCopy(final Record record) {
+        final Leader leader = record.getLeader();
+        final Record copy = leader == null ? newRecord() : newRecord(newLeader(leader.toString()));
+
+        copy.setId(record.getId());
+        copy.setType(record.getType());
+        for (final ControlField field : record.getControlFields()) {
+            copy.addVariableField(deepCopy(field));
+        }
+        for (final DataField field : record.getDataFields()) {
+            copy.addVariableField(deepCopy(field));
+        }
+        if (record.hasErrors()) {
+            copy.addErrors(record.getErrors());
+        }
+        return copy;
+    }
+
+    /**
+     * Returns a copy of the supplied control field.
+     *
+     * @param field - the control field to copy
+     * @return ControlField
+     */
+    public ControlField deepCopy(final ControlField field) {
+        final ControlField copy = newControlField(field.getTag(), field.getData());
+
+        copy.setId(field.getId());
+        return copy;
+    }
+
+    /**
+     * Returns a deep copy of the supplied data field and its subfields.
+     *
+     * @param field - the data field to copy
+     * @return DataField
+     */
+    public DataField deepCopy(final DataField field) {
+        final DataField copy = newDataField(field.getTag(), field.getIndicator1(), field.getIndicator2());
+
+        copy.setId(field.getId());
+        for (final Subfield subfield : field.getSubfields()) {
+            final Subfield sf = newSubfield(subfield.getCode(), subfield.getData());
+            sf.setId(subfield.getId());
+            copy.addSubfield(sf);
+        }
+        return copy;
+    }
+
     /**
      * Returns <code>true</code> if the {@link Record} is valid; else,
-     * <code>false</code>.
+     * <code>false</code>. The record is checked in full on every call, as its
+     * fields and subfields can be changed at any time; the result is not
+     * cached.
      *
      * @param record - the record to validate
      * @return Returns <code>true</code> if the {@link Record} is valid
@@ -267,14 +487,17 @@ public abstract class MarcFactory {
             return false;
         }
 
-        for (final ControlField controlField : record.getControlFields()) {
-            if (!validateControlField(controlField)) {
+        // indexed loops, so validating a record creates no iterators
+        final List<ControlField> controlFields = record.getControlFields();
+        for (int i = 0; i < controlFields.size(); i++) {
+            if (!validateControlField(controlFields.get(i))) {
                 return false;
             }
         }
 
-        for (final DataField dataField : record.getDataFields()) {
-            if (!validateDataField(dataField)) {
+        final List<DataField> dataFields = record.getDataFields();
+        for (int i = 0; i < dataFields.size(); i++) {
+            if (!validateDataField(dataFields.get(i))) {
                 return false;
             }
         }
@@ -320,8 +543,9 @@ public abstract class MarcFactory {
             return false;
         }
 
-        for (final Subfield subfield : field.getSubfields()) {
-            if (!validateSubField(subfield)) {
+        final List<Subfield> subfields = field.getSubfields();
+        for (int i = 0; i < subfields.size(); i++) {
+            if (!validateSubField(subfields.get(i))) {
                 return false;
             }
         }
@@ -106,6 +106,40 @@ public interface Record extends Serializable {
      */
     public List<DataField> getDataFields();
 
+    /**
+     * Walks the leader, the control fields, and the data fields and their
+     * subfields of this record in order, handing each to the supplied
+     * visitor, until the visitor returns <code>false</code>. Unlike
+     * {@link #getVariableFields()}, this does not copy the fields into a new
+     * list.
+     *
+     * @param visitor - the visitor to hand the parts of the record to
+     * @return <code>true</code> if the whole record was visited,
+     *         <code>false</code> if the visitor stopped the walk
+     */
+    default public boolean forEachField(final RecordVisitor visitor) {
+        final Leader leader = getLeader();
+        if (leader != null && !visitor.visitLeader(leader)) {
+            return false;
+        }
+        for (final ControlField field : getControlFields()) {
+            if (!visitor.visitControlField(field)) {
+                return false;
+            }
+        }
+        for (final DataField field : getDataFields()) {
+            if (!visitor.visitDataField(field)) {
+                return false;
+            }
+            for (final Subfield subfield : field.getSubfields()) {
+                if (!visitor.visitSubfield(field, subfield)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     /**
      * Returns the control number field or <code>null</code> if no control
      * number field is available.
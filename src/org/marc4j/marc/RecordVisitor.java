@@ -0,0 +1,80 @@
+package org.marc4j.marc;
+
+/**
+ * Receives the parts of a {@link Record} in order from
+ * {@link Record#forEachField(RecordVisitor)}: the leader, the control fields,
+ * and each data field followed by its subfields. Every method returns
+ * <code>true</code> to continue and <code>false</code> to stop the walk, so a
+ * visitor that has found what it was looking for does not have to see the
+ * rest of the record. All methods do nothing by default, so a visitor only
+ * implements the ones it needs.
+ *
+ * <pre>
+ * record.forEachField(new RecordVisitor() {
+ *
+ *     public boolean visitSubfield(DataField field, Subfield subfield) {
+ *         subfield.setData(subfield.getData().trim());
+ *         return true;
+ *     }
+ * });
+ * </pre>
+ *
+ * A visitor may change the leader, fields and subfields it is given, but
+ * must not add fields to or remove fields from the record it visits.
+ */
+public interface RecordVisitor {
+
+    /**
+     * Visits the leader of the record, if it has one.
+     *
+     * @param leader - the leader
+     * @return <code>true</code> to continue, <code>false</code> to stop
+     */
+    default public boolean visitLeader(final Leader leader) {
+        return true;
+    }
+
+    /**
+     * Visits a control field. By default, this calls
+     * {@link #visitField(VariableField)}.
+     *
+     * @param field - the control field
+     * @return <code>true</code> to continue, <code>false</code> to stop
+     */
+    default public boolean visitControlField(final ControlField field) {
+        return visitField(field);
+    }
+
+    /**
+     * Visits a data field, before its subfields. By default, this calls
+     * {@link #visitField(VariableField)}.
+     *
+     * @param field - the data field
+     * @return <code>true</code> to continue, <code>false</code> to stop
+     */
+    default public boolean visitDataField(final DataField field) {
+        return visitField(field);
+    }
+
+    /**
+     * Visits a control or data field, for visitors that treat both alike.
+     *
+     * @param field - the field
+     * @return <code>true</code> to continue, <code>false</code> to stop
+     */
+    default public boolean visitField(final VariableField field) {
+        return true;
+    }
+
+    /**
+     * Visits a subfield of a data field.
+     *
+     * @param field - the data field the subfield belongs to
+     * @param subfield - the subfield
+     * @return <code>true</code> to continue, <code>false</code> to stop
+     */
+    default public boolean visitSubfield(final DataField field, final Subfield subfield) {
+        return true;
+    }
+
+}
@@ -20,6 +20,11 @@
 
 package org.marc4j.marc.impl;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -41,6 +46,11 @@ public class ControlFieldImpl extends VariableFieldImpl implements ControlField
 
     private String data;
 
+    /** The encoded data as read from the source record, decoded on demand. */
+    private transient byte[] rawData;
+
+    private transient Charset rawCharset;
+
     /**
      * Creates a new <code>ControlField</code>.
      */
@@ -67,6 +77,42 @@ public class ControlFieldImpl extends VariableFieldImpl implements ControlField
         this.setData(data);
     }
 
+    /**
+     * Creates a new <code>ControlField</code> and sets the tag name and the
+     * encoded data element. The data is only decoded when it is first
+     * requested.
+     * 
+     * @param tag The tag for the <code>ControlField</code>
+     * @param data The encoded data for the <code>ControlField</code>
+     * @param charset The character set the data is encoded in
+     */
+    public ControlFieldImpl(final String tag, final byte[] data, final Charset charset) {
+        super(tag);
+        this.setData(data, charset);
+    }
+
+    /**
+     * Creates a copy of the supplied <code>ControlField</code>. Data that has
+     * not been decoded yet is shared with the source in its encoded form.
+     * 
+     * @param source The control field to copy
+     */
+    ControlFieldImpl(final ControlField source) {
+        super(source.getTag());
+        this.id = source.getId();
+        if (source instanceof ControlFieldImpl) {
+            final ControlFieldImpl cf = (ControlFieldImpl) source;
+            this.data = cf.data;
+            this.rawData = cf.rawData;
+            this.rawCharset = cf.rawCharset;
+            if (!cf.isModified()) {
+                clearModified();
+            }
+        } else {
+            this.data = source.getData();
+        }
+    }
+
     /**
      * Sets the {@link ControlField} data.
      * 
@@ -75,6 +121,23 @@ public class ControlFieldImpl extends VariableFieldImpl implements ControlField
     @Override
     public void setData(final String data) {
         this.data = data;
+        this.rawData = null;
+        this.rawCharset = null;
+        setModified();
+    }
+
+    /**
+     * Sets the {@link ControlField} data to the supplied encoded bytes, which
+     * are decoded the first time {@link #getData()} is called.
+     * 
+     * @param data The encoded data for the <code>ControlField</code>
+     * @param charset The character set the data is encoded in
+     */
+    public void setData(final byte[] data, final Charset charset) {
+        this.data = null;
+        this.rawData = data;
+        this.rawCharset = charset;
+        setModified();
     }
 
     @Override
@@ -84,9 +147,36 @@ public class ControlFieldImpl extends VariableFieldImpl implements ControlField
      * @return Returns the {@link ControlField} data.
      */
     public String getData() {
+        if (data == null && rawData != null) {
+            data = new String(rawData, rawCharset);
+        }
         return data;
     }
 
+    /**
+     * Returns <code>true</code> if this field has data, without decoding data
+     * that has not been requested yet.
+     *
+     * @return <code>true</code> if this field has data
+     */
+    boolean hasData() {
+        return data != null || rawData != null;
+    }
+
+    /**
+     * Returns the encoded bytes this field was created from if they are
+     * encoded in the supplied character set, decode without errors and the
+     * data has not been replaced since; else, <code>null</code>. The returned
+     * array must not be modified.
+     * 
+     * @param charset The character set the caller needs the data in
+     * @return The encoded data element, or <code>null</code>
+     */
+    public byte[] getRawData(final Charset charset) {
+        final byte[] raw = rawData;
+        return raw != null && rawCharset.equals(charset) && Verifier.isWellFormed(raw, charset) ? raw : null;
+    }
+
     /**
      * Returns a string representation of this control field.
      * <p>
@@ -103,6 +193,71 @@ public class ControlFieldImpl extends VariableFieldImpl implements ControlField
         return super.toString() + " " + getData();
     }
 
+    /**
+     * Returns the character at the supplied position of the data element.
+     * Data that has not been decoded yet is read from its encoded form where
+     * possible, so checking fixed positions does not decode the field.
+     * 
+     * @param position The position in the data element, starting at 0
+     */
+    @Override
+    public char charAt(final int position) {
+        final byte[] raw = rawData;
+        if (data == null && raw != null) {
+            if (StandardCharsets.ISO_8859_1.equals(rawCharset)) {
+                return position < raw.length ? (char) (raw[position] & 0xFF) : ' ';
+            }
+            if (StandardCharsets.UTF_8.equals(rawCharset) || StandardCharsets.US_ASCII.equals(rawCharset)) {
+                // bytes map to chars one to one while they are ASCII
+                final int end = Math.min(position, raw.length - 1);
+                int i = 0;
+                while (i <= end && raw[i] >= 0) {
+                    i++;
+                }
+                if (i > end) {
+                    return position < raw.length ? (char) raw[position] : ' ';
+                }
+            }
+        }
+        return ControlField.super.charAt(position);
+    }
+
+    /**
+     * Returns <code>true</code> if the supplied object is a {@link ControlField}
+     * with the same tag and data as this one; else, <code>false</code>.
+     * 
+     * @param obj The object to compare to this control field
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof ControlField)) {
+            return false;
+        }
+        final ControlField other = (ControlField) obj;
+        if (!equalsOrNull(getTag(), other.getTag())) {
+            return false;
+        }
+        if (other instanceof ControlFieldImpl) {
+            final ControlFieldImpl cf = (ControlFieldImpl) other;
+            if (rawData != null && cf.rawData != null && rawCharset.equals(cf.rawCharset)
+                    && Arrays.equals(rawData, cf.rawData)) {
+                return true;
+            }
+        }
+        return equalsOrNull(getData(), other.getData());
+    }
+
+    /**
+     * Returns a hash code computed from the tag and data of this control field.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * hashCodeOrZero(getTag()) + hashCodeOrZero(getData());
+    }
+
     /**
      * Finds a match to a regular expression pattern in the {@link ControlField}'s data.
      * 
@@ -126,4 +281,9 @@ public class ControlFieldImpl extends VariableFieldImpl implements ControlField
         return id;
     }
 
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        getData();
+        out.defaultWriteObject();
+    }
+
 }
@@ -52,12 +52,16 @@ public class DataFieldImpl extends VariableFieldImpl implements DataField {
 
     private char ind2;
 
-    private final List<Subfield> subfields = new ArrayList<Subfield>();
+    private final List<Subfield> subfields;
+
+    private transient int subfieldsModCount = -1;
 
     /**
      * Creates a new <code>DataField</code>.
      */
-    DataFieldImpl() {}
+    DataFieldImpl() {
+        subfields = new TrackingArrayList<Subfield>();
+    }
 
     /**
      * Creates a new <code>DataField</code> and sets the tag name and the first and second indicator.
@@ -68,10 +72,32 @@ public class DataFieldImpl extends VariableFieldImpl implements DataField {
      */
     public DataFieldImpl(final String tag, final char ind1, final char ind2) {
         super(tag);
+        this.subfields = new TrackingArrayList<Subfield>();
         this.setIndicator1(ind1);
         this.setIndicator2(ind2);
     }
 
+    /**
+     * Creates a deep copy of the supplied <code>DataField</code>.
+     *
+     * @param source The data field to copy
+     */
+    DataFieldImpl(final DataField source) {
+        super(source.getTag());
+        final List<Subfield> sourceSubfields = source.getSubfields();
+
+        this.id = source.getId();
+        this.ind1 = source.getIndicator1();
+        this.ind2 = source.getIndicator2();
+        this.subfields = new TrackingArrayList<Subfield>(sourceSubfields.size());
+        for (final Subfield sf : sourceSubfields) {
+            subfields.add(new SubfieldImpl(sf));
+        }
+        if (source instanceof DataFieldImpl && !((DataFieldImpl) source).isModified()) {
+            clearModified();
+        }
+    }
+
     /**
      * Sets the field's first indicator.
      *
@@ -80,6 +106,7 @@ public class DataFieldImpl extends VariableFieldImpl implements DataField {
     @Override
     public void setIndicator1(final char ind1) {
         this.ind1 = ind1;
+        setModified();
     }
 
     /**
@@ -100,6 +127,7 @@ public class DataFieldImpl extends VariableFieldImpl implements DataField {
     @Override
     public void setIndicator2(final char ind2) {
         this.ind2 = ind2;
+        setModified();
     }
 
     /**
@@ -146,7 +174,13 @@ public class DataFieldImpl extends VariableFieldImpl implements DataField {
      */
     @Override
     public void removeSubfield(final Subfield subfield) {
-        subfields.remove(subfield);
+        // subfields compare by content, so remove the very instance supplied
+        for (int i = 0; i < subfields.size(); i++) {
+            if (subfields.get(i) == subfield) {
+                subfields.remove(i);
+                return;
+            }
+        }
     }
 
     /**
@@ -270,6 +304,51 @@ public class DataFieldImpl extends VariableFieldImpl implements DataField {
         return false;
     }
 
+    /**
+     * Returns <code>true</code> if this field, its list of subfields or any of
+     * its subfields has been changed since the field was last marked as
+     * unmodified; else, <code>false</code>.
+     *
+     * @return <code>true</code> if this field has been changed
+     */
+    @Override
+    public boolean isModified() {
+        if (super.isModified() || TrackingArrayList.isModifiedSince(subfields, subfieldsModCount)) {
+            return true;
+        }
+        for (final Subfield sf : subfields) {
+            if (!(sf instanceof SubfieldImpl) || ((SubfieldImpl) sf).isModified()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a count that grows whenever this field, its list of subfields
+     * or any of its subfields is changed, or -1 if changes to them cannot be
+     * tracked.
+     */
+    @Override
+    long getChangeCount() {
+        final long subfieldsCount = TrackingArrayList.changeCountOf(subfields);
+        return subfieldsCount < 0 ? -1 : super.getChangeCount() + subfieldsCount;
+    }
+
+    /**
+     * Marks this field and its subfields as unmodified.
+     */
+    @Override
+    void clearModified() {
+        super.clearModified();
+        subfieldsModCount = TrackingArrayList.modCountOf(subfields);
+        for (final Subfield sf : subfields) {
+            if (sf instanceof SubfieldImpl) {
+                ((SubfieldImpl) sf).clearModified();
+            }
+        }
+    }
+
     /**
      * Returns a string representation of this data field.
      * <p>
@@ -295,6 +374,38 @@ public class DataFieldImpl extends VariableFieldImpl implements DataField {
         return sb.toString();
     }
 
+    /**
+     * Returns <code>true</code> if the supplied object is a {@link DataField}
+     * with the same tag, indicators and subfields, in the same order, as this
+     * one; else, <code>false</code>.
+     *
+     * @param obj The object to compare to this data field
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof DataField)) {
+            return false;
+        }
+        final DataField other = (DataField) obj;
+        return ind1 == other.getIndicator1() && ind2 == other.getIndicator2()
+                && equalsOrNull(getTag(), other.getTag()) && subfields.equals(other.getSubfields());
+    }
+
+    /**
+     * Returns a hash code computed from the tag, indicators and subfields of
+     * this data field.
+     */
+    @Override
+    public int hashCode() {
+        int hash = hashCodeOrZero(getTag());
+        hash = 31 * hash + ind1;
+        hash = 31 * hash + ind2;
+        return 31 * hash + subfields.hashCode();
+    }
+
     @Override
     public void setId(final Long id) {
         this.id = id;
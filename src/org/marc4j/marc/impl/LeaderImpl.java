@@ -20,12 +20,24 @@
 
 package org.marc4j.marc.impl;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.text.DecimalFormat;
+import java.util.Arrays;
 
 import org.marc4j.marc.Leader;
 
 /**
  * Represents a record label in a MARC record.
+ * <p>
+ * The character positions of the leader are kept in a single array laid out
+ * like the marshalled leader, and the marshalled string is created once and
+ * reused until the leader changes. The record length, indicator count,
+ * subfield code length and base address of data are kept as numbers, since
+ * writers may need a record length that does not fit in five digits.
+ * </p>
  *
  * @author Bas Peters
  */
@@ -36,22 +48,37 @@ public class LeaderImpl implements Leader {
      */
     private static final long serialVersionUID = 8300445263515491860L;
 
-    private Long id;
+    /**
+     * The serialized form keeps the fields the leader was held in before it
+     * was kept in a single array, so that leaders serialized then can still
+     * be read.
+     */
+    private static final ObjectStreamField[] serialPersistentFields = {
+        new ObjectStreamField("id", Long.class),
+        new ObjectStreamField("recordLength", int.class),
+        new ObjectStreamField("recordStatus", char.class),
+        new ObjectStreamField("typeOfRecord", char.class),
+        new ObjectStreamField("implDefined1", char[].class),
+        new ObjectStreamField("charCodingScheme", char.class),
+        new ObjectStreamField("indicatorCount", int.class),
+        new ObjectStreamField("subfieldCodeLength", int.class),
+        new ObjectStreamField("baseAddressOfData", int.class),
+        new ObjectStreamField("implDefined2", char[].class),
+        new ObjectStreamField("entryMap", char[].class)
+    };
 
-    /** The logical record length (Position 0-4). */
-    private int recordLength;
+    private static final int LEADER_LENGTH = 24;
 
-    /** The record status (Position 5). */
-    private char recordStatus;
+    private static final int IMPL_DEFINED_1 = 7;
 
-    /** Type of record (Position 6). */
-    private char typeOfRecord;
+    private static final int IMPL_DEFINED_2 = 17;
 
-    /** Implementation defined (Position 7-8). */
-    private char[] implDefined1;
+    private static final int ENTRY_MAP = 20;
 
-    /** Character coding scheme (Position 9). */
-    private char charCodingScheme;
+    private Long id;
+
+    /** The logical record length (Position 0-4). */
+    private int recordLength;
 
     /** The indicator count (Position 10). */
     private int indicatorCount;
@@ -62,133 +89,208 @@ public class LeaderImpl implements Leader {
     /** The base address of data (Position 12-16). */
     private int baseAddressOfData;
 
-    /** Implementation defined (Position 17-18) */
-    private char[] implDefined2;
+    /**
+     * The leader as marshalled, of which only the character positions are
+     * kept up to date: record status (5), type of record (6), implementation
+     * defined (7-8), character coding scheme (9), implementation defined
+     * (17-19) and entry map (20-23). The entry map takes up the rest of the
+     * array, which only differs from 24 characters for malformed leaders.
+     */
+    private char[] chars;
+
+    private transient String marshalled;
 
-    /** Entry map (Position 19-23). */
-    private char[] entryMap;
+    private transient boolean modified;
 
     /**
      * Default constructor.
      */
     public LeaderImpl() {
+        chars = new char[LEADER_LENGTH];
+        Arrays.fill(chars, ' ');
+    }
+
+    /**
+     * Creates a copy of the supplied leader.
+     *
+     * @param source the leader to copy
+     */
+    LeaderImpl(final Leader source) {
+        this();
+        id = source.getId();
+        recordLength = source.getRecordLength();
+        indicatorCount = source.getIndicatorCount();
+        subfieldCodeLength = source.getSubfieldCodeLength();
+        baseAddressOfData = source.getBaseAddressOfData();
+        if (source instanceof LeaderImpl) {
+            final LeaderImpl impl = (LeaderImpl) source;
+            chars = impl.chars.clone();
+            marshalled = impl.marshalled;
+            modified = impl.modified;
+        } else {
+            setRecordStatus(source.getRecordStatus());
+            setTypeOfRecord(source.getTypeOfRecord());
+            setImplDefined1(source.getImplDefined1());
+            setCharCodingScheme(source.getCharCodingScheme());
+            setImplDefined2(source.getImplDefined2());
+            setEntryMap(source.getEntryMap());
+            modified = true;
+        }
     }
 
     /**
      * Creates a new leader from a String object.
-     * 
+     *
      * @param ldr the leader string value
      */
     public LeaderImpl(final String ldr) {
+        this();
         unmarshal(ldr);
     }
 
     /**
      * Sets the logical record length (positions 00-04).
-     * 
+     *
      * @param recordLength integer representing the record length
      */
     @Override
     public void setRecordLength(final int recordLength) {
-        this.recordLength = recordLength;
+        if (this.recordLength != recordLength) {
+            this.recordLength = recordLength;
+            changed();
+        }
     }
 
     /**
      * Sets the record status (position 05).
-     * 
+     *
      * @param recordStatus character representing the record status
      */
     @Override
     public void setRecordStatus(final char recordStatus) {
-        this.recordStatus = recordStatus;
+        setChar(5, recordStatus);
     }
 
     /**
      * Sets the type of record (position 06).
-     * 
+     *
      * @param typeOfRecord character representing the type of record
      */
     @Override
     public void setTypeOfRecord(final char typeOfRecord) {
-        this.typeOfRecord = typeOfRecord;
+        setChar(6, typeOfRecord);
     }
 
     /**
-     * Sets implementation defined values (position 07-08).
-     * 
+     * Sets implementation defined values (position 07-08). Missing values are
+     * set to blanks and extra values are ignored.
+     *
      * @param implDefined1 character array representing the implementation
      *        defined data
      */
     @Override
     public void setImplDefined1(final char[] implDefined1) {
-        this.implDefined1 = implDefined1;
+        setChars(IMPL_DEFINED_1, 2, implDefined1);
     }
 
     /**
      * Sets the character encoding scheme (position 09).
-     * 
+     *
      * @param charCodingScheme character representing the character encoding
      */
     @Override
     public void setCharCodingScheme(final char charCodingScheme) {
-        this.charCodingScheme = charCodingScheme;
+        setChar(9, charCodingScheme);
     }
 
     /**
      * Sets the indicator count (position 10).
-     * 
+     *
      * @param indicatorCount integer representing the number of indicators
      *        present in a data field
      */
     @Override
     public void setIndicatorCount(final int indicatorCount) {
-        this.indicatorCount = indicatorCount;
+        if (this.indicatorCount != indicatorCount) {
+            this.indicatorCount = indicatorCount;
+            changed();
+        }
     }
 
     /**
      * Sets the subfield code length (position 11).
-     * 
+     *
      * @param subfieldCodeLength integer representing the subfield code length
      */
     @Override
     public void setSubfieldCodeLength(final int subfieldCodeLength) {
-        this.subfieldCodeLength = subfieldCodeLength;
+        if (this.subfieldCodeLength != subfieldCodeLength) {
+            this.subfieldCodeLength = subfieldCodeLength;
+            changed();
+        }
     }
 
     /**
      * Sets the base address of data (positions 12-16).
-     * 
+     *
      * @param baseAddressOfData integer representing the base address of data
      */
     @Override
     public void setBaseAddressOfData(final int baseAddressOfData) {
-        this.baseAddressOfData = baseAddressOfData;
+        if (this.baseAddressOfData != baseAddressOfData) {
+            this.baseAddressOfData = baseAddressOfData;
+            changed();
+        }
     }
 
     /**
-     * Sets implementation defined values (positions 17-19).
-     * 
+     * Sets implementation defined values (positions 17-19). Missing values are
+     * set to blanks and extra values are ignored.
+     *
      * @param implDefined2 character array representing the implementation
      *        defined data
      */
     @Override
     public void setImplDefined2(final char[] implDefined2) {
-        this.implDefined2 = implDefined2;
+        setChars(IMPL_DEFINED_2, 3, implDefined2);
     }
 
     /**
      * Sets the entry map (positions 20-23).
-     * 
+     *
      * @param entryMap character array representing the entry map
      */
     @Override
     public void setEntryMap(final char[] entryMap) {
-        this.entryMap = entryMap;
+        final int length = entryMap == null ? 4 : entryMap.length;
+        if (chars.length != ENTRY_MAP + length) {
+            chars = Arrays.copyOf(chars, ENTRY_MAP + length);
+            changed();
+        }
+        setChars(ENTRY_MAP, length, entryMap);
+    }
+
+    private void setChar(final int position, final char c) {
+        if (chars[position] != c) {
+            chars[position] = c;
+            changed();
+        }
+    }
+
+    private void setChars(final int position, final int length, final char[] values) {
+        for (int i = 0; i < length; i++) {
+            setChar(position + i, values != null && i < values.length ? values[i] : ' ');
+        }
+    }
+
+    private void changed() {
+        modified = true;
+        marshalled = null;
     }
 
     /**
      * Returns the logical record length (positions 00-04).
-     * 
+     *
      * @return <code>int</code>- the record length
      */
     @Override
@@ -198,47 +300,47 @@ public class LeaderImpl implements Leader {
 
     /**
      * Returns the record status (positions 05).
-     * 
+     *
      * @return <code>char</code>- the record status
      */
     @Override
     public char getRecordStatus() {
-        return recordStatus;
+        return chars[5];
     }
 
     /**
      * Returns the record type (position 06).
-     * 
+     *
      * @return <code>char</code>- the record type
      */
     @Override
     public char getTypeOfRecord() {
-        return typeOfRecord;
+        return chars[6];
     }
 
     /**
-     * Returns implementation defined values (positions 07-08).
-     * 
+     * Returns a copy of the implementation defined values (positions 07-08).
+     *
      * @return <code>char[]</code>- implementation defined values
      */
     @Override
     public char[] getImplDefined1() {
-        return implDefined1;
+        return Arrays.copyOfRange(chars, IMPL_DEFINED_1, IMPL_DEFINED_1 + 2);
     }
 
     /**
      * Returns the character coding scheme (position 09).
-     * 
+     *
      * @return <code>char</code>- the character coding scheme
      */
     @Override
     public char getCharCodingScheme() {
-        return charCodingScheme;
+        return chars[9];
     }
 
     /**
      * Returns the indicator count (positions 10).
-     * 
+     *
      * @return <code>int</code>- the indicator count
      */
     @Override
@@ -248,7 +350,7 @@ public class LeaderImpl implements Leader {
 
     /**
      * Returns the subfield code length (position 11).
-     * 
+     *
      * @return <code>int</code>- the subfield code length
      */
     @Override
@@ -258,7 +360,7 @@ public class LeaderImpl implements Leader {
 
     /**
      * Returns the base address of data (positions 12-16).
-     * 
+     *
      * @return <code>int</code>- the base address of data
      */
     @Override
@@ -267,23 +369,83 @@ public class LeaderImpl implements Leader {
     }
 
     /**
-     * Returns implementation defined values (positions 17-19).
-     * 
+     * Returns a copy of the implementation defined values (positions 17-19).
+     *
      * @return <code>char[]</code>- implementation defined values
      */
     @Override
     public char[] getImplDefined2() {
-        return implDefined2;
+        return Arrays.copyOfRange(chars, IMPL_DEFINED_2, IMPL_DEFINED_2 + 3);
     }
 
     /**
-     * Returns the entry map (positions 20-23).
-     * 
+     * Returns a copy of the entry map (positions 20-23).
+     *
      * @return <code>char[]</code>- the entry map
      */
     @Override
     public char[] getEntryMap() {
-        return entryMap;
+        return Arrays.copyOfRange(chars, ENTRY_MAP, chars.length);
+    }
+
+    /**
+     * Returns the length of the entry map, which is four unless the leader was
+     * malformed. The entry map can be read with {@link #charAt(int)} from
+     * position 20 on without copying it.
+     *
+     * @return <code>int</code>- the length of the entry map
+     */
+    public int getEntryMapLength() {
+        return chars.length - ENTRY_MAP;
+    }
+
+    /**
+     * Returns the character at the supplied position (00-23) of this leader.
+     * The entry map of a malformed leader can also be read past position 23,
+     * up to the length returned by {@link #getEntryMapLength()}.
+     *
+     * @param position the position in the leader
+     * @return <code>char</code>- the character at the supplied position
+     */
+    @Override
+    public char charAt(final int position) {
+        if (position > 23 && position < chars.length) {
+            return chars[position];
+        }
+        switch (position) {
+            case 5:
+            case 6:
+            case 7:
+            case 8:
+            case 9:
+            case 17:
+            case 18:
+            case 19:
+            case 20:
+            case 21:
+            case 22:
+            case 23:
+                return position < chars.length ? chars[position] : ' ';
+            default:
+                return Leader.super.charAt(position);
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if this leader has been changed since it was
+     * last marked as unmodified; else, <code>false</code>.
+     *
+     * @return <code>true</code> if this leader has been changed
+     */
+    public boolean isModified() {
+        return modified;
+    }
+
+    /**
+     * Marks this leader as unmodified.
+     */
+    void clearModified() {
+        modified = false;
     }
 
     /**
@@ -294,52 +456,60 @@ public class LeaderImpl implements Leader {
      * Indicator count and subfield code length are defaulted to 2 if they are
      * not integer values.
      * </p>
-     * 
+     *
      * @param ldr the leader
      */
     @Override
     public void unmarshal(final String ldr) {
-        try {
-            String s;
-            s = ldr.substring(0, 5);
-            if (isInteger(s)) {
-                setRecordLength(Integer.parseInt(s));
-            } else {
-                setRecordLength(0);
-            }
-            setRecordStatus(ldr.charAt(5));
-            setTypeOfRecord(ldr.charAt(6));
-            setImplDefined1(ldr.substring(7, 9).toCharArray());
-            setCharCodingScheme(ldr.charAt(9));
-            s = String.valueOf(ldr.charAt(10));
-            if (isInteger(s)) {
-                setIndicatorCount(Integer.parseInt(s));
-            } else {
-                setIndicatorCount(2);
-            }
-            s = String.valueOf(ldr.charAt(11));
-            if (isInteger(s)) {
-                setSubfieldCodeLength(Integer.parseInt(s));
-            } else {
-                setSubfieldCodeLength(2);
+        if (ldr.length() < ENTRY_MAP) {
+            throw new StringIndexOutOfBoundsException(ldr.length());
+        }
+        final int recordLength = parseInt(ldr, 0, 5);
+        final int indicatorCount = parseInt(ldr, 10, 1);
+        final int subfieldCodeLength = parseInt(ldr, 11, 1);
+        final int baseAddressOfData = parseInt(ldr, 12, 5);
+
+        setRecordLength(recordLength < 0 ? 0 : recordLength);
+        setIndicatorCount(indicatorCount < 0 ? 2 : indicatorCount);
+        setSubfieldCodeLength(subfieldCodeLength < 0 ? 2 : subfieldCodeLength);
+        setBaseAddressOfData(baseAddressOfData < 0 ? 0 : baseAddressOfData);
+
+        if (chars.length != ldr.length()) {
+            chars = Arrays.copyOf(chars, ldr.length());
+            changed();
+        }
+        for (int i = 5; i < chars.length; i++) {
+            if (i < 10 || i >= IMPL_DEFINED_2) {
+                setChar(i, ldr.charAt(i));
             }
-            s = ldr.substring(12, 17);
-            if (isInteger(s)) {
-                setBaseAddressOfData(Integer.parseInt(s));
-            } else {
-                setBaseAddressOfData(0);
+        }
+
+        if (marshalled == null && recordLength >= 0 && indicatorCount >= 0 && subfieldCodeLength >= 0
+                && baseAddressOfData >= 0) {
+            // the string is exactly what toString() would create
+            marshalled = ldr;
+        }
+    }
+
+    /**
+     * Returns the number made of the supplied digits, or -1 if they are not
+     * all digits.
+     */
+    private static int parseInt(final String ldr, final int start, final int length) {
+        int value = 0;
+        for (int i = start; i < start + length; i++) {
+            final char c = ldr.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
             }
-            setImplDefined2(ldr.substring(17, 20).toCharArray());
-            String entryMap = ldr.length() == 24 ? ldr.substring(20, 24) : ldr.substring(20);
-            setEntryMap(entryMap.toCharArray());
-        } catch (final NumberFormatException e) {
-            throw new RuntimeException("Unable to parse leader", e);
+            value = value * 10 + c - '0';
         }
+        return value;
     }
 
     /**
      * Creates a string object from this leader object.
-     * 
+     *
      * @return String - the string object from this leader object
      */
     @Override
@@ -351,45 +521,45 @@ public class LeaderImpl implements Leader {
      * Returns a string representation of this leader.
      * <p>
      * Example:
-     * 
+     *
      * <pre>
      *  00714cam a2200205 a 4500
      * </pre>
      */
     @Override
     public String toString() {
-        return new StringBuffer().append(format5.format(getRecordLength()))
-                .append(getRecordStatus()).append(getTypeOfRecord()).append(
-                        getImplDefined1()).append(getCharCodingScheme())
-                .append(getIndicatorCount()).append(getSubfieldCodeLength())
-                .append(format5.format(getBaseAddressOfData())).append(
-                        getImplDefined2()).append(getEntryMap()).toString();
-    }
-
-    private boolean isInteger(final String value) {
-        final int len = value.length();
-        if (len == 0) {
-            return false;
-        }
-        int i = 0;
-        do {
-            switch (value.charAt(i)) {
-                case '0':
-                case '1':
-                case '2':
-                case '3':
-                case '4':
-                case '5':
-                case '6':
-                case '7':
-                case '8':
-                case '9':
-                    break;
-                default:
-                    return false;
+        String result = marshalled;
+        if (result == null) {
+            if (recordLength < 0 || baseAddressOfData < 0 || indicatorCount > 9 || indicatorCount < 0
+                    || subfieldCodeLength > 9 || subfieldCodeLength < 0) {
+                // numbers that don't fit their positions
+                result = new StringBuilder().append(format5.format(recordLength)).append(chars, 5, 5)
+                        .append(indicatorCount).append(subfieldCodeLength)
+                        .append(format5.format(baseAddressOfData))
+                        .append(chars, IMPL_DEFINED_2, chars.length - IMPL_DEFINED_2).toString();
+            } else {
+                final char[] buffer = chars.clone();
+                putDigits(buffer, 0, recordLength);
+                buffer[10] = (char) ('0' + indicatorCount);
+                buffer[11] = (char) ('0' + subfieldCodeLength);
+                putDigits(buffer, 12, baseAddressOfData);
+                result = new String(buffer);
             }
-        } while (++i < len);
-        return true;
+            marshalled = result;
+        }
+        return result;
+    }
+
+    /**
+     * Puts the supplied number as five zero-padded digits, or 99999 if it is
+     * larger, like the <code>CustomDecimalFormat</code> used for leaders.
+     */
+    private static void putDigits(final char[] buffer, final int offset, final int number) {
+        int value = Math.min(number, 99999);
+        for (int i = offset + 4; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
     }
 
     private static DecimalFormat format5 = new org.marc4j.util.CustomDecimalFormat(5);
@@ -410,4 +580,38 @@ public class LeaderImpl implements Leader {
         return id;
     }
 
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        final ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("id", id);
+        fields.put("recordLength", recordLength);
+        fields.put("recordStatus", getRecordStatus());
+        fields.put("typeOfRecord", getTypeOfRecord());
+        fields.put("implDefined1", getImplDefined1());
+        fields.put("charCodingScheme", getCharCodingScheme());
+        fields.put("indicatorCount", indicatorCount);
+        fields.put("subfieldCodeLength", subfieldCodeLength);
+        fields.put("baseAddressOfData", baseAddressOfData);
+        fields.put("implDefined2", getImplDefined2());
+        fields.put("entryMap", getEntryMap());
+        out.writeFields();
+    }
+
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        final ObjectInputStream.GetField fields = in.readFields();
+        chars = new char[LEADER_LENGTH];
+        Arrays.fill(chars, ' ');
+        id = (Long) fields.get("id", null);
+        recordLength = fields.get("recordLength", 0);
+        indicatorCount = fields.get("indicatorCount", 0);
+        subfieldCodeLength = fields.get("subfieldCodeLength", 0);
+        baseAddressOfData = fields.get("baseAddressOfData", 0);
+        setRecordStatus(fields.get("recordStatus", ' '));
+        setTypeOfRecord(fields.get("typeOfRecord", ' '));
+        setImplDefined1((char[]) fields.get("implDefined1", null));
+        setCharCodingScheme(fields.get("charCodingScheme", ' '));
+        setImplDefined2((char[]) fields.get("implDefined2", null));
+        setEntryMap((char[]) fields.get("entryMap", null));
+        modified = false;
+    }
+
 }
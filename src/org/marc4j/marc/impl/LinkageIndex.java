@@ -0,0 +1,164 @@
+package org.marc4j.marc.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.marc4j.marc.DataField;
+import org.marc4j.marc.Subfield;
+
+/**
+ * An index of the field linkage ($6) of a record's data fields, mapping each
+ * tag to the 880 fields linked to it and each linked field to its partner.
+ * The index is a snapshot: {@link #isValidFor(List)} tells whether it still
+ * describes the supplied data fields.
+ * <p>
+ * The index notices fields being added, removed or replaced, and changes made
+ * in place to the tag or the linkage subfield of any data field, such as
+ * adding a $6 to a field that had none or changing a tag to 880.
+ * </p>
+ */
+final class LinkageIndex {
+
+    private static final String ALTERNATE_GRAPHIC_TAG = "880";
+
+    private final int dataFieldsModCount;
+
+    private final DataField[] fields;
+
+    private final String[] tags;
+
+    private final Subfield[] links;
+
+    private final String[] linkData;
+
+    private final Map<String, List<DataField>> fieldsByLinkedTag = new HashMap<String, List<DataField>>();
+
+    private final Map<DataField, String> linkedTags = new IdentityHashMap<DataField, String>();
+
+    private final Map<DataField, DataField> partners = new IdentityHashMap<DataField, DataField>();
+
+    /**
+     * Builds the index for the supplied data fields.
+     */
+    LinkageIndex(final List<DataField> dataFields) {
+        final int size = dataFields.size();
+        dataFieldsModCount = TrackingArrayList.modCountOf(dataFields);
+        fields = dataFields.toArray(new DataField[size]);
+        links = new Subfield[size];
+        tags = new String[size];
+        linkData = new String[size];
+
+        // fields keyed by their own tag, the tag they link to and the occurrence number
+        final Map<String, DataField> byLinkage = new HashMap<String, DataField>();
+
+        for (int i = 0; i < size; i++) {
+            final DataField df = fields[i];
+            final String tag = df.getTag();
+            final Subfield link = df.getSubfield('6');
+            final String data = link == null ? null : link.getData();
+
+            tags[i] = tag;
+            links[i] = link;
+            linkData[i] = data;
+            if (data == null || data.length() < 3) {
+                continue;
+            }
+
+            final String linkedTag = data.substring(0, 3);
+            if (ALTERNATE_GRAPHIC_TAG.equals(tag)) {
+                linkedTags.put(df, linkedTag);
+                List<DataField> linked = fieldsByLinkedTag.get(linkedTag);
+                if (linked == null) {
+                    linked = new ArrayList<DataField>(1);
+                    fieldsByLinkedTag.put(linkedTag, linked);
+                }
+                linked.add(df);
+            }
+
+            final String occurrence = getOccurrence(data);
+            if (occurrence != null) {
+                final String key = tag + linkedTag + occurrence;
+                if (!byLinkage.containsKey(key)) {
+                    byLinkage.put(key, df);
+                }
+            }
+        }
+
+        for (int i = 0; i < size; i++) {
+            final String data = linkData[i];
+            final String occurrence = data == null ? null : getOccurrence(data);
+            if (occurrence != null) {
+                final DataField partner = byLinkage.get(data.substring(0, 3) + tags[i] + occurrence);
+                if (partner != null) {
+                    partners.put(fields[i], partner);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the occurrence number of a linkage value such as "245-01/$1", or
+     * <code>null</code> if it has none. Occurrence number 00 marks a field that
+     * has no partner, so it is treated as missing too.
+     */
+    private static String getOccurrence(final String data) {
+        if (data.length() < 6 || data.charAt(3) != '-') {
+            return null;
+        }
+        final String occurrence = data.substring(4, 6);
+        return occurrence.equals("00") ? null : occurrence;
+    }
+
+    /**
+     * Returns true if this index still describes the supplied data fields:
+     * the list holds the same fields and each of them still has the tag and
+     * the linkage subfield it had when the index was built.
+     */
+    boolean isValidFor(final List<DataField> dataFields) {
+        if (TrackingArrayList.isModifiedSince(dataFields, dataFieldsModCount)) {
+            return false;
+        }
+        for (int i = 0; i < fields.length; i++) {
+            final DataField df = fields[i];
+            if (!Objects.equals(tags[i], df.getTag())) {
+                return false;
+            }
+            final Subfield link = df.getSubfield('6');
+            if (link != links[i] || link != null && !Objects.equals(link.getData(), linkData[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the 880 fields linked to fields with the supplied tag, in record
+     * order.
+     */
+    List<DataField> getFieldsLinkedTo(final String tag) {
+        final List<DataField> linked = fieldsByLinkedTag.get(tag);
+        return linked == null ? Collections.<DataField>emptyList() : Collections.unmodifiableList(linked);
+    }
+
+    /**
+     * Returns the tag the supplied 880 field is linked to, or
+     * <code>null</code>.
+     */
+    String getLinkedTag(final DataField field) {
+        return linkedTags.get(field);
+    }
+
+    /**
+     * Returns the field the supplied field is paired with through their
+     * linkage subfields, or <code>null</code>.
+     */
+    DataField getPartner(final DataField field) {
+        return partners.get(field);
+    }
+
+}
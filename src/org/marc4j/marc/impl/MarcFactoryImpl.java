@@ -20,6 +20,8 @@
 
 package org.marc4j.marc.impl;
 
+import java.nio.charset.Charset;
+
 import org.marc4j.MarcException;
 import org.marc4j.marc.ControlField;
 import org.marc4j.marc.DataField;
@@ -27,6 +29,7 @@ import org.marc4j.marc.Leader;
 import org.marc4j.marc.MarcFactory;
 import org.marc4j.marc.Record;
 import org.marc4j.marc.Subfield;
+import org.marc4j.util.StringPool;
 
 /**
  * Factory for creating MARC record objects.
@@ -72,6 +75,18 @@ public class MarcFactoryImpl extends MarcFactory {
         return new ControlFieldImpl(tag, data);
     }
 
+    /**
+     * Creates a new control field with the given tag and encoded data, which
+     * is decoded when it is first requested, or right away through the
+     * string pool if the factory has one.
+     * 
+     * @return ControlField
+     */
+    @Override
+    public ControlField newControlField(final String tag, final byte[] data, final Charset charset) {
+        return new ControlFieldImpl(tag, data, charset);
+    }
+
     /**
      * Returns a new data field instance.
      * 
@@ -175,7 +190,49 @@ public class MarcFactoryImpl extends MarcFactory {
      */
     @Override
     public Subfield newSubfield(final char code, final String data) {
-        return new SubfieldImpl(code, data);
+        final StringPool pool = getStringPool();
+        return new SubfieldImpl(code, pool == null ? data : pool.intern(data));
+    }
+
+    /**
+     * Creates a new subfield with the given identifier and encoded data, which
+     * is decoded when it is first requested.
+     * 
+     * @return Subfield
+     */
+    @Override
+    public Subfield newSubfield(final char code, final byte[] data, final Charset charset) {
+        final StringPool pool = getStringPool();
+        if (pool != null) {
+            return new SubfieldImpl(code, pool.intern(data, charset));
+        }
+        return new SubfieldImpl(code, data, charset);
+    }
+
+    /**
+     * Returns a deep copy of the supplied {@link Record}. Collections are sized
+     * up front and field data is shared rather than copied, including data
+     * that has not been decoded yet.
+     */
+    @Override
+    public Record deepCopy(final Record record) {
+        return new RecordImpl(record);
+    }
+
+    /**
+     * Returns a copy of the supplied {@link ControlField}.
+     */
+    @Override
+    public ControlField deepCopy(final ControlField field) {
+        return new ControlFieldImpl(field);
+    }
+
+    /**
+     * Returns a deep copy of the supplied {@link DataField}.
+     */
+    @Override
+    public DataField deepCopy(final DataField field) {
+        return new DataFieldImpl(field);
     }
 
     /**
@@ -197,4 +254,28 @@ public class MarcFactoryImpl extends MarcFactory {
         return newRecord(new LeaderImpl(leader));
     }
 
+    /**
+     * Returns <code>true</code> if the supplied {@link ControlField} is valid,
+     * without decoding data that has not been requested yet.
+     */
+    @Override
+    public boolean validateControlField(final ControlField field) {
+        if (field instanceof ControlFieldImpl) {
+            return validateVariableField(field) && ((ControlFieldImpl) field).hasData();
+        }
+        return super.validateControlField(field);
+    }
+
+    /**
+     * Returns <code>true</code> if the supplied {@link Subfield} is valid,
+     * without decoding data that has not been requested yet.
+     */
+    @Override
+    public boolean validateSubField(final Subfield subfield) {
+        if (subfield instanceof SubfieldImpl) {
+            return ((SubfieldImpl) subfield).isValid();
+        }
+        return super.validateSubField(subfield);
+    }
+
 }
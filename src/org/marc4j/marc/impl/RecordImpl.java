@@ -20,7 +20,9 @@
 
 package org.marc4j.marc.impl;
 
+import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -31,6 +33,7 @@ import org.marc4j.marc.DataField;
 import org.marc4j.marc.IllegalAddException;
 import org.marc4j.marc.Leader;
 import org.marc4j.marc.Record;
+import org.marc4j.marc.RecordVisitor;
 import org.marc4j.marc.Subfield;
 import org.marc4j.marc.VariableField;
 
@@ -46,6 +49,11 @@ public class RecordImpl implements Record {
      */
     private static final long serialVersionUID = -4751021372496524250L;
 
+    /**
+     * The tag the leader has when it is treated as a field.
+     */
+    private static final String LEADER_TAG = "000";
+
     private Long id;
 
     private Leader leader;
@@ -60,12 +68,59 @@ public class RecordImpl implements Record {
 
     private String type;
 
+    /** The encoded record this record was read from, if the reader kept it. */
+    private transient byte[] sourceData;
+
+    private transient Charset sourceCharset;
+
+    private transient boolean modified;
+
+    private transient int controlFieldsModCount = -1;
+
+    private transient int dataFieldsModCount = -1;
+
+    /** Cached index of the 880 linkage, rebuilt when the data fields change. */
+    private transient LinkageIndex linkageIndex;
+
     /**
      * Creates a new <code>Record</code>.
      */
     public RecordImpl() {
-        controlFields = new ArrayList<ControlField>();
-        dataFields = new ArrayList<DataField>();
+        controlFields = new TrackingArrayList<ControlField>();
+        dataFields = new TrackingArrayList<DataField>();
+    }
+
+    /**
+     * Creates a deep copy of the supplied <code>Record</code>. Encoded data that
+     * has not been decoded yet is shared with the source.
+     *
+     * @param source The record to copy
+     */
+    RecordImpl(final Record source) {
+        final List<ControlField> sourceControlFields = source.getControlFields();
+        final List<DataField> sourceDataFields = source.getDataFields();
+
+        controlFields = new TrackingArrayList<ControlField>(sourceControlFields.size());
+        dataFields = new TrackingArrayList<DataField>(sourceDataFields.size());
+        id = source.getId();
+        type = source.getType();
+        leader = source.getLeader() == null ? null : new LeaderImpl(source.getLeader());
+        for (final ControlField cf : sourceControlFields) {
+            controlFields.add(new ControlFieldImpl(cf));
+        }
+        for (final DataField df : sourceDataFields) {
+            dataFields.add(new DataFieldImpl(df));
+        }
+        if (source.hasErrors()) {
+            addErrors(source.getErrors());
+        }
+        if (source instanceof RecordImpl && !((RecordImpl) source).isModified()) {
+            sourceData = ((RecordImpl) source).sourceData;
+            sourceCharset = ((RecordImpl) source).sourceCharset;
+            clearModified();
+        } else {
+            modified = true;
+        }
     }
 
     /**
@@ -96,6 +151,7 @@ public class RecordImpl implements Record {
     @Override
     public void setLeader(final Leader leader) {
         this.leader = leader;
+        modified = true;
     }
 
     /**
@@ -143,10 +199,13 @@ public class RecordImpl implements Record {
     @Override
     public void removeVariableField(final VariableField field) {
         final String tag = field.getTag();
-        if (Verifier.isControlField(tag)) {
-            controlFields.remove(field);
-        } else {
-            dataFields.remove(field);
+        // fields compare by content, so remove the very instance supplied
+        final List<? extends VariableField> fields = Verifier.isControlField(tag) ? controlFields : dataFields;
+        for (int i = 0; i < fields.size(); i++) {
+            if (fields.get(i) == field) {
+                fields.remove(i);
+                return;
+            }
         }
     }
 
@@ -187,10 +246,23 @@ public class RecordImpl implements Record {
      */
     @Override
     public VariableField getVariableField(final String tag) {
-        final List<VariableField> fields = getVariableFieldsWithLeader();
+        if (isLinkageTag(tag)) {
+            final List<DataField> linked = getLinkageIndex().getFieldsLinkedTo(tag.substring(3));
+            return linked.isEmpty() ? null : linked.get(0);
+        }
 
-        for (final VariableField field : fields) {
-            if (fieldMatches(field, tag)) {
+        if (LEADER_TAG.equals(tag)) {
+            return getLeaderAsField();
+        }
+        for (int i = 0; i < controlFields.size(); i++) {
+            final VariableField field = controlFields.get(i);
+            if (fieldMatches(field, tag, null)) {
+                return field;
+            }
+        }
+        for (int i = 0; i < dataFields.size(); i++) {
+            final VariableField field = dataFields.get(i);
+            if (fieldMatches(field, tag, null)) {
                 return field;
             }
         }
@@ -198,30 +270,92 @@ public class RecordImpl implements Record {
         return null;
     }
 
-    private boolean fieldMatches(final VariableField field, final String tag) {
+    /**
+     * Returns the leader recast as a control field, as the first field of
+     * {@link #getVariableFieldsWithLeader()}, or <code>null</code> if this
+     * record has no leader.
+     */
+    private ControlField getLeaderAsField() {
+        return leader == null ? null : new ControlFieldImpl(LEADER_TAG, leader.toString());
+    }
+
+    /**
+     * Returns true if the supplied field has the supplied tag, or is an 880
+     * field linked to it if the tag is a <code>LNK</code> tag. The linkage
+     * index is only used for <code>LNK</code> tags, so it may be
+     * <code>null</code> when there are none.
+     */
+    private static boolean fieldMatches(final VariableField field, final String tag, final LinkageIndex index) {
         if (field.getTag().equals(tag)) {
             return true;
         }
-        if (tag.startsWith("LNK") && field.getTag().equals("880")) {
-            final DataField df = (DataField) field;
-            final Subfield link = df.getSubfield('6');
-            if (link != null && link.getData().substring(0, 3).equals(tag.substring(3))) {
-                return true;
-            }
+        if (isLinkageTag(tag) && field instanceof DataField) {
+            final String linkedTag = index.getLinkedTag((DataField) field);
+            return linkedTag != null && tag.regionMatches(3, linkedTag, 0, 3);
         }
         return false;
     }
 
+    private static boolean isLinkageTag(final String tag) {
+        return tag.length() == 6 && tag.startsWith("LNK");
+    }
+
+    private LinkageIndex getLinkageIndex() {
+        LinkageIndex index = linkageIndex;
+        if (index == null || !index.isValidFor(dataFields)) {
+            index = new LinkageIndex(dataFields);
+            linkageIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the 880 fields whose linkage subfield ($6) refers to the supplied
+     * tag, in the order they appear in the record. This is what the
+     * <code>LNK</code> tags, such as <code>LNK245</code>, select.
+     *
+     * @param tag The tag the 880 fields are linked to
+     * @return An unmodifiable list of the linked 880 fields
+     */
+    public List<DataField> getLinkedFields(final String tag) {
+        return getLinkageIndex().getFieldsLinkedTo(tag);
+    }
+
+    /**
+     * Returns the field paired with the supplied field through their linkage
+     * subfields ($6): for a field with <code>$6880-01</code> the 880 field with
+     * <code>$6245-01</code>, and the other way round. Returns <code>null</code>
+     * if the field is not linked to another field of this record.
+     *
+     * @param field A data field of this record
+     * @return The linked field, or <code>null</code>
+     */
+    public DataField getLinkedField(final DataField field) {
+        return getLinkageIndex().getPartner(field);
+    }
+
     /**
      * Gets a {@link List} of {@link VariableField}s with the supplied tag.
      */
     @Override
     public List<VariableField> getVariableFields(final String tag) {
-        final List<VariableField> result = new ArrayList<VariableField>();
-        final List<VariableField> fields = getVariableFieldsWithLeader();
+        if (isLinkageTag(tag)) {
+            return new ArrayList<VariableField>(getLinkageIndex().getFieldsLinkedTo(tag.substring(3)));
+        }
 
-        for (final VariableField field : fields) {
-            if (fieldMatches(field, tag)) {
+        final List<VariableField> result = new ArrayList<VariableField>();
+        if (LEADER_TAG.equals(tag) && leader != null) {
+            result.add(getLeaderAsField());
+        }
+        for (int i = 0; i < controlFields.size(); i++) {
+            final VariableField field = controlFields.get(i);
+            if (fieldMatches(field, tag, null)) {
+                result.add(field);
+            }
+        }
+        for (int i = 0; i < dataFields.size(); i++) {
+            final VariableField field = dataFields.get(i);
+            if (fieldMatches(field, tag, null)) {
                 result.add(field);
             }
         }
@@ -250,7 +384,7 @@ public class RecordImpl implements Record {
    @Override
    public List<VariableField> getVariableFieldsWithLeader() {
         final List<VariableField> fields = new ArrayList<VariableField>();
-        final ControlField leaderAsField = new ControlFieldImpl("000", this.getLeader().toString());
+        final ControlField leaderAsField = new ControlFieldImpl(LEADER_TAG, this.getLeader().toString());
         fields.add(leaderAsField);
         fields.addAll(controlFields);
         fields.addAll(dataFields);
@@ -277,20 +411,39 @@ public class RecordImpl implements Record {
     @Override
     public List<VariableField> getVariableFields(final String[] tags) {
         final List<VariableField> result = new ArrayList<VariableField>();
-        final List<VariableField> fields = getVariableFieldsWithLeader();
+        if (leader != null && Arrays.asList(tags).contains(LEADER_TAG)) {
+            result.add(getLeaderAsField());
+        }
 
-        for (final VariableField field : fields) {
-            for (final String tag : tags) {
-                if (fieldMatches(field, tag)) {
-                    result.add(field);
-                    break;
-                }
+        // checked once here rather than for every field
+        LinkageIndex index = null;
+        for (final String tag : tags) {
+            if (isLinkageTag(tag)) {
+                index = getLinkageIndex();
+                break;
             }
         }
 
+        for (int i = 0; i < controlFields.size(); i++) {
+            addIfMatches(controlFields.get(i), tags, index, result);
+        }
+        for (int i = 0; i < dataFields.size(); i++) {
+            addIfMatches(dataFields.get(i), tags, index, result);
+        }
+
         return result;
     }
 
+    private static void addIfMatches(final VariableField field, final String[] tags, final LinkageIndex index,
+            final List<VariableField> result) {
+        for (final String tag : tags) {
+            if (fieldMatches(field, tag, index)) {
+                result.add(field);
+                return;
+            }
+        }
+    }
+
     /**
      * Returns a string representation of this record.
      *
@@ -325,14 +478,144 @@ public class RecordImpl implements Record {
         sb.append(getLeader().toString());
         sb.append('\n');
 
-        for (final VariableField field : getVariableFields()) {
-            sb.append(field.toString());
+        for (int i = 0; i < controlFields.size(); i++) {
+            sb.append(controlFields.get(i).toString());
+            sb.append('\n');
+        }
+        for (int i = 0; i < dataFields.size(); i++) {
+            sb.append(dataFields.get(i).toString());
             sb.append('\n');
         }
 
         return sb.toString();
     }
 
+    /**
+     * Walks the leader and the fields of this record in order, handing each to
+     * the supplied visitor, without creating any lists or iterators.
+     */
+    @Override
+    public boolean forEachField(final RecordVisitor visitor) {
+        if (leader != null && !visitor.visitLeader(leader)) {
+            return false;
+        }
+        for (int i = 0; i < controlFields.size(); i++) {
+            if (!visitor.visitControlField(controlFields.get(i))) {
+                return false;
+            }
+        }
+        for (int i = 0; i < dataFields.size(); i++) {
+            final DataField field = dataFields.get(i);
+            if (!visitor.visitDataField(field)) {
+                return false;
+            }
+            final List<Subfield> subfields = field.getSubfields();
+            for (int j = 0; j < subfields.size(); j++) {
+                if (!visitor.visitSubfield(field, subfields.get(j))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns <code>true</code> if the supplied object is a {@link Record} with
+     * the same leader and the same fields, in the same order, as this one;
+     * else, <code>false</code>. The record length and base address of data in
+     * the leader are ignored, since they are recomputed whenever a record is
+     * written. Ids, types and errors are not compared either.
+     *
+     * @param obj The object to compare to this record
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof Record)) {
+            return false;
+        }
+        final Record other = (Record) obj;
+        return leaderEquals(leader, other.getLeader()) && controlFields.equals(other.getControlFields())
+                && dataFields.equals(other.getDataFields());
+    }
+
+    /**
+     * Returns a hash code computed from the leader and the fields of this
+     * record, consistent with {@link #equals(Object)}.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        if (leader instanceof LeaderImpl) {
+            // the same values as below, read without copying the char arrays
+            final LeaderImpl ldr = (LeaderImpl) leader;
+            hash = ldr.getRecordStatus();
+            hash = 31 * hash + ldr.getTypeOfRecord();
+            hash = 31 * hash + hashPositions(ldr, 7, 2);
+            hash = 31 * hash + ldr.getCharCodingScheme();
+            hash = 31 * hash + ldr.getIndicatorCount();
+            hash = 31 * hash + ldr.getSubfieldCodeLength();
+            hash = 31 * hash + hashPositions(ldr, 17, 3);
+            hash = 31 * hash + hashPositions(ldr, 20, ldr.getEntryMapLength());
+        } else if (leader != null) {
+            hash = leader.getRecordStatus();
+            hash = 31 * hash + leader.getTypeOfRecord();
+            hash = 31 * hash + Arrays.hashCode(leader.getImplDefined1());
+            hash = 31 * hash + leader.getCharCodingScheme();
+            hash = 31 * hash + leader.getIndicatorCount();
+            hash = 31 * hash + leader.getSubfieldCodeLength();
+            hash = 31 * hash + Arrays.hashCode(leader.getImplDefined2());
+            hash = 31 * hash + Arrays.hashCode(leader.getEntryMap());
+        }
+        hash = 31 * hash + controlFields.hashCode();
+        return 31 * hash + dataFields.hashCode();
+    }
+
+    /**
+     * Returns the hash code {@link Arrays#hashCode(char[])} returns for the
+     * supplied positions of the leader.
+     */
+    private static int hashPositions(final LeaderImpl leader, final int start, final int length) {
+        int hash = 1;
+        for (int i = start; i < start + length; i++) {
+            hash = 31 * hash + leader.charAt(i);
+        }
+        return hash;
+    }
+
+    private static boolean leaderEquals(final Leader a, final Leader b) {
+        if (a == null || b == null) {
+            return a == b;
+        }
+        if (a instanceof LeaderImpl && b instanceof LeaderImpl) {
+            return leaderImplEquals((LeaderImpl) a, (LeaderImpl) b);
+        }
+        return a.getRecordStatus() == b.getRecordStatus() && a.getTypeOfRecord() == b.getTypeOfRecord()
+                && a.getCharCodingScheme() == b.getCharCodingScheme()
+                && a.getIndicatorCount() == b.getIndicatorCount()
+                && a.getSubfieldCodeLength() == b.getSubfieldCodeLength()
+                && Arrays.equals(a.getImplDefined1(), b.getImplDefined1())
+                && Arrays.equals(a.getImplDefined2(), b.getImplDefined2())
+                && Arrays.equals(a.getEntryMap(), b.getEntryMap());
+    }
+
+    private static boolean leaderImplEquals(final LeaderImpl a, final LeaderImpl b) {
+        if (a.getIndicatorCount() != b.getIndicatorCount() || a.getSubfieldCodeLength() != b.getSubfieldCodeLength()
+                || a.getEntryMapLength() != b.getEntryMapLength()) {
+            return false;
+        }
+        final int length = 20 + a.getEntryMapLength();
+        for (int i = 5; i < length; i++) {
+            // positions 10-16 hold the numbers compared above and the base address, which is ignored
+            if ((i < 10 || i > 16) && a.charAt(i) != b.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Finds all the {@link VariableField}s that match the supplied regular expression pattern.
      */
@@ -403,6 +686,86 @@ public class RecordImpl implements Record {
         return false;
     }
 
+    /**
+     * Attaches the encoded form this record was read from and marks the record
+     * and all of its fields as unmodified. As long as the record is not
+     * changed afterwards, writers can output these bytes instead of encoding
+     * the record again.
+     *
+     * @param data - the complete encoded record, leader included
+     * @param charset - the character set the record's data is encoded in
+     */
+    public void setSourceData(final byte[] data, final Charset charset) {
+        this.sourceData = data;
+        this.sourceCharset = charset;
+        clearModified();
+    }
+
+    /**
+     * Returns the encoded form this record was read from, if one is attached,
+     * its data is in the supplied character set and decodes without errors,
+     * and the record has not been modified since; else, <code>null</code>.
+     * The returned array must not be modified.
+     *
+     * @param charset - the character set the caller needs the data in
+     * @return the encoded record, or <code>null</code>
+     */
+    public byte[] getSourceData(final Charset charset) {
+        if (sourceData == null || !sourceCharset.equals(charset) || isModified()
+                || !Verifier.isWellFormed(sourceData, charset)) {
+            return null;
+        }
+        return sourceData;
+    }
+
+    /**
+     * Returns <code>true</code> if the leader, the field lists or any of the
+     * fields of this record have been changed since the record was last
+     * marked as unmodified; else, <code>false</code>.
+     *
+     * @return <code>true</code> if this record has been changed
+     */
+    public boolean isModified() {
+        if (modified || !(leader instanceof LeaderImpl) || ((LeaderImpl) leader).isModified()
+                || TrackingArrayList.isModifiedSince(controlFields, controlFieldsModCount)
+                || TrackingArrayList.isModifiedSince(dataFields, dataFieldsModCount)) {
+            return true;
+        }
+        for (final ControlField cf : controlFields) {
+            if (!(cf instanceof VariableFieldImpl) || ((VariableFieldImpl) cf).isModified()) {
+                return true;
+            }
+        }
+        for (final DataField df : dataFields) {
+            if (!(df instanceof VariableFieldImpl) || ((VariableFieldImpl) df).isModified()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Marks this record, its leader and all of its fields as unmodified.
+     */
+    public void clearModified() {
+        modified = false;
+        controlFieldsModCount = TrackingArrayList.modCountOf(controlFields);
+        dataFieldsModCount = TrackingArrayList.modCountOf(dataFields);
+        if (leader instanceof LeaderImpl) {
+            ((LeaderImpl) leader).clearModified();
+        }
+        for (final ControlField cf : controlFields) {
+            if (cf instanceof VariableFieldImpl) {
+                ((VariableFieldImpl) cf).clearModified();
+            }
+        }
+        for (final DataField df : dataFields) {
+            if (df instanceof VariableFieldImpl) {
+                ((VariableFieldImpl) df).clearModified();
+            }
+        }
+    }
+
     /**
      * Sets the ID for this {@link Record}.
      *
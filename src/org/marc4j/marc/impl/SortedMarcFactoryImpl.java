@@ -20,4 +20,13 @@ public class SortedMarcFactoryImpl extends MarcFactoryImpl {
         return record;
     }
 
+    /**
+     * Returns a deep copy of the supplied {@link Record}, with its fields in
+     * sorted order.
+     */
+    @Override
+    public Record deepCopy(final Record record) {
+        return new SortedRecordImpl(record);
+    }
+
 }
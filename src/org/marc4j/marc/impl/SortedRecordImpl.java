@@ -2,9 +2,11 @@
 package org.marc4j.marc.impl;
 
 import java.util.Collections;
+import java.util.List;
 
 import org.marc4j.marc.ControlField;
 import org.marc4j.marc.DataField;
+import org.marc4j.marc.Record;
 import org.marc4j.marc.VariableField;
 
 /**
@@ -18,34 +20,116 @@ public class SortedRecordImpl extends RecordImpl {
      */
     private static final long serialVersionUID = 21647558104914722L;
 
+    /**
+     * The change counts of the field lists and their fields when the lists
+     * were last known to be sorted, or -1 if they are not known to be sorted.
+     */
+    private transient long sortedControlFieldsCount = -1;
+
+    private transient long sortedDataFieldsCount = -1;
+
     public SortedRecordImpl() {
         super();
     }
 
     /**
-     * Adds a {@link VariableField} to the record.
+     * Creates a deep copy of the supplied <code>Record</code>, sorting its
+     * fields unless it is already a <code>SortedRecordImpl</code>.
+     *
+     * @param source The record to copy
+     */
+    SortedRecordImpl(final Record source) {
+        super(source);
+        if (!(source instanceof SortedRecordImpl)) {
+            Collections.sort(controlFields);
+            Collections.sort(dataFields);
+        }
+        sortedControlFieldsCount = TrackingArrayList.changeCountOf(controlFields);
+        sortedDataFieldsCount = TrackingArrayList.changeCountOf(dataFields);
+    }
+
+    /**
+     * Adds a {@link VariableField} to the record. The field is inserted after
+     * the fields that sort before or equal to it, which gives the same order
+     * as appending it and sorting the fields again, without the cost of a full
+     * sort. The fields are only sorted in full if their list or any of the
+     * fields in it was changed since the last field was added, as fields
+     * sort by their content.
      */
     @Override
     public void addVariableField(final VariableField field) {
         if (field instanceof ControlField) {
             final ControlField controlField = (ControlField) field;
             final String tag = controlField.getTag();
-            
+
             if (Verifier.isControlNumberField(tag)) {
+                ensureSorted(controlFields, sortedControlFieldsCount);
                 if (Verifier.hasControlNumberField(getControlFields())) {
-                    getControlFields().set(0, controlField);
-                } else {
-                    getControlFields().add(0, controlField);
+                    getControlFields().remove(0);
                 }
-
-                Collections.sort(controlFields);
+                // a field at the front stays ahead of the fields equal to it
+                insert(controlFields, controlField, false);
+                sortedControlFieldsCount = TrackingArrayList.changeCountOf(controlFields);
             } else if (Verifier.isControlField(tag)) {
-                getControlFields().add(controlField);
-                Collections.sort(controlFields);
+                final long count = ensureSorted(controlFields, sortedControlFieldsCount);
+                sortedControlFieldsCount = insert(controlFields, count, controlField);
             }
         } else {
-            getDataFields().add((DataField) field);
-            Collections.sort(dataFields);
+            final long count = ensureSorted(dataFields, sortedDataFieldsCount);
+            sortedDataFieldsCount = insert(dataFields, count, (DataField) field);
+        }
+    }
+
+    /**
+     * Sorts the supplied fields unless their change count shows that they are
+     * still sorted, and returns their change count.
+     */
+    private static <T extends VariableField> long ensureSorted(final List<T> fields, final long sortedCount) {
+        final long count = sortedCount < 0 ? -1 : TrackingArrayList.changeCountOf(fields);
+        if (count < 0 || count != sortedCount) {
+            Collections.sort(fields);
+            return TrackingArrayList.changeCountOf(fields);
+        }
+        return count;
+    }
+
+    /**
+     * Inserts the field into the sorted list after the fields equal to it and
+     * returns the change count of the list, given its count just before, so
+     * that the fields do not have to be counted again.
+     */
+    private static <T extends VariableField> long insert(final List<T> fields, final long count, final T field) {
+        insert(fields, field, true);
+        if (count < 0) {
+            return TrackingArrayList.changeCountOf(fields);
+        }
+        return ((TrackingArrayList<T>) fields).getChangeCountAfterAdding(field);
+    }
+
+    /**
+     * Inserts the field into the sorted list, after the fields equal to it if
+     * <code>afterEqual</code> is true and before them otherwise.
+     */
+    private static <T extends VariableField> void insert(final List<T> fields, final T field,
+            final boolean afterEqual) {
+        int low = 0;
+        int high = fields.size();
+
+        // fields usually arrive in order, so try the end of the list first
+        if (high > 0 && afterEqual && field.compareTo(fields.get(high - 1)) >= 0) {
+            fields.add(field);
+            return;
+        }
+
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            final int cmp = field.compareTo(fields.get(mid));
+            if (cmp > 0 || cmp == 0 && afterEqual) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
         }
+        fields.add(low, field);
     }
 }
@@ -20,6 +20,10 @@
 
 package org.marc4j.marc.impl;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -43,6 +47,16 @@ public class SubfieldImpl implements Subfield {
 
     private String data;
 
+    /** The encoded data as read from the source record, decoded on demand. */
+    private transient byte[] rawData;
+
+    private transient Charset rawCharset;
+
+    private transient boolean modified;
+
+    /** The number of times this subfield has been changed; unlike the modified flag, it is never reset. */
+    private transient int changeCount;
+
     /**
      * Creates a new <code>Subfield</code>.
      */
@@ -70,12 +84,49 @@ public class SubfieldImpl implements Subfield {
         this.setData(data);
     }
 
+    /**
+     * Creates a new <code>Subfield</code> and sets the data element identifier
+     * and the encoded data element. The data is only decoded when it is first
+     * requested.
+     * 
+     * @param code the data element identifier
+     * @param data the encoded data element
+     * @param charset the character set the data is encoded in
+     */
+    public SubfieldImpl(final char code, final byte[] data, final Charset charset) {
+        this.setCode(code);
+        this.setData(data, charset);
+    }
+
+    /**
+     * Creates a copy of the supplied <code>Subfield</code>. Data that has not
+     * been decoded yet is shared with the source in its encoded form.
+     * 
+     * @param source the subfield to copy
+     */
+    SubfieldImpl(final Subfield source) {
+        this.id = source.getId();
+        this.code = source.getCode();
+        if (source instanceof SubfieldImpl) {
+            final SubfieldImpl sf = (SubfieldImpl) source;
+            this.data = sf.data;
+            this.rawData = sf.rawData;
+            this.rawCharset = sf.rawCharset;
+            this.modified = sf.modified;
+        } else {
+            this.data = source.getData();
+            this.modified = true;
+        }
+    }
+
     /**
      * Sets the {@link Subfield} code.
      */
     @Override
     public void setCode(final char code) {
         this.code = code;
+        modified = true;
+        changeCount++;
     }
 
     /**
@@ -92,6 +143,25 @@ public class SubfieldImpl implements Subfield {
     @Override
     public void setData(final String data) {
         this.data = data;
+        this.rawData = null;
+        this.rawCharset = null;
+        modified = true;
+        changeCount++;
+    }
+
+    /**
+     * Sets the {@link Subfield} data to the supplied encoded bytes, which are
+     * decoded the first time {@link #getData()} is called.
+     *
+     * @param data the encoded data element
+     * @param charset the character set the data is encoded in
+     */
+    public void setData(final byte[] data, final Charset charset) {
+        this.data = null;
+        this.rawData = data;
+        this.rawCharset = charset;
+        modified = true;
+        changeCount++;
     }
 
     /**
@@ -99,9 +169,61 @@ public class SubfieldImpl implements Subfield {
      */
     @Override
     public String getData() {
+        if (data == null && rawData != null) {
+            data = new String(rawData, rawCharset);
+        }
         return data;
     }
 
+    /**
+     * Returns the encoded bytes this subfield was created from if they are
+     * encoded in the supplied character set, decode without errors and the
+     * data has not been replaced since; else, <code>null</code>. The returned
+     * array must not be modified.
+     *
+     * @param charset the character set the caller needs the data in
+     * @return the encoded data element, or <code>null</code>
+     */
+    public byte[] getRawData(final Charset charset) {
+        final byte[] raw = rawData;
+        return raw != null && rawCharset.equals(charset) && Verifier.isWellFormed(raw, charset) ? raw : null;
+    }
+
+    /**
+     * Returns <code>true</code> if this subfield has a code and data, without
+     * decoding data that has not been requested yet.
+     *
+     * @return <code>true</code> if this subfield is valid
+     */
+    boolean isValid() {
+        return code != 0 && (data != null || rawData != null);
+    }
+
+    /**
+     * Returns <code>true</code> if this subfield has been changed since it was
+     * last marked as unmodified; else, <code>false</code>.
+     *
+     * @return <code>true</code> if this subfield has been changed
+     */
+    public boolean isModified() {
+        return modified;
+    }
+
+    /**
+     * Marks this subfield as unmodified.
+     */
+    void clearModified() {
+        modified = false;
+    }
+
+    /**
+     * Returns a count that grows whenever the code or the data of this
+     * subfield is changed.
+     */
+    int getChangeCount() {
+        return changeCount;
+    }
+
     /**
      * Returns <code>true</code> is the supplied regular expression pattern
      * matches the {@link Subfield} data; else, <code>false</code>.
@@ -130,6 +252,46 @@ public class SubfieldImpl implements Subfield {
         return "$" + getCode() + getData();
     }
 
+    /**
+     * Returns <code>true</code> if the supplied object is a {@link Subfield}
+     * with the same code and data as this one; else, <code>false</code>.
+     * Subfields that still hold their encoded data are compared without
+     * decoding it when the encodings match.
+     *
+     * @param obj the object to compare to this subfield
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof Subfield)) {
+            return false;
+        }
+        final Subfield other = (Subfield) obj;
+        if (code != other.getCode()) {
+            return false;
+        }
+        if (other instanceof SubfieldImpl) {
+            final SubfieldImpl sf = (SubfieldImpl) other;
+            if (rawData != null && sf.rawData != null && rawCharset.equals(sf.rawCharset)
+                    && Arrays.equals(rawData, sf.rawData)) {
+                return true;
+            }
+        }
+        final String data = getData();
+        return data == null ? other.getData() == null : data.equals(other.getData());
+    }
+
+    /**
+     * Returns a hash code computed from the code and data of this subfield.
+     */
+    @Override
+    public int hashCode() {
+        final String data = getData();
+        return 31 * code + (data == null ? 0 : data.hashCode());
+    }
+
     /**
      * Sets the ID for this {@link Subfield}.
      */
@@ -146,4 +308,9 @@ public class SubfieldImpl implements Subfield {
         return id;
     }
 
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        getData();
+        out.defaultWriteObject();
+    }
+
 }
@@ -0,0 +1,155 @@
+package org.marc4j.marc.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An <code>ArrayList</code> that exposes a change count, so that the record
+ * and field implementations can tell whether a list they handed out has been
+ * changed since a given point. The change count includes replacements made
+ * with {@link #set(int, Object)}, which are counted separately so that, as with
+ * <code>ArrayList</code>, they do not invalidate iterators over the list.
+ * <p>
+ * For lists of fields or subfields, the list also keeps a change count that
+ * covers the changes made to its elements as well, see
+ * {@link #getChangeCount()}.
+ * </p>
+ *
+ * @param <E> the type of the list elements
+ */
+class TrackingArrayList<E> extends ArrayList<E> {
+
+    /**
+     * A <code>serialVersionUID</code> for the class.
+     */
+    private static final long serialVersionUID = 3476092354781736024L;
+
+    /**
+     * The number of elements replaced with {@link #set(int, Object)}.
+     */
+    private transient int replaceCount;
+
+    /**
+     * What {@link #getChangeCount()} adds to the change counts of the
+     * elements, so that the count keeps growing when elements are removed.
+     */
+    private transient long changeCountOffset;
+
+    /** The change count last returned, and the modification count then. */
+    private transient long lastChangeCount = -1;
+
+    private transient int lastChangeModCount = -1;
+
+    TrackingArrayList() {
+        super();
+    }
+
+    TrackingArrayList(final int initialCapacity) {
+        super(initialCapacity);
+    }
+
+    @Override
+    public E set(final int index, final E element) {
+        final E previous = super.set(index, element);
+        replaceCount++;
+        return previous;
+    }
+
+    /**
+     * Returns the number of times this list has been modified, counting both
+     * structural modifications and replaced elements.
+     *
+     * @return the modification count
+     */
+    int getModCount() {
+        return modCount + replaceCount;
+    }
+
+    /**
+     * Returns a count that grows whenever this list or any of its elements is
+     * changed, or -1 if the elements are not fields or subfields. Comparing
+     * two counts tells whether anything has changed in between.
+     * <p>
+     * The count is the sum of the change counts of the elements. As removing
+     * an element takes its count out of the sum, the count is raised past the
+     * last one returned whenever the list itself has been modified since.
+     * </p>
+     *
+     * @return the change count
+     */
+    long getChangeCount() {
+        long count = changeCountOffset;
+        for (int i = 0; i < size(); i++) {
+            final long elementCount = changeCountOfElement(get(i));
+            if (elementCount < 0) {
+                return -1;
+            }
+            count += elementCount;
+        }
+        return noteChangeCount(count);
+    }
+
+    /**
+     * Returns the change count of the list after the supplied element was
+     * added to it, given that nothing else has changed since the count was
+     * last taken, without going through all the elements again.
+     *
+     * @param element the element just added
+     * @return the change count, as {@link #getChangeCount()} would return it
+     */
+    long getChangeCountAfterAdding(final E element) {
+        final long elementCount = changeCountOfElement(element);
+        if (lastChangeCount < 0 || elementCount < 0) {
+            return getChangeCount();
+        }
+        return noteChangeCount(lastChangeCount + elementCount);
+    }
+
+    private long noteChangeCount(long count) {
+        final int modCount = getModCount();
+        if (modCount != lastChangeModCount) {
+            if (count <= lastChangeCount) {
+                changeCountOffset += lastChangeCount + 1 - count;
+                count = lastChangeCount + 1;
+            }
+            lastChangeModCount = modCount;
+        }
+        lastChangeCount = count;
+        return count;
+    }
+
+    private static long changeCountOfElement(final Object element) {
+        if (element instanceof VariableFieldImpl) {
+            return ((VariableFieldImpl) element).getChangeCount();
+        } else if (element instanceof SubfieldImpl) {
+            return ((SubfieldImpl) element).getChangeCount();
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the change count of the supplied list, or -1 if it is not a
+     * <code>TrackingArrayList</code> of fields or subfields.
+     */
+    static long changeCountOf(final List<?> list) {
+        return list instanceof TrackingArrayList ? ((TrackingArrayList<?>) list).getChangeCount() : -1;
+    }
+
+    /**
+     * Returns the modification count of the supplied list, or -1 if it is not
+     * a <code>TrackingArrayList</code>.
+     */
+    static int modCountOf(final List<?> list) {
+        return list instanceof TrackingArrayList ? ((TrackingArrayList<?>) list).getModCount() : -1;
+    }
+
+    /**
+     * Returns true if the supplied list has been modified since it had the
+     * supplied modification count. Lists that do not track modifications are
+     * always considered modified.
+     */
+    static boolean isModifiedSince(final List<?> list, final int modCount) {
+        return modCount < 0 || modCountOf(list) != modCount;
+    }
+
+}
@@ -37,6 +37,11 @@ public abstract class VariableFieldImpl implements VariableField {
 
     private String tag;
 
+    private transient boolean modified;
+
+    /** The number of times this field has been changed; unlike the modified flag, it is never reset. */
+    private transient int changeCount;
+
     /**
      * Creates a new <code>VariableField</code>.
      */
@@ -62,6 +67,8 @@ public abstract class VariableFieldImpl implements VariableField {
     @Override
     public void setTag(final String tag) {
         this.tag = tag;
+        modified = true;
+        changeCount++;
     }
 
     /**
@@ -74,6 +81,39 @@ public abstract class VariableFieldImpl implements VariableField {
         return tag;
     }
 
+    /**
+     * Returns <code>true</code> if this field has been changed since it was
+     * last marked as unmodified; else, <code>false</code>.
+     *
+     * @return <code>true</code> if this field has been changed
+     */
+    public boolean isModified() {
+        return modified;
+    }
+
+    /**
+     * Marks this field as unmodified.
+     */
+    void clearModified() {
+        modified = false;
+    }
+
+    /**
+     * Marks this field as modified.
+     */
+    void setModified() {
+        modified = true;
+        changeCount++;
+    }
+
+    /**
+     * Returns a count that grows whenever this field is changed, or -1 if
+     * changes to it cannot be tracked.
+     */
+    long getChangeCount() {
+        return changeCount;
+    }
+
     /**
      * Compare's this {@link VariableField} to the supplied one.
      * 
@@ -89,6 +129,14 @@ public abstract class VariableFieldImpl implements VariableField {
         return toString().compareTo(obj.toString());
     }
 
+    static boolean equalsOrNull(final Object a, final Object b) {
+        return a == null ? b == null : a.equals(b);
+    }
+
+    static int hashCodeOrZero(final Object obj) {
+        return obj == null ? 0 : obj.hashCode();
+    }
+
     /**
      * Returns a string representation of this variable field.
      * 
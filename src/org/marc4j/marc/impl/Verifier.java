@@ -21,6 +21,11 @@ package org.marc4j.marc.impl;
 
 import org.marc4j.marc.ControlField;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 
 /**
@@ -83,4 +88,81 @@ public class Verifier
         }
         return false;
     }
+
+    /**
+     * Returns true if the given bytes decode in the given character set without any malformed or unmappable input,
+     * so that decoding and encoding them again gives back the same bytes.
+     *
+     * @param data - the encoded bytes
+     * @param charset - the character set the bytes are encoded in
+     * @return true if the bytes are well-formed in the character set
+     */
+    public static boolean isWellFormed(byte[] data, Charset charset)
+    {
+        if (charset.equals(StandardCharsets.ISO_8859_1)) {
+            return true;
+        }
+        if (charset.equals(StandardCharsets.UTF_8)) {
+            return isWellFormedUtf8(data);
+        }
+        try {
+            charset.newDecoder().onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT).decode(ByteBuffer.wrap(data));
+            return true;
+        } catch (CharacterCodingException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns true if the given bytes are well-formed UTF-8: no stray continuation bytes, overlong forms, surrogates
+     * or code points above U+10FFFF.
+     */
+    private static boolean isWellFormedUtf8(byte[] data)
+    {
+        int i = 0;
+        while (i < data.length) {
+            final int b = data[i] & 0xFF;
+            if (b < 0x80) {
+                i++;
+                continue;
+            }
+            final int count;
+            int min = 0x80;
+            int max = 0xBF;
+            if (b >= 0xC2 && b <= 0xDF) {
+                count = 1;
+            } else if (b >= 0xE0 && b <= 0xEF) {
+                count = 2;
+                if (b == 0xE0) {
+                    min = 0xA0;
+                } else if (b == 0xED) {
+                    max = 0x9F;
+                }
+            } else if (b >= 0xF0 && b <= 0xF4) {
+                count = 3;
+                if (b == 0xF0) {
+                    min = 0x90;
+                } else if (b == 0xF4) {
+                    max = 0x8F;
+                }
+            } else {
+                return false;
+            }
+            if (i + count >= data.length) {
+                return false;
+            }
+            final int second = data[i + 1] & 0xFF;
+            if (second < min || second > max) {
+                return false;
+            }
+            for (int j = 2; j <= count; j++) {
+                if ((data[i + j] & 0xC0) != 0x80) {
+                    return false;
+                }
+            }
+            i += count + 1;
+        }
+        return true;
+    }
 }
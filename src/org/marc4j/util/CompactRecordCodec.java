@@ -0,0 +1,482 @@
+package org.marc4j.util;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.marc4j.MarcException;
+import org.marc4j.marc.ControlField;
+import org.marc4j.marc.DataField;
+import org.marc4j.marc.Leader;
+import org.marc4j.marc.MarcFactory;
+import org.marc4j.marc.Record;
+import org.marc4j.marc.Subfield;
+
+/**
+ * A compact, versioned binary encoding of {@link Record} objects, intended for caching records, spilling them to
+ * disk and handing them between processes. It is considerably smaller and faster than Java serialization and
+ * avoids the directory and character set handling of ISO 2709.
+ * <p>
+ * An encoded record consists of a magic byte, a format version, a flags byte, the leader, the record type, the
+ * control fields and the data fields. Counts and string lengths are written as unsigned varints, tags in the range
+ * 000-999 as 2 bytes and strings as UTF-8. When the dictionary is enabled, each short string is written once per
+ * record and later occurrences refer back to it by index. A shared dictionary of values that are expected to repeat
+ * across records (such as "DLC" or "eng") can also be supplied; the same shared dictionary must then be given to the
+ * codec that decodes the records.
+ * </p>
+ * <p>
+ * The record's id and errors are not encoded.
+ * </p>
+ * <p>
+ * A codec instance keeps scratch buffers between calls and is not thread-safe; use one instance per thread.
+ * </p>
+ *
+ * <pre>
+ * CompactRecordCodec codec = new CompactRecordCodec();
+ * byte[] bytes = codec.encode(record);
+ * Record copy = codec.decode(bytes);
+ * </pre>
+ */
+public class CompactRecordCodec {
+
+    /** The first byte of every encoded record. */
+    public static final byte MAGIC = (byte) 0xC4;
+
+    /** The format version written by this codec. */
+    public static final byte VERSION = 1;
+
+    private static final int FLAG_DICTIONARY = 0x01;
+
+    private static final int FLAG_SHARED_DICTIONARY = 0x02;
+
+    /** Tag value marking a tag that is not three digits, the tag itself follows as a string. */
+    private static final int TAG_ESCAPE = 0xFFFF;
+
+    /** Strings longer than this many UTF-8 bytes are never added to the per-record dictionary. */
+    private static final int MAX_DICTIONARY_ENTRY_LENGTH = 64;
+
+    /** The tags 000-999, shared with {@link RecordBatch}. */
+    static final String[] NUMERIC_TAGS = new String[1000];
+
+    static {
+        for (int i = 0; i < NUMERIC_TAGS.length; i++) {
+            NUMERIC_TAGS[i] = String.format("%03d", i).intern();
+        }
+    }
+
+    private final MarcFactory factory;
+
+    private final boolean useDictionary;
+
+    private final String[] sharedDictionary;
+
+    private final Map<String, Integer> sharedIndex = new HashMap<String, Integer>();
+
+    private final Map<String, Integer> encodeDictionary = new HashMap<String, Integer>();
+
+    private final List<String> decodeDictionary = new ArrayList<String>();
+
+    private int decodeSharedSize;
+
+    private ByteBuffer scratch = ByteBuffer.allocate(4096);
+
+    private byte[] stringBytes = new byte[256];
+
+    /**
+     * Creates a codec that uses a per-record dictionary and creates decoded records with the default
+     * {@link MarcFactory}.
+     */
+    public CompactRecordCodec() {
+        this(MarcFactory.newInstance(), true, null);
+    }
+
+    /**
+     * Creates a codec that creates decoded records with the supplied {@link MarcFactory}.
+     *
+     * @param factory - the factory used to create decoded records
+     * @param useDictionary - true to replace repeated values within a record by dictionary references
+     */
+    public CompactRecordCodec(final MarcFactory factory, final boolean useDictionary) {
+        this(factory, useDictionary, null);
+    }
+
+    /**
+     * Creates a codec that creates decoded records with the supplied {@link MarcFactory} and refers to values found
+     * in the supplied shared dictionary by index.
+     *
+     * @param factory - the factory used to create decoded records
+     * @param useDictionary - true to replace repeated values within a record by dictionary references
+     * @param sharedDictionary - values expected to repeat across records, or null for none
+     */
+    public CompactRecordCodec(final MarcFactory factory, final boolean useDictionary,
+            final String[] sharedDictionary) {
+        this.factory = factory;
+        this.useDictionary = useDictionary;
+        this.sharedDictionary = sharedDictionary != null && sharedDictionary.length > 0 ? sharedDictionary.clone()
+                : null;
+        if (this.sharedDictionary != null) {
+            for (int i = 0; i < this.sharedDictionary.length; i++) {
+                sharedIndex.put(this.sharedDictionary[i], Integer.valueOf(i));
+            }
+        }
+    }
+
+    /**
+     * Encodes the supplied record into a new byte array.
+     *
+     * @param record - the record to encode
+     * @return the encoded record
+     */
+    public byte[] encode(final Record record) {
+        while (true) {
+            scratch.clear();
+            try {
+                encode(record, scratch);
+                break;
+            } catch (final BufferOverflowException e) {
+                scratch = ByteBuffer.allocate(scratch.capacity() * 2);
+            }
+        }
+        scratch.flip();
+        final byte[] result = new byte[scratch.remaining()];
+        scratch.get(result);
+        return result;
+    }
+
+    /**
+     * Encodes the supplied record into the buffer, starting at the buffer's current position.
+     *
+     * @param record - the record to encode
+     * @param buffer - the buffer to write to
+     * @return the number of bytes written
+     * @throws BufferOverflowException if the record does not fit in the remaining space; the buffer's position is
+     *         then left where it was before the call
+     */
+    public int encode(final Record record, final ByteBuffer buffer) {
+        final int start = buffer.position();
+        encodeDictionary.clear();
+
+        try {
+            int flags = 0;
+            if (useDictionary) {
+                flags |= FLAG_DICTIONARY;
+            }
+            if (sharedDictionary != null) {
+                flags |= FLAG_SHARED_DICTIONARY;
+            }
+
+            buffer.put(MAGIC);
+            buffer.put(VERSION);
+            buffer.put((byte) flags);
+            if ((flags & FLAG_SHARED_DICTIONARY) != 0) {
+                writeVarInt(buffer, sharedDictionary.length);
+            }
+
+            final Leader leader = record.getLeader();
+            writeLiteral(buffer, leader == null ? null : leader.toString());
+            writeString(buffer, record.getType());
+
+            final List<ControlField> controlFields = record.getControlFields();
+            writeVarInt(buffer, controlFields.size());
+            for (final ControlField cf : controlFields) {
+                writeTag(buffer, cf.getTag());
+                writeString(buffer, cf.getData());
+            }
+
+            final List<DataField> dataFields = record.getDataFields();
+            writeVarInt(buffer, dataFields.size());
+            for (final DataField df : dataFields) {
+                writeTag(buffer, df.getTag());
+                writeVarInt(buffer, df.getIndicator1());
+                writeVarInt(buffer, df.getIndicator2());
+                final List<Subfield> subfields = df.getSubfields();
+                writeVarInt(buffer, subfields.size());
+                for (final Subfield sf : subfields) {
+                    writeVarInt(buffer, sf.getCode());
+                    writeString(buffer, sf.getData());
+                }
+            }
+        } catch (final BufferOverflowException e) {
+            buffer.position(start);
+            throw e;
+        }
+
+        return buffer.position() - start;
+    }
+
+    /**
+     * Decodes the supplied bytes into a record.
+     *
+     * @param bytes - an encoded record
+     * @return the decoded record
+     */
+    public Record decode(final byte[] bytes) {
+        return decode(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Decodes a record from the buffer, starting at the buffer's current position. On return the buffer is
+     * positioned after the decoded record.
+     *
+     * @param buffer - the buffer to read from
+     * @return the decoded record
+     * @throws MarcException if the data is not an encoded record of a supported version
+     */
+    public Record decode(final ByteBuffer buffer) {
+        decodeDictionary.clear();
+
+        try {
+            if (buffer.get() != MAGIC) {
+                throw new MarcException("Data is not a compact encoded record");
+            }
+            final byte version = buffer.get();
+            if (version != VERSION) {
+                throw new MarcException("Unsupported compact record version: " + version);
+            }
+            final int flags = buffer.get();
+            final boolean dictionary = (flags & FLAG_DICTIONARY) != 0;
+            decodeSharedSize = 0;
+            if ((flags & FLAG_SHARED_DICTIONARY) != 0) {
+                final int sharedSize = readVarInt(buffer);
+                if (sharedDictionary == null || sharedDictionary.length != sharedSize) {
+                    throw new MarcException("Record was encoded with a shared dictionary of " + sharedSize
+                            + " entries that this codec does not have");
+                }
+                decodeSharedSize = sharedSize;
+            }
+
+            final String leader = readString(buffer, false);
+            final Record record = leader == null ? factory.newRecord() : factory.newRecord(leader);
+            if (leader == null) {
+                record.setLeader(null);
+            }
+            record.setType(readString(buffer, dictionary));
+
+            final int controlFieldCount = readVarInt(buffer);
+            for (int i = 0; i < controlFieldCount; i++) {
+                final String tag = readTag(buffer);
+                record.addVariableField(factory.newControlField(tag, readString(buffer, dictionary)));
+            }
+
+            final int dataFieldCount = readVarInt(buffer);
+            for (int i = 0; i < dataFieldCount; i++) {
+                final String tag = readTag(buffer);
+                final char ind1 = (char) readVarInt(buffer);
+                final char ind2 = (char) readVarInt(buffer);
+                final DataField df = factory.newDataField(tag, ind1, ind2);
+                final int subfieldCount = readVarInt(buffer);
+                for (int j = 0; j < subfieldCount; j++) {
+                    final char code = (char) readVarInt(buffer);
+                    df.addSubfield(factory.newSubfield(code, readString(buffer, dictionary)));
+                }
+                record.addVariableField(df);
+            }
+
+            return record;
+        } catch (final BufferUnderflowException e) {
+            throw new MarcException("Premature end of compact encoded record", e);
+        }
+    }
+
+    /**
+     * Writes the supplied record to the stream, preceded by its encoded length, so that it can be read back with
+     * {@link #read(InputStream)}.
+     *
+     * @param record - the record to write
+     * @param out - the stream to write to
+     * @throws IOException if the stream cannot be written to
+     */
+    public void write(final Record record, final OutputStream out) throws IOException {
+        final byte[] bytes = encode(record);
+        int length = bytes.length;
+        while ((length & ~0x7F) != 0) {
+            out.write((length & 0x7F) | 0x80);
+            length >>>= 7;
+        }
+        out.write(length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a record written by {@link #write(Record, OutputStream)} from the stream.
+     *
+     * @param in - the stream to read from
+     * @return the next record, or null at the end of the stream
+     * @throws IOException if the stream cannot be read or ends within a record
+     */
+    public Record read(final InputStream in) throws IOException {
+        int length = 0;
+        int shift = 0;
+        int b;
+        while (true) {
+            b = in.read();
+            if (b < 0) {
+                if (shift == 0) {
+                    return null;
+                }
+                throw new EOFException("Premature end of compact record length");
+            }
+            length |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                break;
+            }
+            shift += 7;
+        }
+
+        final byte[] bytes = new byte[length];
+        int read = 0;
+        while (read < length) {
+            final int count = in.read(bytes, read, length - read);
+            if (count < 0) {
+                throw new EOFException("Premature end of compact encoded record");
+            }
+            read += count;
+        }
+        return decode(bytes);
+    }
+
+    static void writeVarInt(final ByteBuffer buffer, final int value) {
+        int v = value;
+        while ((v & ~0x7F) != 0) {
+            buffer.put((byte) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        buffer.put((byte) v);
+    }
+
+    private static int readVarInt(final ByteBuffer buffer) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            if (shift > 28) {
+                throw new MarcException("Malformed varint in compact encoded record");
+            }
+            b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private void writeTag(final ByteBuffer buffer, final String tag) {
+        if (tag != null && tag.length() == 3) {
+            final int c0 = tag.charAt(0) - '0';
+            final int c1 = tag.charAt(1) - '0';
+            final int c2 = tag.charAt(2) - '0';
+            if (c0 >= 0 && c0 <= 9 && c1 >= 0 && c1 <= 9 && c2 >= 0 && c2 <= 9) {
+                buffer.putShort((short) (c0 * 100 + c1 * 10 + c2));
+                return;
+            }
+        }
+        buffer.putShort((short) TAG_ESCAPE);
+        writeLiteral(buffer, tag);
+    }
+
+    private String readTag(final ByteBuffer buffer) {
+        final int value = buffer.getShort() & 0xFFFF;
+        if (value == TAG_ESCAPE) {
+            return readString(buffer, false);
+        }
+        if (value > 999) {
+            throw new MarcException("Malformed tag in compact encoded record: " + value);
+        }
+        return NUMERIC_TAGS[value];
+    }
+
+    /*
+     * A string is written as a varint header followed by its UTF-8 bytes. A header of 0 is a null string, an odd
+     * header is a reference to dictionary entry (header >>> 1) and an even header is a literal of
+     * ((header >>> 1) - 1) bytes. Shared dictionary entries come first, followed by the per-record entries in the
+     * order their literals were written.
+     */
+    private void writeString(final ByteBuffer buffer, final String value) {
+        if (value == null) {
+            buffer.put((byte) 0);
+            return;
+        }
+        Integer index = sharedDictionary != null ? sharedIndex.get(value) : null;
+        if (index == null && useDictionary) {
+            index = encodeDictionary.get(value);
+        }
+        if (index != null) {
+            writeVarInt(buffer, (index.intValue() << 1) | 1);
+            return;
+        }
+        final int length = writeLiteral(buffer, value);
+        if (useDictionary && length <= MAX_DICTIONARY_ENTRY_LENGTH) {
+            final int shared = sharedDictionary != null ? sharedDictionary.length : 0;
+            encodeDictionary.put(value, Integer.valueOf(shared + encodeDictionary.size()));
+        }
+    }
+
+    private int writeLiteral(final ByteBuffer buffer, final String value) {
+        if (value == null) {
+            buffer.put((byte) 0);
+            return 0;
+        }
+        final int len = value.length();
+        int i = 0;
+        while (i < len && value.charAt(i) < 0x80) {
+            i++;
+        }
+        if (i == len) {
+            writeVarInt(buffer, (len + 1) << 1);
+            for (i = 0; i < len; i++) {
+                buffer.put((byte) value.charAt(i));
+            }
+            return len;
+        }
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(buffer, (bytes.length + 1) << 1);
+        buffer.put(bytes);
+        return bytes.length;
+    }
+
+    private String readString(final ByteBuffer buffer, final boolean dictionary) {
+        final int header = readVarInt(buffer);
+        if (header == 0) {
+            return null;
+        }
+        if ((header & 1) != 0) {
+            final int index = header >>> 1;
+            if (index < decodeSharedSize) {
+                return sharedDictionary[index];
+            }
+            if (index - decodeSharedSize >= decodeDictionary.size()) {
+                throw new MarcException("Invalid dictionary reference in compact encoded record: " + index);
+            }
+            return decodeDictionary.get(index - decodeSharedSize);
+        }
+        final int length = (header >>> 1) - 1;
+        final String value;
+        if (buffer.hasArray()) {
+            final int offset = buffer.arrayOffset() + buffer.position();
+            if (length > buffer.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            value = new String(buffer.array(), offset, length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        } else {
+            if (stringBytes.length < length) {
+                stringBytes = new byte[Math.max(length, stringBytes.length * 2)];
+            }
+            buffer.get(stringBytes, 0, length);
+            value = new String(stringBytes, 0, length, StandardCharsets.UTF_8);
+        }
+        if (dictionary && length <= MAX_DICTIONARY_ENTRY_LENGTH) {
+            decodeDictionary.add(value);
+        }
+        return value;
+    }
+
+}
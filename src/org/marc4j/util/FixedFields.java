@@ -0,0 +1,129 @@
+package org.marc4j.util;
+
+import org.marc4j.marc.ControlField;
+
+/**
+ * Named accessors for commonly used positions of the 006, 007 and 008 control fields of bibliographic records.
+ * They read single characters and digits straight from the field data, so checking them does not create any
+ * strings. Positions beyond the end of a short field read as blanks; use {@link ControlField#charAt(int)},
+ * {@link ControlField#intAt(int, int)} and {@link ControlField#matchesAt(int, CharSequence)} for other positions.
+ * Leader values are available from {@link org.marc4j.marc.Leader} directly, for example
+ * {@link org.marc4j.marc.Leader#getTypeOfRecord()} and {@link org.marc4j.marc.Leader#getBibliographicLevel()}.
+ *
+ * <pre>
+ * ControlField f008 = (ControlField) record.getVariableField("008");
+ * if (FixedFields.isLanguage(f008, "eng") &amp;&amp; FixedFields.getDate1(f008) &gt;= 2000) {
+ *     ...
+ * }
+ * </pre>
+ */
+public final class FixedFields {
+
+    private FixedFields() {
+    }
+
+    /**
+     * Returns the type of date/publication status (008/06).
+     *
+     * @param f008 - the 008 field
+     * @return the type of date
+     */
+    public static char getTypeOfDate(final ControlField f008) {
+        return f008.charAt(6);
+    }
+
+    /**
+     * Returns Date 1 (008/07-10) as a number, or -1 if it is not four digits, for example when it contains 'u' for
+     * unknown digits.
+     *
+     * @param f008 - the 008 field
+     * @return Date 1, or -1
+     */
+    public static int getDate1(final ControlField f008) {
+        return f008.intAt(7, 4);
+    }
+
+    /**
+     * Returns Date 2 (008/11-14) as a number, or -1 if it is not four digits.
+     *
+     * @param f008 - the 008 field
+     * @return Date 2, or -1
+     */
+    public static int getDate2(final ControlField f008) {
+        return f008.intAt(11, 4);
+    }
+
+    /**
+     * Returns true if the place of publication, production or execution (008/15-17) is the supplied code. Two
+     * letter codes are padded with a blank, for example "nyu" or "fr ".
+     *
+     * @param f008 - the 008 field
+     * @param code - the MARC country code
+     * @return true if the place matches the code
+     */
+    public static boolean isPlaceOfPublication(final ControlField f008, final String code) {
+        return f008.matchesAt(15, code);
+    }
+
+    /**
+     * Returns true if the language (008/35-37) is the supplied code, for example "eng".
+     *
+     * @param f008 - the 008 field
+     * @param code - the MARC language code
+     * @return true if the language matches the code
+     */
+    public static boolean isLanguage(final ControlField f008, final String code) {
+        return f008.matchesAt(35, code);
+    }
+
+    /**
+     * Returns the modified record code (008/38).
+     *
+     * @param f008 - the 008 field
+     * @return the modified record code
+     */
+    public static char getModifiedRecord(final ControlField f008) {
+        return f008.charAt(38);
+    }
+
+    /**
+     * Returns the cataloging source (008/39).
+     *
+     * @param f008 - the 008 field
+     * @return the cataloging source
+     */
+    public static char getCatalogingSource(final ControlField f008) {
+        return f008.charAt(39);
+    }
+
+    /**
+     * Returns the form of material (006/00).
+     *
+     * @param f006 - the 006 field
+     * @return the form of material
+     */
+    public static char getFormOfMaterial(final ControlField f006) {
+        return f006.charAt(0);
+    }
+
+    /**
+     * Returns the category of material (007/00).
+     *
+     * @param f007 - the 007 field
+     * @return the category of material
+     */
+    public static char getCategoryOfMaterial(final ControlField f007) {
+        return f007.charAt(0);
+    }
+
+    /**
+     * Returns the specific material designation (007/01).
+     *
+     * @param f007 - the 007 field
+     * @return the specific material designation
+     */
+    public static char getSpecificMaterialDesignation(final ControlField f007) {
+        return f007.charAt(1);
+    }
+
+}
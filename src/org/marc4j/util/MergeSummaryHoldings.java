@@ -3,6 +3,7 @@ package org.marc4j.util;
 import java.io.*;
 import java.util.*;
 
+import org.marc4j.marc.MarcFactory;
 import org.marc4j.marc.Record;
 import org.marc4j.marc.ControlField;
 import org.marc4j.marc.VariableField;
@@ -471,8 +472,8 @@ public class MergeSummaryHoldings implements MarcReader
                 if (matchingRawMhldRec != null)
                 {
                 	// remove any existing fields in the bib record that duplicate mhld fields to be merged into the bib record
-                    Record bibRecWithChanges = rawBibRecCurrent.getAsRecord(true, false, "999", "MARC8");
-                    Record bibRecWithoutChanges = null;                    
+                    Record bibRecWithoutChanges = rawBibRecCurrent.getAsRecord(true, false, "999", "MARC8");
+                    Record bibRecWithChanges = MarcFactory.newInstance().deepCopy(bibRecWithoutChanges);
                     boolean removedField = false;
                     List<VariableField> lvf = (List<VariableField>) bibRecWithChanges.getVariableFields(DEFAULT_MHLD_FLDS_TO_MERGE.split("[|]"));
                     for (VariableField vf : lvf)
@@ -481,10 +482,6 @@ public class MergeSummaryHoldings implements MarcReader
                         removedField = true;
                     }
                     
-                    // we will ensure that there is a difference between the orig record and the rec with removed field(s)
-                    if (removedField) 
-                    	bibRecWithoutChanges = rawBibRecCurrent.getAsRecord(true, false, "999", "MARC8");
-
                     Record matchingMhldRec = matchingRawMhldRec.getAsRecord(true, false, DEFAULT_MHLD_FLDS_TO_MERGE, "MARC8");
                     
                     // prepare the merged record
@@ -0,0 +1,268 @@
+package org.marc4j.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * An output stream that writes gzip compressed data, compressing blocks of a fixed size on a pool of worker threads.
+ * Each block becomes a gzip member of its own, and the members are written in order, so the output is a valid
+ * multi-member gzip stream that <code>gunzip</code>, <code>zcat</code> and {@link java.util.zip.GZIPInputStream} read
+ * as the concatenation of the blocks. Since the blocks are compressed independently, the output is slightly larger
+ * than that of a single-threaded {@link java.util.zip.GZIPOutputStream}.
+ * <p>
+ * It can be placed under any of the writers, for example:
+ * </p>
+ *
+ * <pre>
+ * MarcWriter writer = new MarcXmlWriter(new ParallelGzipOutputStream(new FileOutputStream(&quot;records.xml.gz&quot;)));
+ * </pre>
+ * <p>
+ * Like a {@link java.util.zip.GZIPOutputStream} without sync flush, {@link #flush()} only writes out the blocks that
+ * have already been compressed; the data of the current block is kept until the block is full or the stream is
+ * closed, so writers that flush after every record do not make the compression worse. The stream is meant to be used
+ * from a single thread.
+ * </p>
+ */
+public class ParallelGzipOutputStream extends OutputStream {
+
+    /** The default size of the blocks that are compressed independently. */
+    public static final int DEFAULT_BLOCK_SIZE = 128 * 1024;
+
+    private static final byte[] HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0 };
+
+    private static final AtomicInteger poolNumber = new AtomicInteger();
+
+    private final OutputStream out;
+
+    private final int blockSize;
+
+    private final int level;
+
+    private final ExecutorService executor;
+
+    private final ArrayDeque<Future<byte[]>> pending = new ArrayDeque<Future<byte[]>>();
+
+    private final int maxPending;
+
+    private byte[] block;
+
+    private int length = 0;
+
+    private boolean written = false;
+
+    private boolean closed = false;
+
+    /**
+     * Constructs a stream with a worker thread for each available processor, the default block size and the default
+     * compression level.
+     *
+     * @param out - the output stream to write the compressed data to
+     */
+    public ParallelGzipOutputStream(final OutputStream out) {
+        this(out, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a stream with the supplied number of worker threads, the default block size and the default
+     * compression level.
+     *
+     * @param out - the output stream to write the compressed data to
+     * @param threads - the number of worker threads
+     */
+    public ParallelGzipOutputStream(final OutputStream out, final int threads) {
+        this(out, threads, DEFAULT_BLOCK_SIZE, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Constructs a stream with the supplied number of worker threads, block size and compression level.
+     *
+     * @param out - the output stream to write the compressed data to
+     * @param threads - the number of worker threads
+     * @param blockSize - the number of bytes compressed into each gzip member
+     * @param level - the compression level, from 0 to 9, or {@link Deflater#DEFAULT_COMPRESSION}
+     */
+    public ParallelGzipOutputStream(final OutputStream out, final int threads, final int blockSize, final int level) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("The number of threads must be at least 1: " + threads);
+        }
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("The block size must be at least 1: " + blockSize);
+        }
+        if ((level < 0 || level > 9) && level != Deflater.DEFAULT_COMPRESSION) {
+            throw new IllegalArgumentException("Invalid compression level: " + level);
+        }
+        this.out = out;
+        this.blockSize = blockSize;
+        this.level = level;
+        this.maxPending = threads * 2;
+        this.block = new byte[blockSize];
+
+        final String prefix = "marc4j-gzip-" + poolNumber.incrementAndGet() + "-";
+        executor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+
+            private final AtomicInteger threadNumber = new AtomicInteger();
+
+            @Override
+            public Thread newThread(final Runnable task) {
+                final Thread thread = new Thread(task, prefix + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        if (length == blockSize) {
+            submit();
+        }
+        block[length++] = (byte) b;
+    }
+
+    @Override
+    public void write(final byte[] b, int off, int len) throws IOException {
+        if (off < 0 || len < 0 || off + len > b.length) {
+            throw new IndexOutOfBoundsException();
+        }
+        while (len > 0) {
+            if (length == blockSize) {
+                submit();
+            }
+            final int n = Math.min(len, blockSize - length);
+            System.arraycopy(b, off, block, length, n);
+            length += n;
+            off += n;
+            len -= n;
+        }
+    }
+
+    /**
+     * Writes out the blocks that have been compressed so far and flushes the output stream. The data of the current
+     * block, and of blocks still being compressed, is written later.
+     */
+    @Override
+    public void flush() throws IOException {
+        if (closed) {
+            throw new IOException("The stream has been closed");
+        }
+        writeCompleted();
+        out.flush();
+    }
+
+    /**
+     * Compresses and writes out the remaining data, stops the worker threads and closes the output stream.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            // an empty gzip member, so that a stream with no data is still a valid gzip file
+            if (length > 0 || !written) {
+                submit();
+            }
+            while (!pending.isEmpty()) {
+                writeNext();
+            }
+        } finally {
+            closed = true;
+            for (final Future<byte[]> future : pending) {
+                future.cancel(false);
+            }
+            pending.clear();
+            executor.shutdown();
+            out.close();
+        }
+    }
+
+    private void submit() throws IOException {
+        if (closed) {
+            throw new IOException("The stream has been closed");
+        }
+        while (pending.size() >= maxPending) {
+            writeNext();
+        }
+
+        final byte[] data = block;
+        final int size = length;
+        pending.add(executor.submit(new Callable<byte[]>() {
+
+            @Override
+            public byte[] call() {
+                return compress(data, size, level);
+            }
+        }));
+        written = true;
+        block = new byte[blockSize];
+        length = 0;
+
+        writeCompleted();
+    }
+
+    /**
+     * Writes out the compressed blocks at the head of the queue, without waiting for the others.
+     */
+    private void writeCompleted() throws IOException {
+        while (!pending.isEmpty() && pending.peek().isDone()) {
+            writeNext();
+        }
+    }
+
+    private void writeNext() throws IOException {
+        final Future<byte[]> future = pending.remove();
+        try {
+            out.write(future.get());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for a block to be compressed", e);
+        } catch (final ExecutionException e) {
+            throw new IOException("Error occured while compressing a block", e.getCause());
+        }
+    }
+
+    /**
+     * Returns the supplied data as a complete gzip member.
+     */
+    private static byte[] compress(final byte[] data, final int length, final int level) {
+        final ByteArrayOutputStream member = new ByteArrayOutputStream(length / 2 + 64);
+        member.write(HEADER, 0, HEADER.length);
+
+        final Deflater deflater = new Deflater(level, true);
+        try {
+            deflater.setInput(data, 0, length);
+            deflater.finish();
+            final byte[] buffer = new byte[Math.min(Math.max(length, 64), 64 * 1024)];
+            while (!deflater.finished()) {
+                member.write(buffer, 0, deflater.deflate(buffer));
+            }
+        } finally {
+            deflater.end();
+        }
+
+        final CRC32 crc = new CRC32();
+        crc.update(data, 0, length);
+        writeInt(member, (int) crc.getValue());
+        writeInt(member, length);
+        return member.toByteArray();
+    }
+
+    private static void writeInt(final ByteArrayOutputStream out, final int value) {
+        out.write(value);
+        out.write(value >>> 8);
+        out.write(value >>> 16);
+        out.write(value >>> 24);
+    }
+
+}
@@ -8,12 +8,11 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
 
 import org.marc4j.Constants;
 import org.marc4j.MarcPermissiveStreamReader;
 import org.marc4j.marc.Record;
+import org.marc4j.marc.RecordVisitor;
 import org.marc4j.marc.VariableField;
 
 //import org.marc4j.MarcReader;
@@ -230,14 +229,16 @@ public class RawRecord {
         if (combinePartials != null) {
             while (reader.hasNext()) {
                 final Record nextNext = reader.next();
-                final List<VariableField> fieldsAll = nextNext.getVariableFields();
-                final Iterator<VariableField> fieldIter = fieldsAll.iterator();
-                while (fieldIter.hasNext()) {
-                    final VariableField vf = fieldIter.next();
-                    if (combinePartials.contains(vf.getTag())) {
-                        next.addVariableField(vf);
+                nextNext.forEachField(new RecordVisitor() {
+
+                    @Override
+                    public boolean visitField(final VariableField vf) {
+                        if (combinePartials.contains(vf.getTag())) {
+                            next.addVariableField(vf);
+                        }
+                        return true;
                     }
-                }
+                });
             }
         }
         return (next);
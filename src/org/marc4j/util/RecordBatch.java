@@ -0,0 +1,733 @@
+package org.marc4j.util;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.marc4j.MarcException;
+import org.marc4j.marc.ControlField;
+import org.marc4j.marc.DataField;
+import org.marc4j.marc.Leader;
+import org.marc4j.marc.MarcFactory;
+import org.marc4j.marc.Record;
+import org.marc4j.marc.Subfield;
+
+/**
+ * A large number of records kept outside the Java heap, in direct <code>ByteBuffer</code> segments. Records are
+ * appended once and then read through {@link RecordView}s, flyweights that read tags, indicators and subfields
+ * straight from the buffers without creating field objects; only the strings a caller asks for are created. A
+ * record can be turned back into a {@link Record} with {@link RecordView#toRecord()} or {@link #getRecord(int)}.
+ * <p>
+ * On the heap, the batch only keeps the position of each record, so millions of records can be held without the
+ * garbage collector having to trace their fields. Records can be sorted by a key, which reorders those positions
+ * and leaves the records where they are.
+ * </p>
+ * <p>
+ * Within a record, a directory gives the tag and position of each field, so fields are found without reading the
+ * ones before them. Strings are stored as UTF-8 and lengths as varints. The record's id and errors are not stored.
+ * </p>
+ * <p>
+ * Appending and sorting are not thread-safe. Once a batch is filled, several threads can read it, each through its
+ * own views.
+ * </p>
+ *
+ * <pre>
+ * RecordBatch batch = new RecordBatch();
+ * while (reader.hasNext()) {
+ *     batch.append(reader.next());
+ * }
+ * batch.sort(view -&gt; view.getControlNumber());
+ * for (RecordBatch.RecordView view : batch) {
+ *     int field = view.indexOf("852");
+ *     if (field &gt;= 0) {
+ *         String location = view.getSubfieldData(field, 'b');
+ *     }
+ * }
+ * </pre>
+ */
+public class RecordBatch implements Iterable<RecordBatch.RecordView> {
+
+    /** The default size of the buffer segments, 16 MB. */
+    public static final int DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024;
+
+    /** Tag value marking a tag that is not three digits, the tag itself starts the field's data. */
+    private static final int TAG_ESCAPE = 0xFFFF;
+
+    private static final int HEADER_SIZE = 12;
+
+    private static final int DIRECTORY_ENTRY_SIZE = 6;
+
+    private final MarcFactory factory;
+
+    private final int segmentSize;
+
+    private final List<ByteBuffer> segments = new ArrayList<ByteBuffer>();
+
+    /** The segment (upper 32 bits) and offset (lower 32 bits) of each record, in batch order. */
+    private long[] positions = new long[1024];
+
+    private int size;
+
+    private long byteSize;
+
+    private ByteBuffer scratch = ByteBuffer.allocate(4096);
+
+    /**
+     * Creates a batch with the default segment size, which creates records with the default {@link MarcFactory}.
+     */
+    public RecordBatch() {
+        this(MarcFactory.newInstance(), DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Creates a batch that allocates direct buffers of the supplied size and creates records with the supplied
+     * factory. A record larger than the segment size gets a segment of its own.
+     *
+     * @param factory - the factory used to create records from the batch
+     * @param segmentSize - the size of the direct buffers in bytes
+     */
+    public RecordBatch(final MarcFactory factory, final int segmentSize) {
+        if (segmentSize < 1024) {
+            throw new IllegalArgumentException("Segment size must be at least 1024 bytes: " + segmentSize);
+        }
+        this.factory = factory;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Returns the number of records in this batch.
+     *
+     * @return the number of records
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of bytes the records take up in the direct buffers.
+     *
+     * @return the number of bytes used
+     */
+    public long getByteSize() {
+        return byteSize;
+    }
+
+    /**
+     * Appends a copy of the supplied record to this batch.
+     *
+     * @param record - the record to append
+     * @return the index of the record in the batch
+     */
+    public int append(final Record record) {
+        while (true) {
+            scratch.clear();
+            try {
+                encode(record, scratch);
+                break;
+            } catch (final BufferOverflowException e) {
+                scratch = ByteBuffer.allocate(scratch.capacity() * 2);
+            }
+        }
+        scratch.flip();
+        final int length = scratch.remaining();
+
+        ByteBuffer segment = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+        if (segment == null || segment.remaining() < length) {
+            segment = ByteBuffer.allocateDirect(Math.max(segmentSize, length));
+            segments.add(segment);
+        }
+        final long position = (long) (segments.size() - 1) << 32 | segment.position();
+        segment.put(scratch);
+
+        if (size == positions.length) {
+            positions = Arrays.copyOf(positions, size * 2);
+        }
+        positions[size] = position;
+        byteSize += length;
+        return size++;
+    }
+
+    /**
+     * Returns a new view positioned on the record at the supplied index.
+     *
+     * @param index - the index of the record
+     * @return a view of the record
+     */
+    public RecordView get(final int index) {
+        final RecordView view = new RecordView();
+        view.moveTo(index);
+        return view;
+    }
+
+    /**
+     * Returns a new {@link Record} with the content of the record at the supplied index.
+     *
+     * @param index - the index of the record
+     * @return the record
+     */
+    public Record getRecord(final int index) {
+        return get(index).toRecord();
+    }
+
+    /**
+     * Returns an iterator over the records of this batch, in batch order. The iterator returns the same view each
+     * time, positioned on the next record.
+     */
+    @Override
+    public Iterator<RecordView> iterator() {
+        return new Iterator<RecordView>() {
+
+            private final RecordView view = new RecordView();
+
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public RecordView next() {
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                view.moveTo(next++);
+                return view;
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    /**
+     * Sorts the records of this batch by the keys the supplied function returns for them, in natural string
+     * order. Records without a key come last.
+     *
+     * @param key - the function that returns the key of a record
+     */
+    public void sort(final Key key) {
+        sort(key, null);
+    }
+
+    /**
+     * Sorts the records of this batch by the keys the supplied function returns for them, in the order of the
+     * supplied comparator, such as a {@link StringNaturalCompare}. The key of each record is computed once. The
+     * sort is stable and records without a key come last.
+     *
+     * @param key - the function that returns the key of a record
+     * @param comparator - the order of the keys, or null for natural string order
+     */
+    public void sort(final Key key, final Comparator<String> comparator) {
+        final Entry[] entries = new Entry[size];
+        final RecordView view = new RecordView();
+        for (int i = 0; i < size; i++) {
+            view.moveTo(i);
+            entries[i] = new Entry(key.keyOf(view), positions[i]);
+        }
+
+        Arrays.sort(entries, new Comparator<Entry>() {
+
+            @Override
+            public int compare(final Entry a, final Entry b) {
+                if (a.key == null || b.key == null) {
+                    return a.key == null ? b.key == null ? 0 : 1 : -1;
+                }
+                return comparator == null ? a.key.compareTo(b.key) : comparator.compare(a.key, b.key);
+            }
+        });
+
+        for (int i = 0; i < size; i++) {
+            positions[i] = entries[i].position;
+        }
+    }
+
+    /**
+     * Removes all records and releases the buffers.
+     */
+    public void clear() {
+        segments.clear();
+        positions = new long[1024];
+        size = 0;
+        byteSize = 0;
+    }
+
+    /**
+     * Returns the key a record is sorted by.
+     */
+    public interface Key {
+
+        /**
+         * Returns the key of the record the supplied view is positioned on.
+         *
+         * @param view - the view of the record
+         * @return the key of the record, or null if it has none
+         */
+        public String keyOf(RecordView view);
+
+    }
+
+    private static final class Entry {
+
+        final String key;
+
+        final long position;
+
+        Entry(final String key, final long position) {
+            this.key = key;
+            this.position = position;
+        }
+
+    }
+
+    /*
+     * A record consists of its length, the number of fields, the number of control fields, a directory with the tag
+     * (2 bytes) and offset (4 bytes) of each field, the leader, the type and the fields. Control fields come before
+     * data fields. Strings are written as a varint of their UTF-8 length plus one, 0 being null, followed by the
+     * bytes; a control field is its data, a data field its indicators, number of subfields and each subfield's code
+     * and data.
+     */
+    private static void encode(final Record record, final ByteBuffer buffer) {
+        final List<ControlField> controlFields = record.getControlFields();
+        final List<DataField> dataFields = record.getDataFields();
+        final int fieldCount = controlFields.size() + dataFields.size();
+
+        final int directoryEnd = HEADER_SIZE + fieldCount * DIRECTORY_ENTRY_SIZE;
+        if (directoryEnd > buffer.capacity()) {
+            throw new BufferOverflowException();
+        }
+        buffer.position(directoryEnd);
+        final Leader leader = record.getLeader();
+        writeString(buffer, leader == null ? null : leader.toString());
+        writeString(buffer, record.getType());
+
+        int field = 0;
+        for (final ControlField cf : controlFields) {
+            writeTag(buffer, field++, cf.getTag());
+            writeString(buffer, cf.getData());
+        }
+        for (final DataField df : dataFields) {
+            writeTag(buffer, field++, df.getTag());
+            CompactRecordCodec.writeVarInt(buffer, df.getIndicator1());
+            CompactRecordCodec.writeVarInt(buffer, df.getIndicator2());
+            final List<Subfield> subfields = df.getSubfields();
+            CompactRecordCodec.writeVarInt(buffer, subfields.size());
+            for (final Subfield sf : subfields) {
+                CompactRecordCodec.writeVarInt(buffer, sf.getCode());
+                writeString(buffer, sf.getData());
+            }
+        }
+
+        buffer.putInt(0, buffer.position());
+        buffer.putInt(4, fieldCount);
+        buffer.putInt(8, controlFields.size());
+    }
+
+    private static void writeTag(final ByteBuffer buffer, final int field, final String tag) {
+        final int entry = HEADER_SIZE + field * DIRECTORY_ENTRY_SIZE;
+        final int code = tagCode(tag);
+        buffer.putShort(entry, (short) code);
+        buffer.putInt(entry + 2, buffer.position());
+        if (code == TAG_ESCAPE) {
+            writeString(buffer, tag);
+        }
+    }
+
+    /**
+     * Returns the number a three digit tag stands for, or <code>TAG_ESCAPE</code>.
+     */
+    private static int tagCode(final String tag) {
+        if (tag != null && tag.length() == 3) {
+            final int c0 = tag.charAt(0) - '0';
+            final int c1 = tag.charAt(1) - '0';
+            final int c2 = tag.charAt(2) - '0';
+            if (c0 >= 0 && c0 <= 9 && c1 >= 0 && c1 <= 9 && c2 >= 0 && c2 <= 9) {
+                return c0 * 100 + c1 * 10 + c2;
+            }
+        }
+        return TAG_ESCAPE;
+    }
+
+    private static void writeString(final ByteBuffer buffer, final String value) {
+        if (value == null) {
+            buffer.put((byte) 0);
+            return;
+        }
+        final int len = value.length();
+        int i = 0;
+        while (i < len && value.charAt(i) < 0x80) {
+            i++;
+        }
+        if (i == len) {
+            CompactRecordCodec.writeVarInt(buffer, len + 1);
+            for (i = 0; i < len; i++) {
+                buffer.put((byte) value.charAt(i));
+            }
+        } else {
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            CompactRecordCodec.writeVarInt(buffer, bytes.length + 1);
+            buffer.put(bytes);
+        }
+    }
+
+    /**
+     * A view of one record of a {@link RecordBatch}. Fields are addressed by their index in the record, control
+     * fields first, in the order of {@link Record#getVariableFields()}; subfields by their index in the field. A view
+     * can be moved to another record, so a single view can be used to visit many records. A view is not
+     * thread-safe.
+     */
+    public final class RecordView {
+
+        private ByteBuffer segment;
+
+        private int start;
+
+        private int index = -1;
+
+        private int fieldCount;
+
+        private int controlFieldCount;
+
+        /** The position after the last varint or string read. */
+        private int cursor;
+
+        private byte[] bytes = new byte[256];
+
+        RecordView() {
+        }
+
+        /**
+         * Positions this view on the record at the supplied index.
+         *
+         * @param index - the index of the record in the batch
+         */
+        public void moveTo(final int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Record index out of range: " + index);
+            }
+            final long position = positions[index];
+            this.segment = segments.get((int) (position >>> 32));
+            this.start = (int) position;
+            this.index = index;
+            this.fieldCount = segment.getInt(start + 4);
+            this.controlFieldCount = segment.getInt(start + 8);
+        }
+
+        /**
+         * Returns the index in the batch of the record this view is positioned on.
+         *
+         * @return the index of the record
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * Returns the leader of the record.
+         *
+         * @return the leader
+         */
+        public String getLeader() {
+            return readString(start + HEADER_SIZE + fieldCount * DIRECTORY_ENTRY_SIZE);
+        }
+
+        /**
+         * Returns the type of the record.
+         *
+         * @return the type of the record
+         */
+        public String getType() {
+            return readString(skipString(start + HEADER_SIZE + fieldCount * DIRECTORY_ENTRY_SIZE));
+        }
+
+        /**
+         * Returns the data of the 001 field, or null if the record has none.
+         *
+         * @return the control number
+         */
+        public String getControlNumber() {
+            final int field = indexOf("001");
+            return field >= 0 && field < controlFieldCount ? getData(field) : null;
+        }
+
+        /**
+         * Returns the number of fields in the record.
+         *
+         * @return the number of fields
+         */
+        public int getFieldCount() {
+            return fieldCount;
+        }
+
+        /**
+         * Returns true if the field at the supplied index is a control field.
+         *
+         * @param field - the index of the field
+         * @return true if the field is a control field
+         */
+        public boolean isControlField(final int field) {
+            checkField(field);
+            return field < controlFieldCount;
+        }
+
+        /**
+         * Returns the tag of the field at the supplied index.
+         *
+         * @param field - the index of the field
+         * @return the tag
+         */
+        public String getTag(final int field) {
+            final int code = tagCodeAt(field);
+            return code == TAG_ESCAPE ? readString(fieldOffset(field)) : CompactRecordCodec.NUMERIC_TAGS[code];
+        }
+
+        /**
+         * Returns the index of the first field with the supplied tag, or -1 if there is none.
+         *
+         * @param tag - the tag to look for
+         * @return the index of the field, or -1
+         */
+        public int indexOf(final String tag) {
+            return indexOf(tag, 0);
+        }
+
+        /**
+         * Returns the index of the first field with the supplied tag at or after the supplied index, or -1 if there
+         * is none.
+         *
+         * @param tag - the tag to look for
+         * @param from - the index to start looking at
+         * @return the index of the field, or -1
+         */
+        public int indexOf(final String tag, final int from) {
+            final int code = tagCode(tag);
+            for (int i = Math.max(from, 0); i < fieldCount; i++) {
+                if (tagCodeAt(i) == code && (code != TAG_ESCAPE || tag.equals(getTag(i)))) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Returns the data of the control field at the supplied index.
+         *
+         * @param field - the index of a control field
+         * @return the data of the field
+         */
+        public String getData(final int field) {
+            if (!isControlField(field)) {
+                throw new MarcException("Field " + field + " is not a control field");
+            }
+            return readString(fieldData(field));
+        }
+
+        /**
+         * Returns the first indicator of the data field at the supplied index.
+         *
+         * @param field - the index of a data field
+         * @return the first indicator
+         */
+        public char getIndicator1(final int field) {
+            final int data = dataFieldData(field);
+            return (char) readVarInt(data);
+        }
+
+        /**
+         * Returns the second indicator of the data field at the supplied index.
+         *
+         * @param field - the index of a data field
+         * @return the second indicator
+         */
+        public char getIndicator2(final int field) {
+            final int data = dataFieldData(field);
+            readVarInt(data);
+            return (char) readVarInt(cursor);
+        }
+
+        /**
+         * Returns the number of subfields of the data field at the supplied index.
+         *
+         * @param field - the index of a data field
+         * @return the number of subfields
+         */
+        public int getSubfieldCount(final int field) {
+            return readVarInt(subfieldsStart(field));
+        }
+
+        /**
+         * Returns the code of a subfield.
+         *
+         * @param field - the index of a data field
+         * @param subfield - the index of the subfield in the field
+         * @return the subfield code
+         */
+        public char getSubfieldCode(final int field, final int subfield) {
+            return (char) readVarInt(subfieldOffset(field, subfield));
+        }
+
+        /**
+         * Returns the data of a subfield.
+         *
+         * @param field - the index of a data field
+         * @param subfield - the index of the subfield in the field
+         * @return the subfield data
+         */
+        public String getSubfieldData(final int field, final int subfield) {
+            readVarInt(subfieldOffset(field, subfield));
+            return readString(cursor);
+        }
+
+        /**
+         * Returns the data of the first subfield with the supplied code in the data field at the supplied index, or
+         * null if there is none.
+         *
+         * @param field - the index of a data field
+         * @param code - the subfield code
+         * @return the subfield data, or null
+         */
+        public String getSubfieldData(final int field, final char code) {
+            final int count = readVarInt(subfieldsStart(field));
+            int offset = cursor;
+            for (int i = 0; i < count; i++) {
+                final int c = readVarInt(offset);
+                if (c == code) {
+                    return readString(cursor);
+                }
+                offset = skipString(cursor);
+            }
+            return null;
+        }
+
+        /**
+         * Returns a new {@link Record} with the content of the record this view is positioned on.
+         *
+         * @return the record
+         */
+        public Record toRecord() {
+            final String leader = getLeader();
+            final Record record = leader == null ? factory.newRecord() : factory.newRecord(leader);
+            if (leader == null) {
+                record.setLeader(null);
+            }
+            record.setType(readString(cursor));
+
+            for (int field = 0; field < fieldCount; field++) {
+                final String tag = getTag(field);
+                if (field < controlFieldCount) {
+                    record.addVariableField(factory.newControlField(tag, readString(fieldData(field))));
+                    continue;
+                }
+                final char ind1 = (char) readVarInt(fieldData(field));
+                final char ind2 = (char) readVarInt(cursor);
+                final DataField df = factory.newDataField(tag, ind1, ind2);
+                final int count = readVarInt(cursor);
+                for (int i = 0; i < count; i++) {
+                    final char code = (char) readVarInt(cursor);
+                    df.addSubfield(factory.newSubfield(code, readString(cursor)));
+                }
+                record.addVariableField(df);
+            }
+            return record;
+        }
+
+        private void checkField(final int field) {
+            if (field < 0 || field >= fieldCount) {
+                throw new IndexOutOfBoundsException("Field index out of range: " + field);
+            }
+        }
+
+        private int tagCodeAt(final int field) {
+            checkField(field);
+            return segment.getShort(start + HEADER_SIZE + field * DIRECTORY_ENTRY_SIZE) & 0xFFFF;
+        }
+
+        private int fieldOffset(final int field) {
+            return start + segment.getInt(start + HEADER_SIZE + field * DIRECTORY_ENTRY_SIZE + 2);
+        }
+
+        /**
+         * Returns the position of the field's content, after its tag if the tag is not numeric.
+         */
+        private int fieldData(final int field) {
+            final int offset = fieldOffset(field);
+            return tagCodeAt(field) == TAG_ESCAPE ? skipString(offset) : offset;
+        }
+
+        private int dataFieldData(final int field) {
+            if (isControlField(field)) {
+                throw new MarcException("Field " + field + " is not a data field");
+            }
+            return fieldData(field);
+        }
+
+        /**
+         * Returns the position of the subfield count of a data field.
+         */
+        private int subfieldsStart(final int field) {
+            readVarInt(dataFieldData(field));
+            readVarInt(cursor);
+            return cursor;
+        }
+
+        private int subfieldOffset(final int field, final int subfield) {
+            final int count = readVarInt(subfieldsStart(field));
+            if (subfield < 0 || subfield >= count) {
+                throw new IndexOutOfBoundsException("Subfield index out of range: " + subfield);
+            }
+            int offset = cursor;
+            for (int i = 0; i < subfield; i++) {
+                readVarInt(offset);
+                offset = skipString(cursor);
+            }
+            return offset;
+        }
+
+        private int readVarInt(final int offset) {
+            int position = offset;
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = segment.get(position++);
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            cursor = position;
+            return value;
+        }
+
+        private int skipString(final int offset) {
+            final int header = readVarInt(offset);
+            cursor += header == 0 ? 0 : header - 1;
+            return cursor;
+        }
+
+        private String readString(final int offset) {
+            final int header = readVarInt(offset);
+            if (header == 0) {
+                return null;
+            }
+            final int length = header - 1;
+            final int position = cursor;
+            if (bytes.length < length) {
+                bytes = new byte[Math.max(length, bytes.length * 2)];
+            }
+            for (int i = 0; i < length; i++) {
+                bytes[i] = segment.get(position + i);
+            }
+            cursor = position + length;
+            return new String(bytes, 0, length, StandardCharsets.UTF_8);
+        }
+
+    }
+
+}
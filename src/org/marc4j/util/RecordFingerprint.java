@@ -0,0 +1,94 @@
+package org.marc4j.util;
+
+import java.io.Serializable;
+
+/**
+ * A 128-bit fingerprint of the content of a {@link org.marc4j.marc.Record}, as computed by a
+ * {@link RecordHasher}. Fingerprints are stable across runs and JVMs, so they can be stored and compared later to
+ * detect changed or duplicate records without keeping the records themselves.
+ */
+public final class RecordFingerprint implements Serializable {
+
+    private static final long serialVersionUID = 4105937291946405373L;
+
+    private final long high;
+
+    private final long low;
+
+    /**
+     * Creates a fingerprint from its two halves.
+     *
+     * @param high - the upper 64 bits
+     * @param low - the lower 64 bits
+     */
+    public RecordFingerprint(final long high, final long low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * Parses a fingerprint from the 32 hexadecimal digits returned by {@link #toString()}.
+     *
+     * @param hex - the hexadecimal form of the fingerprint
+     * @return the fingerprint
+     * @throws NumberFormatException if the string is not 32 hexadecimal digits
+     */
+    public static RecordFingerprint valueOf(final String hex) {
+        if (hex.length() != 32) {
+            throw new NumberFormatException("A fingerprint has 32 hexadecimal digits: " + hex);
+        }
+        return new RecordFingerprint(Long.parseUnsignedLong(hex.substring(0, 16), 16),
+                Long.parseUnsignedLong(hex.substring(16), 16));
+    }
+
+    /**
+     * Returns the upper 64 bits of this fingerprint, which are also what {@link RecordHasher#hash64} returns.
+     *
+     * @return the upper 64 bits
+     */
+    public long getHigh() {
+        return high;
+    }
+
+    /**
+     * Returns the lower 64 bits of this fingerprint.
+     *
+     * @return the lower 64 bits
+     */
+    public long getLow() {
+        return low;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (!(obj instanceof RecordFingerprint)) {
+            return false;
+        }
+        final RecordFingerprint other = (RecordFingerprint) obj;
+        return high == other.high && low == other.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) high;
+    }
+
+    /**
+     * Returns the fingerprint as 32 lower case hexadecimal digits.
+     */
+    @Override
+    public String toString() {
+        final char[] chars = new char[32];
+        toHex(high, chars, 0);
+        toHex(low, chars, 16);
+        return new String(chars);
+    }
+
+    private static void toHex(long value, final char[] chars, final int offset) {
+        for (int i = offset + 15; i >= offset; i--) {
+            chars[i] = Character.forDigit((int) (value & 0xF), 16);
+            value >>>= 4;
+        }
+    }
+
+}
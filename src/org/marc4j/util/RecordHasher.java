@@ -0,0 +1,316 @@
+package org.marc4j.util;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.marc4j.marc.ControlField;
+import org.marc4j.marc.DataField;
+import org.marc4j.marc.Leader;
+import org.marc4j.marc.Record;
+import org.marc4j.marc.Subfield;
+import org.marc4j.marc.impl.LeaderImpl;
+
+/**
+ * Computes stable 64-bit hashes and 128-bit {@link RecordFingerprint}s of the content of records in a single pass
+ * over their fields, without rendering them to text. Records that are equal according to
+ * {@link Object#equals(Object)} on the default record implementation get the same fingerprint from a hasher with
+ * default settings.
+ * <p>
+ * The record length and base address of data in the leader are not hashed, since they are recomputed whenever a
+ * record is written; neither are the record's id, type and errors. A hasher can optionally ignore the leader, the
+ * order of the fields and fields with selected tags (such as the 005 transaction timestamp), which makes it suitable
+ * for detecting changed or duplicate records.
+ * </p>
+ * <p>
+ * The hash values only depend on the record content and are the same across runs and JVMs. A hasher can be shared
+ * between threads once it has been configured.
+ * </p>
+ *
+ * <pre>
+ * RecordHasher hasher = new RecordHasher();
+ * hasher.setIgnoredTags("005");
+ * RecordFingerprint fingerprint = hasher.fingerprint(record);
+ * </pre>
+ */
+public class RecordHasher {
+
+    private static final long SEED_A = 0xcbf29ce484222325L;
+
+    private static final long SEED_B = 0x6a09e667f3bcc909L;
+
+    private static final long PRIME_A = 0x100000001b3L;
+
+    private static final long PRIME_B = 0x9e3779b97f4a7c15L;
+
+    // markers lie outside the char range, so they can't be confused with data
+    private static final int LEADER_MARK = 0x10000;
+
+    private static final int TAG_MARK = 0x20000;
+
+    private static final int DATA_MARK = 0x30000;
+
+    private static final int SUBFIELD_MARK = 0x40000;
+
+    private static final int NULL_MARK = 0x50000;
+
+    private boolean ignoreFieldOrder = false;
+
+    private boolean ignoreLeader = false;
+
+    private Set<String> ignoredTags = Collections.emptySet();
+
+    /**
+     * Creates a hasher that takes the leader, all fields and their order into account.
+     */
+    public RecordHasher() {
+    }
+
+    /**
+     * Creates a hasher that ignores fields with the supplied tags and, optionally, the order of the fields.
+     *
+     * @param ignoreFieldOrder - true if records with the same fields in a different order should hash the same
+     * @param ignoredTags - the tags of fields that are not hashed
+     */
+    public RecordHasher(final boolean ignoreFieldOrder, final String... ignoredTags) {
+        setIgnoreFieldOrder(ignoreFieldOrder);
+        setIgnoredTags(ignoredTags);
+    }
+
+    /**
+     * Returns true if the order of the fields is ignored.
+     *
+     * @return true if the field order is ignored
+     */
+    public boolean isIgnoreFieldOrder() {
+        return ignoreFieldOrder;
+    }
+
+    /**
+     * Sets whether records with the same fields in a different order should hash the same. The order of the
+     * subfields within a field is always significant.
+     *
+     * @param ignoreFieldOrder - true to ignore the order of the fields
+     */
+    public void setIgnoreFieldOrder(final boolean ignoreFieldOrder) {
+        this.ignoreFieldOrder = ignoreFieldOrder;
+    }
+
+    /**
+     * Returns true if the leader is ignored.
+     *
+     * @return true if the leader is ignored
+     */
+    public boolean isIgnoreLeader() {
+        return ignoreLeader;
+    }
+
+    /**
+     * Sets whether the leader is left out of the hash.
+     *
+     * @param ignoreLeader - true to ignore the leader
+     */
+    public void setIgnoreLeader(final boolean ignoreLeader) {
+        this.ignoreLeader = ignoreLeader;
+    }
+
+    /**
+     * Returns the tags of the fields that are not hashed.
+     *
+     * @return the ignored tags
+     */
+    public Set<String> getIgnoredTags() {
+        return ignoredTags;
+    }
+
+    /**
+     * Sets the tags of the fields that are not hashed, for example "005".
+     *
+     * @param tags - the tags to ignore
+     */
+    public void setIgnoredTags(final String... tags) {
+        if (tags == null || tags.length == 0) {
+            ignoredTags = Collections.emptySet();
+        } else {
+            final Set<String> set = new HashSet<String>();
+            Collections.addAll(set, tags);
+            ignoredTags = Collections.unmodifiableSet(set);
+        }
+    }
+
+    /**
+     * Returns the 128-bit fingerprint of the supplied record.
+     *
+     * @param record - the record to hash
+     * @return the fingerprint
+     */
+    public RecordFingerprint fingerprint(final Record record) {
+        final Lanes lanes = new Lanes();
+        hash(record, lanes);
+        return new RecordFingerprint(lanes.a, lanes.b);
+    }
+
+    /**
+     * Returns a 64-bit hash of the supplied record. It is the upper half of the record's
+     * {@link #fingerprint(Record) fingerprint}.
+     *
+     * @param record - the record to hash
+     * @return the hash
+     */
+    public long hash64(final Record record) {
+        final Lanes lanes = new Lanes();
+        hash(record, lanes);
+        return lanes.a;
+    }
+
+    private void hash(final Record record, final Lanes result) {
+        final Lanes field = new Lanes();
+        long orderedA = SEED_A;
+        long orderedB = SEED_B;
+        long sumA = 0;
+        long sumB = 0;
+        int count = 0;
+
+        final Leader leader = record.getLeader();
+        if (!ignoreLeader && leader != null) {
+            field.reset();
+            hashLeader(leader, field);
+            field.finish();
+            orderedA = fmix64(orderedA ^ field.a);
+            orderedB = fmix64(orderedB ^ field.b);
+        }
+
+        for (final ControlField cf : record.getControlFields()) {
+            if (ignoredTags.contains(cf.getTag())) {
+                continue;
+            }
+            field.reset();
+            field.add(TAG_MARK);
+            field.add(cf.getTag());
+            field.add(DATA_MARK);
+            field.add(cf.getData());
+            field.finish();
+            if (ignoreFieldOrder) {
+                sumA += field.a;
+                sumB += field.b;
+            } else {
+                orderedA = fmix64(orderedA ^ field.a);
+                orderedB = fmix64(orderedB ^ field.b);
+            }
+            count++;
+        }
+
+        for (final DataField df : record.getDataFields()) {
+            if (ignoredTags.contains(df.getTag())) {
+                continue;
+            }
+            field.reset();
+            field.add(TAG_MARK);
+            field.add(df.getTag());
+            field.add(DATA_MARK);
+            field.add(df.getIndicator1());
+            field.add(df.getIndicator2());
+            for (final Subfield sf : df.getSubfields()) {
+                field.add(SUBFIELD_MARK);
+                field.add(sf.getCode());
+                field.add(sf.getData());
+            }
+            field.finish();
+            if (ignoreFieldOrder) {
+                sumA += field.a;
+                sumB += field.b;
+            } else {
+                orderedA = fmix64(orderedA ^ field.a);
+                orderedB = fmix64(orderedB ^ field.b);
+            }
+            count++;
+        }
+
+        result.a = fmix64(orderedA ^ sumA ^ count);
+        result.b = fmix64(orderedB ^ sumB ^ (count * PRIME_A));
+    }
+
+    private static void hashLeader(final Leader leader, final Lanes lanes) {
+        lanes.add(LEADER_MARK);
+        if (leader instanceof LeaderImpl) {
+            // the same values as below, read without copying the char arrays
+            final LeaderImpl ldr = (LeaderImpl) leader;
+            for (int i = 5; i < 10; i++) {
+                lanes.add(ldr.charAt(i));
+            }
+            lanes.add(ldr.getIndicatorCount());
+            lanes.add(ldr.getSubfieldCodeLength());
+            for (int i = 17; i < 20 + ldr.getEntryMapLength(); i++) {
+                lanes.add(ldr.charAt(i));
+            }
+            return;
+        }
+        lanes.add(leader.getRecordStatus());
+        lanes.add(leader.getTypeOfRecord());
+        lanes.add(leader.getImplDefined1());
+        lanes.add(leader.getCharCodingScheme());
+        lanes.add(leader.getIndicatorCount());
+        lanes.add(leader.getSubfieldCodeLength());
+        lanes.add(leader.getImplDefined2());
+        lanes.add(leader.getEntryMap());
+    }
+
+    /**
+     * The MurmurHash3 64-bit finalizer.
+     */
+    private static long fmix64(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * Two independent FNV-style hash lanes fed with the same values.
+     */
+    private static final class Lanes {
+
+        long a;
+
+        long b;
+
+        void reset() {
+            a = SEED_A;
+            b = SEED_B;
+        }
+
+        void add(final int value) {
+            a = (a ^ value) * PRIME_A;
+            b = (b ^ value) * PRIME_B;
+        }
+
+        void add(final String value) {
+            if (value == null) {
+                add(NULL_MARK);
+                return;
+            }
+            for (int i = 0; i < value.length(); i++) {
+                add(value.charAt(i));
+            }
+        }
+
+        void add(final char[] value) {
+            if (value == null) {
+                add(NULL_MARK);
+                return;
+            }
+            for (final char c : value) {
+                add(c);
+            }
+        }
+
+        void finish() {
+            a = fmix64(a);
+            b = fmix64(b);
+        }
+
+    }
+
+}
@@ -11,12 +11,14 @@ import org.marc4j.MarcReader;
 import org.marc4j.MarcPermissiveStreamReader;
 import org.marc4j.MarcStreamWriter;
 import org.marc4j.MarcWriter;
-import org.marc4j.marc.Record;
+import org.marc4j.ParallelMarcWriter;
+import org.marc4j.ShardingMarcWriter;
 
 /**
  * @author tod
  *
- * Provides a basic utility for splitting file of MARC records.
+ * Provides a basic utility for splitting file of MARC records, either into files of a given number of records or
+ * into a given number of files balanced by a hash of a key.
  */
 public class SplitFile {
 
@@ -31,6 +33,8 @@ public class SplitFile {
         String input = null;
         InputStream inStream = null;
         int count = 100;
+        int shards = 0;
+        String key = "001";
         String outBase = null;
         
         for (int i = 0; i < args.length; i++) {
@@ -45,6 +49,20 @@ public class SplitFile {
                 } catch (java.lang.NumberFormatException e) {
                     usage(1);
                 }
+            } else if (args[i].equals("-shards")) {
+                if (i == args.length - 1) {
+                    usage(1);
+                }
+                try {
+                    shards = Integer.parseInt(args[++i].trim());
+                } catch (java.lang.NumberFormatException e) {
+                    usage(1);
+                }
+            } else if (args[i].equals("-key")) {
+                if (i == args.length - 1) {
+                    usage(1);
+                }
+                key = args[++i].trim();
             } else if (args[i].equals("-out")) {
                 if (i == args.length - 1) {
                     usage(1);
@@ -77,26 +95,25 @@ public class SplitFile {
             }
         }
 
-        MarcReader reader = null;
-        try {
-            reader = new MarcPermissiveStreamReader(inStream, true, true);
-            int fcount = 0;
-            while (reader.hasNext()) {
-                fcount++;
-                String outName = String.format("%s-%02d%s", outBase, fcount, ".mrc");
-                OutputStream outStream = new FileOutputStream(outName);
-                MarcWriter writer = new MarcStreamWriter(outStream, true);
-                // System.out.println(String.format("Opened file %s\n", outName));
-                for (int i=0; i<count && reader.hasNext(); i++) {
-                    Record record = reader.next();
-                    writer.write(record);
-                }
-                writer.close();
+        final String outPrefix = outBase;
+        MarcReader reader = new MarcPermissiveStreamReader(inStream, true, true);
+        MarcWriter writer = new ShardingMarcWriter(new ShardingMarcWriter.OutputFactory() {
+
+            @Override
+            public OutputStream newOutput(int shard) throws IOException {
+                return new FileOutputStream(String.format("%s-%02d.mrc", outPrefix, shard + 1));
+            }
+        }, new ParallelMarcWriter.WriterFactory() {
+
+            @Override
+            public MarcWriter newWriter(OutputStream out) {
+                return new MarcStreamWriter(out, true);
             }
-        } catch (IOException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
+        }, shards > 0 ? ShardingMarcWriter.byHash(key, shards) : ShardingMarcWriter.byCount(count));
+        while (reader.hasNext()) {
+            writer.write(reader.next());
         }
+        writer.close();
         
         System.err.println("Total time: " + (System.currentTimeMillis() - start) + " miliseconds");
     }
@@ -105,6 +122,8 @@ public class SplitFile {
         System.err.println("Usage: org.marc4j.util.SplitFile [-options] <file.mrc>");
         System.err.println("\t-help: print this message");
         System.err.println("\t-count <num>: max number of records in an output file (default: 100)");
+        System.err.println("\t-shards <num>: split into this many output files by a hash of the key instead");
+        System.err.println("\t-key <spec>: tag and subfield codes of the key for -shards (default: 001)");
         System.err.println("\t-out: basename for output files (default: ouput)");
         System.err.println("\t-usage: print usage info (same as -help)");
         System.exit(status);
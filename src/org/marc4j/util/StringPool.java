@@ -0,0 +1,179 @@
+package org.marc4j.util;
+
+import java.lang.ref.WeakReference;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A pool of canonical <code>String</code> instances for values that repeat across many records, such as 040 $a
+ * "DLC", language codes or 336/337/338 terms. Records that are kept in memory then share one instance per value
+ * instead of holding millions of equal copies.
+ * <p>
+ * The pool is a fixed-size table of weak references: it never holds more than its capacity, a value that collides
+ * with another one simply replaces it, and values no longer used by any record can be garbage collected. Values
+ * longer than the maximum length are returned as they are, since long values rarely repeat. The pool is safe to
+ * share between threads and readers.
+ * </p>
+ * <p>
+ * A pool is used by setting it on a {@link org.marc4j.marc.MarcFactory}, or as the default for all factories
+ * created afterwards with {@link org.marc4j.marc.MarcFactory#setDefaultStringPool(StringPool)}.
+ * </p>
+ */
+public final class StringPool {
+
+    /** The default number of entries in a pool. */
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    /** The default maximum length of pooled values. */
+    public static final int DEFAULT_MAX_LENGTH = 64;
+
+    private final AtomicReferenceArray<WeakReference<String>> table;
+
+    private final int mask;
+
+    private final int maxLength;
+
+    /**
+     * Creates a pool with the default capacity and maximum value length.
+     */
+    public StringPool() {
+        this(DEFAULT_CAPACITY, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * Creates a pool for at most the supplied number of values, rounded up to a power of two, of at most the
+     * supplied length.
+     *
+     * @param capacity - the maximum number of values in the pool
+     * @param maxLength - the maximum length of the values that are pooled
+     */
+    public StringPool(final int capacity, final int maxLength) {
+        if (capacity < 2 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 2 and 2^30: " + capacity);
+        }
+        final int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.table = new AtomicReferenceArray<WeakReference<String>>(size);
+        this.mask = size - 1;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Returns the number of entries in this pool.
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Returns the maximum length of the values that are pooled.
+     *
+     * @return the maximum length
+     */
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    /**
+     * Returns the pooled instance equal to the supplied value, adding the value to the pool if there is none.
+     *
+     * @param value - the value to look up
+     * @return an equal pooled instance, or the value itself
+     */
+    public String intern(final String value) {
+        if (value == null || value.length() > maxLength) {
+            return value;
+        }
+        final int hash = value.hashCode();
+        final int index = indexFor(hash);
+
+        for (int i = index; i <= index + 1; i++) {
+            final String pooled = get(i);
+            if (pooled != null && pooled.hashCode() == hash && pooled.equals(value)) {
+                return pooled;
+            }
+        }
+        put(index, value);
+        return value;
+    }
+
+    /**
+     * Returns the pooled instance equal to the supplied encoded value. For ISO-8859-1 data, and for UTF-8 or
+     * US-ASCII data consisting of ASCII characters only, a value that is already pooled is found without decoding
+     * it.
+     *
+     * @param data - the encoded value
+     * @param charset - the character set of the value
+     * @return an equal pooled instance, or the newly decoded value
+     */
+    public String intern(final byte[] data, final Charset charset) {
+        if (data.length > maxLength) {
+            return new String(data, charset);
+        }
+
+        final boolean latin1 = StandardCharsets.ISO_8859_1.equals(charset);
+        if (latin1 || StandardCharsets.UTF_8.equals(charset) || StandardCharsets.US_ASCII.equals(charset)) {
+            // bytes map to chars one to one, so String.hashCode can be computed from them
+            int hash = 0;
+            for (final byte b : data) {
+                if (b < 0 && !latin1) {
+                    return intern(new String(data, charset));
+                }
+                hash = 31 * hash + (b & 0xFF);
+            }
+
+            final int index = indexFor(hash);
+            for (int i = index; i <= index + 1; i++) {
+                final String pooled = get(i);
+                if (pooled != null && pooled.hashCode() == hash && matches(pooled, data)) {
+                    return pooled;
+                }
+            }
+            final String value = new String(data, charset);
+            put(index, value);
+            return value;
+        }
+
+        return intern(new String(data, charset));
+    }
+
+    /**
+     * Removes all values from this pool.
+     */
+    public void clear() {
+        for (int i = 0; i < table.length(); i++) {
+            table.set(i, null);
+        }
+    }
+
+    private int indexFor(final int hash) {
+        // probing looks at this slot and the next one, so start on an even slot
+        return (hash ^ hash >>> 16) & mask & ~1;
+    }
+
+    private String get(final int index) {
+        final WeakReference<String> ref = table.get(index);
+        return ref == null ? null : ref.get();
+    }
+
+    private void put(final int index, final String value) {
+        // use a free slot of the pair if there is one, else replace the first one
+        final int slot = get(index) != null && get(index + 1) == null ? index + 1 : index;
+        table.set(slot, new WeakReference<String>(value));
+    }
+
+    private static boolean matches(final String pooled, final byte[] data) {
+        if (pooled.length() != data.length) {
+            return false;
+        }
+        for (int i = 0; i < data.length; i++) {
+            if (pooled.charAt(i) != (data[i] & 0xFF)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,186 @@
+package org.marc4j.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+import org.marc4j.AsyncMarcWriter;
+import org.marc4j.MarcException;
+import org.marc4j.MarcStreamWriter;
+import org.marc4j.MarcWriter;
+import org.marc4j.converter.CharConverter;
+import org.marc4j.marc.Record;
+import org.marc4j.test.utils.ResourceLoadUtils;
+import org.marc4j.test.utils.StaticTestRecords;
+
+public class AsyncMarcWriterTest {
+
+    @Test
+    public void testMatchesWrappedWriter() throws Exception {
+        List<Record> records = ResourceLoadUtils.getRecords(1000, StaticTestRecords.RESOURCES_CHABON_MRC);
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        MarcWriter writer = new MarcStreamWriter(expected, "UTF-8");
+        for (Record record : records) {
+            writer.write(record);
+        }
+        writer.close();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer = new AsyncMarcWriter(new MarcStreamWriter(out, "UTF-8"), 16);
+        for (Record record : records) {
+            writer.write(record);
+        }
+        writer.close();
+        assertArrayEquals(expected.toByteArray(), out.toByteArray());
+    }
+
+    @Test
+    public void testFlush() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        AsyncMarcWriter writer = new AsyncMarcWriter(new MarcStreamWriter(out, "UTF-8"));
+        List<Record> records = ResourceLoadUtils.getRecords(2, StaticTestRecords.RESOURCES_CHABON_MRC);
+        writer.write(records.get(0));
+        writer.write(records.get(1));
+        writer.flush();
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        MarcWriter direct = new MarcStreamWriter(expected, "UTF-8");
+        direct.write(records.get(0));
+        direct.write(records.get(1));
+        assertArrayEquals(expected.toByteArray(), out.toByteArray());
+        writer.close();
+    }
+
+    @Test
+    public void testDropWhenFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingWriter blocking = new BlockingWriter(release, -1);
+        AsyncMarcWriter writer = new AsyncMarcWriter(blocking, 2, AsyncMarcWriter.OverflowPolicy.DROP);
+        for (Record record : ResourceLoadUtils.getRecords(10, StaticTestRecords.RESOURCES_CHABON_MRC)) {
+            writer.write(record);
+        }
+        release.countDown();
+        writer.close();
+
+        assertTrue(writer.getDroppedCount() >= 7);
+        assertEquals(10, blocking.written + writer.getDroppedCount());
+    }
+
+    @Test
+    public void testErrorIsPropagated() throws Exception {
+        CountDownLatch release = new CountDownLatch(0);
+        AsyncMarcWriter writer = new AsyncMarcWriter(new BlockingWriter(release, 3), 4);
+        try {
+            for (Record record : ResourceLoadUtils.getRecords(100, StaticTestRecords.RESOURCES_CHABON_MRC)) {
+                writer.write(record);
+            }
+            writer.close();
+            fail("Expected a MarcException");
+        } catch (MarcException e) {
+            assertEquals("Failed on record 3", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testSetConverterAppliesToLaterRecords() throws Exception {
+        List<Record> records = ResourceLoadUtils.getRecords(10, StaticTestRecords.RESOURCES_CHABON_MRC);
+        CharConverter upperCase = new CharConverter() {
+
+            @Override
+            public String convert(char[] dataElement) {
+                return new String(dataElement).toUpperCase();
+            }
+
+            @Override
+            public boolean outputsUnicode() {
+                return true;
+            }
+        };
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        MarcWriter direct = new MarcStreamWriter(expected, "UTF-8");
+        final CountDownLatch release = new CountDownLatch(1);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        AsyncMarcWriter writer = new AsyncMarcWriter(new MarcStreamWriter(out, "UTF-8") {
+
+            @Override
+            public void write(Record record) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new MarcException("Interrupted", e);
+                }
+                super.write(record);
+            }
+        }, 16);
+        for (int i = 0; i < records.size(); i++) {
+            if (i == 5) {
+                direct.setConverter(upperCase);
+                writer.setConverter(upperCase);
+                assertSame(upperCase, writer.getConverter());
+            }
+            direct.write(records.get(i));
+            writer.write(records.get(i));
+        }
+        release.countDown();
+        direct.close();
+        writer.close();
+        assertArrayEquals(expected.toByteArray(), out.toByteArray());
+    }
+
+    /**
+     * A writer that waits to be released before writing, and fails on a given record.
+     */
+    private static class BlockingWriter implements MarcWriter {
+
+        private final CountDownLatch release;
+
+        private final int failOn;
+
+        private volatile int written = 0;
+
+        BlockingWriter(CountDownLatch release, int failOn) {
+            this.release = release;
+            this.failOn = failOn;
+        }
+
+        @Override
+        public void write(Record record) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new MarcException("Interrupted", e);
+            }
+            if (++written == failOn) {
+                throw new MarcException("Failed on record " + failOn);
+            }
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public CharConverter getConverter() {
+            return null;
+        }
+
+        @Override
+        public void setConverter(CharConverter converter) {
+        }
+
+        @Override
+        public boolean expectsUnicode() {
+            return true;
+        }
+    }
+
+}
@@ -0,0 +1,131 @@
+package org.marc4j.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.marc4j.MarcException;
+import org.marc4j.MarcReader;
+import org.marc4j.MarcStreamWriter;
+import org.marc4j.marc.DataField;
+import org.marc4j.marc.MarcFactory;
+import org.marc4j.marc.Record;
+import org.marc4j.test.utils.RecordTestingUtils;
+import org.marc4j.test.utils.ResourceLoadUtils;
+import org.marc4j.test.utils.StaticTestRecords;
+import org.marc4j.util.CompactRecordCodec;
+
+public class CompactRecordCodecTest {
+
+    private static List<Record> readRecords(String resource) {
+        List<Record> records = new ArrayList<Record>();
+        MarcReader reader = ResourceLoadUtils.getPermissiveMarc21Reader(resource);
+        while (reader.hasNext()) {
+            records.add(reader.next());
+        }
+        return records;
+    }
+
+    @Test
+    public void testRoundtrip() {
+        CompactRecordCodec codec = new CompactRecordCodec();
+        for (Record record : readRecords(StaticTestRecords.RESOURCES_CHINESE_WITH_CENTRAL_DOT_MRC)) {
+            Record decoded = codec.decode(codec.encode(record));
+            RecordTestingUtils.assertEquals(record, decoded);
+        }
+        for (Record record : StaticTestRecords.chabon) {
+            RecordTestingUtils.assertEquals(record, codec.decode(codec.encode(record)));
+        }
+    }
+
+    @Test
+    public void testRoundtripWithoutDictionary() {
+        CompactRecordCodec codec = new CompactRecordCodec(MarcFactory.newInstance(), false);
+        for (Record record : readRecords(StaticTestRecords.RESOURCES_CHABON_MRC)) {
+            RecordTestingUtils.assertEquals(record, codec.decode(codec.encode(record)));
+        }
+    }
+
+    @Test
+    public void testSharedDictionary() {
+        String[] shared = { "DLC", "Fiction." };
+        CompactRecordCodec withShared = new CompactRecordCodec(MarcFactory.newInstance(), true, shared);
+        CompactRecordCodec without = new CompactRecordCodec();
+        Record record = StaticTestRecords.chabon[0];
+        byte[] encoded = withShared.encode(record);
+        assertTrue(encoded.length < without.encode(record).length);
+        RecordTestingUtils.assertEquals(record, withShared.decode(encoded));
+
+        try {
+            without.decode(encoded);
+            throw new AssertionError("decoding without the shared dictionary should fail");
+        } catch (MarcException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testSmallerThanIso2709() {
+        CompactRecordCodec codec = new CompactRecordCodec();
+        for (Record record : readRecords(StaticTestRecords.RESOURCES_CHABON_MRC)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            MarcStreamWriter writer = new MarcStreamWriter(out, "UTF-8");
+            writer.write(record);
+            writer.close();
+            assertTrue(codec.encode(record).length < out.size());
+        }
+    }
+
+    @Test
+    public void testDirectBufferAndOddValues() {
+        MarcFactory factory = MarcFactory.newInstance();
+        Record record = factory.newRecord("00000nam a2200000 a 4500");
+        record.addVariableField(factory.newControlField("001", "id1"));
+        record.addVariableField(factory.newControlField("00X", "local control field"));
+        DataField df = factory.newDataField("LOC", 'é', ' ');
+        df.addSubfield(factory.newSubfield('a', "😀 emoji and 漢字"));
+        df.addSubfield(factory.newSubfield('b', ""));
+        df.addSubfield(factory.newSubfield('c', "\ud800 lone surrogate"));
+        record.addVariableField(df);
+
+        CompactRecordCodec codec = new CompactRecordCodec();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(1024);
+        int length = codec.encode(record, buffer);
+        assertEquals(length, buffer.position());
+        codec.encode(StaticTestRecords.chabon[1], buffer);
+        buffer.flip();
+
+        Record decoded = codec.decode(buffer);
+        assertEquals("LOC", decoded.getDataFields().get(0).getTag());
+        assertEquals('é', decoded.getDataFields().get(0).getIndicator1());
+        assertEquals("😀 emoji and 漢字", decoded.getDataFields().get(0).getSubfield('a').getData());
+        assertEquals("", decoded.getDataFields().get(0).getSubfield('b').getData());
+        assertEquals("? lone surrogate", decoded.getDataFields().get(0).getSubfield('c').getData());
+        assertEquals("local control field", decoded.getVariableField("00X").toString().substring(4));
+        RecordTestingUtils.assertEquals(StaticTestRecords.chabon[1], codec.decode(buffer));
+        assertEquals(0, buffer.remaining());
+    }
+
+    @Test
+    public void testStream() throws Exception {
+        CompactRecordCodec codec = new CompactRecordCodec();
+        List<Record> records = readRecords(StaticTestRecords.RESOURCES_CHABON_MRC);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (Record record : records) {
+            codec.write(record, out);
+        }
+        ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+        for (Record record : records) {
+            RecordTestingUtils.assertEquals(record, codec.read(in));
+        }
+        assertNull(codec.read(in));
+    }
+
+}
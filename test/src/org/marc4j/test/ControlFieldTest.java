@@ -3,8 +3,13 @@ package org.marc4j.test;
 import org.junit.Test;
 import org.marc4j.marc.ControlField;
 import org.marc4j.marc.MarcFactory;
+import org.marc4j.util.FixedFields;
+
+import java.nio.charset.StandardCharsets;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 
 public class ControlFieldTest  {
@@ -35,4 +40,25 @@ public class ControlFieldTest  {
         assertEquals(1, cf1.compareTo(cf2));
     }
 
+    @Test
+    public void testFixedPositions() throws Exception {
+        String data = "020805s2002    nyu    j      000 1 eng  ";
+        ControlField cf = factory.newControlField("008", data);
+        assertEquals('s', FixedFields.getTypeOfDate(cf));
+        assertEquals(2002, FixedFields.getDate1(cf));
+        assertEquals(-1, FixedFields.getDate2(cf));
+        assertTrue(FixedFields.isPlaceOfPublication(cf, "nyu"));
+        assertTrue(FixedFields.isLanguage(cf, "eng"));
+        assertFalse(FixedFields.isLanguage(cf, "fre"));
+        assertEquals(' ', cf.charAt(45));
+
+        ControlField encoded = factory.newControlField("008", ("\u00e9" + data.substring(1)).getBytes(StandardCharsets.UTF_8),
+                StandardCharsets.UTF_8);
+        assertEquals(2002, FixedFields.getDate1(encoded));
+        assertTrue(FixedFields.isLanguage(encoded, "eng"));
+        encoded = factory.newControlField("008", data.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+        assertTrue(FixedFields.isLanguage(encoded, "eng"));
+        assertEquals(' ', encoded.charAt(45));
+    }
+
 }
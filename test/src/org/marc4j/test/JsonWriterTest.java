@@ -59,6 +59,30 @@ public class JsonWriterTest  {
         writer.close();
     }
 
+    @Test
+    public void testMarcInJsonWriterJsonLines() throws Exception {
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        MarcJsonWriter writer = new MarcJsonWriter(expected, MarcJsonWriter.MARC_IN_JSON);
+        writeChabonRecords(writer);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer = new MarcJsonWriter(out, MarcJsonWriter.MARC_IN_JSON);
+        writer.setIndent(true);
+        writer.setJsonLines(true);
+        assertTrue(writer.isJsonLines());
+        writeChabonRecords(writer);
+        assertArrayEquals(expected.toByteArray(), out.toByteArray());
+
+        String[] lines = new String(out.toByteArray(), "UTF-8").split("\n");
+        assertEquals(2, lines.length);
+        for (String line : lines) {
+            MarcJsonReader reader = new MarcJsonReader(new ByteArrayInputStream(line.getBytes("UTF-8")));
+            assertTrue(reader.hasNext());
+            assertNotNull(reader.next().getControlNumber());
+            assertFalse(reader.hasNext());
+        }
+    }
+
     @Test
     public void testMarcJsonWriterConvertedToUTF8() throws Exception 
     {
@@ -194,6 +218,17 @@ public class JsonWriterTest  {
         out.close();
     }
 
+    private void writeChabonRecords(MarcJsonWriter writer) throws IOException {
+        InputStream input = getClass().getResourceAsStream(StaticTestRecords.RESOURCES_CHABON_MRC);
+        assertNotNull(StaticTestRecords.RESOURCES_CHABON_MRC, input);
+        MarcStreamReader reader = new MarcStreamReader(input);
+        while (reader.hasNext()) {
+            writer.write(reader.next());
+        }
+        input.close();
+        writer.close();
+    }
+
     private Record getJSONRecordFromFile(String fileName) {
         InputStream input = getClass().getResourceAsStream(fileName);
         assertNotNull(fileName,input);
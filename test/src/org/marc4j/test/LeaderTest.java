@@ -1,8 +1,15 @@
 package org.marc4j.test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+
 import junit.framework.TestCase;
 import org.marc4j.marc.Leader;
 import org.marc4j.marc.MarcFactory;
+import org.marc4j.marc.impl.LeaderImpl;
 
 public class LeaderTest extends TestCase {
 
@@ -35,4 +42,62 @@ public class LeaderTest extends TestCase {
         leader.unmarshal("00714cam a2200205 a 450");
         assertEquals("00714cam a2200205 a 450", leader.toString());
     }
+
+    public void testMarshalAfterChanges() {
+        Leader leader = factory.newLeader("00714cam a2200205 a 4500");
+        assertSame(leader.marshal(), leader.toString());
+
+        leader.setRecordStatus('n');
+        leader.setImplDefined2("7i ".toCharArray());
+        leader.setRecordLength(123);
+        assertEquals("00123nam a22002057i 4500", leader.toString());
+
+        leader.getEntryMap()[0] = '9';
+        assertEquals("00123nam a22002057i 4500", leader.toString());
+
+        leader.setRecordLength(123456);
+        assertEquals(123456, leader.getRecordLength());
+        assertEquals("99999nam a22002057i 4500", leader.toString());
+    }
+
+    public void testCharAt() {
+        Leader leader = factory.newLeader("00714cam a2200205 a 4500");
+        String marshalled = leader.marshal();
+        for (int i = 0; i < 24; i++) {
+            assertEquals("position " + i, marshalled.charAt(i), leader.charAt(i));
+        }
+        assertEquals('m', leader.getBibliographicLevel());
+        assertEquals(' ', leader.getTypeOfControl());
+        assertEquals(' ', leader.getEncodingLevel());
+        assertEquals('a', leader.getDescriptiveCatalogingForm());
+        assertEquals(' ', leader.getMultipartResourceRecordLevel());
+    }
+
+    public void testCharAtLongEntryMap() {
+        LeaderImpl leader = (LeaderImpl) factory.newLeader("00714cam a2200205 a 450012");
+        assertEquals(6, leader.getEntryMapLength());
+        assertEquals('1', leader.charAt(24));
+        assertEquals('2', leader.charAt(25));
+        assertEquals(6, leader.getEntryMap().length);
+        assertEquals(4, ((LeaderImpl) factory.newLeader("00714cam a2200205 a 4500")).getEntryMapLength());
+    }
+
+    public void testSerialization() throws Exception {
+        Leader leader = factory.newLeader("00714cam a2200205 a 450012");
+        leader.setTypeOfRecord('c');
+        leader.setId(7L);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(leader);
+        out.close();
+        ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        Leader copy = (Leader) in.readObject();
+        in.close();
+
+        assertEquals("00714ccm a2200205 a 450012", copy.toString());
+        assertEquals(Long.valueOf(7L), copy.getId());
+        // the serialized form is still that of earlier versions
+        assertEquals(8300445263515491860L, ObjectStreamClass.lookup(LeaderImpl.class).getSerialVersionUID());
+    }
 }
@@ -0,0 +1,101 @@
+package org.marc4j.test;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.After;
+import org.junit.Test;
+import org.marc4j.marc.ControlField;
+import org.marc4j.marc.DataField;
+import org.marc4j.marc.MarcFactory;
+import org.marc4j.marc.Record;
+import org.marc4j.marc.Subfield;
+import org.marc4j.marc.impl.MarcFactoryImpl;
+import org.marc4j.marc.impl.SortedMarcFactoryImpl;
+import org.marc4j.test.utils.StaticTestRecords;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+public class MarcFactoryTest {
+
+    private static final String FACTORY_PROPERTY = "org.marc4j.marc.MarcFactory";
+
+    @After
+    public void tearDown() {
+        System.clearProperty(FACTORY_PROPERTY);
+        MarcFactory.clearFactoryCache();
+    }
+
+    @Test
+    public void testDefaultFactory() {
+        MarcFactory first = MarcFactory.newInstance();
+        MarcFactory second = MarcFactory.newInstance();
+        assertEquals(MarcFactoryImpl.class, first.getClass());
+        assertEquals(MarcFactoryImpl.class, second.getClass());
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void testSystemPropertyOverridesCache() {
+        assertEquals(MarcFactoryImpl.class, MarcFactory.newInstance().getClass());
+        System.setProperty(FACTORY_PROPERTY, SortedMarcFactoryImpl.class.getName());
+        assertEquals(SortedMarcFactoryImpl.class, MarcFactory.newInstance().getClass());
+        System.clearProperty(FACTORY_PROPERTY);
+        assertEquals(MarcFactoryImpl.class, MarcFactory.newInstance().getClass());
+    }
+
+    @Test
+    public void testUnknownSystemPropertyFallsBack() {
+        System.setProperty(FACTORY_PROPERTY, "org.marc4j.marc.impl.NoSuchFactoryImpl");
+        assertEquals(MarcFactoryImpl.class, MarcFactory.newInstance().getClass());
+    }
+
+    @Test
+    public void testValidateRecord() {
+        MarcFactory factory = MarcFactory.newInstance();
+        Record record = StaticTestRecords.getSummerlandRecord();
+        assertTrue(factory.validateRecord(record));
+
+        DataField df = (DataField) record.getVariableField("245");
+        Subfield sf = factory.newSubfield('b', "Encoded".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+        df.addSubfield(sf);
+        assertTrue(factory.validateRecord(record));
+
+        sf.setData(null);
+        assertFalse(factory.validateRecord(record));
+        sf.setData("Valid again");
+        sf.setCode((char) 0);
+        assertFalse(factory.validateRecord(record));
+        df.removeSubfield(sf);
+
+        df.setIndicator2((char) 0);
+        assertFalse(factory.validateRecord(record));
+        df.setIndicator2('0');
+
+        ControlField cf = (ControlField) record.getVariableField("008");
+        String data = cf.getData();
+        cf.setData(null);
+        assertFalse(factory.validateRecord(record));
+        cf.setData(data);
+        assertTrue(factory.validateRecord(record));
+
+        record.setLeader(null);
+        assertFalse(factory.validateRecord(record));
+    }
+
+    @Test
+    public void testValidateRecordAfterReplacingSubfield() {
+        MarcFactory factory = MarcFactory.newInstance();
+        Record record = StaticTestRecords.getSummerlandRecord();
+        assertTrue(factory.validateRecord(record));
+
+        DataField df = (DataField) record.getVariableField("245");
+        df.getSubfields().set(0, factory.newSubfield((char) 0, "Summerland /"));
+        assertFalse(factory.validateRecord(record));
+        df.getSubfields().set(0, factory.newSubfield('a', "Summerland /"));
+        assertTrue(factory.validateRecord(record));
+    }
+
+}
@@ -0,0 +1,85 @@
+package org.marc4j.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.marc4j.MarcReader;
+import org.marc4j.MarcSplitStreamWriter;
+import org.marc4j.MarcStreamReader;
+import org.marc4j.marc.DataField;
+import org.marc4j.marc.MarcFactory;
+import org.marc4j.marc.Record;
+import org.marc4j.marc.VariableField;
+import org.marc4j.test.utils.StaticTestRecords;
+
+public class MarcSplitStreamWriterTest {
+
+    @Test
+    public void testSplitsItemFields() throws Exception {
+        Record record = getRecordWithItems(2000);
+        List<Record> chunks = writeAndRead(record, 10000);
+        assertTrue(chunks.size() > 1);
+
+        List<String> items = new ArrayList<String>();
+        for (Record chunk : chunks) {
+            assertEquals(record.getControlFields().toString(), chunk.getControlFields().toString());
+            assertEquals(record.getVariableFields("245").toString(), chunk.getVariableFields("245").toString());
+            assertTrue(chunk.getLeader().getRecordLength() - chunk.getLeader().getBaseAddressOfData() < 10000 + 100);
+
+            for (VariableField field : chunk.getVariableFields(new String[] { "852", "949" })) {
+                items.add(field.toString());
+            }
+        }
+
+        List<String> expected = new ArrayList<String>();
+        for (VariableField field : record.getVariableFields(new String[] { "852", "949" })) {
+            expected.add(field.toString());
+        }
+        assertEquals(expected, items);
+    }
+
+    @Test
+    public void testSharedFieldsOverThreshold() throws Exception {
+        Record record = getRecordWithItems(3);
+        List<Record> chunks = writeAndRead(record, 100);
+        assertEquals(3, chunks.size());
+        for (Record chunk : chunks) {
+            assertEquals(1, chunk.getVariableFields(new String[] { "852", "949" }).size());
+        }
+
+        assertEquals(1, writeAndRead(StaticTestRecords.getSummerlandRecord(), 100).size());
+    }
+
+    private static Record getRecordWithItems(int count) {
+        MarcFactory factory = MarcFactory.newInstance();
+        Record record = StaticTestRecords.getSummerlandRecord();
+        for (int i = 0; i < count; i++) {
+            DataField item = factory.newDataField(i % 2 == 0 ? "852" : "949", '0', ' ');
+            item.addSubfield(factory.newSubfield('a', "Item " + i));
+            item.addSubfield(factory.newSubfield('p', String.valueOf(31000000000000L + i)));
+            record.addVariableField(item);
+        }
+        return record;
+    }
+
+    private static List<Record> writeAndRead(Record record, int threshold) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        MarcSplitStreamWriter writer = new MarcSplitStreamWriter(out, "UTF-8", threshold, "852|949");
+        writer.write(record);
+        writer.close();
+
+        List<Record> records = new ArrayList<Record>();
+        MarcReader reader = new MarcStreamReader(new ByteArrayInputStream(out.toByteArray()));
+        while (reader.hasNext()) {
+            records.add(reader.next());
+        }
+        return records;
+    }
+
+}
@@ -1,12 +1,33 @@
 package org.marc4j.test;
 
 import org.junit.Test;
+import org.marc4j.MarcReader;
+import org.marc4j.MarcStreamReader;
 import org.marc4j.MarcStreamWriter;
+import org.marc4j.marc.DataField;
+import org.marc4j.marc.MarcFactory;
 import org.marc4j.marc.Record;
+import org.marc4j.marc.impl.RecordImpl;
+import org.marc4j.test.utils.RecordTestingUtils;
+import org.marc4j.test.utils.ResourceLoadUtils;
 import org.marc4j.test.utils.StaticTestRecords;
 import org.marc4j.test.utils.TestUtils;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Created with IntelliJ IDEA.
@@ -28,5 +49,216 @@ public class MarcStreamWriterTest {
         TestUtils.validateBytesAgainstFile(out.toByteArray(), StaticTestRecords.RESOURCES_SUMMERLAND_MRC);
     }
 
+    @Test
+    public void testWriteUnconvertedUtf8Data() throws Exception {
+        List<Record> records = new ArrayList<Record>();
+        MarcReader reader = ResourceLoadUtils.getMARC21Reader(StaticTestRecords.RESOURCES_CHINESE_WITH_CENTRAL_DOT_MRC);
+        while (reader.hasNext()) {
+            records.add(reader.next());
+        }
+        DataField df = records.get(0).getDataFields().get(0);
+        df.getSubfields().get(0).setData("changed");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        MarcStreamWriter writer = new MarcStreamWriter(out, "UTF-8");
+        for (Record record : records) {
+            writer.write(record);
+        }
+        writer.close();
+
+        MarcReader rereader = new MarcStreamReader(new ByteArrayInputStream(out.toByteArray()), "UTF-8");
+        for (Record record : records) {
+            RecordTestingUtils.assertEquals(record, rereader.next());
+        }
+    }
+
+    @Test
+    public void testWriteUnmodifiedSourceData() throws Exception {
+        List<Record> records = new ArrayList<Record>();
+        MarcStreamReader reader = new MarcStreamReader(
+                ResourceLoadUtils.readResource(StaticTestRecords.RESOURCES_CHINESE_WITH_CENTRAL_DOT_MRC), "UTF-8");
+        reader.setKeepSourceData(true);
+        while (reader.hasNext()) {
+            records.add(reader.next());
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        MarcStreamWriter writer = new MarcStreamWriter(out, "UTF-8");
+        for (Record record : records) {
+            assertFalse(((RecordImpl) record).isModified());
+            writer.write(record);
+        }
+        writer.close();
+        TestUtils.validateBytesAgainstFile(out.toByteArray(), StaticTestRecords.RESOURCES_CHINESE_WITH_CENTRAL_DOT_MRC);
+
+        Record record = records.get(0);
+        record.getDataFields().get(0).setIndicator1('9');
+        assertTrue(((RecordImpl) record).isModified());
+        record = records.get(records.size() - 1);
+        record.removeVariableField(record.getDataFields().get(0));
+        assertTrue(((RecordImpl) record).isModified());
+
+        out = new ByteArrayOutputStream();
+        writer = new MarcStreamWriter(out, "UTF-8");
+        for (Record rec : records) {
+            writer.write(rec);
+        }
+        writer.close();
+
+        MarcReader rereader = new MarcStreamReader(new ByteArrayInputStream(out.toByteArray()), "UTF-8");
+        for (Record rec : records) {
+            RecordTestingUtils.assertEquals(rec, rereader.next());
+        }
+    }
+
+    @Test
+    public void testWriteMalformedSourceData() throws Exception {
+        Record record = StaticTestRecords.getSummerlandRecord();
+        ((DataField) record.getVariableField("245")).getSubfield('a').setData("Summerland #");
+        record.getLeader().setCharCodingScheme('a');
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        MarcStreamWriter writer = new MarcStreamWriter(out, "UTF-8");
+        writer.write(record);
+        writer.close();
+        byte[] malformed = out.toByteArray();
+        for (int i = 0; i < malformed.length; i++) {
+            if (malformed[i] == '#') {
+                malformed[i] = (byte) 0xFF;
+            }
+        }
+
+        for (boolean keepSourceData : new boolean[] { true, false }) {
+            MarcStreamReader reader = new MarcStreamReader(new ByteArrayInputStream(malformed), "UTF-8");
+            reader.setKeepSourceData(keepSourceData);
+            Record read = reader.next();
+            out = new ByteArrayOutputStream();
+            writer = new MarcStreamWriter(out, "UTF-8");
+            writer.write(read);
+            writer.close();
+
+            MarcReader rereader = new MarcStreamReader(new ByteArrayInputStream(out.toByteArray()), "UTF-8");
+            Record written = rereader.next();
+            assertEquals("Summerland \uFFFD", ((DataField) written.getVariableField("245")).getSubfield('a').getData());
+            for (byte b : out.toByteArray()) {
+                assertTrue(b != (byte) 0xFF);
+            }
+        }
+    }
+
+    @Test
+    public void testEncodesLikeGetBytes() throws Exception {
+        StringBuilder data = new StringBuilder("Gen");
+        data.append((char) 0xE8).append("ve ").append(Character.toChars(0x1F600)).append(' ');
+        data.append((char) 0xD800).append("x").append((char) 0x20AC);
+
+        MarcFactory factory = MarcFactory.newInstance();
+        Record record = factory.newRecord("00000nam a2200000 a 4500");
+        record.addVariableField(factory.newControlField("001", "12345"));
+        record.addVariableField(factory.newDataField("245", '1', '0', "a", data.toString()));
+
+        for (String encoding : new String[] { "UTF-8", "ISO8859_1" }) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            MarcStreamWriter writer = new MarcStreamWriter(out, encoding);
+            writer.write(record);
+            writer.close();
+
+            ByteArrayOutputStream expected = new ByteArrayOutputStream();
+            expected.write(String.format("%05d", record.getLeader().getRecordLength()).getBytes(StandardCharsets.US_ASCII));
+            expected.write("nam a2200049 a 4500001000600000245".getBytes(StandardCharsets.US_ASCII));
+            byte[] field = data.toString().getBytes(encoding);
+            expected.write(String.format("%04d00006", field.length + 5).getBytes(StandardCharsets.US_ASCII));
+            expected.write("\u001e12345\u001e10\u001fa".getBytes(StandardCharsets.US_ASCII));
+            expected.write(field);
+            expected.write("\u001e\u001d".getBytes(StandardCharsets.US_ASCII));
+            assertArrayEquals(encoding, expected.toByteArray(), out.toByteArray());
+        }
+    }
+
+    @Test
+    public void testWritersInSeparateThreads() throws Exception {
+        final List<Record> records = new ArrayList<Record>();
+        MarcReader reader = ResourceLoadUtils.getMARC21Reader(StaticTestRecords.RESOURCES_CHABON_MRC);
+        while (reader.hasNext()) {
+            records.add(reader.next());
+        }
+        records.add(StaticTestRecords.getSummerlandRecord());
+
+        Callable<byte[]> task = new Callable<byte[]>() {
+
+            @Override
+            public byte[] call() throws Exception {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                MarcStreamWriter writer = new MarcStreamWriter(out, "UTF-8");
+                for (int i = 0; i < 200; i++) {
+                    for (Record record : records) {
+                        writer.write(record);
+                    }
+                }
+                writer.close();
+                return out.toByteArray();
+            }
+        };
+        byte[] expected = task.call();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<byte[]>> results = new ArrayList<Future<byte[]>>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(task));
+            }
+            for (Future<byte[]> result : results) {
+                assertArrayEquals(expected, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testWritesThroughOverriddenMethods() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        MarcStreamWriter writer = new MarcStreamWriter(out, "UTF-8") {
+
+            @Override
+            protected byte[] getDataElement(String data) throws IOException {
+                return super.getDataElement(data.toUpperCase());
+            }
+        };
+        Record record = StaticTestRecords.getSummerlandRecord();
+        record.getLeader().setRecordStatus('c');
+        writer.write(record);
+        writer.close();
+
+        MarcReader reader = new MarcStreamReader(new ByteArrayInputStream(out.toByteArray()));
+        Record written = reader.next();
+        assertEquals("SUMMERLAND /", ((DataField) written.getVariableField("245")).getSubfield('a').getData());
+        assertEquals(record.getDataFields().size(), written.getDataFields().size());
+    }
+
+    @Test
+    public void testWritesReadRecordsThroughOverriddenMethods() throws Exception {
+        for (boolean keepSourceData : new boolean[] { true, false }) {
+            MarcStreamReader reader = new MarcStreamReader(
+                    ResourceLoadUtils.readResource(StaticTestRecords.RESOURCES_SUMMERLAND_MRC), "UTF-8");
+            reader.setKeepSourceData(keepSourceData);
+            Record record = reader.next();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            MarcStreamWriter writer = new MarcStreamWriter(out, "UTF-8") {
+
+                @Override
+                protected byte[] getDataElement(String data) throws IOException {
+                    return super.getDataElement(data.toUpperCase());
+                }
+            };
+            writer.write(record);
+            writer.close();
+
+            MarcReader rereader = new MarcStreamReader(new ByteArrayInputStream(out.toByteArray()));
+            Record written = rereader.next();
+            assertEquals("SUMMERLAND /", ((DataField) written.getVariableField("245")).getSubfield('a').getData());
+            assertEquals("12883376", written.getControlNumber());
+        }
+    }
 
 }
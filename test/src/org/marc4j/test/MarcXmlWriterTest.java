@@ -19,11 +19,15 @@ import org.w3c.dom.Element;
 import org.w3c.dom.NodeList;
 
 import javax.xml.transform.dom.DOMResult;
+import javax.xml.transform.stream.StreamResult;
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.Arrays;
 
 public class MarcXmlWriterTest extends XMLTestCase {
 
@@ -305,4 +309,46 @@ public class MarcXmlWriterTest extends XMLTestCase {
         }
         testoutput.close();
     }
+
+    /**
+     * Tests that the {@link MarcXmlWriter} writing to an output stream produces the same bytes as one writing through
+     * a transformer to a {@link StreamResult}.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testOutputStreamMatchesStreamResult() throws Exception {
+        for (final String resource : Arrays.asList(StaticTestRecords.RESOURCES_CHABON_MRC,
+                StaticTestRecords.RESOURCES_BAD_CHARACTERS_IN_VARIOUS_FIELDS_MRC)) {
+            for (final boolean indent : new boolean[] { false, true }) {
+                final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+                final Writer out = new OutputStreamWriter(expected, "UTF-8");
+                final MarcXmlWriter resultWriter = new MarcXmlWriter(new StreamResult(out));
+                resultWriter.setIndent(indent);
+                writeConverted(resource, resultWriter);
+                out.write("\n");
+                out.close();
+
+                final ByteArrayOutputStream actual = new ByteArrayOutputStream();
+                writeConverted(resource, new MarcXmlWriter(actual, indent));
+
+                assertEquals(resource + ", indent " + indent, new String(expected.toByteArray(), "UTF-8"),
+                        new String(actual.toByteArray(), "UTF-8"));
+            }
+        }
+    }
+
+    private void writeConverted(final String resource, final MarcXmlWriter writer) throws Exception {
+        final InputStream input = getClass().getResourceAsStream(resource);
+        assertNotNull(input);
+        writer.setConverter(new AnselToUnicode());
+        writer.setUnicodeNormalization(true);
+        writer.setCheckNonXMLChars(true);
+        final MarcStreamReader reader = new MarcStreamReader(input);
+        while (reader.hasNext()) {
+            writer.write(reader.next());
+        }
+        input.close();
+        writer.close();
+    }
 }
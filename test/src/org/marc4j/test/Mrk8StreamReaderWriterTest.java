@@ -1,11 +1,19 @@
 package org.marc4j.test;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
 import org.junit.Test;
 import org.marc4j.MarcPermissiveStreamReader;
 import org.marc4j.MarcReader;
 import org.marc4j.Mrk8StreamReader;
+import org.marc4j.Mrk8StreamWriter;
+import org.marc4j.Mrk8TranslationTable;
 import org.marc4j.marc.Record;
 import org.marc4j.test.utils.RecordTestingUtils;
 import org.marc4j.test.utils.StaticTestRecords;
@@ -58,4 +66,42 @@ public class Mrk8StreamReaderWriterTest
         }
     }
 
+    @Test
+    public void testMrk8WriteAndRead() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Mrk8StreamWriter writer = new Mrk8StreamWriter(out);
+        MarcReader input = new MarcPermissiveStreamReader(getClass().getResourceAsStream(StaticTestRecords.RESOURCES_BRKRTEST_UTF8_MRC), true, false);
+        while (input.hasNext()) {
+            writer.write(input.next());
+        }
+        writer.close();
+
+        MarcReader reader1 = new Mrk8StreamReader(new ByteArrayInputStream(out.toByteArray()));
+        MarcReader reader2 = new MarcPermissiveStreamReader(getClass().getResourceAsStream(StaticTestRecords.RESOURCES_BRKRTEST_UTF8_MRC), true, false);
+        assertTrue("Written output doesn't contain any records", reader1.hasNext());
+        while (reader1.hasNext() && reader2.hasNext())
+        {
+            RecordTestingUtils.assertEqualsIgnoreLeader(reader2.next(), reader1.next());
+        }
+        assertFalse(reader1.hasNext() || reader2.hasNext());
+    }
+
+    @Test
+    public void testTranslationTable() throws Exception {
+        String data = "Price {$5} \u00e9t\u00e9 caf\u00e9";
+        String mrk8 = Mrk8TranslationTable.toMrk8(data);
+        assertEquals("Price {lcub}{dollar}5{rcub} \u00e9t\u00e9 caf\u00e9", mrk8);
+        assertEquals(data, Mrk8TranslationTable.fromMrk8(mrk8));
+
+        String plain = "Nothing to escape";
+        assertSame(plain, Mrk8TranslationTable.toMrk8(plain));
+        StringBuilder sb = new StringBuilder("$a");
+        Mrk8TranslationTable.appendMrk8(sb, "$1");
+        assertEquals("$a{dollar}1", sb.toString());
+
+        assertEquals("a$b{c}", Mrk8TranslationTable.fromMrk8("a{dollar}b{lcub}c{rcub}"));
+        assertEquals("{nosuchmnemonic} and {lcub", Mrk8TranslationTable.fromMrk8("{nosuchmnemonic} and {lcub"));
+        assertEquals("{unclosed", Mrk8TranslationTable.fromMrk8("{unclosed"));
+    }
+
 }
@@ -0,0 +1,93 @@
+package org.marc4j.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.Test;
+import org.marc4j.Mrk8StreamWriter;
+import org.marc4j.marc.Record;
+import org.marc4j.test.utils.ResourceLoadUtils;
+import org.marc4j.test.utils.StaticTestRecords;
+import org.marc4j.test.utils.TestUtils;
+import org.marc4j.util.ParallelGzipOutputStream;
+
+public class ParallelGzipOutputStreamTest {
+
+    private static final String[] FORMATS = { "marc", "xml", "json", "mrk8" };
+
+    @Test
+    public void testWritersRoundTrip() throws Exception {
+        List<Record> records = ResourceLoadUtils.getRecords(500, StaticTestRecords.RESOURCES_CHABON_MRC);
+        for (String format : FORMATS) {
+            ByteArrayOutputStream expected = new ByteArrayOutputStream();
+            TestUtils.writeRecords(TestUtils.newWriter(format, expected), records);
+
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            OutputStream out = new ParallelGzipOutputStream(compressed, 4, 1000, 6);
+            TestUtils.writeRecords(TestUtils.newWriter(format, out), records);
+
+            assertArrayEquals(format, expected.toByteArray(), gunzip(compressed.toByteArray()));
+        }
+    }
+
+    @Test
+    public void testSingleBytesAndFlush() throws Exception {
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        OutputStream out = new ParallelGzipOutputStream(compressed, 2, 7, 1);
+        for (int i = 0; i < 1000; i++) {
+            out.write(i);
+            expected.write(i);
+            if (i % 100 == 0) {
+                out.flush();
+            }
+        }
+        out.close();
+
+        assertArrayEquals(expected.toByteArray(), gunzip(compressed.toByteArray()));
+    }
+
+    @Test
+    public void testFlushAfterEachRecord() throws Exception {
+        List<Record> records = ResourceLoadUtils.getRecords(100, StaticTestRecords.RESOURCES_CHABON_MRC);
+        ByteArrayOutputStream reference = new ByteArrayOutputStream();
+        TestUtils.writeRecords(new Mrk8StreamWriter(new GZIPOutputStream(reference)), records);
+
+        // the writer flushes after every record, which must not end a gzip member each time
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        TestUtils.writeRecords(new Mrk8StreamWriter(new ParallelGzipOutputStream(compressed, 2)), records);
+
+        assertArrayEquals(gunzip(reference.toByteArray()), gunzip(compressed.toByteArray()));
+        assertTrue(compressed.size() + " compressed bytes, against " + reference.size(),
+                compressed.size() < reference.size() * 3 / 2);
+    }
+
+    @Test
+    public void testEmptyStream() throws Exception {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        new ParallelGzipOutputStream(compressed).close();
+        assertEquals(0, gunzip(compressed.toByteArray()).length);
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed));
+        byte[] buffer = new byte[4096];
+        int n;
+        while ((n = in.read(buffer)) > 0) {
+            out.write(buffer, 0, n);
+        }
+        in.close();
+        return out.toByteArray();
+    }
+
+}
@@ -0,0 +1,117 @@
+package org.marc4j.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.List;
+
+import org.junit.Test;
+import org.marc4j.MarcException;
+import org.marc4j.MarcStreamWriter;
+import org.marc4j.MarcWriter;
+import org.marc4j.ParallelMarcWriter;
+import org.marc4j.converter.CharConverter;
+import org.marc4j.converter.impl.UnicodeToAnsel;
+import org.marc4j.marc.Record;
+import org.marc4j.test.utils.ResourceLoadUtils;
+import org.marc4j.test.utils.StaticTestRecords;
+
+public class ParallelMarcWriterTest {
+
+    private static final ParallelMarcWriter.WriterFactory MARC8 = new ParallelMarcWriter.WriterFactory() {
+
+        @Override
+        public MarcWriter newWriter(OutputStream out) {
+            MarcStreamWriter writer = new MarcStreamWriter(out, "ISO8859_1", true);
+            writer.setConverter(new UnicodeToAnsel());
+            return writer;
+        }
+    };
+
+    private static final ParallelMarcWriter.WriterFactory UTF8 = new ParallelMarcWriter.WriterFactory() {
+
+        @Override
+        public MarcWriter newWriter(OutputStream out) {
+            return new MarcStreamWriter(out, "UTF-8");
+        }
+    };
+
+    @Test
+    public void testWritesInOrder() throws Exception {
+        List<Record> records = ResourceLoadUtils.getRecords(500,
+                StaticTestRecords.RESOURCES_CHINESE_WITH_CENTRAL_DOT_MRC, StaticTestRecords.RESOURCES_CHABON_MRC);
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        MarcWriter writer = MARC8.newWriter(expected);
+        for (Record record : records) {
+            writer.write(record);
+        }
+        writer.close();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ParallelMarcWriter parallel = new ParallelMarcWriter(out, MARC8, 4);
+        for (Record record : records) {
+            parallel.write(record);
+        }
+        parallel.close();
+        assertArrayEquals(expected.toByteArray(), out.toByteArray());
+    }
+
+    @Test
+    public void testErrorIsThrownToCaller() throws Exception {
+        Record record = StaticTestRecords.getSummerlandRecord();
+        record.getDataFields().get(0).getSubfields().get(0).setData(new String(new char[100000]));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ParallelMarcWriter parallel = new ParallelMarcWriter(out, UTF8, 2);
+        parallel.write(StaticTestRecords.getSummerlandRecord());
+        parallel.write(record);
+        try {
+            parallel.close();
+            fail("an oversized record should not be written");
+        } catch (MarcException e) {
+            // expected
+        }
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        MarcWriter writer = UTF8.newWriter(expected);
+        writer.write(StaticTestRecords.getSummerlandRecord());
+        assertArrayEquals(expected.toByteArray(), out.toByteArray());
+    }
+
+    @Test
+    public void testSetConverterAppliesToLaterRecords() throws Exception {
+        List<Record> records = ResourceLoadUtils.getRecords(400, StaticTestRecords.RESOURCES_CHABON_MRC);
+        CharConverter upperCase = new CharConverter() {
+
+            @Override
+            public String convert(char[] dataElement) {
+                return new String(dataElement).toUpperCase();
+            }
+
+            @Override
+            public boolean outputsUnicode() {
+                return true;
+            }
+        };
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        MarcWriter writer = UTF8.newWriter(expected);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ParallelMarcWriter parallel = new ParallelMarcWriter(out, UTF8, 4);
+        for (int i = 0; i < records.size(); i++) {
+            if (i == 200) {
+                writer.setConverter(upperCase);
+                parallel.setConverter(upperCase);
+            }
+            writer.write(records.get(i));
+            parallel.write(records.get(i));
+        }
+        writer.close();
+        parallel.close();
+        assertArrayEquals(expected.toByteArray(), out.toByteArray());
+    }
+
+}
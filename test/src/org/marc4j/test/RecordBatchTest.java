@@ -0,0 +1,103 @@
+package org.marc4j.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.marc4j.MarcReader;
+import org.marc4j.marc.DataField;
+import org.marc4j.marc.MarcFactory;
+import org.marc4j.marc.Record;
+import org.marc4j.test.utils.ResourceLoadUtils;
+import org.marc4j.test.utils.StaticTestRecords;
+import org.marc4j.util.RecordBatch;
+
+public class RecordBatchTest {
+
+    @Test
+    public void testAppendAndView() {
+        Record record = StaticTestRecords.getSummerlandRecord();
+        RecordBatch batch = new RecordBatch();
+        assertEquals(0, batch.append(record));
+        assertEquals(1, batch.size());
+        assertTrue(batch.getByteSize() > 0);
+
+        RecordBatch.RecordView view = batch.get(0);
+        assertEquals(record.getLeader().toString(), view.getLeader());
+        assertEquals(record.getControlNumber(), view.getControlNumber());
+        assertEquals(record.getVariableFields().size(), view.getFieldCount());
+
+        int field = view.indexOf("245");
+        DataField title = (DataField) record.getVariableField("245");
+        assertEquals("245", view.getTag(field));
+        assertFalse(view.isControlField(field));
+        assertEquals(title.getIndicator1(), view.getIndicator1(field));
+        assertEquals(title.getIndicator2(), view.getIndicator2(field));
+        assertEquals(title.getSubfields().size(), view.getSubfieldCount(field));
+        assertEquals('c', view.getSubfieldCode(field, 1));
+        assertEquals(title.getSubfield('c').getData(), view.getSubfieldData(field, 1));
+        assertEquals(title.getSubfield('a').getData(), view.getSubfieldData(field, 'a'));
+        assertNull(view.getSubfieldData(field, 'z'));
+
+        int subject = view.indexOf("650", view.indexOf("650") + 1);
+        assertEquals(record.getVariableFields("650").get(1).toString(), view.toRecord().getVariableFields()
+                .get(subject).toString());
+        assertEquals(-1, view.indexOf("999"));
+
+        assertEquals(record, batch.getRecord(0));
+    }
+
+    @Test
+    public void testSegmentsAndSort() throws Exception {
+        MarcReader reader = ResourceLoadUtils.getMARC21Reader(StaticTestRecords.RESOURCES_CHABON_MRC);
+        List<Record> records = new ArrayList<Record>();
+        while (reader.hasNext()) {
+            records.add(reader.next());
+        }
+        records.add(StaticTestRecords.getSummerlandRecord());
+
+        RecordBatch batch = new RecordBatch(MarcFactory.newInstance(), 1024);
+        for (int i = 0; i < 100; i++) {
+            for (Record record : records) {
+                batch.append(record);
+            }
+        }
+        assertEquals(100 * records.size(), batch.size());
+
+        batch.sort(new RecordBatch.Key() {
+
+            @Override
+            public String keyOf(RecordBatch.RecordView view) {
+                return view.getControlNumber();
+            }
+        });
+
+        String previous = "";
+        int count = 0;
+        for (RecordBatch.RecordView view : batch) {
+            String controlNumber = view.getControlNumber();
+            assertTrue(previous.compareTo(controlNumber) <= 0);
+            previous = controlNumber;
+            count++;
+        }
+        assertEquals(batch.size(), count);
+
+        for (Record record : records) {
+            boolean found = false;
+            for (RecordBatch.RecordView view : batch) {
+                if (record.getControlNumber().equals(view.getControlNumber())) {
+                    assertEquals(record, view.toRecord());
+                    found = true;
+                    break;
+                }
+            }
+            assertTrue(found);
+        }
+    }
+
+}
@@ -0,0 +1,57 @@
+package org.marc4j.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.marc4j.marc.DataField;
+import org.marc4j.marc.MarcFactory;
+import org.marc4j.marc.Record;
+import org.marc4j.util.RecordFingerprint;
+import org.marc4j.util.RecordHasher;
+import org.marc4j.test.utils.StaticTestRecords;
+
+public class RecordHasherTest {
+
+    @Test
+    public void testEqualRecordsHashTheSame() {
+        Record record = StaticTestRecords.getSummerlandRecord();
+        Record copy = MarcFactory.newInstance().deepCopy(record);
+        RecordHasher hasher = new RecordHasher();
+
+        RecordFingerprint fingerprint = hasher.fingerprint(record);
+        assertEquals(fingerprint, hasher.fingerprint(copy));
+        assertEquals(fingerprint.getHigh(), hasher.hash64(copy));
+        assertEquals(fingerprint, RecordFingerprint.valueOf(fingerprint.toString()));
+
+        ((DataField) copy.getVariableField("245")).getSubfield('a').setData("Winterland /");
+        assertFalse(fingerprint.equals(hasher.fingerprint(copy)));
+    }
+
+    @Test
+    public void testIgnoredTags() {
+        Record record = StaticTestRecords.getSummerlandRecord();
+        Record copy = MarcFactory.newInstance().deepCopy(record);
+        copy.removeVariableField(copy.getVariableField("005"));
+
+        assertFalse(new RecordHasher().fingerprint(record).equals(new RecordHasher().fingerprint(copy)));
+        RecordHasher hasher = new RecordHasher(false, "005");
+        assertEquals(hasher.fingerprint(record), hasher.fingerprint(copy));
+    }
+
+    @Test
+    public void testIgnoreFieldOrder() {
+        Record record = StaticTestRecords.getSummerlandRecord();
+        Record copy = MarcFactory.newInstance().deepCopy(record);
+        List<DataField> dataFields = copy.getDataFields();
+        Collections.reverse(dataFields);
+
+        assertFalse(new RecordHasher().fingerprint(record).equals(new RecordHasher().fingerprint(copy)));
+        RecordHasher hasher = new RecordHasher(true);
+        assertEquals(hasher.fingerprint(record), hasher.fingerprint(copy));
+    }
+
+}
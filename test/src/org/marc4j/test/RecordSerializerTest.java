@@ -0,0 +1,120 @@
+package org.marc4j.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+import org.marc4j.MarcJsonReader;
+import org.marc4j.MarcJsonWriter;
+import org.marc4j.MarcXmlReader;
+import org.marc4j.MarcXmlWriter;
+import org.marc4j.RecordSerializer;
+import org.marc4j.marc.MarcFactory;
+import org.marc4j.marc.Record;
+import org.marc4j.test.utils.ResourceLoadUtils;
+import org.marc4j.test.utils.StaticTestRecords;
+
+public class RecordSerializerTest {
+
+    @Test
+    public void testMarcXmlMatchesWriteSingleRecord() throws Exception {
+        for (boolean encode : new boolean[] { false, true }) {
+            for (boolean indent : new boolean[] { false, true }) {
+                RecordSerializer serializer = RecordSerializer.marcXml(encode, indent);
+                for (Record record : ResourceLoadUtils.readRecords(StaticTestRecords.RESOURCES_BRKRTEST_MRC)) {
+                    ByteArrayOutputStream expected = new ByteArrayOutputStream();
+                    MarcXmlWriter.writeSingleRecord(record, expected, encode, indent);
+                    assertArrayEquals(expected.toByteArray(), serializer.toBytes(record));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testMarcXmlReadsBack() throws Exception {
+        RecordSerializer serializer = RecordSerializer.marcXml(false, true);
+        for (Record record : ResourceLoadUtils.readRecords(StaticTestRecords.RESOURCES_CHABON_MRC)) {
+            MarcXmlReader reader = new MarcXmlReader(new ByteArrayInputStream(serializer.toBytes(record)));
+            assertEquals(record.toString(), reader.next().toString());
+        }
+    }
+
+    @Test
+    public void testMarcJson() throws Exception {
+        RecordSerializer serializer = RecordSerializer.marcJson(MarcJsonWriter.MARC_IN_JSON, false);
+        for (Record record : ResourceLoadUtils.readRecords(StaticTestRecords.RESOURCES_CHABON_MRC)) {
+            ByteArrayOutputStream expected = new ByteArrayOutputStream();
+            MarcJsonWriter writer = new MarcJsonWriter(expected, MarcJsonWriter.MARC_IN_JSON);
+            writer.write(record);
+            writer.close();
+            assertArrayEquals(expected.toByteArray(), serializer.toBytes(record));
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            serializer.write(record, out);
+            MarcJsonReader reader = new MarcJsonReader(new ByteArrayInputStream(out.toByteArray()));
+            assertEquals(record.toString(), reader.next().toString());
+        }
+    }
+
+    @Test
+    public void testSharedByThreads() throws Exception {
+        final RecordSerializer serializer = RecordSerializer.marcXml(true, false);
+        final List<Record> records = ResourceLoadUtils.readRecords(StaticTestRecords.RESOURCES_BRKRTEST_MRC);
+        final List<byte[]> expected = new ArrayList<byte[]>();
+        for (Record record : records) {
+            expected.add(serializer.toBytes(record));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<List<byte[]>>> results = new ArrayList<Future<List<byte[]>>>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(new Callable<List<byte[]>>() {
+
+                @Override
+                public List<byte[]> call() {
+                    List<byte[]> bytes = new ArrayList<byte[]>();
+                    for (int j = 0; j < 10; j++) {
+                        for (Record record : records) {
+                            bytes.add(serializer.toBytes(record));
+                        }
+                    }
+                    return bytes;
+                }
+            }));
+        }
+
+        for (Future<List<byte[]>> result : results) {
+            List<byte[]> bytes = result.get();
+            for (int i = 0; i < bytes.size(); i++) {
+                assertArrayEquals(expected.get(i % expected.size()), bytes.get(i));
+            }
+        }
+        executor.shutdown();
+    }
+
+    @Test
+    public void testLargeRecordIsNotRetained() throws Exception {
+        RecordSerializer serializer = RecordSerializer.marcJson(MarcJsonWriter.MARC_IN_JSON, false);
+        Record small = StaticTestRecords.getSummerlandRecord();
+        Record large = StaticTestRecords.getSummerlandRecord();
+        char[] text = new char[RecordSerializer.MAX_RETAINED_SIZE];
+        Arrays.fill(text, 'x');
+        large.addVariableField(MarcFactory.newInstance().newDataField("500", ' ', ' ', "a", new String(text)));
+
+        byte[] expected = serializer.toBytes(small);
+        assertTrue(serializer.toBytes(large).length > RecordSerializer.MAX_RETAINED_SIZE);
+        assertArrayEquals(expected, serializer.toBytes(small));
+    }
+
+}
@@ -1,11 +1,19 @@
 package org.marc4j.test;
 
 import org.junit.Test;
+import org.marc4j.MarcError;
+import org.marc4j.MarcStreamReader;
 import org.marc4j.marc.*;
 import org.marc4j.marc.Record;
+import org.marc4j.marc.impl.RecordImpl;
+import org.marc4j.marc.impl.SortedMarcFactoryImpl;
+import org.marc4j.test.utils.ResourceLoadUtils;
 import org.marc4j.test.utils.StaticTestRecords;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.ListIterator;
 
 import static org.junit.Assert.*;
 
@@ -90,4 +98,271 @@ public class RecordTest  {
         record.addVariableField(df);
     }
 
+    @Test
+    public void testDeepCopy() throws Exception {
+        MarcFactory factory = MarcFactory.newInstance();
+        record.addError("245", "a", MarcError.MINOR_ERROR, "test error");
+        Record copy = factory.deepCopy(record);
+        assertNotSame(record, copy);
+        assertEquals(record.toString(), copy.toString());
+        assertEquals(1, copy.getErrors().size());
+
+        DataField df = (DataField) copy.getVariableField("245");
+        assertNotSame(record.getVariableField("245"), df);
+        df.getSubfield('a').setData("Changed /");
+        df.setIndicator1('0');
+        copy.getLeader().setRecordStatus('d');
+        copy.removeVariableField(copy.getVariableField("650"));
+
+        assertEquals("Summerland /", ((DataField) record.getVariableField("245")).getSubfield('a').getData());
+        assertEquals('1', ((DataField) record.getVariableField("245")).getIndicator1());
+        assertEquals('c', record.getLeader().getRecordStatus());
+        assertEquals(3, record.getVariableFields("650").size());
+        assertEquals(2, copy.getVariableFields("650").size());
+    }
+
+    @Test
+    public void testEqualsAndHashCode() throws Exception {
+        MarcFactory factory = MarcFactory.newInstance();
+        Record copy = factory.deepCopy(record);
+        copy.getLeader().setRecordLength(12345);
+        assertEquals(record, copy);
+        assertEquals(record.hashCode(), copy.hashCode());
+
+        DataField df = (DataField) copy.getVariableField("245");
+        df.getSubfield('a').setData("Summerland /");
+        assertEquals(record, copy);
+        df.getSubfield('a').setData("Winterland /");
+        assertFalse(record.equals(copy));
+
+        DataField duplicate = factory.deepCopy(df);
+        assertEquals(df, duplicate);
+        assertEquals(df.hashCode(), duplicate.hashCode());
+        copy.addVariableField(duplicate);
+        copy.removeVariableField(duplicate);
+        assertSame(df, copy.getVariableField("245"));
+    }
+
+    @Test
+    public void testLinkedFields() throws Exception {
+        MarcFactory factory = MarcFactory.newInstance();
+        Record record = factory.newRecord("00000cam a2200000 a 4500");
+        DataField title = factory.newDataField("245", '1', '0', "6", "880-01", "a", "Title /");
+        DataField linkedTitle = factory.newDataField("880", '1', '0', "6", "245-01/(N", "a", "Linked title /");
+        DataField unlinked = factory.newDataField("880", ' ', ' ', "6", "500-00/(N", "a", "Note");
+        record.addVariableField(title);
+        record.addVariableField(linkedTitle);
+        record.addVariableField(unlinked);
+
+        assertSame(linkedTitle, record.getVariableField("LNK245"));
+        assertEquals(1, record.getVariableFields("LNK500").size());
+        assertEquals(2, record.getVariableFields(new String[] { "245", "LNK245" }).size());
+        assertSame(linkedTitle, ((RecordImpl) record).getLinkedField(title));
+        assertSame(title, ((RecordImpl) record).getLinkedField(linkedTitle));
+        assertNull(((RecordImpl) record).getLinkedField(unlinked));
+
+        linkedTitle.getSubfield('6').setData("246-01/(N");
+        assertNull(record.getVariableField("LNK245"));
+        assertSame(linkedTitle, record.getVariableField("LNK246"));
+        assertNull(((RecordImpl) record).getLinkedField(title));
+
+        record.removeVariableField(linkedTitle);
+        assertTrue(record.getVariableFields("LNK246").isEmpty());
+    }
+
+    @Test
+    public void testLinkedFieldsEditedInPlace() throws Exception {
+        MarcFactory factory = MarcFactory.newInstance();
+        Record record = factory.newRecord("00000cam a2200000 a 4500");
+        DataField linkedNote = factory.newDataField("880", ' ', ' ', "6", "500-01/(N", "a", "Note");
+        DataField note = factory.newDataField("500", ' ', ' ', "a", "Note");
+        DataField other = factory.newDataField("520", ' ', ' ', "a", "Summary");
+        record.addVariableField(linkedNote);
+        record.addVariableField(note);
+        record.addVariableField(other);
+        assertEquals(1, record.getVariableFields("LNK500").size());
+        assertNull(((RecordImpl) record).getLinkedField(note));
+
+        note.addSubfield(0, factory.newSubfield('6', "880-01"));
+        assertSame(linkedNote, ((RecordImpl) record).getLinkedField(note));
+
+        other.addSubfield(0, factory.newSubfield('6', "500-02/(N"));
+        other.setTag("880");
+        assertEquals(2, record.getVariableFields("LNK500").size());
+
+        other.getSubfield('6').setCode('7');
+        assertEquals(1, record.getVariableFields("LNK500").size());
+        other.getSubfield('a').setCode('6');
+        other.getSubfield('6').setData("500-03");
+        assertEquals(2, record.getVariableFields("LNK500").size());
+    }
+
+    @Test
+    public void testLinkedFieldsWithNullLinkage() throws Exception {
+        MarcFactory factory = MarcFactory.newInstance();
+        Record record = factory.newRecord("00000cam a2200000 a 4500");
+        DataField linkedTitle = factory.newDataField("880", '1', '0', "6", "245-01/(N", "a", "Linked title /");
+        DataField empty = factory.newDataField("880", ' ', ' ');
+        empty.addSubfield(factory.newSubfield('6'));
+        record.addVariableField(linkedTitle);
+        record.addVariableField(empty);
+
+        assertSame(linkedTitle, record.getVariableField("LNK245"));
+        assertSame(linkedTitle, record.getVariableField("LNK245"));
+        assertEquals(1, record.getVariableFields(new String[] { "LNK245", "LNK500" }).size());
+    }
+
+    @Test
+    public void testReplaceFieldsWhileIterating() throws Exception {
+        MarcStreamReader reader = new MarcStreamReader(
+                ResourceLoadUtils.readResource(StaticTestRecords.RESOURCES_SUMMERLAND_MRC));
+        reader.setKeepSourceData(true);
+        Record record = reader.next();
+        assertFalse(((RecordImpl) record).isModified());
+
+        MarcFactory factory = MarcFactory.newInstance();
+        int replaced = 0;
+        for (ListIterator<DataField> fields = record.getDataFields().listIterator(); fields.hasNext();) {
+            DataField field = fields.next();
+            for (ListIterator<Subfield> subfields = field.getSubfields().listIterator(); subfields.hasNext();) {
+                Subfield subfield = subfields.next();
+                subfields.set(factory.newSubfield(subfield.getCode(), subfield.getData()));
+            }
+            fields.set(factory.deepCopy(field));
+            replaced++;
+        }
+        assertEquals(record.getDataFields().size(), replaced);
+        assertTrue(((RecordImpl) record).isModified());
+    }
+
+    @Test
+    public void testSortedRecordOrder() throws Exception {
+        MarcFactory factory = new SortedMarcFactoryImpl();
+        Record sorted = factory.newRecord();
+        List<VariableField> fields = new ArrayList<VariableField>(record.getVariableFields());
+        Collections.reverse(fields);
+        for (VariableField field : fields) {
+            sorted.addVariableField(field);
+        }
+        DataField duplicate = factory.deepCopy((DataField) record.getVariableField("650"));
+        sorted.addVariableField(duplicate);
+        sorted.addVariableField(factory.newControlField("001", "12883376"));
+
+        List<DataField> expected = new ArrayList<DataField>(record.getDataFields());
+        expected.add(duplicate);
+        Collections.sort(expected);
+        assertEquals(expected.size(), sorted.getDataFields().size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), sorted.getDataFields().get(i));
+        }
+        assertEquals("001", sorted.getControlFields().get(0).getTag());
+        assertEquals(record.getControlFields().size(), sorted.getControlFields().size());
+
+        // fields added to the list directly are sorted on the next addition
+        sorted.getDataFields().add(factory.newDataField("010", ' ', ' ', "a", "2002025765"));
+        sorted.addVariableField(factory.newDataField("999", ' ', ' ', "a", "local"));
+        assertEquals("010", sorted.getDataFields().get(0).getTag());
+        assertEquals("999", sorted.getDataFields().get(sorted.getDataFields().size() - 1).getTag());
+    }
+
+    @Test
+    public void testSortedRecordOrderAfterEdits() throws Exception {
+        MarcFactory factory = new SortedMarcFactoryImpl();
+        Record sorted = factory.newRecord();
+        DataField title = factory.newDataField("245", '1', '0', "a", "Summerland /");
+        DataField note = factory.newDataField("500", ' ', ' ', "a", "A note");
+        DataField subject = factory.newDataField("650", ' ', '0', "a", "Baseball");
+        sorted.addVariableField(title);
+        sorted.addVariableField(note);
+        sorted.addVariableField(subject);
+
+        // fields edited in place are sorted again on the next addition
+        subject.setTag("100");
+        sorted.addVariableField(factory.newDataField("300", ' ', ' ', "a", "500 p."));
+        assertEquals("100 245 300 500", tagsOf(sorted.getDataFields()));
+
+        DataField otherNote = factory.newDataField("500", ' ', ' ', "a", "B note");
+        sorted.addVariableField(otherNote);
+        note.getSubfield('a').setData("C note");
+        sorted.addVariableField(factory.newDataField("700", ' ', ' ', "a", "Chabon, Michael."));
+        assertSame(otherNote, sorted.getDataFields().get(3));
+        assertSame(note, sorted.getDataFields().get(4));
+    }
+
+    @Test
+    public void testSortedRecordOrderAfterRemovals() throws Exception {
+        MarcFactory factory = new SortedMarcFactoryImpl();
+        Record sorted = factory.newRecord();
+        DataField title = factory.newDataField("245", '1', '0', "a", "Summerland /", "c", "Michael Chabon.");
+        DataField subject = factory.newDataField("650", ' ', '0', "a", "Baseball");
+        sorted.addVariableField(title);
+        sorted.addVariableField(subject);
+
+        // the edit after the removal is still seen
+        title.removeSubfield(title.getSubfield('c'));
+        subject.setTag("100");
+        sorted.addVariableField(factory.newDataField("300", ' ', ' ', "a", "500 p."));
+        assertEquals("100 245 300", tagsOf(sorted.getDataFields()));
+    }
+
+    private static String tagsOf(List<DataField> fields) {
+        StringBuilder tags = new StringBuilder();
+        for (DataField field : fields) {
+            tags.append(tags.length() == 0 ? "" : " ").append(field.getTag());
+        }
+        return tags.toString();
+    }
+
+    @Test
+    public void testForEachField() throws Exception {
+        final List<String> visited = new ArrayList<String>();
+        assertTrue(record.forEachField(new RecordVisitor() {
+
+            @Override
+            public boolean visitLeader(Leader leader) {
+                visited.add("000");
+                return true;
+            }
+
+            @Override
+            public boolean visitField(VariableField field) {
+                visited.add(field.getTag());
+                return true;
+            }
+
+            @Override
+            public boolean visitSubfield(DataField field, Subfield subfield) {
+                visited.add(field.getTag() + "$" + subfield.getCode());
+                return true;
+            }
+        }));
+
+        List<String> expected = new ArrayList<String>();
+        expected.add("000");
+        for (VariableField field : record.getVariableFields()) {
+            expected.add(field.getTag());
+            if (field instanceof DataField) {
+                for (Subfield subfield : ((DataField) field).getSubfields()) {
+                    expected.add(field.getTag() + "$" + subfield.getCode());
+                }
+            }
+        }
+        assertEquals(expected, visited);
+
+        final List<String> tags = new ArrayList<String>();
+        assertFalse(record.forEachField(new RecordVisitor() {
+
+            @Override
+            public boolean visitDataField(DataField field) {
+                tags.add(field.getTag());
+                return !field.getTag().equals("245");
+            }
+        }));
+        assertEquals("245", tags.get(tags.size() - 1));
+
+        // the leader is still available as field 000
+        assertEquals(record.getLeader().toString(), ((ControlField) record.getVariableField("000")).getData());
+        assertEquals(2, record.getVariableFields(new String[] { "000", "245" }).size());
+    }
+
 }
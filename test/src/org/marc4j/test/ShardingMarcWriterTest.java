@@ -0,0 +1,204 @@
+package org.marc4j.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.Test;
+import org.marc4j.MarcException;
+import org.marc4j.MarcReader;
+import org.marc4j.MarcStreamReader;
+import org.marc4j.MarcStreamWriter;
+import org.marc4j.MarcWriter;
+import org.marc4j.ParallelMarcWriter;
+import org.marc4j.ShardingMarcWriter;
+import org.marc4j.converter.CharConverter;
+import org.marc4j.marc.MarcFactory;
+import org.marc4j.marc.Record;
+import org.marc4j.test.utils.ResourceLoadUtils;
+import org.marc4j.test.utils.StaticTestRecords;
+
+public class ShardingMarcWriterTest {
+
+    @Test
+    public void testByHash() throws Exception {
+        List<Record> records = numbered(ResourceLoadUtils.getRecords(200, StaticTestRecords.RESOURCES_CHABON_MRC));
+        Map<Integer, ByteArrayOutputStream> outputs = new TreeMap<Integer, ByteArrayOutputStream>();
+        write(records, outputs, ShardingMarcWriter.byHash("001", 4), false);
+
+        int total = 0;
+        for (Map.Entry<Integer, ByteArrayOutputStream> entry : outputs.entrySet()) {
+            assertTrue(entry.getKey() >= 0 && entry.getKey() < 4);
+            for (Record record : read(entry.getValue())) {
+                Record copy = MarcFactory.newInstance().newRecord();
+                copy.addVariableField(record.getVariableField("001"));
+                assertEquals((int) entry.getKey(), ShardingMarcWriter.byHash("001", 4).partition(copy, null));
+                total++;
+            }
+        }
+        assertEquals(records.size(), total);
+        assertTrue(outputs.size() > 1);
+    }
+
+    @Test
+    public void testByRange() throws Exception {
+        List<Record> records = numbered(ResourceLoadUtils.getRecords(30, StaticTestRecords.RESOURCES_CHABON_MRC));
+        Map<Integer, ByteArrayOutputStream> outputs = new TreeMap<Integer, ByteArrayOutputStream>();
+        write(records, outputs, ShardingMarcWriter.byRange("001", "record-10", "record-20"), false);
+
+        assertEquals(3, outputs.size());
+        for (Map.Entry<Integer, ByteArrayOutputStream> entry : outputs.entrySet()) {
+            List<Record> shard = read(entry.getValue());
+            assertEquals(10, shard.size());
+            for (Record record : shard) {
+                assertEquals(String.valueOf(entry.getKey()), record.getControlNumber().substring(7, 8));
+            }
+        }
+    }
+
+    @Test
+    public void testByCount() throws Exception {
+        List<Record> records = numbered(ResourceLoadUtils.getRecords(25, StaticTestRecords.RESOURCES_CHABON_MRC));
+        final Map<Integer, ByteArrayOutputStream> outputs = new TreeMap<Integer, ByteArrayOutputStream>();
+        ShardingMarcWriter writer = newWriter(outputs, ShardingMarcWriter.byCount(10), false);
+        for (Record record : records) {
+            writer.write(record);
+        }
+        assertEquals(10, writer.getRecordCount(0));
+        assertEquals(5, writer.getRecordCount(2));
+        assertEquals(outputs.get(0).size(), writer.getBytesWritten(0));
+        writer.close();
+
+        assertEquals(3, outputs.size());
+        List<Record> all = new ArrayList<Record>();
+        for (ByteArrayOutputStream out : outputs.values()) {
+            all.addAll(read(out));
+        }
+        assertEquals(records.toString(), all.toString());
+    }
+
+    @Test
+    public void testClosedShard() throws Exception {
+        Map<Integer, ByteArrayOutputStream> outputs = new TreeMap<Integer, ByteArrayOutputStream>();
+        ShardingMarcWriter writer = newWriter(outputs, ShardingMarcWriter.byRange("001", "record-10"), false);
+        Record record = numbered(ResourceLoadUtils.getRecords(1, StaticTestRecords.RESOURCES_CHABON_MRC)).get(0);
+        writer.write(record);
+        writer.closeShard(0);
+        try {
+            writer.write(record);
+            fail("Expected a MarcException");
+        } catch (MarcException e) {
+            // expected
+        }
+        writer.close();
+    }
+
+    @Test
+    public void testWorkerThreads() throws Exception {
+        List<Record> records = numbered(ResourceLoadUtils.getRecords(500, StaticTestRecords.RESOURCES_CHABON_MRC));
+        Map<Integer, ByteArrayOutputStream> expected = new TreeMap<Integer, ByteArrayOutputStream>();
+        write(records, expected, ShardingMarcWriter.byHash("001", 3), false);
+
+        Map<Integer, ByteArrayOutputStream> outputs = new TreeMap<Integer, ByteArrayOutputStream>();
+        write(records, outputs, ShardingMarcWriter.byHash("001", 3), true);
+
+        assertEquals(expected.keySet(), outputs.keySet());
+        for (Integer shard : expected.keySet()) {
+            assertArrayEquals(expected.get(shard).toByteArray(), outputs.get(shard).toByteArray());
+        }
+    }
+
+    @Test
+    public void testSetConverterWithWorkerThreads() throws Exception {
+        List<Record> records = numbered(ResourceLoadUtils.getRecords(400, StaticTestRecords.RESOURCES_CHABON_MRC));
+        CharConverter upperCase = new CharConverter() {
+
+            @Override
+            public String convert(char[] dataElement) {
+                return new String(dataElement).toUpperCase();
+            }
+
+            @Override
+            public boolean outputsUnicode() {
+                return true;
+            }
+        };
+
+        Map<Integer, ByteArrayOutputStream> expected = new TreeMap<Integer, ByteArrayOutputStream>();
+        Map<Integer, ByteArrayOutputStream> outputs = new TreeMap<Integer, ByteArrayOutputStream>();
+        ShardingMarcWriter sequential = newWriter(expected, ShardingMarcWriter.byHash("001", 3), false);
+        ShardingMarcWriter threaded = newWriter(outputs, ShardingMarcWriter.byHash("001", 3), true);
+        for (int i = 0; i < records.size(); i++) {
+            if (i == 200) {
+                sequential.setConverter(upperCase);
+                threaded.setConverter(upperCase);
+            }
+            sequential.write(records.get(i));
+            threaded.write(records.get(i));
+        }
+        sequential.close();
+        threaded.close();
+
+        assertEquals(expected.keySet(), outputs.keySet());
+        for (Integer shard : expected.keySet()) {
+            assertArrayEquals(expected.get(shard).toByteArray(), outputs.get(shard).toByteArray());
+        }
+    }
+
+    private static void write(List<Record> records, Map<Integer, ByteArrayOutputStream> outputs,
+            ShardingMarcWriter.Partitioner partitioner, boolean workerThreads) {
+        MarcWriter writer = newWriter(outputs, partitioner, workerThreads);
+        for (Record record : records) {
+            writer.write(record);
+        }
+        writer.close();
+    }
+
+    private static ShardingMarcWriter newWriter(final Map<Integer, ByteArrayOutputStream> outputs,
+            ShardingMarcWriter.Partitioner partitioner, boolean workerThreads) {
+        return new ShardingMarcWriter(new ShardingMarcWriter.OutputFactory() {
+
+            @Override
+            public OutputStream newOutput(int shard) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                outputs.put(shard, out);
+                return out;
+            }
+        }, new ParallelMarcWriter.WriterFactory() {
+
+            @Override
+            public MarcWriter newWriter(OutputStream out) {
+                return new MarcStreamWriter(out, "UTF-8");
+            }
+        }, partitioner, workerThreads);
+    }
+
+    /**
+     * Gives the records the control numbers record-00, record-01 and so on.
+     */
+    private static List<Record> numbered(List<Record> records) {
+        for (int i = 0; i < records.size(); i++) {
+            records.get(i).getControlNumberField().setData(String.format("record-%02d", i));
+        }
+        return records;
+    }
+
+    private static List<Record> read(ByteArrayOutputStream out) {
+        List<Record> records = new ArrayList<Record>();
+        MarcReader reader = new MarcStreamReader(new ByteArrayInputStream(out.toByteArray()), "UTF-8");
+        while (reader.hasNext()) {
+            records.add(reader.next());
+        }
+        return records;
+    }
+
+}
@@ -0,0 +1,84 @@
+package org.marc4j.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+import org.marc4j.MarcPermissiveStreamReader;
+import org.marc4j.MarcStreamReader;
+import org.marc4j.marc.DataField;
+import org.marc4j.marc.MarcFactory;
+import org.marc4j.marc.Record;
+import org.marc4j.test.utils.ResourceLoadUtils;
+import org.marc4j.test.utils.StaticTestRecords;
+import org.marc4j.util.StringPool;
+
+public class StringPoolTest {
+
+    @Test
+    public void testIntern() {
+        StringPool pool = new StringPool(16, 8);
+        String dlc = new String("DLC");
+
+        assertEquals(16, pool.getCapacity());
+        assertSame(dlc, pool.intern(dlc));
+        assertSame(dlc, pool.intern(new String("DLC")));
+        assertNull(pool.intern((String) null));
+
+        String tooLong = new String("Summerland /");
+        assertNotSame(tooLong, pool.intern(new String("Summerland /")));
+
+        pool.clear();
+        assertNotSame(dlc, pool.intern(new String("DLC")));
+    }
+
+    @Test
+    public void testInternBytes() {
+        StringPool pool = new StringPool();
+        String eng = pool.intern("eng".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+
+        assertEquals("eng", eng);
+        assertSame(eng, pool.intern("eng".getBytes(StandardCharsets.ISO_8859_1), StandardCharsets.ISO_8859_1));
+        assertSame(eng, pool.intern(new String("eng")));
+
+        String accented = pool.intern("Genève".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+        assertEquals("Genève", accented);
+        assertSame(accented, pool.intern("Genève".getBytes(StandardCharsets.ISO_8859_1),
+                StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    public void testFactoryUsesPool() {
+        MarcFactory factory = MarcFactory.newInstance();
+        factory.setStringPool(new StringPool());
+
+        assertSame(factory.newSubfield('a', new String("DLC")).getData(),
+                factory.newSubfield('a', "DLC".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8).getData());
+    }
+
+    @Test
+    public void testReadersShareRepeatedValues() throws Exception {
+        MarcStreamReader reader = new MarcStreamReader(
+                ResourceLoadUtils.readResource(StaticTestRecords.RESOURCES_CHABON_MRC));
+        reader.setStringPool(new StringPool());
+        assertCatalogingSourceShared(reader.next(), reader.next());
+
+        MarcPermissiveStreamReader permissive = new MarcPermissiveStreamReader(
+                ResourceLoadUtils.readResource(StaticTestRecords.RESOURCES_CHABON_MRC), true, true);
+        permissive.setStringPool(new StringPool());
+        assertCatalogingSourceShared(permissive.next(), permissive.next());
+    }
+
+    private static void assertCatalogingSourceShared(Record first, Record second) {
+        String source1 = ((DataField) first.getVariableField("040")).getSubfield('a').getData();
+        String source2 = ((DataField) second.getVariableField("040")).getSubfield('a').getData();
+
+        assertEquals("DLC", source1);
+        assertSame(source1, source2);
+    }
+
+}
@@ -3,9 +3,14 @@ package org.marc4j.test;
 import org.junit.Test;
 import org.marc4j.marc.MarcFactory;
 import org.marc4j.marc.Subfield;
+import org.marc4j.marc.impl.SubfieldImpl;
+
+import java.nio.charset.StandardCharsets;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 
 public class SubfieldTest  {
@@ -24,4 +29,17 @@ public class SubfieldTest  {
 	    assertEquals("Summerland", sf.getData());
 	}
 
+    @Test
+    public void testEncodedData() {
+        byte[] bytes = "Caf\u00e9".getBytes(StandardCharsets.UTF_8);
+        Subfield sf = factory.newSubfield('a', bytes, StandardCharsets.UTF_8);
+        assertEquals('a', sf.getCode());
+        assertEquals("Caf\u00e9", sf.getData());
+        assertSame(bytes, ((SubfieldImpl) sf).getRawData(StandardCharsets.UTF_8));
+        assertNull(((SubfieldImpl) sf).getRawData(StandardCharsets.ISO_8859_1));
+        sf.setData("Tea");
+        assertEquals("Tea", sf.getData());
+        assertNull(((SubfieldImpl) sf).getRawData(StandardCharsets.UTF_8));
+    }
+
 }
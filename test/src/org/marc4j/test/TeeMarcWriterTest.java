@@ -0,0 +1,87 @@
+package org.marc4j.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+
+import org.junit.Test;
+import org.marc4j.MarcException;
+import org.marc4j.MarcJsonWriter;
+import org.marc4j.MarcStreamWriter;
+import org.marc4j.MarcWriter;
+import org.marc4j.MarcXmlWriter;
+import org.marc4j.TeeMarcWriter;
+import org.marc4j.converter.impl.AnselToUnicode;
+import org.marc4j.marc.DataField;
+import org.marc4j.marc.Record;
+import org.marc4j.test.utils.ResourceLoadUtils;
+import org.marc4j.test.utils.StaticTestRecords;
+import org.marc4j.test.utils.TestUtils;
+
+public class TeeMarcWriterTest {
+
+    @Test
+    public void testMatchesSeparateWriters() throws Exception {
+        for (boolean workerThreads : new boolean[] { false, true }) {
+            assertMatchesSeparateWriters(workerThreads, false, "marc", "xml", "json");
+            // the binary writer does not normalize on its own
+            assertMatchesSeparateWriters(workerThreads, true, "xml", "json");
+        }
+    }
+
+    @Test
+    public void testValidation() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TeeMarcWriter tee = new TeeMarcWriter(new MarcStreamWriter(out, "UTF-8"));
+        tee.setValidation(true);
+
+        Record record = ResourceLoadUtils.readRecords(StaticTestRecords.RESOURCES_BRKRTEST_MRC).get(0);
+        ((DataField) record.getVariableField("245")).setIndicator1((char) 0);
+        try {
+            tee.write(record);
+            fail("Expected a MarcException");
+        } catch (MarcException e) {
+            assertEquals(0, out.size());
+        }
+        tee.close();
+    }
+
+    private static void assertMatchesSeparateWriters(boolean workerThreads, boolean normalize, String... formats) {
+        ByteArrayOutputStream[] expected = new ByteArrayOutputStream[formats.length];
+        for (int i = 0; i < formats.length; i++) {
+            expected[i] = new ByteArrayOutputStream();
+            List<Record> records = ResourceLoadUtils.readRecords(StaticTestRecords.RESOURCES_BRKRTEST_MRC);
+            // the tee marks converted records as Unicode, as the binary writer does
+            for (Record record : records) {
+                record.getLeader().setCharCodingScheme('a');
+            }
+            MarcWriter writer = TestUtils.newWriter(formats[i], expected[i]);
+            writer.setConverter(new AnselToUnicode());
+            if (writer instanceof MarcXmlWriter) {
+                ((MarcXmlWriter) writer).setUnicodeNormalization(normalize);
+            } else if (writer instanceof MarcJsonWriter) {
+                ((MarcJsonWriter) writer).setUnicodeNormalization(normalize);
+            }
+            TestUtils.writeRecords(writer, records);
+        }
+
+        ByteArrayOutputStream[] out = new ByteArrayOutputStream[formats.length];
+        MarcWriter[] targets = new MarcWriter[formats.length];
+        for (int i = 0; i < formats.length; i++) {
+            out[i] = new ByteArrayOutputStream();
+            targets[i] = TestUtils.newWriter(formats[i], out[i]);
+        }
+        TeeMarcWriter tee = new TeeMarcWriter(workerThreads, targets);
+        tee.setConverter(new AnselToUnicode());
+        tee.setUnicodeNormalization(normalize);
+        TestUtils.writeRecords(tee, ResourceLoadUtils.readRecords(StaticTestRecords.RESOURCES_BRKRTEST_MRC));
+
+        for (int i = 0; i < formats.length; i++) {
+            assertArrayEquals(expected[i].toByteArray(), out[i].toByteArray());
+        }
+    }
+
+}
@@ -1,9 +1,13 @@
 package org.marc4j.test.utils;
 
 import org.marc4j.*;
+import org.marc4j.marc.MarcFactory;
+import org.marc4j.marc.Record;
 
 import java.io.BufferedInputStream;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * A set of utilities for loading test record files from the classpath.
@@ -62,4 +66,37 @@ public class ResourceLoadUtils {
         }
     }
 
+    /**
+     * Reads all the records of the specified classpath resources, in order.
+     * @param resources
+     * @return
+     */
+    public static List<Record> readRecords(String... resources) {
+        List<Record> records = new ArrayList<Record>();
+        for (String resource : resources) {
+            MarcReader reader = getMarcReader(resource);
+            while (reader.hasNext()) {
+                records.add(reader.next());
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Get the specified number of records, repeating the records of the specified classpath resources as often as
+     * needed. Each record is a copy of its own, so it can be changed without affecting the others.
+     * @param count
+     * @param resources
+     * @return
+     */
+    public static List<Record> getRecords(int count, String... resources) {
+        List<Record> source = readRecords(resources);
+        MarcFactory factory = MarcFactory.newInstance();
+        List<Record> records = new ArrayList<Record>(count);
+        for (int i = 0; i < count; i++) {
+            records.add(factory.deepCopy(source.get(i % source.size())));
+        }
+        return records;
+    }
+
 }
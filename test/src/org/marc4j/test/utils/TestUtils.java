@@ -1,5 +1,10 @@
 package org.marc4j.test.utils;
 
+import org.marc4j.MarcJsonWriter;
+import org.marc4j.MarcStreamWriter;
+import org.marc4j.MarcWriter;
+import org.marc4j.MarcXmlWriter;
+import org.marc4j.Mrk8StreamWriter;
 import org.marc4j.marc.*;
 import org.marc4j.marc.Record;
 
@@ -9,6 +14,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.util.Iterator;
 import java.util.List;
 
@@ -273,4 +279,29 @@ public class TestUtils {
         return (sb.toString());
     }
 
+    /**
+     * Creates a writer for the named format: "marc" for UTF-8 binary MARC, "xml" for indented MARCXML, "json" for
+     * MARC-in-JSON or "mrk8" for the MarcEdit format.
+     */
+    public static MarcWriter newWriter(String format, OutputStream out) {
+        if (format.equals("xml")) {
+            return new MarcXmlWriter(out, true);
+        } else if (format.equals("json")) {
+            return new MarcJsonWriter(out);
+        } else if (format.equals("mrk8")) {
+            return new Mrk8StreamWriter(out);
+        }
+        return new MarcStreamWriter(out, "UTF-8");
+    }
+
+    /**
+     * Writes the records with the supplied writer, then closes it.
+     */
+    public static void writeRecords(MarcWriter writer, List<Record> records) {
+        for (Record record : records) {
+            writer.write(record);
+        }
+        writer.close();
+    }
+
 }